@@ -13,11 +13,15 @@ import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.net.URI;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -27,11 +31,15 @@ import org.apache.hadoop.fs.FSDataInputStream;
 import org.apache.hadoop.fs.FSDataOutputStream;
 import org.apache.hadoop.fs.FileStatus;
 import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.LocatedFileStatus;
 import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.fs.PathFilter;
+import org.apache.hadoop.fs.RemoteIterator;
 import org.apache.hadoop.fs.permission.FsPermission;
 import org.apache.hadoop.util.Progressable;
 import org.xtreemfs.common.libxtreemfs.Client;
 import org.xtreemfs.common.libxtreemfs.ClientFactory;
+import org.xtreemfs.common.libxtreemfs.DirectoryEntriesIterator;
 import org.xtreemfs.common.libxtreemfs.FileHandle;
 import org.xtreemfs.common.libxtreemfs.Options;
 import org.xtreemfs.common.libxtreemfs.Volume;
@@ -67,7 +75,11 @@ public class XtreemFSFileSystem extends FileSystem {
     private int                 writeBufferSize;
     private Volume              defaultVolume;
     private Configuration       conf;
+    private long                blockSizeCacheTTL;
+    private Map<String, CachedBlockSize> blockSizeCache;
     private static final int    STANDARD_DIR_PORT = 32638;
+    /** Number of files whose block locations are retrieved with a single call by listLocatedStatus. */
+    private static final int    LOCATED_STATUS_BATCH_SIZE = 1000;
 
     @Override
     public void initialize(URI uri, Configuration conf) throws IOException {
@@ -125,6 +137,9 @@ public class XtreemFSFileSystem extends FileSystem {
             useWriteBuffer = false;
         }
 
+        blockSizeCacheTTL = conf.getLong("xtreemfs.statfs.cache.ttl", 60) * 1000;
+        blockSizeCache = new ConcurrentHashMap<String, CachedBlockSize>();
+
         // Create UserCredentials.
         if ((conf.get("xtreemfs.client.userid") != null) && (conf.get("xtreemfs.client.groupid") != null)) {
             userCredentials = UserCredentials.newBuilder().setUsername(conf.get("xtreemfs.client.userid"))
@@ -366,25 +381,14 @@ public class XtreemFSFileSystem extends FileSystem {
     }
 
     private boolean deleteXtreemFSDirRecursive(String path, Volume xtreemfsVolume) throws IOException {
-        boolean success = true;
         try {
-            DirectoryEntries dirEntries = xtreemfsVolume.readDir(userCredentials, path, 0, 0, false);
-            for (DirectoryEntry dirEntry : dirEntries.getEntriesList()) {
-                if (dirEntry.getName().equals(".") || dirEntry.getName().equals("..")) {
-                    continue;
-                }
-                if (isXtreemFSFile(dirEntry.getStbuf())) {
-                    xtreemfsVolume.unlink(userCredentials, path + "/" + dirEntry.getName());
-                }
-                if (isXtreemFSDirectory(dirEntry.getStbuf())) {
-                    success = deleteXtreemFSDirRecursive(path + "/" + dirEntry.getName(), xtreemfsVolume);
-                }
-            }
-            xtreemfsVolume.removeDirectory(userCredentials, path);
+            xtreemfsVolume.removeDirectoryRecursively(userCredentials, path);
+            return true;
         } catch (XtreemFSException xe) {
-            success = false;
+            Logging.logMessage(Logging.LEVEL_DEBUG, Logging.Category.misc, this,
+                    "failed to delete directory %s, reason: %s", path, xe.getMessage());
+            return false;
         }
-        return success;
     }
 
     private boolean deleteXtreemFSFile(String path, Volume xtreemfsVolume) throws IOException {
@@ -458,31 +462,97 @@ public class XtreemFSFileSystem extends FileSystem {
             return null;
         }
 
-        DirectoryEntries dirEntries = xtreemfsVolume.readDir(userCredentials, pathString, 0, 0, false);
-        statistics.incrementLargeReadOps(1);
-        ArrayList<FileStatus> fileStatus = new ArrayList<FileStatus>(dirEntries.getEntriesCount() - 2);
-        for (DirectoryEntry entry : dirEntries.getEntriesList()) {
-            if (entry.getName().equals("..") || entry.getName().equals(".")) {
-                continue;
-            }
-            final Stat stat = entry.getStbuf();
-            final boolean isDir = isXtreemFSDirectory(stat);
-            if (isDir) {
-                // for directories, set blocksize to 0
-                fileStatus.add(new FileStatus(0, isDir, 1, 0, (long) (stat.getMtimeNs() / 1e6), (long) (stat
-                        .getAtimeNs() / 1e6), new FsPermission((short) stat.getMode()), stat.getUserId(), stat
-                        .getGroupId(), new Path(makeAbsolute(path), entry.getName())));
-            } else {
-                // for files, set blocksize to stripeSize of the volume
-                fileStatus.add(new FileStatus(stat.getSize(), isDir, 1, xtreemfsVolume.statFS(userCredentials)
-                        .getDefaultStripingPolicy().getStripeSize() * 1024, (long) (stat.getMtimeNs() / 1e6),
-                        (long) (stat.getAtimeNs() / 1e6), new FsPermission((short) stat.getMode()), stat.getUserId(),
-                        stat.getGroupId(), new Path(makeAbsolute(path), entry.getName())));
-            }
+        ArrayList<FileStatus> fileStatus = new ArrayList<FileStatus>();
+        DirectoryListing listing = new DirectoryListing(path, xtreemfsVolume, pathString);
+        while (listing.hasNext()) {
+            fileStatus.add(listing.next());
         }
         return fileStatus.toArray(new FileStatus[fileStatus.size()]);
     }
 
+    /**
+     * Lists the directory page by page. Available as override since Hadoop 2.7.
+     */
+    public RemoteIterator<FileStatus> listStatusIterator(Path path) throws IOException {
+        Volume xtreemfsVolume = getVolumeFromPath(path);
+        final String pathString = preparePath(path, xtreemfsVolume);
+
+        if (Logging.isDebug()) {
+            Logging.logMessage(Logging.LEVEL_DEBUG, this, "ls: " + pathString);
+        }
+
+        if (isXtreemFSDirectory(pathString, xtreemfsVolume) == false) {
+            throw new FileNotFoundException("no such directory: " + pathString);
+        }
+
+        return new DirectoryListing(path, xtreemfsVolume, pathString);
+    }
+
+    /**
+     * Lists the directory page by page and retrieves the block locations of the listed files with one call to the
+     * MRC per {@link #LOCATED_STATUS_BATCH_SIZE} files, instead of opening each file separately.
+     */
+    @Override
+    protected RemoteIterator<LocatedFileStatus> listLocatedStatus(Path path, final PathFilter filter)
+            throws IOException {
+        final Volume xtreemfsVolume = getVolumeFromPath(path);
+        final RemoteIterator<FileStatus> listing = listStatusIterator(path);
+
+        return new RemoteIterator<LocatedFileStatus>() {
+
+            private Iterator<LocatedFileStatus> batch = Collections.<LocatedFileStatus> emptyList().iterator();
+
+            @Override
+            public boolean hasNext() throws IOException {
+                if (!batch.hasNext() && listing.hasNext()) {
+                    batch = nextBatch().iterator();
+                }
+                return batch.hasNext();
+            }
+
+            @Override
+            public LocatedFileStatus next() throws IOException {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return batch.next();
+            }
+
+            private List<LocatedFileStatus> nextBatch() throws IOException {
+                List<FileStatus> statuses = new ArrayList<FileStatus>(LOCATED_STATUS_BATCH_SIZE);
+                List<String> paths = new ArrayList<String>();
+                List<Long> lengths = new ArrayList<Long>();
+                while (statuses.size() < LOCATED_STATUS_BATCH_SIZE && listing.hasNext()) {
+                    FileStatus status = listing.next();
+                    if (!filter.accept(status.getPath())) {
+                        continue;
+                    }
+                    statuses.add(status);
+                    if (!status.isDirectory()) {
+                        paths.add(preparePath(status.getPath(), xtreemfsVolume));
+                        lengths.add(status.getLen());
+                    }
+                }
+
+                List<List<StripeLocation>> stripeLocations = paths.isEmpty() ? Collections
+                        .<List<StripeLocation>> emptyList() : xtreemfsVolume.getStripeLocations(userCredentials,
+                        paths, lengths);
+                if (!paths.isEmpty()) {
+                    statistics.incrementReadOps(1);
+                }
+
+                List<LocatedFileStatus> result = new ArrayList<LocatedFileStatus>(statuses.size());
+                int file = 0;
+                for (FileStatus status : statuses) {
+                    BlockLocation[] locations = status.isDirectory() ? null : toBlockLocations(stripeLocations
+                            .get(file++));
+                    result.add(new LocatedFileStatus(status, locations));
+                }
+                return result;
+            }
+        };
+    }
+
     @Override
     public void setWorkingDirectory(Path path) {
         Volume xtreemfsVolume = getVolumeFromPath(path);
@@ -547,18 +617,40 @@ public class XtreemFSFileSystem extends FileSystem {
             }
             throw pee;
         }
-        final boolean isDir = isXtreemFSDirectory(stat);
-        if (isDir) {
+        return toFileStatus(stat, makeQualified(path),
+                isXtreemFSDirectory(stat) ? 0 : getDefaultBlockSize(xtreemfsVolume));
+    }
+
+    private FileStatus toFileStatus(Stat stat, Path path, long blockSize) {
+        if (isXtreemFSDirectory(stat)) {
             // for directories, set blocksize to 0
-            return new FileStatus(0, isDir, 1, 0, (long) (stat.getMtimeNs() / 1e6), (long) (stat.getAtimeNs() / 1e6),
-                    new FsPermission((short) stat.getMode()), stat.getUserId(), stat.getGroupId(), makeQualified(path));
+            return new FileStatus(0, true, 1, 0, (long) (stat.getMtimeNs() / 1e6), (long) (stat.getAtimeNs() / 1e6),
+                    new FsPermission((short) stat.getMode()), stat.getUserId(), stat.getGroupId(), path);
         } else {
             // for files, set blocksize to stripesize of the volume
-            return new FileStatus(stat.getSize(), isDir, 1, xtreemfsVolume.statFS(userCredentials)
-                    .getDefaultStripingPolicy().getStripeSize() * 1024, (long) (stat.getMtimeNs() / 1e6),
+            return new FileStatus(stat.getSize(), false, 1, blockSize, (long) (stat.getMtimeNs() / 1e6),
                     (long) (stat.getAtimeNs() / 1e6), new FsPermission((short) stat.getMode()), stat.getUserId(),
-                    stat.getGroupId(), makeQualified(path));
+                    stat.getGroupId(), path);
+        }
+    }
+
+    /**
+     * Returns the stripe size of the default striping policy of the volume in bytes, which is reported as block
+     * size of all files. The stripe size is cached for xtreemfs.statfs.cache.ttl seconds, as listing a directory
+     * would require one statFS call to the MRC per file otherwise.
+     */
+    private long getDefaultBlockSize(Volume xtreemfsVolume) throws IOException {
+        final long now = System.currentTimeMillis();
+        CachedBlockSize cached = blockSizeCache.get(xtreemfsVolume.getVolumeName());
+        if (cached != null && cached.expires > now) {
+            return cached.blockSize;
+        }
+
+        long blockSize = xtreemfsVolume.statFS(userCredentials).getDefaultStripingPolicy().getStripeSize() * 1024L;
+        if (blockSizeCacheTTL > 0) {
+            blockSizeCache.put(xtreemfsVolume.getVolumeName(), new CachedBlockSize(blockSize, now + blockSizeCacheTTL));
         }
+        return blockSize;
     }
 
     @Override
@@ -582,7 +674,10 @@ public class XtreemFSFileSystem extends FileSystem {
         String pathString = preparePath(file.getPath(), xtreemfsVolume);
         List<StripeLocation> stripeLocations = xtreemfsVolume.getStripeLocations(userCredentials, pathString, start,
                 length);
+        return toBlockLocations(stripeLocations);
+    }
 
+    private static BlockLocation[] toBlockLocations(List<StripeLocation> stripeLocations) {
         BlockLocation[] result = new BlockLocation[stripeLocations.size()];
         for (int i = 0; i < result.length; ++i) {
             result[i] = new BlockLocation(stripeLocations.get(i).getUuids(), stripeLocations.get(i).getHostnames(),
@@ -666,4 +761,77 @@ public class XtreemFSFileSystem extends FileSystem {
         } else
             return false;
     }
+
+    private static final class CachedBlockSize {
+
+        final long blockSize;
+
+        final long expires;
+
+        CachedBlockSize(long blockSize, long expires) {
+            this.blockSize = blockSize;
+            this.expires = expires;
+        }
+    }
+
+    /**
+     * Lists a directory page by page, i.e. only one page of directory entries is held in memory at a time.
+     */
+    private class DirectoryListing implements RemoteIterator<FileStatus> {
+
+        private final Volume                   xtreemfsVolume;
+
+        private final Path                     parent;
+
+        private final DirectoryEntriesIterator pages;
+
+        private Iterator<DirectoryEntry>       entries;
+
+        private FileStatus                     nextStatus;
+
+        private long                           blockSize;
+
+        DirectoryListing(Path path, Volume xtreemfsVolume, String pathString) {
+            this.xtreemfsVolume = xtreemfsVolume;
+            this.parent = makeAbsolute(path);
+            this.pages = xtreemfsVolume.readDirIterator(userCredentials, pathString, 0, false);
+            this.entries = Collections.<DirectoryEntry> emptyList().iterator();
+            this.blockSize = -1;
+        }
+
+        @Override
+        public boolean hasNext() throws IOException {
+            while (nextStatus == null) {
+                if (!entries.hasNext()) {
+                    if (!pages.hasNext()) {
+                        return false;
+                    }
+                    entries = pages.next().getEntriesList().iterator();
+                    statistics.incrementLargeReadOps(1);
+                    continue;
+                }
+
+                DirectoryEntry entry = entries.next();
+                if (entry.getName().equals("..") || entry.getName().equals(".")) {
+                    continue;
+                }
+                final Stat stat = entry.getStbuf();
+                if (blockSize < 0 && !isXtreemFSDirectory(stat)) {
+                    blockSize = getDefaultBlockSize(xtreemfsVolume);
+                }
+                nextStatus = toFileStatus(stat, new Path(parent, entry.getName()), blockSize);
+            }
+            return true;
+        }
+
+        @Override
+        public FileStatus next() throws IOException {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            FileStatus status = nextStatus;
+            nextStatus = null;
+            return status;
+        }
+    }
 }
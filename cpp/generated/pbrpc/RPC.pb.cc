@@ -120,11 +120,12 @@ void protobuf_AssignDesc_pbrpc_2fRPC_2eproto() {
       ::google::protobuf::MessageFactory::generated_factory(),
       sizeof(RPCHeader));
   RPCHeader_RequestHeader_descriptor_ = RPCHeader_descriptor_->nested_type(0);
-  static const int RPCHeader_RequestHeader_offsets_[4] = {
+  static const int RPCHeader_RequestHeader_offsets_[5] = {
     GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(RPCHeader_RequestHeader, interface_id_),
     GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(RPCHeader_RequestHeader, proc_id_),
     GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(RPCHeader_RequestHeader, user_creds_),
     GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(RPCHeader_RequestHeader, auth_data_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(RPCHeader_RequestHeader, trace_id_),
   };
   RPCHeader_RequestHeader_reflection_ =
     new ::google::protobuf::internal::GeneratedMessageReflection(
@@ -216,40 +217,40 @@ void protobuf_AddDesc_pbrpc_2fRPC_2eproto() {
     "\"y\n\004Auth\022+\n\tauth_type\030\001 \002(\0162\030.xtreemfs.p"
     "brpc.AuthType\0221\n\013auth_passwd\030\003 \001(\0132\034.xtr"
     "eemfs.pbrpc.AuthPassword\022\021\n\tauth_data\030\002 "
-    "\001(\014\"\270\004\n\tRPCHeader\022\017\n\007call_id\030\001 \002(\007\0221\n\014me"
+    "\001(\014\"\312\004\n\tRPCHeader\022\017\n\007call_id\030\001 \002(\007\0221\n\014me"
     "ssage_type\030\002 \002(\0162\033.xtreemfs.pbrpc.Messag"
     "eType\022\?\n\016request_header\030\003 \001(\0132\'.xtreemfs"
     ".pbrpc.RPCHeader.RequestHeader\022\?\n\016error_"
     "response\030\004 \001(\0132\'.xtreemfs.pbrpc.RPCHeade"
-    "r.ErrorResponse\032\224\001\n\rRequestHeader\022\024\n\014int"
+    "r.ErrorResponse\032\246\001\n\rRequestHeader\022\024\n\014int"
     "erface_id\030\001 \002(\007\022\017\n\007proc_id\030\002 \002(\007\0223\n\nuser"
     "_creds\030\003 \002(\0132\037.xtreemfs.pbrpc.UserCreden"
     "tials\022\'\n\tauth_data\030\004 \002(\0132\024.xtreemfs.pbrp"
-    "c.Auth\032\315\001\n\rErrorResponse\022-\n\nerror_type\030\001"
-    " \002(\0162\031.xtreemfs.pbrpc.ErrorType\022A\n\013posix"
-    "_errno\030\002 \001(\0162\032.xtreemfs.pbrpc.POSIXErrno"
-    ":\020POSIX_ERROR_NONE\022\025\n\rerror_message\030\003 \001("
-    "\t\022\022\n\ndebug_info\030\004 \001(\t\022\037\n\027redirect_to_ser"
-    "ver_uuid\030\005 \001(\t*P\n\013MessageType\022\017\n\013RPC_REQ"
-    "UEST\020\000\022\030\n\024RPC_RESPONSE_SUCCESS\020\001\022\026\n\022RPC_"
-    "RESPONSE_ERROR\020\002*,\n\010AuthType\022\r\n\tAUTH_NON"
-    "E\020\000\022\021\n\rAUTH_PASSWORD\020\001*\261\001\n\tErrorType\022\030\n\024"
-    "INVALID_INTERFACE_ID\020\001\022\023\n\017INVALID_PROC_I"
-    "D\020\002\022\020\n\014GARBAGE_ARGS\020\003\022\017\n\013AUTH_FAILED\020\004\022\031"
-    "\n\025INTERNAL_SERVER_ERROR\020\005\022\t\n\005ERRNO\020\006\022\014\n\010"
-    "REDIRECT\020\007\022\020\n\014INVALID_VIEW\020\010\022\014\n\010IO_ERROR"
-    "\020d*\212\003\n\nPOSIXErrno\022\025\n\020POSIX_ERROR_NONE\020\217N"
-    "\022\025\n\021POSIX_ERROR_EPERM\020\001\022\026\n\022POSIX_ERROR_E"
-    "NOENT\020\002\022\025\n\021POSIX_ERROR_EINTR\020\004\022\023\n\017POSIX_"
-    "ERROR_EIO\020\005\022\026\n\022POSIX_ERROR_EAGAIN\020\013\022\026\n\022P"
-    "OSIX_ERROR_EACCES\020\r\022\026\n\022POSIX_ERROR_EEXIS"
-    "T\020\021\022\025\n\021POSIX_ERROR_EXDEV\020\022\022\026\n\022POSIX_ERRO"
-    "R_ENODEV\020\023\022\027\n\023POSIX_ERROR_ENOTDIR\020\024\022\026\n\022P"
-    "OSIX_ERROR_EISDIR\020\025\022\026\n\022POSIX_ERROR_EINVA"
-    "L\020\026\022\026\n\022POSIX_ERROR_ENOSPC\020\034\022\031\n\025POSIX_ERR"
-    "OR_ENOTEMPTY\020\'\022\027\n\023POSIX_ERROR_ENODATA\020=B"
-    "3\n1org.xtreemfs.foundation.pbrpc.generat"
-    "edinterfaces", 1572);
+    "c.Auth\022\020\n\010trace_id\030\005 \001(\006\032\315\001\n\rErrorRespon"
+    "se\022-\n\nerror_type\030\001 \002(\0162\031.xtreemfs.pbrpc."
+    "ErrorType\022A\n\013posix_errno\030\002 \001(\0162\032.xtreemf"
+    "s.pbrpc.POSIXErrno:\020POSIX_ERROR_NONE\022\025\n\r"
+    "error_message\030\003 \001(\t\022\022\n\ndebug_info\030\004 \001(\t\022"
+    "\037\n\027redirect_to_server_uuid\030\005 \001(\t*P\n\013Mess"
+    "ageType\022\017\n\013RPC_REQUEST\020\000\022\030\n\024RPC_RESPONSE"
+    "_SUCCESS\020\001\022\026\n\022RPC_RESPONSE_ERROR\020\002*,\n\010Au"
+    "thType\022\r\n\tAUTH_NONE\020\000\022\021\n\rAUTH_PASSWORD\020\001"
+    "*\261\001\n\tErrorType\022\030\n\024INVALID_INTERFACE_ID\020\001"
+    "\022\023\n\017INVALID_PROC_ID\020\002\022\020\n\014GARBAGE_ARGS\020\003\022"
+    "\017\n\013AUTH_FAILED\020\004\022\031\n\025INTERNAL_SERVER_ERRO"
+    "R\020\005\022\t\n\005ERRNO\020\006\022\014\n\010REDIRECT\020\007\022\020\n\014INVALID_"
+    "VIEW\020\010\022\014\n\010IO_ERROR\020d*\212\003\n\nPOSIXErrno\022\025\n\020P"
+    "OSIX_ERROR_NONE\020\217N\022\025\n\021POSIX_ERROR_EPERM\020"
+    "\001\022\026\n\022POSIX_ERROR_ENOENT\020\002\022\025\n\021POSIX_ERROR"
+    "_EINTR\020\004\022\023\n\017POSIX_ERROR_EIO\020\005\022\026\n\022POSIX_E"
+    "RROR_EAGAIN\020\013\022\026\n\022POSIX_ERROR_EACCES\020\r\022\026\n"
+    "\022POSIX_ERROR_EEXIST\020\021\022\025\n\021POSIX_ERROR_EXD"
+    "EV\020\022\022\026\n\022POSIX_ERROR_ENODEV\020\023\022\027\n\023POSIX_ER"
+    "ROR_ENOTDIR\020\024\022\026\n\022POSIX_ERROR_EISDIR\020\025\022\026\n"
+    "\022POSIX_ERROR_EINVAL\020\026\022\026\n\022POSIX_ERROR_ENO"
+    "SPC\020\034\022\031\n\025POSIX_ERROR_ENOTEMPTY\020\'\022\027\n\023POSI"
+    "X_ERROR_ENODATA\020=B3\n1org.xtreemfs.founda"
+    "tion.pbrpc.generatedinterfaces", 1590);
   ::google::protobuf::MessageFactory::InternalRegisterGeneratedFile(
     "pbrpc/RPC.proto", &protobuf_RegisterTypes);
   UserCredentials::default_instance_ = new UserCredentials();
@@ -1170,6 +1171,7 @@ const int RPCHeader_RequestHeader::kInterfaceIdFieldNumber;
 const int RPCHeader_RequestHeader::kProcIdFieldNumber;
 const int RPCHeader_RequestHeader::kUserCredsFieldNumber;
 const int RPCHeader_RequestHeader::kAuthDataFieldNumber;
+const int RPCHeader_RequestHeader::kTraceIdFieldNumber;
 #endif  // !_MSC_VER
 
 RPCHeader_RequestHeader::RPCHeader_RequestHeader()
@@ -1194,6 +1196,7 @@ void RPCHeader_RequestHeader::SharedCtor() {
   proc_id_ = 0u;
   user_creds_ = NULL;
   auth_data_ = NULL;
+  trace_id_ = GOOGLE_ULONGLONG(0);
   ::memset(_has_bits_, 0, sizeof(_has_bits_));
 }
 
@@ -1239,6 +1242,7 @@ void RPCHeader_RequestHeader::Clear() {
     if (has_auth_data()) {
       if (auth_data_ != NULL) auth_data_->::xtreemfs::pbrpc::Auth::Clear();
     }
+    trace_id_ = GOOGLE_ULONGLONG(0);
   }
   ::memset(_has_bits_, 0, sizeof(_has_bits_));
   mutable_unknown_fields()->Clear();
@@ -1305,6 +1309,22 @@ bool RPCHeader_RequestHeader::MergePartialFromCodedStream(
         } else {
           goto handle_uninterpreted;
         }
+        if (input->ExpectTag(41)) goto parse_trace_id;
+        break;
+      }
+
+      // optional fixed64 trace_id = 5;
+      case 5: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_FIXED64) {
+         parse_trace_id:
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   ::google::protobuf::uint64, ::google::protobuf::internal::WireFormatLite::TYPE_FIXED64>(
+                 input, &trace_id_)));
+          set_has_trace_id();
+        } else {
+          goto handle_uninterpreted;
+        }
         if (input->ExpectAtEnd()) return true;
         break;
       }
@@ -1349,6 +1369,11 @@ void RPCHeader_RequestHeader::SerializeWithCachedSizes(
       4, this->auth_data(), output);
   }
 
+  // optional fixed64 trace_id = 5;
+  if (has_trace_id()) {
+    ::google::protobuf::internal::WireFormatLite::WriteFixed64(5, this->trace_id(), output);
+  }
+
   if (!unknown_fields().empty()) {
     ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
         unknown_fields(), output);
@@ -1381,6 +1406,11 @@ void RPCHeader_RequestHeader::SerializeWithCachedSizes(
         4, this->auth_data(), target);
   }
 
+  // optional fixed64 trace_id = 5;
+  if (has_trace_id()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteFixed64ToArray(5, this->trace_id(), target);
+  }
+
   if (!unknown_fields().empty()) {
     target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
         unknown_fields(), target);
@@ -1416,6 +1446,11 @@ int RPCHeader_RequestHeader::ByteSize() const {
           this->auth_data());
     }
 
+    // optional fixed64 trace_id = 5;
+    if (has_trace_id()) {
+      total_size += 1 + 8;
+    }
+
   }
   if (!unknown_fields().empty()) {
     total_size +=
@@ -1455,6 +1490,9 @@ void RPCHeader_RequestHeader::MergeFrom(const RPCHeader_RequestHeader& from) {
     if (from.has_auth_data()) {
       mutable_auth_data()->::xtreemfs::pbrpc::Auth::MergeFrom(from.auth_data());
     }
+    if (from.has_trace_id()) {
+      set_trace_id(from.trace_id());
+    }
   }
   mutable_unknown_fields()->MergeFrom(from.unknown_fields());
 }
@@ -1489,6 +1527,7 @@ void RPCHeader_RequestHeader::Swap(RPCHeader_RequestHeader* other) {
     std::swap(proc_id_, other->proc_id_);
     std::swap(user_creds_, other->user_creds_);
     std::swap(auth_data_, other->auth_data_);
+    std::swap(trace_id_, other->trace_id_);
     std::swap(_has_bits_[0], other->_has_bits_[0]);
     _unknown_fields_.Swap(&other->_unknown_fields_);
     std::swap(_cached_size_, other->_cached_size_);
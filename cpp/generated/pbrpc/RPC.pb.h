@@ -528,6 +528,13 @@ class RPCHeader_RequestHeader : public ::google::protobuf::Message {
   inline ::xtreemfs::pbrpc::Auth* release_auth_data();
   inline void set_allocated_auth_data(::xtreemfs::pbrpc::Auth* auth_data);
 
+  // optional fixed64 trace_id = 5;
+  inline bool has_trace_id() const;
+  inline void clear_trace_id();
+  static const int kTraceIdFieldNumber = 5;
+  inline ::google::protobuf::uint64 trace_id() const;
+  inline void set_trace_id(::google::protobuf::uint64 value);
+
   // @@protoc_insertion_point(class_scope:xtreemfs.pbrpc.RPCHeader.RequestHeader)
  private:
   inline void set_has_interface_id();
@@ -538,6 +545,8 @@ class RPCHeader_RequestHeader : public ::google::protobuf::Message {
   inline void clear_has_user_creds();
   inline void set_has_auth_data();
   inline void clear_has_auth_data();
+  inline void set_has_trace_id();
+  inline void clear_has_trace_id();
 
   ::google::protobuf::UnknownFieldSet _unknown_fields_;
 
@@ -545,9 +554,10 @@ class RPCHeader_RequestHeader : public ::google::protobuf::Message {
   ::google::protobuf::uint32 proc_id_;
   ::xtreemfs::pbrpc::UserCredentials* user_creds_;
   ::xtreemfs::pbrpc::Auth* auth_data_;
+  ::google::protobuf::uint64 trace_id_;
 
   mutable int _cached_size_;
-  ::google::protobuf::uint32 _has_bits_[(4 + 31) / 32];
+  ::google::protobuf::uint32 _has_bits_[(5 + 31) / 32];
 
   friend void  protobuf_AddDesc_pbrpc_2fRPC_2eproto();
   friend void protobuf_AssignDesc_pbrpc_2fRPC_2eproto();
@@ -1266,6 +1276,28 @@ inline void RPCHeader_RequestHeader::set_allocated_auth_data(::xtreemfs::pbrpc::
   }
 }
 
+// optional fixed64 trace_id = 5;
+inline bool RPCHeader_RequestHeader::has_trace_id() const {
+  return (_has_bits_[0] & 0x00000010u) != 0;
+}
+inline void RPCHeader_RequestHeader::set_has_trace_id() {
+  _has_bits_[0] |= 0x00000010u;
+}
+inline void RPCHeader_RequestHeader::clear_has_trace_id() {
+  _has_bits_[0] &= ~0x00000010u;
+}
+inline void RPCHeader_RequestHeader::clear_trace_id() {
+  trace_id_ = GOOGLE_ULONGLONG(0);
+  clear_has_trace_id();
+}
+inline ::google::protobuf::uint64 RPCHeader_RequestHeader::trace_id() const {
+  return trace_id_;
+}
+inline void RPCHeader_RequestHeader::set_trace_id(::google::protobuf::uint64 value) {
+  set_has_trace_id();
+  trace_id_ = value;
+}
+
 // -------------------------------------------------------------------
 
 // RPCHeader_ErrorResponse
@@ -72,6 +72,12 @@ const ::google::protobuf::internal::GeneratedMessageReflection*
 const ::google::protobuf::Descriptor* serviceRegisterResponse_descriptor_ = NULL;
 const ::google::protobuf::internal::GeneratedMessageReflection*
   serviceRegisterResponse_reflection_ = NULL;
+const ::google::protobuf::Descriptor* serviceWatchRequest_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  serviceWatchRequest_reflection_ = NULL;
+const ::google::protobuf::Descriptor* serviceWatchResponse_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  serviceWatchResponse_reflection_ = NULL;
 const ::google::protobuf::Descriptor* configurationGetRequest_descriptor_ = NULL;
 const ::google::protobuf::internal::GeneratedMessageReflection*
   configurationGetRequest_reflection_ = NULL;
@@ -362,7 +368,45 @@ void protobuf_AssignDesc_xtreemfs_2fDIR_2eproto() {
       ::google::protobuf::DescriptorPool::generated_pool(),
       ::google::protobuf::MessageFactory::generated_factory(),
       sizeof(serviceRegisterResponse));
-  configurationGetRequest_descriptor_ = file->message_type(17);
+  serviceWatchRequest_descriptor_ = file->message_type(17);
+  static const int serviceWatchRequest_offsets_[5] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(serviceWatchRequest, type_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(serviceWatchRequest, known_version_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(serviceWatchRequest, timeout_ms_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(serviceWatchRequest, uuids_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(serviceWatchRequest, status_changes_only_),
+  };
+  serviceWatchRequest_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      serviceWatchRequest_descriptor_,
+      serviceWatchRequest::default_instance_,
+      serviceWatchRequest_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(serviceWatchRequest, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(serviceWatchRequest, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(serviceWatchRequest));
+  serviceWatchResponse_descriptor_ = file->message_type(18);
+  static const int serviceWatchResponse_offsets_[5] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(serviceWatchResponse, version_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(serviceWatchResponse, complete_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(serviceWatchResponse, services_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(serviceWatchResponse, removed_uuids_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(serviceWatchResponse, timestamp_s_),
+  };
+  serviceWatchResponse_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      serviceWatchResponse_descriptor_,
+      serviceWatchResponse::default_instance_,
+      serviceWatchResponse_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(serviceWatchResponse, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(serviceWatchResponse, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(serviceWatchResponse));
+  configurationGetRequest_descriptor_ = file->message_type(19);
   static const int configurationGetRequest_offsets_[1] = {
     GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(configurationGetRequest, uuid_),
   };
@@ -377,7 +421,7 @@ void protobuf_AssignDesc_xtreemfs_2fDIR_2eproto() {
       ::google::protobuf::DescriptorPool::generated_pool(),
       ::google::protobuf::MessageFactory::generated_factory(),
       sizeof(configurationGetRequest));
-  configurationSetResponse_descriptor_ = file->message_type(18);
+  configurationSetResponse_descriptor_ = file->message_type(20);
   static const int configurationSetResponse_offsets_[1] = {
     GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(configurationSetResponse, new_version_),
   };
@@ -440,6 +484,10 @@ void protobuf_RegisterTypes(const ::std::string&) {
     serviceRegisterRequest_descriptor_, &serviceRegisterRequest::default_instance());
   ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
     serviceRegisterResponse_descriptor_, &serviceRegisterResponse::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    serviceWatchRequest_descriptor_, &serviceWatchRequest::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    serviceWatchResponse_descriptor_, &serviceWatchResponse::default_instance());
   ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
     configurationGetRequest_descriptor_, &configurationGetRequest::default_instance());
   ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
@@ -483,6 +531,10 @@ void protobuf_ShutdownFile_xtreemfs_2fDIR_2eproto() {
   delete serviceRegisterRequest_reflection_;
   delete serviceRegisterResponse::default_instance_;
   delete serviceRegisterResponse_reflection_;
+  delete serviceWatchRequest::default_instance_;
+  delete serviceWatchRequest_reflection_;
+  delete serviceWatchResponse::default_instance_;
+  delete serviceWatchResponse_reflection_;
   delete configurationGetRequest::default_instance_;
   delete configurationGetRequest_reflection_;
   delete configurationSetResponse::default_instance_;
@@ -532,61 +584,71 @@ void protobuf_AddDesc_xtreemfs_2fDIR_2eproto() {
     "mfs.pbrpc.ServiceType\"B\n\026serviceRegister"
     "Request\022(\n\007service\030\001 \002(\0132\027.xtreemfs.pbrp"
     "c.Service\".\n\027serviceRegisterResponse\022\023\n\013"
-    "new_version\030\001 \002(\006\"\'\n\027configurationGetReq"
-    "uest\022\014\n\004uuid\030\001 \002(\t\"/\n\030configurationSetRe"
-    "sponse\022\023\n\013new_version\030\001 \001(\006*\200\001\n\013ServiceT"
-    "ype\022\026\n\022SERVICE_TYPE_MIXED\020\000\022\024\n\020SERVICE_T"
-    "YPE_MRC\020\001\022\024\n\020SERVICE_TYPE_OSD\020\002\022\027\n\023SERVI"
-    "CE_TYPE_VOLUME\020\003\022\024\n\020SERVICE_TYPE_DIR\020\004*g"
-    "\n\rServiceStatus\022\030\n\024SERVICE_STATUS_AVAIL\020"
-    "\000\022 \n\034SERVICE_STATUS_TO_BE_REMOVED\020\001\022\032\n\026S"
-    "ERVICE_STATUS_REMOVED\020\0022\355\r\n\020DirectorySer"
-    "vice\022u\n\035xtreemfs_address_mappings_get\022(."
-    "xtreemfs.pbrpc.addressMappingGetRequest\032"
-    "!.xtreemfs.pbrpc.AddressMappingSet\"\007\215\265\030\001"
-    "\000\000\000\022t\n xtreemfs_address_mappings_remove\022"
-    "(.xtreemfs.pbrpc.addressMappingGetReques"
-    "t\032\035.xtreemfs.pbrpc.emptyResponse\"\007\215\265\030\002\000\000"
-    "\000\022v\n\035xtreemfs_address_mappings_set\022!.xtr"
-    "eemfs.pbrpc.AddressMappingSet\032).xtreemfs"
-    ".pbrpc.addressMappingSetResponse\"\007\215\265\030\003\000\000"
-    "\000\022Z\n\025xtreemfs_discover_dir\022\034.xtreemfs.pb"
-    "rpc.emptyRequest\032\032.xtreemfs.pbrpc.DirSer"
-    "vice\"\007\215\265\030\004\000\000\000\022k\n\032xtreemfs_global_time_s_"
-    "get\022\034.xtreemfs.pbrpc.emptyRequest\032&.xtre"
-    "emfs.pbrpc.globalTimeSGetResponse\"\007\215\265\030\005\000"
-    "\000\000\022o\n\033xtreemfs_service_deregister\022(.xtre"
-    "emfs.pbrpc.serviceDeregisterRequest\032\035.xt"
-    "reemfs.pbrpc.emptyResponse\"\007\215\265\030\006\000\000\000\022l\n\034x"
-    "treemfs_service_get_by_name\022\'.xtreemfs.p"
-    "brpc.serviceGetByNameRequest\032\032.xtreemfs."
-    "pbrpc.ServiceSet\"\007\215\265\030\007\000\000\000\022l\n\034xtreemfs_se"
-    "rvice_get_by_type\022\'.xtreemfs.pbrpc.servi"
-    "ceGetByTypeRequest\032\032.xtreemfs.pbrpc.Serv"
-    "iceSet\"\007\215\265\030\010\000\000\000\022l\n\034xtreemfs_service_get_"
-    "by_uuid\022\'.xtreemfs.pbrpc.serviceGetByUUI"
-    "DRequest\032\032.xtreemfs.pbrpc.ServiceSet\"\007\215\265"
-    "\030\t\000\000\000\022k\n\030xtreemfs_service_offline\022\'.xtre"
-    "emfs.pbrpc.serviceGetByUUIDRequest\032\035.xtr"
-    "eemfs.pbrpc.emptyResponse\"\007\215\265\030\n\000\000\000\022u\n\031xt"
-    "reemfs_service_register\022&.xtreemfs.pbrpc"
-    ".serviceRegisterRequest\032\'.xtreemfs.pbrpc"
-    ".serviceRegisterResponse\"\007\215\265\030\013\000\000\000\022[\n\023xtr"
-    "eemfs_checkpoint\022\034.xtreemfs.pbrpc.emptyR"
-    "equest\032\035.xtreemfs.pbrpc.emptyResponse\"\007\215"
-    "\265\030\024\000\000\000\022Y\n\021xtreemfs_shutdown\022\034.xtreemfs.p"
-    "brpc.emptyRequest\032\035.xtreemfs.pbrpc.empty"
-    "Response\"\007\215\265\030\025\000\000\000\022m\n\032xtreemfs_configurat"
-    "ion_get\022\'.xtreemfs.pbrpc.configurationGe"
-    "tRequest\032\035.xtreemfs.pbrpc.Configuration\""
-    "\007\215\265\030\026\000\000\000\022n\n\032xtreemfs_configuration_set\022\035"
-    ".xtreemfs.pbrpc.Configuration\032(.xtreemfs"
-    ".pbrpc.configurationSetResponse\"\007\215\265\030\027\000\000\000"
-    "\022l\n\036xtreemfs_vivaldi_client_update\022\".xtr"
-    "eemfs.pbrpc.VivaldiCoordinates\032\035.xtreemf"
-    "s.pbrpc.emptyResponse\"\007\215\265\030\030\000\000\000\032\007\225\265\030\021\'\000\000B"
-    "(\n&org.xtreemfs.pbrpc.generatedinterface"
-    "s", 3481);
+    "new_version\030\001 \002(\006\"\236\001\n\023serviceWatchReques"
+    "t\022)\n\004type\030\001 \002(\0162\033.xtreemfs.pbrpc.Service"
+    "Type\022\025\n\rknown_version\030\002 \002(\006\022\022\n\ntimeout_m"
+    "s\030\003 \002(\007\022\r\n\005uuids\030\004 \003(\t\022\"\n\023status_changes"
+    "_only\030\005 \001(\010:\005false\"\220\001\n\024serviceWatchRespo"
+    "nse\022\017\n\007version\030\001 \002(\006\022\020\n\010complete\030\002 \002(\010\022)"
+    "\n\010services\030\003 \003(\0132\027.xtreemfs.pbrpc.Servic"
+    "e\022\025\n\rremoved_uuids\030\004 \003(\t\022\023\n\013timestamp_s\030"
+    "\005 \002(\006\"\'\n\027configurationGetRequest\022\014\n\004uuid"
+    "\030\001 \002(\t\"/\n\030configurationSetResponse\022\023\n\013ne"
+    "w_version\030\001 \001(\006*\200\001\n\013ServiceType\022\026\n\022SERVI"
+    "CE_TYPE_MIXED\020\000\022\024\n\020SERVICE_TYPE_MRC\020\001\022\024\n"
+    "\020SERVICE_TYPE_OSD\020\002\022\027\n\023SERVICE_TYPE_VOLU"
+    "ME\020\003\022\024\n\020SERVICE_TYPE_DIR\020\004*g\n\rServiceSta"
+    "tus\022\030\n\024SERVICE_STATUS_AVAIL\020\000\022 \n\034SERVICE"
+    "_STATUS_TO_BE_REMOVED\020\001\022\032\n\026SERVICE_STATU"
+    "S_REMOVED\020\0022\333\016\n\020DirectoryService\022u\n\035xtre"
+    "emfs_address_mappings_get\022(.xtreemfs.pbr"
+    "pc.addressMappingGetRequest\032!.xtreemfs.p"
+    "brpc.AddressMappingSet\"\007\215\265\030\001\000\000\000\022t\n xtree"
+    "mfs_address_mappings_remove\022(.xtreemfs.p"
+    "brpc.addressMappingGetRequest\032\035.xtreemfs"
+    ".pbrpc.emptyResponse\"\007\215\265\030\002\000\000\000\022v\n\035xtreemf"
+    "s_address_mappings_set\022!.xtreemfs.pbrpc."
+    "AddressMappingSet\032).xtreemfs.pbrpc.addre"
+    "ssMappingSetResponse\"\007\215\265\030\003\000\000\000\022Z\n\025xtreemf"
+    "s_discover_dir\022\034.xtreemfs.pbrpc.emptyReq"
+    "uest\032\032.xtreemfs.pbrpc.DirService\"\007\215\265\030\004\000\000"
+    "\000\022k\n\032xtreemfs_global_time_s_get\022\034.xtreem"
+    "fs.pbrpc.emptyRequest\032&.xtreemfs.pbrpc.g"
+    "lobalTimeSGetResponse\"\007\215\265\030\005\000\000\000\022o\n\033xtreem"
+    "fs_service_deregister\022(.xtreemfs.pbrpc.s"
+    "erviceDeregisterRequest\032\035.xtreemfs.pbrpc"
+    ".emptyResponse\"\007\215\265\030\006\000\000\000\022l\n\034xtreemfs_serv"
+    "ice_get_by_name\022\'.xtreemfs.pbrpc.service"
+    "GetByNameRequest\032\032.xtreemfs.pbrpc.Servic"
+    "eSet\"\007\215\265\030\007\000\000\000\022l\n\034xtreemfs_service_get_by"
+    "_type\022\'.xtreemfs.pbrpc.serviceGetByTypeR"
+    "equest\032\032.xtreemfs.pbrpc.ServiceSet\"\007\215\265\030\010"
+    "\000\000\000\022l\n\034xtreemfs_service_get_by_uuid\022\'.xt"
+    "reemfs.pbrpc.serviceGetByUUIDRequest\032\032.x"
+    "treemfs.pbrpc.ServiceSet\"\007\215\265\030\t\000\000\000\022k\n\030xtr"
+    "eemfs_service_offline\022\'.xtreemfs.pbrpc.s"
+    "erviceGetByUUIDRequest\032\035.xtreemfs.pbrpc."
+    "emptyResponse\"\007\215\265\030\n\000\000\000\022u\n\031xtreemfs_servi"
+    "ce_register\022&.xtreemfs.pbrpc.serviceRegi"
+    "sterRequest\032\'.xtreemfs.pbrpc.serviceRegi"
+    "sterResponse\"\007\215\265\030\013\000\000\000\022[\n\023xtreemfs_checkp"
+    "oint\022\034.xtreemfs.pbrpc.emptyRequest\032\035.xtr"
+    "eemfs.pbrpc.emptyResponse\"\007\215\265\030\024\000\000\000\022Y\n\021xt"
+    "reemfs_shutdown\022\034.xtreemfs.pbrpc.emptyRe"
+    "quest\032\035.xtreemfs.pbrpc.emptyResponse\"\007\215\265"
+    "\030\025\000\000\000\022m\n\032xtreemfs_configuration_get\022\'.xt"
+    "reemfs.pbrpc.configurationGetRequest\032\035.x"
+    "treemfs.pbrpc.Configuration\"\007\215\265\030\026\000\000\000\022n\n\032"
+    "xtreemfs_configuration_set\022\035.xtreemfs.pb"
+    "rpc.Configuration\032(.xtreemfs.pbrpc.confi"
+    "gurationSetResponse\"\007\215\265\030\027\000\000\000\022l\n\036xtreemfs"
+    "_vivaldi_client_update\022\".xtreemfs.pbrpc."
+    "VivaldiCoordinates\032\035.xtreemfs.pbrpc.empt"
+    "yResponse\"\007\215\265\030\030\000\000\000\022l\n\026xtreemfs_service_w"
+    "atch\022#.xtreemfs.pbrpc.serviceWatchReques"
+    "t\032$.xtreemfs.pbrpc.serviceWatchResponse\""
+    "\007\215\265\030\031\000\000\000\032\007\225\265\030\021\'\000\000B(\n&org.xtreemfs.pbrpc."
+    "generatedinterfaces", 3899);
   ::google::protobuf::MessageFactory::InternalRegisterGeneratedFile(
     "xtreemfs/DIR.proto", &protobuf_RegisterTypes);
   AddressMapping::default_instance_ = new AddressMapping();
@@ -606,6 +668,8 @@ void protobuf_AddDesc_xtreemfs_2fDIR_2eproto() {
   serviceGetByTypeRequest::default_instance_ = new serviceGetByTypeRequest();
   serviceRegisterRequest::default_instance_ = new serviceRegisterRequest();
   serviceRegisterResponse::default_instance_ = new serviceRegisterResponse();
+  serviceWatchRequest::default_instance_ = new serviceWatchRequest();
+  serviceWatchResponse::default_instance_ = new serviceWatchResponse();
   configurationGetRequest::default_instance_ = new configurationGetRequest();
   configurationSetResponse::default_instance_ = new configurationSetResponse();
   AddressMapping::default_instance_->InitAsDefaultInstance();
@@ -625,6 +689,8 @@ void protobuf_AddDesc_xtreemfs_2fDIR_2eproto() {
   serviceGetByTypeRequest::default_instance_->InitAsDefaultInstance();
   serviceRegisterRequest::default_instance_->InitAsDefaultInstance();
   serviceRegisterResponse::default_instance_->InitAsDefaultInstance();
+  serviceWatchRequest::default_instance_->InitAsDefaultInstance();
+  serviceWatchResponse::default_instance_->InitAsDefaultInstance();
   configurationGetRequest::default_instance_->InitAsDefaultInstance();
   configurationSetResponse::default_instance_->InitAsDefaultInstance();
   ::google::protobuf::internal::OnShutdown(&protobuf_ShutdownFile_xtreemfs_2fDIR_2eproto);
@@ -5146,6 +5212,757 @@ void serviceRegisterResponse::Swap(serviceRegisterResponse* other) {
 }
 
 
+// ===================================================================
+
+#ifndef _MSC_VER
+const int serviceWatchRequest::kTypeFieldNumber;
+const int serviceWatchRequest::kKnownVersionFieldNumber;
+const int serviceWatchRequest::kTimeoutMsFieldNumber;
+const int serviceWatchRequest::kUuidsFieldNumber;
+const int serviceWatchRequest::kStatusChangesOnlyFieldNumber;
+#endif  // !_MSC_VER
+
+serviceWatchRequest::serviceWatchRequest()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void serviceWatchRequest::InitAsDefaultInstance() {
+}
+
+serviceWatchRequest::serviceWatchRequest(const serviceWatchRequest& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void serviceWatchRequest::SharedCtor() {
+  _cached_size_ = 0;
+  type_ = 0;
+  known_version_ = GOOGLE_ULONGLONG(0);
+  timeout_ms_ = 0u;
+  status_changes_only_ = false;
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+serviceWatchRequest::~serviceWatchRequest() {
+  SharedDtor();
+}
+
+void serviceWatchRequest::SharedDtor() {
+  if (this != default_instance_) {
+  }
+}
+
+void serviceWatchRequest::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* serviceWatchRequest::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return serviceWatchRequest_descriptor_;
+}
+
+const serviceWatchRequest& serviceWatchRequest::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_xtreemfs_2fDIR_2eproto();
+  return *default_instance_;
+}
+
+serviceWatchRequest* serviceWatchRequest::default_instance_ = NULL;
+
+serviceWatchRequest* serviceWatchRequest::New() const {
+  return new serviceWatchRequest;
+}
+
+void serviceWatchRequest::Clear() {
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    type_ = 0;
+    known_version_ = GOOGLE_ULONGLONG(0);
+    timeout_ms_ = 0u;
+    status_changes_only_ = false;
+  }
+  uuids_.Clear();
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool serviceWatchRequest::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // required .xtreemfs.pbrpc.ServiceType type = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+          int value;
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   int, ::google::protobuf::internal::WireFormatLite::TYPE_ENUM>(
+                 input, &value)));
+          if (::xtreemfs::pbrpc::ServiceType_IsValid(value)) {
+            set_type(static_cast< ::xtreemfs::pbrpc::ServiceType >(value));
+          } else {
+            mutable_unknown_fields()->AddVarint(1, value);
+          }
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(17)) goto parse_known_version;
+        break;
+      }
+
+      // required fixed64 known_version = 2;
+      case 2: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_FIXED64) {
+         parse_known_version:
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   ::google::protobuf::uint64, ::google::protobuf::internal::WireFormatLite::TYPE_FIXED64>(
+                 input, &known_version_)));
+          set_has_known_version();
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(29)) goto parse_timeout_ms;
+        break;
+      }
+
+      // required fixed32 timeout_ms = 3;
+      case 3: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_FIXED32) {
+         parse_timeout_ms:
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_FIXED32>(
+                 input, &timeout_ms_)));
+          set_has_timeout_ms();
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(34)) goto parse_uuids;
+        break;
+      }
+
+      // repeated string uuids = 4;
+      case 4: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_uuids:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadString(
+                input, this->add_uuids()));
+          ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+            this->uuids(this->uuids_size() - 1).data(),
+            this->uuids(this->uuids_size() - 1).length(),
+            ::google::protobuf::internal::WireFormat::PARSE);
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(34)) goto parse_uuids;
+        if (input->ExpectTag(40)) goto parse_status_changes_only;
+        break;
+      }
+
+      // optional bool status_changes_only = 5 [default = false];
+      case 5: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+         parse_status_changes_only:
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   bool, ::google::protobuf::internal::WireFormatLite::TYPE_BOOL>(
+                 input, &status_changes_only_)));
+          set_has_status_changes_only();
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void serviceWatchRequest::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // required .xtreemfs.pbrpc.ServiceType type = 1;
+  if (has_type()) {
+    ::google::protobuf::internal::WireFormatLite::WriteEnum(
+      1, this->type(), output);
+  }
+
+  // required fixed64 known_version = 2;
+  if (has_known_version()) {
+    ::google::protobuf::internal::WireFormatLite::WriteFixed64(2, this->known_version(), output);
+  }
+
+  // required fixed32 timeout_ms = 3;
+  if (has_timeout_ms()) {
+    ::google::protobuf::internal::WireFormatLite::WriteFixed32(3, this->timeout_ms(), output);
+  }
+
+  // repeated string uuids = 4;
+  for (int i = 0; i < this->uuids_size(); i++) {
+  ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+    this->uuids(i).data(), this->uuids(i).length(),
+    ::google::protobuf::internal::WireFormat::SERIALIZE);
+    ::google::protobuf::internal::WireFormatLite::WriteString(
+      4, this->uuids(i), output);
+  }
+
+  // optional bool status_changes_only = 5 [default = false];
+  if (has_status_changes_only()) {
+    ::google::protobuf::internal::WireFormatLite::WriteBool(5, this->status_changes_only(), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* serviceWatchRequest::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // required .xtreemfs.pbrpc.ServiceType type = 1;
+  if (has_type()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteEnumToArray(
+      1, this->type(), target);
+  }
+
+  // required fixed64 known_version = 2;
+  if (has_known_version()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteFixed64ToArray(2, this->known_version(), target);
+  }
+
+  // required fixed32 timeout_ms = 3;
+  if (has_timeout_ms()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteFixed32ToArray(3, this->timeout_ms(), target);
+  }
+
+  // repeated string uuids = 4;
+  for (int i = 0; i < this->uuids_size(); i++) {
+    ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+      this->uuids(i).data(), this->uuids(i).length(),
+      ::google::protobuf::internal::WireFormat::SERIALIZE);
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteStringToArray(4, this->uuids(i), target);
+  }
+
+  // optional bool status_changes_only = 5 [default = false];
+  if (has_status_changes_only()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteBoolToArray(5, this->status_changes_only(), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int serviceWatchRequest::ByteSize() const {
+  int total_size = 0;
+
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    // required .xtreemfs.pbrpc.ServiceType type = 1;
+    if (has_type()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::EnumSize(this->type());
+    }
+
+    // required fixed64 known_version = 2;
+    if (has_known_version()) {
+      total_size += 1 + 8;
+    }
+
+    // required fixed32 timeout_ms = 3;
+    if (has_timeout_ms()) {
+      total_size += 1 + 4;
+    }
+
+    // optional bool status_changes_only = 5 [default = false];
+    if (has_status_changes_only()) {
+      total_size += 1 + 1;
+    }
+
+  }
+  // repeated string uuids = 4;
+  total_size += 1 * this->uuids_size();
+  for (int i = 0; i < this->uuids_size(); i++) {
+    total_size += ::google::protobuf::internal::WireFormatLite::StringSize(
+      this->uuids(i));
+  }
+
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void serviceWatchRequest::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const serviceWatchRequest* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const serviceWatchRequest*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void serviceWatchRequest::MergeFrom(const serviceWatchRequest& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  uuids_.MergeFrom(from.uuids_);
+  if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (from.has_type()) {
+      set_type(from.type());
+    }
+    if (from.has_known_version()) {
+      set_known_version(from.known_version());
+    }
+    if (from.has_timeout_ms()) {
+      set_timeout_ms(from.timeout_ms());
+    }
+    if (from.has_status_changes_only()) {
+      set_status_changes_only(from.status_changes_only());
+    }
+  }
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void serviceWatchRequest::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void serviceWatchRequest::CopyFrom(const serviceWatchRequest& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool serviceWatchRequest::IsInitialized() const {
+  if ((_has_bits_[0] & 0x00000007) != 0x00000007) return false;
+
+  return true;
+}
+
+void serviceWatchRequest::Swap(serviceWatchRequest* other) {
+  if (other != this) {
+    std::swap(type_, other->type_);
+    std::swap(known_version_, other->known_version_);
+    std::swap(timeout_ms_, other->timeout_ms_);
+    uuids_.Swap(&other->uuids_);
+    std::swap(status_changes_only_, other->status_changes_only_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata serviceWatchRequest::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = serviceWatchRequest_descriptor_;
+  metadata.reflection = serviceWatchRequest_reflection_;
+  return metadata;
+}
+
+
+// ===================================================================
+
+#ifndef _MSC_VER
+const int serviceWatchResponse::kVersionFieldNumber;
+const int serviceWatchResponse::kCompleteFieldNumber;
+const int serviceWatchResponse::kServicesFieldNumber;
+const int serviceWatchResponse::kRemovedUuidsFieldNumber;
+const int serviceWatchResponse::kTimestampSFieldNumber;
+#endif  // !_MSC_VER
+
+serviceWatchResponse::serviceWatchResponse()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void serviceWatchResponse::InitAsDefaultInstance() {
+}
+
+serviceWatchResponse::serviceWatchResponse(const serviceWatchResponse& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void serviceWatchResponse::SharedCtor() {
+  _cached_size_ = 0;
+  version_ = GOOGLE_ULONGLONG(0);
+  complete_ = false;
+  timestamp_s_ = GOOGLE_ULONGLONG(0);
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+serviceWatchResponse::~serviceWatchResponse() {
+  SharedDtor();
+}
+
+void serviceWatchResponse::SharedDtor() {
+  if (this != default_instance_) {
+  }
+}
+
+void serviceWatchResponse::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* serviceWatchResponse::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return serviceWatchResponse_descriptor_;
+}
+
+const serviceWatchResponse& serviceWatchResponse::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_xtreemfs_2fDIR_2eproto();
+  return *default_instance_;
+}
+
+serviceWatchResponse* serviceWatchResponse::default_instance_ = NULL;
+
+serviceWatchResponse* serviceWatchResponse::New() const {
+  return new serviceWatchResponse;
+}
+
+void serviceWatchResponse::Clear() {
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    version_ = GOOGLE_ULONGLONG(0);
+    complete_ = false;
+    timestamp_s_ = GOOGLE_ULONGLONG(0);
+  }
+  services_.Clear();
+  removed_uuids_.Clear();
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool serviceWatchResponse::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // required fixed64 version = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_FIXED64) {
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   ::google::protobuf::uint64, ::google::protobuf::internal::WireFormatLite::TYPE_FIXED64>(
+                 input, &version_)));
+          set_has_version();
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(16)) goto parse_complete;
+        break;
+      }
+
+      // required bool complete = 2;
+      case 2: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+         parse_complete:
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   bool, ::google::protobuf::internal::WireFormatLite::TYPE_BOOL>(
+                 input, &complete_)));
+          set_has_complete();
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(26)) goto parse_services;
+        break;
+      }
+
+      // repeated .xtreemfs.pbrpc.Service services = 3;
+      case 3: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_services:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadMessageNoVirtual(
+                input, add_services()));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(26)) goto parse_services;
+        if (input->ExpectTag(34)) goto parse_removed_uuids;
+        break;
+      }
+
+      // repeated string removed_uuids = 4;
+      case 4: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_removed_uuids:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadString(
+                input, this->add_removed_uuids()));
+          ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+            this->removed_uuids(this->removed_uuids_size() - 1).data(),
+            this->removed_uuids(this->removed_uuids_size() - 1).length(),
+            ::google::protobuf::internal::WireFormat::PARSE);
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(34)) goto parse_removed_uuids;
+        if (input->ExpectTag(41)) goto parse_timestamp_s;
+        break;
+      }
+
+      // required fixed64 timestamp_s = 5;
+      case 5: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_FIXED64) {
+         parse_timestamp_s:
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   ::google::protobuf::uint64, ::google::protobuf::internal::WireFormatLite::TYPE_FIXED64>(
+                 input, &timestamp_s_)));
+          set_has_timestamp_s();
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void serviceWatchResponse::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // required fixed64 version = 1;
+  if (has_version()) {
+    ::google::protobuf::internal::WireFormatLite::WriteFixed64(1, this->version(), output);
+  }
+
+  // required bool complete = 2;
+  if (has_complete()) {
+    ::google::protobuf::internal::WireFormatLite::WriteBool(2, this->complete(), output);
+  }
+
+  // repeated .xtreemfs.pbrpc.Service services = 3;
+  for (int i = 0; i < this->services_size(); i++) {
+    ::google::protobuf::internal::WireFormatLite::WriteMessageMaybeToArray(
+      3, this->services(i), output);
+  }
+
+  // repeated string removed_uuids = 4;
+  for (int i = 0; i < this->removed_uuids_size(); i++) {
+  ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+    this->removed_uuids(i).data(), this->removed_uuids(i).length(),
+    ::google::protobuf::internal::WireFormat::SERIALIZE);
+    ::google::protobuf::internal::WireFormatLite::WriteString(
+      4, this->removed_uuids(i), output);
+  }
+
+  // required fixed64 timestamp_s = 5;
+  if (has_timestamp_s()) {
+    ::google::protobuf::internal::WireFormatLite::WriteFixed64(5, this->timestamp_s(), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* serviceWatchResponse::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // required fixed64 version = 1;
+  if (has_version()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteFixed64ToArray(1, this->version(), target);
+  }
+
+  // required bool complete = 2;
+  if (has_complete()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteBoolToArray(2, this->complete(), target);
+  }
+
+  // repeated .xtreemfs.pbrpc.Service services = 3;
+  for (int i = 0; i < this->services_size(); i++) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteMessageNoVirtualToArray(
+        3, this->services(i), target);
+  }
+
+  // repeated string removed_uuids = 4;
+  for (int i = 0; i < this->removed_uuids_size(); i++) {
+    ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+      this->removed_uuids(i).data(), this->removed_uuids(i).length(),
+      ::google::protobuf::internal::WireFormat::SERIALIZE);
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteStringToArray(4, this->removed_uuids(i), target);
+  }
+
+  // required fixed64 timestamp_s = 5;
+  if (has_timestamp_s()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteFixed64ToArray(5, this->timestamp_s(), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int serviceWatchResponse::ByteSize() const {
+  int total_size = 0;
+
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    // required fixed64 version = 1;
+    if (has_version()) {
+      total_size += 1 + 8;
+    }
+
+    // required bool complete = 2;
+    if (has_complete()) {
+      total_size += 1 + 1;
+    }
+
+    // required fixed64 timestamp_s = 5;
+    if (has_timestamp_s()) {
+      total_size += 1 + 8;
+    }
+
+  }
+  // repeated .xtreemfs.pbrpc.Service services = 3;
+  total_size += 1 * this->services_size();
+  for (int i = 0; i < this->services_size(); i++) {
+    total_size +=
+      ::google::protobuf::internal::WireFormatLite::MessageSizeNoVirtual(
+        this->services(i));
+  }
+
+  // repeated string removed_uuids = 4;
+  total_size += 1 * this->removed_uuids_size();
+  for (int i = 0; i < this->removed_uuids_size(); i++) {
+    total_size += ::google::protobuf::internal::WireFormatLite::StringSize(
+      this->removed_uuids(i));
+  }
+
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void serviceWatchResponse::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const serviceWatchResponse* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const serviceWatchResponse*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void serviceWatchResponse::MergeFrom(const serviceWatchResponse& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  services_.MergeFrom(from.services_);
+  removed_uuids_.MergeFrom(from.removed_uuids_);
+  if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (from.has_version()) {
+      set_version(from.version());
+    }
+    if (from.has_complete()) {
+      set_complete(from.complete());
+    }
+    if (from.has_timestamp_s()) {
+      set_timestamp_s(from.timestamp_s());
+    }
+  }
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void serviceWatchResponse::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void serviceWatchResponse::CopyFrom(const serviceWatchResponse& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool serviceWatchResponse::IsInitialized() const {
+  if ((_has_bits_[0] & 0x00000013) != 0x00000013) return false;
+
+  for (int i = 0; i < services_size(); i++) {
+    if (!this->services(i).IsInitialized()) return false;
+  }
+  return true;
+}
+
+void serviceWatchResponse::Swap(serviceWatchResponse* other) {
+  if (other != this) {
+    std::swap(version_, other->version_);
+    std::swap(complete_, other->complete_);
+    services_.Swap(&other->services_);
+    removed_uuids_.Swap(&other->removed_uuids_);
+    std::swap(timestamp_s_, other->timestamp_s_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata serviceWatchResponse::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = serviceWatchResponse_descriptor_;
+  metadata.reflection = serviceWatchResponse_reflection_;
+  return metadata;
+}
+
+
 // ===================================================================
 
 #ifndef _MSC_VER
@@ -55,6 +55,8 @@ class serviceGetByUUIDRequest;
 class serviceGetByTypeRequest;
 class serviceRegisterRequest;
 class serviceRegisterResponse;
+class serviceWatchRequest;
+class serviceWatchResponse;
 class configurationGetRequest;
 class configurationSetResponse;
 
@@ -1754,6 +1756,267 @@ class serviceRegisterResponse : public ::google::protobuf::Message {
 };
 // -------------------------------------------------------------------
 
+class serviceWatchRequest : public ::google::protobuf::Message {
+ public:
+  serviceWatchRequest();
+  virtual ~serviceWatchRequest();
+
+  serviceWatchRequest(const serviceWatchRequest& from);
+
+  inline serviceWatchRequest& operator=(const serviceWatchRequest& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const serviceWatchRequest& default_instance();
+
+  void Swap(serviceWatchRequest* other);
+
+  // implements Message ----------------------------------------------
+
+  serviceWatchRequest* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const serviceWatchRequest& from);
+  void MergeFrom(const serviceWatchRequest& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  // accessors -------------------------------------------------------
+
+  // required .xtreemfs.pbrpc.ServiceType type = 1;
+  inline bool has_type() const;
+  inline void clear_type();
+  static const int kTypeFieldNumber = 1;
+  inline ::xtreemfs::pbrpc::ServiceType type() const;
+  inline void set_type(::xtreemfs::pbrpc::ServiceType value);
+
+  // required fixed64 known_version = 2;
+  inline bool has_known_version() const;
+  inline void clear_known_version();
+  static const int kKnownVersionFieldNumber = 2;
+  inline ::google::protobuf::uint64 known_version() const;
+  inline void set_known_version(::google::protobuf::uint64 value);
+
+  // required fixed32 timeout_ms = 3;
+  inline bool has_timeout_ms() const;
+  inline void clear_timeout_ms();
+  static const int kTimeoutMsFieldNumber = 3;
+  inline ::google::protobuf::uint32 timeout_ms() const;
+  inline void set_timeout_ms(::google::protobuf::uint32 value);
+
+  // repeated string uuids = 4;
+  inline int uuids_size() const;
+  inline void clear_uuids();
+  static const int kUuidsFieldNumber = 4;
+  inline const ::std::string& uuids(int index) const;
+  inline ::std::string* mutable_uuids(int index);
+  inline void set_uuids(int index, const ::std::string& value);
+  inline void set_uuids(int index, const char* value);
+  inline void set_uuids(int index, const char* value, size_t size);
+  inline ::std::string* add_uuids();
+  inline void add_uuids(const ::std::string& value);
+  inline void add_uuids(const char* value);
+  inline void add_uuids(const char* value, size_t size);
+  inline const ::google::protobuf::RepeatedPtrField< ::std::string>& uuids() const;
+  inline ::google::protobuf::RepeatedPtrField< ::std::string>* mutable_uuids();
+
+  // optional bool status_changes_only = 5 [default = false];
+  inline bool has_status_changes_only() const;
+  inline void clear_status_changes_only();
+  static const int kStatusChangesOnlyFieldNumber = 5;
+  inline bool status_changes_only() const;
+  inline void set_status_changes_only(bool value);
+
+  // @@protoc_insertion_point(class_scope:xtreemfs.pbrpc.serviceWatchRequest)
+ private:
+  inline void set_has_type();
+  inline void clear_has_type();
+  inline void set_has_known_version();
+  inline void clear_has_known_version();
+  inline void set_has_timeout_ms();
+  inline void clear_has_timeout_ms();
+  inline void set_has_status_changes_only();
+  inline void clear_has_status_changes_only();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::google::protobuf::uint64 known_version_;
+  int type_;
+  ::google::protobuf::uint32 timeout_ms_;
+  ::google::protobuf::RepeatedPtrField< ::std::string> uuids_;
+  bool status_changes_only_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(5 + 31) / 32];
+
+  friend void  protobuf_AddDesc_xtreemfs_2fDIR_2eproto();
+  friend void protobuf_AssignDesc_xtreemfs_2fDIR_2eproto();
+  friend void protobuf_ShutdownFile_xtreemfs_2fDIR_2eproto();
+
+  void InitAsDefaultInstance();
+  static serviceWatchRequest* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class serviceWatchResponse : public ::google::protobuf::Message {
+ public:
+  serviceWatchResponse();
+  virtual ~serviceWatchResponse();
+
+  serviceWatchResponse(const serviceWatchResponse& from);
+
+  inline serviceWatchResponse& operator=(const serviceWatchResponse& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const serviceWatchResponse& default_instance();
+
+  void Swap(serviceWatchResponse* other);
+
+  // implements Message ----------------------------------------------
+
+  serviceWatchResponse* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const serviceWatchResponse& from);
+  void MergeFrom(const serviceWatchResponse& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  // accessors -------------------------------------------------------
+
+  // required fixed64 version = 1;
+  inline bool has_version() const;
+  inline void clear_version();
+  static const int kVersionFieldNumber = 1;
+  inline ::google::protobuf::uint64 version() const;
+  inline void set_version(::google::protobuf::uint64 value);
+
+  // required bool complete = 2;
+  inline bool has_complete() const;
+  inline void clear_complete();
+  static const int kCompleteFieldNumber = 2;
+  inline bool complete() const;
+  inline void set_complete(bool value);
+
+  // repeated .xtreemfs.pbrpc.Service services = 3;
+  inline int services_size() const;
+  inline void clear_services();
+  static const int kServicesFieldNumber = 3;
+  inline const ::xtreemfs::pbrpc::Service& services(int index) const;
+  inline ::xtreemfs::pbrpc::Service* mutable_services(int index);
+  inline ::xtreemfs::pbrpc::Service* add_services();
+  inline const ::google::protobuf::RepeatedPtrField< ::xtreemfs::pbrpc::Service >&
+      services() const;
+  inline ::google::protobuf::RepeatedPtrField< ::xtreemfs::pbrpc::Service >*
+      mutable_services();
+
+  // repeated string removed_uuids = 4;
+  inline int removed_uuids_size() const;
+  inline void clear_removed_uuids();
+  static const int kRemovedUuidsFieldNumber = 4;
+  inline const ::std::string& removed_uuids(int index) const;
+  inline ::std::string* mutable_removed_uuids(int index);
+  inline void set_removed_uuids(int index, const ::std::string& value);
+  inline void set_removed_uuids(int index, const char* value);
+  inline void set_removed_uuids(int index, const char* value, size_t size);
+  inline ::std::string* add_removed_uuids();
+  inline void add_removed_uuids(const ::std::string& value);
+  inline void add_removed_uuids(const char* value);
+  inline void add_removed_uuids(const char* value, size_t size);
+  inline const ::google::protobuf::RepeatedPtrField< ::std::string>& removed_uuids() const;
+  inline ::google::protobuf::RepeatedPtrField< ::std::string>* mutable_removed_uuids();
+
+  // required fixed64 timestamp_s = 5;
+  inline bool has_timestamp_s() const;
+  inline void clear_timestamp_s();
+  static const int kTimestampSFieldNumber = 5;
+  inline ::google::protobuf::uint64 timestamp_s() const;
+  inline void set_timestamp_s(::google::protobuf::uint64 value);
+
+  // @@protoc_insertion_point(class_scope:xtreemfs.pbrpc.serviceWatchResponse)
+ private:
+  inline void set_has_version();
+  inline void clear_has_version();
+  inline void set_has_complete();
+  inline void clear_has_complete();
+  inline void set_has_timestamp_s();
+  inline void clear_has_timestamp_s();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::google::protobuf::uint64 version_;
+  ::google::protobuf::RepeatedPtrField< ::xtreemfs::pbrpc::Service > services_;
+  ::google::protobuf::RepeatedPtrField< ::std::string> removed_uuids_;
+  ::google::protobuf::uint64 timestamp_s_;
+  bool complete_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(5 + 31) / 32];
+
+  friend void  protobuf_AddDesc_xtreemfs_2fDIR_2eproto();
+  friend void protobuf_AssignDesc_xtreemfs_2fDIR_2eproto();
+  friend void protobuf_ShutdownFile_xtreemfs_2fDIR_2eproto();
+
+  void InitAsDefaultInstance();
+  static serviceWatchResponse* default_instance_;
+};
+// -------------------------------------------------------------------
+
 class configurationGetRequest : public ::google::protobuf::Message {
  public:
   configurationGetRequest();
@@ -3476,6 +3739,282 @@ inline void serviceRegisterResponse::set_new_version(::google::protobuf::uint64
 
 // -------------------------------------------------------------------
 
+// serviceWatchRequest
+
+// required .xtreemfs.pbrpc.ServiceType type = 1;
+inline bool serviceWatchRequest::has_type() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
+}
+inline void serviceWatchRequest::set_has_type() {
+  _has_bits_[0] |= 0x00000001u;
+}
+inline void serviceWatchRequest::clear_has_type() {
+  _has_bits_[0] &= ~0x00000001u;
+}
+inline void serviceWatchRequest::clear_type() {
+  type_ = 0;
+  clear_has_type();
+}
+inline ::xtreemfs::pbrpc::ServiceType serviceWatchRequest::type() const {
+  return static_cast< ::xtreemfs::pbrpc::ServiceType >(type_);
+}
+inline void serviceWatchRequest::set_type(::xtreemfs::pbrpc::ServiceType value) {
+  assert(::xtreemfs::pbrpc::ServiceType_IsValid(value));
+  set_has_type();
+  type_ = value;
+}
+
+// required fixed64 known_version = 2;
+inline bool serviceWatchRequest::has_known_version() const {
+  return (_has_bits_[0] & 0x00000002u) != 0;
+}
+inline void serviceWatchRequest::set_has_known_version() {
+  _has_bits_[0] |= 0x00000002u;
+}
+inline void serviceWatchRequest::clear_has_known_version() {
+  _has_bits_[0] &= ~0x00000002u;
+}
+inline void serviceWatchRequest::clear_known_version() {
+  known_version_ = GOOGLE_ULONGLONG(0);
+  clear_has_known_version();
+}
+inline ::google::protobuf::uint64 serviceWatchRequest::known_version() const {
+  return known_version_;
+}
+inline void serviceWatchRequest::set_known_version(::google::protobuf::uint64 value) {
+  set_has_known_version();
+  known_version_ = value;
+}
+
+// required fixed32 timeout_ms = 3;
+inline bool serviceWatchRequest::has_timeout_ms() const {
+  return (_has_bits_[0] & 0x00000004u) != 0;
+}
+inline void serviceWatchRequest::set_has_timeout_ms() {
+  _has_bits_[0] |= 0x00000004u;
+}
+inline void serviceWatchRequest::clear_has_timeout_ms() {
+  _has_bits_[0] &= ~0x00000004u;
+}
+inline void serviceWatchRequest::clear_timeout_ms() {
+  timeout_ms_ = 0u;
+  clear_has_timeout_ms();
+}
+inline ::google::protobuf::uint32 serviceWatchRequest::timeout_ms() const {
+  return timeout_ms_;
+}
+inline void serviceWatchRequest::set_timeout_ms(::google::protobuf::uint32 value) {
+  set_has_timeout_ms();
+  timeout_ms_ = value;
+}
+
+// repeated string uuids = 4;
+inline int serviceWatchRequest::uuids_size() const {
+  return uuids_.size();
+}
+inline void serviceWatchRequest::clear_uuids() {
+  uuids_.Clear();
+}
+inline const ::std::string& serviceWatchRequest::uuids(int index) const {
+  return uuids_.Get(index);
+}
+inline ::std::string* serviceWatchRequest::mutable_uuids(int index) {
+  return uuids_.Mutable(index);
+}
+inline void serviceWatchRequest::set_uuids(int index, const ::std::string& value) {
+  uuids_.Mutable(index)->assign(value);
+}
+inline void serviceWatchRequest::set_uuids(int index, const char* value) {
+  uuids_.Mutable(index)->assign(value);
+}
+inline void serviceWatchRequest::set_uuids(int index, const char* value, size_t size) {
+  uuids_.Mutable(index)->assign(
+    reinterpret_cast<const char*>(value), size);
+}
+inline ::std::string* serviceWatchRequest::add_uuids() {
+  return uuids_.Add();
+}
+inline void serviceWatchRequest::add_uuids(const ::std::string& value) {
+  uuids_.Add()->assign(value);
+}
+inline void serviceWatchRequest::add_uuids(const char* value) {
+  uuids_.Add()->assign(value);
+}
+inline void serviceWatchRequest::add_uuids(const char* value, size_t size) {
+  uuids_.Add()->assign(reinterpret_cast<const char*>(value), size);
+}
+inline const ::google::protobuf::RepeatedPtrField< ::std::string>&
+serviceWatchRequest::uuids() const {
+  return uuids_;
+}
+inline ::google::protobuf::RepeatedPtrField< ::std::string>*
+serviceWatchRequest::mutable_uuids() {
+  return &uuids_;
+}
+
+// optional bool status_changes_only = 5 [default = false];
+inline bool serviceWatchRequest::has_status_changes_only() const {
+  return (_has_bits_[0] & 0x00000010u) != 0;
+}
+inline void serviceWatchRequest::set_has_status_changes_only() {
+  _has_bits_[0] |= 0x00000010u;
+}
+inline void serviceWatchRequest::clear_has_status_changes_only() {
+  _has_bits_[0] &= ~0x00000010u;
+}
+inline void serviceWatchRequest::clear_status_changes_only() {
+  status_changes_only_ = false;
+  clear_has_status_changes_only();
+}
+inline bool serviceWatchRequest::status_changes_only() const {
+  return status_changes_only_;
+}
+inline void serviceWatchRequest::set_status_changes_only(bool value) {
+  set_has_status_changes_only();
+  status_changes_only_ = value;
+}
+
+// -------------------------------------------------------------------
+
+// serviceWatchResponse
+
+// required fixed64 version = 1;
+inline bool serviceWatchResponse::has_version() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
+}
+inline void serviceWatchResponse::set_has_version() {
+  _has_bits_[0] |= 0x00000001u;
+}
+inline void serviceWatchResponse::clear_has_version() {
+  _has_bits_[0] &= ~0x00000001u;
+}
+inline void serviceWatchResponse::clear_version() {
+  version_ = GOOGLE_ULONGLONG(0);
+  clear_has_version();
+}
+inline ::google::protobuf::uint64 serviceWatchResponse::version() const {
+  return version_;
+}
+inline void serviceWatchResponse::set_version(::google::protobuf::uint64 value) {
+  set_has_version();
+  version_ = value;
+}
+
+// required bool complete = 2;
+inline bool serviceWatchResponse::has_complete() const {
+  return (_has_bits_[0] & 0x00000002u) != 0;
+}
+inline void serviceWatchResponse::set_has_complete() {
+  _has_bits_[0] |= 0x00000002u;
+}
+inline void serviceWatchResponse::clear_has_complete() {
+  _has_bits_[0] &= ~0x00000002u;
+}
+inline void serviceWatchResponse::clear_complete() {
+  complete_ = false;
+  clear_has_complete();
+}
+inline bool serviceWatchResponse::complete() const {
+  return complete_;
+}
+inline void serviceWatchResponse::set_complete(bool value) {
+  set_has_complete();
+  complete_ = value;
+}
+
+// repeated .xtreemfs.pbrpc.Service services = 3;
+inline int serviceWatchResponse::services_size() const {
+  return services_.size();
+}
+inline void serviceWatchResponse::clear_services() {
+  services_.Clear();
+}
+inline const ::xtreemfs::pbrpc::Service& serviceWatchResponse::services(int index) const {
+  return services_.Get(index);
+}
+inline ::xtreemfs::pbrpc::Service* serviceWatchResponse::mutable_services(int index) {
+  return services_.Mutable(index);
+}
+inline ::xtreemfs::pbrpc::Service* serviceWatchResponse::add_services() {
+  return services_.Add();
+}
+inline const ::google::protobuf::RepeatedPtrField< ::xtreemfs::pbrpc::Service >&
+serviceWatchResponse::services() const {
+  return services_;
+}
+inline ::google::protobuf::RepeatedPtrField< ::xtreemfs::pbrpc::Service >*
+serviceWatchResponse::mutable_services() {
+  return &services_;
+}
+
+// repeated string removed_uuids = 4;
+inline int serviceWatchResponse::removed_uuids_size() const {
+  return removed_uuids_.size();
+}
+inline void serviceWatchResponse::clear_removed_uuids() {
+  removed_uuids_.Clear();
+}
+inline const ::std::string& serviceWatchResponse::removed_uuids(int index) const {
+  return removed_uuids_.Get(index);
+}
+inline ::std::string* serviceWatchResponse::mutable_removed_uuids(int index) {
+  return removed_uuids_.Mutable(index);
+}
+inline void serviceWatchResponse::set_removed_uuids(int index, const ::std::string& value) {
+  removed_uuids_.Mutable(index)->assign(value);
+}
+inline void serviceWatchResponse::set_removed_uuids(int index, const char* value) {
+  removed_uuids_.Mutable(index)->assign(value);
+}
+inline void serviceWatchResponse::set_removed_uuids(int index, const char* value, size_t size) {
+  removed_uuids_.Mutable(index)->assign(
+    reinterpret_cast<const char*>(value), size);
+}
+inline ::std::string* serviceWatchResponse::add_removed_uuids() {
+  return removed_uuids_.Add();
+}
+inline void serviceWatchResponse::add_removed_uuids(const ::std::string& value) {
+  removed_uuids_.Add()->assign(value);
+}
+inline void serviceWatchResponse::add_removed_uuids(const char* value) {
+  removed_uuids_.Add()->assign(value);
+}
+inline void serviceWatchResponse::add_removed_uuids(const char* value, size_t size) {
+  removed_uuids_.Add()->assign(reinterpret_cast<const char*>(value), size);
+}
+inline const ::google::protobuf::RepeatedPtrField< ::std::string>&
+serviceWatchResponse::removed_uuids() const {
+  return removed_uuids_;
+}
+inline ::google::protobuf::RepeatedPtrField< ::std::string>*
+serviceWatchResponse::mutable_removed_uuids() {
+  return &removed_uuids_;
+}
+
+// required fixed64 timestamp_s = 5;
+inline bool serviceWatchResponse::has_timestamp_s() const {
+  return (_has_bits_[0] & 0x00000010u) != 0;
+}
+inline void serviceWatchResponse::set_has_timestamp_s() {
+  _has_bits_[0] |= 0x00000010u;
+}
+inline void serviceWatchResponse::clear_has_timestamp_s() {
+  _has_bits_[0] &= ~0x00000010u;
+}
+inline void serviceWatchResponse::clear_timestamp_s() {
+  timestamp_s_ = GOOGLE_ULONGLONG(0);
+  clear_has_timestamp_s();
+}
+inline ::google::protobuf::uint64 serviceWatchResponse::timestamp_s() const {
+  return timestamp_s_;
+}
+inline void serviceWatchResponse::set_timestamp_s(::google::protobuf::uint64 value) {
+  set_has_timestamp_s();
+  timestamp_s_ = value;
+}
+
+// -------------------------------------------------------------------
+
 // configurationGetRequest
 
 // required string uuid = 1;
@@ -1,5 +1,5 @@
-//automatically generated from DIR.proto at Thu Dec 11 16:09:40 CET 2014
-//(c) 2014. See LICENSE file for details.
+//automatically generated from DIR.proto at Mon Oct 19 05:42:51 UTC 2026
+//(c) 2026. See LICENSE file for details.
 
 #ifndef DIRSERVICECLIENT_H
 #define DIRSERVICECLIENT_H
@@ -10,8 +10,8 @@
 #include "rpc/sync_callback.h"
 #include "rpc/callback_interface.h"
 #include "include/Common.pb.h"
-#include "xtreemfs/GlobalTypes.pb.h"
 #include "xtreemfs/DIR.pb.h"
+#include "xtreemfs/GlobalTypes.pb.h"
 
 
 namespace xtreemfs {
@@ -397,6 +397,29 @@ namespace pbrpc {
                 return sync_cb;
             }
 
+            void xtreemfs_service_watch(const std::string &address,
+                const xtreemfs::pbrpc::Auth& auth,
+                const xtreemfs::pbrpc::UserCredentials &creds,
+                const xtreemfs::pbrpc::serviceWatchRequest* request,
+                CallbackInterface<xtreemfs::pbrpc::serviceWatchResponse> *callback, void *context = NULL) {
+                const char* data = NULL; uint32_t data_length = 0;
+                client_->sendRequest(address, 10001, 25,
+                     creds, auth, request, data, data_length, new xtreemfs::pbrpc::serviceWatchResponse(),
+                     context, callback);
+            }
+
+            SyncCallback<xtreemfs::pbrpc::serviceWatchResponse>* xtreemfs_service_watch_sync(const std::string &address,
+                const xtreemfs::pbrpc::Auth& auth,
+                const xtreemfs::pbrpc::UserCredentials &creds
+                , const xtreemfs::pbrpc::serviceWatchRequest* request) {
+                const char* data = NULL; uint32_t data_length = 0;
+                SyncCallback<xtreemfs::pbrpc::serviceWatchResponse>* sync_cb = new SyncCallback<xtreemfs::pbrpc::serviceWatchResponse>();
+                client_->sendRequest(address, 10001, 25,
+                     creds, auth, request, data, data_length, new xtreemfs::pbrpc::serviceWatchResponse(),
+                     NULL, sync_cb);
+                return sync_cb;
+            }
+
         private:
             Client* client_;
         };
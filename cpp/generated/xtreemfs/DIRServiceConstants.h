@@ -1,5 +1,5 @@
-//automatically generated from DIR.proto at Thu Dec 11 16:09:40 CET 2014
-//(c) 2014. See LICENSE file for details.
+//automatically generated from DIR.proto at Mon Oct 19 05:42:51 UTC 2026
+//(c) 2026. See LICENSE file for details.
 
 #ifndef DIRSERVICECONSTANTS_H_
 #define DIRSERVICECONSTANTS_H_
@@ -25,6 +25,7 @@ const uint32_t PROC_ID_XTREEMFS_SHUTDOWN = 21;
 const uint32_t PROC_ID_XTREEMFS_CONFIGURATION_GET = 22;
 const uint32_t PROC_ID_XTREEMFS_CONFIGURATION_SET = 23;
 const uint32_t PROC_ID_XTREEMFS_VIVALDI_CLIENT_UPDATE = 24;
+const uint32_t PROC_ID_XTREEMFS_SERVICE_WATCH = 25;
 
 }  // namespace pbrpc
 }  // namespace xtreemfs
@@ -151,6 +151,12 @@ const ::google::protobuf::internal::GeneratedMessageReflection*
 const ::google::protobuf::Descriptor* xtreemfs_replica_listRequest_descriptor_ = NULL;
 const ::google::protobuf::internal::GeneratedMessageReflection*
   xtreemfs_replica_listRequest_reflection_ = NULL;
+const ::google::protobuf::Descriptor* xtreemfs_renew_capabilitiesRequest_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  xtreemfs_renew_capabilitiesRequest_reflection_ = NULL;
+const ::google::protobuf::Descriptor* xtreemfs_renew_capabilitiesResponse_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  xtreemfs_renew_capabilitiesResponse_reflection_ = NULL;
 const ::google::protobuf::Descriptor* xtreemfs_get_xlocsetRequest_descriptor_ = NULL;
 const ::google::protobuf::internal::GeneratedMessageReflection*
   xtreemfs_get_xlocsetRequest_reflection_ = NULL;
@@ -166,6 +172,42 @@ const ::google::protobuf::internal::GeneratedMessageReflection*
 const ::google::protobuf::Descriptor* xtreemfs_update_file_sizeRequest_descriptor_ = NULL;
 const ::google::protobuf::internal::GeneratedMessageReflection*
   xtreemfs_update_file_sizeRequest_reflection_ = NULL;
+const ::google::protobuf::Descriptor* xtreemfs_update_file_sizesRequest_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  xtreemfs_update_file_sizesRequest_reflection_ = NULL;
+const ::google::protobuf::Descriptor* xtreemfs_update_file_sizesResponse_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  xtreemfs_update_file_sizesResponse_reflection_ = NULL;
+const ::google::protobuf::Descriptor* xtreemfs_create_filesRequest_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  xtreemfs_create_filesRequest_reflection_ = NULL;
+const ::google::protobuf::Descriptor* xtreemfs_create_filesResponse_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  xtreemfs_create_filesResponse_reflection_ = NULL;
+const ::google::protobuf::Descriptor* xtreemfs_getattrsRequest_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  xtreemfs_getattrsRequest_reflection_ = NULL;
+const ::google::protobuf::Descriptor* xtreemfs_getattrsResponse_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  xtreemfs_getattrsResponse_reflection_ = NULL;
+const ::google::protobuf::Descriptor* xtreemfs_get_xlocsetsRequest_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  xtreemfs_get_xlocsetsRequest_reflection_ = NULL;
+const ::google::protobuf::Descriptor* xtreemfs_get_xlocsetsResponse_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  xtreemfs_get_xlocsetsResponse_reflection_ = NULL;
+const ::google::protobuf::Descriptor* xtreemfs_rmdir_recursiveRequest_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  xtreemfs_rmdir_recursiveRequest_reflection_ = NULL;
+const ::google::protobuf::Descriptor* xtreemfs_rmdir_recursiveResponse_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  xtreemfs_rmdir_recursiveResponse_reflection_ = NULL;
+const ::google::protobuf::Descriptor* xtreemfs_setattr_recursiveRequest_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  xtreemfs_setattr_recursiveRequest_reflection_ = NULL;
+const ::google::protobuf::Descriptor* xtreemfs_setattr_recursiveResponse_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  xtreemfs_setattr_recursiveResponse_reflection_ = NULL;
 const ::google::protobuf::Descriptor* xtreemfs_set_replica_update_policyRequest_descriptor_ = NULL;
 const ::google::protobuf::internal::GeneratedMessageReflection*
   xtreemfs_set_replica_update_policyRequest_reflection_ = NULL;
@@ -239,8 +281,9 @@ void protobuf_AssignDesc_xtreemfs_2fMRC_2eproto() {
       ::google::protobuf::MessageFactory::generated_factory(),
       sizeof(DirectoryEntry));
   DirectoryEntries_descriptor_ = file->message_type(2);
-  static const int DirectoryEntries_offsets_[1] = {
+  static const int DirectoryEntries_offsets_[2] = {
     GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(DirectoryEntries, entries_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(DirectoryEntries, continuation_cursor_),
   };
   DirectoryEntries_reflection_ =
     new ::google::protobuf::internal::GeneratedMessageReflection(
@@ -520,13 +563,14 @@ void protobuf_AssignDesc_xtreemfs_2fMRC_2eproto() {
       ::google::protobuf::MessageFactory::generated_factory(),
       sizeof(openResponse));
   readdirRequest_descriptor_ = file->message_type(18);
-  static const int readdirRequest_offsets_[6] = {
+  static const int readdirRequest_offsets_[7] = {
     GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(readdirRequest, volume_name_),
     GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(readdirRequest, path_),
     GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(readdirRequest, known_etag_),
     GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(readdirRequest, limit_directory_entries_count_),
     GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(readdirRequest, names_only_),
     GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(readdirRequest, seen_directory_entries_count_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(readdirRequest, continuation_cursor_),
   };
   readdirRequest_reflection_ =
     new ::google::protobuf::internal::GeneratedMessageReflection(
@@ -933,7 +977,37 @@ void protobuf_AssignDesc_xtreemfs_2fMRC_2eproto() {
       ::google::protobuf::DescriptorPool::generated_pool(),
       ::google::protobuf::MessageFactory::generated_factory(),
       sizeof(xtreemfs_replica_listRequest));
-  xtreemfs_get_xlocsetRequest_descriptor_ = file->message_type(43);
+  xtreemfs_renew_capabilitiesRequest_descriptor_ = file->message_type(43);
+  static const int xtreemfs_renew_capabilitiesRequest_offsets_[1] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(xtreemfs_renew_capabilitiesRequest, xcaps_),
+  };
+  xtreemfs_renew_capabilitiesRequest_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      xtreemfs_renew_capabilitiesRequest_descriptor_,
+      xtreemfs_renew_capabilitiesRequest::default_instance_,
+      xtreemfs_renew_capabilitiesRequest_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(xtreemfs_renew_capabilitiesRequest, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(xtreemfs_renew_capabilitiesRequest, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(xtreemfs_renew_capabilitiesRequest));
+  xtreemfs_renew_capabilitiesResponse_descriptor_ = file->message_type(44);
+  static const int xtreemfs_renew_capabilitiesResponse_offsets_[1] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(xtreemfs_renew_capabilitiesResponse, xcaps_),
+  };
+  xtreemfs_renew_capabilitiesResponse_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      xtreemfs_renew_capabilitiesResponse_descriptor_,
+      xtreemfs_renew_capabilitiesResponse::default_instance_,
+      xtreemfs_renew_capabilitiesResponse_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(xtreemfs_renew_capabilitiesResponse, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(xtreemfs_renew_capabilitiesResponse, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(xtreemfs_renew_capabilitiesResponse));
+  xtreemfs_get_xlocsetRequest_descriptor_ = file->message_type(45);
   static const int xtreemfs_get_xlocsetRequest_offsets_[4] = {
     GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(xtreemfs_get_xlocsetRequest, file_id_),
     GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(xtreemfs_get_xlocsetRequest, path_),
@@ -951,7 +1025,7 @@ void protobuf_AssignDesc_xtreemfs_2fMRC_2eproto() {
       ::google::protobuf::DescriptorPool::generated_pool(),
       ::google::protobuf::MessageFactory::generated_factory(),
       sizeof(xtreemfs_get_xlocsetRequest));
-  xtreemfs_replica_removeRequest_descriptor_ = file->message_type(44);
+  xtreemfs_replica_removeRequest_descriptor_ = file->message_type(46);
   static const int xtreemfs_replica_removeRequest_offsets_[4] = {
     GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(xtreemfs_replica_removeRequest, file_id_),
     GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(xtreemfs_replica_removeRequest, path_),
@@ -969,7 +1043,7 @@ void protobuf_AssignDesc_xtreemfs_2fMRC_2eproto() {
       ::google::protobuf::DescriptorPool::generated_pool(),
       ::google::protobuf::MessageFactory::generated_factory(),
       sizeof(xtreemfs_replica_removeRequest));
-  xtreemfs_restore_fileRequest_descriptor_ = file->message_type(45);
+  xtreemfs_restore_fileRequest_descriptor_ = file->message_type(47);
   static const int xtreemfs_restore_fileRequest_offsets_[5] = {
     GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(xtreemfs_restore_fileRequest, file_path_),
     GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(xtreemfs_restore_fileRequest, file_id_),
@@ -988,7 +1062,7 @@ void protobuf_AssignDesc_xtreemfs_2fMRC_2eproto() {
       ::google::protobuf::DescriptorPool::generated_pool(),
       ::google::protobuf::MessageFactory::generated_factory(),
       sizeof(xtreemfs_restore_fileRequest));
-  xtreemfs_rmvolRequest_descriptor_ = file->message_type(46);
+  xtreemfs_rmvolRequest_descriptor_ = file->message_type(48);
   static const int xtreemfs_rmvolRequest_offsets_[1] = {
     GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(xtreemfs_rmvolRequest, volume_name_),
   };
@@ -1003,7 +1077,7 @@ void protobuf_AssignDesc_xtreemfs_2fMRC_2eproto() {
       ::google::protobuf::DescriptorPool::generated_pool(),
       ::google::protobuf::MessageFactory::generated_factory(),
       sizeof(xtreemfs_rmvolRequest));
-  xtreemfs_update_file_sizeRequest_descriptor_ = file->message_type(47);
+  xtreemfs_update_file_sizeRequest_descriptor_ = file->message_type(49);
   static const int xtreemfs_update_file_sizeRequest_offsets_[4] = {
     GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(xtreemfs_update_file_sizeRequest, xcap_),
     GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(xtreemfs_update_file_sizeRequest, osd_write_response_),
@@ -1021,7 +1095,207 @@ void protobuf_AssignDesc_xtreemfs_2fMRC_2eproto() {
       ::google::protobuf::DescriptorPool::generated_pool(),
       ::google::protobuf::MessageFactory::generated_factory(),
       sizeof(xtreemfs_update_file_sizeRequest));
-  xtreemfs_set_replica_update_policyRequest_descriptor_ = file->message_type(48);
+  xtreemfs_update_file_sizesRequest_descriptor_ = file->message_type(50);
+  static const int xtreemfs_update_file_sizesRequest_offsets_[1] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(xtreemfs_update_file_sizesRequest, updates_),
+  };
+  xtreemfs_update_file_sizesRequest_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      xtreemfs_update_file_sizesRequest_descriptor_,
+      xtreemfs_update_file_sizesRequest::default_instance_,
+      xtreemfs_update_file_sizesRequest_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(xtreemfs_update_file_sizesRequest, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(xtreemfs_update_file_sizesRequest, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(xtreemfs_update_file_sizesRequest));
+  xtreemfs_update_file_sizesResponse_descriptor_ = file->message_type(51);
+  static const int xtreemfs_update_file_sizesResponse_offsets_[1] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(xtreemfs_update_file_sizesResponse, success_),
+  };
+  xtreemfs_update_file_sizesResponse_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      xtreemfs_update_file_sizesResponse_descriptor_,
+      xtreemfs_update_file_sizesResponse::default_instance_,
+      xtreemfs_update_file_sizesResponse_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(xtreemfs_update_file_sizesResponse, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(xtreemfs_update_file_sizesResponse, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(xtreemfs_update_file_sizesResponse));
+  xtreemfs_create_filesRequest_descriptor_ = file->message_type(52);
+  static const int xtreemfs_create_filesRequest_offsets_[7] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(xtreemfs_create_filesRequest, volume_name_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(xtreemfs_create_filesRequest, dir_path_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(xtreemfs_create_filesRequest, names_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(xtreemfs_create_filesRequest, flags_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(xtreemfs_create_filesRequest, mode_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(xtreemfs_create_filesRequest, attributes_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(xtreemfs_create_filesRequest, coordinates_),
+  };
+  xtreemfs_create_filesRequest_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      xtreemfs_create_filesRequest_descriptor_,
+      xtreemfs_create_filesRequest::default_instance_,
+      xtreemfs_create_filesRequest_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(xtreemfs_create_filesRequest, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(xtreemfs_create_filesRequest, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(xtreemfs_create_filesRequest));
+  xtreemfs_create_filesResponse_descriptor_ = file->message_type(53);
+  static const int xtreemfs_create_filesResponse_offsets_[1] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(xtreemfs_create_filesResponse, files_),
+  };
+  xtreemfs_create_filesResponse_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      xtreemfs_create_filesResponse_descriptor_,
+      xtreemfs_create_filesResponse::default_instance_,
+      xtreemfs_create_filesResponse_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(xtreemfs_create_filesResponse, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(xtreemfs_create_filesResponse, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(xtreemfs_create_filesResponse));
+  xtreemfs_getattrsRequest_descriptor_ = file->message_type(54);
+  static const int xtreemfs_getattrsRequest_offsets_[2] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(xtreemfs_getattrsRequest, volume_name_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(xtreemfs_getattrsRequest, paths_),
+  };
+  xtreemfs_getattrsRequest_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      xtreemfs_getattrsRequest_descriptor_,
+      xtreemfs_getattrsRequest::default_instance_,
+      xtreemfs_getattrsRequest_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(xtreemfs_getattrsRequest, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(xtreemfs_getattrsRequest, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(xtreemfs_getattrsRequest));
+  xtreemfs_getattrsResponse_descriptor_ = file->message_type(55);
+  static const int xtreemfs_getattrsResponse_offsets_[1] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(xtreemfs_getattrsResponse, stats_),
+  };
+  xtreemfs_getattrsResponse_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      xtreemfs_getattrsResponse_descriptor_,
+      xtreemfs_getattrsResponse::default_instance_,
+      xtreemfs_getattrsResponse_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(xtreemfs_getattrsResponse, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(xtreemfs_getattrsResponse, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(xtreemfs_getattrsResponse));
+  xtreemfs_get_xlocsetsRequest_descriptor_ = file->message_type(56);
+  static const int xtreemfs_get_xlocsetsRequest_offsets_[3] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(xtreemfs_get_xlocsetsRequest, volume_name_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(xtreemfs_get_xlocsetsRequest, paths_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(xtreemfs_get_xlocsetsRequest, coordinates_),
+  };
+  xtreemfs_get_xlocsetsRequest_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      xtreemfs_get_xlocsetsRequest_descriptor_,
+      xtreemfs_get_xlocsetsRequest::default_instance_,
+      xtreemfs_get_xlocsetsRequest_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(xtreemfs_get_xlocsetsRequest, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(xtreemfs_get_xlocsetsRequest, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(xtreemfs_get_xlocsetsRequest));
+  xtreemfs_get_xlocsetsResponse_descriptor_ = file->message_type(57);
+  static const int xtreemfs_get_xlocsetsResponse_offsets_[1] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(xtreemfs_get_xlocsetsResponse, xlocsets_),
+  };
+  xtreemfs_get_xlocsetsResponse_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      xtreemfs_get_xlocsetsResponse_descriptor_,
+      xtreemfs_get_xlocsetsResponse::default_instance_,
+      xtreemfs_get_xlocsetsResponse_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(xtreemfs_get_xlocsetsResponse, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(xtreemfs_get_xlocsetsResponse, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(xtreemfs_get_xlocsetsResponse));
+  xtreemfs_rmdir_recursiveRequest_descriptor_ = file->message_type(58);
+  static const int xtreemfs_rmdir_recursiveRequest_offsets_[3] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(xtreemfs_rmdir_recursiveRequest, volume_name_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(xtreemfs_rmdir_recursiveRequest, path_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(xtreemfs_rmdir_recursiveRequest, max_entries_),
+  };
+  xtreemfs_rmdir_recursiveRequest_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      xtreemfs_rmdir_recursiveRequest_descriptor_,
+      xtreemfs_rmdir_recursiveRequest::default_instance_,
+      xtreemfs_rmdir_recursiveRequest_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(xtreemfs_rmdir_recursiveRequest, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(xtreemfs_rmdir_recursiveRequest, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(xtreemfs_rmdir_recursiveRequest));
+  xtreemfs_rmdir_recursiveResponse_descriptor_ = file->message_type(59);
+  static const int xtreemfs_rmdir_recursiveResponse_offsets_[3] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(xtreemfs_rmdir_recursiveResponse, timestamp_s_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(xtreemfs_rmdir_recursiveResponse, num_deleted_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(xtreemfs_rmdir_recursiveResponse, complete_),
+  };
+  xtreemfs_rmdir_recursiveResponse_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      xtreemfs_rmdir_recursiveResponse_descriptor_,
+      xtreemfs_rmdir_recursiveResponse::default_instance_,
+      xtreemfs_rmdir_recursiveResponse_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(xtreemfs_rmdir_recursiveResponse, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(xtreemfs_rmdir_recursiveResponse, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(xtreemfs_rmdir_recursiveResponse));
+  xtreemfs_setattr_recursiveRequest_descriptor_ = file->message_type(60);
+  static const int xtreemfs_setattr_recursiveRequest_offsets_[6] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(xtreemfs_setattr_recursiveRequest, volume_name_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(xtreemfs_setattr_recursiveRequest, path_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(xtreemfs_setattr_recursiveRequest, stbuf_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(xtreemfs_setattr_recursiveRequest, to_set_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(xtreemfs_setattr_recursiveRequest, max_entries_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(xtreemfs_setattr_recursiveRequest, cursor_),
+  };
+  xtreemfs_setattr_recursiveRequest_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      xtreemfs_setattr_recursiveRequest_descriptor_,
+      xtreemfs_setattr_recursiveRequest::default_instance_,
+      xtreemfs_setattr_recursiveRequest_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(xtreemfs_setattr_recursiveRequest, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(xtreemfs_setattr_recursiveRequest, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(xtreemfs_setattr_recursiveRequest));
+  xtreemfs_setattr_recursiveResponse_descriptor_ = file->message_type(61);
+  static const int xtreemfs_setattr_recursiveResponse_offsets_[3] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(xtreemfs_setattr_recursiveResponse, timestamp_s_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(xtreemfs_setattr_recursiveResponse, num_updated_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(xtreemfs_setattr_recursiveResponse, cursor_),
+  };
+  xtreemfs_setattr_recursiveResponse_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      xtreemfs_setattr_recursiveResponse_descriptor_,
+      xtreemfs_setattr_recursiveResponse::default_instance_,
+      xtreemfs_setattr_recursiveResponse_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(xtreemfs_setattr_recursiveResponse, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(xtreemfs_setattr_recursiveResponse, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(xtreemfs_setattr_recursiveResponse));
+  xtreemfs_set_replica_update_policyRequest_descriptor_ = file->message_type(62);
   static const int xtreemfs_set_replica_update_policyRequest_offsets_[2] = {
     GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(xtreemfs_set_replica_update_policyRequest, file_id_),
     GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(xtreemfs_set_replica_update_policyRequest, update_policy_),
@@ -1037,7 +1311,7 @@ void protobuf_AssignDesc_xtreemfs_2fMRC_2eproto() {
       ::google::protobuf::DescriptorPool::generated_pool(),
       ::google::protobuf::MessageFactory::generated_factory(),
       sizeof(xtreemfs_set_replica_update_policyRequest));
-  xtreemfs_set_replica_update_policyResponse_descriptor_ = file->message_type(49);
+  xtreemfs_set_replica_update_policyResponse_descriptor_ = file->message_type(63);
   static const int xtreemfs_set_replica_update_policyResponse_offsets_[1] = {
     GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(xtreemfs_set_replica_update_policyResponse, old_update_policy_),
   };
@@ -1052,7 +1326,7 @@ void protobuf_AssignDesc_xtreemfs_2fMRC_2eproto() {
       ::google::protobuf::DescriptorPool::generated_pool(),
       ::google::protobuf::MessageFactory::generated_factory(),
       sizeof(xtreemfs_set_replica_update_policyResponse));
-  xtreemfs_set_read_only_xattrRequest_descriptor_ = file->message_type(50);
+  xtreemfs_set_read_only_xattrRequest_descriptor_ = file->message_type(64);
   static const int xtreemfs_set_read_only_xattrRequest_offsets_[2] = {
     GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(xtreemfs_set_read_only_xattrRequest, file_id_),
     GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(xtreemfs_set_read_only_xattrRequest, value_),
@@ -1068,7 +1342,7 @@ void protobuf_AssignDesc_xtreemfs_2fMRC_2eproto() {
       ::google::protobuf::DescriptorPool::generated_pool(),
       ::google::protobuf::MessageFactory::generated_factory(),
       sizeof(xtreemfs_set_read_only_xattrRequest));
-  xtreemfs_set_read_only_xattrResponse_descriptor_ = file->message_type(51);
+  xtreemfs_set_read_only_xattrResponse_descriptor_ = file->message_type(65);
   static const int xtreemfs_set_read_only_xattrResponse_offsets_[1] = {
     GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(xtreemfs_set_read_only_xattrResponse, was_set_),
   };
@@ -1083,7 +1357,7 @@ void protobuf_AssignDesc_xtreemfs_2fMRC_2eproto() {
       ::google::protobuf::DescriptorPool::generated_pool(),
       ::google::protobuf::MessageFactory::generated_factory(),
       sizeof(xtreemfs_set_read_only_xattrResponse));
-  xtreemfs_get_file_credentialsRequest_descriptor_ = file->message_type(52);
+  xtreemfs_get_file_credentialsRequest_descriptor_ = file->message_type(66);
   static const int xtreemfs_get_file_credentialsRequest_offsets_[1] = {
     GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(xtreemfs_get_file_credentialsRequest, file_id_),
   };
@@ -1199,6 +1473,10 @@ void protobuf_RegisterTypes(const ::std::string&) {
     xtreemfs_replica_addRequest_descriptor_, &xtreemfs_replica_addRequest::default_instance());
   ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
     xtreemfs_replica_listRequest_descriptor_, &xtreemfs_replica_listRequest::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    xtreemfs_renew_capabilitiesRequest_descriptor_, &xtreemfs_renew_capabilitiesRequest::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    xtreemfs_renew_capabilitiesResponse_descriptor_, &xtreemfs_renew_capabilitiesResponse::default_instance());
   ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
     xtreemfs_get_xlocsetRequest_descriptor_, &xtreemfs_get_xlocsetRequest::default_instance());
   ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
@@ -1209,6 +1487,30 @@ void protobuf_RegisterTypes(const ::std::string&) {
     xtreemfs_rmvolRequest_descriptor_, &xtreemfs_rmvolRequest::default_instance());
   ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
     xtreemfs_update_file_sizeRequest_descriptor_, &xtreemfs_update_file_sizeRequest::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    xtreemfs_update_file_sizesRequest_descriptor_, &xtreemfs_update_file_sizesRequest::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    xtreemfs_update_file_sizesResponse_descriptor_, &xtreemfs_update_file_sizesResponse::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    xtreemfs_create_filesRequest_descriptor_, &xtreemfs_create_filesRequest::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    xtreemfs_create_filesResponse_descriptor_, &xtreemfs_create_filesResponse::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    xtreemfs_getattrsRequest_descriptor_, &xtreemfs_getattrsRequest::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    xtreemfs_getattrsResponse_descriptor_, &xtreemfs_getattrsResponse::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    xtreemfs_get_xlocsetsRequest_descriptor_, &xtreemfs_get_xlocsetsRequest::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    xtreemfs_get_xlocsetsResponse_descriptor_, &xtreemfs_get_xlocsetsResponse::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    xtreemfs_rmdir_recursiveRequest_descriptor_, &xtreemfs_rmdir_recursiveRequest::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    xtreemfs_rmdir_recursiveResponse_descriptor_, &xtreemfs_rmdir_recursiveResponse::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    xtreemfs_setattr_recursiveRequest_descriptor_, &xtreemfs_setattr_recursiveRequest::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    xtreemfs_setattr_recursiveResponse_descriptor_, &xtreemfs_setattr_recursiveResponse::default_instance());
   ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
     xtreemfs_set_replica_update_policyRequest_descriptor_, &xtreemfs_set_replica_update_policyRequest::default_instance());
   ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
@@ -1310,6 +1612,10 @@ void protobuf_ShutdownFile_xtreemfs_2fMRC_2eproto() {
   delete xtreemfs_replica_addRequest_reflection_;
   delete xtreemfs_replica_listRequest::default_instance_;
   delete xtreemfs_replica_listRequest_reflection_;
+  delete xtreemfs_renew_capabilitiesRequest::default_instance_;
+  delete xtreemfs_renew_capabilitiesRequest_reflection_;
+  delete xtreemfs_renew_capabilitiesResponse::default_instance_;
+  delete xtreemfs_renew_capabilitiesResponse_reflection_;
   delete xtreemfs_get_xlocsetRequest::default_instance_;
   delete xtreemfs_get_xlocsetRequest_reflection_;
   delete xtreemfs_replica_removeRequest::default_instance_;
@@ -1320,6 +1626,30 @@ void protobuf_ShutdownFile_xtreemfs_2fMRC_2eproto() {
   delete xtreemfs_rmvolRequest_reflection_;
   delete xtreemfs_update_file_sizeRequest::default_instance_;
   delete xtreemfs_update_file_sizeRequest_reflection_;
+  delete xtreemfs_update_file_sizesRequest::default_instance_;
+  delete xtreemfs_update_file_sizesRequest_reflection_;
+  delete xtreemfs_update_file_sizesResponse::default_instance_;
+  delete xtreemfs_update_file_sizesResponse_reflection_;
+  delete xtreemfs_create_filesRequest::default_instance_;
+  delete xtreemfs_create_filesRequest_reflection_;
+  delete xtreemfs_create_filesResponse::default_instance_;
+  delete xtreemfs_create_filesResponse_reflection_;
+  delete xtreemfs_getattrsRequest::default_instance_;
+  delete xtreemfs_getattrsRequest_reflection_;
+  delete xtreemfs_getattrsResponse::default_instance_;
+  delete xtreemfs_getattrsResponse_reflection_;
+  delete xtreemfs_get_xlocsetsRequest::default_instance_;
+  delete xtreemfs_get_xlocsetsRequest_reflection_;
+  delete xtreemfs_get_xlocsetsResponse::default_instance_;
+  delete xtreemfs_get_xlocsetsResponse_reflection_;
+  delete xtreemfs_rmdir_recursiveRequest::default_instance_;
+  delete xtreemfs_rmdir_recursiveRequest_reflection_;
+  delete xtreemfs_rmdir_recursiveResponse::default_instance_;
+  delete xtreemfs_rmdir_recursiveResponse_reflection_;
+  delete xtreemfs_setattr_recursiveRequest::default_instance_;
+  delete xtreemfs_setattr_recursiveRequest_reflection_;
+  delete xtreemfs_setattr_recursiveResponse::default_instance_;
+  delete xtreemfs_setattr_recursiveResponse_reflection_;
   delete xtreemfs_set_replica_update_policyRequest::default_instance_;
   delete xtreemfs_set_replica_update_policyRequest_reflection_;
   delete xtreemfs_set_replica_update_policyResponse::default_instance_;
@@ -1352,236 +1682,295 @@ void protobuf_AddDesc_xtreemfs_2fMRC_2eproto() {
     "ksize\030\013 \002(\007\022\014\n\004etag\030\014 \001(\006\022\026\n\016truncate_ep"
     "och\030\r \002(\007\022\022\n\nattributes\030\016 \001(\007\"C\n\016Directo"
     "ryEntry\022\014\n\004name\030\001 \002(\t\022#\n\005stbuf\030\002 \001(\0132\024.x"
-    "treemfs.pbrpc.Stat\"C\n\020DirectoryEntries\022/"
+    "treemfs.pbrpc.Stat\"`\n\020DirectoryEntries\022/"
     "\n\007entries\030\001 \003(\0132\036.xtreemfs.pbrpc.Directo"
-    "ryEntry\"@\n\005XAttr\022\014\n\004name\030\001 \002(\t\022\r\n\005value\030"
-    "\002 \001(\t\022\032\n\022value_bytes_string\030\003 \001(\014\"\244\002\n\006Vo"
-    "lume\022F\n\025access_control_policy\030\001 \002(\0162\'.xt"
-    "reemfs.pbrpc.AccessControlPolicyType\022\?\n\027"
-    "default_striping_policy\030\002 \002(\0132\036.xtreemfs"
-    ".pbrpc.StripingPolicy\022\n\n\002id\030\003 \002(\t\022\014\n\004mod"
-    "e\030\004 \002(\007\022\014\n\004name\030\005 \002(\t\022\026\n\016owner_group_id\030"
-    "\006 \002(\t\022\025\n\rowner_user_id\030\007 \002(\t\022+\n\005attrs\030\010 "
-    "\003(\0132\034.xtreemfs.pbrpc.KeyValuePair\022\r\n\005quo"
-    "ta\030\t \001(\006\"2\n\007Volumes\022\'\n\007volumes\030\001 \003(\0132\026.x"
-    "treemfs.pbrpc.Volume\"\310\002\n\007StatVFS\022\r\n\005bsiz"
-    "e\030\001 \002(\007\022\016\n\006bavail\030\002 \002(\006\022\r\n\005bfree\030\r \001(\006\022\016"
-    "\n\006blocks\030\003 \002(\006\022\014\n\004fsid\030\004 \002(\t\022\017\n\007namemax\030"
-    "\005 \002(\007\022F\n\025access_control_policy\030\006 \002(\0162\'.x"
-    "treemfs.pbrpc.AccessControlPolicyType\022\?\n"
-    "\027default_striping_policy\030\007 \002(\0132\036.xtreemf"
-    "s.pbrpc.StripingPolicy\022\014\n\004etag\030\010 \002(\006\022\014\n\004"
-    "mode\030\t \002(\007\022\014\n\004name\030\n \002(\t\022\026\n\016owner_group_"
-    "id\030\013 \002(\t\022\025\n\rowner_user_id\030\014 \002(\t\"i\n\017fseta"
-    "ttrRequest\022#\n\005stbuf\030\001 \002(\0132\024.xtreemfs.pbr"
-    "pc.Stat\022\016\n\006to_set\030\002 \002(\007\022!\n\003cap\030\003 \002(\0132\024.x"
-    "treemfs.pbrpc.XCap\"G\n\016getattrRequest\022\023\n\013"
-    "volume_name\030\001 \002(\t\022\014\n\004path\030\002 \002(\t\022\022\n\nknown"
-    "_etag\030\003 \002(\006\"6\n\017getattrResponse\022#\n\005stbuf\030"
-    "\001 \001(\0132\024.xtreemfs.pbrpc.Stat\"B\n\017getxattrR"
-    "equest\022\023\n\013volume_name\030\001 \002(\t\022\014\n\004path\030\002 \002("
-    "\t\022\014\n\004name\030\003 \002(\t\"=\n\020getxattrResponse\022\r\n\005v"
-    "alue\030\001 \002(\t\022\032\n\022value_bytes_string\030\002 \001(\014\"J"
-    "\n\013linkRequest\022\023\n\013volume_name\030\001 \002(\t\022\023\n\013ta"
-    "rget_path\030\002 \002(\t\022\021\n\tlink_path\030\003 \002(\t\"I\n\020li"
-    "stxattrRequest\022\023\n\013volume_name\030\001 \002(\t\022\014\n\004p"
-    "ath\030\002 \002(\t\022\022\n\nnames_only\030\003 \002(\010\":\n\021listxat"
-    "trResponse\022%\n\006xattrs\030\001 \003(\0132\025.xtreemfs.pb"
-    "rpc.XAttr\"\?\n\014mkdirRequest\022\023\n\013volume_name"
-    "\030\001 \002(\t\022\014\n\004path\030\002 \002(\t\022\014\n\004mode\030\003 \002(\007\"\232\001\n\013o"
-    "penRequest\022\023\n\013volume_name\030\001 \002(\t\022\014\n\004path\030"
-    "\002 \002(\t\022\r\n\005flags\030\003 \002(\007\022\014\n\004mode\030\004 \002(\007\022\022\n\nat"
-    "tributes\030\005 \002(\007\0227\n\013coordinates\030\006 \001(\0132\".xt"
-    "reemfs.pbrpc.VivaldiCoordinates\"S\n\014openR"
-    "esponse\022.\n\005creds\030\001 \002(\0132\037.xtreemfs.pbrpc."
-    "FileCredentials\022\023\n\013timestamp_s\030\002 \002(\007\"\250\001\n"
-    "\016readdirRequest\022\023\n\013volume_name\030\001 \002(\t\022\014\n\004"
-    "path\030\002 \002(\t\022\022\n\nknown_etag\030\003 \002(\006\022%\n\035limit_"
-    "directory_entries_count\030\004 \002(\007\022\022\n\nnames_o"
-    "nly\030\005 \002(\010\022$\n\034seen_directory_entries_coun"
-    "t\030\006 \002(\006\"4\n\017readlinkRequest\022\023\n\013volume_nam"
-    "e\030\001 \002(\t\022\014\n\004path\030\002 \002(\t\",\n\020readlinkRespons"
-    "e\022\030\n\020link_target_path\030\001 \003(\t\"E\n\022removexat"
-    "trRequest\022\023\n\013volume_name\030\001 \002(\t\022\014\n\004path\030\002"
-    " \002(\t\022\014\n\004name\030\003 \002(\t\"N\n\rrenameRequest\022\023\n\013v"
-    "olume_name\030\001 \002(\t\022\023\n\013source_path\030\002 \002(\t\022\023\n"
-    "\013target_path\030\003 \002(\t\"U\n\016renameResponse\022\023\n\013"
-    "timestamp_s\030\001 \002(\007\022.\n\005creds\030\002 \001(\0132\037.xtree"
-    "mfs.pbrpc.FileCredentials\"1\n\014rmdirReques"
-    "t\022\023\n\013volume_name\030\001 \002(\t\022\014\n\004path\030\002 \002(\t\"h\n\016"
-    "setattrRequest\022\023\n\013volume_name\030\001 \002(\t\022\014\n\004p"
-    "ath\030\002 \002(\t\022#\n\005stbuf\030\003 \002(\0132\024.xtreemfs.pbrp"
-    "c.Stat\022\016\n\006to_set\030\004 \002(\007\"|\n\017setxattrReques"
-    "t\022\023\n\013volume_name\030\001 \002(\t\022\014\n\004path\030\002 \002(\t\022\014\n\004"
-    "name\030\003 \002(\t\022\r\n\005value\030\004 \002(\t\022\032\n\022value_bytes"
-    "_string\030\006 \001(\014\022\r\n\005flags\030\005 \002(\007\"9\n\016statvfsR"
-    "equest\022\023\n\013volume_name\030\001 \002(\t\022\022\n\nknown_eta"
-    "g\030\005 \002(\006\"M\n\016symlinkRequest\022\023\n\013volume_name"
-    "\030\001 \002(\t\022\023\n\013target_path\030\002 \002(\t\022\021\n\tlink_path"
-    "\030\003 \002(\t\"2\n\runlinkRequest\022\023\n\013volume_name\030\001"
-    " \002(\t\022\014\n\004path\030\002 \002(\t\"U\n\016unlinkResponse\022\023\n\013"
-    "timestamp_s\030\001 \002(\007\022.\n\005creds\030\002 \001(\0132\037.xtree"
-    "mfs.pbrpc.FileCredentials\"A\n\raccessReque"
-    "st\022\023\n\013volume_name\030\001 \002(\t\022\014\n\004path\030\002 \002(\t\022\r\n"
-    "\005flags\030\003 \002(\007\"Z\n!xtreemfs_check_file_exis"
-    "tsRequest\022\021\n\tvolume_id\030\001 \002(\t\022\020\n\010file_ids"
-    "\030\002 \003(\t\022\020\n\010osd_uuid\030\003 \002(\t\"\315\001\n\"xtreemfs_ch"
-    "eck_file_existsResponse\022\025\n\rvolume_exists"
-    "\030\001 \002(\010\022V\n\013file_states\030\002 \003(\0162=.xtreemfs.p"
-    "brpc.xtreemfs_check_file_existsResponse."
-    "FILE_STATEB\002\020\001\"8\n\nFILE_STATE\022\013\n\007DELETED\020"
-    "\000\022\016\n\nREGISTERED\020\001\022\r\n\tABANDONED\020\002\":\n%xtre"
-    "emfs_dump_restore_databaseRequest\022\021\n\tdum"
-    "p_file\030\001 \002(\t\"i\n!xtreemfs_get_suitable_os"
-    "dsRequest\022\017\n\007file_id\030\001 \001(\t\022\014\n\004path\030\003 \001(\t"
-    "\022\023\n\013volume_name\030\004 \001(\t\022\020\n\010num_osds\030\002 \002(\007\""
-    "7\n\"xtreemfs_get_suitable_osdsResponse\022\021\n"
-    "\tosd_uuids\030\001 \003(\t\"(\n\021timestampResponse\022\023\n"
-    "\013timestamp_s\030\001 \002(\007\"!\n\rstringMessage\022\020\n\010a"
-    "_string\030\001 \002(\t\"\'\n\027xtreemfs_listdirRequest"
-    "\022\014\n\004path\030\001 \002(\t\")\n\030xtreemfs_listdirRespon"
-    "se\022\r\n\005names\030\001 \003(\t\"\177\n\033xtreemfs_replica_ad"
-    "dRequest\022\017\n\007file_id\030\001 \001(\t\022\014\n\004path\030\003 \001(\t\022"
-    "\023\n\013volume_name\030\004 \001(\t\022,\n\013new_replica\030\002 \002("
-    "\0132\027.xtreemfs.pbrpc.Replica\"R\n\034xtreemfs_r"
-    "eplica_listRequest\022\017\n\007file_id\030\001 \001(\t\022\014\n\004p"
-    "ath\030\002 \001(\t\022\023\n\013volume_name\030\003 \001(\t\"u\n\033xtreem"
-    "fs_get_xlocsetRequest\022\017\n\007file_id\030\001 \001(\t\022\014"
-    "\n\004path\030\002 \001(\t\022\023\n\013volume_name\030\003 \001(\t\022\"\n\004xca"
-    "p\030\004 \001(\0132\024.xtreemfs.pbrpc.XCap\"f\n\036xtreemf"
-    "s_replica_removeRequest\022\017\n\007file_id\030\001 \001(\t"
-    "\022\014\n\004path\030\003 \001(\t\022\023\n\013volume_name\030\004 \001(\t\022\020\n\010o"
-    "sd_uuid\030\002 \002(\t\"|\n\034xtreemfs_restore_fileRe"
-    "quest\022\021\n\tfile_path\030\001 \002(\t\022\017\n\007file_id\030\002 \002("
-    "\t\022\021\n\tfile_size\030\003 \002(\006\022\020\n\010osd_uuid\030\004 \002(\t\022\023"
-    "\n\013stripe_size\030\005 \002(\007\",\n\025xtreemfs_rmvolReq"
-    "uest\022\023\n\013volume_name\030\001 \002(\t\"\321\001\n xtreemfs_u"
-    "pdate_file_sizeRequest\022\"\n\004xcap\030\001 \002(\0132\024.x"
-    "treemfs.pbrpc.XCap\022<\n\022osd_write_response"
-    "\030\002 \002(\0132 .xtreemfs.pbrpc.OSDWriteResponse"
-    "\022\022\n\nclose_file\030\003 \001(\010\0227\n\013coordinates\030\004 \001("
-    "\0132\".xtreemfs.pbrpc.VivaldiCoordinates\"S\n"
-    ")xtreemfs_set_replica_update_policyReque"
-    "st\022\017\n\007file_id\030\001 \002(\t\022\025\n\rupdate_policy\030\002 \002"
-    "(\t\"G\n*xtreemfs_set_replica_update_policy"
-    "Response\022\031\n\021old_update_policy\030\001 \002(\t\"E\n#x"
-    "treemfs_set_read_only_xattrRequest\022\017\n\007fi"
-    "le_id\030\001 \002(\t\022\r\n\005value\030\002 \002(\010\"7\n$xtreemfs_s"
-    "et_read_only_xattrResponse\022\017\n\007was_set\030\001 "
-    "\002(\010\"7\n$xtreemfs_get_file_credentialsRequ"
-    "est\022\017\n\007file_id\030\001 \002(\t*\242\001\n\010Setattrs\022\020\n\014SET"
-    "ATTR_MODE\020\001\022\017\n\013SETATTR_UID\020\002\022\017\n\013SETATTR_"
-    "GID\020\004\022\020\n\014SETATTR_SIZE\020\010\022\021\n\rSETATTR_ATIME"
-    "\020\020\022\021\n\rSETATTR_MTIME\020 \022\021\n\rSETATTR_CTIME\020@"
-    "\022\027\n\022SETATTR_ATTRIBUTES\020\200\001*>\n\013XATTR_FLAGS"
-    "\022\026\n\022XATTR_FLAGS_CREATE\020\001\022\027\n\023XATTR_FLAGS_"
-    "REPLACE\020\002*j\n\014ACCESS_FLAGS\022\025\n\021ACCESS_FLAG"
-    "S_F_OK\020\000\022\025\n\021ACCESS_FLAGS_X_OK\020\001\022\025\n\021ACCES"
-    "S_FLAGS_W_OK\020\002\022\025\n\021ACCESS_FLAGS_R_OK\020\0042\203 "
-    "\n\nMRCService\022S\n\010fsetattr\022\037.xtreemfs.pbrp"
-    "c.fsetattrRequest\032\035.xtreemfs.pbrpc.empty"
-    "Response\"\007\215\265\030\002\000\000\000\022@\n\tftruncate\022\024.xtreemf"
-    "s.pbrpc.XCap\032\024.xtreemfs.pbrpc.XCap\"\007\215\265\030\003"
-    "\000\000\000\022S\n\007getattr\022\036.xtreemfs.pbrpc.getattrR"
-    "equest\032\037.xtreemfs.pbrpc.getattrResponse\""
-    "\007\215\265\030\004\000\000\000\022V\n\010getxattr\022\037.xtreemfs.pbrpc.ge"
-    "txattrRequest\032 .xtreemfs.pbrpc.getxattrR"
-    "esponse\"\007\215\265\030\005\000\000\000\022O\n\004link\022\033.xtreemfs.pbrp"
-    "c.linkRequest\032!.xtreemfs.pbrpc.timestamp"
-    "Response\"\007\215\265\030\006\000\000\000\022Y\n\tlistxattr\022 .xtreemf"
-    "s.pbrpc.listxattrRequest\032!.xtreemfs.pbrp"
-    "c.listxattrResponse\"\007\215\265\030\007\000\000\000\022Q\n\005mkdir\022\034."
-    "xtreemfs.pbrpc.mkdirRequest\032!.xtreemfs.p"
-    "brpc.timestampResponse\"\007\215\265\030\010\000\000\000\022J\n\004open\022"
-    "\033.xtreemfs.pbrpc.openRequest\032\034.xtreemfs."
-    "pbrpc.openResponse\"\007\215\265\030\t\000\000\000\022T\n\007readdir\022\036"
-    ".xtreemfs.pbrpc.readdirRequest\032 .xtreemf"
-    "s.pbrpc.DirectoryEntries\"\007\215\265\030\n\000\000\000\022V\n\010rea"
-    "dlink\022\037.xtreemfs.pbrpc.readlinkRequest\032 "
-    ".xtreemfs.pbrpc.readlinkResponse\"\007\215\265\030\013\000\000"
-    "\000\022]\n\013removexattr\022\".xtreemfs.pbrpc.remove"
-    "xattrRequest\032!.xtreemfs.pbrpc.timestampR"
-    "esponse\"\007\215\265\030\014\000\000\000\022P\n\006rename\022\035.xtreemfs.pb"
-    "rpc.renameRequest\032\036.xtreemfs.pbrpc.renam"
-    "eResponse\"\007\215\265\030\r\000\000\000\022Q\n\005rmdir\022\034.xtreemfs.p"
-    "brpc.rmdirRequest\032!.xtreemfs.pbrpc.times"
-    "tampResponse\"\007\215\265\030\016\000\000\000\022U\n\007setattr\022\036.xtree"
-    "mfs.pbrpc.setattrRequest\032!.xtreemfs.pbrp"
-    "c.timestampResponse\"\007\215\265\030\017\000\000\000\022W\n\010setxattr"
-    "\022\037.xtreemfs.pbrpc.setxattrRequest\032!.xtre"
-    "emfs.pbrpc.timestampResponse\"\007\215\265\030\020\000\000\000\022K\n"
-    "\007statvfs\022\036.xtreemfs.pbrpc.statvfsRequest"
-    "\032\027.xtreemfs.pbrpc.StatVFS\"\007\215\265\030\021\000\000\000\022U\n\007sy"
-    "mlink\022\036.xtreemfs.pbrpc.symlinkRequest\032!."
-    "xtreemfs.pbrpc.timestampResponse\"\007\215\265\030\022\000\000"
-    "\000\022P\n\006unlink\022\035.xtreemfs.pbrpc.unlinkReque"
-    "st\032\036.xtreemfs.pbrpc.unlinkResponse\"\007\215\265\030\023"
-    "\000\000\000\022O\n\006access\022\035.xtreemfs.pbrpc.accessReq"
+    "ryEntry\022\033\n\023continuation_cursor\030\002 \001(\t\"@\n\005"
+    "XAttr\022\014\n\004name\030\001 \002(\t\022\r\n\005value\030\002 \001(\t\022\032\n\022va"
+    "lue_bytes_string\030\003 \001(\014\"\244\002\n\006Volume\022F\n\025acc"
+    "ess_control_policy\030\001 \002(\0162\'.xtreemfs.pbrp"
+    "c.AccessControlPolicyType\022\?\n\027default_str"
+    "iping_policy\030\002 \002(\0132\036.xtreemfs.pbrpc.Stri"
+    "pingPolicy\022\n\n\002id\030\003 \002(\t\022\014\n\004mode\030\004 \002(\007\022\014\n\004"
+    "name\030\005 \002(\t\022\026\n\016owner_group_id\030\006 \002(\t\022\025\n\row"
+    "ner_user_id\030\007 \002(\t\022+\n\005attrs\030\010 \003(\0132\034.xtree"
+    "mfs.pbrpc.KeyValuePair\022\r\n\005quota\030\t \001(\006\"2\n"
+    "\007Volumes\022\'\n\007volumes\030\001 \003(\0132\026.xtreemfs.pbr"
+    "pc.Volume\"\310\002\n\007StatVFS\022\r\n\005bsize\030\001 \002(\007\022\016\n\006"
+    "bavail\030\002 \002(\006\022\r\n\005bfree\030\r \001(\006\022\016\n\006blocks\030\003 "
+    "\002(\006\022\014\n\004fsid\030\004 \002(\t\022\017\n\007namemax\030\005 \002(\007\022F\n\025ac"
+    "cess_control_policy\030\006 \002(\0162\'.xtreemfs.pbr"
+    "pc.AccessControlPolicyType\022\?\n\027default_st"
+    "riping_policy\030\007 \002(\0132\036.xtreemfs.pbrpc.Str"
+    "ipingPolicy\022\014\n\004etag\030\010 \002(\006\022\014\n\004mode\030\t \002(\007\022"
+    "\014\n\004name\030\n \002(\t\022\026\n\016owner_group_id\030\013 \002(\t\022\025\n"
+    "\rowner_user_id\030\014 \002(\t\"i\n\017fsetattrRequest\022"
+    "#\n\005stbuf\030\001 \002(\0132\024.xtreemfs.pbrpc.Stat\022\016\n\006"
+    "to_set\030\002 \002(\007\022!\n\003cap\030\003 \002(\0132\024.xtreemfs.pbr"
+    "pc.XCap\"G\n\016getattrRequest\022\023\n\013volume_name"
+    "\030\001 \002(\t\022\014\n\004path\030\002 \002(\t\022\022\n\nknown_etag\030\003 \002(\006"
+    "\"6\n\017getattrResponse\022#\n\005stbuf\030\001 \001(\0132\024.xtr"
+    "eemfs.pbrpc.Stat\"B\n\017getxattrRequest\022\023\n\013v"
+    "olume_name\030\001 \002(\t\022\014\n\004path\030\002 \002(\t\022\014\n\004name\030\003"
+    " \002(\t\"=\n\020getxattrResponse\022\r\n\005value\030\001 \002(\t\022"
+    "\032\n\022value_bytes_string\030\002 \001(\014\"J\n\013linkReque"
+    "st\022\023\n\013volume_name\030\001 \002(\t\022\023\n\013target_path\030\002"
+    " \002(\t\022\021\n\tlink_path\030\003 \002(\t\"I\n\020listxattrRequ"
+    "est\022\023\n\013volume_name\030\001 \002(\t\022\014\n\004path\030\002 \002(\t\022\022"
+    "\n\nnames_only\030\003 \002(\010\":\n\021listxattrResponse\022"
+    "%\n\006xattrs\030\001 \003(\0132\025.xtreemfs.pbrpc.XAttr\"\?"
+    "\n\014mkdirRequest\022\023\n\013volume_name\030\001 \002(\t\022\014\n\004p"
+    "ath\030\002 \002(\t\022\014\n\004mode\030\003 \002(\007\"\232\001\n\013openRequest\022"
+    "\023\n\013volume_name\030\001 \002(\t\022\014\n\004path\030\002 \002(\t\022\r\n\005fl"
+    "ags\030\003 \002(\007\022\014\n\004mode\030\004 \002(\007\022\022\n\nattributes\030\005 "
+    "\002(\007\0227\n\013coordinates\030\006 \001(\0132\".xtreemfs.pbrp"
+    "c.VivaldiCoordinates\"S\n\014openResponse\022.\n\005"
+    "creds\030\001 \002(\0132\037.xtreemfs.pbrpc.FileCredent"
+    "ials\022\023\n\013timestamp_s\030\002 \002(\007\"\305\001\n\016readdirReq"
+    "uest\022\023\n\013volume_name\030\001 \002(\t\022\014\n\004path\030\002 \002(\t\022"
+    "\022\n\nknown_etag\030\003 \002(\006\022%\n\035limit_directory_e"
+    "ntries_count\030\004 \002(\007\022\022\n\nnames_only\030\005 \002(\010\022$"
+    "\n\034seen_directory_entries_count\030\006 \002(\006\022\033\n\023"
+    "continuation_cursor\030\007 \001(\t\"4\n\017readlinkReq"
+    "uest\022\023\n\013volume_name\030\001 \002(\t\022\014\n\004path\030\002 \002(\t\""
+    ",\n\020readlinkResponse\022\030\n\020link_target_path\030"
+    "\001 \003(\t\"E\n\022removexattrRequest\022\023\n\013volume_na"
+    "me\030\001 \002(\t\022\014\n\004path\030\002 \002(\t\022\014\n\004name\030\003 \002(\t\"N\n\r"
+    "renameRequest\022\023\n\013volume_name\030\001 \002(\t\022\023\n\013so"
+    "urce_path\030\002 \002(\t\022\023\n\013target_path\030\003 \002(\t\"U\n\016"
+    "renameResponse\022\023\n\013timestamp_s\030\001 \002(\007\022.\n\005c"
+    "reds\030\002 \001(\0132\037.xtreemfs.pbrpc.FileCredenti"
+    "als\"1\n\014rmdirRequest\022\023\n\013volume_name\030\001 \002(\t"
+    "\022\014\n\004path\030\002 \002(\t\"h\n\016setattrRequest\022\023\n\013volu"
+    "me_name\030\001 \002(\t\022\014\n\004path\030\002 \002(\t\022#\n\005stbuf\030\003 \002"
+    "(\0132\024.xtreemfs.pbrpc.Stat\022\016\n\006to_set\030\004 \002(\007"
+    "\"|\n\017setxattrRequest\022\023\n\013volume_name\030\001 \002(\t"
+    "\022\014\n\004path\030\002 \002(\t\022\014\n\004name\030\003 \002(\t\022\r\n\005value\030\004 "
+    "\002(\t\022\032\n\022value_bytes_string\030\006 \001(\014\022\r\n\005flags"
+    "\030\005 \002(\007\"9\n\016statvfsRequest\022\023\n\013volume_name\030"
+    "\001 \002(\t\022\022\n\nknown_etag\030\005 \002(\006\"M\n\016symlinkRequ"
+    "est\022\023\n\013volume_name\030\001 \002(\t\022\023\n\013target_path\030"
+    "\002 \002(\t\022\021\n\tlink_path\030\003 \002(\t\"2\n\runlinkReques"
+    "t\022\023\n\013volume_name\030\001 \002(\t\022\014\n\004path\030\002 \002(\t\"U\n\016"
+    "unlinkResponse\022\023\n\013timestamp_s\030\001 \002(\007\022.\n\005c"
+    "reds\030\002 \001(\0132\037.xtreemfs.pbrpc.FileCredenti"
+    "als\"A\n\raccessRequest\022\023\n\013volume_name\030\001 \002("
+    "\t\022\014\n\004path\030\002 \002(\t\022\r\n\005flags\030\003 \002(\007\"Z\n!xtreem"
+    "fs_check_file_existsRequest\022\021\n\tvolume_id"
+    "\030\001 \002(\t\022\020\n\010file_ids\030\002 \003(\t\022\020\n\010osd_uuid\030\003 \002"
+    "(\t\"\315\001\n\"xtreemfs_check_file_existsRespons"
+    "e\022\025\n\rvolume_exists\030\001 \002(\010\022V\n\013file_states\030"
+    "\002 \003(\0162=.xtreemfs.pbrpc.xtreemfs_check_fi"
+    "le_existsResponse.FILE_STATEB\002\020\001\"8\n\nFILE"
+    "_STATE\022\013\n\007DELETED\020\000\022\016\n\nREGISTERED\020\001\022\r\n\tA"
+    "BANDONED\020\002\":\n%xtreemfs_dump_restore_data"
+    "baseRequest\022\021\n\tdump_file\030\001 \002(\t\"i\n!xtreem"
+    "fs_get_suitable_osdsRequest\022\017\n\007file_id\030\001"
+    " \001(\t\022\014\n\004path\030\003 \001(\t\022\023\n\013volume_name\030\004 \001(\t\022"
+    "\020\n\010num_osds\030\002 \002(\007\"7\n\"xtreemfs_get_suitab"
+    "le_osdsResponse\022\021\n\tosd_uuids\030\001 \003(\t\"(\n\021ti"
+    "mestampResponse\022\023\n\013timestamp_s\030\001 \002(\007\"!\n\r"
+    "stringMessage\022\020\n\010a_string\030\001 \002(\t\"\'\n\027xtree"
+    "mfs_listdirRequest\022\014\n\004path\030\001 \002(\t\")\n\030xtre"
+    "emfs_listdirResponse\022\r\n\005names\030\001 \003(\t\"\177\n\033x"
+    "treemfs_replica_addRequest\022\017\n\007file_id\030\001 "
+    "\001(\t\022\014\n\004path\030\003 \001(\t\022\023\n\013volume_name\030\004 \001(\t\022,"
+    "\n\013new_replica\030\002 \002(\0132\027.xtreemfs.pbrpc.Rep"
+    "lica\"R\n\034xtreemfs_replica_listRequest\022\017\n\007"
+    "file_id\030\001 \001(\t\022\014\n\004path\030\002 \001(\t\022\023\n\013volume_na"
+    "me\030\003 \001(\t\"I\n\"xtreemfs_renew_capabilitiesR"
+    "equest\022#\n\005xcaps\030\001 \003(\0132\024.xtreemfs.pbrpc.X"
+    "Cap\"J\n#xtreemfs_renew_capabilitiesRespon"
+    "se\022#\n\005xcaps\030\001 \003(\0132\024.xtreemfs.pbrpc.XCap\""
+    "u\n\033xtreemfs_get_xlocsetRequest\022\017\n\007file_i"
+    "d\030\001 \001(\t\022\014\n\004path\030\002 \001(\t\022\023\n\013volume_name\030\003 \001"
+    "(\t\022\"\n\004xcap\030\004 \001(\0132\024.xtreemfs.pbrpc.XCap\"f"
+    "\n\036xtreemfs_replica_removeRequest\022\017\n\007file"
+    "_id\030\001 \001(\t\022\014\n\004path\030\003 \001(\t\022\023\n\013volume_name\030\004"
+    " \001(\t\022\020\n\010osd_uuid\030\002 \002(\t\"|\n\034xtreemfs_resto"
+    "re_fileRequest\022\021\n\tfile_path\030\001 \002(\t\022\017\n\007fil"
+    "e_id\030\002 \002(\t\022\021\n\tfile_size\030\003 \002(\006\022\020\n\010osd_uui"
+    "d\030\004 \002(\t\022\023\n\013stripe_size\030\005 \002(\007\",\n\025xtreemfs"
+    "_rmvolRequest\022\023\n\013volume_name\030\001 \002(\t\"\321\001\n x"
+    "treemfs_update_file_sizeRequest\022\"\n\004xcap\030"
+    "\001 \002(\0132\024.xtreemfs.pbrpc.XCap\022<\n\022osd_write"
+    "_response\030\002 \002(\0132 .xtreemfs.pbrpc.OSDWrit"
+    "eResponse\022\022\n\nclose_file\030\003 \001(\010\0227\n\013coordin"
+    "ates\030\004 \001(\0132\".xtreemfs.pbrpc.VivaldiCoord"
+    "inates\"f\n!xtreemfs_update_file_sizesRequ"
+    "est\022A\n\007updates\030\001 \003(\01320.xtreemfs.pbrpc.xt"
+    "reemfs_update_file_sizeRequest\"9\n\"xtreem"
+    "fs_update_file_sizesResponse\022\023\n\007success\030"
+    "\001 \003(\010B\002\020\001\"\276\001\n\034xtreemfs_create_filesReque"
+    "st\022\023\n\013volume_name\030\001 \002(\t\022\020\n\010dir_path\030\002 \002("
+    "\t\022\r\n\005names\030\003 \003(\t\022\r\n\005flags\030\004 \002(\007\022\014\n\004mode\030"
+    "\005 \002(\007\022\022\n\nattributes\030\006 \002(\007\0227\n\013coordinates"
+    "\030\007 \001(\0132\".xtreemfs.pbrpc.VivaldiCoordinat"
+    "es\"L\n\035xtreemfs_create_filesResponse\022+\n\005f"
+    "iles\030\001 \003(\0132\034.xtreemfs.pbrpc.openResponse"
+    "\">\n\030xtreemfs_getattrsRequest\022\023\n\013volume_n"
+    "ame\030\001 \002(\t\022\r\n\005paths\030\002 \003(\t\"K\n\031xtreemfs_get"
+    "attrsResponse\022.\n\005stats\030\001 \003(\0132\037.xtreemfs."
+    "pbrpc.getattrResponse\"{\n\034xtreemfs_get_xl"
+    "ocsetsRequest\022\023\n\013volume_name\030\001 \002(\t\022\r\n\005pa"
+    "ths\030\002 \003(\t\0227\n\013coordinates\030\003 \001(\0132\".xtreemf"
+    "s.pbrpc.VivaldiCoordinates\"J\n\035xtreemfs_g"
+    "et_xlocsetsResponse\022)\n\010xlocsets\030\001 \003(\0132\027."
+    "xtreemfs.pbrpc.XLocSet\"Y\n\037xtreemfs_rmdir"
+    "_recursiveRequest\022\023\n\013volume_name\030\001 \002(\t\022\014"
+    "\n\004path\030\002 \002(\t\022\023\n\013max_entries\030\003 \002(\007\"^\n xtr"
+    "eemfs_rmdir_recursiveResponse\022\023\n\013timesta"
+    "mp_s\030\001 \002(\007\022\023\n\013num_deleted\030\002 \002(\007\022\020\n\010compl"
+    "ete\030\003 \002(\010\"\240\001\n!xtreemfs_setattr_recursive"
+    "Request\022\023\n\013volume_name\030\001 \002(\t\022\014\n\004path\030\002 \002"
+    "(\t\022#\n\005stbuf\030\003 \002(\0132\024.xtreemfs.pbrpc.Stat\022"
+    "\016\n\006to_set\030\004 \002(\007\022\023\n\013max_entries\030\005 \002(\007\022\016\n\006"
+    "cursor\030\006 \001(\t\"^\n\"xtreemfs_setattr_recursi"
+    "veResponse\022\023\n\013timestamp_s\030\001 \002(\007\022\023\n\013num_u"
+    "pdated\030\002 \002(\007\022\016\n\006cursor\030\003 \001(\t\"S\n)xtreemfs"
+    "_set_replica_update_policyRequest\022\017\n\007fil"
+    "e_id\030\001 \002(\t\022\025\n\rupdate_policy\030\002 \002(\t\"G\n*xtr"
+    "eemfs_set_replica_update_policyResponse\022"
+    "\031\n\021old_update_policy\030\001 \002(\t\"E\n#xtreemfs_s"
+    "et_read_only_xattrRequest\022\017\n\007file_id\030\001 \002"
+    "(\t\022\r\n\005value\030\002 \002(\010\"7\n$xtreemfs_set_read_o"
+    "nly_xattrResponse\022\017\n\007was_set\030\001 \002(\010\"7\n$xt"
+    "reemfs_get_file_credentialsRequest\022\017\n\007fi"
+    "le_id\030\001 \002(\t*\242\001\n\010Setattrs\022\020\n\014SETATTR_MODE"
+    "\020\001\022\017\n\013SETATTR_UID\020\002\022\017\n\013SETATTR_GID\020\004\022\020\n\014"
+    "SETATTR_SIZE\020\010\022\021\n\rSETATTR_ATIME\020\020\022\021\n\rSET"
+    "ATTR_MTIME\020 \022\021\n\rSETATTR_CTIME\020@\022\027\n\022SETAT"
+    "TR_ATTRIBUTES\020\200\001*>\n\013XATTR_FLAGS\022\026\n\022XATTR"
+    "_FLAGS_CREATE\020\001\022\027\n\023XATTR_FLAGS_REPLACE\020\002"
+    "*j\n\014ACCESS_FLAGS\022\025\n\021ACCESS_FLAGS_F_OK\020\000\022"
+    "\025\n\021ACCESS_FLAGS_X_OK\020\001\022\025\n\021ACCESS_FLAGS_W"
+    "_OK\020\002\022\025\n\021ACCESS_FLAGS_R_OK\020\0042\255\'\n\nMRCServ"
+    "ice\022S\n\010fsetattr\022\037.xtreemfs.pbrpc.fsetatt"
+    "rRequest\032\035.xtreemfs.pbrpc.emptyResponse\""
+    "\007\215\265\030\002\000\000\000\022@\n\tftruncate\022\024.xtreemfs.pbrpc.X"
+    "Cap\032\024.xtreemfs.pbrpc.XCap\"\007\215\265\030\003\000\000\000\022S\n\007ge"
+    "tattr\022\036.xtreemfs.pbrpc.getattrRequest\032\037."
+    "xtreemfs.pbrpc.getattrResponse\"\007\215\265\030\004\000\000\000\022"
+    "V\n\010getxattr\022\037.xtreemfs.pbrpc.getxattrReq"
+    "uest\032 .xtreemfs.pbrpc.getxattrResponse\"\007"
+    "\215\265\030\005\000\000\000\022O\n\004link\022\033.xtreemfs.pbrpc.linkReq"
+    "uest\032!.xtreemfs.pbrpc.timestampResponse\""
+    "\007\215\265\030\006\000\000\000\022Y\n\tlistxattr\022 .xtreemfs.pbrpc.l"
+    "istxattrRequest\032!.xtreemfs.pbrpc.listxat"
+    "trResponse\"\007\215\265\030\007\000\000\000\022Q\n\005mkdir\022\034.xtreemfs."
+    "pbrpc.mkdirRequest\032!.xtreemfs.pbrpc.time"
+    "stampResponse\"\007\215\265\030\010\000\000\000\022J\n\004open\022\033.xtreemf"
+    "s.pbrpc.openRequest\032\034.xtreemfs.pbrpc.ope"
+    "nResponse\"\007\215\265\030\t\000\000\000\022T\n\007readdir\022\036.xtreemfs"
+    ".pbrpc.readdirRequest\032 .xtreemfs.pbrpc.D"
+    "irectoryEntries\"\007\215\265\030\n\000\000\000\022V\n\010readlink\022\037.x"
+    "treemfs.pbrpc.readlinkRequest\032 .xtreemfs"
+    ".pbrpc.readlinkResponse\"\007\215\265\030\013\000\000\000\022]\n\013remo"
+    "vexattr\022\".xtreemfs.pbrpc.removexattrRequ"
+    "est\032!.xtreemfs.pbrpc.timestampResponse\"\007"
+    "\215\265\030\014\000\000\000\022P\n\006rename\022\035.xtreemfs.pbrpc.renam"
+    "eRequest\032\036.xtreemfs.pbrpc.renameResponse"
+    "\"\007\215\265\030\r\000\000\000\022Q\n\005rmdir\022\034.xtreemfs.pbrpc.rmdi"
+    "rRequest\032!.xtreemfs.pbrpc.timestampRespo"
+    "nse\"\007\215\265\030\016\000\000\000\022U\n\007setattr\022\036.xtreemfs.pbrpc"
+    ".setattrRequest\032!.xtreemfs.pbrpc.timesta"
+    "mpResponse\"\007\215\265\030\017\000\000\000\022W\n\010setxattr\022\037.xtreem"
+    "fs.pbrpc.setxattrRequest\032!.xtreemfs.pbrp"
+    "c.timestampResponse\"\007\215\265\030\020\000\000\000\022K\n\007statvfs\022"
+    "\036.xtreemfs.pbrpc.statvfsRequest\032\027.xtreem"
+    "fs.pbrpc.StatVFS\"\007\215\265\030\021\000\000\000\022U\n\007symlink\022\036.x"
+    "treemfs.pbrpc.symlinkRequest\032!.xtreemfs."
+    "pbrpc.timestampResponse\"\007\215\265\030\022\000\000\000\022P\n\006unli"
+    "nk\022\035.xtreemfs.pbrpc.unlinkRequest\032\036.xtre"
+    "emfs.pbrpc.unlinkResponse\"\007\215\265\030\023\000\000\000\022O\n\006ac"
+    "cess\022\035.xtreemfs.pbrpc.accessRequest\032\035.xt"
+    "reemfs.pbrpc.emptyResponse\"\007\215\265\030\024\000\000\000\022[\n\023x"
+    "treemfs_checkpoint\022\034.xtreemfs.pbrpc.empt"
+    "yRequest\032\035.xtreemfs.pbrpc.emptyResponse\""
+    "\007\215\265\030\036\000\000\000\022\214\001\n\032xtreemfs_check_file_exists\022"
+    "1.xtreemfs.pbrpc.xtreemfs_check_file_exi"
+    "stsRequest\0322.xtreemfs.pbrpc.xtreemfs_che"
+    "ck_file_existsResponse\"\007\215\265\030\037\000\000\000\022w\n\026xtree"
+    "mfs_dump_database\0225.xtreemfs.pbrpc.xtree"
+    "mfs_dump_restore_databaseRequest\032\035.xtree"
+    "mfs.pbrpc.emptyResponse\"\007\215\265\030 \000\000\000\022\214\001\n\032xtr"
+    "eemfs_get_suitable_osds\0221.xtreemfs.pbrpc"
+    ".xtreemfs_get_suitable_osdsRequest\0322.xtr"
+    "eemfs.pbrpc.xtreemfs_get_suitable_osdsRe"
+    "sponse\"\007\215\265\030!\000\000\000\022`\n\027xtreemfs_internal_deb"
+    "ug\022\035.xtreemfs.pbrpc.stringMessage\032\035.xtre"
+    "emfs.pbrpc.stringMessage\"\007\215\265\030\"\000\000\000\022n\n\020xtr"
+    "eemfs_listdir\022\'.xtreemfs.pbrpc.xtreemfs_"
+    "listdirRequest\032(.xtreemfs.pbrpc.xtreemfs"
+    "_listdirResponse\"\007\215\265\030#\000\000\000\022P\n\016xtreemfs_ls"
+    "vol\022\034.xtreemfs.pbrpc.emptyRequest\032\027.xtre"
+    "emfs.pbrpc.Volumes\"\007\215\265\030$\000\000\000\022P\n\016xtreemfs_"
+    "mkvol\022\026.xtreemfs.pbrpc.Volume\032\035.xtreemfs"
+    ".pbrpc.emptyResponse\"\007\215\265\030/\000\000\000\022P\n\031xtreemf"
+    "s_renew_capability\022\024.xtreemfs.pbrpc.XCap"
+    "\032\024.xtreemfs.pbrpc.XCap\"\007\215\265\030%\000\000\000\022f\n\036xtree"
+    "mfs_replication_to_master\022\034.xtreemfs.pbr"
+    "pc.emptyRequest\032\035.xtreemfs.pbrpc.emptyRe"
+    "sponse\"\007\215\265\030&\000\000\000\022k\n\024xtreemfs_replica_add\022"
+    "+.xtreemfs.pbrpc.xtreemfs_replica_addReq"
     "uest\032\035.xtreemfs.pbrpc.emptyResponse\"\007\215\265\030"
-    "\024\000\000\000\022[\n\023xtreemfs_checkpoint\022\034.xtreemfs.p"
-    "brpc.emptyRequest\032\035.xtreemfs.pbrpc.empty"
-    "Response\"\007\215\265\030\036\000\000\000\022\214\001\n\032xtreemfs_check_fil"
-    "e_exists\0221.xtreemfs.pbrpc.xtreemfs_check"
-    "_file_existsRequest\0322.xtreemfs.pbrpc.xtr"
-    "eemfs_check_file_existsResponse\"\007\215\265\030\037\000\000\000"
-    "\022w\n\026xtreemfs_dump_database\0225.xtreemfs.pb"
-    "rpc.xtreemfs_dump_restore_databaseReques"
-    "t\032\035.xtreemfs.pbrpc.emptyResponse\"\007\215\265\030 \000\000"
-    "\000\022\214\001\n\032xtreemfs_get_suitable_osds\0221.xtree"
-    "mfs.pbrpc.xtreemfs_get_suitable_osdsRequ"
-    "est\0322.xtreemfs.pbrpc.xtreemfs_get_suitab"
-    "le_osdsResponse\"\007\215\265\030!\000\000\000\022`\n\027xtreemfs_int"
-    "ernal_debug\022\035.xtreemfs.pbrpc.stringMessa"
-    "ge\032\035.xtreemfs.pbrpc.stringMessage\"\007\215\265\030\"\000"
-    "\000\000\022n\n\020xtreemfs_listdir\022\'.xtreemfs.pbrpc."
-    "xtreemfs_listdirRequest\032(.xtreemfs.pbrpc"
-    ".xtreemfs_listdirResponse\"\007\215\265\030#\000\000\000\022P\n\016xt"
-    "reemfs_lsvol\022\034.xtreemfs.pbrpc.emptyReque"
-    "st\032\027.xtreemfs.pbrpc.Volumes\"\007\215\265\030$\000\000\000\022P\n\016"
-    "xtreemfs_mkvol\022\026.xtreemfs.pbrpc.Volume\032\035"
-    ".xtreemfs.pbrpc.emptyResponse\"\007\215\265\030/\000\000\000\022P"
-    "\n\031xtreemfs_renew_capability\022\024.xtreemfs.p"
-    "brpc.XCap\032\024.xtreemfs.pbrpc.XCap\"\007\215\265\030%\000\000\000"
-    "\022f\n\036xtreemfs_replication_to_master\022\034.xtr"
-    "eemfs.pbrpc.emptyRequest\032\035.xtreemfs.pbrp"
-    "c.emptyResponse\"\007\215\265\030&\000\000\000\022k\n\024xtreemfs_rep"
-    "lica_add\022+.xtreemfs.pbrpc.xtreemfs_repli"
-    "ca_addRequest\032\035.xtreemfs.pbrpc.emptyResp"
-    "onse\"\007\215\265\030\'\000\000\000\022h\n\025xtreemfs_replica_list\022,"
-    ".xtreemfs.pbrpc.xtreemfs_replica_listReq"
-    "uest\032\030.xtreemfs.pbrpc.Replicas\"\007\215\265\030(\000\000\000\022"
-    "s\n\027xtreemfs_replica_remove\022..xtreemfs.pb"
-    "rpc.xtreemfs_replica_removeRequest\032\037.xtr"
-    "eemfs.pbrpc.FileCredentials\"\007\215\265\030)\000\000\000\022z\n\031"
-    "xtreemfs_restore_database\0225.xtreemfs.pbr"
-    "pc.xtreemfs_dump_restore_databaseRequest"
-    "\032\035.xtreemfs.pbrpc.emptyResponse\"\007\215\265\030*\000\000\000"
-    "\022m\n\025xtreemfs_restore_file\022,.xtreemfs.pbr"
-    "pc.xtreemfs_restore_fileRequest\032\035.xtreem"
-    "fs.pbrpc.emptyResponse\"\007\215\265\030+\000\000\000\022_\n\016xtree"
-    "mfs_rmvol\022%.xtreemfs.pbrpc.xtreemfs_rmvo"
-    "lRequest\032\035.xtreemfs.pbrpc.emptyResponse\""
-    "\007\215\265\030,\000\000\000\022Y\n\021xtreemfs_shutdown\022\034.xtreemfs"
-    ".pbrpc.emptyRequest\032\035.xtreemfs.pbrpc.emp"
-    "tyResponse\"\007\215\265\030-\000\000\000\022y\n\031xtreemfs_update_f"
-    "ile_size\0220.xtreemfs.pbrpc.xtreemfs_updat"
-    "e_file_sizeRequest\032!.xtreemfs.pbrpc.time"
-    "stampResponse\"\007\215\265\030.\000\000\000\022\244\001\n\"xtreemfs_set_"
-    "replica_update_policy\0229.xtreemfs.pbrpc.x"
-    "treemfs_set_replica_update_policyRequest"
-    "\032:.xtreemfs.pbrpc.xtreemfs_set_replica_u"
-    "pdate_policyResponse\"\007\215\265\0300\000\000\000\022\222\001\n\034xtreem"
-    "fs_set_read_only_xattr\0223.xtreemfs.pbrpc."
-    "xtreemfs_set_read_only_xattrRequest\0324.xt"
-    "reemfs.pbrpc.xtreemfs_set_read_only_xatt"
-    "rResponse\"\007\215\265\0301\000\000\000\022\177\n\035xtreemfs_get_file_"
-    "credentials\0224.xtreemfs.pbrpc.xtreemfs_ge"
-    "t_file_credentialsRequest\032\037.xtreemfs.pbr"
-    "pc.FileCredentials\"\007\215\265\0302\000\000\000\022e\n\024xtreemfs_"
-    "get_xlocset\022+.xtreemfs.pbrpc.xtreemfs_ge"
-    "t_xlocsetRequest\032\027.xtreemfs.pbrpc.XLocSe"
-    "t\"\007\215\265\0303\000\000\000\032\007\225\265\030!N\000\000B(\n&org.xtreemfs.pbrp"
-    "c.generatedinterfaces", 9581);
+    "\'\000\000\000\022h\n\025xtreemfs_replica_list\022,.xtreemfs"
+    ".pbrpc.xtreemfs_replica_listRequest\032\030.xt"
+    "reemfs.pbrpc.Replicas\"\007\215\265\030(\000\000\000\022s\n\027xtreem"
+    "fs_replica_remove\022..xtreemfs.pbrpc.xtree"
+    "mfs_replica_removeRequest\032\037.xtreemfs.pbr"
+    "pc.FileCredentials\"\007\215\265\030)\000\000\000\022z\n\031xtreemfs_"
+    "restore_database\0225.xtreemfs.pbrpc.xtreem"
+    "fs_dump_restore_databaseRequest\032\035.xtreem"
+    "fs.pbrpc.emptyResponse\"\007\215\265\030*\000\000\000\022m\n\025xtree"
+    "mfs_restore_file\022,.xtreemfs.pbrpc.xtreem"
+    "fs_restore_fileRequest\032\035.xtreemfs.pbrpc."
+    "emptyResponse\"\007\215\265\030+\000\000\000\022_\n\016xtreemfs_rmvol"
+    "\022%.xtreemfs.pbrpc.xtreemfs_rmvolRequest\032"
+    "\035.xtreemfs.pbrpc.emptyResponse\"\007\215\265\030,\000\000\000\022"
+    "Y\n\021xtreemfs_shutdown\022\034.xtreemfs.pbrpc.em"
+    "ptyRequest\032\035.xtreemfs.pbrpc.emptyRespons"
+    "e\"\007\215\265\030-\000\000\000\022y\n\031xtreemfs_update_file_size\022"
+    "0.xtreemfs.pbrpc.xtreemfs_update_file_si"
+    "zeRequest\032!.xtreemfs.pbrpc.timestampResp"
+    "onse\"\007\215\265\030.\000\000\000\022\244\001\n\"xtreemfs_set_replica_u"
+    "pdate_policy\0229.xtreemfs.pbrpc.xtreemfs_s"
+    "et_replica_update_policyRequest\032:.xtreem"
+    "fs.pbrpc.xtreemfs_set_replica_update_pol"
+    "icyResponse\"\007\215\265\0300\000\000\000\022\222\001\n\034xtreemfs_set_re"
+    "ad_only_xattr\0223.xtreemfs.pbrpc.xtreemfs_"
+    "set_read_only_xattrRequest\0324.xtreemfs.pb"
+    "rpc.xtreemfs_set_read_only_xattrResponse"
+    "\"\007\215\265\0301\000\000\000\022\177\n\035xtreemfs_get_file_credentia"
+    "ls\0224.xtreemfs.pbrpc.xtreemfs_get_file_cr"
+    "edentialsRequest\032\037.xtreemfs.pbrpc.FileCr"
+    "edentials\"\007\215\265\0302\000\000\000\022e\n\024xtreemfs_get_xlocs"
+    "et\022+.xtreemfs.pbrpc.xtreemfs_get_xlocset"
+    "Request\032\027.xtreemfs.pbrpc.XLocSet\"\007\215\265\0303\000\000"
+    "\000\022\217\001\n\033xtreemfs_renew_capabilities\0222.xtre"
+    "emfs.pbrpc.xtreemfs_renew_capabilitiesRe"
+    "quest\0323.xtreemfs.pbrpc.xtreemfs_renew_ca"
+    "pabilitiesResponse\"\007\215\265\0304\000\000\000\022\214\001\n\032xtreemfs"
+    "_update_file_sizes\0221.xtreemfs.pbrpc.xtre"
+    "emfs_update_file_sizesRequest\0322.xtreemfs"
+    ".pbrpc.xtreemfs_update_file_sizesRespons"
+    "e\"\007\215\265\0305\000\000\000\022}\n\025xtreemfs_create_files\022,.xt"
+    "reemfs.pbrpc.xtreemfs_create_filesReques"
+    "t\032-.xtreemfs.pbrpc.xtreemfs_create_files"
+    "Response\"\007\215\265\0306\000\000\000\022q\n\021xtreemfs_getattrs\022("
+    ".xtreemfs.pbrpc.xtreemfs_getattrsRequest"
+    "\032).xtreemfs.pbrpc.xtreemfs_getattrsRespo"
+    "nse\"\007\215\265\0307\000\000\000\022}\n\025xtreemfs_get_xlocsets\022,."
+    "xtreemfs.pbrpc.xtreemfs_get_xlocsetsRequ"
+    "est\032-.xtreemfs.pbrpc.xtreemfs_get_xlocse"
+    "tsResponse\"\007\215\265\0308\000\000\000\022\206\001\n\030xtreemfs_rmdir_r"
+    "ecursive\022/.xtreemfs.pbrpc.xtreemfs_rmdir"
+    "_recursiveRequest\0320.xtreemfs.pbrpc.xtree"
+    "mfs_rmdir_recursiveResponse\"\007\215\265\0309\000\000\000\022\214\001\n"
+    "\032xtreemfs_setattr_recursive\0221.xtreemfs.p"
+    "brpc.xtreemfs_setattr_recursiveRequest\0322"
+    ".xtreemfs.pbrpc.xtreemfs_setattr_recursi"
+    "veResponse\"\007\215\265\030:\000\000\000\032\007\225\265\030!N\000\000B(\n&org.xtre"
+    "emfs.pbrpc.generatedinterfaces", 11950);
   ::google::protobuf::MessageFactory::InternalRegisterGeneratedFile(
     "xtreemfs/MRC.proto", &protobuf_RegisterTypes);
   Stat::default_instance_ = new Stat();
@@ -1627,11 +2016,25 @@ void protobuf_AddDesc_xtreemfs_2fMRC_2eproto() {
   xtreemfs_listdirResponse::default_instance_ = new xtreemfs_listdirResponse();
   xtreemfs_replica_addRequest::default_instance_ = new xtreemfs_replica_addRequest();
   xtreemfs_replica_listRequest::default_instance_ = new xtreemfs_replica_listRequest();
+  xtreemfs_renew_capabilitiesRequest::default_instance_ = new xtreemfs_renew_capabilitiesRequest();
+  xtreemfs_renew_capabilitiesResponse::default_instance_ = new xtreemfs_renew_capabilitiesResponse();
   xtreemfs_get_xlocsetRequest::default_instance_ = new xtreemfs_get_xlocsetRequest();
   xtreemfs_replica_removeRequest::default_instance_ = new xtreemfs_replica_removeRequest();
   xtreemfs_restore_fileRequest::default_instance_ = new xtreemfs_restore_fileRequest();
   xtreemfs_rmvolRequest::default_instance_ = new xtreemfs_rmvolRequest();
   xtreemfs_update_file_sizeRequest::default_instance_ = new xtreemfs_update_file_sizeRequest();
+  xtreemfs_update_file_sizesRequest::default_instance_ = new xtreemfs_update_file_sizesRequest();
+  xtreemfs_update_file_sizesResponse::default_instance_ = new xtreemfs_update_file_sizesResponse();
+  xtreemfs_create_filesRequest::default_instance_ = new xtreemfs_create_filesRequest();
+  xtreemfs_create_filesResponse::default_instance_ = new xtreemfs_create_filesResponse();
+  xtreemfs_getattrsRequest::default_instance_ = new xtreemfs_getattrsRequest();
+  xtreemfs_getattrsResponse::default_instance_ = new xtreemfs_getattrsResponse();
+  xtreemfs_get_xlocsetsRequest::default_instance_ = new xtreemfs_get_xlocsetsRequest();
+  xtreemfs_get_xlocsetsResponse::default_instance_ = new xtreemfs_get_xlocsetsResponse();
+  xtreemfs_rmdir_recursiveRequest::default_instance_ = new xtreemfs_rmdir_recursiveRequest();
+  xtreemfs_rmdir_recursiveResponse::default_instance_ = new xtreemfs_rmdir_recursiveResponse();
+  xtreemfs_setattr_recursiveRequest::default_instance_ = new xtreemfs_setattr_recursiveRequest();
+  xtreemfs_setattr_recursiveResponse::default_instance_ = new xtreemfs_setattr_recursiveResponse();
   xtreemfs_set_replica_update_policyRequest::default_instance_ = new xtreemfs_set_replica_update_policyRequest();
   xtreemfs_set_replica_update_policyResponse::default_instance_ = new xtreemfs_set_replica_update_policyResponse();
   xtreemfs_set_read_only_xattrRequest::default_instance_ = new xtreemfs_set_read_only_xattrRequest();
@@ -1680,11 +2083,25 @@ void protobuf_AddDesc_xtreemfs_2fMRC_2eproto() {
   xtreemfs_listdirResponse::default_instance_->InitAsDefaultInstance();
   xtreemfs_replica_addRequest::default_instance_->InitAsDefaultInstance();
   xtreemfs_replica_listRequest::default_instance_->InitAsDefaultInstance();
+  xtreemfs_renew_capabilitiesRequest::default_instance_->InitAsDefaultInstance();
+  xtreemfs_renew_capabilitiesResponse::default_instance_->InitAsDefaultInstance();
   xtreemfs_get_xlocsetRequest::default_instance_->InitAsDefaultInstance();
   xtreemfs_replica_removeRequest::default_instance_->InitAsDefaultInstance();
   xtreemfs_restore_fileRequest::default_instance_->InitAsDefaultInstance();
   xtreemfs_rmvolRequest::default_instance_->InitAsDefaultInstance();
   xtreemfs_update_file_sizeRequest::default_instance_->InitAsDefaultInstance();
+  xtreemfs_update_file_sizesRequest::default_instance_->InitAsDefaultInstance();
+  xtreemfs_update_file_sizesResponse::default_instance_->InitAsDefaultInstance();
+  xtreemfs_create_filesRequest::default_instance_->InitAsDefaultInstance();
+  xtreemfs_create_filesResponse::default_instance_->InitAsDefaultInstance();
+  xtreemfs_getattrsRequest::default_instance_->InitAsDefaultInstance();
+  xtreemfs_getattrsResponse::default_instance_->InitAsDefaultInstance();
+  xtreemfs_get_xlocsetsRequest::default_instance_->InitAsDefaultInstance();
+  xtreemfs_get_xlocsetsResponse::default_instance_->InitAsDefaultInstance();
+  xtreemfs_rmdir_recursiveRequest::default_instance_->InitAsDefaultInstance();
+  xtreemfs_rmdir_recursiveResponse::default_instance_->InitAsDefaultInstance();
+  xtreemfs_setattr_recursiveRequest::default_instance_->InitAsDefaultInstance();
+  xtreemfs_setattr_recursiveResponse::default_instance_->InitAsDefaultInstance();
   xtreemfs_set_replica_update_policyRequest::default_instance_->InitAsDefaultInstance();
   xtreemfs_set_replica_update_policyResponse::default_instance_->InitAsDefaultInstance();
   xtreemfs_set_read_only_xattrRequest::default_instance_->InitAsDefaultInstance();
@@ -2773,6 +3190,7 @@ void DirectoryEntry::Swap(DirectoryEntry* other) {
 
 #ifndef _MSC_VER
 const int DirectoryEntries::kEntriesFieldNumber;
+const int DirectoryEntries::kContinuationCursorFieldNumber;
 #endif  // !_MSC_VER
 
 DirectoryEntries::DirectoryEntries()
@@ -2791,6 +3209,7 @@ DirectoryEntries::DirectoryEntries(const DirectoryEntries& from)
 
 void DirectoryEntries::SharedCtor() {
   _cached_size_ = 0;
+  continuation_cursor_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
   ::memset(_has_bits_, 0, sizeof(_has_bits_));
 }
 
@@ -2799,6 +3218,9 @@ DirectoryEntries::~DirectoryEntries() {
 }
 
 void DirectoryEntries::SharedDtor() {
+  if (continuation_cursor_ != &::google::protobuf::internal::kEmptyString) {
+    delete continuation_cursor_;
+  }
   if (this != default_instance_) {
   }
 }
@@ -2825,6 +3247,13 @@ DirectoryEntries* DirectoryEntries::New() const {
 }
 
 void DirectoryEntries::Clear() {
+  if (_has_bits_[1 / 32] & (0xffu << (1 % 32))) {
+    if (has_continuation_cursor()) {
+      if (continuation_cursor_ != &::google::protobuf::internal::kEmptyString) {
+        continuation_cursor_->clear();
+      }
+    }
+  }
   entries_.Clear();
   ::memset(_has_bits_, 0, sizeof(_has_bits_));
   mutable_unknown_fields()->Clear();
@@ -2847,6 +3276,23 @@ bool DirectoryEntries::MergePartialFromCodedStream(
           goto handle_uninterpreted;
         }
         if (input->ExpectTag(10)) goto parse_entries;
+        if (input->ExpectTag(18)) goto parse_continuation_cursor;
+        break;
+      }
+
+      // optional string continuation_cursor = 2;
+      case 2: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_continuation_cursor:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadString(
+                input, this->mutable_continuation_cursor()));
+          ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+            this->continuation_cursor().data(), this->continuation_cursor().length(),
+            ::google::protobuf::internal::WireFormat::PARSE);
+        } else {
+          goto handle_uninterpreted;
+        }
         if (input->ExpectAtEnd()) return true;
         break;
       }
@@ -2875,6 +3321,15 @@ void DirectoryEntries::SerializeWithCachedSizes(
       1, this->entries(i), output);
   }
 
+  // optional string continuation_cursor = 2;
+  if (has_continuation_cursor()) {
+    ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+      this->continuation_cursor().data(), this->continuation_cursor().length(),
+      ::google::protobuf::internal::WireFormat::SERIALIZE);
+    ::google::protobuf::internal::WireFormatLite::WriteString(
+      2, this->continuation_cursor(), output);
+  }
+
   if (!unknown_fields().empty()) {
     ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
         unknown_fields(), output);
@@ -2890,6 +3345,16 @@ void DirectoryEntries::SerializeWithCachedSizes(
         1, this->entries(i), target);
   }
 
+  // optional string continuation_cursor = 2;
+  if (has_continuation_cursor()) {
+    ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+      this->continuation_cursor().data(), this->continuation_cursor().length(),
+      ::google::protobuf::internal::WireFormat::SERIALIZE);
+    target =
+      ::google::protobuf::internal::WireFormatLite::WriteStringToArray(
+        2, this->continuation_cursor(), target);
+  }
+
   if (!unknown_fields().empty()) {
     target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
         unknown_fields(), target);
@@ -2900,6 +3365,15 @@ void DirectoryEntries::SerializeWithCachedSizes(
 int DirectoryEntries::ByteSize() const {
   int total_size = 0;
 
+  if (_has_bits_[1 / 32] & (0xffu << (1 % 32))) {
+    // optional string continuation_cursor = 2;
+    if (has_continuation_cursor()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::StringSize(
+          this->continuation_cursor());
+    }
+
+  }
   // repeated .xtreemfs.pbrpc.DirectoryEntry entries = 1;
   total_size += 1 * this->entries_size();
   for (int i = 0; i < this->entries_size(); i++) {
@@ -2934,6 +3408,11 @@ void DirectoryEntries::MergeFrom(const ::google::protobuf::Message& from) {
 void DirectoryEntries::MergeFrom(const DirectoryEntries& from) {
   GOOGLE_CHECK_NE(&from, this);
   entries_.MergeFrom(from.entries_);
+  if (from._has_bits_[1 / 32] & (0xffu << (1 % 32))) {
+    if (from.has_continuation_cursor()) {
+      set_continuation_cursor(from.continuation_cursor());
+    }
+  }
   mutable_unknown_fields()->MergeFrom(from.unknown_fields());
 }
 
@@ -2960,6 +3439,7 @@ bool DirectoryEntries::IsInitialized() const {
 void DirectoryEntries::Swap(DirectoryEntries* other) {
   if (other != this) {
     entries_.Swap(&other->entries_);
+    std::swap(continuation_cursor_, other->continuation_cursor_);
     std::swap(_has_bits_[0], other->_has_bits_[0]);
     _unknown_fields_.Swap(&other->_unknown_fields_);
     std::swap(_cached_size_, other->_cached_size_);
@@ -8242,6 +8722,7 @@ const int readdirRequest::kKnownEtagFieldNumber;
 const int readdirRequest::kLimitDirectoryEntriesCountFieldNumber;
 const int readdirRequest::kNamesOnlyFieldNumber;
 const int readdirRequest::kSeenDirectoryEntriesCountFieldNumber;
+const int readdirRequest::kContinuationCursorFieldNumber;
 #endif  // !_MSC_VER
 
 readdirRequest::readdirRequest()
@@ -8266,6 +8747,7 @@ void readdirRequest::SharedCtor() {
   limit_directory_entries_count_ = 0u;
   names_only_ = false;
   seen_directory_entries_count_ = GOOGLE_ULONGLONG(0);
+  continuation_cursor_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
   ::memset(_has_bits_, 0, sizeof(_has_bits_));
 }
 
@@ -8280,6 +8762,9 @@ void readdirRequest::SharedDtor() {
   if (path_ != &::google::protobuf::internal::kEmptyString) {
     delete path_;
   }
+  if (continuation_cursor_ != &::google::protobuf::internal::kEmptyString) {
+    delete continuation_cursor_;
+  }
   if (this != default_instance_) {
   }
 }
@@ -8321,6 +8806,11 @@ void readdirRequest::Clear() {
     limit_directory_entries_count_ = 0u;
     names_only_ = false;
     seen_directory_entries_count_ = GOOGLE_ULONGLONG(0);
+    if (has_continuation_cursor()) {
+      if (continuation_cursor_ != &::google::protobuf::internal::kEmptyString) {
+        continuation_cursor_->clear();
+      }
+    }
   }
   ::memset(_has_bits_, 0, sizeof(_has_bits_));
   mutable_unknown_fields()->Clear();
@@ -8425,6 +8915,23 @@ bool readdirRequest::MergePartialFromCodedStream(
         } else {
           goto handle_uninterpreted;
         }
+        if (input->ExpectTag(58)) goto parse_continuation_cursor;
+        break;
+      }
+
+      // optional string continuation_cursor = 7;
+      case 7: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_continuation_cursor:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadString(
+                input, this->mutable_continuation_cursor()));
+          ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+            this->continuation_cursor().data(), this->continuation_cursor().length(),
+            ::google::protobuf::internal::WireFormat::PARSE);
+        } else {
+          goto handle_uninterpreted;
+        }
         if (input->ExpectAtEnd()) return true;
         break;
       }
@@ -8485,6 +8992,15 @@ void readdirRequest::SerializeWithCachedSizes(
     ::google::protobuf::internal::WireFormatLite::WriteFixed64(6, this->seen_directory_entries_count(), output);
   }
 
+  // optional string continuation_cursor = 7;
+  if (has_continuation_cursor()) {
+    ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+      this->continuation_cursor().data(), this->continuation_cursor().length(),
+      ::google::protobuf::internal::WireFormat::SERIALIZE);
+    ::google::protobuf::internal::WireFormatLite::WriteString(
+      7, this->continuation_cursor(), output);
+  }
+
   if (!unknown_fields().empty()) {
     ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
         unknown_fields(), output);
@@ -8533,6 +9049,16 @@ void readdirRequest::SerializeWithCachedSizes(
     target = ::google::protobuf::internal::WireFormatLite::WriteFixed64ToArray(6, this->seen_directory_entries_count(), target);
   }
 
+  // optional string continuation_cursor = 7;
+  if (has_continuation_cursor()) {
+    ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+      this->continuation_cursor().data(), this->continuation_cursor().length(),
+      ::google::protobuf::internal::WireFormat::SERIALIZE);
+    target =
+      ::google::protobuf::internal::WireFormatLite::WriteStringToArray(
+        7, this->continuation_cursor(), target);
+  }
+
   if (!unknown_fields().empty()) {
     target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
         unknown_fields(), target);
@@ -8578,6 +9104,13 @@ int readdirRequest::ByteSize() const {
       total_size += 1 + 8;
     }
 
+    // optional string continuation_cursor = 7;
+    if (has_continuation_cursor()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::StringSize(
+          this->continuation_cursor());
+    }
+
   }
   if (!unknown_fields().empty()) {
     total_size +=
@@ -8623,6 +9156,9 @@ void readdirRequest::MergeFrom(const readdirRequest& from) {
     if (from.has_seen_directory_entries_count()) {
       set_seen_directory_entries_count(from.seen_directory_entries_count());
     }
+    if (from.has_continuation_cursor()) {
+      set_continuation_cursor(from.continuation_cursor());
+    }
   }
   mutable_unknown_fields()->MergeFrom(from.unknown_fields());
 }
@@ -8653,6 +9189,7 @@ void readdirRequest::Swap(readdirRequest* other) {
     std::swap(limit_directory_entries_count_, other->limit_directory_entries_count_);
     std::swap(names_only_, other->names_only_);
     std::swap(seen_directory_entries_count_, other->seen_directory_entries_count_);
+    std::swap(continuation_cursor_, other->continuation_cursor_);
     std::swap(_has_bits_[0], other->_has_bits_[0]);
     _unknown_fields_.Swap(&other->_unknown_fields_);
     std::swap(_cached_size_, other->_cached_size_);
@@ -15755,164 +16292,3927 @@ void xtreemfs_replica_listRequest::Swap(xtreemfs_replica_listRequest* other) {
 // ===================================================================
 
 #ifndef _MSC_VER
-const int xtreemfs_get_xlocsetRequest::kFileIdFieldNumber;
-const int xtreemfs_get_xlocsetRequest::kPathFieldNumber;
-const int xtreemfs_get_xlocsetRequest::kVolumeNameFieldNumber;
-const int xtreemfs_get_xlocsetRequest::kXcapFieldNumber;
+const int xtreemfs_renew_capabilitiesRequest::kXcapsFieldNumber;
 #endif  // !_MSC_VER
 
-xtreemfs_get_xlocsetRequest::xtreemfs_get_xlocsetRequest()
+xtreemfs_renew_capabilitiesRequest::xtreemfs_renew_capabilitiesRequest()
   : ::google::protobuf::Message() {
   SharedCtor();
 }
 
-void xtreemfs_get_xlocsetRequest::InitAsDefaultInstance() {
-  xcap_ = const_cast< ::xtreemfs::pbrpc::XCap*>(&::xtreemfs::pbrpc::XCap::default_instance());
+void xtreemfs_renew_capabilitiesRequest::InitAsDefaultInstance() {
 }
 
-xtreemfs_get_xlocsetRequest::xtreemfs_get_xlocsetRequest(const xtreemfs_get_xlocsetRequest& from)
+xtreemfs_renew_capabilitiesRequest::xtreemfs_renew_capabilitiesRequest(const xtreemfs_renew_capabilitiesRequest& from)
   : ::google::protobuf::Message() {
   SharedCtor();
   MergeFrom(from);
 }
 
-void xtreemfs_get_xlocsetRequest::SharedCtor() {
+void xtreemfs_renew_capabilitiesRequest::SharedCtor() {
   _cached_size_ = 0;
-  file_id_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
-  path_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
-  volume_name_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
-  xcap_ = NULL;
   ::memset(_has_bits_, 0, sizeof(_has_bits_));
 }
 
-xtreemfs_get_xlocsetRequest::~xtreemfs_get_xlocsetRequest() {
+xtreemfs_renew_capabilitiesRequest::~xtreemfs_renew_capabilitiesRequest() {
   SharedDtor();
 }
 
-void xtreemfs_get_xlocsetRequest::SharedDtor() {
-  if (file_id_ != &::google::protobuf::internal::kEmptyString) {
-    delete file_id_;
-  }
-  if (path_ != &::google::protobuf::internal::kEmptyString) {
-    delete path_;
-  }
-  if (volume_name_ != &::google::protobuf::internal::kEmptyString) {
-    delete volume_name_;
-  }
+void xtreemfs_renew_capabilitiesRequest::SharedDtor() {
   if (this != default_instance_) {
-    delete xcap_;
   }
 }
 
-void xtreemfs_get_xlocsetRequest::SetCachedSize(int size) const {
+void xtreemfs_renew_capabilitiesRequest::SetCachedSize(int size) const {
   GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
   _cached_size_ = size;
   GOOGLE_SAFE_CONCURRENT_WRITES_END();
 }
-const ::google::protobuf::Descriptor* xtreemfs_get_xlocsetRequest::descriptor() {
+const ::google::protobuf::Descriptor* xtreemfs_renew_capabilitiesRequest::descriptor() {
   protobuf_AssignDescriptorsOnce();
-  return xtreemfs_get_xlocsetRequest_descriptor_;
+  return xtreemfs_renew_capabilitiesRequest_descriptor_;
 }
 
-const xtreemfs_get_xlocsetRequest& xtreemfs_get_xlocsetRequest::default_instance() {
+const xtreemfs_renew_capabilitiesRequest& xtreemfs_renew_capabilitiesRequest::default_instance() {
   if (default_instance_ == NULL) protobuf_AddDesc_xtreemfs_2fMRC_2eproto();
   return *default_instance_;
 }
 
-xtreemfs_get_xlocsetRequest* xtreemfs_get_xlocsetRequest::default_instance_ = NULL;
+xtreemfs_renew_capabilitiesRequest* xtreemfs_renew_capabilitiesRequest::default_instance_ = NULL;
 
-xtreemfs_get_xlocsetRequest* xtreemfs_get_xlocsetRequest::New() const {
-  return new xtreemfs_get_xlocsetRequest;
+xtreemfs_renew_capabilitiesRequest* xtreemfs_renew_capabilitiesRequest::New() const {
+  return new xtreemfs_renew_capabilitiesRequest;
 }
 
-void xtreemfs_get_xlocsetRequest::Clear() {
-  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
-    if (has_file_id()) {
-      if (file_id_ != &::google::protobuf::internal::kEmptyString) {
-        file_id_->clear();
-      }
-    }
-    if (has_path()) {
-      if (path_ != &::google::protobuf::internal::kEmptyString) {
-        path_->clear();
-      }
-    }
-    if (has_volume_name()) {
-      if (volume_name_ != &::google::protobuf::internal::kEmptyString) {
-        volume_name_->clear();
-      }
-    }
-    if (has_xcap()) {
-      if (xcap_ != NULL) xcap_->::xtreemfs::pbrpc::XCap::Clear();
-    }
-  }
+void xtreemfs_renew_capabilitiesRequest::Clear() {
+  xcaps_.Clear();
   ::memset(_has_bits_, 0, sizeof(_has_bits_));
   mutable_unknown_fields()->Clear();
 }
 
-bool xtreemfs_get_xlocsetRequest::MergePartialFromCodedStream(
+bool xtreemfs_renew_capabilitiesRequest::MergePartialFromCodedStream(
     ::google::protobuf::io::CodedInputStream* input) {
 #define DO_(EXPRESSION) if (!(EXPRESSION)) return false
   ::google::protobuf::uint32 tag;
   while ((tag = input->ReadTag()) != 0) {
     switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
-      // optional string file_id = 1;
+      // repeated .xtreemfs.pbrpc.XCap xcaps = 1;
       case 1: {
         if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
             ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
-          DO_(::google::protobuf::internal::WireFormatLite::ReadString(
-                input, this->mutable_file_id()));
-          ::google::protobuf::internal::WireFormat::VerifyUTF8String(
-            this->file_id().data(), this->file_id().length(),
-            ::google::protobuf::internal::WireFormat::PARSE);
+         parse_xcaps:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadMessageNoVirtual(
+                input, add_xcaps()));
         } else {
           goto handle_uninterpreted;
         }
-        if (input->ExpectTag(18)) goto parse_path;
+        if (input->ExpectTag(10)) goto parse_xcaps;
+        if (input->ExpectAtEnd()) return true;
         break;
       }
 
-      // optional string path = 2;
-      case 2: {
+      default: {
+      handle_uninterpreted:
         if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
-            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
-         parse_path:
-          DO_(::google::protobuf::internal::WireFormatLite::ReadString(
-                input, this->mutable_path()));
-          ::google::protobuf::internal::WireFormat::VerifyUTF8String(
-            this->path().data(), this->path().length(),
-            ::google::protobuf::internal::WireFormat::PARSE);
-        } else {
-          goto handle_uninterpreted;
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
         }
-        if (input->ExpectTag(26)) goto parse_volume_name;
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
         break;
       }
+    }
+  }
+  return true;
+#undef DO_
+}
 
-      // optional string volume_name = 3;
-      case 3: {
-        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
-            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
-         parse_volume_name:
-          DO_(::google::protobuf::internal::WireFormatLite::ReadString(
-                input, this->mutable_volume_name()));
+void xtreemfs_renew_capabilitiesRequest::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // repeated .xtreemfs.pbrpc.XCap xcaps = 1;
+  for (int i = 0; i < this->xcaps_size(); i++) {
+    ::google::protobuf::internal::WireFormatLite::WriteMessageMaybeToArray(
+      1, this->xcaps(i), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* xtreemfs_renew_capabilitiesRequest::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // repeated .xtreemfs.pbrpc.XCap xcaps = 1;
+  for (int i = 0; i < this->xcaps_size(); i++) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteMessageNoVirtualToArray(
+        1, this->xcaps(i), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int xtreemfs_renew_capabilitiesRequest::ByteSize() const {
+  int total_size = 0;
+
+  // repeated .xtreemfs.pbrpc.XCap xcaps = 1;
+  total_size += 1 * this->xcaps_size();
+  for (int i = 0; i < this->xcaps_size(); i++) {
+    total_size +=
+      ::google::protobuf::internal::WireFormatLite::MessageSizeNoVirtual(
+        this->xcaps(i));
+  }
+
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void xtreemfs_renew_capabilitiesRequest::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const xtreemfs_renew_capabilitiesRequest* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const xtreemfs_renew_capabilitiesRequest*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void xtreemfs_renew_capabilitiesRequest::MergeFrom(const xtreemfs_renew_capabilitiesRequest& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  xcaps_.MergeFrom(from.xcaps_);
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void xtreemfs_renew_capabilitiesRequest::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void xtreemfs_renew_capabilitiesRequest::CopyFrom(const xtreemfs_renew_capabilitiesRequest& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool xtreemfs_renew_capabilitiesRequest::IsInitialized() const {
+
+  for (int i = 0; i < xcaps_size(); i++) {
+    if (!this->xcaps(i).IsInitialized()) return false;
+  }
+  return true;
+}
+
+void xtreemfs_renew_capabilitiesRequest::Swap(xtreemfs_renew_capabilitiesRequest* other) {
+  if (other != this) {
+    xcaps_.Swap(&other->xcaps_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata xtreemfs_renew_capabilitiesRequest::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = xtreemfs_renew_capabilitiesRequest_descriptor_;
+  metadata.reflection = xtreemfs_renew_capabilitiesRequest_reflection_;
+  return metadata;
+}
+
+
+// ===================================================================
+
+#ifndef _MSC_VER
+const int xtreemfs_renew_capabilitiesResponse::kXcapsFieldNumber;
+#endif  // !_MSC_VER
+
+xtreemfs_renew_capabilitiesResponse::xtreemfs_renew_capabilitiesResponse()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void xtreemfs_renew_capabilitiesResponse::InitAsDefaultInstance() {
+}
+
+xtreemfs_renew_capabilitiesResponse::xtreemfs_renew_capabilitiesResponse(const xtreemfs_renew_capabilitiesResponse& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void xtreemfs_renew_capabilitiesResponse::SharedCtor() {
+  _cached_size_ = 0;
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+xtreemfs_renew_capabilitiesResponse::~xtreemfs_renew_capabilitiesResponse() {
+  SharedDtor();
+}
+
+void xtreemfs_renew_capabilitiesResponse::SharedDtor() {
+  if (this != default_instance_) {
+  }
+}
+
+void xtreemfs_renew_capabilitiesResponse::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* xtreemfs_renew_capabilitiesResponse::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return xtreemfs_renew_capabilitiesResponse_descriptor_;
+}
+
+const xtreemfs_renew_capabilitiesResponse& xtreemfs_renew_capabilitiesResponse::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_xtreemfs_2fMRC_2eproto();
+  return *default_instance_;
+}
+
+xtreemfs_renew_capabilitiesResponse* xtreemfs_renew_capabilitiesResponse::default_instance_ = NULL;
+
+xtreemfs_renew_capabilitiesResponse* xtreemfs_renew_capabilitiesResponse::New() const {
+  return new xtreemfs_renew_capabilitiesResponse;
+}
+
+void xtreemfs_renew_capabilitiesResponse::Clear() {
+  xcaps_.Clear();
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool xtreemfs_renew_capabilitiesResponse::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // repeated .xtreemfs.pbrpc.XCap xcaps = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_xcaps:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadMessageNoVirtual(
+                input, add_xcaps()));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(10)) goto parse_xcaps;
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void xtreemfs_renew_capabilitiesResponse::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // repeated .xtreemfs.pbrpc.XCap xcaps = 1;
+  for (int i = 0; i < this->xcaps_size(); i++) {
+    ::google::protobuf::internal::WireFormatLite::WriteMessageMaybeToArray(
+      1, this->xcaps(i), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* xtreemfs_renew_capabilitiesResponse::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // repeated .xtreemfs.pbrpc.XCap xcaps = 1;
+  for (int i = 0; i < this->xcaps_size(); i++) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteMessageNoVirtualToArray(
+        1, this->xcaps(i), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int xtreemfs_renew_capabilitiesResponse::ByteSize() const {
+  int total_size = 0;
+
+  // repeated .xtreemfs.pbrpc.XCap xcaps = 1;
+  total_size += 1 * this->xcaps_size();
+  for (int i = 0; i < this->xcaps_size(); i++) {
+    total_size +=
+      ::google::protobuf::internal::WireFormatLite::MessageSizeNoVirtual(
+        this->xcaps(i));
+  }
+
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void xtreemfs_renew_capabilitiesResponse::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const xtreemfs_renew_capabilitiesResponse* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const xtreemfs_renew_capabilitiesResponse*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void xtreemfs_renew_capabilitiesResponse::MergeFrom(const xtreemfs_renew_capabilitiesResponse& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  xcaps_.MergeFrom(from.xcaps_);
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void xtreemfs_renew_capabilitiesResponse::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void xtreemfs_renew_capabilitiesResponse::CopyFrom(const xtreemfs_renew_capabilitiesResponse& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool xtreemfs_renew_capabilitiesResponse::IsInitialized() const {
+
+  for (int i = 0; i < xcaps_size(); i++) {
+    if (!this->xcaps(i).IsInitialized()) return false;
+  }
+  return true;
+}
+
+void xtreemfs_renew_capabilitiesResponse::Swap(xtreemfs_renew_capabilitiesResponse* other) {
+  if (other != this) {
+    xcaps_.Swap(&other->xcaps_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata xtreemfs_renew_capabilitiesResponse::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = xtreemfs_renew_capabilitiesResponse_descriptor_;
+  metadata.reflection = xtreemfs_renew_capabilitiesResponse_reflection_;
+  return metadata;
+}
+
+
+// ===================================================================
+
+#ifndef _MSC_VER
+const int xtreemfs_get_xlocsetRequest::kFileIdFieldNumber;
+const int xtreemfs_get_xlocsetRequest::kPathFieldNumber;
+const int xtreemfs_get_xlocsetRequest::kVolumeNameFieldNumber;
+const int xtreemfs_get_xlocsetRequest::kXcapFieldNumber;
+#endif  // !_MSC_VER
+
+xtreemfs_get_xlocsetRequest::xtreemfs_get_xlocsetRequest()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void xtreemfs_get_xlocsetRequest::InitAsDefaultInstance() {
+  xcap_ = const_cast< ::xtreemfs::pbrpc::XCap*>(&::xtreemfs::pbrpc::XCap::default_instance());
+}
+
+xtreemfs_get_xlocsetRequest::xtreemfs_get_xlocsetRequest(const xtreemfs_get_xlocsetRequest& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void xtreemfs_get_xlocsetRequest::SharedCtor() {
+  _cached_size_ = 0;
+  file_id_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  path_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  volume_name_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  xcap_ = NULL;
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+xtreemfs_get_xlocsetRequest::~xtreemfs_get_xlocsetRequest() {
+  SharedDtor();
+}
+
+void xtreemfs_get_xlocsetRequest::SharedDtor() {
+  if (file_id_ != &::google::protobuf::internal::kEmptyString) {
+    delete file_id_;
+  }
+  if (path_ != &::google::protobuf::internal::kEmptyString) {
+    delete path_;
+  }
+  if (volume_name_ != &::google::protobuf::internal::kEmptyString) {
+    delete volume_name_;
+  }
+  if (this != default_instance_) {
+    delete xcap_;
+  }
+}
+
+void xtreemfs_get_xlocsetRequest::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* xtreemfs_get_xlocsetRequest::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return xtreemfs_get_xlocsetRequest_descriptor_;
+}
+
+const xtreemfs_get_xlocsetRequest& xtreemfs_get_xlocsetRequest::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_xtreemfs_2fMRC_2eproto();
+  return *default_instance_;
+}
+
+xtreemfs_get_xlocsetRequest* xtreemfs_get_xlocsetRequest::default_instance_ = NULL;
+
+xtreemfs_get_xlocsetRequest* xtreemfs_get_xlocsetRequest::New() const {
+  return new xtreemfs_get_xlocsetRequest;
+}
+
+void xtreemfs_get_xlocsetRequest::Clear() {
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (has_file_id()) {
+      if (file_id_ != &::google::protobuf::internal::kEmptyString) {
+        file_id_->clear();
+      }
+    }
+    if (has_path()) {
+      if (path_ != &::google::protobuf::internal::kEmptyString) {
+        path_->clear();
+      }
+    }
+    if (has_volume_name()) {
+      if (volume_name_ != &::google::protobuf::internal::kEmptyString) {
+        volume_name_->clear();
+      }
+    }
+    if (has_xcap()) {
+      if (xcap_ != NULL) xcap_->::xtreemfs::pbrpc::XCap::Clear();
+    }
+  }
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool xtreemfs_get_xlocsetRequest::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // optional string file_id = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+          DO_(::google::protobuf::internal::WireFormatLite::ReadString(
+                input, this->mutable_file_id()));
+          ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+            this->file_id().data(), this->file_id().length(),
+            ::google::protobuf::internal::WireFormat::PARSE);
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(18)) goto parse_path;
+        break;
+      }
+
+      // optional string path = 2;
+      case 2: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_path:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadString(
+                input, this->mutable_path()));
+          ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+            this->path().data(), this->path().length(),
+            ::google::protobuf::internal::WireFormat::PARSE);
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(26)) goto parse_volume_name;
+        break;
+      }
+
+      // optional string volume_name = 3;
+      case 3: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_volume_name:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadString(
+                input, this->mutable_volume_name()));
+          ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+            this->volume_name().data(), this->volume_name().length(),
+            ::google::protobuf::internal::WireFormat::PARSE);
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(34)) goto parse_xcap;
+        break;
+      }
+
+      // optional .xtreemfs.pbrpc.XCap xcap = 4;
+      case 4: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_xcap:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadMessageNoVirtual(
+               input, mutable_xcap()));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void xtreemfs_get_xlocsetRequest::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // optional string file_id = 1;
+  if (has_file_id()) {
+    ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+      this->file_id().data(), this->file_id().length(),
+      ::google::protobuf::internal::WireFormat::SERIALIZE);
+    ::google::protobuf::internal::WireFormatLite::WriteString(
+      1, this->file_id(), output);
+  }
+
+  // optional string path = 2;
+  if (has_path()) {
+    ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+      this->path().data(), this->path().length(),
+      ::google::protobuf::internal::WireFormat::SERIALIZE);
+    ::google::protobuf::internal::WireFormatLite::WriteString(
+      2, this->path(), output);
+  }
+
+  // optional string volume_name = 3;
+  if (has_volume_name()) {
+    ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+      this->volume_name().data(), this->volume_name().length(),
+      ::google::protobuf::internal::WireFormat::SERIALIZE);
+    ::google::protobuf::internal::WireFormatLite::WriteString(
+      3, this->volume_name(), output);
+  }
+
+  // optional .xtreemfs.pbrpc.XCap xcap = 4;
+  if (has_xcap()) {
+    ::google::protobuf::internal::WireFormatLite::WriteMessageMaybeToArray(
+      4, this->xcap(), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* xtreemfs_get_xlocsetRequest::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // optional string file_id = 1;
+  if (has_file_id()) {
+    ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+      this->file_id().data(), this->file_id().length(),
+      ::google::protobuf::internal::WireFormat::SERIALIZE);
+    target =
+      ::google::protobuf::internal::WireFormatLite::WriteStringToArray(
+        1, this->file_id(), target);
+  }
+
+  // optional string path = 2;
+  if (has_path()) {
+    ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+      this->path().data(), this->path().length(),
+      ::google::protobuf::internal::WireFormat::SERIALIZE);
+    target =
+      ::google::protobuf::internal::WireFormatLite::WriteStringToArray(
+        2, this->path(), target);
+  }
+
+  // optional string volume_name = 3;
+  if (has_volume_name()) {
+    ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+      this->volume_name().data(), this->volume_name().length(),
+      ::google::protobuf::internal::WireFormat::SERIALIZE);
+    target =
+      ::google::protobuf::internal::WireFormatLite::WriteStringToArray(
+        3, this->volume_name(), target);
+  }
+
+  // optional .xtreemfs.pbrpc.XCap xcap = 4;
+  if (has_xcap()) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteMessageNoVirtualToArray(
+        4, this->xcap(), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int xtreemfs_get_xlocsetRequest::ByteSize() const {
+  int total_size = 0;
+
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    // optional string file_id = 1;
+    if (has_file_id()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::StringSize(
+          this->file_id());
+    }
+
+    // optional string path = 2;
+    if (has_path()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::StringSize(
+          this->path());
+    }
+
+    // optional string volume_name = 3;
+    if (has_volume_name()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::StringSize(
+          this->volume_name());
+    }
+
+    // optional .xtreemfs.pbrpc.XCap xcap = 4;
+    if (has_xcap()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::MessageSizeNoVirtual(
+          this->xcap());
+    }
+
+  }
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void xtreemfs_get_xlocsetRequest::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const xtreemfs_get_xlocsetRequest* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const xtreemfs_get_xlocsetRequest*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void xtreemfs_get_xlocsetRequest::MergeFrom(const xtreemfs_get_xlocsetRequest& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (from.has_file_id()) {
+      set_file_id(from.file_id());
+    }
+    if (from.has_path()) {
+      set_path(from.path());
+    }
+    if (from.has_volume_name()) {
+      set_volume_name(from.volume_name());
+    }
+    if (from.has_xcap()) {
+      mutable_xcap()->::xtreemfs::pbrpc::XCap::MergeFrom(from.xcap());
+    }
+  }
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void xtreemfs_get_xlocsetRequest::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void xtreemfs_get_xlocsetRequest::CopyFrom(const xtreemfs_get_xlocsetRequest& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool xtreemfs_get_xlocsetRequest::IsInitialized() const {
+
+  if (has_xcap()) {
+    if (!this->xcap().IsInitialized()) return false;
+  }
+  return true;
+}
+
+void xtreemfs_get_xlocsetRequest::Swap(xtreemfs_get_xlocsetRequest* other) {
+  if (other != this) {
+    std::swap(file_id_, other->file_id_);
+    std::swap(path_, other->path_);
+    std::swap(volume_name_, other->volume_name_);
+    std::swap(xcap_, other->xcap_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata xtreemfs_get_xlocsetRequest::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = xtreemfs_get_xlocsetRequest_descriptor_;
+  metadata.reflection = xtreemfs_get_xlocsetRequest_reflection_;
+  return metadata;
+}
+
+
+// ===================================================================
+
+#ifndef _MSC_VER
+const int xtreemfs_replica_removeRequest::kFileIdFieldNumber;
+const int xtreemfs_replica_removeRequest::kPathFieldNumber;
+const int xtreemfs_replica_removeRequest::kVolumeNameFieldNumber;
+const int xtreemfs_replica_removeRequest::kOsdUuidFieldNumber;
+#endif  // !_MSC_VER
+
+xtreemfs_replica_removeRequest::xtreemfs_replica_removeRequest()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void xtreemfs_replica_removeRequest::InitAsDefaultInstance() {
+}
+
+xtreemfs_replica_removeRequest::xtreemfs_replica_removeRequest(const xtreemfs_replica_removeRequest& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void xtreemfs_replica_removeRequest::SharedCtor() {
+  _cached_size_ = 0;
+  file_id_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  path_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  volume_name_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  osd_uuid_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+xtreemfs_replica_removeRequest::~xtreemfs_replica_removeRequest() {
+  SharedDtor();
+}
+
+void xtreemfs_replica_removeRequest::SharedDtor() {
+  if (file_id_ != &::google::protobuf::internal::kEmptyString) {
+    delete file_id_;
+  }
+  if (path_ != &::google::protobuf::internal::kEmptyString) {
+    delete path_;
+  }
+  if (volume_name_ != &::google::protobuf::internal::kEmptyString) {
+    delete volume_name_;
+  }
+  if (osd_uuid_ != &::google::protobuf::internal::kEmptyString) {
+    delete osd_uuid_;
+  }
+  if (this != default_instance_) {
+  }
+}
+
+void xtreemfs_replica_removeRequest::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* xtreemfs_replica_removeRequest::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return xtreemfs_replica_removeRequest_descriptor_;
+}
+
+const xtreemfs_replica_removeRequest& xtreemfs_replica_removeRequest::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_xtreemfs_2fMRC_2eproto();
+  return *default_instance_;
+}
+
+xtreemfs_replica_removeRequest* xtreemfs_replica_removeRequest::default_instance_ = NULL;
+
+xtreemfs_replica_removeRequest* xtreemfs_replica_removeRequest::New() const {
+  return new xtreemfs_replica_removeRequest;
+}
+
+void xtreemfs_replica_removeRequest::Clear() {
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (has_file_id()) {
+      if (file_id_ != &::google::protobuf::internal::kEmptyString) {
+        file_id_->clear();
+      }
+    }
+    if (has_path()) {
+      if (path_ != &::google::protobuf::internal::kEmptyString) {
+        path_->clear();
+      }
+    }
+    if (has_volume_name()) {
+      if (volume_name_ != &::google::protobuf::internal::kEmptyString) {
+        volume_name_->clear();
+      }
+    }
+    if (has_osd_uuid()) {
+      if (osd_uuid_ != &::google::protobuf::internal::kEmptyString) {
+        osd_uuid_->clear();
+      }
+    }
+  }
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool xtreemfs_replica_removeRequest::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // optional string file_id = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+          DO_(::google::protobuf::internal::WireFormatLite::ReadString(
+                input, this->mutable_file_id()));
+          ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+            this->file_id().data(), this->file_id().length(),
+            ::google::protobuf::internal::WireFormat::PARSE);
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(18)) goto parse_osd_uuid;
+        break;
+      }
+
+      // required string osd_uuid = 2;
+      case 2: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_osd_uuid:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadString(
+                input, this->mutable_osd_uuid()));
+          ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+            this->osd_uuid().data(), this->osd_uuid().length(),
+            ::google::protobuf::internal::WireFormat::PARSE);
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(26)) goto parse_path;
+        break;
+      }
+
+      // optional string path = 3;
+      case 3: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_path:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadString(
+                input, this->mutable_path()));
+          ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+            this->path().data(), this->path().length(),
+            ::google::protobuf::internal::WireFormat::PARSE);
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(34)) goto parse_volume_name;
+        break;
+      }
+
+      // optional string volume_name = 4;
+      case 4: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_volume_name:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadString(
+                input, this->mutable_volume_name()));
+          ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+            this->volume_name().data(), this->volume_name().length(),
+            ::google::protobuf::internal::WireFormat::PARSE);
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void xtreemfs_replica_removeRequest::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // optional string file_id = 1;
+  if (has_file_id()) {
+    ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+      this->file_id().data(), this->file_id().length(),
+      ::google::protobuf::internal::WireFormat::SERIALIZE);
+    ::google::protobuf::internal::WireFormatLite::WriteString(
+      1, this->file_id(), output);
+  }
+
+  // required string osd_uuid = 2;
+  if (has_osd_uuid()) {
+    ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+      this->osd_uuid().data(), this->osd_uuid().length(),
+      ::google::protobuf::internal::WireFormat::SERIALIZE);
+    ::google::protobuf::internal::WireFormatLite::WriteString(
+      2, this->osd_uuid(), output);
+  }
+
+  // optional string path = 3;
+  if (has_path()) {
+    ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+      this->path().data(), this->path().length(),
+      ::google::protobuf::internal::WireFormat::SERIALIZE);
+    ::google::protobuf::internal::WireFormatLite::WriteString(
+      3, this->path(), output);
+  }
+
+  // optional string volume_name = 4;
+  if (has_volume_name()) {
+    ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+      this->volume_name().data(), this->volume_name().length(),
+      ::google::protobuf::internal::WireFormat::SERIALIZE);
+    ::google::protobuf::internal::WireFormatLite::WriteString(
+      4, this->volume_name(), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* xtreemfs_replica_removeRequest::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // optional string file_id = 1;
+  if (has_file_id()) {
+    ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+      this->file_id().data(), this->file_id().length(),
+      ::google::protobuf::internal::WireFormat::SERIALIZE);
+    target =
+      ::google::protobuf::internal::WireFormatLite::WriteStringToArray(
+        1, this->file_id(), target);
+  }
+
+  // required string osd_uuid = 2;
+  if (has_osd_uuid()) {
+    ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+      this->osd_uuid().data(), this->osd_uuid().length(),
+      ::google::protobuf::internal::WireFormat::SERIALIZE);
+    target =
+      ::google::protobuf::internal::WireFormatLite::WriteStringToArray(
+        2, this->osd_uuid(), target);
+  }
+
+  // optional string path = 3;
+  if (has_path()) {
+    ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+      this->path().data(), this->path().length(),
+      ::google::protobuf::internal::WireFormat::SERIALIZE);
+    target =
+      ::google::protobuf::internal::WireFormatLite::WriteStringToArray(
+        3, this->path(), target);
+  }
+
+  // optional string volume_name = 4;
+  if (has_volume_name()) {
+    ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+      this->volume_name().data(), this->volume_name().length(),
+      ::google::protobuf::internal::WireFormat::SERIALIZE);
+    target =
+      ::google::protobuf::internal::WireFormatLite::WriteStringToArray(
+        4, this->volume_name(), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int xtreemfs_replica_removeRequest::ByteSize() const {
+  int total_size = 0;
+
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    // optional string file_id = 1;
+    if (has_file_id()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::StringSize(
+          this->file_id());
+    }
+
+    // optional string path = 3;
+    if (has_path()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::StringSize(
+          this->path());
+    }
+
+    // optional string volume_name = 4;
+    if (has_volume_name()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::StringSize(
+          this->volume_name());
+    }
+
+    // required string osd_uuid = 2;
+    if (has_osd_uuid()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::StringSize(
+          this->osd_uuid());
+    }
+
+  }
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void xtreemfs_replica_removeRequest::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const xtreemfs_replica_removeRequest* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const xtreemfs_replica_removeRequest*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void xtreemfs_replica_removeRequest::MergeFrom(const xtreemfs_replica_removeRequest& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (from.has_file_id()) {
+      set_file_id(from.file_id());
+    }
+    if (from.has_path()) {
+      set_path(from.path());
+    }
+    if (from.has_volume_name()) {
+      set_volume_name(from.volume_name());
+    }
+    if (from.has_osd_uuid()) {
+      set_osd_uuid(from.osd_uuid());
+    }
+  }
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void xtreemfs_replica_removeRequest::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void xtreemfs_replica_removeRequest::CopyFrom(const xtreemfs_replica_removeRequest& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool xtreemfs_replica_removeRequest::IsInitialized() const {
+  if ((_has_bits_[0] & 0x00000008) != 0x00000008) return false;
+
+  return true;
+}
+
+void xtreemfs_replica_removeRequest::Swap(xtreemfs_replica_removeRequest* other) {
+  if (other != this) {
+    std::swap(file_id_, other->file_id_);
+    std::swap(path_, other->path_);
+    std::swap(volume_name_, other->volume_name_);
+    std::swap(osd_uuid_, other->osd_uuid_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata xtreemfs_replica_removeRequest::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = xtreemfs_replica_removeRequest_descriptor_;
+  metadata.reflection = xtreemfs_replica_removeRequest_reflection_;
+  return metadata;
+}
+
+
+// ===================================================================
+
+#ifndef _MSC_VER
+const int xtreemfs_restore_fileRequest::kFilePathFieldNumber;
+const int xtreemfs_restore_fileRequest::kFileIdFieldNumber;
+const int xtreemfs_restore_fileRequest::kFileSizeFieldNumber;
+const int xtreemfs_restore_fileRequest::kOsdUuidFieldNumber;
+const int xtreemfs_restore_fileRequest::kStripeSizeFieldNumber;
+#endif  // !_MSC_VER
+
+xtreemfs_restore_fileRequest::xtreemfs_restore_fileRequest()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void xtreemfs_restore_fileRequest::InitAsDefaultInstance() {
+}
+
+xtreemfs_restore_fileRequest::xtreemfs_restore_fileRequest(const xtreemfs_restore_fileRequest& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void xtreemfs_restore_fileRequest::SharedCtor() {
+  _cached_size_ = 0;
+  file_path_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  file_id_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  file_size_ = GOOGLE_ULONGLONG(0);
+  osd_uuid_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  stripe_size_ = 0u;
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+xtreemfs_restore_fileRequest::~xtreemfs_restore_fileRequest() {
+  SharedDtor();
+}
+
+void xtreemfs_restore_fileRequest::SharedDtor() {
+  if (file_path_ != &::google::protobuf::internal::kEmptyString) {
+    delete file_path_;
+  }
+  if (file_id_ != &::google::protobuf::internal::kEmptyString) {
+    delete file_id_;
+  }
+  if (osd_uuid_ != &::google::protobuf::internal::kEmptyString) {
+    delete osd_uuid_;
+  }
+  if (this != default_instance_) {
+  }
+}
+
+void xtreemfs_restore_fileRequest::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* xtreemfs_restore_fileRequest::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return xtreemfs_restore_fileRequest_descriptor_;
+}
+
+const xtreemfs_restore_fileRequest& xtreemfs_restore_fileRequest::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_xtreemfs_2fMRC_2eproto();
+  return *default_instance_;
+}
+
+xtreemfs_restore_fileRequest* xtreemfs_restore_fileRequest::default_instance_ = NULL;
+
+xtreemfs_restore_fileRequest* xtreemfs_restore_fileRequest::New() const {
+  return new xtreemfs_restore_fileRequest;
+}
+
+void xtreemfs_restore_fileRequest::Clear() {
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (has_file_path()) {
+      if (file_path_ != &::google::protobuf::internal::kEmptyString) {
+        file_path_->clear();
+      }
+    }
+    if (has_file_id()) {
+      if (file_id_ != &::google::protobuf::internal::kEmptyString) {
+        file_id_->clear();
+      }
+    }
+    file_size_ = GOOGLE_ULONGLONG(0);
+    if (has_osd_uuid()) {
+      if (osd_uuid_ != &::google::protobuf::internal::kEmptyString) {
+        osd_uuid_->clear();
+      }
+    }
+    stripe_size_ = 0u;
+  }
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool xtreemfs_restore_fileRequest::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // required string file_path = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+          DO_(::google::protobuf::internal::WireFormatLite::ReadString(
+                input, this->mutable_file_path()));
+          ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+            this->file_path().data(), this->file_path().length(),
+            ::google::protobuf::internal::WireFormat::PARSE);
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(18)) goto parse_file_id;
+        break;
+      }
+
+      // required string file_id = 2;
+      case 2: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_file_id:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadString(
+                input, this->mutable_file_id()));
+          ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+            this->file_id().data(), this->file_id().length(),
+            ::google::protobuf::internal::WireFormat::PARSE);
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(25)) goto parse_file_size;
+        break;
+      }
+
+      // required fixed64 file_size = 3;
+      case 3: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_FIXED64) {
+         parse_file_size:
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   ::google::protobuf::uint64, ::google::protobuf::internal::WireFormatLite::TYPE_FIXED64>(
+                 input, &file_size_)));
+          set_has_file_size();
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(34)) goto parse_osd_uuid;
+        break;
+      }
+
+      // required string osd_uuid = 4;
+      case 4: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_osd_uuid:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadString(
+                input, this->mutable_osd_uuid()));
+          ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+            this->osd_uuid().data(), this->osd_uuid().length(),
+            ::google::protobuf::internal::WireFormat::PARSE);
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(45)) goto parse_stripe_size;
+        break;
+      }
+
+      // required fixed32 stripe_size = 5;
+      case 5: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_FIXED32) {
+         parse_stripe_size:
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_FIXED32>(
+                 input, &stripe_size_)));
+          set_has_stripe_size();
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void xtreemfs_restore_fileRequest::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // required string file_path = 1;
+  if (has_file_path()) {
+    ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+      this->file_path().data(), this->file_path().length(),
+      ::google::protobuf::internal::WireFormat::SERIALIZE);
+    ::google::protobuf::internal::WireFormatLite::WriteString(
+      1, this->file_path(), output);
+  }
+
+  // required string file_id = 2;
+  if (has_file_id()) {
+    ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+      this->file_id().data(), this->file_id().length(),
+      ::google::protobuf::internal::WireFormat::SERIALIZE);
+    ::google::protobuf::internal::WireFormatLite::WriteString(
+      2, this->file_id(), output);
+  }
+
+  // required fixed64 file_size = 3;
+  if (has_file_size()) {
+    ::google::protobuf::internal::WireFormatLite::WriteFixed64(3, this->file_size(), output);
+  }
+
+  // required string osd_uuid = 4;
+  if (has_osd_uuid()) {
+    ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+      this->osd_uuid().data(), this->osd_uuid().length(),
+      ::google::protobuf::internal::WireFormat::SERIALIZE);
+    ::google::protobuf::internal::WireFormatLite::WriteString(
+      4, this->osd_uuid(), output);
+  }
+
+  // required fixed32 stripe_size = 5;
+  if (has_stripe_size()) {
+    ::google::protobuf::internal::WireFormatLite::WriteFixed32(5, this->stripe_size(), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* xtreemfs_restore_fileRequest::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // required string file_path = 1;
+  if (has_file_path()) {
+    ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+      this->file_path().data(), this->file_path().length(),
+      ::google::protobuf::internal::WireFormat::SERIALIZE);
+    target =
+      ::google::protobuf::internal::WireFormatLite::WriteStringToArray(
+        1, this->file_path(), target);
+  }
+
+  // required string file_id = 2;
+  if (has_file_id()) {
+    ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+      this->file_id().data(), this->file_id().length(),
+      ::google::protobuf::internal::WireFormat::SERIALIZE);
+    target =
+      ::google::protobuf::internal::WireFormatLite::WriteStringToArray(
+        2, this->file_id(), target);
+  }
+
+  // required fixed64 file_size = 3;
+  if (has_file_size()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteFixed64ToArray(3, this->file_size(), target);
+  }
+
+  // required string osd_uuid = 4;
+  if (has_osd_uuid()) {
+    ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+      this->osd_uuid().data(), this->osd_uuid().length(),
+      ::google::protobuf::internal::WireFormat::SERIALIZE);
+    target =
+      ::google::protobuf::internal::WireFormatLite::WriteStringToArray(
+        4, this->osd_uuid(), target);
+  }
+
+  // required fixed32 stripe_size = 5;
+  if (has_stripe_size()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteFixed32ToArray(5, this->stripe_size(), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int xtreemfs_restore_fileRequest::ByteSize() const {
+  int total_size = 0;
+
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    // required string file_path = 1;
+    if (has_file_path()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::StringSize(
+          this->file_path());
+    }
+
+    // required string file_id = 2;
+    if (has_file_id()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::StringSize(
+          this->file_id());
+    }
+
+    // required fixed64 file_size = 3;
+    if (has_file_size()) {
+      total_size += 1 + 8;
+    }
+
+    // required string osd_uuid = 4;
+    if (has_osd_uuid()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::StringSize(
+          this->osd_uuid());
+    }
+
+    // required fixed32 stripe_size = 5;
+    if (has_stripe_size()) {
+      total_size += 1 + 4;
+    }
+
+  }
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void xtreemfs_restore_fileRequest::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const xtreemfs_restore_fileRequest* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const xtreemfs_restore_fileRequest*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void xtreemfs_restore_fileRequest::MergeFrom(const xtreemfs_restore_fileRequest& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (from.has_file_path()) {
+      set_file_path(from.file_path());
+    }
+    if (from.has_file_id()) {
+      set_file_id(from.file_id());
+    }
+    if (from.has_file_size()) {
+      set_file_size(from.file_size());
+    }
+    if (from.has_osd_uuid()) {
+      set_osd_uuid(from.osd_uuid());
+    }
+    if (from.has_stripe_size()) {
+      set_stripe_size(from.stripe_size());
+    }
+  }
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void xtreemfs_restore_fileRequest::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void xtreemfs_restore_fileRequest::CopyFrom(const xtreemfs_restore_fileRequest& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool xtreemfs_restore_fileRequest::IsInitialized() const {
+  if ((_has_bits_[0] & 0x0000001f) != 0x0000001f) return false;
+
+  return true;
+}
+
+void xtreemfs_restore_fileRequest::Swap(xtreemfs_restore_fileRequest* other) {
+  if (other != this) {
+    std::swap(file_path_, other->file_path_);
+    std::swap(file_id_, other->file_id_);
+    std::swap(file_size_, other->file_size_);
+    std::swap(osd_uuid_, other->osd_uuid_);
+    std::swap(stripe_size_, other->stripe_size_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata xtreemfs_restore_fileRequest::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = xtreemfs_restore_fileRequest_descriptor_;
+  metadata.reflection = xtreemfs_restore_fileRequest_reflection_;
+  return metadata;
+}
+
+
+// ===================================================================
+
+#ifndef _MSC_VER
+const int xtreemfs_rmvolRequest::kVolumeNameFieldNumber;
+#endif  // !_MSC_VER
+
+xtreemfs_rmvolRequest::xtreemfs_rmvolRequest()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void xtreemfs_rmvolRequest::InitAsDefaultInstance() {
+}
+
+xtreemfs_rmvolRequest::xtreemfs_rmvolRequest(const xtreemfs_rmvolRequest& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void xtreemfs_rmvolRequest::SharedCtor() {
+  _cached_size_ = 0;
+  volume_name_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+xtreemfs_rmvolRequest::~xtreemfs_rmvolRequest() {
+  SharedDtor();
+}
+
+void xtreemfs_rmvolRequest::SharedDtor() {
+  if (volume_name_ != &::google::protobuf::internal::kEmptyString) {
+    delete volume_name_;
+  }
+  if (this != default_instance_) {
+  }
+}
+
+void xtreemfs_rmvolRequest::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* xtreemfs_rmvolRequest::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return xtreemfs_rmvolRequest_descriptor_;
+}
+
+const xtreemfs_rmvolRequest& xtreemfs_rmvolRequest::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_xtreemfs_2fMRC_2eproto();
+  return *default_instance_;
+}
+
+xtreemfs_rmvolRequest* xtreemfs_rmvolRequest::default_instance_ = NULL;
+
+xtreemfs_rmvolRequest* xtreemfs_rmvolRequest::New() const {
+  return new xtreemfs_rmvolRequest;
+}
+
+void xtreemfs_rmvolRequest::Clear() {
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (has_volume_name()) {
+      if (volume_name_ != &::google::protobuf::internal::kEmptyString) {
+        volume_name_->clear();
+      }
+    }
+  }
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool xtreemfs_rmvolRequest::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // required string volume_name = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+          DO_(::google::protobuf::internal::WireFormatLite::ReadString(
+                input, this->mutable_volume_name()));
+          ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+            this->volume_name().data(), this->volume_name().length(),
+            ::google::protobuf::internal::WireFormat::PARSE);
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void xtreemfs_rmvolRequest::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // required string volume_name = 1;
+  if (has_volume_name()) {
+    ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+      this->volume_name().data(), this->volume_name().length(),
+      ::google::protobuf::internal::WireFormat::SERIALIZE);
+    ::google::protobuf::internal::WireFormatLite::WriteString(
+      1, this->volume_name(), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* xtreemfs_rmvolRequest::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // required string volume_name = 1;
+  if (has_volume_name()) {
+    ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+      this->volume_name().data(), this->volume_name().length(),
+      ::google::protobuf::internal::WireFormat::SERIALIZE);
+    target =
+      ::google::protobuf::internal::WireFormatLite::WriteStringToArray(
+        1, this->volume_name(), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int xtreemfs_rmvolRequest::ByteSize() const {
+  int total_size = 0;
+
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    // required string volume_name = 1;
+    if (has_volume_name()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::StringSize(
+          this->volume_name());
+    }
+
+  }
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void xtreemfs_rmvolRequest::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const xtreemfs_rmvolRequest* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const xtreemfs_rmvolRequest*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void xtreemfs_rmvolRequest::MergeFrom(const xtreemfs_rmvolRequest& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (from.has_volume_name()) {
+      set_volume_name(from.volume_name());
+    }
+  }
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void xtreemfs_rmvolRequest::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void xtreemfs_rmvolRequest::CopyFrom(const xtreemfs_rmvolRequest& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool xtreemfs_rmvolRequest::IsInitialized() const {
+  if ((_has_bits_[0] & 0x00000001) != 0x00000001) return false;
+
+  return true;
+}
+
+void xtreemfs_rmvolRequest::Swap(xtreemfs_rmvolRequest* other) {
+  if (other != this) {
+    std::swap(volume_name_, other->volume_name_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata xtreemfs_rmvolRequest::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = xtreemfs_rmvolRequest_descriptor_;
+  metadata.reflection = xtreemfs_rmvolRequest_reflection_;
+  return metadata;
+}
+
+
+// ===================================================================
+
+#ifndef _MSC_VER
+const int xtreemfs_update_file_sizeRequest::kXcapFieldNumber;
+const int xtreemfs_update_file_sizeRequest::kOsdWriteResponseFieldNumber;
+const int xtreemfs_update_file_sizeRequest::kCloseFileFieldNumber;
+const int xtreemfs_update_file_sizeRequest::kCoordinatesFieldNumber;
+#endif  // !_MSC_VER
+
+xtreemfs_update_file_sizeRequest::xtreemfs_update_file_sizeRequest()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void xtreemfs_update_file_sizeRequest::InitAsDefaultInstance() {
+  xcap_ = const_cast< ::xtreemfs::pbrpc::XCap*>(&::xtreemfs::pbrpc::XCap::default_instance());
+  osd_write_response_ = const_cast< ::xtreemfs::pbrpc::OSDWriteResponse*>(&::xtreemfs::pbrpc::OSDWriteResponse::default_instance());
+  coordinates_ = const_cast< ::xtreemfs::pbrpc::VivaldiCoordinates*>(&::xtreemfs::pbrpc::VivaldiCoordinates::default_instance());
+}
+
+xtreemfs_update_file_sizeRequest::xtreemfs_update_file_sizeRequest(const xtreemfs_update_file_sizeRequest& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void xtreemfs_update_file_sizeRequest::SharedCtor() {
+  _cached_size_ = 0;
+  xcap_ = NULL;
+  osd_write_response_ = NULL;
+  close_file_ = false;
+  coordinates_ = NULL;
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+xtreemfs_update_file_sizeRequest::~xtreemfs_update_file_sizeRequest() {
+  SharedDtor();
+}
+
+void xtreemfs_update_file_sizeRequest::SharedDtor() {
+  if (this != default_instance_) {
+    delete xcap_;
+    delete osd_write_response_;
+    delete coordinates_;
+  }
+}
+
+void xtreemfs_update_file_sizeRequest::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* xtreemfs_update_file_sizeRequest::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return xtreemfs_update_file_sizeRequest_descriptor_;
+}
+
+const xtreemfs_update_file_sizeRequest& xtreemfs_update_file_sizeRequest::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_xtreemfs_2fMRC_2eproto();
+  return *default_instance_;
+}
+
+xtreemfs_update_file_sizeRequest* xtreemfs_update_file_sizeRequest::default_instance_ = NULL;
+
+xtreemfs_update_file_sizeRequest* xtreemfs_update_file_sizeRequest::New() const {
+  return new xtreemfs_update_file_sizeRequest;
+}
+
+void xtreemfs_update_file_sizeRequest::Clear() {
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (has_xcap()) {
+      if (xcap_ != NULL) xcap_->::xtreemfs::pbrpc::XCap::Clear();
+    }
+    if (has_osd_write_response()) {
+      if (osd_write_response_ != NULL) osd_write_response_->::xtreemfs::pbrpc::OSDWriteResponse::Clear();
+    }
+    close_file_ = false;
+    if (has_coordinates()) {
+      if (coordinates_ != NULL) coordinates_->::xtreemfs::pbrpc::VivaldiCoordinates::Clear();
+    }
+  }
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool xtreemfs_update_file_sizeRequest::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // required .xtreemfs.pbrpc.XCap xcap = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+          DO_(::google::protobuf::internal::WireFormatLite::ReadMessageNoVirtual(
+               input, mutable_xcap()));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(18)) goto parse_osd_write_response;
+        break;
+      }
+
+      // required .xtreemfs.pbrpc.OSDWriteResponse osd_write_response = 2;
+      case 2: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_osd_write_response:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadMessageNoVirtual(
+               input, mutable_osd_write_response()));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(24)) goto parse_close_file;
+        break;
+      }
+
+      // optional bool close_file = 3;
+      case 3: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+         parse_close_file:
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   bool, ::google::protobuf::internal::WireFormatLite::TYPE_BOOL>(
+                 input, &close_file_)));
+          set_has_close_file();
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(34)) goto parse_coordinates;
+        break;
+      }
+
+      // optional .xtreemfs.pbrpc.VivaldiCoordinates coordinates = 4;
+      case 4: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_coordinates:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadMessageNoVirtual(
+               input, mutable_coordinates()));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void xtreemfs_update_file_sizeRequest::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // required .xtreemfs.pbrpc.XCap xcap = 1;
+  if (has_xcap()) {
+    ::google::protobuf::internal::WireFormatLite::WriteMessageMaybeToArray(
+      1, this->xcap(), output);
+  }
+
+  // required .xtreemfs.pbrpc.OSDWriteResponse osd_write_response = 2;
+  if (has_osd_write_response()) {
+    ::google::protobuf::internal::WireFormatLite::WriteMessageMaybeToArray(
+      2, this->osd_write_response(), output);
+  }
+
+  // optional bool close_file = 3;
+  if (has_close_file()) {
+    ::google::protobuf::internal::WireFormatLite::WriteBool(3, this->close_file(), output);
+  }
+
+  // optional .xtreemfs.pbrpc.VivaldiCoordinates coordinates = 4;
+  if (has_coordinates()) {
+    ::google::protobuf::internal::WireFormatLite::WriteMessageMaybeToArray(
+      4, this->coordinates(), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* xtreemfs_update_file_sizeRequest::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // required .xtreemfs.pbrpc.XCap xcap = 1;
+  if (has_xcap()) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteMessageNoVirtualToArray(
+        1, this->xcap(), target);
+  }
+
+  // required .xtreemfs.pbrpc.OSDWriteResponse osd_write_response = 2;
+  if (has_osd_write_response()) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteMessageNoVirtualToArray(
+        2, this->osd_write_response(), target);
+  }
+
+  // optional bool close_file = 3;
+  if (has_close_file()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteBoolToArray(3, this->close_file(), target);
+  }
+
+  // optional .xtreemfs.pbrpc.VivaldiCoordinates coordinates = 4;
+  if (has_coordinates()) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteMessageNoVirtualToArray(
+        4, this->coordinates(), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int xtreemfs_update_file_sizeRequest::ByteSize() const {
+  int total_size = 0;
+
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    // required .xtreemfs.pbrpc.XCap xcap = 1;
+    if (has_xcap()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::MessageSizeNoVirtual(
+          this->xcap());
+    }
+
+    // required .xtreemfs.pbrpc.OSDWriteResponse osd_write_response = 2;
+    if (has_osd_write_response()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::MessageSizeNoVirtual(
+          this->osd_write_response());
+    }
+
+    // optional bool close_file = 3;
+    if (has_close_file()) {
+      total_size += 1 + 1;
+    }
+
+    // optional .xtreemfs.pbrpc.VivaldiCoordinates coordinates = 4;
+    if (has_coordinates()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::MessageSizeNoVirtual(
+          this->coordinates());
+    }
+
+  }
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void xtreemfs_update_file_sizeRequest::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const xtreemfs_update_file_sizeRequest* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const xtreemfs_update_file_sizeRequest*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void xtreemfs_update_file_sizeRequest::MergeFrom(const xtreemfs_update_file_sizeRequest& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (from.has_xcap()) {
+      mutable_xcap()->::xtreemfs::pbrpc::XCap::MergeFrom(from.xcap());
+    }
+    if (from.has_osd_write_response()) {
+      mutable_osd_write_response()->::xtreemfs::pbrpc::OSDWriteResponse::MergeFrom(from.osd_write_response());
+    }
+    if (from.has_close_file()) {
+      set_close_file(from.close_file());
+    }
+    if (from.has_coordinates()) {
+      mutable_coordinates()->::xtreemfs::pbrpc::VivaldiCoordinates::MergeFrom(from.coordinates());
+    }
+  }
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void xtreemfs_update_file_sizeRequest::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void xtreemfs_update_file_sizeRequest::CopyFrom(const xtreemfs_update_file_sizeRequest& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool xtreemfs_update_file_sizeRequest::IsInitialized() const {
+  if ((_has_bits_[0] & 0x00000003) != 0x00000003) return false;
+
+  if (has_xcap()) {
+    if (!this->xcap().IsInitialized()) return false;
+  }
+  if (has_coordinates()) {
+    if (!this->coordinates().IsInitialized()) return false;
+  }
+  return true;
+}
+
+void xtreemfs_update_file_sizeRequest::Swap(xtreemfs_update_file_sizeRequest* other) {
+  if (other != this) {
+    std::swap(xcap_, other->xcap_);
+    std::swap(osd_write_response_, other->osd_write_response_);
+    std::swap(close_file_, other->close_file_);
+    std::swap(coordinates_, other->coordinates_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata xtreemfs_update_file_sizeRequest::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = xtreemfs_update_file_sizeRequest_descriptor_;
+  metadata.reflection = xtreemfs_update_file_sizeRequest_reflection_;
+  return metadata;
+}
+
+
+// ===================================================================
+
+#ifndef _MSC_VER
+const int xtreemfs_update_file_sizesRequest::kUpdatesFieldNumber;
+#endif  // !_MSC_VER
+
+xtreemfs_update_file_sizesRequest::xtreemfs_update_file_sizesRequest()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void xtreemfs_update_file_sizesRequest::InitAsDefaultInstance() {
+}
+
+xtreemfs_update_file_sizesRequest::xtreemfs_update_file_sizesRequest(const xtreemfs_update_file_sizesRequest& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void xtreemfs_update_file_sizesRequest::SharedCtor() {
+  _cached_size_ = 0;
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+xtreemfs_update_file_sizesRequest::~xtreemfs_update_file_sizesRequest() {
+  SharedDtor();
+}
+
+void xtreemfs_update_file_sizesRequest::SharedDtor() {
+  if (this != default_instance_) {
+  }
+}
+
+void xtreemfs_update_file_sizesRequest::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* xtreemfs_update_file_sizesRequest::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return xtreemfs_update_file_sizesRequest_descriptor_;
+}
+
+const xtreemfs_update_file_sizesRequest& xtreemfs_update_file_sizesRequest::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_xtreemfs_2fMRC_2eproto();
+  return *default_instance_;
+}
+
+xtreemfs_update_file_sizesRequest* xtreemfs_update_file_sizesRequest::default_instance_ = NULL;
+
+xtreemfs_update_file_sizesRequest* xtreemfs_update_file_sizesRequest::New() const {
+  return new xtreemfs_update_file_sizesRequest;
+}
+
+void xtreemfs_update_file_sizesRequest::Clear() {
+  updates_.Clear();
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool xtreemfs_update_file_sizesRequest::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // repeated .xtreemfs.pbrpc.xtreemfs_update_file_sizeRequest updates = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_updates:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadMessageNoVirtual(
+                input, add_updates()));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(10)) goto parse_updates;
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void xtreemfs_update_file_sizesRequest::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // repeated .xtreemfs.pbrpc.xtreemfs_update_file_sizeRequest updates = 1;
+  for (int i = 0; i < this->updates_size(); i++) {
+    ::google::protobuf::internal::WireFormatLite::WriteMessageMaybeToArray(
+      1, this->updates(i), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* xtreemfs_update_file_sizesRequest::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // repeated .xtreemfs.pbrpc.xtreemfs_update_file_sizeRequest updates = 1;
+  for (int i = 0; i < this->updates_size(); i++) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteMessageNoVirtualToArray(
+        1, this->updates(i), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int xtreemfs_update_file_sizesRequest::ByteSize() const {
+  int total_size = 0;
+
+  // repeated .xtreemfs.pbrpc.xtreemfs_update_file_sizeRequest updates = 1;
+  total_size += 1 * this->updates_size();
+  for (int i = 0; i < this->updates_size(); i++) {
+    total_size +=
+      ::google::protobuf::internal::WireFormatLite::MessageSizeNoVirtual(
+        this->updates(i));
+  }
+
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void xtreemfs_update_file_sizesRequest::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const xtreemfs_update_file_sizesRequest* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const xtreemfs_update_file_sizesRequest*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void xtreemfs_update_file_sizesRequest::MergeFrom(const xtreemfs_update_file_sizesRequest& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  updates_.MergeFrom(from.updates_);
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void xtreemfs_update_file_sizesRequest::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void xtreemfs_update_file_sizesRequest::CopyFrom(const xtreemfs_update_file_sizesRequest& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool xtreemfs_update_file_sizesRequest::IsInitialized() const {
+
+  for (int i = 0; i < updates_size(); i++) {
+    if (!this->updates(i).IsInitialized()) return false;
+  }
+  return true;
+}
+
+void xtreemfs_update_file_sizesRequest::Swap(xtreemfs_update_file_sizesRequest* other) {
+  if (other != this) {
+    updates_.Swap(&other->updates_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata xtreemfs_update_file_sizesRequest::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = xtreemfs_update_file_sizesRequest_descriptor_;
+  metadata.reflection = xtreemfs_update_file_sizesRequest_reflection_;
+  return metadata;
+}
+
+
+// ===================================================================
+
+#ifndef _MSC_VER
+const int xtreemfs_update_file_sizesResponse::kSuccessFieldNumber;
+#endif  // !_MSC_VER
+
+xtreemfs_update_file_sizesResponse::xtreemfs_update_file_sizesResponse()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void xtreemfs_update_file_sizesResponse::InitAsDefaultInstance() {
+}
+
+xtreemfs_update_file_sizesResponse::xtreemfs_update_file_sizesResponse(const xtreemfs_update_file_sizesResponse& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void xtreemfs_update_file_sizesResponse::SharedCtor() {
+  _cached_size_ = 0;
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+xtreemfs_update_file_sizesResponse::~xtreemfs_update_file_sizesResponse() {
+  SharedDtor();
+}
+
+void xtreemfs_update_file_sizesResponse::SharedDtor() {
+  if (this != default_instance_) {
+  }
+}
+
+void xtreemfs_update_file_sizesResponse::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* xtreemfs_update_file_sizesResponse::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return xtreemfs_update_file_sizesResponse_descriptor_;
+}
+
+const xtreemfs_update_file_sizesResponse& xtreemfs_update_file_sizesResponse::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_xtreemfs_2fMRC_2eproto();
+  return *default_instance_;
+}
+
+xtreemfs_update_file_sizesResponse* xtreemfs_update_file_sizesResponse::default_instance_ = NULL;
+
+xtreemfs_update_file_sizesResponse* xtreemfs_update_file_sizesResponse::New() const {
+  return new xtreemfs_update_file_sizesResponse;
+}
+
+void xtreemfs_update_file_sizesResponse::Clear() {
+  success_.Clear();
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool xtreemfs_update_file_sizesResponse::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // repeated bool success = 1 [packed = true];
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPackedPrimitive<
+                   bool, ::google::protobuf::internal::WireFormatLite::TYPE_BOOL>(
+                 input, this->mutable_success())));
+        } else if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag)
+                   == ::google::protobuf::internal::WireFormatLite::
+                      WIRETYPE_VARINT) {
+          DO_((::google::protobuf::internal::WireFormatLite::ReadRepeatedPrimitiveNoInline<
+                   bool, ::google::protobuf::internal::WireFormatLite::TYPE_BOOL>(
+                 1, 10, input, this->mutable_success())));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void xtreemfs_update_file_sizesResponse::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // repeated bool success = 1 [packed = true];
+  if (this->success_size() > 0) {
+    ::google::protobuf::internal::WireFormatLite::WriteTag(1, ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED, output);
+    output->WriteVarint32(_success_cached_byte_size_);
+  }
+  for (int i = 0; i < this->success_size(); i++) {
+    ::google::protobuf::internal::WireFormatLite::WriteBoolNoTag(
+      this->success(i), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* xtreemfs_update_file_sizesResponse::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // repeated bool success = 1 [packed = true];
+  if (this->success_size() > 0) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteTagToArray(
+      1,
+      ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED,
+      target);
+    target = ::google::protobuf::io::CodedOutputStream::WriteVarint32ToArray(
+      _success_cached_byte_size_, target);
+  }
+  for (int i = 0; i < this->success_size(); i++) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteBoolNoTagToArray(this->success(i), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int xtreemfs_update_file_sizesResponse::ByteSize() const {
+  int total_size = 0;
+
+  // repeated bool success = 1 [packed = true];
+  {
+    int data_size = 0;
+    data_size = 1 * this->success_size();
+    if (data_size > 0) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::Int32Size(data_size);
+    }
+    GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+    _success_cached_byte_size_ = data_size;
+    GOOGLE_SAFE_CONCURRENT_WRITES_END();
+    total_size += data_size;
+  }
+
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void xtreemfs_update_file_sizesResponse::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const xtreemfs_update_file_sizesResponse* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const xtreemfs_update_file_sizesResponse*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void xtreemfs_update_file_sizesResponse::MergeFrom(const xtreemfs_update_file_sizesResponse& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  success_.MergeFrom(from.success_);
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void xtreemfs_update_file_sizesResponse::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void xtreemfs_update_file_sizesResponse::CopyFrom(const xtreemfs_update_file_sizesResponse& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool xtreemfs_update_file_sizesResponse::IsInitialized() const {
+
+  return true;
+}
+
+void xtreemfs_update_file_sizesResponse::Swap(xtreemfs_update_file_sizesResponse* other) {
+  if (other != this) {
+    success_.Swap(&other->success_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata xtreemfs_update_file_sizesResponse::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = xtreemfs_update_file_sizesResponse_descriptor_;
+  metadata.reflection = xtreemfs_update_file_sizesResponse_reflection_;
+  return metadata;
+}
+
+
+// ===================================================================
+
+#ifndef _MSC_VER
+const int xtreemfs_create_filesRequest::kVolumeNameFieldNumber;
+const int xtreemfs_create_filesRequest::kDirPathFieldNumber;
+const int xtreemfs_create_filesRequest::kNamesFieldNumber;
+const int xtreemfs_create_filesRequest::kFlagsFieldNumber;
+const int xtreemfs_create_filesRequest::kModeFieldNumber;
+const int xtreemfs_create_filesRequest::kAttributesFieldNumber;
+const int xtreemfs_create_filesRequest::kCoordinatesFieldNumber;
+#endif  // !_MSC_VER
+
+xtreemfs_create_filesRequest::xtreemfs_create_filesRequest()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void xtreemfs_create_filesRequest::InitAsDefaultInstance() {
+  coordinates_ = const_cast< ::xtreemfs::pbrpc::VivaldiCoordinates*>(&::xtreemfs::pbrpc::VivaldiCoordinates::default_instance());
+}
+
+xtreemfs_create_filesRequest::xtreemfs_create_filesRequest(const xtreemfs_create_filesRequest& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void xtreemfs_create_filesRequest::SharedCtor() {
+  _cached_size_ = 0;
+  volume_name_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  dir_path_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  flags_ = 0u;
+  mode_ = 0u;
+  attributes_ = 0u;
+  coordinates_ = NULL;
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+xtreemfs_create_filesRequest::~xtreemfs_create_filesRequest() {
+  SharedDtor();
+}
+
+void xtreemfs_create_filesRequest::SharedDtor() {
+  if (volume_name_ != &::google::protobuf::internal::kEmptyString) {
+    delete volume_name_;
+  }
+  if (dir_path_ != &::google::protobuf::internal::kEmptyString) {
+    delete dir_path_;
+  }
+  if (this != default_instance_) {
+    delete coordinates_;
+  }
+}
+
+void xtreemfs_create_filesRequest::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* xtreemfs_create_filesRequest::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return xtreemfs_create_filesRequest_descriptor_;
+}
+
+const xtreemfs_create_filesRequest& xtreemfs_create_filesRequest::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_xtreemfs_2fMRC_2eproto();
+  return *default_instance_;
+}
+
+xtreemfs_create_filesRequest* xtreemfs_create_filesRequest::default_instance_ = NULL;
+
+xtreemfs_create_filesRequest* xtreemfs_create_filesRequest::New() const {
+  return new xtreemfs_create_filesRequest;
+}
+
+void xtreemfs_create_filesRequest::Clear() {
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (has_volume_name()) {
+      if (volume_name_ != &::google::protobuf::internal::kEmptyString) {
+        volume_name_->clear();
+      }
+    }
+    if (has_dir_path()) {
+      if (dir_path_ != &::google::protobuf::internal::kEmptyString) {
+        dir_path_->clear();
+      }
+    }
+    flags_ = 0u;
+    mode_ = 0u;
+    attributes_ = 0u;
+    if (has_coordinates()) {
+      if (coordinates_ != NULL) coordinates_->::xtreemfs::pbrpc::VivaldiCoordinates::Clear();
+    }
+  }
+  names_.Clear();
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool xtreemfs_create_filesRequest::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // required string volume_name = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+          DO_(::google::protobuf::internal::WireFormatLite::ReadString(
+                input, this->mutable_volume_name()));
+          ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+            this->volume_name().data(), this->volume_name().length(),
+            ::google::protobuf::internal::WireFormat::PARSE);
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(18)) goto parse_dir_path;
+        break;
+      }
+
+      // required string dir_path = 2;
+      case 2: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_dir_path:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadString(
+                input, this->mutable_dir_path()));
+          ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+            this->dir_path().data(), this->dir_path().length(),
+            ::google::protobuf::internal::WireFormat::PARSE);
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(26)) goto parse_names;
+        break;
+      }
+
+      // repeated string names = 3;
+      case 3: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_names:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadString(
+                input, this->add_names()));
+          ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+            this->names(this->names_size() - 1).data(),
+            this->names(this->names_size() - 1).length(),
+            ::google::protobuf::internal::WireFormat::PARSE);
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(26)) goto parse_names;
+        if (input->ExpectTag(37)) goto parse_flags;
+        break;
+      }
+
+      // required fixed32 flags = 4;
+      case 4: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_FIXED32) {
+         parse_flags:
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_FIXED32>(
+                 input, &flags_)));
+          set_has_flags();
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(45)) goto parse_mode;
+        break;
+      }
+
+      // required fixed32 mode = 5;
+      case 5: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_FIXED32) {
+         parse_mode:
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_FIXED32>(
+                 input, &mode_)));
+          set_has_mode();
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(53)) goto parse_attributes;
+        break;
+      }
+
+      // required fixed32 attributes = 6;
+      case 6: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_FIXED32) {
+         parse_attributes:
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_FIXED32>(
+                 input, &attributes_)));
+          set_has_attributes();
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(58)) goto parse_coordinates;
+        break;
+      }
+
+      // optional .xtreemfs.pbrpc.VivaldiCoordinates coordinates = 7;
+      case 7: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_coordinates:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadMessageNoVirtual(
+               input, mutable_coordinates()));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void xtreemfs_create_filesRequest::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // required string volume_name = 1;
+  if (has_volume_name()) {
+    ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+      this->volume_name().data(), this->volume_name().length(),
+      ::google::protobuf::internal::WireFormat::SERIALIZE);
+    ::google::protobuf::internal::WireFormatLite::WriteString(
+      1, this->volume_name(), output);
+  }
+
+  // required string dir_path = 2;
+  if (has_dir_path()) {
+    ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+      this->dir_path().data(), this->dir_path().length(),
+      ::google::protobuf::internal::WireFormat::SERIALIZE);
+    ::google::protobuf::internal::WireFormatLite::WriteString(
+      2, this->dir_path(), output);
+  }
+
+  // repeated string names = 3;
+  for (int i = 0; i < this->names_size(); i++) {
+  ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+    this->names(i).data(), this->names(i).length(),
+    ::google::protobuf::internal::WireFormat::SERIALIZE);
+    ::google::protobuf::internal::WireFormatLite::WriteString(
+      3, this->names(i), output);
+  }
+
+  // required fixed32 flags = 4;
+  if (has_flags()) {
+    ::google::protobuf::internal::WireFormatLite::WriteFixed32(4, this->flags(), output);
+  }
+
+  // required fixed32 mode = 5;
+  if (has_mode()) {
+    ::google::protobuf::internal::WireFormatLite::WriteFixed32(5, this->mode(), output);
+  }
+
+  // required fixed32 attributes = 6;
+  if (has_attributes()) {
+    ::google::protobuf::internal::WireFormatLite::WriteFixed32(6, this->attributes(), output);
+  }
+
+  // optional .xtreemfs.pbrpc.VivaldiCoordinates coordinates = 7;
+  if (has_coordinates()) {
+    ::google::protobuf::internal::WireFormatLite::WriteMessageMaybeToArray(
+      7, this->coordinates(), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* xtreemfs_create_filesRequest::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // required string volume_name = 1;
+  if (has_volume_name()) {
+    ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+      this->volume_name().data(), this->volume_name().length(),
+      ::google::protobuf::internal::WireFormat::SERIALIZE);
+    target =
+      ::google::protobuf::internal::WireFormatLite::WriteStringToArray(
+        1, this->volume_name(), target);
+  }
+
+  // required string dir_path = 2;
+  if (has_dir_path()) {
+    ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+      this->dir_path().data(), this->dir_path().length(),
+      ::google::protobuf::internal::WireFormat::SERIALIZE);
+    target =
+      ::google::protobuf::internal::WireFormatLite::WriteStringToArray(
+        2, this->dir_path(), target);
+  }
+
+  // repeated string names = 3;
+  for (int i = 0; i < this->names_size(); i++) {
+    ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+      this->names(i).data(), this->names(i).length(),
+      ::google::protobuf::internal::WireFormat::SERIALIZE);
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteStringToArray(3, this->names(i), target);
+  }
+
+  // required fixed32 flags = 4;
+  if (has_flags()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteFixed32ToArray(4, this->flags(), target);
+  }
+
+  // required fixed32 mode = 5;
+  if (has_mode()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteFixed32ToArray(5, this->mode(), target);
+  }
+
+  // required fixed32 attributes = 6;
+  if (has_attributes()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteFixed32ToArray(6, this->attributes(), target);
+  }
+
+  // optional .xtreemfs.pbrpc.VivaldiCoordinates coordinates = 7;
+  if (has_coordinates()) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteMessageNoVirtualToArray(
+        7, this->coordinates(), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int xtreemfs_create_filesRequest::ByteSize() const {
+  int total_size = 0;
+
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    // required string volume_name = 1;
+    if (has_volume_name()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::StringSize(
+          this->volume_name());
+    }
+
+    // required string dir_path = 2;
+    if (has_dir_path()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::StringSize(
+          this->dir_path());
+    }
+
+    // required fixed32 flags = 4;
+    if (has_flags()) {
+      total_size += 1 + 4;
+    }
+
+    // required fixed32 mode = 5;
+    if (has_mode()) {
+      total_size += 1 + 4;
+    }
+
+    // required fixed32 attributes = 6;
+    if (has_attributes()) {
+      total_size += 1 + 4;
+    }
+
+    // optional .xtreemfs.pbrpc.VivaldiCoordinates coordinates = 7;
+    if (has_coordinates()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::MessageSizeNoVirtual(
+          this->coordinates());
+    }
+
+  }
+  // repeated string names = 3;
+  total_size += 1 * this->names_size();
+  for (int i = 0; i < this->names_size(); i++) {
+    total_size += ::google::protobuf::internal::WireFormatLite::StringSize(
+      this->names(i));
+  }
+
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void xtreemfs_create_filesRequest::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const xtreemfs_create_filesRequest* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const xtreemfs_create_filesRequest*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void xtreemfs_create_filesRequest::MergeFrom(const xtreemfs_create_filesRequest& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  names_.MergeFrom(from.names_);
+  if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (from.has_volume_name()) {
+      set_volume_name(from.volume_name());
+    }
+    if (from.has_dir_path()) {
+      set_dir_path(from.dir_path());
+    }
+    if (from.has_flags()) {
+      set_flags(from.flags());
+    }
+    if (from.has_mode()) {
+      set_mode(from.mode());
+    }
+    if (from.has_attributes()) {
+      set_attributes(from.attributes());
+    }
+    if (from.has_coordinates()) {
+      mutable_coordinates()->::xtreemfs::pbrpc::VivaldiCoordinates::MergeFrom(from.coordinates());
+    }
+  }
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void xtreemfs_create_filesRequest::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void xtreemfs_create_filesRequest::CopyFrom(const xtreemfs_create_filesRequest& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool xtreemfs_create_filesRequest::IsInitialized() const {
+  if ((_has_bits_[0] & 0x0000003b) != 0x0000003b) return false;
+
+  if (has_coordinates()) {
+    if (!this->coordinates().IsInitialized()) return false;
+  }
+  return true;
+}
+
+void xtreemfs_create_filesRequest::Swap(xtreemfs_create_filesRequest* other) {
+  if (other != this) {
+    std::swap(volume_name_, other->volume_name_);
+    std::swap(dir_path_, other->dir_path_);
+    names_.Swap(&other->names_);
+    std::swap(flags_, other->flags_);
+    std::swap(mode_, other->mode_);
+    std::swap(attributes_, other->attributes_);
+    std::swap(coordinates_, other->coordinates_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata xtreemfs_create_filesRequest::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = xtreemfs_create_filesRequest_descriptor_;
+  metadata.reflection = xtreemfs_create_filesRequest_reflection_;
+  return metadata;
+}
+
+
+// ===================================================================
+
+#ifndef _MSC_VER
+const int xtreemfs_create_filesResponse::kFilesFieldNumber;
+#endif  // !_MSC_VER
+
+xtreemfs_create_filesResponse::xtreemfs_create_filesResponse()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void xtreemfs_create_filesResponse::InitAsDefaultInstance() {
+}
+
+xtreemfs_create_filesResponse::xtreemfs_create_filesResponse(const xtreemfs_create_filesResponse& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void xtreemfs_create_filesResponse::SharedCtor() {
+  _cached_size_ = 0;
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+xtreemfs_create_filesResponse::~xtreemfs_create_filesResponse() {
+  SharedDtor();
+}
+
+void xtreemfs_create_filesResponse::SharedDtor() {
+  if (this != default_instance_) {
+  }
+}
+
+void xtreemfs_create_filesResponse::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* xtreemfs_create_filesResponse::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return xtreemfs_create_filesResponse_descriptor_;
+}
+
+const xtreemfs_create_filesResponse& xtreemfs_create_filesResponse::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_xtreemfs_2fMRC_2eproto();
+  return *default_instance_;
+}
+
+xtreemfs_create_filesResponse* xtreemfs_create_filesResponse::default_instance_ = NULL;
+
+xtreemfs_create_filesResponse* xtreemfs_create_filesResponse::New() const {
+  return new xtreemfs_create_filesResponse;
+}
+
+void xtreemfs_create_filesResponse::Clear() {
+  files_.Clear();
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool xtreemfs_create_filesResponse::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // repeated .xtreemfs.pbrpc.openResponse files = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_files:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadMessageNoVirtual(
+                input, add_files()));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(10)) goto parse_files;
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void xtreemfs_create_filesResponse::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // repeated .xtreemfs.pbrpc.openResponse files = 1;
+  for (int i = 0; i < this->files_size(); i++) {
+    ::google::protobuf::internal::WireFormatLite::WriteMessageMaybeToArray(
+      1, this->files(i), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* xtreemfs_create_filesResponse::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // repeated .xtreemfs.pbrpc.openResponse files = 1;
+  for (int i = 0; i < this->files_size(); i++) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteMessageNoVirtualToArray(
+        1, this->files(i), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int xtreemfs_create_filesResponse::ByteSize() const {
+  int total_size = 0;
+
+  // repeated .xtreemfs.pbrpc.openResponse files = 1;
+  total_size += 1 * this->files_size();
+  for (int i = 0; i < this->files_size(); i++) {
+    total_size +=
+      ::google::protobuf::internal::WireFormatLite::MessageSizeNoVirtual(
+        this->files(i));
+  }
+
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void xtreemfs_create_filesResponse::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const xtreemfs_create_filesResponse* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const xtreemfs_create_filesResponse*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void xtreemfs_create_filesResponse::MergeFrom(const xtreemfs_create_filesResponse& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  files_.MergeFrom(from.files_);
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void xtreemfs_create_filesResponse::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void xtreemfs_create_filesResponse::CopyFrom(const xtreemfs_create_filesResponse& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool xtreemfs_create_filesResponse::IsInitialized() const {
+
+  for (int i = 0; i < files_size(); i++) {
+    if (!this->files(i).IsInitialized()) return false;
+  }
+  return true;
+}
+
+void xtreemfs_create_filesResponse::Swap(xtreemfs_create_filesResponse* other) {
+  if (other != this) {
+    files_.Swap(&other->files_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata xtreemfs_create_filesResponse::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = xtreemfs_create_filesResponse_descriptor_;
+  metadata.reflection = xtreemfs_create_filesResponse_reflection_;
+  return metadata;
+}
+
+
+// ===================================================================
+
+#ifndef _MSC_VER
+const int xtreemfs_getattrsRequest::kVolumeNameFieldNumber;
+const int xtreemfs_getattrsRequest::kPathsFieldNumber;
+#endif  // !_MSC_VER
+
+xtreemfs_getattrsRequest::xtreemfs_getattrsRequest()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void xtreemfs_getattrsRequest::InitAsDefaultInstance() {
+}
+
+xtreemfs_getattrsRequest::xtreemfs_getattrsRequest(const xtreemfs_getattrsRequest& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void xtreemfs_getattrsRequest::SharedCtor() {
+  _cached_size_ = 0;
+  volume_name_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+xtreemfs_getattrsRequest::~xtreemfs_getattrsRequest() {
+  SharedDtor();
+}
+
+void xtreemfs_getattrsRequest::SharedDtor() {
+  if (volume_name_ != &::google::protobuf::internal::kEmptyString) {
+    delete volume_name_;
+  }
+  if (this != default_instance_) {
+  }
+}
+
+void xtreemfs_getattrsRequest::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* xtreemfs_getattrsRequest::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return xtreemfs_getattrsRequest_descriptor_;
+}
+
+const xtreemfs_getattrsRequest& xtreemfs_getattrsRequest::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_xtreemfs_2fMRC_2eproto();
+  return *default_instance_;
+}
+
+xtreemfs_getattrsRequest* xtreemfs_getattrsRequest::default_instance_ = NULL;
+
+xtreemfs_getattrsRequest* xtreemfs_getattrsRequest::New() const {
+  return new xtreemfs_getattrsRequest;
+}
+
+void xtreemfs_getattrsRequest::Clear() {
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (has_volume_name()) {
+      if (volume_name_ != &::google::protobuf::internal::kEmptyString) {
+        volume_name_->clear();
+      }
+    }
+  }
+  paths_.Clear();
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool xtreemfs_getattrsRequest::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // required string volume_name = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+          DO_(::google::protobuf::internal::WireFormatLite::ReadString(
+                input, this->mutable_volume_name()));
+          ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+            this->volume_name().data(), this->volume_name().length(),
+            ::google::protobuf::internal::WireFormat::PARSE);
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(18)) goto parse_paths;
+        break;
+      }
+
+      // repeated string paths = 2;
+      case 2: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_paths:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadString(
+                input, this->add_paths()));
+          ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+            this->paths(this->paths_size() - 1).data(),
+            this->paths(this->paths_size() - 1).length(),
+            ::google::protobuf::internal::WireFormat::PARSE);
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(18)) goto parse_paths;
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void xtreemfs_getattrsRequest::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // required string volume_name = 1;
+  if (has_volume_name()) {
+    ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+      this->volume_name().data(), this->volume_name().length(),
+      ::google::protobuf::internal::WireFormat::SERIALIZE);
+    ::google::protobuf::internal::WireFormatLite::WriteString(
+      1, this->volume_name(), output);
+  }
+
+  // repeated string paths = 2;
+  for (int i = 0; i < this->paths_size(); i++) {
+  ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+    this->paths(i).data(), this->paths(i).length(),
+    ::google::protobuf::internal::WireFormat::SERIALIZE);
+    ::google::protobuf::internal::WireFormatLite::WriteString(
+      2, this->paths(i), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* xtreemfs_getattrsRequest::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // required string volume_name = 1;
+  if (has_volume_name()) {
+    ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+      this->volume_name().data(), this->volume_name().length(),
+      ::google::protobuf::internal::WireFormat::SERIALIZE);
+    target =
+      ::google::protobuf::internal::WireFormatLite::WriteStringToArray(
+        1, this->volume_name(), target);
+  }
+
+  // repeated string paths = 2;
+  for (int i = 0; i < this->paths_size(); i++) {
+    ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+      this->paths(i).data(), this->paths(i).length(),
+      ::google::protobuf::internal::WireFormat::SERIALIZE);
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteStringToArray(2, this->paths(i), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int xtreemfs_getattrsRequest::ByteSize() const {
+  int total_size = 0;
+
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    // required string volume_name = 1;
+    if (has_volume_name()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::StringSize(
+          this->volume_name());
+    }
+
+  }
+  // repeated string paths = 2;
+  total_size += 1 * this->paths_size();
+  for (int i = 0; i < this->paths_size(); i++) {
+    total_size += ::google::protobuf::internal::WireFormatLite::StringSize(
+      this->paths(i));
+  }
+
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void xtreemfs_getattrsRequest::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const xtreemfs_getattrsRequest* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const xtreemfs_getattrsRequest*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void xtreemfs_getattrsRequest::MergeFrom(const xtreemfs_getattrsRequest& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  paths_.MergeFrom(from.paths_);
+  if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (from.has_volume_name()) {
+      set_volume_name(from.volume_name());
+    }
+  }
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void xtreemfs_getattrsRequest::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void xtreemfs_getattrsRequest::CopyFrom(const xtreemfs_getattrsRequest& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool xtreemfs_getattrsRequest::IsInitialized() const {
+  if ((_has_bits_[0] & 0x00000001) != 0x00000001) return false;
+
+  return true;
+}
+
+void xtreemfs_getattrsRequest::Swap(xtreemfs_getattrsRequest* other) {
+  if (other != this) {
+    std::swap(volume_name_, other->volume_name_);
+    paths_.Swap(&other->paths_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata xtreemfs_getattrsRequest::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = xtreemfs_getattrsRequest_descriptor_;
+  metadata.reflection = xtreemfs_getattrsRequest_reflection_;
+  return metadata;
+}
+
+
+// ===================================================================
+
+#ifndef _MSC_VER
+const int xtreemfs_getattrsResponse::kStatsFieldNumber;
+#endif  // !_MSC_VER
+
+xtreemfs_getattrsResponse::xtreemfs_getattrsResponse()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void xtreemfs_getattrsResponse::InitAsDefaultInstance() {
+}
+
+xtreemfs_getattrsResponse::xtreemfs_getattrsResponse(const xtreemfs_getattrsResponse& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void xtreemfs_getattrsResponse::SharedCtor() {
+  _cached_size_ = 0;
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+xtreemfs_getattrsResponse::~xtreemfs_getattrsResponse() {
+  SharedDtor();
+}
+
+void xtreemfs_getattrsResponse::SharedDtor() {
+  if (this != default_instance_) {
+  }
+}
+
+void xtreemfs_getattrsResponse::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* xtreemfs_getattrsResponse::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return xtreemfs_getattrsResponse_descriptor_;
+}
+
+const xtreemfs_getattrsResponse& xtreemfs_getattrsResponse::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_xtreemfs_2fMRC_2eproto();
+  return *default_instance_;
+}
+
+xtreemfs_getattrsResponse* xtreemfs_getattrsResponse::default_instance_ = NULL;
+
+xtreemfs_getattrsResponse* xtreemfs_getattrsResponse::New() const {
+  return new xtreemfs_getattrsResponse;
+}
+
+void xtreemfs_getattrsResponse::Clear() {
+  stats_.Clear();
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool xtreemfs_getattrsResponse::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // repeated .xtreemfs.pbrpc.getattrResponse stats = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_stats:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadMessageNoVirtual(
+                input, add_stats()));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(10)) goto parse_stats;
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void xtreemfs_getattrsResponse::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // repeated .xtreemfs.pbrpc.getattrResponse stats = 1;
+  for (int i = 0; i < this->stats_size(); i++) {
+    ::google::protobuf::internal::WireFormatLite::WriteMessageMaybeToArray(
+      1, this->stats(i), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* xtreemfs_getattrsResponse::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // repeated .xtreemfs.pbrpc.getattrResponse stats = 1;
+  for (int i = 0; i < this->stats_size(); i++) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteMessageNoVirtualToArray(
+        1, this->stats(i), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int xtreemfs_getattrsResponse::ByteSize() const {
+  int total_size = 0;
+
+  // repeated .xtreemfs.pbrpc.getattrResponse stats = 1;
+  total_size += 1 * this->stats_size();
+  for (int i = 0; i < this->stats_size(); i++) {
+    total_size +=
+      ::google::protobuf::internal::WireFormatLite::MessageSizeNoVirtual(
+        this->stats(i));
+  }
+
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void xtreemfs_getattrsResponse::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const xtreemfs_getattrsResponse* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const xtreemfs_getattrsResponse*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void xtreemfs_getattrsResponse::MergeFrom(const xtreemfs_getattrsResponse& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  stats_.MergeFrom(from.stats_);
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void xtreemfs_getattrsResponse::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void xtreemfs_getattrsResponse::CopyFrom(const xtreemfs_getattrsResponse& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool xtreemfs_getattrsResponse::IsInitialized() const {
+
+  for (int i = 0; i < stats_size(); i++) {
+    if (!this->stats(i).IsInitialized()) return false;
+  }
+  return true;
+}
+
+void xtreemfs_getattrsResponse::Swap(xtreemfs_getattrsResponse* other) {
+  if (other != this) {
+    stats_.Swap(&other->stats_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata xtreemfs_getattrsResponse::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = xtreemfs_getattrsResponse_descriptor_;
+  metadata.reflection = xtreemfs_getattrsResponse_reflection_;
+  return metadata;
+}
+
+
+// ===================================================================
+
+#ifndef _MSC_VER
+const int xtreemfs_get_xlocsetsRequest::kVolumeNameFieldNumber;
+const int xtreemfs_get_xlocsetsRequest::kPathsFieldNumber;
+const int xtreemfs_get_xlocsetsRequest::kCoordinatesFieldNumber;
+#endif  // !_MSC_VER
+
+xtreemfs_get_xlocsetsRequest::xtreemfs_get_xlocsetsRequest()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void xtreemfs_get_xlocsetsRequest::InitAsDefaultInstance() {
+  coordinates_ = const_cast< ::xtreemfs::pbrpc::VivaldiCoordinates*>(&::xtreemfs::pbrpc::VivaldiCoordinates::default_instance());
+}
+
+xtreemfs_get_xlocsetsRequest::xtreemfs_get_xlocsetsRequest(const xtreemfs_get_xlocsetsRequest& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void xtreemfs_get_xlocsetsRequest::SharedCtor() {
+  _cached_size_ = 0;
+  volume_name_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  coordinates_ = NULL;
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+xtreemfs_get_xlocsetsRequest::~xtreemfs_get_xlocsetsRequest() {
+  SharedDtor();
+}
+
+void xtreemfs_get_xlocsetsRequest::SharedDtor() {
+  if (volume_name_ != &::google::protobuf::internal::kEmptyString) {
+    delete volume_name_;
+  }
+  if (this != default_instance_) {
+    delete coordinates_;
+  }
+}
+
+void xtreemfs_get_xlocsetsRequest::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* xtreemfs_get_xlocsetsRequest::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return xtreemfs_get_xlocsetsRequest_descriptor_;
+}
+
+const xtreemfs_get_xlocsetsRequest& xtreemfs_get_xlocsetsRequest::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_xtreemfs_2fMRC_2eproto();
+  return *default_instance_;
+}
+
+xtreemfs_get_xlocsetsRequest* xtreemfs_get_xlocsetsRequest::default_instance_ = NULL;
+
+xtreemfs_get_xlocsetsRequest* xtreemfs_get_xlocsetsRequest::New() const {
+  return new xtreemfs_get_xlocsetsRequest;
+}
+
+void xtreemfs_get_xlocsetsRequest::Clear() {
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (has_volume_name()) {
+      if (volume_name_ != &::google::protobuf::internal::kEmptyString) {
+        volume_name_->clear();
+      }
+    }
+    if (has_coordinates()) {
+      if (coordinates_ != NULL) coordinates_->::xtreemfs::pbrpc::VivaldiCoordinates::Clear();
+    }
+  }
+  paths_.Clear();
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool xtreemfs_get_xlocsetsRequest::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // required string volume_name = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+          DO_(::google::protobuf::internal::WireFormatLite::ReadString(
+                input, this->mutable_volume_name()));
           ::google::protobuf::internal::WireFormat::VerifyUTF8String(
             this->volume_name().data(), this->volume_name().length(),
             ::google::protobuf::internal::WireFormat::PARSE);
         } else {
           goto handle_uninterpreted;
         }
-        if (input->ExpectTag(34)) goto parse_xcap;
+        if (input->ExpectTag(18)) goto parse_paths;
         break;
       }
 
-      // optional .xtreemfs.pbrpc.XCap xcap = 4;
-      case 4: {
+      // repeated string paths = 2;
+      case 2: {
         if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
             ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
-         parse_xcap:
+         parse_paths:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadString(
+                input, this->add_paths()));
+          ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+            this->paths(this->paths_size() - 1).data(),
+            this->paths(this->paths_size() - 1).length(),
+            ::google::protobuf::internal::WireFormat::PARSE);
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(18)) goto parse_paths;
+        if (input->ExpectTag(26)) goto parse_coordinates;
+        break;
+      }
+
+      // optional .xtreemfs.pbrpc.VivaldiCoordinates coordinates = 3;
+      case 3: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_coordinates:
           DO_(::google::protobuf::internal::WireFormatLite::ReadMessageNoVirtual(
-               input, mutable_xcap()));
+               input, mutable_coordinates()));
         } else {
           goto handle_uninterpreted;
         }
@@ -15936,39 +20236,281 @@ bool xtreemfs_get_xlocsetRequest::MergePartialFromCodedStream(
 #undef DO_
 }
 
-void xtreemfs_get_xlocsetRequest::SerializeWithCachedSizes(
+void xtreemfs_get_xlocsetsRequest::SerializeWithCachedSizes(
     ::google::protobuf::io::CodedOutputStream* output) const {
-  // optional string file_id = 1;
-  if (has_file_id()) {
+  // required string volume_name = 1;
+  if (has_volume_name()) {
     ::google::protobuf::internal::WireFormat::VerifyUTF8String(
-      this->file_id().data(), this->file_id().length(),
+      this->volume_name().data(), this->volume_name().length(),
       ::google::protobuf::internal::WireFormat::SERIALIZE);
     ::google::protobuf::internal::WireFormatLite::WriteString(
-      1, this->file_id(), output);
+      1, this->volume_name(), output);
   }
 
-  // optional string path = 2;
-  if (has_path()) {
+  // repeated string paths = 2;
+  for (int i = 0; i < this->paths_size(); i++) {
+  ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+    this->paths(i).data(), this->paths(i).length(),
+    ::google::protobuf::internal::WireFormat::SERIALIZE);
+    ::google::protobuf::internal::WireFormatLite::WriteString(
+      2, this->paths(i), output);
+  }
+
+  // optional .xtreemfs.pbrpc.VivaldiCoordinates coordinates = 3;
+  if (has_coordinates()) {
+    ::google::protobuf::internal::WireFormatLite::WriteMessageMaybeToArray(
+      3, this->coordinates(), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* xtreemfs_get_xlocsetsRequest::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // required string volume_name = 1;
+  if (has_volume_name()) {
     ::google::protobuf::internal::WireFormat::VerifyUTF8String(
-      this->path().data(), this->path().length(),
+      this->volume_name().data(), this->volume_name().length(),
       ::google::protobuf::internal::WireFormat::SERIALIZE);
-    ::google::protobuf::internal::WireFormatLite::WriteString(
-      2, this->path(), output);
+    target =
+      ::google::protobuf::internal::WireFormatLite::WriteStringToArray(
+        1, this->volume_name(), target);
+  }
+
+  // repeated string paths = 2;
+  for (int i = 0; i < this->paths_size(); i++) {
+    ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+      this->paths(i).data(), this->paths(i).length(),
+      ::google::protobuf::internal::WireFormat::SERIALIZE);
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteStringToArray(2, this->paths(i), target);
+  }
+
+  // optional .xtreemfs.pbrpc.VivaldiCoordinates coordinates = 3;
+  if (has_coordinates()) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteMessageNoVirtualToArray(
+        3, this->coordinates(), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int xtreemfs_get_xlocsetsRequest::ByteSize() const {
+  int total_size = 0;
+
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    // required string volume_name = 1;
+    if (has_volume_name()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::StringSize(
+          this->volume_name());
+    }
+
+    // optional .xtreemfs.pbrpc.VivaldiCoordinates coordinates = 3;
+    if (has_coordinates()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::MessageSizeNoVirtual(
+          this->coordinates());
+    }
+
+  }
+  // repeated string paths = 2;
+  total_size += 1 * this->paths_size();
+  for (int i = 0; i < this->paths_size(); i++) {
+    total_size += ::google::protobuf::internal::WireFormatLite::StringSize(
+      this->paths(i));
+  }
+
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void xtreemfs_get_xlocsetsRequest::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const xtreemfs_get_xlocsetsRequest* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const xtreemfs_get_xlocsetsRequest*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void xtreemfs_get_xlocsetsRequest::MergeFrom(const xtreemfs_get_xlocsetsRequest& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  paths_.MergeFrom(from.paths_);
+  if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (from.has_volume_name()) {
+      set_volume_name(from.volume_name());
+    }
+    if (from.has_coordinates()) {
+      mutable_coordinates()->::xtreemfs::pbrpc::VivaldiCoordinates::MergeFrom(from.coordinates());
+    }
+  }
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void xtreemfs_get_xlocsetsRequest::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void xtreemfs_get_xlocsetsRequest::CopyFrom(const xtreemfs_get_xlocsetsRequest& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool xtreemfs_get_xlocsetsRequest::IsInitialized() const {
+  if ((_has_bits_[0] & 0x00000001) != 0x00000001) return false;
+
+  if (has_coordinates()) {
+    if (!this->coordinates().IsInitialized()) return false;
+  }
+  return true;
+}
+
+void xtreemfs_get_xlocsetsRequest::Swap(xtreemfs_get_xlocsetsRequest* other) {
+  if (other != this) {
+    std::swap(volume_name_, other->volume_name_);
+    paths_.Swap(&other->paths_);
+    std::swap(coordinates_, other->coordinates_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata xtreemfs_get_xlocsetsRequest::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = xtreemfs_get_xlocsetsRequest_descriptor_;
+  metadata.reflection = xtreemfs_get_xlocsetsRequest_reflection_;
+  return metadata;
+}
+
+
+// ===================================================================
+
+#ifndef _MSC_VER
+const int xtreemfs_get_xlocsetsResponse::kXlocsetsFieldNumber;
+#endif  // !_MSC_VER
+
+xtreemfs_get_xlocsetsResponse::xtreemfs_get_xlocsetsResponse()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void xtreemfs_get_xlocsetsResponse::InitAsDefaultInstance() {
+}
+
+xtreemfs_get_xlocsetsResponse::xtreemfs_get_xlocsetsResponse(const xtreemfs_get_xlocsetsResponse& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void xtreemfs_get_xlocsetsResponse::SharedCtor() {
+  _cached_size_ = 0;
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+xtreemfs_get_xlocsetsResponse::~xtreemfs_get_xlocsetsResponse() {
+  SharedDtor();
+}
+
+void xtreemfs_get_xlocsetsResponse::SharedDtor() {
+  if (this != default_instance_) {
   }
+}
+
+void xtreemfs_get_xlocsetsResponse::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* xtreemfs_get_xlocsetsResponse::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return xtreemfs_get_xlocsetsResponse_descriptor_;
+}
+
+const xtreemfs_get_xlocsetsResponse& xtreemfs_get_xlocsetsResponse::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_xtreemfs_2fMRC_2eproto();
+  return *default_instance_;
+}
+
+xtreemfs_get_xlocsetsResponse* xtreemfs_get_xlocsetsResponse::default_instance_ = NULL;
+
+xtreemfs_get_xlocsetsResponse* xtreemfs_get_xlocsetsResponse::New() const {
+  return new xtreemfs_get_xlocsetsResponse;
+}
+
+void xtreemfs_get_xlocsetsResponse::Clear() {
+  xlocsets_.Clear();
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool xtreemfs_get_xlocsetsResponse::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // repeated .xtreemfs.pbrpc.XLocSet xlocsets = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_xlocsets:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadMessageNoVirtual(
+                input, add_xlocsets()));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(10)) goto parse_xlocsets;
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
 
-  // optional string volume_name = 3;
-  if (has_volume_name()) {
-    ::google::protobuf::internal::WireFormat::VerifyUTF8String(
-      this->volume_name().data(), this->volume_name().length(),
-      ::google::protobuf::internal::WireFormat::SERIALIZE);
-    ::google::protobuf::internal::WireFormatLite::WriteString(
-      3, this->volume_name(), output);
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
   }
+  return true;
+#undef DO_
+}
 
-  // optional .xtreemfs.pbrpc.XCap xcap = 4;
-  if (has_xcap()) {
+void xtreemfs_get_xlocsetsResponse::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // repeated .xtreemfs.pbrpc.XLocSet xlocsets = 1;
+  for (int i = 0; i < this->xlocsets_size(); i++) {
     ::google::protobuf::internal::WireFormatLite::WriteMessageMaybeToArray(
-      4, this->xcap(), output);
+      1, this->xlocsets(i), output);
   }
 
   if (!unknown_fields().empty()) {
@@ -15977,43 +20519,13 @@ void xtreemfs_get_xlocsetRequest::SerializeWithCachedSizes(
   }
 }
 
-::google::protobuf::uint8* xtreemfs_get_xlocsetRequest::SerializeWithCachedSizesToArray(
+::google::protobuf::uint8* xtreemfs_get_xlocsetsResponse::SerializeWithCachedSizesToArray(
     ::google::protobuf::uint8* target) const {
-  // optional string file_id = 1;
-  if (has_file_id()) {
-    ::google::protobuf::internal::WireFormat::VerifyUTF8String(
-      this->file_id().data(), this->file_id().length(),
-      ::google::protobuf::internal::WireFormat::SERIALIZE);
-    target =
-      ::google::protobuf::internal::WireFormatLite::WriteStringToArray(
-        1, this->file_id(), target);
-  }
-
-  // optional string path = 2;
-  if (has_path()) {
-    ::google::protobuf::internal::WireFormat::VerifyUTF8String(
-      this->path().data(), this->path().length(),
-      ::google::protobuf::internal::WireFormat::SERIALIZE);
-    target =
-      ::google::protobuf::internal::WireFormatLite::WriteStringToArray(
-        2, this->path(), target);
-  }
-
-  // optional string volume_name = 3;
-  if (has_volume_name()) {
-    ::google::protobuf::internal::WireFormat::VerifyUTF8String(
-      this->volume_name().data(), this->volume_name().length(),
-      ::google::protobuf::internal::WireFormat::SERIALIZE);
-    target =
-      ::google::protobuf::internal::WireFormatLite::WriteStringToArray(
-        3, this->volume_name(), target);
-  }
-
-  // optional .xtreemfs.pbrpc.XCap xcap = 4;
-  if (has_xcap()) {
+  // repeated .xtreemfs.pbrpc.XLocSet xlocsets = 1;
+  for (int i = 0; i < this->xlocsets_size(); i++) {
     target = ::google::protobuf::internal::WireFormatLite::
       WriteMessageNoVirtualToArray(
-        4, this->xcap(), target);
+        1, this->xlocsets(i), target);
   }
 
   if (!unknown_fields().empty()) {
@@ -16023,39 +20535,17 @@ void xtreemfs_get_xlocsetRequest::SerializeWithCachedSizes(
   return target;
 }
 
-int xtreemfs_get_xlocsetRequest::ByteSize() const {
+int xtreemfs_get_xlocsetsResponse::ByteSize() const {
   int total_size = 0;
 
-  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
-    // optional string file_id = 1;
-    if (has_file_id()) {
-      total_size += 1 +
-        ::google::protobuf::internal::WireFormatLite::StringSize(
-          this->file_id());
-    }
-
-    // optional string path = 2;
-    if (has_path()) {
-      total_size += 1 +
-        ::google::protobuf::internal::WireFormatLite::StringSize(
-          this->path());
-    }
-
-    // optional string volume_name = 3;
-    if (has_volume_name()) {
-      total_size += 1 +
-        ::google::protobuf::internal::WireFormatLite::StringSize(
-          this->volume_name());
-    }
-
-    // optional .xtreemfs.pbrpc.XCap xcap = 4;
-    if (has_xcap()) {
-      total_size += 1 +
-        ::google::protobuf::internal::WireFormatLite::MessageSizeNoVirtual(
-          this->xcap());
-    }
-
+  // repeated .xtreemfs.pbrpc.XLocSet xlocsets = 1;
+  total_size += 1 * this->xlocsets_size();
+  for (int i = 0; i < this->xlocsets_size(); i++) {
+    total_size +=
+      ::google::protobuf::internal::WireFormatLite::MessageSizeNoVirtual(
+        this->xlocsets(i));
   }
+
   if (!unknown_fields().empty()) {
     total_size +=
       ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
@@ -16067,10 +20557,10 @@ int xtreemfs_get_xlocsetRequest::ByteSize() const {
   return total_size;
 }
 
-void xtreemfs_get_xlocsetRequest::MergeFrom(const ::google::protobuf::Message& from) {
+void xtreemfs_get_xlocsetsResponse::MergeFrom(const ::google::protobuf::Message& from) {
   GOOGLE_CHECK_NE(&from, this);
-  const xtreemfs_get_xlocsetRequest* source =
-    ::google::protobuf::internal::dynamic_cast_if_available<const xtreemfs_get_xlocsetRequest*>(
+  const xtreemfs_get_xlocsetsResponse* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const xtreemfs_get_xlocsetsResponse*>(
       &from);
   if (source == NULL) {
     ::google::protobuf::internal::ReflectionOps::Merge(from, this);
@@ -16079,62 +20569,46 @@ void xtreemfs_get_xlocsetRequest::MergeFrom(const ::google::protobuf::Message& f
   }
 }
 
-void xtreemfs_get_xlocsetRequest::MergeFrom(const xtreemfs_get_xlocsetRequest& from) {
+void xtreemfs_get_xlocsetsResponse::MergeFrom(const xtreemfs_get_xlocsetsResponse& from) {
   GOOGLE_CHECK_NE(&from, this);
-  if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
-    if (from.has_file_id()) {
-      set_file_id(from.file_id());
-    }
-    if (from.has_path()) {
-      set_path(from.path());
-    }
-    if (from.has_volume_name()) {
-      set_volume_name(from.volume_name());
-    }
-    if (from.has_xcap()) {
-      mutable_xcap()->::xtreemfs::pbrpc::XCap::MergeFrom(from.xcap());
-    }
-  }
+  xlocsets_.MergeFrom(from.xlocsets_);
   mutable_unknown_fields()->MergeFrom(from.unknown_fields());
 }
 
-void xtreemfs_get_xlocsetRequest::CopyFrom(const ::google::protobuf::Message& from) {
+void xtreemfs_get_xlocsetsResponse::CopyFrom(const ::google::protobuf::Message& from) {
   if (&from == this) return;
   Clear();
   MergeFrom(from);
 }
 
-void xtreemfs_get_xlocsetRequest::CopyFrom(const xtreemfs_get_xlocsetRequest& from) {
+void xtreemfs_get_xlocsetsResponse::CopyFrom(const xtreemfs_get_xlocsetsResponse& from) {
   if (&from == this) return;
   Clear();
   MergeFrom(from);
 }
 
-bool xtreemfs_get_xlocsetRequest::IsInitialized() const {
+bool xtreemfs_get_xlocsetsResponse::IsInitialized() const {
 
-  if (has_xcap()) {
-    if (!this->xcap().IsInitialized()) return false;
+  for (int i = 0; i < xlocsets_size(); i++) {
+    if (!this->xlocsets(i).IsInitialized()) return false;
   }
   return true;
 }
 
-void xtreemfs_get_xlocsetRequest::Swap(xtreemfs_get_xlocsetRequest* other) {
+void xtreemfs_get_xlocsetsResponse::Swap(xtreemfs_get_xlocsetsResponse* other) {
   if (other != this) {
-    std::swap(file_id_, other->file_id_);
-    std::swap(path_, other->path_);
-    std::swap(volume_name_, other->volume_name_);
-    std::swap(xcap_, other->xcap_);
+    xlocsets_.Swap(&other->xlocsets_);
     std::swap(_has_bits_[0], other->_has_bits_[0]);
     _unknown_fields_.Swap(&other->_unknown_fields_);
     std::swap(_cached_size_, other->_cached_size_);
   }
 }
 
-::google::protobuf::Metadata xtreemfs_get_xlocsetRequest::GetMetadata() const {
+::google::protobuf::Metadata xtreemfs_get_xlocsetsResponse::GetMetadata() const {
   protobuf_AssignDescriptorsOnce();
   ::google::protobuf::Metadata metadata;
-  metadata.descriptor = xtreemfs_get_xlocsetRequest_descriptor_;
-  metadata.reflection = xtreemfs_get_xlocsetRequest_reflection_;
+  metadata.descriptor = xtreemfs_get_xlocsetsResponse_descriptor_;
+  metadata.reflection = xtreemfs_get_xlocsetsResponse_reflection_;
   return metadata;
 }
 
@@ -16142,145 +20616,111 @@ void xtreemfs_get_xlocsetRequest::Swap(xtreemfs_get_xlocsetRequest* other) {
 // ===================================================================
 
 #ifndef _MSC_VER
-const int xtreemfs_replica_removeRequest::kFileIdFieldNumber;
-const int xtreemfs_replica_removeRequest::kPathFieldNumber;
-const int xtreemfs_replica_removeRequest::kVolumeNameFieldNumber;
-const int xtreemfs_replica_removeRequest::kOsdUuidFieldNumber;
+const int xtreemfs_rmdir_recursiveRequest::kVolumeNameFieldNumber;
+const int xtreemfs_rmdir_recursiveRequest::kPathFieldNumber;
+const int xtreemfs_rmdir_recursiveRequest::kMaxEntriesFieldNumber;
 #endif  // !_MSC_VER
 
-xtreemfs_replica_removeRequest::xtreemfs_replica_removeRequest()
+xtreemfs_rmdir_recursiveRequest::xtreemfs_rmdir_recursiveRequest()
   : ::google::protobuf::Message() {
   SharedCtor();
 }
 
-void xtreemfs_replica_removeRequest::InitAsDefaultInstance() {
+void xtreemfs_rmdir_recursiveRequest::InitAsDefaultInstance() {
 }
 
-xtreemfs_replica_removeRequest::xtreemfs_replica_removeRequest(const xtreemfs_replica_removeRequest& from)
+xtreemfs_rmdir_recursiveRequest::xtreemfs_rmdir_recursiveRequest(const xtreemfs_rmdir_recursiveRequest& from)
   : ::google::protobuf::Message() {
   SharedCtor();
   MergeFrom(from);
 }
 
-void xtreemfs_replica_removeRequest::SharedCtor() {
+void xtreemfs_rmdir_recursiveRequest::SharedCtor() {
   _cached_size_ = 0;
-  file_id_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
-  path_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
   volume_name_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
-  osd_uuid_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  path_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  max_entries_ = 0u;
   ::memset(_has_bits_, 0, sizeof(_has_bits_));
 }
 
-xtreemfs_replica_removeRequest::~xtreemfs_replica_removeRequest() {
+xtreemfs_rmdir_recursiveRequest::~xtreemfs_rmdir_recursiveRequest() {
   SharedDtor();
 }
 
-void xtreemfs_replica_removeRequest::SharedDtor() {
-  if (file_id_ != &::google::protobuf::internal::kEmptyString) {
-    delete file_id_;
-  }
-  if (path_ != &::google::protobuf::internal::kEmptyString) {
-    delete path_;
-  }
+void xtreemfs_rmdir_recursiveRequest::SharedDtor() {
   if (volume_name_ != &::google::protobuf::internal::kEmptyString) {
     delete volume_name_;
   }
-  if (osd_uuid_ != &::google::protobuf::internal::kEmptyString) {
-    delete osd_uuid_;
+  if (path_ != &::google::protobuf::internal::kEmptyString) {
+    delete path_;
   }
   if (this != default_instance_) {
   }
 }
 
-void xtreemfs_replica_removeRequest::SetCachedSize(int size) const {
+void xtreemfs_rmdir_recursiveRequest::SetCachedSize(int size) const {
   GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
   _cached_size_ = size;
   GOOGLE_SAFE_CONCURRENT_WRITES_END();
 }
-const ::google::protobuf::Descriptor* xtreemfs_replica_removeRequest::descriptor() {
+const ::google::protobuf::Descriptor* xtreemfs_rmdir_recursiveRequest::descriptor() {
   protobuf_AssignDescriptorsOnce();
-  return xtreemfs_replica_removeRequest_descriptor_;
+  return xtreemfs_rmdir_recursiveRequest_descriptor_;
 }
 
-const xtreemfs_replica_removeRequest& xtreemfs_replica_removeRequest::default_instance() {
+const xtreemfs_rmdir_recursiveRequest& xtreemfs_rmdir_recursiveRequest::default_instance() {
   if (default_instance_ == NULL) protobuf_AddDesc_xtreemfs_2fMRC_2eproto();
   return *default_instance_;
 }
 
-xtreemfs_replica_removeRequest* xtreemfs_replica_removeRequest::default_instance_ = NULL;
+xtreemfs_rmdir_recursiveRequest* xtreemfs_rmdir_recursiveRequest::default_instance_ = NULL;
 
-xtreemfs_replica_removeRequest* xtreemfs_replica_removeRequest::New() const {
-  return new xtreemfs_replica_removeRequest;
+xtreemfs_rmdir_recursiveRequest* xtreemfs_rmdir_recursiveRequest::New() const {
+  return new xtreemfs_rmdir_recursiveRequest;
 }
 
-void xtreemfs_replica_removeRequest::Clear() {
+void xtreemfs_rmdir_recursiveRequest::Clear() {
   if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
-    if (has_file_id()) {
-      if (file_id_ != &::google::protobuf::internal::kEmptyString) {
-        file_id_->clear();
-      }
-    }
-    if (has_path()) {
-      if (path_ != &::google::protobuf::internal::kEmptyString) {
-        path_->clear();
-      }
-    }
     if (has_volume_name()) {
       if (volume_name_ != &::google::protobuf::internal::kEmptyString) {
         volume_name_->clear();
       }
     }
-    if (has_osd_uuid()) {
-      if (osd_uuid_ != &::google::protobuf::internal::kEmptyString) {
-        osd_uuid_->clear();
+    if (has_path()) {
+      if (path_ != &::google::protobuf::internal::kEmptyString) {
+        path_->clear();
       }
     }
+    max_entries_ = 0u;
   }
   ::memset(_has_bits_, 0, sizeof(_has_bits_));
   mutable_unknown_fields()->Clear();
 }
 
-bool xtreemfs_replica_removeRequest::MergePartialFromCodedStream(
+bool xtreemfs_rmdir_recursiveRequest::MergePartialFromCodedStream(
     ::google::protobuf::io::CodedInputStream* input) {
 #define DO_(EXPRESSION) if (!(EXPRESSION)) return false
   ::google::protobuf::uint32 tag;
   while ((tag = input->ReadTag()) != 0) {
     switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
-      // optional string file_id = 1;
+      // required string volume_name = 1;
       case 1: {
         if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
             ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
           DO_(::google::protobuf::internal::WireFormatLite::ReadString(
-                input, this->mutable_file_id()));
+                input, this->mutable_volume_name()));
           ::google::protobuf::internal::WireFormat::VerifyUTF8String(
-            this->file_id().data(), this->file_id().length(),
+            this->volume_name().data(), this->volume_name().length(),
             ::google::protobuf::internal::WireFormat::PARSE);
         } else {
           goto handle_uninterpreted;
         }
-        if (input->ExpectTag(18)) goto parse_osd_uuid;
+        if (input->ExpectTag(18)) goto parse_path;
         break;
       }
 
-      // required string osd_uuid = 2;
+      // required string path = 2;
       case 2: {
-        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
-            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
-         parse_osd_uuid:
-          DO_(::google::protobuf::internal::WireFormatLite::ReadString(
-                input, this->mutable_osd_uuid()));
-          ::google::protobuf::internal::WireFormat::VerifyUTF8String(
-            this->osd_uuid().data(), this->osd_uuid().length(),
-            ::google::protobuf::internal::WireFormat::PARSE);
-        } else {
-          goto handle_uninterpreted;
-        }
-        if (input->ExpectTag(26)) goto parse_path;
-        break;
-      }
-
-      // optional string path = 3;
-      case 3: {
         if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
             ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
          parse_path:
@@ -16292,20 +20732,19 @@ bool xtreemfs_replica_removeRequest::MergePartialFromCodedStream(
         } else {
           goto handle_uninterpreted;
         }
-        if (input->ExpectTag(34)) goto parse_volume_name;
+        if (input->ExpectTag(29)) goto parse_max_entries;
         break;
       }
 
-      // optional string volume_name = 4;
-      case 4: {
+      // required fixed32 max_entries = 3;
+      case 3: {
         if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
-            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
-         parse_volume_name:
-          DO_(::google::protobuf::internal::WireFormatLite::ReadString(
-                input, this->mutable_volume_name()));
-          ::google::protobuf::internal::WireFormat::VerifyUTF8String(
-            this->volume_name().data(), this->volume_name().length(),
-            ::google::protobuf::internal::WireFormat::PARSE);
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_FIXED32) {
+         parse_max_entries:
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_FIXED32>(
+                 input, &max_entries_)));
+          set_has_max_entries();
         } else {
           goto handle_uninterpreted;
         }
@@ -16329,90 +20768,62 @@ bool xtreemfs_replica_removeRequest::MergePartialFromCodedStream(
 #undef DO_
 }
 
-void xtreemfs_replica_removeRequest::SerializeWithCachedSizes(
+void xtreemfs_rmdir_recursiveRequest::SerializeWithCachedSizes(
     ::google::protobuf::io::CodedOutputStream* output) const {
-  // optional string file_id = 1;
-  if (has_file_id()) {
-    ::google::protobuf::internal::WireFormat::VerifyUTF8String(
-      this->file_id().data(), this->file_id().length(),
-      ::google::protobuf::internal::WireFormat::SERIALIZE);
-    ::google::protobuf::internal::WireFormatLite::WriteString(
-      1, this->file_id(), output);
-  }
-
-  // required string osd_uuid = 2;
-  if (has_osd_uuid()) {
+  // required string volume_name = 1;
+  if (has_volume_name()) {
     ::google::protobuf::internal::WireFormat::VerifyUTF8String(
-      this->osd_uuid().data(), this->osd_uuid().length(),
+      this->volume_name().data(), this->volume_name().length(),
       ::google::protobuf::internal::WireFormat::SERIALIZE);
     ::google::protobuf::internal::WireFormatLite::WriteString(
-      2, this->osd_uuid(), output);
+      1, this->volume_name(), output);
   }
 
-  // optional string path = 3;
+  // required string path = 2;
   if (has_path()) {
     ::google::protobuf::internal::WireFormat::VerifyUTF8String(
       this->path().data(), this->path().length(),
       ::google::protobuf::internal::WireFormat::SERIALIZE);
     ::google::protobuf::internal::WireFormatLite::WriteString(
-      3, this->path(), output);
+      2, this->path(), output);
   }
 
-  // optional string volume_name = 4;
-  if (has_volume_name()) {
-    ::google::protobuf::internal::WireFormat::VerifyUTF8String(
-      this->volume_name().data(), this->volume_name().length(),
-      ::google::protobuf::internal::WireFormat::SERIALIZE);
-    ::google::protobuf::internal::WireFormatLite::WriteString(
-      4, this->volume_name(), output);
+  // required fixed32 max_entries = 3;
+  if (has_max_entries()) {
+    ::google::protobuf::internal::WireFormatLite::WriteFixed32(3, this->max_entries(), output);
   }
 
   if (!unknown_fields().empty()) {
     ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
         unknown_fields(), output);
   }
-}
-
-::google::protobuf::uint8* xtreemfs_replica_removeRequest::SerializeWithCachedSizesToArray(
-    ::google::protobuf::uint8* target) const {
-  // optional string file_id = 1;
-  if (has_file_id()) {
-    ::google::protobuf::internal::WireFormat::VerifyUTF8String(
-      this->file_id().data(), this->file_id().length(),
-      ::google::protobuf::internal::WireFormat::SERIALIZE);
-    target =
-      ::google::protobuf::internal::WireFormatLite::WriteStringToArray(
-        1, this->file_id(), target);
-  }
+}
 
-  // required string osd_uuid = 2;
-  if (has_osd_uuid()) {
+::google::protobuf::uint8* xtreemfs_rmdir_recursiveRequest::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // required string volume_name = 1;
+  if (has_volume_name()) {
     ::google::protobuf::internal::WireFormat::VerifyUTF8String(
-      this->osd_uuid().data(), this->osd_uuid().length(),
+      this->volume_name().data(), this->volume_name().length(),
       ::google::protobuf::internal::WireFormat::SERIALIZE);
     target =
       ::google::protobuf::internal::WireFormatLite::WriteStringToArray(
-        2, this->osd_uuid(), target);
+        1, this->volume_name(), target);
   }
 
-  // optional string path = 3;
+  // required string path = 2;
   if (has_path()) {
     ::google::protobuf::internal::WireFormat::VerifyUTF8String(
       this->path().data(), this->path().length(),
       ::google::protobuf::internal::WireFormat::SERIALIZE);
     target =
       ::google::protobuf::internal::WireFormatLite::WriteStringToArray(
-        3, this->path(), target);
+        2, this->path(), target);
   }
 
-  // optional string volume_name = 4;
-  if (has_volume_name()) {
-    ::google::protobuf::internal::WireFormat::VerifyUTF8String(
-      this->volume_name().data(), this->volume_name().length(),
-      ::google::protobuf::internal::WireFormat::SERIALIZE);
-    target =
-      ::google::protobuf::internal::WireFormatLite::WriteStringToArray(
-        4, this->volume_name(), target);
+  // required fixed32 max_entries = 3;
+  if (has_max_entries()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteFixed32ToArray(3, this->max_entries(), target);
   }
 
   if (!unknown_fields().empty()) {
@@ -16422,36 +20833,27 @@ void xtreemfs_replica_removeRequest::SerializeWithCachedSizes(
   return target;
 }
 
-int xtreemfs_replica_removeRequest::ByteSize() const {
+int xtreemfs_rmdir_recursiveRequest::ByteSize() const {
   int total_size = 0;
 
   if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
-    // optional string file_id = 1;
-    if (has_file_id()) {
+    // required string volume_name = 1;
+    if (has_volume_name()) {
       total_size += 1 +
         ::google::protobuf::internal::WireFormatLite::StringSize(
-          this->file_id());
+          this->volume_name());
     }
 
-    // optional string path = 3;
+    // required string path = 2;
     if (has_path()) {
       total_size += 1 +
         ::google::protobuf::internal::WireFormatLite::StringSize(
           this->path());
     }
 
-    // optional string volume_name = 4;
-    if (has_volume_name()) {
-      total_size += 1 +
-        ::google::protobuf::internal::WireFormatLite::StringSize(
-          this->volume_name());
-    }
-
-    // required string osd_uuid = 2;
-    if (has_osd_uuid()) {
-      total_size += 1 +
-        ::google::protobuf::internal::WireFormatLite::StringSize(
-          this->osd_uuid());
+    // required fixed32 max_entries = 3;
+    if (has_max_entries()) {
+      total_size += 1 + 4;
     }
 
   }
@@ -16466,10 +20868,10 @@ int xtreemfs_replica_removeRequest::ByteSize() const {
   return total_size;
 }
 
-void xtreemfs_replica_removeRequest::MergeFrom(const ::google::protobuf::Message& from) {
+void xtreemfs_rmdir_recursiveRequest::MergeFrom(const ::google::protobuf::Message& from) {
   GOOGLE_CHECK_NE(&from, this);
-  const xtreemfs_replica_removeRequest* source =
-    ::google::protobuf::internal::dynamic_cast_if_available<const xtreemfs_replica_removeRequest*>(
+  const xtreemfs_rmdir_recursiveRequest* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const xtreemfs_rmdir_recursiveRequest*>(
       &from);
   if (source == NULL) {
     ::google::protobuf::internal::ReflectionOps::Merge(from, this);
@@ -16478,60 +20880,56 @@ void xtreemfs_replica_removeRequest::MergeFrom(const ::google::protobuf::Message
   }
 }
 
-void xtreemfs_replica_removeRequest::MergeFrom(const xtreemfs_replica_removeRequest& from) {
+void xtreemfs_rmdir_recursiveRequest::MergeFrom(const xtreemfs_rmdir_recursiveRequest& from) {
   GOOGLE_CHECK_NE(&from, this);
   if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
-    if (from.has_file_id()) {
-      set_file_id(from.file_id());
+    if (from.has_volume_name()) {
+      set_volume_name(from.volume_name());
     }
     if (from.has_path()) {
       set_path(from.path());
     }
-    if (from.has_volume_name()) {
-      set_volume_name(from.volume_name());
-    }
-    if (from.has_osd_uuid()) {
-      set_osd_uuid(from.osd_uuid());
+    if (from.has_max_entries()) {
+      set_max_entries(from.max_entries());
     }
   }
   mutable_unknown_fields()->MergeFrom(from.unknown_fields());
 }
 
-void xtreemfs_replica_removeRequest::CopyFrom(const ::google::protobuf::Message& from) {
+void xtreemfs_rmdir_recursiveRequest::CopyFrom(const ::google::protobuf::Message& from) {
   if (&from == this) return;
   Clear();
   MergeFrom(from);
 }
 
-void xtreemfs_replica_removeRequest::CopyFrom(const xtreemfs_replica_removeRequest& from) {
+void xtreemfs_rmdir_recursiveRequest::CopyFrom(const xtreemfs_rmdir_recursiveRequest& from) {
   if (&from == this) return;
   Clear();
   MergeFrom(from);
 }
 
-bool xtreemfs_replica_removeRequest::IsInitialized() const {
-  if ((_has_bits_[0] & 0x00000008) != 0x00000008) return false;
+bool xtreemfs_rmdir_recursiveRequest::IsInitialized() const {
+  if ((_has_bits_[0] & 0x00000007) != 0x00000007) return false;
 
   return true;
 }
 
-void xtreemfs_replica_removeRequest::Swap(xtreemfs_replica_removeRequest* other) {
+void xtreemfs_rmdir_recursiveRequest::Swap(xtreemfs_rmdir_recursiveRequest* other) {
   if (other != this) {
-    std::swap(file_id_, other->file_id_);
-    std::swap(path_, other->path_);
     std::swap(volume_name_, other->volume_name_);
-    std::swap(osd_uuid_, other->osd_uuid_);
+    std::swap(path_, other->path_);
+    std::swap(max_entries_, other->max_entries_);
     std::swap(_has_bits_[0], other->_has_bits_[0]);
     _unknown_fields_.Swap(&other->_unknown_fields_);
     std::swap(_cached_size_, other->_cached_size_);
   }
 }
 
-::google::protobuf::Metadata xtreemfs_replica_removeRequest::GetMetadata() const {
+::google::protobuf::Metadata xtreemfs_rmdir_recursiveRequest::GetMetadata() const {
   protobuf_AssignDescriptorsOnce();
   ::google::protobuf::Metadata metadata;
-  metadata.descriptor = xtreemfs_replica_removeRequest_descriptor_;
-  metadata.reflection = xtreemfs_replica_removeRequest_reflection_;
+  metadata.descriptor = xtreemfs_rmdir_recursiveRequest_descriptor_;
+  metadata.reflection = xtreemfs_rmdir_recursiveRequest_reflection_;
   return metadata;
 }
 
@@ -16539,181 +20937,119 @@ void xtreemfs_replica_removeRequest::Swap(xtreemfs_replica_removeRequest* other)
 // ===================================================================
 
 #ifndef _MSC_VER
-const int xtreemfs_restore_fileRequest::kFilePathFieldNumber;
-const int xtreemfs_restore_fileRequest::kFileIdFieldNumber;
-const int xtreemfs_restore_fileRequest::kFileSizeFieldNumber;
-const int xtreemfs_restore_fileRequest::kOsdUuidFieldNumber;
-const int xtreemfs_restore_fileRequest::kStripeSizeFieldNumber;
+const int xtreemfs_rmdir_recursiveResponse::kTimestampSFieldNumber;
+const int xtreemfs_rmdir_recursiveResponse::kNumDeletedFieldNumber;
+const int xtreemfs_rmdir_recursiveResponse::kCompleteFieldNumber;
 #endif  // !_MSC_VER
 
-xtreemfs_restore_fileRequest::xtreemfs_restore_fileRequest()
+xtreemfs_rmdir_recursiveResponse::xtreemfs_rmdir_recursiveResponse()
   : ::google::protobuf::Message() {
   SharedCtor();
 }
 
-void xtreemfs_restore_fileRequest::InitAsDefaultInstance() {
+void xtreemfs_rmdir_recursiveResponse::InitAsDefaultInstance() {
 }
 
-xtreemfs_restore_fileRequest::xtreemfs_restore_fileRequest(const xtreemfs_restore_fileRequest& from)
+xtreemfs_rmdir_recursiveResponse::xtreemfs_rmdir_recursiveResponse(const xtreemfs_rmdir_recursiveResponse& from)
   : ::google::protobuf::Message() {
   SharedCtor();
   MergeFrom(from);
 }
 
-void xtreemfs_restore_fileRequest::SharedCtor() {
+void xtreemfs_rmdir_recursiveResponse::SharedCtor() {
   _cached_size_ = 0;
-  file_path_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
-  file_id_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
-  file_size_ = GOOGLE_ULONGLONG(0);
-  osd_uuid_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
-  stripe_size_ = 0u;
+  timestamp_s_ = 0u;
+  num_deleted_ = 0u;
+  complete_ = false;
   ::memset(_has_bits_, 0, sizeof(_has_bits_));
 }
 
-xtreemfs_restore_fileRequest::~xtreemfs_restore_fileRequest() {
+xtreemfs_rmdir_recursiveResponse::~xtreemfs_rmdir_recursiveResponse() {
   SharedDtor();
 }
 
-void xtreemfs_restore_fileRequest::SharedDtor() {
-  if (file_path_ != &::google::protobuf::internal::kEmptyString) {
-    delete file_path_;
-  }
-  if (file_id_ != &::google::protobuf::internal::kEmptyString) {
-    delete file_id_;
-  }
-  if (osd_uuid_ != &::google::protobuf::internal::kEmptyString) {
-    delete osd_uuid_;
-  }
+void xtreemfs_rmdir_recursiveResponse::SharedDtor() {
   if (this != default_instance_) {
   }
 }
 
-void xtreemfs_restore_fileRequest::SetCachedSize(int size) const {
+void xtreemfs_rmdir_recursiveResponse::SetCachedSize(int size) const {
   GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
   _cached_size_ = size;
   GOOGLE_SAFE_CONCURRENT_WRITES_END();
 }
-const ::google::protobuf::Descriptor* xtreemfs_restore_fileRequest::descriptor() {
+const ::google::protobuf::Descriptor* xtreemfs_rmdir_recursiveResponse::descriptor() {
   protobuf_AssignDescriptorsOnce();
-  return xtreemfs_restore_fileRequest_descriptor_;
+  return xtreemfs_rmdir_recursiveResponse_descriptor_;
 }
 
-const xtreemfs_restore_fileRequest& xtreemfs_restore_fileRequest::default_instance() {
+const xtreemfs_rmdir_recursiveResponse& xtreemfs_rmdir_recursiveResponse::default_instance() {
   if (default_instance_ == NULL) protobuf_AddDesc_xtreemfs_2fMRC_2eproto();
   return *default_instance_;
 }
 
-xtreemfs_restore_fileRequest* xtreemfs_restore_fileRequest::default_instance_ = NULL;
+xtreemfs_rmdir_recursiveResponse* xtreemfs_rmdir_recursiveResponse::default_instance_ = NULL;
 
-xtreemfs_restore_fileRequest* xtreemfs_restore_fileRequest::New() const {
-  return new xtreemfs_restore_fileRequest;
+xtreemfs_rmdir_recursiveResponse* xtreemfs_rmdir_recursiveResponse::New() const {
+  return new xtreemfs_rmdir_recursiveResponse;
 }
 
-void xtreemfs_restore_fileRequest::Clear() {
+void xtreemfs_rmdir_recursiveResponse::Clear() {
   if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
-    if (has_file_path()) {
-      if (file_path_ != &::google::protobuf::internal::kEmptyString) {
-        file_path_->clear();
-      }
-    }
-    if (has_file_id()) {
-      if (file_id_ != &::google::protobuf::internal::kEmptyString) {
-        file_id_->clear();
-      }
-    }
-    file_size_ = GOOGLE_ULONGLONG(0);
-    if (has_osd_uuid()) {
-      if (osd_uuid_ != &::google::protobuf::internal::kEmptyString) {
-        osd_uuid_->clear();
-      }
-    }
-    stripe_size_ = 0u;
+    timestamp_s_ = 0u;
+    num_deleted_ = 0u;
+    complete_ = false;
   }
   ::memset(_has_bits_, 0, sizeof(_has_bits_));
   mutable_unknown_fields()->Clear();
 }
 
-bool xtreemfs_restore_fileRequest::MergePartialFromCodedStream(
+bool xtreemfs_rmdir_recursiveResponse::MergePartialFromCodedStream(
     ::google::protobuf::io::CodedInputStream* input) {
 #define DO_(EXPRESSION) if (!(EXPRESSION)) return false
   ::google::protobuf::uint32 tag;
   while ((tag = input->ReadTag()) != 0) {
     switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
-      // required string file_path = 1;
+      // required fixed32 timestamp_s = 1;
       case 1: {
         if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
-            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
-          DO_(::google::protobuf::internal::WireFormatLite::ReadString(
-                input, this->mutable_file_path()));
-          ::google::protobuf::internal::WireFormat::VerifyUTF8String(
-            this->file_path().data(), this->file_path().length(),
-            ::google::protobuf::internal::WireFormat::PARSE);
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_FIXED32) {
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_FIXED32>(
+                 input, &timestamp_s_)));
+          set_has_timestamp_s();
         } else {
           goto handle_uninterpreted;
         }
-        if (input->ExpectTag(18)) goto parse_file_id;
+        if (input->ExpectTag(21)) goto parse_num_deleted;
         break;
       }
 
-      // required string file_id = 2;
+      // required fixed32 num_deleted = 2;
       case 2: {
         if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
-            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
-         parse_file_id:
-          DO_(::google::protobuf::internal::WireFormatLite::ReadString(
-                input, this->mutable_file_id()));
-          ::google::protobuf::internal::WireFormat::VerifyUTF8String(
-            this->file_id().data(), this->file_id().length(),
-            ::google::protobuf::internal::WireFormat::PARSE);
-        } else {
-          goto handle_uninterpreted;
-        }
-        if (input->ExpectTag(25)) goto parse_file_size;
-        break;
-      }
-
-      // required fixed64 file_size = 3;
-      case 3: {
-        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
-            ::google::protobuf::internal::WireFormatLite::WIRETYPE_FIXED64) {
-         parse_file_size:
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_FIXED32) {
+         parse_num_deleted:
           DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
-                   ::google::protobuf::uint64, ::google::protobuf::internal::WireFormatLite::TYPE_FIXED64>(
-                 input, &file_size_)));
-          set_has_file_size();
-        } else {
-          goto handle_uninterpreted;
-        }
-        if (input->ExpectTag(34)) goto parse_osd_uuid;
-        break;
-      }
-
-      // required string osd_uuid = 4;
-      case 4: {
-        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
-            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
-         parse_osd_uuid:
-          DO_(::google::protobuf::internal::WireFormatLite::ReadString(
-                input, this->mutable_osd_uuid()));
-          ::google::protobuf::internal::WireFormat::VerifyUTF8String(
-            this->osd_uuid().data(), this->osd_uuid().length(),
-            ::google::protobuf::internal::WireFormat::PARSE);
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_FIXED32>(
+                 input, &num_deleted_)));
+          set_has_num_deleted();
         } else {
           goto handle_uninterpreted;
         }
-        if (input->ExpectTag(45)) goto parse_stripe_size;
+        if (input->ExpectTag(24)) goto parse_complete;
         break;
       }
 
-      // required fixed32 stripe_size = 5;
-      case 5: {
+      // required bool complete = 3;
+      case 3: {
         if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
-            ::google::protobuf::internal::WireFormatLite::WIRETYPE_FIXED32) {
-         parse_stripe_size:
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+         parse_complete:
           DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
-                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_FIXED32>(
-                 input, &stripe_size_)));
-          set_has_stripe_size();
+                   bool, ::google::protobuf::internal::WireFormatLite::TYPE_BOOL>(
+                 input, &complete_)));
+          set_has_complete();
         } else {
           goto handle_uninterpreted;
         }
@@ -16737,91 +21073,44 @@ bool xtreemfs_restore_fileRequest::MergePartialFromCodedStream(
 #undef DO_
 }
 
-void xtreemfs_restore_fileRequest::SerializeWithCachedSizes(
+void xtreemfs_rmdir_recursiveResponse::SerializeWithCachedSizes(
     ::google::protobuf::io::CodedOutputStream* output) const {
-  // required string file_path = 1;
-  if (has_file_path()) {
-    ::google::protobuf::internal::WireFormat::VerifyUTF8String(
-      this->file_path().data(), this->file_path().length(),
-      ::google::protobuf::internal::WireFormat::SERIALIZE);
-    ::google::protobuf::internal::WireFormatLite::WriteString(
-      1, this->file_path(), output);
-  }
-
-  // required string file_id = 2;
-  if (has_file_id()) {
-    ::google::protobuf::internal::WireFormat::VerifyUTF8String(
-      this->file_id().data(), this->file_id().length(),
-      ::google::protobuf::internal::WireFormat::SERIALIZE);
-    ::google::protobuf::internal::WireFormatLite::WriteString(
-      2, this->file_id(), output);
-  }
-
-  // required fixed64 file_size = 3;
-  if (has_file_size()) {
-    ::google::protobuf::internal::WireFormatLite::WriteFixed64(3, this->file_size(), output);
-  }
-
-  // required string osd_uuid = 4;
-  if (has_osd_uuid()) {
-    ::google::protobuf::internal::WireFormat::VerifyUTF8String(
-      this->osd_uuid().data(), this->osd_uuid().length(),
-      ::google::protobuf::internal::WireFormat::SERIALIZE);
-    ::google::protobuf::internal::WireFormatLite::WriteString(
-      4, this->osd_uuid(), output);
-  }
-
-  // required fixed32 stripe_size = 5;
-  if (has_stripe_size()) {
-    ::google::protobuf::internal::WireFormatLite::WriteFixed32(5, this->stripe_size(), output);
-  }
-
-  if (!unknown_fields().empty()) {
-    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
-        unknown_fields(), output);
-  }
-}
-
-::google::protobuf::uint8* xtreemfs_restore_fileRequest::SerializeWithCachedSizesToArray(
-    ::google::protobuf::uint8* target) const {
-  // required string file_path = 1;
-  if (has_file_path()) {
-    ::google::protobuf::internal::WireFormat::VerifyUTF8String(
-      this->file_path().data(), this->file_path().length(),
-      ::google::protobuf::internal::WireFormat::SERIALIZE);
-    target =
-      ::google::protobuf::internal::WireFormatLite::WriteStringToArray(
-        1, this->file_path(), target);
+  // required fixed32 timestamp_s = 1;
+  if (has_timestamp_s()) {
+    ::google::protobuf::internal::WireFormatLite::WriteFixed32(1, this->timestamp_s(), output);
   }
-
-  // required string file_id = 2;
-  if (has_file_id()) {
-    ::google::protobuf::internal::WireFormat::VerifyUTF8String(
-      this->file_id().data(), this->file_id().length(),
-      ::google::protobuf::internal::WireFormat::SERIALIZE);
-    target =
-      ::google::protobuf::internal::WireFormatLite::WriteStringToArray(
-        2, this->file_id(), target);
+
+  // required fixed32 num_deleted = 2;
+  if (has_num_deleted()) {
+    ::google::protobuf::internal::WireFormatLite::WriteFixed32(2, this->num_deleted(), output);
   }
 
-  // required fixed64 file_size = 3;
-  if (has_file_size()) {
-    target = ::google::protobuf::internal::WireFormatLite::WriteFixed64ToArray(3, this->file_size(), target);
+  // required bool complete = 3;
+  if (has_complete()) {
+    ::google::protobuf::internal::WireFormatLite::WriteBool(3, this->complete(), output);
   }
 
-  // required string osd_uuid = 4;
-  if (has_osd_uuid()) {
-    ::google::protobuf::internal::WireFormat::VerifyUTF8String(
-      this->osd_uuid().data(), this->osd_uuid().length(),
-      ::google::protobuf::internal::WireFormat::SERIALIZE);
-    target =
-      ::google::protobuf::internal::WireFormatLite::WriteStringToArray(
-        4, this->osd_uuid(), target);
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* xtreemfs_rmdir_recursiveResponse::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // required fixed32 timestamp_s = 1;
+  if (has_timestamp_s()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteFixed32ToArray(1, this->timestamp_s(), target);
   }
 
-  // required fixed32 stripe_size = 5;
-  if (has_stripe_size()) {
-    target = ::google::protobuf::internal::WireFormatLite::WriteFixed32ToArray(5, this->stripe_size(), target);
+  // required fixed32 num_deleted = 2;
+  if (has_num_deleted()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteFixed32ToArray(2, this->num_deleted(), target);
+  }
+
+  // required bool complete = 3;
+  if (has_complete()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteBoolToArray(3, this->complete(), target);
   }
 
   if (!unknown_fields().empty()) {
@@ -16831,39 +21120,23 @@ void xtreemfs_restore_fileRequest::SerializeWithCachedSizes(
   return target;
 }
 
-int xtreemfs_restore_fileRequest::ByteSize() const {
+int xtreemfs_rmdir_recursiveResponse::ByteSize() const {
   int total_size = 0;
 
   if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
-    // required string file_path = 1;
-    if (has_file_path()) {
-      total_size += 1 +
-        ::google::protobuf::internal::WireFormatLite::StringSize(
-          this->file_path());
-    }
-
-    // required string file_id = 2;
-    if (has_file_id()) {
-      total_size += 1 +
-        ::google::protobuf::internal::WireFormatLite::StringSize(
-          this->file_id());
-    }
-
-    // required fixed64 file_size = 3;
-    if (has_file_size()) {
-      total_size += 1 + 8;
+    // required fixed32 timestamp_s = 1;
+    if (has_timestamp_s()) {
+      total_size += 1 + 4;
     }
 
-    // required string osd_uuid = 4;
-    if (has_osd_uuid()) {
-      total_size += 1 +
-        ::google::protobuf::internal::WireFormatLite::StringSize(
-          this->osd_uuid());
+    // required fixed32 num_deleted = 2;
+    if (has_num_deleted()) {
+      total_size += 1 + 4;
     }
 
-    // required fixed32 stripe_size = 5;
-    if (has_stripe_size()) {
-      total_size += 1 + 4;
+    // required bool complete = 3;
+    if (has_complete()) {
+      total_size += 1 + 1;
     }
 
   }
@@ -16878,10 +21151,10 @@ int xtreemfs_restore_fileRequest::ByteSize() const {
   return total_size;
 }
 
-void xtreemfs_restore_fileRequest::MergeFrom(const ::google::protobuf::Message& from) {
+void xtreemfs_rmdir_recursiveResponse::MergeFrom(const ::google::protobuf::Message& from) {
   GOOGLE_CHECK_NE(&from, this);
-  const xtreemfs_restore_fileRequest* source =
-    ::google::protobuf::internal::dynamic_cast_if_available<const xtreemfs_restore_fileRequest*>(
+  const xtreemfs_rmdir_recursiveResponse* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const xtreemfs_rmdir_recursiveResponse*>(
       &from);
   if (source == NULL) {
     ::google::protobuf::internal::ReflectionOps::Merge(from, this);
@@ -16890,64 +21163,56 @@ void xtreemfs_restore_fileRequest::MergeFrom(const ::google::protobuf::Message&
   }
 }
 
-void xtreemfs_restore_fileRequest::MergeFrom(const xtreemfs_restore_fileRequest& from) {
+void xtreemfs_rmdir_recursiveResponse::MergeFrom(const xtreemfs_rmdir_recursiveResponse& from) {
   GOOGLE_CHECK_NE(&from, this);
   if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
-    if (from.has_file_path()) {
-      set_file_path(from.file_path());
-    }
-    if (from.has_file_id()) {
-      set_file_id(from.file_id());
-    }
-    if (from.has_file_size()) {
-      set_file_size(from.file_size());
+    if (from.has_timestamp_s()) {
+      set_timestamp_s(from.timestamp_s());
     }
-    if (from.has_osd_uuid()) {
-      set_osd_uuid(from.osd_uuid());
+    if (from.has_num_deleted()) {
+      set_num_deleted(from.num_deleted());
     }
-    if (from.has_stripe_size()) {
-      set_stripe_size(from.stripe_size());
+    if (from.has_complete()) {
+      set_complete(from.complete());
     }
   }
   mutable_unknown_fields()->MergeFrom(from.unknown_fields());
 }
 
-void xtreemfs_restore_fileRequest::CopyFrom(const ::google::protobuf::Message& from) {
+void xtreemfs_rmdir_recursiveResponse::CopyFrom(const ::google::protobuf::Message& from) {
   if (&from == this) return;
   Clear();
   MergeFrom(from);
 }
 
-void xtreemfs_restore_fileRequest::CopyFrom(const xtreemfs_restore_fileRequest& from) {
+void xtreemfs_rmdir_recursiveResponse::CopyFrom(const xtreemfs_rmdir_recursiveResponse& from) {
   if (&from == this) return;
   Clear();
   MergeFrom(from);
 }
 
-bool xtreemfs_restore_fileRequest::IsInitialized() const {
-  if ((_has_bits_[0] & 0x0000001f) != 0x0000001f) return false;
+bool xtreemfs_rmdir_recursiveResponse::IsInitialized() const {
+  if ((_has_bits_[0] & 0x00000007) != 0x00000007) return false;
 
   return true;
 }
 
-void xtreemfs_restore_fileRequest::Swap(xtreemfs_restore_fileRequest* other) {
+void xtreemfs_rmdir_recursiveResponse::Swap(xtreemfs_rmdir_recursiveResponse* other) {
   if (other != this) {
-    std::swap(file_path_, other->file_path_);
-    std::swap(file_id_, other->file_id_);
-    std::swap(file_size_, other->file_size_);
-    std::swap(osd_uuid_, other->osd_uuid_);
-    std::swap(stripe_size_, other->stripe_size_);
+    std::swap(timestamp_s_, other->timestamp_s_);
+    std::swap(num_deleted_, other->num_deleted_);
+    std::swap(complete_, other->complete_);
     std::swap(_has_bits_[0], other->_has_bits_[0]);
     _unknown_fields_.Swap(&other->_unknown_fields_);
     std::swap(_cached_size_, other->_cached_size_);
   }
 }
 
-::google::protobuf::Metadata xtreemfs_restore_fileRequest::GetMetadata() const {
+::google::protobuf::Metadata xtreemfs_rmdir_recursiveResponse::GetMetadata() const {
   protobuf_AssignDescriptorsOnce();
   ::google::protobuf::Metadata metadata;
-  metadata.descriptor = xtreemfs_restore_fileRequest_descriptor_;
-  metadata.reflection = xtreemfs_restore_fileRequest_reflection_;
+  metadata.descriptor = xtreemfs_rmdir_recursiveResponse_descriptor_;
+  metadata.reflection = xtreemfs_rmdir_recursiveResponse_reflection_;
   return metadata;
 }
 
@@ -16955,75 +21220,108 @@ void xtreemfs_restore_fileRequest::Swap(xtreemfs_restore_fileRequest* other) {
 // ===================================================================
 
 #ifndef _MSC_VER
-const int xtreemfs_rmvolRequest::kVolumeNameFieldNumber;
+const int xtreemfs_setattr_recursiveRequest::kVolumeNameFieldNumber;
+const int xtreemfs_setattr_recursiveRequest::kPathFieldNumber;
+const int xtreemfs_setattr_recursiveRequest::kStbufFieldNumber;
+const int xtreemfs_setattr_recursiveRequest::kToSetFieldNumber;
+const int xtreemfs_setattr_recursiveRequest::kMaxEntriesFieldNumber;
+const int xtreemfs_setattr_recursiveRequest::kCursorFieldNumber;
 #endif  // !_MSC_VER
 
-xtreemfs_rmvolRequest::xtreemfs_rmvolRequest()
+xtreemfs_setattr_recursiveRequest::xtreemfs_setattr_recursiveRequest()
   : ::google::protobuf::Message() {
   SharedCtor();
 }
 
-void xtreemfs_rmvolRequest::InitAsDefaultInstance() {
+void xtreemfs_setattr_recursiveRequest::InitAsDefaultInstance() {
+  stbuf_ = const_cast< ::xtreemfs::pbrpc::Stat*>(&::xtreemfs::pbrpc::Stat::default_instance());
 }
 
-xtreemfs_rmvolRequest::xtreemfs_rmvolRequest(const xtreemfs_rmvolRequest& from)
+xtreemfs_setattr_recursiveRequest::xtreemfs_setattr_recursiveRequest(const xtreemfs_setattr_recursiveRequest& from)
   : ::google::protobuf::Message() {
   SharedCtor();
   MergeFrom(from);
 }
 
-void xtreemfs_rmvolRequest::SharedCtor() {
+void xtreemfs_setattr_recursiveRequest::SharedCtor() {
   _cached_size_ = 0;
   volume_name_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  path_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  stbuf_ = NULL;
+  to_set_ = 0u;
+  max_entries_ = 0u;
+  cursor_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
   ::memset(_has_bits_, 0, sizeof(_has_bits_));
 }
 
-xtreemfs_rmvolRequest::~xtreemfs_rmvolRequest() {
+xtreemfs_setattr_recursiveRequest::~xtreemfs_setattr_recursiveRequest() {
   SharedDtor();
 }
 
-void xtreemfs_rmvolRequest::SharedDtor() {
+void xtreemfs_setattr_recursiveRequest::SharedDtor() {
   if (volume_name_ != &::google::protobuf::internal::kEmptyString) {
     delete volume_name_;
   }
+  if (path_ != &::google::protobuf::internal::kEmptyString) {
+    delete path_;
+  }
+  if (cursor_ != &::google::protobuf::internal::kEmptyString) {
+    delete cursor_;
+  }
   if (this != default_instance_) {
+    delete stbuf_;
   }
 }
 
-void xtreemfs_rmvolRequest::SetCachedSize(int size) const {
+void xtreemfs_setattr_recursiveRequest::SetCachedSize(int size) const {
   GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
   _cached_size_ = size;
   GOOGLE_SAFE_CONCURRENT_WRITES_END();
 }
-const ::google::protobuf::Descriptor* xtreemfs_rmvolRequest::descriptor() {
+const ::google::protobuf::Descriptor* xtreemfs_setattr_recursiveRequest::descriptor() {
   protobuf_AssignDescriptorsOnce();
-  return xtreemfs_rmvolRequest_descriptor_;
+  return xtreemfs_setattr_recursiveRequest_descriptor_;
 }
 
-const xtreemfs_rmvolRequest& xtreemfs_rmvolRequest::default_instance() {
+const xtreemfs_setattr_recursiveRequest& xtreemfs_setattr_recursiveRequest::default_instance() {
   if (default_instance_ == NULL) protobuf_AddDesc_xtreemfs_2fMRC_2eproto();
   return *default_instance_;
 }
 
-xtreemfs_rmvolRequest* xtreemfs_rmvolRequest::default_instance_ = NULL;
+xtreemfs_setattr_recursiveRequest* xtreemfs_setattr_recursiveRequest::default_instance_ = NULL;
 
-xtreemfs_rmvolRequest* xtreemfs_rmvolRequest::New() const {
-  return new xtreemfs_rmvolRequest;
+xtreemfs_setattr_recursiveRequest* xtreemfs_setattr_recursiveRequest::New() const {
+  return new xtreemfs_setattr_recursiveRequest;
 }
 
-void xtreemfs_rmvolRequest::Clear() {
+void xtreemfs_setattr_recursiveRequest::Clear() {
   if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
     if (has_volume_name()) {
       if (volume_name_ != &::google::protobuf::internal::kEmptyString) {
         volume_name_->clear();
       }
     }
+    if (has_path()) {
+      if (path_ != &::google::protobuf::internal::kEmptyString) {
+        path_->clear();
+      }
+    }
+    if (has_stbuf()) {
+      if (stbuf_ != NULL) stbuf_->::xtreemfs::pbrpc::Stat::Clear();
+    }
+    to_set_ = 0u;
+    max_entries_ = 0u;
+    if (has_cursor()) {
+      if (cursor_ != &::google::protobuf::internal::kEmptyString) {
+        cursor_->clear();
+      }
+    }
   }
   ::memset(_has_bits_, 0, sizeof(_has_bits_));
   mutable_unknown_fields()->Clear();
 }
 
-bool xtreemfs_rmvolRequest::MergePartialFromCodedStream(
+bool xtreemfs_setattr_recursiveRequest::MergePartialFromCodedStream(
     ::google::protobuf::io::CodedInputStream* input) {
 #define DO_(EXPRESSION) if (!(EXPRESSION)) return false
   ::google::protobuf::uint32 tag;
@@ -17041,6 +21339,86 @@ bool xtreemfs_rmvolRequest::MergePartialFromCodedStream(
         } else {
           goto handle_uninterpreted;
         }
+        if (input->ExpectTag(18)) goto parse_path;
+        break;
+      }
+
+      // required string path = 2;
+      case 2: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_path:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadString(
+                input, this->mutable_path()));
+          ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+            this->path().data(), this->path().length(),
+            ::google::protobuf::internal::WireFormat::PARSE);
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(26)) goto parse_stbuf;
+        break;
+      }
+
+      // required .xtreemfs.pbrpc.Stat stbuf = 3;
+      case 3: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_stbuf:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadMessageNoVirtual(
+               input, mutable_stbuf()));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(37)) goto parse_to_set;
+        break;
+      }
+
+      // required fixed32 to_set = 4;
+      case 4: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_FIXED32) {
+         parse_to_set:
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_FIXED32>(
+                 input, &to_set_)));
+          set_has_to_set();
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(45)) goto parse_max_entries;
+        break;
+      }
+
+      // required fixed32 max_entries = 5;
+      case 5: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_FIXED32) {
+         parse_max_entries:
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_FIXED32>(
+                 input, &max_entries_)));
+          set_has_max_entries();
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(50)) goto parse_cursor;
+        break;
+      }
+
+      // optional string cursor = 6;
+      case 6: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_cursor:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadString(
+                input, this->mutable_cursor()));
+          ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+            this->cursor().data(), this->cursor().length(),
+            ::google::protobuf::internal::WireFormat::PARSE);
+        } else {
+          goto handle_uninterpreted;
+        }
         if (input->ExpectAtEnd()) return true;
         break;
       }
@@ -17061,7 +21439,7 @@ bool xtreemfs_rmvolRequest::MergePartialFromCodedStream(
 #undef DO_
 }
 
-void xtreemfs_rmvolRequest::SerializeWithCachedSizes(
+void xtreemfs_setattr_recursiveRequest::SerializeWithCachedSizes(
     ::google::protobuf::io::CodedOutputStream* output) const {
   // required string volume_name = 1;
   if (has_volume_name()) {
@@ -17072,22 +21450,93 @@ void xtreemfs_rmvolRequest::SerializeWithCachedSizes(
       1, this->volume_name(), output);
   }
 
+  // required string path = 2;
+  if (has_path()) {
+    ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+      this->path().data(), this->path().length(),
+      ::google::protobuf::internal::WireFormat::SERIALIZE);
+    ::google::protobuf::internal::WireFormatLite::WriteString(
+      2, this->path(), output);
+  }
+
+  // required .xtreemfs.pbrpc.Stat stbuf = 3;
+  if (has_stbuf()) {
+    ::google::protobuf::internal::WireFormatLite::WriteMessageMaybeToArray(
+      3, this->stbuf(), output);
+  }
+
+  // required fixed32 to_set = 4;
+  if (has_to_set()) {
+    ::google::protobuf::internal::WireFormatLite::WriteFixed32(4, this->to_set(), output);
+  }
+
+  // required fixed32 max_entries = 5;
+  if (has_max_entries()) {
+    ::google::protobuf::internal::WireFormatLite::WriteFixed32(5, this->max_entries(), output);
+  }
+
+  // optional string cursor = 6;
+  if (has_cursor()) {
+    ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+      this->cursor().data(), this->cursor().length(),
+      ::google::protobuf::internal::WireFormat::SERIALIZE);
+    ::google::protobuf::internal::WireFormatLite::WriteString(
+      6, this->cursor(), output);
+  }
+
   if (!unknown_fields().empty()) {
     ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
         unknown_fields(), output);
   }
 }
 
-::google::protobuf::uint8* xtreemfs_rmvolRequest::SerializeWithCachedSizesToArray(
+::google::protobuf::uint8* xtreemfs_setattr_recursiveRequest::SerializeWithCachedSizesToArray(
     ::google::protobuf::uint8* target) const {
   // required string volume_name = 1;
   if (has_volume_name()) {
     ::google::protobuf::internal::WireFormat::VerifyUTF8String(
-      this->volume_name().data(), this->volume_name().length(),
+      this->volume_name().data(), this->volume_name().length(),
+      ::google::protobuf::internal::WireFormat::SERIALIZE);
+    target =
+      ::google::protobuf::internal::WireFormatLite::WriteStringToArray(
+        1, this->volume_name(), target);
+  }
+
+  // required string path = 2;
+  if (has_path()) {
+    ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+      this->path().data(), this->path().length(),
+      ::google::protobuf::internal::WireFormat::SERIALIZE);
+    target =
+      ::google::protobuf::internal::WireFormatLite::WriteStringToArray(
+        2, this->path(), target);
+  }
+
+  // required .xtreemfs.pbrpc.Stat stbuf = 3;
+  if (has_stbuf()) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteMessageNoVirtualToArray(
+        3, this->stbuf(), target);
+  }
+
+  // required fixed32 to_set = 4;
+  if (has_to_set()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteFixed32ToArray(4, this->to_set(), target);
+  }
+
+  // required fixed32 max_entries = 5;
+  if (has_max_entries()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteFixed32ToArray(5, this->max_entries(), target);
+  }
+
+  // optional string cursor = 6;
+  if (has_cursor()) {
+    ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+      this->cursor().data(), this->cursor().length(),
       ::google::protobuf::internal::WireFormat::SERIALIZE);
     target =
       ::google::protobuf::internal::WireFormatLite::WriteStringToArray(
-        1, this->volume_name(), target);
+        6, this->cursor(), target);
   }
 
   if (!unknown_fields().empty()) {
@@ -17097,7 +21546,7 @@ void xtreemfs_rmvolRequest::SerializeWithCachedSizes(
   return target;
 }
 
-int xtreemfs_rmvolRequest::ByteSize() const {
+int xtreemfs_setattr_recursiveRequest::ByteSize() const {
   int total_size = 0;
 
   if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
@@ -17108,6 +21557,37 @@ int xtreemfs_rmvolRequest::ByteSize() const {
           this->volume_name());
     }
 
+    // required string path = 2;
+    if (has_path()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::StringSize(
+          this->path());
+    }
+
+    // required .xtreemfs.pbrpc.Stat stbuf = 3;
+    if (has_stbuf()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::MessageSizeNoVirtual(
+          this->stbuf());
+    }
+
+    // required fixed32 to_set = 4;
+    if (has_to_set()) {
+      total_size += 1 + 4;
+    }
+
+    // required fixed32 max_entries = 5;
+    if (has_max_entries()) {
+      total_size += 1 + 4;
+    }
+
+    // optional string cursor = 6;
+    if (has_cursor()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::StringSize(
+          this->cursor());
+    }
+
   }
   if (!unknown_fields().empty()) {
     total_size +=
@@ -17120,10 +21600,10 @@ int xtreemfs_rmvolRequest::ByteSize() const {
   return total_size;
 }
 
-void xtreemfs_rmvolRequest::MergeFrom(const ::google::protobuf::Message& from) {
+void xtreemfs_setattr_recursiveRequest::MergeFrom(const ::google::protobuf::Message& from) {
   GOOGLE_CHECK_NE(&from, this);
-  const xtreemfs_rmvolRequest* source =
-    ::google::protobuf::internal::dynamic_cast_if_available<const xtreemfs_rmvolRequest*>(
+  const xtreemfs_setattr_recursiveRequest* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const xtreemfs_setattr_recursiveRequest*>(
       &from);
   if (source == NULL) {
     ::google::protobuf::internal::ReflectionOps::Merge(from, this);
@@ -17132,48 +21612,71 @@ void xtreemfs_rmvolRequest::MergeFrom(const ::google::protobuf::Message& from) {
   }
 }
 
-void xtreemfs_rmvolRequest::MergeFrom(const xtreemfs_rmvolRequest& from) {
+void xtreemfs_setattr_recursiveRequest::MergeFrom(const xtreemfs_setattr_recursiveRequest& from) {
   GOOGLE_CHECK_NE(&from, this);
   if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
     if (from.has_volume_name()) {
       set_volume_name(from.volume_name());
     }
+    if (from.has_path()) {
+      set_path(from.path());
+    }
+    if (from.has_stbuf()) {
+      mutable_stbuf()->::xtreemfs::pbrpc::Stat::MergeFrom(from.stbuf());
+    }
+    if (from.has_to_set()) {
+      set_to_set(from.to_set());
+    }
+    if (from.has_max_entries()) {
+      set_max_entries(from.max_entries());
+    }
+    if (from.has_cursor()) {
+      set_cursor(from.cursor());
+    }
   }
   mutable_unknown_fields()->MergeFrom(from.unknown_fields());
 }
 
-void xtreemfs_rmvolRequest::CopyFrom(const ::google::protobuf::Message& from) {
+void xtreemfs_setattr_recursiveRequest::CopyFrom(const ::google::protobuf::Message& from) {
   if (&from == this) return;
   Clear();
   MergeFrom(from);
 }
 
-void xtreemfs_rmvolRequest::CopyFrom(const xtreemfs_rmvolRequest& from) {
+void xtreemfs_setattr_recursiveRequest::CopyFrom(const xtreemfs_setattr_recursiveRequest& from) {
   if (&from == this) return;
   Clear();
   MergeFrom(from);
 }
 
-bool xtreemfs_rmvolRequest::IsInitialized() const {
-  if ((_has_bits_[0] & 0x00000001) != 0x00000001) return false;
+bool xtreemfs_setattr_recursiveRequest::IsInitialized() const {
+  if ((_has_bits_[0] & 0x0000001f) != 0x0000001f) return false;
 
+  if (has_stbuf()) {
+    if (!this->stbuf().IsInitialized()) return false;
+  }
   return true;
 }
 
-void xtreemfs_rmvolRequest::Swap(xtreemfs_rmvolRequest* other) {
+void xtreemfs_setattr_recursiveRequest::Swap(xtreemfs_setattr_recursiveRequest* other) {
   if (other != this) {
     std::swap(volume_name_, other->volume_name_);
+    std::swap(path_, other->path_);
+    std::swap(stbuf_, other->stbuf_);
+    std::swap(to_set_, other->to_set_);
+    std::swap(max_entries_, other->max_entries_);
+    std::swap(cursor_, other->cursor_);
     std::swap(_has_bits_[0], other->_has_bits_[0]);
     _unknown_fields_.Swap(&other->_unknown_fields_);
     std::swap(_cached_size_, other->_cached_size_);
   }
 }
 
-::google::protobuf::Metadata xtreemfs_rmvolRequest::GetMetadata() const {
+::google::protobuf::Metadata xtreemfs_setattr_recursiveRequest::GetMetadata() const {
   protobuf_AssignDescriptorsOnce();
   ::google::protobuf::Metadata metadata;
-  metadata.descriptor = xtreemfs_rmvolRequest_descriptor_;
-  metadata.reflection = xtreemfs_rmvolRequest_reflection_;
+  metadata.descriptor = xtreemfs_setattr_recursiveRequest_descriptor_;
+  metadata.reflection = xtreemfs_setattr_recursiveRequest_reflection_;
   return metadata;
 }
 
@@ -17181,144 +21684,127 @@ void xtreemfs_rmvolRequest::Swap(xtreemfs_rmvolRequest* other) {
 // ===================================================================
 
 #ifndef _MSC_VER
-const int xtreemfs_update_file_sizeRequest::kXcapFieldNumber;
-const int xtreemfs_update_file_sizeRequest::kOsdWriteResponseFieldNumber;
-const int xtreemfs_update_file_sizeRequest::kCloseFileFieldNumber;
-const int xtreemfs_update_file_sizeRequest::kCoordinatesFieldNumber;
+const int xtreemfs_setattr_recursiveResponse::kTimestampSFieldNumber;
+const int xtreemfs_setattr_recursiveResponse::kNumUpdatedFieldNumber;
+const int xtreemfs_setattr_recursiveResponse::kCursorFieldNumber;
 #endif  // !_MSC_VER
 
-xtreemfs_update_file_sizeRequest::xtreemfs_update_file_sizeRequest()
+xtreemfs_setattr_recursiveResponse::xtreemfs_setattr_recursiveResponse()
   : ::google::protobuf::Message() {
   SharedCtor();
 }
 
-void xtreemfs_update_file_sizeRequest::InitAsDefaultInstance() {
-  xcap_ = const_cast< ::xtreemfs::pbrpc::XCap*>(&::xtreemfs::pbrpc::XCap::default_instance());
-  osd_write_response_ = const_cast< ::xtreemfs::pbrpc::OSDWriteResponse*>(&::xtreemfs::pbrpc::OSDWriteResponse::default_instance());
-  coordinates_ = const_cast< ::xtreemfs::pbrpc::VivaldiCoordinates*>(&::xtreemfs::pbrpc::VivaldiCoordinates::default_instance());
+void xtreemfs_setattr_recursiveResponse::InitAsDefaultInstance() {
 }
 
-xtreemfs_update_file_sizeRequest::xtreemfs_update_file_sizeRequest(const xtreemfs_update_file_sizeRequest& from)
+xtreemfs_setattr_recursiveResponse::xtreemfs_setattr_recursiveResponse(const xtreemfs_setattr_recursiveResponse& from)
   : ::google::protobuf::Message() {
   SharedCtor();
   MergeFrom(from);
 }
 
-void xtreemfs_update_file_sizeRequest::SharedCtor() {
+void xtreemfs_setattr_recursiveResponse::SharedCtor() {
   _cached_size_ = 0;
-  xcap_ = NULL;
-  osd_write_response_ = NULL;
-  close_file_ = false;
-  coordinates_ = NULL;
+  timestamp_s_ = 0u;
+  num_updated_ = 0u;
+  cursor_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
   ::memset(_has_bits_, 0, sizeof(_has_bits_));
 }
 
-xtreemfs_update_file_sizeRequest::~xtreemfs_update_file_sizeRequest() {
+xtreemfs_setattr_recursiveResponse::~xtreemfs_setattr_recursiveResponse() {
   SharedDtor();
 }
 
-void xtreemfs_update_file_sizeRequest::SharedDtor() {
+void xtreemfs_setattr_recursiveResponse::SharedDtor() {
+  if (cursor_ != &::google::protobuf::internal::kEmptyString) {
+    delete cursor_;
+  }
   if (this != default_instance_) {
-    delete xcap_;
-    delete osd_write_response_;
-    delete coordinates_;
   }
 }
 
-void xtreemfs_update_file_sizeRequest::SetCachedSize(int size) const {
+void xtreemfs_setattr_recursiveResponse::SetCachedSize(int size) const {
   GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
   _cached_size_ = size;
   GOOGLE_SAFE_CONCURRENT_WRITES_END();
 }
-const ::google::protobuf::Descriptor* xtreemfs_update_file_sizeRequest::descriptor() {
+const ::google::protobuf::Descriptor* xtreemfs_setattr_recursiveResponse::descriptor() {
   protobuf_AssignDescriptorsOnce();
-  return xtreemfs_update_file_sizeRequest_descriptor_;
+  return xtreemfs_setattr_recursiveResponse_descriptor_;
 }
 
-const xtreemfs_update_file_sizeRequest& xtreemfs_update_file_sizeRequest::default_instance() {
+const xtreemfs_setattr_recursiveResponse& xtreemfs_setattr_recursiveResponse::default_instance() {
   if (default_instance_ == NULL) protobuf_AddDesc_xtreemfs_2fMRC_2eproto();
   return *default_instance_;
 }
 
-xtreemfs_update_file_sizeRequest* xtreemfs_update_file_sizeRequest::default_instance_ = NULL;
+xtreemfs_setattr_recursiveResponse* xtreemfs_setattr_recursiveResponse::default_instance_ = NULL;
 
-xtreemfs_update_file_sizeRequest* xtreemfs_update_file_sizeRequest::New() const {
-  return new xtreemfs_update_file_sizeRequest;
+xtreemfs_setattr_recursiveResponse* xtreemfs_setattr_recursiveResponse::New() const {
+  return new xtreemfs_setattr_recursiveResponse;
 }
 
-void xtreemfs_update_file_sizeRequest::Clear() {
+void xtreemfs_setattr_recursiveResponse::Clear() {
   if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
-    if (has_xcap()) {
-      if (xcap_ != NULL) xcap_->::xtreemfs::pbrpc::XCap::Clear();
-    }
-    if (has_osd_write_response()) {
-      if (osd_write_response_ != NULL) osd_write_response_->::xtreemfs::pbrpc::OSDWriteResponse::Clear();
-    }
-    close_file_ = false;
-    if (has_coordinates()) {
-      if (coordinates_ != NULL) coordinates_->::xtreemfs::pbrpc::VivaldiCoordinates::Clear();
+    timestamp_s_ = 0u;
+    num_updated_ = 0u;
+    if (has_cursor()) {
+      if (cursor_ != &::google::protobuf::internal::kEmptyString) {
+        cursor_->clear();
+      }
     }
   }
   ::memset(_has_bits_, 0, sizeof(_has_bits_));
   mutable_unknown_fields()->Clear();
 }
 
-bool xtreemfs_update_file_sizeRequest::MergePartialFromCodedStream(
+bool xtreemfs_setattr_recursiveResponse::MergePartialFromCodedStream(
     ::google::protobuf::io::CodedInputStream* input) {
 #define DO_(EXPRESSION) if (!(EXPRESSION)) return false
   ::google::protobuf::uint32 tag;
   while ((tag = input->ReadTag()) != 0) {
     switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
-      // required .xtreemfs.pbrpc.XCap xcap = 1;
+      // required fixed32 timestamp_s = 1;
       case 1: {
         if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
-            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
-          DO_(::google::protobuf::internal::WireFormatLite::ReadMessageNoVirtual(
-               input, mutable_xcap()));
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_FIXED32) {
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_FIXED32>(
+                 input, &timestamp_s_)));
+          set_has_timestamp_s();
         } else {
           goto handle_uninterpreted;
         }
-        if (input->ExpectTag(18)) goto parse_osd_write_response;
+        if (input->ExpectTag(21)) goto parse_num_updated;
         break;
       }
 
-      // required .xtreemfs.pbrpc.OSDWriteResponse osd_write_response = 2;
+      // required fixed32 num_updated = 2;
       case 2: {
         if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
-            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
-         parse_osd_write_response:
-          DO_(::google::protobuf::internal::WireFormatLite::ReadMessageNoVirtual(
-               input, mutable_osd_write_response()));
-        } else {
-          goto handle_uninterpreted;
-        }
-        if (input->ExpectTag(24)) goto parse_close_file;
-        break;
-      }
-
-      // optional bool close_file = 3;
-      case 3: {
-        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
-            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
-         parse_close_file:
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_FIXED32) {
+         parse_num_updated:
           DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
-                   bool, ::google::protobuf::internal::WireFormatLite::TYPE_BOOL>(
-                 input, &close_file_)));
-          set_has_close_file();
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_FIXED32>(
+                 input, &num_updated_)));
+          set_has_num_updated();
         } else {
           goto handle_uninterpreted;
         }
-        if (input->ExpectTag(34)) goto parse_coordinates;
+        if (input->ExpectTag(26)) goto parse_cursor;
         break;
       }
 
-      // optional .xtreemfs.pbrpc.VivaldiCoordinates coordinates = 4;
-      case 4: {
+      // optional string cursor = 3;
+      case 3: {
         if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
             ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
-         parse_coordinates:
-          DO_(::google::protobuf::internal::WireFormatLite::ReadMessageNoVirtual(
-               input, mutable_coordinates()));
+         parse_cursor:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadString(
+                input, this->mutable_cursor()));
+          ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+            this->cursor().data(), this->cursor().length(),
+            ::google::protobuf::internal::WireFormat::PARSE);
         } else {
           goto handle_uninterpreted;
         }
@@ -17342,29 +21828,25 @@ bool xtreemfs_update_file_sizeRequest::MergePartialFromCodedStream(
 #undef DO_
 }
 
-void xtreemfs_update_file_sizeRequest::SerializeWithCachedSizes(
+void xtreemfs_setattr_recursiveResponse::SerializeWithCachedSizes(
     ::google::protobuf::io::CodedOutputStream* output) const {
-  // required .xtreemfs.pbrpc.XCap xcap = 1;
-  if (has_xcap()) {
-    ::google::protobuf::internal::WireFormatLite::WriteMessageMaybeToArray(
-      1, this->xcap(), output);
-  }
-
-  // required .xtreemfs.pbrpc.OSDWriteResponse osd_write_response = 2;
-  if (has_osd_write_response()) {
-    ::google::protobuf::internal::WireFormatLite::WriteMessageMaybeToArray(
-      2, this->osd_write_response(), output);
+  // required fixed32 timestamp_s = 1;
+  if (has_timestamp_s()) {
+    ::google::protobuf::internal::WireFormatLite::WriteFixed32(1, this->timestamp_s(), output);
   }
 
-  // optional bool close_file = 3;
-  if (has_close_file()) {
-    ::google::protobuf::internal::WireFormatLite::WriteBool(3, this->close_file(), output);
+  // required fixed32 num_updated = 2;
+  if (has_num_updated()) {
+    ::google::protobuf::internal::WireFormatLite::WriteFixed32(2, this->num_updated(), output);
   }
 
-  // optional .xtreemfs.pbrpc.VivaldiCoordinates coordinates = 4;
-  if (has_coordinates()) {
-    ::google::protobuf::internal::WireFormatLite::WriteMessageMaybeToArray(
-      4, this->coordinates(), output);
+  // optional string cursor = 3;
+  if (has_cursor()) {
+    ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+      this->cursor().data(), this->cursor().length(),
+      ::google::protobuf::internal::WireFormat::SERIALIZE);
+    ::google::protobuf::internal::WireFormatLite::WriteString(
+      3, this->cursor(), output);
   }
 
   if (!unknown_fields().empty()) {
@@ -17373,32 +21855,26 @@ void xtreemfs_update_file_sizeRequest::SerializeWithCachedSizes(
   }
 }
 
-::google::protobuf::uint8* xtreemfs_update_file_sizeRequest::SerializeWithCachedSizesToArray(
+::google::protobuf::uint8* xtreemfs_setattr_recursiveResponse::SerializeWithCachedSizesToArray(
     ::google::protobuf::uint8* target) const {
-  // required .xtreemfs.pbrpc.XCap xcap = 1;
-  if (has_xcap()) {
-    target = ::google::protobuf::internal::WireFormatLite::
-      WriteMessageNoVirtualToArray(
-        1, this->xcap(), target);
-  }
-
-  // required .xtreemfs.pbrpc.OSDWriteResponse osd_write_response = 2;
-  if (has_osd_write_response()) {
-    target = ::google::protobuf::internal::WireFormatLite::
-      WriteMessageNoVirtualToArray(
-        2, this->osd_write_response(), target);
+  // required fixed32 timestamp_s = 1;
+  if (has_timestamp_s()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteFixed32ToArray(1, this->timestamp_s(), target);
   }
 
-  // optional bool close_file = 3;
-  if (has_close_file()) {
-    target = ::google::protobuf::internal::WireFormatLite::WriteBoolToArray(3, this->close_file(), target);
+  // required fixed32 num_updated = 2;
+  if (has_num_updated()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteFixed32ToArray(2, this->num_updated(), target);
   }
 
-  // optional .xtreemfs.pbrpc.VivaldiCoordinates coordinates = 4;
-  if (has_coordinates()) {
-    target = ::google::protobuf::internal::WireFormatLite::
-      WriteMessageNoVirtualToArray(
-        4, this->coordinates(), target);
+  // optional string cursor = 3;
+  if (has_cursor()) {
+    ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+      this->cursor().data(), this->cursor().length(),
+      ::google::protobuf::internal::WireFormat::SERIALIZE);
+    target =
+      ::google::protobuf::internal::WireFormatLite::WriteStringToArray(
+        3, this->cursor(), target);
   }
 
   if (!unknown_fields().empty()) {
@@ -17408,34 +21884,25 @@ void xtreemfs_update_file_sizeRequest::SerializeWithCachedSizes(
   return target;
 }
 
-int xtreemfs_update_file_sizeRequest::ByteSize() const {
+int xtreemfs_setattr_recursiveResponse::ByteSize() const {
   int total_size = 0;
 
   if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
-    // required .xtreemfs.pbrpc.XCap xcap = 1;
-    if (has_xcap()) {
-      total_size += 1 +
-        ::google::protobuf::internal::WireFormatLite::MessageSizeNoVirtual(
-          this->xcap());
-    }
-
-    // required .xtreemfs.pbrpc.OSDWriteResponse osd_write_response = 2;
-    if (has_osd_write_response()) {
-      total_size += 1 +
-        ::google::protobuf::internal::WireFormatLite::MessageSizeNoVirtual(
-          this->osd_write_response());
+    // required fixed32 timestamp_s = 1;
+    if (has_timestamp_s()) {
+      total_size += 1 + 4;
     }
 
-    // optional bool close_file = 3;
-    if (has_close_file()) {
-      total_size += 1 + 1;
+    // required fixed32 num_updated = 2;
+    if (has_num_updated()) {
+      total_size += 1 + 4;
     }
 
-    // optional .xtreemfs.pbrpc.VivaldiCoordinates coordinates = 4;
-    if (has_coordinates()) {
+    // optional string cursor = 3;
+    if (has_cursor()) {
       total_size += 1 +
-        ::google::protobuf::internal::WireFormatLite::MessageSizeNoVirtual(
-          this->coordinates());
+        ::google::protobuf::internal::WireFormatLite::StringSize(
+          this->cursor());
     }
 
   }
@@ -17450,10 +21917,10 @@ int xtreemfs_update_file_sizeRequest::ByteSize() const {
   return total_size;
 }
 
-void xtreemfs_update_file_sizeRequest::MergeFrom(const ::google::protobuf::Message& from) {
+void xtreemfs_setattr_recursiveResponse::MergeFrom(const ::google::protobuf::Message& from) {
   GOOGLE_CHECK_NE(&from, this);
-  const xtreemfs_update_file_sizeRequest* source =
-    ::google::protobuf::internal::dynamic_cast_if_available<const xtreemfs_update_file_sizeRequest*>(
+  const xtreemfs_setattr_recursiveResponse* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const xtreemfs_setattr_recursiveResponse*>(
       &from);
   if (source == NULL) {
     ::google::protobuf::internal::ReflectionOps::Merge(from, this);
@@ -17462,66 +21929,56 @@ void xtreemfs_update_file_sizeRequest::MergeFrom(const ::google::protobuf::Messa
   }
 }
 
-void xtreemfs_update_file_sizeRequest::MergeFrom(const xtreemfs_update_file_sizeRequest& from) {
+void xtreemfs_setattr_recursiveResponse::MergeFrom(const xtreemfs_setattr_recursiveResponse& from) {
   GOOGLE_CHECK_NE(&from, this);
   if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
-    if (from.has_xcap()) {
-      mutable_xcap()->::xtreemfs::pbrpc::XCap::MergeFrom(from.xcap());
-    }
-    if (from.has_osd_write_response()) {
-      mutable_osd_write_response()->::xtreemfs::pbrpc::OSDWriteResponse::MergeFrom(from.osd_write_response());
+    if (from.has_timestamp_s()) {
+      set_timestamp_s(from.timestamp_s());
     }
-    if (from.has_close_file()) {
-      set_close_file(from.close_file());
+    if (from.has_num_updated()) {
+      set_num_updated(from.num_updated());
     }
-    if (from.has_coordinates()) {
-      mutable_coordinates()->::xtreemfs::pbrpc::VivaldiCoordinates::MergeFrom(from.coordinates());
+    if (from.has_cursor()) {
+      set_cursor(from.cursor());
     }
   }
   mutable_unknown_fields()->MergeFrom(from.unknown_fields());
 }
 
-void xtreemfs_update_file_sizeRequest::CopyFrom(const ::google::protobuf::Message& from) {
+void xtreemfs_setattr_recursiveResponse::CopyFrom(const ::google::protobuf::Message& from) {
   if (&from == this) return;
   Clear();
   MergeFrom(from);
 }
 
-void xtreemfs_update_file_sizeRequest::CopyFrom(const xtreemfs_update_file_sizeRequest& from) {
+void xtreemfs_setattr_recursiveResponse::CopyFrom(const xtreemfs_setattr_recursiveResponse& from) {
   if (&from == this) return;
   Clear();
   MergeFrom(from);
 }
 
-bool xtreemfs_update_file_sizeRequest::IsInitialized() const {
+bool xtreemfs_setattr_recursiveResponse::IsInitialized() const {
   if ((_has_bits_[0] & 0x00000003) != 0x00000003) return false;
 
-  if (has_xcap()) {
-    if (!this->xcap().IsInitialized()) return false;
-  }
-  if (has_coordinates()) {
-    if (!this->coordinates().IsInitialized()) return false;
-  }
   return true;
 }
 
-void xtreemfs_update_file_sizeRequest::Swap(xtreemfs_update_file_sizeRequest* other) {
+void xtreemfs_setattr_recursiveResponse::Swap(xtreemfs_setattr_recursiveResponse* other) {
   if (other != this) {
-    std::swap(xcap_, other->xcap_);
-    std::swap(osd_write_response_, other->osd_write_response_);
-    std::swap(close_file_, other->close_file_);
-    std::swap(coordinates_, other->coordinates_);
+    std::swap(timestamp_s_, other->timestamp_s_);
+    std::swap(num_updated_, other->num_updated_);
+    std::swap(cursor_, other->cursor_);
     std::swap(_has_bits_[0], other->_has_bits_[0]);
     _unknown_fields_.Swap(&other->_unknown_fields_);
     std::swap(_cached_size_, other->_cached_size_);
   }
 }
 
-::google::protobuf::Metadata xtreemfs_update_file_sizeRequest::GetMetadata() const {
+::google::protobuf::Metadata xtreemfs_setattr_recursiveResponse::GetMetadata() const {
   protobuf_AssignDescriptorsOnce();
   ::google::protobuf::Metadata metadata;
-  metadata.descriptor = xtreemfs_update_file_sizeRequest_descriptor_;
-  metadata.reflection = xtreemfs_update_file_sizeRequest_reflection_;
+  metadata.descriptor = xtreemfs_setattr_recursiveResponse_descriptor_;
+  metadata.reflection = xtreemfs_setattr_recursiveResponse_reflection_;
   return metadata;
 }
 
@@ -81,11 +81,25 @@ class xtreemfs_listdirRequest;
 class xtreemfs_listdirResponse;
 class xtreemfs_replica_addRequest;
 class xtreemfs_replica_listRequest;
+class xtreemfs_renew_capabilitiesRequest;
+class xtreemfs_renew_capabilitiesResponse;
 class xtreemfs_get_xlocsetRequest;
 class xtreemfs_replica_removeRequest;
 class xtreemfs_restore_fileRequest;
 class xtreemfs_rmvolRequest;
 class xtreemfs_update_file_sizeRequest;
+class xtreemfs_update_file_sizesRequest;
+class xtreemfs_update_file_sizesResponse;
+class xtreemfs_create_filesRequest;
+class xtreemfs_create_filesResponse;
+class xtreemfs_getattrsRequest;
+class xtreemfs_getattrsResponse;
+class xtreemfs_get_xlocsetsRequest;
+class xtreemfs_get_xlocsetsResponse;
+class xtreemfs_rmdir_recursiveRequest;
+class xtreemfs_rmdir_recursiveResponse;
+class xtreemfs_setattr_recursiveRequest;
+class xtreemfs_setattr_recursiveResponse;
 class xtreemfs_set_replica_update_policyRequest;
 class xtreemfs_set_replica_update_policyResponse;
 class xtreemfs_set_read_only_xattrRequest;
@@ -566,15 +580,30 @@ class DirectoryEntries : public ::google::protobuf::Message {
   inline ::google::protobuf::RepeatedPtrField< ::xtreemfs::pbrpc::DirectoryEntry >*
       mutable_entries();
 
+  // optional string continuation_cursor = 2;
+  inline bool has_continuation_cursor() const;
+  inline void clear_continuation_cursor();
+  static const int kContinuationCursorFieldNumber = 2;
+  inline const ::std::string& continuation_cursor() const;
+  inline void set_continuation_cursor(const ::std::string& value);
+  inline void set_continuation_cursor(const char* value);
+  inline void set_continuation_cursor(const char* value, size_t size);
+  inline ::std::string* mutable_continuation_cursor();
+  inline ::std::string* release_continuation_cursor();
+  inline void set_allocated_continuation_cursor(::std::string* continuation_cursor);
+
   // @@protoc_insertion_point(class_scope:xtreemfs.pbrpc.DirectoryEntries)
  private:
+  inline void set_has_continuation_cursor();
+  inline void clear_has_continuation_cursor();
 
   ::google::protobuf::UnknownFieldSet _unknown_fields_;
 
   ::google::protobuf::RepeatedPtrField< ::xtreemfs::pbrpc::DirectoryEntry > entries_;
+  ::std::string* continuation_cursor_;
 
   mutable int _cached_size_;
-  ::google::protobuf::uint32 _has_bits_[(1 + 31) / 32];
+  ::google::protobuf::uint32 _has_bits_[(2 + 31) / 32];
 
   friend void  protobuf_AddDesc_xtreemfs_2fMRC_2eproto();
   friend void protobuf_AssignDesc_xtreemfs_2fMRC_2eproto();
@@ -2489,6 +2518,18 @@ class readdirRequest : public ::google::protobuf::Message {
   inline ::google::protobuf::uint64 seen_directory_entries_count() const;
   inline void set_seen_directory_entries_count(::google::protobuf::uint64 value);
 
+  // optional string continuation_cursor = 7;
+  inline bool has_continuation_cursor() const;
+  inline void clear_continuation_cursor();
+  static const int kContinuationCursorFieldNumber = 7;
+  inline const ::std::string& continuation_cursor() const;
+  inline void set_continuation_cursor(const ::std::string& value);
+  inline void set_continuation_cursor(const char* value);
+  inline void set_continuation_cursor(const char* value, size_t size);
+  inline ::std::string* mutable_continuation_cursor();
+  inline ::std::string* release_continuation_cursor();
+  inline void set_allocated_continuation_cursor(::std::string* continuation_cursor);
+
   // @@protoc_insertion_point(class_scope:xtreemfs.pbrpc.readdirRequest)
  private:
   inline void set_has_volume_name();
@@ -2503,6 +2544,8 @@ class readdirRequest : public ::google::protobuf::Message {
   inline void clear_has_names_only();
   inline void set_has_seen_directory_entries_count();
   inline void clear_has_seen_directory_entries_count();
+  inline void set_has_continuation_cursor();
+  inline void clear_has_continuation_cursor();
 
   ::google::protobuf::UnknownFieldSet _unknown_fields_;
 
@@ -2512,9 +2555,10 @@ class readdirRequest : public ::google::protobuf::Message {
   ::google::protobuf::uint32 limit_directory_entries_count_;
   bool names_only_;
   ::google::protobuf::uint64 seen_directory_entries_count_;
+  ::std::string* continuation_cursor_;
 
   mutable int _cached_size_;
-  ::google::protobuf::uint32 _has_bits_[(6 + 31) / 32];
+  ::google::protobuf::uint32 _has_bits_[(7 + 31) / 32];
 
   friend void  protobuf_AddDesc_xtreemfs_2fMRC_2eproto();
   friend void protobuf_AssignDesc_xtreemfs_2fMRC_2eproto();
@@ -5081,6 +5125,176 @@ class xtreemfs_replica_listRequest : public ::google::protobuf::Message {
 };
 // -------------------------------------------------------------------
 
+class xtreemfs_renew_capabilitiesRequest : public ::google::protobuf::Message {
+ public:
+  xtreemfs_renew_capabilitiesRequest();
+  virtual ~xtreemfs_renew_capabilitiesRequest();
+
+  xtreemfs_renew_capabilitiesRequest(const xtreemfs_renew_capabilitiesRequest& from);
+
+  inline xtreemfs_renew_capabilitiesRequest& operator=(const xtreemfs_renew_capabilitiesRequest& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const xtreemfs_renew_capabilitiesRequest& default_instance();
+
+  void Swap(xtreemfs_renew_capabilitiesRequest* other);
+
+  // implements Message ----------------------------------------------
+
+  xtreemfs_renew_capabilitiesRequest* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const xtreemfs_renew_capabilitiesRequest& from);
+  void MergeFrom(const xtreemfs_renew_capabilitiesRequest& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  // accessors -------------------------------------------------------
+
+  // repeated .xtreemfs.pbrpc.XCap xcaps = 1;
+  inline int xcaps_size() const;
+  inline void clear_xcaps();
+  static const int kXcapsFieldNumber = 1;
+  inline const ::xtreemfs::pbrpc::XCap& xcaps(int index) const;
+  inline ::xtreemfs::pbrpc::XCap* mutable_xcaps(int index);
+  inline ::xtreemfs::pbrpc::XCap* add_xcaps();
+  inline const ::google::protobuf::RepeatedPtrField< ::xtreemfs::pbrpc::XCap >&
+      xcaps() const;
+  inline ::google::protobuf::RepeatedPtrField< ::xtreemfs::pbrpc::XCap >*
+      mutable_xcaps();
+
+  // @@protoc_insertion_point(class_scope:xtreemfs.pbrpc.xtreemfs_renew_capabilitiesRequest)
+ private:
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::google::protobuf::RepeatedPtrField< ::xtreemfs::pbrpc::XCap > xcaps_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(1 + 31) / 32];
+
+  friend void  protobuf_AddDesc_xtreemfs_2fMRC_2eproto();
+  friend void protobuf_AssignDesc_xtreemfs_2fMRC_2eproto();
+  friend void protobuf_ShutdownFile_xtreemfs_2fMRC_2eproto();
+
+  void InitAsDefaultInstance();
+  static xtreemfs_renew_capabilitiesRequest* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class xtreemfs_renew_capabilitiesResponse : public ::google::protobuf::Message {
+ public:
+  xtreemfs_renew_capabilitiesResponse();
+  virtual ~xtreemfs_renew_capabilitiesResponse();
+
+  xtreemfs_renew_capabilitiesResponse(const xtreemfs_renew_capabilitiesResponse& from);
+
+  inline xtreemfs_renew_capabilitiesResponse& operator=(const xtreemfs_renew_capabilitiesResponse& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const xtreemfs_renew_capabilitiesResponse& default_instance();
+
+  void Swap(xtreemfs_renew_capabilitiesResponse* other);
+
+  // implements Message ----------------------------------------------
+
+  xtreemfs_renew_capabilitiesResponse* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const xtreemfs_renew_capabilitiesResponse& from);
+  void MergeFrom(const xtreemfs_renew_capabilitiesResponse& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  // accessors -------------------------------------------------------
+
+  // repeated .xtreemfs.pbrpc.XCap xcaps = 1;
+  inline int xcaps_size() const;
+  inline void clear_xcaps();
+  static const int kXcapsFieldNumber = 1;
+  inline const ::xtreemfs::pbrpc::XCap& xcaps(int index) const;
+  inline ::xtreemfs::pbrpc::XCap* mutable_xcaps(int index);
+  inline ::xtreemfs::pbrpc::XCap* add_xcaps();
+  inline const ::google::protobuf::RepeatedPtrField< ::xtreemfs::pbrpc::XCap >&
+      xcaps() const;
+  inline ::google::protobuf::RepeatedPtrField< ::xtreemfs::pbrpc::XCap >*
+      mutable_xcaps();
+
+  // @@protoc_insertion_point(class_scope:xtreemfs.pbrpc.xtreemfs_renew_capabilitiesResponse)
+ private:
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::google::protobuf::RepeatedPtrField< ::xtreemfs::pbrpc::XCap > xcaps_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(1 + 31) / 32];
+
+  friend void  protobuf_AddDesc_xtreemfs_2fMRC_2eproto();
+  friend void protobuf_AssignDesc_xtreemfs_2fMRC_2eproto();
+  friend void protobuf_ShutdownFile_xtreemfs_2fMRC_2eproto();
+
+  void InitAsDefaultInstance();
+  static xtreemfs_renew_capabilitiesResponse* default_instance_;
+};
+// -------------------------------------------------------------------
+
 class xtreemfs_get_xlocsetRequest : public ::google::protobuf::Message {
  public:
   xtreemfs_get_xlocsetRequest();
@@ -5684,14 +5898,14 @@ class xtreemfs_update_file_sizeRequest : public ::google::protobuf::Message {
 };
 // -------------------------------------------------------------------
 
-class xtreemfs_set_replica_update_policyRequest : public ::google::protobuf::Message {
+class xtreemfs_update_file_sizesRequest : public ::google::protobuf::Message {
  public:
-  xtreemfs_set_replica_update_policyRequest();
-  virtual ~xtreemfs_set_replica_update_policyRequest();
+  xtreemfs_update_file_sizesRequest();
+  virtual ~xtreemfs_update_file_sizesRequest();
 
-  xtreemfs_set_replica_update_policyRequest(const xtreemfs_set_replica_update_policyRequest& from);
+  xtreemfs_update_file_sizesRequest(const xtreemfs_update_file_sizesRequest& from);
 
-  inline xtreemfs_set_replica_update_policyRequest& operator=(const xtreemfs_set_replica_update_policyRequest& from) {
+  inline xtreemfs_update_file_sizesRequest& operator=(const xtreemfs_update_file_sizesRequest& from) {
     CopyFrom(from);
     return *this;
   }
@@ -5705,17 +5919,17 @@ class xtreemfs_set_replica_update_policyRequest : public ::google::protobuf::Mes
   }
 
   static const ::google::protobuf::Descriptor* descriptor();
-  static const xtreemfs_set_replica_update_policyRequest& default_instance();
+  static const xtreemfs_update_file_sizesRequest& default_instance();
 
-  void Swap(xtreemfs_set_replica_update_policyRequest* other);
+  void Swap(xtreemfs_update_file_sizesRequest* other);
 
   // implements Message ----------------------------------------------
 
-  xtreemfs_set_replica_update_policyRequest* New() const;
+  xtreemfs_update_file_sizesRequest* New() const;
   void CopyFrom(const ::google::protobuf::Message& from);
   void MergeFrom(const ::google::protobuf::Message& from);
-  void CopyFrom(const xtreemfs_set_replica_update_policyRequest& from);
-  void MergeFrom(const xtreemfs_set_replica_update_policyRequest& from);
+  void CopyFrom(const xtreemfs_update_file_sizesRequest& from);
+  void MergeFrom(const xtreemfs_update_file_sizesRequest& from);
   void Clear();
   bool IsInitialized() const;
 
@@ -5738,62 +5952,45 @@ class xtreemfs_set_replica_update_policyRequest : public ::google::protobuf::Mes
 
   // accessors -------------------------------------------------------
 
-  // required string file_id = 1;
-  inline bool has_file_id() const;
-  inline void clear_file_id();
-  static const int kFileIdFieldNumber = 1;
-  inline const ::std::string& file_id() const;
-  inline void set_file_id(const ::std::string& value);
-  inline void set_file_id(const char* value);
-  inline void set_file_id(const char* value, size_t size);
-  inline ::std::string* mutable_file_id();
-  inline ::std::string* release_file_id();
-  inline void set_allocated_file_id(::std::string* file_id);
-
-  // required string update_policy = 2;
-  inline bool has_update_policy() const;
-  inline void clear_update_policy();
-  static const int kUpdatePolicyFieldNumber = 2;
-  inline const ::std::string& update_policy() const;
-  inline void set_update_policy(const ::std::string& value);
-  inline void set_update_policy(const char* value);
-  inline void set_update_policy(const char* value, size_t size);
-  inline ::std::string* mutable_update_policy();
-  inline ::std::string* release_update_policy();
-  inline void set_allocated_update_policy(::std::string* update_policy);
-
-  // @@protoc_insertion_point(class_scope:xtreemfs.pbrpc.xtreemfs_set_replica_update_policyRequest)
+  // repeated .xtreemfs.pbrpc.xtreemfs_update_file_sizeRequest updates = 1;
+  inline int updates_size() const;
+  inline void clear_updates();
+  static const int kUpdatesFieldNumber = 1;
+  inline const ::xtreemfs::pbrpc::xtreemfs_update_file_sizeRequest& updates(int index) const;
+  inline ::xtreemfs::pbrpc::xtreemfs_update_file_sizeRequest* mutable_updates(int index);
+  inline ::xtreemfs::pbrpc::xtreemfs_update_file_sizeRequest* add_updates();
+  inline const ::google::protobuf::RepeatedPtrField< ::xtreemfs::pbrpc::xtreemfs_update_file_sizeRequest >&
+      updates() const;
+  inline ::google::protobuf::RepeatedPtrField< ::xtreemfs::pbrpc::xtreemfs_update_file_sizeRequest >*
+      mutable_updates();
+
+  // @@protoc_insertion_point(class_scope:xtreemfs.pbrpc.xtreemfs_update_file_sizesRequest)
  private:
-  inline void set_has_file_id();
-  inline void clear_has_file_id();
-  inline void set_has_update_policy();
-  inline void clear_has_update_policy();
 
   ::google::protobuf::UnknownFieldSet _unknown_fields_;
 
-  ::std::string* file_id_;
-  ::std::string* update_policy_;
+  ::google::protobuf::RepeatedPtrField< ::xtreemfs::pbrpc::xtreemfs_update_file_sizeRequest > updates_;
 
   mutable int _cached_size_;
-  ::google::protobuf::uint32 _has_bits_[(2 + 31) / 32];
+  ::google::protobuf::uint32 _has_bits_[(1 + 31) / 32];
 
   friend void  protobuf_AddDesc_xtreemfs_2fMRC_2eproto();
   friend void protobuf_AssignDesc_xtreemfs_2fMRC_2eproto();
   friend void protobuf_ShutdownFile_xtreemfs_2fMRC_2eproto();
 
   void InitAsDefaultInstance();
-  static xtreemfs_set_replica_update_policyRequest* default_instance_;
+  static xtreemfs_update_file_sizesRequest* default_instance_;
 };
 // -------------------------------------------------------------------
 
-class xtreemfs_set_replica_update_policyResponse : public ::google::protobuf::Message {
+class xtreemfs_update_file_sizesResponse : public ::google::protobuf::Message {
  public:
-  xtreemfs_set_replica_update_policyResponse();
-  virtual ~xtreemfs_set_replica_update_policyResponse();
+  xtreemfs_update_file_sizesResponse();
+  virtual ~xtreemfs_update_file_sizesResponse();
 
-  xtreemfs_set_replica_update_policyResponse(const xtreemfs_set_replica_update_policyResponse& from);
+  xtreemfs_update_file_sizesResponse(const xtreemfs_update_file_sizesResponse& from);
 
-  inline xtreemfs_set_replica_update_policyResponse& operator=(const xtreemfs_set_replica_update_policyResponse& from) {
+  inline xtreemfs_update_file_sizesResponse& operator=(const xtreemfs_update_file_sizesResponse& from) {
     CopyFrom(from);
     return *this;
   }
@@ -5807,17 +6004,17 @@ class xtreemfs_set_replica_update_policyResponse : public ::google::protobuf::Me
   }
 
   static const ::google::protobuf::Descriptor* descriptor();
-  static const xtreemfs_set_replica_update_policyResponse& default_instance();
+  static const xtreemfs_update_file_sizesResponse& default_instance();
 
-  void Swap(xtreemfs_set_replica_update_policyResponse* other);
+  void Swap(xtreemfs_update_file_sizesResponse* other);
 
   // implements Message ----------------------------------------------
 
-  xtreemfs_set_replica_update_policyResponse* New() const;
+  xtreemfs_update_file_sizesResponse* New() const;
   void CopyFrom(const ::google::protobuf::Message& from);
   void MergeFrom(const ::google::protobuf::Message& from);
-  void CopyFrom(const xtreemfs_set_replica_update_policyResponse& from);
-  void MergeFrom(const xtreemfs_set_replica_update_policyResponse& from);
+  void CopyFrom(const xtreemfs_update_file_sizesResponse& from);
+  void MergeFrom(const xtreemfs_update_file_sizesResponse& from);
   void Clear();
   bool IsInitialized() const;
 
@@ -5840,26 +6037,25 @@ class xtreemfs_set_replica_update_policyResponse : public ::google::protobuf::Me
 
   // accessors -------------------------------------------------------
 
-  // required string old_update_policy = 1;
-  inline bool has_old_update_policy() const;
-  inline void clear_old_update_policy();
-  static const int kOldUpdatePolicyFieldNumber = 1;
-  inline const ::std::string& old_update_policy() const;
-  inline void set_old_update_policy(const ::std::string& value);
-  inline void set_old_update_policy(const char* value);
-  inline void set_old_update_policy(const char* value, size_t size);
-  inline ::std::string* mutable_old_update_policy();
-  inline ::std::string* release_old_update_policy();
-  inline void set_allocated_old_update_policy(::std::string* old_update_policy);
-
-  // @@protoc_insertion_point(class_scope:xtreemfs.pbrpc.xtreemfs_set_replica_update_policyResponse)
+  // repeated bool success = 1 [packed = true];
+  inline int success_size() const;
+  inline void clear_success();
+  static const int kSuccessFieldNumber = 1;
+  inline bool success(int index) const;
+  inline void set_success(int index, bool value);
+  inline void add_success(bool value);
+  inline const ::google::protobuf::RepeatedField< bool >&
+      success() const;
+  inline ::google::protobuf::RepeatedField< bool >*
+      mutable_success();
+
+  // @@protoc_insertion_point(class_scope:xtreemfs.pbrpc.xtreemfs_update_file_sizesResponse)
  private:
-  inline void set_has_old_update_policy();
-  inline void clear_has_old_update_policy();
 
   ::google::protobuf::UnknownFieldSet _unknown_fields_;
 
-  ::std::string* old_update_policy_;
+  ::google::protobuf::RepeatedField< bool > success_;
+  mutable int _success_cached_byte_size_;
 
   mutable int _cached_size_;
   ::google::protobuf::uint32 _has_bits_[(1 + 31) / 32];
@@ -5869,18 +6065,18 @@ class xtreemfs_set_replica_update_policyResponse : public ::google::protobuf::Me
   friend void protobuf_ShutdownFile_xtreemfs_2fMRC_2eproto();
 
   void InitAsDefaultInstance();
-  static xtreemfs_set_replica_update_policyResponse* default_instance_;
+  static xtreemfs_update_file_sizesResponse* default_instance_;
 };
 // -------------------------------------------------------------------
 
-class xtreemfs_set_read_only_xattrRequest : public ::google::protobuf::Message {
+class xtreemfs_create_filesRequest : public ::google::protobuf::Message {
  public:
-  xtreemfs_set_read_only_xattrRequest();
-  virtual ~xtreemfs_set_read_only_xattrRequest();
+  xtreemfs_create_filesRequest();
+  virtual ~xtreemfs_create_filesRequest();
 
-  xtreemfs_set_read_only_xattrRequest(const xtreemfs_set_read_only_xattrRequest& from);
+  xtreemfs_create_filesRequest(const xtreemfs_create_filesRequest& from);
 
-  inline xtreemfs_set_read_only_xattrRequest& operator=(const xtreemfs_set_read_only_xattrRequest& from) {
+  inline xtreemfs_create_filesRequest& operator=(const xtreemfs_create_filesRequest& from) {
     CopyFrom(from);
     return *this;
   }
@@ -5894,17 +6090,17 @@ class xtreemfs_set_read_only_xattrRequest : public ::google::protobuf::Message {
   }
 
   static const ::google::protobuf::Descriptor* descriptor();
-  static const xtreemfs_set_read_only_xattrRequest& default_instance();
+  static const xtreemfs_create_filesRequest& default_instance();
 
-  void Swap(xtreemfs_set_read_only_xattrRequest* other);
+  void Swap(xtreemfs_create_filesRequest* other);
 
   // implements Message ----------------------------------------------
 
-  xtreemfs_set_read_only_xattrRequest* New() const;
+  xtreemfs_create_filesRequest* New() const;
   void CopyFrom(const ::google::protobuf::Message& from);
   void MergeFrom(const ::google::protobuf::Message& from);
-  void CopyFrom(const xtreemfs_set_read_only_xattrRequest& from);
-  void MergeFrom(const xtreemfs_set_read_only_xattrRequest& from);
+  void CopyFrom(const xtreemfs_create_filesRequest& from);
+  void MergeFrom(const xtreemfs_create_filesRequest& from);
   void Clear();
   bool IsInitialized() const;
 
@@ -5927,57 +6123,121 @@ class xtreemfs_set_read_only_xattrRequest : public ::google::protobuf::Message {
 
   // accessors -------------------------------------------------------
 
-  // required string file_id = 1;
-  inline bool has_file_id() const;
-  inline void clear_file_id();
-  static const int kFileIdFieldNumber = 1;
-  inline const ::std::string& file_id() const;
-  inline void set_file_id(const ::std::string& value);
-  inline void set_file_id(const char* value);
-  inline void set_file_id(const char* value, size_t size);
-  inline ::std::string* mutable_file_id();
-  inline ::std::string* release_file_id();
-  inline void set_allocated_file_id(::std::string* file_id);
-
-  // required bool value = 2;
-  inline bool has_value() const;
-  inline void clear_value();
-  static const int kValueFieldNumber = 2;
-  inline bool value() const;
-  inline void set_value(bool value);
-
-  // @@protoc_insertion_point(class_scope:xtreemfs.pbrpc.xtreemfs_set_read_only_xattrRequest)
- private:
-  inline void set_has_file_id();
-  inline void clear_has_file_id();
-  inline void set_has_value();
-  inline void clear_has_value();
+  // required string volume_name = 1;
+  inline bool has_volume_name() const;
+  inline void clear_volume_name();
+  static const int kVolumeNameFieldNumber = 1;
+  inline const ::std::string& volume_name() const;
+  inline void set_volume_name(const ::std::string& value);
+  inline void set_volume_name(const char* value);
+  inline void set_volume_name(const char* value, size_t size);
+  inline ::std::string* mutable_volume_name();
+  inline ::std::string* release_volume_name();
+  inline void set_allocated_volume_name(::std::string* volume_name);
 
-  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+  // required string dir_path = 2;
+  inline bool has_dir_path() const;
+  inline void clear_dir_path();
+  static const int kDirPathFieldNumber = 2;
+  inline const ::std::string& dir_path() const;
+  inline void set_dir_path(const ::std::string& value);
+  inline void set_dir_path(const char* value);
+  inline void set_dir_path(const char* value, size_t size);
+  inline ::std::string* mutable_dir_path();
+  inline ::std::string* release_dir_path();
+  inline void set_allocated_dir_path(::std::string* dir_path);
+
+  // repeated string names = 3;
+  inline int names_size() const;
+  inline void clear_names();
+  static const int kNamesFieldNumber = 3;
+  inline const ::std::string& names(int index) const;
+  inline ::std::string* mutable_names(int index);
+  inline void set_names(int index, const ::std::string& value);
+  inline void set_names(int index, const char* value);
+  inline void set_names(int index, const char* value, size_t size);
+  inline ::std::string* add_names();
+  inline void add_names(const ::std::string& value);
+  inline void add_names(const char* value);
+  inline void add_names(const char* value, size_t size);
+  inline const ::google::protobuf::RepeatedPtrField< ::std::string>& names() const;
+  inline ::google::protobuf::RepeatedPtrField< ::std::string>* mutable_names();
 
-  ::std::string* file_id_;
-  bool value_;
+  // required fixed32 flags = 4;
+  inline bool has_flags() const;
+  inline void clear_flags();
+  static const int kFlagsFieldNumber = 4;
+  inline ::google::protobuf::uint32 flags() const;
+  inline void set_flags(::google::protobuf::uint32 value);
+
+  // required fixed32 mode = 5;
+  inline bool has_mode() const;
+  inline void clear_mode();
+  static const int kModeFieldNumber = 5;
+  inline ::google::protobuf::uint32 mode() const;
+  inline void set_mode(::google::protobuf::uint32 value);
+
+  // required fixed32 attributes = 6;
+  inline bool has_attributes() const;
+  inline void clear_attributes();
+  static const int kAttributesFieldNumber = 6;
+  inline ::google::protobuf::uint32 attributes() const;
+  inline void set_attributes(::google::protobuf::uint32 value);
+
+  // optional .xtreemfs.pbrpc.VivaldiCoordinates coordinates = 7;
+  inline bool has_coordinates() const;
+  inline void clear_coordinates();
+  static const int kCoordinatesFieldNumber = 7;
+  inline const ::xtreemfs::pbrpc::VivaldiCoordinates& coordinates() const;
+  inline ::xtreemfs::pbrpc::VivaldiCoordinates* mutable_coordinates();
+  inline ::xtreemfs::pbrpc::VivaldiCoordinates* release_coordinates();
+  inline void set_allocated_coordinates(::xtreemfs::pbrpc::VivaldiCoordinates* coordinates);
+
+  // @@protoc_insertion_point(class_scope:xtreemfs.pbrpc.xtreemfs_create_filesRequest)
+ private:
+  inline void set_has_volume_name();
+  inline void clear_has_volume_name();
+  inline void set_has_dir_path();
+  inline void clear_has_dir_path();
+  inline void set_has_flags();
+  inline void clear_has_flags();
+  inline void set_has_mode();
+  inline void clear_has_mode();
+  inline void set_has_attributes();
+  inline void clear_has_attributes();
+  inline void set_has_coordinates();
+  inline void clear_has_coordinates();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::std::string* volume_name_;
+  ::std::string* dir_path_;
+  ::google::protobuf::RepeatedPtrField< ::std::string> names_;
+  ::google::protobuf::uint32 flags_;
+  ::google::protobuf::uint32 mode_;
+  ::xtreemfs::pbrpc::VivaldiCoordinates* coordinates_;
+  ::google::protobuf::uint32 attributes_;
 
   mutable int _cached_size_;
-  ::google::protobuf::uint32 _has_bits_[(2 + 31) / 32];
+  ::google::protobuf::uint32 _has_bits_[(7 + 31) / 32];
 
   friend void  protobuf_AddDesc_xtreemfs_2fMRC_2eproto();
   friend void protobuf_AssignDesc_xtreemfs_2fMRC_2eproto();
   friend void protobuf_ShutdownFile_xtreemfs_2fMRC_2eproto();
 
   void InitAsDefaultInstance();
-  static xtreemfs_set_read_only_xattrRequest* default_instance_;
+  static xtreemfs_create_filesRequest* default_instance_;
 };
 // -------------------------------------------------------------------
 
-class xtreemfs_set_read_only_xattrResponse : public ::google::protobuf::Message {
+class xtreemfs_create_filesResponse : public ::google::protobuf::Message {
  public:
-  xtreemfs_set_read_only_xattrResponse();
-  virtual ~xtreemfs_set_read_only_xattrResponse();
+  xtreemfs_create_filesResponse();
+  virtual ~xtreemfs_create_filesResponse();
 
-  xtreemfs_set_read_only_xattrResponse(const xtreemfs_set_read_only_xattrResponse& from);
+  xtreemfs_create_filesResponse(const xtreemfs_create_filesResponse& from);
 
-  inline xtreemfs_set_read_only_xattrResponse& operator=(const xtreemfs_set_read_only_xattrResponse& from) {
+  inline xtreemfs_create_filesResponse& operator=(const xtreemfs_create_filesResponse& from) {
     CopyFrom(from);
     return *this;
   }
@@ -5991,17 +6251,17 @@ class xtreemfs_set_read_only_xattrResponse : public ::google::protobuf::Message
   }
 
   static const ::google::protobuf::Descriptor* descriptor();
-  static const xtreemfs_set_read_only_xattrResponse& default_instance();
+  static const xtreemfs_create_filesResponse& default_instance();
 
-  void Swap(xtreemfs_set_read_only_xattrResponse* other);
+  void Swap(xtreemfs_create_filesResponse* other);
 
   // implements Message ----------------------------------------------
 
-  xtreemfs_set_read_only_xattrResponse* New() const;
+  xtreemfs_create_filesResponse* New() const;
   void CopyFrom(const ::google::protobuf::Message& from);
   void MergeFrom(const ::google::protobuf::Message& from);
-  void CopyFrom(const xtreemfs_set_read_only_xattrResponse& from);
-  void MergeFrom(const xtreemfs_set_read_only_xattrResponse& from);
+  void CopyFrom(const xtreemfs_create_filesResponse& from);
+  void MergeFrom(const xtreemfs_create_filesResponse& from);
   void Clear();
   bool IsInitialized() const;
 
@@ -6024,21 +6284,24 @@ class xtreemfs_set_read_only_xattrResponse : public ::google::protobuf::Message
 
   // accessors -------------------------------------------------------
 
-  // required bool was_set = 1;
-  inline bool has_was_set() const;
-  inline void clear_was_set();
-  static const int kWasSetFieldNumber = 1;
-  inline bool was_set() const;
-  inline void set_was_set(bool value);
-
-  // @@protoc_insertion_point(class_scope:xtreemfs.pbrpc.xtreemfs_set_read_only_xattrResponse)
+  // repeated .xtreemfs.pbrpc.openResponse files = 1;
+  inline int files_size() const;
+  inline void clear_files();
+  static const int kFilesFieldNumber = 1;
+  inline const ::xtreemfs::pbrpc::openResponse& files(int index) const;
+  inline ::xtreemfs::pbrpc::openResponse* mutable_files(int index);
+  inline ::xtreemfs::pbrpc::openResponse* add_files();
+  inline const ::google::protobuf::RepeatedPtrField< ::xtreemfs::pbrpc::openResponse >&
+      files() const;
+  inline ::google::protobuf::RepeatedPtrField< ::xtreemfs::pbrpc::openResponse >*
+      mutable_files();
+
+  // @@protoc_insertion_point(class_scope:xtreemfs.pbrpc.xtreemfs_create_filesResponse)
  private:
-  inline void set_has_was_set();
-  inline void clear_has_was_set();
 
   ::google::protobuf::UnknownFieldSet _unknown_fields_;
 
-  bool was_set_;
+  ::google::protobuf::RepeatedPtrField< ::xtreemfs::pbrpc::openResponse > files_;
 
   mutable int _cached_size_;
   ::google::protobuf::uint32 _has_bits_[(1 + 31) / 32];
@@ -6048,18 +6311,18 @@ class xtreemfs_set_read_only_xattrResponse : public ::google::protobuf::Message
   friend void protobuf_ShutdownFile_xtreemfs_2fMRC_2eproto();
 
   void InitAsDefaultInstance();
-  static xtreemfs_set_read_only_xattrResponse* default_instance_;
+  static xtreemfs_create_filesResponse* default_instance_;
 };
 // -------------------------------------------------------------------
 
-class xtreemfs_get_file_credentialsRequest : public ::google::protobuf::Message {
+class xtreemfs_getattrsRequest : public ::google::protobuf::Message {
  public:
-  xtreemfs_get_file_credentialsRequest();
-  virtual ~xtreemfs_get_file_credentialsRequest();
+  xtreemfs_getattrsRequest();
+  virtual ~xtreemfs_getattrsRequest();
 
-  xtreemfs_get_file_credentialsRequest(const xtreemfs_get_file_credentialsRequest& from);
+  xtreemfs_getattrsRequest(const xtreemfs_getattrsRequest& from);
 
-  inline xtreemfs_get_file_credentialsRequest& operator=(const xtreemfs_get_file_credentialsRequest& from) {
+  inline xtreemfs_getattrsRequest& operator=(const xtreemfs_getattrsRequest& from) {
     CopyFrom(from);
     return *this;
   }
@@ -6073,17 +6336,17 @@ class xtreemfs_get_file_credentialsRequest : public ::google::protobuf::Message
   }
 
   static const ::google::protobuf::Descriptor* descriptor();
-  static const xtreemfs_get_file_credentialsRequest& default_instance();
+  static const xtreemfs_getattrsRequest& default_instance();
 
-  void Swap(xtreemfs_get_file_credentialsRequest* other);
+  void Swap(xtreemfs_getattrsRequest* other);
 
   // implements Message ----------------------------------------------
 
-  xtreemfs_get_file_credentialsRequest* New() const;
+  xtreemfs_getattrsRequest* New() const;
   void CopyFrom(const ::google::protobuf::Message& from);
   void MergeFrom(const ::google::protobuf::Message& from);
-  void CopyFrom(const xtreemfs_get_file_credentialsRequest& from);
-  void MergeFrom(const xtreemfs_get_file_credentialsRequest& from);
+  void CopyFrom(const xtreemfs_getattrsRequest& from);
+  void MergeFrom(const xtreemfs_getattrsRequest& from);
   void Clear();
   bool IsInitialized() const;
 
@@ -6106,641 +6369,2881 @@ class xtreemfs_get_file_credentialsRequest : public ::google::protobuf::Message
 
   // accessors -------------------------------------------------------
 
-  // required string file_id = 1;
-  inline bool has_file_id() const;
-  inline void clear_file_id();
-  static const int kFileIdFieldNumber = 1;
-  inline const ::std::string& file_id() const;
-  inline void set_file_id(const ::std::string& value);
-  inline void set_file_id(const char* value);
-  inline void set_file_id(const char* value, size_t size);
-  inline ::std::string* mutable_file_id();
-  inline ::std::string* release_file_id();
-  inline void set_allocated_file_id(::std::string* file_id);
+  // required string volume_name = 1;
+  inline bool has_volume_name() const;
+  inline void clear_volume_name();
+  static const int kVolumeNameFieldNumber = 1;
+  inline const ::std::string& volume_name() const;
+  inline void set_volume_name(const ::std::string& value);
+  inline void set_volume_name(const char* value);
+  inline void set_volume_name(const char* value, size_t size);
+  inline ::std::string* mutable_volume_name();
+  inline ::std::string* release_volume_name();
+  inline void set_allocated_volume_name(::std::string* volume_name);
 
-  // @@protoc_insertion_point(class_scope:xtreemfs.pbrpc.xtreemfs_get_file_credentialsRequest)
+  // repeated string paths = 2;
+  inline int paths_size() const;
+  inline void clear_paths();
+  static const int kPathsFieldNumber = 2;
+  inline const ::std::string& paths(int index) const;
+  inline ::std::string* mutable_paths(int index);
+  inline void set_paths(int index, const ::std::string& value);
+  inline void set_paths(int index, const char* value);
+  inline void set_paths(int index, const char* value, size_t size);
+  inline ::std::string* add_paths();
+  inline void add_paths(const ::std::string& value);
+  inline void add_paths(const char* value);
+  inline void add_paths(const char* value, size_t size);
+  inline const ::google::protobuf::RepeatedPtrField< ::std::string>& paths() const;
+  inline ::google::protobuf::RepeatedPtrField< ::std::string>* mutable_paths();
+
+  // @@protoc_insertion_point(class_scope:xtreemfs.pbrpc.xtreemfs_getattrsRequest)
  private:
-  inline void set_has_file_id();
-  inline void clear_has_file_id();
+  inline void set_has_volume_name();
+  inline void clear_has_volume_name();
 
   ::google::protobuf::UnknownFieldSet _unknown_fields_;
 
-  ::std::string* file_id_;
+  ::std::string* volume_name_;
+  ::google::protobuf::RepeatedPtrField< ::std::string> paths_;
 
   mutable int _cached_size_;
-  ::google::protobuf::uint32 _has_bits_[(1 + 31) / 32];
+  ::google::protobuf::uint32 _has_bits_[(2 + 31) / 32];
 
   friend void  protobuf_AddDesc_xtreemfs_2fMRC_2eproto();
   friend void protobuf_AssignDesc_xtreemfs_2fMRC_2eproto();
   friend void protobuf_ShutdownFile_xtreemfs_2fMRC_2eproto();
 
   void InitAsDefaultInstance();
-  static xtreemfs_get_file_credentialsRequest* default_instance_;
+  static xtreemfs_getattrsRequest* default_instance_;
 };
-// ===================================================================
+// -------------------------------------------------------------------
 
+class xtreemfs_getattrsResponse : public ::google::protobuf::Message {
+ public:
+  xtreemfs_getattrsResponse();
+  virtual ~xtreemfs_getattrsResponse();
 
-// ===================================================================
+  xtreemfs_getattrsResponse(const xtreemfs_getattrsResponse& from);
 
-// Stat
+  inline xtreemfs_getattrsResponse& operator=(const xtreemfs_getattrsResponse& from) {
+    CopyFrom(from);
+    return *this;
+  }
 
-// required fixed64 dev = 1;
-inline bool Stat::has_dev() const {
-  return (_has_bits_[0] & 0x00000001u) != 0;
-}
-inline void Stat::set_has_dev() {
-  _has_bits_[0] |= 0x00000001u;
-}
-inline void Stat::clear_has_dev() {
-  _has_bits_[0] &= ~0x00000001u;
-}
-inline void Stat::clear_dev() {
-  dev_ = GOOGLE_ULONGLONG(0);
-  clear_has_dev();
-}
-inline ::google::protobuf::uint64 Stat::dev() const {
-  return dev_;
-}
-inline void Stat::set_dev(::google::protobuf::uint64 value) {
-  set_has_dev();
-  dev_ = value;
-}
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
 
-// required fixed64 ino = 2;
-inline bool Stat::has_ino() const {
-  return (_has_bits_[0] & 0x00000002u) != 0;
-}
-inline void Stat::set_has_ino() {
-  _has_bits_[0] |= 0x00000002u;
-}
-inline void Stat::clear_has_ino() {
-  _has_bits_[0] &= ~0x00000002u;
-}
-inline void Stat::clear_ino() {
-  ino_ = GOOGLE_ULONGLONG(0);
-  clear_has_ino();
-}
-inline ::google::protobuf::uint64 Stat::ino() const {
-  return ino_;
-}
-inline void Stat::set_ino(::google::protobuf::uint64 value) {
-  set_has_ino();
-  ino_ = value;
-}
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
 
-// required fixed32 mode = 3;
-inline bool Stat::has_mode() const {
-  return (_has_bits_[0] & 0x00000004u) != 0;
-}
-inline void Stat::set_has_mode() {
-  _has_bits_[0] |= 0x00000004u;
-}
-inline void Stat::clear_has_mode() {
-  _has_bits_[0] &= ~0x00000004u;
-}
-inline void Stat::clear_mode() {
-  mode_ = 0u;
-  clear_has_mode();
-}
-inline ::google::protobuf::uint32 Stat::mode() const {
-  return mode_;
-}
-inline void Stat::set_mode(::google::protobuf::uint32 value) {
-  set_has_mode();
-  mode_ = value;
-}
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const xtreemfs_getattrsResponse& default_instance();
 
-// required fixed32 nlink = 4;
-inline bool Stat::has_nlink() const {
-  return (_has_bits_[0] & 0x00000008u) != 0;
-}
-inline void Stat::set_has_nlink() {
-  _has_bits_[0] |= 0x00000008u;
-}
-inline void Stat::clear_has_nlink() {
-  _has_bits_[0] &= ~0x00000008u;
-}
-inline void Stat::clear_nlink() {
-  nlink_ = 0u;
-  clear_has_nlink();
-}
-inline ::google::protobuf::uint32 Stat::nlink() const {
-  return nlink_;
-}
-inline void Stat::set_nlink(::google::protobuf::uint32 value) {
-  set_has_nlink();
-  nlink_ = value;
-}
+  void Swap(xtreemfs_getattrsResponse* other);
 
-// required string user_id = 5;
-inline bool Stat::has_user_id() const {
-  return (_has_bits_[0] & 0x00000010u) != 0;
-}
-inline void Stat::set_has_user_id() {
-  _has_bits_[0] |= 0x00000010u;
-}
-inline void Stat::clear_has_user_id() {
-  _has_bits_[0] &= ~0x00000010u;
-}
-inline void Stat::clear_user_id() {
-  if (user_id_ != &::google::protobuf::internal::kEmptyString) {
-    user_id_->clear();
-  }
-  clear_has_user_id();
-}
-inline const ::std::string& Stat::user_id() const {
-  return *user_id_;
-}
-inline void Stat::set_user_id(const ::std::string& value) {
-  set_has_user_id();
-  if (user_id_ == &::google::protobuf::internal::kEmptyString) {
-    user_id_ = new ::std::string;
-  }
-  user_id_->assign(value);
-}
-inline void Stat::set_user_id(const char* value) {
-  set_has_user_id();
-  if (user_id_ == &::google::protobuf::internal::kEmptyString) {
-    user_id_ = new ::std::string;
-  }
-  user_id_->assign(value);
-}
-inline void Stat::set_user_id(const char* value, size_t size) {
-  set_has_user_id();
-  if (user_id_ == &::google::protobuf::internal::kEmptyString) {
-    user_id_ = new ::std::string;
-  }
-  user_id_->assign(reinterpret_cast<const char*>(value), size);
-}
-inline ::std::string* Stat::mutable_user_id() {
-  set_has_user_id();
-  if (user_id_ == &::google::protobuf::internal::kEmptyString) {
-    user_id_ = new ::std::string;
-  }
-  return user_id_;
-}
+  // implements Message ----------------------------------------------
+
+  xtreemfs_getattrsResponse* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const xtreemfs_getattrsResponse& from);
+  void MergeFrom(const xtreemfs_getattrsResponse& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  // accessors -------------------------------------------------------
+
+  // repeated .xtreemfs.pbrpc.getattrResponse stats = 1;
+  inline int stats_size() const;
+  inline void clear_stats();
+  static const int kStatsFieldNumber = 1;
+  inline const ::xtreemfs::pbrpc::getattrResponse& stats(int index) const;
+  inline ::xtreemfs::pbrpc::getattrResponse* mutable_stats(int index);
+  inline ::xtreemfs::pbrpc::getattrResponse* add_stats();
+  inline const ::google::protobuf::RepeatedPtrField< ::xtreemfs::pbrpc::getattrResponse >&
+      stats() const;
+  inline ::google::protobuf::RepeatedPtrField< ::xtreemfs::pbrpc::getattrResponse >*
+      mutable_stats();
+
+  // @@protoc_insertion_point(class_scope:xtreemfs.pbrpc.xtreemfs_getattrsResponse)
+ private:
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::google::protobuf::RepeatedPtrField< ::xtreemfs::pbrpc::getattrResponse > stats_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(1 + 31) / 32];
+
+  friend void  protobuf_AddDesc_xtreemfs_2fMRC_2eproto();
+  friend void protobuf_AssignDesc_xtreemfs_2fMRC_2eproto();
+  friend void protobuf_ShutdownFile_xtreemfs_2fMRC_2eproto();
+
+  void InitAsDefaultInstance();
+  static xtreemfs_getattrsResponse* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class xtreemfs_get_xlocsetsRequest : public ::google::protobuf::Message {
+ public:
+  xtreemfs_get_xlocsetsRequest();
+  virtual ~xtreemfs_get_xlocsetsRequest();
+
+  xtreemfs_get_xlocsetsRequest(const xtreemfs_get_xlocsetsRequest& from);
+
+  inline xtreemfs_get_xlocsetsRequest& operator=(const xtreemfs_get_xlocsetsRequest& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const xtreemfs_get_xlocsetsRequest& default_instance();
+
+  void Swap(xtreemfs_get_xlocsetsRequest* other);
+
+  // implements Message ----------------------------------------------
+
+  xtreemfs_get_xlocsetsRequest* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const xtreemfs_get_xlocsetsRequest& from);
+  void MergeFrom(const xtreemfs_get_xlocsetsRequest& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  // accessors -------------------------------------------------------
+
+  // required string volume_name = 1;
+  inline bool has_volume_name() const;
+  inline void clear_volume_name();
+  static const int kVolumeNameFieldNumber = 1;
+  inline const ::std::string& volume_name() const;
+  inline void set_volume_name(const ::std::string& value);
+  inline void set_volume_name(const char* value);
+  inline void set_volume_name(const char* value, size_t size);
+  inline ::std::string* mutable_volume_name();
+  inline ::std::string* release_volume_name();
+  inline void set_allocated_volume_name(::std::string* volume_name);
+
+  // repeated string paths = 2;
+  inline int paths_size() const;
+  inline void clear_paths();
+  static const int kPathsFieldNumber = 2;
+  inline const ::std::string& paths(int index) const;
+  inline ::std::string* mutable_paths(int index);
+  inline void set_paths(int index, const ::std::string& value);
+  inline void set_paths(int index, const char* value);
+  inline void set_paths(int index, const char* value, size_t size);
+  inline ::std::string* add_paths();
+  inline void add_paths(const ::std::string& value);
+  inline void add_paths(const char* value);
+  inline void add_paths(const char* value, size_t size);
+  inline const ::google::protobuf::RepeatedPtrField< ::std::string>& paths() const;
+  inline ::google::protobuf::RepeatedPtrField< ::std::string>* mutable_paths();
+
+  // optional .xtreemfs.pbrpc.VivaldiCoordinates coordinates = 3;
+  inline bool has_coordinates() const;
+  inline void clear_coordinates();
+  static const int kCoordinatesFieldNumber = 3;
+  inline const ::xtreemfs::pbrpc::VivaldiCoordinates& coordinates() const;
+  inline ::xtreemfs::pbrpc::VivaldiCoordinates* mutable_coordinates();
+  inline ::xtreemfs::pbrpc::VivaldiCoordinates* release_coordinates();
+  inline void set_allocated_coordinates(::xtreemfs::pbrpc::VivaldiCoordinates* coordinates);
+
+  // @@protoc_insertion_point(class_scope:xtreemfs.pbrpc.xtreemfs_get_xlocsetsRequest)
+ private:
+  inline void set_has_volume_name();
+  inline void clear_has_volume_name();
+  inline void set_has_coordinates();
+  inline void clear_has_coordinates();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::std::string* volume_name_;
+  ::google::protobuf::RepeatedPtrField< ::std::string> paths_;
+  ::xtreemfs::pbrpc::VivaldiCoordinates* coordinates_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(3 + 31) / 32];
+
+  friend void  protobuf_AddDesc_xtreemfs_2fMRC_2eproto();
+  friend void protobuf_AssignDesc_xtreemfs_2fMRC_2eproto();
+  friend void protobuf_ShutdownFile_xtreemfs_2fMRC_2eproto();
+
+  void InitAsDefaultInstance();
+  static xtreemfs_get_xlocsetsRequest* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class xtreemfs_get_xlocsetsResponse : public ::google::protobuf::Message {
+ public:
+  xtreemfs_get_xlocsetsResponse();
+  virtual ~xtreemfs_get_xlocsetsResponse();
+
+  xtreemfs_get_xlocsetsResponse(const xtreemfs_get_xlocsetsResponse& from);
+
+  inline xtreemfs_get_xlocsetsResponse& operator=(const xtreemfs_get_xlocsetsResponse& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const xtreemfs_get_xlocsetsResponse& default_instance();
+
+  void Swap(xtreemfs_get_xlocsetsResponse* other);
+
+  // implements Message ----------------------------------------------
+
+  xtreemfs_get_xlocsetsResponse* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const xtreemfs_get_xlocsetsResponse& from);
+  void MergeFrom(const xtreemfs_get_xlocsetsResponse& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  // accessors -------------------------------------------------------
+
+  // repeated .xtreemfs.pbrpc.XLocSet xlocsets = 1;
+  inline int xlocsets_size() const;
+  inline void clear_xlocsets();
+  static const int kXlocsetsFieldNumber = 1;
+  inline const ::xtreemfs::pbrpc::XLocSet& xlocsets(int index) const;
+  inline ::xtreemfs::pbrpc::XLocSet* mutable_xlocsets(int index);
+  inline ::xtreemfs::pbrpc::XLocSet* add_xlocsets();
+  inline const ::google::protobuf::RepeatedPtrField< ::xtreemfs::pbrpc::XLocSet >&
+      xlocsets() const;
+  inline ::google::protobuf::RepeatedPtrField< ::xtreemfs::pbrpc::XLocSet >*
+      mutable_xlocsets();
+
+  // @@protoc_insertion_point(class_scope:xtreemfs.pbrpc.xtreemfs_get_xlocsetsResponse)
+ private:
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::google::protobuf::RepeatedPtrField< ::xtreemfs::pbrpc::XLocSet > xlocsets_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(1 + 31) / 32];
+
+  friend void  protobuf_AddDesc_xtreemfs_2fMRC_2eproto();
+  friend void protobuf_AssignDesc_xtreemfs_2fMRC_2eproto();
+  friend void protobuf_ShutdownFile_xtreemfs_2fMRC_2eproto();
+
+  void InitAsDefaultInstance();
+  static xtreemfs_get_xlocsetsResponse* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class xtreemfs_rmdir_recursiveRequest : public ::google::protobuf::Message {
+ public:
+  xtreemfs_rmdir_recursiveRequest();
+  virtual ~xtreemfs_rmdir_recursiveRequest();
+
+  xtreemfs_rmdir_recursiveRequest(const xtreemfs_rmdir_recursiveRequest& from);
+
+  inline xtreemfs_rmdir_recursiveRequest& operator=(const xtreemfs_rmdir_recursiveRequest& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const xtreemfs_rmdir_recursiveRequest& default_instance();
+
+  void Swap(xtreemfs_rmdir_recursiveRequest* other);
+
+  // implements Message ----------------------------------------------
+
+  xtreemfs_rmdir_recursiveRequest* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const xtreemfs_rmdir_recursiveRequest& from);
+  void MergeFrom(const xtreemfs_rmdir_recursiveRequest& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  // accessors -------------------------------------------------------
+
+  // required string volume_name = 1;
+  inline bool has_volume_name() const;
+  inline void clear_volume_name();
+  static const int kVolumeNameFieldNumber = 1;
+  inline const ::std::string& volume_name() const;
+  inline void set_volume_name(const ::std::string& value);
+  inline void set_volume_name(const char* value);
+  inline void set_volume_name(const char* value, size_t size);
+  inline ::std::string* mutable_volume_name();
+  inline ::std::string* release_volume_name();
+  inline void set_allocated_volume_name(::std::string* volume_name);
+
+  // required string path = 2;
+  inline bool has_path() const;
+  inline void clear_path();
+  static const int kPathFieldNumber = 2;
+  inline const ::std::string& path() const;
+  inline void set_path(const ::std::string& value);
+  inline void set_path(const char* value);
+  inline void set_path(const char* value, size_t size);
+  inline ::std::string* mutable_path();
+  inline ::std::string* release_path();
+  inline void set_allocated_path(::std::string* path);
+
+  // required fixed32 max_entries = 3;
+  inline bool has_max_entries() const;
+  inline void clear_max_entries();
+  static const int kMaxEntriesFieldNumber = 3;
+  inline ::google::protobuf::uint32 max_entries() const;
+  inline void set_max_entries(::google::protobuf::uint32 value);
+
+  // @@protoc_insertion_point(class_scope:xtreemfs.pbrpc.xtreemfs_rmdir_recursiveRequest)
+ private:
+  inline void set_has_volume_name();
+  inline void clear_has_volume_name();
+  inline void set_has_path();
+  inline void clear_has_path();
+  inline void set_has_max_entries();
+  inline void clear_has_max_entries();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::std::string* volume_name_;
+  ::std::string* path_;
+  ::google::protobuf::uint32 max_entries_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(3 + 31) / 32];
+
+  friend void  protobuf_AddDesc_xtreemfs_2fMRC_2eproto();
+  friend void protobuf_AssignDesc_xtreemfs_2fMRC_2eproto();
+  friend void protobuf_ShutdownFile_xtreemfs_2fMRC_2eproto();
+
+  void InitAsDefaultInstance();
+  static xtreemfs_rmdir_recursiveRequest* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class xtreemfs_rmdir_recursiveResponse : public ::google::protobuf::Message {
+ public:
+  xtreemfs_rmdir_recursiveResponse();
+  virtual ~xtreemfs_rmdir_recursiveResponse();
+
+  xtreemfs_rmdir_recursiveResponse(const xtreemfs_rmdir_recursiveResponse& from);
+
+  inline xtreemfs_rmdir_recursiveResponse& operator=(const xtreemfs_rmdir_recursiveResponse& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const xtreemfs_rmdir_recursiveResponse& default_instance();
+
+  void Swap(xtreemfs_rmdir_recursiveResponse* other);
+
+  // implements Message ----------------------------------------------
+
+  xtreemfs_rmdir_recursiveResponse* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const xtreemfs_rmdir_recursiveResponse& from);
+  void MergeFrom(const xtreemfs_rmdir_recursiveResponse& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  // accessors -------------------------------------------------------
+
+  // required fixed32 timestamp_s = 1;
+  inline bool has_timestamp_s() const;
+  inline void clear_timestamp_s();
+  static const int kTimestampSFieldNumber = 1;
+  inline ::google::protobuf::uint32 timestamp_s() const;
+  inline void set_timestamp_s(::google::protobuf::uint32 value);
+
+  // required fixed32 num_deleted = 2;
+  inline bool has_num_deleted() const;
+  inline void clear_num_deleted();
+  static const int kNumDeletedFieldNumber = 2;
+  inline ::google::protobuf::uint32 num_deleted() const;
+  inline void set_num_deleted(::google::protobuf::uint32 value);
+
+  // required bool complete = 3;
+  inline bool has_complete() const;
+  inline void clear_complete();
+  static const int kCompleteFieldNumber = 3;
+  inline bool complete() const;
+  inline void set_complete(bool value);
+
+  // @@protoc_insertion_point(class_scope:xtreemfs.pbrpc.xtreemfs_rmdir_recursiveResponse)
+ private:
+  inline void set_has_timestamp_s();
+  inline void clear_has_timestamp_s();
+  inline void set_has_num_deleted();
+  inline void clear_has_num_deleted();
+  inline void set_has_complete();
+  inline void clear_has_complete();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::google::protobuf::uint32 timestamp_s_;
+  ::google::protobuf::uint32 num_deleted_;
+  bool complete_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(3 + 31) / 32];
+
+  friend void  protobuf_AddDesc_xtreemfs_2fMRC_2eproto();
+  friend void protobuf_AssignDesc_xtreemfs_2fMRC_2eproto();
+  friend void protobuf_ShutdownFile_xtreemfs_2fMRC_2eproto();
+
+  void InitAsDefaultInstance();
+  static xtreemfs_rmdir_recursiveResponse* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class xtreemfs_setattr_recursiveRequest : public ::google::protobuf::Message {
+ public:
+  xtreemfs_setattr_recursiveRequest();
+  virtual ~xtreemfs_setattr_recursiveRequest();
+
+  xtreemfs_setattr_recursiveRequest(const xtreemfs_setattr_recursiveRequest& from);
+
+  inline xtreemfs_setattr_recursiveRequest& operator=(const xtreemfs_setattr_recursiveRequest& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const xtreemfs_setattr_recursiveRequest& default_instance();
+
+  void Swap(xtreemfs_setattr_recursiveRequest* other);
+
+  // implements Message ----------------------------------------------
+
+  xtreemfs_setattr_recursiveRequest* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const xtreemfs_setattr_recursiveRequest& from);
+  void MergeFrom(const xtreemfs_setattr_recursiveRequest& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  // accessors -------------------------------------------------------
+
+  // required string volume_name = 1;
+  inline bool has_volume_name() const;
+  inline void clear_volume_name();
+  static const int kVolumeNameFieldNumber = 1;
+  inline const ::std::string& volume_name() const;
+  inline void set_volume_name(const ::std::string& value);
+  inline void set_volume_name(const char* value);
+  inline void set_volume_name(const char* value, size_t size);
+  inline ::std::string* mutable_volume_name();
+  inline ::std::string* release_volume_name();
+  inline void set_allocated_volume_name(::std::string* volume_name);
+
+  // required string path = 2;
+  inline bool has_path() const;
+  inline void clear_path();
+  static const int kPathFieldNumber = 2;
+  inline const ::std::string& path() const;
+  inline void set_path(const ::std::string& value);
+  inline void set_path(const char* value);
+  inline void set_path(const char* value, size_t size);
+  inline ::std::string* mutable_path();
+  inline ::std::string* release_path();
+  inline void set_allocated_path(::std::string* path);
+
+  // required .xtreemfs.pbrpc.Stat stbuf = 3;
+  inline bool has_stbuf() const;
+  inline void clear_stbuf();
+  static const int kStbufFieldNumber = 3;
+  inline const ::xtreemfs::pbrpc::Stat& stbuf() const;
+  inline ::xtreemfs::pbrpc::Stat* mutable_stbuf();
+  inline ::xtreemfs::pbrpc::Stat* release_stbuf();
+  inline void set_allocated_stbuf(::xtreemfs::pbrpc::Stat* stbuf);
+
+  // required fixed32 to_set = 4;
+  inline bool has_to_set() const;
+  inline void clear_to_set();
+  static const int kToSetFieldNumber = 4;
+  inline ::google::protobuf::uint32 to_set() const;
+  inline void set_to_set(::google::protobuf::uint32 value);
+
+  // required fixed32 max_entries = 5;
+  inline bool has_max_entries() const;
+  inline void clear_max_entries();
+  static const int kMaxEntriesFieldNumber = 5;
+  inline ::google::protobuf::uint32 max_entries() const;
+  inline void set_max_entries(::google::protobuf::uint32 value);
+
+  // optional string cursor = 6;
+  inline bool has_cursor() const;
+  inline void clear_cursor();
+  static const int kCursorFieldNumber = 6;
+  inline const ::std::string& cursor() const;
+  inline void set_cursor(const ::std::string& value);
+  inline void set_cursor(const char* value);
+  inline void set_cursor(const char* value, size_t size);
+  inline ::std::string* mutable_cursor();
+  inline ::std::string* release_cursor();
+  inline void set_allocated_cursor(::std::string* cursor);
+
+  // @@protoc_insertion_point(class_scope:xtreemfs.pbrpc.xtreemfs_setattr_recursiveRequest)
+ private:
+  inline void set_has_volume_name();
+  inline void clear_has_volume_name();
+  inline void set_has_path();
+  inline void clear_has_path();
+  inline void set_has_stbuf();
+  inline void clear_has_stbuf();
+  inline void set_has_to_set();
+  inline void clear_has_to_set();
+  inline void set_has_max_entries();
+  inline void clear_has_max_entries();
+  inline void set_has_cursor();
+  inline void clear_has_cursor();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::std::string* volume_name_;
+  ::std::string* path_;
+  ::xtreemfs::pbrpc::Stat* stbuf_;
+  ::google::protobuf::uint32 to_set_;
+  ::google::protobuf::uint32 max_entries_;
+  ::std::string* cursor_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(6 + 31) / 32];
+
+  friend void  protobuf_AddDesc_xtreemfs_2fMRC_2eproto();
+  friend void protobuf_AssignDesc_xtreemfs_2fMRC_2eproto();
+  friend void protobuf_ShutdownFile_xtreemfs_2fMRC_2eproto();
+
+  void InitAsDefaultInstance();
+  static xtreemfs_setattr_recursiveRequest* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class xtreemfs_setattr_recursiveResponse : public ::google::protobuf::Message {
+ public:
+  xtreemfs_setattr_recursiveResponse();
+  virtual ~xtreemfs_setattr_recursiveResponse();
+
+  xtreemfs_setattr_recursiveResponse(const xtreemfs_setattr_recursiveResponse& from);
+
+  inline xtreemfs_setattr_recursiveResponse& operator=(const xtreemfs_setattr_recursiveResponse& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const xtreemfs_setattr_recursiveResponse& default_instance();
+
+  void Swap(xtreemfs_setattr_recursiveResponse* other);
+
+  // implements Message ----------------------------------------------
+
+  xtreemfs_setattr_recursiveResponse* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const xtreemfs_setattr_recursiveResponse& from);
+  void MergeFrom(const xtreemfs_setattr_recursiveResponse& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  // accessors -------------------------------------------------------
+
+  // required fixed32 timestamp_s = 1;
+  inline bool has_timestamp_s() const;
+  inline void clear_timestamp_s();
+  static const int kTimestampSFieldNumber = 1;
+  inline ::google::protobuf::uint32 timestamp_s() const;
+  inline void set_timestamp_s(::google::protobuf::uint32 value);
+
+  // required fixed32 num_updated = 2;
+  inline bool has_num_updated() const;
+  inline void clear_num_updated();
+  static const int kNumUpdatedFieldNumber = 2;
+  inline ::google::protobuf::uint32 num_updated() const;
+  inline void set_num_updated(::google::protobuf::uint32 value);
+
+  // optional string cursor = 3;
+  inline bool has_cursor() const;
+  inline void clear_cursor();
+  static const int kCursorFieldNumber = 3;
+  inline const ::std::string& cursor() const;
+  inline void set_cursor(const ::std::string& value);
+  inline void set_cursor(const char* value);
+  inline void set_cursor(const char* value, size_t size);
+  inline ::std::string* mutable_cursor();
+  inline ::std::string* release_cursor();
+  inline void set_allocated_cursor(::std::string* cursor);
+
+  // @@protoc_insertion_point(class_scope:xtreemfs.pbrpc.xtreemfs_setattr_recursiveResponse)
+ private:
+  inline void set_has_timestamp_s();
+  inline void clear_has_timestamp_s();
+  inline void set_has_num_updated();
+  inline void clear_has_num_updated();
+  inline void set_has_cursor();
+  inline void clear_has_cursor();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::google::protobuf::uint32 timestamp_s_;
+  ::google::protobuf::uint32 num_updated_;
+  ::std::string* cursor_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(3 + 31) / 32];
+
+  friend void  protobuf_AddDesc_xtreemfs_2fMRC_2eproto();
+  friend void protobuf_AssignDesc_xtreemfs_2fMRC_2eproto();
+  friend void protobuf_ShutdownFile_xtreemfs_2fMRC_2eproto();
+
+  void InitAsDefaultInstance();
+  static xtreemfs_setattr_recursiveResponse* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class xtreemfs_set_replica_update_policyRequest : public ::google::protobuf::Message {
+ public:
+  xtreemfs_set_replica_update_policyRequest();
+  virtual ~xtreemfs_set_replica_update_policyRequest();
+
+  xtreemfs_set_replica_update_policyRequest(const xtreemfs_set_replica_update_policyRequest& from);
+
+  inline xtreemfs_set_replica_update_policyRequest& operator=(const xtreemfs_set_replica_update_policyRequest& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const xtreemfs_set_replica_update_policyRequest& default_instance();
+
+  void Swap(xtreemfs_set_replica_update_policyRequest* other);
+
+  // implements Message ----------------------------------------------
+
+  xtreemfs_set_replica_update_policyRequest* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const xtreemfs_set_replica_update_policyRequest& from);
+  void MergeFrom(const xtreemfs_set_replica_update_policyRequest& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  // accessors -------------------------------------------------------
+
+  // required string file_id = 1;
+  inline bool has_file_id() const;
+  inline void clear_file_id();
+  static const int kFileIdFieldNumber = 1;
+  inline const ::std::string& file_id() const;
+  inline void set_file_id(const ::std::string& value);
+  inline void set_file_id(const char* value);
+  inline void set_file_id(const char* value, size_t size);
+  inline ::std::string* mutable_file_id();
+  inline ::std::string* release_file_id();
+  inline void set_allocated_file_id(::std::string* file_id);
+
+  // required string update_policy = 2;
+  inline bool has_update_policy() const;
+  inline void clear_update_policy();
+  static const int kUpdatePolicyFieldNumber = 2;
+  inline const ::std::string& update_policy() const;
+  inline void set_update_policy(const ::std::string& value);
+  inline void set_update_policy(const char* value);
+  inline void set_update_policy(const char* value, size_t size);
+  inline ::std::string* mutable_update_policy();
+  inline ::std::string* release_update_policy();
+  inline void set_allocated_update_policy(::std::string* update_policy);
+
+  // @@protoc_insertion_point(class_scope:xtreemfs.pbrpc.xtreemfs_set_replica_update_policyRequest)
+ private:
+  inline void set_has_file_id();
+  inline void clear_has_file_id();
+  inline void set_has_update_policy();
+  inline void clear_has_update_policy();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::std::string* file_id_;
+  ::std::string* update_policy_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(2 + 31) / 32];
+
+  friend void  protobuf_AddDesc_xtreemfs_2fMRC_2eproto();
+  friend void protobuf_AssignDesc_xtreemfs_2fMRC_2eproto();
+  friend void protobuf_ShutdownFile_xtreemfs_2fMRC_2eproto();
+
+  void InitAsDefaultInstance();
+  static xtreemfs_set_replica_update_policyRequest* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class xtreemfs_set_replica_update_policyResponse : public ::google::protobuf::Message {
+ public:
+  xtreemfs_set_replica_update_policyResponse();
+  virtual ~xtreemfs_set_replica_update_policyResponse();
+
+  xtreemfs_set_replica_update_policyResponse(const xtreemfs_set_replica_update_policyResponse& from);
+
+  inline xtreemfs_set_replica_update_policyResponse& operator=(const xtreemfs_set_replica_update_policyResponse& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const xtreemfs_set_replica_update_policyResponse& default_instance();
+
+  void Swap(xtreemfs_set_replica_update_policyResponse* other);
+
+  // implements Message ----------------------------------------------
+
+  xtreemfs_set_replica_update_policyResponse* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const xtreemfs_set_replica_update_policyResponse& from);
+  void MergeFrom(const xtreemfs_set_replica_update_policyResponse& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  // accessors -------------------------------------------------------
+
+  // required string old_update_policy = 1;
+  inline bool has_old_update_policy() const;
+  inline void clear_old_update_policy();
+  static const int kOldUpdatePolicyFieldNumber = 1;
+  inline const ::std::string& old_update_policy() const;
+  inline void set_old_update_policy(const ::std::string& value);
+  inline void set_old_update_policy(const char* value);
+  inline void set_old_update_policy(const char* value, size_t size);
+  inline ::std::string* mutable_old_update_policy();
+  inline ::std::string* release_old_update_policy();
+  inline void set_allocated_old_update_policy(::std::string* old_update_policy);
+
+  // @@protoc_insertion_point(class_scope:xtreemfs.pbrpc.xtreemfs_set_replica_update_policyResponse)
+ private:
+  inline void set_has_old_update_policy();
+  inline void clear_has_old_update_policy();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::std::string* old_update_policy_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(1 + 31) / 32];
+
+  friend void  protobuf_AddDesc_xtreemfs_2fMRC_2eproto();
+  friend void protobuf_AssignDesc_xtreemfs_2fMRC_2eproto();
+  friend void protobuf_ShutdownFile_xtreemfs_2fMRC_2eproto();
+
+  void InitAsDefaultInstance();
+  static xtreemfs_set_replica_update_policyResponse* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class xtreemfs_set_read_only_xattrRequest : public ::google::protobuf::Message {
+ public:
+  xtreemfs_set_read_only_xattrRequest();
+  virtual ~xtreemfs_set_read_only_xattrRequest();
+
+  xtreemfs_set_read_only_xattrRequest(const xtreemfs_set_read_only_xattrRequest& from);
+
+  inline xtreemfs_set_read_only_xattrRequest& operator=(const xtreemfs_set_read_only_xattrRequest& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const xtreemfs_set_read_only_xattrRequest& default_instance();
+
+  void Swap(xtreemfs_set_read_only_xattrRequest* other);
+
+  // implements Message ----------------------------------------------
+
+  xtreemfs_set_read_only_xattrRequest* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const xtreemfs_set_read_only_xattrRequest& from);
+  void MergeFrom(const xtreemfs_set_read_only_xattrRequest& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  // accessors -------------------------------------------------------
+
+  // required string file_id = 1;
+  inline bool has_file_id() const;
+  inline void clear_file_id();
+  static const int kFileIdFieldNumber = 1;
+  inline const ::std::string& file_id() const;
+  inline void set_file_id(const ::std::string& value);
+  inline void set_file_id(const char* value);
+  inline void set_file_id(const char* value, size_t size);
+  inline ::std::string* mutable_file_id();
+  inline ::std::string* release_file_id();
+  inline void set_allocated_file_id(::std::string* file_id);
+
+  // required bool value = 2;
+  inline bool has_value() const;
+  inline void clear_value();
+  static const int kValueFieldNumber = 2;
+  inline bool value() const;
+  inline void set_value(bool value);
+
+  // @@protoc_insertion_point(class_scope:xtreemfs.pbrpc.xtreemfs_set_read_only_xattrRequest)
+ private:
+  inline void set_has_file_id();
+  inline void clear_has_file_id();
+  inline void set_has_value();
+  inline void clear_has_value();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::std::string* file_id_;
+  bool value_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(2 + 31) / 32];
+
+  friend void  protobuf_AddDesc_xtreemfs_2fMRC_2eproto();
+  friend void protobuf_AssignDesc_xtreemfs_2fMRC_2eproto();
+  friend void protobuf_ShutdownFile_xtreemfs_2fMRC_2eproto();
+
+  void InitAsDefaultInstance();
+  static xtreemfs_set_read_only_xattrRequest* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class xtreemfs_set_read_only_xattrResponse : public ::google::protobuf::Message {
+ public:
+  xtreemfs_set_read_only_xattrResponse();
+  virtual ~xtreemfs_set_read_only_xattrResponse();
+
+  xtreemfs_set_read_only_xattrResponse(const xtreemfs_set_read_only_xattrResponse& from);
+
+  inline xtreemfs_set_read_only_xattrResponse& operator=(const xtreemfs_set_read_only_xattrResponse& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const xtreemfs_set_read_only_xattrResponse& default_instance();
+
+  void Swap(xtreemfs_set_read_only_xattrResponse* other);
+
+  // implements Message ----------------------------------------------
+
+  xtreemfs_set_read_only_xattrResponse* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const xtreemfs_set_read_only_xattrResponse& from);
+  void MergeFrom(const xtreemfs_set_read_only_xattrResponse& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  // accessors -------------------------------------------------------
+
+  // required bool was_set = 1;
+  inline bool has_was_set() const;
+  inline void clear_was_set();
+  static const int kWasSetFieldNumber = 1;
+  inline bool was_set() const;
+  inline void set_was_set(bool value);
+
+  // @@protoc_insertion_point(class_scope:xtreemfs.pbrpc.xtreemfs_set_read_only_xattrResponse)
+ private:
+  inline void set_has_was_set();
+  inline void clear_has_was_set();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  bool was_set_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(1 + 31) / 32];
+
+  friend void  protobuf_AddDesc_xtreemfs_2fMRC_2eproto();
+  friend void protobuf_AssignDesc_xtreemfs_2fMRC_2eproto();
+  friend void protobuf_ShutdownFile_xtreemfs_2fMRC_2eproto();
+
+  void InitAsDefaultInstance();
+  static xtreemfs_set_read_only_xattrResponse* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class xtreemfs_get_file_credentialsRequest : public ::google::protobuf::Message {
+ public:
+  xtreemfs_get_file_credentialsRequest();
+  virtual ~xtreemfs_get_file_credentialsRequest();
+
+  xtreemfs_get_file_credentialsRequest(const xtreemfs_get_file_credentialsRequest& from);
+
+  inline xtreemfs_get_file_credentialsRequest& operator=(const xtreemfs_get_file_credentialsRequest& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const xtreemfs_get_file_credentialsRequest& default_instance();
+
+  void Swap(xtreemfs_get_file_credentialsRequest* other);
+
+  // implements Message ----------------------------------------------
+
+  xtreemfs_get_file_credentialsRequest* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const xtreemfs_get_file_credentialsRequest& from);
+  void MergeFrom(const xtreemfs_get_file_credentialsRequest& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  // accessors -------------------------------------------------------
+
+  // required string file_id = 1;
+  inline bool has_file_id() const;
+  inline void clear_file_id();
+  static const int kFileIdFieldNumber = 1;
+  inline const ::std::string& file_id() const;
+  inline void set_file_id(const ::std::string& value);
+  inline void set_file_id(const char* value);
+  inline void set_file_id(const char* value, size_t size);
+  inline ::std::string* mutable_file_id();
+  inline ::std::string* release_file_id();
+  inline void set_allocated_file_id(::std::string* file_id);
+
+  // @@protoc_insertion_point(class_scope:xtreemfs.pbrpc.xtreemfs_get_file_credentialsRequest)
+ private:
+  inline void set_has_file_id();
+  inline void clear_has_file_id();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::std::string* file_id_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(1 + 31) / 32];
+
+  friend void  protobuf_AddDesc_xtreemfs_2fMRC_2eproto();
+  friend void protobuf_AssignDesc_xtreemfs_2fMRC_2eproto();
+  friend void protobuf_ShutdownFile_xtreemfs_2fMRC_2eproto();
+
+  void InitAsDefaultInstance();
+  static xtreemfs_get_file_credentialsRequest* default_instance_;
+};
+// ===================================================================
+
+
+// ===================================================================
+
+// Stat
+
+// required fixed64 dev = 1;
+inline bool Stat::has_dev() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
+}
+inline void Stat::set_has_dev() {
+  _has_bits_[0] |= 0x00000001u;
+}
+inline void Stat::clear_has_dev() {
+  _has_bits_[0] &= ~0x00000001u;
+}
+inline void Stat::clear_dev() {
+  dev_ = GOOGLE_ULONGLONG(0);
+  clear_has_dev();
+}
+inline ::google::protobuf::uint64 Stat::dev() const {
+  return dev_;
+}
+inline void Stat::set_dev(::google::protobuf::uint64 value) {
+  set_has_dev();
+  dev_ = value;
+}
+
+// required fixed64 ino = 2;
+inline bool Stat::has_ino() const {
+  return (_has_bits_[0] & 0x00000002u) != 0;
+}
+inline void Stat::set_has_ino() {
+  _has_bits_[0] |= 0x00000002u;
+}
+inline void Stat::clear_has_ino() {
+  _has_bits_[0] &= ~0x00000002u;
+}
+inline void Stat::clear_ino() {
+  ino_ = GOOGLE_ULONGLONG(0);
+  clear_has_ino();
+}
+inline ::google::protobuf::uint64 Stat::ino() const {
+  return ino_;
+}
+inline void Stat::set_ino(::google::protobuf::uint64 value) {
+  set_has_ino();
+  ino_ = value;
+}
+
+// required fixed32 mode = 3;
+inline bool Stat::has_mode() const {
+  return (_has_bits_[0] & 0x00000004u) != 0;
+}
+inline void Stat::set_has_mode() {
+  _has_bits_[0] |= 0x00000004u;
+}
+inline void Stat::clear_has_mode() {
+  _has_bits_[0] &= ~0x00000004u;
+}
+inline void Stat::clear_mode() {
+  mode_ = 0u;
+  clear_has_mode();
+}
+inline ::google::protobuf::uint32 Stat::mode() const {
+  return mode_;
+}
+inline void Stat::set_mode(::google::protobuf::uint32 value) {
+  set_has_mode();
+  mode_ = value;
+}
+
+// required fixed32 nlink = 4;
+inline bool Stat::has_nlink() const {
+  return (_has_bits_[0] & 0x00000008u) != 0;
+}
+inline void Stat::set_has_nlink() {
+  _has_bits_[0] |= 0x00000008u;
+}
+inline void Stat::clear_has_nlink() {
+  _has_bits_[0] &= ~0x00000008u;
+}
+inline void Stat::clear_nlink() {
+  nlink_ = 0u;
+  clear_has_nlink();
+}
+inline ::google::protobuf::uint32 Stat::nlink() const {
+  return nlink_;
+}
+inline void Stat::set_nlink(::google::protobuf::uint32 value) {
+  set_has_nlink();
+  nlink_ = value;
+}
+
+// required string user_id = 5;
+inline bool Stat::has_user_id() const {
+  return (_has_bits_[0] & 0x00000010u) != 0;
+}
+inline void Stat::set_has_user_id() {
+  _has_bits_[0] |= 0x00000010u;
+}
+inline void Stat::clear_has_user_id() {
+  _has_bits_[0] &= ~0x00000010u;
+}
+inline void Stat::clear_user_id() {
+  if (user_id_ != &::google::protobuf::internal::kEmptyString) {
+    user_id_->clear();
+  }
+  clear_has_user_id();
+}
+inline const ::std::string& Stat::user_id() const {
+  return *user_id_;
+}
+inline void Stat::set_user_id(const ::std::string& value) {
+  set_has_user_id();
+  if (user_id_ == &::google::protobuf::internal::kEmptyString) {
+    user_id_ = new ::std::string;
+  }
+  user_id_->assign(value);
+}
+inline void Stat::set_user_id(const char* value) {
+  set_has_user_id();
+  if (user_id_ == &::google::protobuf::internal::kEmptyString) {
+    user_id_ = new ::std::string;
+  }
+  user_id_->assign(value);
+}
+inline void Stat::set_user_id(const char* value, size_t size) {
+  set_has_user_id();
+  if (user_id_ == &::google::protobuf::internal::kEmptyString) {
+    user_id_ = new ::std::string;
+  }
+  user_id_->assign(reinterpret_cast<const char*>(value), size);
+}
+inline ::std::string* Stat::mutable_user_id() {
+  set_has_user_id();
+  if (user_id_ == &::google::protobuf::internal::kEmptyString) {
+    user_id_ = new ::std::string;
+  }
+  return user_id_;
+}
 inline ::std::string* Stat::release_user_id() {
   clear_has_user_id();
   if (user_id_ == &::google::protobuf::internal::kEmptyString) {
     return NULL;
   } else {
-    ::std::string* temp = user_id_;
-    user_id_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    ::std::string* temp = user_id_;
+    user_id_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    return temp;
+  }
+}
+inline void Stat::set_allocated_user_id(::std::string* user_id) {
+  if (user_id_ != &::google::protobuf::internal::kEmptyString) {
+    delete user_id_;
+  }
+  if (user_id) {
+    set_has_user_id();
+    user_id_ = user_id;
+  } else {
+    clear_has_user_id();
+    user_id_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  }
+}
+
+// required string group_id = 6;
+inline bool Stat::has_group_id() const {
+  return (_has_bits_[0] & 0x00000020u) != 0;
+}
+inline void Stat::set_has_group_id() {
+  _has_bits_[0] |= 0x00000020u;
+}
+inline void Stat::clear_has_group_id() {
+  _has_bits_[0] &= ~0x00000020u;
+}
+inline void Stat::clear_group_id() {
+  if (group_id_ != &::google::protobuf::internal::kEmptyString) {
+    group_id_->clear();
+  }
+  clear_has_group_id();
+}
+inline const ::std::string& Stat::group_id() const {
+  return *group_id_;
+}
+inline void Stat::set_group_id(const ::std::string& value) {
+  set_has_group_id();
+  if (group_id_ == &::google::protobuf::internal::kEmptyString) {
+    group_id_ = new ::std::string;
+  }
+  group_id_->assign(value);
+}
+inline void Stat::set_group_id(const char* value) {
+  set_has_group_id();
+  if (group_id_ == &::google::protobuf::internal::kEmptyString) {
+    group_id_ = new ::std::string;
+  }
+  group_id_->assign(value);
+}
+inline void Stat::set_group_id(const char* value, size_t size) {
+  set_has_group_id();
+  if (group_id_ == &::google::protobuf::internal::kEmptyString) {
+    group_id_ = new ::std::string;
+  }
+  group_id_->assign(reinterpret_cast<const char*>(value), size);
+}
+inline ::std::string* Stat::mutable_group_id() {
+  set_has_group_id();
+  if (group_id_ == &::google::protobuf::internal::kEmptyString) {
+    group_id_ = new ::std::string;
+  }
+  return group_id_;
+}
+inline ::std::string* Stat::release_group_id() {
+  clear_has_group_id();
+  if (group_id_ == &::google::protobuf::internal::kEmptyString) {
+    return NULL;
+  } else {
+    ::std::string* temp = group_id_;
+    group_id_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    return temp;
+  }
+}
+inline void Stat::set_allocated_group_id(::std::string* group_id) {
+  if (group_id_ != &::google::protobuf::internal::kEmptyString) {
+    delete group_id_;
+  }
+  if (group_id) {
+    set_has_group_id();
+    group_id_ = group_id;
+  } else {
+    clear_has_group_id();
+    group_id_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  }
+}
+
+// required fixed64 size = 7;
+inline bool Stat::has_size() const {
+  return (_has_bits_[0] & 0x00000040u) != 0;
+}
+inline void Stat::set_has_size() {
+  _has_bits_[0] |= 0x00000040u;
+}
+inline void Stat::clear_has_size() {
+  _has_bits_[0] &= ~0x00000040u;
+}
+inline void Stat::clear_size() {
+  size_ = GOOGLE_ULONGLONG(0);
+  clear_has_size();
+}
+inline ::google::protobuf::uint64 Stat::size() const {
+  return size_;
+}
+inline void Stat::set_size(::google::protobuf::uint64 value) {
+  set_has_size();
+  size_ = value;
+}
+
+// required fixed64 atime_ns = 8;
+inline bool Stat::has_atime_ns() const {
+  return (_has_bits_[0] & 0x00000080u) != 0;
+}
+inline void Stat::set_has_atime_ns() {
+  _has_bits_[0] |= 0x00000080u;
+}
+inline void Stat::clear_has_atime_ns() {
+  _has_bits_[0] &= ~0x00000080u;
+}
+inline void Stat::clear_atime_ns() {
+  atime_ns_ = GOOGLE_ULONGLONG(0);
+  clear_has_atime_ns();
+}
+inline ::google::protobuf::uint64 Stat::atime_ns() const {
+  return atime_ns_;
+}
+inline void Stat::set_atime_ns(::google::protobuf::uint64 value) {
+  set_has_atime_ns();
+  atime_ns_ = value;
+}
+
+// required fixed64 mtime_ns = 9;
+inline bool Stat::has_mtime_ns() const {
+  return (_has_bits_[0] & 0x00000100u) != 0;
+}
+inline void Stat::set_has_mtime_ns() {
+  _has_bits_[0] |= 0x00000100u;
+}
+inline void Stat::clear_has_mtime_ns() {
+  _has_bits_[0] &= ~0x00000100u;
+}
+inline void Stat::clear_mtime_ns() {
+  mtime_ns_ = GOOGLE_ULONGLONG(0);
+  clear_has_mtime_ns();
+}
+inline ::google::protobuf::uint64 Stat::mtime_ns() const {
+  return mtime_ns_;
+}
+inline void Stat::set_mtime_ns(::google::protobuf::uint64 value) {
+  set_has_mtime_ns();
+  mtime_ns_ = value;
+}
+
+// required fixed64 ctime_ns = 10;
+inline bool Stat::has_ctime_ns() const {
+  return (_has_bits_[0] & 0x00000200u) != 0;
+}
+inline void Stat::set_has_ctime_ns() {
+  _has_bits_[0] |= 0x00000200u;
+}
+inline void Stat::clear_has_ctime_ns() {
+  _has_bits_[0] &= ~0x00000200u;
+}
+inline void Stat::clear_ctime_ns() {
+  ctime_ns_ = GOOGLE_ULONGLONG(0);
+  clear_has_ctime_ns();
+}
+inline ::google::protobuf::uint64 Stat::ctime_ns() const {
+  return ctime_ns_;
+}
+inline void Stat::set_ctime_ns(::google::protobuf::uint64 value) {
+  set_has_ctime_ns();
+  ctime_ns_ = value;
+}
+
+// required fixed32 blksize = 11;
+inline bool Stat::has_blksize() const {
+  return (_has_bits_[0] & 0x00000400u) != 0;
+}
+inline void Stat::set_has_blksize() {
+  _has_bits_[0] |= 0x00000400u;
+}
+inline void Stat::clear_has_blksize() {
+  _has_bits_[0] &= ~0x00000400u;
+}
+inline void Stat::clear_blksize() {
+  blksize_ = 0u;
+  clear_has_blksize();
+}
+inline ::google::protobuf::uint32 Stat::blksize() const {
+  return blksize_;
+}
+inline void Stat::set_blksize(::google::protobuf::uint32 value) {
+  set_has_blksize();
+  blksize_ = value;
+}
+
+// optional fixed64 etag = 12;
+inline bool Stat::has_etag() const {
+  return (_has_bits_[0] & 0x00000800u) != 0;
+}
+inline void Stat::set_has_etag() {
+  _has_bits_[0] |= 0x00000800u;
+}
+inline void Stat::clear_has_etag() {
+  _has_bits_[0] &= ~0x00000800u;
+}
+inline void Stat::clear_etag() {
+  etag_ = GOOGLE_ULONGLONG(0);
+  clear_has_etag();
+}
+inline ::google::protobuf::uint64 Stat::etag() const {
+  return etag_;
+}
+inline void Stat::set_etag(::google::protobuf::uint64 value) {
+  set_has_etag();
+  etag_ = value;
+}
+
+// required fixed32 truncate_epoch = 13;
+inline bool Stat::has_truncate_epoch() const {
+  return (_has_bits_[0] & 0x00001000u) != 0;
+}
+inline void Stat::set_has_truncate_epoch() {
+  _has_bits_[0] |= 0x00001000u;
+}
+inline void Stat::clear_has_truncate_epoch() {
+  _has_bits_[0] &= ~0x00001000u;
+}
+inline void Stat::clear_truncate_epoch() {
+  truncate_epoch_ = 0u;
+  clear_has_truncate_epoch();
+}
+inline ::google::protobuf::uint32 Stat::truncate_epoch() const {
+  return truncate_epoch_;
+}
+inline void Stat::set_truncate_epoch(::google::protobuf::uint32 value) {
+  set_has_truncate_epoch();
+  truncate_epoch_ = value;
+}
+
+// optional fixed32 attributes = 14;
+inline bool Stat::has_attributes() const {
+  return (_has_bits_[0] & 0x00002000u) != 0;
+}
+inline void Stat::set_has_attributes() {
+  _has_bits_[0] |= 0x00002000u;
+}
+inline void Stat::clear_has_attributes() {
+  _has_bits_[0] &= ~0x00002000u;
+}
+inline void Stat::clear_attributes() {
+  attributes_ = 0u;
+  clear_has_attributes();
+}
+inline ::google::protobuf::uint32 Stat::attributes() const {
+  return attributes_;
+}
+inline void Stat::set_attributes(::google::protobuf::uint32 value) {
+  set_has_attributes();
+  attributes_ = value;
+}
+
+// -------------------------------------------------------------------
+
+// DirectoryEntry
+
+// required string name = 1;
+inline bool DirectoryEntry::has_name() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
+}
+inline void DirectoryEntry::set_has_name() {
+  _has_bits_[0] |= 0x00000001u;
+}
+inline void DirectoryEntry::clear_has_name() {
+  _has_bits_[0] &= ~0x00000001u;
+}
+inline void DirectoryEntry::clear_name() {
+  if (name_ != &::google::protobuf::internal::kEmptyString) {
+    name_->clear();
+  }
+  clear_has_name();
+}
+inline const ::std::string& DirectoryEntry::name() const {
+  return *name_;
+}
+inline void DirectoryEntry::set_name(const ::std::string& value) {
+  set_has_name();
+  if (name_ == &::google::protobuf::internal::kEmptyString) {
+    name_ = new ::std::string;
+  }
+  name_->assign(value);
+}
+inline void DirectoryEntry::set_name(const char* value) {
+  set_has_name();
+  if (name_ == &::google::protobuf::internal::kEmptyString) {
+    name_ = new ::std::string;
+  }
+  name_->assign(value);
+}
+inline void DirectoryEntry::set_name(const char* value, size_t size) {
+  set_has_name();
+  if (name_ == &::google::protobuf::internal::kEmptyString) {
+    name_ = new ::std::string;
+  }
+  name_->assign(reinterpret_cast<const char*>(value), size);
+}
+inline ::std::string* DirectoryEntry::mutable_name() {
+  set_has_name();
+  if (name_ == &::google::protobuf::internal::kEmptyString) {
+    name_ = new ::std::string;
+  }
+  return name_;
+}
+inline ::std::string* DirectoryEntry::release_name() {
+  clear_has_name();
+  if (name_ == &::google::protobuf::internal::kEmptyString) {
+    return NULL;
+  } else {
+    ::std::string* temp = name_;
+    name_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    return temp;
+  }
+}
+inline void DirectoryEntry::set_allocated_name(::std::string* name) {
+  if (name_ != &::google::protobuf::internal::kEmptyString) {
+    delete name_;
+  }
+  if (name) {
+    set_has_name();
+    name_ = name;
+  } else {
+    clear_has_name();
+    name_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  }
+}
+
+// optional .xtreemfs.pbrpc.Stat stbuf = 2;
+inline bool DirectoryEntry::has_stbuf() const {
+  return (_has_bits_[0] & 0x00000002u) != 0;
+}
+inline void DirectoryEntry::set_has_stbuf() {
+  _has_bits_[0] |= 0x00000002u;
+}
+inline void DirectoryEntry::clear_has_stbuf() {
+  _has_bits_[0] &= ~0x00000002u;
+}
+inline void DirectoryEntry::clear_stbuf() {
+  if (stbuf_ != NULL) stbuf_->::xtreemfs::pbrpc::Stat::Clear();
+  clear_has_stbuf();
+}
+inline const ::xtreemfs::pbrpc::Stat& DirectoryEntry::stbuf() const {
+  return stbuf_ != NULL ? *stbuf_ : *default_instance_->stbuf_;
+}
+inline ::xtreemfs::pbrpc::Stat* DirectoryEntry::mutable_stbuf() {
+  set_has_stbuf();
+  if (stbuf_ == NULL) stbuf_ = new ::xtreemfs::pbrpc::Stat;
+  return stbuf_;
+}
+inline ::xtreemfs::pbrpc::Stat* DirectoryEntry::release_stbuf() {
+  clear_has_stbuf();
+  ::xtreemfs::pbrpc::Stat* temp = stbuf_;
+  stbuf_ = NULL;
+  return temp;
+}
+inline void DirectoryEntry::set_allocated_stbuf(::xtreemfs::pbrpc::Stat* stbuf) {
+  delete stbuf_;
+  stbuf_ = stbuf;
+  if (stbuf) {
+    set_has_stbuf();
+  } else {
+    clear_has_stbuf();
+  }
+}
+
+// -------------------------------------------------------------------
+
+// DirectoryEntries
+
+// repeated .xtreemfs.pbrpc.DirectoryEntry entries = 1;
+inline int DirectoryEntries::entries_size() const {
+  return entries_.size();
+}
+inline void DirectoryEntries::clear_entries() {
+  entries_.Clear();
+}
+inline const ::xtreemfs::pbrpc::DirectoryEntry& DirectoryEntries::entries(int index) const {
+  return entries_.Get(index);
+}
+inline ::xtreemfs::pbrpc::DirectoryEntry* DirectoryEntries::mutable_entries(int index) {
+  return entries_.Mutable(index);
+}
+inline ::xtreemfs::pbrpc::DirectoryEntry* DirectoryEntries::add_entries() {
+  return entries_.Add();
+}
+inline const ::google::protobuf::RepeatedPtrField< ::xtreemfs::pbrpc::DirectoryEntry >&
+DirectoryEntries::entries() const {
+  return entries_;
+}
+inline ::google::protobuf::RepeatedPtrField< ::xtreemfs::pbrpc::DirectoryEntry >*
+DirectoryEntries::mutable_entries() {
+  return &entries_;
+}
+
+// optional string continuation_cursor = 2;
+inline bool DirectoryEntries::has_continuation_cursor() const {
+  return (_has_bits_[0] & 0x00000002u) != 0;
+}
+inline void DirectoryEntries::set_has_continuation_cursor() {
+  _has_bits_[0] |= 0x00000002u;
+}
+inline void DirectoryEntries::clear_has_continuation_cursor() {
+  _has_bits_[0] &= ~0x00000002u;
+}
+inline void DirectoryEntries::clear_continuation_cursor() {
+  if (continuation_cursor_ != &::google::protobuf::internal::kEmptyString) {
+    continuation_cursor_->clear();
+  }
+  clear_has_continuation_cursor();
+}
+inline const ::std::string& DirectoryEntries::continuation_cursor() const {
+  return *continuation_cursor_;
+}
+inline void DirectoryEntries::set_continuation_cursor(const ::std::string& value) {
+  set_has_continuation_cursor();
+  if (continuation_cursor_ == &::google::protobuf::internal::kEmptyString) {
+    continuation_cursor_ = new ::std::string;
+  }
+  continuation_cursor_->assign(value);
+}
+inline void DirectoryEntries::set_continuation_cursor(const char* value) {
+  set_has_continuation_cursor();
+  if (continuation_cursor_ == &::google::protobuf::internal::kEmptyString) {
+    continuation_cursor_ = new ::std::string;
+  }
+  continuation_cursor_->assign(value);
+}
+inline void DirectoryEntries::set_continuation_cursor(const char* value, size_t size) {
+  set_has_continuation_cursor();
+  if (continuation_cursor_ == &::google::protobuf::internal::kEmptyString) {
+    continuation_cursor_ = new ::std::string;
+  }
+  continuation_cursor_->assign(reinterpret_cast<const char*>(value), size);
+}
+inline ::std::string* DirectoryEntries::mutable_continuation_cursor() {
+  set_has_continuation_cursor();
+  if (continuation_cursor_ == &::google::protobuf::internal::kEmptyString) {
+    continuation_cursor_ = new ::std::string;
+  }
+  return continuation_cursor_;
+}
+inline ::std::string* DirectoryEntries::release_continuation_cursor() {
+  clear_has_continuation_cursor();
+  if (continuation_cursor_ == &::google::protobuf::internal::kEmptyString) {
+    return NULL;
+  } else {
+    ::std::string* temp = continuation_cursor_;
+    continuation_cursor_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    return temp;
+  }
+}
+inline void DirectoryEntries::set_allocated_continuation_cursor(::std::string* continuation_cursor) {
+  if (continuation_cursor_ != &::google::protobuf::internal::kEmptyString) {
+    delete continuation_cursor_;
+  }
+  if (continuation_cursor) {
+    set_has_continuation_cursor();
+    continuation_cursor_ = continuation_cursor;
+  } else {
+    clear_has_continuation_cursor();
+    continuation_cursor_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  }
+}
+
+// -------------------------------------------------------------------
+
+// XAttr
+
+// required string name = 1;
+inline bool XAttr::has_name() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
+}
+inline void XAttr::set_has_name() {
+  _has_bits_[0] |= 0x00000001u;
+}
+inline void XAttr::clear_has_name() {
+  _has_bits_[0] &= ~0x00000001u;
+}
+inline void XAttr::clear_name() {
+  if (name_ != &::google::protobuf::internal::kEmptyString) {
+    name_->clear();
+  }
+  clear_has_name();
+}
+inline const ::std::string& XAttr::name() const {
+  return *name_;
+}
+inline void XAttr::set_name(const ::std::string& value) {
+  set_has_name();
+  if (name_ == &::google::protobuf::internal::kEmptyString) {
+    name_ = new ::std::string;
+  }
+  name_->assign(value);
+}
+inline void XAttr::set_name(const char* value) {
+  set_has_name();
+  if (name_ == &::google::protobuf::internal::kEmptyString) {
+    name_ = new ::std::string;
+  }
+  name_->assign(value);
+}
+inline void XAttr::set_name(const char* value, size_t size) {
+  set_has_name();
+  if (name_ == &::google::protobuf::internal::kEmptyString) {
+    name_ = new ::std::string;
+  }
+  name_->assign(reinterpret_cast<const char*>(value), size);
+}
+inline ::std::string* XAttr::mutable_name() {
+  set_has_name();
+  if (name_ == &::google::protobuf::internal::kEmptyString) {
+    name_ = new ::std::string;
+  }
+  return name_;
+}
+inline ::std::string* XAttr::release_name() {
+  clear_has_name();
+  if (name_ == &::google::protobuf::internal::kEmptyString) {
+    return NULL;
+  } else {
+    ::std::string* temp = name_;
+    name_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    return temp;
+  }
+}
+inline void XAttr::set_allocated_name(::std::string* name) {
+  if (name_ != &::google::protobuf::internal::kEmptyString) {
+    delete name_;
+  }
+  if (name) {
+    set_has_name();
+    name_ = name;
+  } else {
+    clear_has_name();
+    name_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  }
+}
+
+// optional string value = 2;
+inline bool XAttr::has_value() const {
+  return (_has_bits_[0] & 0x00000002u) != 0;
+}
+inline void XAttr::set_has_value() {
+  _has_bits_[0] |= 0x00000002u;
+}
+inline void XAttr::clear_has_value() {
+  _has_bits_[0] &= ~0x00000002u;
+}
+inline void XAttr::clear_value() {
+  if (value_ != &::google::protobuf::internal::kEmptyString) {
+    value_->clear();
+  }
+  clear_has_value();
+}
+inline const ::std::string& XAttr::value() const {
+  return *value_;
+}
+inline void XAttr::set_value(const ::std::string& value) {
+  set_has_value();
+  if (value_ == &::google::protobuf::internal::kEmptyString) {
+    value_ = new ::std::string;
+  }
+  value_->assign(value);
+}
+inline void XAttr::set_value(const char* value) {
+  set_has_value();
+  if (value_ == &::google::protobuf::internal::kEmptyString) {
+    value_ = new ::std::string;
+  }
+  value_->assign(value);
+}
+inline void XAttr::set_value(const char* value, size_t size) {
+  set_has_value();
+  if (value_ == &::google::protobuf::internal::kEmptyString) {
+    value_ = new ::std::string;
+  }
+  value_->assign(reinterpret_cast<const char*>(value), size);
+}
+inline ::std::string* XAttr::mutable_value() {
+  set_has_value();
+  if (value_ == &::google::protobuf::internal::kEmptyString) {
+    value_ = new ::std::string;
+  }
+  return value_;
+}
+inline ::std::string* XAttr::release_value() {
+  clear_has_value();
+  if (value_ == &::google::protobuf::internal::kEmptyString) {
+    return NULL;
+  } else {
+    ::std::string* temp = value_;
+    value_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    return temp;
+  }
+}
+inline void XAttr::set_allocated_value(::std::string* value) {
+  if (value_ != &::google::protobuf::internal::kEmptyString) {
+    delete value_;
+  }
+  if (value) {
+    set_has_value();
+    value_ = value;
+  } else {
+    clear_has_value();
+    value_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  }
+}
+
+// optional bytes value_bytes_string = 3;
+inline bool XAttr::has_value_bytes_string() const {
+  return (_has_bits_[0] & 0x00000004u) != 0;
+}
+inline void XAttr::set_has_value_bytes_string() {
+  _has_bits_[0] |= 0x00000004u;
+}
+inline void XAttr::clear_has_value_bytes_string() {
+  _has_bits_[0] &= ~0x00000004u;
+}
+inline void XAttr::clear_value_bytes_string() {
+  if (value_bytes_string_ != &::google::protobuf::internal::kEmptyString) {
+    value_bytes_string_->clear();
+  }
+  clear_has_value_bytes_string();
+}
+inline const ::std::string& XAttr::value_bytes_string() const {
+  return *value_bytes_string_;
+}
+inline void XAttr::set_value_bytes_string(const ::std::string& value) {
+  set_has_value_bytes_string();
+  if (value_bytes_string_ == &::google::protobuf::internal::kEmptyString) {
+    value_bytes_string_ = new ::std::string;
+  }
+  value_bytes_string_->assign(value);
+}
+inline void XAttr::set_value_bytes_string(const char* value) {
+  set_has_value_bytes_string();
+  if (value_bytes_string_ == &::google::protobuf::internal::kEmptyString) {
+    value_bytes_string_ = new ::std::string;
+  }
+  value_bytes_string_->assign(value);
+}
+inline void XAttr::set_value_bytes_string(const void* value, size_t size) {
+  set_has_value_bytes_string();
+  if (value_bytes_string_ == &::google::protobuf::internal::kEmptyString) {
+    value_bytes_string_ = new ::std::string;
+  }
+  value_bytes_string_->assign(reinterpret_cast<const char*>(value), size);
+}
+inline ::std::string* XAttr::mutable_value_bytes_string() {
+  set_has_value_bytes_string();
+  if (value_bytes_string_ == &::google::protobuf::internal::kEmptyString) {
+    value_bytes_string_ = new ::std::string;
+  }
+  return value_bytes_string_;
+}
+inline ::std::string* XAttr::release_value_bytes_string() {
+  clear_has_value_bytes_string();
+  if (value_bytes_string_ == &::google::protobuf::internal::kEmptyString) {
+    return NULL;
+  } else {
+    ::std::string* temp = value_bytes_string_;
+    value_bytes_string_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    return temp;
+  }
+}
+inline void XAttr::set_allocated_value_bytes_string(::std::string* value_bytes_string) {
+  if (value_bytes_string_ != &::google::protobuf::internal::kEmptyString) {
+    delete value_bytes_string_;
+  }
+  if (value_bytes_string) {
+    set_has_value_bytes_string();
+    value_bytes_string_ = value_bytes_string;
+  } else {
+    clear_has_value_bytes_string();
+    value_bytes_string_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  }
+}
+
+// -------------------------------------------------------------------
+
+// Volume
+
+// required .xtreemfs.pbrpc.AccessControlPolicyType access_control_policy = 1;
+inline bool Volume::has_access_control_policy() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
+}
+inline void Volume::set_has_access_control_policy() {
+  _has_bits_[0] |= 0x00000001u;
+}
+inline void Volume::clear_has_access_control_policy() {
+  _has_bits_[0] &= ~0x00000001u;
+}
+inline void Volume::clear_access_control_policy() {
+  access_control_policy_ = 1;
+  clear_has_access_control_policy();
+}
+inline ::xtreemfs::pbrpc::AccessControlPolicyType Volume::access_control_policy() const {
+  return static_cast< ::xtreemfs::pbrpc::AccessControlPolicyType >(access_control_policy_);
+}
+inline void Volume::set_access_control_policy(::xtreemfs::pbrpc::AccessControlPolicyType value) {
+  assert(::xtreemfs::pbrpc::AccessControlPolicyType_IsValid(value));
+  set_has_access_control_policy();
+  access_control_policy_ = value;
+}
+
+// required .xtreemfs.pbrpc.StripingPolicy default_striping_policy = 2;
+inline bool Volume::has_default_striping_policy() const {
+  return (_has_bits_[0] & 0x00000002u) != 0;
+}
+inline void Volume::set_has_default_striping_policy() {
+  _has_bits_[0] |= 0x00000002u;
+}
+inline void Volume::clear_has_default_striping_policy() {
+  _has_bits_[0] &= ~0x00000002u;
+}
+inline void Volume::clear_default_striping_policy() {
+  if (default_striping_policy_ != NULL) default_striping_policy_->::xtreemfs::pbrpc::StripingPolicy::Clear();
+  clear_has_default_striping_policy();
+}
+inline const ::xtreemfs::pbrpc::StripingPolicy& Volume::default_striping_policy() const {
+  return default_striping_policy_ != NULL ? *default_striping_policy_ : *default_instance_->default_striping_policy_;
+}
+inline ::xtreemfs::pbrpc::StripingPolicy* Volume::mutable_default_striping_policy() {
+  set_has_default_striping_policy();
+  if (default_striping_policy_ == NULL) default_striping_policy_ = new ::xtreemfs::pbrpc::StripingPolicy;
+  return default_striping_policy_;
+}
+inline ::xtreemfs::pbrpc::StripingPolicy* Volume::release_default_striping_policy() {
+  clear_has_default_striping_policy();
+  ::xtreemfs::pbrpc::StripingPolicy* temp = default_striping_policy_;
+  default_striping_policy_ = NULL;
+  return temp;
+}
+inline void Volume::set_allocated_default_striping_policy(::xtreemfs::pbrpc::StripingPolicy* default_striping_policy) {
+  delete default_striping_policy_;
+  default_striping_policy_ = default_striping_policy;
+  if (default_striping_policy) {
+    set_has_default_striping_policy();
+  } else {
+    clear_has_default_striping_policy();
+  }
+}
+
+// required string id = 3;
+inline bool Volume::has_id() const {
+  return (_has_bits_[0] & 0x00000004u) != 0;
+}
+inline void Volume::set_has_id() {
+  _has_bits_[0] |= 0x00000004u;
+}
+inline void Volume::clear_has_id() {
+  _has_bits_[0] &= ~0x00000004u;
+}
+inline void Volume::clear_id() {
+  if (id_ != &::google::protobuf::internal::kEmptyString) {
+    id_->clear();
+  }
+  clear_has_id();
+}
+inline const ::std::string& Volume::id() const {
+  return *id_;
+}
+inline void Volume::set_id(const ::std::string& value) {
+  set_has_id();
+  if (id_ == &::google::protobuf::internal::kEmptyString) {
+    id_ = new ::std::string;
+  }
+  id_->assign(value);
+}
+inline void Volume::set_id(const char* value) {
+  set_has_id();
+  if (id_ == &::google::protobuf::internal::kEmptyString) {
+    id_ = new ::std::string;
+  }
+  id_->assign(value);
+}
+inline void Volume::set_id(const char* value, size_t size) {
+  set_has_id();
+  if (id_ == &::google::protobuf::internal::kEmptyString) {
+    id_ = new ::std::string;
+  }
+  id_->assign(reinterpret_cast<const char*>(value), size);
+}
+inline ::std::string* Volume::mutable_id() {
+  set_has_id();
+  if (id_ == &::google::protobuf::internal::kEmptyString) {
+    id_ = new ::std::string;
+  }
+  return id_;
+}
+inline ::std::string* Volume::release_id() {
+  clear_has_id();
+  if (id_ == &::google::protobuf::internal::kEmptyString) {
+    return NULL;
+  } else {
+    ::std::string* temp = id_;
+    id_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
     return temp;
   }
 }
-inline void Stat::set_allocated_user_id(::std::string* user_id) {
-  if (user_id_ != &::google::protobuf::internal::kEmptyString) {
-    delete user_id_;
+inline void Volume::set_allocated_id(::std::string* id) {
+  if (id_ != &::google::protobuf::internal::kEmptyString) {
+    delete id_;
   }
-  if (user_id) {
-    set_has_user_id();
-    user_id_ = user_id;
+  if (id) {
+    set_has_id();
+    id_ = id;
   } else {
-    clear_has_user_id();
-    user_id_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    clear_has_id();
+    id_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
   }
 }
 
-// required string group_id = 6;
-inline bool Stat::has_group_id() const {
+// required fixed32 mode = 4;
+inline bool Volume::has_mode() const {
+  return (_has_bits_[0] & 0x00000008u) != 0;
+}
+inline void Volume::set_has_mode() {
+  _has_bits_[0] |= 0x00000008u;
+}
+inline void Volume::clear_has_mode() {
+  _has_bits_[0] &= ~0x00000008u;
+}
+inline void Volume::clear_mode() {
+  mode_ = 0u;
+  clear_has_mode();
+}
+inline ::google::protobuf::uint32 Volume::mode() const {
+  return mode_;
+}
+inline void Volume::set_mode(::google::protobuf::uint32 value) {
+  set_has_mode();
+  mode_ = value;
+}
+
+// required string name = 5;
+inline bool Volume::has_name() const {
+  return (_has_bits_[0] & 0x00000010u) != 0;
+}
+inline void Volume::set_has_name() {
+  _has_bits_[0] |= 0x00000010u;
+}
+inline void Volume::clear_has_name() {
+  _has_bits_[0] &= ~0x00000010u;
+}
+inline void Volume::clear_name() {
+  if (name_ != &::google::protobuf::internal::kEmptyString) {
+    name_->clear();
+  }
+  clear_has_name();
+}
+inline const ::std::string& Volume::name() const {
+  return *name_;
+}
+inline void Volume::set_name(const ::std::string& value) {
+  set_has_name();
+  if (name_ == &::google::protobuf::internal::kEmptyString) {
+    name_ = new ::std::string;
+  }
+  name_->assign(value);
+}
+inline void Volume::set_name(const char* value) {
+  set_has_name();
+  if (name_ == &::google::protobuf::internal::kEmptyString) {
+    name_ = new ::std::string;
+  }
+  name_->assign(value);
+}
+inline void Volume::set_name(const char* value, size_t size) {
+  set_has_name();
+  if (name_ == &::google::protobuf::internal::kEmptyString) {
+    name_ = new ::std::string;
+  }
+  name_->assign(reinterpret_cast<const char*>(value), size);
+}
+inline ::std::string* Volume::mutable_name() {
+  set_has_name();
+  if (name_ == &::google::protobuf::internal::kEmptyString) {
+    name_ = new ::std::string;
+  }
+  return name_;
+}
+inline ::std::string* Volume::release_name() {
+  clear_has_name();
+  if (name_ == &::google::protobuf::internal::kEmptyString) {
+    return NULL;
+  } else {
+    ::std::string* temp = name_;
+    name_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    return temp;
+  }
+}
+inline void Volume::set_allocated_name(::std::string* name) {
+  if (name_ != &::google::protobuf::internal::kEmptyString) {
+    delete name_;
+  }
+  if (name) {
+    set_has_name();
+    name_ = name;
+  } else {
+    clear_has_name();
+    name_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  }
+}
+
+// required string owner_group_id = 6;
+inline bool Volume::has_owner_group_id() const {
   return (_has_bits_[0] & 0x00000020u) != 0;
 }
-inline void Stat::set_has_group_id() {
+inline void Volume::set_has_owner_group_id() {
   _has_bits_[0] |= 0x00000020u;
 }
-inline void Stat::clear_has_group_id() {
+inline void Volume::clear_has_owner_group_id() {
   _has_bits_[0] &= ~0x00000020u;
 }
-inline void Stat::clear_group_id() {
-  if (group_id_ != &::google::protobuf::internal::kEmptyString) {
-    group_id_->clear();
+inline void Volume::clear_owner_group_id() {
+  if (owner_group_id_ != &::google::protobuf::internal::kEmptyString) {
+    owner_group_id_->clear();
   }
-  clear_has_group_id();
+  clear_has_owner_group_id();
 }
-inline const ::std::string& Stat::group_id() const {
-  return *group_id_;
+inline const ::std::string& Volume::owner_group_id() const {
+  return *owner_group_id_;
 }
-inline void Stat::set_group_id(const ::std::string& value) {
-  set_has_group_id();
-  if (group_id_ == &::google::protobuf::internal::kEmptyString) {
-    group_id_ = new ::std::string;
+inline void Volume::set_owner_group_id(const ::std::string& value) {
+  set_has_owner_group_id();
+  if (owner_group_id_ == &::google::protobuf::internal::kEmptyString) {
+    owner_group_id_ = new ::std::string;
   }
-  group_id_->assign(value);
+  owner_group_id_->assign(value);
 }
-inline void Stat::set_group_id(const char* value) {
-  set_has_group_id();
-  if (group_id_ == &::google::protobuf::internal::kEmptyString) {
-    group_id_ = new ::std::string;
+inline void Volume::set_owner_group_id(const char* value) {
+  set_has_owner_group_id();
+  if (owner_group_id_ == &::google::protobuf::internal::kEmptyString) {
+    owner_group_id_ = new ::std::string;
   }
-  group_id_->assign(value);
+  owner_group_id_->assign(value);
 }
-inline void Stat::set_group_id(const char* value, size_t size) {
-  set_has_group_id();
-  if (group_id_ == &::google::protobuf::internal::kEmptyString) {
-    group_id_ = new ::std::string;
+inline void Volume::set_owner_group_id(const char* value, size_t size) {
+  set_has_owner_group_id();
+  if (owner_group_id_ == &::google::protobuf::internal::kEmptyString) {
+    owner_group_id_ = new ::std::string;
+  }
+  owner_group_id_->assign(reinterpret_cast<const char*>(value), size);
+}
+inline ::std::string* Volume::mutable_owner_group_id() {
+  set_has_owner_group_id();
+  if (owner_group_id_ == &::google::protobuf::internal::kEmptyString) {
+    owner_group_id_ = new ::std::string;
+  }
+  return owner_group_id_;
+}
+inline ::std::string* Volume::release_owner_group_id() {
+  clear_has_owner_group_id();
+  if (owner_group_id_ == &::google::protobuf::internal::kEmptyString) {
+    return NULL;
+  } else {
+    ::std::string* temp = owner_group_id_;
+    owner_group_id_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    return temp;
+  }
+}
+inline void Volume::set_allocated_owner_group_id(::std::string* owner_group_id) {
+  if (owner_group_id_ != &::google::protobuf::internal::kEmptyString) {
+    delete owner_group_id_;
+  }
+  if (owner_group_id) {
+    set_has_owner_group_id();
+    owner_group_id_ = owner_group_id;
+  } else {
+    clear_has_owner_group_id();
+    owner_group_id_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  }
+}
+
+// required string owner_user_id = 7;
+inline bool Volume::has_owner_user_id() const {
+  return (_has_bits_[0] & 0x00000040u) != 0;
+}
+inline void Volume::set_has_owner_user_id() {
+  _has_bits_[0] |= 0x00000040u;
+}
+inline void Volume::clear_has_owner_user_id() {
+  _has_bits_[0] &= ~0x00000040u;
+}
+inline void Volume::clear_owner_user_id() {
+  if (owner_user_id_ != &::google::protobuf::internal::kEmptyString) {
+    owner_user_id_->clear();
+  }
+  clear_has_owner_user_id();
+}
+inline const ::std::string& Volume::owner_user_id() const {
+  return *owner_user_id_;
+}
+inline void Volume::set_owner_user_id(const ::std::string& value) {
+  set_has_owner_user_id();
+  if (owner_user_id_ == &::google::protobuf::internal::kEmptyString) {
+    owner_user_id_ = new ::std::string;
+  }
+  owner_user_id_->assign(value);
+}
+inline void Volume::set_owner_user_id(const char* value) {
+  set_has_owner_user_id();
+  if (owner_user_id_ == &::google::protobuf::internal::kEmptyString) {
+    owner_user_id_ = new ::std::string;
+  }
+  owner_user_id_->assign(value);
+}
+inline void Volume::set_owner_user_id(const char* value, size_t size) {
+  set_has_owner_user_id();
+  if (owner_user_id_ == &::google::protobuf::internal::kEmptyString) {
+    owner_user_id_ = new ::std::string;
   }
-  group_id_->assign(reinterpret_cast<const char*>(value), size);
+  owner_user_id_->assign(reinterpret_cast<const char*>(value), size);
 }
-inline ::std::string* Stat::mutable_group_id() {
-  set_has_group_id();
-  if (group_id_ == &::google::protobuf::internal::kEmptyString) {
-    group_id_ = new ::std::string;
+inline ::std::string* Volume::mutable_owner_user_id() {
+  set_has_owner_user_id();
+  if (owner_user_id_ == &::google::protobuf::internal::kEmptyString) {
+    owner_user_id_ = new ::std::string;
   }
-  return group_id_;
+  return owner_user_id_;
 }
-inline ::std::string* Stat::release_group_id() {
-  clear_has_group_id();
-  if (group_id_ == &::google::protobuf::internal::kEmptyString) {
+inline ::std::string* Volume::release_owner_user_id() {
+  clear_has_owner_user_id();
+  if (owner_user_id_ == &::google::protobuf::internal::kEmptyString) {
     return NULL;
   } else {
-    ::std::string* temp = group_id_;
-    group_id_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    ::std::string* temp = owner_user_id_;
+    owner_user_id_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
     return temp;
   }
 }
-inline void Stat::set_allocated_group_id(::std::string* group_id) {
-  if (group_id_ != &::google::protobuf::internal::kEmptyString) {
-    delete group_id_;
+inline void Volume::set_allocated_owner_user_id(::std::string* owner_user_id) {
+  if (owner_user_id_ != &::google::protobuf::internal::kEmptyString) {
+    delete owner_user_id_;
   }
-  if (group_id) {
-    set_has_group_id();
-    group_id_ = group_id;
+  if (owner_user_id) {
+    set_has_owner_user_id();
+    owner_user_id_ = owner_user_id;
   } else {
-    clear_has_group_id();
-    group_id_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    clear_has_owner_user_id();
+    owner_user_id_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
   }
 }
 
-// required fixed64 size = 7;
-inline bool Stat::has_size() const {
-  return (_has_bits_[0] & 0x00000040u) != 0;
-}
-inline void Stat::set_has_size() {
-  _has_bits_[0] |= 0x00000040u;
-}
-inline void Stat::clear_has_size() {
-  _has_bits_[0] &= ~0x00000040u;
-}
-inline void Stat::clear_size() {
-  size_ = GOOGLE_ULONGLONG(0);
-  clear_has_size();
-}
-inline ::google::protobuf::uint64 Stat::size() const {
-  return size_;
-}
-inline void Stat::set_size(::google::protobuf::uint64 value) {
-  set_has_size();
-  size_ = value;
+// repeated .xtreemfs.pbrpc.KeyValuePair attrs = 8;
+inline int Volume::attrs_size() const {
+  return attrs_.size();
 }
-
-// required fixed64 atime_ns = 8;
-inline bool Stat::has_atime_ns() const {
-  return (_has_bits_[0] & 0x00000080u) != 0;
+inline void Volume::clear_attrs() {
+  attrs_.Clear();
 }
-inline void Stat::set_has_atime_ns() {
-  _has_bits_[0] |= 0x00000080u;
+inline const ::xtreemfs::pbrpc::KeyValuePair& Volume::attrs(int index) const {
+  return attrs_.Get(index);
 }
-inline void Stat::clear_has_atime_ns() {
-  _has_bits_[0] &= ~0x00000080u;
+inline ::xtreemfs::pbrpc::KeyValuePair* Volume::mutable_attrs(int index) {
+  return attrs_.Mutable(index);
 }
-inline void Stat::clear_atime_ns() {
-  atime_ns_ = GOOGLE_ULONGLONG(0);
-  clear_has_atime_ns();
+inline ::xtreemfs::pbrpc::KeyValuePair* Volume::add_attrs() {
+  return attrs_.Add();
 }
-inline ::google::protobuf::uint64 Stat::atime_ns() const {
-  return atime_ns_;
+inline const ::google::protobuf::RepeatedPtrField< ::xtreemfs::pbrpc::KeyValuePair >&
+Volume::attrs() const {
+  return attrs_;
 }
-inline void Stat::set_atime_ns(::google::protobuf::uint64 value) {
-  set_has_atime_ns();
-  atime_ns_ = value;
+inline ::google::protobuf::RepeatedPtrField< ::xtreemfs::pbrpc::KeyValuePair >*
+Volume::mutable_attrs() {
+  return &attrs_;
 }
 
-// required fixed64 mtime_ns = 9;
-inline bool Stat::has_mtime_ns() const {
+// optional fixed64 quota = 9;
+inline bool Volume::has_quota() const {
   return (_has_bits_[0] & 0x00000100u) != 0;
 }
-inline void Stat::set_has_mtime_ns() {
+inline void Volume::set_has_quota() {
   _has_bits_[0] |= 0x00000100u;
 }
-inline void Stat::clear_has_mtime_ns() {
+inline void Volume::clear_has_quota() {
   _has_bits_[0] &= ~0x00000100u;
 }
-inline void Stat::clear_mtime_ns() {
-  mtime_ns_ = GOOGLE_ULONGLONG(0);
-  clear_has_mtime_ns();
+inline void Volume::clear_quota() {
+  quota_ = GOOGLE_ULONGLONG(0);
+  clear_has_quota();
 }
-inline ::google::protobuf::uint64 Stat::mtime_ns() const {
-  return mtime_ns_;
+inline ::google::protobuf::uint64 Volume::quota() const {
+  return quota_;
 }
-inline void Stat::set_mtime_ns(::google::protobuf::uint64 value) {
-  set_has_mtime_ns();
-  mtime_ns_ = value;
+inline void Volume::set_quota(::google::protobuf::uint64 value) {
+  set_has_quota();
+  quota_ = value;
 }
 
-// required fixed64 ctime_ns = 10;
-inline bool Stat::has_ctime_ns() const {
-  return (_has_bits_[0] & 0x00000200u) != 0;
+// -------------------------------------------------------------------
+
+// Volumes
+
+// repeated .xtreemfs.pbrpc.Volume volumes = 1;
+inline int Volumes::volumes_size() const {
+  return volumes_.size();
 }
-inline void Stat::set_has_ctime_ns() {
-  _has_bits_[0] |= 0x00000200u;
+inline void Volumes::clear_volumes() {
+  volumes_.Clear();
 }
-inline void Stat::clear_has_ctime_ns() {
-  _has_bits_[0] &= ~0x00000200u;
+inline const ::xtreemfs::pbrpc::Volume& Volumes::volumes(int index) const {
+  return volumes_.Get(index);
 }
-inline void Stat::clear_ctime_ns() {
-  ctime_ns_ = GOOGLE_ULONGLONG(0);
-  clear_has_ctime_ns();
+inline ::xtreemfs::pbrpc::Volume* Volumes::mutable_volumes(int index) {
+  return volumes_.Mutable(index);
 }
-inline ::google::protobuf::uint64 Stat::ctime_ns() const {
-  return ctime_ns_;
+inline ::xtreemfs::pbrpc::Volume* Volumes::add_volumes() {
+  return volumes_.Add();
 }
-inline void Stat::set_ctime_ns(::google::protobuf::uint64 value) {
-  set_has_ctime_ns();
-  ctime_ns_ = value;
+inline const ::google::protobuf::RepeatedPtrField< ::xtreemfs::pbrpc::Volume >&
+Volumes::volumes() const {
+  return volumes_;
+}
+inline ::google::protobuf::RepeatedPtrField< ::xtreemfs::pbrpc::Volume >*
+Volumes::mutable_volumes() {
+  return &volumes_;
 }
 
-// required fixed32 blksize = 11;
-inline bool Stat::has_blksize() const {
-  return (_has_bits_[0] & 0x00000400u) != 0;
+// -------------------------------------------------------------------
+
+// StatVFS
+
+// required fixed32 bsize = 1;
+inline bool StatVFS::has_bsize() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
 }
-inline void Stat::set_has_blksize() {
-  _has_bits_[0] |= 0x00000400u;
+inline void StatVFS::set_has_bsize() {
+  _has_bits_[0] |= 0x00000001u;
 }
-inline void Stat::clear_has_blksize() {
-  _has_bits_[0] &= ~0x00000400u;
+inline void StatVFS::clear_has_bsize() {
+  _has_bits_[0] &= ~0x00000001u;
 }
-inline void Stat::clear_blksize() {
-  blksize_ = 0u;
-  clear_has_blksize();
+inline void StatVFS::clear_bsize() {
+  bsize_ = 0u;
+  clear_has_bsize();
 }
-inline ::google::protobuf::uint32 Stat::blksize() const {
-  return blksize_;
+inline ::google::protobuf::uint32 StatVFS::bsize() const {
+  return bsize_;
 }
-inline void Stat::set_blksize(::google::protobuf::uint32 value) {
-  set_has_blksize();
-  blksize_ = value;
+inline void StatVFS::set_bsize(::google::protobuf::uint32 value) {
+  set_has_bsize();
+  bsize_ = value;
 }
 
-// optional fixed64 etag = 12;
-inline bool Stat::has_etag() const {
-  return (_has_bits_[0] & 0x00000800u) != 0;
+// required fixed64 bavail = 2;
+inline bool StatVFS::has_bavail() const {
+  return (_has_bits_[0] & 0x00000002u) != 0;
 }
-inline void Stat::set_has_etag() {
-  _has_bits_[0] |= 0x00000800u;
+inline void StatVFS::set_has_bavail() {
+  _has_bits_[0] |= 0x00000002u;
 }
-inline void Stat::clear_has_etag() {
-  _has_bits_[0] &= ~0x00000800u;
+inline void StatVFS::clear_has_bavail() {
+  _has_bits_[0] &= ~0x00000002u;
 }
-inline void Stat::clear_etag() {
-  etag_ = GOOGLE_ULONGLONG(0);
-  clear_has_etag();
+inline void StatVFS::clear_bavail() {
+  bavail_ = GOOGLE_ULONGLONG(0);
+  clear_has_bavail();
 }
-inline ::google::protobuf::uint64 Stat::etag() const {
-  return etag_;
+inline ::google::protobuf::uint64 StatVFS::bavail() const {
+  return bavail_;
 }
-inline void Stat::set_etag(::google::protobuf::uint64 value) {
-  set_has_etag();
-  etag_ = value;
+inline void StatVFS::set_bavail(::google::protobuf::uint64 value) {
+  set_has_bavail();
+  bavail_ = value;
 }
 
-// required fixed32 truncate_epoch = 13;
-inline bool Stat::has_truncate_epoch() const {
-  return (_has_bits_[0] & 0x00001000u) != 0;
+// optional fixed64 bfree = 13;
+inline bool StatVFS::has_bfree() const {
+  return (_has_bits_[0] & 0x00000004u) != 0;
 }
-inline void Stat::set_has_truncate_epoch() {
-  _has_bits_[0] |= 0x00001000u;
+inline void StatVFS::set_has_bfree() {
+  _has_bits_[0] |= 0x00000004u;
 }
-inline void Stat::clear_has_truncate_epoch() {
-  _has_bits_[0] &= ~0x00001000u;
+inline void StatVFS::clear_has_bfree() {
+  _has_bits_[0] &= ~0x00000004u;
 }
-inline void Stat::clear_truncate_epoch() {
-  truncate_epoch_ = 0u;
-  clear_has_truncate_epoch();
+inline void StatVFS::clear_bfree() {
+  bfree_ = GOOGLE_ULONGLONG(0);
+  clear_has_bfree();
 }
-inline ::google::protobuf::uint32 Stat::truncate_epoch() const {
-  return truncate_epoch_;
+inline ::google::protobuf::uint64 StatVFS::bfree() const {
+  return bfree_;
 }
-inline void Stat::set_truncate_epoch(::google::protobuf::uint32 value) {
-  set_has_truncate_epoch();
-  truncate_epoch_ = value;
+inline void StatVFS::set_bfree(::google::protobuf::uint64 value) {
+  set_has_bfree();
+  bfree_ = value;
 }
 
-// optional fixed32 attributes = 14;
-inline bool Stat::has_attributes() const {
-  return (_has_bits_[0] & 0x00002000u) != 0;
+// required fixed64 blocks = 3;
+inline bool StatVFS::has_blocks() const {
+  return (_has_bits_[0] & 0x00000008u) != 0;
 }
-inline void Stat::set_has_attributes() {
-  _has_bits_[0] |= 0x00002000u;
+inline void StatVFS::set_has_blocks() {
+  _has_bits_[0] |= 0x00000008u;
 }
-inline void Stat::clear_has_attributes() {
-  _has_bits_[0] &= ~0x00002000u;
+inline void StatVFS::clear_has_blocks() {
+  _has_bits_[0] &= ~0x00000008u;
 }
-inline void Stat::clear_attributes() {
-  attributes_ = 0u;
-  clear_has_attributes();
+inline void StatVFS::clear_blocks() {
+  blocks_ = GOOGLE_ULONGLONG(0);
+  clear_has_blocks();
 }
-inline ::google::protobuf::uint32 Stat::attributes() const {
-  return attributes_;
+inline ::google::protobuf::uint64 StatVFS::blocks() const {
+  return blocks_;
 }
-inline void Stat::set_attributes(::google::protobuf::uint32 value) {
-  set_has_attributes();
-  attributes_ = value;
+inline void StatVFS::set_blocks(::google::protobuf::uint64 value) {
+  set_has_blocks();
+  blocks_ = value;
 }
 
-// -------------------------------------------------------------------
-
-// DirectoryEntry
-
-// required string name = 1;
-inline bool DirectoryEntry::has_name() const {
-  return (_has_bits_[0] & 0x00000001u) != 0;
+// required string fsid = 4;
+inline bool StatVFS::has_fsid() const {
+  return (_has_bits_[0] & 0x00000010u) != 0;
 }
-inline void DirectoryEntry::set_has_name() {
-  _has_bits_[0] |= 0x00000001u;
+inline void StatVFS::set_has_fsid() {
+  _has_bits_[0] |= 0x00000010u;
 }
-inline void DirectoryEntry::clear_has_name() {
-  _has_bits_[0] &= ~0x00000001u;
+inline void StatVFS::clear_has_fsid() {
+  _has_bits_[0] &= ~0x00000010u;
 }
-inline void DirectoryEntry::clear_name() {
-  if (name_ != &::google::protobuf::internal::kEmptyString) {
-    name_->clear();
+inline void StatVFS::clear_fsid() {
+  if (fsid_ != &::google::protobuf::internal::kEmptyString) {
+    fsid_->clear();
   }
-  clear_has_name();
+  clear_has_fsid();
 }
-inline const ::std::string& DirectoryEntry::name() const {
-  return *name_;
+inline const ::std::string& StatVFS::fsid() const {
+  return *fsid_;
 }
-inline void DirectoryEntry::set_name(const ::std::string& value) {
-  set_has_name();
-  if (name_ == &::google::protobuf::internal::kEmptyString) {
-    name_ = new ::std::string;
+inline void StatVFS::set_fsid(const ::std::string& value) {
+  set_has_fsid();
+  if (fsid_ == &::google::protobuf::internal::kEmptyString) {
+    fsid_ = new ::std::string;
   }
-  name_->assign(value);
+  fsid_->assign(value);
 }
-inline void DirectoryEntry::set_name(const char* value) {
-  set_has_name();
-  if (name_ == &::google::protobuf::internal::kEmptyString) {
-    name_ = new ::std::string;
+inline void StatVFS::set_fsid(const char* value) {
+  set_has_fsid();
+  if (fsid_ == &::google::protobuf::internal::kEmptyString) {
+    fsid_ = new ::std::string;
   }
-  name_->assign(value);
+  fsid_->assign(value);
 }
-inline void DirectoryEntry::set_name(const char* value, size_t size) {
-  set_has_name();
-  if (name_ == &::google::protobuf::internal::kEmptyString) {
-    name_ = new ::std::string;
+inline void StatVFS::set_fsid(const char* value, size_t size) {
+  set_has_fsid();
+  if (fsid_ == &::google::protobuf::internal::kEmptyString) {
+    fsid_ = new ::std::string;
   }
-  name_->assign(reinterpret_cast<const char*>(value), size);
+  fsid_->assign(reinterpret_cast<const char*>(value), size);
 }
-inline ::std::string* DirectoryEntry::mutable_name() {
-  set_has_name();
-  if (name_ == &::google::protobuf::internal::kEmptyString) {
-    name_ = new ::std::string;
+inline ::std::string* StatVFS::mutable_fsid() {
+  set_has_fsid();
+  if (fsid_ == &::google::protobuf::internal::kEmptyString) {
+    fsid_ = new ::std::string;
   }
-  return name_;
+  return fsid_;
 }
-inline ::std::string* DirectoryEntry::release_name() {
-  clear_has_name();
-  if (name_ == &::google::protobuf::internal::kEmptyString) {
+inline ::std::string* StatVFS::release_fsid() {
+  clear_has_fsid();
+  if (fsid_ == &::google::protobuf::internal::kEmptyString) {
     return NULL;
   } else {
-    ::std::string* temp = name_;
-    name_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    ::std::string* temp = fsid_;
+    fsid_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
     return temp;
   }
 }
-inline void DirectoryEntry::set_allocated_name(::std::string* name) {
-  if (name_ != &::google::protobuf::internal::kEmptyString) {
-    delete name_;
+inline void StatVFS::set_allocated_fsid(::std::string* fsid) {
+  if (fsid_ != &::google::protobuf::internal::kEmptyString) {
+    delete fsid_;
   }
-  if (name) {
-    set_has_name();
-    name_ = name;
+  if (fsid) {
+    set_has_fsid();
+    fsid_ = fsid;
   } else {
-    clear_has_name();
-    name_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    clear_has_fsid();
+    fsid_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
   }
 }
 
-// optional .xtreemfs.pbrpc.Stat stbuf = 2;
-inline bool DirectoryEntry::has_stbuf() const {
-  return (_has_bits_[0] & 0x00000002u) != 0;
+// required fixed32 namemax = 5;
+inline bool StatVFS::has_namemax() const {
+  return (_has_bits_[0] & 0x00000020u) != 0;
 }
-inline void DirectoryEntry::set_has_stbuf() {
-  _has_bits_[0] |= 0x00000002u;
+inline void StatVFS::set_has_namemax() {
+  _has_bits_[0] |= 0x00000020u;
 }
-inline void DirectoryEntry::clear_has_stbuf() {
-  _has_bits_[0] &= ~0x00000002u;
+inline void StatVFS::clear_has_namemax() {
+  _has_bits_[0] &= ~0x00000020u;
 }
-inline void DirectoryEntry::clear_stbuf() {
-  if (stbuf_ != NULL) stbuf_->::xtreemfs::pbrpc::Stat::Clear();
-  clear_has_stbuf();
+inline void StatVFS::clear_namemax() {
+  namemax_ = 0u;
+  clear_has_namemax();
 }
-inline const ::xtreemfs::pbrpc::Stat& DirectoryEntry::stbuf() const {
-  return stbuf_ != NULL ? *stbuf_ : *default_instance_->stbuf_;
+inline ::google::protobuf::uint32 StatVFS::namemax() const {
+  return namemax_;
 }
-inline ::xtreemfs::pbrpc::Stat* DirectoryEntry::mutable_stbuf() {
-  set_has_stbuf();
-  if (stbuf_ == NULL) stbuf_ = new ::xtreemfs::pbrpc::Stat;
-  return stbuf_;
+inline void StatVFS::set_namemax(::google::protobuf::uint32 value) {
+  set_has_namemax();
+  namemax_ = value;
 }
-inline ::xtreemfs::pbrpc::Stat* DirectoryEntry::release_stbuf() {
-  clear_has_stbuf();
-  ::xtreemfs::pbrpc::Stat* temp = stbuf_;
-  stbuf_ = NULL;
+
+// required .xtreemfs.pbrpc.AccessControlPolicyType access_control_policy = 6;
+inline bool StatVFS::has_access_control_policy() const {
+  return (_has_bits_[0] & 0x00000040u) != 0;
+}
+inline void StatVFS::set_has_access_control_policy() {
+  _has_bits_[0] |= 0x00000040u;
+}
+inline void StatVFS::clear_has_access_control_policy() {
+  _has_bits_[0] &= ~0x00000040u;
+}
+inline void StatVFS::clear_access_control_policy() {
+  access_control_policy_ = 1;
+  clear_has_access_control_policy();
+}
+inline ::xtreemfs::pbrpc::AccessControlPolicyType StatVFS::access_control_policy() const {
+  return static_cast< ::xtreemfs::pbrpc::AccessControlPolicyType >(access_control_policy_);
+}
+inline void StatVFS::set_access_control_policy(::xtreemfs::pbrpc::AccessControlPolicyType value) {
+  assert(::xtreemfs::pbrpc::AccessControlPolicyType_IsValid(value));
+  set_has_access_control_policy();
+  access_control_policy_ = value;
+}
+
+// required .xtreemfs.pbrpc.StripingPolicy default_striping_policy = 7;
+inline bool StatVFS::has_default_striping_policy() const {
+  return (_has_bits_[0] & 0x00000080u) != 0;
+}
+inline void StatVFS::set_has_default_striping_policy() {
+  _has_bits_[0] |= 0x00000080u;
+}
+inline void StatVFS::clear_has_default_striping_policy() {
+  _has_bits_[0] &= ~0x00000080u;
+}
+inline void StatVFS::clear_default_striping_policy() {
+  if (default_striping_policy_ != NULL) default_striping_policy_->::xtreemfs::pbrpc::StripingPolicy::Clear();
+  clear_has_default_striping_policy();
+}
+inline const ::xtreemfs::pbrpc::StripingPolicy& StatVFS::default_striping_policy() const {
+  return default_striping_policy_ != NULL ? *default_striping_policy_ : *default_instance_->default_striping_policy_;
+}
+inline ::xtreemfs::pbrpc::StripingPolicy* StatVFS::mutable_default_striping_policy() {
+  set_has_default_striping_policy();
+  if (default_striping_policy_ == NULL) default_striping_policy_ = new ::xtreemfs::pbrpc::StripingPolicy;
+  return default_striping_policy_;
+}
+inline ::xtreemfs::pbrpc::StripingPolicy* StatVFS::release_default_striping_policy() {
+  clear_has_default_striping_policy();
+  ::xtreemfs::pbrpc::StripingPolicy* temp = default_striping_policy_;
+  default_striping_policy_ = NULL;
   return temp;
 }
-inline void DirectoryEntry::set_allocated_stbuf(::xtreemfs::pbrpc::Stat* stbuf) {
-  delete stbuf_;
-  stbuf_ = stbuf;
-  if (stbuf) {
-    set_has_stbuf();
+inline void StatVFS::set_allocated_default_striping_policy(::xtreemfs::pbrpc::StripingPolicy* default_striping_policy) {
+  delete default_striping_policy_;
+  default_striping_policy_ = default_striping_policy;
+  if (default_striping_policy) {
+    set_has_default_striping_policy();
   } else {
-    clear_has_stbuf();
+    clear_has_default_striping_policy();
   }
 }
 
-// -------------------------------------------------------------------
-
-// DirectoryEntries
-
-// repeated .xtreemfs.pbrpc.DirectoryEntry entries = 1;
-inline int DirectoryEntries::entries_size() const {
-  return entries_.size();
+// required fixed64 etag = 8;
+inline bool StatVFS::has_etag() const {
+  return (_has_bits_[0] & 0x00000100u) != 0;
 }
-inline void DirectoryEntries::clear_entries() {
-  entries_.Clear();
+inline void StatVFS::set_has_etag() {
+  _has_bits_[0] |= 0x00000100u;
 }
-inline const ::xtreemfs::pbrpc::DirectoryEntry& DirectoryEntries::entries(int index) const {
-  return entries_.Get(index);
+inline void StatVFS::clear_has_etag() {
+  _has_bits_[0] &= ~0x00000100u;
 }
-inline ::xtreemfs::pbrpc::DirectoryEntry* DirectoryEntries::mutable_entries(int index) {
-  return entries_.Mutable(index);
+inline void StatVFS::clear_etag() {
+  etag_ = GOOGLE_ULONGLONG(0);
+  clear_has_etag();
+}
+inline ::google::protobuf::uint64 StatVFS::etag() const {
+  return etag_;
+}
+inline void StatVFS::set_etag(::google::protobuf::uint64 value) {
+  set_has_etag();
+  etag_ = value;
+}
+
+// required fixed32 mode = 9;
+inline bool StatVFS::has_mode() const {
+  return (_has_bits_[0] & 0x00000200u) != 0;
+}
+inline void StatVFS::set_has_mode() {
+  _has_bits_[0] |= 0x00000200u;
+}
+inline void StatVFS::clear_has_mode() {
+  _has_bits_[0] &= ~0x00000200u;
 }
-inline ::xtreemfs::pbrpc::DirectoryEntry* DirectoryEntries::add_entries() {
-  return entries_.Add();
+inline void StatVFS::clear_mode() {
+  mode_ = 0u;
+  clear_has_mode();
 }
-inline const ::google::protobuf::RepeatedPtrField< ::xtreemfs::pbrpc::DirectoryEntry >&
-DirectoryEntries::entries() const {
-  return entries_;
+inline ::google::protobuf::uint32 StatVFS::mode() const {
+  return mode_;
 }
-inline ::google::protobuf::RepeatedPtrField< ::xtreemfs::pbrpc::DirectoryEntry >*
-DirectoryEntries::mutable_entries() {
-  return &entries_;
+inline void StatVFS::set_mode(::google::protobuf::uint32 value) {
+  set_has_mode();
+  mode_ = value;
 }
 
-// -------------------------------------------------------------------
-
-// XAttr
-
-// required string name = 1;
-inline bool XAttr::has_name() const {
-  return (_has_bits_[0] & 0x00000001u) != 0;
+// required string name = 10;
+inline bool StatVFS::has_name() const {
+  return (_has_bits_[0] & 0x00000400u) != 0;
 }
-inline void XAttr::set_has_name() {
-  _has_bits_[0] |= 0x00000001u;
+inline void StatVFS::set_has_name() {
+  _has_bits_[0] |= 0x00000400u;
 }
-inline void XAttr::clear_has_name() {
-  _has_bits_[0] &= ~0x00000001u;
+inline void StatVFS::clear_has_name() {
+  _has_bits_[0] &= ~0x00000400u;
 }
-inline void XAttr::clear_name() {
+inline void StatVFS::clear_name() {
   if (name_ != &::google::protobuf::internal::kEmptyString) {
     name_->clear();
   }
   clear_has_name();
 }
-inline const ::std::string& XAttr::name() const {
+inline const ::std::string& StatVFS::name() const {
   return *name_;
 }
-inline void XAttr::set_name(const ::std::string& value) {
+inline void StatVFS::set_name(const ::std::string& value) {
   set_has_name();
   if (name_ == &::google::protobuf::internal::kEmptyString) {
     name_ = new ::std::string;
   }
   name_->assign(value);
 }
-inline void XAttr::set_name(const char* value) {
+inline void StatVFS::set_name(const char* value) {
   set_has_name();
   if (name_ == &::google::protobuf::internal::kEmptyString) {
     name_ = new ::std::string;
   }
   name_->assign(value);
 }
-inline void XAttr::set_name(const char* value, size_t size) {
+inline void StatVFS::set_name(const char* value, size_t size) {
   set_has_name();
   if (name_ == &::google::protobuf::internal::kEmptyString) {
     name_ = new ::std::string;
   }
   name_->assign(reinterpret_cast<const char*>(value), size);
 }
-inline ::std::string* XAttr::mutable_name() {
+inline ::std::string* StatVFS::mutable_name() {
   set_has_name();
   if (name_ == &::google::protobuf::internal::kEmptyString) {
     name_ = new ::std::string;
   }
   return name_;
 }
-inline ::std::string* XAttr::release_name() {
+inline ::std::string* StatVFS::release_name() {
   clear_has_name();
   if (name_ == &::google::protobuf::internal::kEmptyString) {
     return NULL;
@@ -6750,7 +9253,7 @@ inline ::std::string* XAttr::release_name() {
     return temp;
   }
 }
-inline void XAttr::set_allocated_name(::std::string* name) {
+inline void StatVFS::set_allocated_name(::std::string* name) {
   if (name_ != &::google::protobuf::internal::kEmptyString) {
     delete name_;
   }
@@ -6763,1242 +9266,1275 @@ inline void XAttr::set_allocated_name(::std::string* name) {
   }
 }
 
-// optional string value = 2;
-inline bool XAttr::has_value() const {
-  return (_has_bits_[0] & 0x00000002u) != 0;
-}
-inline void XAttr::set_has_value() {
-  _has_bits_[0] |= 0x00000002u;
-}
-inline void XAttr::clear_has_value() {
-  _has_bits_[0] &= ~0x00000002u;
-}
-inline void XAttr::clear_value() {
-  if (value_ != &::google::protobuf::internal::kEmptyString) {
-    value_->clear();
-  }
-  clear_has_value();
-}
-inline const ::std::string& XAttr::value() const {
-  return *value_;
-}
-inline void XAttr::set_value(const ::std::string& value) {
-  set_has_value();
-  if (value_ == &::google::protobuf::internal::kEmptyString) {
-    value_ = new ::std::string;
-  }
-  value_->assign(value);
-}
-inline void XAttr::set_value(const char* value) {
-  set_has_value();
-  if (value_ == &::google::protobuf::internal::kEmptyString) {
-    value_ = new ::std::string;
-  }
-  value_->assign(value);
-}
-inline void XAttr::set_value(const char* value, size_t size) {
-  set_has_value();
-  if (value_ == &::google::protobuf::internal::kEmptyString) {
-    value_ = new ::std::string;
-  }
-  value_->assign(reinterpret_cast<const char*>(value), size);
-}
-inline ::std::string* XAttr::mutable_value() {
-  set_has_value();
-  if (value_ == &::google::protobuf::internal::kEmptyString) {
-    value_ = new ::std::string;
-  }
-  return value_;
-}
-inline ::std::string* XAttr::release_value() {
-  clear_has_value();
-  if (value_ == &::google::protobuf::internal::kEmptyString) {
-    return NULL;
-  } else {
-    ::std::string* temp = value_;
-    value_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
-    return temp;
-  }
-}
-inline void XAttr::set_allocated_value(::std::string* value) {
-  if (value_ != &::google::protobuf::internal::kEmptyString) {
-    delete value_;
-  }
-  if (value) {
-    set_has_value();
-    value_ = value;
-  } else {
-    clear_has_value();
-    value_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
-  }
-}
-
-// optional bytes value_bytes_string = 3;
-inline bool XAttr::has_value_bytes_string() const {
-  return (_has_bits_[0] & 0x00000004u) != 0;
-}
-inline void XAttr::set_has_value_bytes_string() {
-  _has_bits_[0] |= 0x00000004u;
-}
-inline void XAttr::clear_has_value_bytes_string() {
-  _has_bits_[0] &= ~0x00000004u;
-}
-inline void XAttr::clear_value_bytes_string() {
-  if (value_bytes_string_ != &::google::protobuf::internal::kEmptyString) {
-    value_bytes_string_->clear();
-  }
-  clear_has_value_bytes_string();
+// required string owner_group_id = 11;
+inline bool StatVFS::has_owner_group_id() const {
+  return (_has_bits_[0] & 0x00000800u) != 0;
 }
-inline const ::std::string& XAttr::value_bytes_string() const {
-  return *value_bytes_string_;
+inline void StatVFS::set_has_owner_group_id() {
+  _has_bits_[0] |= 0x00000800u;
 }
-inline void XAttr::set_value_bytes_string(const ::std::string& value) {
-  set_has_value_bytes_string();
-  if (value_bytes_string_ == &::google::protobuf::internal::kEmptyString) {
-    value_bytes_string_ = new ::std::string;
-  }
-  value_bytes_string_->assign(value);
+inline void StatVFS::clear_has_owner_group_id() {
+  _has_bits_[0] &= ~0x00000800u;
 }
-inline void XAttr::set_value_bytes_string(const char* value) {
-  set_has_value_bytes_string();
-  if (value_bytes_string_ == &::google::protobuf::internal::kEmptyString) {
-    value_bytes_string_ = new ::std::string;
+inline void StatVFS::clear_owner_group_id() {
+  if (owner_group_id_ != &::google::protobuf::internal::kEmptyString) {
+    owner_group_id_->clear();
   }
-  value_bytes_string_->assign(value);
+  clear_has_owner_group_id();
 }
-inline void XAttr::set_value_bytes_string(const void* value, size_t size) {
-  set_has_value_bytes_string();
-  if (value_bytes_string_ == &::google::protobuf::internal::kEmptyString) {
-    value_bytes_string_ = new ::std::string;
-  }
-  value_bytes_string_->assign(reinterpret_cast<const char*>(value), size);
+inline const ::std::string& StatVFS::owner_group_id() const {
+  return *owner_group_id_;
 }
-inline ::std::string* XAttr::mutable_value_bytes_string() {
-  set_has_value_bytes_string();
-  if (value_bytes_string_ == &::google::protobuf::internal::kEmptyString) {
-    value_bytes_string_ = new ::std::string;
+inline void StatVFS::set_owner_group_id(const ::std::string& value) {
+  set_has_owner_group_id();
+  if (owner_group_id_ == &::google::protobuf::internal::kEmptyString) {
+    owner_group_id_ = new ::std::string;
   }
-  return value_bytes_string_;
+  owner_group_id_->assign(value);
 }
-inline ::std::string* XAttr::release_value_bytes_string() {
-  clear_has_value_bytes_string();
-  if (value_bytes_string_ == &::google::protobuf::internal::kEmptyString) {
-    return NULL;
-  } else {
-    ::std::string* temp = value_bytes_string_;
-    value_bytes_string_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
-    return temp;
+inline void StatVFS::set_owner_group_id(const char* value) {
+  set_has_owner_group_id();
+  if (owner_group_id_ == &::google::protobuf::internal::kEmptyString) {
+    owner_group_id_ = new ::std::string;
   }
+  owner_group_id_->assign(value);
 }
-inline void XAttr::set_allocated_value_bytes_string(::std::string* value_bytes_string) {
-  if (value_bytes_string_ != &::google::protobuf::internal::kEmptyString) {
-    delete value_bytes_string_;
-  }
-  if (value_bytes_string) {
-    set_has_value_bytes_string();
-    value_bytes_string_ = value_bytes_string;
-  } else {
-    clear_has_value_bytes_string();
-    value_bytes_string_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+inline void StatVFS::set_owner_group_id(const char* value, size_t size) {
+  set_has_owner_group_id();
+  if (owner_group_id_ == &::google::protobuf::internal::kEmptyString) {
+    owner_group_id_ = new ::std::string;
   }
+  owner_group_id_->assign(reinterpret_cast<const char*>(value), size);
 }
-
-// -------------------------------------------------------------------
-
-// Volume
-
-// required .xtreemfs.pbrpc.AccessControlPolicyType access_control_policy = 1;
-inline bool Volume::has_access_control_policy() const {
-  return (_has_bits_[0] & 0x00000001u) != 0;
-}
-inline void Volume::set_has_access_control_policy() {
-  _has_bits_[0] |= 0x00000001u;
-}
-inline void Volume::clear_has_access_control_policy() {
-  _has_bits_[0] &= ~0x00000001u;
-}
-inline void Volume::clear_access_control_policy() {
-  access_control_policy_ = 1;
-  clear_has_access_control_policy();
-}
-inline ::xtreemfs::pbrpc::AccessControlPolicyType Volume::access_control_policy() const {
-  return static_cast< ::xtreemfs::pbrpc::AccessControlPolicyType >(access_control_policy_);
-}
-inline void Volume::set_access_control_policy(::xtreemfs::pbrpc::AccessControlPolicyType value) {
-  assert(::xtreemfs::pbrpc::AccessControlPolicyType_IsValid(value));
-  set_has_access_control_policy();
-  access_control_policy_ = value;
-}
-
-// required .xtreemfs.pbrpc.StripingPolicy default_striping_policy = 2;
-inline bool Volume::has_default_striping_policy() const {
-  return (_has_bits_[0] & 0x00000002u) != 0;
-}
-inline void Volume::set_has_default_striping_policy() {
-  _has_bits_[0] |= 0x00000002u;
-}
-inline void Volume::clear_has_default_striping_policy() {
-  _has_bits_[0] &= ~0x00000002u;
-}
-inline void Volume::clear_default_striping_policy() {
-  if (default_striping_policy_ != NULL) default_striping_policy_->::xtreemfs::pbrpc::StripingPolicy::Clear();
-  clear_has_default_striping_policy();
-}
-inline const ::xtreemfs::pbrpc::StripingPolicy& Volume::default_striping_policy() const {
-  return default_striping_policy_ != NULL ? *default_striping_policy_ : *default_instance_->default_striping_policy_;
-}
-inline ::xtreemfs::pbrpc::StripingPolicy* Volume::mutable_default_striping_policy() {
-  set_has_default_striping_policy();
-  if (default_striping_policy_ == NULL) default_striping_policy_ = new ::xtreemfs::pbrpc::StripingPolicy;
-  return default_striping_policy_;
+inline ::std::string* StatVFS::mutable_owner_group_id() {
+  set_has_owner_group_id();
+  if (owner_group_id_ == &::google::protobuf::internal::kEmptyString) {
+    owner_group_id_ = new ::std::string;
+  }
+  return owner_group_id_;
 }
-inline ::xtreemfs::pbrpc::StripingPolicy* Volume::release_default_striping_policy() {
-  clear_has_default_striping_policy();
-  ::xtreemfs::pbrpc::StripingPolicy* temp = default_striping_policy_;
-  default_striping_policy_ = NULL;
-  return temp;
+inline ::std::string* StatVFS::release_owner_group_id() {
+  clear_has_owner_group_id();
+  if (owner_group_id_ == &::google::protobuf::internal::kEmptyString) {
+    return NULL;
+  } else {
+    ::std::string* temp = owner_group_id_;
+    owner_group_id_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    return temp;
+  }
 }
-inline void Volume::set_allocated_default_striping_policy(::xtreemfs::pbrpc::StripingPolicy* default_striping_policy) {
-  delete default_striping_policy_;
-  default_striping_policy_ = default_striping_policy;
-  if (default_striping_policy) {
-    set_has_default_striping_policy();
+inline void StatVFS::set_allocated_owner_group_id(::std::string* owner_group_id) {
+  if (owner_group_id_ != &::google::protobuf::internal::kEmptyString) {
+    delete owner_group_id_;
+  }
+  if (owner_group_id) {
+    set_has_owner_group_id();
+    owner_group_id_ = owner_group_id;
   } else {
-    clear_has_default_striping_policy();
+    clear_has_owner_group_id();
+    owner_group_id_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
   }
 }
 
-// required string id = 3;
-inline bool Volume::has_id() const {
-  return (_has_bits_[0] & 0x00000004u) != 0;
+// required string owner_user_id = 12;
+inline bool StatVFS::has_owner_user_id() const {
+  return (_has_bits_[0] & 0x00001000u) != 0;
 }
-inline void Volume::set_has_id() {
-  _has_bits_[0] |= 0x00000004u;
+inline void StatVFS::set_has_owner_user_id() {
+  _has_bits_[0] |= 0x00001000u;
 }
-inline void Volume::clear_has_id() {
-  _has_bits_[0] &= ~0x00000004u;
+inline void StatVFS::clear_has_owner_user_id() {
+  _has_bits_[0] &= ~0x00001000u;
 }
-inline void Volume::clear_id() {
-  if (id_ != &::google::protobuf::internal::kEmptyString) {
-    id_->clear();
+inline void StatVFS::clear_owner_user_id() {
+  if (owner_user_id_ != &::google::protobuf::internal::kEmptyString) {
+    owner_user_id_->clear();
   }
-  clear_has_id();
+  clear_has_owner_user_id();
 }
-inline const ::std::string& Volume::id() const {
-  return *id_;
+inline const ::std::string& StatVFS::owner_user_id() const {
+  return *owner_user_id_;
 }
-inline void Volume::set_id(const ::std::string& value) {
-  set_has_id();
-  if (id_ == &::google::protobuf::internal::kEmptyString) {
-    id_ = new ::std::string;
+inline void StatVFS::set_owner_user_id(const ::std::string& value) {
+  set_has_owner_user_id();
+  if (owner_user_id_ == &::google::protobuf::internal::kEmptyString) {
+    owner_user_id_ = new ::std::string;
   }
-  id_->assign(value);
+  owner_user_id_->assign(value);
 }
-inline void Volume::set_id(const char* value) {
-  set_has_id();
-  if (id_ == &::google::protobuf::internal::kEmptyString) {
-    id_ = new ::std::string;
+inline void StatVFS::set_owner_user_id(const char* value) {
+  set_has_owner_user_id();
+  if (owner_user_id_ == &::google::protobuf::internal::kEmptyString) {
+    owner_user_id_ = new ::std::string;
   }
-  id_->assign(value);
+  owner_user_id_->assign(value);
 }
-inline void Volume::set_id(const char* value, size_t size) {
-  set_has_id();
-  if (id_ == &::google::protobuf::internal::kEmptyString) {
-    id_ = new ::std::string;
+inline void StatVFS::set_owner_user_id(const char* value, size_t size) {
+  set_has_owner_user_id();
+  if (owner_user_id_ == &::google::protobuf::internal::kEmptyString) {
+    owner_user_id_ = new ::std::string;
   }
-  id_->assign(reinterpret_cast<const char*>(value), size);
+  owner_user_id_->assign(reinterpret_cast<const char*>(value), size);
 }
-inline ::std::string* Volume::mutable_id() {
-  set_has_id();
-  if (id_ == &::google::protobuf::internal::kEmptyString) {
-    id_ = new ::std::string;
+inline ::std::string* StatVFS::mutable_owner_user_id() {
+  set_has_owner_user_id();
+  if (owner_user_id_ == &::google::protobuf::internal::kEmptyString) {
+    owner_user_id_ = new ::std::string;
   }
-  return id_;
+  return owner_user_id_;
 }
-inline ::std::string* Volume::release_id() {
-  clear_has_id();
-  if (id_ == &::google::protobuf::internal::kEmptyString) {
+inline ::std::string* StatVFS::release_owner_user_id() {
+  clear_has_owner_user_id();
+  if (owner_user_id_ == &::google::protobuf::internal::kEmptyString) {
     return NULL;
   } else {
-    ::std::string* temp = id_;
-    id_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    ::std::string* temp = owner_user_id_;
+    owner_user_id_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
     return temp;
   }
 }
-inline void Volume::set_allocated_id(::std::string* id) {
-  if (id_ != &::google::protobuf::internal::kEmptyString) {
-    delete id_;
+inline void StatVFS::set_allocated_owner_user_id(::std::string* owner_user_id) {
+  if (owner_user_id_ != &::google::protobuf::internal::kEmptyString) {
+    delete owner_user_id_;
   }
-  if (id) {
-    set_has_id();
-    id_ = id;
+  if (owner_user_id) {
+    set_has_owner_user_id();
+    owner_user_id_ = owner_user_id;
   } else {
-    clear_has_id();
-    id_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    clear_has_owner_user_id();
+    owner_user_id_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
   }
 }
 
-// required fixed32 mode = 4;
-inline bool Volume::has_mode() const {
-  return (_has_bits_[0] & 0x00000008u) != 0;
+// -------------------------------------------------------------------
+
+// fsetattrRequest
+
+// required .xtreemfs.pbrpc.Stat stbuf = 1;
+inline bool fsetattrRequest::has_stbuf() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
 }
-inline void Volume::set_has_mode() {
-  _has_bits_[0] |= 0x00000008u;
+inline void fsetattrRequest::set_has_stbuf() {
+  _has_bits_[0] |= 0x00000001u;
 }
-inline void Volume::clear_has_mode() {
-  _has_bits_[0] &= ~0x00000008u;
+inline void fsetattrRequest::clear_has_stbuf() {
+  _has_bits_[0] &= ~0x00000001u;
 }
-inline void Volume::clear_mode() {
-  mode_ = 0u;
-  clear_has_mode();
+inline void fsetattrRequest::clear_stbuf() {
+  if (stbuf_ != NULL) stbuf_->::xtreemfs::pbrpc::Stat::Clear();
+  clear_has_stbuf();
 }
-inline ::google::protobuf::uint32 Volume::mode() const {
-  return mode_;
+inline const ::xtreemfs::pbrpc::Stat& fsetattrRequest::stbuf() const {
+  return stbuf_ != NULL ? *stbuf_ : *default_instance_->stbuf_;
 }
-inline void Volume::set_mode(::google::protobuf::uint32 value) {
-  set_has_mode();
-  mode_ = value;
+inline ::xtreemfs::pbrpc::Stat* fsetattrRequest::mutable_stbuf() {
+  set_has_stbuf();
+  if (stbuf_ == NULL) stbuf_ = new ::xtreemfs::pbrpc::Stat;
+  return stbuf_;
+}
+inline ::xtreemfs::pbrpc::Stat* fsetattrRequest::release_stbuf() {
+  clear_has_stbuf();
+  ::xtreemfs::pbrpc::Stat* temp = stbuf_;
+  stbuf_ = NULL;
+  return temp;
+}
+inline void fsetattrRequest::set_allocated_stbuf(::xtreemfs::pbrpc::Stat* stbuf) {
+  delete stbuf_;
+  stbuf_ = stbuf;
+  if (stbuf) {
+    set_has_stbuf();
+  } else {
+    clear_has_stbuf();
+  }
 }
 
-// required string name = 5;
-inline bool Volume::has_name() const {
-  return (_has_bits_[0] & 0x00000010u) != 0;
+// required fixed32 to_set = 2;
+inline bool fsetattrRequest::has_to_set() const {
+  return (_has_bits_[0] & 0x00000002u) != 0;
 }
-inline void Volume::set_has_name() {
-  _has_bits_[0] |= 0x00000010u;
+inline void fsetattrRequest::set_has_to_set() {
+  _has_bits_[0] |= 0x00000002u;
 }
-inline void Volume::clear_has_name() {
-  _has_bits_[0] &= ~0x00000010u;
+inline void fsetattrRequest::clear_has_to_set() {
+  _has_bits_[0] &= ~0x00000002u;
 }
-inline void Volume::clear_name() {
-  if (name_ != &::google::protobuf::internal::kEmptyString) {
-    name_->clear();
-  }
-  clear_has_name();
+inline void fsetattrRequest::clear_to_set() {
+  to_set_ = 0u;
+  clear_has_to_set();
 }
-inline const ::std::string& Volume::name() const {
-  return *name_;
+inline ::google::protobuf::uint32 fsetattrRequest::to_set() const {
+  return to_set_;
 }
-inline void Volume::set_name(const ::std::string& value) {
-  set_has_name();
-  if (name_ == &::google::protobuf::internal::kEmptyString) {
-    name_ = new ::std::string;
-  }
-  name_->assign(value);
+inline void fsetattrRequest::set_to_set(::google::protobuf::uint32 value) {
+  set_has_to_set();
+  to_set_ = value;
 }
-inline void Volume::set_name(const char* value) {
-  set_has_name();
-  if (name_ == &::google::protobuf::internal::kEmptyString) {
-    name_ = new ::std::string;
-  }
-  name_->assign(value);
+
+// required .xtreemfs.pbrpc.XCap cap = 3;
+inline bool fsetattrRequest::has_cap() const {
+  return (_has_bits_[0] & 0x00000004u) != 0;
 }
-inline void Volume::set_name(const char* value, size_t size) {
-  set_has_name();
-  if (name_ == &::google::protobuf::internal::kEmptyString) {
-    name_ = new ::std::string;
-  }
-  name_->assign(reinterpret_cast<const char*>(value), size);
+inline void fsetattrRequest::set_has_cap() {
+  _has_bits_[0] |= 0x00000004u;
 }
-inline ::std::string* Volume::mutable_name() {
-  set_has_name();
-  if (name_ == &::google::protobuf::internal::kEmptyString) {
-    name_ = new ::std::string;
-  }
-  return name_;
+inline void fsetattrRequest::clear_has_cap() {
+  _has_bits_[0] &= ~0x00000004u;
 }
-inline ::std::string* Volume::release_name() {
-  clear_has_name();
-  if (name_ == &::google::protobuf::internal::kEmptyString) {
-    return NULL;
-  } else {
-    ::std::string* temp = name_;
-    name_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
-    return temp;
-  }
+inline void fsetattrRequest::clear_cap() {
+  if (cap_ != NULL) cap_->::xtreemfs::pbrpc::XCap::Clear();
+  clear_has_cap();
+}
+inline const ::xtreemfs::pbrpc::XCap& fsetattrRequest::cap() const {
+  return cap_ != NULL ? *cap_ : *default_instance_->cap_;
+}
+inline ::xtreemfs::pbrpc::XCap* fsetattrRequest::mutable_cap() {
+  set_has_cap();
+  if (cap_ == NULL) cap_ = new ::xtreemfs::pbrpc::XCap;
+  return cap_;
 }
-inline void Volume::set_allocated_name(::std::string* name) {
-  if (name_ != &::google::protobuf::internal::kEmptyString) {
-    delete name_;
-  }
-  if (name) {
-    set_has_name();
-    name_ = name;
+inline ::xtreemfs::pbrpc::XCap* fsetattrRequest::release_cap() {
+  clear_has_cap();
+  ::xtreemfs::pbrpc::XCap* temp = cap_;
+  cap_ = NULL;
+  return temp;
+}
+inline void fsetattrRequest::set_allocated_cap(::xtreemfs::pbrpc::XCap* cap) {
+  delete cap_;
+  cap_ = cap;
+  if (cap) {
+    set_has_cap();
   } else {
-    clear_has_name();
-    name_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    clear_has_cap();
   }
 }
 
-// required string owner_group_id = 6;
-inline bool Volume::has_owner_group_id() const {
-  return (_has_bits_[0] & 0x00000020u) != 0;
+// -------------------------------------------------------------------
+
+// getattrRequest
+
+// required string volume_name = 1;
+inline bool getattrRequest::has_volume_name() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
 }
-inline void Volume::set_has_owner_group_id() {
-  _has_bits_[0] |= 0x00000020u;
+inline void getattrRequest::set_has_volume_name() {
+  _has_bits_[0] |= 0x00000001u;
 }
-inline void Volume::clear_has_owner_group_id() {
-  _has_bits_[0] &= ~0x00000020u;
+inline void getattrRequest::clear_has_volume_name() {
+  _has_bits_[0] &= ~0x00000001u;
 }
-inline void Volume::clear_owner_group_id() {
-  if (owner_group_id_ != &::google::protobuf::internal::kEmptyString) {
-    owner_group_id_->clear();
+inline void getattrRequest::clear_volume_name() {
+  if (volume_name_ != &::google::protobuf::internal::kEmptyString) {
+    volume_name_->clear();
   }
-  clear_has_owner_group_id();
+  clear_has_volume_name();
 }
-inline const ::std::string& Volume::owner_group_id() const {
-  return *owner_group_id_;
+inline const ::std::string& getattrRequest::volume_name() const {
+  return *volume_name_;
 }
-inline void Volume::set_owner_group_id(const ::std::string& value) {
-  set_has_owner_group_id();
-  if (owner_group_id_ == &::google::protobuf::internal::kEmptyString) {
-    owner_group_id_ = new ::std::string;
+inline void getattrRequest::set_volume_name(const ::std::string& value) {
+  set_has_volume_name();
+  if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
+    volume_name_ = new ::std::string;
   }
-  owner_group_id_->assign(value);
+  volume_name_->assign(value);
 }
-inline void Volume::set_owner_group_id(const char* value) {
-  set_has_owner_group_id();
-  if (owner_group_id_ == &::google::protobuf::internal::kEmptyString) {
-    owner_group_id_ = new ::std::string;
+inline void getattrRequest::set_volume_name(const char* value) {
+  set_has_volume_name();
+  if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
+    volume_name_ = new ::std::string;
   }
-  owner_group_id_->assign(value);
+  volume_name_->assign(value);
 }
-inline void Volume::set_owner_group_id(const char* value, size_t size) {
-  set_has_owner_group_id();
-  if (owner_group_id_ == &::google::protobuf::internal::kEmptyString) {
-    owner_group_id_ = new ::std::string;
+inline void getattrRequest::set_volume_name(const char* value, size_t size) {
+  set_has_volume_name();
+  if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
+    volume_name_ = new ::std::string;
   }
-  owner_group_id_->assign(reinterpret_cast<const char*>(value), size);
+  volume_name_->assign(reinterpret_cast<const char*>(value), size);
 }
-inline ::std::string* Volume::mutable_owner_group_id() {
-  set_has_owner_group_id();
-  if (owner_group_id_ == &::google::protobuf::internal::kEmptyString) {
-    owner_group_id_ = new ::std::string;
+inline ::std::string* getattrRequest::mutable_volume_name() {
+  set_has_volume_name();
+  if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
+    volume_name_ = new ::std::string;
   }
-  return owner_group_id_;
+  return volume_name_;
 }
-inline ::std::string* Volume::release_owner_group_id() {
-  clear_has_owner_group_id();
-  if (owner_group_id_ == &::google::protobuf::internal::kEmptyString) {
+inline ::std::string* getattrRequest::release_volume_name() {
+  clear_has_volume_name();
+  if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
     return NULL;
   } else {
-    ::std::string* temp = owner_group_id_;
-    owner_group_id_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    ::std::string* temp = volume_name_;
+    volume_name_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
     return temp;
   }
 }
-inline void Volume::set_allocated_owner_group_id(::std::string* owner_group_id) {
-  if (owner_group_id_ != &::google::protobuf::internal::kEmptyString) {
-    delete owner_group_id_;
+inline void getattrRequest::set_allocated_volume_name(::std::string* volume_name) {
+  if (volume_name_ != &::google::protobuf::internal::kEmptyString) {
+    delete volume_name_;
   }
-  if (owner_group_id) {
-    set_has_owner_group_id();
-    owner_group_id_ = owner_group_id;
+  if (volume_name) {
+    set_has_volume_name();
+    volume_name_ = volume_name;
   } else {
-    clear_has_owner_group_id();
-    owner_group_id_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    clear_has_volume_name();
+    volume_name_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
   }
 }
 
-// required string owner_user_id = 7;
-inline bool Volume::has_owner_user_id() const {
-  return (_has_bits_[0] & 0x00000040u) != 0;
+// required string path = 2;
+inline bool getattrRequest::has_path() const {
+  return (_has_bits_[0] & 0x00000002u) != 0;
 }
-inline void Volume::set_has_owner_user_id() {
-  _has_bits_[0] |= 0x00000040u;
+inline void getattrRequest::set_has_path() {
+  _has_bits_[0] |= 0x00000002u;
 }
-inline void Volume::clear_has_owner_user_id() {
-  _has_bits_[0] &= ~0x00000040u;
+inline void getattrRequest::clear_has_path() {
+  _has_bits_[0] &= ~0x00000002u;
 }
-inline void Volume::clear_owner_user_id() {
-  if (owner_user_id_ != &::google::protobuf::internal::kEmptyString) {
-    owner_user_id_->clear();
+inline void getattrRequest::clear_path() {
+  if (path_ != &::google::protobuf::internal::kEmptyString) {
+    path_->clear();
   }
-  clear_has_owner_user_id();
+  clear_has_path();
 }
-inline const ::std::string& Volume::owner_user_id() const {
-  return *owner_user_id_;
+inline const ::std::string& getattrRequest::path() const {
+  return *path_;
 }
-inline void Volume::set_owner_user_id(const ::std::string& value) {
-  set_has_owner_user_id();
-  if (owner_user_id_ == &::google::protobuf::internal::kEmptyString) {
-    owner_user_id_ = new ::std::string;
+inline void getattrRequest::set_path(const ::std::string& value) {
+  set_has_path();
+  if (path_ == &::google::protobuf::internal::kEmptyString) {
+    path_ = new ::std::string;
   }
-  owner_user_id_->assign(value);
+  path_->assign(value);
 }
-inline void Volume::set_owner_user_id(const char* value) {
-  set_has_owner_user_id();
-  if (owner_user_id_ == &::google::protobuf::internal::kEmptyString) {
-    owner_user_id_ = new ::std::string;
+inline void getattrRequest::set_path(const char* value) {
+  set_has_path();
+  if (path_ == &::google::protobuf::internal::kEmptyString) {
+    path_ = new ::std::string;
   }
-  owner_user_id_->assign(value);
+  path_->assign(value);
 }
-inline void Volume::set_owner_user_id(const char* value, size_t size) {
-  set_has_owner_user_id();
-  if (owner_user_id_ == &::google::protobuf::internal::kEmptyString) {
-    owner_user_id_ = new ::std::string;
+inline void getattrRequest::set_path(const char* value, size_t size) {
+  set_has_path();
+  if (path_ == &::google::protobuf::internal::kEmptyString) {
+    path_ = new ::std::string;
   }
-  owner_user_id_->assign(reinterpret_cast<const char*>(value), size);
+  path_->assign(reinterpret_cast<const char*>(value), size);
 }
-inline ::std::string* Volume::mutable_owner_user_id() {
-  set_has_owner_user_id();
-  if (owner_user_id_ == &::google::protobuf::internal::kEmptyString) {
-    owner_user_id_ = new ::std::string;
+inline ::std::string* getattrRequest::mutable_path() {
+  set_has_path();
+  if (path_ == &::google::protobuf::internal::kEmptyString) {
+    path_ = new ::std::string;
   }
-  return owner_user_id_;
+  return path_;
 }
-inline ::std::string* Volume::release_owner_user_id() {
-  clear_has_owner_user_id();
-  if (owner_user_id_ == &::google::protobuf::internal::kEmptyString) {
+inline ::std::string* getattrRequest::release_path() {
+  clear_has_path();
+  if (path_ == &::google::protobuf::internal::kEmptyString) {
     return NULL;
   } else {
-    ::std::string* temp = owner_user_id_;
-    owner_user_id_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    ::std::string* temp = path_;
+    path_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
     return temp;
   }
 }
-inline void Volume::set_allocated_owner_user_id(::std::string* owner_user_id) {
-  if (owner_user_id_ != &::google::protobuf::internal::kEmptyString) {
-    delete owner_user_id_;
+inline void getattrRequest::set_allocated_path(::std::string* path) {
+  if (path_ != &::google::protobuf::internal::kEmptyString) {
+    delete path_;
   }
-  if (owner_user_id) {
-    set_has_owner_user_id();
-    owner_user_id_ = owner_user_id;
+  if (path) {
+    set_has_path();
+    path_ = path;
   } else {
-    clear_has_owner_user_id();
-    owner_user_id_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    clear_has_path();
+    path_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
   }
 }
 
-// repeated .xtreemfs.pbrpc.KeyValuePair attrs = 8;
-inline int Volume::attrs_size() const {
-  return attrs_.size();
-}
-inline void Volume::clear_attrs() {
-  attrs_.Clear();
-}
-inline const ::xtreemfs::pbrpc::KeyValuePair& Volume::attrs(int index) const {
-  return attrs_.Get(index);
-}
-inline ::xtreemfs::pbrpc::KeyValuePair* Volume::mutable_attrs(int index) {
-  return attrs_.Mutable(index);
-}
-inline ::xtreemfs::pbrpc::KeyValuePair* Volume::add_attrs() {
-  return attrs_.Add();
-}
-inline const ::google::protobuf::RepeatedPtrField< ::xtreemfs::pbrpc::KeyValuePair >&
-Volume::attrs() const {
-  return attrs_;
-}
-inline ::google::protobuf::RepeatedPtrField< ::xtreemfs::pbrpc::KeyValuePair >*
-Volume::mutable_attrs() {
-  return &attrs_;
-}
-
-// optional fixed64 quota = 9;
-inline bool Volume::has_quota() const {
-  return (_has_bits_[0] & 0x00000100u) != 0;
+// required fixed64 known_etag = 3;
+inline bool getattrRequest::has_known_etag() const {
+  return (_has_bits_[0] & 0x00000004u) != 0;
 }
-inline void Volume::set_has_quota() {
-  _has_bits_[0] |= 0x00000100u;
+inline void getattrRequest::set_has_known_etag() {
+  _has_bits_[0] |= 0x00000004u;
 }
-inline void Volume::clear_has_quota() {
-  _has_bits_[0] &= ~0x00000100u;
+inline void getattrRequest::clear_has_known_etag() {
+  _has_bits_[0] &= ~0x00000004u;
 }
-inline void Volume::clear_quota() {
-  quota_ = GOOGLE_ULONGLONG(0);
-  clear_has_quota();
+inline void getattrRequest::clear_known_etag() {
+  known_etag_ = GOOGLE_ULONGLONG(0);
+  clear_has_known_etag();
 }
-inline ::google::protobuf::uint64 Volume::quota() const {
-  return quota_;
+inline ::google::protobuf::uint64 getattrRequest::known_etag() const {
+  return known_etag_;
 }
-inline void Volume::set_quota(::google::protobuf::uint64 value) {
-  set_has_quota();
-  quota_ = value;
+inline void getattrRequest::set_known_etag(::google::protobuf::uint64 value) {
+  set_has_known_etag();
+  known_etag_ = value;
 }
 
 // -------------------------------------------------------------------
 
-// Volumes
+// getattrResponse
 
-// repeated .xtreemfs.pbrpc.Volume volumes = 1;
-inline int Volumes::volumes_size() const {
-  return volumes_.size();
+// optional .xtreemfs.pbrpc.Stat stbuf = 1;
+inline bool getattrResponse::has_stbuf() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
 }
-inline void Volumes::clear_volumes() {
-  volumes_.Clear();
+inline void getattrResponse::set_has_stbuf() {
+  _has_bits_[0] |= 0x00000001u;
 }
-inline const ::xtreemfs::pbrpc::Volume& Volumes::volumes(int index) const {
-  return volumes_.Get(index);
+inline void getattrResponse::clear_has_stbuf() {
+  _has_bits_[0] &= ~0x00000001u;
 }
-inline ::xtreemfs::pbrpc::Volume* Volumes::mutable_volumes(int index) {
-  return volumes_.Mutable(index);
+inline void getattrResponse::clear_stbuf() {
+  if (stbuf_ != NULL) stbuf_->::xtreemfs::pbrpc::Stat::Clear();
+  clear_has_stbuf();
 }
-inline ::xtreemfs::pbrpc::Volume* Volumes::add_volumes() {
-  return volumes_.Add();
+inline const ::xtreemfs::pbrpc::Stat& getattrResponse::stbuf() const {
+  return stbuf_ != NULL ? *stbuf_ : *default_instance_->stbuf_;
 }
-inline const ::google::protobuf::RepeatedPtrField< ::xtreemfs::pbrpc::Volume >&
-Volumes::volumes() const {
-  return volumes_;
+inline ::xtreemfs::pbrpc::Stat* getattrResponse::mutable_stbuf() {
+  set_has_stbuf();
+  if (stbuf_ == NULL) stbuf_ = new ::xtreemfs::pbrpc::Stat;
+  return stbuf_;
 }
-inline ::google::protobuf::RepeatedPtrField< ::xtreemfs::pbrpc::Volume >*
-Volumes::mutable_volumes() {
-  return &volumes_;
+inline ::xtreemfs::pbrpc::Stat* getattrResponse::release_stbuf() {
+  clear_has_stbuf();
+  ::xtreemfs::pbrpc::Stat* temp = stbuf_;
+  stbuf_ = NULL;
+  return temp;
+}
+inline void getattrResponse::set_allocated_stbuf(::xtreemfs::pbrpc::Stat* stbuf) {
+  delete stbuf_;
+  stbuf_ = stbuf;
+  if (stbuf) {
+    set_has_stbuf();
+  } else {
+    clear_has_stbuf();
+  }
 }
 
 // -------------------------------------------------------------------
 
-// StatVFS
+// getxattrRequest
 
-// required fixed32 bsize = 1;
-inline bool StatVFS::has_bsize() const {
+// required string volume_name = 1;
+inline bool getxattrRequest::has_volume_name() const {
   return (_has_bits_[0] & 0x00000001u) != 0;
 }
-inline void StatVFS::set_has_bsize() {
+inline void getxattrRequest::set_has_volume_name() {
   _has_bits_[0] |= 0x00000001u;
 }
-inline void StatVFS::clear_has_bsize() {
+inline void getxattrRequest::clear_has_volume_name() {
   _has_bits_[0] &= ~0x00000001u;
 }
-inline void StatVFS::clear_bsize() {
-  bsize_ = 0u;
-  clear_has_bsize();
+inline void getxattrRequest::clear_volume_name() {
+  if (volume_name_ != &::google::protobuf::internal::kEmptyString) {
+    volume_name_->clear();
+  }
+  clear_has_volume_name();
 }
-inline ::google::protobuf::uint32 StatVFS::bsize() const {
-  return bsize_;
+inline const ::std::string& getxattrRequest::volume_name() const {
+  return *volume_name_;
 }
-inline void StatVFS::set_bsize(::google::protobuf::uint32 value) {
-  set_has_bsize();
-  bsize_ = value;
+inline void getxattrRequest::set_volume_name(const ::std::string& value) {
+  set_has_volume_name();
+  if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
+    volume_name_ = new ::std::string;
+  }
+  volume_name_->assign(value);
+}
+inline void getxattrRequest::set_volume_name(const char* value) {
+  set_has_volume_name();
+  if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
+    volume_name_ = new ::std::string;
+  }
+  volume_name_->assign(value);
+}
+inline void getxattrRequest::set_volume_name(const char* value, size_t size) {
+  set_has_volume_name();
+  if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
+    volume_name_ = new ::std::string;
+  }
+  volume_name_->assign(reinterpret_cast<const char*>(value), size);
+}
+inline ::std::string* getxattrRequest::mutable_volume_name() {
+  set_has_volume_name();
+  if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
+    volume_name_ = new ::std::string;
+  }
+  return volume_name_;
+}
+inline ::std::string* getxattrRequest::release_volume_name() {
+  clear_has_volume_name();
+  if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
+    return NULL;
+  } else {
+    ::std::string* temp = volume_name_;
+    volume_name_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    return temp;
+  }
+}
+inline void getxattrRequest::set_allocated_volume_name(::std::string* volume_name) {
+  if (volume_name_ != &::google::protobuf::internal::kEmptyString) {
+    delete volume_name_;
+  }
+  if (volume_name) {
+    set_has_volume_name();
+    volume_name_ = volume_name;
+  } else {
+    clear_has_volume_name();
+    volume_name_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  }
 }
 
-// required fixed64 bavail = 2;
-inline bool StatVFS::has_bavail() const {
+// required string path = 2;
+inline bool getxattrRequest::has_path() const {
   return (_has_bits_[0] & 0x00000002u) != 0;
 }
-inline void StatVFS::set_has_bavail() {
+inline void getxattrRequest::set_has_path() {
   _has_bits_[0] |= 0x00000002u;
 }
-inline void StatVFS::clear_has_bavail() {
+inline void getxattrRequest::clear_has_path() {
   _has_bits_[0] &= ~0x00000002u;
 }
-inline void StatVFS::clear_bavail() {
-  bavail_ = GOOGLE_ULONGLONG(0);
-  clear_has_bavail();
+inline void getxattrRequest::clear_path() {
+  if (path_ != &::google::protobuf::internal::kEmptyString) {
+    path_->clear();
+  }
+  clear_has_path();
 }
-inline ::google::protobuf::uint64 StatVFS::bavail() const {
-  return bavail_;
+inline const ::std::string& getxattrRequest::path() const {
+  return *path_;
 }
-inline void StatVFS::set_bavail(::google::protobuf::uint64 value) {
-  set_has_bavail();
-  bavail_ = value;
+inline void getxattrRequest::set_path(const ::std::string& value) {
+  set_has_path();
+  if (path_ == &::google::protobuf::internal::kEmptyString) {
+    path_ = new ::std::string;
+  }
+  path_->assign(value);
+}
+inline void getxattrRequest::set_path(const char* value) {
+  set_has_path();
+  if (path_ == &::google::protobuf::internal::kEmptyString) {
+    path_ = new ::std::string;
+  }
+  path_->assign(value);
+}
+inline void getxattrRequest::set_path(const char* value, size_t size) {
+  set_has_path();
+  if (path_ == &::google::protobuf::internal::kEmptyString) {
+    path_ = new ::std::string;
+  }
+  path_->assign(reinterpret_cast<const char*>(value), size);
+}
+inline ::std::string* getxattrRequest::mutable_path() {
+  set_has_path();
+  if (path_ == &::google::protobuf::internal::kEmptyString) {
+    path_ = new ::std::string;
+  }
+  return path_;
+}
+inline ::std::string* getxattrRequest::release_path() {
+  clear_has_path();
+  if (path_ == &::google::protobuf::internal::kEmptyString) {
+    return NULL;
+  } else {
+    ::std::string* temp = path_;
+    path_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    return temp;
+  }
+}
+inline void getxattrRequest::set_allocated_path(::std::string* path) {
+  if (path_ != &::google::protobuf::internal::kEmptyString) {
+    delete path_;
+  }
+  if (path) {
+    set_has_path();
+    path_ = path;
+  } else {
+    clear_has_path();
+    path_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  }
 }
 
-// optional fixed64 bfree = 13;
-inline bool StatVFS::has_bfree() const {
+// required string name = 3;
+inline bool getxattrRequest::has_name() const {
   return (_has_bits_[0] & 0x00000004u) != 0;
 }
-inline void StatVFS::set_has_bfree() {
+inline void getxattrRequest::set_has_name() {
   _has_bits_[0] |= 0x00000004u;
 }
-inline void StatVFS::clear_has_bfree() {
+inline void getxattrRequest::clear_has_name() {
   _has_bits_[0] &= ~0x00000004u;
 }
-inline void StatVFS::clear_bfree() {
-  bfree_ = GOOGLE_ULONGLONG(0);
-  clear_has_bfree();
-}
-inline ::google::protobuf::uint64 StatVFS::bfree() const {
-  return bfree_;
+inline void getxattrRequest::clear_name() {
+  if (name_ != &::google::protobuf::internal::kEmptyString) {
+    name_->clear();
+  }
+  clear_has_name();
 }
-inline void StatVFS::set_bfree(::google::protobuf::uint64 value) {
-  set_has_bfree();
-  bfree_ = value;
+inline const ::std::string& getxattrRequest::name() const {
+  return *name_;
 }
-
-// required fixed64 blocks = 3;
-inline bool StatVFS::has_blocks() const {
-  return (_has_bits_[0] & 0x00000008u) != 0;
+inline void getxattrRequest::set_name(const ::std::string& value) {
+  set_has_name();
+  if (name_ == &::google::protobuf::internal::kEmptyString) {
+    name_ = new ::std::string;
+  }
+  name_->assign(value);
 }
-inline void StatVFS::set_has_blocks() {
-  _has_bits_[0] |= 0x00000008u;
+inline void getxattrRequest::set_name(const char* value) {
+  set_has_name();
+  if (name_ == &::google::protobuf::internal::kEmptyString) {
+    name_ = new ::std::string;
+  }
+  name_->assign(value);
 }
-inline void StatVFS::clear_has_blocks() {
-  _has_bits_[0] &= ~0x00000008u;
+inline void getxattrRequest::set_name(const char* value, size_t size) {
+  set_has_name();
+  if (name_ == &::google::protobuf::internal::kEmptyString) {
+    name_ = new ::std::string;
+  }
+  name_->assign(reinterpret_cast<const char*>(value), size);
 }
-inline void StatVFS::clear_blocks() {
-  blocks_ = GOOGLE_ULONGLONG(0);
-  clear_has_blocks();
+inline ::std::string* getxattrRequest::mutable_name() {
+  set_has_name();
+  if (name_ == &::google::protobuf::internal::kEmptyString) {
+    name_ = new ::std::string;
+  }
+  return name_;
 }
-inline ::google::protobuf::uint64 StatVFS::blocks() const {
-  return blocks_;
+inline ::std::string* getxattrRequest::release_name() {
+  clear_has_name();
+  if (name_ == &::google::protobuf::internal::kEmptyString) {
+    return NULL;
+  } else {
+    ::std::string* temp = name_;
+    name_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    return temp;
+  }
 }
-inline void StatVFS::set_blocks(::google::protobuf::uint64 value) {
-  set_has_blocks();
-  blocks_ = value;
+inline void getxattrRequest::set_allocated_name(::std::string* name) {
+  if (name_ != &::google::protobuf::internal::kEmptyString) {
+    delete name_;
+  }
+  if (name) {
+    set_has_name();
+    name_ = name;
+  } else {
+    clear_has_name();
+    name_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  }
 }
 
-// required string fsid = 4;
-inline bool StatVFS::has_fsid() const {
-  return (_has_bits_[0] & 0x00000010u) != 0;
+// -------------------------------------------------------------------
+
+// getxattrResponse
+
+// required string value = 1;
+inline bool getxattrResponse::has_value() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
 }
-inline void StatVFS::set_has_fsid() {
-  _has_bits_[0] |= 0x00000010u;
+inline void getxattrResponse::set_has_value() {
+  _has_bits_[0] |= 0x00000001u;
 }
-inline void StatVFS::clear_has_fsid() {
-  _has_bits_[0] &= ~0x00000010u;
+inline void getxattrResponse::clear_has_value() {
+  _has_bits_[0] &= ~0x00000001u;
 }
-inline void StatVFS::clear_fsid() {
-  if (fsid_ != &::google::protobuf::internal::kEmptyString) {
-    fsid_->clear();
+inline void getxattrResponse::clear_value() {
+  if (value_ != &::google::protobuf::internal::kEmptyString) {
+    value_->clear();
   }
-  clear_has_fsid();
+  clear_has_value();
 }
-inline const ::std::string& StatVFS::fsid() const {
-  return *fsid_;
+inline const ::std::string& getxattrResponse::value() const {
+  return *value_;
 }
-inline void StatVFS::set_fsid(const ::std::string& value) {
-  set_has_fsid();
-  if (fsid_ == &::google::protobuf::internal::kEmptyString) {
-    fsid_ = new ::std::string;
+inline void getxattrResponse::set_value(const ::std::string& value) {
+  set_has_value();
+  if (value_ == &::google::protobuf::internal::kEmptyString) {
+    value_ = new ::std::string;
   }
-  fsid_->assign(value);
+  value_->assign(value);
 }
-inline void StatVFS::set_fsid(const char* value) {
-  set_has_fsid();
-  if (fsid_ == &::google::protobuf::internal::kEmptyString) {
-    fsid_ = new ::std::string;
+inline void getxattrResponse::set_value(const char* value) {
+  set_has_value();
+  if (value_ == &::google::protobuf::internal::kEmptyString) {
+    value_ = new ::std::string;
   }
-  fsid_->assign(value);
+  value_->assign(value);
 }
-inline void StatVFS::set_fsid(const char* value, size_t size) {
-  set_has_fsid();
-  if (fsid_ == &::google::protobuf::internal::kEmptyString) {
-    fsid_ = new ::std::string;
+inline void getxattrResponse::set_value(const char* value, size_t size) {
+  set_has_value();
+  if (value_ == &::google::protobuf::internal::kEmptyString) {
+    value_ = new ::std::string;
   }
-  fsid_->assign(reinterpret_cast<const char*>(value), size);
+  value_->assign(reinterpret_cast<const char*>(value), size);
 }
-inline ::std::string* StatVFS::mutable_fsid() {
-  set_has_fsid();
-  if (fsid_ == &::google::protobuf::internal::kEmptyString) {
-    fsid_ = new ::std::string;
+inline ::std::string* getxattrResponse::mutable_value() {
+  set_has_value();
+  if (value_ == &::google::protobuf::internal::kEmptyString) {
+    value_ = new ::std::string;
   }
-  return fsid_;
+  return value_;
 }
-inline ::std::string* StatVFS::release_fsid() {
-  clear_has_fsid();
-  if (fsid_ == &::google::protobuf::internal::kEmptyString) {
+inline ::std::string* getxattrResponse::release_value() {
+  clear_has_value();
+  if (value_ == &::google::protobuf::internal::kEmptyString) {
     return NULL;
   } else {
-    ::std::string* temp = fsid_;
-    fsid_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    ::std::string* temp = value_;
+    value_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
     return temp;
   }
 }
-inline void StatVFS::set_allocated_fsid(::std::string* fsid) {
-  if (fsid_ != &::google::protobuf::internal::kEmptyString) {
-    delete fsid_;
+inline void getxattrResponse::set_allocated_value(::std::string* value) {
+  if (value_ != &::google::protobuf::internal::kEmptyString) {
+    delete value_;
   }
-  if (fsid) {
-    set_has_fsid();
-    fsid_ = fsid;
+  if (value) {
+    set_has_value();
+    value_ = value;
   } else {
-    clear_has_fsid();
-    fsid_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    clear_has_value();
+    value_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
   }
 }
 
-// required fixed32 namemax = 5;
-inline bool StatVFS::has_namemax() const {
-  return (_has_bits_[0] & 0x00000020u) != 0;
-}
-inline void StatVFS::set_has_namemax() {
-  _has_bits_[0] |= 0x00000020u;
+// optional bytes value_bytes_string = 2;
+inline bool getxattrResponse::has_value_bytes_string() const {
+  return (_has_bits_[0] & 0x00000002u) != 0;
 }
-inline void StatVFS::clear_has_namemax() {
-  _has_bits_[0] &= ~0x00000020u;
+inline void getxattrResponse::set_has_value_bytes_string() {
+  _has_bits_[0] |= 0x00000002u;
 }
-inline void StatVFS::clear_namemax() {
-  namemax_ = 0u;
-  clear_has_namemax();
+inline void getxattrResponse::clear_has_value_bytes_string() {
+  _has_bits_[0] &= ~0x00000002u;
 }
-inline ::google::protobuf::uint32 StatVFS::namemax() const {
-  return namemax_;
+inline void getxattrResponse::clear_value_bytes_string() {
+  if (value_bytes_string_ != &::google::protobuf::internal::kEmptyString) {
+    value_bytes_string_->clear();
+  }
+  clear_has_value_bytes_string();
 }
-inline void StatVFS::set_namemax(::google::protobuf::uint32 value) {
-  set_has_namemax();
-  namemax_ = value;
+inline const ::std::string& getxattrResponse::value_bytes_string() const {
+  return *value_bytes_string_;
 }
-
-// required .xtreemfs.pbrpc.AccessControlPolicyType access_control_policy = 6;
-inline bool StatVFS::has_access_control_policy() const {
-  return (_has_bits_[0] & 0x00000040u) != 0;
+inline void getxattrResponse::set_value_bytes_string(const ::std::string& value) {
+  set_has_value_bytes_string();
+  if (value_bytes_string_ == &::google::protobuf::internal::kEmptyString) {
+    value_bytes_string_ = new ::std::string;
+  }
+  value_bytes_string_->assign(value);
 }
-inline void StatVFS::set_has_access_control_policy() {
-  _has_bits_[0] |= 0x00000040u;
+inline void getxattrResponse::set_value_bytes_string(const char* value) {
+  set_has_value_bytes_string();
+  if (value_bytes_string_ == &::google::protobuf::internal::kEmptyString) {
+    value_bytes_string_ = new ::std::string;
+  }
+  value_bytes_string_->assign(value);
 }
-inline void StatVFS::clear_has_access_control_policy() {
-  _has_bits_[0] &= ~0x00000040u;
+inline void getxattrResponse::set_value_bytes_string(const void* value, size_t size) {
+  set_has_value_bytes_string();
+  if (value_bytes_string_ == &::google::protobuf::internal::kEmptyString) {
+    value_bytes_string_ = new ::std::string;
+  }
+  value_bytes_string_->assign(reinterpret_cast<const char*>(value), size);
 }
-inline void StatVFS::clear_access_control_policy() {
-  access_control_policy_ = 1;
-  clear_has_access_control_policy();
+inline ::std::string* getxattrResponse::mutable_value_bytes_string() {
+  set_has_value_bytes_string();
+  if (value_bytes_string_ == &::google::protobuf::internal::kEmptyString) {
+    value_bytes_string_ = new ::std::string;
+  }
+  return value_bytes_string_;
 }
-inline ::xtreemfs::pbrpc::AccessControlPolicyType StatVFS::access_control_policy() const {
-  return static_cast< ::xtreemfs::pbrpc::AccessControlPolicyType >(access_control_policy_);
+inline ::std::string* getxattrResponse::release_value_bytes_string() {
+  clear_has_value_bytes_string();
+  if (value_bytes_string_ == &::google::protobuf::internal::kEmptyString) {
+    return NULL;
+  } else {
+    ::std::string* temp = value_bytes_string_;
+    value_bytes_string_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    return temp;
+  }
 }
-inline void StatVFS::set_access_control_policy(::xtreemfs::pbrpc::AccessControlPolicyType value) {
-  assert(::xtreemfs::pbrpc::AccessControlPolicyType_IsValid(value));
-  set_has_access_control_policy();
-  access_control_policy_ = value;
+inline void getxattrResponse::set_allocated_value_bytes_string(::std::string* value_bytes_string) {
+  if (value_bytes_string_ != &::google::protobuf::internal::kEmptyString) {
+    delete value_bytes_string_;
+  }
+  if (value_bytes_string) {
+    set_has_value_bytes_string();
+    value_bytes_string_ = value_bytes_string;
+  } else {
+    clear_has_value_bytes_string();
+    value_bytes_string_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  }
 }
 
-// required .xtreemfs.pbrpc.StripingPolicy default_striping_policy = 7;
-inline bool StatVFS::has_default_striping_policy() const {
-  return (_has_bits_[0] & 0x00000080u) != 0;
+// -------------------------------------------------------------------
+
+// linkRequest
+
+// required string volume_name = 1;
+inline bool linkRequest::has_volume_name() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
 }
-inline void StatVFS::set_has_default_striping_policy() {
-  _has_bits_[0] |= 0x00000080u;
+inline void linkRequest::set_has_volume_name() {
+  _has_bits_[0] |= 0x00000001u;
 }
-inline void StatVFS::clear_has_default_striping_policy() {
-  _has_bits_[0] &= ~0x00000080u;
+inline void linkRequest::clear_has_volume_name() {
+  _has_bits_[0] &= ~0x00000001u;
 }
-inline void StatVFS::clear_default_striping_policy() {
-  if (default_striping_policy_ != NULL) default_striping_policy_->::xtreemfs::pbrpc::StripingPolicy::Clear();
-  clear_has_default_striping_policy();
+inline void linkRequest::clear_volume_name() {
+  if (volume_name_ != &::google::protobuf::internal::kEmptyString) {
+    volume_name_->clear();
+  }
+  clear_has_volume_name();
+}
+inline const ::std::string& linkRequest::volume_name() const {
+  return *volume_name_;
+}
+inline void linkRequest::set_volume_name(const ::std::string& value) {
+  set_has_volume_name();
+  if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
+    volume_name_ = new ::std::string;
+  }
+  volume_name_->assign(value);
+}
+inline void linkRequest::set_volume_name(const char* value) {
+  set_has_volume_name();
+  if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
+    volume_name_ = new ::std::string;
+  }
+  volume_name_->assign(value);
 }
-inline const ::xtreemfs::pbrpc::StripingPolicy& StatVFS::default_striping_policy() const {
-  return default_striping_policy_ != NULL ? *default_striping_policy_ : *default_instance_->default_striping_policy_;
+inline void linkRequest::set_volume_name(const char* value, size_t size) {
+  set_has_volume_name();
+  if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
+    volume_name_ = new ::std::string;
+  }
+  volume_name_->assign(reinterpret_cast<const char*>(value), size);
 }
-inline ::xtreemfs::pbrpc::StripingPolicy* StatVFS::mutable_default_striping_policy() {
-  set_has_default_striping_policy();
-  if (default_striping_policy_ == NULL) default_striping_policy_ = new ::xtreemfs::pbrpc::StripingPolicy;
-  return default_striping_policy_;
+inline ::std::string* linkRequest::mutable_volume_name() {
+  set_has_volume_name();
+  if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
+    volume_name_ = new ::std::string;
+  }
+  return volume_name_;
 }
-inline ::xtreemfs::pbrpc::StripingPolicy* StatVFS::release_default_striping_policy() {
-  clear_has_default_striping_policy();
-  ::xtreemfs::pbrpc::StripingPolicy* temp = default_striping_policy_;
-  default_striping_policy_ = NULL;
-  return temp;
+inline ::std::string* linkRequest::release_volume_name() {
+  clear_has_volume_name();
+  if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
+    return NULL;
+  } else {
+    ::std::string* temp = volume_name_;
+    volume_name_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    return temp;
+  }
 }
-inline void StatVFS::set_allocated_default_striping_policy(::xtreemfs::pbrpc::StripingPolicy* default_striping_policy) {
-  delete default_striping_policy_;
-  default_striping_policy_ = default_striping_policy;
-  if (default_striping_policy) {
-    set_has_default_striping_policy();
+inline void linkRequest::set_allocated_volume_name(::std::string* volume_name) {
+  if (volume_name_ != &::google::protobuf::internal::kEmptyString) {
+    delete volume_name_;
+  }
+  if (volume_name) {
+    set_has_volume_name();
+    volume_name_ = volume_name;
   } else {
-    clear_has_default_striping_policy();
+    clear_has_volume_name();
+    volume_name_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
   }
 }
 
-// required fixed64 etag = 8;
-inline bool StatVFS::has_etag() const {
-  return (_has_bits_[0] & 0x00000100u) != 0;
-}
-inline void StatVFS::set_has_etag() {
-  _has_bits_[0] |= 0x00000100u;
+// required string target_path = 2;
+inline bool linkRequest::has_target_path() const {
+  return (_has_bits_[0] & 0x00000002u) != 0;
 }
-inline void StatVFS::clear_has_etag() {
-  _has_bits_[0] &= ~0x00000100u;
+inline void linkRequest::set_has_target_path() {
+  _has_bits_[0] |= 0x00000002u;
 }
-inline void StatVFS::clear_etag() {
-  etag_ = GOOGLE_ULONGLONG(0);
-  clear_has_etag();
+inline void linkRequest::clear_has_target_path() {
+  _has_bits_[0] &= ~0x00000002u;
 }
-inline ::google::protobuf::uint64 StatVFS::etag() const {
-  return etag_;
+inline void linkRequest::clear_target_path() {
+  if (target_path_ != &::google::protobuf::internal::kEmptyString) {
+    target_path_->clear();
+  }
+  clear_has_target_path();
 }
-inline void StatVFS::set_etag(::google::protobuf::uint64 value) {
-  set_has_etag();
-  etag_ = value;
+inline const ::std::string& linkRequest::target_path() const {
+  return *target_path_;
 }
-
-// required fixed32 mode = 9;
-inline bool StatVFS::has_mode() const {
-  return (_has_bits_[0] & 0x00000200u) != 0;
+inline void linkRequest::set_target_path(const ::std::string& value) {
+  set_has_target_path();
+  if (target_path_ == &::google::protobuf::internal::kEmptyString) {
+    target_path_ = new ::std::string;
+  }
+  target_path_->assign(value);
 }
-inline void StatVFS::set_has_mode() {
-  _has_bits_[0] |= 0x00000200u;
+inline void linkRequest::set_target_path(const char* value) {
+  set_has_target_path();
+  if (target_path_ == &::google::protobuf::internal::kEmptyString) {
+    target_path_ = new ::std::string;
+  }
+  target_path_->assign(value);
 }
-inline void StatVFS::clear_has_mode() {
-  _has_bits_[0] &= ~0x00000200u;
+inline void linkRequest::set_target_path(const char* value, size_t size) {
+  set_has_target_path();
+  if (target_path_ == &::google::protobuf::internal::kEmptyString) {
+    target_path_ = new ::std::string;
+  }
+  target_path_->assign(reinterpret_cast<const char*>(value), size);
 }
-inline void StatVFS::clear_mode() {
-  mode_ = 0u;
-  clear_has_mode();
+inline ::std::string* linkRequest::mutable_target_path() {
+  set_has_target_path();
+  if (target_path_ == &::google::protobuf::internal::kEmptyString) {
+    target_path_ = new ::std::string;
+  }
+  return target_path_;
 }
-inline ::google::protobuf::uint32 StatVFS::mode() const {
-  return mode_;
+inline ::std::string* linkRequest::release_target_path() {
+  clear_has_target_path();
+  if (target_path_ == &::google::protobuf::internal::kEmptyString) {
+    return NULL;
+  } else {
+    ::std::string* temp = target_path_;
+    target_path_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    return temp;
+  }
 }
-inline void StatVFS::set_mode(::google::protobuf::uint32 value) {
-  set_has_mode();
-  mode_ = value;
+inline void linkRequest::set_allocated_target_path(::std::string* target_path) {
+  if (target_path_ != &::google::protobuf::internal::kEmptyString) {
+    delete target_path_;
+  }
+  if (target_path) {
+    set_has_target_path();
+    target_path_ = target_path;
+  } else {
+    clear_has_target_path();
+    target_path_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  }
 }
 
-// required string name = 10;
-inline bool StatVFS::has_name() const {
-  return (_has_bits_[0] & 0x00000400u) != 0;
+// required string link_path = 3;
+inline bool linkRequest::has_link_path() const {
+  return (_has_bits_[0] & 0x00000004u) != 0;
 }
-inline void StatVFS::set_has_name() {
-  _has_bits_[0] |= 0x00000400u;
+inline void linkRequest::set_has_link_path() {
+  _has_bits_[0] |= 0x00000004u;
 }
-inline void StatVFS::clear_has_name() {
-  _has_bits_[0] &= ~0x00000400u;
+inline void linkRequest::clear_has_link_path() {
+  _has_bits_[0] &= ~0x00000004u;
 }
-inline void StatVFS::clear_name() {
-  if (name_ != &::google::protobuf::internal::kEmptyString) {
-    name_->clear();
+inline void linkRequest::clear_link_path() {
+  if (link_path_ != &::google::protobuf::internal::kEmptyString) {
+    link_path_->clear();
   }
-  clear_has_name();
+  clear_has_link_path();
 }
-inline const ::std::string& StatVFS::name() const {
-  return *name_;
+inline const ::std::string& linkRequest::link_path() const {
+  return *link_path_;
 }
-inline void StatVFS::set_name(const ::std::string& value) {
-  set_has_name();
-  if (name_ == &::google::protobuf::internal::kEmptyString) {
-    name_ = new ::std::string;
+inline void linkRequest::set_link_path(const ::std::string& value) {
+  set_has_link_path();
+  if (link_path_ == &::google::protobuf::internal::kEmptyString) {
+    link_path_ = new ::std::string;
   }
-  name_->assign(value);
+  link_path_->assign(value);
 }
-inline void StatVFS::set_name(const char* value) {
-  set_has_name();
-  if (name_ == &::google::protobuf::internal::kEmptyString) {
-    name_ = new ::std::string;
+inline void linkRequest::set_link_path(const char* value) {
+  set_has_link_path();
+  if (link_path_ == &::google::protobuf::internal::kEmptyString) {
+    link_path_ = new ::std::string;
   }
-  name_->assign(value);
+  link_path_->assign(value);
 }
-inline void StatVFS::set_name(const char* value, size_t size) {
-  set_has_name();
-  if (name_ == &::google::protobuf::internal::kEmptyString) {
-    name_ = new ::std::string;
+inline void linkRequest::set_link_path(const char* value, size_t size) {
+  set_has_link_path();
+  if (link_path_ == &::google::protobuf::internal::kEmptyString) {
+    link_path_ = new ::std::string;
   }
-  name_->assign(reinterpret_cast<const char*>(value), size);
+  link_path_->assign(reinterpret_cast<const char*>(value), size);
 }
-inline ::std::string* StatVFS::mutable_name() {
-  set_has_name();
-  if (name_ == &::google::protobuf::internal::kEmptyString) {
-    name_ = new ::std::string;
+inline ::std::string* linkRequest::mutable_link_path() {
+  set_has_link_path();
+  if (link_path_ == &::google::protobuf::internal::kEmptyString) {
+    link_path_ = new ::std::string;
   }
-  return name_;
+  return link_path_;
 }
-inline ::std::string* StatVFS::release_name() {
-  clear_has_name();
-  if (name_ == &::google::protobuf::internal::kEmptyString) {
+inline ::std::string* linkRequest::release_link_path() {
+  clear_has_link_path();
+  if (link_path_ == &::google::protobuf::internal::kEmptyString) {
     return NULL;
   } else {
-    ::std::string* temp = name_;
-    name_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    ::std::string* temp = link_path_;
+    link_path_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
     return temp;
   }
 }
-inline void StatVFS::set_allocated_name(::std::string* name) {
-  if (name_ != &::google::protobuf::internal::kEmptyString) {
-    delete name_;
+inline void linkRequest::set_allocated_link_path(::std::string* link_path) {
+  if (link_path_ != &::google::protobuf::internal::kEmptyString) {
+    delete link_path_;
   }
-  if (name) {
-    set_has_name();
-    name_ = name;
+  if (link_path) {
+    set_has_link_path();
+    link_path_ = link_path;
   } else {
-    clear_has_name();
-    name_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    clear_has_link_path();
+    link_path_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
   }
 }
 
-// required string owner_group_id = 11;
-inline bool StatVFS::has_owner_group_id() const {
-  return (_has_bits_[0] & 0x00000800u) != 0;
+// -------------------------------------------------------------------
+
+// listxattrRequest
+
+// required string volume_name = 1;
+inline bool listxattrRequest::has_volume_name() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
 }
-inline void StatVFS::set_has_owner_group_id() {
-  _has_bits_[0] |= 0x00000800u;
+inline void listxattrRequest::set_has_volume_name() {
+  _has_bits_[0] |= 0x00000001u;
 }
-inline void StatVFS::clear_has_owner_group_id() {
-  _has_bits_[0] &= ~0x00000800u;
+inline void listxattrRequest::clear_has_volume_name() {
+  _has_bits_[0] &= ~0x00000001u;
 }
-inline void StatVFS::clear_owner_group_id() {
-  if (owner_group_id_ != &::google::protobuf::internal::kEmptyString) {
-    owner_group_id_->clear();
+inline void listxattrRequest::clear_volume_name() {
+  if (volume_name_ != &::google::protobuf::internal::kEmptyString) {
+    volume_name_->clear();
   }
-  clear_has_owner_group_id();
+  clear_has_volume_name();
 }
-inline const ::std::string& StatVFS::owner_group_id() const {
-  return *owner_group_id_;
+inline const ::std::string& listxattrRequest::volume_name() const {
+  return *volume_name_;
 }
-inline void StatVFS::set_owner_group_id(const ::std::string& value) {
-  set_has_owner_group_id();
-  if (owner_group_id_ == &::google::protobuf::internal::kEmptyString) {
-    owner_group_id_ = new ::std::string;
+inline void listxattrRequest::set_volume_name(const ::std::string& value) {
+  set_has_volume_name();
+  if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
+    volume_name_ = new ::std::string;
   }
-  owner_group_id_->assign(value);
+  volume_name_->assign(value);
 }
-inline void StatVFS::set_owner_group_id(const char* value) {
-  set_has_owner_group_id();
-  if (owner_group_id_ == &::google::protobuf::internal::kEmptyString) {
-    owner_group_id_ = new ::std::string;
+inline void listxattrRequest::set_volume_name(const char* value) {
+  set_has_volume_name();
+  if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
+    volume_name_ = new ::std::string;
   }
-  owner_group_id_->assign(value);
+  volume_name_->assign(value);
 }
-inline void StatVFS::set_owner_group_id(const char* value, size_t size) {
-  set_has_owner_group_id();
-  if (owner_group_id_ == &::google::protobuf::internal::kEmptyString) {
-    owner_group_id_ = new ::std::string;
+inline void listxattrRequest::set_volume_name(const char* value, size_t size) {
+  set_has_volume_name();
+  if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
+    volume_name_ = new ::std::string;
   }
-  owner_group_id_->assign(reinterpret_cast<const char*>(value), size);
+  volume_name_->assign(reinterpret_cast<const char*>(value), size);
 }
-inline ::std::string* StatVFS::mutable_owner_group_id() {
-  set_has_owner_group_id();
-  if (owner_group_id_ == &::google::protobuf::internal::kEmptyString) {
-    owner_group_id_ = new ::std::string;
+inline ::std::string* listxattrRequest::mutable_volume_name() {
+  set_has_volume_name();
+  if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
+    volume_name_ = new ::std::string;
   }
-  return owner_group_id_;
+  return volume_name_;
 }
-inline ::std::string* StatVFS::release_owner_group_id() {
-  clear_has_owner_group_id();
-  if (owner_group_id_ == &::google::protobuf::internal::kEmptyString) {
+inline ::std::string* listxattrRequest::release_volume_name() {
+  clear_has_volume_name();
+  if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
     return NULL;
   } else {
-    ::std::string* temp = owner_group_id_;
-    owner_group_id_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    ::std::string* temp = volume_name_;
+    volume_name_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
     return temp;
   }
 }
-inline void StatVFS::set_allocated_owner_group_id(::std::string* owner_group_id) {
-  if (owner_group_id_ != &::google::protobuf::internal::kEmptyString) {
-    delete owner_group_id_;
+inline void listxattrRequest::set_allocated_volume_name(::std::string* volume_name) {
+  if (volume_name_ != &::google::protobuf::internal::kEmptyString) {
+    delete volume_name_;
   }
-  if (owner_group_id) {
-    set_has_owner_group_id();
-    owner_group_id_ = owner_group_id;
+  if (volume_name) {
+    set_has_volume_name();
+    volume_name_ = volume_name;
   } else {
-    clear_has_owner_group_id();
-    owner_group_id_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    clear_has_volume_name();
+    volume_name_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
   }
 }
 
-// required string owner_user_id = 12;
-inline bool StatVFS::has_owner_user_id() const {
-  return (_has_bits_[0] & 0x00001000u) != 0;
+// required string path = 2;
+inline bool listxattrRequest::has_path() const {
+  return (_has_bits_[0] & 0x00000002u) != 0;
 }
-inline void StatVFS::set_has_owner_user_id() {
-  _has_bits_[0] |= 0x00001000u;
+inline void listxattrRequest::set_has_path() {
+  _has_bits_[0] |= 0x00000002u;
 }
-inline void StatVFS::clear_has_owner_user_id() {
-  _has_bits_[0] &= ~0x00001000u;
+inline void listxattrRequest::clear_has_path() {
+  _has_bits_[0] &= ~0x00000002u;
 }
-inline void StatVFS::clear_owner_user_id() {
-  if (owner_user_id_ != &::google::protobuf::internal::kEmptyString) {
-    owner_user_id_->clear();
+inline void listxattrRequest::clear_path() {
+  if (path_ != &::google::protobuf::internal::kEmptyString) {
+    path_->clear();
   }
-  clear_has_owner_user_id();
+  clear_has_path();
 }
-inline const ::std::string& StatVFS::owner_user_id() const {
-  return *owner_user_id_;
+inline const ::std::string& listxattrRequest::path() const {
+  return *path_;
 }
-inline void StatVFS::set_owner_user_id(const ::std::string& value) {
-  set_has_owner_user_id();
-  if (owner_user_id_ == &::google::protobuf::internal::kEmptyString) {
-    owner_user_id_ = new ::std::string;
+inline void listxattrRequest::set_path(const ::std::string& value) {
+  set_has_path();
+  if (path_ == &::google::protobuf::internal::kEmptyString) {
+    path_ = new ::std::string;
   }
-  owner_user_id_->assign(value);
+  path_->assign(value);
 }
-inline void StatVFS::set_owner_user_id(const char* value) {
-  set_has_owner_user_id();
-  if (owner_user_id_ == &::google::protobuf::internal::kEmptyString) {
-    owner_user_id_ = new ::std::string;
+inline void listxattrRequest::set_path(const char* value) {
+  set_has_path();
+  if (path_ == &::google::protobuf::internal::kEmptyString) {
+    path_ = new ::std::string;
   }
-  owner_user_id_->assign(value);
+  path_->assign(value);
 }
-inline void StatVFS::set_owner_user_id(const char* value, size_t size) {
-  set_has_owner_user_id();
-  if (owner_user_id_ == &::google::protobuf::internal::kEmptyString) {
-    owner_user_id_ = new ::std::string;
+inline void listxattrRequest::set_path(const char* value, size_t size) {
+  set_has_path();
+  if (path_ == &::google::protobuf::internal::kEmptyString) {
+    path_ = new ::std::string;
   }
-  owner_user_id_->assign(reinterpret_cast<const char*>(value), size);
+  path_->assign(reinterpret_cast<const char*>(value), size);
 }
-inline ::std::string* StatVFS::mutable_owner_user_id() {
-  set_has_owner_user_id();
-  if (owner_user_id_ == &::google::protobuf::internal::kEmptyString) {
-    owner_user_id_ = new ::std::string;
+inline ::std::string* listxattrRequest::mutable_path() {
+  set_has_path();
+  if (path_ == &::google::protobuf::internal::kEmptyString) {
+    path_ = new ::std::string;
   }
-  return owner_user_id_;
+  return path_;
 }
-inline ::std::string* StatVFS::release_owner_user_id() {
-  clear_has_owner_user_id();
-  if (owner_user_id_ == &::google::protobuf::internal::kEmptyString) {
+inline ::std::string* listxattrRequest::release_path() {
+  clear_has_path();
+  if (path_ == &::google::protobuf::internal::kEmptyString) {
     return NULL;
   } else {
-    ::std::string* temp = owner_user_id_;
-    owner_user_id_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    ::std::string* temp = path_;
+    path_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
     return temp;
   }
 }
-inline void StatVFS::set_allocated_owner_user_id(::std::string* owner_user_id) {
-  if (owner_user_id_ != &::google::protobuf::internal::kEmptyString) {
-    delete owner_user_id_;
+inline void listxattrRequest::set_allocated_path(::std::string* path) {
+  if (path_ != &::google::protobuf::internal::kEmptyString) {
+    delete path_;
   }
-  if (owner_user_id) {
-    set_has_owner_user_id();
-    owner_user_id_ = owner_user_id;
+  if (path) {
+    set_has_path();
+    path_ = path;
   } else {
-    clear_has_owner_user_id();
-    owner_user_id_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    clear_has_path();
+    path_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
   }
 }
 
-// -------------------------------------------------------------------
-
-// fsetattrRequest
-
-// required .xtreemfs.pbrpc.Stat stbuf = 1;
-inline bool fsetattrRequest::has_stbuf() const {
-  return (_has_bits_[0] & 0x00000001u) != 0;
-}
-inline void fsetattrRequest::set_has_stbuf() {
-  _has_bits_[0] |= 0x00000001u;
-}
-inline void fsetattrRequest::clear_has_stbuf() {
-  _has_bits_[0] &= ~0x00000001u;
+// required bool names_only = 3;
+inline bool listxattrRequest::has_names_only() const {
+  return (_has_bits_[0] & 0x00000004u) != 0;
 }
-inline void fsetattrRequest::clear_stbuf() {
-  if (stbuf_ != NULL) stbuf_->::xtreemfs::pbrpc::Stat::Clear();
-  clear_has_stbuf();
+inline void listxattrRequest::set_has_names_only() {
+  _has_bits_[0] |= 0x00000004u;
 }
-inline const ::xtreemfs::pbrpc::Stat& fsetattrRequest::stbuf() const {
-  return stbuf_ != NULL ? *stbuf_ : *default_instance_->stbuf_;
+inline void listxattrRequest::clear_has_names_only() {
+  _has_bits_[0] &= ~0x00000004u;
 }
-inline ::xtreemfs::pbrpc::Stat* fsetattrRequest::mutable_stbuf() {
-  set_has_stbuf();
-  if (stbuf_ == NULL) stbuf_ = new ::xtreemfs::pbrpc::Stat;
-  return stbuf_;
+inline void listxattrRequest::clear_names_only() {
+  names_only_ = false;
+  clear_has_names_only();
 }
-inline ::xtreemfs::pbrpc::Stat* fsetattrRequest::release_stbuf() {
-  clear_has_stbuf();
-  ::xtreemfs::pbrpc::Stat* temp = stbuf_;
-  stbuf_ = NULL;
-  return temp;
+inline bool listxattrRequest::names_only() const {
+  return names_only_;
 }
-inline void fsetattrRequest::set_allocated_stbuf(::xtreemfs::pbrpc::Stat* stbuf) {
-  delete stbuf_;
-  stbuf_ = stbuf;
-  if (stbuf) {
-    set_has_stbuf();
-  } else {
-    clear_has_stbuf();
-  }
+inline void listxattrRequest::set_names_only(bool value) {
+  set_has_names_only();
+  names_only_ = value;
 }
 
-// required fixed32 to_set = 2;
-inline bool fsetattrRequest::has_to_set() const {
-  return (_has_bits_[0] & 0x00000002u) != 0;
-}
-inline void fsetattrRequest::set_has_to_set() {
-  _has_bits_[0] |= 0x00000002u;
-}
-inline void fsetattrRequest::clear_has_to_set() {
-  _has_bits_[0] &= ~0x00000002u;
-}
-inline void fsetattrRequest::clear_to_set() {
-  to_set_ = 0u;
-  clear_has_to_set();
-}
-inline ::google::protobuf::uint32 fsetattrRequest::to_set() const {
-  return to_set_;
-}
-inline void fsetattrRequest::set_to_set(::google::protobuf::uint32 value) {
-  set_has_to_set();
-  to_set_ = value;
-}
+// -------------------------------------------------------------------
 
-// required .xtreemfs.pbrpc.XCap cap = 3;
-inline bool fsetattrRequest::has_cap() const {
-  return (_has_bits_[0] & 0x00000004u) != 0;
-}
-inline void fsetattrRequest::set_has_cap() {
-  _has_bits_[0] |= 0x00000004u;
+// listxattrResponse
+
+// repeated .xtreemfs.pbrpc.XAttr xattrs = 1;
+inline int listxattrResponse::xattrs_size() const {
+  return xattrs_.size();
 }
-inline void fsetattrRequest::clear_has_cap() {
-  _has_bits_[0] &= ~0x00000004u;
+inline void listxattrResponse::clear_xattrs() {
+  xattrs_.Clear();
 }
-inline void fsetattrRequest::clear_cap() {
-  if (cap_ != NULL) cap_->::xtreemfs::pbrpc::XCap::Clear();
-  clear_has_cap();
+inline const ::xtreemfs::pbrpc::XAttr& listxattrResponse::xattrs(int index) const {
+  return xattrs_.Get(index);
 }
-inline const ::xtreemfs::pbrpc::XCap& fsetattrRequest::cap() const {
-  return cap_ != NULL ? *cap_ : *default_instance_->cap_;
+inline ::xtreemfs::pbrpc::XAttr* listxattrResponse::mutable_xattrs(int index) {
+  return xattrs_.Mutable(index);
 }
-inline ::xtreemfs::pbrpc::XCap* fsetattrRequest::mutable_cap() {
-  set_has_cap();
-  if (cap_ == NULL) cap_ = new ::xtreemfs::pbrpc::XCap;
-  return cap_;
+inline ::xtreemfs::pbrpc::XAttr* listxattrResponse::add_xattrs() {
+  return xattrs_.Add();
 }
-inline ::xtreemfs::pbrpc::XCap* fsetattrRequest::release_cap() {
-  clear_has_cap();
-  ::xtreemfs::pbrpc::XCap* temp = cap_;
-  cap_ = NULL;
-  return temp;
+inline const ::google::protobuf::RepeatedPtrField< ::xtreemfs::pbrpc::XAttr >&
+listxattrResponse::xattrs() const {
+  return xattrs_;
 }
-inline void fsetattrRequest::set_allocated_cap(::xtreemfs::pbrpc::XCap* cap) {
-  delete cap_;
-  cap_ = cap;
-  if (cap) {
-    set_has_cap();
-  } else {
-    clear_has_cap();
-  }
+inline ::google::protobuf::RepeatedPtrField< ::xtreemfs::pbrpc::XAttr >*
+listxattrResponse::mutable_xattrs() {
+  return &xattrs_;
 }
 
 // -------------------------------------------------------------------
 
-// getattrRequest
+// mkdirRequest
 
 // required string volume_name = 1;
-inline bool getattrRequest::has_volume_name() const {
+inline bool mkdirRequest::has_volume_name() const {
   return (_has_bits_[0] & 0x00000001u) != 0;
 }
-inline void getattrRequest::set_has_volume_name() {
+inline void mkdirRequest::set_has_volume_name() {
   _has_bits_[0] |= 0x00000001u;
 }
-inline void getattrRequest::clear_has_volume_name() {
+inline void mkdirRequest::clear_has_volume_name() {
   _has_bits_[0] &= ~0x00000001u;
 }
-inline void getattrRequest::clear_volume_name() {
+inline void mkdirRequest::clear_volume_name() {
   if (volume_name_ != &::google::protobuf::internal::kEmptyString) {
     volume_name_->clear();
   }
   clear_has_volume_name();
 }
-inline const ::std::string& getattrRequest::volume_name() const {
+inline const ::std::string& mkdirRequest::volume_name() const {
   return *volume_name_;
 }
-inline void getattrRequest::set_volume_name(const ::std::string& value) {
+inline void mkdirRequest::set_volume_name(const ::std::string& value) {
   set_has_volume_name();
   if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
     volume_name_ = new ::std::string;
   }
   volume_name_->assign(value);
 }
-inline void getattrRequest::set_volume_name(const char* value) {
+inline void mkdirRequest::set_volume_name(const char* value) {
   set_has_volume_name();
   if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
     volume_name_ = new ::std::string;
   }
   volume_name_->assign(value);
 }
-inline void getattrRequest::set_volume_name(const char* value, size_t size) {
+inline void mkdirRequest::set_volume_name(const char* value, size_t size) {
   set_has_volume_name();
   if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
     volume_name_ = new ::std::string;
   }
   volume_name_->assign(reinterpret_cast<const char*>(value), size);
 }
-inline ::std::string* getattrRequest::mutable_volume_name() {
+inline ::std::string* mkdirRequest::mutable_volume_name() {
   set_has_volume_name();
   if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
     volume_name_ = new ::std::string;
   }
   return volume_name_;
 }
-inline ::std::string* getattrRequest::release_volume_name() {
+inline ::std::string* mkdirRequest::release_volume_name() {
   clear_has_volume_name();
   if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
     return NULL;
@@ -8008,7 +10544,7 @@ inline ::std::string* getattrRequest::release_volume_name() {
     return temp;
   }
 }
-inline void getattrRequest::set_allocated_volume_name(::std::string* volume_name) {
+inline void mkdirRequest::set_allocated_volume_name(::std::string* volume_name) {
   if (volume_name_ != &::google::protobuf::internal::kEmptyString) {
     delete volume_name_;
   }
@@ -8022,53 +10558,53 @@ inline void getattrRequest::set_allocated_volume_name(::std::string* volume_name
 }
 
 // required string path = 2;
-inline bool getattrRequest::has_path() const {
+inline bool mkdirRequest::has_path() const {
   return (_has_bits_[0] & 0x00000002u) != 0;
 }
-inline void getattrRequest::set_has_path() {
+inline void mkdirRequest::set_has_path() {
   _has_bits_[0] |= 0x00000002u;
 }
-inline void getattrRequest::clear_has_path() {
+inline void mkdirRequest::clear_has_path() {
   _has_bits_[0] &= ~0x00000002u;
 }
-inline void getattrRequest::clear_path() {
+inline void mkdirRequest::clear_path() {
   if (path_ != &::google::protobuf::internal::kEmptyString) {
     path_->clear();
   }
   clear_has_path();
 }
-inline const ::std::string& getattrRequest::path() const {
+inline const ::std::string& mkdirRequest::path() const {
   return *path_;
 }
-inline void getattrRequest::set_path(const ::std::string& value) {
+inline void mkdirRequest::set_path(const ::std::string& value) {
   set_has_path();
   if (path_ == &::google::protobuf::internal::kEmptyString) {
     path_ = new ::std::string;
   }
   path_->assign(value);
 }
-inline void getattrRequest::set_path(const char* value) {
+inline void mkdirRequest::set_path(const char* value) {
   set_has_path();
   if (path_ == &::google::protobuf::internal::kEmptyString) {
     path_ = new ::std::string;
   }
   path_->assign(value);
 }
-inline void getattrRequest::set_path(const char* value, size_t size) {
+inline void mkdirRequest::set_path(const char* value, size_t size) {
   set_has_path();
   if (path_ == &::google::protobuf::internal::kEmptyString) {
     path_ = new ::std::string;
   }
   path_->assign(reinterpret_cast<const char*>(value), size);
 }
-inline ::std::string* getattrRequest::mutable_path() {
+inline ::std::string* mkdirRequest::mutable_path() {
   set_has_path();
   if (path_ == &::google::protobuf::internal::kEmptyString) {
     path_ = new ::std::string;
   }
   return path_;
 }
-inline ::std::string* getattrRequest::release_path() {
+inline ::std::string* mkdirRequest::release_path() {
   clear_has_path();
   if (path_ == &::google::protobuf::internal::kEmptyString) {
     return NULL;
@@ -8078,7 +10614,7 @@ inline ::std::string* getattrRequest::release_path() {
     return temp;
   }
 }
-inline void getattrRequest::set_allocated_path(::std::string* path) {
+inline void mkdirRequest::set_allocated_path(::std::string* path) {
   if (path_ != &::google::protobuf::internal::kEmptyString) {
     delete path_;
   }
@@ -8091,122 +10627,80 @@ inline void getattrRequest::set_allocated_path(::std::string* path) {
   }
 }
 
-// required fixed64 known_etag = 3;
-inline bool getattrRequest::has_known_etag() const {
+// required fixed32 mode = 3;
+inline bool mkdirRequest::has_mode() const {
   return (_has_bits_[0] & 0x00000004u) != 0;
 }
-inline void getattrRequest::set_has_known_etag() {
+inline void mkdirRequest::set_has_mode() {
   _has_bits_[0] |= 0x00000004u;
 }
-inline void getattrRequest::clear_has_known_etag() {
+inline void mkdirRequest::clear_has_mode() {
   _has_bits_[0] &= ~0x00000004u;
 }
-inline void getattrRequest::clear_known_etag() {
-  known_etag_ = GOOGLE_ULONGLONG(0);
-  clear_has_known_etag();
-}
-inline ::google::protobuf::uint64 getattrRequest::known_etag() const {
-  return known_etag_;
-}
-inline void getattrRequest::set_known_etag(::google::protobuf::uint64 value) {
-  set_has_known_etag();
-  known_etag_ = value;
-}
-
-// -------------------------------------------------------------------
-
-// getattrResponse
-
-// optional .xtreemfs.pbrpc.Stat stbuf = 1;
-inline bool getattrResponse::has_stbuf() const {
-  return (_has_bits_[0] & 0x00000001u) != 0;
-}
-inline void getattrResponse::set_has_stbuf() {
-  _has_bits_[0] |= 0x00000001u;
-}
-inline void getattrResponse::clear_has_stbuf() {
-  _has_bits_[0] &= ~0x00000001u;
-}
-inline void getattrResponse::clear_stbuf() {
-  if (stbuf_ != NULL) stbuf_->::xtreemfs::pbrpc::Stat::Clear();
-  clear_has_stbuf();
-}
-inline const ::xtreemfs::pbrpc::Stat& getattrResponse::stbuf() const {
-  return stbuf_ != NULL ? *stbuf_ : *default_instance_->stbuf_;
-}
-inline ::xtreemfs::pbrpc::Stat* getattrResponse::mutable_stbuf() {
-  set_has_stbuf();
-  if (stbuf_ == NULL) stbuf_ = new ::xtreemfs::pbrpc::Stat;
-  return stbuf_;
+inline void mkdirRequest::clear_mode() {
+  mode_ = 0u;
+  clear_has_mode();
 }
-inline ::xtreemfs::pbrpc::Stat* getattrResponse::release_stbuf() {
-  clear_has_stbuf();
-  ::xtreemfs::pbrpc::Stat* temp = stbuf_;
-  stbuf_ = NULL;
-  return temp;
+inline ::google::protobuf::uint32 mkdirRequest::mode() const {
+  return mode_;
 }
-inline void getattrResponse::set_allocated_stbuf(::xtreemfs::pbrpc::Stat* stbuf) {
-  delete stbuf_;
-  stbuf_ = stbuf;
-  if (stbuf) {
-    set_has_stbuf();
-  } else {
-    clear_has_stbuf();
-  }
+inline void mkdirRequest::set_mode(::google::protobuf::uint32 value) {
+  set_has_mode();
+  mode_ = value;
 }
 
 // -------------------------------------------------------------------
 
-// getxattrRequest
+// openRequest
 
 // required string volume_name = 1;
-inline bool getxattrRequest::has_volume_name() const {
+inline bool openRequest::has_volume_name() const {
   return (_has_bits_[0] & 0x00000001u) != 0;
 }
-inline void getxattrRequest::set_has_volume_name() {
+inline void openRequest::set_has_volume_name() {
   _has_bits_[0] |= 0x00000001u;
 }
-inline void getxattrRequest::clear_has_volume_name() {
+inline void openRequest::clear_has_volume_name() {
   _has_bits_[0] &= ~0x00000001u;
 }
-inline void getxattrRequest::clear_volume_name() {
+inline void openRequest::clear_volume_name() {
   if (volume_name_ != &::google::protobuf::internal::kEmptyString) {
     volume_name_->clear();
   }
   clear_has_volume_name();
 }
-inline const ::std::string& getxattrRequest::volume_name() const {
+inline const ::std::string& openRequest::volume_name() const {
   return *volume_name_;
 }
-inline void getxattrRequest::set_volume_name(const ::std::string& value) {
+inline void openRequest::set_volume_name(const ::std::string& value) {
   set_has_volume_name();
   if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
     volume_name_ = new ::std::string;
   }
   volume_name_->assign(value);
 }
-inline void getxattrRequest::set_volume_name(const char* value) {
+inline void openRequest::set_volume_name(const char* value) {
   set_has_volume_name();
   if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
     volume_name_ = new ::std::string;
   }
   volume_name_->assign(value);
 }
-inline void getxattrRequest::set_volume_name(const char* value, size_t size) {
+inline void openRequest::set_volume_name(const char* value, size_t size) {
   set_has_volume_name();
   if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
     volume_name_ = new ::std::string;
   }
   volume_name_->assign(reinterpret_cast<const char*>(value), size);
 }
-inline ::std::string* getxattrRequest::mutable_volume_name() {
+inline ::std::string* openRequest::mutable_volume_name() {
   set_has_volume_name();
   if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
     volume_name_ = new ::std::string;
   }
   return volume_name_;
 }
-inline ::std::string* getxattrRequest::release_volume_name() {
+inline ::std::string* openRequest::release_volume_name() {
   clear_has_volume_name();
   if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
     return NULL;
@@ -8216,7 +10710,7 @@ inline ::std::string* getxattrRequest::release_volume_name() {
     return temp;
   }
 }
-inline void getxattrRequest::set_allocated_volume_name(::std::string* volume_name) {
+inline void openRequest::set_allocated_volume_name(::std::string* volume_name) {
   if (volume_name_ != &::google::protobuf::internal::kEmptyString) {
     delete volume_name_;
   }
@@ -8230,341 +10724,295 @@ inline void getxattrRequest::set_allocated_volume_name(::std::string* volume_nam
 }
 
 // required string path = 2;
-inline bool getxattrRequest::has_path() const {
+inline bool openRequest::has_path() const {
   return (_has_bits_[0] & 0x00000002u) != 0;
 }
-inline void getxattrRequest::set_has_path() {
+inline void openRequest::set_has_path() {
   _has_bits_[0] |= 0x00000002u;
 }
-inline void getxattrRequest::clear_has_path() {
+inline void openRequest::clear_has_path() {
   _has_bits_[0] &= ~0x00000002u;
 }
-inline void getxattrRequest::clear_path() {
+inline void openRequest::clear_path() {
   if (path_ != &::google::protobuf::internal::kEmptyString) {
     path_->clear();
   }
   clear_has_path();
 }
-inline const ::std::string& getxattrRequest::path() const {
+inline const ::std::string& openRequest::path() const {
   return *path_;
 }
-inline void getxattrRequest::set_path(const ::std::string& value) {
+inline void openRequest::set_path(const ::std::string& value) {
   set_has_path();
   if (path_ == &::google::protobuf::internal::kEmptyString) {
     path_ = new ::std::string;
   }
   path_->assign(value);
 }
-inline void getxattrRequest::set_path(const char* value) {
+inline void openRequest::set_path(const char* value) {
   set_has_path();
   if (path_ == &::google::protobuf::internal::kEmptyString) {
     path_ = new ::std::string;
   }
   path_->assign(value);
 }
-inline void getxattrRequest::set_path(const char* value, size_t size) {
+inline void openRequest::set_path(const char* value, size_t size) {
   set_has_path();
   if (path_ == &::google::protobuf::internal::kEmptyString) {
     path_ = new ::std::string;
   }
   path_->assign(reinterpret_cast<const char*>(value), size);
 }
-inline ::std::string* getxattrRequest::mutable_path() {
+inline ::std::string* openRequest::mutable_path() {
   set_has_path();
   if (path_ == &::google::protobuf::internal::kEmptyString) {
-    path_ = new ::std::string;
-  }
-  return path_;
-}
-inline ::std::string* getxattrRequest::release_path() {
-  clear_has_path();
-  if (path_ == &::google::protobuf::internal::kEmptyString) {
-    return NULL;
-  } else {
-    ::std::string* temp = path_;
-    path_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
-    return temp;
-  }
-}
-inline void getxattrRequest::set_allocated_path(::std::string* path) {
-  if (path_ != &::google::protobuf::internal::kEmptyString) {
-    delete path_;
-  }
-  if (path) {
-    set_has_path();
-    path_ = path;
-  } else {
-    clear_has_path();
-    path_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
-  }
-}
-
-// required string name = 3;
-inline bool getxattrRequest::has_name() const {
-  return (_has_bits_[0] & 0x00000004u) != 0;
-}
-inline void getxattrRequest::set_has_name() {
-  _has_bits_[0] |= 0x00000004u;
-}
-inline void getxattrRequest::clear_has_name() {
-  _has_bits_[0] &= ~0x00000004u;
-}
-inline void getxattrRequest::clear_name() {
-  if (name_ != &::google::protobuf::internal::kEmptyString) {
-    name_->clear();
-  }
-  clear_has_name();
-}
-inline const ::std::string& getxattrRequest::name() const {
-  return *name_;
-}
-inline void getxattrRequest::set_name(const ::std::string& value) {
-  set_has_name();
-  if (name_ == &::google::protobuf::internal::kEmptyString) {
-    name_ = new ::std::string;
-  }
-  name_->assign(value);
-}
-inline void getxattrRequest::set_name(const char* value) {
-  set_has_name();
-  if (name_ == &::google::protobuf::internal::kEmptyString) {
-    name_ = new ::std::string;
-  }
-  name_->assign(value);
-}
-inline void getxattrRequest::set_name(const char* value, size_t size) {
-  set_has_name();
-  if (name_ == &::google::protobuf::internal::kEmptyString) {
-    name_ = new ::std::string;
-  }
-  name_->assign(reinterpret_cast<const char*>(value), size);
-}
-inline ::std::string* getxattrRequest::mutable_name() {
-  set_has_name();
-  if (name_ == &::google::protobuf::internal::kEmptyString) {
-    name_ = new ::std::string;
+    path_ = new ::std::string;
   }
-  return name_;
+  return path_;
 }
-inline ::std::string* getxattrRequest::release_name() {
-  clear_has_name();
-  if (name_ == &::google::protobuf::internal::kEmptyString) {
+inline ::std::string* openRequest::release_path() {
+  clear_has_path();
+  if (path_ == &::google::protobuf::internal::kEmptyString) {
     return NULL;
   } else {
-    ::std::string* temp = name_;
-    name_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    ::std::string* temp = path_;
+    path_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
     return temp;
   }
 }
-inline void getxattrRequest::set_allocated_name(::std::string* name) {
-  if (name_ != &::google::protobuf::internal::kEmptyString) {
-    delete name_;
+inline void openRequest::set_allocated_path(::std::string* path) {
+  if (path_ != &::google::protobuf::internal::kEmptyString) {
+    delete path_;
   }
-  if (name) {
-    set_has_name();
-    name_ = name;
+  if (path) {
+    set_has_path();
+    path_ = path;
   } else {
-    clear_has_name();
-    name_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    clear_has_path();
+    path_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
   }
 }
 
-// -------------------------------------------------------------------
-
-// getxattrResponse
-
-// required string value = 1;
-inline bool getxattrResponse::has_value() const {
-  return (_has_bits_[0] & 0x00000001u) != 0;
+// required fixed32 flags = 3;
+inline bool openRequest::has_flags() const {
+  return (_has_bits_[0] & 0x00000004u) != 0;
 }
-inline void getxattrResponse::set_has_value() {
-  _has_bits_[0] |= 0x00000001u;
+inline void openRequest::set_has_flags() {
+  _has_bits_[0] |= 0x00000004u;
 }
-inline void getxattrResponse::clear_has_value() {
-  _has_bits_[0] &= ~0x00000001u;
+inline void openRequest::clear_has_flags() {
+  _has_bits_[0] &= ~0x00000004u;
 }
-inline void getxattrResponse::clear_value() {
-  if (value_ != &::google::protobuf::internal::kEmptyString) {
-    value_->clear();
-  }
-  clear_has_value();
+inline void openRequest::clear_flags() {
+  flags_ = 0u;
+  clear_has_flags();
 }
-inline const ::std::string& getxattrResponse::value() const {
-  return *value_;
+inline ::google::protobuf::uint32 openRequest::flags() const {
+  return flags_;
 }
-inline void getxattrResponse::set_value(const ::std::string& value) {
-  set_has_value();
-  if (value_ == &::google::protobuf::internal::kEmptyString) {
-    value_ = new ::std::string;
-  }
-  value_->assign(value);
+inline void openRequest::set_flags(::google::protobuf::uint32 value) {
+  set_has_flags();
+  flags_ = value;
 }
-inline void getxattrResponse::set_value(const char* value) {
-  set_has_value();
-  if (value_ == &::google::protobuf::internal::kEmptyString) {
-    value_ = new ::std::string;
-  }
-  value_->assign(value);
+
+// required fixed32 mode = 4;
+inline bool openRequest::has_mode() const {
+  return (_has_bits_[0] & 0x00000008u) != 0;
 }
-inline void getxattrResponse::set_value(const char* value, size_t size) {
-  set_has_value();
-  if (value_ == &::google::protobuf::internal::kEmptyString) {
-    value_ = new ::std::string;
-  }
-  value_->assign(reinterpret_cast<const char*>(value), size);
+inline void openRequest::set_has_mode() {
+  _has_bits_[0] |= 0x00000008u;
 }
-inline ::std::string* getxattrResponse::mutable_value() {
-  set_has_value();
-  if (value_ == &::google::protobuf::internal::kEmptyString) {
-    value_ = new ::std::string;
-  }
-  return value_;
+inline void openRequest::clear_has_mode() {
+  _has_bits_[0] &= ~0x00000008u;
 }
-inline ::std::string* getxattrResponse::release_value() {
-  clear_has_value();
-  if (value_ == &::google::protobuf::internal::kEmptyString) {
-    return NULL;
-  } else {
-    ::std::string* temp = value_;
-    value_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
-    return temp;
-  }
+inline void openRequest::clear_mode() {
+  mode_ = 0u;
+  clear_has_mode();
 }
-inline void getxattrResponse::set_allocated_value(::std::string* value) {
-  if (value_ != &::google::protobuf::internal::kEmptyString) {
-    delete value_;
-  }
-  if (value) {
-    set_has_value();
-    value_ = value;
-  } else {
-    clear_has_value();
-    value_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
-  }
+inline ::google::protobuf::uint32 openRequest::mode() const {
+  return mode_;
+}
+inline void openRequest::set_mode(::google::protobuf::uint32 value) {
+  set_has_mode();
+  mode_ = value;
 }
 
-// optional bytes value_bytes_string = 2;
-inline bool getxattrResponse::has_value_bytes_string() const {
-  return (_has_bits_[0] & 0x00000002u) != 0;
+// required fixed32 attributes = 5;
+inline bool openRequest::has_attributes() const {
+  return (_has_bits_[0] & 0x00000010u) != 0;
 }
-inline void getxattrResponse::set_has_value_bytes_string() {
-  _has_bits_[0] |= 0x00000002u;
+inline void openRequest::set_has_attributes() {
+  _has_bits_[0] |= 0x00000010u;
 }
-inline void getxattrResponse::clear_has_value_bytes_string() {
-  _has_bits_[0] &= ~0x00000002u;
+inline void openRequest::clear_has_attributes() {
+  _has_bits_[0] &= ~0x00000010u;
 }
-inline void getxattrResponse::clear_value_bytes_string() {
-  if (value_bytes_string_ != &::google::protobuf::internal::kEmptyString) {
-    value_bytes_string_->clear();
-  }
-  clear_has_value_bytes_string();
+inline void openRequest::clear_attributes() {
+  attributes_ = 0u;
+  clear_has_attributes();
 }
-inline const ::std::string& getxattrResponse::value_bytes_string() const {
-  return *value_bytes_string_;
+inline ::google::protobuf::uint32 openRequest::attributes() const {
+  return attributes_;
 }
-inline void getxattrResponse::set_value_bytes_string(const ::std::string& value) {
-  set_has_value_bytes_string();
-  if (value_bytes_string_ == &::google::protobuf::internal::kEmptyString) {
-    value_bytes_string_ = new ::std::string;
-  }
-  value_bytes_string_->assign(value);
+inline void openRequest::set_attributes(::google::protobuf::uint32 value) {
+  set_has_attributes();
+  attributes_ = value;
 }
-inline void getxattrResponse::set_value_bytes_string(const char* value) {
-  set_has_value_bytes_string();
-  if (value_bytes_string_ == &::google::protobuf::internal::kEmptyString) {
-    value_bytes_string_ = new ::std::string;
-  }
-  value_bytes_string_->assign(value);
+
+// optional .xtreemfs.pbrpc.VivaldiCoordinates coordinates = 6;
+inline bool openRequest::has_coordinates() const {
+  return (_has_bits_[0] & 0x00000020u) != 0;
 }
-inline void getxattrResponse::set_value_bytes_string(const void* value, size_t size) {
-  set_has_value_bytes_string();
-  if (value_bytes_string_ == &::google::protobuf::internal::kEmptyString) {
-    value_bytes_string_ = new ::std::string;
-  }
-  value_bytes_string_->assign(reinterpret_cast<const char*>(value), size);
+inline void openRequest::set_has_coordinates() {
+  _has_bits_[0] |= 0x00000020u;
 }
-inline ::std::string* getxattrResponse::mutable_value_bytes_string() {
-  set_has_value_bytes_string();
-  if (value_bytes_string_ == &::google::protobuf::internal::kEmptyString) {
-    value_bytes_string_ = new ::std::string;
-  }
-  return value_bytes_string_;
+inline void openRequest::clear_has_coordinates() {
+  _has_bits_[0] &= ~0x00000020u;
 }
-inline ::std::string* getxattrResponse::release_value_bytes_string() {
-  clear_has_value_bytes_string();
-  if (value_bytes_string_ == &::google::protobuf::internal::kEmptyString) {
-    return NULL;
+inline void openRequest::clear_coordinates() {
+  if (coordinates_ != NULL) coordinates_->::xtreemfs::pbrpc::VivaldiCoordinates::Clear();
+  clear_has_coordinates();
+}
+inline const ::xtreemfs::pbrpc::VivaldiCoordinates& openRequest::coordinates() const {
+  return coordinates_ != NULL ? *coordinates_ : *default_instance_->coordinates_;
+}
+inline ::xtreemfs::pbrpc::VivaldiCoordinates* openRequest::mutable_coordinates() {
+  set_has_coordinates();
+  if (coordinates_ == NULL) coordinates_ = new ::xtreemfs::pbrpc::VivaldiCoordinates;
+  return coordinates_;
+}
+inline ::xtreemfs::pbrpc::VivaldiCoordinates* openRequest::release_coordinates() {
+  clear_has_coordinates();
+  ::xtreemfs::pbrpc::VivaldiCoordinates* temp = coordinates_;
+  coordinates_ = NULL;
+  return temp;
+}
+inline void openRequest::set_allocated_coordinates(::xtreemfs::pbrpc::VivaldiCoordinates* coordinates) {
+  delete coordinates_;
+  coordinates_ = coordinates;
+  if (coordinates) {
+    set_has_coordinates();
   } else {
-    ::std::string* temp = value_bytes_string_;
-    value_bytes_string_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
-    return temp;
+    clear_has_coordinates();
   }
 }
-inline void getxattrResponse::set_allocated_value_bytes_string(::std::string* value_bytes_string) {
-  if (value_bytes_string_ != &::google::protobuf::internal::kEmptyString) {
-    delete value_bytes_string_;
-  }
-  if (value_bytes_string) {
-    set_has_value_bytes_string();
-    value_bytes_string_ = value_bytes_string;
+
+// -------------------------------------------------------------------
+
+// openResponse
+
+// required .xtreemfs.pbrpc.FileCredentials creds = 1;
+inline bool openResponse::has_creds() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
+}
+inline void openResponse::set_has_creds() {
+  _has_bits_[0] |= 0x00000001u;
+}
+inline void openResponse::clear_has_creds() {
+  _has_bits_[0] &= ~0x00000001u;
+}
+inline void openResponse::clear_creds() {
+  if (creds_ != NULL) creds_->::xtreemfs::pbrpc::FileCredentials::Clear();
+  clear_has_creds();
+}
+inline const ::xtreemfs::pbrpc::FileCredentials& openResponse::creds() const {
+  return creds_ != NULL ? *creds_ : *default_instance_->creds_;
+}
+inline ::xtreemfs::pbrpc::FileCredentials* openResponse::mutable_creds() {
+  set_has_creds();
+  if (creds_ == NULL) creds_ = new ::xtreemfs::pbrpc::FileCredentials;
+  return creds_;
+}
+inline ::xtreemfs::pbrpc::FileCredentials* openResponse::release_creds() {
+  clear_has_creds();
+  ::xtreemfs::pbrpc::FileCredentials* temp = creds_;
+  creds_ = NULL;
+  return temp;
+}
+inline void openResponse::set_allocated_creds(::xtreemfs::pbrpc::FileCredentials* creds) {
+  delete creds_;
+  creds_ = creds;
+  if (creds) {
+    set_has_creds();
   } else {
-    clear_has_value_bytes_string();
-    value_bytes_string_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    clear_has_creds();
   }
 }
 
+// required fixed32 timestamp_s = 2;
+inline bool openResponse::has_timestamp_s() const {
+  return (_has_bits_[0] & 0x00000002u) != 0;
+}
+inline void openResponse::set_has_timestamp_s() {
+  _has_bits_[0] |= 0x00000002u;
+}
+inline void openResponse::clear_has_timestamp_s() {
+  _has_bits_[0] &= ~0x00000002u;
+}
+inline void openResponse::clear_timestamp_s() {
+  timestamp_s_ = 0u;
+  clear_has_timestamp_s();
+}
+inline ::google::protobuf::uint32 openResponse::timestamp_s() const {
+  return timestamp_s_;
+}
+inline void openResponse::set_timestamp_s(::google::protobuf::uint32 value) {
+  set_has_timestamp_s();
+  timestamp_s_ = value;
+}
+
 // -------------------------------------------------------------------
 
-// linkRequest
+// readdirRequest
 
 // required string volume_name = 1;
-inline bool linkRequest::has_volume_name() const {
+inline bool readdirRequest::has_volume_name() const {
   return (_has_bits_[0] & 0x00000001u) != 0;
 }
-inline void linkRequest::set_has_volume_name() {
+inline void readdirRequest::set_has_volume_name() {
   _has_bits_[0] |= 0x00000001u;
 }
-inline void linkRequest::clear_has_volume_name() {
+inline void readdirRequest::clear_has_volume_name() {
   _has_bits_[0] &= ~0x00000001u;
 }
-inline void linkRequest::clear_volume_name() {
+inline void readdirRequest::clear_volume_name() {
   if (volume_name_ != &::google::protobuf::internal::kEmptyString) {
     volume_name_->clear();
   }
   clear_has_volume_name();
 }
-inline const ::std::string& linkRequest::volume_name() const {
+inline const ::std::string& readdirRequest::volume_name() const {
   return *volume_name_;
 }
-inline void linkRequest::set_volume_name(const ::std::string& value) {
+inline void readdirRequest::set_volume_name(const ::std::string& value) {
   set_has_volume_name();
   if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
     volume_name_ = new ::std::string;
   }
   volume_name_->assign(value);
 }
-inline void linkRequest::set_volume_name(const char* value) {
+inline void readdirRequest::set_volume_name(const char* value) {
   set_has_volume_name();
   if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
     volume_name_ = new ::std::string;
   }
   volume_name_->assign(value);
 }
-inline void linkRequest::set_volume_name(const char* value, size_t size) {
+inline void readdirRequest::set_volume_name(const char* value, size_t size) {
   set_has_volume_name();
   if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
     volume_name_ = new ::std::string;
   }
   volume_name_->assign(reinterpret_cast<const char*>(value), size);
 }
-inline ::std::string* linkRequest::mutable_volume_name() {
+inline ::std::string* readdirRequest::mutable_volume_name() {
   set_has_volume_name();
   if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
     volume_name_ = new ::std::string;
   }
   return volume_name_;
 }
-inline ::std::string* linkRequest::release_volume_name() {
+inline ::std::string* readdirRequest::release_volume_name() {
   clear_has_volume_name();
   if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
     return NULL;
@@ -8574,7 +11022,7 @@ inline ::std::string* linkRequest::release_volume_name() {
     return temp;
   }
 }
-inline void linkRequest::set_allocated_volume_name(::std::string* volume_name) {
+inline void readdirRequest::set_allocated_volume_name(::std::string* volume_name) {
   if (volume_name_ != &::google::protobuf::internal::kEmptyString) {
     delete volume_name_;
   }
@@ -8587,198 +11035,286 @@ inline void linkRequest::set_allocated_volume_name(::std::string* volume_name) {
   }
 }
 
-// required string target_path = 2;
-inline bool linkRequest::has_target_path() const {
+// required string path = 2;
+inline bool readdirRequest::has_path() const {
   return (_has_bits_[0] & 0x00000002u) != 0;
 }
-inline void linkRequest::set_has_target_path() {
+inline void readdirRequest::set_has_path() {
   _has_bits_[0] |= 0x00000002u;
 }
-inline void linkRequest::clear_has_target_path() {
+inline void readdirRequest::clear_has_path() {
   _has_bits_[0] &= ~0x00000002u;
 }
-inline void linkRequest::clear_target_path() {
-  if (target_path_ != &::google::protobuf::internal::kEmptyString) {
-    target_path_->clear();
+inline void readdirRequest::clear_path() {
+  if (path_ != &::google::protobuf::internal::kEmptyString) {
+    path_->clear();
   }
-  clear_has_target_path();
+  clear_has_path();
 }
-inline const ::std::string& linkRequest::target_path() const {
-  return *target_path_;
+inline const ::std::string& readdirRequest::path() const {
+  return *path_;
 }
-inline void linkRequest::set_target_path(const ::std::string& value) {
-  set_has_target_path();
-  if (target_path_ == &::google::protobuf::internal::kEmptyString) {
-    target_path_ = new ::std::string;
+inline void readdirRequest::set_path(const ::std::string& value) {
+  set_has_path();
+  if (path_ == &::google::protobuf::internal::kEmptyString) {
+    path_ = new ::std::string;
   }
-  target_path_->assign(value);
+  path_->assign(value);
 }
-inline void linkRequest::set_target_path(const char* value) {
-  set_has_target_path();
-  if (target_path_ == &::google::protobuf::internal::kEmptyString) {
-    target_path_ = new ::std::string;
+inline void readdirRequest::set_path(const char* value) {
+  set_has_path();
+  if (path_ == &::google::protobuf::internal::kEmptyString) {
+    path_ = new ::std::string;
   }
-  target_path_->assign(value);
+  path_->assign(value);
 }
-inline void linkRequest::set_target_path(const char* value, size_t size) {
-  set_has_target_path();
-  if (target_path_ == &::google::protobuf::internal::kEmptyString) {
-    target_path_ = new ::std::string;
+inline void readdirRequest::set_path(const char* value, size_t size) {
+  set_has_path();
+  if (path_ == &::google::protobuf::internal::kEmptyString) {
+    path_ = new ::std::string;
   }
-  target_path_->assign(reinterpret_cast<const char*>(value), size);
+  path_->assign(reinterpret_cast<const char*>(value), size);
 }
-inline ::std::string* linkRequest::mutable_target_path() {
-  set_has_target_path();
-  if (target_path_ == &::google::protobuf::internal::kEmptyString) {
-    target_path_ = new ::std::string;
+inline ::std::string* readdirRequest::mutable_path() {
+  set_has_path();
+  if (path_ == &::google::protobuf::internal::kEmptyString) {
+    path_ = new ::std::string;
   }
-  return target_path_;
+  return path_;
 }
-inline ::std::string* linkRequest::release_target_path() {
-  clear_has_target_path();
-  if (target_path_ == &::google::protobuf::internal::kEmptyString) {
+inline ::std::string* readdirRequest::release_path() {
+  clear_has_path();
+  if (path_ == &::google::protobuf::internal::kEmptyString) {
     return NULL;
   } else {
-    ::std::string* temp = target_path_;
-    target_path_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    ::std::string* temp = path_;
+    path_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
     return temp;
   }
 }
-inline void linkRequest::set_allocated_target_path(::std::string* target_path) {
-  if (target_path_ != &::google::protobuf::internal::kEmptyString) {
-    delete target_path_;
+inline void readdirRequest::set_allocated_path(::std::string* path) {
+  if (path_ != &::google::protobuf::internal::kEmptyString) {
+    delete path_;
   }
-  if (target_path) {
-    set_has_target_path();
-    target_path_ = target_path;
+  if (path) {
+    set_has_path();
+    path_ = path;
   } else {
-    clear_has_target_path();
-    target_path_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    clear_has_path();
+    path_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
   }
 }
 
-// required string link_path = 3;
-inline bool linkRequest::has_link_path() const {
+// required fixed64 known_etag = 3;
+inline bool readdirRequest::has_known_etag() const {
   return (_has_bits_[0] & 0x00000004u) != 0;
 }
-inline void linkRequest::set_has_link_path() {
+inline void readdirRequest::set_has_known_etag() {
   _has_bits_[0] |= 0x00000004u;
 }
-inline void linkRequest::clear_has_link_path() {
+inline void readdirRequest::clear_has_known_etag() {
   _has_bits_[0] &= ~0x00000004u;
 }
-inline void linkRequest::clear_link_path() {
-  if (link_path_ != &::google::protobuf::internal::kEmptyString) {
-    link_path_->clear();
+inline void readdirRequest::clear_known_etag() {
+  known_etag_ = GOOGLE_ULONGLONG(0);
+  clear_has_known_etag();
+}
+inline ::google::protobuf::uint64 readdirRequest::known_etag() const {
+  return known_etag_;
+}
+inline void readdirRequest::set_known_etag(::google::protobuf::uint64 value) {
+  set_has_known_etag();
+  known_etag_ = value;
+}
+
+// required fixed32 limit_directory_entries_count = 4;
+inline bool readdirRequest::has_limit_directory_entries_count() const {
+  return (_has_bits_[0] & 0x00000008u) != 0;
+}
+inline void readdirRequest::set_has_limit_directory_entries_count() {
+  _has_bits_[0] |= 0x00000008u;
+}
+inline void readdirRequest::clear_has_limit_directory_entries_count() {
+  _has_bits_[0] &= ~0x00000008u;
+}
+inline void readdirRequest::clear_limit_directory_entries_count() {
+  limit_directory_entries_count_ = 0u;
+  clear_has_limit_directory_entries_count();
+}
+inline ::google::protobuf::uint32 readdirRequest::limit_directory_entries_count() const {
+  return limit_directory_entries_count_;
+}
+inline void readdirRequest::set_limit_directory_entries_count(::google::protobuf::uint32 value) {
+  set_has_limit_directory_entries_count();
+  limit_directory_entries_count_ = value;
+}
+
+// required bool names_only = 5;
+inline bool readdirRequest::has_names_only() const {
+  return (_has_bits_[0] & 0x00000010u) != 0;
+}
+inline void readdirRequest::set_has_names_only() {
+  _has_bits_[0] |= 0x00000010u;
+}
+inline void readdirRequest::clear_has_names_only() {
+  _has_bits_[0] &= ~0x00000010u;
+}
+inline void readdirRequest::clear_names_only() {
+  names_only_ = false;
+  clear_has_names_only();
+}
+inline bool readdirRequest::names_only() const {
+  return names_only_;
+}
+inline void readdirRequest::set_names_only(bool value) {
+  set_has_names_only();
+  names_only_ = value;
+}
+
+// required fixed64 seen_directory_entries_count = 6;
+inline bool readdirRequest::has_seen_directory_entries_count() const {
+  return (_has_bits_[0] & 0x00000020u) != 0;
+}
+inline void readdirRequest::set_has_seen_directory_entries_count() {
+  _has_bits_[0] |= 0x00000020u;
+}
+inline void readdirRequest::clear_has_seen_directory_entries_count() {
+  _has_bits_[0] &= ~0x00000020u;
+}
+inline void readdirRequest::clear_seen_directory_entries_count() {
+  seen_directory_entries_count_ = GOOGLE_ULONGLONG(0);
+  clear_has_seen_directory_entries_count();
+}
+inline ::google::protobuf::uint64 readdirRequest::seen_directory_entries_count() const {
+  return seen_directory_entries_count_;
+}
+inline void readdirRequest::set_seen_directory_entries_count(::google::protobuf::uint64 value) {
+  set_has_seen_directory_entries_count();
+  seen_directory_entries_count_ = value;
+}
+
+// optional string continuation_cursor = 7;
+inline bool readdirRequest::has_continuation_cursor() const {
+  return (_has_bits_[0] & 0x00000040u) != 0;
+}
+inline void readdirRequest::set_has_continuation_cursor() {
+  _has_bits_[0] |= 0x00000040u;
+}
+inline void readdirRequest::clear_has_continuation_cursor() {
+  _has_bits_[0] &= ~0x00000040u;
+}
+inline void readdirRequest::clear_continuation_cursor() {
+  if (continuation_cursor_ != &::google::protobuf::internal::kEmptyString) {
+    continuation_cursor_->clear();
   }
-  clear_has_link_path();
+  clear_has_continuation_cursor();
 }
-inline const ::std::string& linkRequest::link_path() const {
-  return *link_path_;
+inline const ::std::string& readdirRequest::continuation_cursor() const {
+  return *continuation_cursor_;
 }
-inline void linkRequest::set_link_path(const ::std::string& value) {
-  set_has_link_path();
-  if (link_path_ == &::google::protobuf::internal::kEmptyString) {
-    link_path_ = new ::std::string;
+inline void readdirRequest::set_continuation_cursor(const ::std::string& value) {
+  set_has_continuation_cursor();
+  if (continuation_cursor_ == &::google::protobuf::internal::kEmptyString) {
+    continuation_cursor_ = new ::std::string;
   }
-  link_path_->assign(value);
+  continuation_cursor_->assign(value);
 }
-inline void linkRequest::set_link_path(const char* value) {
-  set_has_link_path();
-  if (link_path_ == &::google::protobuf::internal::kEmptyString) {
-    link_path_ = new ::std::string;
+inline void readdirRequest::set_continuation_cursor(const char* value) {
+  set_has_continuation_cursor();
+  if (continuation_cursor_ == &::google::protobuf::internal::kEmptyString) {
+    continuation_cursor_ = new ::std::string;
   }
-  link_path_->assign(value);
+  continuation_cursor_->assign(value);
 }
-inline void linkRequest::set_link_path(const char* value, size_t size) {
-  set_has_link_path();
-  if (link_path_ == &::google::protobuf::internal::kEmptyString) {
-    link_path_ = new ::std::string;
+inline void readdirRequest::set_continuation_cursor(const char* value, size_t size) {
+  set_has_continuation_cursor();
+  if (continuation_cursor_ == &::google::protobuf::internal::kEmptyString) {
+    continuation_cursor_ = new ::std::string;
   }
-  link_path_->assign(reinterpret_cast<const char*>(value), size);
+  continuation_cursor_->assign(reinterpret_cast<const char*>(value), size);
 }
-inline ::std::string* linkRequest::mutable_link_path() {
-  set_has_link_path();
-  if (link_path_ == &::google::protobuf::internal::kEmptyString) {
-    link_path_ = new ::std::string;
+inline ::std::string* readdirRequest::mutable_continuation_cursor() {
+  set_has_continuation_cursor();
+  if (continuation_cursor_ == &::google::protobuf::internal::kEmptyString) {
+    continuation_cursor_ = new ::std::string;
   }
-  return link_path_;
+  return continuation_cursor_;
 }
-inline ::std::string* linkRequest::release_link_path() {
-  clear_has_link_path();
-  if (link_path_ == &::google::protobuf::internal::kEmptyString) {
+inline ::std::string* readdirRequest::release_continuation_cursor() {
+  clear_has_continuation_cursor();
+  if (continuation_cursor_ == &::google::protobuf::internal::kEmptyString) {
     return NULL;
   } else {
-    ::std::string* temp = link_path_;
-    link_path_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    ::std::string* temp = continuation_cursor_;
+    continuation_cursor_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
     return temp;
   }
 }
-inline void linkRequest::set_allocated_link_path(::std::string* link_path) {
-  if (link_path_ != &::google::protobuf::internal::kEmptyString) {
-    delete link_path_;
+inline void readdirRequest::set_allocated_continuation_cursor(::std::string* continuation_cursor) {
+  if (continuation_cursor_ != &::google::protobuf::internal::kEmptyString) {
+    delete continuation_cursor_;
   }
-  if (link_path) {
-    set_has_link_path();
-    link_path_ = link_path;
+  if (continuation_cursor) {
+    set_has_continuation_cursor();
+    continuation_cursor_ = continuation_cursor;
   } else {
-    clear_has_link_path();
-    link_path_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    clear_has_continuation_cursor();
+    continuation_cursor_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
   }
 }
 
 // -------------------------------------------------------------------
 
-// listxattrRequest
+// readlinkRequest
 
 // required string volume_name = 1;
-inline bool listxattrRequest::has_volume_name() const {
+inline bool readlinkRequest::has_volume_name() const {
   return (_has_bits_[0] & 0x00000001u) != 0;
 }
-inline void listxattrRequest::set_has_volume_name() {
+inline void readlinkRequest::set_has_volume_name() {
   _has_bits_[0] |= 0x00000001u;
 }
-inline void listxattrRequest::clear_has_volume_name() {
+inline void readlinkRequest::clear_has_volume_name() {
   _has_bits_[0] &= ~0x00000001u;
 }
-inline void listxattrRequest::clear_volume_name() {
+inline void readlinkRequest::clear_volume_name() {
   if (volume_name_ != &::google::protobuf::internal::kEmptyString) {
     volume_name_->clear();
   }
   clear_has_volume_name();
 }
-inline const ::std::string& listxattrRequest::volume_name() const {
+inline const ::std::string& readlinkRequest::volume_name() const {
   return *volume_name_;
 }
-inline void listxattrRequest::set_volume_name(const ::std::string& value) {
+inline void readlinkRequest::set_volume_name(const ::std::string& value) {
   set_has_volume_name();
   if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
     volume_name_ = new ::std::string;
   }
   volume_name_->assign(value);
 }
-inline void listxattrRequest::set_volume_name(const char* value) {
+inline void readlinkRequest::set_volume_name(const char* value) {
   set_has_volume_name();
   if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
     volume_name_ = new ::std::string;
   }
   volume_name_->assign(value);
 }
-inline void listxattrRequest::set_volume_name(const char* value, size_t size) {
+inline void readlinkRequest::set_volume_name(const char* value, size_t size) {
   set_has_volume_name();
   if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
     volume_name_ = new ::std::string;
   }
   volume_name_->assign(reinterpret_cast<const char*>(value), size);
 }
-inline ::std::string* listxattrRequest::mutable_volume_name() {
+inline ::std::string* readlinkRequest::mutable_volume_name() {
   set_has_volume_name();
   if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
     volume_name_ = new ::std::string;
   }
   return volume_name_;
 }
-inline ::std::string* listxattrRequest::release_volume_name() {
+inline ::std::string* readlinkRequest::release_volume_name() {
   clear_has_volume_name();
   if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
     return NULL;
@@ -8788,7 +11324,7 @@ inline ::std::string* listxattrRequest::release_volume_name() {
     return temp;
   }
 }
-inline void listxattrRequest::set_allocated_volume_name(::std::string* volume_name) {
+inline void readlinkRequest::set_allocated_volume_name(::std::string* volume_name) {
   if (volume_name_ != &::google::protobuf::internal::kEmptyString) {
     delete volume_name_;
   }
@@ -8802,53 +11338,53 @@ inline void listxattrRequest::set_allocated_volume_name(::std::string* volume_na
 }
 
 // required string path = 2;
-inline bool listxattrRequest::has_path() const {
+inline bool readlinkRequest::has_path() const {
   return (_has_bits_[0] & 0x00000002u) != 0;
 }
-inline void listxattrRequest::set_has_path() {
+inline void readlinkRequest::set_has_path() {
   _has_bits_[0] |= 0x00000002u;
 }
-inline void listxattrRequest::clear_has_path() {
+inline void readlinkRequest::clear_has_path() {
   _has_bits_[0] &= ~0x00000002u;
 }
-inline void listxattrRequest::clear_path() {
+inline void readlinkRequest::clear_path() {
   if (path_ != &::google::protobuf::internal::kEmptyString) {
     path_->clear();
   }
   clear_has_path();
 }
-inline const ::std::string& listxattrRequest::path() const {
+inline const ::std::string& readlinkRequest::path() const {
   return *path_;
 }
-inline void listxattrRequest::set_path(const ::std::string& value) {
+inline void readlinkRequest::set_path(const ::std::string& value) {
   set_has_path();
   if (path_ == &::google::protobuf::internal::kEmptyString) {
     path_ = new ::std::string;
   }
   path_->assign(value);
 }
-inline void listxattrRequest::set_path(const char* value) {
+inline void readlinkRequest::set_path(const char* value) {
   set_has_path();
   if (path_ == &::google::protobuf::internal::kEmptyString) {
     path_ = new ::std::string;
   }
   path_->assign(value);
 }
-inline void listxattrRequest::set_path(const char* value, size_t size) {
+inline void readlinkRequest::set_path(const char* value, size_t size) {
   set_has_path();
   if (path_ == &::google::protobuf::internal::kEmptyString) {
     path_ = new ::std::string;
   }
   path_->assign(reinterpret_cast<const char*>(value), size);
 }
-inline ::std::string* listxattrRequest::mutable_path() {
+inline ::std::string* readlinkRequest::mutable_path() {
   set_has_path();
   if (path_ == &::google::protobuf::internal::kEmptyString) {
     path_ = new ::std::string;
   }
   return path_;
 }
-inline ::std::string* listxattrRequest::release_path() {
+inline ::std::string* readlinkRequest::release_path() {
   clear_has_path();
   if (path_ == &::google::protobuf::internal::kEmptyString) {
     return NULL;
@@ -8858,7 +11394,7 @@ inline ::std::string* listxattrRequest::release_path() {
     return temp;
   }
 }
-inline void listxattrRequest::set_allocated_path(::std::string* path) {
+inline void readlinkRequest::set_allocated_path(::std::string* path) {
   if (path_ != &::google::protobuf::internal::kEmptyString) {
     delete path_;
   }
@@ -8871,109 +11407,106 @@ inline void listxattrRequest::set_allocated_path(::std::string* path) {
   }
 }
 
-// required bool names_only = 3;
-inline bool listxattrRequest::has_names_only() const {
-  return (_has_bits_[0] & 0x00000004u) != 0;
+// -------------------------------------------------------------------
+
+// readlinkResponse
+
+// repeated string link_target_path = 1;
+inline int readlinkResponse::link_target_path_size() const {
+  return link_target_path_.size();
 }
-inline void listxattrRequest::set_has_names_only() {
-  _has_bits_[0] |= 0x00000004u;
+inline void readlinkResponse::clear_link_target_path() {
+  link_target_path_.Clear();
 }
-inline void listxattrRequest::clear_has_names_only() {
-  _has_bits_[0] &= ~0x00000004u;
+inline const ::std::string& readlinkResponse::link_target_path(int index) const {
+  return link_target_path_.Get(index);
 }
-inline void listxattrRequest::clear_names_only() {
-  names_only_ = false;
-  clear_has_names_only();
+inline ::std::string* readlinkResponse::mutable_link_target_path(int index) {
+  return link_target_path_.Mutable(index);
 }
-inline bool listxattrRequest::names_only() const {
-  return names_only_;
+inline void readlinkResponse::set_link_target_path(int index, const ::std::string& value) {
+  link_target_path_.Mutable(index)->assign(value);
 }
-inline void listxattrRequest::set_names_only(bool value) {
-  set_has_names_only();
-  names_only_ = value;
+inline void readlinkResponse::set_link_target_path(int index, const char* value) {
+  link_target_path_.Mutable(index)->assign(value);
 }
-
-// -------------------------------------------------------------------
-
-// listxattrResponse
-
-// repeated .xtreemfs.pbrpc.XAttr xattrs = 1;
-inline int listxattrResponse::xattrs_size() const {
-  return xattrs_.size();
+inline void readlinkResponse::set_link_target_path(int index, const char* value, size_t size) {
+  link_target_path_.Mutable(index)->assign(
+    reinterpret_cast<const char*>(value), size);
 }
-inline void listxattrResponse::clear_xattrs() {
-  xattrs_.Clear();
+inline ::std::string* readlinkResponse::add_link_target_path() {
+  return link_target_path_.Add();
 }
-inline const ::xtreemfs::pbrpc::XAttr& listxattrResponse::xattrs(int index) const {
-  return xattrs_.Get(index);
+inline void readlinkResponse::add_link_target_path(const ::std::string& value) {
+  link_target_path_.Add()->assign(value);
 }
-inline ::xtreemfs::pbrpc::XAttr* listxattrResponse::mutable_xattrs(int index) {
-  return xattrs_.Mutable(index);
+inline void readlinkResponse::add_link_target_path(const char* value) {
+  link_target_path_.Add()->assign(value);
 }
-inline ::xtreemfs::pbrpc::XAttr* listxattrResponse::add_xattrs() {
-  return xattrs_.Add();
+inline void readlinkResponse::add_link_target_path(const char* value, size_t size) {
+  link_target_path_.Add()->assign(reinterpret_cast<const char*>(value), size);
 }
-inline const ::google::protobuf::RepeatedPtrField< ::xtreemfs::pbrpc::XAttr >&
-listxattrResponse::xattrs() const {
-  return xattrs_;
+inline const ::google::protobuf::RepeatedPtrField< ::std::string>&
+readlinkResponse::link_target_path() const {
+  return link_target_path_;
 }
-inline ::google::protobuf::RepeatedPtrField< ::xtreemfs::pbrpc::XAttr >*
-listxattrResponse::mutable_xattrs() {
-  return &xattrs_;
+inline ::google::protobuf::RepeatedPtrField< ::std::string>*
+readlinkResponse::mutable_link_target_path() {
+  return &link_target_path_;
 }
 
 // -------------------------------------------------------------------
 
-// mkdirRequest
+// removexattrRequest
 
 // required string volume_name = 1;
-inline bool mkdirRequest::has_volume_name() const {
+inline bool removexattrRequest::has_volume_name() const {
   return (_has_bits_[0] & 0x00000001u) != 0;
 }
-inline void mkdirRequest::set_has_volume_name() {
+inline void removexattrRequest::set_has_volume_name() {
   _has_bits_[0] |= 0x00000001u;
 }
-inline void mkdirRequest::clear_has_volume_name() {
+inline void removexattrRequest::clear_has_volume_name() {
   _has_bits_[0] &= ~0x00000001u;
 }
-inline void mkdirRequest::clear_volume_name() {
+inline void removexattrRequest::clear_volume_name() {
   if (volume_name_ != &::google::protobuf::internal::kEmptyString) {
     volume_name_->clear();
   }
   clear_has_volume_name();
 }
-inline const ::std::string& mkdirRequest::volume_name() const {
+inline const ::std::string& removexattrRequest::volume_name() const {
   return *volume_name_;
 }
-inline void mkdirRequest::set_volume_name(const ::std::string& value) {
+inline void removexattrRequest::set_volume_name(const ::std::string& value) {
   set_has_volume_name();
   if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
     volume_name_ = new ::std::string;
   }
   volume_name_->assign(value);
 }
-inline void mkdirRequest::set_volume_name(const char* value) {
+inline void removexattrRequest::set_volume_name(const char* value) {
   set_has_volume_name();
   if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
     volume_name_ = new ::std::string;
   }
   volume_name_->assign(value);
 }
-inline void mkdirRequest::set_volume_name(const char* value, size_t size) {
+inline void removexattrRequest::set_volume_name(const char* value, size_t size) {
   set_has_volume_name();
   if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
     volume_name_ = new ::std::string;
   }
   volume_name_->assign(reinterpret_cast<const char*>(value), size);
 }
-inline ::std::string* mkdirRequest::mutable_volume_name() {
+inline ::std::string* removexattrRequest::mutable_volume_name() {
   set_has_volume_name();
   if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
     volume_name_ = new ::std::string;
   }
   return volume_name_;
 }
-inline ::std::string* mkdirRequest::release_volume_name() {
+inline ::std::string* removexattrRequest::release_volume_name() {
   clear_has_volume_name();
   if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
     return NULL;
@@ -8983,7 +11516,7 @@ inline ::std::string* mkdirRequest::release_volume_name() {
     return temp;
   }
 }
-inline void mkdirRequest::set_allocated_volume_name(::std::string* volume_name) {
+inline void removexattrRequest::set_allocated_volume_name(::std::string* volume_name) {
   if (volume_name_ != &::google::protobuf::internal::kEmptyString) {
     delete volume_name_;
   }
@@ -8997,53 +11530,53 @@ inline void mkdirRequest::set_allocated_volume_name(::std::string* volume_name)
 }
 
 // required string path = 2;
-inline bool mkdirRequest::has_path() const {
+inline bool removexattrRequest::has_path() const {
   return (_has_bits_[0] & 0x00000002u) != 0;
 }
-inline void mkdirRequest::set_has_path() {
+inline void removexattrRequest::set_has_path() {
   _has_bits_[0] |= 0x00000002u;
 }
-inline void mkdirRequest::clear_has_path() {
+inline void removexattrRequest::clear_has_path() {
   _has_bits_[0] &= ~0x00000002u;
 }
-inline void mkdirRequest::clear_path() {
+inline void removexattrRequest::clear_path() {
   if (path_ != &::google::protobuf::internal::kEmptyString) {
     path_->clear();
   }
   clear_has_path();
 }
-inline const ::std::string& mkdirRequest::path() const {
+inline const ::std::string& removexattrRequest::path() const {
   return *path_;
 }
-inline void mkdirRequest::set_path(const ::std::string& value) {
+inline void removexattrRequest::set_path(const ::std::string& value) {
   set_has_path();
   if (path_ == &::google::protobuf::internal::kEmptyString) {
     path_ = new ::std::string;
   }
   path_->assign(value);
 }
-inline void mkdirRequest::set_path(const char* value) {
+inline void removexattrRequest::set_path(const char* value) {
   set_has_path();
   if (path_ == &::google::protobuf::internal::kEmptyString) {
     path_ = new ::std::string;
   }
   path_->assign(value);
 }
-inline void mkdirRequest::set_path(const char* value, size_t size) {
+inline void removexattrRequest::set_path(const char* value, size_t size) {
   set_has_path();
   if (path_ == &::google::protobuf::internal::kEmptyString) {
     path_ = new ::std::string;
   }
   path_->assign(reinterpret_cast<const char*>(value), size);
 }
-inline ::std::string* mkdirRequest::mutable_path() {
+inline ::std::string* removexattrRequest::mutable_path() {
   set_has_path();
   if (path_ == &::google::protobuf::internal::kEmptyString) {
     path_ = new ::std::string;
   }
   return path_;
 }
-inline ::std::string* mkdirRequest::release_path() {
+inline ::std::string* removexattrRequest::release_path() {
   clear_has_path();
   if (path_ == &::google::protobuf::internal::kEmptyString) {
     return NULL;
@@ -9053,7 +11586,7 @@ inline ::std::string* mkdirRequest::release_path() {
     return temp;
   }
 }
-inline void mkdirRequest::set_allocated_path(::std::string* path) {
+inline void removexattrRequest::set_allocated_path(::std::string* path) {
   if (path_ != &::google::protobuf::internal::kEmptyString) {
     delete path_;
   }
@@ -9066,80 +11599,128 @@ inline void mkdirRequest::set_allocated_path(::std::string* path) {
   }
 }
 
-// required fixed32 mode = 3;
-inline bool mkdirRequest::has_mode() const {
+// required string name = 3;
+inline bool removexattrRequest::has_name() const {
   return (_has_bits_[0] & 0x00000004u) != 0;
 }
-inline void mkdirRequest::set_has_mode() {
+inline void removexattrRequest::set_has_name() {
   _has_bits_[0] |= 0x00000004u;
 }
-inline void mkdirRequest::clear_has_mode() {
+inline void removexattrRequest::clear_has_name() {
   _has_bits_[0] &= ~0x00000004u;
 }
-inline void mkdirRequest::clear_mode() {
-  mode_ = 0u;
-  clear_has_mode();
+inline void removexattrRequest::clear_name() {
+  if (name_ != &::google::protobuf::internal::kEmptyString) {
+    name_->clear();
+  }
+  clear_has_name();
 }
-inline ::google::protobuf::uint32 mkdirRequest::mode() const {
-  return mode_;
+inline const ::std::string& removexattrRequest::name() const {
+  return *name_;
 }
-inline void mkdirRequest::set_mode(::google::protobuf::uint32 value) {
-  set_has_mode();
-  mode_ = value;
+inline void removexattrRequest::set_name(const ::std::string& value) {
+  set_has_name();
+  if (name_ == &::google::protobuf::internal::kEmptyString) {
+    name_ = new ::std::string;
+  }
+  name_->assign(value);
+}
+inline void removexattrRequest::set_name(const char* value) {
+  set_has_name();
+  if (name_ == &::google::protobuf::internal::kEmptyString) {
+    name_ = new ::std::string;
+  }
+  name_->assign(value);
+}
+inline void removexattrRequest::set_name(const char* value, size_t size) {
+  set_has_name();
+  if (name_ == &::google::protobuf::internal::kEmptyString) {
+    name_ = new ::std::string;
+  }
+  name_->assign(reinterpret_cast<const char*>(value), size);
+}
+inline ::std::string* removexattrRequest::mutable_name() {
+  set_has_name();
+  if (name_ == &::google::protobuf::internal::kEmptyString) {
+    name_ = new ::std::string;
+  }
+  return name_;
+}
+inline ::std::string* removexattrRequest::release_name() {
+  clear_has_name();
+  if (name_ == &::google::protobuf::internal::kEmptyString) {
+    return NULL;
+  } else {
+    ::std::string* temp = name_;
+    name_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    return temp;
+  }
+}
+inline void removexattrRequest::set_allocated_name(::std::string* name) {
+  if (name_ != &::google::protobuf::internal::kEmptyString) {
+    delete name_;
+  }
+  if (name) {
+    set_has_name();
+    name_ = name;
+  } else {
+    clear_has_name();
+    name_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  }
 }
 
 // -------------------------------------------------------------------
 
-// openRequest
+// renameRequest
 
 // required string volume_name = 1;
-inline bool openRequest::has_volume_name() const {
+inline bool renameRequest::has_volume_name() const {
   return (_has_bits_[0] & 0x00000001u) != 0;
 }
-inline void openRequest::set_has_volume_name() {
+inline void renameRequest::set_has_volume_name() {
   _has_bits_[0] |= 0x00000001u;
 }
-inline void openRequest::clear_has_volume_name() {
+inline void renameRequest::clear_has_volume_name() {
   _has_bits_[0] &= ~0x00000001u;
 }
-inline void openRequest::clear_volume_name() {
+inline void renameRequest::clear_volume_name() {
   if (volume_name_ != &::google::protobuf::internal::kEmptyString) {
     volume_name_->clear();
   }
   clear_has_volume_name();
 }
-inline const ::std::string& openRequest::volume_name() const {
+inline const ::std::string& renameRequest::volume_name() const {
   return *volume_name_;
 }
-inline void openRequest::set_volume_name(const ::std::string& value) {
+inline void renameRequest::set_volume_name(const ::std::string& value) {
   set_has_volume_name();
   if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
     volume_name_ = new ::std::string;
   }
   volume_name_->assign(value);
 }
-inline void openRequest::set_volume_name(const char* value) {
+inline void renameRequest::set_volume_name(const char* value) {
   set_has_volume_name();
   if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
     volume_name_ = new ::std::string;
   }
   volume_name_->assign(value);
 }
-inline void openRequest::set_volume_name(const char* value, size_t size) {
+inline void renameRequest::set_volume_name(const char* value, size_t size) {
   set_has_volume_name();
   if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
     volume_name_ = new ::std::string;
   }
   volume_name_->assign(reinterpret_cast<const char*>(value), size);
 }
-inline ::std::string* openRequest::mutable_volume_name() {
+inline ::std::string* renameRequest::mutable_volume_name() {
   set_has_volume_name();
   if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
     volume_name_ = new ::std::string;
   }
   return volume_name_;
 }
-inline ::std::string* openRequest::release_volume_name() {
+inline ::std::string* renameRequest::release_volume_name() {
   clear_has_volume_name();
   if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
     return NULL;
@@ -9149,7 +11730,7 @@ inline ::std::string* openRequest::release_volume_name() {
     return temp;
   }
 }
-inline void openRequest::set_allocated_volume_name(::std::string* volume_name) {
+inline void renameRequest::set_allocated_volume_name(::std::string* volume_name) {
   if (volume_name_ != &::google::protobuf::internal::kEmptyString) {
     delete volume_name_;
   }
@@ -9162,213 +11743,201 @@ inline void openRequest::set_allocated_volume_name(::std::string* volume_name) {
   }
 }
 
-// required string path = 2;
-inline bool openRequest::has_path() const {
+// required string source_path = 2;
+inline bool renameRequest::has_source_path() const {
   return (_has_bits_[0] & 0x00000002u) != 0;
 }
-inline void openRequest::set_has_path() {
+inline void renameRequest::set_has_source_path() {
   _has_bits_[0] |= 0x00000002u;
 }
-inline void openRequest::clear_has_path() {
+inline void renameRequest::clear_has_source_path() {
   _has_bits_[0] &= ~0x00000002u;
 }
-inline void openRequest::clear_path() {
-  if (path_ != &::google::protobuf::internal::kEmptyString) {
-    path_->clear();
+inline void renameRequest::clear_source_path() {
+  if (source_path_ != &::google::protobuf::internal::kEmptyString) {
+    source_path_->clear();
   }
-  clear_has_path();
+  clear_has_source_path();
 }
-inline const ::std::string& openRequest::path() const {
-  return *path_;
+inline const ::std::string& renameRequest::source_path() const {
+  return *source_path_;
 }
-inline void openRequest::set_path(const ::std::string& value) {
-  set_has_path();
-  if (path_ == &::google::protobuf::internal::kEmptyString) {
-    path_ = new ::std::string;
+inline void renameRequest::set_source_path(const ::std::string& value) {
+  set_has_source_path();
+  if (source_path_ == &::google::protobuf::internal::kEmptyString) {
+    source_path_ = new ::std::string;
   }
-  path_->assign(value);
+  source_path_->assign(value);
 }
-inline void openRequest::set_path(const char* value) {
-  set_has_path();
-  if (path_ == &::google::protobuf::internal::kEmptyString) {
-    path_ = new ::std::string;
+inline void renameRequest::set_source_path(const char* value) {
+  set_has_source_path();
+  if (source_path_ == &::google::protobuf::internal::kEmptyString) {
+    source_path_ = new ::std::string;
   }
-  path_->assign(value);
+  source_path_->assign(value);
 }
-inline void openRequest::set_path(const char* value, size_t size) {
-  set_has_path();
-  if (path_ == &::google::protobuf::internal::kEmptyString) {
-    path_ = new ::std::string;
+inline void renameRequest::set_source_path(const char* value, size_t size) {
+  set_has_source_path();
+  if (source_path_ == &::google::protobuf::internal::kEmptyString) {
+    source_path_ = new ::std::string;
   }
-  path_->assign(reinterpret_cast<const char*>(value), size);
+  source_path_->assign(reinterpret_cast<const char*>(value), size);
 }
-inline ::std::string* openRequest::mutable_path() {
-  set_has_path();
-  if (path_ == &::google::protobuf::internal::kEmptyString) {
-    path_ = new ::std::string;
+inline ::std::string* renameRequest::mutable_source_path() {
+  set_has_source_path();
+  if (source_path_ == &::google::protobuf::internal::kEmptyString) {
+    source_path_ = new ::std::string;
   }
-  return path_;
+  return source_path_;
 }
-inline ::std::string* openRequest::release_path() {
-  clear_has_path();
-  if (path_ == &::google::protobuf::internal::kEmptyString) {
+inline ::std::string* renameRequest::release_source_path() {
+  clear_has_source_path();
+  if (source_path_ == &::google::protobuf::internal::kEmptyString) {
     return NULL;
   } else {
-    ::std::string* temp = path_;
-    path_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    ::std::string* temp = source_path_;
+    source_path_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
     return temp;
   }
 }
-inline void openRequest::set_allocated_path(::std::string* path) {
-  if (path_ != &::google::protobuf::internal::kEmptyString) {
-    delete path_;
+inline void renameRequest::set_allocated_source_path(::std::string* source_path) {
+  if (source_path_ != &::google::protobuf::internal::kEmptyString) {
+    delete source_path_;
   }
-  if (path) {
-    set_has_path();
-    path_ = path;
+  if (source_path) {
+    set_has_source_path();
+    source_path_ = source_path;
   } else {
-    clear_has_path();
-    path_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    clear_has_source_path();
+    source_path_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
   }
 }
 
-// required fixed32 flags = 3;
-inline bool openRequest::has_flags() const {
+// required string target_path = 3;
+inline bool renameRequest::has_target_path() const {
   return (_has_bits_[0] & 0x00000004u) != 0;
 }
-inline void openRequest::set_has_flags() {
+inline void renameRequest::set_has_target_path() {
   _has_bits_[0] |= 0x00000004u;
 }
-inline void openRequest::clear_has_flags() {
+inline void renameRequest::clear_has_target_path() {
   _has_bits_[0] &= ~0x00000004u;
 }
-inline void openRequest::clear_flags() {
-  flags_ = 0u;
-  clear_has_flags();
-}
-inline ::google::protobuf::uint32 openRequest::flags() const {
-  return flags_;
+inline void renameRequest::clear_target_path() {
+  if (target_path_ != &::google::protobuf::internal::kEmptyString) {
+    target_path_->clear();
+  }
+  clear_has_target_path();
 }
-inline void openRequest::set_flags(::google::protobuf::uint32 value) {
-  set_has_flags();
-  flags_ = value;
+inline const ::std::string& renameRequest::target_path() const {
+  return *target_path_;
 }
-
-// required fixed32 mode = 4;
-inline bool openRequest::has_mode() const {
-  return (_has_bits_[0] & 0x00000008u) != 0;
+inline void renameRequest::set_target_path(const ::std::string& value) {
+  set_has_target_path();
+  if (target_path_ == &::google::protobuf::internal::kEmptyString) {
+    target_path_ = new ::std::string;
+  }
+  target_path_->assign(value);
 }
-inline void openRequest::set_has_mode() {
-  _has_bits_[0] |= 0x00000008u;
+inline void renameRequest::set_target_path(const char* value) {
+  set_has_target_path();
+  if (target_path_ == &::google::protobuf::internal::kEmptyString) {
+    target_path_ = new ::std::string;
+  }
+  target_path_->assign(value);
 }
-inline void openRequest::clear_has_mode() {
-  _has_bits_[0] &= ~0x00000008u;
+inline void renameRequest::set_target_path(const char* value, size_t size) {
+  set_has_target_path();
+  if (target_path_ == &::google::protobuf::internal::kEmptyString) {
+    target_path_ = new ::std::string;
+  }
+  target_path_->assign(reinterpret_cast<const char*>(value), size);
 }
-inline void openRequest::clear_mode() {
-  mode_ = 0u;
-  clear_has_mode();
+inline ::std::string* renameRequest::mutable_target_path() {
+  set_has_target_path();
+  if (target_path_ == &::google::protobuf::internal::kEmptyString) {
+    target_path_ = new ::std::string;
+  }
+  return target_path_;
 }
-inline ::google::protobuf::uint32 openRequest::mode() const {
-  return mode_;
+inline ::std::string* renameRequest::release_target_path() {
+  clear_has_target_path();
+  if (target_path_ == &::google::protobuf::internal::kEmptyString) {
+    return NULL;
+  } else {
+    ::std::string* temp = target_path_;
+    target_path_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    return temp;
+  }
 }
-inline void openRequest::set_mode(::google::protobuf::uint32 value) {
-  set_has_mode();
-  mode_ = value;
+inline void renameRequest::set_allocated_target_path(::std::string* target_path) {
+  if (target_path_ != &::google::protobuf::internal::kEmptyString) {
+    delete target_path_;
+  }
+  if (target_path) {
+    set_has_target_path();
+    target_path_ = target_path;
+  } else {
+    clear_has_target_path();
+    target_path_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  }
 }
 
-// required fixed32 attributes = 5;
-inline bool openRequest::has_attributes() const {
-  return (_has_bits_[0] & 0x00000010u) != 0;
-}
-inline void openRequest::set_has_attributes() {
-  _has_bits_[0] |= 0x00000010u;
-}
-inline void openRequest::clear_has_attributes() {
-  _has_bits_[0] &= ~0x00000010u;
-}
-inline void openRequest::clear_attributes() {
-  attributes_ = 0u;
-  clear_has_attributes();
-}
-inline ::google::protobuf::uint32 openRequest::attributes() const {
-  return attributes_;
-}
-inline void openRequest::set_attributes(::google::protobuf::uint32 value) {
-  set_has_attributes();
-  attributes_ = value;
-}
+// -------------------------------------------------------------------
 
-// optional .xtreemfs.pbrpc.VivaldiCoordinates coordinates = 6;
-inline bool openRequest::has_coordinates() const {
-  return (_has_bits_[0] & 0x00000020u) != 0;
-}
-inline void openRequest::set_has_coordinates() {
-  _has_bits_[0] |= 0x00000020u;
-}
-inline void openRequest::clear_has_coordinates() {
-  _has_bits_[0] &= ~0x00000020u;
+// renameResponse
+
+// required fixed32 timestamp_s = 1;
+inline bool renameResponse::has_timestamp_s() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
 }
-inline void openRequest::clear_coordinates() {
-  if (coordinates_ != NULL) coordinates_->::xtreemfs::pbrpc::VivaldiCoordinates::Clear();
-  clear_has_coordinates();
+inline void renameResponse::set_has_timestamp_s() {
+  _has_bits_[0] |= 0x00000001u;
 }
-inline const ::xtreemfs::pbrpc::VivaldiCoordinates& openRequest::coordinates() const {
-  return coordinates_ != NULL ? *coordinates_ : *default_instance_->coordinates_;
+inline void renameResponse::clear_has_timestamp_s() {
+  _has_bits_[0] &= ~0x00000001u;
 }
-inline ::xtreemfs::pbrpc::VivaldiCoordinates* openRequest::mutable_coordinates() {
-  set_has_coordinates();
-  if (coordinates_ == NULL) coordinates_ = new ::xtreemfs::pbrpc::VivaldiCoordinates;
-  return coordinates_;
+inline void renameResponse::clear_timestamp_s() {
+  timestamp_s_ = 0u;
+  clear_has_timestamp_s();
 }
-inline ::xtreemfs::pbrpc::VivaldiCoordinates* openRequest::release_coordinates() {
-  clear_has_coordinates();
-  ::xtreemfs::pbrpc::VivaldiCoordinates* temp = coordinates_;
-  coordinates_ = NULL;
-  return temp;
+inline ::google::protobuf::uint32 renameResponse::timestamp_s() const {
+  return timestamp_s_;
 }
-inline void openRequest::set_allocated_coordinates(::xtreemfs::pbrpc::VivaldiCoordinates* coordinates) {
-  delete coordinates_;
-  coordinates_ = coordinates;
-  if (coordinates) {
-    set_has_coordinates();
-  } else {
-    clear_has_coordinates();
-  }
+inline void renameResponse::set_timestamp_s(::google::protobuf::uint32 value) {
+  set_has_timestamp_s();
+  timestamp_s_ = value;
 }
 
-// -------------------------------------------------------------------
-
-// openResponse
-
-// required .xtreemfs.pbrpc.FileCredentials creds = 1;
-inline bool openResponse::has_creds() const {
-  return (_has_bits_[0] & 0x00000001u) != 0;
+// optional .xtreemfs.pbrpc.FileCredentials creds = 2;
+inline bool renameResponse::has_creds() const {
+  return (_has_bits_[0] & 0x00000002u) != 0;
 }
-inline void openResponse::set_has_creds() {
-  _has_bits_[0] |= 0x00000001u;
+inline void renameResponse::set_has_creds() {
+  _has_bits_[0] |= 0x00000002u;
 }
-inline void openResponse::clear_has_creds() {
-  _has_bits_[0] &= ~0x00000001u;
+inline void renameResponse::clear_has_creds() {
+  _has_bits_[0] &= ~0x00000002u;
 }
-inline void openResponse::clear_creds() {
+inline void renameResponse::clear_creds() {
   if (creds_ != NULL) creds_->::xtreemfs::pbrpc::FileCredentials::Clear();
   clear_has_creds();
 }
-inline const ::xtreemfs::pbrpc::FileCredentials& openResponse::creds() const {
+inline const ::xtreemfs::pbrpc::FileCredentials& renameResponse::creds() const {
   return creds_ != NULL ? *creds_ : *default_instance_->creds_;
 }
-inline ::xtreemfs::pbrpc::FileCredentials* openResponse::mutable_creds() {
+inline ::xtreemfs::pbrpc::FileCredentials* renameResponse::mutable_creds() {
   set_has_creds();
   if (creds_ == NULL) creds_ = new ::xtreemfs::pbrpc::FileCredentials;
   return creds_;
 }
-inline ::xtreemfs::pbrpc::FileCredentials* openResponse::release_creds() {
+inline ::xtreemfs::pbrpc::FileCredentials* renameResponse::release_creds() {
   clear_has_creds();
   ::xtreemfs::pbrpc::FileCredentials* temp = creds_;
   creds_ = NULL;
   return temp;
 }
-inline void openResponse::set_allocated_creds(::xtreemfs::pbrpc::FileCredentials* creds) {
+inline void renameResponse::set_allocated_creds(::xtreemfs::pbrpc::FileCredentials* creds) {
   delete creds_;
   creds_ = creds;
   if (creds) {
@@ -9378,80 +11947,58 @@ inline void openResponse::set_allocated_creds(::xtreemfs::pbrpc::FileCredentials
   }
 }
 
-// required fixed32 timestamp_s = 2;
-inline bool openResponse::has_timestamp_s() const {
-  return (_has_bits_[0] & 0x00000002u) != 0;
-}
-inline void openResponse::set_has_timestamp_s() {
-  _has_bits_[0] |= 0x00000002u;
-}
-inline void openResponse::clear_has_timestamp_s() {
-  _has_bits_[0] &= ~0x00000002u;
-}
-inline void openResponse::clear_timestamp_s() {
-  timestamp_s_ = 0u;
-  clear_has_timestamp_s();
-}
-inline ::google::protobuf::uint32 openResponse::timestamp_s() const {
-  return timestamp_s_;
-}
-inline void openResponse::set_timestamp_s(::google::protobuf::uint32 value) {
-  set_has_timestamp_s();
-  timestamp_s_ = value;
-}
-
 // -------------------------------------------------------------------
 
-// readdirRequest
+// rmdirRequest
 
 // required string volume_name = 1;
-inline bool readdirRequest::has_volume_name() const {
+inline bool rmdirRequest::has_volume_name() const {
   return (_has_bits_[0] & 0x00000001u) != 0;
 }
-inline void readdirRequest::set_has_volume_name() {
+inline void rmdirRequest::set_has_volume_name() {
   _has_bits_[0] |= 0x00000001u;
 }
-inline void readdirRequest::clear_has_volume_name() {
+inline void rmdirRequest::clear_has_volume_name() {
   _has_bits_[0] &= ~0x00000001u;
 }
-inline void readdirRequest::clear_volume_name() {
+inline void rmdirRequest::clear_volume_name() {
   if (volume_name_ != &::google::protobuf::internal::kEmptyString) {
     volume_name_->clear();
   }
   clear_has_volume_name();
 }
-inline const ::std::string& readdirRequest::volume_name() const {
+inline const ::std::string& rmdirRequest::volume_name() const {
   return *volume_name_;
 }
-inline void readdirRequest::set_volume_name(const ::std::string& value) {
+inline void rmdirRequest::set_volume_name(const ::std::string& value) {
   set_has_volume_name();
   if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
     volume_name_ = new ::std::string;
   }
   volume_name_->assign(value);
 }
-inline void readdirRequest::set_volume_name(const char* value) {
+inline void rmdirRequest::set_volume_name(const char* value) {
   set_has_volume_name();
   if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
     volume_name_ = new ::std::string;
   }
   volume_name_->assign(value);
 }
-inline void readdirRequest::set_volume_name(const char* value, size_t size) {
+inline void rmdirRequest::set_volume_name(const char* value, size_t size) {
   set_has_volume_name();
   if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
     volume_name_ = new ::std::string;
   }
   volume_name_->assign(reinterpret_cast<const char*>(value), size);
 }
-inline ::std::string* readdirRequest::mutable_volume_name() {
+inline ::std::string* rmdirRequest::mutable_volume_name() {
   set_has_volume_name();
   if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
     volume_name_ = new ::std::string;
   }
   return volume_name_;
 }
-inline ::std::string* readdirRequest::release_volume_name() {
+inline ::std::string* rmdirRequest::release_volume_name() {
   clear_has_volume_name();
   if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
     return NULL;
@@ -9461,7 +12008,7 @@ inline ::std::string* readdirRequest::release_volume_name() {
     return temp;
   }
 }
-inline void readdirRequest::set_allocated_volume_name(::std::string* volume_name) {
+inline void rmdirRequest::set_allocated_volume_name(::std::string* volume_name) {
   if (volume_name_ != &::google::protobuf::internal::kEmptyString) {
     delete volume_name_;
   }
@@ -9475,53 +12022,53 @@ inline void readdirRequest::set_allocated_volume_name(::std::string* volume_name
 }
 
 // required string path = 2;
-inline bool readdirRequest::has_path() const {
+inline bool rmdirRequest::has_path() const {
   return (_has_bits_[0] & 0x00000002u) != 0;
 }
-inline void readdirRequest::set_has_path() {
+inline void rmdirRequest::set_has_path() {
   _has_bits_[0] |= 0x00000002u;
 }
-inline void readdirRequest::clear_has_path() {
+inline void rmdirRequest::clear_has_path() {
   _has_bits_[0] &= ~0x00000002u;
 }
-inline void readdirRequest::clear_path() {
+inline void rmdirRequest::clear_path() {
   if (path_ != &::google::protobuf::internal::kEmptyString) {
     path_->clear();
   }
   clear_has_path();
 }
-inline const ::std::string& readdirRequest::path() const {
+inline const ::std::string& rmdirRequest::path() const {
   return *path_;
 }
-inline void readdirRequest::set_path(const ::std::string& value) {
+inline void rmdirRequest::set_path(const ::std::string& value) {
   set_has_path();
   if (path_ == &::google::protobuf::internal::kEmptyString) {
     path_ = new ::std::string;
   }
   path_->assign(value);
 }
-inline void readdirRequest::set_path(const char* value) {
+inline void rmdirRequest::set_path(const char* value) {
   set_has_path();
   if (path_ == &::google::protobuf::internal::kEmptyString) {
     path_ = new ::std::string;
   }
   path_->assign(value);
 }
-inline void readdirRequest::set_path(const char* value, size_t size) {
+inline void rmdirRequest::set_path(const char* value, size_t size) {
   set_has_path();
   if (path_ == &::google::protobuf::internal::kEmptyString) {
     path_ = new ::std::string;
   }
   path_->assign(reinterpret_cast<const char*>(value), size);
 }
-inline ::std::string* readdirRequest::mutable_path() {
+inline ::std::string* rmdirRequest::mutable_path() {
   set_has_path();
   if (path_ == &::google::protobuf::internal::kEmptyString) {
     path_ = new ::std::string;
   }
   return path_;
 }
-inline ::std::string* readdirRequest::release_path() {
+inline ::std::string* rmdirRequest::release_path() {
   clear_has_path();
   if (path_ == &::google::protobuf::internal::kEmptyString) {
     return NULL;
@@ -9531,7 +12078,7 @@ inline ::std::string* readdirRequest::release_path() {
     return temp;
   }
 }
-inline void readdirRequest::set_allocated_path(::std::string* path) {
+inline void rmdirRequest::set_allocated_path(::std::string* path) {
   if (path_ != &::google::protobuf::internal::kEmptyString) {
     delete path_;
   }
@@ -9544,146 +12091,58 @@ inline void readdirRequest::set_allocated_path(::std::string* path) {
   }
 }
 
-// required fixed64 known_etag = 3;
-inline bool readdirRequest::has_known_etag() const {
-  return (_has_bits_[0] & 0x00000004u) != 0;
-}
-inline void readdirRequest::set_has_known_etag() {
-  _has_bits_[0] |= 0x00000004u;
-}
-inline void readdirRequest::clear_has_known_etag() {
-  _has_bits_[0] &= ~0x00000004u;
-}
-inline void readdirRequest::clear_known_etag() {
-  known_etag_ = GOOGLE_ULONGLONG(0);
-  clear_has_known_etag();
-}
-inline ::google::protobuf::uint64 readdirRequest::known_etag() const {
-  return known_etag_;
-}
-inline void readdirRequest::set_known_etag(::google::protobuf::uint64 value) {
-  set_has_known_etag();
-  known_etag_ = value;
-}
-
-// required fixed32 limit_directory_entries_count = 4;
-inline bool readdirRequest::has_limit_directory_entries_count() const {
-  return (_has_bits_[0] & 0x00000008u) != 0;
-}
-inline void readdirRequest::set_has_limit_directory_entries_count() {
-  _has_bits_[0] |= 0x00000008u;
-}
-inline void readdirRequest::clear_has_limit_directory_entries_count() {
-  _has_bits_[0] &= ~0x00000008u;
-}
-inline void readdirRequest::clear_limit_directory_entries_count() {
-  limit_directory_entries_count_ = 0u;
-  clear_has_limit_directory_entries_count();
-}
-inline ::google::protobuf::uint32 readdirRequest::limit_directory_entries_count() const {
-  return limit_directory_entries_count_;
-}
-inline void readdirRequest::set_limit_directory_entries_count(::google::protobuf::uint32 value) {
-  set_has_limit_directory_entries_count();
-  limit_directory_entries_count_ = value;
-}
-
-// required bool names_only = 5;
-inline bool readdirRequest::has_names_only() const {
-  return (_has_bits_[0] & 0x00000010u) != 0;
-}
-inline void readdirRequest::set_has_names_only() {
-  _has_bits_[0] |= 0x00000010u;
-}
-inline void readdirRequest::clear_has_names_only() {
-  _has_bits_[0] &= ~0x00000010u;
-}
-inline void readdirRequest::clear_names_only() {
-  names_only_ = false;
-  clear_has_names_only();
-}
-inline bool readdirRequest::names_only() const {
-  return names_only_;
-}
-inline void readdirRequest::set_names_only(bool value) {
-  set_has_names_only();
-  names_only_ = value;
-}
-
-// required fixed64 seen_directory_entries_count = 6;
-inline bool readdirRequest::has_seen_directory_entries_count() const {
-  return (_has_bits_[0] & 0x00000020u) != 0;
-}
-inline void readdirRequest::set_has_seen_directory_entries_count() {
-  _has_bits_[0] |= 0x00000020u;
-}
-inline void readdirRequest::clear_has_seen_directory_entries_count() {
-  _has_bits_[0] &= ~0x00000020u;
-}
-inline void readdirRequest::clear_seen_directory_entries_count() {
-  seen_directory_entries_count_ = GOOGLE_ULONGLONG(0);
-  clear_has_seen_directory_entries_count();
-}
-inline ::google::protobuf::uint64 readdirRequest::seen_directory_entries_count() const {
-  return seen_directory_entries_count_;
-}
-inline void readdirRequest::set_seen_directory_entries_count(::google::protobuf::uint64 value) {
-  set_has_seen_directory_entries_count();
-  seen_directory_entries_count_ = value;
-}
-
 // -------------------------------------------------------------------
 
-// readlinkRequest
+// setattrRequest
 
 // required string volume_name = 1;
-inline bool readlinkRequest::has_volume_name() const {
+inline bool setattrRequest::has_volume_name() const {
   return (_has_bits_[0] & 0x00000001u) != 0;
 }
-inline void readlinkRequest::set_has_volume_name() {
+inline void setattrRequest::set_has_volume_name() {
   _has_bits_[0] |= 0x00000001u;
 }
-inline void readlinkRequest::clear_has_volume_name() {
+inline void setattrRequest::clear_has_volume_name() {
   _has_bits_[0] &= ~0x00000001u;
 }
-inline void readlinkRequest::clear_volume_name() {
+inline void setattrRequest::clear_volume_name() {
   if (volume_name_ != &::google::protobuf::internal::kEmptyString) {
     volume_name_->clear();
   }
   clear_has_volume_name();
 }
-inline const ::std::string& readlinkRequest::volume_name() const {
+inline const ::std::string& setattrRequest::volume_name() const {
   return *volume_name_;
 }
-inline void readlinkRequest::set_volume_name(const ::std::string& value) {
+inline void setattrRequest::set_volume_name(const ::std::string& value) {
   set_has_volume_name();
   if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
     volume_name_ = new ::std::string;
   }
   volume_name_->assign(value);
 }
-inline void readlinkRequest::set_volume_name(const char* value) {
+inline void setattrRequest::set_volume_name(const char* value) {
   set_has_volume_name();
   if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
     volume_name_ = new ::std::string;
   }
   volume_name_->assign(value);
 }
-inline void readlinkRequest::set_volume_name(const char* value, size_t size) {
+inline void setattrRequest::set_volume_name(const char* value, size_t size) {
   set_has_volume_name();
   if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
     volume_name_ = new ::std::string;
   }
   volume_name_->assign(reinterpret_cast<const char*>(value), size);
 }
-inline ::std::string* readlinkRequest::mutable_volume_name() {
+inline ::std::string* setattrRequest::mutable_volume_name() {
   set_has_volume_name();
   if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
     volume_name_ = new ::std::string;
   }
   return volume_name_;
 }
-inline ::std::string* readlinkRequest::release_volume_name() {
+inline ::std::string* setattrRequest::release_volume_name() {
   clear_has_volume_name();
   if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
     return NULL;
@@ -9693,7 +12152,7 @@ inline ::std::string* readlinkRequest::release_volume_name() {
     return temp;
   }
 }
-inline void readlinkRequest::set_allocated_volume_name(::std::string* volume_name) {
+inline void setattrRequest::set_allocated_volume_name(::std::string* volume_name) {
   if (volume_name_ != &::google::protobuf::internal::kEmptyString) {
     delete volume_name_;
   }
@@ -9707,53 +12166,53 @@ inline void readlinkRequest::set_allocated_volume_name(::std::string* volume_nam
 }
 
 // required string path = 2;
-inline bool readlinkRequest::has_path() const {
+inline bool setattrRequest::has_path() const {
   return (_has_bits_[0] & 0x00000002u) != 0;
 }
-inline void readlinkRequest::set_has_path() {
+inline void setattrRequest::set_has_path() {
   _has_bits_[0] |= 0x00000002u;
 }
-inline void readlinkRequest::clear_has_path() {
+inline void setattrRequest::clear_has_path() {
   _has_bits_[0] &= ~0x00000002u;
 }
-inline void readlinkRequest::clear_path() {
+inline void setattrRequest::clear_path() {
   if (path_ != &::google::protobuf::internal::kEmptyString) {
     path_->clear();
   }
   clear_has_path();
 }
-inline const ::std::string& readlinkRequest::path() const {
+inline const ::std::string& setattrRequest::path() const {
   return *path_;
 }
-inline void readlinkRequest::set_path(const ::std::string& value) {
+inline void setattrRequest::set_path(const ::std::string& value) {
   set_has_path();
   if (path_ == &::google::protobuf::internal::kEmptyString) {
     path_ = new ::std::string;
   }
   path_->assign(value);
 }
-inline void readlinkRequest::set_path(const char* value) {
+inline void setattrRequest::set_path(const char* value) {
   set_has_path();
   if (path_ == &::google::protobuf::internal::kEmptyString) {
     path_ = new ::std::string;
   }
   path_->assign(value);
 }
-inline void readlinkRequest::set_path(const char* value, size_t size) {
+inline void setattrRequest::set_path(const char* value, size_t size) {
   set_has_path();
   if (path_ == &::google::protobuf::internal::kEmptyString) {
     path_ = new ::std::string;
   }
   path_->assign(reinterpret_cast<const char*>(value), size);
 }
-inline ::std::string* readlinkRequest::mutable_path() {
+inline ::std::string* setattrRequest::mutable_path() {
   set_has_path();
   if (path_ == &::google::protobuf::internal::kEmptyString) {
     path_ = new ::std::string;
   }
   return path_;
 }
-inline ::std::string* readlinkRequest::release_path() {
+inline ::std::string* setattrRequest::release_path() {
   clear_has_path();
   if (path_ == &::google::protobuf::internal::kEmptyString) {
     return NULL;
@@ -9763,7 +12222,7 @@ inline ::std::string* readlinkRequest::release_path() {
     return temp;
   }
 }
-inline void readlinkRequest::set_allocated_path(::std::string* path) {
+inline void setattrRequest::set_allocated_path(::std::string* path) {
   if (path_ != &::google::protobuf::internal::kEmptyString) {
     delete path_;
   }
@@ -9776,106 +12235,118 @@ inline void readlinkRequest::set_allocated_path(::std::string* path) {
   }
 }
 
-// -------------------------------------------------------------------
-
-// readlinkResponse
-
-// repeated string link_target_path = 1;
-inline int readlinkResponse::link_target_path_size() const {
-  return link_target_path_.size();
+// required .xtreemfs.pbrpc.Stat stbuf = 3;
+inline bool setattrRequest::has_stbuf() const {
+  return (_has_bits_[0] & 0x00000004u) != 0;
 }
-inline void readlinkResponse::clear_link_target_path() {
-  link_target_path_.Clear();
+inline void setattrRequest::set_has_stbuf() {
+  _has_bits_[0] |= 0x00000004u;
 }
-inline const ::std::string& readlinkResponse::link_target_path(int index) const {
-  return link_target_path_.Get(index);
+inline void setattrRequest::clear_has_stbuf() {
+  _has_bits_[0] &= ~0x00000004u;
 }
-inline ::std::string* readlinkResponse::mutable_link_target_path(int index) {
-  return link_target_path_.Mutable(index);
+inline void setattrRequest::clear_stbuf() {
+  if (stbuf_ != NULL) stbuf_->::xtreemfs::pbrpc::Stat::Clear();
+  clear_has_stbuf();
+}
+inline const ::xtreemfs::pbrpc::Stat& setattrRequest::stbuf() const {
+  return stbuf_ != NULL ? *stbuf_ : *default_instance_->stbuf_;
 }
-inline void readlinkResponse::set_link_target_path(int index, const ::std::string& value) {
-  link_target_path_.Mutable(index)->assign(value);
+inline ::xtreemfs::pbrpc::Stat* setattrRequest::mutable_stbuf() {
+  set_has_stbuf();
+  if (stbuf_ == NULL) stbuf_ = new ::xtreemfs::pbrpc::Stat;
+  return stbuf_;
 }
-inline void readlinkResponse::set_link_target_path(int index, const char* value) {
-  link_target_path_.Mutable(index)->assign(value);
+inline ::xtreemfs::pbrpc::Stat* setattrRequest::release_stbuf() {
+  clear_has_stbuf();
+  ::xtreemfs::pbrpc::Stat* temp = stbuf_;
+  stbuf_ = NULL;
+  return temp;
 }
-inline void readlinkResponse::set_link_target_path(int index, const char* value, size_t size) {
-  link_target_path_.Mutable(index)->assign(
-    reinterpret_cast<const char*>(value), size);
+inline void setattrRequest::set_allocated_stbuf(::xtreemfs::pbrpc::Stat* stbuf) {
+  delete stbuf_;
+  stbuf_ = stbuf;
+  if (stbuf) {
+    set_has_stbuf();
+  } else {
+    clear_has_stbuf();
+  }
 }
-inline ::std::string* readlinkResponse::add_link_target_path() {
-  return link_target_path_.Add();
+
+// required fixed32 to_set = 4;
+inline bool setattrRequest::has_to_set() const {
+  return (_has_bits_[0] & 0x00000008u) != 0;
 }
-inline void readlinkResponse::add_link_target_path(const ::std::string& value) {
-  link_target_path_.Add()->assign(value);
+inline void setattrRequest::set_has_to_set() {
+  _has_bits_[0] |= 0x00000008u;
 }
-inline void readlinkResponse::add_link_target_path(const char* value) {
-  link_target_path_.Add()->assign(value);
+inline void setattrRequest::clear_has_to_set() {
+  _has_bits_[0] &= ~0x00000008u;
 }
-inline void readlinkResponse::add_link_target_path(const char* value, size_t size) {
-  link_target_path_.Add()->assign(reinterpret_cast<const char*>(value), size);
+inline void setattrRequest::clear_to_set() {
+  to_set_ = 0u;
+  clear_has_to_set();
 }
-inline const ::google::protobuf::RepeatedPtrField< ::std::string>&
-readlinkResponse::link_target_path() const {
-  return link_target_path_;
+inline ::google::protobuf::uint32 setattrRequest::to_set() const {
+  return to_set_;
 }
-inline ::google::protobuf::RepeatedPtrField< ::std::string>*
-readlinkResponse::mutable_link_target_path() {
-  return &link_target_path_;
+inline void setattrRequest::set_to_set(::google::protobuf::uint32 value) {
+  set_has_to_set();
+  to_set_ = value;
 }
 
 // -------------------------------------------------------------------
 
-// removexattrRequest
+// setxattrRequest
 
 // required string volume_name = 1;
-inline bool removexattrRequest::has_volume_name() const {
+inline bool setxattrRequest::has_volume_name() const {
   return (_has_bits_[0] & 0x00000001u) != 0;
 }
-inline void removexattrRequest::set_has_volume_name() {
+inline void setxattrRequest::set_has_volume_name() {
   _has_bits_[0] |= 0x00000001u;
 }
-inline void removexattrRequest::clear_has_volume_name() {
+inline void setxattrRequest::clear_has_volume_name() {
   _has_bits_[0] &= ~0x00000001u;
 }
-inline void removexattrRequest::clear_volume_name() {
+inline void setxattrRequest::clear_volume_name() {
   if (volume_name_ != &::google::protobuf::internal::kEmptyString) {
     volume_name_->clear();
   }
   clear_has_volume_name();
 }
-inline const ::std::string& removexattrRequest::volume_name() const {
+inline const ::std::string& setxattrRequest::volume_name() const {
   return *volume_name_;
 }
-inline void removexattrRequest::set_volume_name(const ::std::string& value) {
+inline void setxattrRequest::set_volume_name(const ::std::string& value) {
   set_has_volume_name();
   if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
     volume_name_ = new ::std::string;
   }
   volume_name_->assign(value);
 }
-inline void removexattrRequest::set_volume_name(const char* value) {
+inline void setxattrRequest::set_volume_name(const char* value) {
   set_has_volume_name();
   if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
     volume_name_ = new ::std::string;
   }
   volume_name_->assign(value);
 }
-inline void removexattrRequest::set_volume_name(const char* value, size_t size) {
+inline void setxattrRequest::set_volume_name(const char* value, size_t size) {
   set_has_volume_name();
   if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
     volume_name_ = new ::std::string;
   }
   volume_name_->assign(reinterpret_cast<const char*>(value), size);
 }
-inline ::std::string* removexattrRequest::mutable_volume_name() {
+inline ::std::string* setxattrRequest::mutable_volume_name() {
   set_has_volume_name();
   if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
     volume_name_ = new ::std::string;
   }
   return volume_name_;
 }
-inline ::std::string* removexattrRequest::release_volume_name() {
+inline ::std::string* setxattrRequest::release_volume_name() {
   clear_has_volume_name();
   if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
     return NULL;
@@ -9885,7 +12356,7 @@ inline ::std::string* removexattrRequest::release_volume_name() {
     return temp;
   }
 }
-inline void removexattrRequest::set_allocated_volume_name(::std::string* volume_name) {
+inline void setxattrRequest::set_allocated_volume_name(::std::string* volume_name) {
   if (volume_name_ != &::google::protobuf::internal::kEmptyString) {
     delete volume_name_;
   }
@@ -9899,53 +12370,53 @@ inline void removexattrRequest::set_allocated_volume_name(::std::string* volume_
 }
 
 // required string path = 2;
-inline bool removexattrRequest::has_path() const {
+inline bool setxattrRequest::has_path() const {
   return (_has_bits_[0] & 0x00000002u) != 0;
 }
-inline void removexattrRequest::set_has_path() {
+inline void setxattrRequest::set_has_path() {
   _has_bits_[0] |= 0x00000002u;
 }
-inline void removexattrRequest::clear_has_path() {
+inline void setxattrRequest::clear_has_path() {
   _has_bits_[0] &= ~0x00000002u;
 }
-inline void removexattrRequest::clear_path() {
+inline void setxattrRequest::clear_path() {
   if (path_ != &::google::protobuf::internal::kEmptyString) {
     path_->clear();
   }
   clear_has_path();
 }
-inline const ::std::string& removexattrRequest::path() const {
+inline const ::std::string& setxattrRequest::path() const {
   return *path_;
 }
-inline void removexattrRequest::set_path(const ::std::string& value) {
+inline void setxattrRequest::set_path(const ::std::string& value) {
   set_has_path();
   if (path_ == &::google::protobuf::internal::kEmptyString) {
     path_ = new ::std::string;
   }
   path_->assign(value);
 }
-inline void removexattrRequest::set_path(const char* value) {
+inline void setxattrRequest::set_path(const char* value) {
   set_has_path();
   if (path_ == &::google::protobuf::internal::kEmptyString) {
     path_ = new ::std::string;
   }
   path_->assign(value);
 }
-inline void removexattrRequest::set_path(const char* value, size_t size) {
+inline void setxattrRequest::set_path(const char* value, size_t size) {
   set_has_path();
   if (path_ == &::google::protobuf::internal::kEmptyString) {
     path_ = new ::std::string;
   }
   path_->assign(reinterpret_cast<const char*>(value), size);
 }
-inline ::std::string* removexattrRequest::mutable_path() {
+inline ::std::string* setxattrRequest::mutable_path() {
   set_has_path();
   if (path_ == &::google::protobuf::internal::kEmptyString) {
     path_ = new ::std::string;
   }
   return path_;
 }
-inline ::std::string* removexattrRequest::release_path() {
+inline ::std::string* setxattrRequest::release_path() {
   clear_has_path();
   if (path_ == &::google::protobuf::internal::kEmptyString) {
     return NULL;
@@ -9955,7 +12426,7 @@ inline ::std::string* removexattrRequest::release_path() {
     return temp;
   }
 }
-inline void removexattrRequest::set_allocated_path(::std::string* path) {
+inline void setxattrRequest::set_allocated_path(::std::string* path) {
   if (path_ != &::google::protobuf::internal::kEmptyString) {
     delete path_;
   }
@@ -9969,127 +12440,289 @@ inline void removexattrRequest::set_allocated_path(::std::string* path) {
 }
 
 // required string name = 3;
-inline bool removexattrRequest::has_name() const {
+inline bool setxattrRequest::has_name() const {
   return (_has_bits_[0] & 0x00000004u) != 0;
 }
-inline void removexattrRequest::set_has_name() {
+inline void setxattrRequest::set_has_name() {
   _has_bits_[0] |= 0x00000004u;
 }
-inline void removexattrRequest::clear_has_name() {
+inline void setxattrRequest::clear_has_name() {
   _has_bits_[0] &= ~0x00000004u;
 }
-inline void removexattrRequest::clear_name() {
+inline void setxattrRequest::clear_name() {
   if (name_ != &::google::protobuf::internal::kEmptyString) {
     name_->clear();
   }
   clear_has_name();
 }
-inline const ::std::string& removexattrRequest::name() const {
+inline const ::std::string& setxattrRequest::name() const {
   return *name_;
 }
-inline void removexattrRequest::set_name(const ::std::string& value) {
+inline void setxattrRequest::set_name(const ::std::string& value) {
   set_has_name();
   if (name_ == &::google::protobuf::internal::kEmptyString) {
     name_ = new ::std::string;
   }
   name_->assign(value);
 }
-inline void removexattrRequest::set_name(const char* value) {
+inline void setxattrRequest::set_name(const char* value) {
   set_has_name();
   if (name_ == &::google::protobuf::internal::kEmptyString) {
     name_ = new ::std::string;
   }
   name_->assign(value);
 }
-inline void removexattrRequest::set_name(const char* value, size_t size) {
+inline void setxattrRequest::set_name(const char* value, size_t size) {
   set_has_name();
   if (name_ == &::google::protobuf::internal::kEmptyString) {
     name_ = new ::std::string;
   }
   name_->assign(reinterpret_cast<const char*>(value), size);
 }
-inline ::std::string* removexattrRequest::mutable_name() {
+inline ::std::string* setxattrRequest::mutable_name() {
   set_has_name();
   if (name_ == &::google::protobuf::internal::kEmptyString) {
     name_ = new ::std::string;
   }
-  return name_;
+  return name_;
+}
+inline ::std::string* setxattrRequest::release_name() {
+  clear_has_name();
+  if (name_ == &::google::protobuf::internal::kEmptyString) {
+    return NULL;
+  } else {
+    ::std::string* temp = name_;
+    name_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    return temp;
+  }
+}
+inline void setxattrRequest::set_allocated_name(::std::string* name) {
+  if (name_ != &::google::protobuf::internal::kEmptyString) {
+    delete name_;
+  }
+  if (name) {
+    set_has_name();
+    name_ = name;
+  } else {
+    clear_has_name();
+    name_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  }
+}
+
+// required string value = 4;
+inline bool setxattrRequest::has_value() const {
+  return (_has_bits_[0] & 0x00000008u) != 0;
+}
+inline void setxattrRequest::set_has_value() {
+  _has_bits_[0] |= 0x00000008u;
+}
+inline void setxattrRequest::clear_has_value() {
+  _has_bits_[0] &= ~0x00000008u;
+}
+inline void setxattrRequest::clear_value() {
+  if (value_ != &::google::protobuf::internal::kEmptyString) {
+    value_->clear();
+  }
+  clear_has_value();
+}
+inline const ::std::string& setxattrRequest::value() const {
+  return *value_;
+}
+inline void setxattrRequest::set_value(const ::std::string& value) {
+  set_has_value();
+  if (value_ == &::google::protobuf::internal::kEmptyString) {
+    value_ = new ::std::string;
+  }
+  value_->assign(value);
+}
+inline void setxattrRequest::set_value(const char* value) {
+  set_has_value();
+  if (value_ == &::google::protobuf::internal::kEmptyString) {
+    value_ = new ::std::string;
+  }
+  value_->assign(value);
+}
+inline void setxattrRequest::set_value(const char* value, size_t size) {
+  set_has_value();
+  if (value_ == &::google::protobuf::internal::kEmptyString) {
+    value_ = new ::std::string;
+  }
+  value_->assign(reinterpret_cast<const char*>(value), size);
+}
+inline ::std::string* setxattrRequest::mutable_value() {
+  set_has_value();
+  if (value_ == &::google::protobuf::internal::kEmptyString) {
+    value_ = new ::std::string;
+  }
+  return value_;
+}
+inline ::std::string* setxattrRequest::release_value() {
+  clear_has_value();
+  if (value_ == &::google::protobuf::internal::kEmptyString) {
+    return NULL;
+  } else {
+    ::std::string* temp = value_;
+    value_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    return temp;
+  }
+}
+inline void setxattrRequest::set_allocated_value(::std::string* value) {
+  if (value_ != &::google::protobuf::internal::kEmptyString) {
+    delete value_;
+  }
+  if (value) {
+    set_has_value();
+    value_ = value;
+  } else {
+    clear_has_value();
+    value_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  }
+}
+
+// optional bytes value_bytes_string = 6;
+inline bool setxattrRequest::has_value_bytes_string() const {
+  return (_has_bits_[0] & 0x00000010u) != 0;
+}
+inline void setxattrRequest::set_has_value_bytes_string() {
+  _has_bits_[0] |= 0x00000010u;
+}
+inline void setxattrRequest::clear_has_value_bytes_string() {
+  _has_bits_[0] &= ~0x00000010u;
+}
+inline void setxattrRequest::clear_value_bytes_string() {
+  if (value_bytes_string_ != &::google::protobuf::internal::kEmptyString) {
+    value_bytes_string_->clear();
+  }
+  clear_has_value_bytes_string();
+}
+inline const ::std::string& setxattrRequest::value_bytes_string() const {
+  return *value_bytes_string_;
+}
+inline void setxattrRequest::set_value_bytes_string(const ::std::string& value) {
+  set_has_value_bytes_string();
+  if (value_bytes_string_ == &::google::protobuf::internal::kEmptyString) {
+    value_bytes_string_ = new ::std::string;
+  }
+  value_bytes_string_->assign(value);
+}
+inline void setxattrRequest::set_value_bytes_string(const char* value) {
+  set_has_value_bytes_string();
+  if (value_bytes_string_ == &::google::protobuf::internal::kEmptyString) {
+    value_bytes_string_ = new ::std::string;
+  }
+  value_bytes_string_->assign(value);
+}
+inline void setxattrRequest::set_value_bytes_string(const void* value, size_t size) {
+  set_has_value_bytes_string();
+  if (value_bytes_string_ == &::google::protobuf::internal::kEmptyString) {
+    value_bytes_string_ = new ::std::string;
+  }
+  value_bytes_string_->assign(reinterpret_cast<const char*>(value), size);
+}
+inline ::std::string* setxattrRequest::mutable_value_bytes_string() {
+  set_has_value_bytes_string();
+  if (value_bytes_string_ == &::google::protobuf::internal::kEmptyString) {
+    value_bytes_string_ = new ::std::string;
+  }
+  return value_bytes_string_;
 }
-inline ::std::string* removexattrRequest::release_name() {
-  clear_has_name();
-  if (name_ == &::google::protobuf::internal::kEmptyString) {
+inline ::std::string* setxattrRequest::release_value_bytes_string() {
+  clear_has_value_bytes_string();
+  if (value_bytes_string_ == &::google::protobuf::internal::kEmptyString) {
     return NULL;
   } else {
-    ::std::string* temp = name_;
-    name_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    ::std::string* temp = value_bytes_string_;
+    value_bytes_string_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
     return temp;
   }
 }
-inline void removexattrRequest::set_allocated_name(::std::string* name) {
-  if (name_ != &::google::protobuf::internal::kEmptyString) {
-    delete name_;
+inline void setxattrRequest::set_allocated_value_bytes_string(::std::string* value_bytes_string) {
+  if (value_bytes_string_ != &::google::protobuf::internal::kEmptyString) {
+    delete value_bytes_string_;
   }
-  if (name) {
-    set_has_name();
-    name_ = name;
+  if (value_bytes_string) {
+    set_has_value_bytes_string();
+    value_bytes_string_ = value_bytes_string;
   } else {
-    clear_has_name();
-    name_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    clear_has_value_bytes_string();
+    value_bytes_string_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
   }
 }
 
+// required fixed32 flags = 5;
+inline bool setxattrRequest::has_flags() const {
+  return (_has_bits_[0] & 0x00000020u) != 0;
+}
+inline void setxattrRequest::set_has_flags() {
+  _has_bits_[0] |= 0x00000020u;
+}
+inline void setxattrRequest::clear_has_flags() {
+  _has_bits_[0] &= ~0x00000020u;
+}
+inline void setxattrRequest::clear_flags() {
+  flags_ = 0u;
+  clear_has_flags();
+}
+inline ::google::protobuf::uint32 setxattrRequest::flags() const {
+  return flags_;
+}
+inline void setxattrRequest::set_flags(::google::protobuf::uint32 value) {
+  set_has_flags();
+  flags_ = value;
+}
+
 // -------------------------------------------------------------------
 
-// renameRequest
+// statvfsRequest
 
 // required string volume_name = 1;
-inline bool renameRequest::has_volume_name() const {
+inline bool statvfsRequest::has_volume_name() const {
   return (_has_bits_[0] & 0x00000001u) != 0;
 }
-inline void renameRequest::set_has_volume_name() {
+inline void statvfsRequest::set_has_volume_name() {
   _has_bits_[0] |= 0x00000001u;
 }
-inline void renameRequest::clear_has_volume_name() {
+inline void statvfsRequest::clear_has_volume_name() {
   _has_bits_[0] &= ~0x00000001u;
 }
-inline void renameRequest::clear_volume_name() {
+inline void statvfsRequest::clear_volume_name() {
   if (volume_name_ != &::google::protobuf::internal::kEmptyString) {
     volume_name_->clear();
   }
   clear_has_volume_name();
 }
-inline const ::std::string& renameRequest::volume_name() const {
+inline const ::std::string& statvfsRequest::volume_name() const {
   return *volume_name_;
 }
-inline void renameRequest::set_volume_name(const ::std::string& value) {
+inline void statvfsRequest::set_volume_name(const ::std::string& value) {
   set_has_volume_name();
   if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
     volume_name_ = new ::std::string;
   }
   volume_name_->assign(value);
 }
-inline void renameRequest::set_volume_name(const char* value) {
+inline void statvfsRequest::set_volume_name(const char* value) {
   set_has_volume_name();
   if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
     volume_name_ = new ::std::string;
   }
   volume_name_->assign(value);
 }
-inline void renameRequest::set_volume_name(const char* value, size_t size) {
+inline void statvfsRequest::set_volume_name(const char* value, size_t size) {
   set_has_volume_name();
   if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
     volume_name_ = new ::std::string;
   }
   volume_name_->assign(reinterpret_cast<const char*>(value), size);
 }
-inline ::std::string* renameRequest::mutable_volume_name() {
+inline ::std::string* statvfsRequest::mutable_volume_name() {
   set_has_volume_name();
   if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
     volume_name_ = new ::std::string;
   }
   return volume_name_;
 }
-inline ::std::string* renameRequest::release_volume_name() {
+inline ::std::string* statvfsRequest::release_volume_name() {
   clear_has_volume_name();
   if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
     return NULL;
@@ -10099,7 +12732,7 @@ inline ::std::string* renameRequest::release_volume_name() {
     return temp;
   }
 }
-inline void renameRequest::set_allocated_volume_name(::std::string* volume_name) {
+inline void statvfsRequest::set_allocated_volume_name(::std::string* volume_name) {
   if (volume_name_ != &::google::protobuf::internal::kEmptyString) {
     delete volume_name_;
   }
@@ -10112,262 +12745,80 @@ inline void renameRequest::set_allocated_volume_name(::std::string* volume_name)
   }
 }
 
-// required string source_path = 2;
-inline bool renameRequest::has_source_path() const {
-  return (_has_bits_[0] & 0x00000002u) != 0;
-}
-inline void renameRequest::set_has_source_path() {
-  _has_bits_[0] |= 0x00000002u;
-}
-inline void renameRequest::clear_has_source_path() {
-  _has_bits_[0] &= ~0x00000002u;
-}
-inline void renameRequest::clear_source_path() {
-  if (source_path_ != &::google::protobuf::internal::kEmptyString) {
-    source_path_->clear();
-  }
-  clear_has_source_path();
-}
-inline const ::std::string& renameRequest::source_path() const {
-  return *source_path_;
-}
-inline void renameRequest::set_source_path(const ::std::string& value) {
-  set_has_source_path();
-  if (source_path_ == &::google::protobuf::internal::kEmptyString) {
-    source_path_ = new ::std::string;
-  }
-  source_path_->assign(value);
-}
-inline void renameRequest::set_source_path(const char* value) {
-  set_has_source_path();
-  if (source_path_ == &::google::protobuf::internal::kEmptyString) {
-    source_path_ = new ::std::string;
-  }
-  source_path_->assign(value);
-}
-inline void renameRequest::set_source_path(const char* value, size_t size) {
-  set_has_source_path();
-  if (source_path_ == &::google::protobuf::internal::kEmptyString) {
-    source_path_ = new ::std::string;
-  }
-  source_path_->assign(reinterpret_cast<const char*>(value), size);
-}
-inline ::std::string* renameRequest::mutable_source_path() {
-  set_has_source_path();
-  if (source_path_ == &::google::protobuf::internal::kEmptyString) {
-    source_path_ = new ::std::string;
-  }
-  return source_path_;
-}
-inline ::std::string* renameRequest::release_source_path() {
-  clear_has_source_path();
-  if (source_path_ == &::google::protobuf::internal::kEmptyString) {
-    return NULL;
-  } else {
-    ::std::string* temp = source_path_;
-    source_path_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
-    return temp;
-  }
-}
-inline void renameRequest::set_allocated_source_path(::std::string* source_path) {
-  if (source_path_ != &::google::protobuf::internal::kEmptyString) {
-    delete source_path_;
-  }
-  if (source_path) {
-    set_has_source_path();
-    source_path_ = source_path;
-  } else {
-    clear_has_source_path();
-    source_path_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
-  }
-}
-
-// required string target_path = 3;
-inline bool renameRequest::has_target_path() const {
-  return (_has_bits_[0] & 0x00000004u) != 0;
-}
-inline void renameRequest::set_has_target_path() {
-  _has_bits_[0] |= 0x00000004u;
-}
-inline void renameRequest::clear_has_target_path() {
-  _has_bits_[0] &= ~0x00000004u;
-}
-inline void renameRequest::clear_target_path() {
-  if (target_path_ != &::google::protobuf::internal::kEmptyString) {
-    target_path_->clear();
-  }
-  clear_has_target_path();
-}
-inline const ::std::string& renameRequest::target_path() const {
-  return *target_path_;
-}
-inline void renameRequest::set_target_path(const ::std::string& value) {
-  set_has_target_path();
-  if (target_path_ == &::google::protobuf::internal::kEmptyString) {
-    target_path_ = new ::std::string;
-  }
-  target_path_->assign(value);
-}
-inline void renameRequest::set_target_path(const char* value) {
-  set_has_target_path();
-  if (target_path_ == &::google::protobuf::internal::kEmptyString) {
-    target_path_ = new ::std::string;
-  }
-  target_path_->assign(value);
-}
-inline void renameRequest::set_target_path(const char* value, size_t size) {
-  set_has_target_path();
-  if (target_path_ == &::google::protobuf::internal::kEmptyString) {
-    target_path_ = new ::std::string;
-  }
-  target_path_->assign(reinterpret_cast<const char*>(value), size);
-}
-inline ::std::string* renameRequest::mutable_target_path() {
-  set_has_target_path();
-  if (target_path_ == &::google::protobuf::internal::kEmptyString) {
-    target_path_ = new ::std::string;
-  }
-  return target_path_;
-}
-inline ::std::string* renameRequest::release_target_path() {
-  clear_has_target_path();
-  if (target_path_ == &::google::protobuf::internal::kEmptyString) {
-    return NULL;
-  } else {
-    ::std::string* temp = target_path_;
-    target_path_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
-    return temp;
-  }
-}
-inline void renameRequest::set_allocated_target_path(::std::string* target_path) {
-  if (target_path_ != &::google::protobuf::internal::kEmptyString) {
-    delete target_path_;
-  }
-  if (target_path) {
-    set_has_target_path();
-    target_path_ = target_path;
-  } else {
-    clear_has_target_path();
-    target_path_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
-  }
-}
-
-// -------------------------------------------------------------------
-
-// renameResponse
-
-// required fixed32 timestamp_s = 1;
-inline bool renameResponse::has_timestamp_s() const {
-  return (_has_bits_[0] & 0x00000001u) != 0;
-}
-inline void renameResponse::set_has_timestamp_s() {
-  _has_bits_[0] |= 0x00000001u;
-}
-inline void renameResponse::clear_has_timestamp_s() {
-  _has_bits_[0] &= ~0x00000001u;
-}
-inline void renameResponse::clear_timestamp_s() {
-  timestamp_s_ = 0u;
-  clear_has_timestamp_s();
-}
-inline ::google::protobuf::uint32 renameResponse::timestamp_s() const {
-  return timestamp_s_;
-}
-inline void renameResponse::set_timestamp_s(::google::protobuf::uint32 value) {
-  set_has_timestamp_s();
-  timestamp_s_ = value;
-}
-
-// optional .xtreemfs.pbrpc.FileCredentials creds = 2;
-inline bool renameResponse::has_creds() const {
+// required fixed64 known_etag = 5;
+inline bool statvfsRequest::has_known_etag() const {
   return (_has_bits_[0] & 0x00000002u) != 0;
 }
-inline void renameResponse::set_has_creds() {
+inline void statvfsRequest::set_has_known_etag() {
   _has_bits_[0] |= 0x00000002u;
 }
-inline void renameResponse::clear_has_creds() {
-  _has_bits_[0] &= ~0x00000002u;
-}
-inline void renameResponse::clear_creds() {
-  if (creds_ != NULL) creds_->::xtreemfs::pbrpc::FileCredentials::Clear();
-  clear_has_creds();
-}
-inline const ::xtreemfs::pbrpc::FileCredentials& renameResponse::creds() const {
-  return creds_ != NULL ? *creds_ : *default_instance_->creds_;
+inline void statvfsRequest::clear_has_known_etag() {
+  _has_bits_[0] &= ~0x00000002u;
 }
-inline ::xtreemfs::pbrpc::FileCredentials* renameResponse::mutable_creds() {
-  set_has_creds();
-  if (creds_ == NULL) creds_ = new ::xtreemfs::pbrpc::FileCredentials;
-  return creds_;
+inline void statvfsRequest::clear_known_etag() {
+  known_etag_ = GOOGLE_ULONGLONG(0);
+  clear_has_known_etag();
 }
-inline ::xtreemfs::pbrpc::FileCredentials* renameResponse::release_creds() {
-  clear_has_creds();
-  ::xtreemfs::pbrpc::FileCredentials* temp = creds_;
-  creds_ = NULL;
-  return temp;
+inline ::google::protobuf::uint64 statvfsRequest::known_etag() const {
+  return known_etag_;
 }
-inline void renameResponse::set_allocated_creds(::xtreemfs::pbrpc::FileCredentials* creds) {
-  delete creds_;
-  creds_ = creds;
-  if (creds) {
-    set_has_creds();
-  } else {
-    clear_has_creds();
-  }
+inline void statvfsRequest::set_known_etag(::google::protobuf::uint64 value) {
+  set_has_known_etag();
+  known_etag_ = value;
 }
 
 // -------------------------------------------------------------------
 
-// rmdirRequest
+// symlinkRequest
 
 // required string volume_name = 1;
-inline bool rmdirRequest::has_volume_name() const {
+inline bool symlinkRequest::has_volume_name() const {
   return (_has_bits_[0] & 0x00000001u) != 0;
 }
-inline void rmdirRequest::set_has_volume_name() {
+inline void symlinkRequest::set_has_volume_name() {
   _has_bits_[0] |= 0x00000001u;
 }
-inline void rmdirRequest::clear_has_volume_name() {
+inline void symlinkRequest::clear_has_volume_name() {
   _has_bits_[0] &= ~0x00000001u;
 }
-inline void rmdirRequest::clear_volume_name() {
+inline void symlinkRequest::clear_volume_name() {
   if (volume_name_ != &::google::protobuf::internal::kEmptyString) {
     volume_name_->clear();
   }
   clear_has_volume_name();
 }
-inline const ::std::string& rmdirRequest::volume_name() const {
+inline const ::std::string& symlinkRequest::volume_name() const {
   return *volume_name_;
 }
-inline void rmdirRequest::set_volume_name(const ::std::string& value) {
+inline void symlinkRequest::set_volume_name(const ::std::string& value) {
   set_has_volume_name();
   if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
     volume_name_ = new ::std::string;
   }
   volume_name_->assign(value);
 }
-inline void rmdirRequest::set_volume_name(const char* value) {
+inline void symlinkRequest::set_volume_name(const char* value) {
   set_has_volume_name();
   if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
     volume_name_ = new ::std::string;
   }
   volume_name_->assign(value);
 }
-inline void rmdirRequest::set_volume_name(const char* value, size_t size) {
+inline void symlinkRequest::set_volume_name(const char* value, size_t size) {
   set_has_volume_name();
   if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
     volume_name_ = new ::std::string;
   }
   volume_name_->assign(reinterpret_cast<const char*>(value), size);
 }
-inline ::std::string* rmdirRequest::mutable_volume_name() {
+inline ::std::string* symlinkRequest::mutable_volume_name() {
   set_has_volume_name();
   if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
     volume_name_ = new ::std::string;
   }
   return volume_name_;
 }
-inline ::std::string* rmdirRequest::release_volume_name() {
+inline ::std::string* symlinkRequest::release_volume_name() {
   clear_has_volume_name();
   if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
     return NULL;
@@ -10377,7 +12828,7 @@ inline ::std::string* rmdirRequest::release_volume_name() {
     return temp;
   }
 }
-inline void rmdirRequest::set_allocated_volume_name(::std::string* volume_name) {
+inline void symlinkRequest::set_allocated_volume_name(::std::string* volume_name) {
   if (volume_name_ != &::google::protobuf::internal::kEmptyString) {
     delete volume_name_;
   }
@@ -10390,128 +12841,198 @@ inline void rmdirRequest::set_allocated_volume_name(::std::string* volume_name)
   }
 }
 
-// required string path = 2;
-inline bool rmdirRequest::has_path() const {
+// required string target_path = 2;
+inline bool symlinkRequest::has_target_path() const {
   return (_has_bits_[0] & 0x00000002u) != 0;
 }
-inline void rmdirRequest::set_has_path() {
+inline void symlinkRequest::set_has_target_path() {
   _has_bits_[0] |= 0x00000002u;
 }
-inline void rmdirRequest::clear_has_path() {
+inline void symlinkRequest::clear_has_target_path() {
   _has_bits_[0] &= ~0x00000002u;
 }
-inline void rmdirRequest::clear_path() {
-  if (path_ != &::google::protobuf::internal::kEmptyString) {
-    path_->clear();
+inline void symlinkRequest::clear_target_path() {
+  if (target_path_ != &::google::protobuf::internal::kEmptyString) {
+    target_path_->clear();
   }
-  clear_has_path();
+  clear_has_target_path();
 }
-inline const ::std::string& rmdirRequest::path() const {
-  return *path_;
+inline const ::std::string& symlinkRequest::target_path() const {
+  return *target_path_;
 }
-inline void rmdirRequest::set_path(const ::std::string& value) {
-  set_has_path();
-  if (path_ == &::google::protobuf::internal::kEmptyString) {
-    path_ = new ::std::string;
+inline void symlinkRequest::set_target_path(const ::std::string& value) {
+  set_has_target_path();
+  if (target_path_ == &::google::protobuf::internal::kEmptyString) {
+    target_path_ = new ::std::string;
   }
-  path_->assign(value);
+  target_path_->assign(value);
 }
-inline void rmdirRequest::set_path(const char* value) {
-  set_has_path();
-  if (path_ == &::google::protobuf::internal::kEmptyString) {
-    path_ = new ::std::string;
+inline void symlinkRequest::set_target_path(const char* value) {
+  set_has_target_path();
+  if (target_path_ == &::google::protobuf::internal::kEmptyString) {
+    target_path_ = new ::std::string;
   }
-  path_->assign(value);
+  target_path_->assign(value);
 }
-inline void rmdirRequest::set_path(const char* value, size_t size) {
-  set_has_path();
-  if (path_ == &::google::protobuf::internal::kEmptyString) {
-    path_ = new ::std::string;
+inline void symlinkRequest::set_target_path(const char* value, size_t size) {
+  set_has_target_path();
+  if (target_path_ == &::google::protobuf::internal::kEmptyString) {
+    target_path_ = new ::std::string;
   }
-  path_->assign(reinterpret_cast<const char*>(value), size);
+  target_path_->assign(reinterpret_cast<const char*>(value), size);
 }
-inline ::std::string* rmdirRequest::mutable_path() {
-  set_has_path();
-  if (path_ == &::google::protobuf::internal::kEmptyString) {
-    path_ = new ::std::string;
+inline ::std::string* symlinkRequest::mutable_target_path() {
+  set_has_target_path();
+  if (target_path_ == &::google::protobuf::internal::kEmptyString) {
+    target_path_ = new ::std::string;
   }
-  return path_;
+  return target_path_;
 }
-inline ::std::string* rmdirRequest::release_path() {
-  clear_has_path();
-  if (path_ == &::google::protobuf::internal::kEmptyString) {
+inline ::std::string* symlinkRequest::release_target_path() {
+  clear_has_target_path();
+  if (target_path_ == &::google::protobuf::internal::kEmptyString) {
     return NULL;
   } else {
-    ::std::string* temp = path_;
-    path_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    ::std::string* temp = target_path_;
+    target_path_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
     return temp;
   }
 }
-inline void rmdirRequest::set_allocated_path(::std::string* path) {
-  if (path_ != &::google::protobuf::internal::kEmptyString) {
-    delete path_;
+inline void symlinkRequest::set_allocated_target_path(::std::string* target_path) {
+  if (target_path_ != &::google::protobuf::internal::kEmptyString) {
+    delete target_path_;
   }
-  if (path) {
-    set_has_path();
-    path_ = path;
+  if (target_path) {
+    set_has_target_path();
+    target_path_ = target_path;
   } else {
-    clear_has_path();
-    path_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    clear_has_target_path();
+    target_path_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  }
+}
+
+// required string link_path = 3;
+inline bool symlinkRequest::has_link_path() const {
+  return (_has_bits_[0] & 0x00000004u) != 0;
+}
+inline void symlinkRequest::set_has_link_path() {
+  _has_bits_[0] |= 0x00000004u;
+}
+inline void symlinkRequest::clear_has_link_path() {
+  _has_bits_[0] &= ~0x00000004u;
+}
+inline void symlinkRequest::clear_link_path() {
+  if (link_path_ != &::google::protobuf::internal::kEmptyString) {
+    link_path_->clear();
+  }
+  clear_has_link_path();
+}
+inline const ::std::string& symlinkRequest::link_path() const {
+  return *link_path_;
+}
+inline void symlinkRequest::set_link_path(const ::std::string& value) {
+  set_has_link_path();
+  if (link_path_ == &::google::protobuf::internal::kEmptyString) {
+    link_path_ = new ::std::string;
+  }
+  link_path_->assign(value);
+}
+inline void symlinkRequest::set_link_path(const char* value) {
+  set_has_link_path();
+  if (link_path_ == &::google::protobuf::internal::kEmptyString) {
+    link_path_ = new ::std::string;
+  }
+  link_path_->assign(value);
+}
+inline void symlinkRequest::set_link_path(const char* value, size_t size) {
+  set_has_link_path();
+  if (link_path_ == &::google::protobuf::internal::kEmptyString) {
+    link_path_ = new ::std::string;
+  }
+  link_path_->assign(reinterpret_cast<const char*>(value), size);
+}
+inline ::std::string* symlinkRequest::mutable_link_path() {
+  set_has_link_path();
+  if (link_path_ == &::google::protobuf::internal::kEmptyString) {
+    link_path_ = new ::std::string;
+  }
+  return link_path_;
+}
+inline ::std::string* symlinkRequest::release_link_path() {
+  clear_has_link_path();
+  if (link_path_ == &::google::protobuf::internal::kEmptyString) {
+    return NULL;
+  } else {
+    ::std::string* temp = link_path_;
+    link_path_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    return temp;
+  }
+}
+inline void symlinkRequest::set_allocated_link_path(::std::string* link_path) {
+  if (link_path_ != &::google::protobuf::internal::kEmptyString) {
+    delete link_path_;
+  }
+  if (link_path) {
+    set_has_link_path();
+    link_path_ = link_path;
+  } else {
+    clear_has_link_path();
+    link_path_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
   }
 }
 
 // -------------------------------------------------------------------
 
-// setattrRequest
+// unlinkRequest
 
 // required string volume_name = 1;
-inline bool setattrRequest::has_volume_name() const {
+inline bool unlinkRequest::has_volume_name() const {
   return (_has_bits_[0] & 0x00000001u) != 0;
 }
-inline void setattrRequest::set_has_volume_name() {
+inline void unlinkRequest::set_has_volume_name() {
   _has_bits_[0] |= 0x00000001u;
 }
-inline void setattrRequest::clear_has_volume_name() {
+inline void unlinkRequest::clear_has_volume_name() {
   _has_bits_[0] &= ~0x00000001u;
 }
-inline void setattrRequest::clear_volume_name() {
+inline void unlinkRequest::clear_volume_name() {
   if (volume_name_ != &::google::protobuf::internal::kEmptyString) {
     volume_name_->clear();
   }
   clear_has_volume_name();
 }
-inline const ::std::string& setattrRequest::volume_name() const {
+inline const ::std::string& unlinkRequest::volume_name() const {
   return *volume_name_;
 }
-inline void setattrRequest::set_volume_name(const ::std::string& value) {
+inline void unlinkRequest::set_volume_name(const ::std::string& value) {
   set_has_volume_name();
   if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
     volume_name_ = new ::std::string;
   }
   volume_name_->assign(value);
 }
-inline void setattrRequest::set_volume_name(const char* value) {
+inline void unlinkRequest::set_volume_name(const char* value) {
   set_has_volume_name();
   if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
     volume_name_ = new ::std::string;
   }
   volume_name_->assign(value);
 }
-inline void setattrRequest::set_volume_name(const char* value, size_t size) {
+inline void unlinkRequest::set_volume_name(const char* value, size_t size) {
   set_has_volume_name();
   if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
     volume_name_ = new ::std::string;
   }
   volume_name_->assign(reinterpret_cast<const char*>(value), size);
 }
-inline ::std::string* setattrRequest::mutable_volume_name() {
+inline ::std::string* unlinkRequest::mutable_volume_name() {
   set_has_volume_name();
   if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
     volume_name_ = new ::std::string;
   }
   return volume_name_;
 }
-inline ::std::string* setattrRequest::release_volume_name() {
+inline ::std::string* unlinkRequest::release_volume_name() {
   clear_has_volume_name();
   if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
     return NULL;
@@ -10521,7 +13042,7 @@ inline ::std::string* setattrRequest::release_volume_name() {
     return temp;
   }
 }
-inline void setattrRequest::set_allocated_volume_name(::std::string* volume_name) {
+inline void unlinkRequest::set_allocated_volume_name(::std::string* volume_name) {
   if (volume_name_ != &::google::protobuf::internal::kEmptyString) {
     delete volume_name_;
   }
@@ -10535,53 +13056,53 @@ inline void setattrRequest::set_allocated_volume_name(::std::string* volume_name
 }
 
 // required string path = 2;
-inline bool setattrRequest::has_path() const {
+inline bool unlinkRequest::has_path() const {
   return (_has_bits_[0] & 0x00000002u) != 0;
 }
-inline void setattrRequest::set_has_path() {
+inline void unlinkRequest::set_has_path() {
   _has_bits_[0] |= 0x00000002u;
 }
-inline void setattrRequest::clear_has_path() {
+inline void unlinkRequest::clear_has_path() {
   _has_bits_[0] &= ~0x00000002u;
 }
-inline void setattrRequest::clear_path() {
+inline void unlinkRequest::clear_path() {
   if (path_ != &::google::protobuf::internal::kEmptyString) {
     path_->clear();
   }
   clear_has_path();
 }
-inline const ::std::string& setattrRequest::path() const {
+inline const ::std::string& unlinkRequest::path() const {
   return *path_;
 }
-inline void setattrRequest::set_path(const ::std::string& value) {
+inline void unlinkRequest::set_path(const ::std::string& value) {
   set_has_path();
   if (path_ == &::google::protobuf::internal::kEmptyString) {
     path_ = new ::std::string;
   }
   path_->assign(value);
 }
-inline void setattrRequest::set_path(const char* value) {
+inline void unlinkRequest::set_path(const char* value) {
   set_has_path();
   if (path_ == &::google::protobuf::internal::kEmptyString) {
     path_ = new ::std::string;
   }
   path_->assign(value);
 }
-inline void setattrRequest::set_path(const char* value, size_t size) {
+inline void unlinkRequest::set_path(const char* value, size_t size) {
   set_has_path();
   if (path_ == &::google::protobuf::internal::kEmptyString) {
     path_ = new ::std::string;
   }
   path_->assign(reinterpret_cast<const char*>(value), size);
 }
-inline ::std::string* setattrRequest::mutable_path() {
+inline ::std::string* unlinkRequest::mutable_path() {
   set_has_path();
   if (path_ == &::google::protobuf::internal::kEmptyString) {
     path_ = new ::std::string;
   }
   return path_;
 }
-inline ::std::string* setattrRequest::release_path() {
+inline ::std::string* unlinkRequest::release_path() {
   clear_has_path();
   if (path_ == &::google::protobuf::internal::kEmptyString) {
     return NULL;
@@ -10591,7 +13112,7 @@ inline ::std::string* setattrRequest::release_path() {
     return temp;
   }
 }
-inline void setattrRequest::set_allocated_path(::std::string* path) {
+inline void unlinkRequest::set_allocated_path(::std::string* path) {
   if (path_ != &::google::protobuf::internal::kEmptyString) {
     delete path_;
   }
@@ -10604,118 +13125,122 @@ inline void setattrRequest::set_allocated_path(::std::string* path) {
   }
 }
 
-// required .xtreemfs.pbrpc.Stat stbuf = 3;
-inline bool setattrRequest::has_stbuf() const {
-  return (_has_bits_[0] & 0x00000004u) != 0;
+// -------------------------------------------------------------------
+
+// unlinkResponse
+
+// required fixed32 timestamp_s = 1;
+inline bool unlinkResponse::has_timestamp_s() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
 }
-inline void setattrRequest::set_has_stbuf() {
-  _has_bits_[0] |= 0x00000004u;
+inline void unlinkResponse::set_has_timestamp_s() {
+  _has_bits_[0] |= 0x00000001u;
 }
-inline void setattrRequest::clear_has_stbuf() {
-  _has_bits_[0] &= ~0x00000004u;
+inline void unlinkResponse::clear_has_timestamp_s() {
+  _has_bits_[0] &= ~0x00000001u;
 }
-inline void setattrRequest::clear_stbuf() {
-  if (stbuf_ != NULL) stbuf_->::xtreemfs::pbrpc::Stat::Clear();
-  clear_has_stbuf();
+inline void unlinkResponse::clear_timestamp_s() {
+  timestamp_s_ = 0u;
+  clear_has_timestamp_s();
 }
-inline const ::xtreemfs::pbrpc::Stat& setattrRequest::stbuf() const {
-  return stbuf_ != NULL ? *stbuf_ : *default_instance_->stbuf_;
+inline ::google::protobuf::uint32 unlinkResponse::timestamp_s() const {
+  return timestamp_s_;
 }
-inline ::xtreemfs::pbrpc::Stat* setattrRequest::mutable_stbuf() {
-  set_has_stbuf();
-  if (stbuf_ == NULL) stbuf_ = new ::xtreemfs::pbrpc::Stat;
-  return stbuf_;
+inline void unlinkResponse::set_timestamp_s(::google::protobuf::uint32 value) {
+  set_has_timestamp_s();
+  timestamp_s_ = value;
 }
-inline ::xtreemfs::pbrpc::Stat* setattrRequest::release_stbuf() {
-  clear_has_stbuf();
-  ::xtreemfs::pbrpc::Stat* temp = stbuf_;
-  stbuf_ = NULL;
-  return temp;
+
+// optional .xtreemfs.pbrpc.FileCredentials creds = 2;
+inline bool unlinkResponse::has_creds() const {
+  return (_has_bits_[0] & 0x00000002u) != 0;
 }
-inline void setattrRequest::set_allocated_stbuf(::xtreemfs::pbrpc::Stat* stbuf) {
-  delete stbuf_;
-  stbuf_ = stbuf;
-  if (stbuf) {
-    set_has_stbuf();
-  } else {
-    clear_has_stbuf();
-  }
+inline void unlinkResponse::set_has_creds() {
+  _has_bits_[0] |= 0x00000002u;
 }
-
-// required fixed32 to_set = 4;
-inline bool setattrRequest::has_to_set() const {
-  return (_has_bits_[0] & 0x00000008u) != 0;
+inline void unlinkResponse::clear_has_creds() {
+  _has_bits_[0] &= ~0x00000002u;
 }
-inline void setattrRequest::set_has_to_set() {
-  _has_bits_[0] |= 0x00000008u;
+inline void unlinkResponse::clear_creds() {
+  if (creds_ != NULL) creds_->::xtreemfs::pbrpc::FileCredentials::Clear();
+  clear_has_creds();
 }
-inline void setattrRequest::clear_has_to_set() {
-  _has_bits_[0] &= ~0x00000008u;
+inline const ::xtreemfs::pbrpc::FileCredentials& unlinkResponse::creds() const {
+  return creds_ != NULL ? *creds_ : *default_instance_->creds_;
 }
-inline void setattrRequest::clear_to_set() {
-  to_set_ = 0u;
-  clear_has_to_set();
+inline ::xtreemfs::pbrpc::FileCredentials* unlinkResponse::mutable_creds() {
+  set_has_creds();
+  if (creds_ == NULL) creds_ = new ::xtreemfs::pbrpc::FileCredentials;
+  return creds_;
 }
-inline ::google::protobuf::uint32 setattrRequest::to_set() const {
-  return to_set_;
+inline ::xtreemfs::pbrpc::FileCredentials* unlinkResponse::release_creds() {
+  clear_has_creds();
+  ::xtreemfs::pbrpc::FileCredentials* temp = creds_;
+  creds_ = NULL;
+  return temp;
 }
-inline void setattrRequest::set_to_set(::google::protobuf::uint32 value) {
-  set_has_to_set();
-  to_set_ = value;
+inline void unlinkResponse::set_allocated_creds(::xtreemfs::pbrpc::FileCredentials* creds) {
+  delete creds_;
+  creds_ = creds;
+  if (creds) {
+    set_has_creds();
+  } else {
+    clear_has_creds();
+  }
 }
 
 // -------------------------------------------------------------------
 
-// setxattrRequest
+// accessRequest
 
 // required string volume_name = 1;
-inline bool setxattrRequest::has_volume_name() const {
+inline bool accessRequest::has_volume_name() const {
   return (_has_bits_[0] & 0x00000001u) != 0;
 }
-inline void setxattrRequest::set_has_volume_name() {
+inline void accessRequest::set_has_volume_name() {
   _has_bits_[0] |= 0x00000001u;
 }
-inline void setxattrRequest::clear_has_volume_name() {
+inline void accessRequest::clear_has_volume_name() {
   _has_bits_[0] &= ~0x00000001u;
 }
-inline void setxattrRequest::clear_volume_name() {
+inline void accessRequest::clear_volume_name() {
   if (volume_name_ != &::google::protobuf::internal::kEmptyString) {
     volume_name_->clear();
   }
   clear_has_volume_name();
 }
-inline const ::std::string& setxattrRequest::volume_name() const {
+inline const ::std::string& accessRequest::volume_name() const {
   return *volume_name_;
 }
-inline void setxattrRequest::set_volume_name(const ::std::string& value) {
+inline void accessRequest::set_volume_name(const ::std::string& value) {
   set_has_volume_name();
   if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
     volume_name_ = new ::std::string;
   }
   volume_name_->assign(value);
 }
-inline void setxattrRequest::set_volume_name(const char* value) {
+inline void accessRequest::set_volume_name(const char* value) {
   set_has_volume_name();
   if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
     volume_name_ = new ::std::string;
   }
   volume_name_->assign(value);
 }
-inline void setxattrRequest::set_volume_name(const char* value, size_t size) {
+inline void accessRequest::set_volume_name(const char* value, size_t size) {
   set_has_volume_name();
   if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
     volume_name_ = new ::std::string;
   }
   volume_name_->assign(reinterpret_cast<const char*>(value), size);
 }
-inline ::std::string* setxattrRequest::mutable_volume_name() {
+inline ::std::string* accessRequest::mutable_volume_name() {
   set_has_volume_name();
   if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
     volume_name_ = new ::std::string;
   }
   return volume_name_;
 }
-inline ::std::string* setxattrRequest::release_volume_name() {
+inline ::std::string* accessRequest::release_volume_name() {
   clear_has_volume_name();
   if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
     return NULL;
@@ -10725,7 +13250,7 @@ inline ::std::string* setxattrRequest::release_volume_name() {
     return temp;
   }
 }
-inline void setxattrRequest::set_allocated_volume_name(::std::string* volume_name) {
+inline void accessRequest::set_allocated_volume_name(::std::string* volume_name) {
   if (volume_name_ != &::google::protobuf::internal::kEmptyString) {
     delete volume_name_;
   }
@@ -10739,53 +13264,53 @@ inline void setxattrRequest::set_allocated_volume_name(::std::string* volume_nam
 }
 
 // required string path = 2;
-inline bool setxattrRequest::has_path() const {
+inline bool accessRequest::has_path() const {
   return (_has_bits_[0] & 0x00000002u) != 0;
 }
-inline void setxattrRequest::set_has_path() {
+inline void accessRequest::set_has_path() {
   _has_bits_[0] |= 0x00000002u;
 }
-inline void setxattrRequest::clear_has_path() {
+inline void accessRequest::clear_has_path() {
   _has_bits_[0] &= ~0x00000002u;
 }
-inline void setxattrRequest::clear_path() {
+inline void accessRequest::clear_path() {
   if (path_ != &::google::protobuf::internal::kEmptyString) {
     path_->clear();
   }
   clear_has_path();
 }
-inline const ::std::string& setxattrRequest::path() const {
+inline const ::std::string& accessRequest::path() const {
   return *path_;
 }
-inline void setxattrRequest::set_path(const ::std::string& value) {
+inline void accessRequest::set_path(const ::std::string& value) {
   set_has_path();
   if (path_ == &::google::protobuf::internal::kEmptyString) {
     path_ = new ::std::string;
   }
   path_->assign(value);
 }
-inline void setxattrRequest::set_path(const char* value) {
+inline void accessRequest::set_path(const char* value) {
   set_has_path();
   if (path_ == &::google::protobuf::internal::kEmptyString) {
     path_ = new ::std::string;
   }
   path_->assign(value);
 }
-inline void setxattrRequest::set_path(const char* value, size_t size) {
+inline void accessRequest::set_path(const char* value, size_t size) {
   set_has_path();
   if (path_ == &::google::protobuf::internal::kEmptyString) {
     path_ = new ::std::string;
   }
   path_->assign(reinterpret_cast<const char*>(value), size);
 }
-inline ::std::string* setxattrRequest::mutable_path() {
+inline ::std::string* accessRequest::mutable_path() {
   set_has_path();
   if (path_ == &::google::protobuf::internal::kEmptyString) {
     path_ = new ::std::string;
   }
   return path_;
 }
-inline ::std::string* setxattrRequest::release_path() {
+inline ::std::string* accessRequest::release_path() {
   clear_has_path();
   if (path_ == &::google::protobuf::internal::kEmptyString) {
     return NULL;
@@ -10795,7 +13320,7 @@ inline ::std::string* setxattrRequest::release_path() {
     return temp;
   }
 }
-inline void setxattrRequest::set_allocated_path(::std::string* path) {
+inline void accessRequest::set_allocated_path(::std::string* path) {
   if (path_ != &::google::protobuf::internal::kEmptyString) {
     delete path_;
   }
@@ -10808,600 +13333,535 @@ inline void setxattrRequest::set_allocated_path(::std::string* path) {
   }
 }
 
-// required string name = 3;
-inline bool setxattrRequest::has_name() const {
+// required fixed32 flags = 3;
+inline bool accessRequest::has_flags() const {
   return (_has_bits_[0] & 0x00000004u) != 0;
 }
-inline void setxattrRequest::set_has_name() {
+inline void accessRequest::set_has_flags() {
   _has_bits_[0] |= 0x00000004u;
 }
-inline void setxattrRequest::clear_has_name() {
+inline void accessRequest::clear_has_flags() {
   _has_bits_[0] &= ~0x00000004u;
 }
-inline void setxattrRequest::clear_name() {
-  if (name_ != &::google::protobuf::internal::kEmptyString) {
-    name_->clear();
-  }
-  clear_has_name();
-}
-inline const ::std::string& setxattrRequest::name() const {
-  return *name_;
-}
-inline void setxattrRequest::set_name(const ::std::string& value) {
-  set_has_name();
-  if (name_ == &::google::protobuf::internal::kEmptyString) {
-    name_ = new ::std::string;
-  }
-  name_->assign(value);
-}
-inline void setxattrRequest::set_name(const char* value) {
-  set_has_name();
-  if (name_ == &::google::protobuf::internal::kEmptyString) {
-    name_ = new ::std::string;
-  }
-  name_->assign(value);
-}
-inline void setxattrRequest::set_name(const char* value, size_t size) {
-  set_has_name();
-  if (name_ == &::google::protobuf::internal::kEmptyString) {
-    name_ = new ::std::string;
-  }
-  name_->assign(reinterpret_cast<const char*>(value), size);
-}
-inline ::std::string* setxattrRequest::mutable_name() {
-  set_has_name();
-  if (name_ == &::google::protobuf::internal::kEmptyString) {
-    name_ = new ::std::string;
-  }
-  return name_;
+inline void accessRequest::clear_flags() {
+  flags_ = 0u;
+  clear_has_flags();
 }
-inline ::std::string* setxattrRequest::release_name() {
-  clear_has_name();
-  if (name_ == &::google::protobuf::internal::kEmptyString) {
-    return NULL;
-  } else {
-    ::std::string* temp = name_;
-    name_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
-    return temp;
-  }
+inline ::google::protobuf::uint32 accessRequest::flags() const {
+  return flags_;
 }
-inline void setxattrRequest::set_allocated_name(::std::string* name) {
-  if (name_ != &::google::protobuf::internal::kEmptyString) {
-    delete name_;
-  }
-  if (name) {
-    set_has_name();
-    name_ = name;
-  } else {
-    clear_has_name();
-    name_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
-  }
+inline void accessRequest::set_flags(::google::protobuf::uint32 value) {
+  set_has_flags();
+  flags_ = value;
 }
 
-// required string value = 4;
-inline bool setxattrRequest::has_value() const {
-  return (_has_bits_[0] & 0x00000008u) != 0;
+// -------------------------------------------------------------------
+
+// xtreemfs_check_file_existsRequest
+
+// required string volume_id = 1;
+inline bool xtreemfs_check_file_existsRequest::has_volume_id() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
 }
-inline void setxattrRequest::set_has_value() {
-  _has_bits_[0] |= 0x00000008u;
+inline void xtreemfs_check_file_existsRequest::set_has_volume_id() {
+  _has_bits_[0] |= 0x00000001u;
 }
-inline void setxattrRequest::clear_has_value() {
-  _has_bits_[0] &= ~0x00000008u;
+inline void xtreemfs_check_file_existsRequest::clear_has_volume_id() {
+  _has_bits_[0] &= ~0x00000001u;
 }
-inline void setxattrRequest::clear_value() {
-  if (value_ != &::google::protobuf::internal::kEmptyString) {
-    value_->clear();
+inline void xtreemfs_check_file_existsRequest::clear_volume_id() {
+  if (volume_id_ != &::google::protobuf::internal::kEmptyString) {
+    volume_id_->clear();
   }
-  clear_has_value();
+  clear_has_volume_id();
 }
-inline const ::std::string& setxattrRequest::value() const {
-  return *value_;
+inline const ::std::string& xtreemfs_check_file_existsRequest::volume_id() const {
+  return *volume_id_;
 }
-inline void setxattrRequest::set_value(const ::std::string& value) {
-  set_has_value();
-  if (value_ == &::google::protobuf::internal::kEmptyString) {
-    value_ = new ::std::string;
+inline void xtreemfs_check_file_existsRequest::set_volume_id(const ::std::string& value) {
+  set_has_volume_id();
+  if (volume_id_ == &::google::protobuf::internal::kEmptyString) {
+    volume_id_ = new ::std::string;
   }
-  value_->assign(value);
+  volume_id_->assign(value);
 }
-inline void setxattrRequest::set_value(const char* value) {
-  set_has_value();
-  if (value_ == &::google::protobuf::internal::kEmptyString) {
-    value_ = new ::std::string;
+inline void xtreemfs_check_file_existsRequest::set_volume_id(const char* value) {
+  set_has_volume_id();
+  if (volume_id_ == &::google::protobuf::internal::kEmptyString) {
+    volume_id_ = new ::std::string;
   }
-  value_->assign(value);
+  volume_id_->assign(value);
 }
-inline void setxattrRequest::set_value(const char* value, size_t size) {
-  set_has_value();
-  if (value_ == &::google::protobuf::internal::kEmptyString) {
-    value_ = new ::std::string;
+inline void xtreemfs_check_file_existsRequest::set_volume_id(const char* value, size_t size) {
+  set_has_volume_id();
+  if (volume_id_ == &::google::protobuf::internal::kEmptyString) {
+    volume_id_ = new ::std::string;
   }
-  value_->assign(reinterpret_cast<const char*>(value), size);
+  volume_id_->assign(reinterpret_cast<const char*>(value), size);
 }
-inline ::std::string* setxattrRequest::mutable_value() {
-  set_has_value();
-  if (value_ == &::google::protobuf::internal::kEmptyString) {
-    value_ = new ::std::string;
+inline ::std::string* xtreemfs_check_file_existsRequest::mutable_volume_id() {
+  set_has_volume_id();
+  if (volume_id_ == &::google::protobuf::internal::kEmptyString) {
+    volume_id_ = new ::std::string;
   }
-  return value_;
+  return volume_id_;
 }
-inline ::std::string* setxattrRequest::release_value() {
-  clear_has_value();
-  if (value_ == &::google::protobuf::internal::kEmptyString) {
+inline ::std::string* xtreemfs_check_file_existsRequest::release_volume_id() {
+  clear_has_volume_id();
+  if (volume_id_ == &::google::protobuf::internal::kEmptyString) {
     return NULL;
   } else {
-    ::std::string* temp = value_;
-    value_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    ::std::string* temp = volume_id_;
+    volume_id_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
     return temp;
   }
 }
-inline void setxattrRequest::set_allocated_value(::std::string* value) {
-  if (value_ != &::google::protobuf::internal::kEmptyString) {
-    delete value_;
+inline void xtreemfs_check_file_existsRequest::set_allocated_volume_id(::std::string* volume_id) {
+  if (volume_id_ != &::google::protobuf::internal::kEmptyString) {
+    delete volume_id_;
   }
-  if (value) {
-    set_has_value();
-    value_ = value;
+  if (volume_id) {
+    set_has_volume_id();
+    volume_id_ = volume_id;
   } else {
-    clear_has_value();
-    value_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    clear_has_volume_id();
+    volume_id_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
   }
 }
 
-// optional bytes value_bytes_string = 6;
-inline bool setxattrRequest::has_value_bytes_string() const {
-  return (_has_bits_[0] & 0x00000010u) != 0;
+// repeated string file_ids = 2;
+inline int xtreemfs_check_file_existsRequest::file_ids_size() const {
+  return file_ids_.size();
 }
-inline void setxattrRequest::set_has_value_bytes_string() {
-  _has_bits_[0] |= 0x00000010u;
+inline void xtreemfs_check_file_existsRequest::clear_file_ids() {
+  file_ids_.Clear();
 }
-inline void setxattrRequest::clear_has_value_bytes_string() {
-  _has_bits_[0] &= ~0x00000010u;
+inline const ::std::string& xtreemfs_check_file_existsRequest::file_ids(int index) const {
+  return file_ids_.Get(index);
 }
-inline void setxattrRequest::clear_value_bytes_string() {
-  if (value_bytes_string_ != &::google::protobuf::internal::kEmptyString) {
-    value_bytes_string_->clear();
+inline ::std::string* xtreemfs_check_file_existsRequest::mutable_file_ids(int index) {
+  return file_ids_.Mutable(index);
+}
+inline void xtreemfs_check_file_existsRequest::set_file_ids(int index, const ::std::string& value) {
+  file_ids_.Mutable(index)->assign(value);
+}
+inline void xtreemfs_check_file_existsRequest::set_file_ids(int index, const char* value) {
+  file_ids_.Mutable(index)->assign(value);
+}
+inline void xtreemfs_check_file_existsRequest::set_file_ids(int index, const char* value, size_t size) {
+  file_ids_.Mutable(index)->assign(
+    reinterpret_cast<const char*>(value), size);
+}
+inline ::std::string* xtreemfs_check_file_existsRequest::add_file_ids() {
+  return file_ids_.Add();
+}
+inline void xtreemfs_check_file_existsRequest::add_file_ids(const ::std::string& value) {
+  file_ids_.Add()->assign(value);
+}
+inline void xtreemfs_check_file_existsRequest::add_file_ids(const char* value) {
+  file_ids_.Add()->assign(value);
+}
+inline void xtreemfs_check_file_existsRequest::add_file_ids(const char* value, size_t size) {
+  file_ids_.Add()->assign(reinterpret_cast<const char*>(value), size);
+}
+inline const ::google::protobuf::RepeatedPtrField< ::std::string>&
+xtreemfs_check_file_existsRequest::file_ids() const {
+  return file_ids_;
+}
+inline ::google::protobuf::RepeatedPtrField< ::std::string>*
+xtreemfs_check_file_existsRequest::mutable_file_ids() {
+  return &file_ids_;
+}
+
+// required string osd_uuid = 3;
+inline bool xtreemfs_check_file_existsRequest::has_osd_uuid() const {
+  return (_has_bits_[0] & 0x00000004u) != 0;
+}
+inline void xtreemfs_check_file_existsRequest::set_has_osd_uuid() {
+  _has_bits_[0] |= 0x00000004u;
+}
+inline void xtreemfs_check_file_existsRequest::clear_has_osd_uuid() {
+  _has_bits_[0] &= ~0x00000004u;
+}
+inline void xtreemfs_check_file_existsRequest::clear_osd_uuid() {
+  if (osd_uuid_ != &::google::protobuf::internal::kEmptyString) {
+    osd_uuid_->clear();
   }
-  clear_has_value_bytes_string();
+  clear_has_osd_uuid();
 }
-inline const ::std::string& setxattrRequest::value_bytes_string() const {
-  return *value_bytes_string_;
+inline const ::std::string& xtreemfs_check_file_existsRequest::osd_uuid() const {
+  return *osd_uuid_;
 }
-inline void setxattrRequest::set_value_bytes_string(const ::std::string& value) {
-  set_has_value_bytes_string();
-  if (value_bytes_string_ == &::google::protobuf::internal::kEmptyString) {
-    value_bytes_string_ = new ::std::string;
+inline void xtreemfs_check_file_existsRequest::set_osd_uuid(const ::std::string& value) {
+  set_has_osd_uuid();
+  if (osd_uuid_ == &::google::protobuf::internal::kEmptyString) {
+    osd_uuid_ = new ::std::string;
   }
-  value_bytes_string_->assign(value);
+  osd_uuid_->assign(value);
 }
-inline void setxattrRequest::set_value_bytes_string(const char* value) {
-  set_has_value_bytes_string();
-  if (value_bytes_string_ == &::google::protobuf::internal::kEmptyString) {
-    value_bytes_string_ = new ::std::string;
+inline void xtreemfs_check_file_existsRequest::set_osd_uuid(const char* value) {
+  set_has_osd_uuid();
+  if (osd_uuid_ == &::google::protobuf::internal::kEmptyString) {
+    osd_uuid_ = new ::std::string;
   }
-  value_bytes_string_->assign(value);
+  osd_uuid_->assign(value);
 }
-inline void setxattrRequest::set_value_bytes_string(const void* value, size_t size) {
-  set_has_value_bytes_string();
-  if (value_bytes_string_ == &::google::protobuf::internal::kEmptyString) {
-    value_bytes_string_ = new ::std::string;
+inline void xtreemfs_check_file_existsRequest::set_osd_uuid(const char* value, size_t size) {
+  set_has_osd_uuid();
+  if (osd_uuid_ == &::google::protobuf::internal::kEmptyString) {
+    osd_uuid_ = new ::std::string;
   }
-  value_bytes_string_->assign(reinterpret_cast<const char*>(value), size);
+  osd_uuid_->assign(reinterpret_cast<const char*>(value), size);
 }
-inline ::std::string* setxattrRequest::mutable_value_bytes_string() {
-  set_has_value_bytes_string();
-  if (value_bytes_string_ == &::google::protobuf::internal::kEmptyString) {
-    value_bytes_string_ = new ::std::string;
+inline ::std::string* xtreemfs_check_file_existsRequest::mutable_osd_uuid() {
+  set_has_osd_uuid();
+  if (osd_uuid_ == &::google::protobuf::internal::kEmptyString) {
+    osd_uuid_ = new ::std::string;
   }
-  return value_bytes_string_;
+  return osd_uuid_;
 }
-inline ::std::string* setxattrRequest::release_value_bytes_string() {
-  clear_has_value_bytes_string();
-  if (value_bytes_string_ == &::google::protobuf::internal::kEmptyString) {
+inline ::std::string* xtreemfs_check_file_existsRequest::release_osd_uuid() {
+  clear_has_osd_uuid();
+  if (osd_uuid_ == &::google::protobuf::internal::kEmptyString) {
     return NULL;
   } else {
-    ::std::string* temp = value_bytes_string_;
-    value_bytes_string_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    ::std::string* temp = osd_uuid_;
+    osd_uuid_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
     return temp;
   }
 }
-inline void setxattrRequest::set_allocated_value_bytes_string(::std::string* value_bytes_string) {
-  if (value_bytes_string_ != &::google::protobuf::internal::kEmptyString) {
-    delete value_bytes_string_;
+inline void xtreemfs_check_file_existsRequest::set_allocated_osd_uuid(::std::string* osd_uuid) {
+  if (osd_uuid_ != &::google::protobuf::internal::kEmptyString) {
+    delete osd_uuid_;
   }
-  if (value_bytes_string) {
-    set_has_value_bytes_string();
-    value_bytes_string_ = value_bytes_string;
+  if (osd_uuid) {
+    set_has_osd_uuid();
+    osd_uuid_ = osd_uuid;
   } else {
-    clear_has_value_bytes_string();
-    value_bytes_string_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    clear_has_osd_uuid();
+    osd_uuid_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
   }
 }
 
-// required fixed32 flags = 5;
-inline bool setxattrRequest::has_flags() const {
-  return (_has_bits_[0] & 0x00000020u) != 0;
-}
-inline void setxattrRequest::set_has_flags() {
-  _has_bits_[0] |= 0x00000020u;
-}
-inline void setxattrRequest::clear_has_flags() {
-  _has_bits_[0] &= ~0x00000020u;
-}
-inline void setxattrRequest::clear_flags() {
-  flags_ = 0u;
-  clear_has_flags();
-}
-inline ::google::protobuf::uint32 setxattrRequest::flags() const {
-  return flags_;
-}
-inline void setxattrRequest::set_flags(::google::protobuf::uint32 value) {
-  set_has_flags();
-  flags_ = value;
-}
-
 // -------------------------------------------------------------------
 
-// statvfsRequest
+// xtreemfs_check_file_existsResponse
 
-// required string volume_name = 1;
-inline bool statvfsRequest::has_volume_name() const {
+// required bool volume_exists = 1;
+inline bool xtreemfs_check_file_existsResponse::has_volume_exists() const {
   return (_has_bits_[0] & 0x00000001u) != 0;
 }
-inline void statvfsRequest::set_has_volume_name() {
+inline void xtreemfs_check_file_existsResponse::set_has_volume_exists() {
   _has_bits_[0] |= 0x00000001u;
 }
-inline void statvfsRequest::clear_has_volume_name() {
+inline void xtreemfs_check_file_existsResponse::clear_has_volume_exists() {
   _has_bits_[0] &= ~0x00000001u;
 }
-inline void statvfsRequest::clear_volume_name() {
-  if (volume_name_ != &::google::protobuf::internal::kEmptyString) {
-    volume_name_->clear();
-  }
-  clear_has_volume_name();
-}
-inline const ::std::string& statvfsRequest::volume_name() const {
-  return *volume_name_;
-}
-inline void statvfsRequest::set_volume_name(const ::std::string& value) {
-  set_has_volume_name();
-  if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
-    volume_name_ = new ::std::string;
-  }
-  volume_name_->assign(value);
-}
-inline void statvfsRequest::set_volume_name(const char* value) {
-  set_has_volume_name();
-  if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
-    volume_name_ = new ::std::string;
-  }
-  volume_name_->assign(value);
-}
-inline void statvfsRequest::set_volume_name(const char* value, size_t size) {
-  set_has_volume_name();
-  if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
-    volume_name_ = new ::std::string;
-  }
-  volume_name_->assign(reinterpret_cast<const char*>(value), size);
-}
-inline ::std::string* statvfsRequest::mutable_volume_name() {
-  set_has_volume_name();
-  if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
-    volume_name_ = new ::std::string;
-  }
-  return volume_name_;
+inline void xtreemfs_check_file_existsResponse::clear_volume_exists() {
+  volume_exists_ = false;
+  clear_has_volume_exists();
 }
-inline ::std::string* statvfsRequest::release_volume_name() {
-  clear_has_volume_name();
-  if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
-    return NULL;
-  } else {
-    ::std::string* temp = volume_name_;
-    volume_name_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
-    return temp;
-  }
+inline bool xtreemfs_check_file_existsResponse::volume_exists() const {
+  return volume_exists_;
 }
-inline void statvfsRequest::set_allocated_volume_name(::std::string* volume_name) {
-  if (volume_name_ != &::google::protobuf::internal::kEmptyString) {
-    delete volume_name_;
-  }
-  if (volume_name) {
-    set_has_volume_name();
-    volume_name_ = volume_name;
-  } else {
-    clear_has_volume_name();
-    volume_name_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
-  }
+inline void xtreemfs_check_file_existsResponse::set_volume_exists(bool value) {
+  set_has_volume_exists();
+  volume_exists_ = value;
 }
 
-// required fixed64 known_etag = 5;
-inline bool statvfsRequest::has_known_etag() const {
-  return (_has_bits_[0] & 0x00000002u) != 0;
+// repeated .xtreemfs.pbrpc.xtreemfs_check_file_existsResponse.FILE_STATE file_states = 2 [packed = true];
+inline int xtreemfs_check_file_existsResponse::file_states_size() const {
+  return file_states_.size();
 }
-inline void statvfsRequest::set_has_known_etag() {
-  _has_bits_[0] |= 0x00000002u;
+inline void xtreemfs_check_file_existsResponse::clear_file_states() {
+  file_states_.Clear();
 }
-inline void statvfsRequest::clear_has_known_etag() {
-  _has_bits_[0] &= ~0x00000002u;
+inline ::xtreemfs::pbrpc::xtreemfs_check_file_existsResponse_FILE_STATE xtreemfs_check_file_existsResponse::file_states(int index) const {
+  return static_cast< ::xtreemfs::pbrpc::xtreemfs_check_file_existsResponse_FILE_STATE >(file_states_.Get(index));
 }
-inline void statvfsRequest::clear_known_etag() {
-  known_etag_ = GOOGLE_ULONGLONG(0);
-  clear_has_known_etag();
+inline void xtreemfs_check_file_existsResponse::set_file_states(int index, ::xtreemfs::pbrpc::xtreemfs_check_file_existsResponse_FILE_STATE value) {
+  assert(::xtreemfs::pbrpc::xtreemfs_check_file_existsResponse_FILE_STATE_IsValid(value));
+  file_states_.Set(index, value);
 }
-inline ::google::protobuf::uint64 statvfsRequest::known_etag() const {
-  return known_etag_;
+inline void xtreemfs_check_file_existsResponse::add_file_states(::xtreemfs::pbrpc::xtreemfs_check_file_existsResponse_FILE_STATE value) {
+  assert(::xtreemfs::pbrpc::xtreemfs_check_file_existsResponse_FILE_STATE_IsValid(value));
+  file_states_.Add(value);
 }
-inline void statvfsRequest::set_known_etag(::google::protobuf::uint64 value) {
-  set_has_known_etag();
-  known_etag_ = value;
+inline const ::google::protobuf::RepeatedField<int>&
+xtreemfs_check_file_existsResponse::file_states() const {
+  return file_states_;
+}
+inline ::google::protobuf::RepeatedField<int>*
+xtreemfs_check_file_existsResponse::mutable_file_states() {
+  return &file_states_;
 }
 
 // -------------------------------------------------------------------
 
-// symlinkRequest
+// xtreemfs_dump_restore_databaseRequest
 
-// required string volume_name = 1;
-inline bool symlinkRequest::has_volume_name() const {
+// required string dump_file = 1;
+inline bool xtreemfs_dump_restore_databaseRequest::has_dump_file() const {
   return (_has_bits_[0] & 0x00000001u) != 0;
 }
-inline void symlinkRequest::set_has_volume_name() {
+inline void xtreemfs_dump_restore_databaseRequest::set_has_dump_file() {
   _has_bits_[0] |= 0x00000001u;
 }
-inline void symlinkRequest::clear_has_volume_name() {
+inline void xtreemfs_dump_restore_databaseRequest::clear_has_dump_file() {
   _has_bits_[0] &= ~0x00000001u;
 }
-inline void symlinkRequest::clear_volume_name() {
-  if (volume_name_ != &::google::protobuf::internal::kEmptyString) {
-    volume_name_->clear();
+inline void xtreemfs_dump_restore_databaseRequest::clear_dump_file() {
+  if (dump_file_ != &::google::protobuf::internal::kEmptyString) {
+    dump_file_->clear();
   }
-  clear_has_volume_name();
+  clear_has_dump_file();
 }
-inline const ::std::string& symlinkRequest::volume_name() const {
-  return *volume_name_;
+inline const ::std::string& xtreemfs_dump_restore_databaseRequest::dump_file() const {
+  return *dump_file_;
 }
-inline void symlinkRequest::set_volume_name(const ::std::string& value) {
-  set_has_volume_name();
-  if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
-    volume_name_ = new ::std::string;
+inline void xtreemfs_dump_restore_databaseRequest::set_dump_file(const ::std::string& value) {
+  set_has_dump_file();
+  if (dump_file_ == &::google::protobuf::internal::kEmptyString) {
+    dump_file_ = new ::std::string;
   }
-  volume_name_->assign(value);
+  dump_file_->assign(value);
 }
-inline void symlinkRequest::set_volume_name(const char* value) {
-  set_has_volume_name();
-  if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
-    volume_name_ = new ::std::string;
+inline void xtreemfs_dump_restore_databaseRequest::set_dump_file(const char* value) {
+  set_has_dump_file();
+  if (dump_file_ == &::google::protobuf::internal::kEmptyString) {
+    dump_file_ = new ::std::string;
   }
-  volume_name_->assign(value);
+  dump_file_->assign(value);
 }
-inline void symlinkRequest::set_volume_name(const char* value, size_t size) {
-  set_has_volume_name();
-  if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
-    volume_name_ = new ::std::string;
+inline void xtreemfs_dump_restore_databaseRequest::set_dump_file(const char* value, size_t size) {
+  set_has_dump_file();
+  if (dump_file_ == &::google::protobuf::internal::kEmptyString) {
+    dump_file_ = new ::std::string;
   }
-  volume_name_->assign(reinterpret_cast<const char*>(value), size);
+  dump_file_->assign(reinterpret_cast<const char*>(value), size);
 }
-inline ::std::string* symlinkRequest::mutable_volume_name() {
-  set_has_volume_name();
-  if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
-    volume_name_ = new ::std::string;
+inline ::std::string* xtreemfs_dump_restore_databaseRequest::mutable_dump_file() {
+  set_has_dump_file();
+  if (dump_file_ == &::google::protobuf::internal::kEmptyString) {
+    dump_file_ = new ::std::string;
   }
-  return volume_name_;
+  return dump_file_;
 }
-inline ::std::string* symlinkRequest::release_volume_name() {
-  clear_has_volume_name();
-  if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
+inline ::std::string* xtreemfs_dump_restore_databaseRequest::release_dump_file() {
+  clear_has_dump_file();
+  if (dump_file_ == &::google::protobuf::internal::kEmptyString) {
     return NULL;
   } else {
-    ::std::string* temp = volume_name_;
-    volume_name_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    ::std::string* temp = dump_file_;
+    dump_file_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
     return temp;
   }
 }
-inline void symlinkRequest::set_allocated_volume_name(::std::string* volume_name) {
-  if (volume_name_ != &::google::protobuf::internal::kEmptyString) {
-    delete volume_name_;
+inline void xtreemfs_dump_restore_databaseRequest::set_allocated_dump_file(::std::string* dump_file) {
+  if (dump_file_ != &::google::protobuf::internal::kEmptyString) {
+    delete dump_file_;
   }
-  if (volume_name) {
-    set_has_volume_name();
-    volume_name_ = volume_name;
+  if (dump_file) {
+    set_has_dump_file();
+    dump_file_ = dump_file;
   } else {
-    clear_has_volume_name();
-    volume_name_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    clear_has_dump_file();
+    dump_file_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
   }
 }
 
-// required string target_path = 2;
-inline bool symlinkRequest::has_target_path() const {
-  return (_has_bits_[0] & 0x00000002u) != 0;
+// -------------------------------------------------------------------
+
+// xtreemfs_get_suitable_osdsRequest
+
+// optional string file_id = 1;
+inline bool xtreemfs_get_suitable_osdsRequest::has_file_id() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
 }
-inline void symlinkRequest::set_has_target_path() {
-  _has_bits_[0] |= 0x00000002u;
+inline void xtreemfs_get_suitable_osdsRequest::set_has_file_id() {
+  _has_bits_[0] |= 0x00000001u;
 }
-inline void symlinkRequest::clear_has_target_path() {
-  _has_bits_[0] &= ~0x00000002u;
+inline void xtreemfs_get_suitable_osdsRequest::clear_has_file_id() {
+  _has_bits_[0] &= ~0x00000001u;
 }
-inline void symlinkRequest::clear_target_path() {
-  if (target_path_ != &::google::protobuf::internal::kEmptyString) {
-    target_path_->clear();
+inline void xtreemfs_get_suitable_osdsRequest::clear_file_id() {
+  if (file_id_ != &::google::protobuf::internal::kEmptyString) {
+    file_id_->clear();
   }
-  clear_has_target_path();
+  clear_has_file_id();
 }
-inline const ::std::string& symlinkRequest::target_path() const {
-  return *target_path_;
+inline const ::std::string& xtreemfs_get_suitable_osdsRequest::file_id() const {
+  return *file_id_;
 }
-inline void symlinkRequest::set_target_path(const ::std::string& value) {
-  set_has_target_path();
-  if (target_path_ == &::google::protobuf::internal::kEmptyString) {
-    target_path_ = new ::std::string;
+inline void xtreemfs_get_suitable_osdsRequest::set_file_id(const ::std::string& value) {
+  set_has_file_id();
+  if (file_id_ == &::google::protobuf::internal::kEmptyString) {
+    file_id_ = new ::std::string;
   }
-  target_path_->assign(value);
+  file_id_->assign(value);
 }
-inline void symlinkRequest::set_target_path(const char* value) {
-  set_has_target_path();
-  if (target_path_ == &::google::protobuf::internal::kEmptyString) {
-    target_path_ = new ::std::string;
+inline void xtreemfs_get_suitable_osdsRequest::set_file_id(const char* value) {
+  set_has_file_id();
+  if (file_id_ == &::google::protobuf::internal::kEmptyString) {
+    file_id_ = new ::std::string;
   }
-  target_path_->assign(value);
+  file_id_->assign(value);
 }
-inline void symlinkRequest::set_target_path(const char* value, size_t size) {
-  set_has_target_path();
-  if (target_path_ == &::google::protobuf::internal::kEmptyString) {
-    target_path_ = new ::std::string;
+inline void xtreemfs_get_suitable_osdsRequest::set_file_id(const char* value, size_t size) {
+  set_has_file_id();
+  if (file_id_ == &::google::protobuf::internal::kEmptyString) {
+    file_id_ = new ::std::string;
   }
-  target_path_->assign(reinterpret_cast<const char*>(value), size);
+  file_id_->assign(reinterpret_cast<const char*>(value), size);
 }
-inline ::std::string* symlinkRequest::mutable_target_path() {
-  set_has_target_path();
-  if (target_path_ == &::google::protobuf::internal::kEmptyString) {
-    target_path_ = new ::std::string;
+inline ::std::string* xtreemfs_get_suitable_osdsRequest::mutable_file_id() {
+  set_has_file_id();
+  if (file_id_ == &::google::protobuf::internal::kEmptyString) {
+    file_id_ = new ::std::string;
   }
-  return target_path_;
+  return file_id_;
 }
-inline ::std::string* symlinkRequest::release_target_path() {
-  clear_has_target_path();
-  if (target_path_ == &::google::protobuf::internal::kEmptyString) {
+inline ::std::string* xtreemfs_get_suitable_osdsRequest::release_file_id() {
+  clear_has_file_id();
+  if (file_id_ == &::google::protobuf::internal::kEmptyString) {
     return NULL;
   } else {
-    ::std::string* temp = target_path_;
-    target_path_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    ::std::string* temp = file_id_;
+    file_id_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
     return temp;
   }
 }
-inline void symlinkRequest::set_allocated_target_path(::std::string* target_path) {
-  if (target_path_ != &::google::protobuf::internal::kEmptyString) {
-    delete target_path_;
+inline void xtreemfs_get_suitable_osdsRequest::set_allocated_file_id(::std::string* file_id) {
+  if (file_id_ != &::google::protobuf::internal::kEmptyString) {
+    delete file_id_;
   }
-  if (target_path) {
-    set_has_target_path();
-    target_path_ = target_path;
+  if (file_id) {
+    set_has_file_id();
+    file_id_ = file_id;
   } else {
-    clear_has_target_path();
-    target_path_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    clear_has_file_id();
+    file_id_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
   }
 }
 
-// required string link_path = 3;
-inline bool symlinkRequest::has_link_path() const {
-  return (_has_bits_[0] & 0x00000004u) != 0;
+// optional string path = 3;
+inline bool xtreemfs_get_suitable_osdsRequest::has_path() const {
+  return (_has_bits_[0] & 0x00000002u) != 0;
 }
-inline void symlinkRequest::set_has_link_path() {
-  _has_bits_[0] |= 0x00000004u;
+inline void xtreemfs_get_suitable_osdsRequest::set_has_path() {
+  _has_bits_[0] |= 0x00000002u;
 }
-inline void symlinkRequest::clear_has_link_path() {
-  _has_bits_[0] &= ~0x00000004u;
+inline void xtreemfs_get_suitable_osdsRequest::clear_has_path() {
+  _has_bits_[0] &= ~0x00000002u;
 }
-inline void symlinkRequest::clear_link_path() {
-  if (link_path_ != &::google::protobuf::internal::kEmptyString) {
-    link_path_->clear();
+inline void xtreemfs_get_suitable_osdsRequest::clear_path() {
+  if (path_ != &::google::protobuf::internal::kEmptyString) {
+    path_->clear();
   }
-  clear_has_link_path();
+  clear_has_path();
 }
-inline const ::std::string& symlinkRequest::link_path() const {
-  return *link_path_;
+inline const ::std::string& xtreemfs_get_suitable_osdsRequest::path() const {
+  return *path_;
 }
-inline void symlinkRequest::set_link_path(const ::std::string& value) {
-  set_has_link_path();
-  if (link_path_ == &::google::protobuf::internal::kEmptyString) {
-    link_path_ = new ::std::string;
+inline void xtreemfs_get_suitable_osdsRequest::set_path(const ::std::string& value) {
+  set_has_path();
+  if (path_ == &::google::protobuf::internal::kEmptyString) {
+    path_ = new ::std::string;
   }
-  link_path_->assign(value);
+  path_->assign(value);
 }
-inline void symlinkRequest::set_link_path(const char* value) {
-  set_has_link_path();
-  if (link_path_ == &::google::protobuf::internal::kEmptyString) {
-    link_path_ = new ::std::string;
+inline void xtreemfs_get_suitable_osdsRequest::set_path(const char* value) {
+  set_has_path();
+  if (path_ == &::google::protobuf::internal::kEmptyString) {
+    path_ = new ::std::string;
   }
-  link_path_->assign(value);
+  path_->assign(value);
 }
-inline void symlinkRequest::set_link_path(const char* value, size_t size) {
-  set_has_link_path();
-  if (link_path_ == &::google::protobuf::internal::kEmptyString) {
-    link_path_ = new ::std::string;
+inline void xtreemfs_get_suitable_osdsRequest::set_path(const char* value, size_t size) {
+  set_has_path();
+  if (path_ == &::google::protobuf::internal::kEmptyString) {
+    path_ = new ::std::string;
   }
-  link_path_->assign(reinterpret_cast<const char*>(value), size);
+  path_->assign(reinterpret_cast<const char*>(value), size);
 }
-inline ::std::string* symlinkRequest::mutable_link_path() {
-  set_has_link_path();
-  if (link_path_ == &::google::protobuf::internal::kEmptyString) {
-    link_path_ = new ::std::string;
+inline ::std::string* xtreemfs_get_suitable_osdsRequest::mutable_path() {
+  set_has_path();
+  if (path_ == &::google::protobuf::internal::kEmptyString) {
+    path_ = new ::std::string;
   }
-  return link_path_;
+  return path_;
 }
-inline ::std::string* symlinkRequest::release_link_path() {
-  clear_has_link_path();
-  if (link_path_ == &::google::protobuf::internal::kEmptyString) {
+inline ::std::string* xtreemfs_get_suitable_osdsRequest::release_path() {
+  clear_has_path();
+  if (path_ == &::google::protobuf::internal::kEmptyString) {
     return NULL;
   } else {
-    ::std::string* temp = link_path_;
-    link_path_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    ::std::string* temp = path_;
+    path_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
     return temp;
   }
 }
-inline void symlinkRequest::set_allocated_link_path(::std::string* link_path) {
-  if (link_path_ != &::google::protobuf::internal::kEmptyString) {
-    delete link_path_;
+inline void xtreemfs_get_suitable_osdsRequest::set_allocated_path(::std::string* path) {
+  if (path_ != &::google::protobuf::internal::kEmptyString) {
+    delete path_;
   }
-  if (link_path) {
-    set_has_link_path();
-    link_path_ = link_path;
+  if (path) {
+    set_has_path();
+    path_ = path;
   } else {
-    clear_has_link_path();
-    link_path_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    clear_has_path();
+    path_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
   }
 }
 
-// -------------------------------------------------------------------
-
-// unlinkRequest
-
-// required string volume_name = 1;
-inline bool unlinkRequest::has_volume_name() const {
-  return (_has_bits_[0] & 0x00000001u) != 0;
+// optional string volume_name = 4;
+inline bool xtreemfs_get_suitable_osdsRequest::has_volume_name() const {
+  return (_has_bits_[0] & 0x00000004u) != 0;
 }
-inline void unlinkRequest::set_has_volume_name() {
-  _has_bits_[0] |= 0x00000001u;
+inline void xtreemfs_get_suitable_osdsRequest::set_has_volume_name() {
+  _has_bits_[0] |= 0x00000004u;
 }
-inline void unlinkRequest::clear_has_volume_name() {
-  _has_bits_[0] &= ~0x00000001u;
+inline void xtreemfs_get_suitable_osdsRequest::clear_has_volume_name() {
+  _has_bits_[0] &= ~0x00000004u;
 }
-inline void unlinkRequest::clear_volume_name() {
+inline void xtreemfs_get_suitable_osdsRequest::clear_volume_name() {
   if (volume_name_ != &::google::protobuf::internal::kEmptyString) {
     volume_name_->clear();
   }
   clear_has_volume_name();
 }
-inline const ::std::string& unlinkRequest::volume_name() const {
+inline const ::std::string& xtreemfs_get_suitable_osdsRequest::volume_name() const {
   return *volume_name_;
 }
-inline void unlinkRequest::set_volume_name(const ::std::string& value) {
+inline void xtreemfs_get_suitable_osdsRequest::set_volume_name(const ::std::string& value) {
   set_has_volume_name();
   if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
     volume_name_ = new ::std::string;
   }
   volume_name_->assign(value);
 }
-inline void unlinkRequest::set_volume_name(const char* value) {
+inline void xtreemfs_get_suitable_osdsRequest::set_volume_name(const char* value) {
   set_has_volume_name();
   if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
     volume_name_ = new ::std::string;
   }
   volume_name_->assign(value);
 }
-inline void unlinkRequest::set_volume_name(const char* value, size_t size) {
+inline void xtreemfs_get_suitable_osdsRequest::set_volume_name(const char* value, size_t size) {
   set_has_volume_name();
   if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
     volume_name_ = new ::std::string;
   }
   volume_name_->assign(reinterpret_cast<const char*>(value), size);
 }
-inline ::std::string* unlinkRequest::mutable_volume_name() {
+inline ::std::string* xtreemfs_get_suitable_osdsRequest::mutable_volume_name() {
   set_has_volume_name();
   if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
     volume_name_ = new ::std::string;
   }
   return volume_name_;
 }
-inline ::std::string* unlinkRequest::release_volume_name() {
+inline ::std::string* xtreemfs_get_suitable_osdsRequest::release_volume_name() {
   clear_has_volume_name();
   if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
     return NULL;
@@ -11411,7 +13871,7 @@ inline ::std::string* unlinkRequest::release_volume_name() {
     return temp;
   }
 }
-inline void unlinkRequest::set_allocated_volume_name(::std::string* volume_name) {
+inline void xtreemfs_get_suitable_osdsRequest::set_allocated_volume_name(::std::string* volume_name) {
   if (volume_name_ != &::google::protobuf::internal::kEmptyString) {
     delete volume_name_;
   }
@@ -11424,673 +13884,602 @@ inline void unlinkRequest::set_allocated_volume_name(::std::string* volume_name)
   }
 }
 
-// required string path = 2;
-inline bool unlinkRequest::has_path() const {
-  return (_has_bits_[0] & 0x00000002u) != 0;
+// required fixed32 num_osds = 2;
+inline bool xtreemfs_get_suitable_osdsRequest::has_num_osds() const {
+  return (_has_bits_[0] & 0x00000008u) != 0;
 }
-inline void unlinkRequest::set_has_path() {
-  _has_bits_[0] |= 0x00000002u;
+inline void xtreemfs_get_suitable_osdsRequest::set_has_num_osds() {
+  _has_bits_[0] |= 0x00000008u;
 }
-inline void unlinkRequest::clear_has_path() {
-  _has_bits_[0] &= ~0x00000002u;
+inline void xtreemfs_get_suitable_osdsRequest::clear_has_num_osds() {
+  _has_bits_[0] &= ~0x00000008u;
 }
-inline void unlinkRequest::clear_path() {
-  if (path_ != &::google::protobuf::internal::kEmptyString) {
-    path_->clear();
-  }
-  clear_has_path();
+inline void xtreemfs_get_suitable_osdsRequest::clear_num_osds() {
+  num_osds_ = 0u;
+  clear_has_num_osds();
 }
-inline const ::std::string& unlinkRequest::path() const {
-  return *path_;
+inline ::google::protobuf::uint32 xtreemfs_get_suitable_osdsRequest::num_osds() const {
+  return num_osds_;
 }
-inline void unlinkRequest::set_path(const ::std::string& value) {
-  set_has_path();
-  if (path_ == &::google::protobuf::internal::kEmptyString) {
-    path_ = new ::std::string;
-  }
-  path_->assign(value);
+inline void xtreemfs_get_suitable_osdsRequest::set_num_osds(::google::protobuf::uint32 value) {
+  set_has_num_osds();
+  num_osds_ = value;
 }
-inline void unlinkRequest::set_path(const char* value) {
-  set_has_path();
-  if (path_ == &::google::protobuf::internal::kEmptyString) {
-    path_ = new ::std::string;
-  }
-  path_->assign(value);
+
+// -------------------------------------------------------------------
+
+// xtreemfs_get_suitable_osdsResponse
+
+// repeated string osd_uuids = 1;
+inline int xtreemfs_get_suitable_osdsResponse::osd_uuids_size() const {
+  return osd_uuids_.size();
 }
-inline void unlinkRequest::set_path(const char* value, size_t size) {
-  set_has_path();
-  if (path_ == &::google::protobuf::internal::kEmptyString) {
-    path_ = new ::std::string;
-  }
-  path_->assign(reinterpret_cast<const char*>(value), size);
+inline void xtreemfs_get_suitable_osdsResponse::clear_osd_uuids() {
+  osd_uuids_.Clear();
 }
-inline ::std::string* unlinkRequest::mutable_path() {
-  set_has_path();
-  if (path_ == &::google::protobuf::internal::kEmptyString) {
-    path_ = new ::std::string;
-  }
-  return path_;
+inline const ::std::string& xtreemfs_get_suitable_osdsResponse::osd_uuids(int index) const {
+  return osd_uuids_.Get(index);
 }
-inline ::std::string* unlinkRequest::release_path() {
-  clear_has_path();
-  if (path_ == &::google::protobuf::internal::kEmptyString) {
-    return NULL;
-  } else {
-    ::std::string* temp = path_;
-    path_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
-    return temp;
-  }
+inline ::std::string* xtreemfs_get_suitable_osdsResponse::mutable_osd_uuids(int index) {
+  return osd_uuids_.Mutable(index);
 }
-inline void unlinkRequest::set_allocated_path(::std::string* path) {
-  if (path_ != &::google::protobuf::internal::kEmptyString) {
-    delete path_;
-  }
-  if (path) {
-    set_has_path();
-    path_ = path;
-  } else {
-    clear_has_path();
-    path_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
-  }
+inline void xtreemfs_get_suitable_osdsResponse::set_osd_uuids(int index, const ::std::string& value) {
+  osd_uuids_.Mutable(index)->assign(value);
 }
-
-// -------------------------------------------------------------------
-
-// unlinkResponse
-
-// required fixed32 timestamp_s = 1;
-inline bool unlinkResponse::has_timestamp_s() const {
-  return (_has_bits_[0] & 0x00000001u) != 0;
+inline void xtreemfs_get_suitable_osdsResponse::set_osd_uuids(int index, const char* value) {
+  osd_uuids_.Mutable(index)->assign(value);
 }
-inline void unlinkResponse::set_has_timestamp_s() {
-  _has_bits_[0] |= 0x00000001u;
+inline void xtreemfs_get_suitable_osdsResponse::set_osd_uuids(int index, const char* value, size_t size) {
+  osd_uuids_.Mutable(index)->assign(
+    reinterpret_cast<const char*>(value), size);
 }
-inline void unlinkResponse::clear_has_timestamp_s() {
-  _has_bits_[0] &= ~0x00000001u;
+inline ::std::string* xtreemfs_get_suitable_osdsResponse::add_osd_uuids() {
+  return osd_uuids_.Add();
 }
-inline void unlinkResponse::clear_timestamp_s() {
-  timestamp_s_ = 0u;
-  clear_has_timestamp_s();
+inline void xtreemfs_get_suitable_osdsResponse::add_osd_uuids(const ::std::string& value) {
+  osd_uuids_.Add()->assign(value);
 }
-inline ::google::protobuf::uint32 unlinkResponse::timestamp_s() const {
-  return timestamp_s_;
+inline void xtreemfs_get_suitable_osdsResponse::add_osd_uuids(const char* value) {
+  osd_uuids_.Add()->assign(value);
 }
-inline void unlinkResponse::set_timestamp_s(::google::protobuf::uint32 value) {
-  set_has_timestamp_s();
-  timestamp_s_ = value;
+inline void xtreemfs_get_suitable_osdsResponse::add_osd_uuids(const char* value, size_t size) {
+  osd_uuids_.Add()->assign(reinterpret_cast<const char*>(value), size);
 }
-
-// optional .xtreemfs.pbrpc.FileCredentials creds = 2;
-inline bool unlinkResponse::has_creds() const {
-  return (_has_bits_[0] & 0x00000002u) != 0;
+inline const ::google::protobuf::RepeatedPtrField< ::std::string>&
+xtreemfs_get_suitable_osdsResponse::osd_uuids() const {
+  return osd_uuids_;
 }
-inline void unlinkResponse::set_has_creds() {
-  _has_bits_[0] |= 0x00000002u;
+inline ::google::protobuf::RepeatedPtrField< ::std::string>*
+xtreemfs_get_suitable_osdsResponse::mutable_osd_uuids() {
+  return &osd_uuids_;
 }
-inline void unlinkResponse::clear_has_creds() {
-  _has_bits_[0] &= ~0x00000002u;
+
+// -------------------------------------------------------------------
+
+// timestampResponse
+
+// required fixed32 timestamp_s = 1;
+inline bool timestampResponse::has_timestamp_s() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
 }
-inline void unlinkResponse::clear_creds() {
-  if (creds_ != NULL) creds_->::xtreemfs::pbrpc::FileCredentials::Clear();
-  clear_has_creds();
+inline void timestampResponse::set_has_timestamp_s() {
+  _has_bits_[0] |= 0x00000001u;
 }
-inline const ::xtreemfs::pbrpc::FileCredentials& unlinkResponse::creds() const {
-  return creds_ != NULL ? *creds_ : *default_instance_->creds_;
+inline void timestampResponse::clear_has_timestamp_s() {
+  _has_bits_[0] &= ~0x00000001u;
 }
-inline ::xtreemfs::pbrpc::FileCredentials* unlinkResponse::mutable_creds() {
-  set_has_creds();
-  if (creds_ == NULL) creds_ = new ::xtreemfs::pbrpc::FileCredentials;
-  return creds_;
+inline void timestampResponse::clear_timestamp_s() {
+  timestamp_s_ = 0u;
+  clear_has_timestamp_s();
 }
-inline ::xtreemfs::pbrpc::FileCredentials* unlinkResponse::release_creds() {
-  clear_has_creds();
-  ::xtreemfs::pbrpc::FileCredentials* temp = creds_;
-  creds_ = NULL;
-  return temp;
+inline ::google::protobuf::uint32 timestampResponse::timestamp_s() const {
+  return timestamp_s_;
 }
-inline void unlinkResponse::set_allocated_creds(::xtreemfs::pbrpc::FileCredentials* creds) {
-  delete creds_;
-  creds_ = creds;
-  if (creds) {
-    set_has_creds();
-  } else {
-    clear_has_creds();
-  }
+inline void timestampResponse::set_timestamp_s(::google::protobuf::uint32 value) {
+  set_has_timestamp_s();
+  timestamp_s_ = value;
 }
 
 // -------------------------------------------------------------------
 
-// accessRequest
+// stringMessage
 
-// required string volume_name = 1;
-inline bool accessRequest::has_volume_name() const {
+// required string a_string = 1;
+inline bool stringMessage::has_a_string() const {
   return (_has_bits_[0] & 0x00000001u) != 0;
 }
-inline void accessRequest::set_has_volume_name() {
+inline void stringMessage::set_has_a_string() {
   _has_bits_[0] |= 0x00000001u;
 }
-inline void accessRequest::clear_has_volume_name() {
+inline void stringMessage::clear_has_a_string() {
   _has_bits_[0] &= ~0x00000001u;
 }
-inline void accessRequest::clear_volume_name() {
-  if (volume_name_ != &::google::protobuf::internal::kEmptyString) {
-    volume_name_->clear();
+inline void stringMessage::clear_a_string() {
+  if (a_string_ != &::google::protobuf::internal::kEmptyString) {
+    a_string_->clear();
   }
-  clear_has_volume_name();
+  clear_has_a_string();
 }
-inline const ::std::string& accessRequest::volume_name() const {
-  return *volume_name_;
+inline const ::std::string& stringMessage::a_string() const {
+  return *a_string_;
 }
-inline void accessRequest::set_volume_name(const ::std::string& value) {
-  set_has_volume_name();
-  if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
-    volume_name_ = new ::std::string;
+inline void stringMessage::set_a_string(const ::std::string& value) {
+  set_has_a_string();
+  if (a_string_ == &::google::protobuf::internal::kEmptyString) {
+    a_string_ = new ::std::string;
   }
-  volume_name_->assign(value);
+  a_string_->assign(value);
 }
-inline void accessRequest::set_volume_name(const char* value) {
-  set_has_volume_name();
-  if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
-    volume_name_ = new ::std::string;
+inline void stringMessage::set_a_string(const char* value) {
+  set_has_a_string();
+  if (a_string_ == &::google::protobuf::internal::kEmptyString) {
+    a_string_ = new ::std::string;
   }
-  volume_name_->assign(value);
+  a_string_->assign(value);
 }
-inline void accessRequest::set_volume_name(const char* value, size_t size) {
-  set_has_volume_name();
-  if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
-    volume_name_ = new ::std::string;
+inline void stringMessage::set_a_string(const char* value, size_t size) {
+  set_has_a_string();
+  if (a_string_ == &::google::protobuf::internal::kEmptyString) {
+    a_string_ = new ::std::string;
   }
-  volume_name_->assign(reinterpret_cast<const char*>(value), size);
+  a_string_->assign(reinterpret_cast<const char*>(value), size);
 }
-inline ::std::string* accessRequest::mutable_volume_name() {
-  set_has_volume_name();
-  if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
-    volume_name_ = new ::std::string;
+inline ::std::string* stringMessage::mutable_a_string() {
+  set_has_a_string();
+  if (a_string_ == &::google::protobuf::internal::kEmptyString) {
+    a_string_ = new ::std::string;
   }
-  return volume_name_;
+  return a_string_;
 }
-inline ::std::string* accessRequest::release_volume_name() {
-  clear_has_volume_name();
-  if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
+inline ::std::string* stringMessage::release_a_string() {
+  clear_has_a_string();
+  if (a_string_ == &::google::protobuf::internal::kEmptyString) {
     return NULL;
   } else {
-    ::std::string* temp = volume_name_;
-    volume_name_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    ::std::string* temp = a_string_;
+    a_string_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
     return temp;
   }
 }
-inline void accessRequest::set_allocated_volume_name(::std::string* volume_name) {
-  if (volume_name_ != &::google::protobuf::internal::kEmptyString) {
-    delete volume_name_;
+inline void stringMessage::set_allocated_a_string(::std::string* a_string) {
+  if (a_string_ != &::google::protobuf::internal::kEmptyString) {
+    delete a_string_;
   }
-  if (volume_name) {
-    set_has_volume_name();
-    volume_name_ = volume_name;
+  if (a_string) {
+    set_has_a_string();
+    a_string_ = a_string;
   } else {
-    clear_has_volume_name();
-    volume_name_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    clear_has_a_string();
+    a_string_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
   }
 }
 
-// required string path = 2;
-inline bool accessRequest::has_path() const {
-  return (_has_bits_[0] & 0x00000002u) != 0;
+// -------------------------------------------------------------------
+
+// xtreemfs_listdirRequest
+
+// required string path = 1;
+inline bool xtreemfs_listdirRequest::has_path() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
 }
-inline void accessRequest::set_has_path() {
-  _has_bits_[0] |= 0x00000002u;
+inline void xtreemfs_listdirRequest::set_has_path() {
+  _has_bits_[0] |= 0x00000001u;
 }
-inline void accessRequest::clear_has_path() {
-  _has_bits_[0] &= ~0x00000002u;
+inline void xtreemfs_listdirRequest::clear_has_path() {
+  _has_bits_[0] &= ~0x00000001u;
 }
-inline void accessRequest::clear_path() {
+inline void xtreemfs_listdirRequest::clear_path() {
   if (path_ != &::google::protobuf::internal::kEmptyString) {
     path_->clear();
   }
   clear_has_path();
 }
-inline const ::std::string& accessRequest::path() const {
+inline const ::std::string& xtreemfs_listdirRequest::path() const {
   return *path_;
 }
-inline void accessRequest::set_path(const ::std::string& value) {
+inline void xtreemfs_listdirRequest::set_path(const ::std::string& value) {
   set_has_path();
   if (path_ == &::google::protobuf::internal::kEmptyString) {
     path_ = new ::std::string;
   }
   path_->assign(value);
 }
-inline void accessRequest::set_path(const char* value) {
+inline void xtreemfs_listdirRequest::set_path(const char* value) {
   set_has_path();
   if (path_ == &::google::protobuf::internal::kEmptyString) {
     path_ = new ::std::string;
   }
   path_->assign(value);
 }
-inline void accessRequest::set_path(const char* value, size_t size) {
+inline void xtreemfs_listdirRequest::set_path(const char* value, size_t size) {
   set_has_path();
   if (path_ == &::google::protobuf::internal::kEmptyString) {
     path_ = new ::std::string;
   }
   path_->assign(reinterpret_cast<const char*>(value), size);
 }
-inline ::std::string* accessRequest::mutable_path() {
+inline ::std::string* xtreemfs_listdirRequest::mutable_path() {
   set_has_path();
   if (path_ == &::google::protobuf::internal::kEmptyString) {
     path_ = new ::std::string;
   }
   return path_;
-}
-inline ::std::string* accessRequest::release_path() {
-  clear_has_path();
-  if (path_ == &::google::protobuf::internal::kEmptyString) {
-    return NULL;
-  } else {
-    ::std::string* temp = path_;
-    path_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
-    return temp;
-  }
-}
-inline void accessRequest::set_allocated_path(::std::string* path) {
-  if (path_ != &::google::protobuf::internal::kEmptyString) {
-    delete path_;
-  }
-  if (path) {
-    set_has_path();
-    path_ = path;
-  } else {
-    clear_has_path();
-    path_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
-  }
-}
-
-// required fixed32 flags = 3;
-inline bool accessRequest::has_flags() const {
-  return (_has_bits_[0] & 0x00000004u) != 0;
-}
-inline void accessRequest::set_has_flags() {
-  _has_bits_[0] |= 0x00000004u;
-}
-inline void accessRequest::clear_has_flags() {
-  _has_bits_[0] &= ~0x00000004u;
-}
-inline void accessRequest::clear_flags() {
-  flags_ = 0u;
-  clear_has_flags();
-}
-inline ::google::protobuf::uint32 accessRequest::flags() const {
-  return flags_;
-}
-inline void accessRequest::set_flags(::google::protobuf::uint32 value) {
-  set_has_flags();
-  flags_ = value;
-}
-
-// -------------------------------------------------------------------
-
-// xtreemfs_check_file_existsRequest
-
-// required string volume_id = 1;
-inline bool xtreemfs_check_file_existsRequest::has_volume_id() const {
-  return (_has_bits_[0] & 0x00000001u) != 0;
-}
-inline void xtreemfs_check_file_existsRequest::set_has_volume_id() {
-  _has_bits_[0] |= 0x00000001u;
-}
-inline void xtreemfs_check_file_existsRequest::clear_has_volume_id() {
-  _has_bits_[0] &= ~0x00000001u;
-}
-inline void xtreemfs_check_file_existsRequest::clear_volume_id() {
-  if (volume_id_ != &::google::protobuf::internal::kEmptyString) {
-    volume_id_->clear();
-  }
-  clear_has_volume_id();
-}
-inline const ::std::string& xtreemfs_check_file_existsRequest::volume_id() const {
-  return *volume_id_;
-}
-inline void xtreemfs_check_file_existsRequest::set_volume_id(const ::std::string& value) {
-  set_has_volume_id();
-  if (volume_id_ == &::google::protobuf::internal::kEmptyString) {
-    volume_id_ = new ::std::string;
-  }
-  volume_id_->assign(value);
-}
-inline void xtreemfs_check_file_existsRequest::set_volume_id(const char* value) {
-  set_has_volume_id();
-  if (volume_id_ == &::google::protobuf::internal::kEmptyString) {
-    volume_id_ = new ::std::string;
-  }
-  volume_id_->assign(value);
-}
-inline void xtreemfs_check_file_existsRequest::set_volume_id(const char* value, size_t size) {
-  set_has_volume_id();
-  if (volume_id_ == &::google::protobuf::internal::kEmptyString) {
-    volume_id_ = new ::std::string;
-  }
-  volume_id_->assign(reinterpret_cast<const char*>(value), size);
-}
-inline ::std::string* xtreemfs_check_file_existsRequest::mutable_volume_id() {
-  set_has_volume_id();
-  if (volume_id_ == &::google::protobuf::internal::kEmptyString) {
-    volume_id_ = new ::std::string;
-  }
-  return volume_id_;
-}
-inline ::std::string* xtreemfs_check_file_existsRequest::release_volume_id() {
-  clear_has_volume_id();
-  if (volume_id_ == &::google::protobuf::internal::kEmptyString) {
+}
+inline ::std::string* xtreemfs_listdirRequest::release_path() {
+  clear_has_path();
+  if (path_ == &::google::protobuf::internal::kEmptyString) {
     return NULL;
   } else {
-    ::std::string* temp = volume_id_;
-    volume_id_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    ::std::string* temp = path_;
+    path_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
     return temp;
   }
 }
-inline void xtreemfs_check_file_existsRequest::set_allocated_volume_id(::std::string* volume_id) {
-  if (volume_id_ != &::google::protobuf::internal::kEmptyString) {
-    delete volume_id_;
+inline void xtreemfs_listdirRequest::set_allocated_path(::std::string* path) {
+  if (path_ != &::google::protobuf::internal::kEmptyString) {
+    delete path_;
   }
-  if (volume_id) {
-    set_has_volume_id();
-    volume_id_ = volume_id;
+  if (path) {
+    set_has_path();
+    path_ = path;
   } else {
-    clear_has_volume_id();
-    volume_id_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    clear_has_path();
+    path_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
   }
 }
 
-// repeated string file_ids = 2;
-inline int xtreemfs_check_file_existsRequest::file_ids_size() const {
-  return file_ids_.size();
+// -------------------------------------------------------------------
+
+// xtreemfs_listdirResponse
+
+// repeated string names = 1;
+inline int xtreemfs_listdirResponse::names_size() const {
+  return names_.size();
 }
-inline void xtreemfs_check_file_existsRequest::clear_file_ids() {
-  file_ids_.Clear();
+inline void xtreemfs_listdirResponse::clear_names() {
+  names_.Clear();
 }
-inline const ::std::string& xtreemfs_check_file_existsRequest::file_ids(int index) const {
-  return file_ids_.Get(index);
+inline const ::std::string& xtreemfs_listdirResponse::names(int index) const {
+  return names_.Get(index);
 }
-inline ::std::string* xtreemfs_check_file_existsRequest::mutable_file_ids(int index) {
-  return file_ids_.Mutable(index);
+inline ::std::string* xtreemfs_listdirResponse::mutable_names(int index) {
+  return names_.Mutable(index);
 }
-inline void xtreemfs_check_file_existsRequest::set_file_ids(int index, const ::std::string& value) {
-  file_ids_.Mutable(index)->assign(value);
+inline void xtreemfs_listdirResponse::set_names(int index, const ::std::string& value) {
+  names_.Mutable(index)->assign(value);
 }
-inline void xtreemfs_check_file_existsRequest::set_file_ids(int index, const char* value) {
-  file_ids_.Mutable(index)->assign(value);
+inline void xtreemfs_listdirResponse::set_names(int index, const char* value) {
+  names_.Mutable(index)->assign(value);
 }
-inline void xtreemfs_check_file_existsRequest::set_file_ids(int index, const char* value, size_t size) {
-  file_ids_.Mutable(index)->assign(
+inline void xtreemfs_listdirResponse::set_names(int index, const char* value, size_t size) {
+  names_.Mutable(index)->assign(
     reinterpret_cast<const char*>(value), size);
 }
-inline ::std::string* xtreemfs_check_file_existsRequest::add_file_ids() {
-  return file_ids_.Add();
+inline ::std::string* xtreemfs_listdirResponse::add_names() {
+  return names_.Add();
 }
-inline void xtreemfs_check_file_existsRequest::add_file_ids(const ::std::string& value) {
-  file_ids_.Add()->assign(value);
+inline void xtreemfs_listdirResponse::add_names(const ::std::string& value) {
+  names_.Add()->assign(value);
 }
-inline void xtreemfs_check_file_existsRequest::add_file_ids(const char* value) {
-  file_ids_.Add()->assign(value);
+inline void xtreemfs_listdirResponse::add_names(const char* value) {
+  names_.Add()->assign(value);
 }
-inline void xtreemfs_check_file_existsRequest::add_file_ids(const char* value, size_t size) {
-  file_ids_.Add()->assign(reinterpret_cast<const char*>(value), size);
+inline void xtreemfs_listdirResponse::add_names(const char* value, size_t size) {
+  names_.Add()->assign(reinterpret_cast<const char*>(value), size);
 }
 inline const ::google::protobuf::RepeatedPtrField< ::std::string>&
-xtreemfs_check_file_existsRequest::file_ids() const {
-  return file_ids_;
+xtreemfs_listdirResponse::names() const {
+  return names_;
 }
 inline ::google::protobuf::RepeatedPtrField< ::std::string>*
-xtreemfs_check_file_existsRequest::mutable_file_ids() {
-  return &file_ids_;
+xtreemfs_listdirResponse::mutable_names() {
+  return &names_;
 }
 
-// required string osd_uuid = 3;
-inline bool xtreemfs_check_file_existsRequest::has_osd_uuid() const {
-  return (_has_bits_[0] & 0x00000004u) != 0;
+// -------------------------------------------------------------------
+
+// xtreemfs_replica_addRequest
+
+// optional string file_id = 1;
+inline bool xtreemfs_replica_addRequest::has_file_id() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
 }
-inline void xtreemfs_check_file_existsRequest::set_has_osd_uuid() {
-  _has_bits_[0] |= 0x00000004u;
+inline void xtreemfs_replica_addRequest::set_has_file_id() {
+  _has_bits_[0] |= 0x00000001u;
 }
-inline void xtreemfs_check_file_existsRequest::clear_has_osd_uuid() {
-  _has_bits_[0] &= ~0x00000004u;
+inline void xtreemfs_replica_addRequest::clear_has_file_id() {
+  _has_bits_[0] &= ~0x00000001u;
 }
-inline void xtreemfs_check_file_existsRequest::clear_osd_uuid() {
-  if (osd_uuid_ != &::google::protobuf::internal::kEmptyString) {
-    osd_uuid_->clear();
+inline void xtreemfs_replica_addRequest::clear_file_id() {
+  if (file_id_ != &::google::protobuf::internal::kEmptyString) {
+    file_id_->clear();
   }
-  clear_has_osd_uuid();
+  clear_has_file_id();
 }
-inline const ::std::string& xtreemfs_check_file_existsRequest::osd_uuid() const {
-  return *osd_uuid_;
+inline const ::std::string& xtreemfs_replica_addRequest::file_id() const {
+  return *file_id_;
 }
-inline void xtreemfs_check_file_existsRequest::set_osd_uuid(const ::std::string& value) {
-  set_has_osd_uuid();
-  if (osd_uuid_ == &::google::protobuf::internal::kEmptyString) {
-    osd_uuid_ = new ::std::string;
+inline void xtreemfs_replica_addRequest::set_file_id(const ::std::string& value) {
+  set_has_file_id();
+  if (file_id_ == &::google::protobuf::internal::kEmptyString) {
+    file_id_ = new ::std::string;
   }
-  osd_uuid_->assign(value);
+  file_id_->assign(value);
 }
-inline void xtreemfs_check_file_existsRequest::set_osd_uuid(const char* value) {
-  set_has_osd_uuid();
-  if (osd_uuid_ == &::google::protobuf::internal::kEmptyString) {
-    osd_uuid_ = new ::std::string;
+inline void xtreemfs_replica_addRequest::set_file_id(const char* value) {
+  set_has_file_id();
+  if (file_id_ == &::google::protobuf::internal::kEmptyString) {
+    file_id_ = new ::std::string;
   }
-  osd_uuid_->assign(value);
+  file_id_->assign(value);
 }
-inline void xtreemfs_check_file_existsRequest::set_osd_uuid(const char* value, size_t size) {
-  set_has_osd_uuid();
-  if (osd_uuid_ == &::google::protobuf::internal::kEmptyString) {
-    osd_uuid_ = new ::std::string;
+inline void xtreemfs_replica_addRequest::set_file_id(const char* value, size_t size) {
+  set_has_file_id();
+  if (file_id_ == &::google::protobuf::internal::kEmptyString) {
+    file_id_ = new ::std::string;
   }
-  osd_uuid_->assign(reinterpret_cast<const char*>(value), size);
+  file_id_->assign(reinterpret_cast<const char*>(value), size);
 }
-inline ::std::string* xtreemfs_check_file_existsRequest::mutable_osd_uuid() {
-  set_has_osd_uuid();
-  if (osd_uuid_ == &::google::protobuf::internal::kEmptyString) {
-    osd_uuid_ = new ::std::string;
+inline ::std::string* xtreemfs_replica_addRequest::mutable_file_id() {
+  set_has_file_id();
+  if (file_id_ == &::google::protobuf::internal::kEmptyString) {
+    file_id_ = new ::std::string;
   }
-  return osd_uuid_;
+  return file_id_;
 }
-inline ::std::string* xtreemfs_check_file_existsRequest::release_osd_uuid() {
-  clear_has_osd_uuid();
-  if (osd_uuid_ == &::google::protobuf::internal::kEmptyString) {
+inline ::std::string* xtreemfs_replica_addRequest::release_file_id() {
+  clear_has_file_id();
+  if (file_id_ == &::google::protobuf::internal::kEmptyString) {
     return NULL;
   } else {
-    ::std::string* temp = osd_uuid_;
-    osd_uuid_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    ::std::string* temp = file_id_;
+    file_id_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
     return temp;
   }
 }
-inline void xtreemfs_check_file_existsRequest::set_allocated_osd_uuid(::std::string* osd_uuid) {
-  if (osd_uuid_ != &::google::protobuf::internal::kEmptyString) {
-    delete osd_uuid_;
+inline void xtreemfs_replica_addRequest::set_allocated_file_id(::std::string* file_id) {
+  if (file_id_ != &::google::protobuf::internal::kEmptyString) {
+    delete file_id_;
   }
-  if (osd_uuid) {
-    set_has_osd_uuid();
-    osd_uuid_ = osd_uuid;
+  if (file_id) {
+    set_has_file_id();
+    file_id_ = file_id;
   } else {
-    clear_has_osd_uuid();
-    osd_uuid_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    clear_has_file_id();
+    file_id_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
   }
 }
 
-// -------------------------------------------------------------------
-
-// xtreemfs_check_file_existsResponse
-
-// required bool volume_exists = 1;
-inline bool xtreemfs_check_file_existsResponse::has_volume_exists() const {
-  return (_has_bits_[0] & 0x00000001u) != 0;
-}
-inline void xtreemfs_check_file_existsResponse::set_has_volume_exists() {
-  _has_bits_[0] |= 0x00000001u;
-}
-inline void xtreemfs_check_file_existsResponse::clear_has_volume_exists() {
-  _has_bits_[0] &= ~0x00000001u;
+// optional string path = 3;
+inline bool xtreemfs_replica_addRequest::has_path() const {
+  return (_has_bits_[0] & 0x00000002u) != 0;
 }
-inline void xtreemfs_check_file_existsResponse::clear_volume_exists() {
-  volume_exists_ = false;
-  clear_has_volume_exists();
+inline void xtreemfs_replica_addRequest::set_has_path() {
+  _has_bits_[0] |= 0x00000002u;
 }
-inline bool xtreemfs_check_file_existsResponse::volume_exists() const {
-  return volume_exists_;
+inline void xtreemfs_replica_addRequest::clear_has_path() {
+  _has_bits_[0] &= ~0x00000002u;
 }
-inline void xtreemfs_check_file_existsResponse::set_volume_exists(bool value) {
-  set_has_volume_exists();
-  volume_exists_ = value;
+inline void xtreemfs_replica_addRequest::clear_path() {
+  if (path_ != &::google::protobuf::internal::kEmptyString) {
+    path_->clear();
+  }
+  clear_has_path();
 }
-
-// repeated .xtreemfs.pbrpc.xtreemfs_check_file_existsResponse.FILE_STATE file_states = 2 [packed = true];
-inline int xtreemfs_check_file_existsResponse::file_states_size() const {
-  return file_states_.size();
+inline const ::std::string& xtreemfs_replica_addRequest::path() const {
+  return *path_;
 }
-inline void xtreemfs_check_file_existsResponse::clear_file_states() {
-  file_states_.Clear();
+inline void xtreemfs_replica_addRequest::set_path(const ::std::string& value) {
+  set_has_path();
+  if (path_ == &::google::protobuf::internal::kEmptyString) {
+    path_ = new ::std::string;
+  }
+  path_->assign(value);
 }
-inline ::xtreemfs::pbrpc::xtreemfs_check_file_existsResponse_FILE_STATE xtreemfs_check_file_existsResponse::file_states(int index) const {
-  return static_cast< ::xtreemfs::pbrpc::xtreemfs_check_file_existsResponse_FILE_STATE >(file_states_.Get(index));
+inline void xtreemfs_replica_addRequest::set_path(const char* value) {
+  set_has_path();
+  if (path_ == &::google::protobuf::internal::kEmptyString) {
+    path_ = new ::std::string;
+  }
+  path_->assign(value);
 }
-inline void xtreemfs_check_file_existsResponse::set_file_states(int index, ::xtreemfs::pbrpc::xtreemfs_check_file_existsResponse_FILE_STATE value) {
-  assert(::xtreemfs::pbrpc::xtreemfs_check_file_existsResponse_FILE_STATE_IsValid(value));
-  file_states_.Set(index, value);
+inline void xtreemfs_replica_addRequest::set_path(const char* value, size_t size) {
+  set_has_path();
+  if (path_ == &::google::protobuf::internal::kEmptyString) {
+    path_ = new ::std::string;
+  }
+  path_->assign(reinterpret_cast<const char*>(value), size);
 }
-inline void xtreemfs_check_file_existsResponse::add_file_states(::xtreemfs::pbrpc::xtreemfs_check_file_existsResponse_FILE_STATE value) {
-  assert(::xtreemfs::pbrpc::xtreemfs_check_file_existsResponse_FILE_STATE_IsValid(value));
-  file_states_.Add(value);
+inline ::std::string* xtreemfs_replica_addRequest::mutable_path() {
+  set_has_path();
+  if (path_ == &::google::protobuf::internal::kEmptyString) {
+    path_ = new ::std::string;
+  }
+  return path_;
 }
-inline const ::google::protobuf::RepeatedField<int>&
-xtreemfs_check_file_existsResponse::file_states() const {
-  return file_states_;
+inline ::std::string* xtreemfs_replica_addRequest::release_path() {
+  clear_has_path();
+  if (path_ == &::google::protobuf::internal::kEmptyString) {
+    return NULL;
+  } else {
+    ::std::string* temp = path_;
+    path_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    return temp;
+  }
 }
-inline ::google::protobuf::RepeatedField<int>*
-xtreemfs_check_file_existsResponse::mutable_file_states() {
-  return &file_states_;
+inline void xtreemfs_replica_addRequest::set_allocated_path(::std::string* path) {
+  if (path_ != &::google::protobuf::internal::kEmptyString) {
+    delete path_;
+  }
+  if (path) {
+    set_has_path();
+    path_ = path;
+  } else {
+    clear_has_path();
+    path_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  }
 }
 
-// -------------------------------------------------------------------
-
-// xtreemfs_dump_restore_databaseRequest
-
-// required string dump_file = 1;
-inline bool xtreemfs_dump_restore_databaseRequest::has_dump_file() const {
-  return (_has_bits_[0] & 0x00000001u) != 0;
+// optional string volume_name = 4;
+inline bool xtreemfs_replica_addRequest::has_volume_name() const {
+  return (_has_bits_[0] & 0x00000004u) != 0;
 }
-inline void xtreemfs_dump_restore_databaseRequest::set_has_dump_file() {
-  _has_bits_[0] |= 0x00000001u;
+inline void xtreemfs_replica_addRequest::set_has_volume_name() {
+  _has_bits_[0] |= 0x00000004u;
 }
-inline void xtreemfs_dump_restore_databaseRequest::clear_has_dump_file() {
-  _has_bits_[0] &= ~0x00000001u;
+inline void xtreemfs_replica_addRequest::clear_has_volume_name() {
+  _has_bits_[0] &= ~0x00000004u;
 }
-inline void xtreemfs_dump_restore_databaseRequest::clear_dump_file() {
-  if (dump_file_ != &::google::protobuf::internal::kEmptyString) {
-    dump_file_->clear();
+inline void xtreemfs_replica_addRequest::clear_volume_name() {
+  if (volume_name_ != &::google::protobuf::internal::kEmptyString) {
+    volume_name_->clear();
   }
-  clear_has_dump_file();
+  clear_has_volume_name();
 }
-inline const ::std::string& xtreemfs_dump_restore_databaseRequest::dump_file() const {
-  return *dump_file_;
+inline const ::std::string& xtreemfs_replica_addRequest::volume_name() const {
+  return *volume_name_;
 }
-inline void xtreemfs_dump_restore_databaseRequest::set_dump_file(const ::std::string& value) {
-  set_has_dump_file();
-  if (dump_file_ == &::google::protobuf::internal::kEmptyString) {
-    dump_file_ = new ::std::string;
+inline void xtreemfs_replica_addRequest::set_volume_name(const ::std::string& value) {
+  set_has_volume_name();
+  if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
+    volume_name_ = new ::std::string;
   }
-  dump_file_->assign(value);
+  volume_name_->assign(value);
 }
-inline void xtreemfs_dump_restore_databaseRequest::set_dump_file(const char* value) {
-  set_has_dump_file();
-  if (dump_file_ == &::google::protobuf::internal::kEmptyString) {
-    dump_file_ = new ::std::string;
+inline void xtreemfs_replica_addRequest::set_volume_name(const char* value) {
+  set_has_volume_name();
+  if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
+    volume_name_ = new ::std::string;
   }
-  dump_file_->assign(value);
+  volume_name_->assign(value);
 }
-inline void xtreemfs_dump_restore_databaseRequest::set_dump_file(const char* value, size_t size) {
-  set_has_dump_file();
-  if (dump_file_ == &::google::protobuf::internal::kEmptyString) {
-    dump_file_ = new ::std::string;
+inline void xtreemfs_replica_addRequest::set_volume_name(const char* value, size_t size) {
+  set_has_volume_name();
+  if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
+    volume_name_ = new ::std::string;
   }
-  dump_file_->assign(reinterpret_cast<const char*>(value), size);
+  volume_name_->assign(reinterpret_cast<const char*>(value), size);
 }
-inline ::std::string* xtreemfs_dump_restore_databaseRequest::mutable_dump_file() {
-  set_has_dump_file();
-  if (dump_file_ == &::google::protobuf::internal::kEmptyString) {
-    dump_file_ = new ::std::string;
+inline ::std::string* xtreemfs_replica_addRequest::mutable_volume_name() {
+  set_has_volume_name();
+  if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
+    volume_name_ = new ::std::string;
   }
-  return dump_file_;
+  return volume_name_;
 }
-inline ::std::string* xtreemfs_dump_restore_databaseRequest::release_dump_file() {
-  clear_has_dump_file();
-  if (dump_file_ == &::google::protobuf::internal::kEmptyString) {
+inline ::std::string* xtreemfs_replica_addRequest::release_volume_name() {
+  clear_has_volume_name();
+  if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
     return NULL;
   } else {
-    ::std::string* temp = dump_file_;
-    dump_file_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    ::std::string* temp = volume_name_;
+    volume_name_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
     return temp;
   }
 }
-inline void xtreemfs_dump_restore_databaseRequest::set_allocated_dump_file(::std::string* dump_file) {
-  if (dump_file_ != &::google::protobuf::internal::kEmptyString) {
-    delete dump_file_;
+inline void xtreemfs_replica_addRequest::set_allocated_volume_name(::std::string* volume_name) {
+  if (volume_name_ != &::google::protobuf::internal::kEmptyString) {
+    delete volume_name_;
   }
-  if (dump_file) {
-    set_has_dump_file();
-    dump_file_ = dump_file;
+  if (volume_name) {
+    set_has_volume_name();
+    volume_name_ = volume_name;
   } else {
-    clear_has_dump_file();
-    dump_file_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    clear_has_volume_name();
+    volume_name_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  }
+}
+
+// required .xtreemfs.pbrpc.Replica new_replica = 2;
+inline bool xtreemfs_replica_addRequest::has_new_replica() const {
+  return (_has_bits_[0] & 0x00000008u) != 0;
+}
+inline void xtreemfs_replica_addRequest::set_has_new_replica() {
+  _has_bits_[0] |= 0x00000008u;
+}
+inline void xtreemfs_replica_addRequest::clear_has_new_replica() {
+  _has_bits_[0] &= ~0x00000008u;
+}
+inline void xtreemfs_replica_addRequest::clear_new_replica() {
+  if (new_replica_ != NULL) new_replica_->::xtreemfs::pbrpc::Replica::Clear();
+  clear_has_new_replica();
+}
+inline const ::xtreemfs::pbrpc::Replica& xtreemfs_replica_addRequest::new_replica() const {
+  return new_replica_ != NULL ? *new_replica_ : *default_instance_->new_replica_;
+}
+inline ::xtreemfs::pbrpc::Replica* xtreemfs_replica_addRequest::mutable_new_replica() {
+  set_has_new_replica();
+  if (new_replica_ == NULL) new_replica_ = new ::xtreemfs::pbrpc::Replica;
+  return new_replica_;
+}
+inline ::xtreemfs::pbrpc::Replica* xtreemfs_replica_addRequest::release_new_replica() {
+  clear_has_new_replica();
+  ::xtreemfs::pbrpc::Replica* temp = new_replica_;
+  new_replica_ = NULL;
+  return temp;
+}
+inline void xtreemfs_replica_addRequest::set_allocated_new_replica(::xtreemfs::pbrpc::Replica* new_replica) {
+  delete new_replica_;
+  new_replica_ = new_replica;
+  if (new_replica) {
+    set_has_new_replica();
+  } else {
+    clear_has_new_replica();
   }
 }
 
 // -------------------------------------------------------------------
 
-// xtreemfs_get_suitable_osdsRequest
+// xtreemfs_replica_listRequest
 
 // optional string file_id = 1;
-inline bool xtreemfs_get_suitable_osdsRequest::has_file_id() const {
+inline bool xtreemfs_replica_listRequest::has_file_id() const {
   return (_has_bits_[0] & 0x00000001u) != 0;
 }
-inline void xtreemfs_get_suitable_osdsRequest::set_has_file_id() {
+inline void xtreemfs_replica_listRequest::set_has_file_id() {
   _has_bits_[0] |= 0x00000001u;
 }
-inline void xtreemfs_get_suitable_osdsRequest::clear_has_file_id() {
+inline void xtreemfs_replica_listRequest::clear_has_file_id() {
   _has_bits_[0] &= ~0x00000001u;
 }
-inline void xtreemfs_get_suitable_osdsRequest::clear_file_id() {
+inline void xtreemfs_replica_listRequest::clear_file_id() {
   if (file_id_ != &::google::protobuf::internal::kEmptyString) {
     file_id_->clear();
   }
   clear_has_file_id();
 }
-inline const ::std::string& xtreemfs_get_suitable_osdsRequest::file_id() const {
+inline const ::std::string& xtreemfs_replica_listRequest::file_id() const {
   return *file_id_;
 }
-inline void xtreemfs_get_suitable_osdsRequest::set_file_id(const ::std::string& value) {
+inline void xtreemfs_replica_listRequest::set_file_id(const ::std::string& value) {
   set_has_file_id();
   if (file_id_ == &::google::protobuf::internal::kEmptyString) {
     file_id_ = new ::std::string;
   }
   file_id_->assign(value);
 }
-inline void xtreemfs_get_suitable_osdsRequest::set_file_id(const char* value) {
+inline void xtreemfs_replica_listRequest::set_file_id(const char* value) {
   set_has_file_id();
   if (file_id_ == &::google::protobuf::internal::kEmptyString) {
     file_id_ = new ::std::string;
   }
   file_id_->assign(value);
 }
-inline void xtreemfs_get_suitable_osdsRequest::set_file_id(const char* value, size_t size) {
+inline void xtreemfs_replica_listRequest::set_file_id(const char* value, size_t size) {
   set_has_file_id();
   if (file_id_ == &::google::protobuf::internal::kEmptyString) {
     file_id_ = new ::std::string;
   }
   file_id_->assign(reinterpret_cast<const char*>(value), size);
 }
-inline ::std::string* xtreemfs_get_suitable_osdsRequest::mutable_file_id() {
+inline ::std::string* xtreemfs_replica_listRequest::mutable_file_id() {
   set_has_file_id();
   if (file_id_ == &::google::protobuf::internal::kEmptyString) {
     file_id_ = new ::std::string;
   }
   return file_id_;
 }
-inline ::std::string* xtreemfs_get_suitable_osdsRequest::release_file_id() {
+inline ::std::string* xtreemfs_replica_listRequest::release_file_id() {
   clear_has_file_id();
   if (file_id_ == &::google::protobuf::internal::kEmptyString) {
     return NULL;
@@ -12100,7 +14489,7 @@ inline ::std::string* xtreemfs_get_suitable_osdsRequest::release_file_id() {
     return temp;
   }
 }
-inline void xtreemfs_get_suitable_osdsRequest::set_allocated_file_id(::std::string* file_id) {
+inline void xtreemfs_replica_listRequest::set_allocated_file_id(::std::string* file_id) {
   if (file_id_ != &::google::protobuf::internal::kEmptyString) {
     delete file_id_;
   }
@@ -12113,54 +14502,54 @@ inline void xtreemfs_get_suitable_osdsRequest::set_allocated_file_id(::std::stri
   }
 }
 
-// optional string path = 3;
-inline bool xtreemfs_get_suitable_osdsRequest::has_path() const {
+// optional string path = 2;
+inline bool xtreemfs_replica_listRequest::has_path() const {
   return (_has_bits_[0] & 0x00000002u) != 0;
 }
-inline void xtreemfs_get_suitable_osdsRequest::set_has_path() {
+inline void xtreemfs_replica_listRequest::set_has_path() {
   _has_bits_[0] |= 0x00000002u;
 }
-inline void xtreemfs_get_suitable_osdsRequest::clear_has_path() {
+inline void xtreemfs_replica_listRequest::clear_has_path() {
   _has_bits_[0] &= ~0x00000002u;
 }
-inline void xtreemfs_get_suitable_osdsRequest::clear_path() {
+inline void xtreemfs_replica_listRequest::clear_path() {
   if (path_ != &::google::protobuf::internal::kEmptyString) {
     path_->clear();
   }
   clear_has_path();
 }
-inline const ::std::string& xtreemfs_get_suitable_osdsRequest::path() const {
+inline const ::std::string& xtreemfs_replica_listRequest::path() const {
   return *path_;
 }
-inline void xtreemfs_get_suitable_osdsRequest::set_path(const ::std::string& value) {
+inline void xtreemfs_replica_listRequest::set_path(const ::std::string& value) {
   set_has_path();
   if (path_ == &::google::protobuf::internal::kEmptyString) {
     path_ = new ::std::string;
   }
   path_->assign(value);
 }
-inline void xtreemfs_get_suitable_osdsRequest::set_path(const char* value) {
+inline void xtreemfs_replica_listRequest::set_path(const char* value) {
   set_has_path();
   if (path_ == &::google::protobuf::internal::kEmptyString) {
     path_ = new ::std::string;
   }
   path_->assign(value);
 }
-inline void xtreemfs_get_suitable_osdsRequest::set_path(const char* value, size_t size) {
+inline void xtreemfs_replica_listRequest::set_path(const char* value, size_t size) {
   set_has_path();
   if (path_ == &::google::protobuf::internal::kEmptyString) {
     path_ = new ::std::string;
   }
   path_->assign(reinterpret_cast<const char*>(value), size);
 }
-inline ::std::string* xtreemfs_get_suitable_osdsRequest::mutable_path() {
+inline ::std::string* xtreemfs_replica_listRequest::mutable_path() {
   set_has_path();
   if (path_ == &::google::protobuf::internal::kEmptyString) {
     path_ = new ::std::string;
   }
   return path_;
 }
-inline ::std::string* xtreemfs_get_suitable_osdsRequest::release_path() {
+inline ::std::string* xtreemfs_replica_listRequest::release_path() {
   clear_has_path();
   if (path_ == &::google::protobuf::internal::kEmptyString) {
     return NULL;
@@ -12170,7 +14559,7 @@ inline ::std::string* xtreemfs_get_suitable_osdsRequest::release_path() {
     return temp;
   }
 }
-inline void xtreemfs_get_suitable_osdsRequest::set_allocated_path(::std::string* path) {
+inline void xtreemfs_replica_listRequest::set_allocated_path(::std::string* path) {
   if (path_ != &::google::protobuf::internal::kEmptyString) {
     delete path_;
   }
@@ -12183,54 +14572,54 @@ inline void xtreemfs_get_suitable_osdsRequest::set_allocated_path(::std::string*
   }
 }
 
-// optional string volume_name = 4;
-inline bool xtreemfs_get_suitable_osdsRequest::has_volume_name() const {
+// optional string volume_name = 3;
+inline bool xtreemfs_replica_listRequest::has_volume_name() const {
   return (_has_bits_[0] & 0x00000004u) != 0;
 }
-inline void xtreemfs_get_suitable_osdsRequest::set_has_volume_name() {
+inline void xtreemfs_replica_listRequest::set_has_volume_name() {
   _has_bits_[0] |= 0x00000004u;
 }
-inline void xtreemfs_get_suitable_osdsRequest::clear_has_volume_name() {
+inline void xtreemfs_replica_listRequest::clear_has_volume_name() {
   _has_bits_[0] &= ~0x00000004u;
 }
-inline void xtreemfs_get_suitable_osdsRequest::clear_volume_name() {
+inline void xtreemfs_replica_listRequest::clear_volume_name() {
   if (volume_name_ != &::google::protobuf::internal::kEmptyString) {
     volume_name_->clear();
   }
   clear_has_volume_name();
 }
-inline const ::std::string& xtreemfs_get_suitable_osdsRequest::volume_name() const {
+inline const ::std::string& xtreemfs_replica_listRequest::volume_name() const {
   return *volume_name_;
 }
-inline void xtreemfs_get_suitable_osdsRequest::set_volume_name(const ::std::string& value) {
+inline void xtreemfs_replica_listRequest::set_volume_name(const ::std::string& value) {
   set_has_volume_name();
   if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
     volume_name_ = new ::std::string;
   }
   volume_name_->assign(value);
 }
-inline void xtreemfs_get_suitable_osdsRequest::set_volume_name(const char* value) {
+inline void xtreemfs_replica_listRequest::set_volume_name(const char* value) {
   set_has_volume_name();
   if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
     volume_name_ = new ::std::string;
   }
   volume_name_->assign(value);
 }
-inline void xtreemfs_get_suitable_osdsRequest::set_volume_name(const char* value, size_t size) {
+inline void xtreemfs_replica_listRequest::set_volume_name(const char* value, size_t size) {
   set_has_volume_name();
   if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
     volume_name_ = new ::std::string;
   }
   volume_name_->assign(reinterpret_cast<const char*>(value), size);
 }
-inline ::std::string* xtreemfs_get_suitable_osdsRequest::mutable_volume_name() {
+inline ::std::string* xtreemfs_replica_listRequest::mutable_volume_name() {
   set_has_volume_name();
   if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
     volume_name_ = new ::std::string;
   }
   return volume_name_;
 }
-inline ::std::string* xtreemfs_get_suitable_osdsRequest::release_volume_name() {
+inline ::std::string* xtreemfs_replica_listRequest::release_volume_name() {
   clear_has_volume_name();
   if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
     return NULL;
@@ -12240,241 +14629,199 @@ inline ::std::string* xtreemfs_get_suitable_osdsRequest::release_volume_name() {
     return temp;
   }
 }
-inline void xtreemfs_get_suitable_osdsRequest::set_allocated_volume_name(::std::string* volume_name) {
+inline void xtreemfs_replica_listRequest::set_allocated_volume_name(::std::string* volume_name) {
   if (volume_name_ != &::google::protobuf::internal::kEmptyString) {
     delete volume_name_;
   }
-  if (volume_name) {
-    set_has_volume_name();
-    volume_name_ = volume_name;
-  } else {
-    clear_has_volume_name();
-    volume_name_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
-  }
-}
-
-// required fixed32 num_osds = 2;
-inline bool xtreemfs_get_suitable_osdsRequest::has_num_osds() const {
-  return (_has_bits_[0] & 0x00000008u) != 0;
-}
-inline void xtreemfs_get_suitable_osdsRequest::set_has_num_osds() {
-  _has_bits_[0] |= 0x00000008u;
-}
-inline void xtreemfs_get_suitable_osdsRequest::clear_has_num_osds() {
-  _has_bits_[0] &= ~0x00000008u;
-}
-inline void xtreemfs_get_suitable_osdsRequest::clear_num_osds() {
-  num_osds_ = 0u;
-  clear_has_num_osds();
-}
-inline ::google::protobuf::uint32 xtreemfs_get_suitable_osdsRequest::num_osds() const {
-  return num_osds_;
-}
-inline void xtreemfs_get_suitable_osdsRequest::set_num_osds(::google::protobuf::uint32 value) {
-  set_has_num_osds();
-  num_osds_ = value;
+  if (volume_name) {
+    set_has_volume_name();
+    volume_name_ = volume_name;
+  } else {
+    clear_has_volume_name();
+    volume_name_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  }
 }
 
 // -------------------------------------------------------------------
 
-// xtreemfs_get_suitable_osdsResponse
+// xtreemfs_renew_capabilitiesRequest
 
-// repeated string osd_uuids = 1;
-inline int xtreemfs_get_suitable_osdsResponse::osd_uuids_size() const {
-  return osd_uuids_.size();
-}
-inline void xtreemfs_get_suitable_osdsResponse::clear_osd_uuids() {
-  osd_uuids_.Clear();
-}
-inline const ::std::string& xtreemfs_get_suitable_osdsResponse::osd_uuids(int index) const {
-  return osd_uuids_.Get(index);
-}
-inline ::std::string* xtreemfs_get_suitable_osdsResponse::mutable_osd_uuids(int index) {
-  return osd_uuids_.Mutable(index);
-}
-inline void xtreemfs_get_suitable_osdsResponse::set_osd_uuids(int index, const ::std::string& value) {
-  osd_uuids_.Mutable(index)->assign(value);
-}
-inline void xtreemfs_get_suitable_osdsResponse::set_osd_uuids(int index, const char* value) {
-  osd_uuids_.Mutable(index)->assign(value);
-}
-inline void xtreemfs_get_suitable_osdsResponse::set_osd_uuids(int index, const char* value, size_t size) {
-  osd_uuids_.Mutable(index)->assign(
-    reinterpret_cast<const char*>(value), size);
+// repeated .xtreemfs.pbrpc.XCap xcaps = 1;
+inline int xtreemfs_renew_capabilitiesRequest::xcaps_size() const {
+  return xcaps_.size();
 }
-inline ::std::string* xtreemfs_get_suitable_osdsResponse::add_osd_uuids() {
-  return osd_uuids_.Add();
+inline void xtreemfs_renew_capabilitiesRequest::clear_xcaps() {
+  xcaps_.Clear();
 }
-inline void xtreemfs_get_suitable_osdsResponse::add_osd_uuids(const ::std::string& value) {
-  osd_uuids_.Add()->assign(value);
+inline const ::xtreemfs::pbrpc::XCap& xtreemfs_renew_capabilitiesRequest::xcaps(int index) const {
+  return xcaps_.Get(index);
 }
-inline void xtreemfs_get_suitable_osdsResponse::add_osd_uuids(const char* value) {
-  osd_uuids_.Add()->assign(value);
+inline ::xtreemfs::pbrpc::XCap* xtreemfs_renew_capabilitiesRequest::mutable_xcaps(int index) {
+  return xcaps_.Mutable(index);
 }
-inline void xtreemfs_get_suitable_osdsResponse::add_osd_uuids(const char* value, size_t size) {
-  osd_uuids_.Add()->assign(reinterpret_cast<const char*>(value), size);
+inline ::xtreemfs::pbrpc::XCap* xtreemfs_renew_capabilitiesRequest::add_xcaps() {
+  return xcaps_.Add();
 }
-inline const ::google::protobuf::RepeatedPtrField< ::std::string>&
-xtreemfs_get_suitable_osdsResponse::osd_uuids() const {
-  return osd_uuids_;
+inline const ::google::protobuf::RepeatedPtrField< ::xtreemfs::pbrpc::XCap >&
+xtreemfs_renew_capabilitiesRequest::xcaps() const {
+  return xcaps_;
 }
-inline ::google::protobuf::RepeatedPtrField< ::std::string>*
-xtreemfs_get_suitable_osdsResponse::mutable_osd_uuids() {
-  return &osd_uuids_;
+inline ::google::protobuf::RepeatedPtrField< ::xtreemfs::pbrpc::XCap >*
+xtreemfs_renew_capabilitiesRequest::mutable_xcaps() {
+  return &xcaps_;
 }
 
 // -------------------------------------------------------------------
 
-// timestampResponse
+// xtreemfs_renew_capabilitiesResponse
 
-// required fixed32 timestamp_s = 1;
-inline bool timestampResponse::has_timestamp_s() const {
-  return (_has_bits_[0] & 0x00000001u) != 0;
+// repeated .xtreemfs.pbrpc.XCap xcaps = 1;
+inline int xtreemfs_renew_capabilitiesResponse::xcaps_size() const {
+  return xcaps_.size();
 }
-inline void timestampResponse::set_has_timestamp_s() {
-  _has_bits_[0] |= 0x00000001u;
+inline void xtreemfs_renew_capabilitiesResponse::clear_xcaps() {
+  xcaps_.Clear();
 }
-inline void timestampResponse::clear_has_timestamp_s() {
-  _has_bits_[0] &= ~0x00000001u;
+inline const ::xtreemfs::pbrpc::XCap& xtreemfs_renew_capabilitiesResponse::xcaps(int index) const {
+  return xcaps_.Get(index);
 }
-inline void timestampResponse::clear_timestamp_s() {
-  timestamp_s_ = 0u;
-  clear_has_timestamp_s();
+inline ::xtreemfs::pbrpc::XCap* xtreemfs_renew_capabilitiesResponse::mutable_xcaps(int index) {
+  return xcaps_.Mutable(index);
 }
-inline ::google::protobuf::uint32 timestampResponse::timestamp_s() const {
-  return timestamp_s_;
+inline ::xtreemfs::pbrpc::XCap* xtreemfs_renew_capabilitiesResponse::add_xcaps() {
+  return xcaps_.Add();
 }
-inline void timestampResponse::set_timestamp_s(::google::protobuf::uint32 value) {
-  set_has_timestamp_s();
-  timestamp_s_ = value;
+inline const ::google::protobuf::RepeatedPtrField< ::xtreemfs::pbrpc::XCap >&
+xtreemfs_renew_capabilitiesResponse::xcaps() const {
+  return xcaps_;
+}
+inline ::google::protobuf::RepeatedPtrField< ::xtreemfs::pbrpc::XCap >*
+xtreemfs_renew_capabilitiesResponse::mutable_xcaps() {
+  return &xcaps_;
 }
 
 // -------------------------------------------------------------------
 
-// stringMessage
+// xtreemfs_get_xlocsetRequest
 
-// required string a_string = 1;
-inline bool stringMessage::has_a_string() const {
+// optional string file_id = 1;
+inline bool xtreemfs_get_xlocsetRequest::has_file_id() const {
   return (_has_bits_[0] & 0x00000001u) != 0;
 }
-inline void stringMessage::set_has_a_string() {
+inline void xtreemfs_get_xlocsetRequest::set_has_file_id() {
   _has_bits_[0] |= 0x00000001u;
 }
-inline void stringMessage::clear_has_a_string() {
+inline void xtreemfs_get_xlocsetRequest::clear_has_file_id() {
   _has_bits_[0] &= ~0x00000001u;
 }
-inline void stringMessage::clear_a_string() {
-  if (a_string_ != &::google::protobuf::internal::kEmptyString) {
-    a_string_->clear();
+inline void xtreemfs_get_xlocsetRequest::clear_file_id() {
+  if (file_id_ != &::google::protobuf::internal::kEmptyString) {
+    file_id_->clear();
   }
-  clear_has_a_string();
+  clear_has_file_id();
 }
-inline const ::std::string& stringMessage::a_string() const {
-  return *a_string_;
+inline const ::std::string& xtreemfs_get_xlocsetRequest::file_id() const {
+  return *file_id_;
 }
-inline void stringMessage::set_a_string(const ::std::string& value) {
-  set_has_a_string();
-  if (a_string_ == &::google::protobuf::internal::kEmptyString) {
-    a_string_ = new ::std::string;
+inline void xtreemfs_get_xlocsetRequest::set_file_id(const ::std::string& value) {
+  set_has_file_id();
+  if (file_id_ == &::google::protobuf::internal::kEmptyString) {
+    file_id_ = new ::std::string;
   }
-  a_string_->assign(value);
+  file_id_->assign(value);
 }
-inline void stringMessage::set_a_string(const char* value) {
-  set_has_a_string();
-  if (a_string_ == &::google::protobuf::internal::kEmptyString) {
-    a_string_ = new ::std::string;
+inline void xtreemfs_get_xlocsetRequest::set_file_id(const char* value) {
+  set_has_file_id();
+  if (file_id_ == &::google::protobuf::internal::kEmptyString) {
+    file_id_ = new ::std::string;
   }
-  a_string_->assign(value);
+  file_id_->assign(value);
 }
-inline void stringMessage::set_a_string(const char* value, size_t size) {
-  set_has_a_string();
-  if (a_string_ == &::google::protobuf::internal::kEmptyString) {
-    a_string_ = new ::std::string;
+inline void xtreemfs_get_xlocsetRequest::set_file_id(const char* value, size_t size) {
+  set_has_file_id();
+  if (file_id_ == &::google::protobuf::internal::kEmptyString) {
+    file_id_ = new ::std::string;
   }
-  a_string_->assign(reinterpret_cast<const char*>(value), size);
+  file_id_->assign(reinterpret_cast<const char*>(value), size);
 }
-inline ::std::string* stringMessage::mutable_a_string() {
-  set_has_a_string();
-  if (a_string_ == &::google::protobuf::internal::kEmptyString) {
-    a_string_ = new ::std::string;
+inline ::std::string* xtreemfs_get_xlocsetRequest::mutable_file_id() {
+  set_has_file_id();
+  if (file_id_ == &::google::protobuf::internal::kEmptyString) {
+    file_id_ = new ::std::string;
   }
-  return a_string_;
+  return file_id_;
 }
-inline ::std::string* stringMessage::release_a_string() {
-  clear_has_a_string();
-  if (a_string_ == &::google::protobuf::internal::kEmptyString) {
+inline ::std::string* xtreemfs_get_xlocsetRequest::release_file_id() {
+  clear_has_file_id();
+  if (file_id_ == &::google::protobuf::internal::kEmptyString) {
     return NULL;
   } else {
-    ::std::string* temp = a_string_;
-    a_string_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    ::std::string* temp = file_id_;
+    file_id_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
     return temp;
   }
 }
-inline void stringMessage::set_allocated_a_string(::std::string* a_string) {
-  if (a_string_ != &::google::protobuf::internal::kEmptyString) {
-    delete a_string_;
+inline void xtreemfs_get_xlocsetRequest::set_allocated_file_id(::std::string* file_id) {
+  if (file_id_ != &::google::protobuf::internal::kEmptyString) {
+    delete file_id_;
   }
-  if (a_string) {
-    set_has_a_string();
-    a_string_ = a_string;
+  if (file_id) {
+    set_has_file_id();
+    file_id_ = file_id;
   } else {
-    clear_has_a_string();
-    a_string_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    clear_has_file_id();
+    file_id_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
   }
 }
 
-// -------------------------------------------------------------------
-
-// xtreemfs_listdirRequest
-
-// required string path = 1;
-inline bool xtreemfs_listdirRequest::has_path() const {
-  return (_has_bits_[0] & 0x00000001u) != 0;
+// optional string path = 2;
+inline bool xtreemfs_get_xlocsetRequest::has_path() const {
+  return (_has_bits_[0] & 0x00000002u) != 0;
 }
-inline void xtreemfs_listdirRequest::set_has_path() {
-  _has_bits_[0] |= 0x00000001u;
+inline void xtreemfs_get_xlocsetRequest::set_has_path() {
+  _has_bits_[0] |= 0x00000002u;
 }
-inline void xtreemfs_listdirRequest::clear_has_path() {
-  _has_bits_[0] &= ~0x00000001u;
+inline void xtreemfs_get_xlocsetRequest::clear_has_path() {
+  _has_bits_[0] &= ~0x00000002u;
 }
-inline void xtreemfs_listdirRequest::clear_path() {
+inline void xtreemfs_get_xlocsetRequest::clear_path() {
   if (path_ != &::google::protobuf::internal::kEmptyString) {
     path_->clear();
   }
   clear_has_path();
 }
-inline const ::std::string& xtreemfs_listdirRequest::path() const {
+inline const ::std::string& xtreemfs_get_xlocsetRequest::path() const {
   return *path_;
 }
-inline void xtreemfs_listdirRequest::set_path(const ::std::string& value) {
+inline void xtreemfs_get_xlocsetRequest::set_path(const ::std::string& value) {
   set_has_path();
   if (path_ == &::google::protobuf::internal::kEmptyString) {
     path_ = new ::std::string;
   }
   path_->assign(value);
 }
-inline void xtreemfs_listdirRequest::set_path(const char* value) {
+inline void xtreemfs_get_xlocsetRequest::set_path(const char* value) {
   set_has_path();
   if (path_ == &::google::protobuf::internal::kEmptyString) {
     path_ = new ::std::string;
   }
   path_->assign(value);
 }
-inline void xtreemfs_listdirRequest::set_path(const char* value, size_t size) {
+inline void xtreemfs_get_xlocsetRequest::set_path(const char* value, size_t size) {
   set_has_path();
   if (path_ == &::google::protobuf::internal::kEmptyString) {
     path_ = new ::std::string;
   }
   path_->assign(reinterpret_cast<const char*>(value), size);
 }
-inline ::std::string* xtreemfs_listdirRequest::mutable_path() {
+inline ::std::string* xtreemfs_get_xlocsetRequest::mutable_path() {
   set_has_path();
   if (path_ == &::google::protobuf::internal::kEmptyString) {
     path_ = new ::std::string;
   }
   return path_;
 }
-inline ::std::string* xtreemfs_listdirRequest::release_path() {
+inline ::std::string* xtreemfs_get_xlocsetRequest::release_path() {
   clear_has_path();
   if (path_ == &::google::protobuf::internal::kEmptyString) {
     return NULL;
@@ -12484,7 +14831,7 @@ inline ::std::string* xtreemfs_listdirRequest::release_path() {
     return temp;
   }
 }
-inline void xtreemfs_listdirRequest::set_allocated_path(::std::string* path) {
+inline void xtreemfs_get_xlocsetRequest::set_allocated_path(::std::string* path) {
   if (path_ != &::google::protobuf::internal::kEmptyString) {
     delete path_;
   }
@@ -12497,106 +14844,166 @@ inline void xtreemfs_listdirRequest::set_allocated_path(::std::string* path) {
   }
 }
 
-// -------------------------------------------------------------------
-
-// xtreemfs_listdirResponse
-
-// repeated string names = 1;
-inline int xtreemfs_listdirResponse::names_size() const {
-  return names_.size();
+// optional string volume_name = 3;
+inline bool xtreemfs_get_xlocsetRequest::has_volume_name() const {
+  return (_has_bits_[0] & 0x00000004u) != 0;
 }
-inline void xtreemfs_listdirResponse::clear_names() {
-  names_.Clear();
+inline void xtreemfs_get_xlocsetRequest::set_has_volume_name() {
+  _has_bits_[0] |= 0x00000004u;
 }
-inline const ::std::string& xtreemfs_listdirResponse::names(int index) const {
-  return names_.Get(index);
+inline void xtreemfs_get_xlocsetRequest::clear_has_volume_name() {
+  _has_bits_[0] &= ~0x00000004u;
 }
-inline ::std::string* xtreemfs_listdirResponse::mutable_names(int index) {
-  return names_.Mutable(index);
+inline void xtreemfs_get_xlocsetRequest::clear_volume_name() {
+  if (volume_name_ != &::google::protobuf::internal::kEmptyString) {
+    volume_name_->clear();
+  }
+  clear_has_volume_name();
 }
-inline void xtreemfs_listdirResponse::set_names(int index, const ::std::string& value) {
-  names_.Mutable(index)->assign(value);
+inline const ::std::string& xtreemfs_get_xlocsetRequest::volume_name() const {
+  return *volume_name_;
+}
+inline void xtreemfs_get_xlocsetRequest::set_volume_name(const ::std::string& value) {
+  set_has_volume_name();
+  if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
+    volume_name_ = new ::std::string;
+  }
+  volume_name_->assign(value);
+}
+inline void xtreemfs_get_xlocsetRequest::set_volume_name(const char* value) {
+  set_has_volume_name();
+  if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
+    volume_name_ = new ::std::string;
+  }
+  volume_name_->assign(value);
+}
+inline void xtreemfs_get_xlocsetRequest::set_volume_name(const char* value, size_t size) {
+  set_has_volume_name();
+  if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
+    volume_name_ = new ::std::string;
+  }
+  volume_name_->assign(reinterpret_cast<const char*>(value), size);
+}
+inline ::std::string* xtreemfs_get_xlocsetRequest::mutable_volume_name() {
+  set_has_volume_name();
+  if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
+    volume_name_ = new ::std::string;
+  }
+  return volume_name_;
+}
+inline ::std::string* xtreemfs_get_xlocsetRequest::release_volume_name() {
+  clear_has_volume_name();
+  if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
+    return NULL;
+  } else {
+    ::std::string* temp = volume_name_;
+    volume_name_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    return temp;
+  }
+}
+inline void xtreemfs_get_xlocsetRequest::set_allocated_volume_name(::std::string* volume_name) {
+  if (volume_name_ != &::google::protobuf::internal::kEmptyString) {
+    delete volume_name_;
+  }
+  if (volume_name) {
+    set_has_volume_name();
+    volume_name_ = volume_name;
+  } else {
+    clear_has_volume_name();
+    volume_name_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  }
 }
-inline void xtreemfs_listdirResponse::set_names(int index, const char* value) {
-  names_.Mutable(index)->assign(value);
+
+// optional .xtreemfs.pbrpc.XCap xcap = 4;
+inline bool xtreemfs_get_xlocsetRequest::has_xcap() const {
+  return (_has_bits_[0] & 0x00000008u) != 0;
 }
-inline void xtreemfs_listdirResponse::set_names(int index, const char* value, size_t size) {
-  names_.Mutable(index)->assign(
-    reinterpret_cast<const char*>(value), size);
+inline void xtreemfs_get_xlocsetRequest::set_has_xcap() {
+  _has_bits_[0] |= 0x00000008u;
 }
-inline ::std::string* xtreemfs_listdirResponse::add_names() {
-  return names_.Add();
+inline void xtreemfs_get_xlocsetRequest::clear_has_xcap() {
+  _has_bits_[0] &= ~0x00000008u;
 }
-inline void xtreemfs_listdirResponse::add_names(const ::std::string& value) {
-  names_.Add()->assign(value);
+inline void xtreemfs_get_xlocsetRequest::clear_xcap() {
+  if (xcap_ != NULL) xcap_->::xtreemfs::pbrpc::XCap::Clear();
+  clear_has_xcap();
 }
-inline void xtreemfs_listdirResponse::add_names(const char* value) {
-  names_.Add()->assign(value);
+inline const ::xtreemfs::pbrpc::XCap& xtreemfs_get_xlocsetRequest::xcap() const {
+  return xcap_ != NULL ? *xcap_ : *default_instance_->xcap_;
 }
-inline void xtreemfs_listdirResponse::add_names(const char* value, size_t size) {
-  names_.Add()->assign(reinterpret_cast<const char*>(value), size);
+inline ::xtreemfs::pbrpc::XCap* xtreemfs_get_xlocsetRequest::mutable_xcap() {
+  set_has_xcap();
+  if (xcap_ == NULL) xcap_ = new ::xtreemfs::pbrpc::XCap;
+  return xcap_;
 }
-inline const ::google::protobuf::RepeatedPtrField< ::std::string>&
-xtreemfs_listdirResponse::names() const {
-  return names_;
+inline ::xtreemfs::pbrpc::XCap* xtreemfs_get_xlocsetRequest::release_xcap() {
+  clear_has_xcap();
+  ::xtreemfs::pbrpc::XCap* temp = xcap_;
+  xcap_ = NULL;
+  return temp;
 }
-inline ::google::protobuf::RepeatedPtrField< ::std::string>*
-xtreemfs_listdirResponse::mutable_names() {
-  return &names_;
+inline void xtreemfs_get_xlocsetRequest::set_allocated_xcap(::xtreemfs::pbrpc::XCap* xcap) {
+  delete xcap_;
+  xcap_ = xcap;
+  if (xcap) {
+    set_has_xcap();
+  } else {
+    clear_has_xcap();
+  }
 }
 
 // -------------------------------------------------------------------
 
-// xtreemfs_replica_addRequest
+// xtreemfs_replica_removeRequest
 
 // optional string file_id = 1;
-inline bool xtreemfs_replica_addRequest::has_file_id() const {
+inline bool xtreemfs_replica_removeRequest::has_file_id() const {
   return (_has_bits_[0] & 0x00000001u) != 0;
 }
-inline void xtreemfs_replica_addRequest::set_has_file_id() {
+inline void xtreemfs_replica_removeRequest::set_has_file_id() {
   _has_bits_[0] |= 0x00000001u;
 }
-inline void xtreemfs_replica_addRequest::clear_has_file_id() {
+inline void xtreemfs_replica_removeRequest::clear_has_file_id() {
   _has_bits_[0] &= ~0x00000001u;
 }
-inline void xtreemfs_replica_addRequest::clear_file_id() {
+inline void xtreemfs_replica_removeRequest::clear_file_id() {
   if (file_id_ != &::google::protobuf::internal::kEmptyString) {
     file_id_->clear();
   }
   clear_has_file_id();
 }
-inline const ::std::string& xtreemfs_replica_addRequest::file_id() const {
+inline const ::std::string& xtreemfs_replica_removeRequest::file_id() const {
   return *file_id_;
 }
-inline void xtreemfs_replica_addRequest::set_file_id(const ::std::string& value) {
+inline void xtreemfs_replica_removeRequest::set_file_id(const ::std::string& value) {
   set_has_file_id();
   if (file_id_ == &::google::protobuf::internal::kEmptyString) {
     file_id_ = new ::std::string;
   }
   file_id_->assign(value);
 }
-inline void xtreemfs_replica_addRequest::set_file_id(const char* value) {
+inline void xtreemfs_replica_removeRequest::set_file_id(const char* value) {
   set_has_file_id();
   if (file_id_ == &::google::protobuf::internal::kEmptyString) {
     file_id_ = new ::std::string;
   }
   file_id_->assign(value);
 }
-inline void xtreemfs_replica_addRequest::set_file_id(const char* value, size_t size) {
+inline void xtreemfs_replica_removeRequest::set_file_id(const char* value, size_t size) {
   set_has_file_id();
   if (file_id_ == &::google::protobuf::internal::kEmptyString) {
     file_id_ = new ::std::string;
   }
   file_id_->assign(reinterpret_cast<const char*>(value), size);
 }
-inline ::std::string* xtreemfs_replica_addRequest::mutable_file_id() {
+inline ::std::string* xtreemfs_replica_removeRequest::mutable_file_id() {
   set_has_file_id();
   if (file_id_ == &::google::protobuf::internal::kEmptyString) {
     file_id_ = new ::std::string;
   }
   return file_id_;
 }
-inline ::std::string* xtreemfs_replica_addRequest::release_file_id() {
+inline ::std::string* xtreemfs_replica_removeRequest::release_file_id() {
   clear_has_file_id();
   if (file_id_ == &::google::protobuf::internal::kEmptyString) {
     return NULL;
@@ -12606,7 +15013,7 @@ inline ::std::string* xtreemfs_replica_addRequest::release_file_id() {
     return temp;
   }
 }
-inline void xtreemfs_replica_addRequest::set_allocated_file_id(::std::string* file_id) {
+inline void xtreemfs_replica_removeRequest::set_allocated_file_id(::std::string* file_id) {
   if (file_id_ != &::google::protobuf::internal::kEmptyString) {
     delete file_id_;
   }
@@ -12620,53 +15027,53 @@ inline void xtreemfs_replica_addRequest::set_allocated_file_id(::std::string* fi
 }
 
 // optional string path = 3;
-inline bool xtreemfs_replica_addRequest::has_path() const {
+inline bool xtreemfs_replica_removeRequest::has_path() const {
   return (_has_bits_[0] & 0x00000002u) != 0;
 }
-inline void xtreemfs_replica_addRequest::set_has_path() {
+inline void xtreemfs_replica_removeRequest::set_has_path() {
   _has_bits_[0] |= 0x00000002u;
 }
-inline void xtreemfs_replica_addRequest::clear_has_path() {
+inline void xtreemfs_replica_removeRequest::clear_has_path() {
   _has_bits_[0] &= ~0x00000002u;
 }
-inline void xtreemfs_replica_addRequest::clear_path() {
+inline void xtreemfs_replica_removeRequest::clear_path() {
   if (path_ != &::google::protobuf::internal::kEmptyString) {
     path_->clear();
   }
   clear_has_path();
 }
-inline const ::std::string& xtreemfs_replica_addRequest::path() const {
+inline const ::std::string& xtreemfs_replica_removeRequest::path() const {
   return *path_;
 }
-inline void xtreemfs_replica_addRequest::set_path(const ::std::string& value) {
+inline void xtreemfs_replica_removeRequest::set_path(const ::std::string& value) {
   set_has_path();
   if (path_ == &::google::protobuf::internal::kEmptyString) {
     path_ = new ::std::string;
   }
   path_->assign(value);
 }
-inline void xtreemfs_replica_addRequest::set_path(const char* value) {
+inline void xtreemfs_replica_removeRequest::set_path(const char* value) {
   set_has_path();
   if (path_ == &::google::protobuf::internal::kEmptyString) {
     path_ = new ::std::string;
   }
   path_->assign(value);
 }
-inline void xtreemfs_replica_addRequest::set_path(const char* value, size_t size) {
+inline void xtreemfs_replica_removeRequest::set_path(const char* value, size_t size) {
   set_has_path();
   if (path_ == &::google::protobuf::internal::kEmptyString) {
     path_ = new ::std::string;
   }
   path_->assign(reinterpret_cast<const char*>(value), size);
 }
-inline ::std::string* xtreemfs_replica_addRequest::mutable_path() {
+inline ::std::string* xtreemfs_replica_removeRequest::mutable_path() {
   set_has_path();
   if (path_ == &::google::protobuf::internal::kEmptyString) {
     path_ = new ::std::string;
   }
   return path_;
 }
-inline ::std::string* xtreemfs_replica_addRequest::release_path() {
+inline ::std::string* xtreemfs_replica_removeRequest::release_path() {
   clear_has_path();
   if (path_ == &::google::protobuf::internal::kEmptyString) {
     return NULL;
@@ -12676,7 +15083,7 @@ inline ::std::string* xtreemfs_replica_addRequest::release_path() {
     return temp;
   }
 }
-inline void xtreemfs_replica_addRequest::set_allocated_path(::std::string* path) {
+inline void xtreemfs_replica_removeRequest::set_allocated_path(::std::string* path) {
   if (path_ != &::google::protobuf::internal::kEmptyString) {
     delete path_;
   }
@@ -12690,165 +15097,267 @@ inline void xtreemfs_replica_addRequest::set_allocated_path(::std::string* path)
 }
 
 // optional string volume_name = 4;
-inline bool xtreemfs_replica_addRequest::has_volume_name() const {
+inline bool xtreemfs_replica_removeRequest::has_volume_name() const {
   return (_has_bits_[0] & 0x00000004u) != 0;
 }
-inline void xtreemfs_replica_addRequest::set_has_volume_name() {
+inline void xtreemfs_replica_removeRequest::set_has_volume_name() {
   _has_bits_[0] |= 0x00000004u;
 }
-inline void xtreemfs_replica_addRequest::clear_has_volume_name() {
+inline void xtreemfs_replica_removeRequest::clear_has_volume_name() {
   _has_bits_[0] &= ~0x00000004u;
 }
-inline void xtreemfs_replica_addRequest::clear_volume_name() {
+inline void xtreemfs_replica_removeRequest::clear_volume_name() {
   if (volume_name_ != &::google::protobuf::internal::kEmptyString) {
     volume_name_->clear();
   }
   clear_has_volume_name();
 }
-inline const ::std::string& xtreemfs_replica_addRequest::volume_name() const {
+inline const ::std::string& xtreemfs_replica_removeRequest::volume_name() const {
   return *volume_name_;
 }
-inline void xtreemfs_replica_addRequest::set_volume_name(const ::std::string& value) {
+inline void xtreemfs_replica_removeRequest::set_volume_name(const ::std::string& value) {
   set_has_volume_name();
   if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
     volume_name_ = new ::std::string;
   }
   volume_name_->assign(value);
 }
-inline void xtreemfs_replica_addRequest::set_volume_name(const char* value) {
+inline void xtreemfs_replica_removeRequest::set_volume_name(const char* value) {
+  set_has_volume_name();
+  if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
+    volume_name_ = new ::std::string;
+  }
+  volume_name_->assign(value);
+}
+inline void xtreemfs_replica_removeRequest::set_volume_name(const char* value, size_t size) {
+  set_has_volume_name();
+  if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
+    volume_name_ = new ::std::string;
+  }
+  volume_name_->assign(reinterpret_cast<const char*>(value), size);
+}
+inline ::std::string* xtreemfs_replica_removeRequest::mutable_volume_name() {
   set_has_volume_name();
   if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
     volume_name_ = new ::std::string;
   }
-  volume_name_->assign(value);
+  return volume_name_;
+}
+inline ::std::string* xtreemfs_replica_removeRequest::release_volume_name() {
+  clear_has_volume_name();
+  if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
+    return NULL;
+  } else {
+    ::std::string* temp = volume_name_;
+    volume_name_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    return temp;
+  }
+}
+inline void xtreemfs_replica_removeRequest::set_allocated_volume_name(::std::string* volume_name) {
+  if (volume_name_ != &::google::protobuf::internal::kEmptyString) {
+    delete volume_name_;
+  }
+  if (volume_name) {
+    set_has_volume_name();
+    volume_name_ = volume_name;
+  } else {
+    clear_has_volume_name();
+    volume_name_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  }
+}
+
+// required string osd_uuid = 2;
+inline bool xtreemfs_replica_removeRequest::has_osd_uuid() const {
+  return (_has_bits_[0] & 0x00000008u) != 0;
+}
+inline void xtreemfs_replica_removeRequest::set_has_osd_uuid() {
+  _has_bits_[0] |= 0x00000008u;
+}
+inline void xtreemfs_replica_removeRequest::clear_has_osd_uuid() {
+  _has_bits_[0] &= ~0x00000008u;
+}
+inline void xtreemfs_replica_removeRequest::clear_osd_uuid() {
+  if (osd_uuid_ != &::google::protobuf::internal::kEmptyString) {
+    osd_uuid_->clear();
+  }
+  clear_has_osd_uuid();
+}
+inline const ::std::string& xtreemfs_replica_removeRequest::osd_uuid() const {
+  return *osd_uuid_;
+}
+inline void xtreemfs_replica_removeRequest::set_osd_uuid(const ::std::string& value) {
+  set_has_osd_uuid();
+  if (osd_uuid_ == &::google::protobuf::internal::kEmptyString) {
+    osd_uuid_ = new ::std::string;
+  }
+  osd_uuid_->assign(value);
+}
+inline void xtreemfs_replica_removeRequest::set_osd_uuid(const char* value) {
+  set_has_osd_uuid();
+  if (osd_uuid_ == &::google::protobuf::internal::kEmptyString) {
+    osd_uuid_ = new ::std::string;
+  }
+  osd_uuid_->assign(value);
+}
+inline void xtreemfs_replica_removeRequest::set_osd_uuid(const char* value, size_t size) {
+  set_has_osd_uuid();
+  if (osd_uuid_ == &::google::protobuf::internal::kEmptyString) {
+    osd_uuid_ = new ::std::string;
+  }
+  osd_uuid_->assign(reinterpret_cast<const char*>(value), size);
+}
+inline ::std::string* xtreemfs_replica_removeRequest::mutable_osd_uuid() {
+  set_has_osd_uuid();
+  if (osd_uuid_ == &::google::protobuf::internal::kEmptyString) {
+    osd_uuid_ = new ::std::string;
+  }
+  return osd_uuid_;
+}
+inline ::std::string* xtreemfs_replica_removeRequest::release_osd_uuid() {
+  clear_has_osd_uuid();
+  if (osd_uuid_ == &::google::protobuf::internal::kEmptyString) {
+    return NULL;
+  } else {
+    ::std::string* temp = osd_uuid_;
+    osd_uuid_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    return temp;
+  }
+}
+inline void xtreemfs_replica_removeRequest::set_allocated_osd_uuid(::std::string* osd_uuid) {
+  if (osd_uuid_ != &::google::protobuf::internal::kEmptyString) {
+    delete osd_uuid_;
+  }
+  if (osd_uuid) {
+    set_has_osd_uuid();
+    osd_uuid_ = osd_uuid;
+  } else {
+    clear_has_osd_uuid();
+    osd_uuid_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  }
+}
+
+// -------------------------------------------------------------------
+
+// xtreemfs_restore_fileRequest
+
+// required string file_path = 1;
+inline bool xtreemfs_restore_fileRequest::has_file_path() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
+}
+inline void xtreemfs_restore_fileRequest::set_has_file_path() {
+  _has_bits_[0] |= 0x00000001u;
+}
+inline void xtreemfs_restore_fileRequest::clear_has_file_path() {
+  _has_bits_[0] &= ~0x00000001u;
+}
+inline void xtreemfs_restore_fileRequest::clear_file_path() {
+  if (file_path_ != &::google::protobuf::internal::kEmptyString) {
+    file_path_->clear();
+  }
+  clear_has_file_path();
+}
+inline const ::std::string& xtreemfs_restore_fileRequest::file_path() const {
+  return *file_path_;
+}
+inline void xtreemfs_restore_fileRequest::set_file_path(const ::std::string& value) {
+  set_has_file_path();
+  if (file_path_ == &::google::protobuf::internal::kEmptyString) {
+    file_path_ = new ::std::string;
+  }
+  file_path_->assign(value);
+}
+inline void xtreemfs_restore_fileRequest::set_file_path(const char* value) {
+  set_has_file_path();
+  if (file_path_ == &::google::protobuf::internal::kEmptyString) {
+    file_path_ = new ::std::string;
+  }
+  file_path_->assign(value);
 }
-inline void xtreemfs_replica_addRequest::set_volume_name(const char* value, size_t size) {
-  set_has_volume_name();
-  if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
-    volume_name_ = new ::std::string;
+inline void xtreemfs_restore_fileRequest::set_file_path(const char* value, size_t size) {
+  set_has_file_path();
+  if (file_path_ == &::google::protobuf::internal::kEmptyString) {
+    file_path_ = new ::std::string;
   }
-  volume_name_->assign(reinterpret_cast<const char*>(value), size);
+  file_path_->assign(reinterpret_cast<const char*>(value), size);
 }
-inline ::std::string* xtreemfs_replica_addRequest::mutable_volume_name() {
-  set_has_volume_name();
-  if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
-    volume_name_ = new ::std::string;
+inline ::std::string* xtreemfs_restore_fileRequest::mutable_file_path() {
+  set_has_file_path();
+  if (file_path_ == &::google::protobuf::internal::kEmptyString) {
+    file_path_ = new ::std::string;
   }
-  return volume_name_;
+  return file_path_;
 }
-inline ::std::string* xtreemfs_replica_addRequest::release_volume_name() {
-  clear_has_volume_name();
-  if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
+inline ::std::string* xtreemfs_restore_fileRequest::release_file_path() {
+  clear_has_file_path();
+  if (file_path_ == &::google::protobuf::internal::kEmptyString) {
     return NULL;
   } else {
-    ::std::string* temp = volume_name_;
-    volume_name_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    ::std::string* temp = file_path_;
+    file_path_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
     return temp;
   }
 }
-inline void xtreemfs_replica_addRequest::set_allocated_volume_name(::std::string* volume_name) {
-  if (volume_name_ != &::google::protobuf::internal::kEmptyString) {
-    delete volume_name_;
-  }
-  if (volume_name) {
-    set_has_volume_name();
-    volume_name_ = volume_name;
-  } else {
-    clear_has_volume_name();
-    volume_name_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+inline void xtreemfs_restore_fileRequest::set_allocated_file_path(::std::string* file_path) {
+  if (file_path_ != &::google::protobuf::internal::kEmptyString) {
+    delete file_path_;
   }
-}
-
-// required .xtreemfs.pbrpc.Replica new_replica = 2;
-inline bool xtreemfs_replica_addRequest::has_new_replica() const {
-  return (_has_bits_[0] & 0x00000008u) != 0;
-}
-inline void xtreemfs_replica_addRequest::set_has_new_replica() {
-  _has_bits_[0] |= 0x00000008u;
-}
-inline void xtreemfs_replica_addRequest::clear_has_new_replica() {
-  _has_bits_[0] &= ~0x00000008u;
-}
-inline void xtreemfs_replica_addRequest::clear_new_replica() {
-  if (new_replica_ != NULL) new_replica_->::xtreemfs::pbrpc::Replica::Clear();
-  clear_has_new_replica();
-}
-inline const ::xtreemfs::pbrpc::Replica& xtreemfs_replica_addRequest::new_replica() const {
-  return new_replica_ != NULL ? *new_replica_ : *default_instance_->new_replica_;
-}
-inline ::xtreemfs::pbrpc::Replica* xtreemfs_replica_addRequest::mutable_new_replica() {
-  set_has_new_replica();
-  if (new_replica_ == NULL) new_replica_ = new ::xtreemfs::pbrpc::Replica;
-  return new_replica_;
-}
-inline ::xtreemfs::pbrpc::Replica* xtreemfs_replica_addRequest::release_new_replica() {
-  clear_has_new_replica();
-  ::xtreemfs::pbrpc::Replica* temp = new_replica_;
-  new_replica_ = NULL;
-  return temp;
-}
-inline void xtreemfs_replica_addRequest::set_allocated_new_replica(::xtreemfs::pbrpc::Replica* new_replica) {
-  delete new_replica_;
-  new_replica_ = new_replica;
-  if (new_replica) {
-    set_has_new_replica();
+  if (file_path) {
+    set_has_file_path();
+    file_path_ = file_path;
   } else {
-    clear_has_new_replica();
+    clear_has_file_path();
+    file_path_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
   }
 }
 
-// -------------------------------------------------------------------
-
-// xtreemfs_replica_listRequest
-
-// optional string file_id = 1;
-inline bool xtreemfs_replica_listRequest::has_file_id() const {
-  return (_has_bits_[0] & 0x00000001u) != 0;
+// required string file_id = 2;
+inline bool xtreemfs_restore_fileRequest::has_file_id() const {
+  return (_has_bits_[0] & 0x00000002u) != 0;
 }
-inline void xtreemfs_replica_listRequest::set_has_file_id() {
-  _has_bits_[0] |= 0x00000001u;
+inline void xtreemfs_restore_fileRequest::set_has_file_id() {
+  _has_bits_[0] |= 0x00000002u;
 }
-inline void xtreemfs_replica_listRequest::clear_has_file_id() {
-  _has_bits_[0] &= ~0x00000001u;
+inline void xtreemfs_restore_fileRequest::clear_has_file_id() {
+  _has_bits_[0] &= ~0x00000002u;
 }
-inline void xtreemfs_replica_listRequest::clear_file_id() {
+inline void xtreemfs_restore_fileRequest::clear_file_id() {
   if (file_id_ != &::google::protobuf::internal::kEmptyString) {
     file_id_->clear();
   }
   clear_has_file_id();
 }
-inline const ::std::string& xtreemfs_replica_listRequest::file_id() const {
+inline const ::std::string& xtreemfs_restore_fileRequest::file_id() const {
   return *file_id_;
 }
-inline void xtreemfs_replica_listRequest::set_file_id(const ::std::string& value) {
+inline void xtreemfs_restore_fileRequest::set_file_id(const ::std::string& value) {
   set_has_file_id();
   if (file_id_ == &::google::protobuf::internal::kEmptyString) {
     file_id_ = new ::std::string;
   }
   file_id_->assign(value);
 }
-inline void xtreemfs_replica_listRequest::set_file_id(const char* value) {
+inline void xtreemfs_restore_fileRequest::set_file_id(const char* value) {
   set_has_file_id();
   if (file_id_ == &::google::protobuf::internal::kEmptyString) {
     file_id_ = new ::std::string;
   }
   file_id_->assign(value);
 }
-inline void xtreemfs_replica_listRequest::set_file_id(const char* value, size_t size) {
+inline void xtreemfs_restore_fileRequest::set_file_id(const char* value, size_t size) {
   set_has_file_id();
   if (file_id_ == &::google::protobuf::internal::kEmptyString) {
     file_id_ = new ::std::string;
   }
   file_id_->assign(reinterpret_cast<const char*>(value), size);
 }
-inline ::std::string* xtreemfs_replica_listRequest::mutable_file_id() {
+inline ::std::string* xtreemfs_restore_fileRequest::mutable_file_id() {
   set_has_file_id();
   if (file_id_ == &::google::protobuf::internal::kEmptyString) {
     file_id_ = new ::std::string;
   }
   return file_id_;
 }
-inline ::std::string* xtreemfs_replica_listRequest::release_file_id() {
+inline ::std::string* xtreemfs_restore_fileRequest::release_file_id() {
   clear_has_file_id();
   if (file_id_ == &::google::protobuf::internal::kEmptyString) {
     return NULL;
@@ -12858,7 +15367,7 @@ inline ::std::string* xtreemfs_replica_listRequest::release_file_id() {
     return temp;
   }
 }
-inline void xtreemfs_replica_listRequest::set_allocated_file_id(::std::string* file_id) {
+inline void xtreemfs_restore_fileRequest::set_allocated_file_id(::std::string* file_id) {
   if (file_id_ != &::google::protobuf::internal::kEmptyString) {
     delete file_id_;
   }
@@ -12871,124 +15380,172 @@ inline void xtreemfs_replica_listRequest::set_allocated_file_id(::std::string* f
   }
 }
 
-// optional string path = 2;
-inline bool xtreemfs_replica_listRequest::has_path() const {
-  return (_has_bits_[0] & 0x00000002u) != 0;
+// required fixed64 file_size = 3;
+inline bool xtreemfs_restore_fileRequest::has_file_size() const {
+  return (_has_bits_[0] & 0x00000004u) != 0;
 }
-inline void xtreemfs_replica_listRequest::set_has_path() {
-  _has_bits_[0] |= 0x00000002u;
+inline void xtreemfs_restore_fileRequest::set_has_file_size() {
+  _has_bits_[0] |= 0x00000004u;
 }
-inline void xtreemfs_replica_listRequest::clear_has_path() {
-  _has_bits_[0] &= ~0x00000002u;
+inline void xtreemfs_restore_fileRequest::clear_has_file_size() {
+  _has_bits_[0] &= ~0x00000004u;
 }
-inline void xtreemfs_replica_listRequest::clear_path() {
-  if (path_ != &::google::protobuf::internal::kEmptyString) {
-    path_->clear();
+inline void xtreemfs_restore_fileRequest::clear_file_size() {
+  file_size_ = GOOGLE_ULONGLONG(0);
+  clear_has_file_size();
+}
+inline ::google::protobuf::uint64 xtreemfs_restore_fileRequest::file_size() const {
+  return file_size_;
+}
+inline void xtreemfs_restore_fileRequest::set_file_size(::google::protobuf::uint64 value) {
+  set_has_file_size();
+  file_size_ = value;
+}
+
+// required string osd_uuid = 4;
+inline bool xtreemfs_restore_fileRequest::has_osd_uuid() const {
+  return (_has_bits_[0] & 0x00000008u) != 0;
+}
+inline void xtreemfs_restore_fileRequest::set_has_osd_uuid() {
+  _has_bits_[0] |= 0x00000008u;
+}
+inline void xtreemfs_restore_fileRequest::clear_has_osd_uuid() {
+  _has_bits_[0] &= ~0x00000008u;
+}
+inline void xtreemfs_restore_fileRequest::clear_osd_uuid() {
+  if (osd_uuid_ != &::google::protobuf::internal::kEmptyString) {
+    osd_uuid_->clear();
   }
-  clear_has_path();
+  clear_has_osd_uuid();
 }
-inline const ::std::string& xtreemfs_replica_listRequest::path() const {
-  return *path_;
+inline const ::std::string& xtreemfs_restore_fileRequest::osd_uuid() const {
+  return *osd_uuid_;
 }
-inline void xtreemfs_replica_listRequest::set_path(const ::std::string& value) {
-  set_has_path();
-  if (path_ == &::google::protobuf::internal::kEmptyString) {
-    path_ = new ::std::string;
+inline void xtreemfs_restore_fileRequest::set_osd_uuid(const ::std::string& value) {
+  set_has_osd_uuid();
+  if (osd_uuid_ == &::google::protobuf::internal::kEmptyString) {
+    osd_uuid_ = new ::std::string;
   }
-  path_->assign(value);
+  osd_uuid_->assign(value);
 }
-inline void xtreemfs_replica_listRequest::set_path(const char* value) {
-  set_has_path();
-  if (path_ == &::google::protobuf::internal::kEmptyString) {
-    path_ = new ::std::string;
+inline void xtreemfs_restore_fileRequest::set_osd_uuid(const char* value) {
+  set_has_osd_uuid();
+  if (osd_uuid_ == &::google::protobuf::internal::kEmptyString) {
+    osd_uuid_ = new ::std::string;
   }
-  path_->assign(value);
+  osd_uuid_->assign(value);
 }
-inline void xtreemfs_replica_listRequest::set_path(const char* value, size_t size) {
-  set_has_path();
-  if (path_ == &::google::protobuf::internal::kEmptyString) {
-    path_ = new ::std::string;
+inline void xtreemfs_restore_fileRequest::set_osd_uuid(const char* value, size_t size) {
+  set_has_osd_uuid();
+  if (osd_uuid_ == &::google::protobuf::internal::kEmptyString) {
+    osd_uuid_ = new ::std::string;
   }
-  path_->assign(reinterpret_cast<const char*>(value), size);
+  osd_uuid_->assign(reinterpret_cast<const char*>(value), size);
 }
-inline ::std::string* xtreemfs_replica_listRequest::mutable_path() {
-  set_has_path();
-  if (path_ == &::google::protobuf::internal::kEmptyString) {
-    path_ = new ::std::string;
+inline ::std::string* xtreemfs_restore_fileRequest::mutable_osd_uuid() {
+  set_has_osd_uuid();
+  if (osd_uuid_ == &::google::protobuf::internal::kEmptyString) {
+    osd_uuid_ = new ::std::string;
   }
-  return path_;
+  return osd_uuid_;
 }
-inline ::std::string* xtreemfs_replica_listRequest::release_path() {
-  clear_has_path();
-  if (path_ == &::google::protobuf::internal::kEmptyString) {
+inline ::std::string* xtreemfs_restore_fileRequest::release_osd_uuid() {
+  clear_has_osd_uuid();
+  if (osd_uuid_ == &::google::protobuf::internal::kEmptyString) {
     return NULL;
   } else {
-    ::std::string* temp = path_;
-    path_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    ::std::string* temp = osd_uuid_;
+    osd_uuid_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
     return temp;
   }
 }
-inline void xtreemfs_replica_listRequest::set_allocated_path(::std::string* path) {
-  if (path_ != &::google::protobuf::internal::kEmptyString) {
-    delete path_;
+inline void xtreemfs_restore_fileRequest::set_allocated_osd_uuid(::std::string* osd_uuid) {
+  if (osd_uuid_ != &::google::protobuf::internal::kEmptyString) {
+    delete osd_uuid_;
   }
-  if (path) {
-    set_has_path();
-    path_ = path;
+  if (osd_uuid) {
+    set_has_osd_uuid();
+    osd_uuid_ = osd_uuid;
   } else {
-    clear_has_path();
-    path_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    clear_has_osd_uuid();
+    osd_uuid_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
   }
 }
 
-// optional string volume_name = 3;
-inline bool xtreemfs_replica_listRequest::has_volume_name() const {
-  return (_has_bits_[0] & 0x00000004u) != 0;
+// required fixed32 stripe_size = 5;
+inline bool xtreemfs_restore_fileRequest::has_stripe_size() const {
+  return (_has_bits_[0] & 0x00000010u) != 0;
+}
+inline void xtreemfs_restore_fileRequest::set_has_stripe_size() {
+  _has_bits_[0] |= 0x00000010u;
+}
+inline void xtreemfs_restore_fileRequest::clear_has_stripe_size() {
+  _has_bits_[0] &= ~0x00000010u;
+}
+inline void xtreemfs_restore_fileRequest::clear_stripe_size() {
+  stripe_size_ = 0u;
+  clear_has_stripe_size();
+}
+inline ::google::protobuf::uint32 xtreemfs_restore_fileRequest::stripe_size() const {
+  return stripe_size_;
+}
+inline void xtreemfs_restore_fileRequest::set_stripe_size(::google::protobuf::uint32 value) {
+  set_has_stripe_size();
+  stripe_size_ = value;
+}
+
+// -------------------------------------------------------------------
+
+// xtreemfs_rmvolRequest
+
+// required string volume_name = 1;
+inline bool xtreemfs_rmvolRequest::has_volume_name() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
 }
-inline void xtreemfs_replica_listRequest::set_has_volume_name() {
-  _has_bits_[0] |= 0x00000004u;
+inline void xtreemfs_rmvolRequest::set_has_volume_name() {
+  _has_bits_[0] |= 0x00000001u;
 }
-inline void xtreemfs_replica_listRequest::clear_has_volume_name() {
-  _has_bits_[0] &= ~0x00000004u;
+inline void xtreemfs_rmvolRequest::clear_has_volume_name() {
+  _has_bits_[0] &= ~0x00000001u;
 }
-inline void xtreemfs_replica_listRequest::clear_volume_name() {
+inline void xtreemfs_rmvolRequest::clear_volume_name() {
   if (volume_name_ != &::google::protobuf::internal::kEmptyString) {
     volume_name_->clear();
   }
   clear_has_volume_name();
 }
-inline const ::std::string& xtreemfs_replica_listRequest::volume_name() const {
+inline const ::std::string& xtreemfs_rmvolRequest::volume_name() const {
   return *volume_name_;
 }
-inline void xtreemfs_replica_listRequest::set_volume_name(const ::std::string& value) {
+inline void xtreemfs_rmvolRequest::set_volume_name(const ::std::string& value) {
   set_has_volume_name();
   if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
     volume_name_ = new ::std::string;
   }
   volume_name_->assign(value);
 }
-inline void xtreemfs_replica_listRequest::set_volume_name(const char* value) {
+inline void xtreemfs_rmvolRequest::set_volume_name(const char* value) {
   set_has_volume_name();
   if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
     volume_name_ = new ::std::string;
   }
   volume_name_->assign(value);
 }
-inline void xtreemfs_replica_listRequest::set_volume_name(const char* value, size_t size) {
+inline void xtreemfs_rmvolRequest::set_volume_name(const char* value, size_t size) {
   set_has_volume_name();
   if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
     volume_name_ = new ::std::string;
   }
   volume_name_->assign(reinterpret_cast<const char*>(value), size);
 }
-inline ::std::string* xtreemfs_replica_listRequest::mutable_volume_name() {
+inline ::std::string* xtreemfs_rmvolRequest::mutable_volume_name() {
   set_has_volume_name();
   if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
     volume_name_ = new ::std::string;
   }
   return volume_name_;
 }
-inline ::std::string* xtreemfs_replica_listRequest::release_volume_name() {
+inline ::std::string* xtreemfs_rmvolRequest::release_volume_name() {
   clear_has_volume_name();
   if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
     return NULL;
@@ -12998,7 +15555,7 @@ inline ::std::string* xtreemfs_replica_listRequest::release_volume_name() {
     return temp;
   }
 }
-inline void xtreemfs_replica_listRequest::set_allocated_volume_name(::std::string* volume_name) {
+inline void xtreemfs_rmvolRequest::set_allocated_volume_name(::std::string* volume_name) {
   if (volume_name_ != &::google::protobuf::internal::kEmptyString) {
     delete volume_name_;
   }
@@ -13013,196 +15570,575 @@ inline void xtreemfs_replica_listRequest::set_allocated_volume_name(::std::strin
 
 // -------------------------------------------------------------------
 
-// xtreemfs_get_xlocsetRequest
+// xtreemfs_update_file_sizeRequest
 
-// optional string file_id = 1;
-inline bool xtreemfs_get_xlocsetRequest::has_file_id() const {
+// required .xtreemfs.pbrpc.XCap xcap = 1;
+inline bool xtreemfs_update_file_sizeRequest::has_xcap() const {
   return (_has_bits_[0] & 0x00000001u) != 0;
 }
-inline void xtreemfs_get_xlocsetRequest::set_has_file_id() {
+inline void xtreemfs_update_file_sizeRequest::set_has_xcap() {
   _has_bits_[0] |= 0x00000001u;
 }
-inline void xtreemfs_get_xlocsetRequest::clear_has_file_id() {
+inline void xtreemfs_update_file_sizeRequest::clear_has_xcap() {
   _has_bits_[0] &= ~0x00000001u;
 }
-inline void xtreemfs_get_xlocsetRequest::clear_file_id() {
-  if (file_id_ != &::google::protobuf::internal::kEmptyString) {
-    file_id_->clear();
+inline void xtreemfs_update_file_sizeRequest::clear_xcap() {
+  if (xcap_ != NULL) xcap_->::xtreemfs::pbrpc::XCap::Clear();
+  clear_has_xcap();
+}
+inline const ::xtreemfs::pbrpc::XCap& xtreemfs_update_file_sizeRequest::xcap() const {
+  return xcap_ != NULL ? *xcap_ : *default_instance_->xcap_;
+}
+inline ::xtreemfs::pbrpc::XCap* xtreemfs_update_file_sizeRequest::mutable_xcap() {
+  set_has_xcap();
+  if (xcap_ == NULL) xcap_ = new ::xtreemfs::pbrpc::XCap;
+  return xcap_;
+}
+inline ::xtreemfs::pbrpc::XCap* xtreemfs_update_file_sizeRequest::release_xcap() {
+  clear_has_xcap();
+  ::xtreemfs::pbrpc::XCap* temp = xcap_;
+  xcap_ = NULL;
+  return temp;
+}
+inline void xtreemfs_update_file_sizeRequest::set_allocated_xcap(::xtreemfs::pbrpc::XCap* xcap) {
+  delete xcap_;
+  xcap_ = xcap;
+  if (xcap) {
+    set_has_xcap();
+  } else {
+    clear_has_xcap();
   }
-  clear_has_file_id();
 }
-inline const ::std::string& xtreemfs_get_xlocsetRequest::file_id() const {
-  return *file_id_;
+
+// required .xtreemfs.pbrpc.OSDWriteResponse osd_write_response = 2;
+inline bool xtreemfs_update_file_sizeRequest::has_osd_write_response() const {
+  return (_has_bits_[0] & 0x00000002u) != 0;
 }
-inline void xtreemfs_get_xlocsetRequest::set_file_id(const ::std::string& value) {
-  set_has_file_id();
-  if (file_id_ == &::google::protobuf::internal::kEmptyString) {
-    file_id_ = new ::std::string;
+inline void xtreemfs_update_file_sizeRequest::set_has_osd_write_response() {
+  _has_bits_[0] |= 0x00000002u;
+}
+inline void xtreemfs_update_file_sizeRequest::clear_has_osd_write_response() {
+  _has_bits_[0] &= ~0x00000002u;
+}
+inline void xtreemfs_update_file_sizeRequest::clear_osd_write_response() {
+  if (osd_write_response_ != NULL) osd_write_response_->::xtreemfs::pbrpc::OSDWriteResponse::Clear();
+  clear_has_osd_write_response();
+}
+inline const ::xtreemfs::pbrpc::OSDWriteResponse& xtreemfs_update_file_sizeRequest::osd_write_response() const {
+  return osd_write_response_ != NULL ? *osd_write_response_ : *default_instance_->osd_write_response_;
+}
+inline ::xtreemfs::pbrpc::OSDWriteResponse* xtreemfs_update_file_sizeRequest::mutable_osd_write_response() {
+  set_has_osd_write_response();
+  if (osd_write_response_ == NULL) osd_write_response_ = new ::xtreemfs::pbrpc::OSDWriteResponse;
+  return osd_write_response_;
+}
+inline ::xtreemfs::pbrpc::OSDWriteResponse* xtreemfs_update_file_sizeRequest::release_osd_write_response() {
+  clear_has_osd_write_response();
+  ::xtreemfs::pbrpc::OSDWriteResponse* temp = osd_write_response_;
+  osd_write_response_ = NULL;
+  return temp;
+}
+inline void xtreemfs_update_file_sizeRequest::set_allocated_osd_write_response(::xtreemfs::pbrpc::OSDWriteResponse* osd_write_response) {
+  delete osd_write_response_;
+  osd_write_response_ = osd_write_response;
+  if (osd_write_response) {
+    set_has_osd_write_response();
+  } else {
+    clear_has_osd_write_response();
   }
-  file_id_->assign(value);
 }
-inline void xtreemfs_get_xlocsetRequest::set_file_id(const char* value) {
-  set_has_file_id();
-  if (file_id_ == &::google::protobuf::internal::kEmptyString) {
-    file_id_ = new ::std::string;
+
+// optional bool close_file = 3;
+inline bool xtreemfs_update_file_sizeRequest::has_close_file() const {
+  return (_has_bits_[0] & 0x00000004u) != 0;
+}
+inline void xtreemfs_update_file_sizeRequest::set_has_close_file() {
+  _has_bits_[0] |= 0x00000004u;
+}
+inline void xtreemfs_update_file_sizeRequest::clear_has_close_file() {
+  _has_bits_[0] &= ~0x00000004u;
+}
+inline void xtreemfs_update_file_sizeRequest::clear_close_file() {
+  close_file_ = false;
+  clear_has_close_file();
+}
+inline bool xtreemfs_update_file_sizeRequest::close_file() const {
+  return close_file_;
+}
+inline void xtreemfs_update_file_sizeRequest::set_close_file(bool value) {
+  set_has_close_file();
+  close_file_ = value;
+}
+
+// optional .xtreemfs.pbrpc.VivaldiCoordinates coordinates = 4;
+inline bool xtreemfs_update_file_sizeRequest::has_coordinates() const {
+  return (_has_bits_[0] & 0x00000008u) != 0;
+}
+inline void xtreemfs_update_file_sizeRequest::set_has_coordinates() {
+  _has_bits_[0] |= 0x00000008u;
+}
+inline void xtreemfs_update_file_sizeRequest::clear_has_coordinates() {
+  _has_bits_[0] &= ~0x00000008u;
+}
+inline void xtreemfs_update_file_sizeRequest::clear_coordinates() {
+  if (coordinates_ != NULL) coordinates_->::xtreemfs::pbrpc::VivaldiCoordinates::Clear();
+  clear_has_coordinates();
+}
+inline const ::xtreemfs::pbrpc::VivaldiCoordinates& xtreemfs_update_file_sizeRequest::coordinates() const {
+  return coordinates_ != NULL ? *coordinates_ : *default_instance_->coordinates_;
+}
+inline ::xtreemfs::pbrpc::VivaldiCoordinates* xtreemfs_update_file_sizeRequest::mutable_coordinates() {
+  set_has_coordinates();
+  if (coordinates_ == NULL) coordinates_ = new ::xtreemfs::pbrpc::VivaldiCoordinates;
+  return coordinates_;
+}
+inline ::xtreemfs::pbrpc::VivaldiCoordinates* xtreemfs_update_file_sizeRequest::release_coordinates() {
+  clear_has_coordinates();
+  ::xtreemfs::pbrpc::VivaldiCoordinates* temp = coordinates_;
+  coordinates_ = NULL;
+  return temp;
+}
+inline void xtreemfs_update_file_sizeRequest::set_allocated_coordinates(::xtreemfs::pbrpc::VivaldiCoordinates* coordinates) {
+  delete coordinates_;
+  coordinates_ = coordinates;
+  if (coordinates) {
+    set_has_coordinates();
+  } else {
+    clear_has_coordinates();
   }
-  file_id_->assign(value);
 }
-inline void xtreemfs_get_xlocsetRequest::set_file_id(const char* value, size_t size) {
-  set_has_file_id();
-  if (file_id_ == &::google::protobuf::internal::kEmptyString) {
-    file_id_ = new ::std::string;
+
+// -------------------------------------------------------------------
+
+// xtreemfs_update_file_sizesRequest
+
+// repeated .xtreemfs.pbrpc.xtreemfs_update_file_sizeRequest updates = 1;
+inline int xtreemfs_update_file_sizesRequest::updates_size() const {
+  return updates_.size();
+}
+inline void xtreemfs_update_file_sizesRequest::clear_updates() {
+  updates_.Clear();
+}
+inline const ::xtreemfs::pbrpc::xtreemfs_update_file_sizeRequest& xtreemfs_update_file_sizesRequest::updates(int index) const {
+  return updates_.Get(index);
+}
+inline ::xtreemfs::pbrpc::xtreemfs_update_file_sizeRequest* xtreemfs_update_file_sizesRequest::mutable_updates(int index) {
+  return updates_.Mutable(index);
+}
+inline ::xtreemfs::pbrpc::xtreemfs_update_file_sizeRequest* xtreemfs_update_file_sizesRequest::add_updates() {
+  return updates_.Add();
+}
+inline const ::google::protobuf::RepeatedPtrField< ::xtreemfs::pbrpc::xtreemfs_update_file_sizeRequest >&
+xtreemfs_update_file_sizesRequest::updates() const {
+  return updates_;
+}
+inline ::google::protobuf::RepeatedPtrField< ::xtreemfs::pbrpc::xtreemfs_update_file_sizeRequest >*
+xtreemfs_update_file_sizesRequest::mutable_updates() {
+  return &updates_;
+}
+
+// -------------------------------------------------------------------
+
+// xtreemfs_update_file_sizesResponse
+
+// repeated bool success = 1 [packed = true];
+inline int xtreemfs_update_file_sizesResponse::success_size() const {
+  return success_.size();
+}
+inline void xtreemfs_update_file_sizesResponse::clear_success() {
+  success_.Clear();
+}
+inline bool xtreemfs_update_file_sizesResponse::success(int index) const {
+  return success_.Get(index);
+}
+inline void xtreemfs_update_file_sizesResponse::set_success(int index, bool value) {
+  success_.Set(index, value);
+}
+inline void xtreemfs_update_file_sizesResponse::add_success(bool value) {
+  success_.Add(value);
+}
+inline const ::google::protobuf::RepeatedField< bool >&
+xtreemfs_update_file_sizesResponse::success() const {
+  return success_;
+}
+inline ::google::protobuf::RepeatedField< bool >*
+xtreemfs_update_file_sizesResponse::mutable_success() {
+  return &success_;
+}
+
+// -------------------------------------------------------------------
+
+// xtreemfs_create_filesRequest
+
+// required string volume_name = 1;
+inline bool xtreemfs_create_filesRequest::has_volume_name() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
+}
+inline void xtreemfs_create_filesRequest::set_has_volume_name() {
+  _has_bits_[0] |= 0x00000001u;
+}
+inline void xtreemfs_create_filesRequest::clear_has_volume_name() {
+  _has_bits_[0] &= ~0x00000001u;
+}
+inline void xtreemfs_create_filesRequest::clear_volume_name() {
+  if (volume_name_ != &::google::protobuf::internal::kEmptyString) {
+    volume_name_->clear();
   }
-  file_id_->assign(reinterpret_cast<const char*>(value), size);
+  clear_has_volume_name();
 }
-inline ::std::string* xtreemfs_get_xlocsetRequest::mutable_file_id() {
-  set_has_file_id();
-  if (file_id_ == &::google::protobuf::internal::kEmptyString) {
-    file_id_ = new ::std::string;
+inline const ::std::string& xtreemfs_create_filesRequest::volume_name() const {
+  return *volume_name_;
+}
+inline void xtreemfs_create_filesRequest::set_volume_name(const ::std::string& value) {
+  set_has_volume_name();
+  if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
+    volume_name_ = new ::std::string;
   }
-  return file_id_;
+  volume_name_->assign(value);
 }
-inline ::std::string* xtreemfs_get_xlocsetRequest::release_file_id() {
-  clear_has_file_id();
-  if (file_id_ == &::google::protobuf::internal::kEmptyString) {
+inline void xtreemfs_create_filesRequest::set_volume_name(const char* value) {
+  set_has_volume_name();
+  if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
+    volume_name_ = new ::std::string;
+  }
+  volume_name_->assign(value);
+}
+inline void xtreemfs_create_filesRequest::set_volume_name(const char* value, size_t size) {
+  set_has_volume_name();
+  if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
+    volume_name_ = new ::std::string;
+  }
+  volume_name_->assign(reinterpret_cast<const char*>(value), size);
+}
+inline ::std::string* xtreemfs_create_filesRequest::mutable_volume_name() {
+  set_has_volume_name();
+  if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
+    volume_name_ = new ::std::string;
+  }
+  return volume_name_;
+}
+inline ::std::string* xtreemfs_create_filesRequest::release_volume_name() {
+  clear_has_volume_name();
+  if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
     return NULL;
   } else {
-    ::std::string* temp = file_id_;
-    file_id_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    ::std::string* temp = volume_name_;
+    volume_name_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
     return temp;
   }
 }
-inline void xtreemfs_get_xlocsetRequest::set_allocated_file_id(::std::string* file_id) {
-  if (file_id_ != &::google::protobuf::internal::kEmptyString) {
-    delete file_id_;
+inline void xtreemfs_create_filesRequest::set_allocated_volume_name(::std::string* volume_name) {
+  if (volume_name_ != &::google::protobuf::internal::kEmptyString) {
+    delete volume_name_;
   }
-  if (file_id) {
-    set_has_file_id();
-    file_id_ = file_id;
+  if (volume_name) {
+    set_has_volume_name();
+    volume_name_ = volume_name;
   } else {
-    clear_has_file_id();
-    file_id_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    clear_has_volume_name();
+    volume_name_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
   }
 }
 
-// optional string path = 2;
-inline bool xtreemfs_get_xlocsetRequest::has_path() const {
+// required string dir_path = 2;
+inline bool xtreemfs_create_filesRequest::has_dir_path() const {
   return (_has_bits_[0] & 0x00000002u) != 0;
 }
-inline void xtreemfs_get_xlocsetRequest::set_has_path() {
+inline void xtreemfs_create_filesRequest::set_has_dir_path() {
   _has_bits_[0] |= 0x00000002u;
 }
-inline void xtreemfs_get_xlocsetRequest::clear_has_path() {
+inline void xtreemfs_create_filesRequest::clear_has_dir_path() {
   _has_bits_[0] &= ~0x00000002u;
 }
-inline void xtreemfs_get_xlocsetRequest::clear_path() {
-  if (path_ != &::google::protobuf::internal::kEmptyString) {
-    path_->clear();
+inline void xtreemfs_create_filesRequest::clear_dir_path() {
+  if (dir_path_ != &::google::protobuf::internal::kEmptyString) {
+    dir_path_->clear();
   }
-  clear_has_path();
+  clear_has_dir_path();
 }
-inline const ::std::string& xtreemfs_get_xlocsetRequest::path() const {
-  return *path_;
+inline const ::std::string& xtreemfs_create_filesRequest::dir_path() const {
+  return *dir_path_;
 }
-inline void xtreemfs_get_xlocsetRequest::set_path(const ::std::string& value) {
-  set_has_path();
-  if (path_ == &::google::protobuf::internal::kEmptyString) {
-    path_ = new ::std::string;
+inline void xtreemfs_create_filesRequest::set_dir_path(const ::std::string& value) {
+  set_has_dir_path();
+  if (dir_path_ == &::google::protobuf::internal::kEmptyString) {
+    dir_path_ = new ::std::string;
   }
-  path_->assign(value);
+  dir_path_->assign(value);
 }
-inline void xtreemfs_get_xlocsetRequest::set_path(const char* value) {
-  set_has_path();
-  if (path_ == &::google::protobuf::internal::kEmptyString) {
-    path_ = new ::std::string;
+inline void xtreemfs_create_filesRequest::set_dir_path(const char* value) {
+  set_has_dir_path();
+  if (dir_path_ == &::google::protobuf::internal::kEmptyString) {
+    dir_path_ = new ::std::string;
   }
-  path_->assign(value);
+  dir_path_->assign(value);
 }
-inline void xtreemfs_get_xlocsetRequest::set_path(const char* value, size_t size) {
-  set_has_path();
-  if (path_ == &::google::protobuf::internal::kEmptyString) {
-    path_ = new ::std::string;
+inline void xtreemfs_create_filesRequest::set_dir_path(const char* value, size_t size) {
+  set_has_dir_path();
+  if (dir_path_ == &::google::protobuf::internal::kEmptyString) {
+    dir_path_ = new ::std::string;
   }
-  path_->assign(reinterpret_cast<const char*>(value), size);
+  dir_path_->assign(reinterpret_cast<const char*>(value), size);
 }
-inline ::std::string* xtreemfs_get_xlocsetRequest::mutable_path() {
-  set_has_path();
-  if (path_ == &::google::protobuf::internal::kEmptyString) {
-    path_ = new ::std::string;
+inline ::std::string* xtreemfs_create_filesRequest::mutable_dir_path() {
+  set_has_dir_path();
+  if (dir_path_ == &::google::protobuf::internal::kEmptyString) {
+    dir_path_ = new ::std::string;
   }
-  return path_;
+  return dir_path_;
 }
-inline ::std::string* xtreemfs_get_xlocsetRequest::release_path() {
-  clear_has_path();
-  if (path_ == &::google::protobuf::internal::kEmptyString) {
+inline ::std::string* xtreemfs_create_filesRequest::release_dir_path() {
+  clear_has_dir_path();
+  if (dir_path_ == &::google::protobuf::internal::kEmptyString) {
     return NULL;
   } else {
-    ::std::string* temp = path_;
-    path_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    ::std::string* temp = dir_path_;
+    dir_path_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
     return temp;
   }
 }
-inline void xtreemfs_get_xlocsetRequest::set_allocated_path(::std::string* path) {
-  if (path_ != &::google::protobuf::internal::kEmptyString) {
-    delete path_;
+inline void xtreemfs_create_filesRequest::set_allocated_dir_path(::std::string* dir_path) {
+  if (dir_path_ != &::google::protobuf::internal::kEmptyString) {
+    delete dir_path_;
   }
-  if (path) {
-    set_has_path();
-    path_ = path;
+  if (dir_path) {
+    set_has_dir_path();
+    dir_path_ = dir_path;
   } else {
-    clear_has_path();
-    path_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    clear_has_dir_path();
+    dir_path_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
   }
 }
 
-// optional string volume_name = 3;
-inline bool xtreemfs_get_xlocsetRequest::has_volume_name() const {
-  return (_has_bits_[0] & 0x00000004u) != 0;
+// repeated string names = 3;
+inline int xtreemfs_create_filesRequest::names_size() const {
+  return names_.size();
 }
-inline void xtreemfs_get_xlocsetRequest::set_has_volume_name() {
-  _has_bits_[0] |= 0x00000004u;
+inline void xtreemfs_create_filesRequest::clear_names() {
+  names_.Clear();
 }
-inline void xtreemfs_get_xlocsetRequest::clear_has_volume_name() {
-  _has_bits_[0] &= ~0x00000004u;
+inline const ::std::string& xtreemfs_create_filesRequest::names(int index) const {
+  return names_.Get(index);
 }
-inline void xtreemfs_get_xlocsetRequest::clear_volume_name() {
+inline ::std::string* xtreemfs_create_filesRequest::mutable_names(int index) {
+  return names_.Mutable(index);
+}
+inline void xtreemfs_create_filesRequest::set_names(int index, const ::std::string& value) {
+  names_.Mutable(index)->assign(value);
+}
+inline void xtreemfs_create_filesRequest::set_names(int index, const char* value) {
+  names_.Mutable(index)->assign(value);
+}
+inline void xtreemfs_create_filesRequest::set_names(int index, const char* value, size_t size) {
+  names_.Mutable(index)->assign(
+    reinterpret_cast<const char*>(value), size);
+}
+inline ::std::string* xtreemfs_create_filesRequest::add_names() {
+  return names_.Add();
+}
+inline void xtreemfs_create_filesRequest::add_names(const ::std::string& value) {
+  names_.Add()->assign(value);
+}
+inline void xtreemfs_create_filesRequest::add_names(const char* value) {
+  names_.Add()->assign(value);
+}
+inline void xtreemfs_create_filesRequest::add_names(const char* value, size_t size) {
+  names_.Add()->assign(reinterpret_cast<const char*>(value), size);
+}
+inline const ::google::protobuf::RepeatedPtrField< ::std::string>&
+xtreemfs_create_filesRequest::names() const {
+  return names_;
+}
+inline ::google::protobuf::RepeatedPtrField< ::std::string>*
+xtreemfs_create_filesRequest::mutable_names() {
+  return &names_;
+}
+
+// required fixed32 flags = 4;
+inline bool xtreemfs_create_filesRequest::has_flags() const {
+  return (_has_bits_[0] & 0x00000008u) != 0;
+}
+inline void xtreemfs_create_filesRequest::set_has_flags() {
+  _has_bits_[0] |= 0x00000008u;
+}
+inline void xtreemfs_create_filesRequest::clear_has_flags() {
+  _has_bits_[0] &= ~0x00000008u;
+}
+inline void xtreemfs_create_filesRequest::clear_flags() {
+  flags_ = 0u;
+  clear_has_flags();
+}
+inline ::google::protobuf::uint32 xtreemfs_create_filesRequest::flags() const {
+  return flags_;
+}
+inline void xtreemfs_create_filesRequest::set_flags(::google::protobuf::uint32 value) {
+  set_has_flags();
+  flags_ = value;
+}
+
+// required fixed32 mode = 5;
+inline bool xtreemfs_create_filesRequest::has_mode() const {
+  return (_has_bits_[0] & 0x00000010u) != 0;
+}
+inline void xtreemfs_create_filesRequest::set_has_mode() {
+  _has_bits_[0] |= 0x00000010u;
+}
+inline void xtreemfs_create_filesRequest::clear_has_mode() {
+  _has_bits_[0] &= ~0x00000010u;
+}
+inline void xtreemfs_create_filesRequest::clear_mode() {
+  mode_ = 0u;
+  clear_has_mode();
+}
+inline ::google::protobuf::uint32 xtreemfs_create_filesRequest::mode() const {
+  return mode_;
+}
+inline void xtreemfs_create_filesRequest::set_mode(::google::protobuf::uint32 value) {
+  set_has_mode();
+  mode_ = value;
+}
+
+// required fixed32 attributes = 6;
+inline bool xtreemfs_create_filesRequest::has_attributes() const {
+  return (_has_bits_[0] & 0x00000020u) != 0;
+}
+inline void xtreemfs_create_filesRequest::set_has_attributes() {
+  _has_bits_[0] |= 0x00000020u;
+}
+inline void xtreemfs_create_filesRequest::clear_has_attributes() {
+  _has_bits_[0] &= ~0x00000020u;
+}
+inline void xtreemfs_create_filesRequest::clear_attributes() {
+  attributes_ = 0u;
+  clear_has_attributes();
+}
+inline ::google::protobuf::uint32 xtreemfs_create_filesRequest::attributes() const {
+  return attributes_;
+}
+inline void xtreemfs_create_filesRequest::set_attributes(::google::protobuf::uint32 value) {
+  set_has_attributes();
+  attributes_ = value;
+}
+
+// optional .xtreemfs.pbrpc.VivaldiCoordinates coordinates = 7;
+inline bool xtreemfs_create_filesRequest::has_coordinates() const {
+  return (_has_bits_[0] & 0x00000040u) != 0;
+}
+inline void xtreemfs_create_filesRequest::set_has_coordinates() {
+  _has_bits_[0] |= 0x00000040u;
+}
+inline void xtreemfs_create_filesRequest::clear_has_coordinates() {
+  _has_bits_[0] &= ~0x00000040u;
+}
+inline void xtreemfs_create_filesRequest::clear_coordinates() {
+  if (coordinates_ != NULL) coordinates_->::xtreemfs::pbrpc::VivaldiCoordinates::Clear();
+  clear_has_coordinates();
+}
+inline const ::xtreemfs::pbrpc::VivaldiCoordinates& xtreemfs_create_filesRequest::coordinates() const {
+  return coordinates_ != NULL ? *coordinates_ : *default_instance_->coordinates_;
+}
+inline ::xtreemfs::pbrpc::VivaldiCoordinates* xtreemfs_create_filesRequest::mutable_coordinates() {
+  set_has_coordinates();
+  if (coordinates_ == NULL) coordinates_ = new ::xtreemfs::pbrpc::VivaldiCoordinates;
+  return coordinates_;
+}
+inline ::xtreemfs::pbrpc::VivaldiCoordinates* xtreemfs_create_filesRequest::release_coordinates() {
+  clear_has_coordinates();
+  ::xtreemfs::pbrpc::VivaldiCoordinates* temp = coordinates_;
+  coordinates_ = NULL;
+  return temp;
+}
+inline void xtreemfs_create_filesRequest::set_allocated_coordinates(::xtreemfs::pbrpc::VivaldiCoordinates* coordinates) {
+  delete coordinates_;
+  coordinates_ = coordinates;
+  if (coordinates) {
+    set_has_coordinates();
+  } else {
+    clear_has_coordinates();
+  }
+}
+
+// -------------------------------------------------------------------
+
+// xtreemfs_create_filesResponse
+
+// repeated .xtreemfs.pbrpc.openResponse files = 1;
+inline int xtreemfs_create_filesResponse::files_size() const {
+  return files_.size();
+}
+inline void xtreemfs_create_filesResponse::clear_files() {
+  files_.Clear();
+}
+inline const ::xtreemfs::pbrpc::openResponse& xtreemfs_create_filesResponse::files(int index) const {
+  return files_.Get(index);
+}
+inline ::xtreemfs::pbrpc::openResponse* xtreemfs_create_filesResponse::mutable_files(int index) {
+  return files_.Mutable(index);
+}
+inline ::xtreemfs::pbrpc::openResponse* xtreemfs_create_filesResponse::add_files() {
+  return files_.Add();
+}
+inline const ::google::protobuf::RepeatedPtrField< ::xtreemfs::pbrpc::openResponse >&
+xtreemfs_create_filesResponse::files() const {
+  return files_;
+}
+inline ::google::protobuf::RepeatedPtrField< ::xtreemfs::pbrpc::openResponse >*
+xtreemfs_create_filesResponse::mutable_files() {
+  return &files_;
+}
+
+// -------------------------------------------------------------------
+
+// xtreemfs_getattrsRequest
+
+// required string volume_name = 1;
+inline bool xtreemfs_getattrsRequest::has_volume_name() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
+}
+inline void xtreemfs_getattrsRequest::set_has_volume_name() {
+  _has_bits_[0] |= 0x00000001u;
+}
+inline void xtreemfs_getattrsRequest::clear_has_volume_name() {
+  _has_bits_[0] &= ~0x00000001u;
+}
+inline void xtreemfs_getattrsRequest::clear_volume_name() {
   if (volume_name_ != &::google::protobuf::internal::kEmptyString) {
     volume_name_->clear();
   }
   clear_has_volume_name();
 }
-inline const ::std::string& xtreemfs_get_xlocsetRequest::volume_name() const {
+inline const ::std::string& xtreemfs_getattrsRequest::volume_name() const {
   return *volume_name_;
 }
-inline void xtreemfs_get_xlocsetRequest::set_volume_name(const ::std::string& value) {
+inline void xtreemfs_getattrsRequest::set_volume_name(const ::std::string& value) {
   set_has_volume_name();
   if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
     volume_name_ = new ::std::string;
   }
   volume_name_->assign(value);
 }
-inline void xtreemfs_get_xlocsetRequest::set_volume_name(const char* value) {
+inline void xtreemfs_getattrsRequest::set_volume_name(const char* value) {
   set_has_volume_name();
   if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
     volume_name_ = new ::std::string;
   }
   volume_name_->assign(value);
 }
-inline void xtreemfs_get_xlocsetRequest::set_volume_name(const char* value, size_t size) {
+inline void xtreemfs_getattrsRequest::set_volume_name(const char* value, size_t size) {
   set_has_volume_name();
   if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
     volume_name_ = new ::std::string;
   }
   volume_name_->assign(reinterpret_cast<const char*>(value), size);
 }
-inline ::std::string* xtreemfs_get_xlocsetRequest::mutable_volume_name() {
+inline ::std::string* xtreemfs_getattrsRequest::mutable_volume_name() {
   set_has_volume_name();
   if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
     volume_name_ = new ::std::string;
   }
   return volume_name_;
 }
-inline ::std::string* xtreemfs_get_xlocsetRequest::release_volume_name() {
+inline ::std::string* xtreemfs_getattrsRequest::release_volume_name() {
   clear_has_volume_name();
   if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
     return NULL;
@@ -13212,7 +16148,7 @@ inline ::std::string* xtreemfs_get_xlocsetRequest::release_volume_name() {
     return temp;
   }
 }
-inline void xtreemfs_get_xlocsetRequest::set_allocated_volume_name(::std::string* volume_name) {
+inline void xtreemfs_getattrsRequest::set_allocated_volume_name(::std::string* volume_name) {
   if (volume_name_ != &::google::protobuf::internal::kEmptyString) {
     delete volume_name_;
   }
@@ -13225,236 +16161,316 @@ inline void xtreemfs_get_xlocsetRequest::set_allocated_volume_name(::std::string
   }
 }
 
-// optional .xtreemfs.pbrpc.XCap xcap = 4;
-inline bool xtreemfs_get_xlocsetRequest::has_xcap() const {
-  return (_has_bits_[0] & 0x00000008u) != 0;
+// repeated string paths = 2;
+inline int xtreemfs_getattrsRequest::paths_size() const {
+  return paths_.size();
 }
-inline void xtreemfs_get_xlocsetRequest::set_has_xcap() {
-  _has_bits_[0] |= 0x00000008u;
+inline void xtreemfs_getattrsRequest::clear_paths() {
+  paths_.Clear();
 }
-inline void xtreemfs_get_xlocsetRequest::clear_has_xcap() {
-  _has_bits_[0] &= ~0x00000008u;
+inline const ::std::string& xtreemfs_getattrsRequest::paths(int index) const {
+  return paths_.Get(index);
 }
-inline void xtreemfs_get_xlocsetRequest::clear_xcap() {
-  if (xcap_ != NULL) xcap_->::xtreemfs::pbrpc::XCap::Clear();
-  clear_has_xcap();
+inline ::std::string* xtreemfs_getattrsRequest::mutable_paths(int index) {
+  return paths_.Mutable(index);
 }
-inline const ::xtreemfs::pbrpc::XCap& xtreemfs_get_xlocsetRequest::xcap() const {
-  return xcap_ != NULL ? *xcap_ : *default_instance_->xcap_;
+inline void xtreemfs_getattrsRequest::set_paths(int index, const ::std::string& value) {
+  paths_.Mutable(index)->assign(value);
 }
-inline ::xtreemfs::pbrpc::XCap* xtreemfs_get_xlocsetRequest::mutable_xcap() {
-  set_has_xcap();
-  if (xcap_ == NULL) xcap_ = new ::xtreemfs::pbrpc::XCap;
-  return xcap_;
+inline void xtreemfs_getattrsRequest::set_paths(int index, const char* value) {
+  paths_.Mutable(index)->assign(value);
 }
-inline ::xtreemfs::pbrpc::XCap* xtreemfs_get_xlocsetRequest::release_xcap() {
-  clear_has_xcap();
-  ::xtreemfs::pbrpc::XCap* temp = xcap_;
-  xcap_ = NULL;
-  return temp;
+inline void xtreemfs_getattrsRequest::set_paths(int index, const char* value, size_t size) {
+  paths_.Mutable(index)->assign(
+    reinterpret_cast<const char*>(value), size);
 }
-inline void xtreemfs_get_xlocsetRequest::set_allocated_xcap(::xtreemfs::pbrpc::XCap* xcap) {
-  delete xcap_;
-  xcap_ = xcap;
-  if (xcap) {
-    set_has_xcap();
-  } else {
-    clear_has_xcap();
-  }
+inline ::std::string* xtreemfs_getattrsRequest::add_paths() {
+  return paths_.Add();
+}
+inline void xtreemfs_getattrsRequest::add_paths(const ::std::string& value) {
+  paths_.Add()->assign(value);
+}
+inline void xtreemfs_getattrsRequest::add_paths(const char* value) {
+  paths_.Add()->assign(value);
+}
+inline void xtreemfs_getattrsRequest::add_paths(const char* value, size_t size) {
+  paths_.Add()->assign(reinterpret_cast<const char*>(value), size);
+}
+inline const ::google::protobuf::RepeatedPtrField< ::std::string>&
+xtreemfs_getattrsRequest::paths() const {
+  return paths_;
+}
+inline ::google::protobuf::RepeatedPtrField< ::std::string>*
+xtreemfs_getattrsRequest::mutable_paths() {
+  return &paths_;
 }
 
 // -------------------------------------------------------------------
 
-// xtreemfs_replica_removeRequest
+// xtreemfs_getattrsResponse
 
-// optional string file_id = 1;
-inline bool xtreemfs_replica_removeRequest::has_file_id() const {
+// repeated .xtreemfs.pbrpc.getattrResponse stats = 1;
+inline int xtreemfs_getattrsResponse::stats_size() const {
+  return stats_.size();
+}
+inline void xtreemfs_getattrsResponse::clear_stats() {
+  stats_.Clear();
+}
+inline const ::xtreemfs::pbrpc::getattrResponse& xtreemfs_getattrsResponse::stats(int index) const {
+  return stats_.Get(index);
+}
+inline ::xtreemfs::pbrpc::getattrResponse* xtreemfs_getattrsResponse::mutable_stats(int index) {
+  return stats_.Mutable(index);
+}
+inline ::xtreemfs::pbrpc::getattrResponse* xtreemfs_getattrsResponse::add_stats() {
+  return stats_.Add();
+}
+inline const ::google::protobuf::RepeatedPtrField< ::xtreemfs::pbrpc::getattrResponse >&
+xtreemfs_getattrsResponse::stats() const {
+  return stats_;
+}
+inline ::google::protobuf::RepeatedPtrField< ::xtreemfs::pbrpc::getattrResponse >*
+xtreemfs_getattrsResponse::mutable_stats() {
+  return &stats_;
+}
+
+// -------------------------------------------------------------------
+
+// xtreemfs_get_xlocsetsRequest
+
+// required string volume_name = 1;
+inline bool xtreemfs_get_xlocsetsRequest::has_volume_name() const {
   return (_has_bits_[0] & 0x00000001u) != 0;
 }
-inline void xtreemfs_replica_removeRequest::set_has_file_id() {
+inline void xtreemfs_get_xlocsetsRequest::set_has_volume_name() {
   _has_bits_[0] |= 0x00000001u;
 }
-inline void xtreemfs_replica_removeRequest::clear_has_file_id() {
+inline void xtreemfs_get_xlocsetsRequest::clear_has_volume_name() {
   _has_bits_[0] &= ~0x00000001u;
 }
-inline void xtreemfs_replica_removeRequest::clear_file_id() {
-  if (file_id_ != &::google::protobuf::internal::kEmptyString) {
-    file_id_->clear();
+inline void xtreemfs_get_xlocsetsRequest::clear_volume_name() {
+  if (volume_name_ != &::google::protobuf::internal::kEmptyString) {
+    volume_name_->clear();
   }
-  clear_has_file_id();
+  clear_has_volume_name();
 }
-inline const ::std::string& xtreemfs_replica_removeRequest::file_id() const {
-  return *file_id_;
+inline const ::std::string& xtreemfs_get_xlocsetsRequest::volume_name() const {
+  return *volume_name_;
 }
-inline void xtreemfs_replica_removeRequest::set_file_id(const ::std::string& value) {
-  set_has_file_id();
-  if (file_id_ == &::google::protobuf::internal::kEmptyString) {
-    file_id_ = new ::std::string;
+inline void xtreemfs_get_xlocsetsRequest::set_volume_name(const ::std::string& value) {
+  set_has_volume_name();
+  if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
+    volume_name_ = new ::std::string;
   }
-  file_id_->assign(value);
+  volume_name_->assign(value);
 }
-inline void xtreemfs_replica_removeRequest::set_file_id(const char* value) {
-  set_has_file_id();
-  if (file_id_ == &::google::protobuf::internal::kEmptyString) {
-    file_id_ = new ::std::string;
+inline void xtreemfs_get_xlocsetsRequest::set_volume_name(const char* value) {
+  set_has_volume_name();
+  if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
+    volume_name_ = new ::std::string;
   }
-  file_id_->assign(value);
+  volume_name_->assign(value);
 }
-inline void xtreemfs_replica_removeRequest::set_file_id(const char* value, size_t size) {
-  set_has_file_id();
-  if (file_id_ == &::google::protobuf::internal::kEmptyString) {
-    file_id_ = new ::std::string;
+inline void xtreemfs_get_xlocsetsRequest::set_volume_name(const char* value, size_t size) {
+  set_has_volume_name();
+  if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
+    volume_name_ = new ::std::string;
   }
-  file_id_->assign(reinterpret_cast<const char*>(value), size);
+  volume_name_->assign(reinterpret_cast<const char*>(value), size);
 }
-inline ::std::string* xtreemfs_replica_removeRequest::mutable_file_id() {
-  set_has_file_id();
-  if (file_id_ == &::google::protobuf::internal::kEmptyString) {
-    file_id_ = new ::std::string;
+inline ::std::string* xtreemfs_get_xlocsetsRequest::mutable_volume_name() {
+  set_has_volume_name();
+  if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
+    volume_name_ = new ::std::string;
   }
-  return file_id_;
+  return volume_name_;
 }
-inline ::std::string* xtreemfs_replica_removeRequest::release_file_id() {
-  clear_has_file_id();
-  if (file_id_ == &::google::protobuf::internal::kEmptyString) {
+inline ::std::string* xtreemfs_get_xlocsetsRequest::release_volume_name() {
+  clear_has_volume_name();
+  if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
     return NULL;
   } else {
-    ::std::string* temp = file_id_;
-    file_id_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    ::std::string* temp = volume_name_;
+    volume_name_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
     return temp;
   }
 }
-inline void xtreemfs_replica_removeRequest::set_allocated_file_id(::std::string* file_id) {
-  if (file_id_ != &::google::protobuf::internal::kEmptyString) {
-    delete file_id_;
+inline void xtreemfs_get_xlocsetsRequest::set_allocated_volume_name(::std::string* volume_name) {
+  if (volume_name_ != &::google::protobuf::internal::kEmptyString) {
+    delete volume_name_;
   }
-  if (file_id) {
-    set_has_file_id();
-    file_id_ = file_id;
+  if (volume_name) {
+    set_has_volume_name();
+    volume_name_ = volume_name;
   } else {
-    clear_has_file_id();
-    file_id_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    clear_has_volume_name();
+    volume_name_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
   }
 }
 
-// optional string path = 3;
-inline bool xtreemfs_replica_removeRequest::has_path() const {
-  return (_has_bits_[0] & 0x00000002u) != 0;
+// repeated string paths = 2;
+inline int xtreemfs_get_xlocsetsRequest::paths_size() const {
+  return paths_.size();
 }
-inline void xtreemfs_replica_removeRequest::set_has_path() {
-  _has_bits_[0] |= 0x00000002u;
+inline void xtreemfs_get_xlocsetsRequest::clear_paths() {
+  paths_.Clear();
 }
-inline void xtreemfs_replica_removeRequest::clear_has_path() {
-  _has_bits_[0] &= ~0x00000002u;
+inline const ::std::string& xtreemfs_get_xlocsetsRequest::paths(int index) const {
+  return paths_.Get(index);
 }
-inline void xtreemfs_replica_removeRequest::clear_path() {
-  if (path_ != &::google::protobuf::internal::kEmptyString) {
-    path_->clear();
-  }
-  clear_has_path();
+inline ::std::string* xtreemfs_get_xlocsetsRequest::mutable_paths(int index) {
+  return paths_.Mutable(index);
 }
-inline const ::std::string& xtreemfs_replica_removeRequest::path() const {
-  return *path_;
+inline void xtreemfs_get_xlocsetsRequest::set_paths(int index, const ::std::string& value) {
+  paths_.Mutable(index)->assign(value);
 }
-inline void xtreemfs_replica_removeRequest::set_path(const ::std::string& value) {
-  set_has_path();
-  if (path_ == &::google::protobuf::internal::kEmptyString) {
-    path_ = new ::std::string;
-  }
-  path_->assign(value);
+inline void xtreemfs_get_xlocsetsRequest::set_paths(int index, const char* value) {
+  paths_.Mutable(index)->assign(value);
 }
-inline void xtreemfs_replica_removeRequest::set_path(const char* value) {
-  set_has_path();
-  if (path_ == &::google::protobuf::internal::kEmptyString) {
-    path_ = new ::std::string;
-  }
-  path_->assign(value);
+inline void xtreemfs_get_xlocsetsRequest::set_paths(int index, const char* value, size_t size) {
+  paths_.Mutable(index)->assign(
+    reinterpret_cast<const char*>(value), size);
 }
-inline void xtreemfs_replica_removeRequest::set_path(const char* value, size_t size) {
-  set_has_path();
-  if (path_ == &::google::protobuf::internal::kEmptyString) {
-    path_ = new ::std::string;
-  }
-  path_->assign(reinterpret_cast<const char*>(value), size);
+inline ::std::string* xtreemfs_get_xlocsetsRequest::add_paths() {
+  return paths_.Add();
 }
-inline ::std::string* xtreemfs_replica_removeRequest::mutable_path() {
-  set_has_path();
-  if (path_ == &::google::protobuf::internal::kEmptyString) {
-    path_ = new ::std::string;
-  }
-  return path_;
+inline void xtreemfs_get_xlocsetsRequest::add_paths(const ::std::string& value) {
+  paths_.Add()->assign(value);
 }
-inline ::std::string* xtreemfs_replica_removeRequest::release_path() {
-  clear_has_path();
-  if (path_ == &::google::protobuf::internal::kEmptyString) {
-    return NULL;
-  } else {
-    ::std::string* temp = path_;
-    path_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
-    return temp;
-  }
+inline void xtreemfs_get_xlocsetsRequest::add_paths(const char* value) {
+  paths_.Add()->assign(value);
 }
-inline void xtreemfs_replica_removeRequest::set_allocated_path(::std::string* path) {
-  if (path_ != &::google::protobuf::internal::kEmptyString) {
-    delete path_;
-  }
-  if (path) {
-    set_has_path();
-    path_ = path;
-  } else {
-    clear_has_path();
-    path_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
-  }
+inline void xtreemfs_get_xlocsetsRequest::add_paths(const char* value, size_t size) {
+  paths_.Add()->assign(reinterpret_cast<const char*>(value), size);
+}
+inline const ::google::protobuf::RepeatedPtrField< ::std::string>&
+xtreemfs_get_xlocsetsRequest::paths() const {
+  return paths_;
+}
+inline ::google::protobuf::RepeatedPtrField< ::std::string>*
+xtreemfs_get_xlocsetsRequest::mutable_paths() {
+  return &paths_;
 }
 
-// optional string volume_name = 4;
-inline bool xtreemfs_replica_removeRequest::has_volume_name() const {
+// optional .xtreemfs.pbrpc.VivaldiCoordinates coordinates = 3;
+inline bool xtreemfs_get_xlocsetsRequest::has_coordinates() const {
   return (_has_bits_[0] & 0x00000004u) != 0;
 }
-inline void xtreemfs_replica_removeRequest::set_has_volume_name() {
+inline void xtreemfs_get_xlocsetsRequest::set_has_coordinates() {
   _has_bits_[0] |= 0x00000004u;
 }
-inline void xtreemfs_replica_removeRequest::clear_has_volume_name() {
+inline void xtreemfs_get_xlocsetsRequest::clear_has_coordinates() {
   _has_bits_[0] &= ~0x00000004u;
 }
-inline void xtreemfs_replica_removeRequest::clear_volume_name() {
+inline void xtreemfs_get_xlocsetsRequest::clear_coordinates() {
+  if (coordinates_ != NULL) coordinates_->::xtreemfs::pbrpc::VivaldiCoordinates::Clear();
+  clear_has_coordinates();
+}
+inline const ::xtreemfs::pbrpc::VivaldiCoordinates& xtreemfs_get_xlocsetsRequest::coordinates() const {
+  return coordinates_ != NULL ? *coordinates_ : *default_instance_->coordinates_;
+}
+inline ::xtreemfs::pbrpc::VivaldiCoordinates* xtreemfs_get_xlocsetsRequest::mutable_coordinates() {
+  set_has_coordinates();
+  if (coordinates_ == NULL) coordinates_ = new ::xtreemfs::pbrpc::VivaldiCoordinates;
+  return coordinates_;
+}
+inline ::xtreemfs::pbrpc::VivaldiCoordinates* xtreemfs_get_xlocsetsRequest::release_coordinates() {
+  clear_has_coordinates();
+  ::xtreemfs::pbrpc::VivaldiCoordinates* temp = coordinates_;
+  coordinates_ = NULL;
+  return temp;
+}
+inline void xtreemfs_get_xlocsetsRequest::set_allocated_coordinates(::xtreemfs::pbrpc::VivaldiCoordinates* coordinates) {
+  delete coordinates_;
+  coordinates_ = coordinates;
+  if (coordinates) {
+    set_has_coordinates();
+  } else {
+    clear_has_coordinates();
+  }
+}
+
+// -------------------------------------------------------------------
+
+// xtreemfs_get_xlocsetsResponse
+
+// repeated .xtreemfs.pbrpc.XLocSet xlocsets = 1;
+inline int xtreemfs_get_xlocsetsResponse::xlocsets_size() const {
+  return xlocsets_.size();
+}
+inline void xtreemfs_get_xlocsetsResponse::clear_xlocsets() {
+  xlocsets_.Clear();
+}
+inline const ::xtreemfs::pbrpc::XLocSet& xtreemfs_get_xlocsetsResponse::xlocsets(int index) const {
+  return xlocsets_.Get(index);
+}
+inline ::xtreemfs::pbrpc::XLocSet* xtreemfs_get_xlocsetsResponse::mutable_xlocsets(int index) {
+  return xlocsets_.Mutable(index);
+}
+inline ::xtreemfs::pbrpc::XLocSet* xtreemfs_get_xlocsetsResponse::add_xlocsets() {
+  return xlocsets_.Add();
+}
+inline const ::google::protobuf::RepeatedPtrField< ::xtreemfs::pbrpc::XLocSet >&
+xtreemfs_get_xlocsetsResponse::xlocsets() const {
+  return xlocsets_;
+}
+inline ::google::protobuf::RepeatedPtrField< ::xtreemfs::pbrpc::XLocSet >*
+xtreemfs_get_xlocsetsResponse::mutable_xlocsets() {
+  return &xlocsets_;
+}
+
+// -------------------------------------------------------------------
+
+// xtreemfs_rmdir_recursiveRequest
+
+// required string volume_name = 1;
+inline bool xtreemfs_rmdir_recursiveRequest::has_volume_name() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
+}
+inline void xtreemfs_rmdir_recursiveRequest::set_has_volume_name() {
+  _has_bits_[0] |= 0x00000001u;
+}
+inline void xtreemfs_rmdir_recursiveRequest::clear_has_volume_name() {
+  _has_bits_[0] &= ~0x00000001u;
+}
+inline void xtreemfs_rmdir_recursiveRequest::clear_volume_name() {
   if (volume_name_ != &::google::protobuf::internal::kEmptyString) {
     volume_name_->clear();
   }
   clear_has_volume_name();
 }
-inline const ::std::string& xtreemfs_replica_removeRequest::volume_name() const {
+inline const ::std::string& xtreemfs_rmdir_recursiveRequest::volume_name() const {
   return *volume_name_;
 }
-inline void xtreemfs_replica_removeRequest::set_volume_name(const ::std::string& value) {
+inline void xtreemfs_rmdir_recursiveRequest::set_volume_name(const ::std::string& value) {
   set_has_volume_name();
   if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
     volume_name_ = new ::std::string;
   }
   volume_name_->assign(value);
 }
-inline void xtreemfs_replica_removeRequest::set_volume_name(const char* value) {
+inline void xtreemfs_rmdir_recursiveRequest::set_volume_name(const char* value) {
   set_has_volume_name();
   if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
     volume_name_ = new ::std::string;
   }
   volume_name_->assign(value);
 }
-inline void xtreemfs_replica_removeRequest::set_volume_name(const char* value, size_t size) {
+inline void xtreemfs_rmdir_recursiveRequest::set_volume_name(const char* value, size_t size) {
   set_has_volume_name();
   if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
     volume_name_ = new ::std::string;
   }
   volume_name_->assign(reinterpret_cast<const char*>(value), size);
 }
-inline ::std::string* xtreemfs_replica_removeRequest::mutable_volume_name() {
+inline ::std::string* xtreemfs_rmdir_recursiveRequest::mutable_volume_name() {
   set_has_volume_name();
   if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
     volume_name_ = new ::std::string;
   }
   return volume_name_;
 }
-inline ::std::string* xtreemfs_replica_removeRequest::release_volume_name() {
+inline ::std::string* xtreemfs_rmdir_recursiveRequest::release_volume_name() {
   clear_has_volume_name();
   if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
     return NULL;
@@ -13464,7 +16480,7 @@ inline ::std::string* xtreemfs_replica_removeRequest::release_volume_name() {
     return temp;
   }
 }
-inline void xtreemfs_replica_removeRequest::set_allocated_volume_name(::std::string* volume_name) {
+inline void xtreemfs_rmdir_recursiveRequest::set_allocated_volume_name(::std::string* volume_name) {
   if (volume_name_ != &::google::protobuf::internal::kEmptyString) {
     delete volume_name_;
   }
@@ -13477,545 +16493,579 @@ inline void xtreemfs_replica_removeRequest::set_allocated_volume_name(::std::str
   }
 }
 
-// required string osd_uuid = 2;
-inline bool xtreemfs_replica_removeRequest::has_osd_uuid() const {
-  return (_has_bits_[0] & 0x00000008u) != 0;
+// required string path = 2;
+inline bool xtreemfs_rmdir_recursiveRequest::has_path() const {
+  return (_has_bits_[0] & 0x00000002u) != 0;
 }
-inline void xtreemfs_replica_removeRequest::set_has_osd_uuid() {
-  _has_bits_[0] |= 0x00000008u;
+inline void xtreemfs_rmdir_recursiveRequest::set_has_path() {
+  _has_bits_[0] |= 0x00000002u;
 }
-inline void xtreemfs_replica_removeRequest::clear_has_osd_uuid() {
-  _has_bits_[0] &= ~0x00000008u;
+inline void xtreemfs_rmdir_recursiveRequest::clear_has_path() {
+  _has_bits_[0] &= ~0x00000002u;
 }
-inline void xtreemfs_replica_removeRequest::clear_osd_uuid() {
-  if (osd_uuid_ != &::google::protobuf::internal::kEmptyString) {
-    osd_uuid_->clear();
+inline void xtreemfs_rmdir_recursiveRequest::clear_path() {
+  if (path_ != &::google::protobuf::internal::kEmptyString) {
+    path_->clear();
   }
-  clear_has_osd_uuid();
+  clear_has_path();
 }
-inline const ::std::string& xtreemfs_replica_removeRequest::osd_uuid() const {
-  return *osd_uuid_;
+inline const ::std::string& xtreemfs_rmdir_recursiveRequest::path() const {
+  return *path_;
 }
-inline void xtreemfs_replica_removeRequest::set_osd_uuid(const ::std::string& value) {
-  set_has_osd_uuid();
-  if (osd_uuid_ == &::google::protobuf::internal::kEmptyString) {
-    osd_uuid_ = new ::std::string;
+inline void xtreemfs_rmdir_recursiveRequest::set_path(const ::std::string& value) {
+  set_has_path();
+  if (path_ == &::google::protobuf::internal::kEmptyString) {
+    path_ = new ::std::string;
   }
-  osd_uuid_->assign(value);
+  path_->assign(value);
 }
-inline void xtreemfs_replica_removeRequest::set_osd_uuid(const char* value) {
-  set_has_osd_uuid();
-  if (osd_uuid_ == &::google::protobuf::internal::kEmptyString) {
-    osd_uuid_ = new ::std::string;
+inline void xtreemfs_rmdir_recursiveRequest::set_path(const char* value) {
+  set_has_path();
+  if (path_ == &::google::protobuf::internal::kEmptyString) {
+    path_ = new ::std::string;
   }
-  osd_uuid_->assign(value);
+  path_->assign(value);
 }
-inline void xtreemfs_replica_removeRequest::set_osd_uuid(const char* value, size_t size) {
-  set_has_osd_uuid();
-  if (osd_uuid_ == &::google::protobuf::internal::kEmptyString) {
-    osd_uuid_ = new ::std::string;
+inline void xtreemfs_rmdir_recursiveRequest::set_path(const char* value, size_t size) {
+  set_has_path();
+  if (path_ == &::google::protobuf::internal::kEmptyString) {
+    path_ = new ::std::string;
   }
-  osd_uuid_->assign(reinterpret_cast<const char*>(value), size);
+  path_->assign(reinterpret_cast<const char*>(value), size);
 }
-inline ::std::string* xtreemfs_replica_removeRequest::mutable_osd_uuid() {
-  set_has_osd_uuid();
-  if (osd_uuid_ == &::google::protobuf::internal::kEmptyString) {
-    osd_uuid_ = new ::std::string;
+inline ::std::string* xtreemfs_rmdir_recursiveRequest::mutable_path() {
+  set_has_path();
+  if (path_ == &::google::protobuf::internal::kEmptyString) {
+    path_ = new ::std::string;
   }
-  return osd_uuid_;
+  return path_;
 }
-inline ::std::string* xtreemfs_replica_removeRequest::release_osd_uuid() {
-  clear_has_osd_uuid();
-  if (osd_uuid_ == &::google::protobuf::internal::kEmptyString) {
+inline ::std::string* xtreemfs_rmdir_recursiveRequest::release_path() {
+  clear_has_path();
+  if (path_ == &::google::protobuf::internal::kEmptyString) {
     return NULL;
   } else {
-    ::std::string* temp = osd_uuid_;
-    osd_uuid_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    ::std::string* temp = path_;
+    path_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
     return temp;
   }
 }
-inline void xtreemfs_replica_removeRequest::set_allocated_osd_uuid(::std::string* osd_uuid) {
-  if (osd_uuid_ != &::google::protobuf::internal::kEmptyString) {
-    delete osd_uuid_;
+inline void xtreemfs_rmdir_recursiveRequest::set_allocated_path(::std::string* path) {
+  if (path_ != &::google::protobuf::internal::kEmptyString) {
+    delete path_;
   }
-  if (osd_uuid) {
-    set_has_osd_uuid();
-    osd_uuid_ = osd_uuid;
+  if (path) {
+    set_has_path();
+    path_ = path;
   } else {
-    clear_has_osd_uuid();
-    osd_uuid_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    clear_has_path();
+    path_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
   }
 }
 
+// required fixed32 max_entries = 3;
+inline bool xtreemfs_rmdir_recursiveRequest::has_max_entries() const {
+  return (_has_bits_[0] & 0x00000004u) != 0;
+}
+inline void xtreemfs_rmdir_recursiveRequest::set_has_max_entries() {
+  _has_bits_[0] |= 0x00000004u;
+}
+inline void xtreemfs_rmdir_recursiveRequest::clear_has_max_entries() {
+  _has_bits_[0] &= ~0x00000004u;
+}
+inline void xtreemfs_rmdir_recursiveRequest::clear_max_entries() {
+  max_entries_ = 0u;
+  clear_has_max_entries();
+}
+inline ::google::protobuf::uint32 xtreemfs_rmdir_recursiveRequest::max_entries() const {
+  return max_entries_;
+}
+inline void xtreemfs_rmdir_recursiveRequest::set_max_entries(::google::protobuf::uint32 value) {
+  set_has_max_entries();
+  max_entries_ = value;
+}
+
 // -------------------------------------------------------------------
 
-// xtreemfs_restore_fileRequest
+// xtreemfs_rmdir_recursiveResponse
 
-// required string file_path = 1;
-inline bool xtreemfs_restore_fileRequest::has_file_path() const {
+// required fixed32 timestamp_s = 1;
+inline bool xtreemfs_rmdir_recursiveResponse::has_timestamp_s() const {
   return (_has_bits_[0] & 0x00000001u) != 0;
 }
-inline void xtreemfs_restore_fileRequest::set_has_file_path() {
+inline void xtreemfs_rmdir_recursiveResponse::set_has_timestamp_s() {
   _has_bits_[0] |= 0x00000001u;
 }
-inline void xtreemfs_restore_fileRequest::clear_has_file_path() {
+inline void xtreemfs_rmdir_recursiveResponse::clear_has_timestamp_s() {
   _has_bits_[0] &= ~0x00000001u;
 }
-inline void xtreemfs_restore_fileRequest::clear_file_path() {
-  if (file_path_ != &::google::protobuf::internal::kEmptyString) {
-    file_path_->clear();
-  }
-  clear_has_file_path();
+inline void xtreemfs_rmdir_recursiveResponse::clear_timestamp_s() {
+  timestamp_s_ = 0u;
+  clear_has_timestamp_s();
 }
-inline const ::std::string& xtreemfs_restore_fileRequest::file_path() const {
-  return *file_path_;
+inline ::google::protobuf::uint32 xtreemfs_rmdir_recursiveResponse::timestamp_s() const {
+  return timestamp_s_;
 }
-inline void xtreemfs_restore_fileRequest::set_file_path(const ::std::string& value) {
-  set_has_file_path();
-  if (file_path_ == &::google::protobuf::internal::kEmptyString) {
-    file_path_ = new ::std::string;
-  }
-  file_path_->assign(value);
+inline void xtreemfs_rmdir_recursiveResponse::set_timestamp_s(::google::protobuf::uint32 value) {
+  set_has_timestamp_s();
+  timestamp_s_ = value;
 }
-inline void xtreemfs_restore_fileRequest::set_file_path(const char* value) {
-  set_has_file_path();
-  if (file_path_ == &::google::protobuf::internal::kEmptyString) {
-    file_path_ = new ::std::string;
-  }
-  file_path_->assign(value);
+
+// required fixed32 num_deleted = 2;
+inline bool xtreemfs_rmdir_recursiveResponse::has_num_deleted() const {
+  return (_has_bits_[0] & 0x00000002u) != 0;
 }
-inline void xtreemfs_restore_fileRequest::set_file_path(const char* value, size_t size) {
-  set_has_file_path();
-  if (file_path_ == &::google::protobuf::internal::kEmptyString) {
-    file_path_ = new ::std::string;
-  }
-  file_path_->assign(reinterpret_cast<const char*>(value), size);
+inline void xtreemfs_rmdir_recursiveResponse::set_has_num_deleted() {
+  _has_bits_[0] |= 0x00000002u;
 }
-inline ::std::string* xtreemfs_restore_fileRequest::mutable_file_path() {
-  set_has_file_path();
-  if (file_path_ == &::google::protobuf::internal::kEmptyString) {
-    file_path_ = new ::std::string;
-  }
-  return file_path_;
+inline void xtreemfs_rmdir_recursiveResponse::clear_has_num_deleted() {
+  _has_bits_[0] &= ~0x00000002u;
 }
-inline ::std::string* xtreemfs_restore_fileRequest::release_file_path() {
-  clear_has_file_path();
-  if (file_path_ == &::google::protobuf::internal::kEmptyString) {
-    return NULL;
-  } else {
-    ::std::string* temp = file_path_;
-    file_path_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
-    return temp;
-  }
+inline void xtreemfs_rmdir_recursiveResponse::clear_num_deleted() {
+  num_deleted_ = 0u;
+  clear_has_num_deleted();
 }
-inline void xtreemfs_restore_fileRequest::set_allocated_file_path(::std::string* file_path) {
-  if (file_path_ != &::google::protobuf::internal::kEmptyString) {
-    delete file_path_;
-  }
-  if (file_path) {
-    set_has_file_path();
-    file_path_ = file_path;
-  } else {
-    clear_has_file_path();
-    file_path_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
-  }
+inline ::google::protobuf::uint32 xtreemfs_rmdir_recursiveResponse::num_deleted() const {
+  return num_deleted_;
+}
+inline void xtreemfs_rmdir_recursiveResponse::set_num_deleted(::google::protobuf::uint32 value) {
+  set_has_num_deleted();
+  num_deleted_ = value;
 }
 
-// required string file_id = 2;
-inline bool xtreemfs_restore_fileRequest::has_file_id() const {
-  return (_has_bits_[0] & 0x00000002u) != 0;
+// required bool complete = 3;
+inline bool xtreemfs_rmdir_recursiveResponse::has_complete() const {
+  return (_has_bits_[0] & 0x00000004u) != 0;
 }
-inline void xtreemfs_restore_fileRequest::set_has_file_id() {
-  _has_bits_[0] |= 0x00000002u;
+inline void xtreemfs_rmdir_recursiveResponse::set_has_complete() {
+  _has_bits_[0] |= 0x00000004u;
 }
-inline void xtreemfs_restore_fileRequest::clear_has_file_id() {
-  _has_bits_[0] &= ~0x00000002u;
+inline void xtreemfs_rmdir_recursiveResponse::clear_has_complete() {
+  _has_bits_[0] &= ~0x00000004u;
 }
-inline void xtreemfs_restore_fileRequest::clear_file_id() {
-  if (file_id_ != &::google::protobuf::internal::kEmptyString) {
-    file_id_->clear();
+inline void xtreemfs_rmdir_recursiveResponse::clear_complete() {
+  complete_ = false;
+  clear_has_complete();
+}
+inline bool xtreemfs_rmdir_recursiveResponse::complete() const {
+  return complete_;
+}
+inline void xtreemfs_rmdir_recursiveResponse::set_complete(bool value) {
+  set_has_complete();
+  complete_ = value;
+}
+
+// -------------------------------------------------------------------
+
+// xtreemfs_setattr_recursiveRequest
+
+// required string volume_name = 1;
+inline bool xtreemfs_setattr_recursiveRequest::has_volume_name() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
+}
+inline void xtreemfs_setattr_recursiveRequest::set_has_volume_name() {
+  _has_bits_[0] |= 0x00000001u;
+}
+inline void xtreemfs_setattr_recursiveRequest::clear_has_volume_name() {
+  _has_bits_[0] &= ~0x00000001u;
+}
+inline void xtreemfs_setattr_recursiveRequest::clear_volume_name() {
+  if (volume_name_ != &::google::protobuf::internal::kEmptyString) {
+    volume_name_->clear();
   }
-  clear_has_file_id();
+  clear_has_volume_name();
 }
-inline const ::std::string& xtreemfs_restore_fileRequest::file_id() const {
-  return *file_id_;
+inline const ::std::string& xtreemfs_setattr_recursiveRequest::volume_name() const {
+  return *volume_name_;
 }
-inline void xtreemfs_restore_fileRequest::set_file_id(const ::std::string& value) {
-  set_has_file_id();
-  if (file_id_ == &::google::protobuf::internal::kEmptyString) {
-    file_id_ = new ::std::string;
+inline void xtreemfs_setattr_recursiveRequest::set_volume_name(const ::std::string& value) {
+  set_has_volume_name();
+  if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
+    volume_name_ = new ::std::string;
   }
-  file_id_->assign(value);
+  volume_name_->assign(value);
 }
-inline void xtreemfs_restore_fileRequest::set_file_id(const char* value) {
-  set_has_file_id();
-  if (file_id_ == &::google::protobuf::internal::kEmptyString) {
-    file_id_ = new ::std::string;
+inline void xtreemfs_setattr_recursiveRequest::set_volume_name(const char* value) {
+  set_has_volume_name();
+  if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
+    volume_name_ = new ::std::string;
   }
-  file_id_->assign(value);
+  volume_name_->assign(value);
 }
-inline void xtreemfs_restore_fileRequest::set_file_id(const char* value, size_t size) {
-  set_has_file_id();
-  if (file_id_ == &::google::protobuf::internal::kEmptyString) {
-    file_id_ = new ::std::string;
+inline void xtreemfs_setattr_recursiveRequest::set_volume_name(const char* value, size_t size) {
+  set_has_volume_name();
+  if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
+    volume_name_ = new ::std::string;
   }
-  file_id_->assign(reinterpret_cast<const char*>(value), size);
+  volume_name_->assign(reinterpret_cast<const char*>(value), size);
 }
-inline ::std::string* xtreemfs_restore_fileRequest::mutable_file_id() {
-  set_has_file_id();
-  if (file_id_ == &::google::protobuf::internal::kEmptyString) {
-    file_id_ = new ::std::string;
+inline ::std::string* xtreemfs_setattr_recursiveRequest::mutable_volume_name() {
+  set_has_volume_name();
+  if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
+    volume_name_ = new ::std::string;
   }
-  return file_id_;
+  return volume_name_;
 }
-inline ::std::string* xtreemfs_restore_fileRequest::release_file_id() {
-  clear_has_file_id();
-  if (file_id_ == &::google::protobuf::internal::kEmptyString) {
+inline ::std::string* xtreemfs_setattr_recursiveRequest::release_volume_name() {
+  clear_has_volume_name();
+  if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
     return NULL;
   } else {
-    ::std::string* temp = file_id_;
-    file_id_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    ::std::string* temp = volume_name_;
+    volume_name_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
     return temp;
   }
 }
-inline void xtreemfs_restore_fileRequest::set_allocated_file_id(::std::string* file_id) {
-  if (file_id_ != &::google::protobuf::internal::kEmptyString) {
-    delete file_id_;
+inline void xtreemfs_setattr_recursiveRequest::set_allocated_volume_name(::std::string* volume_name) {
+  if (volume_name_ != &::google::protobuf::internal::kEmptyString) {
+    delete volume_name_;
   }
-  if (file_id) {
-    set_has_file_id();
-    file_id_ = file_id;
+  if (volume_name) {
+    set_has_volume_name();
+    volume_name_ = volume_name;
   } else {
-    clear_has_file_id();
-    file_id_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    clear_has_volume_name();
+    volume_name_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
   }
 }
 
-// required fixed64 file_size = 3;
-inline bool xtreemfs_restore_fileRequest::has_file_size() const {
-  return (_has_bits_[0] & 0x00000004u) != 0;
-}
-inline void xtreemfs_restore_fileRequest::set_has_file_size() {
-  _has_bits_[0] |= 0x00000004u;
-}
-inline void xtreemfs_restore_fileRequest::clear_has_file_size() {
-  _has_bits_[0] &= ~0x00000004u;
-}
-inline void xtreemfs_restore_fileRequest::clear_file_size() {
-  file_size_ = GOOGLE_ULONGLONG(0);
-  clear_has_file_size();
-}
-inline ::google::protobuf::uint64 xtreemfs_restore_fileRequest::file_size() const {
-  return file_size_;
-}
-inline void xtreemfs_restore_fileRequest::set_file_size(::google::protobuf::uint64 value) {
-  set_has_file_size();
-  file_size_ = value;
-}
-
-// required string osd_uuid = 4;
-inline bool xtreemfs_restore_fileRequest::has_osd_uuid() const {
-  return (_has_bits_[0] & 0x00000008u) != 0;
+// required string path = 2;
+inline bool xtreemfs_setattr_recursiveRequest::has_path() const {
+  return (_has_bits_[0] & 0x00000002u) != 0;
 }
-inline void xtreemfs_restore_fileRequest::set_has_osd_uuid() {
-  _has_bits_[0] |= 0x00000008u;
+inline void xtreemfs_setattr_recursiveRequest::set_has_path() {
+  _has_bits_[0] |= 0x00000002u;
 }
-inline void xtreemfs_restore_fileRequest::clear_has_osd_uuid() {
-  _has_bits_[0] &= ~0x00000008u;
+inline void xtreemfs_setattr_recursiveRequest::clear_has_path() {
+  _has_bits_[0] &= ~0x00000002u;
 }
-inline void xtreemfs_restore_fileRequest::clear_osd_uuid() {
-  if (osd_uuid_ != &::google::protobuf::internal::kEmptyString) {
-    osd_uuid_->clear();
+inline void xtreemfs_setattr_recursiveRequest::clear_path() {
+  if (path_ != &::google::protobuf::internal::kEmptyString) {
+    path_->clear();
   }
-  clear_has_osd_uuid();
+  clear_has_path();
 }
-inline const ::std::string& xtreemfs_restore_fileRequest::osd_uuid() const {
-  return *osd_uuid_;
+inline const ::std::string& xtreemfs_setattr_recursiveRequest::path() const {
+  return *path_;
 }
-inline void xtreemfs_restore_fileRequest::set_osd_uuid(const ::std::string& value) {
-  set_has_osd_uuid();
-  if (osd_uuid_ == &::google::protobuf::internal::kEmptyString) {
-    osd_uuid_ = new ::std::string;
+inline void xtreemfs_setattr_recursiveRequest::set_path(const ::std::string& value) {
+  set_has_path();
+  if (path_ == &::google::protobuf::internal::kEmptyString) {
+    path_ = new ::std::string;
   }
-  osd_uuid_->assign(value);
+  path_->assign(value);
 }
-inline void xtreemfs_restore_fileRequest::set_osd_uuid(const char* value) {
-  set_has_osd_uuid();
-  if (osd_uuid_ == &::google::protobuf::internal::kEmptyString) {
-    osd_uuid_ = new ::std::string;
+inline void xtreemfs_setattr_recursiveRequest::set_path(const char* value) {
+  set_has_path();
+  if (path_ == &::google::protobuf::internal::kEmptyString) {
+    path_ = new ::std::string;
   }
-  osd_uuid_->assign(value);
+  path_->assign(value);
 }
-inline void xtreemfs_restore_fileRequest::set_osd_uuid(const char* value, size_t size) {
-  set_has_osd_uuid();
-  if (osd_uuid_ == &::google::protobuf::internal::kEmptyString) {
-    osd_uuid_ = new ::std::string;
+inline void xtreemfs_setattr_recursiveRequest::set_path(const char* value, size_t size) {
+  set_has_path();
+  if (path_ == &::google::protobuf::internal::kEmptyString) {
+    path_ = new ::std::string;
   }
-  osd_uuid_->assign(reinterpret_cast<const char*>(value), size);
+  path_->assign(reinterpret_cast<const char*>(value), size);
 }
-inline ::std::string* xtreemfs_restore_fileRequest::mutable_osd_uuid() {
-  set_has_osd_uuid();
-  if (osd_uuid_ == &::google::protobuf::internal::kEmptyString) {
-    osd_uuid_ = new ::std::string;
+inline ::std::string* xtreemfs_setattr_recursiveRequest::mutable_path() {
+  set_has_path();
+  if (path_ == &::google::protobuf::internal::kEmptyString) {
+    path_ = new ::std::string;
   }
-  return osd_uuid_;
+  return path_;
 }
-inline ::std::string* xtreemfs_restore_fileRequest::release_osd_uuid() {
-  clear_has_osd_uuid();
-  if (osd_uuid_ == &::google::protobuf::internal::kEmptyString) {
+inline ::std::string* xtreemfs_setattr_recursiveRequest::release_path() {
+  clear_has_path();
+  if (path_ == &::google::protobuf::internal::kEmptyString) {
     return NULL;
   } else {
-    ::std::string* temp = osd_uuid_;
-    osd_uuid_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    ::std::string* temp = path_;
+    path_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
     return temp;
   }
 }
-inline void xtreemfs_restore_fileRequest::set_allocated_osd_uuid(::std::string* osd_uuid) {
-  if (osd_uuid_ != &::google::protobuf::internal::kEmptyString) {
-    delete osd_uuid_;
+inline void xtreemfs_setattr_recursiveRequest::set_allocated_path(::std::string* path) {
+  if (path_ != &::google::protobuf::internal::kEmptyString) {
+    delete path_;
   }
-  if (osd_uuid) {
-    set_has_osd_uuid();
-    osd_uuid_ = osd_uuid;
+  if (path) {
+    set_has_path();
+    path_ = path;
   } else {
-    clear_has_osd_uuid();
-    osd_uuid_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    clear_has_path();
+    path_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
   }
 }
 
-// required fixed32 stripe_size = 5;
-inline bool xtreemfs_restore_fileRequest::has_stripe_size() const {
+// required .xtreemfs.pbrpc.Stat stbuf = 3;
+inline bool xtreemfs_setattr_recursiveRequest::has_stbuf() const {
+  return (_has_bits_[0] & 0x00000004u) != 0;
+}
+inline void xtreemfs_setattr_recursiveRequest::set_has_stbuf() {
+  _has_bits_[0] |= 0x00000004u;
+}
+inline void xtreemfs_setattr_recursiveRequest::clear_has_stbuf() {
+  _has_bits_[0] &= ~0x00000004u;
+}
+inline void xtreemfs_setattr_recursiveRequest::clear_stbuf() {
+  if (stbuf_ != NULL) stbuf_->::xtreemfs::pbrpc::Stat::Clear();
+  clear_has_stbuf();
+}
+inline const ::xtreemfs::pbrpc::Stat& xtreemfs_setattr_recursiveRequest::stbuf() const {
+  return stbuf_ != NULL ? *stbuf_ : *default_instance_->stbuf_;
+}
+inline ::xtreemfs::pbrpc::Stat* xtreemfs_setattr_recursiveRequest::mutable_stbuf() {
+  set_has_stbuf();
+  if (stbuf_ == NULL) stbuf_ = new ::xtreemfs::pbrpc::Stat;
+  return stbuf_;
+}
+inline ::xtreemfs::pbrpc::Stat* xtreemfs_setattr_recursiveRequest::release_stbuf() {
+  clear_has_stbuf();
+  ::xtreemfs::pbrpc::Stat* temp = stbuf_;
+  stbuf_ = NULL;
+  return temp;
+}
+inline void xtreemfs_setattr_recursiveRequest::set_allocated_stbuf(::xtreemfs::pbrpc::Stat* stbuf) {
+  delete stbuf_;
+  stbuf_ = stbuf;
+  if (stbuf) {
+    set_has_stbuf();
+  } else {
+    clear_has_stbuf();
+  }
+}
+
+// required fixed32 to_set = 4;
+inline bool xtreemfs_setattr_recursiveRequest::has_to_set() const {
+  return (_has_bits_[0] & 0x00000008u) != 0;
+}
+inline void xtreemfs_setattr_recursiveRequest::set_has_to_set() {
+  _has_bits_[0] |= 0x00000008u;
+}
+inline void xtreemfs_setattr_recursiveRequest::clear_has_to_set() {
+  _has_bits_[0] &= ~0x00000008u;
+}
+inline void xtreemfs_setattr_recursiveRequest::clear_to_set() {
+  to_set_ = 0u;
+  clear_has_to_set();
+}
+inline ::google::protobuf::uint32 xtreemfs_setattr_recursiveRequest::to_set() const {
+  return to_set_;
+}
+inline void xtreemfs_setattr_recursiveRequest::set_to_set(::google::protobuf::uint32 value) {
+  set_has_to_set();
+  to_set_ = value;
+}
+
+// required fixed32 max_entries = 5;
+inline bool xtreemfs_setattr_recursiveRequest::has_max_entries() const {
   return (_has_bits_[0] & 0x00000010u) != 0;
 }
-inline void xtreemfs_restore_fileRequest::set_has_stripe_size() {
+inline void xtreemfs_setattr_recursiveRequest::set_has_max_entries() {
   _has_bits_[0] |= 0x00000010u;
 }
-inline void xtreemfs_restore_fileRequest::clear_has_stripe_size() {
+inline void xtreemfs_setattr_recursiveRequest::clear_has_max_entries() {
   _has_bits_[0] &= ~0x00000010u;
 }
-inline void xtreemfs_restore_fileRequest::clear_stripe_size() {
-  stripe_size_ = 0u;
-  clear_has_stripe_size();
+inline void xtreemfs_setattr_recursiveRequest::clear_max_entries() {
+  max_entries_ = 0u;
+  clear_has_max_entries();
 }
-inline ::google::protobuf::uint32 xtreemfs_restore_fileRequest::stripe_size() const {
-  return stripe_size_;
+inline ::google::protobuf::uint32 xtreemfs_setattr_recursiveRequest::max_entries() const {
+  return max_entries_;
 }
-inline void xtreemfs_restore_fileRequest::set_stripe_size(::google::protobuf::uint32 value) {
-  set_has_stripe_size();
-  stripe_size_ = value;
+inline void xtreemfs_setattr_recursiveRequest::set_max_entries(::google::protobuf::uint32 value) {
+  set_has_max_entries();
+  max_entries_ = value;
 }
 
-// -------------------------------------------------------------------
-
-// xtreemfs_rmvolRequest
-
-// required string volume_name = 1;
-inline bool xtreemfs_rmvolRequest::has_volume_name() const {
-  return (_has_bits_[0] & 0x00000001u) != 0;
+// optional string cursor = 6;
+inline bool xtreemfs_setattr_recursiveRequest::has_cursor() const {
+  return (_has_bits_[0] & 0x00000020u) != 0;
 }
-inline void xtreemfs_rmvolRequest::set_has_volume_name() {
-  _has_bits_[0] |= 0x00000001u;
+inline void xtreemfs_setattr_recursiveRequest::set_has_cursor() {
+  _has_bits_[0] |= 0x00000020u;
 }
-inline void xtreemfs_rmvolRequest::clear_has_volume_name() {
-  _has_bits_[0] &= ~0x00000001u;
+inline void xtreemfs_setattr_recursiveRequest::clear_has_cursor() {
+  _has_bits_[0] &= ~0x00000020u;
 }
-inline void xtreemfs_rmvolRequest::clear_volume_name() {
-  if (volume_name_ != &::google::protobuf::internal::kEmptyString) {
-    volume_name_->clear();
+inline void xtreemfs_setattr_recursiveRequest::clear_cursor() {
+  if (cursor_ != &::google::protobuf::internal::kEmptyString) {
+    cursor_->clear();
   }
-  clear_has_volume_name();
+  clear_has_cursor();
 }
-inline const ::std::string& xtreemfs_rmvolRequest::volume_name() const {
-  return *volume_name_;
+inline const ::std::string& xtreemfs_setattr_recursiveRequest::cursor() const {
+  return *cursor_;
 }
-inline void xtreemfs_rmvolRequest::set_volume_name(const ::std::string& value) {
-  set_has_volume_name();
-  if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
-    volume_name_ = new ::std::string;
+inline void xtreemfs_setattr_recursiveRequest::set_cursor(const ::std::string& value) {
+  set_has_cursor();
+  if (cursor_ == &::google::protobuf::internal::kEmptyString) {
+    cursor_ = new ::std::string;
   }
-  volume_name_->assign(value);
+  cursor_->assign(value);
 }
-inline void xtreemfs_rmvolRequest::set_volume_name(const char* value) {
-  set_has_volume_name();
-  if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
-    volume_name_ = new ::std::string;
+inline void xtreemfs_setattr_recursiveRequest::set_cursor(const char* value) {
+  set_has_cursor();
+  if (cursor_ == &::google::protobuf::internal::kEmptyString) {
+    cursor_ = new ::std::string;
   }
-  volume_name_->assign(value);
+  cursor_->assign(value);
 }
-inline void xtreemfs_rmvolRequest::set_volume_name(const char* value, size_t size) {
-  set_has_volume_name();
-  if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
-    volume_name_ = new ::std::string;
+inline void xtreemfs_setattr_recursiveRequest::set_cursor(const char* value, size_t size) {
+  set_has_cursor();
+  if (cursor_ == &::google::protobuf::internal::kEmptyString) {
+    cursor_ = new ::std::string;
   }
-  volume_name_->assign(reinterpret_cast<const char*>(value), size);
+  cursor_->assign(reinterpret_cast<const char*>(value), size);
 }
-inline ::std::string* xtreemfs_rmvolRequest::mutable_volume_name() {
-  set_has_volume_name();
-  if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
-    volume_name_ = new ::std::string;
+inline ::std::string* xtreemfs_setattr_recursiveRequest::mutable_cursor() {
+  set_has_cursor();
+  if (cursor_ == &::google::protobuf::internal::kEmptyString) {
+    cursor_ = new ::std::string;
   }
-  return volume_name_;
+  return cursor_;
 }
-inline ::std::string* xtreemfs_rmvolRequest::release_volume_name() {
-  clear_has_volume_name();
-  if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
+inline ::std::string* xtreemfs_setattr_recursiveRequest::release_cursor() {
+  clear_has_cursor();
+  if (cursor_ == &::google::protobuf::internal::kEmptyString) {
     return NULL;
   } else {
-    ::std::string* temp = volume_name_;
-    volume_name_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    ::std::string* temp = cursor_;
+    cursor_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
     return temp;
   }
 }
-inline void xtreemfs_rmvolRequest::set_allocated_volume_name(::std::string* volume_name) {
-  if (volume_name_ != &::google::protobuf::internal::kEmptyString) {
-    delete volume_name_;
+inline void xtreemfs_setattr_recursiveRequest::set_allocated_cursor(::std::string* cursor) {
+  if (cursor_ != &::google::protobuf::internal::kEmptyString) {
+    delete cursor_;
   }
-  if (volume_name) {
-    set_has_volume_name();
-    volume_name_ = volume_name;
+  if (cursor) {
+    set_has_cursor();
+    cursor_ = cursor;
   } else {
-    clear_has_volume_name();
-    volume_name_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    clear_has_cursor();
+    cursor_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
   }
 }
 
 // -------------------------------------------------------------------
 
-// xtreemfs_update_file_sizeRequest
+// xtreemfs_setattr_recursiveResponse
 
-// required .xtreemfs.pbrpc.XCap xcap = 1;
-inline bool xtreemfs_update_file_sizeRequest::has_xcap() const {
+// required fixed32 timestamp_s = 1;
+inline bool xtreemfs_setattr_recursiveResponse::has_timestamp_s() const {
   return (_has_bits_[0] & 0x00000001u) != 0;
 }
-inline void xtreemfs_update_file_sizeRequest::set_has_xcap() {
+inline void xtreemfs_setattr_recursiveResponse::set_has_timestamp_s() {
   _has_bits_[0] |= 0x00000001u;
 }
-inline void xtreemfs_update_file_sizeRequest::clear_has_xcap() {
+inline void xtreemfs_setattr_recursiveResponse::clear_has_timestamp_s() {
   _has_bits_[0] &= ~0x00000001u;
 }
-inline void xtreemfs_update_file_sizeRequest::clear_xcap() {
-  if (xcap_ != NULL) xcap_->::xtreemfs::pbrpc::XCap::Clear();
-  clear_has_xcap();
-}
-inline const ::xtreemfs::pbrpc::XCap& xtreemfs_update_file_sizeRequest::xcap() const {
-  return xcap_ != NULL ? *xcap_ : *default_instance_->xcap_;
-}
-inline ::xtreemfs::pbrpc::XCap* xtreemfs_update_file_sizeRequest::mutable_xcap() {
-  set_has_xcap();
-  if (xcap_ == NULL) xcap_ = new ::xtreemfs::pbrpc::XCap;
-  return xcap_;
+inline void xtreemfs_setattr_recursiveResponse::clear_timestamp_s() {
+  timestamp_s_ = 0u;
+  clear_has_timestamp_s();
 }
-inline ::xtreemfs::pbrpc::XCap* xtreemfs_update_file_sizeRequest::release_xcap() {
-  clear_has_xcap();
-  ::xtreemfs::pbrpc::XCap* temp = xcap_;
-  xcap_ = NULL;
-  return temp;
+inline ::google::protobuf::uint32 xtreemfs_setattr_recursiveResponse::timestamp_s() const {
+  return timestamp_s_;
 }
-inline void xtreemfs_update_file_sizeRequest::set_allocated_xcap(::xtreemfs::pbrpc::XCap* xcap) {
-  delete xcap_;
-  xcap_ = xcap;
-  if (xcap) {
-    set_has_xcap();
-  } else {
-    clear_has_xcap();
-  }
+inline void xtreemfs_setattr_recursiveResponse::set_timestamp_s(::google::protobuf::uint32 value) {
+  set_has_timestamp_s();
+  timestamp_s_ = value;
 }
 
-// required .xtreemfs.pbrpc.OSDWriteResponse osd_write_response = 2;
-inline bool xtreemfs_update_file_sizeRequest::has_osd_write_response() const {
+// required fixed32 num_updated = 2;
+inline bool xtreemfs_setattr_recursiveResponse::has_num_updated() const {
   return (_has_bits_[0] & 0x00000002u) != 0;
 }
-inline void xtreemfs_update_file_sizeRequest::set_has_osd_write_response() {
+inline void xtreemfs_setattr_recursiveResponse::set_has_num_updated() {
   _has_bits_[0] |= 0x00000002u;
 }
-inline void xtreemfs_update_file_sizeRequest::clear_has_osd_write_response() {
+inline void xtreemfs_setattr_recursiveResponse::clear_has_num_updated() {
   _has_bits_[0] &= ~0x00000002u;
 }
-inline void xtreemfs_update_file_sizeRequest::clear_osd_write_response() {
-  if (osd_write_response_ != NULL) osd_write_response_->::xtreemfs::pbrpc::OSDWriteResponse::Clear();
-  clear_has_osd_write_response();
-}
-inline const ::xtreemfs::pbrpc::OSDWriteResponse& xtreemfs_update_file_sizeRequest::osd_write_response() const {
-  return osd_write_response_ != NULL ? *osd_write_response_ : *default_instance_->osd_write_response_;
-}
-inline ::xtreemfs::pbrpc::OSDWriteResponse* xtreemfs_update_file_sizeRequest::mutable_osd_write_response() {
-  set_has_osd_write_response();
-  if (osd_write_response_ == NULL) osd_write_response_ = new ::xtreemfs::pbrpc::OSDWriteResponse;
-  return osd_write_response_;
+inline void xtreemfs_setattr_recursiveResponse::clear_num_updated() {
+  num_updated_ = 0u;
+  clear_has_num_updated();
 }
-inline ::xtreemfs::pbrpc::OSDWriteResponse* xtreemfs_update_file_sizeRequest::release_osd_write_response() {
-  clear_has_osd_write_response();
-  ::xtreemfs::pbrpc::OSDWriteResponse* temp = osd_write_response_;
-  osd_write_response_ = NULL;
-  return temp;
+inline ::google::protobuf::uint32 xtreemfs_setattr_recursiveResponse::num_updated() const {
+  return num_updated_;
 }
-inline void xtreemfs_update_file_sizeRequest::set_allocated_osd_write_response(::xtreemfs::pbrpc::OSDWriteResponse* osd_write_response) {
-  delete osd_write_response_;
-  osd_write_response_ = osd_write_response;
-  if (osd_write_response) {
-    set_has_osd_write_response();
-  } else {
-    clear_has_osd_write_response();
-  }
+inline void xtreemfs_setattr_recursiveResponse::set_num_updated(::google::protobuf::uint32 value) {
+  set_has_num_updated();
+  num_updated_ = value;
 }
 
-// optional bool close_file = 3;
-inline bool xtreemfs_update_file_sizeRequest::has_close_file() const {
+// optional string cursor = 3;
+inline bool xtreemfs_setattr_recursiveResponse::has_cursor() const {
   return (_has_bits_[0] & 0x00000004u) != 0;
 }
-inline void xtreemfs_update_file_sizeRequest::set_has_close_file() {
+inline void xtreemfs_setattr_recursiveResponse::set_has_cursor() {
   _has_bits_[0] |= 0x00000004u;
 }
-inline void xtreemfs_update_file_sizeRequest::clear_has_close_file() {
+inline void xtreemfs_setattr_recursiveResponse::clear_has_cursor() {
   _has_bits_[0] &= ~0x00000004u;
 }
-inline void xtreemfs_update_file_sizeRequest::clear_close_file() {
-  close_file_ = false;
-  clear_has_close_file();
-}
-inline bool xtreemfs_update_file_sizeRequest::close_file() const {
-  return close_file_;
-}
-inline void xtreemfs_update_file_sizeRequest::set_close_file(bool value) {
-  set_has_close_file();
-  close_file_ = value;
-}
-
-// optional .xtreemfs.pbrpc.VivaldiCoordinates coordinates = 4;
-inline bool xtreemfs_update_file_sizeRequest::has_coordinates() const {
-  return (_has_bits_[0] & 0x00000008u) != 0;
+inline void xtreemfs_setattr_recursiveResponse::clear_cursor() {
+  if (cursor_ != &::google::protobuf::internal::kEmptyString) {
+    cursor_->clear();
+  }
+  clear_has_cursor();
 }
-inline void xtreemfs_update_file_sizeRequest::set_has_coordinates() {
-  _has_bits_[0] |= 0x00000008u;
+inline const ::std::string& xtreemfs_setattr_recursiveResponse::cursor() const {
+  return *cursor_;
 }
-inline void xtreemfs_update_file_sizeRequest::clear_has_coordinates() {
-  _has_bits_[0] &= ~0x00000008u;
+inline void xtreemfs_setattr_recursiveResponse::set_cursor(const ::std::string& value) {
+  set_has_cursor();
+  if (cursor_ == &::google::protobuf::internal::kEmptyString) {
+    cursor_ = new ::std::string;
+  }
+  cursor_->assign(value);
 }
-inline void xtreemfs_update_file_sizeRequest::clear_coordinates() {
-  if (coordinates_ != NULL) coordinates_->::xtreemfs::pbrpc::VivaldiCoordinates::Clear();
-  clear_has_coordinates();
+inline void xtreemfs_setattr_recursiveResponse::set_cursor(const char* value) {
+  set_has_cursor();
+  if (cursor_ == &::google::protobuf::internal::kEmptyString) {
+    cursor_ = new ::std::string;
+  }
+  cursor_->assign(value);
 }
-inline const ::xtreemfs::pbrpc::VivaldiCoordinates& xtreemfs_update_file_sizeRequest::coordinates() const {
-  return coordinates_ != NULL ? *coordinates_ : *default_instance_->coordinates_;
+inline void xtreemfs_setattr_recursiveResponse::set_cursor(const char* value, size_t size) {
+  set_has_cursor();
+  if (cursor_ == &::google::protobuf::internal::kEmptyString) {
+    cursor_ = new ::std::string;
+  }
+  cursor_->assign(reinterpret_cast<const char*>(value), size);
 }
-inline ::xtreemfs::pbrpc::VivaldiCoordinates* xtreemfs_update_file_sizeRequest::mutable_coordinates() {
-  set_has_coordinates();
-  if (coordinates_ == NULL) coordinates_ = new ::xtreemfs::pbrpc::VivaldiCoordinates;
-  return coordinates_;
+inline ::std::string* xtreemfs_setattr_recursiveResponse::mutable_cursor() {
+  set_has_cursor();
+  if (cursor_ == &::google::protobuf::internal::kEmptyString) {
+    cursor_ = new ::std::string;
+  }
+  return cursor_;
 }
-inline ::xtreemfs::pbrpc::VivaldiCoordinates* xtreemfs_update_file_sizeRequest::release_coordinates() {
-  clear_has_coordinates();
-  ::xtreemfs::pbrpc::VivaldiCoordinates* temp = coordinates_;
-  coordinates_ = NULL;
-  return temp;
+inline ::std::string* xtreemfs_setattr_recursiveResponse::release_cursor() {
+  clear_has_cursor();
+  if (cursor_ == &::google::protobuf::internal::kEmptyString) {
+    return NULL;
+  } else {
+    ::std::string* temp = cursor_;
+    cursor_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    return temp;
+  }
 }
-inline void xtreemfs_update_file_sizeRequest::set_allocated_coordinates(::xtreemfs::pbrpc::VivaldiCoordinates* coordinates) {
-  delete coordinates_;
-  coordinates_ = coordinates;
-  if (coordinates) {
-    set_has_coordinates();
+inline void xtreemfs_setattr_recursiveResponse::set_allocated_cursor(::std::string* cursor) {
+  if (cursor_ != &::google::protobuf::internal::kEmptyString) {
+    delete cursor_;
+  }
+  if (cursor) {
+    set_has_cursor();
+    cursor_ = cursor;
   } else {
-    clear_has_coordinates();
+    clear_has_cursor();
+    cursor_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
   }
 }
 
@@ -1,5 +1,5 @@
-//automatically generated from MRC.proto at Thu Dec 11 16:09:40 CET 2014
-//(c) 2014. See LICENSE file for details.
+//automatically generated from MRC.proto at Mon Oct 19 05:16:32 UTC 2026
+//(c) 2026. See LICENSE file for details.
 
 #ifndef MRCSERVICECLIENT_H
 #define MRCSERVICECLIENT_H
@@ -9,10 +9,10 @@
 #include "rpc/client.h"
 #include "rpc/sync_callback.h"
 #include "rpc/callback_interface.h"
-#include "xtreemfs/MRC.pb.h"
 #include "include/Common.pb.h"
-#include "xtreemfs/GlobalTypes.pb.h"
 #include "xtreemfs/DIR.pb.h"
+#include "xtreemfs/GlobalTypes.pb.h"
+#include "xtreemfs/MRC.pb.h"
 
 
 namespace xtreemfs {
@@ -973,6 +973,167 @@ namespace pbrpc {
                 return sync_cb;
             }
 
+            void xtreemfs_renew_capabilities(const std::string &address,
+                const xtreemfs::pbrpc::Auth& auth,
+                const xtreemfs::pbrpc::UserCredentials &creds,
+                const xtreemfs::pbrpc::xtreemfs_renew_capabilitiesRequest* request,
+                CallbackInterface<xtreemfs::pbrpc::xtreemfs_renew_capabilitiesResponse> *callback, void *context = NULL) {
+                const char* data = NULL; uint32_t data_length = 0;
+                client_->sendRequest(address, 20001, 52,
+                     creds, auth, request, data, data_length, new xtreemfs::pbrpc::xtreemfs_renew_capabilitiesResponse(),
+                     context, callback);
+            }
+
+            SyncCallback<xtreemfs::pbrpc::xtreemfs_renew_capabilitiesResponse>* xtreemfs_renew_capabilities_sync(const std::string &address,
+                const xtreemfs::pbrpc::Auth& auth,
+                const xtreemfs::pbrpc::UserCredentials &creds
+                , const xtreemfs::pbrpc::xtreemfs_renew_capabilitiesRequest* request) {
+                const char* data = NULL; uint32_t data_length = 0;
+                SyncCallback<xtreemfs::pbrpc::xtreemfs_renew_capabilitiesResponse>* sync_cb = new SyncCallback<xtreemfs::pbrpc::xtreemfs_renew_capabilitiesResponse>();
+                client_->sendRequest(address, 20001, 52,
+                     creds, auth, request, data, data_length, new xtreemfs::pbrpc::xtreemfs_renew_capabilitiesResponse(),
+                     NULL, sync_cb);
+                return sync_cb;
+            }
+
+            void xtreemfs_update_file_sizes(const std::string &address,
+                const xtreemfs::pbrpc::Auth& auth,
+                const xtreemfs::pbrpc::UserCredentials &creds,
+                const xtreemfs::pbrpc::xtreemfs_update_file_sizesRequest* request,
+                CallbackInterface<xtreemfs::pbrpc::xtreemfs_update_file_sizesResponse> *callback, void *context = NULL) {
+                const char* data = NULL; uint32_t data_length = 0;
+                client_->sendRequest(address, 20001, 53,
+                     creds, auth, request, data, data_length, new xtreemfs::pbrpc::xtreemfs_update_file_sizesResponse(),
+                     context, callback);
+            }
+
+            SyncCallback<xtreemfs::pbrpc::xtreemfs_update_file_sizesResponse>* xtreemfs_update_file_sizes_sync(const std::string &address,
+                const xtreemfs::pbrpc::Auth& auth,
+                const xtreemfs::pbrpc::UserCredentials &creds
+                , const xtreemfs::pbrpc::xtreemfs_update_file_sizesRequest* request) {
+                const char* data = NULL; uint32_t data_length = 0;
+                SyncCallback<xtreemfs::pbrpc::xtreemfs_update_file_sizesResponse>* sync_cb = new SyncCallback<xtreemfs::pbrpc::xtreemfs_update_file_sizesResponse>();
+                client_->sendRequest(address, 20001, 53,
+                     creds, auth, request, data, data_length, new xtreemfs::pbrpc::xtreemfs_update_file_sizesResponse(),
+                     NULL, sync_cb);
+                return sync_cb;
+            }
+
+            void xtreemfs_create_files(const std::string &address,
+                const xtreemfs::pbrpc::Auth& auth,
+                const xtreemfs::pbrpc::UserCredentials &creds,
+                const xtreemfs::pbrpc::xtreemfs_create_filesRequest* request,
+                CallbackInterface<xtreemfs::pbrpc::xtreemfs_create_filesResponse> *callback, void *context = NULL) {
+                const char* data = NULL; uint32_t data_length = 0;
+                client_->sendRequest(address, 20001, 54,
+                     creds, auth, request, data, data_length, new xtreemfs::pbrpc::xtreemfs_create_filesResponse(),
+                     context, callback);
+            }
+
+            SyncCallback<xtreemfs::pbrpc::xtreemfs_create_filesResponse>* xtreemfs_create_files_sync(const std::string &address,
+                const xtreemfs::pbrpc::Auth& auth,
+                const xtreemfs::pbrpc::UserCredentials &creds
+                , const xtreemfs::pbrpc::xtreemfs_create_filesRequest* request) {
+                const char* data = NULL; uint32_t data_length = 0;
+                SyncCallback<xtreemfs::pbrpc::xtreemfs_create_filesResponse>* sync_cb = new SyncCallback<xtreemfs::pbrpc::xtreemfs_create_filesResponse>();
+                client_->sendRequest(address, 20001, 54,
+                     creds, auth, request, data, data_length, new xtreemfs::pbrpc::xtreemfs_create_filesResponse(),
+                     NULL, sync_cb);
+                return sync_cb;
+            }
+
+            void xtreemfs_getattrs(const std::string &address,
+                const xtreemfs::pbrpc::Auth& auth,
+                const xtreemfs::pbrpc::UserCredentials &creds,
+                const xtreemfs::pbrpc::xtreemfs_getattrsRequest* request,
+                CallbackInterface<xtreemfs::pbrpc::xtreemfs_getattrsResponse> *callback, void *context = NULL) {
+                const char* data = NULL; uint32_t data_length = 0;
+                client_->sendRequest(address, 20001, 55,
+                     creds, auth, request, data, data_length, new xtreemfs::pbrpc::xtreemfs_getattrsResponse(),
+                     context, callback);
+            }
+
+            SyncCallback<xtreemfs::pbrpc::xtreemfs_getattrsResponse>* xtreemfs_getattrs_sync(const std::string &address,
+                const xtreemfs::pbrpc::Auth& auth,
+                const xtreemfs::pbrpc::UserCredentials &creds
+                , const xtreemfs::pbrpc::xtreemfs_getattrsRequest* request) {
+                const char* data = NULL; uint32_t data_length = 0;
+                SyncCallback<xtreemfs::pbrpc::xtreemfs_getattrsResponse>* sync_cb = new SyncCallback<xtreemfs::pbrpc::xtreemfs_getattrsResponse>();
+                client_->sendRequest(address, 20001, 55,
+                     creds, auth, request, data, data_length, new xtreemfs::pbrpc::xtreemfs_getattrsResponse(),
+                     NULL, sync_cb);
+                return sync_cb;
+            }
+
+            void xtreemfs_get_xlocsets(const std::string &address,
+                const xtreemfs::pbrpc::Auth& auth,
+                const xtreemfs::pbrpc::UserCredentials &creds,
+                const xtreemfs::pbrpc::xtreemfs_get_xlocsetsRequest* request,
+                CallbackInterface<xtreemfs::pbrpc::xtreemfs_get_xlocsetsResponse> *callback, void *context = NULL) {
+                const char* data = NULL; uint32_t data_length = 0;
+                client_->sendRequest(address, 20001, 56,
+                     creds, auth, request, data, data_length, new xtreemfs::pbrpc::xtreemfs_get_xlocsetsResponse(),
+                     context, callback);
+            }
+
+            SyncCallback<xtreemfs::pbrpc::xtreemfs_get_xlocsetsResponse>* xtreemfs_get_xlocsets_sync(const std::string &address,
+                const xtreemfs::pbrpc::Auth& auth,
+                const xtreemfs::pbrpc::UserCredentials &creds
+                , const xtreemfs::pbrpc::xtreemfs_get_xlocsetsRequest* request) {
+                const char* data = NULL; uint32_t data_length = 0;
+                SyncCallback<xtreemfs::pbrpc::xtreemfs_get_xlocsetsResponse>* sync_cb = new SyncCallback<xtreemfs::pbrpc::xtreemfs_get_xlocsetsResponse>();
+                client_->sendRequest(address, 20001, 56,
+                     creds, auth, request, data, data_length, new xtreemfs::pbrpc::xtreemfs_get_xlocsetsResponse(),
+                     NULL, sync_cb);
+                return sync_cb;
+            }
+
+            void xtreemfs_rmdir_recursive(const std::string &address,
+                const xtreemfs::pbrpc::Auth& auth,
+                const xtreemfs::pbrpc::UserCredentials &creds,
+                const xtreemfs::pbrpc::xtreemfs_rmdir_recursiveRequest* request,
+                CallbackInterface<xtreemfs::pbrpc::xtreemfs_rmdir_recursiveResponse> *callback, void *context = NULL) {
+                const char* data = NULL; uint32_t data_length = 0;
+                client_->sendRequest(address, 20001, 57,
+                     creds, auth, request, data, data_length, new xtreemfs::pbrpc::xtreemfs_rmdir_recursiveResponse(),
+                     context, callback);
+            }
+
+            SyncCallback<xtreemfs::pbrpc::xtreemfs_rmdir_recursiveResponse>* xtreemfs_rmdir_recursive_sync(const std::string &address,
+                const xtreemfs::pbrpc::Auth& auth,
+                const xtreemfs::pbrpc::UserCredentials &creds
+                , const xtreemfs::pbrpc::xtreemfs_rmdir_recursiveRequest* request) {
+                const char* data = NULL; uint32_t data_length = 0;
+                SyncCallback<xtreemfs::pbrpc::xtreemfs_rmdir_recursiveResponse>* sync_cb = new SyncCallback<xtreemfs::pbrpc::xtreemfs_rmdir_recursiveResponse>();
+                client_->sendRequest(address, 20001, 57,
+                     creds, auth, request, data, data_length, new xtreemfs::pbrpc::xtreemfs_rmdir_recursiveResponse(),
+                     NULL, sync_cb);
+                return sync_cb;
+            }
+
+            void xtreemfs_setattr_recursive(const std::string &address,
+                const xtreemfs::pbrpc::Auth& auth,
+                const xtreemfs::pbrpc::UserCredentials &creds,
+                const xtreemfs::pbrpc::xtreemfs_setattr_recursiveRequest* request,
+                CallbackInterface<xtreemfs::pbrpc::xtreemfs_setattr_recursiveResponse> *callback, void *context = NULL) {
+                const char* data = NULL; uint32_t data_length = 0;
+                client_->sendRequest(address, 20001, 58,
+                     creds, auth, request, data, data_length, new xtreemfs::pbrpc::xtreemfs_setattr_recursiveResponse(),
+                     context, callback);
+            }
+
+            SyncCallback<xtreemfs::pbrpc::xtreemfs_setattr_recursiveResponse>* xtreemfs_setattr_recursive_sync(const std::string &address,
+                const xtreemfs::pbrpc::Auth& auth,
+                const xtreemfs::pbrpc::UserCredentials &creds
+                , const xtreemfs::pbrpc::xtreemfs_setattr_recursiveRequest* request) {
+                const char* data = NULL; uint32_t data_length = 0;
+                SyncCallback<xtreemfs::pbrpc::xtreemfs_setattr_recursiveResponse>* sync_cb = new SyncCallback<xtreemfs::pbrpc::xtreemfs_setattr_recursiveResponse>();
+                client_->sendRequest(address, 20001, 58,
+                     creds, auth, request, data, data_length, new xtreemfs::pbrpc::xtreemfs_setattr_recursiveResponse(),
+                     NULL, sync_cb);
+                return sync_cb;
+            }
+
         private:
             Client* client_;
         };
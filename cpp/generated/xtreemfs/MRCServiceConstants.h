@@ -1,5 +1,5 @@
-//automatically generated from MRC.proto at Thu Dec 11 16:09:40 CET 2014
-//(c) 2014. See LICENSE file for details.
+//automatically generated from MRC.proto at Mon Oct 19 05:16:32 UTC 2026
+//(c) 2026. See LICENSE file for details.
 
 #ifndef MRCSERVICECONSTANTS_H_
 #define MRCSERVICECONSTANTS_H_
@@ -50,6 +50,13 @@ const uint32_t PROC_ID_XTREEMFS_SET_REPLICA_UPDATE_POLICY = 48;
 const uint32_t PROC_ID_XTREEMFS_SET_READ_ONLY_XATTR = 49;
 const uint32_t PROC_ID_XTREEMFS_GET_FILE_CREDENTIALS = 50;
 const uint32_t PROC_ID_XTREEMFS_GET_XLOCSET = 51;
+const uint32_t PROC_ID_XTREEMFS_RENEW_CAPABILITIES = 52;
+const uint32_t PROC_ID_XTREEMFS_UPDATE_FILE_SIZES = 53;
+const uint32_t PROC_ID_XTREEMFS_CREATE_FILES = 54;
+const uint32_t PROC_ID_XTREEMFS_GETATTRS = 55;
+const uint32_t PROC_ID_XTREEMFS_GET_XLOCSETS = 56;
+const uint32_t PROC_ID_XTREEMFS_RMDIR_RECURSIVE = 57;
+const uint32_t PROC_ID_XTREEMFS_SETATTR_RECURSIVE = 58;
 
 }  // namespace pbrpc
 }  // namespace xtreemfs
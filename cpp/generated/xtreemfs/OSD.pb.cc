@@ -144,6 +144,7 @@ const ::google::protobuf::internal::GeneratedMessageReflection*
 const ::google::protobuf::Descriptor* xtreemfs_xloc_set_invalidateResponse_descriptor_ = NULL;
 const ::google::protobuf::internal::GeneratedMessageReflection*
   xtreemfs_xloc_set_invalidateResponse_reflection_ = NULL;
+const ::google::protobuf::EnumDescriptor* ObjectSetFormat_descriptor_ = NULL;
 const ::google::protobuf::EnumDescriptor* OSDHealthResult_descriptor_ = NULL;
 
 }  // namespace
@@ -209,10 +210,11 @@ void protobuf_AssignDesc_xtreemfs_2fOSD_2eproto() {
       ::google::protobuf::MessageFactory::generated_factory(),
       sizeof(ObjectData));
   ObjectList_descriptor_ = file->message_type(3);
-  static const int ObjectList_offsets_[3] = {
+  static const int ObjectList_offsets_[4] = {
     GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(ObjectList, set_),
     GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(ObjectList, stripe_width_),
     GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(ObjectList, first__),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(ObjectList, format_),
   };
   ObjectList_reflection_ =
     new ::google::protobuf::internal::GeneratedMessageReflection(
@@ -707,7 +709,7 @@ void protobuf_AssignDesc_xtreemfs_2fOSD_2eproto() {
       ::google::protobuf::MessageFactory::generated_factory(),
       sizeof(xtreemfs_internal_get_file_sizeResponse));
   xtreemfs_internal_read_localRequest_descriptor_ = file->message_type(32);
-  static const int xtreemfs_internal_read_localRequest_offsets_[8] = {
+  static const int xtreemfs_internal_read_localRequest_offsets_[9] = {
     GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(xtreemfs_internal_read_localRequest, file_credentials_),
     GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(xtreemfs_internal_read_localRequest, file_id_),
     GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(xtreemfs_internal_read_localRequest, object_number_),
@@ -716,6 +718,7 @@ void protobuf_AssignDesc_xtreemfs_2fOSD_2eproto() {
     GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(xtreemfs_internal_read_localRequest, length_),
     GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(xtreemfs_internal_read_localRequest, attach_object_list_),
     GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(xtreemfs_internal_read_localRequest, required_objects_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(xtreemfs_internal_read_localRequest, object_set_format_),
   };
   xtreemfs_internal_read_localRequest_reflection_ =
     new ::google::protobuf::internal::GeneratedMessageReflection(
@@ -729,9 +732,10 @@ void protobuf_AssignDesc_xtreemfs_2fOSD_2eproto() {
       ::google::protobuf::MessageFactory::generated_factory(),
       sizeof(xtreemfs_internal_read_localRequest));
   xtreemfs_internal_get_object_setRequest_descriptor_ = file->message_type(33);
-  static const int xtreemfs_internal_get_object_setRequest_offsets_[2] = {
+  static const int xtreemfs_internal_get_object_setRequest_offsets_[3] = {
     GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(xtreemfs_internal_get_object_setRequest, file_credentials_),
     GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(xtreemfs_internal_get_object_setRequest, file_id_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(xtreemfs_internal_get_object_setRequest, object_set_format_),
   };
   xtreemfs_internal_get_object_setRequest_reflection_ =
     new ::google::protobuf::internal::GeneratedMessageReflection(
@@ -857,7 +861,8 @@ void protobuf_AssignDesc_xtreemfs_2fOSD_2eproto() {
       ::google::protobuf::DescriptorPool::generated_pool(),
       ::google::protobuf::MessageFactory::generated_factory(),
       sizeof(xtreemfs_xloc_set_invalidateResponse));
-  OSDHealthResult_descriptor_ = file->enum_type(0);
+  ObjectSetFormat_descriptor_ = file->enum_type(0);
+  OSDHealthResult_descriptor_ = file->enum_type(1);
 }
 
 namespace {
@@ -1060,228 +1065,237 @@ void protobuf_AddDesc_xtreemfs_2fOSD_2eproto() {
     "\030\003 \002(\006\022\016\n\006offset\030\004 \002(\006\022\021\n\texclusive\030\005 \002("
     "\010\"U\n\nObjectData\022\020\n\010checksum\030\001 \002(\007\022\037\n\027inv"
     "alid_checksum_on_osd\030\002 \002(\010\022\024\n\014zero_paddi"
-    "ng\030\003 \002(\007\"\?\n\nObjectList\022\013\n\003set\030\001 \002(\014\022\024\n\014s"
-    "tripe_width\030\002 \002(\007\022\016\n\006first_\030\003 \002(\007\">\n\rObj"
-    "ectVersion\022\025\n\robject_number\030\001 \002(\006\022\026\n\016obj"
-    "ect_version\030\002 \002(\006\"=\n\016TruncateRecord\022\017\n\007v"
-    "ersion\030\001 \002(\006\022\032\n\022last_object_number\030\002 \002(\006"
-    "\">\n\013TruncateLog\022/\n\007records\030\001 \003(\0132\036.xtree"
-    "mfs.pbrpc.TruncateRecord\"R\n\023XLocSetVersi"
-    "onState\022\017\n\007version\030\001 \002(\007\022\023\n\013invalidated\030"
-    "\002 \002(\010\022\025\n\rmodified_time\030\003 \001(\006\"\324\001\n\rReplica"
-    "Status\022\026\n\016truncate_epoch\030\001 \002(\006\022\021\n\tfile_s"
-    "ize\030\002 \002(\006\022\027\n\017max_obj_version\030\003 \002(\006\022\025\n\rpr"
-    "imary_epoch\030\004 \002(\007\0225\n\016objectVersions\030\005 \003("
-    "\0132\035.xtreemfs.pbrpc.ObjectVersion\0221\n\014trun"
-    "cate_log\030\006 \002(\0132\033.xtreemfs.pbrpc.Truncate"
-    "Log\"X\n\024ObjectVersionMapping\022\025\n\robject_nu"
-    "mber\030\001 \002(\006\022\026\n\016object_version\030\002 \002(\006\022\021\n\tos"
-    "d_uuids\030\003 \003(\t\"\275\001\n\031AuthoritativeReplicaSt"
-    "ate\022\026\n\016truncate_epoch\030\001 \002(\006\022\027\n\017max_obj_v"
-    "ersion\030\004 \002(\006\022<\n\016objectVersions\030\002 \003(\0132$.x"
-    "treemfs.pbrpc.ObjectVersionMapping\0221\n\014tr"
-    "uncate_log\030\003 \002(\0132\033.xtreemfs.pbrpc.Trunca"
-    "teLog\"u\n\031InternalReadLocalResponse\022(\n\004da"
-    "ta\030\001 \002(\0132\032.xtreemfs.pbrpc.ObjectData\022.\n\n"
-    "object_set\030\002 \003(\0132\032.xtreemfs.pbrpc.Object"
-    "List\"\250\001\n\013readRequest\0229\n\020file_credentials"
-    "\030\001 \002(\0132\037.xtreemfs.pbrpc.FileCredentials\022"
-    "\017\n\007file_id\030\002 \002(\t\022\025\n\robject_number\030\003 \002(\006\022"
-    "\026\n\016object_version\030\004 \002(\006\022\016\n\006offset\030\005 \002(\007\022"
-    "\016\n\006length\030\006 \002(\007\"t\n\017truncateRequest\0229\n\020fi"
-    "le_credentials\030\001 \002(\0132\037.xtreemfs.pbrpc.Fi"
-    "leCredentials\022\017\n\007file_id\030\002 \002(\t\022\025\n\rnew_fi"
-    "le_size\030\003 \002(\006\"`\n\022unlink_osd_Request\0229\n\020f"
+    "ng\030\003 \002(\007\"\217\001\n\nObjectList\022\013\n\003set\030\001 \002(\014\022\024\n\014"
+    "stripe_width\030\002 \002(\007\022\016\n\006first_\030\003 \002(\007\022N\n\006fo"
+    "rmat\030\004 \001(\0162\037.xtreemfs.pbrpc.ObjectSetFor"
+    "mat:\035OBJECT_SET_FORMAT_JAVA_BITSET\">\n\rOb"
+    "jectVersion\022\025\n\robject_number\030\001 \002(\006\022\026\n\016ob"
+    "ject_version\030\002 \002(\006\"=\n\016TruncateRecord\022\017\n\007"
+    "version\030\001 \002(\006\022\032\n\022last_object_number\030\002 \002("
+    "\006\">\n\013TruncateLog\022/\n\007records\030\001 \003(\0132\036.xtre"
+    "emfs.pbrpc.TruncateRecord\"R\n\023XLocSetVers"
+    "ionState\022\017\n\007version\030\001 \002(\007\022\023\n\013invalidated"
+    "\030\002 \002(\010\022\025\n\rmodified_time\030\003 \001(\006\"\324\001\n\rReplic"
+    "aStatus\022\026\n\016truncate_epoch\030\001 \002(\006\022\021\n\tfile_"
+    "size\030\002 \002(\006\022\027\n\017max_obj_version\030\003 \002(\006\022\025\n\rp"
+    "rimary_epoch\030\004 \002(\007\0225\n\016objectVersions\030\005 \003"
+    "(\0132\035.xtreemfs.pbrpc.ObjectVersion\0221\n\014tru"
+    "ncate_log\030\006 \002(\0132\033.xtreemfs.pbrpc.Truncat"
+    "eLog\"X\n\024ObjectVersionMapping\022\025\n\robject_n"
+    "umber\030\001 \002(\006\022\026\n\016object_version\030\002 \002(\006\022\021\n\to"
+    "sd_uuids\030\003 \003(\t\"\275\001\n\031AuthoritativeReplicaS"
+    "tate\022\026\n\016truncate_epoch\030\001 \002(\006\022\027\n\017max_obj_"
+    "version\030\004 \002(\006\022<\n\016objectVersions\030\002 \003(\0132$."
+    "xtreemfs.pbrpc.ObjectVersionMapping\0221\n\014t"
+    "runcate_log\030\003 \002(\0132\033.xtreemfs.pbrpc.Trunc"
+    "ateLog\"u\n\031InternalReadLocalResponse\022(\n\004d"
+    "ata\030\001 \002(\0132\032.xtreemfs.pbrpc.ObjectData\022.\n"
+    "\nobject_set\030\002 \003(\0132\032.xtreemfs.pbrpc.Objec"
+    "tList\"\250\001\n\013readRequest\0229\n\020file_credential"
+    "s\030\001 \002(\0132\037.xtreemfs.pbrpc.FileCredentials"
+    "\022\017\n\007file_id\030\002 \002(\t\022\025\n\robject_number\030\003 \002(\006"
+    "\022\026\n\016object_version\030\004 \002(\006\022\016\n\006offset\030\005 \002(\007"
+    "\022\016\n\006length\030\006 \002(\007\"t\n\017truncateRequest\0229\n\020f"
     "ile_credentials\030\001 \002(\0132\037.xtreemfs.pbrpc.F"
-    "ileCredentials\022\017\n\007file_id\030\002 \002(\t\"\341\001\n\014writ"
-    "eRequest\0229\n\020file_credentials\030\001 \002(\0132\037.xtr"
-    "eemfs.pbrpc.FileCredentials\022\017\n\007file_id\030\002"
-    " \002(\t\022\025\n\robject_number\030\003 \002(\006\022\026\n\016object_ve"
-    "rsion\030\004 \002(\006\022\016\n\006offset\030\005 \002(\007\022\025\n\rlease_tim"
-    "eout\030\006 \002(\006\022/\n\013object_data\030\007 \002(\0132\032.xtreem"
-    "fs.pbrpc.ObjectData\"q\n\036xtreemfs_broadcas"
-    "t_gmaxRequest\022\017\n\007file_id\030\001 \002(\t\022\026\n\016trunca"
-    "te_epoch\030\002 \002(\006\022\023\n\013last_object\030\003 \002(\006\022\021\n\tf"
-    "ile_size\030\004 \002(\006\"\231\001\n\034xtreemfs_check_object"
-    "Request\0229\n\020file_credentials\030\001 \002(\0132\037.xtre"
-    "emfs.pbrpc.FileCredentials\022\017\n\007file_id\030\002 "
-    "\002(\t\022\025\n\robject_number\030\003 \002(\006\022\026\n\016object_ver"
-    "sion\030\004 \002(\006\"7\n$xtreemfs_cleanup_get_resul"
-    "tsResponse\022\017\n\007results\030\001 \003(\t\"9\n#xtreemfs_"
-    "cleanup_is_runningResponse\022\022\n\nis_running"
-    "\030\001 \002(\010\"\241\001\n\035xtreemfs_cleanup_startRequest"
-    "\022\026\n\016remove_zombies\030\001 \002(\010\022\035\n\025remove_unava"
-    "il_volume\030\002 \002(\010\022\026\n\016lost_and_found\030\003 \002(\010\022"
-    "\027\n\017delete_metadata\030\004 \002(\010\022\030\n\020metadata_tim"
-    "eout\030\005 \002(\007\"1\n\037xtreemfs_cleanup_statusRes"
-    "ponse\022\016\n\006status\030\001 \002(\t\"\226\001\n\031xtreemfs_rwr_f"
-    "etchRequest\0229\n\020file_credentials\030\001 \002(\0132\037."
-    "xtreemfs.pbrpc.FileCredentials\022\017\n\007file_i"
-    "d\030\002 \002(\t\022\025\n\robject_number\030\003 \002(\006\022\026\n\016object"
-    "_version\030\004 \002(\006\"\232\001\n\035xtreemfs_repair_objec"
+    "ileCredentials\022\017\n\007file_id\030\002 \002(\t\022\025\n\rnew_f"
+    "ile_size\030\003 \002(\006\"`\n\022unlink_osd_Request\0229\n\020"
+    "file_credentials\030\001 \002(\0132\037.xtreemfs.pbrpc."
+    "FileCredentials\022\017\n\007file_id\030\002 \002(\t\"\341\001\n\014wri"
+    "teRequest\0229\n\020file_credentials\030\001 \002(\0132\037.xt"
+    "reemfs.pbrpc.FileCredentials\022\017\n\007file_id\030"
+    "\002 \002(\t\022\025\n\robject_number\030\003 \002(\006\022\026\n\016object_v"
+    "ersion\030\004 \002(\006\022\016\n\006offset\030\005 \002(\007\022\025\n\rlease_ti"
+    "meout\030\006 \002(\006\022/\n\013object_data\030\007 \002(\0132\032.xtree"
+    "mfs.pbrpc.ObjectData\"q\n\036xtreemfs_broadca"
+    "st_gmaxRequest\022\017\n\007file_id\030\001 \002(\t\022\026\n\016trunc"
+    "ate_epoch\030\002 \002(\006\022\023\n\013last_object\030\003 \002(\006\022\021\n\t"
+    "file_size\030\004 \002(\006\"\231\001\n\034xtreemfs_check_objec"
     "tRequest\0229\n\020file_credentials\030\001 \002(\0132\037.xtr"
     "eemfs.pbrpc.FileCredentials\022\017\n\007file_id\030\002"
     " \002(\t\022\025\n\robject_number\030\003 \002(\006\022\026\n\016object_ve"
-    "rsion\030\004 \002(\006\"N\n\036xtreemfs_rwr_flease_msgRe"
-    "quest\022\027\n\017sender_hostname\030\001 \002(\t\022\023\n\013sender"
-    "_port\030\002 \002(\007\"\212\001\n%xtreemfs_rwr_set_primary"
-    "_epochRequest\0229\n\020file_credentials\030\001 \002(\0132"
-    "\037.xtreemfs.pbrpc.FileCredentials\022\017\n\007file"
-    "_id\030\002 \002(\t\022\025\n\rprimary_epoch\030\003 \002(\007\"\207\001\n\032xtr"
-    "eemfs_rwr_statusRequest\0229\n\020file_credenti"
-    "als\030\001 \002(\0132\037.xtreemfs.pbrpc.FileCredentia"
-    "ls\022\017\n\007file_id\030\002 \002(\t\022\035\n\025max_local_obj_ver"
-    "sion\030\003 \002(\006\"\231\001\n\034xtreemfs_rwr_truncateRequ"
-    "est\0229\n\020file_credentials\030\001 \002(\0132\037.xtreemfs"
-    ".pbrpc.FileCredentials\022\017\n\007file_id\030\002 \002(\t\022"
-    "\025\n\rnew_file_size\030\003 \002(\006\022\026\n\016object_version"
-    "\030\004 \002(\006\"\347\001\n\032xtreemfs_rwr_updateRequest\0229\n"
-    "\020file_credentials\030\001 \002(\0132\037.xtreemfs.pbrpc"
-    ".FileCredentials\022\017\n\007file_id\030\002 \002(\t\022\025\n\rnew"
-    "_file_size\030\003 \002(\006\022\025\n\robject_number\030\007 \002(\006\022"
-    "\026\n\016object_version\030\004 \002(\006\022\016\n\006offset\030\005 \002(\007\022"
-    "\'\n\003obj\030\006 \002(\0132\032.xtreemfs.pbrpc.ObjectData"
-    "\"o\n!xtreemfs_internal_get_gmaxRequest\0229\n"
-    "\020file_credentials\030\001 \002(\0132\037.xtreemfs.pbrpc"
-    ".FileCredentials\022\017\n\007file_id\030\002 \002(\t\"t\n&xtr"
-    "eemfs_internal_get_file_sizeRequest\0229\n\020f"
-    "ile_credentials\030\001 \002(\0132\037.xtreemfs.pbrpc.F"
-    "ileCredentials\022\017\n\007file_id\030\002 \002(\t\"<\n\'xtree"
-    "mfs_internal_get_file_sizeResponse\022\021\n\tfi"
-    "le_size\030\001 \002(\006\"\222\002\n#xtreemfs_internal_read"
-    "_localRequest\0229\n\020file_credentials\030\001 \002(\0132"
-    "\037.xtreemfs.pbrpc.FileCredentials\022\017\n\007file"
-    "_id\030\002 \002(\t\022\025\n\robject_number\030\003 \002(\006\022\026\n\016obje"
-    "ct_version\030\004 \002(\006\022\016\n\006offset\030\005 \002(\007\022\016\n\006leng"
-    "th\030\006 \002(\007\022\032\n\022attach_object_list\030\007 \002(\010\0224\n\020"
-    "required_objects\030\010 \003(\0132\032.xtreemfs.pbrpc."
-    "ObjectList\"u\n\'xtreemfs_internal_get_obje"
-    "ct_setRequest\0229\n\020file_credentials\030\001 \002(\0132"
-    "\037.xtreemfs.pbrpc.FileCredentials\022\017\n\007file"
-    "_id\030\002 \002(\t\"=\n)xtreemfs_internal_get_filei"
-    "d_listResponse\022\020\n\010file_ids\030\001 \003(\t\"t\n\013lock"
-    "Request\0229\n\020file_credentials\030\001 \002(\0132\037.xtre"
-    "emfs.pbrpc.FileCredentials\022*\n\014lock_reque"
-    "st\030\002 \002(\0132\024.xtreemfs.pbrpc.Lock\"j\n\025xtreem"
-    "fs_pingMesssage\0227\n\013coordinates\030\001 \002(\0132\".x"
-    "treemfs.pbrpc.VivaldiCoordinates\022\030\n\020requ"
-    "est_response\030\002 \002(\010\"\246\001\n\036xtreemfs_rwr_auth"
-    "_stateRequest\0229\n\020file_credentials\030\001 \002(\0132"
-    "\037.xtreemfs.pbrpc.FileCredentials\022\017\n\007file"
-    "_id\030\002 \002(\t\0228\n\005state\030\003 \002(\0132).xtreemfs.pbrp"
-    "c.AuthoritativeReplicaState\"\207\001\n\"xtreemfs"
-    "_rwr_reset_completeRequest\0229\n\020file_crede"
-    "ntials\030\001 \002(\0132\037.xtreemfs.pbrpc.FileCreden"
-    "tials\022\017\n\007file_id\030\002 \002(\t\022\025\n\rprimary_epoch\030"
-    "\003 \002(\007\"q\n#xtreemfs_xloc_set_invalidateReq"
+    "rsion\030\004 \002(\006\"7\n$xtreemfs_cleanup_get_resu"
+    "ltsResponse\022\017\n\007results\030\001 \003(\t\"9\n#xtreemfs"
+    "_cleanup_is_runningResponse\022\022\n\nis_runnin"
+    "g\030\001 \002(\010\"\241\001\n\035xtreemfs_cleanup_startReques"
+    "t\022\026\n\016remove_zombies\030\001 \002(\010\022\035\n\025remove_unav"
+    "ail_volume\030\002 \002(\010\022\026\n\016lost_and_found\030\003 \002(\010"
+    "\022\027\n\017delete_metadata\030\004 \002(\010\022\030\n\020metadata_ti"
+    "meout\030\005 \002(\007\"1\n\037xtreemfs_cleanup_statusRe"
+    "sponse\022\016\n\006status\030\001 \002(\t\"\226\001\n\031xtreemfs_rwr_"
+    "fetchRequest\0229\n\020file_credentials\030\001 \002(\0132\037"
+    ".xtreemfs.pbrpc.FileCredentials\022\017\n\007file_"
+    "id\030\002 \002(\t\022\025\n\robject_number\030\003 \002(\006\022\026\n\016objec"
+    "t_version\030\004 \002(\006\"\232\001\n\035xtreemfs_repair_obje"
+    "ctRequest\0229\n\020file_credentials\030\001 \002(\0132\037.xt"
+    "reemfs.pbrpc.FileCredentials\022\017\n\007file_id\030"
+    "\002 \002(\t\022\025\n\robject_number\030\003 \002(\006\022\026\n\016object_v"
+    "ersion\030\004 \002(\006\"N\n\036xtreemfs_rwr_flease_msgR"
+    "equest\022\027\n\017sender_hostname\030\001 \002(\t\022\023\n\013sende"
+    "r_port\030\002 \002(\007\"\212\001\n%xtreemfs_rwr_set_primar"
+    "y_epochRequest\0229\n\020file_credentials\030\001 \002(\013"
+    "2\037.xtreemfs.pbrpc.FileCredentials\022\017\n\007fil"
+    "e_id\030\002 \002(\t\022\025\n\rprimary_epoch\030\003 \002(\007\"\207\001\n\032xt"
+    "reemfs_rwr_statusRequest\0229\n\020file_credent"
+    "ials\030\001 \002(\0132\037.xtreemfs.pbrpc.FileCredenti"
+    "als\022\017\n\007file_id\030\002 \002(\t\022\035\n\025max_local_obj_ve"
+    "rsion\030\003 \002(\006\"\231\001\n\034xtreemfs_rwr_truncateReq"
     "uest\0229\n\020file_credentials\030\001 \002(\0132\037.xtreemf"
     "s.pbrpc.FileCredentials\022\017\n\007file_id\030\002 \002(\t"
-    "\"\216\001\n$xtreemfs_xloc_set_invalidateRespons"
-    "e\022/\n\013lease_state\030\001 \002(\0162\032.xtreemfs.pbrpc."
-    "LeaseState\0225\n\016replica_status\030\002 \001(\0132\035.xtr"
-    "eemfs.pbrpc.ReplicaStatus*\215\001\n\017OSDHealthR"
-    "esult\022\034\n\030OSD_HEALTH_RESULT_PASSED\020\000\022\035\n\031O"
-    "SD_HEALTH_RESULT_WARNING\020\001\022\034\n\030OSD_HEALTH"
-    "_RESULT_FAILED\020\002\022\037\n\033OSD_HEALTH_RESULT_NO"
-    "T_AVAIL\020\0032\277\036\n\nOSDService\022L\n\004read\022\033.xtree"
-    "mfs.pbrpc.readRequest\032\032.xtreemfs.pbrpc.O"
-    "bjectData\"\013\215\265\030\n\000\000\000\230\265\030\001\022V\n\010truncate\022\037.xtr"
-    "eemfs.pbrpc.truncateRequest\032 .xtreemfs.p"
-    "brpc.OSDWriteResponse\"\007\215\265\030\013\000\000\000\022T\n\006unlink"
-    "\022\".xtreemfs.pbrpc.unlink_osd_Request\032\035.x"
-    "treemfs.pbrpc.emptyResponse\"\007\215\265\030\014\000\000\000\022T\n\005"
-    "write\022\034.xtreemfs.pbrpc.writeRequest\032 .xt"
-    "reemfs.pbrpc.OSDWriteResponse\"\013\215\265\030\r\000\000\000\240\265"
-    "\030\001\022q\n\027xtreemfs_broadcast_gmax\022..xtreemfs"
-    ".pbrpc.xtreemfs_broadcast_gmaxRequest\032\035."
-    "xtreemfs.pbrpc.emptyResponse\"\007\215\265\030\024\000\000\000\022j\n"
-    "\025xtreemfs_check_object\022,.xtreemfs.pbrpc."
-    "xtreemfs_check_objectRequest\032\032.xtreemfs."
-    "pbrpc.ObjectData\"\007\215\265\030\025\000\000\000\022{\n\034xtreemfs_cl"
-    "eanup_get_results\022\034.xtreemfs.pbrpc.empty"
-    "Request\0324.xtreemfs.pbrpc.xtreemfs_cleanu"
-    "p_get_resultsResponse\"\007\215\265\030\036\000\000\000\022y\n\033xtreem"
-    "fs_cleanup_is_running\022\034.xtreemfs.pbrpc.e"
-    "mptyRequest\0323.xtreemfs.pbrpc.xtreemfs_cl"
-    "eanup_is_runningResponse\"\007\215\265\030\037\000\000\000\022o\n\026xtr"
-    "eemfs_cleanup_start\022-.xtreemfs.pbrpc.xtr"
-    "eemfs_cleanup_startRequest\032\035.xtreemfs.pb"
-    "rpc.emptyResponse\"\007\215\265\030 \000\000\000\022q\n\027xtreemfs_c"
-    "leanup_status\022\034.xtreemfs.pbrpc.emptyRequ"
-    "est\032/.xtreemfs.pbrpc.xtreemfs_cleanup_st"
-    "atusResponse\"\007\215\265\030!\000\000\000\022]\n\025xtreemfs_cleanu"
-    "p_stop\022\034.xtreemfs.pbrpc.emptyRequest\032\035.x"
-    "treemfs.pbrpc.emptyResponse\"\007\215\265\030\"\000\000\000\022g\n\037"
-    "xtreemfs_cleanup_versions_start\022\034.xtreem"
-    "fs.pbrpc.emptyRequest\032\035.xtreemfs.pbrpc.e"
-    "mptyResponse\"\007\215\265\030#\000\000\000\022o\n\026xtreemfs_repair"
-    "_object\022-.xtreemfs.pbrpc.xtreemfs_repair"
-    "_objectRequest\032\035.xtreemfs.pbrpc.emptyRes"
-    "ponse\"\007\215\265\030$\000\000\000\022d\n\022xtreemfs_rwr_fetch\022).x"
-    "treemfs.pbrpc.xtreemfs_rwr_fetchRequest\032"
-    "\032.xtreemfs.pbrpc.ObjectData\"\007\215\265\030I\000\000\000\022u\n\027"
-    "xtreemfs_rwr_flease_msg\022..xtreemfs.pbrpc"
-    ".xtreemfs_rwr_flease_msgRequest\032\035.xtreem"
-    "fs.pbrpc.emptyResponse\"\013\215\265\030G\000\000\000\240\265\030\001\022^\n\023x"
-    "treemfs_rwr_notify\022\037.xtreemfs.pbrpc.File"
-    "Credentials\032\035.xtreemfs.pbrpc.emptyRespon"
-    "se\"\007\215\265\030K\000\000\000\022|\n\036xtreemfs_rwr_set_primary_"
-    "epoch\0225.xtreemfs.pbrpc.xtreemfs_rwr_set_"
-    "primary_epochRequest\032\032.xtreemfs.pbrpc.Ob"
-    "jectData\"\007\215\265\030N\000\000\000\022i\n\023xtreemfs_rwr_status"
-    "\022*.xtreemfs.pbrpc.xtreemfs_rwr_statusReq"
-    "uest\032\035.xtreemfs.pbrpc.ReplicaStatus\"\007\215\265\030"
-    "L\000\000\000\022m\n\025xtreemfs_rwr_truncate\022,.xtreemfs"
-    ".pbrpc.xtreemfs_rwr_truncateRequest\032\035.xt"
-    "reemfs.pbrpc.emptyResponse\"\007\215\265\030J\000\000\000\022m\n\023x"
-    "treemfs_rwr_update\022*.xtreemfs.pbrpc.xtre"
-    "emfs_rwr_updateRequest\032\035.xtreemfs.pbrpc."
-    "emptyResponse\"\013\215\265\030H\000\000\000\240\265\030\001\022q\n\027xtreemfs_r"
-    "wr_auth_state\022..xtreemfs.pbrpc.xtreemfs_"
-    "rwr_auth_stateRequest\032\035.xtreemfs.pbrpc.e"
-    "mptyResponse\"\007\215\265\030O\000\000\000\022y\n\033xtreemfs_rwr_re"
-    "set_complete\0222.xtreemfs.pbrpc.xtreemfs_r"
-    "wr_reset_completeRequest\032\035.xtreemfs.pbrp"
-    "c.emptyResponse\"\007\215\265\030P\000\000\000\022v\n\032xtreemfs_int"
-    "ernal_get_gmax\0221.xtreemfs.pbrpc.xtreemfs"
-    "_internal_get_gmaxRequest\032\034.xtreemfs.pbr"
-    "pc.InternalGmax\"\007\215\265\030(\000\000\000\022h\n\032xtreemfs_int"
-    "ernal_truncate\022\037.xtreemfs.pbrpc.truncate"
-    "Request\032 .xtreemfs.pbrpc.OSDWriteRespons"
-    "e\"\007\215\265\030)\000\000\000\022\233\001\n\037xtreemfs_internal_get_fil"
-    "e_size\0226.xtreemfs.pbrpc.xtreemfs_interna"
-    "l_get_file_sizeRequest\0327.xtreemfs.pbrpc."
-    "xtreemfs_internal_get_file_sizeResponse\""
-    "\007\215\265\030*\000\000\000\022\207\001\n\034xtreemfs_internal_read_loca"
-    "l\0223.xtreemfs.pbrpc.xtreemfs_internal_rea"
-    "d_localRequest\032).xtreemfs.pbrpc.Internal"
-    "ReadLocalResponse\"\007\215\265\030+\000\000\000\022\200\001\n xtreemfs_"
-    "internal_get_object_set\0227.xtreemfs.pbrpc"
-    ".xtreemfs_internal_get_object_setRequest"
-    "\032\032.xtreemfs.pbrpc.ObjectList\"\007\215\265\030,\000\000\000\022\205\001"
-    "\n!xtreemfs_internal_get_fileid_list\022\034.xt"
-    "reemfs.pbrpc.emptyRequest\0329.xtreemfs.pbr"
-    "pc.xtreemfs_internal_get_fileid_listResp"
-    "onse\"\007\215\265\030-\000\000\000\022S\n\025xtreemfs_lock_acquire\022\033"
-    ".xtreemfs.pbrpc.lockRequest\032\024.xtreemfs.p"
-    "brpc.Lock\"\007\215\265\0302\000\000\000\022Q\n\023xtreemfs_lock_chec"
-    "k\022\033.xtreemfs.pbrpc.lockRequest\032\024.xtreemf"
-    "s.pbrpc.Lock\"\007\215\265\0303\000\000\000\022\\\n\025xtreemfs_lock_r"
-    "elease\022\033.xtreemfs.pbrpc.lockRequest\032\035.xt"
-    "reemfs.pbrpc.emptyResponse\"\007\215\265\0304\000\000\000\022f\n\rx"
-    "treemfs_ping\022%.xtreemfs.pbrpc.xtreemfs_p"
-    "ingMesssage\032%.xtreemfs.pbrpc.xtreemfs_pi"
-    "ngMesssage\"\007\215\265\030<\000\000\000\022Y\n\021xtreemfs_shutdown"
-    "\022\034.xtreemfs.pbrpc.emptyRequest\032\035.xtreemf"
-    "s.pbrpc.emptyResponse\"\007\215\265\030F\000\000\000\022\222\001\n\034xtree"
-    "mfs_xloc_set_invalidate\0223.xtreemfs.pbrpc"
-    ".xtreemfs_xloc_set_invalidateRequest\0324.x"
-    "treemfs.pbrpc.xtreemfs_xloc_set_invalida"
-    "teResponse\"\007\215\265\030Q\000\000\000\022}\n#xtreemfs_rwr_auth"
-    "_state_invalidated\022..xtreemfs.pbrpc.xtre"
-    "emfs_rwr_auth_stateRequest\032\035.xtreemfs.pb"
-    "rpc.emptyResponse\"\007\215\265\030R\000\000\000\032\007\225\265\0301u\000\000B(\n&o"
-    "rg.xtreemfs.pbrpc.generatedinterfaces", 9237);
+    "\022\025\n\rnew_file_size\030\003 \002(\006\022\026\n\016object_versio"
+    "n\030\004 \002(\006\"\347\001\n\032xtreemfs_rwr_updateRequest\0229"
+    "\n\020file_credentials\030\001 \002(\0132\037.xtreemfs.pbrp"
+    "c.FileCredentials\022\017\n\007file_id\030\002 \002(\t\022\025\n\rne"
+    "w_file_size\030\003 \002(\006\022\025\n\robject_number\030\007 \002(\006"
+    "\022\026\n\016object_version\030\004 \002(\006\022\016\n\006offset\030\005 \002(\007"
+    "\022\'\n\003obj\030\006 \002(\0132\032.xtreemfs.pbrpc.ObjectDat"
+    "a\"o\n!xtreemfs_internal_get_gmaxRequest\0229"
+    "\n\020file_credentials\030\001 \002(\0132\037.xtreemfs.pbrp"
+    "c.FileCredentials\022\017\n\007file_id\030\002 \002(\t\"t\n&xt"
+    "reemfs_internal_get_file_sizeRequest\0229\n\020"
+    "file_credentials\030\001 \002(\0132\037.xtreemfs.pbrpc."
+    "FileCredentials\022\017\n\007file_id\030\002 \002(\t\"<\n\'xtre"
+    "emfs_internal_get_file_sizeResponse\022\021\n\tf"
+    "ile_size\030\001 \002(\006\"\355\002\n#xtreemfs_internal_rea"
+    "d_localRequest\0229\n\020file_credentials\030\001 \002(\013"
+    "2\037.xtreemfs.pbrpc.FileCredentials\022\017\n\007fil"
+    "e_id\030\002 \002(\t\022\025\n\robject_number\030\003 \002(\006\022\026\n\016obj"
+    "ect_version\030\004 \002(\006\022\016\n\006offset\030\005 \002(\007\022\016\n\006len"
+    "gth\030\006 \002(\007\022\032\n\022attach_object_list\030\007 \002(\010\0224\n"
+    "\020required_objects\030\010 \003(\0132\032.xtreemfs.pbrpc"
+    ".ObjectList\022Y\n\021object_set_format\030\t \001(\0162\037"
+    ".xtreemfs.pbrpc.ObjectSetFormat:\035OBJECT_"
+    "SET_FORMAT_JAVA_BITSET\"\320\001\n\'xtreemfs_inte"
+    "rnal_get_object_setRequest\0229\n\020file_crede"
+    "ntials\030\001 \002(\0132\037.xtreemfs.pbrpc.FileCreden"
+    "tials\022\017\n\007file_id\030\002 \002(\t\022Y\n\021object_set_for"
+    "mat\030\003 \001(\0162\037.xtreemfs.pbrpc.ObjectSetForm"
+    "at:\035OBJECT_SET_FORMAT_JAVA_BITSET\"=\n)xtr"
+    "eemfs_internal_get_fileid_listResponse\022\020"
+    "\n\010file_ids\030\001 \003(\t\"t\n\013lockRequest\0229\n\020file_"
+    "credentials\030\001 \002(\0132\037.xtreemfs.pbrpc.FileC"
+    "redentials\022*\n\014lock_request\030\002 \002(\0132\024.xtree"
+    "mfs.pbrpc.Lock\"j\n\025xtreemfs_pingMesssage\022"
+    "7\n\013coordinates\030\001 \002(\0132\".xtreemfs.pbrpc.Vi"
+    "valdiCoordinates\022\030\n\020request_response\030\002 \002"
+    "(\010\"\246\001\n\036xtreemfs_rwr_auth_stateRequest\0229\n"
+    "\020file_credentials\030\001 \002(\0132\037.xtreemfs.pbrpc"
+    ".FileCredentials\022\017\n\007file_id\030\002 \002(\t\0228\n\005sta"
+    "te\030\003 \002(\0132).xtreemfs.pbrpc.AuthoritativeR"
+    "eplicaState\"\207\001\n\"xtreemfs_rwr_reset_compl"
+    "eteRequest\0229\n\020file_credentials\030\001 \002(\0132\037.x"
+    "treemfs.pbrpc.FileCredentials\022\017\n\007file_id"
+    "\030\002 \002(\t\022\025\n\rprimary_epoch\030\003 \002(\007\"q\n#xtreemf"
+    "s_xloc_set_invalidateRequest\0229\n\020file_cre"
+    "dentials\030\001 \002(\0132\037.xtreemfs.pbrpc.FileCred"
+    "entials\022\017\n\007file_id\030\002 \002(\t\"\216\001\n$xtreemfs_xl"
+    "oc_set_invalidateResponse\022/\n\013lease_state"
+    "\030\001 \002(\0162\032.xtreemfs.pbrpc.LeaseState\0225\n\016re"
+    "plica_status\030\002 \001(\0132\035.xtreemfs.pbrpc.Repl"
+    "icaStatus*S\n\017ObjectSetFormat\022!\n\035OBJECT_S"
+    "ET_FORMAT_JAVA_BITSET\020\000\022\035\n\031OBJECT_SET_FO"
+    "RMAT_RUNS_V1\020\001*\215\001\n\017OSDHealthResult\022\034\n\030OS"
+    "D_HEALTH_RESULT_PASSED\020\000\022\035\n\031OSD_HEALTH_R"
+    "ESULT_WARNING\020\001\022\034\n\030OSD_HEALTH_RESULT_FAI"
+    "LED\020\002\022\037\n\033OSD_HEALTH_RESULT_NOT_AVAIL\020\0032\277"
+    "\036\n\nOSDService\022L\n\004read\022\033.xtreemfs.pbrpc.r"
+    "eadRequest\032\032.xtreemfs.pbrpc.ObjectData\"\013"
+    "\215\265\030\n\000\000\000\230\265\030\001\022V\n\010truncate\022\037.xtreemfs.pbrpc"
+    ".truncateRequest\032 .xtreemfs.pbrpc.OSDWri"
+    "teResponse\"\007\215\265\030\013\000\000\000\022T\n\006unlink\022\".xtreemfs"
+    ".pbrpc.unlink_osd_Request\032\035.xtreemfs.pbr"
+    "pc.emptyResponse\"\007\215\265\030\014\000\000\000\022T\n\005write\022\034.xtr"
+    "eemfs.pbrpc.writeRequest\032 .xtreemfs.pbrp"
+    "c.OSDWriteResponse\"\013\215\265\030\r\000\000\000\240\265\030\001\022q\n\027xtree"
+    "mfs_broadcast_gmax\022..xtreemfs.pbrpc.xtre"
+    "emfs_broadcast_gmaxRequest\032\035.xtreemfs.pb"
+    "rpc.emptyResponse\"\007\215\265\030\024\000\000\000\022j\n\025xtreemfs_c"
+    "heck_object\022,.xtreemfs.pbrpc.xtreemfs_ch"
+    "eck_objectRequest\032\032.xtreemfs.pbrpc.Objec"
+    "tData\"\007\215\265\030\025\000\000\000\022{\n\034xtreemfs_cleanup_get_r"
+    "esults\022\034.xtreemfs.pbrpc.emptyRequest\0324.x"
+    "treemfs.pbrpc.xtreemfs_cleanup_get_resul"
+    "tsResponse\"\007\215\265\030\036\000\000\000\022y\n\033xtreemfs_cleanup_"
+    "is_running\022\034.xtreemfs.pbrpc.emptyRequest"
+    "\0323.xtreemfs.pbrpc.xtreemfs_cleanup_is_ru"
+    "nningResponse\"\007\215\265\030\037\000\000\000\022o\n\026xtreemfs_clean"
+    "up_start\022-.xtreemfs.pbrpc.xtreemfs_clean"
+    "up_startRequest\032\035.xtreemfs.pbrpc.emptyRe"
+    "sponse\"\007\215\265\030 \000\000\000\022q\n\027xtreemfs_cleanup_stat"
+    "us\022\034.xtreemfs.pbrpc.emptyRequest\032/.xtree"
+    "mfs.pbrpc.xtreemfs_cleanup_statusRespons"
+    "e\"\007\215\265\030!\000\000\000\022]\n\025xtreemfs_cleanup_stop\022\034.xt"
+    "reemfs.pbrpc.emptyRequest\032\035.xtreemfs.pbr"
+    "pc.emptyResponse\"\007\215\265\030\"\000\000\000\022g\n\037xtreemfs_cl"
+    "eanup_versions_start\022\034.xtreemfs.pbrpc.em"
+    "ptyRequest\032\035.xtreemfs.pbrpc.emptyRespons"
+    "e\"\007\215\265\030#\000\000\000\022o\n\026xtreemfs_repair_object\022-.x"
+    "treemfs.pbrpc.xtreemfs_repair_objectRequ"
+    "est\032\035.xtreemfs.pbrpc.emptyResponse\"\007\215\265\030$"
+    "\000\000\000\022d\n\022xtreemfs_rwr_fetch\022).xtreemfs.pbr"
+    "pc.xtreemfs_rwr_fetchRequest\032\032.xtreemfs."
+    "pbrpc.ObjectData\"\007\215\265\030I\000\000\000\022u\n\027xtreemfs_rw"
+    "r_flease_msg\022..xtreemfs.pbrpc.xtreemfs_r"
+    "wr_flease_msgRequest\032\035.xtreemfs.pbrpc.em"
+    "ptyResponse\"\013\215\265\030G\000\000\000\240\265\030\001\022^\n\023xtreemfs_rwr"
+    "_notify\022\037.xtreemfs.pbrpc.FileCredentials"
+    "\032\035.xtreemfs.pbrpc.emptyResponse\"\007\215\265\030K\000\000\000"
+    "\022|\n\036xtreemfs_rwr_set_primary_epoch\0225.xtr"
+    "eemfs.pbrpc.xtreemfs_rwr_set_primary_epo"
+    "chRequest\032\032.xtreemfs.pbrpc.ObjectData\"\007\215"
+    "\265\030N\000\000\000\022i\n\023xtreemfs_rwr_status\022*.xtreemfs"
+    ".pbrpc.xtreemfs_rwr_statusRequest\032\035.xtre"
+    "emfs.pbrpc.ReplicaStatus\"\007\215\265\030L\000\000\000\022m\n\025xtr"
+    "eemfs_rwr_truncate\022,.xtreemfs.pbrpc.xtre"
+    "emfs_rwr_truncateRequest\032\035.xtreemfs.pbrp"
+    "c.emptyResponse\"\007\215\265\030J\000\000\000\022m\n\023xtreemfs_rwr"
+    "_update\022*.xtreemfs.pbrpc.xtreemfs_rwr_up"
+    "dateRequest\032\035.xtreemfs.pbrpc.emptyRespon"
+    "se\"\013\215\265\030H\000\000\000\240\265\030\001\022q\n\027xtreemfs_rwr_auth_sta"
+    "te\022..xtreemfs.pbrpc.xtreemfs_rwr_auth_st"
+    "ateRequest\032\035.xtreemfs.pbrpc.emptyRespons"
+    "e\"\007\215\265\030O\000\000\000\022y\n\033xtreemfs_rwr_reset_complet"
+    "e\0222.xtreemfs.pbrpc.xtreemfs_rwr_reset_co"
+    "mpleteRequest\032\035.xtreemfs.pbrpc.emptyResp"
+    "onse\"\007\215\265\030P\000\000\000\022v\n\032xtreemfs_internal_get_g"
+    "max\0221.xtreemfs.pbrpc.xtreemfs_internal_g"
+    "et_gmaxRequest\032\034.xtreemfs.pbrpc.Internal"
+    "Gmax\"\007\215\265\030(\000\000\000\022h\n\032xtreemfs_internal_trunc"
+    "ate\022\037.xtreemfs.pbrpc.truncateRequest\032 .x"
+    "treemfs.pbrpc.OSDWriteResponse\"\007\215\265\030)\000\000\000\022"
+    "\233\001\n\037xtreemfs_internal_get_file_size\0226.xt"
+    "reemfs.pbrpc.xtreemfs_internal_get_file_"
+    "sizeRequest\0327.xtreemfs.pbrpc.xtreemfs_in"
+    "ternal_get_file_sizeResponse\"\007\215\265\030*\000\000\000\022\207\001"
+    "\n\034xtreemfs_internal_read_local\0223.xtreemf"
+    "s.pbrpc.xtreemfs_internal_read_localRequ"
+    "est\032).xtreemfs.pbrpc.InternalReadLocalRe"
+    "sponse\"\007\215\265\030+\000\000\000\022\200\001\n xtreemfs_internal_ge"
+    "t_object_set\0227.xtreemfs.pbrpc.xtreemfs_i"
+    "nternal_get_object_setRequest\032\032.xtreemfs"
+    ".pbrpc.ObjectList\"\007\215\265\030,\000\000\000\022\205\001\n!xtreemfs_"
+    "internal_get_fileid_list\022\034.xtreemfs.pbrp"
+    "c.emptyRequest\0329.xtreemfs.pbrpc.xtreemfs"
+    "_internal_get_fileid_listResponse\"\007\215\265\030-\000"
+    "\000\000\022S\n\025xtreemfs_lock_acquire\022\033.xtreemfs.p"
+    "brpc.lockRequest\032\024.xtreemfs.pbrpc.Lock\"\007"
+    "\215\265\0302\000\000\000\022Q\n\023xtreemfs_lock_check\022\033.xtreemf"
+    "s.pbrpc.lockRequest\032\024.xtreemfs.pbrpc.Loc"
+    "k\"\007\215\265\0303\000\000\000\022\\\n\025xtreemfs_lock_release\022\033.xt"
+    "reemfs.pbrpc.lockRequest\032\035.xtreemfs.pbrp"
+    "c.emptyResponse\"\007\215\265\0304\000\000\000\022f\n\rxtreemfs_pin"
+    "g\022%.xtreemfs.pbrpc.xtreemfs_pingMesssage"
+    "\032%.xtreemfs.pbrpc.xtreemfs_pingMesssage\""
+    "\007\215\265\030<\000\000\000\022Y\n\021xtreemfs_shutdown\022\034.xtreemfs"
+    ".pbrpc.emptyRequest\032\035.xtreemfs.pbrpc.emp"
+    "tyResponse\"\007\215\265\030F\000\000\000\022\222\001\n\034xtreemfs_xloc_se"
+    "t_invalidate\0223.xtreemfs.pbrpc.xtreemfs_x"
+    "loc_set_invalidateRequest\0324.xtreemfs.pbr"
+    "pc.xtreemfs_xloc_set_invalidateResponse\""
+    "\007\215\265\030Q\000\000\000\022}\n#xtreemfs_rwr_auth_state_inva"
+    "lidated\022..xtreemfs.pbrpc.xtreemfs_rwr_au"
+    "th_stateRequest\032\035.xtreemfs.pbrpc.emptyRe"
+    "sponse\"\007\215\265\030R\000\000\000\032\007\225\265\0301u\000\000B(\n&org.xtreemfs"
+    ".pbrpc.generatedinterfaces", 9586);
   ::google::protobuf::MessageFactory::InternalRegisterGeneratedFile(
     "xtreemfs/OSD.proto", &protobuf_RegisterTypes);
   InternalGmax::default_instance_ = new InternalGmax();
@@ -1375,6 +1389,20 @@ struct StaticDescriptorInitializer_xtreemfs_2fOSD_2eproto {
     protobuf_AddDesc_xtreemfs_2fOSD_2eproto();
   }
 } static_descriptor_initializer_xtreemfs_2fOSD_2eproto_;
+const ::google::protobuf::EnumDescriptor* ObjectSetFormat_descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return ObjectSetFormat_descriptor_;
+}
+bool ObjectSetFormat_IsValid(int value) {
+  switch(value) {
+    case 0:
+    case 1:
+      return true;
+    default:
+      return false;
+  }
+}
+
 const ::google::protobuf::EnumDescriptor* OSDHealthResult_descriptor() {
   protobuf_AssignDescriptorsOnce();
   return OSDHealthResult_descriptor_;
@@ -2342,6 +2370,7 @@ void ObjectData::Swap(ObjectData* other) {
 const int ObjectList::kSetFieldNumber;
 const int ObjectList::kStripeWidthFieldNumber;
 const int ObjectList::kFirstFieldNumber;
+const int ObjectList::kFormatFieldNumber;
 #endif  // !_MSC_VER
 
 ObjectList::ObjectList()
@@ -2363,6 +2392,7 @@ void ObjectList::SharedCtor() {
   set_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
   stripe_width_ = 0u;
   first__ = 0u;
+  format_ = 0;
   ::memset(_has_bits_, 0, sizeof(_has_bits_));
 }
 
@@ -2408,6 +2438,7 @@ void ObjectList::Clear() {
     }
     stripe_width_ = 0u;
     first__ = 0u;
+    format_ = 0;
   }
   ::memset(_has_bits_, 0, sizeof(_has_bits_));
   mutable_unknown_fields()->Clear();
@@ -2460,6 +2491,27 @@ bool ObjectList::MergePartialFromCodedStream(
         } else {
           goto handle_uninterpreted;
         }
+        if (input->ExpectTag(32)) goto parse_format;
+        break;
+      }
+
+      // optional .xtreemfs.pbrpc.ObjectSetFormat format = 4 [default = OBJECT_SET_FORMAT_JAVA_BITSET];
+      case 4: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+         parse_format:
+          int value;
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   int, ::google::protobuf::internal::WireFormatLite::TYPE_ENUM>(
+                 input, &value)));
+          if (::xtreemfs::pbrpc::ObjectSetFormat_IsValid(value)) {
+            set_format(static_cast< ::xtreemfs::pbrpc::ObjectSetFormat >(value));
+          } else {
+            mutable_unknown_fields()->AddVarint(4, value);
+          }
+        } else {
+          goto handle_uninterpreted;
+        }
         if (input->ExpectAtEnd()) return true;
         break;
       }
@@ -2498,6 +2550,12 @@ void ObjectList::SerializeWithCachedSizes(
     ::google::protobuf::internal::WireFormatLite::WriteFixed32(3, this->first_(), output);
   }
 
+  // optional .xtreemfs.pbrpc.ObjectSetFormat format = 4 [default = OBJECT_SET_FORMAT_JAVA_BITSET];
+  if (has_format()) {
+    ::google::protobuf::internal::WireFormatLite::WriteEnum(
+      4, this->format(), output);
+  }
+
   if (!unknown_fields().empty()) {
     ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
         unknown_fields(), output);
@@ -2523,6 +2581,12 @@ void ObjectList::SerializeWithCachedSizes(
     target = ::google::protobuf::internal::WireFormatLite::WriteFixed32ToArray(3, this->first_(), target);
   }
 
+  // optional .xtreemfs.pbrpc.ObjectSetFormat format = 4 [default = OBJECT_SET_FORMAT_JAVA_BITSET];
+  if (has_format()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteEnumToArray(
+      4, this->format(), target);
+  }
+
   if (!unknown_fields().empty()) {
     target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
         unknown_fields(), target);
@@ -2551,6 +2615,12 @@ int ObjectList::ByteSize() const {
       total_size += 1 + 4;
     }
 
+    // optional .xtreemfs.pbrpc.ObjectSetFormat format = 4 [default = OBJECT_SET_FORMAT_JAVA_BITSET];
+    if (has_format()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::EnumSize(this->format());
+    }
+
   }
   if (!unknown_fields().empty()) {
     total_size +=
@@ -2587,6 +2657,9 @@ void ObjectList::MergeFrom(const ObjectList& from) {
     if (from.has_first_()) {
       set_first_(from.first_());
     }
+    if (from.has_format()) {
+      set_format(from.format());
+    }
   }
   mutable_unknown_fields()->MergeFrom(from.unknown_fields());
 }
@@ -2614,6 +2687,7 @@ void ObjectList::Swap(ObjectList* other) {
     std::swap(set_, other->set_);
     std::swap(stripe_width_, other->stripe_width_);
     std::swap(first__, other->first__);
+    std::swap(format_, other->format_);
     std::swap(_has_bits_[0], other->_has_bits_[0]);
     _unknown_fields_.Swap(&other->_unknown_fields_);
     std::swap(_cached_size_, other->_cached_size_);
@@ -11266,6 +11340,7 @@ const int xtreemfs_internal_read_localRequest::kOffsetFieldNumber;
 const int xtreemfs_internal_read_localRequest::kLengthFieldNumber;
 const int xtreemfs_internal_read_localRequest::kAttachObjectListFieldNumber;
 const int xtreemfs_internal_read_localRequest::kRequiredObjectsFieldNumber;
+const int xtreemfs_internal_read_localRequest::kObjectSetFormatFieldNumber;
 #endif  // !_MSC_VER
 
 xtreemfs_internal_read_localRequest::xtreemfs_internal_read_localRequest()
@@ -11292,6 +11367,7 @@ void xtreemfs_internal_read_localRequest::SharedCtor() {
   offset_ = 0u;
   length_ = 0u;
   attach_object_list_ = false;
+  object_set_format_ = 0;
   ::memset(_has_bits_, 0, sizeof(_has_bits_));
 }
 
@@ -11345,6 +11421,9 @@ void xtreemfs_internal_read_localRequest::Clear() {
     length_ = 0u;
     attach_object_list_ = false;
   }
+  if (_has_bits_[8 / 32] & (0xffu << (8 % 32))) {
+    object_set_format_ = 0;
+  }
   required_objects_.Clear();
   ::memset(_has_bits_, 0, sizeof(_has_bits_));
   mutable_unknown_fields()->Clear();
@@ -11477,6 +11556,27 @@ bool xtreemfs_internal_read_localRequest::MergePartialFromCodedStream(
           goto handle_uninterpreted;
         }
         if (input->ExpectTag(66)) goto parse_required_objects;
+        if (input->ExpectTag(72)) goto parse_object_set_format;
+        break;
+      }
+
+      // optional .xtreemfs.pbrpc.ObjectSetFormat object_set_format = 9 [default = OBJECT_SET_FORMAT_JAVA_BITSET];
+      case 9: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+         parse_object_set_format:
+          int value;
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   int, ::google::protobuf::internal::WireFormatLite::TYPE_ENUM>(
+                 input, &value)));
+          if (::xtreemfs::pbrpc::ObjectSetFormat_IsValid(value)) {
+            set_object_set_format(static_cast< ::xtreemfs::pbrpc::ObjectSetFormat >(value));
+          } else {
+            mutable_unknown_fields()->AddVarint(9, value);
+          }
+        } else {
+          goto handle_uninterpreted;
+        }
         if (input->ExpectAtEnd()) return true;
         break;
       }
@@ -11545,6 +11645,12 @@ void xtreemfs_internal_read_localRequest::SerializeWithCachedSizes(
       8, this->required_objects(i), output);
   }
 
+  // optional .xtreemfs.pbrpc.ObjectSetFormat object_set_format = 9 [default = OBJECT_SET_FORMAT_JAVA_BITSET];
+  if (has_object_set_format()) {
+    ::google::protobuf::internal::WireFormatLite::WriteEnum(
+      9, this->object_set_format(), output);
+  }
+
   if (!unknown_fields().empty()) {
     ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
         unknown_fields(), output);
@@ -11602,6 +11708,12 @@ void xtreemfs_internal_read_localRequest::SerializeWithCachedSizes(
         8, this->required_objects(i), target);
   }
 
+  // optional .xtreemfs.pbrpc.ObjectSetFormat object_set_format = 9 [default = OBJECT_SET_FORMAT_JAVA_BITSET];
+  if (has_object_set_format()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteEnumToArray(
+      9, this->object_set_format(), target);
+  }
+
   if (!unknown_fields().empty()) {
     target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
         unknown_fields(), target);
@@ -11652,6 +11764,14 @@ int xtreemfs_internal_read_localRequest::ByteSize() const {
       total_size += 1 + 1;
     }
 
+  }
+  if (_has_bits_[8 / 32] & (0xffu << (8 % 32))) {
+    // optional .xtreemfs.pbrpc.ObjectSetFormat object_set_format = 9 [default = OBJECT_SET_FORMAT_JAVA_BITSET];
+    if (has_object_set_format()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::EnumSize(this->object_set_format());
+    }
+
   }
   // repeated .xtreemfs.pbrpc.ObjectList required_objects = 8;
   total_size += 1 * this->required_objects_size();
@@ -11710,6 +11830,11 @@ void xtreemfs_internal_read_localRequest::MergeFrom(const xtreemfs_internal_read
       set_attach_object_list(from.attach_object_list());
     }
   }
+  if (from._has_bits_[8 / 32] & (0xffu << (8 % 32))) {
+    if (from.has_object_set_format()) {
+      set_object_set_format(from.object_set_format());
+    }
+  }
   mutable_unknown_fields()->MergeFrom(from.unknown_fields());
 }
 
@@ -11747,6 +11872,7 @@ void xtreemfs_internal_read_localRequest::Swap(xtreemfs_internal_read_localReque
     std::swap(length_, other->length_);
     std::swap(attach_object_list_, other->attach_object_list_);
     required_objects_.Swap(&other->required_objects_);
+    std::swap(object_set_format_, other->object_set_format_);
     std::swap(_has_bits_[0], other->_has_bits_[0]);
     _unknown_fields_.Swap(&other->_unknown_fields_);
     std::swap(_cached_size_, other->_cached_size_);
@@ -11767,6 +11893,7 @@ void xtreemfs_internal_read_localRequest::Swap(xtreemfs_internal_read_localReque
 #ifndef _MSC_VER
 const int xtreemfs_internal_get_object_setRequest::kFileCredentialsFieldNumber;
 const int xtreemfs_internal_get_object_setRequest::kFileIdFieldNumber;
+const int xtreemfs_internal_get_object_setRequest::kObjectSetFormatFieldNumber;
 #endif  // !_MSC_VER
 
 xtreemfs_internal_get_object_setRequest::xtreemfs_internal_get_object_setRequest()
@@ -11788,6 +11915,7 @@ void xtreemfs_internal_get_object_setRequest::SharedCtor() {
   _cached_size_ = 0;
   file_credentials_ = NULL;
   file_id_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  object_set_format_ = 0;
   ::memset(_has_bits_, 0, sizeof(_has_bits_));
 }
 
@@ -11835,6 +11963,7 @@ void xtreemfs_internal_get_object_setRequest::Clear() {
         file_id_->clear();
       }
     }
+    object_set_format_ = 0;
   }
   ::memset(_has_bits_, 0, sizeof(_has_bits_));
   mutable_unknown_fields()->Clear();
@@ -11872,6 +12001,27 @@ bool xtreemfs_internal_get_object_setRequest::MergePartialFromCodedStream(
         } else {
           goto handle_uninterpreted;
         }
+        if (input->ExpectTag(24)) goto parse_object_set_format;
+        break;
+      }
+
+      // optional .xtreemfs.pbrpc.ObjectSetFormat object_set_format = 3 [default = OBJECT_SET_FORMAT_JAVA_BITSET];
+      case 3: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_VARINT) {
+         parse_object_set_format:
+          int value;
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   int, ::google::protobuf::internal::WireFormatLite::TYPE_ENUM>(
+                 input, &value)));
+          if (::xtreemfs::pbrpc::ObjectSetFormat_IsValid(value)) {
+            set_object_set_format(static_cast< ::xtreemfs::pbrpc::ObjectSetFormat >(value));
+          } else {
+            mutable_unknown_fields()->AddVarint(3, value);
+          }
+        } else {
+          goto handle_uninterpreted;
+        }
         if (input->ExpectAtEnd()) return true;
         break;
       }
@@ -11909,6 +12059,12 @@ void xtreemfs_internal_get_object_setRequest::SerializeWithCachedSizes(
       2, this->file_id(), output);
   }
 
+  // optional .xtreemfs.pbrpc.ObjectSetFormat object_set_format = 3 [default = OBJECT_SET_FORMAT_JAVA_BITSET];
+  if (has_object_set_format()) {
+    ::google::protobuf::internal::WireFormatLite::WriteEnum(
+      3, this->object_set_format(), output);
+  }
+
   if (!unknown_fields().empty()) {
     ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
         unknown_fields(), output);
@@ -11934,6 +12090,12 @@ void xtreemfs_internal_get_object_setRequest::SerializeWithCachedSizes(
         2, this->file_id(), target);
   }
 
+  // optional .xtreemfs.pbrpc.ObjectSetFormat object_set_format = 3 [default = OBJECT_SET_FORMAT_JAVA_BITSET];
+  if (has_object_set_format()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteEnumToArray(
+      3, this->object_set_format(), target);
+  }
+
   if (!unknown_fields().empty()) {
     target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
         unknown_fields(), target);
@@ -11959,6 +12121,12 @@ int xtreemfs_internal_get_object_setRequest::ByteSize() const {
           this->file_id());
     }
 
+    // optional .xtreemfs.pbrpc.ObjectSetFormat object_set_format = 3 [default = OBJECT_SET_FORMAT_JAVA_BITSET];
+    if (has_object_set_format()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::EnumSize(this->object_set_format());
+    }
+
   }
   if (!unknown_fields().empty()) {
     total_size +=
@@ -11992,6 +12160,9 @@ void xtreemfs_internal_get_object_setRequest::MergeFrom(const xtreemfs_internal_
     if (from.has_file_id()) {
       set_file_id(from.file_id());
     }
+    if (from.has_object_set_format()) {
+      set_object_set_format(from.object_set_format());
+    }
   }
   mutable_unknown_fields()->MergeFrom(from.unknown_fields());
 }
@@ -12021,6 +12192,7 @@ void xtreemfs_internal_get_object_setRequest::Swap(xtreemfs_internal_get_object_
   if (other != this) {
     std::swap(file_credentials_, other->file_credentials_);
     std::swap(file_id_, other->file_id_);
+    std::swap(object_set_format_, other->object_set_format_);
     std::swap(_has_bits_[0], other->_has_bits_[0]);
     _unknown_fields_.Swap(&other->_unknown_fields_);
     std::swap(_cached_size_, other->_cached_size_);
@@ -80,6 +80,25 @@ class xtreemfs_rwr_reset_completeRequest;
 class xtreemfs_xloc_set_invalidateRequest;
 class xtreemfs_xloc_set_invalidateResponse;
 
+enum ObjectSetFormat {
+  OBJECT_SET_FORMAT_JAVA_BITSET = 0,
+  OBJECT_SET_FORMAT_RUNS_V1 = 1
+};
+bool ObjectSetFormat_IsValid(int value);
+const ObjectSetFormat ObjectSetFormat_MIN = OBJECT_SET_FORMAT_JAVA_BITSET;
+const ObjectSetFormat ObjectSetFormat_MAX = OBJECT_SET_FORMAT_RUNS_V1;
+const int ObjectSetFormat_ARRAYSIZE = ObjectSetFormat_MAX + 1;
+
+const ::google::protobuf::EnumDescriptor* ObjectSetFormat_descriptor();
+inline const ::std::string& ObjectSetFormat_Name(ObjectSetFormat value) {
+  return ::google::protobuf::internal::NameOfEnum(
+    ObjectSetFormat_descriptor(), value);
+}
+inline bool ObjectSetFormat_Parse(
+    const ::std::string& name, ObjectSetFormat* value) {
+  return ::google::protobuf::internal::ParseNamedEnum<ObjectSetFormat>(
+    ObjectSetFormat_descriptor(), name, value);
+}
 enum OSDHealthResult {
   OSD_HEALTH_RESULT_PASSED = 0,
   OSD_HEALTH_RESULT_WARNING = 1,
@@ -514,6 +533,13 @@ class ObjectList : public ::google::protobuf::Message {
   inline ::google::protobuf::uint32 first_() const;
   inline void set_first_(::google::protobuf::uint32 value);
 
+  // optional .xtreemfs.pbrpc.ObjectSetFormat format = 4 [default = OBJECT_SET_FORMAT_JAVA_BITSET];
+  inline bool has_format() const;
+  inline void clear_format();
+  static const int kFormatFieldNumber = 4;
+  inline ::xtreemfs::pbrpc::ObjectSetFormat format() const;
+  inline void set_format(::xtreemfs::pbrpc::ObjectSetFormat value);
+
   // @@protoc_insertion_point(class_scope:xtreemfs.pbrpc.ObjectList)
  private:
   inline void set_has_set();
@@ -522,15 +548,18 @@ class ObjectList : public ::google::protobuf::Message {
   inline void clear_has_stripe_width();
   inline void set_has_first_();
   inline void clear_has_first_();
+  inline void set_has_format();
+  inline void clear_has_format();
 
   ::google::protobuf::UnknownFieldSet _unknown_fields_;
 
   ::std::string* set_;
   ::google::protobuf::uint32 stripe_width_;
   ::google::protobuf::uint32 first__;
+  int format_;
 
   mutable int _cached_size_;
-  ::google::protobuf::uint32 _has_bits_[(3 + 31) / 32];
+  ::google::protobuf::uint32 _has_bits_[(4 + 31) / 32];
 
   friend void  protobuf_AddDesc_xtreemfs_2fOSD_2eproto();
   friend void protobuf_AssignDesc_xtreemfs_2fOSD_2eproto();
@@ -3711,6 +3740,13 @@ class xtreemfs_internal_read_localRequest : public ::google::protobuf::Message {
   inline ::google::protobuf::RepeatedPtrField< ::xtreemfs::pbrpc::ObjectList >*
       mutable_required_objects();
 
+  // optional .xtreemfs.pbrpc.ObjectSetFormat object_set_format = 9 [default = OBJECT_SET_FORMAT_JAVA_BITSET];
+  inline bool has_object_set_format() const;
+  inline void clear_object_set_format();
+  static const int kObjectSetFormatFieldNumber = 9;
+  inline ::xtreemfs::pbrpc::ObjectSetFormat object_set_format() const;
+  inline void set_object_set_format(::xtreemfs::pbrpc::ObjectSetFormat value);
+
   // @@protoc_insertion_point(class_scope:xtreemfs.pbrpc.xtreemfs_internal_read_localRequest)
  private:
   inline void set_has_file_credentials();
@@ -3727,6 +3763,8 @@ class xtreemfs_internal_read_localRequest : public ::google::protobuf::Message {
   inline void clear_has_length();
   inline void set_has_attach_object_list();
   inline void clear_has_attach_object_list();
+  inline void set_has_object_set_format();
+  inline void clear_has_object_set_format();
 
   ::google::protobuf::UnknownFieldSet _unknown_fields_;
 
@@ -3738,9 +3776,10 @@ class xtreemfs_internal_read_localRequest : public ::google::protobuf::Message {
   ::google::protobuf::uint32 length_;
   ::google::protobuf::RepeatedPtrField< ::xtreemfs::pbrpc::ObjectList > required_objects_;
   bool attach_object_list_;
+  int object_set_format_;
 
   mutable int _cached_size_;
-  ::google::protobuf::uint32 _has_bits_[(8 + 31) / 32];
+  ::google::protobuf::uint32 _has_bits_[(9 + 31) / 32];
 
   friend void  protobuf_AddDesc_xtreemfs_2fOSD_2eproto();
   friend void protobuf_AssignDesc_xtreemfs_2fOSD_2eproto();
@@ -3826,20 +3865,30 @@ class xtreemfs_internal_get_object_setRequest : public ::google::protobuf::Messa
   inline ::std::string* release_file_id();
   inline void set_allocated_file_id(::std::string* file_id);
 
+  // optional .xtreemfs.pbrpc.ObjectSetFormat object_set_format = 3 [default = OBJECT_SET_FORMAT_JAVA_BITSET];
+  inline bool has_object_set_format() const;
+  inline void clear_object_set_format();
+  static const int kObjectSetFormatFieldNumber = 3;
+  inline ::xtreemfs::pbrpc::ObjectSetFormat object_set_format() const;
+  inline void set_object_set_format(::xtreemfs::pbrpc::ObjectSetFormat value);
+
   // @@protoc_insertion_point(class_scope:xtreemfs.pbrpc.xtreemfs_internal_get_object_setRequest)
  private:
   inline void set_has_file_credentials();
   inline void clear_has_file_credentials();
   inline void set_has_file_id();
   inline void clear_has_file_id();
+  inline void set_has_object_set_format();
+  inline void clear_has_object_set_format();
 
   ::google::protobuf::UnknownFieldSet _unknown_fields_;
 
   ::xtreemfs::pbrpc::FileCredentials* file_credentials_;
   ::std::string* file_id_;
+  int object_set_format_;
 
   mutable int _cached_size_;
-  ::google::protobuf::uint32 _has_bits_[(2 + 31) / 32];
+  ::google::protobuf::uint32 _has_bits_[(3 + 31) / 32];
 
   friend void  protobuf_AddDesc_xtreemfs_2fOSD_2eproto();
   friend void protobuf_AssignDesc_xtreemfs_2fOSD_2eproto();
@@ -4963,6 +5012,29 @@ inline void ObjectList::set_first_(::google::protobuf::uint32 value) {
   first__ = value;
 }
 
+// optional .xtreemfs.pbrpc.ObjectSetFormat format = 4 [default = OBJECT_SET_FORMAT_JAVA_BITSET];
+inline bool ObjectList::has_format() const {
+  return (_has_bits_[0] & 0x00000008u) != 0;
+}
+inline void ObjectList::set_has_format() {
+  _has_bits_[0] |= 0x00000008u;
+}
+inline void ObjectList::clear_has_format() {
+  _has_bits_[0] &= ~0x00000008u;
+}
+inline void ObjectList::clear_format() {
+  format_ = 0;
+  clear_has_format();
+}
+inline ::xtreemfs::pbrpc::ObjectSetFormat ObjectList::format() const {
+  return static_cast< ::xtreemfs::pbrpc::ObjectSetFormat >(format_);
+}
+inline void ObjectList::set_format(::xtreemfs::pbrpc::ObjectSetFormat value) {
+  assert(::xtreemfs::pbrpc::ObjectSetFormat_IsValid(value));
+  set_has_format();
+  format_ = value;
+}
+
 // -------------------------------------------------------------------
 
 // ObjectVersion
@@ -8392,6 +8464,29 @@ xtreemfs_internal_read_localRequest::mutable_required_objects() {
   return &required_objects_;
 }
 
+// optional .xtreemfs.pbrpc.ObjectSetFormat object_set_format = 9 [default = OBJECT_SET_FORMAT_JAVA_BITSET];
+inline bool xtreemfs_internal_read_localRequest::has_object_set_format() const {
+  return (_has_bits_[0] & 0x00000100u) != 0;
+}
+inline void xtreemfs_internal_read_localRequest::set_has_object_set_format() {
+  _has_bits_[0] |= 0x00000100u;
+}
+inline void xtreemfs_internal_read_localRequest::clear_has_object_set_format() {
+  _has_bits_[0] &= ~0x00000100u;
+}
+inline void xtreemfs_internal_read_localRequest::clear_object_set_format() {
+  object_set_format_ = 0;
+  clear_has_object_set_format();
+}
+inline ::xtreemfs::pbrpc::ObjectSetFormat xtreemfs_internal_read_localRequest::object_set_format() const {
+  return static_cast< ::xtreemfs::pbrpc::ObjectSetFormat >(object_set_format_);
+}
+inline void xtreemfs_internal_read_localRequest::set_object_set_format(::xtreemfs::pbrpc::ObjectSetFormat value) {
+  assert(::xtreemfs::pbrpc::ObjectSetFormat_IsValid(value));
+  set_has_object_set_format();
+  object_set_format_ = value;
+}
+
 // -------------------------------------------------------------------
 
 // xtreemfs_internal_get_object_setRequest
@@ -8504,6 +8599,29 @@ inline void xtreemfs_internal_get_object_setRequest::set_allocated_file_id(::std
   }
 }
 
+// optional .xtreemfs.pbrpc.ObjectSetFormat object_set_format = 3 [default = OBJECT_SET_FORMAT_JAVA_BITSET];
+inline bool xtreemfs_internal_get_object_setRequest::has_object_set_format() const {
+  return (_has_bits_[0] & 0x00000004u) != 0;
+}
+inline void xtreemfs_internal_get_object_setRequest::set_has_object_set_format() {
+  _has_bits_[0] |= 0x00000004u;
+}
+inline void xtreemfs_internal_get_object_setRequest::clear_has_object_set_format() {
+  _has_bits_[0] &= ~0x00000004u;
+}
+inline void xtreemfs_internal_get_object_setRequest::clear_object_set_format() {
+  object_set_format_ = 0;
+  clear_has_object_set_format();
+}
+inline ::xtreemfs::pbrpc::ObjectSetFormat xtreemfs_internal_get_object_setRequest::object_set_format() const {
+  return static_cast< ::xtreemfs::pbrpc::ObjectSetFormat >(object_set_format_);
+}
+inline void xtreemfs_internal_get_object_setRequest::set_object_set_format(::xtreemfs::pbrpc::ObjectSetFormat value) {
+  assert(::xtreemfs::pbrpc::ObjectSetFormat_IsValid(value));
+  set_has_object_set_format();
+  object_set_format_ = value;
+}
+
 // -------------------------------------------------------------------
 
 // xtreemfs_internal_get_fileid_listResponse
@@ -9167,6 +9285,10 @@ inline void xtreemfs_xloc_set_invalidateResponse::set_allocated_replica_status(:
 namespace google {
 namespace protobuf {
 
+template <>
+inline const EnumDescriptor* GetEnumDescriptor< ::xtreemfs::pbrpc::ObjectSetFormat>() {
+  return ::xtreemfs::pbrpc::ObjectSetFormat_descriptor();
+}
 template <>
 inline const EnumDescriptor* GetEnumDescriptor< ::xtreemfs::pbrpc::OSDHealthResult>() {
   return ::xtreemfs::pbrpc::OSDHealthResult_descriptor();
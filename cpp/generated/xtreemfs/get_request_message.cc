@@ -1,13 +1,13 @@
-//automatically generated at Thu Dec 11 16:09:40 CET 2014
-//(c) 2014. See LICENSE file for details.
+//automatically generated at Mon Oct 19 05:42:51 UTC 2026
+//(c) 2026. See LICENSE file for details.
 
 #include "xtreemfs/get_request_message.h"
 
-#include "xtreemfs/OSD.pb.h"
-#include "xtreemfs/MRC.pb.h"
 #include "include/Common.pb.h"
-#include "xtreemfs/GlobalTypes.pb.h"
 #include "xtreemfs/DIR.pb.h"
+#include "xtreemfs/GlobalTypes.pb.h"
+#include "xtreemfs/MRC.pb.h"
+#include "xtreemfs/OSD.pb.h"
 
 namespace xtreemfs {
 namespace pbrpc {
@@ -82,6 +82,10 @@ google::protobuf::Message* GetMessageForProcID(uint32_t interface_id,
           return new xtreemfs::pbrpc::VivaldiCoordinates();
           break;
         }
+        case 25: {
+          return new xtreemfs::pbrpc::serviceWatchRequest();
+          break;
+        }
         default: {
           return NULL;
         }
@@ -255,6 +259,34 @@ google::protobuf::Message* GetMessageForProcID(uint32_t interface_id,
           return new xtreemfs::pbrpc::xtreemfs_get_xlocsetRequest();
           break;
         }
+        case 52: {
+          return new xtreemfs::pbrpc::xtreemfs_renew_capabilitiesRequest();
+          break;
+        }
+        case 53: {
+          return new xtreemfs::pbrpc::xtreemfs_update_file_sizesRequest();
+          break;
+        }
+        case 54: {
+          return new xtreemfs::pbrpc::xtreemfs_create_filesRequest();
+          break;
+        }
+        case 55: {
+          return new xtreemfs::pbrpc::xtreemfs_getattrsRequest();
+          break;
+        }
+        case 56: {
+          return new xtreemfs::pbrpc::xtreemfs_get_xlocsetsRequest();
+          break;
+        }
+        case 57: {
+          return new xtreemfs::pbrpc::xtreemfs_rmdir_recursiveRequest();
+          break;
+        }
+        case 58: {
+          return new xtreemfs::pbrpc::xtreemfs_setattr_recursiveRequest();
+          break;
+        }
         default: {
           return NULL;
         }
@@ -55,6 +55,11 @@ public class FleaseConfig {
 
     private final boolean debugPrintMessages;
 
+    /**
+     * maximum number of messages for the same recipient that are sent as one batch message, 1 disables batching
+     */
+    private final int messageBatchSize;
+
     public FleaseConfig(int leaseTimeout_ms, int dmax_ms,
                     int messageTimeout_ms, InetSocketAddress endpoint,
                     String identity, int maxRetries) {
@@ -72,6 +77,13 @@ public class FleaseConfig {
                     int messageTimeout_ms, InetSocketAddress endpoint,
                     String identity, int maxRetries, boolean sendLearnMessages,
                     int toNotification_ms, boolean debugPrintMessages) {
+        this(leaseTimeout_ms, dmax_ms, messageTimeout_ms, endpoint, identity, maxRetries, sendLearnMessages, toNotification_ms, debugPrintMessages, 1);
+    }
+
+    public FleaseConfig(int leaseTimeout_ms, int dmax_ms,
+                    int messageTimeout_ms, InetSocketAddress endpoint,
+                    String identity, int maxRetries, boolean sendLearnMessages,
+                    int toNotification_ms, boolean debugPrintMessages, int messageBatchSize) {
 
         this.maxLeaseTimeout_ms = leaseTimeout_ms;
         this.dmax_ms = dmax_ms;
@@ -91,6 +103,7 @@ public class FleaseConfig {
         this.sendLearnMessages = sendLearnMessages;
         this.toNotification_ms = toNotification_ms;
         this.debugPrintMessages = debugPrintMessages;
+        this.messageBatchSize = Math.max(messageBatchSize, 1);
 
     }
 
@@ -187,5 +200,12 @@ public class FleaseConfig {
         return debugPrintMessages;
     }
 
+    /**
+     * @return the messageBatchSize
+     */
+    public int getMessageBatchSize() {
+        return messageBatchSize;
+    }
+
 
 }
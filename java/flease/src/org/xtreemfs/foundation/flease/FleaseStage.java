@@ -9,7 +9,7 @@ package org.xtreemfs.foundation.flease;
 import java.io.IOException;
 import java.net.InetSocketAddress;
 import java.util.ArrayList;
-import java.util.Comparator;
+import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -56,7 +56,7 @@ public class FleaseStage extends LifeCycleThread implements LearnEventListener,
 
     private final PriorityQueue<TimerEntry> timers;
 
-    private final PriorityQueue<Flease> leaseTimeouts;
+    private final LeaseTimeoutQueue leaseTimeouts;
 
     private final LinkedBlockingQueue messages;
 
@@ -70,6 +70,16 @@ public class FleaseStage extends LifeCycleThread implements LearnEventListener,
 
     public static final int MAX_BATCH_SIZE = 20;
 
+    /**
+     * maximum serialized size of a batch message, must fit into a UDP datagram
+     */
+    public static final int MAX_MESSAGE_BATCH_BYTES = 8 * 1024;
+
+    /**
+     * messages sent while processing the current requests, by recipient; only used if message batching is enabled
+     */
+    private final Map<InetSocketAddress, List<FleaseMessage>> outbox;
+
     private final FleaseStatusListener leaseListener;
 
     private final AtomicReference<List<Integer>> durRequests, durMsgs, durTimers;
@@ -110,7 +120,7 @@ public class FleaseStage extends LifeCycleThread implements LearnEventListener,
         proposer = new FleaseProposer(config, acceptor, new FleaseCommunicationInterface() {
 
             public void sendMessage(FleaseMessage msg, InetSocketAddress receiver) throws IOException {
-                sender.sendMessage(msg, receiver);
+                queueMessage(msg, receiver);
             }
 
             public void requestTimer(FleaseMessage msg, long timestamp) {
@@ -120,13 +130,9 @@ public class FleaseStage extends LifeCycleThread implements LearnEventListener,
         acceptor.setViewChangeListener(viewListener);
         proposer.setViewChangeListener(viewListener);
         this.sender = sender;
+        this.outbox = new HashMap<InetSocketAddress, List<FleaseMessage>>();
 
-        leaseTimeouts = new PriorityQueue<Flease>(1000, new Comparator<Flease>() {
-
-            public int compare(Flease o1, Flease o2) {
-                return (int) (o1.getLeaseTimeout_ms() - o2.getLeaseTimeout_ms());
-            }
-        });
+        leaseTimeouts = new LeaseTimeoutQueue(1000);
         if (COLLECT_STATISTICS) {
             durRequests = new AtomicReference(new LinkedList());
             durTimers = new AtomicReference(new LinkedList());
@@ -272,7 +278,7 @@ public class FleaseStage extends LifeCycleThread implements LearnEventListener,
         assert (msg.getSender() != null);
 
         if (COLLECT_STATISTICS)
-            inMsgs.incrementAndGet();
+            inMsgs.addAndGet(msg.getBatch() != null ? msg.getBatch().size() : 1);
 
         this.messages.add(msg);
     }
@@ -313,8 +319,7 @@ public class FleaseStage extends LifeCycleThread implements LearnEventListener,
             }
             leaseListener.statusChanged(cellId, newFlease);
             if (ENABLE_TIMEOUT_EVENTS) {
-                leaseTimeouts.remove(oldFlease);
-                leaseTimeouts.add(newFlease);
+                leaseTimeouts.put(newFlease);
             }
         }
     }
@@ -356,6 +361,7 @@ public class FleaseStage extends LifeCycleThread implements LearnEventListener,
                     lastTimerRun = TimeSync.getLocalSystemTime();
                 }
                 if (tmp == null) {
+                    flushMessages();
                     continue;
                 }
 
@@ -381,46 +387,14 @@ public class FleaseStage extends LifeCycleThread implements LearnEventListener,
                     if (request instanceof FleaseMessage) {
                         final FleaseMessage msg = (FleaseMessage) request;
 
-                        if (msg.isInternalEvent()) {
-                            //should never happen!
-                            Logging.logMessage(Logging.LEVEL_ERROR, Category.replication, this, "received internal event: %s", msg);
-                        } else if (msg.isAcceptorMessage()) {
-                            final FleaseMessage response = acceptor.processMessage(msg);
-                            if (response != null) {
-                                if (msg.getMasterEpochNumber() == FleaseMessage.REQUEST_MASTER_EPOCH
-                                        && response.getMsgType() == FleaseMessage.MsgType.MSG_PREPARE_ACK) {
-                                    // Respond with the current master epoch.
-                                    if (meHandler != null) {
-                                        MasterEpochHandlerInterface.Continuation cont = new MasterEpochHandlerInterface.Continuation() {
-                                            @Override
-                                            public void processingFinished() {
-                                                sender.sendMessage(response, msg.getSender());
-                                            }
-                                        };
-                                        meHandler.sendMasterEpoch(response, cont);
-                                    } else {
-                                        Logging.logMessage(Logging.LEVEL_ERROR, this,
-                                                "MASTER EPOCH WAS REQUESTED, BUT NO MASTER EPOCH HANDLER DEFINED!!!");
-                                        sender.sendMessage(response, msg.getSender());
-                                    }
-                                } else if (msg.getMasterEpochNumber() != FleaseMessage.IGNORE_MASTER_EPOCH
-                                        && response.getMsgType() == FleaseMessage.MsgType.MSG_ACCEPT_ACK) {
-                                    // Write the current master epoch to disk.
-                                    if (meHandler != null) {
-                                        MasterEpochHandlerInterface.Continuation cont = new MasterEpochHandlerInterface.Continuation() {
-                                            @Override
-                                            public void processingFinished() {
-                                                sender.sendMessage(response, msg.getSender());
-                                            }
-                                        };
-                                        meHandler.storeMasterEpoch(response, cont);
-                                    }
-                                } else {
-                                    sender.sendMessage(response, msg.getSender());
-                                }
+                        if (msg.getBatch() != null) {
+                            // process all messages of the batch at once and in order
+                            for (FleaseMessage batchedMsg : msg.getBatch()) {
+                                batchedMsg.setSender(msg.getSender());
+                                processMessage(batchedMsg);
                             }
                         } else {
-                            proposer.processMessage(msg);
+                            processMessage(msg);
                         }
                         if (COLLECT_STATISTICS) {
                             long rqEnd = System.nanoTime();
@@ -453,7 +427,7 @@ public class FleaseStage extends LifeCycleThread implements LearnEventListener,
                                     Flease prevLease = proposer.updatePrevLeaseForCell(rq.cellId, Flease.EMPTY_LEASE);
                                     if (prevLease != null) {
                                         //cancel the lease
-                                        leaseTimeouts.remove(prevLease);
+                                        leaseTimeouts.remove(rq.cellId);
                                     }
                                     proposer.handoverLease(rq.cellId, rq.newLeaseOwner);
                                 } catch (FleaseException ex) {
@@ -482,6 +456,8 @@ public class FleaseStage extends LifeCycleThread implements LearnEventListener,
                     }
                     
                 }
+                flushMessages();
+
                 if (DISABLE_RENEW_FOR_TESTING) {
                     Thread.sleep(0, 2);
                 }
@@ -501,6 +477,100 @@ public class FleaseStage extends LifeCycleThread implements LearnEventListener,
         Logging.logMessage(Logging.LEVEL_INFO, Category.replication, this, "Flease stopped", FLEASE_VERSION);
     }
 
+    private void processMessage(final FleaseMessage msg) throws Exception {
+        if (msg.isInternalEvent()) {
+            //should never happen!
+            Logging.logMessage(Logging.LEVEL_ERROR, Category.replication, this, "received internal event: %s", msg);
+        } else if (msg.isAcceptorMessage()) {
+            final FleaseMessage response = acceptor.processMessage(msg);
+            if (response != null) {
+                if (msg.getMasterEpochNumber() == FleaseMessage.REQUEST_MASTER_EPOCH
+                        && response.getMsgType() == FleaseMessage.MsgType.MSG_PREPARE_ACK) {
+                    // Respond with the current master epoch.
+                    if (meHandler != null) {
+                        MasterEpochHandlerInterface.Continuation cont = new MasterEpochHandlerInterface.Continuation() {
+                            @Override
+                            public void processingFinished() {
+                                sender.sendMessage(response, msg.getSender());
+                            }
+                        };
+                        meHandler.sendMasterEpoch(response, cont);
+                    } else {
+                        Logging.logMessage(Logging.LEVEL_ERROR, this,
+                                "MASTER EPOCH WAS REQUESTED, BUT NO MASTER EPOCH HANDLER DEFINED!!!");
+                        queueMessage(response, msg.getSender());
+                    }
+                } else if (msg.getMasterEpochNumber() != FleaseMessage.IGNORE_MASTER_EPOCH
+                        && response.getMsgType() == FleaseMessage.MsgType.MSG_ACCEPT_ACK) {
+                    // Write the current master epoch to disk.
+                    if (meHandler != null) {
+                        MasterEpochHandlerInterface.Continuation cont = new MasterEpochHandlerInterface.Continuation() {
+                            @Override
+                            public void processingFinished() {
+                                sender.sendMessage(response, msg.getSender());
+                            }
+                        };
+                        meHandler.storeMasterEpoch(response, cont);
+                    }
+                } else {
+                    queueMessage(response, msg.getSender());
+                }
+            }
+        } else {
+            proposer.processMessage(msg);
+        }
+    }
+
+    /**
+     * Sends a message. If message batching is enabled, the message is held back until the current requests are
+     * processed, so that all messages for the same recipient can be sent together.
+     */
+    private void queueMessage(FleaseMessage msg, InetSocketAddress receiver) {
+        if (config.getMessageBatchSize() == 1 || Thread.currentThread() != this) {
+            sender.sendMessage(msg, receiver);
+            return;
+        }
+
+        List<FleaseMessage> msgs = outbox.get(receiver);
+        if (msgs == null) {
+            msgs = new ArrayList<FleaseMessage>();
+            outbox.put(receiver, msgs);
+        }
+        // the proposer sends the same message instance to all acceptors and may modify it afterwards
+        msgs.add(msg.clone());
+    }
+
+    /**
+     * Sends all held back messages, in batches of at most config.getMessageBatchSize() messages per recipient.
+     */
+    private void flushMessages() {
+        if (outbox.isEmpty())
+            return;
+
+        for (Map.Entry<InetSocketAddress, List<FleaseMessage>> e : outbox.entrySet()) {
+            final List<FleaseMessage> msgs = e.getValue();
+            int start = 0;
+            while (start < msgs.size()) {
+                int end = start + 1;
+                int size = msgs.get(start).getSize();
+                while (end < msgs.size() && end - start < config.getMessageBatchSize()) {
+                    size += msgs.get(end).getSize();
+                    if (size > MAX_MESSAGE_BATCH_BYTES)
+                        break;
+                    end++;
+                }
+
+                if (end - start == 1)
+                    sender.sendMessage(msgs.get(start), e.getKey());
+                else
+                    sender.sendMessage(new FleaseMessage(new ArrayList<FleaseMessage>(msgs.subList(start, end))),
+                            e.getKey());
+                start = end;
+            }
+        }
+        outbox.clear();
+    }
+
     public void shutdown() {
         if (COLLECT_STATISTICS)
             statThr.shutdown();
@@ -645,7 +715,7 @@ public class FleaseStage extends LifeCycleThread implements LearnEventListener,
 
         public int compareTo(Object o) {
             TimerEntry e2 = (TimerEntry) o;
-            return (int) (this.scheduledTime - e2.scheduledTime);
+            return this.scheduledTime < e2.scheduledTime ? -1 : (this.scheduledTime == e2.scheduledTime ? 0 : 1);
         }
     }
 
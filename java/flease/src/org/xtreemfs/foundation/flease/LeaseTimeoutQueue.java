@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2015 by Zuse Institute Berlin
+ *
+ * Licensed under the BSD License, see LICENSE file for details.
+ *
+ */
+package org.xtreemfs.foundation.flease;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.xtreemfs.foundation.buffer.ASCIIString;
+
+/**
+ * Priority queue of the leases of all cells, ordered by their timeouts. The queue holds at most one lease per cell.
+ * <p>
+ * The queue is a binary heap with an index from the cell ids to the positions of their leases in the heap, i.e. the
+ * lease of a cell can be replaced or removed in O(log n) instead of searching the heap for it.<br>
+ * NOTE: This class is not thread-safe; it is only accessed by the flease stage thread.
+ */
+final class LeaseTimeoutQueue {
+
+    private Flease[]                        heap;
+
+    private int                             size;
+
+    private final Map<ASCIIString, Integer> positions;
+
+    LeaseTimeoutQueue(int initialCapacity) {
+        this.heap = new Flease[Math.max(initialCapacity, 16)];
+        this.positions = new HashMap<ASCIIString, Integer>(initialCapacity);
+    }
+
+    /**
+     * Adds <code>lease</code> to the queue and removes the lease of the same cell that was in the queue before.
+     */
+    void put(Flease lease) {
+        Integer pos = positions.get(lease.getCellId());
+        if (pos != null) {
+            Flease previous = heap[pos];
+            heap[pos] = lease;
+            if (lease.getLeaseTimeout_ms() < previous.getLeaseTimeout_ms())
+                siftUp(pos);
+            else
+                siftDown(pos);
+            return;
+        }
+
+        if (size == heap.length) {
+            Flease[] newHeap = new Flease[heap.length * 2];
+            System.arraycopy(heap, 0, newHeap, 0, size);
+            heap = newHeap;
+        }
+        heap[size] = lease;
+        positions.put(lease.getCellId(), size);
+        siftUp(size++);
+    }
+
+    /**
+     * Removes the lease of the cell <code>cellId</code> from the queue.
+     *
+     * @return the removed lease, or null if the queue did not contain a lease for the cell
+     */
+    Flease remove(ASCIIString cellId) {
+        Integer pos = positions.get(cellId);
+        if (pos == null)
+            return null;
+        return removeAt(pos);
+    }
+
+    /**
+     * Returns the lease with the earliest timeout, or null if the queue is empty.
+     */
+    Flease peek() {
+        return size == 0 ? null : heap[0];
+    }
+
+    /**
+     * Removes and returns the lease with the earliest timeout, or null if the queue is empty.
+     */
+    Flease poll() {
+        return size == 0 ? null : removeAt(0);
+    }
+
+    int size() {
+        return size;
+    }
+
+    private Flease removeAt(int pos) {
+        Flease removed = heap[pos];
+        positions.remove(removed.getCellId());
+
+        size--;
+        if (pos != size) {
+            Flease last = heap[size];
+            heap[pos] = last;
+            positions.put(last.getCellId(), pos);
+            if (last.getLeaseTimeout_ms() < removed.getLeaseTimeout_ms())
+                siftUp(pos);
+            else
+                siftDown(pos);
+        }
+        heap[size] = null;
+
+        return removed;
+    }
+
+    private void siftUp(int pos) {
+        Flease lease = heap[pos];
+        while (pos > 0) {
+            int parent = (pos - 1) >>> 1;
+            if (heap[parent].getLeaseTimeout_ms() <= lease.getLeaseTimeout_ms())
+                break;
+            move(parent, pos);
+            pos = parent;
+        }
+        heap[pos] = lease;
+        positions.put(lease.getCellId(), pos);
+    }
+
+    private void siftDown(int pos) {
+        Flease lease = heap[pos];
+        int half = size >>> 1;
+        while (pos < half) {
+            int child = 2 * pos + 1;
+            if (child + 1 < size && heap[child + 1].getLeaseTimeout_ms() < heap[child].getLeaseTimeout_ms())
+                child++;
+            if (lease.getLeaseTimeout_ms() <= heap[child].getLeaseTimeout_ms())
+                break;
+            move(child, pos);
+            pos = child;
+        }
+        heap[pos] = lease;
+        positions.put(lease.getCellId(), pos);
+    }
+
+    private void move(int from, int to) {
+        heap[to] = heap[from];
+        positions.put(heap[to].getCellId(), to);
+    }
+}
@@ -8,7 +8,9 @@ package org.xtreemfs.foundation.flease.comm;
 
 import java.io.Serializable;
 import java.net.InetSocketAddress;
+import java.util.ArrayList;
 import java.util.Date;
+import java.util.List;
 import org.xtreemfs.foundation.buffer.ASCIIString;
 import org.xtreemfs.foundation.buffer.ReusableBuffer;
 import org.xtreemfs.foundation.flease.FleaseConfig;
@@ -79,7 +81,12 @@ public class FleaseMessage implements Serializable, Cloneable {
         /**
          * message (response) indicating that the viewId has changed
          */
-        MSG_WRONG_VIEW
+        MSG_WRONG_VIEW,
+
+        /**
+         * several messages for different cells sent to the same recipient
+         */
+        MSG_BATCH
 
     };
     
@@ -137,6 +144,11 @@ public class FleaseMessage implements Serializable, Cloneable {
 
     private long                masterEpochNumber;
 
+    /**
+     * the messages contained in a MSG_BATCH message, null for all other types
+     */
+    private List<FleaseMessage> batch;
+
     
     /**
      * Creates a new instance of PxMessage
@@ -148,6 +160,15 @@ public class FleaseMessage implements Serializable, Cloneable {
         this.prevProposalNo = ProposalNumber.EMPTY_PROPOSAL_NUMBER;
         this.masterEpochNumber = IGNORE_MASTER_EPOCH;
     }
+
+    /**
+     * Creates a MSG_BATCH message.
+     * @param batch the messages to send at once, must not contain MSG_BATCH messages
+     */
+    public FleaseMessage(List<FleaseMessage> batch) {
+        this(MsgType.MSG_BATCH);
+        this.batch = batch;
+    }
     
     /**
      * Creates a new instance of PxMessage
@@ -176,6 +197,7 @@ public class FleaseMessage implements Serializable, Cloneable {
         this.prevProposalNo = other.prevProposalNo;
         this.viewId = other.viewId;
         this.masterEpochNumber = other.masterEpochNumber;
+        this.batch = other.batch;
     }
     
     public void validateMessage() {
@@ -335,6 +357,13 @@ public class FleaseMessage implements Serializable, Cloneable {
     public void setSender(InetSocketAddress sender) {
         this.address = sender;
     }
+
+    /**
+     * @return the messages contained in a MSG_BATCH message, null for other messages
+     */
+    public List<FleaseMessage> getBatch() {
+        return batch;
+    }
     
     /**
      * checks if this message is before other
@@ -370,6 +399,10 @@ public class FleaseMessage implements Serializable, Cloneable {
     @Override
     public String toString() {
         assert(this.msgType != null);
+        if (batch != null) {
+            return String.format("FleaseMessage ( type=%s count=%d addr=%s)", this.msgType.toString(), batch.size(),
+                    (address != null) ? address.toString() : "n/a");
+        }
         return String.format("FleaseMessage ( type=%s cell=%s v=%d b=%s lease=%s/%d(%s) prevb=%s ts=%d(%s) addr=%s mepoch=%d)",
                 this.msgType.toString(),this.cellId,this.viewId,this.proposalNo,this.leaseHolder,
                 this.leaseTimeout,new Date(this.leaseTimeout),this.prevProposalNo,this.sendTimestamp,new Date(this.sendTimestamp),
@@ -397,6 +430,12 @@ public class FleaseMessage implements Serializable, Cloneable {
     }
 
     public int getSize() {
+        if (batch != null) {
+            int size = 1+4;
+            for (FleaseMessage msg : batch)
+                size += msg.getSize();
+            return size;
+        }
         return 1+cellId.getSerializedSize()+
                 (leaseHolder == null ? 4 : leaseHolder.getSerializedSize())+
                 8+8+8+8+8+8+4+8;
@@ -405,6 +444,12 @@ public class FleaseMessage implements Serializable, Cloneable {
     public void serialize(ReusableBuffer buffer) {
         assert(buffer != null);
         buffer.put((byte)this.msgType.ordinal());
+        if (batch != null) {
+            buffer.putInt(batch.size());
+            for (FleaseMessage msg : batch)
+                msg.serialize(buffer);
+            return;
+        }
         cellId.marshall(buffer);
         proposalNo.serialize(buffer);
         prevProposalNo.serialize(buffer);
@@ -421,6 +466,22 @@ public class FleaseMessage implements Serializable, Cloneable {
     public FleaseMessage(ReusableBuffer buffer) {
         assert(buffer != null);
         this.msgType = MsgType.values()[buffer.get()];
+        if (msgType == MsgType.MSG_BATCH) {
+            this.proposalNo = ProposalNumber.EMPTY_PROPOSAL_NUMBER;
+            this.prevProposalNo = ProposalNumber.EMPTY_PROPOSAL_NUMBER;
+            this.masterEpochNumber = IGNORE_MASTER_EPOCH;
+            final int count = buffer.getInt();
+            if (count < 0 || count > buffer.remaining())
+                throw new IllegalArgumentException("invalid number of messages in batch: " + count);
+            this.batch = new ArrayList<FleaseMessage>(count);
+            for (int i = 0; i < count; i++) {
+                FleaseMessage msg = new FleaseMessage(buffer);
+                if (msg.batch != null)
+                    throw new IllegalArgumentException("nested batch messages are not allowed");
+                batch.add(msg);
+            }
+            return;
+        }
         this.cellId = ASCIIString.unmarshall(buffer);
         this.proposalNo = new ProposalNumber(buffer);
         this.prevProposalNo = new ProposalNumber(buffer);
@@ -455,6 +516,7 @@ public class FleaseMessage implements Serializable, Cloneable {
         myClone.sendTimestamp = this.sendTimestamp;
         myClone.viewId = this.viewId;
         myClone.masterEpochNumber = this.masterEpochNumber;
+        myClone.batch = this.batch;
         return myClone;
     }
 }
@@ -155,6 +155,22 @@ public class Communicator extends LifeCycleThread {
         ports.remove(port);
     }
 
+    /**
+     * blocks the port, i.e. all messages from and to the port are dropped until it is unblocked
+     * @param port port number to block
+     */
+    public void blockPort(int port) {
+        blockedPorts.put(port, 1);
+    }
+
+    /**
+     * unblocks a port blocked by blockPort or by a simulated host outage
+     * @param port port number to unblock
+     */
+    public void unblockPort(int port) {
+        blockedPorts.remove(port);
+    }
+
     /**
      * sends a datagram packet from
      * @param port sending port number
@@ -218,7 +234,8 @@ public class Communicator extends LifeCycleThread {
 
 
                 } catch (InterruptedException ex) {
-                    Logging.logError(Logging.LEVEL_ERROR,this,ex);
+                    if (!quit)
+                        Logging.logError(Logging.LEVEL_ERROR,this,ex);
                 }
             }
 
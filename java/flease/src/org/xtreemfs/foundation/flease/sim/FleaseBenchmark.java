@@ -0,0 +1,443 @@
+/*
+ * Copyright (c) 2015 by Zuse Institute Berlin
+ *
+ * Licensed under the BSD License, see LICENSE file for details.
+ *
+ */
+
+package org.xtreemfs.foundation.flease.sim;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import org.xtreemfs.foundation.TimeSync;
+import org.xtreemfs.foundation.buffer.ASCIIString;
+import org.xtreemfs.foundation.flease.Flease;
+import org.xtreemfs.foundation.flease.FleaseConfig;
+import org.xtreemfs.foundation.flease.FleaseMessageSenderInterface;
+import org.xtreemfs.foundation.flease.FleaseStage;
+import org.xtreemfs.foundation.flease.FleaseStatusListener;
+import org.xtreemfs.foundation.flease.FleaseViewChangeListenerInterface;
+import org.xtreemfs.foundation.flease.comm.FleaseMessage;
+import org.xtreemfs.foundation.flease.proposer.FleaseException;
+import org.xtreemfs.foundation.logging.Logging;
+import org.xtreemfs.foundation.util.CLIParser;
+import org.xtreemfs.foundation.util.CLIParser.CliOption;
+
+/**
+ * Reproducible scalability benchmark for flease on top of the simulated network of the {@link Communicator}.
+ * <p>
+ * For each combination of number of hosts (which are the acceptors of all cells) and number of cells, the benchmark
+ * opens all cells on all hosts and measures
+ * <ul>
+ * <li>the time until a lease was learned for each cell,</li>
+ * <li>the number of messages sent per second and the CPU time of the flease stages per cell while the leases are
+ * renewed,</li>
+ * <li>the time until the cells of a failed lease holder are taken over by another host.</li>
+ * </ul>
+ * The results are written as CSV, one line per combination, so that they can be compared across releases.
+ */
+public class FleaseBenchmark {
+
+    private static final int BASE_PORT = 1024;
+
+    private static final String CSV_HEADER = "hosts,cells,batch_size,acquired,acquire_mean_ms,acquire_p50_ms,"
+        + "acquire_p99_ms,acquire_max_ms,msgs_per_s,msgs_per_cell_s,cpu_us_per_cell_s,failover_cells,"
+        + "failover_recovered,failover_mean_ms,failover_max_ms";
+
+    private final int numHosts;
+
+    private final int numCells;
+
+    private final int leaseTimeout;
+
+    private final int dmax;
+
+    private final int batchSize;
+
+    private final int pkgLossPct;
+
+    private final int pctDelay;
+
+    private final int maxDelay;
+
+    private final int measureTime;
+
+    private final FleaseStage[] stages;
+
+    private final Map<ASCIIString, Integer> hostIndices;
+
+    /**
+     * Time at which each cell was opened, and at which a lease was learned for it first.
+     */
+    private final AtomicLongArray openedAt;
+
+    private final AtomicLongArray acquiredAt;
+
+    private final AtomicInteger numAcquired;
+
+    /**
+     * Index of the host that is the lease holder of each cell according to the last lease learned.
+     */
+    private final AtomicIntegerArray holders;
+
+    /**
+     * Host that failed during the failover phase, or -1, the cells it held when it failed, and the times at which
+     * another host learned a lease of these cells.
+     */
+    private volatile int failedHost;
+
+    private final boolean[] failedCells;
+
+    private volatile long failedAt;
+
+    private final AtomicLongArray recoveredAt;
+
+    private final AtomicInteger numRecovered;
+
+    private final AtomicLong numMessages;
+
+    private Communicator com;
+
+    FleaseBenchmark(int numHosts, int numCells, int leaseTimeout, int dmax, int batchSize, int pkgLossPct,
+        int pctDelay, int maxDelay, int measureTime) {
+        this.numHosts = numHosts;
+        this.numCells = numCells;
+        this.leaseTimeout = leaseTimeout;
+        this.dmax = dmax;
+        this.batchSize = batchSize;
+        this.pkgLossPct = pkgLossPct;
+        this.pctDelay = pctDelay;
+        this.maxDelay = maxDelay;
+        this.measureTime = measureTime;
+
+        this.stages = new FleaseStage[numHosts];
+        this.hostIndices = new HashMap<ASCIIString, Integer>();
+        this.openedAt = new AtomicLongArray(numCells);
+        this.acquiredAt = new AtomicLongArray(numCells);
+        this.numAcquired = new AtomicInteger();
+        this.holders = new AtomicIntegerArray(numCells);
+        this.failedHost = -1;
+        this.failedCells = new boolean[numCells];
+        this.recoveredAt = new AtomicLongArray(numCells);
+        this.numRecovered = new AtomicInteger();
+        this.numMessages = new AtomicLong();
+    }
+
+    /**
+     * Runs the benchmark and returns the results as a CSV line.
+     */
+    String run() throws Exception {
+
+        startHosts();
+        try {
+            StringBuilder result = new StringBuilder();
+            result.append(numHosts).append(',').append(numCells).append(',').append(batchSize).append(',');
+
+            // acquire the leases of all cells
+            openCells();
+            waitFor(numAcquired, numCells, 4 * leaseTimeout + numCells / 10);
+            long[] acquireTimes = new long[numAcquired.get()];
+            int n = 0;
+            for (int i = 0; i < numCells && n < acquireTimes.length; i++) {
+                if (acquiredAt.get(i) != 0)
+                    acquireTimes[n++] = acquiredAt.get(i) - openedAt.get(i);
+            }
+            result.append(acquireTimes.length).append(',');
+            appendLatencies(result, acquireTimes, true);
+            result.append(',');
+
+            // renew the leases for a while
+            Thread.sleep(leaseTimeout);
+            ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+            long cpuStart = getStageCpuTime(threads);
+            long msgsStart = numMessages.get();
+            long start = System.nanoTime();
+            Thread.sleep(measureTime);
+            double seconds = (System.nanoTime() - start) / 1e9;
+            long cpuTime = getStageCpuTime(threads) - cpuStart;
+            double msgsPerSecond = (numMessages.get() - msgsStart) / seconds;
+            result.append(format(msgsPerSecond)).append(',');
+            result.append(format(msgsPerSecond / numCells)).append(',');
+            result.append(cpuStart < 0 ? "" : format(cpuTime / 1e3 / seconds / numCells)).append(',');
+
+            // fail the host that holds most leases
+            int[] leasesPerHost = new int[numHosts];
+            for (int i = 0; i < numCells; i++) {
+                if (acquiredAt.get(i) != 0)
+                    leasesPerHost[holders.get(i)]++;
+            }
+            int host = 0;
+            for (int i = 1; i < numHosts; i++) {
+                if (leasesPerHost[i] > leasesPerHost[host])
+                    host = i;
+            }
+            for (int i = 0; i < numCells; i++)
+                failedCells[i] = acquiredAt.get(i) != 0 && holders.get(i) == host;
+            failedAt = System.nanoTime();
+            failedHost = host;
+            com.blockPort(BASE_PORT + host);
+            waitFor(numRecovered, leasesPerHost[host], 4 * leaseTimeout + numCells / 10);
+            long[] failoverTimes = new long[numRecovered.get()];
+            n = 0;
+            for (int i = 0; i < numCells && n < failoverTimes.length; i++) {
+                if (recoveredAt.get(i) != 0)
+                    failoverTimes[n++] = recoveredAt.get(i) - failedAt;
+            }
+            result.append(leasesPerHost[host]).append(',').append(failoverTimes.length).append(',');
+            appendLatencies(result, failoverTimes, false);
+
+            return result.toString();
+
+        } finally {
+            stopHosts();
+        }
+    }
+
+    private void startHosts() throws Exception {
+
+        com = new Communicator(pkgLossPct, 0, maxDelay, pctDelay, false, 0.0, 0.0, false);
+        com.start();
+        com.waitForStartup();
+
+        String lockfileDir = System.getProperty("java.io.tmpdir");
+
+        for (int i = 0; i < numHosts; i++) {
+            final int hostIndex = i;
+            final int portNo = BASE_PORT + i;
+            final InetSocketAddress endpoint = new InetSocketAddress("localhost", portNo);
+            FleaseConfig cfg = new FleaseConfig(leaseTimeout, dmax, 500, endpoint, "localhost:" + portNo, 5, true, 0,
+                false, batchSize);
+            hostIndices.put(cfg.getIdentity(), i);
+
+            stages[i] = new FleaseStage(cfg, lockfileDir, new FleaseMessageSenderInterface() {
+
+                public void sendMessage(FleaseMessage message, InetSocketAddress recipient) {
+                    numMessages.incrementAndGet();
+                    message.setSender(endpoint);
+                    com.send(recipient.getPort(), message);
+                }
+            }, true, new FleaseViewChangeListenerInterface() {
+
+                public void viewIdChangeEvent(ASCIIString cellId, int viewId) {
+                }
+            }, new FleaseStatusListener() {
+
+                public void statusChanged(ASCIIString cellId, Flease lease) {
+                    leaseLearned(hostIndex, cellId, lease);
+                }
+
+                public void leaseFailed(ASCIIString cellId, FleaseException error) {
+                }
+            }, null);
+            stages[i].start();
+            stages[i].waitForStartup();
+            com.openPort(portNo, stages[i]);
+        }
+    }
+
+    private void stopHosts() throws Exception {
+        for (FleaseStage stage : stages) {
+            if (stage != null) {
+                stage.shutdown();
+                stage.waitForShutdown();
+            }
+        }
+        com.shutdown();
+    }
+
+    private void openCells() {
+        List<InetSocketAddress>[] acceptors = new List[numHosts];
+        for (int i = 0; i < numHosts; i++) {
+            acceptors[i] = new ArrayList<InetSocketAddress>(numHosts - 1);
+            for (int j = 0; j < numHosts; j++) {
+                if (j != i)
+                    acceptors[i].add(new InetSocketAddress("localhost", BASE_PORT + j));
+            }
+        }
+
+        for (int cell = 0; cell < numCells; cell++) {
+            ASCIIString cellId = new ASCIIString("cell" + cell);
+            openedAt.set(cell, System.nanoTime());
+            for (int i = 0; i < numHosts; i++)
+                stages[i].openCell(cellId, acceptors[i], false, 0);
+        }
+    }
+
+    private void leaseLearned(int host, ASCIIString cellId, Flease lease) {
+
+        if (lease.isEmptyLease())
+            return;
+
+        long now = System.nanoTime();
+        int cell = Integer.parseInt(cellId.toString().substring(4));
+        Integer holder = hostIndices.get(lease.getLeaseHolder());
+        if (holder == null)
+            return;
+        holders.set(cell, holder);
+
+        if (acquiredAt.compareAndSet(cell, 0, now))
+            numAcquired.incrementAndGet();
+
+        // cells of the failed host are recovered once another host learned a lease with a different lease holder
+        int failed = failedHost;
+        if (failed >= 0 && failedCells[cell] && host != failed && holder != failed
+            && recoveredAt.compareAndSet(cell, 0, now))
+            numRecovered.incrementAndGet();
+    }
+
+    private long getStageCpuTime(ThreadMXBean threads) {
+        if (!threads.isThreadCpuTimeSupported())
+            return -1;
+        long cpuTime = 0;
+        for (FleaseStage stage : stages)
+            cpuTime += threads.getThreadCpuTime(stage.getId());
+        return cpuTime;
+    }
+
+    private static void waitFor(AtomicInteger counter, int expected, long timeout) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + timeout;
+        while (counter.get() < expected && System.currentTimeMillis() < deadline)
+            Thread.sleep(50);
+    }
+
+    private static void appendLatencies(StringBuilder result, long[] nanos, boolean percentiles) {
+        if (nanos.length == 0) {
+            result.append(percentiles ? ",,,," : ",");
+            return;
+        }
+        Arrays.sort(nanos);
+        long sum = 0;
+        for (long t : nanos)
+            sum += t;
+        result.append(format(sum / 1e6 / nanos.length)).append(',');
+        if (percentiles) {
+            result.append(format(nanos[(nanos.length - 1) / 2] / 1e6)).append(',');
+            result.append(format(nanos[(int) ((nanos.length - 1) * 0.99)] / 1e6)).append(',');
+        }
+        result.append(format(nanos[nanos.length - 1] / 1e6));
+    }
+
+    private static String format(double value) {
+        return String.format("%.3f", value);
+    }
+
+    private static int[] parseList(String list) {
+        String[] items = list.split(",");
+        int[] values = new int[items.length];
+        for (int i = 0; i < items.length; i++)
+            values[i] = Integer.parseInt(items[i].trim());
+        return values;
+    }
+
+    private static void usage() {
+        System.out.println("usage: FleaseBenchmark [options]");
+        System.out.println("  -hosts <n,...>        numbers of hosts, i.e. acceptors per cell (default: 3,5,7)");
+        System.out.println("  -cells <n,...>        numbers of cells (default: 1000,10000,100000)");
+        System.out.println("  -lease_timeout <ms>   lease timeout (default: 5000)");
+        System.out.println("  -dmax <ms>            maximum clock drift (default: 500)");
+        System.out.println("  -batch <n>            flease message batch size (default: 1)");
+        System.out.println("  -loss <pct>           percentage of lost messages (default: 0)");
+        System.out.println("  -delay <pct>          percentage of delayed messages (default: 0)");
+        System.out.println("  -max_delay <ms>       maximum delay of delayed messages (default: 100)");
+        System.out.println("  -measure <ms>         duration of the renewal measurement (default: 10000)");
+        System.out.println("  -o <file>             append the results to the file instead of printing them");
+        System.out.println("  -h                    show this help");
+    }
+
+    public static void main(String[] args) {
+
+        Map<String, CliOption> options = new HashMap<String, CliOption>();
+        options.put("hosts", new CliOption(CliOption.OPTIONTYPE.STRING));
+        options.put("cells", new CliOption(CliOption.OPTIONTYPE.STRING));
+        options.put("lease_timeout", new CliOption(CliOption.OPTIONTYPE.NUMBER));
+        options.put("dmax", new CliOption(CliOption.OPTIONTYPE.NUMBER));
+        options.put("batch", new CliOption(CliOption.OPTIONTYPE.NUMBER));
+        options.put("loss", new CliOption(CliOption.OPTIONTYPE.NUMBER));
+        options.put("delay", new CliOption(CliOption.OPTIONTYPE.NUMBER));
+        options.put("max_delay", new CliOption(CliOption.OPTIONTYPE.NUMBER));
+        options.put("measure", new CliOption(CliOption.OPTIONTYPE.NUMBER));
+        options.put("o", new CliOption(CliOption.OPTIONTYPE.STRING));
+        options.put("h", new CliOption(CliOption.OPTIONTYPE.SWITCH));
+
+        try {
+            CLIParser.parseCLI(args, options, new ArrayList<String>());
+        } catch (IllegalArgumentException ex) {
+            System.err.println(ex.getMessage());
+            usage();
+            System.exit(1);
+        }
+        if (options.get("h").switchValue) {
+            usage();
+            return;
+        }
+
+        int[] hosts = parseList(getString(options, "hosts", "3,5,7"));
+        int[] cells = parseList(getString(options, "cells", "1000,10000,100000"));
+        int leaseTimeout = getNumber(options, "lease_timeout", 5000);
+        int dmax = getNumber(options, "dmax", 500);
+        int batchSize = getNumber(options, "batch", 1);
+        int loss = getNumber(options, "loss", 0);
+        int delay = getNumber(options, "delay", 0);
+        int maxDelay = getNumber(options, "max_delay", 100);
+        int measureTime = getNumber(options, "measure", 10000);
+
+        try {
+            Logging.start(Logging.LEVEL_WARN);
+            TimeSync timeSync = TimeSync.initializeLocal(50);
+
+            PrintStream out = System.out;
+            String outFile = options.get("o").stringValue;
+            if (outFile != null) {
+                boolean exists = new File(outFile).exists();
+                out = new PrintStream(new FileOutputStream(outFile, true));
+                if (!exists)
+                    out.println(CSV_HEADER);
+            } else {
+                out.println(CSV_HEADER);
+            }
+
+            for (int numHosts : hosts) {
+                for (int numCells : cells) {
+                    System.err.println("running benchmark with " + numHosts + " hosts and " + numCells + " cells");
+                    FleaseBenchmark benchmark = new FleaseBenchmark(numHosts, numCells, leaseTimeout, dmax,
+                        batchSize, loss, delay, maxDelay, measureTime);
+                    out.println(benchmark.run());
+                    out.flush();
+                }
+            }
+
+            if (out != System.out)
+                out.close();
+            timeSync.close();
+            System.exit(0);
+
+        } catch (Exception ex) {
+            ex.printStackTrace();
+            System.exit(1);
+        }
+    }
+
+    private static String getString(Map<String, CliOption> options, String name, String defaultValue) {
+        String value = options.get(name).stringValue;
+        return value == null ? defaultValue : value;
+    }
+
+    private static int getNumber(Map<String, CliOption> options, String name, int defaultValue) {
+        Long value = options.get(name).numValue;
+        return value == null ? defaultValue : value.intValue();
+    }
+}
@@ -8,13 +8,17 @@
 package org.xtreemfs.foundation.flease;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
 import java.io.File;
 import java.net.InetSocketAddress;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 
 import org.junit.After;
@@ -23,6 +27,8 @@ import org.junit.BeforeClass;
 import org.junit.Test;
 import org.xtreemfs.foundation.TimeSync;
 import org.xtreemfs.foundation.buffer.ASCIIString;
+import org.xtreemfs.foundation.buffer.BufferPool;
+import org.xtreemfs.foundation.buffer.ReusableBuffer;
 import org.xtreemfs.foundation.flease.comm.FleaseMessage;
 import org.xtreemfs.foundation.flease.proposer.FleaseException;
 import org.xtreemfs.foundation.logging.Logging;
@@ -228,4 +234,99 @@ public class FleaseStageTest {
 
     }
 
+    /**
+     * Tests that the messages for many cells are exchanged in batches if batching is enabled.
+     */
+    @Test
+    public void testBatchedMessages() throws Exception {
+        final int numCells = 100;
+        final InetSocketAddress addrA = new InetSocketAddress("localhost", 12345);
+        final InetSocketAddress addrB = new InetSocketAddress("localhost", 12346);
+        FleaseConfig cfgA = new FleaseConfig(10000, 500, 500, addrA, "localhost:12345", 5, true, 0, false, 50);
+        FleaseConfig cfgB = new FleaseConfig(10000, 500, 500, addrB, "localhost:12346", 5, true, 0, false, 50);
+
+        final FleaseStage[] stages = new FleaseStage[2];
+        final AtomicInteger numSent = new AtomicInteger();
+        final AtomicInteger numBatches = new AtomicInteger();
+        final AtomicInteger numBatchedMessages = new AtomicInteger();
+        final Map<ASCIIString, Flease> leases = new HashMap<ASCIIString, Flease>();
+
+        for (int i = 0; i < 2; i++) {
+            final InetSocketAddress self = i == 0 ? addrA : addrB;
+            final int other = 1 - i;
+            new File(testDir, "stage" + i).mkdirs();
+
+            stages[i] = new FleaseStage(i == 0 ? cfgA : cfgB, testDir + "/stage" + i + "/",
+                    new FleaseMessageSenderInterface() {
+
+                        @Override
+                        public void sendMessage(FleaseMessage message, InetSocketAddress recipient) {
+                            numSent.incrementAndGet();
+                            if (message.getBatch() != null) {
+                                numBatches.incrementAndGet();
+                                numBatchedMessages.addAndGet(message.getBatch().size());
+                            }
+
+                            // send the message over the "wire"
+                            ReusableBuffer data = BufferPool.allocate(message.getSize());
+                            message.serialize(data);
+                            data.flip();
+                            FleaseMessage received = new FleaseMessage(data);
+                            BufferPool.free(data);
+                            received.setSender(self);
+                            stages[other].receiveMessage(received);
+                        }
+                    }, true, new FleaseViewChangeListenerInterface() {
+
+                        @Override
+                        public void viewIdChangeEvent(ASCIIString cellId, int viewId) {
+                        }
+                    }, new FleaseStatusListener() {
+
+                        @Override
+                        public void statusChanged(ASCIIString cellId, Flease lease) {
+                            if (self != addrA)
+                                return;
+                            synchronized (leases) {
+                                leases.put(cellId, lease);
+                                leases.notifyAll();
+                            }
+                        }
+
+                        @Override
+                        public void leaseFailed(ASCIIString cellId, FleaseException error) {
+                            fail(error.toString());
+                        }
+                    }, null);
+            stages[i].start();
+            stages[i].waitForStartup();
+        }
+
+        List<InetSocketAddress> acceptors = new ArrayList<InetSocketAddress>();
+        acceptors.add(addrB);
+        for (int i = 0; i < numCells; i++)
+            stages[0].openCell(new ASCIIString("cell" + i), acceptors, false, 0);
+
+        synchronized (leases) {
+            long deadline = System.currentTimeMillis() + 10000;
+            while (leases.size() < numCells && System.currentTimeMillis() < deadline)
+                leases.wait(100);
+        }
+
+        stages[0].shutdown();
+        stages[1].shutdown();
+        stages[0].waitForShutdown();
+        stages[1].waitForShutdown();
+
+        assertEquals(numCells, leases.size());
+        for (Flease lease : leases.values())
+            assertEquals(cfgA.getIdentity(), lease.getLeaseHolder());
+
+        // prepare, accept and learn messages and the responses for many cells must have been batched
+        assertTrue(numBatches.get() > 0);
+        int numMessages = numSent.get() - numBatches.get() + numBatchedMessages.get();
+        assertTrue("sent " + numSent.get() + " packets for " + numMessages + " messages",
+                numSent.get() * 4 < numMessages);
+    }
+
 }
@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2015 by Zuse Institute Berlin
+ *
+ * Licensed under the BSD License, see LICENSE file for details.
+ *
+ */
+package org.xtreemfs.foundation.flease;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.Test;
+import org.xtreemfs.foundation.buffer.ASCIIString;
+
+public class LeaseTimeoutQueueTest {
+
+    @Test
+    public void testReplaceAndRemove() {
+        LeaseTimeoutQueue queue = new LeaseTimeoutQueue(4);
+        ASCIIString a = new ASCIIString("a");
+        ASCIIString b = new ASCIIString("b");
+
+        // leases of different cells with the same holder and timeout must not be confused
+        queue.put(new Flease(a, new ASCIIString("holder"), 100, 0));
+        queue.put(new Flease(b, new ASCIIString("holder"), 100, 0));
+        assertEquals(2, queue.size());
+
+        queue.put(new Flease(a, new ASCIIString("holder"), 200, 0));
+        assertEquals(2, queue.size());
+        assertEquals(b, queue.peek().getCellId());
+
+        assertEquals(100, queue.remove(b).getLeaseTimeout_ms());
+        assertNull(queue.remove(b));
+        assertEquals(200, queue.poll().getLeaseTimeout_ms());
+        assertNull(queue.poll());
+    }
+
+    @Test
+    public void testOrder() {
+        LeaseTimeoutQueue queue = new LeaseTimeoutQueue(16);
+        Map<ASCIIString, Long> expected = new HashMap<ASCIIString, Long>();
+        Random rnd = new Random(42);
+
+        for (int i = 0; i < 100000; i++) {
+            ASCIIString cellId = new ASCIIString("cell" + rnd.nextInt(5000));
+            if (rnd.nextInt(4) == 0) {
+                Flease removed = queue.remove(cellId);
+                Long timeout = expected.remove(cellId);
+                assertEquals(timeout, removed == null ? null : removed.getLeaseTimeout_ms());
+            } else {
+                long timeout = rnd.nextInt(1000000);
+                queue.put(new Flease(cellId, null, timeout, 0));
+                expected.put(cellId, timeout);
+            }
+        }
+        assertEquals(expected.size(), queue.size());
+
+        long last = -1;
+        Flease lease;
+        while ((lease = queue.poll()) != null) {
+            assertTrue(lease.getLeaseTimeout_ms() >= last);
+            assertEquals(expected.remove(lease.getCellId()).longValue(), lease.getLeaseTimeout_ms());
+            last = lease.getLeaseTimeout_ms();
+        }
+        assertTrue(expected.isEmpty());
+    }
+}
@@ -7,6 +7,9 @@
 
 package org.xtreemfs.foundation.flease.comm;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.junit.After;
 import org.junit.AfterClass;
 import org.junit.Before;
@@ -77,4 +80,35 @@ public class FleaseMessageTest {
         assertEquals(m1.getMasterEpochNumber(),m2.getMasterEpochNumber());
     }
 
+    @Test
+    public void testBatchSerialization() throws Exception {
+        List<FleaseMessage> msgs = new ArrayList<FleaseMessage>();
+        for (int i = 0; i < 10; i++) {
+            FleaseMessage m = new FleaseMessage(FleaseMessage.MsgType.MSG_PREPARE);
+            m.setCellId(new ASCIIString("testcell" + i));
+            m.setProposalNo(new ProposalNumber(i, 736456));
+            m.setLeaseHolder(i % 2 == 0 ? new ASCIIString("yagga") : null);
+            m.setLeaseTimeout(123456789l + i);
+            msgs.add(m);
+        }
+        FleaseMessage batch = new FleaseMessage(msgs);
+
+        ReusableBuffer rb = BufferPool.allocate(batch.getSize());
+        batch.serialize(rb);
+        assertEquals(batch.getSize(), rb.position());
+        rb.flip();
+
+        FleaseMessage received = new FleaseMessage(rb);
+        assertEquals(FleaseMessage.MsgType.MSG_BATCH, received.getMsgType());
+        assertEquals(msgs.size(), received.getBatch().size());
+        for (int i = 0; i < msgs.size(); i++) {
+            FleaseMessage m = received.getBatch().get(i);
+            assertEquals(msgs.get(i).getCellId(), m.getCellId());
+            assertEquals(msgs.get(i).getProposalNo().getProposalNo(), m.getProposalNo().getProposalNo());
+            assertEquals(msgs.get(i).getLeaseTimeout(), m.getLeaseTimeout());
+            assertEquals(FleaseMessage.MsgType.MSG_PREPARE, m.getMsgType());
+        }
+        assertEquals(0, rb.remaining());
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,402 @@
+/*
+ * Copyright (c) 2015 by Zuse Institute Berlin
+ *
+ * Licensed under the BSD License, see LICENSE file for details.
+ *
+ */
+
+package org.xtreemfs.foundation;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A bounded cache that may be accessed by multiple threads.
+ * <p>
+ * The cache is split into segments by the hash codes of the keys. Lookups do not acquire any locks; insertions and
+ * removals lock the segment of the key. Each segment evicts entries with the CLOCK algorithm, i.e. entries that
+ * were not accessed since the clock hand passed them last are evicted first. In addition, a new entry is only
+ * admitted if it was accessed at least as frequently as the entry that would be evicted for it (TinyLFU). Access
+ * frequencies are estimated by a small count-min sketch per segment, which also covers keys that are not cached.
+ * This keeps frequently used entries in the cache when many entries are accessed only once, e.g. by a scan.
+ * <p>
+ * Since an insertion may be rejected, callers must not rely on a value being cached after
+ * {@link #put(Object, Object)}. Updating the value of a cached key is never rejected.<br>
+ * NOTE: This class is thread-safe.
+ */
+public class ConcurrentCache<K, V> {
+
+    /**
+     * Calculates the weight of cache entries, e.g. their size in bytes.
+     */
+    public static interface Weigher<K, V> {
+        public int weigh(K key, V value);
+    }
+
+    private static final int    MAX_SEGMENTS       = 16;
+
+    private static final int    MIN_SEGMENT_WEIGHT = 64;
+
+    private final Segment<K, V>[] segments;
+
+    private final int           segmentShift;
+
+    private final Weigher<K, V> weigher;
+
+    /**
+     * Creates a cache that holds at most <code>maximumSize</code> entries.
+     */
+    public ConcurrentCache(int maximumSize) {
+        this(maximumSize, null);
+    }
+
+    /**
+     * Creates a cache whose entries have a total weight of at most <code>maximumWeight</code>.
+     *
+     * @param weigher
+     *            calculates the weight of an entry, or null if each entry has a weight of 1
+     */
+    @SuppressWarnings("unchecked")
+    public ConcurrentCache(long maximumWeight, Weigher<K, V> weigher) {
+
+        if (maximumWeight <= 0)
+            throw new IllegalArgumentException("maximum weight must be positive");
+
+        int numSegments = 1;
+        while (numSegments < MAX_SEGMENTS && maximumWeight / (numSegments * 2) >= MIN_SEGMENT_WEIGHT)
+            numSegments *= 2;
+
+        this.segments = new Segment[numSegments];
+        long segmentWeight = maximumWeight / numSegments;
+        for (int i = 0; i < numSegments; i++)
+            segments[i] = new Segment<K, V>(i == 0 ? maximumWeight - segmentWeight * (numSegments - 1)
+                : segmentWeight);
+
+        this.segmentShift = 32 - Integer.numberOfTrailingZeros(numSegments);
+        this.weigher = weigher;
+    }
+
+    /**
+     * Returns the value cached for <code>key</code>, or null if the key is not cached.
+     */
+    public V get(K key) {
+        int hash = hash(key);
+        return segmentFor(hash).get(key, hash);
+    }
+
+    /**
+     * Caches <code>value</code> for <code>key</code>, unless the key is not cached yet and was accessed less
+     * frequently than the entry that would have to be evicted for it.
+     */
+    public void put(K key, V value) {
+        if (value == null)
+            throw new NullPointerException();
+        int hash = hash(key);
+        segmentFor(hash).put(key, hash, value, weigher == null ? 1 : weigher.weigh(key, value));
+    }
+
+    /**
+     * Removes <code>key</code> from the cache and returns the value that was cached for it, or null.
+     */
+    public V remove(K key) {
+        int hash = hash(key);
+        return segmentFor(hash).remove(key);
+    }
+
+    public void clear() {
+        for (Segment<K, V> segment : segments)
+            segment.clear();
+    }
+
+    public int size() {
+        int size = 0;
+        for (Segment<K, V> segment : segments)
+            size += segment.map.size();
+        return size;
+    }
+
+    public long getHitCount() {
+        long count = 0;
+        for (Segment<K, V> segment : segments)
+            count += segment.hits.get();
+        return count;
+    }
+
+    public long getMissCount() {
+        long count = 0;
+        for (Segment<K, V> segment : segments)
+            count += segment.misses.get();
+        return count;
+    }
+
+    /**
+     * Returns the number of entries that were evicted to make room for other entries.
+     */
+    public long getEvictionCount() {
+        long count = 0;
+        for (Segment<K, V> segment : segments)
+            count += segment.evictions.get();
+        return count;
+    }
+
+    private Segment<K, V> segmentFor(int hash) {
+        return segments.length == 1 ? segments[0] : segments[hash >>> segmentShift];
+    }
+
+    private static int hash(Object key) {
+        // spread the bits, as keys with similar hash codes would end up in the same segment otherwise
+        int h = key.hashCode() * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    private static final class Node<K, V> {
+
+        final K          key;
+
+        final int        hash;
+
+        volatile V       value;
+
+        volatile boolean referenced;
+
+        int              weight;
+
+        Node<K, V>       prev;
+
+        Node<K, V>       next;
+
+        Node(K key, int hash, V value, int weight) {
+            this.key = key;
+            this.hash = hash;
+            this.value = value;
+            this.weight = weight;
+        }
+    }
+
+    private static final class Segment<K, V> {
+
+        final ConcurrentHashMap<K, Node<K, V>> map;
+
+        final ReentrantLock                    lock;
+
+        final FrequencySketch                  sketch;
+
+        final long                             maximumWeight;
+
+        final AtomicLong                       hits;
+
+        final AtomicLong                       misses;
+
+        final AtomicLong                       evictions;
+
+        /**
+         * Current position of the clock hand in the circular list of nodes; the node before the hand is the most
+         * recently inserted one. Guarded by lock.
+         */
+        Node<K, V>                             hand;
+
+        /**
+         * Total weight of all nodes. Guarded by lock.
+         */
+        long                                   weight;
+
+        Segment(long maximumWeight) {
+            int expectedSize = (int) Math.min(maximumWeight, 1 << 12);
+            this.map = new ConcurrentHashMap<K, Node<K, V>>(expectedSize);
+            this.lock = new ReentrantLock();
+            this.sketch = new FrequencySketch(expectedSize);
+            this.maximumWeight = maximumWeight;
+            this.hits = new AtomicLong();
+            this.misses = new AtomicLong();
+            this.evictions = new AtomicLong();
+        }
+
+        V get(K key, int hash) {
+            sketch.increment(hash);
+            Node<K, V> node = map.get(key);
+            if (node == null) {
+                misses.incrementAndGet();
+                return null;
+            }
+            node.referenced = true;
+            hits.incrementAndGet();
+            return node.value;
+        }
+
+        void put(K key, int hash, V value, int nodeWeight) {
+            lock.lock();
+            try {
+                sketch.increment(hash);
+
+                Node<K, V> node = map.get(key);
+                if (node != null) {
+                    weight += nodeWeight - node.weight;
+                    node.value = value;
+                    node.weight = nodeWeight;
+                    node.referenced = true;
+                    evictUntilWithinBounds(node);
+                    return;
+                }
+
+                if (nodeWeight > maximumWeight)
+                    return;
+
+                while (weight + nodeWeight > maximumWeight) {
+                    Node<K, V> victim = nextVictim(null);
+                    if (sketch.frequency(hash) < sketch.frequency(victim.hash))
+                        return;
+                    evict(victim);
+                }
+
+                node = new Node<K, V>(key, hash, value, nodeWeight);
+                map.put(key, node);
+                link(node);
+                weight += nodeWeight;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        V remove(K key) {
+            lock.lock();
+            try {
+                Node<K, V> node = map.remove(key);
+                if (node == null)
+                    return null;
+                unlink(node);
+                weight -= node.weight;
+                return node.value;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void clear() {
+            lock.lock();
+            try {
+                map.clear();
+                hand = null;
+                weight = 0;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        /**
+         * Evicts nodes other than <code>keep</code> until the weight of the segment is within bounds. Evicts
+         * <code>keep</code> as well if it is too heavy by itself.
+         */
+        private void evictUntilWithinBounds(Node<K, V> keep) {
+            while (weight > maximumWeight) {
+                Node<K, V> victim = nextVictim(keep);
+                evict(victim == null ? keep : victim);
+            }
+        }
+
+        /**
+         * Advances the clock hand to the next node that was not referenced since the hand passed it last, and
+         * clears the reference flags of all nodes passed on the way. Returns null if <code>skip</code> is the only
+         * node.
+         */
+        private Node<K, V> nextVictim(Node<K, V> skip) {
+            if (hand == skip && hand.next == hand)
+                return null;
+            for (;;) {
+                Node<K, V> node = hand;
+                hand = node.next;
+                if (node == skip)
+                    continue;
+                if (!node.referenced)
+                    return node;
+                node.referenced = false;
+            }
+        }
+
+        private void evict(Node<K, V> node) {
+            map.remove(node.key);
+            unlink(node);
+            weight -= node.weight;
+            evictions.incrementAndGet();
+        }
+
+        private void link(Node<K, V> node) {
+            if (hand == null) {
+                node.prev = node;
+                node.next = node;
+                hand = node;
+            } else {
+                node.next = hand;
+                node.prev = hand.prev;
+                hand.prev.next = node;
+                hand.prev = node;
+            }
+        }
+
+        private void unlink(Node<K, V> node) {
+            if (node.next == node) {
+                hand = null;
+            } else {
+                if (hand == node)
+                    hand = node.next;
+                node.prev.next = node.next;
+                node.next.prev = node.prev;
+            }
+            node.prev = null;
+            node.next = null;
+        }
+    }
+
+    /**
+     * Estimates how often keys were accessed recently, with four 4-bit counters per key out of 16 counters per
+     * expected entry. All counters are halved periodically so that the estimate follows changes of the access
+     * pattern.
+     * <p>
+     * Counters are updated without synchronization, i.e. concurrent increments may get lost. This only makes the
+     * estimate slightly less accurate.
+     */
+    private static final class FrequencySketch {
+
+        private static final int[] SEEDS = { 0x97CB3127, 0x5BD1E995, 0x2F1B873B, 0x7A646E4D };
+
+        private final byte[]       counters;
+
+        private final int          mask;
+
+        private final int          resetThreshold;
+
+        private int                additions;
+
+        FrequencySketch(int expectedSize) {
+            int size = Integer.highestOneBit(Math.max(expectedSize, 16) - 1) << 5;
+            this.counters = new byte[size];
+            this.mask = size - 1;
+            this.resetThreshold = 10 * expectedSize;
+        }
+
+        void increment(int hash) {
+            for (int seed : SEEDS) {
+                int i = index(hash, seed);
+                if (counters[i] < 15)
+                    counters[i]++;
+            }
+            if (++additions >= resetThreshold) {
+                additions = 0;
+                for (int i = 0; i < counters.length; i++)
+                    counters[i] >>= 1;
+            }
+        }
+
+        int frequency(int hash) {
+            int frequency = 15;
+            for (int seed : SEEDS)
+                frequency = Math.min(frequency, counters[index(hash, seed)]);
+            return frequency;
+        }
+
+        private int index(int hash, int seed) {
+            int h = (hash ^ seed) * seed;
+            return (h ^ (h >>> 15)) & mask;
+        }
+    }
+}
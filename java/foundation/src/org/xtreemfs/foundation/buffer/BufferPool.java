@@ -282,9 +282,45 @@ public final class BufferPool {
      *             when bufferSize is not in the pool
      */
     public static int getPoolSize(int bufferSize) {
+        return instance.poolSizes[getPoolIndex(bufferSize)].get();
+    }
+
+    /**
+     * Get the number of buffers requested from the pool for a specific buffer size. If bufferSize is 0, the
+     * number of requested unpooled buffers is returned.
+     * 
+     * @throws IllegalArgumentException
+     *             when bufferSize is not in the pool
+     */
+    public static long getNumRequests(int bufferSize) {
+        return instance.requests[bufferSize == 0 ? BUFF_SIZES.length : getPoolIndex(bufferSize)].get();
+    }
+
+    /**
+     * Get the number of buffers created for a specific buffer size.
+     * 
+     * @throws IllegalArgumentException
+     *             when bufferSize is not in the pool
+     */
+    public static long getNumCreates(int bufferSize) {
+        return instance.creates[getPoolIndex(bufferSize)].get();
+    }
+
+    /**
+     * Get the number of buffers of a specific buffer size that were not returned to the pool because it was
+     * full. If bufferSize is 0, the number of freed unpooled buffers is returned.
+     * 
+     * @throws IllegalArgumentException
+     *             when bufferSize is not in the pool
+     */
+    public static long getNumDeletes(int bufferSize) {
+        return instance.deletes[bufferSize == 0 ? BUFF_SIZES.length : getPoolIndex(bufferSize)].get();
+    }
+
+    private static int getPoolIndex(int bufferSize) {
         for (int i = 0; i < BUFF_SIZES.length; i++) {
             if (BUFF_SIZES[i] == bufferSize) {
-                return instance.poolSizes[i].get();
+                return i;
             }
         }
         throw new IllegalArgumentException("Specified buffer size is not pooled. Check BufferPool configuration.");
@@ -0,0 +1,302 @@
+/*
+ * Copyright (c) 2015 by Zuse Institute Berlin
+ *
+ * Licensed under the BSD License, see LICENSE file for details.
+ *
+ */
+
+package org.xtreemfs.foundation.logging;
+
+import java.io.PrintStream;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+
+import org.xtreemfs.foundation.logging.Logging.Category;
+
+/**
+ * Formats and writes log messages in a background thread.
+ * <p>
+ * Logging threads only claim a slot in a preallocated ring buffer and store the message pattern, its arguments
+ * and the context of the message there. Slots are claimed without locks; each slot has a sequence number that
+ * indicates whether it may be written by a logging thread or read by the writer thread. If the buffer is full,
+ * the message is dropped.<br>
+ * NOTE: This class is thread-safe.
+ */
+class AsyncLogWriter extends Thread {
+
+    /**
+     * A preallocated slot of the ring buffer.
+     */
+    private static final class Entry {
+
+        int        level;
+
+        Object     me;
+
+        Thread     thread;
+
+        long       timeStamp;
+
+        String     formatPattern;
+
+        Object[]   args;
+
+        Throwable  error;
+
+        boolean    printCause;
+    }
+
+    private static final long      IDLE_PARK_NANOS      = TimeUnit.MILLISECONDS.toNanos(100);
+
+    private static final long      DROP_REPORT_INTERVAL = 1000;
+
+    private final Entry[]          entries;
+
+    /**
+     * Slot <code>i</code> may be claimed by the logging thread that logs message number <code>n</code> if its
+     * sequence number is <code>n</code>, and it may be read by the writer thread once its sequence number is
+     * <code>n + 1</code>.
+     */
+    private final AtomicLongArray  sequences;
+
+    private final int              mask;
+
+    /**
+     * Number of the next message to be appended.
+     */
+    private final AtomicLong       tail;
+
+    /**
+     * Number of the next message to be written. Only accessed by the writer thread.
+     */
+    private long                   head;
+
+    private final int              rateLimit;
+
+    /**
+     * Second in which the messages of a category are currently counted, and the number of messages counted, by
+     * category ordinal.
+     */
+    private final AtomicLongArray  rateWindows;
+
+    private final AtomicIntegerArray rateCounts;
+
+    private final AtomicLong       droppedMessages;
+
+    private final SimpleDateFormat dateFormat;
+
+    private volatile PrintStream   out;
+
+    private volatile boolean       sleeping;
+
+    private volatile boolean       quit;
+
+    /**
+     * @param out
+     *            the stream to write the messages to
+     * @param bufferSize
+     *            the minimum number of messages that can be buffered; rounded up to a power of two
+     * @param rateLimit
+     *            the maximum number of messages less severe than warnings per second and category, or 0 for no
+     *            limit
+     */
+    AsyncLogWriter(PrintStream out, int bufferSize, int rateLimit) {
+
+        super("LogWriter");
+        setDaemon(true);
+
+        int capacity = Integer.highestOneBit(Math.max(bufferSize, 2) - 1) << 1;
+        this.entries = new Entry[capacity];
+        this.sequences = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            entries[i] = new Entry();
+            sequences.set(i, i);
+        }
+        this.mask = capacity - 1;
+        this.tail = new AtomicLong();
+
+        this.rateLimit = rateLimit;
+        this.rateWindows = new AtomicLongArray(Category.values().length);
+        this.rateCounts = new AtomicIntegerArray(Category.values().length);
+
+        this.droppedMessages = new AtomicLong();
+        this.dateFormat = new SimpleDateFormat("MMM dd HH:mm:ss");
+        this.out = out;
+    }
+
+    int getCapacity() {
+        return entries.length;
+    }
+
+    long getDroppedMessages() {
+        return droppedMessages.get();
+    }
+
+    void redirect(PrintStream out) {
+        this.out = out;
+    }
+
+    /**
+     * Appends a message to the buffer.
+     *
+     * @return false if the message has to be written synchronously by the calling thread, i.e. if it is a warning
+     *         or error that does not fit into the buffer
+     */
+    boolean append(int level, Category cat, Object me, String formatPattern, Object[] args, Throwable error,
+        boolean printCause) {
+
+        boolean important = level <= Logging.LEVEL_WARN;
+
+        if (!important && rateLimit > 0 && !acquire(cat)) {
+            droppedMessages.incrementAndGet();
+            return true;
+        }
+
+        long pos = tail.get();
+        for (;;) {
+            long diff = sequences.get((int) pos & mask) - pos;
+            if (diff == 0) {
+                if (tail.compareAndSet(pos, pos + 1))
+                    break;
+                pos = tail.get();
+            } else if (diff < 0) {
+                // buffer is full
+                if (important)
+                    return false;
+                droppedMessages.incrementAndGet();
+                return true;
+            } else {
+                pos = tail.get();
+            }
+        }
+
+        Entry entry = entries[(int) pos & mask];
+        entry.level = level;
+        entry.me = me;
+        entry.thread = Thread.currentThread();
+        entry.timeStamp = System.currentTimeMillis();
+        entry.formatPattern = formatPattern;
+        entry.args = args;
+        entry.error = error;
+        entry.printCause = printCause;
+        sequences.set((int) pos & mask, pos + 1);
+
+        if (sleeping)
+            LockSupport.unpark(this);
+
+        return true;
+    }
+
+    private boolean acquire(Category cat) {
+        int i = cat.ordinal();
+        long window = System.currentTimeMillis() / 1000;
+        long current = rateWindows.get(i);
+        if (current != window && rateWindows.compareAndSet(i, current, window))
+            rateCounts.set(i, 0);
+        return rateCounts.incrementAndGet(i) <= rateLimit;
+    }
+
+    /**
+     * Writes all buffered messages and terminates the writer thread.
+     */
+    void shutdown() {
+        quit = true;
+        LockSupport.unpark(this);
+        try {
+            join(5000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public void run() {
+
+        long reportedDrops = 0;
+        long lastDropReport = 0;
+
+        while (!quit) {
+
+            if (!writeBufferedMessages()) {
+                out.flush();
+
+                // Logging threads unpark the writer only if it announced to sleep; check the buffer once more
+                // afterwards to not miss a message appended in between.
+                sleeping = true;
+                if (!isEmpty() || quit) {
+                    sleeping = false;
+                    continue;
+                }
+                LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+                sleeping = false;
+            }
+
+            long drops = droppedMessages.get();
+            long now = System.currentTimeMillis();
+            if (drops != reportedDrops && now - lastDropReport >= DROP_REPORT_INTERVAL) {
+                out.println(String.format(Logging.FORMAT_PATTERN, Logging.ABBREV_LEVEL_WARN, "AsyncLogWriter",
+                    getName(), getId(), dateFormat.format(new Date(now)), "dropped " + (drops - reportedDrops)
+                        + " log messages"));
+                reportedDrops = drops;
+                lastDropReport = now;
+            }
+        }
+
+        while (writeBufferedMessages())
+            ;
+        out.flush();
+    }
+
+    private boolean isEmpty() {
+        return sequences.get((int) head & mask) != head + 1;
+    }
+
+    /**
+     * Writes the messages that are currently buffered.
+     *
+     * @return false if the buffer was empty
+     */
+    private boolean writeBufferedMessages() {
+
+        if (isEmpty())
+            return false;
+
+        do {
+            int i = (int) head & mask;
+            Entry entry = entries[i];
+            write(entry);
+
+            entry.me = null;
+            entry.thread = null;
+            entry.formatPattern = null;
+            entry.args = null;
+            entry.error = null;
+            sequences.set(i, head + entries.length);
+            head++;
+        } while (!isEmpty());
+
+        return true;
+    }
+
+    private void write(Entry entry) {
+        PrintStream out = this.out;
+        String timeStamp = dateFormat.format(new Date(entry.timeStamp));
+        char levelName = Logging.getLevelName(entry.level);
+        try {
+            if (entry.error != null)
+                Logging.writeError(out, levelName, entry.me, entry.thread, timeStamp, entry.error, entry.printCause);
+            else
+                Logging.writeMessage(out, levelName, entry.me, entry.thread, timeStamp, entry.formatPattern,
+                    entry.args);
+        } catch (RuntimeException e) {
+            // e.g. an argument whose toString() method fails
+            out.println(String.format(Logging.FORMAT_PATTERN, levelName, "AsyncLogWriter", getName(), getId(),
+                timeStamp, "could not format log message '" + entry.formatPattern + "': " + e));
+        }
+    }
+}
@@ -107,12 +107,17 @@ public class Logging {
     
     private final int                catMask;
     
+    /**
+     * Writes messages in the background, or null if messages are written synchronously by the logging threads.
+     */
+    private final AsyncLogWriter     asyncWriter;
+    
     private static final SimpleDateFormat dateFormat = new SimpleDateFormat("MMM dd HH:mm:ss");
     
     /**
      * Creates a new instance of Logging
      */
-    private Logging(int level, int catMask) {
+    private Logging(int level, int catMask, AsyncLogWriter asyncWriter) {
         
         if (level < 0)
             this.level = 0;
@@ -121,6 +126,8 @@ public class Logging {
         
         this.catMask = catMask;
         
+        this.asyncWriter = asyncWriter;
+        
         instance = this;
         
         System.currentTimeMillis();
@@ -128,6 +135,8 @@ public class Logging {
 
     public static void redirect(PrintStream out) {
         Logging.out = out;
+        if (instance != null && instance.asyncWriter != null)
+            instance.asyncWriter.redirect(out);
     }
     
     public static String truncateString(String string, int maxLength) {
@@ -142,16 +151,23 @@ public class Logging {
         // is 'all', log the message
         if (level <= instance.level && (cat == Category.all || (2 << cat.ordinal() & instance.catMask) > 0)) {
             
-            char levelName = getLevelName(level);
-                 
-            out.println(String.format(FORMAT_PATTERN, levelName,
-                    me == null ? "-" : truncateString(me instanceof Class ? ((Class) me).getSimpleName(): me.getClass().getSimpleName(), 20),
-                    truncateString(Thread.currentThread().getName(), 15),
-                    Thread.currentThread().getId(),
-                    getTimeStamp(), 
-                    String.format(formatPattern, args)));
+            if (instance.asyncWriter != null
+                && instance.asyncWriter.append(level, cat, me, formatPattern, args, null, false))
+                return;
+            
+            writeMessage(out, getLevelName(level), me, Thread.currentThread(), getTimeStamp(), formatPattern, args);
         }
     }
+    
+    static void writeMessage(PrintStream out, char levelName, Object me, Thread thread, String timeStamp,
+        String formatPattern, Object[] args) {
+        out.println(String.format(FORMAT_PATTERN, levelName,
+                me == null ? "-" : truncateString(getSimpleName(me), 20),
+                truncateString(thread.getName(), 15),
+                thread.getId(),
+                timeStamp, 
+                String.format(formatPattern, args)));
+    }
 
     private static void checkIfInitializedOrThrow() {
         if (instance == null) {
@@ -170,26 +186,37 @@ public class Logging {
         // if the level is appropriate, log the message
         if (level <= instance.level) {
             
-            char levelName = getLevelName(level);
-
-            out.println(String.format(FORMAT_PATTERN, levelName,
-                    me == null ? "-" : (me instanceof Class ? ((Class) me).getSimpleName(): me.getClass().getSimpleName()),
-                    Thread.currentThread().getName(), Thread.currentThread().getId(),
-                getTimeStamp(), msg.toString()));
-            for (StackTraceElement elem : msg.getStackTrace()) {
+            if (instance.asyncWriter != null
+                && instance.asyncWriter.append(level, Category.all, me, null, null, msg, true))
+                return;
+            
+            writeError(out, getLevelName(level), me, Thread.currentThread(), getTimeStamp(), msg, true);
+        }
+    }
+    
+    static void writeError(PrintStream out, char levelName, Object me, Thread thread, String timeStamp,
+        Throwable msg, boolean printCause) {
+        
+        String name = me == null ? "-" : getSimpleName(me);
+        
+        out.println(String.format(FORMAT_PATTERN, levelName, name, thread.getName(), thread.getId(), timeStamp,
+            msg.toString()));
+        for (StackTraceElement elem : msg.getStackTrace()) {
+            out.println(" ...                                           " + elem.toString());
+        }
+        if (printCause && msg.getCause() != null) {
+            out.println(String.format(FORMAT_PATTERN, levelName, name, thread.getName(), thread.getId(),
+                timeStamp, "root cause: " + msg.getCause()));
+            for (StackTraceElement elem : msg.getCause().getStackTrace()) {
                 out.println(" ...                                           " + elem.toString());
             }
-            if (msg.getCause() != null) {
-                out.println(String.format(FORMAT_PATTERN, levelName, me == null ? "-" : me.getClass()
-                        .getSimpleName(), Thread.currentThread().getName(), Thread.currentThread().getId(),
-                    getTimeStamp(), "root cause: " + msg.getCause()));
-                for (StackTraceElement elem : msg.getCause().getStackTrace()) {
-                    out.println(" ...                                           " + elem.toString());
-                }
-            }
         }
     }
     
+    private static String getSimpleName(Object me) {
+        return me instanceof Class ? ((Class<?>) me).getSimpleName() : me.getClass().getSimpleName();
+    }
+    
     public static void logUserError(int level, Category cat, Object me, Throwable msg) {
         checkIfInitializedOrThrow();
 
@@ -197,14 +224,10 @@ public class Logging {
         // is 'all', log the message
         if (level <= instance.level && (cat == Category.all || (2 << cat.ordinal() & instance.catMask) > 0)) {
             
-            char levelName = getLevelName(level);
+            if (instance.asyncWriter != null && instance.asyncWriter.append(level, cat, me, null, null, msg, false))
+                return;
             
-            out.println(String.format(FORMAT_PATTERN, levelName, me == null ? "-" : me.getClass()
-                    .getSimpleName(), Thread.currentThread().getName(), Thread.currentThread().getId(),
-                getTimeStamp(), msg.toString()));
-            for (StackTraceElement elem : msg.getStackTrace()) {
-                out.println(" ...                                           " + elem.toString());
-            }
+            writeError(out, getLevelName(level), me, Thread.currentThread(), getTimeStamp(), msg, false);
         }
     }
     
@@ -228,6 +251,27 @@ public class Logging {
     }
     
     public synchronized static void start(int level, Category... categories) {
+        start(level, 0, 0, categories);
+    }
+    
+    /**
+     * Starts the logging. If <code>asyncBufferSize</code> is greater than 0, messages are written asynchronously:
+     * the logging threads only store the message pattern and its arguments in a ring buffer of the given size, and
+     * a background thread formats and writes them. Messages that do not fit into the buffer are dropped, unless
+     * they are warnings or errors. Since arguments are formatted lazily, they must not be modified after they
+     * were logged.
+     * 
+     * @param level
+     *            the maximum level of messages to log
+     * @param asyncBufferSize
+     *            the number of messages that can be buffered, or 0 to write messages synchronously
+     * @param rateLimit
+     *            if messages are written asynchronously, the maximum number of messages less severe than warnings
+     *            that are logged per second and category, or 0 for no limit
+     * @param categories
+     *            the categories of messages to log
+     */
+    public synchronized static void start(int level, int asyncBufferSize, int rateLimit, Category... categories) {
         if (instance == null) {
             
             int catMask = 0;
@@ -242,10 +286,35 @@ public class Logging {
             if(categories.length == 0)
                 catMask = -1;
             
-            instance = new Logging(level, catMask);
+            AsyncLogWriter asyncWriter = null;
+            if (asyncBufferSize > 0) {
+                asyncWriter = new AsyncLogWriter(out, asyncBufferSize, rateLimit);
+                asyncWriter.start();
+                
+                final AsyncLogWriter writer = asyncWriter;
+                Runtime.getRuntime().addShutdownHook(new Thread("LogWriterShutdown") {
+                    @Override
+                    public void run() {
+                        writer.shutdown();
+                    }
+                });
+            }
+            
+            instance = new Logging(level, catMask, asyncWriter);
         }
     }
     
+    /**
+     * Returns the number of messages that were not written because the buffer of the asynchronous writer was full
+     * or their category exceeded the rate limit.
+     */
+    public static long getDroppedMessages() {
+        if (instance == null || instance.asyncWriter == null)
+            return 0;
+        else
+            return instance.asyncWriter.getDroppedMessages();
+    }
+    
     public static boolean isDebug() {
         if (instance == null)
             return false;
@@ -0,0 +1,168 @@
+/*
+ * Copyright (c) 2015 by Zuse Institute Berlin
+ *
+ * Licensed under the BSD License, see LICENSE file for details.
+ *
+ */
+
+package org.xtreemfs.foundation.monitoring;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A histogram of latencies with logarithmically sized buckets. Each power of two is subdivided into
+ * 2^SUB_BUCKET_BITS linear sub-buckets, so that the relative error of a reported percentile is below
+ * 1/2^SUB_BUCKET_BITS. Latencies are recorded in microseconds.
+ * <p>
+ * Recording a value only requires a few atomic increments and no locks, so the histogram may be updated by
+ * several threads concurrently. Reading percentiles while values are being recorded may yield slightly
+ * inconsistent results.<br>
+ * NOTE: This class is thread-safe.
+ */
+public class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS  = 4;
+
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+
+    /**
+     * values with more significant bits (i.e. > ~3 days in microseconds) are counted in the last bucket
+     */
+    private static final int MAX_VALUE_BITS   = 38;
+
+    private static final int NUM_BUCKETS      = (MAX_VALUE_BITS - SUB_BUCKET_BITS + 1) * SUB_BUCKET_COUNT;
+
+    private final AtomicLongArray counts;
+
+    private final AtomicLong      count;
+
+    private final AtomicLong      sum;
+
+    private final AtomicLong      max;
+
+    public LatencyHistogram() {
+        counts = new AtomicLongArray(NUM_BUCKETS);
+        count = new AtomicLong();
+        sum = new AtomicLong();
+        max = new AtomicLong();
+    }
+
+    /**
+     * Records a latency.
+     *
+     * @param nanos
+     *            the latency in nanoseconds
+     */
+    public void record(long nanos) {
+        final long micros = nanos < 0 ? 0 : nanos / 1000;
+
+        counts.incrementAndGet(getBucket(micros));
+        count.incrementAndGet();
+        sum.addAndGet(micros);
+
+        long currentMax = max.get();
+        while (micros > currentMax && !max.compareAndSet(currentMax, micros))
+            currentMax = max.get();
+    }
+
+    /**
+     * Returns the number of recorded latencies.
+     */
+    public long getCount() {
+        return count.get();
+    }
+
+    /**
+     * Returns the mean latency in microseconds.
+     */
+    public double getMean() {
+        final long n = count.get();
+        return n == 0 ? 0 : (double) sum.get() / n;
+    }
+
+    /**
+     * Returns the sum of all recorded latencies in microseconds.
+     */
+    public long getSum() {
+        return sum.get();
+    }
+
+    /**
+     * Returns the max. latency in microseconds.
+     */
+    public long getMax() {
+        return max.get();
+    }
+
+    /**
+     * Returns the latency in microseconds below which the given percentage of all recorded latencies lie.
+     *
+     * @param percentile
+     *            a value between 0 and 100
+     */
+    public long getPercentile(double percentile) {
+        return getPercentiles(new double[] { percentile })[0];
+    }
+
+    /**
+     * Returns several percentiles at once, which only requires a single pass over the buckets.
+     *
+     * @param percentiles
+     *            values between 0 and 100 in ascending order
+     * @return the latencies in microseconds, in the same order as the given percentiles
+     */
+    public long[] getPercentiles(double[] percentiles) {
+        final long[] result = new long[percentiles.length];
+        final long n = count.get();
+        if (n == 0)
+            return result;
+
+        final long maxValue = max.get();
+        int next = 0;
+        long seen = 0;
+        for (int i = 0; i < NUM_BUCKETS && next < percentiles.length; i++) {
+            seen += counts.get(i);
+            while (next < percentiles.length
+                && seen >= Math.max(1, (long) Math.ceil(n * percentiles[next] / 100.0))) {
+                result[next++] = Math.min(getBucketUpperBound(i), maxValue);
+            }
+        }
+        // only reached if values were recorded concurrently
+        while (next < percentiles.length)
+            result[next++] = maxValue;
+
+        return result;
+    }
+
+    /**
+     * Returns a short textual summary of the histogram, e.g. for status pages.
+     */
+    @Override
+    public String toString() {
+        return String.format("n=%d mean=%.0fus p50=%dus p90=%dus p99=%dus p99.9=%dus max=%dus", getCount(),
+                getMean(), getPercentile(50), getPercentile(90), getPercentile(99), getPercentile(99.9), getMax());
+    }
+
+    static int getBucket(long micros) {
+        if (micros < SUB_BUCKET_COUNT)
+            return (int) micros;
+
+        final int exp = Math.min(63 - Long.numberOfLeadingZeros(micros), MAX_VALUE_BITS);
+        if (exp == MAX_VALUE_BITS)
+            return NUM_BUCKETS - 1;
+
+        final int sub = (int) (micros >>> (exp - SUB_BUCKET_BITS)) & (SUB_BUCKET_COUNT - 1);
+        return (exp - SUB_BUCKET_BITS + 1) * SUB_BUCKET_COUNT + sub;
+    }
+
+    static long getBucketUpperBound(int bucket) {
+        if (bucket < SUB_BUCKET_COUNT)
+            return bucket;
+
+        final int exp = bucket / SUB_BUCKET_COUNT + SUB_BUCKET_BITS - 1;
+        final int sub = bucket % SUB_BUCKET_COUNT;
+        final long lower = ((long) (SUB_BUCKET_COUNT + sub)) << (exp - SUB_BUCKET_BITS);
+        return lower + (1L << (exp - SUB_BUCKET_BITS)) - 1;
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2015 by Zuse Institute Berlin
+ *
+ * Licensed under the BSD License, see LICENSE file for details.
+ *
+ */
+
+package org.xtreemfs.foundation.monitoring;
+
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * A registry for the metrics of a service, which can be rendered in the Prometheus text format.
+ * <p>
+ * Metrics are not copied into the registry. Instead, the registry holds references to the counters,
+ * gauges and histograms of the service and reads their current values when it is scraped. Since these are
+ * updated with atomic operations only, neither updating nor scraping a metric requires a lock.<br>
+ * NOTE: This class is thread-safe.
+ */
+public class MetricsRegistry {
+
+    /**
+     * Provides the current value of a metric.
+     */
+    public interface Gauge {
+        long getValue();
+    }
+
+    /**
+     * Writes one or more complete metric families, e.g. metrics with labels that are not known in advance.
+     */
+    public interface Collector {
+        void collect(MetricsWriter writer);
+    }
+
+    private final CopyOnWriteArrayList<Collector> collectors;
+
+    public MetricsRegistry() {
+        collectors = new CopyOnWriteArrayList<Collector>();
+    }
+
+    public void register(Collector collector) {
+        collectors.add(collector);
+    }
+
+    /**
+     * Creates and registers a new counter.
+     */
+    public Counter newCounter(String name, String help) {
+        Counter counter = new Counter();
+        registerCounter(name, help, counter);
+        return counter;
+    }
+
+    /**
+     * Registers a counter whose value is maintained elsewhere.
+     */
+    public void registerCounter(final String name, final String help, final Gauge counter) {
+        register(new Collector() {
+            @Override
+            public void collect(MetricsWriter writer) {
+                writer.family(name, help, "counter");
+                writer.sample(name, null, counter.getValue());
+            }
+        });
+    }
+
+    public void registerGauge(final String name, final String help, final Gauge gauge) {
+        register(new Collector() {
+            @Override
+            public void collect(MetricsWriter writer) {
+                writer.family(name, help, "gauge");
+                writer.sample(name, null, gauge.getValue());
+            }
+        });
+    }
+
+    /**
+     * Registers a latency histogram, which is exposed as summary in seconds.
+     */
+    public void registerHistogram(final String name, final String help, final LatencyHistogram histogram) {
+        register(new Collector() {
+            @Override
+            public void collect(MetricsWriter writer) {
+                writer.family(name, help, "summary");
+                writer.summary(name, null, histogram);
+            }
+        });
+    }
+
+    /**
+     * Renders all registered metrics in the Prometheus text format.
+     */
+    public String scrape() {
+        MetricsWriter writer = new MetricsWriter();
+        for (Collector collector : collectors)
+            collector.collect(writer);
+        return writer.toString();
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2015 by Zuse Institute Berlin
+ *
+ * Licensed under the BSD License, see LICENSE file for details.
+ *
+ */
+
+package org.xtreemfs.foundation.monitoring;
+
+/**
+ * Renders metrics in the Prometheus text exposition format (version 0.0.4). All samples of a metric family
+ * have to be written directly after the family header.
+ */
+public class MetricsWriter {
+
+    /**
+     * quantiles reported for summaries
+     */
+    private static final double[] QUANTILES   = { 0.5, 0.9, 0.99, 0.999 };
+
+    private static final double[] PERCENTILES = { 50, 90, 99, 99.9 };
+
+    private final StringBuilder   sb;
+
+    public MetricsWriter() {
+        sb = new StringBuilder(8192);
+    }
+
+    /**
+     * Starts a new metric family.
+     *
+     * @param name
+     *            the name of the metric
+     * @param help
+     *            a short description
+     * @param type
+     *            "counter", "gauge" or "summary"
+     */
+    public void family(String name, String help, String type) {
+        sb.append("# HELP ").append(name).append(' ');
+        escape(help, false);
+        sb.append('\n');
+        sb.append("# TYPE ").append(name).append(' ').append(type).append('\n');
+    }
+
+    /**
+     * Writes a sample of the current family.
+     *
+     * @param labels
+     *            label names and values in alternating order, or <code>null</code>
+     */
+    public void sample(String name, String[] labels, long value) {
+        name(name, labels, null, null);
+        sb.append(value).append('\n');
+    }
+
+    /**
+     * Writes a sample of the current family.
+     *
+     * @param labels
+     *            label names and values in alternating order, or <code>null</code>
+     */
+    public void sample(String name, String[] labels, double value) {
+        name(name, labels, null, null);
+        sb.append(value).append('\n');
+    }
+
+    /**
+     * Writes the samples of a latency histogram as a summary (in seconds) of the current family.
+     *
+     * @param labels
+     *            label names and values in alternating order, or <code>null</code>
+     */
+    public void summary(String name, String[] labels, LatencyHistogram histogram) {
+        final long[] values = histogram.getPercentiles(PERCENTILES);
+        for (int i = 0; i < QUANTILES.length; i++) {
+            name(name, labels, "quantile", Double.toString(QUANTILES[i]));
+            sb.append(values[i] / 1e6).append('\n');
+        }
+        name(name + "_sum", labels, null, null);
+        sb.append(histogram.getSum() / 1e6).append('\n');
+        name(name + "_count", labels, null, null);
+        sb.append(histogram.getCount()).append('\n');
+    }
+
+    @Override
+    public String toString() {
+        return sb.toString();
+    }
+
+    private void name(String name, String[] labels, String extraLabel, String extraValue) {
+        sb.append(name);
+        if (labels == null && extraLabel == null) {
+            sb.append(' ');
+            return;
+        }
+
+        sb.append('{');
+        boolean first = true;
+        if (labels != null) {
+            for (int i = 0; i + 1 < labels.length; i += 2) {
+                if (!first)
+                    sb.append(',');
+                label(labels[i], labels[i + 1]);
+                first = false;
+            }
+        }
+        if (extraLabel != null) {
+            if (!first)
+                sb.append(',');
+            label(extraLabel, extraValue);
+        }
+        sb.append("} ");
+    }
+
+    private void label(String name, String value) {
+        sb.append(name).append("=\"");
+        escape(value, true);
+        sb.append('"');
+    }
+
+    private void escape(String s, boolean quotes) {
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (c == '\\')
+                sb.append("\\\\");
+            else if (c == '\n')
+                sb.append("\\n");
+            else if (c == '"' && quotes)
+                sb.append("\\\"");
+            else
+                sb.append(c);
+        }
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2015 by Zuse Institute Berlin
+ *
+ * Licensed under the BSD License, see LICENSE file for details.
+ *
+ */
+
+package org.xtreemfs.foundation.monitoring;
+
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Latency histograms of a single stage, broken down by operation. For each operation, the time requests
+ * waited in the stage's queue and the time the stage spent executing them are recorded separately.<br>
+ * NOTE: This class is thread-safe.
+ */
+public class OperationLatencies {
+
+    /**
+     * operation ID used for requests that are not associated with a client request
+     */
+    public static final int                           INTERNAL_OPERATION = -1;
+
+    private final String                              stageName;
+
+    private final ConcurrentMap<Integer, LatencyHistogram[]> histograms;
+
+    private final LatencyHistogram                    totalQueueTime;
+
+    private final LatencyHistogram                    totalServiceTime;
+
+    public OperationLatencies(String stageName) {
+        this.stageName = stageName;
+        this.histograms = new ConcurrentHashMap<Integer, LatencyHistogram[]>();
+        this.totalQueueTime = new LatencyHistogram();
+        this.totalServiceTime = new LatencyHistogram();
+    }
+
+    /**
+     * Records the latencies of a single request.
+     *
+     * @param operationId
+     *            the procedure ID of the request, or {@link #INTERNAL_OPERATION}
+     * @param queueNanos
+     *            the time the request waited in the queue, in nanoseconds
+     * @param serviceNanos
+     *            the time needed to execute the request, in nanoseconds
+     */
+    public void record(int operationId, long queueNanos, long serviceNanos) {
+        LatencyHistogram[] h = histograms.get(operationId);
+        if (h == null) {
+            h = new LatencyHistogram[] { new LatencyHistogram(), new LatencyHistogram() };
+            LatencyHistogram[] existing = histograms.putIfAbsent(operationId, h);
+            if (existing != null)
+                h = existing;
+        }
+
+        h[0].record(queueNanos);
+        h[1].record(serviceNanos);
+        totalQueueTime.record(queueNanos);
+        totalServiceTime.record(serviceNanos);
+    }
+
+    public String getStageName() {
+        return stageName;
+    }
+
+    /**
+     * Returns the IDs of all operations for which latencies have been recorded, in ascending order.
+     */
+    public Set<Integer> getOperationIds() {
+        return new TreeSet<Integer>(histograms.keySet());
+    }
+
+    /**
+     * Returns the queue times of an operation, or <code>null</code> if no request has been recorded for it.
+     */
+    public LatencyHistogram getQueueTime(int operationId) {
+        LatencyHistogram[] h = histograms.get(operationId);
+        return h == null ? null : h[0];
+    }
+
+    /**
+     * Returns the execution times of an operation, or <code>null</code> if no request has been recorded for
+     * it.
+     */
+    public LatencyHistogram getServiceTime(int operationId) {
+        LatencyHistogram[] h = histograms.get(operationId);
+        return h == null ? null : h[1];
+    }
+
+    /**
+     * Returns the queue times of all operations.
+     */
+    public LatencyHistogram getTotalQueueTime() {
+        return totalQueueTime;
+    }
+
+    /**
+     * Returns the execution times of all operations.
+     */
+    public LatencyHistogram getTotalServiceTime() {
+        return totalServiceTime;
+    }
+}
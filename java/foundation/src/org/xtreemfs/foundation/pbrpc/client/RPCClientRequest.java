@@ -21,6 +21,7 @@ import org.xtreemfs.foundation.pbrpc.generatedinterfaces.RPC;
 import org.xtreemfs.foundation.pbrpc.generatedinterfaces.RPC.Auth;
 import org.xtreemfs.foundation.pbrpc.generatedinterfaces.RPC.UserCredentials;
 import org.xtreemfs.foundation.pbrpc.utils.RecordMarker;
+import org.xtreemfs.foundation.trace.Tracer;
 
 
 /**
@@ -50,8 +51,13 @@ public class RPCClientRequest<ReturnType extends Message> {
             throw new IOException("No Auth object given (null). Make sure it's set.");
         }
 
-        RPC.RPCHeader.RequestHeader rqHdr = RPC.RPCHeader.RequestHeader.newBuilder().setAuthData(authHeader).setUserCreds(uCreds).
-                setInterfaceId(interfaceId).setProcId(procId).build();
+        RPC.RPCHeader.RequestHeader.Builder rqHdr = RPC.RPCHeader.RequestHeader.newBuilder().setAuthData(authHeader).setUserCreds(uCreds).
+                setInterfaceId(interfaceId).setProcId(procId);
+        // propagate the trace ID of the request on whose behalf this request is sent
+        final long traceId = Tracer.getCurrentTraceId();
+        if (traceId != 0) {
+            rqHdr.setTraceId(traceId);
+        }
         requestHeader = RPC.RPCHeader.newBuilder().setCallId(callId).setMessageType(RPC.MessageType.RPC_REQUEST).setRequestHeader(rqHdr).build();
         this.response = response;
 
@@ -10,6 +10,9 @@ package org.xtreemfs.foundation.pbrpc.client;
 
 import com.google.protobuf.Message;
 import java.io.IOException;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
 import org.xtreemfs.foundation.buffer.BufferPool;
 import org.xtreemfs.foundation.buffer.ReusableBuffer;
 
@@ -41,10 +44,21 @@ public class RPCResponse<V extends Message> implements RPCResponseListener<V> {
 
     private ReusableBuffer message, data;
 
+    /**
+     * Guards the state of the response. A java.util.concurrent lock is used instead of the monitor of this
+     * object, so that threads waiting for the response do not pin the monitor, and listeners are not executed
+     * while the lock is held.
+     */
+    private final ReentrantLock lock;
+
+    private final Condition resultAvailable;
+
 
     public RPCResponse(V responsePrototype) {
         failed = false;
         this.responsePrototype = responsePrototype;
+        this.lock = new ReentrantLock();
+        this.resultAvailable = lock.newCondition();
     }
 
     public void freeBuffers() {
@@ -53,13 +67,18 @@ public class RPCResponse<V extends Message> implements RPCResponseListener<V> {
     }
 
     public void registerListener(RPCResponseAvailableListener<V> listener) {
-        synchronized (this) {
+        boolean done;
+        lock.lock();
+        try {
             this.listener = listener;
+            done = request != null || failed;
+        } finally {
+            lock.unlock();
+        }
 
-            if (request != null || failed) {
-                //do notification
-                listener.responseAvailable(this);
-            }
+        if (done) {
+            //do notification
+            listener.responseAvailable(this);
         }
     }
 
@@ -106,9 +125,12 @@ public class RPCResponse<V extends Message> implements RPCResponseListener<V> {
     }
 
     public void waitForResult() throws InterruptedException {
-        synchronized (this) {
-            if (request == null && !failed)
-                this.wait();
+        lock.lock();
+        try {
+            while (request == null && !failed)
+                resultAvailable.await();
+        } finally {
+            lock.unlock();
         }
     }
 
@@ -116,7 +138,9 @@ public class RPCResponse<V extends Message> implements RPCResponseListener<V> {
     public void responseAvailable(RPCClientRequest<V> request, ReusableBuffer message, ReusableBuffer data) {
         if (Logging.isDebug())
             Logging.logMessage(Logging.LEVEL_DEBUG, Category.net, this, "response received");
-        synchronized (this) {
+        RPCResponseAvailableListener<V> l;
+        lock.lock();
+        try {
             /*if (TRACE_DUPLICATE_RESPONSES) {
                 if (responseTrace != null) {
                     StringBuffer strace = new StringBuffer();
@@ -132,21 +156,31 @@ public class RPCResponse<V extends Message> implements RPCResponseListener<V> {
             this.message = message;
             this.data = data;
             this.request = request;
-            if (listener != null)
-                listener.responseAvailable(this);
-            this.notify();
+            l = listener;
+            resultAvailable.signalAll();
+        } finally {
+            lock.unlock();
         }
+
+        if (l != null)
+            l.responseAvailable(this);
     }
 
     @Override
     public void requestFailed(String errorMessage) {
-        synchronized (this) {
+        RPCResponseAvailableListener<V> l;
+        lock.lock();
+        try {
             this.failed = true;
             this.errorMessage = errorMessage;
-            if (listener != null)
-                listener.responseAvailable(this);
-            this.notify();
+            l = listener;
+            resultAvailable.signalAll();
+        } finally {
+            lock.unlock();
         }
+
+        if (l != null)
+            l.responseAvailable(this);
     }
 
     /**
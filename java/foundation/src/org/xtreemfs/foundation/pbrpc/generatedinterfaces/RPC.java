@@ -3068,6 +3068,28 @@ public final class RPC {
        * </pre>
        */
       org.xtreemfs.foundation.pbrpc.generatedinterfaces.RPC.AuthOrBuilder getAuthDataOrBuilder();
+
+      // optional fixed64 trace_id = 5;
+      /**
+       * <code>optional fixed64 trace_id = 5;</code>
+       *
+       * <pre>
+       * Optional ID of the trace the request belongs to. Set if the request
+       * was sampled for tracing; propagated to all requests issued on behalf
+       * of it.
+       * </pre>
+       */
+      boolean hasTraceId();
+      /**
+       * <code>optional fixed64 trace_id = 5;</code>
+       *
+       * <pre>
+       * Optional ID of the trace the request belongs to. Set if the request
+       * was sampled for tracing; propagated to all requests issued on behalf
+       * of it.
+       * </pre>
+       */
+      long getTraceId();
     }
     /**
      * Protobuf type {@code xtreemfs.pbrpc.RPCHeader.RequestHeader}
@@ -3160,6 +3182,11 @@ public final class RPC {
                 bitField0_ |= 0x00000008;
                 break;
               }
+              case 41: {
+                bitField0_ |= 0x00000010;
+                traceId_ = input.readFixed64();
+                break;
+              }
             }
           }
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
@@ -3316,11 +3343,40 @@ public final class RPC {
         return authData_;
       }
 
+      // optional fixed64 trace_id = 5;
+      public static final int TRACE_ID_FIELD_NUMBER = 5;
+      private long traceId_;
+      /**
+       * <code>optional fixed64 trace_id = 5;</code>
+       *
+       * <pre>
+       * Optional ID of the trace the request belongs to. Set if the request
+       * was sampled for tracing; propagated to all requests issued on behalf
+       * of it.
+       * </pre>
+       */
+      public boolean hasTraceId() {
+        return ((bitField0_ & 0x00000010) == 0x00000010);
+      }
+      /**
+       * <code>optional fixed64 trace_id = 5;</code>
+       *
+       * <pre>
+       * Optional ID of the trace the request belongs to. Set if the request
+       * was sampled for tracing; propagated to all requests issued on behalf
+       * of it.
+       * </pre>
+       */
+      public long getTraceId() {
+        return traceId_;
+      }
+
       private void initFields() {
         interfaceId_ = 0;
         procId_ = 0;
         userCreds_ = org.xtreemfs.foundation.pbrpc.generatedinterfaces.RPC.UserCredentials.getDefaultInstance();
         authData_ = org.xtreemfs.foundation.pbrpc.generatedinterfaces.RPC.Auth.getDefaultInstance();
+        traceId_ = 0L;
       }
       private byte memoizedIsInitialized = -1;
       public final boolean isInitialized() {
@@ -3370,6 +3426,9 @@ public final class RPC {
         if (((bitField0_ & 0x00000008) == 0x00000008)) {
           output.writeMessage(4, authData_);
         }
+        if (((bitField0_ & 0x00000010) == 0x00000010)) {
+          output.writeFixed64(5, traceId_);
+        }
         getUnknownFields().writeTo(output);
       }
 
@@ -3395,6 +3454,10 @@ public final class RPC {
           size += com.google.protobuf.CodedOutputStream
             .computeMessageSize(4, authData_);
         }
+        if (((bitField0_ & 0x00000010) == 0x00000010)) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeFixed64Size(5, traceId_);
+        }
         size += getUnknownFields().getSerializedSize();
         memoizedSerializedSize = size;
         return size;
@@ -3533,6 +3596,8 @@ public final class RPC {
             authDataBuilder_.clear();
           }
           bitField0_ = (bitField0_ & ~0x00000008);
+          traceId_ = 0L;
+          bitField0_ = (bitField0_ & ~0x00000010);
           return this;
         }
 
@@ -3585,6 +3650,10 @@ public final class RPC {
           } else {
             result.authData_ = authDataBuilder_.build();
           }
+          if (((from_bitField0_ & 0x00000010) == 0x00000010)) {
+            to_bitField0_ |= 0x00000010;
+          }
+          result.traceId_ = traceId_;
           result.bitField0_ = to_bitField0_;
           onBuilt();
           return result;
@@ -3613,6 +3682,9 @@ public final class RPC {
           if (other.hasAuthData()) {
             mergeAuthData(other.getAuthData());
           }
+          if (other.hasTraceId()) {
+            setTraceId(other.getTraceId());
+          }
           this.mergeUnknownFields(other.getUnknownFields());
           return this;
         }
@@ -4068,6 +4140,63 @@ public final class RPC {
           return authDataBuilder_;
         }
 
+        // optional fixed64 trace_id = 5;
+        private long traceId_ ;
+        /**
+         * <code>optional fixed64 trace_id = 5;</code>
+         *
+         * <pre>
+         * Optional ID of the trace the request belongs to. Set if the request
+         * was sampled for tracing; propagated to all requests issued on behalf
+         * of it.
+         * </pre>
+         */
+        public boolean hasTraceId() {
+          return ((bitField0_ & 0x00000010) == 0x00000010);
+        }
+        /**
+         * <code>optional fixed64 trace_id = 5;</code>
+         *
+         * <pre>
+         * Optional ID of the trace the request belongs to. Set if the request
+         * was sampled for tracing; propagated to all requests issued on behalf
+         * of it.
+         * </pre>
+         */
+        public long getTraceId() {
+          return traceId_;
+        }
+        /**
+         * <code>optional fixed64 trace_id = 5;</code>
+         *
+         * <pre>
+         * Optional ID of the trace the request belongs to. Set if the request
+         * was sampled for tracing; propagated to all requests issued on behalf
+         * of it.
+         * </pre>
+         */
+        public Builder setTraceId(long value) {
+          bitField0_ |= 0x00000010;
+          traceId_ = value;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>optional fixed64 trace_id = 5;</code>
+         *
+         * <pre>
+         * Optional ID of the trace the request belongs to. Set if the request
+         * was sampled for tracing; propagated to all requests issued on behalf
+         * of it.
+         * </pre>
+         */
+        public Builder clearTraceId() {
+          bitField0_ = (bitField0_ & ~0x00000010);
+          traceId_ = 0L;
+          onChanged();
+          return this;
+        }
+
         // @@protoc_insertion_point(builder_scope:xtreemfs.pbrpc.RPCHeader.RequestHeader)
       }
 
@@ -6216,40 +6345,40 @@ public final class RPC {
       "\"y\n\004Auth\022+\n\tauth_type\030\001 \002(\0162\030.xtreemfs.p" +
       "brpc.AuthType\0221\n\013auth_passwd\030\003 \001(\0132\034.xtr" +
       "eemfs.pbrpc.AuthPassword\022\021\n\tauth_data\030\002 " +
-      "\001(\014\"\270\004\n\tRPCHeader\022\017\n\007call_id\030\001 \002(\007\0221\n\014me" +
+      "\001(\014\"\312\004\n\tRPCHeader\022\017\n\007call_id\030\001 \002(\007\0221\n\014me" +
       "ssage_type\030\002 \002(\0162\033.xtreemfs.pbrpc.Messag" +
       "eType\022?\n\016request_header\030\003 \001(\0132\'.xtreemfs" +
       ".pbrpc.RPCHeader.RequestHeader\022?\n\016error_",
       "response\030\004 \001(\0132\'.xtreemfs.pbrpc.RPCHeade" +
-      "r.ErrorResponse\032\224\001\n\rRequestHeader\022\024\n\014int" +
+      "r.ErrorResponse\032\246\001\n\rRequestHeader\022\024\n\014int" +
       "erface_id\030\001 \002(\007\022\017\n\007proc_id\030\002 \002(\007\0223\n\nuser" +
       "_creds\030\003 \002(\0132\037.xtreemfs.pbrpc.UserCreden" +
       "tials\022\'\n\tauth_data\030\004 \002(\0132\024.xtreemfs.pbrp" +
-      "c.Auth\032\315\001\n\rErrorResponse\022-\n\nerror_type\030\001" +
-      " \002(\0162\031.xtreemfs.pbrpc.ErrorType\022A\n\013posix" +
-      "_errno\030\002 \001(\0162\032.xtreemfs.pbrpc.POSIXErrno" +
-      ":\020POSIX_ERROR_NONE\022\025\n\rerror_message\030\003 \001(" +
-      "\t\022\022\n\ndebug_info\030\004 \001(\t\022\037\n\027redirect_to_ser",
-      "ver_uuid\030\005 \001(\t*P\n\013MessageType\022\017\n\013RPC_REQ" +
-      "UEST\020\000\022\030\n\024RPC_RESPONSE_SUCCESS\020\001\022\026\n\022RPC_" +
-      "RESPONSE_ERROR\020\002*,\n\010AuthType\022\r\n\tAUTH_NON" +
-      "E\020\000\022\021\n\rAUTH_PASSWORD\020\001*\261\001\n\tErrorType\022\030\n\024" +
-      "INVALID_INTERFACE_ID\020\001\022\023\n\017INVALID_PROC_I" +
-      "D\020\002\022\020\n\014GARBAGE_ARGS\020\003\022\017\n\013AUTH_FAILED\020\004\022\031" +
-      "\n\025INTERNAL_SERVER_ERROR\020\005\022\t\n\005ERRNO\020\006\022\014\n\010" +
-      "REDIRECT\020\007\022\020\n\014INVALID_VIEW\020\010\022\014\n\010IO_ERROR" +
-      "\020d*\212\003\n\nPOSIXErrno\022\025\n\020POSIX_ERROR_NONE\020\217N" +
-      "\022\025\n\021POSIX_ERROR_EPERM\020\001\022\026\n\022POSIX_ERROR_E",
-      "NOENT\020\002\022\025\n\021POSIX_ERROR_EINTR\020\004\022\023\n\017POSIX_" +
-      "ERROR_EIO\020\005\022\026\n\022POSIX_ERROR_EAGAIN\020\013\022\026\n\022P" +
-      "OSIX_ERROR_EACCES\020\r\022\026\n\022POSIX_ERROR_EEXIS" +
-      "T\020\021\022\025\n\021POSIX_ERROR_EXDEV\020\022\022\026\n\022POSIX_ERRO" +
-      "R_ENODEV\020\023\022\027\n\023POSIX_ERROR_ENOTDIR\020\024\022\026\n\022P" +
-      "OSIX_ERROR_EISDIR\020\025\022\026\n\022POSIX_ERROR_EINVA" +
-      "L\020\026\022\026\n\022POSIX_ERROR_ENOSPC\020\034\022\031\n\025POSIX_ERR" +
-      "OR_ENOTEMPTY\020\'\022\027\n\023POSIX_ERROR_ENODATA\020=B" +
-      "3\n1org.xtreemfs.foundation.pbrpc.generat" +
-      "edinterfaces"
+      "c.Auth\022\020\n\010trace_id\030\005 \001(\006\032\315\001\n\rErrorRespon" +
+      "se\022-\n\nerror_type\030\001 \002(\0162\031.xtreemfs.pbrpc." +
+      "ErrorType\022A\n\013posix_errno\030\002 \001(\0162\032.xtreemf" +
+      "s.pbrpc.POSIXErrno:\020POSIX_ERROR_NONE\022\025\n\r" +
+      "error_message\030\003 \001(\t\022\022\n\ndebug_info\030\004 \001(\t\022",
+      "\037\n\027redirect_to_server_uuid\030\005 \001(\t*P\n\013Mess" +
+      "ageType\022\017\n\013RPC_REQUEST\020\000\022\030\n\024RPC_RESPONSE" +
+      "_SUCCESS\020\001\022\026\n\022RPC_RESPONSE_ERROR\020\002*,\n\010Au" +
+      "thType\022\r\n\tAUTH_NONE\020\000\022\021\n\rAUTH_PASSWORD\020\001" +
+      "*\261\001\n\tErrorType\022\030\n\024INVALID_INTERFACE_ID\020\001" +
+      "\022\023\n\017INVALID_PROC_ID\020\002\022\020\n\014GARBAGE_ARGS\020\003\022" +
+      "\017\n\013AUTH_FAILED\020\004\022\031\n\025INTERNAL_SERVER_ERRO" +
+      "R\020\005\022\t\n\005ERRNO\020\006\022\014\n\010REDIRECT\020\007\022\020\n\014INVALID_" +
+      "VIEW\020\010\022\014\n\010IO_ERROR\020d*\212\003\n\nPOSIXErrno\022\025\n\020P" +
+      "OSIX_ERROR_NONE\020\217N\022\025\n\021POSIX_ERROR_EPERM\020",
+      "\001\022\026\n\022POSIX_ERROR_ENOENT\020\002\022\025\n\021POSIX_ERROR" +
+      "_EINTR\020\004\022\023\n\017POSIX_ERROR_EIO\020\005\022\026\n\022POSIX_E" +
+      "RROR_EAGAIN\020\013\022\026\n\022POSIX_ERROR_EACCES\020\r\022\026\n" +
+      "\022POSIX_ERROR_EEXIST\020\021\022\025\n\021POSIX_ERROR_EXD" +
+      "EV\020\022\022\026\n\022POSIX_ERROR_ENODEV\020\023\022\027\n\023POSIX_ER" +
+      "ROR_ENOTDIR\020\024\022\026\n\022POSIX_ERROR_EISDIR\020\025\022\026\n" +
+      "\022POSIX_ERROR_EINVAL\020\026\022\026\n\022POSIX_ERROR_ENO" +
+      "SPC\020\034\022\031\n\025POSIX_ERROR_ENOTEMPTY\020\'\022\027\n\023POSI" +
+      "X_ERROR_ENODATA\020=B3\n1org.xtreemfs.founda" +
+      "tion.pbrpc.generatedinterfaces"
     };
     com.google.protobuf.Descriptors.FileDescriptor.InternalDescriptorAssigner assigner =
       new com.google.protobuf.Descriptors.FileDescriptor.InternalDescriptorAssigner() {
@@ -6285,7 +6414,7 @@ public final class RPC {
           internal_static_xtreemfs_pbrpc_RPCHeader_RequestHeader_fieldAccessorTable = new
             com.google.protobuf.GeneratedMessage.FieldAccessorTable(
               internal_static_xtreemfs_pbrpc_RPCHeader_RequestHeader_descriptor,
-              new java.lang.String[] { "InterfaceId", "ProcId", "UserCreds", "AuthData", });
+              new java.lang.String[] { "InterfaceId", "ProcId", "UserCreds", "AuthData", "TraceId", });
           internal_static_xtreemfs_pbrpc_RPCHeader_ErrorResponse_descriptor =
             internal_static_xtreemfs_pbrpc_RPCHeader_descriptor.getNestedTypes().get(1);
           internal_static_xtreemfs_pbrpc_RPCHeader_ErrorResponse_fieldAccessorTable = new
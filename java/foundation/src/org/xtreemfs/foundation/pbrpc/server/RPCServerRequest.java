@@ -16,6 +16,7 @@ import org.xtreemfs.foundation.buffer.ReusableBuffer;
 import org.xtreemfs.foundation.logging.Logging;
 import org.xtreemfs.foundation.pbrpc.utils.ReusableBufferInputStream;
 import org.xtreemfs.foundation.pbrpc.generatedinterfaces.RPC;
+import org.xtreemfs.foundation.trace.Tracer;
 
 /**
  *
@@ -27,30 +28,57 @@ public class RPCServerRequest {
     private ReusableBuffer message;
     private ReusableBuffer data;
     private final RPCServerConnectionInterface connection;
+    private final long     receiveNanos;
+    private final long     traceId;
 
     public RPCServerRequest(RPCServerConnectionInterface connection, ReusableBuffer headerBuffer, ReusableBuffer message, ReusableBuffer data) throws IOException {
+        this.receiveNanos = System.nanoTime();
         try {
             ReusableBufferInputStream rbis = new ReusableBufferInputStream(headerBuffer);
             header = RPC.RPCHeader.parseFrom(rbis);
             this.message = message;
             this.data = data;
             this.connection = connection;
+            this.traceId = getTraceId(header);
         } finally {
             BufferPool.free(headerBuffer);
         }
     }
 
     public RPCServerRequest(RPCServerConnectionInterface connection, RPC.RPCHeader header, ReusableBuffer message) {
+        this.receiveNanos = System.nanoTime();
         this.header = header;
         this.message = message;
         this.data = null;
         this.connection = connection;
+        this.traceId = getTraceId(header);
+    }
+
+    private static long getTraceId(RPC.RPCHeader header) {
+        if (header.getMessageType() != RPC.MessageType.RPC_REQUEST) {
+            return 0;
+        }
+        return header.getRequestHeader().hasTraceId() ? header.getRequestHeader().getTraceId() : Tracer.sample();
     }
 
     public RPC.RPCHeader getHeader() {
         return header;
     }
 
+    /**
+     * @return the value of {@link System#nanoTime()} when the request was received
+     */
+    public long getReceiveNanos() {
+        return receiveNanos;
+    }
+
+    /**
+     * @return the ID of the trace the request belongs to, or 0 if the request is not traced
+     */
+    public long getTraceId() {
+        return traceId;
+    }
+
     /**
      * @return the message
      */
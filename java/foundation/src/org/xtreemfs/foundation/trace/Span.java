@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2015 by Zuse Institute Berlin
+ *
+ * Licensed under the BSD License, see LICENSE file for details.
+ *
+ */
+
+package org.xtreemfs.foundation.trace;
+
+/**
+ * The processing of a traced request by a single component, e.g. a stage of a service.
+ */
+public class Span {
+
+    private final long   traceId;
+
+    private final long   startTime;
+
+    private final String component;
+
+    private final String operation;
+
+    private final long   queueMicros;
+
+    private final long   serviceMicros;
+
+    public Span(long traceId, long startTime, String component, String operation, long queueMicros,
+        long serviceMicros) {
+        this.traceId = traceId;
+        this.startTime = startTime;
+        this.component = component;
+        this.operation = operation;
+        this.queueMicros = queueMicros;
+        this.serviceMicros = serviceMicros;
+    }
+
+    public long getTraceId() {
+        return traceId;
+    }
+
+    /**
+     * Returns the time in ms since the epoch at which the request was handed over to the component.
+     */
+    public long getStartTime() {
+        return startTime;
+    }
+
+    public String getComponent() {
+        return component;
+    }
+
+    public String getOperation() {
+        return operation;
+    }
+
+    /**
+     * Returns the time in microseconds the request waited before the component started processing it.
+     */
+    public long getQueueMicros() {
+        return queueMicros;
+    }
+
+    /**
+     * Returns the time in microseconds the component needed to process the request.
+     */
+    public long getServiceMicros() {
+        return serviceMicros;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s %d %s %s queue=%dus service=%dus", Tracer.formatTraceId(traceId), startTime,
+            component, operation, queueMicros, serviceMicros);
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2015 by Zuse Institute Berlin
+ *
+ * Licensed under the BSD License, see LICENSE file for details.
+ *
+ */
+
+package org.xtreemfs.foundation.trace;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A fixed-size ring buffer of spans. Once the buffer is full, the oldest spans are overwritten.<br>
+ * NOTE: This class is thread-safe.
+ */
+class TraceBuffer {
+
+    private final AtomicReferenceArray<Span> spans;
+
+    private final AtomicLong                 next;
+
+    TraceBuffer(int capacity) {
+        this.spans = new AtomicReferenceArray<Span>(capacity);
+        this.next = new AtomicLong();
+    }
+
+    int getCapacity() {
+        return spans.length();
+    }
+
+    void add(Span span) {
+        spans.set((int) (next.getAndIncrement() % spans.length()), span);
+    }
+
+    List<Span> getSpans(long traceId) {
+        List<Span> result = new ArrayList<Span>();
+        for (int i = 0; i < spans.length(); i++) {
+            Span span = spans.get(i);
+            if (span != null && (traceId == 0 || span.getTraceId() == traceId))
+                result.add(span);
+        }
+
+        Collections.sort(result, new Comparator<Span>() {
+            @Override
+            public int compare(Span s1, Span s2) {
+                return s1.getStartTime() < s2.getStartTime() ? -1 : s1.getStartTime() == s2.getStartTime() ? 0
+                    : 1;
+            }
+        });
+        return result;
+    }
+}
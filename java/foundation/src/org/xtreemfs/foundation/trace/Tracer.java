@@ -8,103 +8,166 @@
 
 package org.xtreemfs.foundation.trace;
 
-import java.io.FileOutputStream;
-import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
 
 import org.xtreemfs.foundation.logging.Logging;
 import org.xtreemfs.foundation.logging.Logging.Category;
 
 /**
- * 
+ * Collects spans of sampled requests in an in-memory ring buffer.
+ * <p>
+ * A request is traced if it carries a trace ID in its RPC request header. Requests without trace ID are
+ * sampled at the first component that processes them (e.g. the client or the MRC/OSD receiving them), and a
+ * new trace ID is assigned. While a component processes a traced request, the trace ID is bound to the
+ * executing thread (see {@link #setCurrentTraceId(long)}), so that all RPCs sent on behalf of the request
+ * carry the same trace ID.
+ * <p>
+ * Tracing is disabled unless {@link #initialize(int, int)} has been invoked.
+ *
  * @author bjko
  */
 public class Tracer {
-    
+
+    private static final Random              random         = new Random();
+
     /**
-     * Set this to true to enable trace log file for all requests.
-     * 
-     * @attention: MUST BE SET TO FALSE FOR NORMAL OPERATIONS.
+     * the trace ID of the request processed by the current thread
      */
-    public static final boolean COLLECT_TRACES = false;
-    
-    public enum TraceEvent {
-        
-        RECEIVED('>'), RESPONSE_SENT('<'), ERROR_SENT('E');
-        
-        private final char eventType;
-        
-        TraceEvent(char eventType) {
-            this.eventType = eventType;
-        }
-        
-        public char getEventType() {
-            return this.eventType;
+    private static final ThreadLocal<long[]> currentTraceId = new ThreadLocal<long[]>() {
+        @Override
+        protected long[] initialValue() {
+            return new long[1];
         }
     };
-    
-    private static Tracer          theInstance;
-        
-    private final FileOutputStream fos;
-    
-    private Tracer(String traceFileName) throws IOException {
-        theInstance = this;
-        
-        fos = new FileOutputStream(traceFileName, true);
+
+    private static volatile TraceBuffer      buffer;
+
+    private static volatile int              samplingInterval;
+
+    /**
+     * Initialize the tracer. If several services run in the same VM, they share the trace buffer; the
+     * buffer is only replaced if a larger one is requested.
+     *
+     * @param bufferSize
+     *            max. number of spans kept in memory
+     * @param samplingInterval
+     *            one out of <code>samplingInterval</code> requests without trace ID will be traced; 0
+     *            disables sampling, but requests that already carry a trace ID are still traced
+     */
+    public static synchronized void initialize(int bufferSize, int samplingInterval) {
+        if (bufferSize <= 0)
+            return;
+
+        if (buffer == null || buffer.getCapacity() < bufferSize)
+            buffer = new TraceBuffer(bufferSize);
+        Tracer.samplingInterval = samplingInterval;
+
         if (Logging.isInfo())
-            Logging.logMessage(Logging.LEVEL_INFO, Category.misc, this,
-                "TRACING IS ENABLED, THIS WILL CAUSE PERFORMANCE TO BE REDUCED!");
-        fos.write("#requestId;internal rq sequence no;event;component;message\n".getBytes());
+            Logging.logMessage(Logging.LEVEL_INFO, Category.misc, Tracer.class,
+                "request tracing enabled (buffer size: %d spans, sampling interval: %d)", bufferSize,
+                samplingInterval);
     }
-    
+
     /**
-     * Initialize the tracer.
-     * 
-     * @param traceFileName
-     *            file name to write trace data to (append mode).
-     * @throws java.io.IOException
-     *             if the file cannot be opened
+     * Checks whether spans are being collected.
      */
-    public static void initialize(String traceFileName) throws IOException {
-        new Tracer(traceFileName);
+    public static boolean isEnabled() {
+        return buffer != null;
     }
-    
-    private void writeTraceRecord(String requestId, long intRqSeqNo, TraceEvent event, String component,
-        String message) {
-        StringBuffer sb = new StringBuffer();
-        
-        if (requestId != null)
-            sb.append(requestId);
-        
-        sb.append(';');
-        sb.append(intRqSeqNo);
-        sb.append(';');
-        sb.append(event.getEventType());
-        sb.append(';');
-        if (component != null)
-            sb.append(component);
-        sb.append(';');
-        if (message != null)
-            sb.append(message);
-        sb.append("\n");
-        try {
-            fos.write(sb.toString().getBytes());
-        } catch (IOException ex) {
-            Logging.logError(Logging.LEVEL_ERROR, this, ex);
-        }
+
+    /**
+     * Decides whether a new request is traced.
+     *
+     * @return a new trace ID if the request was sampled, 0 otherwise
+     */
+    public static long sample() {
+        final int interval = samplingInterval;
+        if (buffer == null || interval <= 0 || random.nextInt(interval) != 0)
+            return 0;
+
+        long traceId;
+        do {
+            traceId = random.nextLong();
+        } while (traceId == 0);
+        return traceId;
     }
-    
-    public static void trace(String requestId, long intRqSeqNo, TraceEvent event, String component,
-        String message) {
-        assert (theInstance != null) : "Tracer not initialized";
-        theInstance.writeTraceRecord(requestId, intRqSeqNo, event, component, message);
+
+    /**
+     * Returns the trace ID bound to the current thread, or 0 if the thread does not process a traced
+     * request.
+     */
+    public static long getCurrentTraceId() {
+        return currentTraceId.get()[0];
     }
-    
-    @Override
-    public void finalize() {
-        try {
-            fos.close();
-        } catch (IOException ex) {
-        }
+
+    /**
+     * Binds a trace ID to the current thread. Must be reset to 0 once the thread has finished processing the
+     * traced request.
+     */
+    public static void setCurrentTraceId(long traceId) {
+        currentTraceId.get()[0] = traceId;
+    }
+
+    /**
+     * Records a span that has just ended. Does nothing if the trace ID is 0 or tracing is disabled.
+     *
+     * @param traceId
+     *            the trace ID of the request
+     * @param component
+     *            the component that processed the request, e.g. a stage
+     * @param operation
+     *            the operation that was executed
+     * @param queueNanos
+     *            the time the request waited before it was processed
+     * @param serviceNanos
+     *            the time needed to process the request
+     */
+    public static void record(long traceId, String component, String operation, long queueNanos,
+        long serviceNanos) {
+        final TraceBuffer b = buffer;
+        if (b == null || traceId == 0)
+            return;
+
+        final long queueMicros = queueNanos / 1000;
+        final long serviceMicros = serviceNanos / 1000;
+        final long startTime = System.currentTimeMillis() - (queueMicros + serviceMicros) / 1000;
+        b.add(new Span(traceId, startTime, component, operation, queueMicros, serviceMicros));
+    }
+
+    /**
+     * Returns the spans currently held in the trace buffer, ordered by their start times.
+     *
+     * @param traceId
+     *            if not 0, only the spans of the given trace are returned
+     */
+    public static List<Span> getSpans(long traceId) {
+        final TraceBuffer b = buffer;
+        if (b == null)
+            return Collections.emptyList();
+        return b.getSpans(traceId);
     }
-    
+
+    /**
+     * Formats a trace ID as it is shown on status pages.
+     */
+    public static String formatTraceId(long traceId) {
+        return String.format("%016x", traceId);
+    }
+
+    /**
+     * Parses a trace ID formatted with {@link #formatTraceId(long)}.
+     */
+    public static long parseTraceId(String traceId) throws NumberFormatException {
+        if (traceId.length() == 0 || traceId.length() > 16)
+            throw new NumberFormatException("invalid trace ID: " + traceId);
+
+        // parse the two halves separately, since Long.parseLong does not accept unsigned values
+        final int split = Math.max(0, traceId.length() - 8);
+        long high = split == 0 ? 0 : Long.parseLong(traceId.substring(0, split), 16);
+        long low = Long.parseLong(traceId.substring(split), 16);
+        return (high << 32) | low;
+    }
+
 }
@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2015 by Zuse Institute Berlin
+ *
+ * Licensed under the BSD License, see LICENSE file for details.
+ *
+ */
+
+package org.xtreemfs.foundation;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Test;
+
+public class ConcurrentCacheTest {
+
+    @Test
+    public void testPutGetRemove() {
+        ConcurrentCache<String, String> cache = new ConcurrentCache<String, String>(100);
+
+        assertNull(cache.get("a"));
+        cache.put("a", "1");
+        cache.put("b", "2");
+        assertEquals("1", cache.get("a"));
+        cache.put("a", "3");
+        assertEquals("3", cache.get("a"));
+        assertEquals(2, cache.size());
+
+        assertEquals("3", cache.remove("a"));
+        assertNull(cache.get("a"));
+        assertNull(cache.remove("a"));
+        assertEquals(1, cache.size());
+
+        cache.clear();
+        assertEquals(0, cache.size());
+        assertNull(cache.get("b"));
+
+        assertEquals(2, cache.getHitCount());
+        assertEquals(3, cache.getMissCount());
+    }
+
+    @Test
+    public void testSizeBound() {
+        ConcurrentCache<Integer, Integer> cache = new ConcurrentCache<Integer, Integer>(1000);
+        for (int i = 0; i < 100000; i++)
+            cache.put(i, i);
+        assertTrue(cache.size() <= 1000);
+        assertTrue(cache.getEvictionCount() > 0);
+    }
+
+    @Test
+    public void testFrequentEntriesSurviveScan() {
+        ConcurrentCache<Integer, Integer> cache = new ConcurrentCache<Integer, Integer>(1000);
+
+        // a working set of frequently accessed entries
+        for (int round = 0; round < 5; round++) {
+            for (int i = 0; i < 500; i++) {
+                if (cache.get(i) == null)
+                    cache.put(i, i);
+            }
+        }
+
+        // a scan over more entries than fit into the cache, which are accessed only once
+        for (int i = 1000; i < 4000; i++) {
+            if (cache.get(i) == null)
+                cache.put(i, i);
+        }
+
+        int hits = 0;
+        for (int i = 0; i < 500; i++) {
+            if (cache.get(i) != null)
+                hits++;
+        }
+        assertTrue("only " + hits + " of 500 frequent entries survived", hits > 450);
+    }
+
+    @Test
+    public void testWeightBound() {
+        ConcurrentCache<String, byte[]> cache = new ConcurrentCache<String, byte[]>(100,
+            new ConcurrentCache.Weigher<String, byte[]>() {
+                @Override
+                public int weigh(String key, byte[] value) {
+                    return value.length;
+                }
+            });
+
+        cache.put("a", new byte[40]);
+        cache.put("b", new byte[40]);
+        assertEquals(2, cache.size());
+
+        // too heavy to be cached at all
+        cache.put("c", new byte[101]);
+        assertNull(cache.get("c"));
+
+        cache.put("d", new byte[40]);
+        assertEquals(2, cache.size());
+
+        // growing a cached entry beyond the bound evicts other entries or the entry itself
+        cache.put("a", new byte[100]);
+        assertTrue(cache.size() <= 1);
+    }
+
+    @Test
+    public void testConcurrentAccess() throws Exception {
+        final ConcurrentCache<Integer, Integer> cache = new ConcurrentCache<Integer, Integer>(1024);
+        final AtomicReference<Throwable> error = new AtomicReference<Throwable>();
+
+        Thread[] threads = new Thread[8];
+        for (int t = 0; t < threads.length; t++) {
+            final int seed = t;
+            threads[t] = new Thread() {
+                @Override
+                public void run() {
+                    try {
+                        for (int i = 0; i < 100000; i++) {
+                            int key = (i * 31 + seed) % 4096;
+                            Integer value = cache.get(key);
+                            if (value == null)
+                                cache.put(key, key);
+                            else if (value != key)
+                                throw new AssertionError("wrong value for key " + key + ": " + value);
+                            if (i % 100 == 0)
+                                cache.remove(key);
+                        }
+                    } catch (Throwable e) {
+                        error.set(e);
+                    }
+                }
+            };
+            threads[t].start();
+        }
+        for (Thread thread : threads)
+            thread.join();
+
+        if (error.get() != null)
+            throw new AssertionError(error.get());
+        assertTrue(cache.size() <= 1024);
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2015 by Zuse Institute Berlin
+ *
+ * Licensed under the BSD License, see LICENSE file for details.
+ *
+ */
+
+package org.xtreemfs.foundation.logging;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+
+import org.junit.Test;
+import org.xtreemfs.foundation.logging.Logging.Category;
+
+public class AsyncLogWriterTest {
+
+    @Test
+    public void testMessagesAreWrittenInOrder() throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        AsyncLogWriter writer = new AsyncLogWriter(new PrintStream(bytes), 16, 0);
+        writer.start();
+
+        for (int i = 0; i < 100; i++)
+            assertTrue(writer.append(Logging.LEVEL_DEBUG, Category.misc, this, "message %d", new Object[] { i },
+                null, false));
+        writer.shutdown();
+
+        String[] lines = bytes.toString().split("\n");
+        assertEquals(100 - writer.getDroppedMessages(), lines.length);
+        int last = -1;
+        for (String line : lines) {
+            assertTrue(line, line.startsWith("[ D | AsyncLogWriterTest"));
+            int i = Integer.parseInt(line.substring(line.indexOf("message ") + 8));
+            assertTrue(i > last);
+            last = i;
+        }
+    }
+
+    @Test
+    public void testOverflow() {
+        // the writer thread is not started, i.e. the buffer is not drained
+        AsyncLogWriter writer = new AsyncLogWriter(new PrintStream(new ByteArrayOutputStream()), 3, 0);
+        assertEquals(4, writer.getCapacity());
+
+        for (int i = 0; i < 6; i++)
+            assertTrue(writer.append(Logging.LEVEL_DEBUG, Category.misc, this, "message", null, null, false));
+        assertEquals(2, writer.getDroppedMessages());
+
+        // warnings and errors must be written by the caller if they do not fit into the buffer
+        assertFalse(writer.append(Logging.LEVEL_WARN, Category.misc, this, "warning", null, null, false));
+        assertFalse(writer.append(Logging.LEVEL_ERROR, Category.all, this, null, null, new Exception(), true));
+        assertEquals(2, writer.getDroppedMessages());
+    }
+
+    @Test
+    public void testRateLimit() {
+        AsyncLogWriter writer = new AsyncLogWriter(new PrintStream(new ByteArrayOutputStream()), 64, 5);
+
+        for (int i = 0; i < 1000; i++) {
+            writer.append(Logging.LEVEL_DEBUG, Category.net, this, "message", null, null, false);
+            writer.append(Logging.LEVEL_DEBUG, Category.stage, this, "message", null, null, false);
+        }
+
+        // at most 5 messages per category and second pass, and the loop spans at most two seconds
+        long dropped = writer.getDroppedMessages();
+        assertTrue(String.valueOf(dropped), dropped >= 2 * (1000 - 10) && dropped <= 2 * (1000 - 5));
+
+        // warnings and errors are not rate-limited
+        assertTrue(writer.append(Logging.LEVEL_ERROR, Category.stage, this, "error", null, null, false));
+        assertEquals(dropped, writer.getDroppedMessages());
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2015 by Zuse Institute Berlin
+ *
+ * Licensed under the BSD License, see LICENSE file for details.
+ *
+ */
+
+package org.xtreemfs.foundation.monitoring;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class LatencyHistogramTest {
+
+    @Test
+    public void testBucketBounds() {
+        // every value must lie within the bounds of its bucket, and the buckets must be contiguous
+        long prevUpper = -1;
+        for (long v = 0; v < 1 << 20; v++) {
+            int bucket = LatencyHistogram.getBucket(v);
+            long upper = LatencyHistogram.getBucketUpperBound(bucket);
+            assertTrue(v <= upper);
+            if (upper != prevUpper) {
+                assertEquals(prevUpper + 1, v);
+                prevUpper = upper;
+            }
+        }
+
+        // the relative error must stay below 1/16
+        for (long v = 16; v < 1L << 37; v = v * 3 + 1) {
+            long upper = LatencyHistogram.getBucketUpperBound(LatencyHistogram.getBucket(v));
+            assertTrue(upper - v <= v / 16);
+        }
+    }
+
+    @Test
+    public void testPercentiles() {
+        LatencyHistogram h = new LatencyHistogram();
+        assertEquals(0, h.getPercentile(99));
+
+        // record 1..1000 microseconds
+        for (int i = 1; i <= 1000; i++)
+            h.record(i * 1000L);
+
+        assertEquals(1000, h.getCount());
+        assertEquals(500.5, h.getMean(), 0.001);
+        assertEquals(1000, h.getMax());
+        assertEquals(1000, h.getPercentile(100));
+
+        long p50 = h.getPercentile(50);
+        assertTrue(p50 >= 500 && p50 <= 500 + 500 / 16);
+        long p99 = h.getPercentile(99);
+        assertTrue(p99 >= 990 && p99 <= 1000);
+    }
+
+    @Test
+    public void testOperationLatencies() {
+        OperationLatencies latencies = new OperationLatencies("test");
+        latencies.record(5, 1000, 2000);
+        latencies.record(5, 3000, 4000);
+        latencies.record(OperationLatencies.INTERNAL_OPERATION, 0, 100000);
+
+        assertEquals(2, latencies.getOperationIds().size());
+        assertEquals(2, latencies.getServiceTime(5).getCount());
+        assertEquals(4, latencies.getServiceTime(5).getMax());
+        assertEquals(3, latencies.getQueueTime(5).getMax());
+        assertNull(latencies.getServiceTime(6));
+        assertEquals(3, latencies.getTotalServiceTime().getCount());
+        assertEquals(100, latencies.getTotalServiceTime().getMax());
+    }
+}
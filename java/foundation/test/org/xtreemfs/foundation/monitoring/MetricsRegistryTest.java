@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2015 by Zuse Institute Berlin
+ *
+ * Licensed under the BSD License, see LICENSE file for details.
+ *
+ */
+
+package org.xtreemfs.foundation.monitoring;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+import org.xtreemfs.foundation.monitoring.MetricsRegistry.Collector;
+import org.xtreemfs.foundation.monitoring.MetricsRegistry.Gauge;
+
+public class MetricsRegistryTest {
+
+    @Test
+    public void testCountersAndGauges() {
+        MetricsRegistry registry = new MetricsRegistry();
+        Counter counter = registry.newCounter("test_requests_total", "Number of requests.");
+        registry.registerGauge("test_queue_length", "Queue length.", new Gauge() {
+            @Override
+            public long getValue() {
+                return 7;
+            }
+        });
+        counter.inc();
+        counter.add(2);
+
+        assertEquals("# HELP test_requests_total Number of requests.\n"
+                + "# TYPE test_requests_total counter\n"
+                + "test_requests_total 3\n"
+                + "# HELP test_queue_length Queue length.\n"
+                + "# TYPE test_queue_length gauge\n"
+                + "test_queue_length 7\n", registry.scrape());
+    }
+
+    @Test
+    public void testLabels() {
+        MetricsRegistry registry = new MetricsRegistry();
+        registry.register(new Collector() {
+            @Override
+            public void collect(MetricsWriter writer) {
+                writer.family("test_bytes", "Help with \\ and\nnewline.", "gauge");
+                writer.sample("test_bytes", new String[] { "stage", "a\"b", "op", "x\\y" }, 1);
+            }
+        });
+
+        assertEquals("# HELP test_bytes Help with \\\\ and\\nnewline.\n"
+                + "# TYPE test_bytes gauge\n"
+                + "test_bytes{stage=\"a\\\"b\",op=\"x\\\\y\"} 1\n", registry.scrape());
+    }
+
+    @Test
+    public void testSummary() {
+        MetricsRegistry registry = new MetricsRegistry();
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 0; i < 100; i++)
+            histogram.record(1000000);
+        registry.registerHistogram("test_seconds", "Latency.", histogram);
+
+        String output = registry.scrape();
+        assertTrue(output.contains("# TYPE test_seconds summary\n"));
+        assertTrue(output.contains("test_seconds{quantile=\"0.5\"} "));
+        assertTrue(output.contains("test_seconds{quantile=\"0.999\"} "));
+        assertTrue(output.contains("test_seconds_sum 0.1\n"));
+        assertTrue(output.contains("test_seconds_count 100\n"));
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2015 by Zuse Institute Berlin
+ *
+ * Licensed under the BSD License, see LICENSE file for details.
+ *
+ */
+
+package org.xtreemfs.foundation.trace;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+
+import org.junit.Test;
+
+public class TracerTest {
+
+    @Test
+    public void testRingBuffer() {
+        TraceBuffer buffer = new TraceBuffer(4);
+        for (int i = 1; i <= 6; i++)
+            buffer.add(new Span(i % 2 + 1, i, "stage", "op" + i, 0, i));
+
+        // the two oldest spans must have been overwritten
+        List<Span> spans = buffer.getSpans(0);
+        assertEquals(4, spans.size());
+        for (int i = 0; i < spans.size(); i++)
+            assertEquals("op" + (i + 3), spans.get(i).getOperation());
+
+        spans = buffer.getSpans(2);
+        assertEquals(2, spans.size());
+        assertEquals("op3", spans.get(0).getOperation());
+        assertEquals("op5", spans.get(1).getOperation());
+    }
+
+    @Test
+    public void testTraceIdFormat() {
+        for (long id : new long[] { 1, 0xabcdefL, -1, Long.MIN_VALUE, 0x123456789abcdef0L }) {
+            String s = Tracer.formatTraceId(id);
+            assertEquals(16, s.length());
+            assertEquals(id, Tracer.parseTraceId(s));
+        }
+        assertEquals(0xffL, Tracer.parseTraceId("ff"));
+    }
+
+    @Test
+    public void testCurrentTraceId() throws Exception {
+        Tracer.setCurrentTraceId(42);
+        final long[] other = new long[] { -1 };
+        Thread t = new Thread() {
+            @Override
+            public void run() {
+                other[0] = Tracer.getCurrentTraceId();
+            }
+        };
+        t.start();
+        t.join();
+
+        assertEquals(42, Tracer.getCurrentTraceId());
+        assertEquals(0, other[0]);
+        Tracer.setCurrentTraceId(0);
+
+        Tracer.initialize(100, 1);
+        try {
+            long traceId = Tracer.sample();
+            assertTrue(traceId != 0);
+            Tracer.record(traceId, "stage", "op", 1000, 2000);
+            List<Span> spans = Tracer.getSpans(traceId);
+            assertEquals(1, spans.size());
+            assertEquals(1, spans.get(0).getQueueMicros());
+            assertEquals(2, spans.get(0).getServiceMicros());
+        } finally {
+            // disable sampling for subsequent tests
+            Tracer.initialize(100, 0);
+        }
+    }
+}
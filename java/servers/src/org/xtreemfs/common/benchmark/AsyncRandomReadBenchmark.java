@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2015 by Zuse Institute Berlin
+ *
+ * Licensed under the BSD License, see LICENSE file for details.
+ *
+ */
+
+package org.xtreemfs.common.benchmark;
+
+import org.xtreemfs.common.libxtreemfs.AdminClient;
+import org.xtreemfs.common.libxtreemfs.AsyncResult;
+import org.xtreemfs.common.libxtreemfs.FileHandle;
+import org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes;
+
+import java.io.IOException;
+import java.util.LinkedList;
+
+/**
+ * Class implementing a random IO read benchmark with asynchronous requests.
+ * <p/>
+ * Like the {@link RandomReadBenchmark}, small blocks with random offsets are read from a large basefile. Instead of
+ * blocking the benchmark thread for every read, up to {@link BenchmarkConfig#getAsyncRequests()} reads are kept in
+ * flight by a single thread. Comparing the results with a {@link RandomReadBenchmark} with the same number of
+ * parallel threads shows how well the client scales with the number of concurrent requests rather than with the
+ * number of threads.
+ */
+class AsyncRandomReadBenchmark extends RandomOffsetbasedBenchmark {
+
+    private final int asyncRequests;
+
+    AsyncRandomReadBenchmark(long size, BenchmarkConfig config, AdminClient client, VolumeManager volumeManager)
+            throws Exception {
+        super(size, config, client, volumeManager);
+        asyncRequests = config.getAsyncRequests();
+    }
+
+    /* Called within the benchmark method. Performs the actual reading of data from the volume. */
+    @Override
+    long performIO(byte[] data, long numberOfBlocks) throws IOException {
+
+        numberOfBlocks = convertTo4KiBBlocks(numberOfBlocks);
+        long byteCounter = 0;
+
+        FileHandle fileHandle = volume.openFile(config.getUserCredentials(), BASFILE_FILENAME,
+                GlobalTypes.SYSTEM_V_FCNTL.SYSTEM_V_FCNTL_H_O_RDONLY.getNumber());
+        try {
+            /* every request in flight needs its own buffer */
+            LinkedList<byte[]> buffers = new LinkedList<byte[]>();
+            for (int i = 0; i < asyncRequests; i++) {
+                buffers.add(new byte[RANDOM_IO_BLOCKSIZE]);
+            }
+
+            LinkedList<AsyncResult<Integer>> inFlight = new LinkedList<AsyncResult<Integer>>();
+            LinkedList<byte[]> inFlightBuffers = new LinkedList<byte[]>();
+            for (long j = 0; !cancelled && j < numberOfBlocks; j++) {
+                if (buffers.isEmpty()) {
+                    /* wait for the oldest request to reuse its buffer */
+                    byteCounter += inFlight.removeFirst().waitForResult();
+                    buffers.add(inFlightBuffers.removeFirst());
+                }
+                byte[] buffer = buffers.removeFirst();
+                inFlight.add(fileHandle.readAsync(config.getUserCredentials(), buffer, 0, RANDOM_IO_BLOCKSIZE,
+                        generateNextRandomOffset()));
+                inFlightBuffers.add(buffer);
+            }
+
+            for (AsyncResult<Integer> result : inFlight) {
+                byteCounter += result.waitForResult();
+            }
+        } finally {
+            fileHandle.close();
+        }
+        return byteCounter;
+    }
+
+}
@@ -43,6 +43,7 @@ public class BenchmarkConfig extends ServiceConfig {
             Parameter.ADMIN_PASSWORD,
             Parameter.BASEFILE_SIZE_IN_BYTES,
             Parameter.FILESIZE,
+            Parameter.ASYNC_REQUESTS,
             Parameter.USERNAME,
             Parameter.GROUP,
             Parameter.OSD_SELECTION_POLICIES,
@@ -123,6 +124,15 @@ public class BenchmarkConfig extends ServiceConfig {
         return (Integer) parameter.get(Parameter.FILESIZE);
     }
 
+    /**
+     * Get the number of requests a benchmark with asynchronous requests keeps in flight. <br/>
+     * Default: 64.
+     * @return the number of asynchronous requests in flight
+     */
+    public Integer getAsyncRequests(){
+        return (Integer) parameter.get(Parameter.ASYNC_REQUESTS);
+    }
+
     /**
      * Get the username to be used when creating files and volumes <br/>
      * Default: benchmark.
@@ -444,6 +454,20 @@ public class BenchmarkConfig extends ServiceConfig {
             return this;
         }
 
+        /**
+         * Set the number of requests a benchmark with asynchronous requests keeps in flight. <br/>
+         * Default: 64.
+         *
+         * @param asyncRequests
+         * @return the builder
+         */
+        public ConfigBuilder setAsyncRequests(int asyncRequests) {
+            if (asyncRequests < 1)
+                throw new IllegalArgumentException("asyncRequests < 1 not allowed");
+            props.setProperty(Parameter.ASYNC_REQUESTS.getPropertyString(), Integer.toString(asyncRequests));
+            return this;
+        }
+
         /**
          * Set the username to be used when creating files and volumes <br/>
          * Default: benchmark.
@@ -38,6 +38,9 @@ class BenchmarkFactory {
         case RAND_READ:
             benchmark = new RandomReadBenchmark(size, config, client, volumeManager);
             break;
+        case RAND_READ_ASYNC:
+            benchmark = new AsyncRandomReadBenchmark(size, config, client, volumeManager);
+            break;
         case FILES_WRITE:
             benchmark = new FilebasedWriteBenchmark(size, config, client, volumeManager);
             break;
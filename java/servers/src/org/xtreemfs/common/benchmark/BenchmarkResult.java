@@ -63,6 +63,7 @@ public class BenchmarkResult implements Comparable<BenchmarkResult> {
      * <li>SEQ_READ: Sequential read benchmark</li>
      * <li>RAND_WRITE: Random write benchmark</li>
      * <li>RAND_READ: Random read benchmark</li>
+     * <li>RAND_READ_ASYNC: Random read benchmark with asynchronous requests</li>
      * <li>FILES_WRITE: Filebased write benchmark</li>
      * <li>FILES_READ: Filebased read benchmark</li>
      * </ul>
@@ -131,7 +132,7 @@ public class BenchmarkResult implements Comparable<BenchmarkResult> {
      */
     public boolean isReadBenchmark(){
         return benchmarkType == BenchmarkType.SEQ_READ || benchmarkType == BenchmarkType.RAND_READ
-                || benchmarkType == BenchmarkType.FILES_READ;
+                || benchmarkType == BenchmarkType.RAND_READ_ASYNC || benchmarkType == BenchmarkType.FILES_READ;
     }
 
     public boolean isFailed() {
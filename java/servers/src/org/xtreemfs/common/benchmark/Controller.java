@@ -135,6 +135,19 @@ public class Controller {
         return startBenchmark(size, numberOfThreads, BenchmarkType.RAND_READ);
     }
 
+    /**
+     * Starts random read benchmarks with asynchronous requests with the parameters specified in the
+     * {@link BenchmarkConfig}. Each benchmark thread keeps {@link BenchmarkConfig#getAsyncRequests()} reads in
+     * flight. <br/>
+     *
+     * @return the results of the benchmark (see {@link BenchmarkResult})
+     * @throws Exception
+     */
+    public ArrayList<BenchmarkResult> startAsyncRandomReadBenchmark(long size, int numberOfThreads) throws Exception {
+        verifySizesAndThreads(size, numberOfThreads, BenchmarkType.RAND_READ_ASYNC);
+        return startBenchmark(size, numberOfThreads, BenchmarkType.RAND_READ_ASYNC);
+    }
+
     /**
      * Starts filebased write benchmarks with the parameters specified in the {@link BenchmarkConfig}. <br/>
      *
@@ -210,7 +223,8 @@ public class Controller {
             if (size < config.getChunkSizeInBytes())
                 throw new IllegalArgumentException("Chunksize < size of " + type);
         }
-        if ((type == BenchmarkType.RAND_READ) || (type == BenchmarkType.RAND_WRITE)) {
+        if ((type == BenchmarkType.RAND_READ) || (type == BenchmarkType.RAND_READ_ASYNC)
+                || (type == BenchmarkType.RAND_WRITE)) {
             if (config.getBasefileSizeInBytes() < size)
                 throw new IllegalArgumentException("Basefile < size of " + type);
             if (size < config.getChunkSizeInBytes())
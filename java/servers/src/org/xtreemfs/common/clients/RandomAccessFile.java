@@ -578,15 +578,14 @@ public class RandomAccessFile {
             for (String osdUUID : replica.getOsdUuidsList()) {
                 ServiceUUID osd = new ServiceUUID(osdUUID, parentVolume.uuidResolver);
 
-                r = osdClient.xtreemfs_internal_get_object_set(osd.getAddress(), RPCAuthentication.authNone, RPCAuthentication.userService, credentials, fileId);
+                r = osdClient.xtreemfs_internal_get_object_set(osd.getAddress(), RPCAuthentication.authNone, RPCAuthentication.userService, credentials, fileId, ObjectSet.LATEST_FORMAT);
                 ObjectList ol = r.get();
                 r.freeBuffers();
                 r = null;
 
-                byte[] serializedBitSet = ol.getSet().toByteArray();
                 ObjectSet oset = null;
                 try {
-                     oset = new ObjectSet(replicaNo, replicaNo, serializedBitSet);
+                     oset = new ObjectSet(replicaNo, replicaNo, ol);
                 } catch (Exception ex) {
                     throw new IOException("cannot deserialize object set: "+ex,ex);
                 }
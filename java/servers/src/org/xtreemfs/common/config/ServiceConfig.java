@@ -36,6 +36,8 @@ public class ServiceConfig extends Config {
          */
         DEBUG_LEVEL("debug.level", 6, Integer.class, false),
         DEBUG_CATEGORIES("debug.categories", debugCategoryDefault, Category[].class, false),
+        DEBUG_ASYNC_BUFFER_SIZE("debug.async_buffer_size", 0, Integer.class, false),
+        DEBUG_RATE_LIMIT("debug.rate_limit", 0, Integer.class, false),
         DIRECTORY_SERVICE("dir_service.host", null, InetSocketAddress.class, true),
         DIRECTORY_SERVICE0("dir_service.0.host", null, InetSocketAddress.class, false),
         DIRECTORY_SERVICE1("dir_service.1.host", null, InetSocketAddress.class, false),
@@ -70,6 +72,11 @@ public class ServiceConfig extends Config {
         MAX_REQUEST_QUEUE_LENGTH("max_requests_queue_length", 1000, Integer.class, false),
         USE_MULTIHOMING("multihoming.enabled", false, Boolean.class, false),
         USE_RENEWAL_SIGNAL("multihoming.renewal_signal", false, Boolean.class, false ),
+        TRACING_ENABLED("tracing.enabled", false, Boolean.class, false),
+        /** One out of tracing.sampling_interval requests that do not belong to a trace yet is traced. */
+        TRACING_SAMPLING_INTERVAL("tracing.sampling_interval", 1000, Integer.class, false),
+        /** Max. number of spans kept in memory. */
+        TRACING_BUFFER_SIZE("tracing.buffer_size", 10000, Integer.class, false),
 
         /*
          * DIR specific configuration parameter
@@ -113,6 +120,8 @@ public class ServiceConfig extends Config {
         /** Message timeout. Maximum allowed in-transit time for a Flease message. */
         FLEASE_MESSAGE_TO_MS("flease.message_to_ms", 500, Integer.class, false),
         FLEASE_RETRIES("flease.retries", 3, Integer.class, false),
+        /** Maximum number of Flease messages for the same OSD that are sent as one message. 1 disables batching. */
+        FLEASE_MESSAGE_BATCH_SIZE("flease.message_batch_size", 1, Integer.class, false),
         SOCKET_SEND_BUFFER_SIZE("socket.send_buffer_size", -1, Integer.class, false),
         SOCKET_RECEIVE_BUFFER_SIZE("socket.recv_buffer_size", -1, Integer.class, false),
         VIVALDI_RECALCULATION_INTERVAL_IN_MS("vivaldi.recalculation_interval_ms", 300000, Integer.class, false),
@@ -123,12 +132,18 @@ public class ServiceConfig extends Config {
         VIVALDI_TIMER_INTERVAL_IN_MS("vivaldi.timer_interval_ms", 60000, Integer.class, false),
         STORAGE_THREADS("storage_threads", 1, Integer.class, false),
         HEALTH_CHECK("health_check", "", String.class, false),
+        SCRUBBER_ENABLED("scrubber.enabled", false, Boolean.class, false),
+        /** Maximum number of objects per second the background scrubber verifies. */
+        SCRUBBER_OBJECTS_PER_SECOND("scrubber.objects_per_second", 100, Integer.class, false),
+        /** Pause between two subsequent scrubs of all local files. */
+        SCRUBBER_INTERVAL_S("scrubber.interval_s", 86400, Integer.class, false),
 
         /*
          * Benchmark specific configuration parameter
          */
         BASEFILE_SIZE_IN_BYTES("basefilesize_in_bytes", 3221225472L, Long.class, false), // 3221225472L = 3 GiB
         FILESIZE("filesize", 4096, Integer.class, false), // 4096 = 4 KiB
+        ASYNC_REQUESTS("async_requests", 64, Integer.class, false),
         USERNAME("username", "benchmark", String.class, false),
         GROUP("group", "benchmark", String.class, false),
         OSD_SELECTION_POLICIES("osd_selection_policies", "", String.class, false),
@@ -577,6 +592,14 @@ public class ServiceConfig extends Config {
         return (Category[]) parameter.get(Parameter.DEBUG_CATEGORIES);
     }
 
+    public int getDebugAsyncBufferSize() {
+        return (Integer) parameter.get(Parameter.DEBUG_ASYNC_BUFFER_SIZE);
+    }
+
+    public int getDebugRateLimit() {
+        return (Integer) parameter.get(Parameter.DEBUG_RATE_LIMIT);
+    }
+
     public int getPort() {
         return (Integer) parameter.get(Parameter.PORT);
     }
@@ -783,4 +806,16 @@ public class ServiceConfig extends Config {
     public boolean isUsingMultihoming() {
         return (Boolean) parameter.get(Parameter.USE_MULTIHOMING);
     }
+
+    public boolean isTracingEnabled() {
+        return (Boolean) parameter.get(Parameter.TRACING_ENABLED);
+    }
+
+    public int getTracingSamplingInterval() {
+        return (Integer) parameter.get(Parameter.TRACING_SAMPLING_INTERVAL);
+    }
+
+    public int getTracingBufferSize() {
+        return (Integer) parameter.get(Parameter.TRACING_BUFFER_SIZE);
+    }
 }
@@ -0,0 +1,291 @@
+/*
+ * Copyright (c) 2015 by Zuse Institute Berlin
+ *
+ * Licensed under the BSD License, see LICENSE file for details.
+ *
+ */
+package org.xtreemfs.common.libxtreemfs;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.xtreemfs.foundation.logging.Logging;
+import org.xtreemfs.foundation.logging.Logging.Category;
+
+/**
+ * Result of an asynchronous libxtreemfs operation.
+ * <p>
+ * Besides blocking on the result with {@link #get()} or {@link #waitForResult()}, listeners can be registered that
+ * are notified when the operation has completed. Listeners are usually executed by the network thread of the RPC
+ * client that received the last response of the operation. Therefore, they must neither block nor call synchronous
+ * libxtreemfs methods.
+ * <p>
+ * Operations cannot be cancelled once they have been started.
+ */
+public class AsyncResult<V> implements Future<V> {
+
+    /**
+     * Transforms the result of an operation, e.g. by updating caches with it. Like listeners, transformations must
+     * not block.
+     */
+    abstract static class Transformation<A, B> {
+        abstract B apply(A input) throws IOException;
+    }
+
+    private V                            result;
+
+    private IOException                  error;
+
+    private boolean                      done;
+
+    private List<AsyncResultListener<V>> listeners;
+
+    AsyncResult() {
+    }
+
+    /**
+     * Returns an AsyncResult that has already succeeded with "result".
+     */
+    static <V> AsyncResult<V> succeeded(V result) {
+        AsyncResult<V> asyncResult = new AsyncResult<V>();
+        asyncResult.succeed(result);
+        return asyncResult;
+    }
+
+    /**
+     * Returns an AsyncResult that has already failed with "error".
+     */
+    static <V> AsyncResult<V> failed(IOException error) {
+        AsyncResult<V> asyncResult = new AsyncResult<V>();
+        asyncResult.fail(error);
+        return asyncResult;
+    }
+
+    /**
+     * Registers a listener that is notified when the operation has completed. If the operation has completed
+     * already, the listener is notified immediately by the calling thread.
+     */
+    public void addListener(AsyncResultListener<V> listener) {
+        synchronized (this) {
+            if (!done) {
+                if (listeners == null) {
+                    listeners = new ArrayList<AsyncResultListener<V>>(1);
+                }
+                listeners.add(listener);
+                return;
+            }
+        }
+        notifyListener(listener);
+    }
+
+    /**
+     * Blocks until the operation has completed and returns its result, or throws the exception the operation
+     * failed with.
+     */
+    public V waitForResult() throws IOException {
+        try {
+            synchronized (this) {
+                while (!done) {
+                    wait();
+                }
+            }
+        } catch (InterruptedException e) {
+            throw new InterruptedIOException("interrupted while waiting for the result of an asynchronous operation");
+        }
+        if (error != null) {
+            throw error;
+        }
+        return result;
+    }
+
+    @Override
+    public V get() throws InterruptedException, ExecutionException {
+        synchronized (this) {
+            while (!done) {
+                wait();
+            }
+        }
+        return getNow();
+    }
+
+    @Override
+    public V get(long timeout, TimeUnit unit) throws InterruptedException, ExecutionException, TimeoutException {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        synchronized (this) {
+            while (!done) {
+                long remainingNanos = deadline - System.nanoTime();
+                if (remainingNanos <= 0) {
+                    throw new TimeoutException();
+                }
+                TimeUnit.NANOSECONDS.timedWait(this, remainingNanos);
+            }
+        }
+        return getNow();
+    }
+
+    private V getNow() throws ExecutionException {
+        if (error != null) {
+            throw new ExecutionException(error);
+        }
+        return result;
+    }
+
+    @Override
+    public synchronized boolean isDone() {
+        return done;
+    }
+
+    @Override
+    public boolean cancel(boolean mayInterruptIfRunning) {
+        return false;
+    }
+
+    @Override
+    public boolean isCancelled() {
+        return false;
+    }
+
+    /**
+     * Completes the operation successfully. Has no effect if the operation has completed already.
+     */
+    void succeed(V result) {
+        complete(result, null);
+    }
+
+    /**
+     * Completes the operation with an error. Has no effect if the operation has completed already.
+     */
+    void fail(IOException error) {
+        complete(null, error);
+    }
+
+    /**
+     * Completes the operation with the result of "other" once it has completed.
+     */
+    void completeWith(AsyncResult<V> other) {
+        other.addListener(new AsyncResultListener<V>() {
+            @Override
+            public void succeeded(V result) {
+                succeed(result);
+            }
+
+            @Override
+            public void failed(IOException error) {
+                fail(error);
+            }
+        });
+    }
+
+    private void complete(V result, IOException error) {
+        List<AsyncResultListener<V>> toNotify;
+        synchronized (this) {
+            if (done) {
+                return;
+            }
+            this.result = result;
+            this.error = error;
+            this.done = true;
+            toNotify = listeners;
+            listeners = null;
+            notifyAll();
+        }
+
+        if (toNotify != null) {
+            for (AsyncResultListener<V> listener : toNotify) {
+                notifyListener(listener);
+            }
+        }
+    }
+
+    private void notifyListener(AsyncResultListener<V> listener) {
+        try {
+            if (error != null) {
+                listener.failed(error);
+            } else {
+                listener.succeeded(result);
+            }
+        } catch (RuntimeException e) {
+            Logging.logMessage(Logging.LEVEL_ERROR, Category.misc, this,
+                    "listener of asynchronous operation failed: %s", e.toString());
+            Logging.logError(Logging.LEVEL_ERROR, this, e);
+        }
+    }
+
+    /**
+     * Returns an AsyncResult that completes with the transformed result of this operation. If this operation
+     * fails, or the transformation throws an exception, the returned result fails.
+     */
+    <T> AsyncResult<T> transform(final Transformation<V, T> transformation) {
+        final AsyncResult<T> transformed = new AsyncResult<T>();
+        addListener(new AsyncResultListener<V>() {
+            @Override
+            public void succeeded(V result) {
+                try {
+                    transformed.succeed(transformation.apply(result));
+                } catch (IOException e) {
+                    transformed.fail(e);
+                } catch (RuntimeException e) {
+                    transformed.fail(new IOException(e));
+                }
+            }
+
+            @Override
+            public void failed(IOException error) {
+                transformed.fail(error);
+            }
+        });
+        return transformed;
+    }
+
+    /**
+     * Returns an AsyncResult that completes with the results of all given operations, in the same order. It fails
+     * with the first error once all operations have completed.
+     */
+    static <T> AsyncResult<List<T>> all(final List<AsyncResult<T>> results) {
+        final AsyncResult<List<T>> all = new AsyncResult<List<T>>();
+        if (results.isEmpty()) {
+            all.succeed(new ArrayList<T>(0));
+            return all;
+        }
+
+        final AtomicInteger pending = new AtomicInteger(results.size());
+        for (AsyncResult<T> result : results) {
+            result.addListener(new AsyncResultListener<T>() {
+                @Override
+                public void succeeded(T result) {
+                    finished();
+                }
+
+                @Override
+                public void failed(IOException error) {
+                    finished();
+                }
+
+                private void finished() {
+                    if (pending.decrementAndGet() > 0) {
+                        return;
+                    }
+
+                    List<T> values = new ArrayList<T>(results.size());
+                    for (AsyncResult<T> result : results) {
+                        // All results are done, i.e. accessing them does not block.
+                        if (result.error != null) {
+                            all.fail(result.error);
+                            return;
+                        }
+                        values.add(result.result);
+                    }
+                    all.succeed(values);
+                }
+            });
+        }
+        return all;
+    }
+}
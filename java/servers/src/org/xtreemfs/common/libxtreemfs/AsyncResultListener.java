@@ -0,0 +1,27 @@
+/*
+ * Copyright (c) 2015 by Zuse Institute Berlin
+ *
+ * Licensed under the BSD License, see LICENSE file for details.
+ *
+ */
+package org.xtreemfs.common.libxtreemfs;
+
+import java.io.IOException;
+
+/**
+ * Is notified when an asynchronous libxtreemfs operation has completed. Listeners are usually executed by the
+ * network thread of the RPC client, i.e. they must not block.
+ */
+public interface AsyncResultListener<V> {
+
+    /**
+     * Called when the operation has completed successfully.
+     */
+    public void succeeded(V result);
+
+    /**
+     * Called when the operation has failed. "error" is the exception the synchronous variant of the operation
+     * would have thrown.
+     */
+    public void failed(IOException error);
+}
@@ -11,6 +11,8 @@ import java.io.IOException;
 import java.net.InetSocketAddress;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
 
 import org.xtreemfs.common.libxtreemfs.exceptions.AddressToUUIDNotFoundException;
 import org.xtreemfs.common.libxtreemfs.exceptions.UUIDIteratorListIsEmpyException;
@@ -48,41 +50,58 @@ public class AsyncWriteHandler {
     /**
      * State of this object.
      */
-// JCIP     @GuardedBy("this")
+// JCIP     @GuardedBy("lock")
     private State                  state;
 
     /**
      * List of pending writes.
      */
     // TODO(mberlin): Limit the size of writes in flight to avoid flooding.
-// JCIP     @GuardedBy("this")
+// JCIP     @GuardedBy("lock")
     private List<AsyncWriteBuffer> writesInFlight;
 
     /**
      * Number of pending bytes.
      */
-// JCIP     @GuardedBy("this")
+// JCIP     @GuardedBy("lock")
     private int                    pendingBytes;
 
     /**
      * Set by WaitForPendingWrites() to true if there are temporarily no new async writes allowed and will be
      * set to false again once the state IDLE is reached.
      */
-// JCIP     @GuardedBy("this")
+// JCIP     @GuardedBy("lock")
     private boolean                writingPaused;
 
+    /**
+     * Guards the state of this object. java.util.concurrent locks are used instead of monitors, so that
+     * threads blocked by write() or waitForPendingWrites() do not pin a monitor.
+     */
+    private final ReentrantLock    lock;
+
+    /**
+     * Used to notify blocked write() callers that the number of pending bytes was decreased.
+     */
+    private final Condition        pendingBytesWereDecreased;
+
     /**
      * Used to notify blocked WaitForPendingWrites() callers for the state change back to IDLE.
      */
-    private Object                 allPendingWritesDidComplete;
+    private final Condition        allPendingWritesDidComplete;
 
     /**
      * Number of threads blocked by WaitForPendingWrites() waiting on allPendingWritesDidComplete for a state
      * change back to IDLE.
      */
-// JCIP     @GuardedBy("this")
+// JCIP     @GuardedBy("lock")
     private int                    waitingBlockingThreadsCount;
 
+    /**
+     * Results returned by pendingWritesCompleted() which complete on the state change back to IDLE.
+     */
+// JCIP     @GuardedBy("lock")
+    private List<AsyncResult<Void>> pendingWritesCompletedResults;
+
     /**
      * FileInfo object to which this AsyncWriteHandler does belong. Accessed for file size updates.
      */
@@ -143,7 +162,9 @@ public class AsyncWriteHandler {
         this.maxWriteTries = maxWriteTries;
 
         writesInFlight = new ArrayList<AsyncWriteBuffer>();
-        allPendingWritesDidComplete = new Object();
+        lock = new ReentrantLock();
+        pendingBytesWereDecreased = lock.newCondition();
+        allPendingWritesDidComplete = lock.newCondition();
         state = State.IDLE;
     }
 
@@ -164,18 +185,17 @@ public class AsyncWriteHandler {
         }
 
         // append to the list of write in flight
-        synchronized (this) {
+        lock.lock();
+        try {
             while (writingPaused || (pendingBytes + writeBuffer.getDataLength()) > maxWriteahead
                     || writesInFlight.size() == maxWriteaheadRequests) {
                 // TODO: Allow interruption and set the write status of the FileHandle of the
                 // interrupted write to an error state.
-                try {
-                    this.wait();
-                } catch (InterruptedException e) {
-                    // TODO: handle exception
-                }
+                pendingBytesWereDecreased.awaitUninterruptibly();
             }
             increasePendingBytesHelper(writeBuffer);
+        } finally {
+            lock.unlock();
         }
 
         String osdUuid = retrieveOSDUuidAndSetItInWriteBuffer(writeBuffer);
@@ -247,28 +267,45 @@ public class AsyncWriteHandler {
      * calls.
      */
     protected void waitForPendingWrites() {
-        synchronized (this) {
-            if (state != State.IDLE) {
-                writingPaused = false;
-                waitingBlockingThreadsCount++;
-            } else {
+        lock.lock();
+        try {
+            if (state == State.IDLE) {
                 return;
             }
-        }
+            writingPaused = false;
+            waitingBlockingThreadsCount++;
 
-        while (state != State.IDLE) {
-            synchronized (allPendingWritesDidComplete) {
-                try {
-                    allPendingWritesDidComplete.wait();
-                } catch (InterruptedException e) {
-                    // TODO: REALLY handle exception.
-                    e.printStackTrace();
-                }
+            while (state != State.IDLE) {
+                // TODO: Allow interruption.
+                allPendingWritesDidComplete.awaitUninterruptibly();
             }
-        }
 
-        synchronized (this) {
             waitingBlockingThreadsCount--;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Non-blocking variant of waitForPendingWrites(): returns a result that completes once the state changes back
+     * to IDLE. Unlike waitForPendingWrites(), further writes are not paused. The result is completed by the
+     * network thread that processed the last pending write.
+     */
+    protected AsyncResult<Void> pendingWritesCompleted() {
+        lock.lock();
+        try {
+            if (state == State.IDLE) {
+                return AsyncResult.succeeded(null);
+            }
+
+            AsyncResult<Void> result = new AsyncResult<Void>();
+            if (pendingWritesCompletedResults == null) {
+                pendingWritesCompletedResults = new ArrayList<AsyncResult<Void>>(1);
+            }
+            pendingWritesCompletedResults.add(result);
+            return result;
+        } finally {
+            lock.unlock();
         }
     }
 
@@ -288,6 +325,8 @@ public class AsyncWriteHandler {
     /**
      * Helper function which adds "writeBuffer" to the list "writesInFlight", increases the number of pending
      * bytes and takes care of state changes.
+     * 
+     * @remark Requires a lock on "lock".
      */
     protected void increasePendingBytesHelper(AsyncWriteBuffer writeBuffer) {
         assert (writeBuffer != null);
@@ -305,45 +344,57 @@ public class AsyncWriteHandler {
      * reduces the number of pending bytes and takes care of state changes.
      * 
      * @remark Ownership of "writeBuffer" is transferred to the caller.
-     * @remark Requires a lock on "asyncWriteHandlerLock".
      */
-    private synchronized void decreasePendingBytesHelper(AsyncWriteBuffer writeBuffer) {
+    private void decreasePendingBytesHelper(AsyncWriteBuffer writeBuffer) {
         assert (writeBuffer != null);
 
-        writesInFlight.remove(writeBuffer);
-        pendingBytes -= writeBuffer.getDataLength();
+        List<AsyncResult<Void>> toComplete = null;
+        lock.lock();
+        try {
+            writesInFlight.remove(writeBuffer);
+            pendingBytes -= writeBuffer.getDataLength();
 
-        if (pendingBytes == 0) {
-            state = State.IDLE;
-            if (writingPaused) {
-                writingPaused = false;
-            }
-            // Issue notifyAll() as long as there are remaining blocked threads.
-            //
-            // Please note the following here: After the two notifyAll()s on the
-            // condition variables "allPendingWritesDidComplete and
-            // pendingBytesWereDecreased, two different thread types
-            // (waiting blocked ones AND further waiting writes) do race for
-            // re-acquiring the lock on mutex_.
-            // Example:
-            // T1: write1 "state" = PENDING
-            // T2: getattr "writingPaused" = true => blocked as "state" != IDLE
-            // T1: write2 => blocked as "writingPaused" = true
-            // Tx: write1 callback: "state" = IDLE, writing_paused_ = false
-            // T1: write2 succeeds to obtain lock on mutex_ *before* getattr
-            // => state = IDLE (writing_paused_ remains false)
-            // Tx: write2 callback: state = IDLE, writing paused remains false
-            // - however its necessary to notify the blocked getattr.
-            // As you can see the order of concurrent writes and reads/getattrs
-            // is undefined and we don't enforce any order as it's up to the user to
-            // synchronize his threads himself when working on the same file.
-            if (waitingBlockingThreadsCount > 0) {
-                synchronized (allPendingWritesDidComplete) {
-                    allPendingWritesDidComplete.notifyAll();
+            if (pendingBytes == 0) {
+                state = State.IDLE;
+                if (writingPaused) {
+                    writingPaused = false;
+                }
+                // Issue signalAll() as long as there are remaining blocked threads.
+                //
+                // Please note the following here: After the two signalAll()s on the
+                // condition variables "allPendingWritesDidComplete and
+                // pendingBytesWereDecreased, two different thread types
+                // (waiting blocked ones AND further waiting writes) do race for
+                // re-acquiring "lock".
+                // Example:
+                // T1: write1 "state" = PENDING
+                // T2: getattr "writingPaused" = true => blocked as "state" != IDLE
+                // T1: write2 => blocked as "writingPaused" = true
+                // Tx: write1 callback: "state" = IDLE, writing_paused_ = false
+                // T1: write2 succeeds to obtain "lock" *before* getattr
+                // => state = IDLE (writing_paused_ remains false)
+                // Tx: write2 callback: state = IDLE, writing paused remains false
+                // - however its necessary to notify the blocked getattr.
+                // As you can see the order of concurrent writes and reads/getattrs
+                // is undefined and we don't enforce any order as it's up to the user to
+                // synchronize his threads himself when working on the same file.
+                if (waitingBlockingThreadsCount > 0) {
+                    allPendingWritesDidComplete.signalAll();
                 }
+                toComplete = pendingWritesCompletedResults;
+                pendingWritesCompletedResults = null;
+            }
+            // Tell blocked writers there may be enough space/writing was unpaused now.
+            pendingBytesWereDecreased.signalAll();
+        } finally {
+            lock.unlock();
+        }
+
+        // Complete the results without holding the lock, as they notify listeners.
+        if (toComplete != null) {
+            for (AsyncResult<Void> result : toComplete) {
+                result.succeed(null);
             }
         }
-        // Tell blocked writers there may be enough space/writing was unpaused now.
-        this.notifyAll();
     }
 }
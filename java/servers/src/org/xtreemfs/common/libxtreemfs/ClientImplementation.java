@@ -37,6 +37,7 @@ import org.xtreemfs.foundation.pbrpc.generatedinterfaces.RPC.Auth;
 import org.xtreemfs.foundation.pbrpc.generatedinterfaces.RPC.AuthPassword;
 import org.xtreemfs.foundation.pbrpc.generatedinterfaces.RPC.AuthType;
 import org.xtreemfs.foundation.pbrpc.generatedinterfaces.RPC.UserCredentials;
+import org.xtreemfs.foundation.trace.Tracer;
 import org.xtreemfs.pbrpc.generatedinterfaces.Common.emptyRequest;
 import org.xtreemfs.pbrpc.generatedinterfaces.Common.emptyResponse;
 import org.xtreemfs.pbrpc.generatedinterfaces.DIR.Service;
@@ -168,6 +169,10 @@ public class ClientImplementation implements UUIDResolver, Client, AdminClient {
         TimeSync tsInstance = TimeSync.initializeLocal(50);
         tsInstance.waitForStartup();
 
+        if (options.getTracingSamplingInterval() > 0) {
+            Tracer.initialize(options.getTracingBufferSize(), options.getTracingSamplingInterval());
+        }
+
         this.dirServiceClient = new DIRServiceClient(this.networkClient, null);
 
         osdServiceClient = new OSDServiceClient(networkClient, null);
@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2015 by Zuse Institute Berlin
+ *
+ * Licensed under the BSD License, see LICENSE file for details.
+ *
+ */
+package org.xtreemfs.common.libxtreemfs;
+
+import java.io.IOException;
+import java.util.NoSuchElementException;
+
+import org.xtreemfs.common.libxtreemfs.exceptions.AddressToUUIDNotFoundException;
+import org.xtreemfs.common.libxtreemfs.exceptions.PosixErrorException;
+import org.xtreemfs.foundation.pbrpc.generatedinterfaces.RPC.UserCredentials;
+import org.xtreemfs.pbrpc.generatedinterfaces.MRC.DirectoryEntries;
+
+/**
+ * Iterates over the pages of a directory listing. Each page is retrieved from the MRC when it is requested,
+ * i.e. only one page of the directory is held in memory at a time.
+ * <p>
+ * Subsequent pages are requested with the continuation cursor returned by the MRC, so that the MRC does not
+ * have to skip the entries of all previous pages. If the MRC does not return a cursor, pages are requested by
+ * their offset.
+ */
+public class DirectoryEntriesIterator {
+
+    private final VolumeImplementation volume;
+
+    private final UserCredentials      userCredentials;
+
+    private final String               path;
+
+    private final int                  pageSize;
+
+    private final boolean              namesOnly;
+
+    /**
+     * Number of entries returned so far.
+     */
+    private int                        offset;
+
+    /**
+     * Continuation cursor of the last page, or null if the next page has to be requested by its offset.
+     */
+    private String                     cursor;
+
+    private boolean                    finished;
+
+    DirectoryEntriesIterator(VolumeImplementation volume, UserCredentials userCredentials, String path,
+            int pageSize, boolean namesOnly) {
+        this.volume = volume;
+        this.userCredentials = userCredentials;
+        this.path = path;
+        this.pageSize = pageSize;
+        this.namesOnly = namesOnly;
+    }
+
+    /**
+     * Returns true if there may be more entries. The last page returned by {@link #next()} may be empty.
+     */
+    public boolean hasNext() {
+        return !finished;
+    }
+
+    /**
+     * Retrieves the next page of directory entries from the MRC.
+     *
+     * @throws AddressToUUIDNotFoundException
+     * @throws {@link IOException}
+     * @throws PosixErrorException
+     * @throws NoSuchElementException
+     *             if the listing is complete.
+     */
+    public DirectoryEntries next() throws IOException, PosixErrorException, AddressToUUIDNotFoundException {
+        if (finished) {
+            throw new NoSuchElementException();
+        }
+
+        DirectoryEntries page = volume.readDirChunk(userCredentials, path, offset, cursor, pageSize, namesOnly);
+
+        offset += page.getEntriesCount();
+        cursor = page.hasContinuationCursor() ? page.getContinuationCursor() : null;
+        if (page.getEntriesCount() < pageSize) {
+            finished = true;
+        }
+        return page;
+    }
+}
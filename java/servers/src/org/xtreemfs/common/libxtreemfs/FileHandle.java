@@ -65,6 +65,19 @@ public interface FileHandle {
     public int read(UserCredentials userCredentials, byte[] data, int dataOffset, int count, long offset)
             throws IOException, PosixErrorException, AddressToUUIDNotFoundException;
 
+    /**
+     * Asynchronous variant of {@link #read(UserCredentials, byte[], int, int, long)}. The objects covered by
+     * the request are read from the OSDs in parallel. "data" must not be accessed before the returned result
+     * has completed.
+     * 
+     * Pending asynchronous writes are waited for before the read requests are sent. If the view of the file
+     * is outdated, the returned result fails instead of renewing the view and retrying the read.
+     * 
+     * @return Result which completes with the number of bytes read.
+     */
+    public AsyncResult<Integer> readAsync(UserCredentials userCredentials, byte[] data, int dataOffset,
+            int count, long offset);
+
     /**
      * Write to a file 'count' bytes at file offset 'offset' from 'buf'.
      * 
@@ -124,6 +137,19 @@ public interface FileHandle {
     public int write(UserCredentials userCredentials, byte[] data, int dataOffset, int count,
             long offset) throws IOException, PosixErrorException, AddressToUUIDNotFoundException;
 
+    /**
+     * Asynchronous variant of {@link #write(UserCredentials, byte[], int, int, long)}. The objects covered by
+     * the request are written to the OSDs in parallel. "data" must not be modified before the returned result
+     * has completed.
+     * 
+     * If asynchronous writes are enabled, the data is handed over to the asynchronous write handler as by
+     * write(), and the returned result is completed immediately (see the @attention of write()).
+     * 
+     * @return Result which completes with the number of bytes written.
+     */
+    public AsyncResult<Integer> writeAsync(UserCredentials userCredentials, byte[] data, int dataOffset,
+            int count, long offset);
+
     /**
      * Flushes pending writes and file size updates (corresponds to a fsync() system call).
      * 
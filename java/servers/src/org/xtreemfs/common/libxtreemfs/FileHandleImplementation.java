@@ -8,6 +8,7 @@ package org.xtreemfs.common.libxtreemfs;
 
 import java.io.IOException;
 import java.net.InetSocketAddress;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Vector;
@@ -31,6 +32,7 @@ import org.xtreemfs.foundation.pbrpc.client.RPCResponseAvailableListener;
 import org.xtreemfs.foundation.pbrpc.generatedinterfaces.RPC.Auth;
 import org.xtreemfs.foundation.pbrpc.generatedinterfaces.RPC.POSIXErrno;
 import org.xtreemfs.foundation.pbrpc.generatedinterfaces.RPC.UserCredentials;
+import org.xtreemfs.foundation.trace.Tracer;
 import org.xtreemfs.osd.replication.ObjectSet;
 import org.xtreemfs.pbrpc.generatedinterfaces.Common.emptyResponse;
 import org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials;
@@ -347,6 +349,136 @@ public class FileHandleImplementation implements FileHandle, AdminFileHandle {
         return receivedData;
     }
 
+    /*
+     * (non-Javadoc)
+     * 
+     * @see org.xtreemfs.common.libxtreemfs.FileHandle#readAsync(org.xtreemfs.foundation.pbrpc.generatedinterfaces.
+     * RPC.UserCredentials, byte[], int, int, long)
+     */
+    @Override
+    public AsyncResult<Integer> readAsync(final UserCredentials userCredentials, final byte[] data,
+            final int dataOffset, final int count, final long offset) {
+        AsyncResult<Void> writesCompleted = fileInfo.pendingAsyncWritesCompleted();
+        if (writesCompleted.isDone()) {
+            return doReadAsync(userCredentials, data, dataOffset, count, offset);
+        }
+
+        // Read once the pending writes are finished. The read is not started by the network thread that completes
+        // the writes, as it may have to resolve UUIDs.
+        final long traceId = Tracer.getCurrentTraceId();
+        final AsyncResult<Integer> read = new AsyncResult<Integer>();
+        writesCompleted.addListener(new AsyncResultListener<Void>() {
+            @Override
+            public void succeeded(Void result) {
+                RPCCaller.executeAsync(new Runnable() {
+                    @Override
+                    public void run() {
+                        Tracer.setCurrentTraceId(traceId);
+                        try {
+                            read.completeWith(doReadAsync(userCredentials, data, dataOffset, count, offset));
+                        } finally {
+                            Tracer.setCurrentTraceId(0);
+                        }
+                    }
+                });
+            }
+
+            @Override
+            public void failed(IOException error) {
+                read.fail(error);
+            }
+        });
+        return read;
+    }
+
+    private AsyncResult<Integer> doReadAsync(UserCredentials userCredentials, byte[] data, int dataOffset,
+            int count, long offset) {
+        FileCredentials.Builder fcBuilder = FileCredentials.newBuilder();
+        synchronized (this) {
+            if (asyncWritesFailed) {
+                return AsyncResult.failed(new PosixErrorException(POSIXErrno.POSIX_ERROR_EIO, "A previous"
+                        + " asynchronous write did fail. No more actions on this file handle are allowed."));
+            }
+            fcBuilder.setXcap(xcap.toBuilder());
+        }
+        FileCredentials fc = fcBuilder.setXlocs(fileInfo.getXLocSet()).build();
+
+        if (fc.getXlocs().getReplicasCount() == 0) {
+            Logging.logMessage(Logging.LEVEL_ERROR, Category.misc, this, "No replica found for file %s",
+                    fileInfo.getPath());
+            return AsyncResult.failed(new PosixErrorException(POSIXErrno.POSIX_ERROR_EIO,
+                    "no replica found for file: " + fileInfo.getPath()));
+        }
+
+        StripingPolicy policy = fc.getXlocs().getReplicas(0).getStripingPolicy();
+        Vector<ReadOperation> operations = new Vector<ReadOperation>();
+        try {
+            getStripeTranslator(policy.getType()).translateReadRequest(count, offset, policy, operations);
+        } catch (IOException e) {
+            return AsyncResult.failed(e);
+        }
+
+        // Read all objects in parallel. Each object is read into its own view of "data".
+        List<AsyncResult<Integer>> objectsRead = new ArrayList<AsyncResult<Integer>>(operations.size());
+        for (ReadOperation operation : operations) {
+            readRequest request = readRequest.newBuilder().setFileCredentials(fc)
+                    .setFileId(fc.getXcap().getFileId()).setObjectNumber(operation.getObjNumber())
+                    .setObjectVersion(0).setOffset(operation.getReqOffset()).setLength(operation.getReqSize())
+                    .build();
+
+            // Differ between striping and the rest (replication, no replication).
+            UUIDIterator uuidIterator;
+            if (fc.getXlocs().getReplicas(0).getOsdUuidsCount() > 1) {
+                // Replica is striped. Pick UUID from xlocset. Unlike in doRead(), the iterator cannot be
+                // shared between the objects, as they are read concurrently.
+                uuidIterator = new UUIDIterator();
+                int stripeWidthFirstReplica = policy.getWidth();
+                for (int replicaIdx = 0; replicaIdx < fc.getXlocs().getReplicasCount(); replicaIdx++) {
+                    if (fc.getXlocs().getReplicas(replicaIdx).getStripingPolicy().getWidth() == stripeWidthFirstReplica) {
+                        uuidIterator.addUUID(Helper.getOSDUUIDFromXlocSet(fc.getXlocs(), replicaIdx,
+                                operation.getOsdOffset()));
+                    }
+                }
+            } else {
+                uuidIterator = osdUuidIterator;
+            }
+
+            final ReusableBuffer buf = ReusableBuffer.wrap(data, dataOffset + operation.getBufferStart(),
+                    operation.getReqSize());
+            AsyncResult<ObjectData> objectData = RPCCaller.<readRequest, ObjectData> asyncCall(SERVICES.OSD,
+                    userCredentialsBogus, authBogus, volumeOptions, uuidResolver, uuidIterator, false, request, buf,
+                    new CallGenerator<readRequest, ObjectData>() {
+                        @Override
+                        public RPCResponse<ObjectData> executeCall(InetSocketAddress server, Auth auth,
+                                UserCredentials userCreds, readRequest callRequest) throws IOException {
+                            return osdServiceClient.read(server, auth, userCreds, callRequest);
+                        }
+                    });
+
+            objectsRead.add(objectData.transform(new AsyncResult.Transformation<ObjectData, Integer>() {
+                @Override
+                Integer apply(ObjectData objectData) {
+                    // if zeropadding > 0, put zeros at the end of the buffer.
+                    for (int i = 0; i < objectData.getZeroPadding(); i++) {
+                        buf.put((byte) 0);
+                    }
+                    return buf.position();
+                }
+            }));
+        }
+
+        return AsyncResult.all(objectsRead).transform(new AsyncResult.Transformation<List<Integer>, Integer>() {
+            @Override
+            Integer apply(List<Integer> objectsRead) {
+                int receivedData = 0;
+                for (int objectRead : objectsRead) {
+                    receivedData += objectRead;
+                }
+                return receivedData;
+            }
+        });
+    }
+
     /*
      * (non-Javadoc)
      * 
@@ -498,6 +630,102 @@ public class FileHandleImplementation implements FileHandle, AdminFileHandle {
         return count;
     }
 
+    /*
+     * (non-Javadoc)
+     * 
+     * @see org.xtreemfs.common.libxtreemfs.FileHandle#writeAsync(org.xtreemfs.foundation.pbrpc.generatedinterfaces.
+     * RPC.UserCredentials, byte[], int, int, long)
+     */
+    @Override
+    public AsyncResult<Integer> writeAsync(UserCredentials userCredentials, byte[] data, int dataOffset,
+            final int count, long offset) {
+        if (asyncWritesEnabled) {
+            // The asynchronous write handler does not block unless the maximum number of pending writes is
+            // reached.
+            try {
+                return AsyncResult.succeeded(write(userCredentials, data, dataOffset, count, offset));
+            } catch (IOException e) {
+                return AsyncResult.failed(e);
+            }
+        }
+
+        FileCredentials.Builder fcBuilder = FileCredentials.newBuilder();
+        synchronized (this) {
+            if (asyncWritesFailed) {
+                return AsyncResult.failed(new PosixErrorException(POSIXErrno.POSIX_ERROR_EIO, "A previous "
+                        + "asynchronous write did fail. No further writes on this file handle are allowed."));
+            }
+            fcBuilder.setXcap(xcap.toBuilder());
+        }
+        final FileCredentials fileCredentials = fcBuilder.setXlocs(fileInfo.getXLocSet()).build();
+        XLocSet xlocs = fileCredentials.getXlocs();
+
+        if (xlocs.getReplicasCount() == 0) {
+            String error = "No replica found for file: " + fileInfo.getPath();
+            Logging.logMessage(Logging.LEVEL_ERROR, Category.misc, this, error);
+            return AsyncResult.failed(new PosixErrorException(POSIXErrno.POSIX_ERROR_EIO, error));
+        }
+
+        // Map operation to stripes.
+        Vector<WriteOperation> operations = new Vector<WriteOperation>();
+        StripingPolicy stripingPolicy = xlocs.getReplicas(0).getStripingPolicy();
+        try {
+            getStripeTranslator(stripingPolicy.getType()).translateWriteRequest(count, offset, stripingPolicy,
+                    ReusableBuffer.wrap(data, dataOffset, count), operations);
+        } catch (IOException e) {
+            return AsyncResult.failed(e);
+        }
+
+        // Write all objects in parallel.
+        List<AsyncResult<OSDWriteResponse>> objectsWritten = new ArrayList<AsyncResult<OSDWriteResponse>>(
+                operations.size());
+        for (WriteOperation operation : operations) {
+            ObjectData objectData = ObjectData.newBuilder().setChecksum(0).setInvalidChecksumOnOsd(false)
+                    .setZeroPadding(0).build();
+            writeRequest request = writeRequest.newBuilder().setFileCredentials(fileCredentials)
+                    .setFileId(fileCredentials.getXcap().getFileId()).setObjectNumber(operation.getObjNumber())
+                    .setObjectVersion(0).setOffset(operation.getReqOffset()).setLeaseTimeout(0)
+                    .setObjectData(objectData).build();
+
+            // Differ between striping and the rest (replication, no replication).
+            UUIDIterator uuidIterator;
+            if (xlocs.getReplicas(0).getOsdUuidsCount() > 1) {
+                // Replica is striped. Pick UUID from Xlocset. Use first and only replica.
+                uuidIterator = new UUIDIterator();
+                uuidIterator.clearAndAddUUID(Helper.getOSDUUIDFromXlocSet(xlocs, 0, operation.getOsdOffset()));
+            } else {
+                uuidIterator = osdUuidIterator;
+            }
+
+            final ReusableBuffer writeDataBuffer = operation.getReqData();
+            objectsWritten.add(RPCCaller.<writeRequest, OSDWriteResponse> asyncCall(SERVICES.OSD,
+                    userCredentials, authBogus, volumeOptions, uuidResolver, uuidIterator, false, request, null,
+                    new CallGenerator<writeRequest, OSDWriteResponse>() {
+                        @Override
+                        public RPCResponse<OSDWriteResponse> executeCall(InetSocketAddress server,
+                                Auth authHeader, UserCredentials userCreds, writeRequest input) throws IOException {
+                            return osdServiceClient.write(server, authHeader, userCreds, input,
+                                    writeDataBuffer.createViewBuffer());
+                        }
+                    }));
+        }
+
+        return AsyncResult.all(objectsWritten).transform(
+                new AsyncResult.Transformation<List<OSDWriteResponse>, Integer>() {
+                    @Override
+                    Integer apply(List<OSDWriteResponse> responses) {
+                        // If the filesize has changed, remember OSDWriteResponse for later file size
+                        // update towards the MRC (executed by PeriodicFileSizeUpdateThread).
+                        for (OSDWriteResponse response : responses) {
+                            if (response != null && response.hasSizeInBytes()) {
+                                fileInfo.tryToUpdateOSDWriteResponse(response, fileCredentials.getXcap());
+                            }
+                        }
+                        return count;
+                    }
+                });
+    }
+
     /*
      * (non-Javadoc)
      * 
@@ -934,29 +1162,16 @@ public class FileHandleImplementation implements FileHandle, AdminFileHandle {
     }
 
     protected void writeBackFileSizeAsync() throws IOException, PosixErrorException, AddressToUUIDNotFoundException {
-        xtreemfs_update_file_sizeRequest.Builder rqBuilder = xtreemfs_update_file_sizeRequest.newBuilder();
-
-        synchronized (this) {
-            if (osdWriteResponseForAsyncWriteBack == null) {
-                return;
-            }
-            if (Logging.isDebug()) {
-                Logging.logMessage(Logging.LEVEL_DEBUG, Category.misc, this, "updateFileSize: %s " + "#bytes: %s",
-                        fileInfo.getPath(), osdWriteResponseForAsyncWriteBack.getSizeInBytes());
-            }
-            rqBuilder.setXcap(xcap).setOsdWriteResponse(osdWriteResponseForAsyncWriteBack.toBuilder());
+        xtreemfs_update_file_sizeRequest request = getFileSizeUpdateRequest();
+        if (request == null) {
+            return;
         }
 
-        // set close file to false because true implies synchronous call.
-        rqBuilder.setCloseFile(false);
-
         String address = uuidResolver.uuidToAddress(mrcUuidIterator.getUUID());
         InetSocketAddress server = RPCCaller.getInetSocketAddressFromAddress(address, SERVICES.MRC);
 
         RPCResponse<timestampResponse> r = mrcServiceClient.xtreemfs_update_file_size(server, authBogus,
-                userCredentialsBogus, rqBuilder.build());
-
-        final FileHandleImplementation fileHandle = this;
+                userCredentialsBogus, request);
 
         r.registerListener(new RPCResponseAvailableListener<timestampResponse>() {
 
@@ -964,13 +1179,13 @@ public class FileHandleImplementation implements FileHandle, AdminFileHandle {
             public void responseAvailable(RPCResponse<timestampResponse> r) {
                 try {
                     r.get();
-                    fileInfo.asyncFileSizeUpdateResponseHandler(osdWriteResponseForAsyncWriteBack, fileHandle, true);
+                    fileSizeUpdateFinished(true);
                 } catch (Exception e) {
                     if (Logging.isDebug()) {
                         Logging.logMessage(Logging.LEVEL_DEBUG, this, "renewXcapAsync: The following "
                                 + "error occurred during the async all: ", e.getMessage());
                     }
-                    fileInfo.asyncFileSizeUpdateResponseHandler(osdWriteResponseForAsyncWriteBack, fileHandle, false);
+                    fileSizeUpdateFinished(false);
                 } finally {
                     r.freeBuffers();
                 }
@@ -978,6 +1193,36 @@ public class FileHandleImplementation implements FileHandle, AdminFileHandle {
         });
     }
 
+    /**
+     * Returns the request for an asynchronous file size update with the OSDWriteResponse of this (temporary)
+     * file handle, or null if there is none.
+     */
+    protected xtreemfs_update_file_sizeRequest getFileSizeUpdateRequest() {
+        xtreemfs_update_file_sizeRequest.Builder rqBuilder = xtreemfs_update_file_sizeRequest.newBuilder();
+
+        synchronized (this) {
+            if (osdWriteResponseForAsyncWriteBack == null) {
+                return null;
+            }
+            if (Logging.isDebug()) {
+                Logging.logMessage(Logging.LEVEL_DEBUG, Category.misc, this, "updateFileSize: %s " + "#bytes: %s",
+                        fileInfo.getPath(), osdWriteResponseForAsyncWriteBack.getSizeInBytes());
+            }
+            rqBuilder.setXcap(xcap).setOsdWriteResponse(osdWriteResponseForAsyncWriteBack.toBuilder());
+        }
+
+        // set close file to false because true implies synchronous call.
+        rqBuilder.setCloseFile(false);
+        return rqBuilder.build();
+    }
+
+    /**
+     * Has to be called when the asynchronous file size update of this (temporary) file handle is completed.
+     */
+    protected void fileSizeUpdateFinished(boolean success) {
+        fileInfo.asyncFileSizeUpdateResponseHandler(osdWriteResponseForAsyncWriteBack, this, success);
+    }
+
     protected void setOsdWriteResponseForAsyncWriteBack(OSDWriteResponse osdwr) {
         synchronized (this) {
             assert (osdWriteResponseForAsyncWriteBack == null);
@@ -986,22 +1231,7 @@ public class FileHandleImplementation implements FileHandle, AdminFileHandle {
     }
 
     protected void renewXCapAsync() throws IOException, AddressToUUIDNotFoundException {
-        XCap xcapCopy;
-
-        synchronized (this) {
-            // TODO: Only renew after some time has elapsed.
-            // TODO: Cope with local clocks which have high clock skew.
-            if (Logging.isDebug()) {
-                Logging.logMessage(Logging.LEVEL_DEBUG, Category.misc, this,
-                        "Renew SCap for fileId: %s  Expiration in: %s", Helper.extractFileIdFromXcap(xcap),
-                        xcap.getExpireTimeoutS() - System.currentTimeMillis() / 1000);
-            }
-            xcapCopy = this.xcap.toBuilder().build();
-
-            synchronized (xcapRenewalPendingLock) {
-                xcapRenewalPending = true;
-            }
-        }
+        XCap xcapCopy = startXCapRenewal();
 
         String address = uuidResolver.uuidToAddress(mrcUuidIterator.getUUID());
         InetSocketAddress server = RPCCaller.getInetSocketAddressFromAddress(address, SERVICES.MRC);
@@ -1011,9 +1241,9 @@ public class FileHandleImplementation implements FileHandle, AdminFileHandle {
         r.registerListener(new RPCResponseAvailableListener<XCap>() {
             @Override
             public void responseAvailable(RPCResponse<XCap> r) {
+                XCap newXCap = null;
                 try {
-                    XCap newXCap = r.get();
-                    setRenewedXcap(newXCap);
+                    newXCap = r.get();
                 } catch (Exception e) {
                     if (Logging.isDebug()) {
                         Logging.logMessage(Logging.LEVEL_DEBUG, this, "renewXcapAsync: Renewing XCap"
@@ -1021,15 +1251,53 @@ public class FileHandleImplementation implements FileHandle, AdminFileHandle {
                     }
                 } finally {
                     r.freeBuffers();
-                    synchronized (xcapRenewalPendingLock) {
-                        xcapRenewalPending = false;
-                        xcapRenewalPendingLock.notifyAll();
-                    }
+                    finishXCapRenewal(newXCap);
                 }
             }
         });
     }
 
+    /**
+     * Marks an XCap renewal as pending and returns a copy of the current XCap, which has to be sent to the MRC.
+     * {@link #finishXCapRenewal(XCap)} has to be called once the renewal is completed or has failed.
+     */
+    protected XCap startXCapRenewal() {
+        XCap xcapCopy;
+
+        synchronized (this) {
+            // TODO: Only renew after some time has elapsed.
+            // TODO: Cope with local clocks which have high clock skew.
+            if (Logging.isDebug()) {
+                Logging.logMessage(Logging.LEVEL_DEBUG, Category.misc, this,
+                        "Renew SCap for fileId: %s  Expiration in: %s", Helper.extractFileIdFromXcap(xcap),
+                        xcap.getExpireTimeoutS() - System.currentTimeMillis() / 1000);
+            }
+            xcapCopy = this.xcap.toBuilder().build();
+
+            synchronized (xcapRenewalPendingLock) {
+                xcapRenewalPending = true;
+            }
+        }
+
+        return xcapCopy;
+    }
+
+    /**
+     * Completes a pending XCap renewal.
+     * 
+     * @param newXCap
+     *            the renewed XCap, or null if the renewal failed
+     */
+    protected void finishXCapRenewal(XCap newXCap) {
+        if (newXCap != null) {
+            setRenewedXcap(newXCap);
+        }
+        synchronized (xcapRenewalPendingLock) {
+            xcapRenewalPending = false;
+            xcapRenewalPendingLock.notifyAll();
+        }
+    }
+
     private void setRenewedXcap(XCap newXCap) {
         synchronized (xcap) {
             // Overwrite current XCap only by a newer one (i.e. later expire time)
@@ -1177,7 +1445,8 @@ public class FileHandleImplementation implements FileHandle, AdminFileHandle {
             it.addUUID(osdUUID);
 
             xtreemfs_internal_get_object_setRequest request = xtreemfs_internal_get_object_setRequest.newBuilder()
-                    .setFileId(fileId).setFileCredentials(fcBuilder.build()).build();
+                    .setFileId(fileId).setFileCredentials(fcBuilder.build())
+                    .setObjectSetFormat(ObjectSet.LATEST_FORMAT).build();
 
             // Remark: GetObjectSetOperation does not validate views, thus no XLocSetHandler is required.
             ObjectList ol = RPCCaller.<xtreemfs_internal_get_object_setRequest, ObjectList> syncCall(SERVICES.OSD,
@@ -1192,11 +1461,10 @@ public class FileHandleImplementation implements FileHandle, AdminFileHandle {
                         }
                     });
 
-            byte[] serializedBitSet = ol.getSet().toByteArray();
             ObjectSet oset = null;
 
             try {
-                oset = new ObjectSet(replica.getStripingPolicy().getWidth(), osdRelPos, serializedBitSet);
+                oset = new ObjectSet(replica.getStripingPolicy().getWidth(), osdRelPos, ol);
             } catch (Exception e) {
                 throw new IOException("cannot deserialize object set: " + e, e);
             }
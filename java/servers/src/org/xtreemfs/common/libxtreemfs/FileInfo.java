@@ -8,12 +8,13 @@ package org.xtreemfs.common.libxtreemfs;
 
 import java.io.IOException;
 import java.util.ArrayList;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Map.Entry;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
 
 import org.xtreemfs.common.libxtreemfs.exceptions.AddressToUUIDNotFoundException;
 import org.xtreemfs.common.libxtreemfs.exceptions.PosixErrorException;
@@ -147,7 +148,12 @@ public class FileInfo {
      * Always lock to access "osdWriteResponse", "osdWriteResponseStatus", "osdWriteResponseXcap" or
      * "pendingFilesizeUpdates".
      */
-    private final Object                                    osdWriteResponseLock;
+    private final ReentrantLock                             osdWriteResponseLock;
+
+    /**
+     * Signaled when "pendingFilesizeUpdates" becomes empty.
+     */
+    private final Condition                                 pendingFilesizeUpdatesCompleted;
 
     /**
      * Proceeds async writes, handles the callbacks and provides a waitForPendingWrites() method for barrier
@@ -170,7 +176,8 @@ public class FileInfo {
         referenceCount = new AtomicInteger(0);
         osdWriteResponse = null;
         osdWriteResponseStatus = FilesizeUpdateStatus.kClean;
-        osdWriteResponseLock = new Object();
+        osdWriteResponseLock = new ReentrantLock();
+        pendingFilesizeUpdatesCompleted = osdWriteResponseLock.newCondition();
 
         pathLock = new Object();
         xLocSetLock = new Object();
@@ -288,12 +295,15 @@ public class FileInfo {
      * Returns a copy of "osdWriteResponse" if not NULL.
      */
     protected OSDWriteResponse getOSDWriteResponse() {
-        synchronized (osdWriteResponseLock) {
+        osdWriteResponseLock.lock();
+        try {
             if (osdWriteResponse == null) {
                 return null;
             } else {
                 return osdWriteResponse.toBuilder().build();
             }
+        } finally {
+            osdWriteResponseLock.unlock();
         }
     }
 
@@ -328,7 +338,8 @@ public class FileInfo {
     protected boolean tryToUpdateOSDWriteResponse(OSDWriteResponse response, XCap xcap) {
         assert (response != null);
 
-        synchronized (osdWriteResponseLock) {
+        osdWriteResponseLock.lock();
+        try {
             if (Helper.compareOSDWriteResponses(response, osdWriteResponse) == 1) {
                 // update osdWriteResponse
                 osdWriteResponse = response.toBuilder().build();
@@ -338,6 +349,8 @@ public class FileInfo {
             } else {
                 return false;
             }
+        } finally {
+            osdWriteResponseLock.unlock();
         }
     }
 
@@ -346,7 +359,8 @@ public class FileInfo {
      * truncateEpoch from a stored OSDWriteResponse.
      */
     protected Stat mergeStatAndOSDWriteResponse(Stat stat) {
-        synchronized (osdWriteResponseLock) {
+        osdWriteResponseLock.lock();
+        try {
             if (osdWriteResponse != null) {
                 // Check if information in Stat is newer than
                 // osdWriteResponse_.
@@ -363,6 +377,8 @@ public class FileInfo {
                     }
                 }
             }
+        } finally {
+            osdWriteResponseLock.unlock();
         }
         return stat;
     }
@@ -372,7 +388,26 @@ public class FileInfo {
      */
     protected void writeBackFileSizeAsync() throws IOException, PosixErrorException,
             AddressToUUIDNotFoundException {
-        synchronized (osdWriteResponseLock) {
+        FileHandleImplementation fileHandle = startAsyncFileSizeUpdate();
+        if (fileHandle != null) {
+            try {
+                fileHandle.writeBackFileSizeAsync();
+            } catch (IOException e) {
+                fileHandle.fileSizeUpdateFinished(false);
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * Marks a pending file size update as in progress. Returns the temporary file handle with which the update
+     * has to be sent to the MRC, or null if the file size is not dirty.
+     * {@link FileHandleImplementation#fileSizeUpdateFinished(boolean)} has to be called on the returned file
+     * handle once the update is completed.
+     */
+    protected FileHandleImplementation startAsyncFileSizeUpdate() {
+        osdWriteResponseLock.lock();
+        try {
             // Only update pending file size updates.
             if (osdWriteResponse != null && osdWriteResponseStatus == FilesizeUpdateStatus.kDirty) {
                 FileHandleImplementation fileHandle = createFileHandle(osdWriteResponseXcap, false, true);
@@ -380,26 +415,19 @@ public class FileInfo {
                 osdWriteResponseStatus = FilesizeUpdateStatus.kDirtyAndAsyncPending;
 
                 fileHandle.setOsdWriteResponseForAsyncWriteBack(osdWriteResponse);
-                fileHandle.writeBackFileSizeAsync();
+                return fileHandle;
             }
+        } finally {
+            osdWriteResponseLock.unlock();
         }
+        return null;
     }
 
     /**
-     * Renews xcap of all file handles of this file asynchronously.
+     * Adds all open file handles of this file to "fileHandles".
      */
-    protected void renewXCapsAsync() throws AddressToUUIDNotFoundException {
-        Iterator<FileHandleImplementation> fhiIterator = openFileHandles.iterator();
-        try {
-            while (fhiIterator.hasNext()) {
-                fhiIterator.next().renewXCapAsync();
-            }
-        } catch (IOException ioe) {
-            if (Logging.isDebug()) {
-                Logging.logMessage(Logging.LEVEL_DEBUG, Category.misc, this,
-                        "renewXcapsSync: Failed to renew XCap for fileHandles. Reason: %s", ioe.getCause());
-            }
-        }
+    protected void getOpenFileHandles(List<FileHandleImplementation> fileHandles) {
+        fileHandles.addAll(openFileHandles);
     }
 
     /**
@@ -446,16 +474,19 @@ public class FileInfo {
      * Blocks until all asynchronous file size updates are completed.
      */
     protected void waitForPendingFileSizeUpdates() {
-        synchronized (osdWriteResponseLock) {
+        osdWriteResponseLock.lock();
+        try {
             while (pendingFilesizeUpdates.size() > 0) {
                 try {
-                    osdWriteResponseLock.wait();
+                    pendingFilesizeUpdatesCompleted.await();
                 } catch (InterruptedException e) {
                     // TODO: handle exception and figure out what happens if thread
                     // gets interrupted.
                     return;
                 }
             }
+        } finally {
+            osdWriteResponseLock.unlock();
         }
     }
 
@@ -464,7 +495,8 @@ public class FileInfo {
      */
     protected void asyncFileSizeUpdateResponseHandler(OSDWriteResponse owr,
             FileHandleImplementation fileHandle, boolean success) {
-        synchronized (osdWriteResponseLock) {
+        osdWriteResponseLock.lock();
+        try {
             // Only change the status of the OSDWriteResponse has not changed
             // meanwhile.
             if (Helper.compareOSDWriteResponses(owr, osdWriteResponse) == 0) {
@@ -480,8 +512,10 @@ public class FileInfo {
             pendingFilesizeUpdates.remove(fileHandle);
             decreaseReferenceCount();
             if (pendingFilesizeUpdates.size() == 0) {
-                osdWriteResponseLock.notifyAll();
+                pendingFilesizeUpdatesCompleted.signalAll();
             }
+        } finally {
+            osdWriteResponseLock.unlock();
         }
     }
 
@@ -606,6 +640,14 @@ public class FileInfo {
         asyncWriteHandler.waitForPendingWrites();
     }
 
+    /**
+     * Calls asyncWriteHandler.pendingWritesCompleted() (returns a result that completes once all pending async
+     * writes are finished, without blocking).
+     */
+    AsyncResult<Void> pendingAsyncWritesCompleted() {
+        return asyncWriteHandler.pendingWritesCompleted();
+    }
+
     /**
      * Same as flushPendingFileSizeUpdate(), takes special actions if called by close().
      * 
@@ -616,7 +658,8 @@ public class FileInfo {
             throws IOException, PosixErrorException, AddressToUUIDNotFoundException {
         // File size write back.
         OSDWriteResponse responseCopy = null;
-        synchronized (osdWriteResponseLock) {
+        osdWriteResponseLock.lock();
+        try {
             if (osdWriteResponse != null) {
                 waitForPendingFileSizeUpdates();
                 if (osdWriteResponseStatus == FilesizeUpdateStatus.kDirty) {
@@ -629,6 +672,8 @@ public class FileInfo {
             } else {
                 return;
             }
+        } finally {
+            osdWriteResponseLock.unlock();
         }
 
         try {
@@ -638,7 +683,8 @@ public class FileInfo {
             throw e;
         }
 
-        synchronized (osdWriteResponseLock) {
+        osdWriteResponseLock.lock();
+        try {
             // Only update the status if the response object has not changed meanwhile.
             if (Helper.compareOSDWriteResponses(osdWriteResponse, responseCopy) == 0) {
                 osdWriteResponseStatus = FilesizeUpdateStatus.kClean;
@@ -653,6 +699,8 @@ public class FileInfo {
                 // triggered. Use an empty OSDWriteResponse object therefore.
                 fileHandle.writeBackFileSize(OSDWriteResponse.getDefaultInstance(), closeFile);
             }
+        } finally {
+            osdWriteResponseLock.unlock();
         }
     }
 
@@ -160,11 +160,31 @@ public class Options {
      */
     private int     periodicFileSizeUpdatesIntervalS  = 60;
 
+    /**
+     * Max. number of file sizes which are updated with a single RPC. Default: 1000
+     */
+    private int     fileSizeUpdateBatchSize           = 1000;
+
     /**
      * Interval for periodic xcap renewal in seconds. Default: 60
      */
     private final int     periodicXcapRenewalIntervalS      = 60;
 
+    /**
+     * Max. number of XCaps which are renewed with a single RPC. Default: 1000
+     */
+    private int     xcapRenewalBatchSize              = 1000;
+
+    /**
+     * Trace one out of tracingSamplingInterval calls. Default: 0 (tracing disabled)
+     */
+    private int     tracingSamplingInterval           = 0;
+
+    /**
+     * Max. number of spans kept in memory if tracing is enabled. Default: 10000
+     */
+    private int     tracingBufferSize                 = 10000;
+
     protected int getPeriodicXcapRenewalIntervalS() {
         return periodicXcapRenewalIntervalS;
     }
@@ -269,4 +289,36 @@ public class Options {
     public int getMaxReadTries() {
         return maxReadTries;
     }
+
+    public int getFileSizeUpdateBatchSize() {
+        return fileSizeUpdateBatchSize;
+    }
+
+    public void setFileSizeUpdateBatchSize(int fileSizeUpdateBatchSize) {
+        this.fileSizeUpdateBatchSize = fileSizeUpdateBatchSize;
+    }
+
+    public int getXcapRenewalBatchSize() {
+        return xcapRenewalBatchSize;
+    }
+
+    public void setXcapRenewalBatchSize(int xcapRenewalBatchSize) {
+        this.xcapRenewalBatchSize = xcapRenewalBatchSize;
+    }
+
+    public int getTracingSamplingInterval() {
+        return tracingSamplingInterval;
+    }
+
+    public void setTracingSamplingInterval(int tracingSamplingInterval) {
+        this.tracingSamplingInterval = tracingSamplingInterval;
+    }
+
+    public int getTracingBufferSize() {
+        return tracingBufferSize;
+    }
+
+    public void setTracingBufferSize(int tracingBufferSize) {
+        this.tracingBufferSize = tracingBufferSize;
+    }
 }
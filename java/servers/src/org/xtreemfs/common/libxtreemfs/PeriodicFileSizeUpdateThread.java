@@ -7,7 +7,8 @@
 package org.xtreemfs.common.libxtreemfs;
 
 import java.io.IOException;
-import java.util.Map.Entry;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.xtreemfs.foundation.logging.Logging;
 import org.xtreemfs.foundation.logging.Logging.Category;
@@ -46,17 +47,29 @@ public class PeriodicFileSizeUpdateThread extends Thread {
                                 .getOpenFileTable().size());
             }
 
-            // Iterate over the openFileTable
-            for (Entry<Long, FileInfo> entry : volume.getOpenFileTable().entrySet()) {
+            // Collect the dirty file sizes of all open files. Since only the latest file size of a file is
+            // kept, superseded sizes are never sent to the MRC.
+            List<FileHandleImplementation> fileHandles = new ArrayList<FileHandleImplementation>();
+            for (FileInfo fileInfo : volume.getOpenFileTable().values()) {
+                FileHandleImplementation fileHandle = fileInfo.startAsyncFileSizeUpdate();
+                if (fileHandle != null) {
+                    fileHandles.add(fileHandle);
+                }
+            }
+
+            // Send the file sizes in batches, so that the MRC can apply them with few database updates.
+            final int batchSize = Math.max(1, volume.getOptions().getFileSizeUpdateBatchSize());
+            for (int i = 0; i < fileHandles.size(); i += batchSize) {
                 try {
-                    entry.getValue().writeBackFileSizeAsync();
+                    volume.writeBackFileSizesAsync(fileHandles.subList(i, Math.min(i + batchSize,
+                            fileHandles.size())));
                 } catch (IOException e) {
                     if (Logging.isDebug()) {
                         Logging.logMessage(Logging.LEVEL_DEBUG, Category.misc, this,
                                 "PeriodicFileSizeUpdateThread: failed to update filesize. Reason: ",
                                 e.getMessage());
                     }
-                } 
+                }
             }
 
             if (Logging.isDebug()) {
@@ -6,9 +6,10 @@
  */
 package org.xtreemfs.common.libxtreemfs;
 
-import java.util.Map.Entry;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 
-import org.xtreemfs.common.libxtreemfs.exceptions.AddressToUUIDNotFoundException;
 import org.xtreemfs.foundation.logging.Logging;
 import org.xtreemfs.foundation.logging.Logging.Category;
 
@@ -31,32 +32,46 @@ public class PeriodicXcapRenewalThread extends Thread {
      */
     @Override
     public void run() {
+        final long intervalMs = volume.getOptions().getPeriodicXcapRenewalIntervalS() * 1000L;
+        final int batchSize = Math.max(1, volume.getOptions().getXcapRenewalBatchSize());
+
+        long nextRenewal = System.currentTimeMillis() + intervalMs;
         while (!isInterrupted()) {
             // send thread to sleep (default 1minute)
-            try {
-                Thread.sleep(volume.getOptions().getPeriodicXcapRenewalIntervalS()*1000);
-            } catch (Exception e) {
+            if (!sleepUntil(nextRenewal)) {
                 break;
             }
+            final long renewalStart = nextRenewal;
+            nextRenewal = Math.max(nextRenewal + intervalMs, System.currentTimeMillis());
+
+            List<FileHandleImplementation> fileHandles = new ArrayList<FileHandleImplementation>();
+            for (FileInfo fileInfo : volume.getOpenFileTable().values()) {
+                fileInfo.getOpenFileHandles(fileHandles);
+            }
 
             if (Logging.isDebug()) {
                 Logging.logMessage(Logging.LEVEL_DEBUG, Category.misc, this,
-                        "START openFileTable: Periodic Xcap renewal for %s open files.", volume
-                                .getOpenFileTable().size());
+                        "START openFileTable: Periodic Xcap renewal for %s open files (%s file handles).",
+                        volume.getOpenFileTable().size(), fileHandles.size());
             }
 
-            // iterate over the openFileTable.
-            for (Entry<Long, FileInfo> entry : volume.getOpenFileTable().entrySet()) {
-            	try {
-            		entry.getValue().renewXCapsAsync();	
-            	} catch (AddressToUUIDNotFoundException e) {
+            // Renew the XCaps in batches, which are spread over the renewal interval to avoid load peaks on the
+            // MRC if many files are open.
+            final int numBatches = (fileHandles.size() + batchSize - 1) / batchSize;
+            for (int i = 0; i < numBatches; i++) {
+                if (i > 0 && !sleepUntil(renewalStart + i * intervalMs / numBatches)) {
+                    return;
+                }
+
+                try {
+                    volume.renewXCapsAsync(fileHandles.subList(i * batchSize,
+                            Math.min((i + 1) * batchSize, fileHandles.size())));
+                } catch (IOException e) {
                     if (Logging.isDebug()) {
                         Logging.logMessage(Logging.LEVEL_DEBUG, Category.misc, this,
-                                "PeriodicXCapThread: failed to renew XCap. Reason: ",
-                                e.getMessage());
+                                "PeriodicXCapThread: failed to renew XCaps. Reason: %s", e.getMessage());
                     }
-				}
-                
+                }
             }
 
             if (Logging.isDebug()) {
@@ -66,4 +81,20 @@ public class PeriodicXcapRenewalThread extends Thread {
             }
         }
     }
+
+    /**
+     * Sleeps until "time" (in ms since the epoch) is reached. Returns false if the thread was interrupted.
+     */
+    private boolean sleepUntil(long time) {
+        long now = System.currentTimeMillis();
+        try {
+            while (now < time) {
+                Thread.sleep(time - now);
+                now = System.currentTimeMillis();
+            }
+        } catch (InterruptedException e) {
+            return false;
+        }
+        return true;
+    }
 }
@@ -8,11 +8,15 @@ package org.xtreemfs.common.libxtreemfs;
 
 import java.io.IOException;
 import java.net.InetSocketAddress;
+import java.util.Timer;
+import java.util.TimerTask;
 
 import org.xtreemfs.common.libxtreemfs.exceptions.AddressToUUIDNotFoundException;
 import org.xtreemfs.common.libxtreemfs.exceptions.InternalServerErrorException;
+import org.xtreemfs.common.libxtreemfs.exceptions.InvalidProcIdException;
 import org.xtreemfs.common.libxtreemfs.exceptions.InvalidViewException;
 import org.xtreemfs.common.libxtreemfs.exceptions.PosixErrorException;
+import org.xtreemfs.common.libxtreemfs.exceptions.UUIDIteratorListIsEmpyException;
 import org.xtreemfs.common.libxtreemfs.exceptions.XtreemFSException;
 import org.xtreemfs.foundation.buffer.BufferPool;
 import org.xtreemfs.foundation.buffer.ReusableBuffer;
@@ -20,10 +24,12 @@ import org.xtreemfs.foundation.logging.Logging;
 import org.xtreemfs.foundation.logging.Logging.Category;
 import org.xtreemfs.foundation.pbrpc.client.PBRPCException;
 import org.xtreemfs.foundation.pbrpc.client.RPCResponse;
+import org.xtreemfs.foundation.pbrpc.client.RPCResponseAvailableListener;
 import org.xtreemfs.foundation.pbrpc.generatedinterfaces.RPC.Auth;
 import org.xtreemfs.foundation.pbrpc.generatedinterfaces.RPC.ErrorType;
 import org.xtreemfs.foundation.pbrpc.generatedinterfaces.RPC.POSIXErrno;
 import org.xtreemfs.foundation.pbrpc.generatedinterfaces.RPC.UserCredentials;
+import org.xtreemfs.foundation.trace.Tracer;
 import org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes;
 import org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.SERVICES;
 
@@ -74,6 +80,32 @@ public class RPCCaller {
             boolean uuidIteratorHasAddresses, boolean delayNextTry, int maxRetries, C callRequest,
             ReusableBuffer buffer, CallGenerator<C, R> callGen) throws PosixErrorException, IOException,
             InternalServerErrorException, AddressToUUIDNotFoundException {
+
+        // Start a new trace if the call was sampled and is not part of a trace already. The trace ID is
+        // bound to the current thread so that it is sent along with all tries of the call.
+        final long traceId = Tracer.getCurrentTraceId() == 0 ? Tracer.sample() : 0;
+        if (traceId == 0) {
+            return doSyncCall(service, userCreds, auth, options, uuidResolver, it, uuidIteratorHasAddresses,
+                    delayNextTry, maxRetries, callRequest, buffer, callGen);
+        }
+
+        final long startNanos = System.nanoTime();
+        Tracer.setCurrentTraceId(traceId);
+        try {
+            return doSyncCall(service, userCreds, auth, options, uuidResolver, it, uuidIteratorHasAddresses,
+                    delayNextTry, maxRetries, callRequest, buffer, callGen);
+        } finally {
+            Tracer.setCurrentTraceId(0);
+            Tracer.record(traceId, "client", callRequest == null ? service.toString() : service + " "
+                    + callRequest.getClass().getSimpleName(), 0, System.nanoTime() - startNanos);
+        }
+    }
+
+    private static <C, R extends Message> R doSyncCall(SERVICES service, UserCredentials userCreds,
+            Auth auth, Options options, UUIDResolver uuidResolver, UUIDIterator it,
+            boolean uuidIteratorHasAddresses, boolean delayNextTry, int maxRetries, C callRequest,
+            ReusableBuffer buffer, CallGenerator<C, R> callGen) throws PosixErrorException, IOException,
+            InternalServerErrorException, AddressToUUIDNotFoundException {
         int maxTries = maxRetries;
         int attempt = 0;
 
@@ -166,24 +198,10 @@ public class RPCCaller {
                 }
 
                 if (responseError != null) {
-                    // Log only the first retry.
-                    if (attempt == 1 && maxTries != 1) {
-                        String retriesLeft = (maxTries == 0) ? ("infinite") : (String.valueOf(maxTries - attempt));
-                        Logging.logMessage(Logging.LEVEL_ERROR, Category.misc, responseError,
-                                "Got no response from %s, " + "retrying (%s attemps left, waiting at least %s seconds"
-                                        + " between two attemps) Error was: %s", it.getUUID(), retriesLeft,
-                                options.getRetryDelay_s(), responseError.getMessage());
-                        if (Logging.isDebug()) {
-                            Logging.logError(Logging.LEVEL_DEBUG, null, responseError);
-                        }
-                    }
-                    
+                    logFirstRetry(attempt, maxTries, it, options, responseError);
+
                     // Retry (and delay)?
-                    if (retry && 
-                            // Retry (and delay) only if at least one retry is left
-                            (attempt < maxTries || maxTries == 0)
-                            // or this last retry should be delayed
-                            || (attempt == maxTries && delayNextTry)) {
+                    if (shouldRetry(retry, attempt, maxTries, delayNextTry)) {
                         waitDelay(options.getRetryDelay_s());
                         continue;
                     } else {
@@ -200,6 +218,299 @@ public class RPCCaller {
         return null;
     }
 
+    /**
+     * Logs the error of the first attempt of a call, if the call is going to be retried.
+     */
+    private static void logFirstRetry(int attempt, int maxTries, UUIDIterator it, Options options,
+            IOException responseError) throws UUIDIteratorListIsEmpyException {
+        // Log only the first retry.
+        if (attempt == 1 && maxTries != 1) {
+            String retriesLeft = (maxTries == 0) ? ("infinite") : (String.valueOf(maxTries - attempt));
+            Logging.logMessage(Logging.LEVEL_ERROR, Category.misc, responseError,
+                    "Got no response from %s, " + "retrying (%s attemps left, waiting at least %s seconds"
+                            + " between two attemps) Error was: %s", it.getUUID(), retriesLeft,
+                    options.getRetryDelay_s(), responseError.getMessage());
+            if (Logging.isDebug()) {
+                Logging.logError(Logging.LEVEL_DEBUG, null, responseError);
+            }
+        }
+    }
+
+    /**
+     * Checks whether a failed attempt is retried (after a delay).
+     */
+    private static boolean shouldRetry(boolean retry, int attempt, int maxTries, boolean delayNextTry) {
+        return retry &&
+        // Retry (and delay) only if at least one retry is left
+                (attempt < maxTries || maxTries == 0)
+                // or this last retry should be delayed
+                || (attempt == maxTries && delayNextTry);
+    }
+
+    /**
+     * Asynchronous variant of {@link #syncCall(SERVICES, UserCredentials, Auth, Options, UUIDResolver,
+     * UUIDIterator, boolean, Object, ReusableBuffer, CallGenerator)}. Errors are retried in the same way as by
+     * syncCall(), but without blocking the calling thread: responses are processed by the network thread of the
+     * RPC client, and delayed retries are scheduled by a timer.
+     * <p>
+     * If "buffer" is not null, it is filled with the data piggybacked in the response before the returned result
+     * completes.
+     * <p>
+     * Like syncCall(), the call is part of the trace bound to the calling thread, or starts a new trace if it was
+     * sampled. The trace ID is sent along with all tries of the call, regardless of the thread executing them.
+     */
+    protected static <C, R extends Message> AsyncResult<R> asyncCall(final SERVICES service,
+            UserCredentials userCreds, Auth auth, Options options, UUIDResolver uuidResolver, UUIDIterator it,
+            boolean uuidIteratorHasAddresses, final C callRequest, ReusableBuffer buffer, CallGenerator<C, R> callGen) {
+        final long currentTraceId = Tracer.getCurrentTraceId();
+        final long traceId = currentTraceId == 0 ? Tracer.sample() : 0;
+
+        AsyncCall<C, R> call = new AsyncCall<C, R>(service, userCreds, auth, options, uuidResolver, it,
+                uuidIteratorHasAddresses, false, options.getMaxTries(), callRequest, buffer, callGen,
+                traceId == 0 ? currentTraceId : traceId);
+        if (traceId != 0) {
+            final long startNanos = System.nanoTime();
+            call.result.addListener(new AsyncResultListener<R>() {
+                @Override
+                public void succeeded(R result) {
+                    finished();
+                }
+
+                @Override
+                public void failed(IOException error) {
+                    finished();
+                }
+
+                private void finished() {
+                    Tracer.record(traceId, "client", callRequest == null ? service.toString() : service + " "
+                            + callRequest.getClass().getSimpleName(), 0, System.nanoTime() - startNanos);
+                }
+            });
+        }
+        call.nextAttempt();
+        return call.result;
+    }
+
+    /**
+     * Executes "task" on the retry timer. Used to continue asynchronous operations that must not block the network
+     * thread of the RPC client, e.g. because they may have to resolve UUIDs.
+     */
+    static void executeAsync(final Runnable task) {
+        retryTimer.schedule(new TimerTask() {
+            @Override
+            public void run() {
+                task.run();
+            }
+        }, 0);
+    }
+
+    /**
+     * Timer that executes delayed retries of asynchronous calls.
+     */
+    private static final Timer retryTimer = new Timer("RPCCaller retry timer", true);
+
+    /**
+     * State of an asynchronous call. Mirrors the retry loop of doSyncCall().
+     */
+    private static final class AsyncCall<C, R extends Message> implements RPCResponseAvailableListener<R> {
+
+        final AsyncResult<R>              result = new AsyncResult<R>();
+
+        private final SERVICES            service;
+
+        private final UserCredentials     userCreds;
+
+        private final Auth                auth;
+
+        private final Options             options;
+
+        private final UUIDResolver        uuidResolver;
+
+        private final UUIDIterator        it;
+
+        private final boolean             uuidIteratorHasAddresses;
+
+        private final boolean             delayNextTry;
+
+        private final C                   callRequest;
+
+        private final ReusableBuffer      buffer;
+
+        private final CallGenerator<C, R> callGen;
+
+        /**
+         * ID of the trace the call is part of, or 0 if it is not traced.
+         */
+        private final long                traceId;
+
+        private int                       maxTries;
+
+        private int                       attempt;
+
+        AsyncCall(SERVICES service, UserCredentials userCreds, Auth auth, Options options,
+                UUIDResolver uuidResolver, UUIDIterator it, boolean uuidIteratorHasAddresses, boolean delayNextTry,
+                int maxTries, C callRequest, ReusableBuffer buffer, CallGenerator<C, R> callGen, long traceId) {
+            this.service = service;
+            this.userCreds = userCreds;
+            this.auth = auth;
+            this.options = options;
+            this.uuidResolver = uuidResolver;
+            this.it = it;
+            this.uuidIteratorHasAddresses = uuidIteratorHasAddresses;
+            this.delayNextTry = delayNextTry;
+            this.maxTries = maxTries;
+            this.callRequest = callRequest;
+            this.buffer = buffer;
+            this.callGen = callGen;
+            this.traceId = traceId;
+        }
+
+        void nextAttempt() {
+            try {
+                doNextAttempt();
+            } catch (IOException e) {
+                result.fail(e);
+            } catch (RuntimeException e) {
+                result.fail(new IOException(e));
+            }
+        }
+
+        private void doNextAttempt() throws IOException {
+            if (!(++attempt <= maxTries || maxTries == 0)) {
+                // Same as doSyncCall() after the delay of the last try.
+                result.succeed(null);
+                return;
+            }
+
+            try {
+                InetSocketAddress server;
+                if (uuidIteratorHasAddresses) {
+                    server = getInetSocketAddressFromAddress(it.getUUID(), service);
+                } else {
+                    String address = uuidResolver.uuidToAddress(it.getUUID());
+                    server = getInetSocketAddressFromAddress(address, service);
+                }
+
+                // Bind the trace ID to the executing thread while the request is created.
+                RPCResponse<R> r;
+                long previousTraceId = Tracer.getCurrentTraceId();
+                Tracer.setCurrentTraceId(traceId);
+                try {
+                    r = callGen.executeCall(server, auth, userCreds, callRequest);
+                } finally {
+                    Tracer.setCurrentTraceId(previousTraceId);
+                }
+                r.registerListener(this);
+            } catch (IOException ioe) {
+                it.markUUIDAsFailed(it.getUUID());
+                attemptFailed(ioe, true);
+            }
+        }
+
+        @Override
+        public void responseAvailable(RPCResponse<R> r) {
+            try {
+                processResponse(r);
+            } catch (IOException e) {
+                result.fail(e);
+            } catch (RuntimeException e) {
+                result.fail(new IOException(e));
+            }
+        }
+
+        private void processResponse(RPCResponse<R> r) throws IOException {
+            R response = null;
+            IOException responseError = null;
+            boolean retry = false;
+            try {
+                response = r.get();
+
+                if (r.getData() != null) {
+                    if (buffer != null) {
+                        buffer.put(r.getData());
+                    }
+                    BufferPool.free(r.getData());
+                }
+            } catch (PBRPCException pbe) {
+                responseError = pbe;
+                // handle special redirect
+                if (pbe.getErrorType().equals(ErrorType.REDIRECT)) {
+                    assert (pbe.getRedirectToServerUUID() != null);
+                    if (Logging.isInfo()) {
+                        Logging.logMessage(Logging.LEVEL_INFO, Category.misc, pbe, "The server " + it.getUUID()
+                                + " redirected to the current master: " + pbe.getRedirectToServerUUID()
+                                + " at attempt: " + attempt);
+                    }
+
+                    if (maxTries != 0 && attempt == maxTries) {
+                        // This was the last retry, but we give it another chance.
+                        maxTries++;
+                    }
+                    // Do a fast retry and do not delay until next attempt. The retry must not run on the
+                    // network thread, since resolving the UUID of the new master may require an RPC that is
+                    // processed by the same thread.
+                    it.markUUIDAsFailed(it.getUUID());
+                    scheduleNextAttempt(0);
+                    return;
+                }
+
+                if (pbe.getErrorType().equals(ErrorType.IO_ERROR)
+                        || pbe.getErrorType().equals(ErrorType.INTERNAL_SERVER_ERROR)) {
+                    // Mark the current UUID as failed and get the next one.
+                    it.markUUIDAsFailed(it.getUUID());
+                    retry = true;
+                }
+            } catch (IOException ioe) {
+                responseError = ioe;
+                // Mark the current UUID as failed and get the next one.
+                it.markUUIDAsFailed(it.getUUID());
+                retry = true;
+            } catch (InterruptedException ie) {
+                // Cannot happen, since the response is available already.
+                responseError = new IOException(ie);
+            } finally {
+                r.freeBuffers();
+            }
+
+            if (responseError != null) {
+                attemptFailed(responseError, retry);
+            } else {
+                result.succeed(response);
+            }
+        }
+
+        /**
+         * Executes the next attempt on the retry timer after "delayMillis" ms.
+         */
+        private void scheduleNextAttempt(long delayMillis) {
+            retryTimer.schedule(new TimerTask() {
+                @Override
+                public void run() {
+                    nextAttempt();
+                }
+            }, delayMillis);
+        }
+
+        private void attemptFailed(IOException responseError, boolean retry) throws UUIDIteratorListIsEmpyException {
+            logFirstRetry(attempt, maxTries, it, options, responseError);
+
+            if (shouldRetry(retry, attempt, maxTries, delayNextTry)) {
+                scheduleNextAttempt(options.getRetryDelay_s() * 1000);
+                return;
+            }
+
+            if (responseError instanceof PBRPCException) {
+                // Max attempts reached or non-IO error seen.
+                try {
+                    handleErrorAfterMaxTriesExceeded((PBRPCException) responseError, it);
+                } catch (IOException e) {
+                    responseError = e;
+                }
+            }
+            result.fail(responseError);
+        }
+    }
+
     /**
      * Blocks the thread for delay_s seconds and throws an exception if interrupted.
      * 
@@ -259,6 +570,11 @@ public class RPCCaller {
                     "The server %s denied the requested operation because the clients view is outdated. Error: %s",
                     it.getUUID(), e.getErrorMessage());
             throw new InvalidViewException(e.getErrorMessage());
+        case INVALID_PROC_ID:
+            Logging.logMessage(logLevel, Category.misc, e,
+                    "The server %s does not support the requested operation. Error: %s", it.getUUID(),
+                    e.getErrorMessage());
+            throw new InvalidProcIdException(e.getErrorMessage());
         default:
             errorMsg =
                     "The server " + it.getUUID() + "returned an error: " + e.getErrorType().name()
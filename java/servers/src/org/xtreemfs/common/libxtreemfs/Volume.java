@@ -175,6 +175,45 @@ public interface Volume {
     public FileHandle openFile(UserCredentials userCredentials, String path, int flags, int mode)
             throws IOException, PosixErrorException, AddressToUUIDNotFoundException;
 
+    /**
+     * Asynchronous variant of {@link #openFile(UserCredentials, String, int, int)}. The open request is sent
+     * to the MRC without blocking the calling thread.
+     * 
+     * SYSTEM_V_FCNTL_H_O_TRUNC is not supported, because truncating the file requires further requests to the
+     * OSDs and the MRC. The returned result fails with POSIX_ERROR_EINVAL if it is specified.
+     */
+    public AsyncResult<FileHandle> openFileAsync(UserCredentials userCredentials, String path, int flags,
+            int mode);
+
+    /**
+     * Opens multiple files in the same directory with a single request to the MRC. Files that do not exist
+     * are created. Either all files are opened, or none.
+     * 
+     * @param userCredentials
+     *            Name and Groups of the user.
+     * @param directory
+     *            Path to the parent directory.
+     * @param names
+     *            Names of the files in the directory.
+     * @param flags
+     *            Open flags as specified in xtreemfs::pbrpc::SYSTEM_V_FCNTL. SYSTEM_V_FCNTL_H_O_CREAT is
+     *            implied.
+     * @param mode
+     *            Permissions of newly created files.
+     * @return One FileHandle per file, in the order of "names".
+     * 
+     * @throws AddressToUUIDNotFoundException
+     * @throws {@link IOException}
+     * @throws PosixErrorException
+     * 
+     * @remark If the MRC does not support batched creates, the files are opened one by one. In this case, files
+     *         opened before an error occurred are closed again, but not removed.
+     * @remark Ownership is NOT transferred to the caller. Instead FileHandle.close() has to be called for each
+     *         FileHandle to destroy the object.
+     */
+    public List<FileHandle> createFiles(UserCredentials userCredentials, String directory, List<String> names,
+            int flags, int mode) throws IOException, PosixErrorException, AddressToUUIDNotFoundException;
+
     /**
      * Truncates the file to "newFileSize" bytes.
      * 
@@ -208,6 +247,33 @@ public interface Volume {
     public Stat getAttr(UserCredentials userCredentials, String path) throws IOException,
             PosixErrorException, AddressToUUIDNotFoundException;
 
+    /**
+     * Asynchronous variant of {@link #getAttr(UserCredentials, String)}. Cached attributes are returned with
+     * an already completed result.
+     * 
+     * If the file is open, the returned attributes are merged with the file size known to this client. Unlike
+     * getAttr(), pending asynchronous writes are not waited for.
+     */
+    public AsyncResult<Stat> getAttrAsync(UserCredentials userCredentials, String path);
+
+    /**
+     * Retrieves the attributes of multiple files or directories. Attributes which are not cached are
+     * retrieved with a single request to the MRC.
+     * 
+     * @param userCredentials
+     *            Name and Groups of the user.
+     * @param paths
+     *            Paths to the files/directories.
+     * @return One Stat per path, in the order of "paths". The Stat of a path which does not exist or cannot
+     *         be accessed is null.
+     * 
+     * @throws AddressToUUIDNotFoundException
+     * @throws {@link IOException}
+     * @throws PosixErrorException
+     */
+    public List<Stat> getAttrs(UserCredentials userCredentials, List<String> paths) throws IOException,
+            PosixErrorException, AddressToUUIDNotFoundException;
+
     /**
      * Sets the attributes given by "stat" and specified in "toSet".
      * 
@@ -230,6 +296,28 @@ public interface Volume {
     public void setAttr(UserCredentials userCredentials, String path, Stat stat, int toSet)
             throws IOException, PosixErrorException, AddressToUUIDNotFoundException;
 
+    /**
+     * Sets the access mode, owner or owning group of the directory at "path" and all of its contents. The
+     * attributes are changed at the MRC; if the MRC does not support recursive updates, the directory tree is
+     * traversed and updated entry by entry.
+     * 
+     * @param userCredentials
+     *            Name and Groups of the user.
+     * @param path
+     *            Path to the directory.
+     * @param stat
+     *            Stat object with attributes which will be set.
+     * @param toSet
+     *            Bitmask which defines which attributes to set; only SETATTR_MODE, SETATTR_UID and SETATTR_GID
+     *            are allowed.
+     * 
+     * @throws AddressToUUIDNotFoundException
+     * @throws {@link IOException}
+     * @throws PosixErrorException
+     */
+    public void setAttrRecursively(UserCredentials userCredentials, String path, Stat stat, int toSet)
+            throws IOException, PosixErrorException, AddressToUUIDNotFoundException;
+
     /**
      * Remove the file at "path" (deletes the entry at the MRC and all objects on one OSD).
      * 
@@ -314,6 +402,23 @@ public interface Volume {
     public void removeDirectory(UserCredentials userCredentials, String path) throws IOException,
             PosixErrorException, AddressToUUIDNotFoundException;
 
+    /**
+     * Removes the directory at "path" including all of its contents. The entries are deleted at the MRC, which
+     * deletes the objects of the files at the OSDs in the background. If the MRC does not support recursive
+     * deletion, the directory tree is traversed and deleted entry by entry.
+     * 
+     * @param userCredentials
+     *            Name and Groups of the user.
+     * @param path
+     *            Path to the directory to be removed.
+     * 
+     * @throws AddressToUUIDNotFoundException
+     * @throws {@link IOException}
+     * @throws PosixErrorException
+     */
+    public void removeDirectoryRecursively(UserCredentials userCredentials, String path) throws IOException,
+            PosixErrorException, AddressToUUIDNotFoundException;
+
     /**
      * Returns a list of "count" directories/files contained in the directory "path" beginning by "offset". If
      * count equals 0 all entries beginning by "offset" will be in the list.
@@ -340,6 +445,32 @@ public interface Volume {
             int count, boolean namesOnly) throws IOException, PosixErrorException,
             AddressToUUIDNotFoundException;
 
+    /**
+     * Asynchronous variant of {@link #readDir(UserCredentials, String, int, int, boolean)}. Unlike readDir(),
+     * the requested entries are retrieved with a single request, i.e. large requests are not split into
+     * chunks of the readdir chunk size.
+     */
+    public AsyncResult<DirectoryEntries> readDirAsync(UserCredentials userCredentials, String path,
+            int offset, int count, boolean namesOnly);
+
+    /**
+     * Returns an iterator that retrieves the entries of the directory "path" page by page. Unlike
+     * {@link #readDir(UserCredentials, String, int, int, boolean)}, the listing is never materialized
+     * completely, and retrieved entries are not cached.
+     * 
+     * @param userCredentials
+     *            Name and Groups of the user.
+     * @param path
+     *            Path to the directory.
+     * @param pageSize
+     *            Number of entries per page. If not positive, the readdir chunk size of the volume options is
+     *            used.
+     * @param namesOnly
+     *            If set to true, the {@link Stat} object of every entry will be omitted.
+     */
+    public DirectoryEntriesIterator readDirIterator(UserCredentials userCredentials, String path,
+            int pageSize, boolean namesOnly);
+
     /**
      * Returns the list of extended attributes stored for "path" (Entries may be cached).
      * 
@@ -379,6 +510,12 @@ public interface Volume {
     public listxattrResponse listXAttrs(UserCredentials userCredentials, String path,
             boolean useCache) throws IOException, PosixErrorException, AddressToUUIDNotFoundException;
 
+    /**
+     * Asynchronous variant of {@link #listXAttrs(UserCredentials, String, boolean)}.
+     */
+    public AsyncResult<listxattrResponse> listXAttrsAsync(UserCredentials userCredentials, String path,
+            boolean useCache);
+
     /**
      * Sets the extended attribute "name" of "path" to "value".
      * 
@@ -400,6 +537,13 @@ public interface Volume {
     public void setXAttr(UserCredentials userCredentials, String path, String name, String value,
             XATTR_FLAGS flags) throws IOException, PosixErrorException, AddressToUUIDNotFoundException;
 
+    /**
+     * Asynchronous variant of {@link #setXAttr(UserCredentials, String, String, String, XATTR_FLAGS)}. The
+     * returned result completes with null.
+     */
+    public AsyncResult<Void> setXAttrAsync(UserCredentials userCredentials, String path, String name,
+            String value, XATTR_FLAGS flags);
+
     
     /**
      * Sets the extended attribute "name" of "path" to "value".
@@ -444,6 +588,11 @@ public interface Volume {
     public String getXAttr(UserCredentials userCredentials, String path, String name)
             throws IOException, PosixErrorException, AddressToUUIDNotFoundException;
 
+    /**
+     * Asynchronous variant of {@link #getXAttr(UserCredentials, String, String)}.
+     */
+    public AsyncResult<String> getXAttrAsync(UserCredentials userCredentials, String path, String name);
+
     /**
      * Writes the size of a value (string size without null-termination) of an XAttribute "name" stored for
      * "path" in "size".
@@ -481,6 +630,12 @@ public interface Volume {
     public void removeXAttr(UserCredentials userCredentials, String path, String name)
             throws IOException, PosixErrorException, AddressToUUIDNotFoundException;
 
+    /**
+     * Asynchronous variant of {@link #removeXAttr(UserCredentials, String, String)}. The returned result
+     * completes with null.
+     */
+    public AsyncResult<Void> removeXAttrAsync(UserCredentials userCredentials, String path, String name);
+
     /**
      * Adds a new replica for the file at "path" and triggers the replication of this replica if it's a full
      * replica.
@@ -622,6 +777,29 @@ public interface Volume {
             long startSize, long length) throws IOException, PosixErrorException,
             AddressToUUIDNotFoundException;
 
+    /**
+     * Returns the {@link StripeLocation}s of multiple files from their beginning to the given lengths, as
+     * {@link #getStripeLocations(UserCredentials, String, long, long)} does for a single file. The XLocSets of all
+     * files are retrieved with a single request to the MRC, which orders the replicas by the replica selection
+     * policy of the volume, and the hostname of each OSD is resolved only once.
+     * 
+     * @param userCredentials
+     *            Username and groups of the user.
+     * @param paths
+     *            Paths of the files.
+     * @param lengths
+     *            The lengths of the parts of the files where the {@link StripeLocation}s should be collected in
+     *            byte, in the order of "paths".
+     * @return One {@link List} of {@link StripeLocation} per path, in the order of "paths". The list of a path
+     *         which does not exist, cannot be accessed or is not a file is empty.
+     * 
+     * @throws IOException
+     * @throws PosixErrorException
+     * @throws AddressToUUIDNotFoundException
+     */
+    public List<List<StripeLocation>> getStripeLocations(UserCredentials userCredentials, List<String> paths,
+            List<Long> lengths) throws IOException, PosixErrorException, AddressToUUIDNotFoundException;
+
     
     /**
      * Removes the user from the ACL stored in path 
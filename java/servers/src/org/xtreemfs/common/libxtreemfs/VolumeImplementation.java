@@ -10,6 +10,8 @@ import java.io.IOException;
 import java.net.InetAddress;
 import java.net.InetSocketAddress;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -22,6 +24,7 @@ import java.util.regex.Pattern;
 import org.xtreemfs.common.ReplicaUpdatePolicies;
 import org.xtreemfs.common.libxtreemfs.RPCCaller.CallGenerator;
 import org.xtreemfs.common.libxtreemfs.exceptions.AddressToUUIDNotFoundException;
+import org.xtreemfs.common.libxtreemfs.exceptions.InvalidProcIdException;
 import org.xtreemfs.common.libxtreemfs.exceptions.PosixErrorException;
 import org.xtreemfs.common.libxtreemfs.exceptions.XtreemFSException;
 import org.xtreemfs.common.xloc.ReplicationPolicyImplementation;
@@ -31,10 +34,13 @@ import org.xtreemfs.foundation.json.JSONParser;
 import org.xtreemfs.foundation.json.JSONString;
 import org.xtreemfs.foundation.logging.Logging;
 import org.xtreemfs.foundation.logging.Logging.Category;
+import org.xtreemfs.foundation.pbrpc.client.PBRPCException;
 import org.xtreemfs.foundation.pbrpc.client.RPCAuthentication;
 import org.xtreemfs.foundation.pbrpc.client.RPCNIOSocketClient;
 import org.xtreemfs.foundation.pbrpc.client.RPCResponse;
+import org.xtreemfs.foundation.pbrpc.client.RPCResponseAvailableListener;
 import org.xtreemfs.foundation.pbrpc.generatedinterfaces.RPC.Auth;
+import org.xtreemfs.foundation.pbrpc.generatedinterfaces.RPC.ErrorType;
 import org.xtreemfs.foundation.pbrpc.generatedinterfaces.RPC.POSIXErrno;
 import org.xtreemfs.foundation.pbrpc.generatedinterfaces.RPC.UserCredentials;
 import org.xtreemfs.mrc.metadata.ReplicationPolicy;
@@ -48,8 +54,10 @@ import org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.SERVICES;
 import org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.SYSTEM_V_FCNTL;
 import org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.StripingPolicy;
 import org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.StripingPolicyType;
+import org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCap;
 import org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XLocSet;
 import org.xtreemfs.pbrpc.generatedinterfaces.MRC.DirectoryEntries;
+import org.xtreemfs.pbrpc.generatedinterfaces.MRC.DirectoryEntry;
 import org.xtreemfs.pbrpc.generatedinterfaces.MRC.Setattrs;
 import org.xtreemfs.pbrpc.generatedinterfaces.MRC.Stat;
 import org.xtreemfs.pbrpc.generatedinterfaces.MRC.StatVFS;
@@ -80,9 +88,23 @@ import org.xtreemfs.pbrpc.generatedinterfaces.MRC.symlinkRequest;
 import org.xtreemfs.pbrpc.generatedinterfaces.MRC.timestampResponse;
 import org.xtreemfs.pbrpc.generatedinterfaces.MRC.unlinkRequest;
 import org.xtreemfs.pbrpc.generatedinterfaces.MRC.unlinkResponse;
+import org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_create_filesRequest;
+import org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_create_filesResponse;
 import org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_get_suitable_osdsRequest;
 import org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_get_suitable_osdsResponse;
 import org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_get_xlocsetRequest;
+import org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_get_xlocsetsRequest;
+import org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_get_xlocsetsResponse;
+import org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_getattrsRequest;
+import org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_getattrsResponse;
+import org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_renew_capabilitiesRequest;
+import org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_renew_capabilitiesResponse;
+import org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_rmdir_recursiveRequest;
+import org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_rmdir_recursiveResponse;
+import org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_setattr_recursiveRequest;
+import org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_setattr_recursiveResponse;
+import org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_file_sizesRequest;
+import org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_file_sizesResponse;
 import org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_replica_addRequest;
 import org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_replica_removeRequest;
 import org.xtreemfs.pbrpc.generatedinterfaces.MRCServiceClient;
@@ -170,6 +192,50 @@ public class VolumeImplementation implements Volume, AdminVolume {
      */
     private PeriodicXcapRenewalThread                 xcapRenewalThread;
 
+    /**
+     * False if the MRC rejected a batched XCap renewal, i.e. XCaps have to be renewed one by one.
+     */
+    private volatile boolean                          batchXCapRenewalSupported = true;
+
+    /**
+     * False if the MRC rejected a batched file size update, i.e. file sizes have to be updated one by one.
+     */
+    private volatile boolean                          batchFileSizeUpdateSupported = true;
+
+    /**
+     * False if the MRC does not support batched creates, i.e. files have to be created one by one.
+     */
+    private volatile boolean                          batchCreateSupported = true;
+
+    /**
+     * False if the MRC does not support batched getattr requests, i.e. attributes have to be retrieved one
+     * by one.
+     */
+    private volatile boolean                          batchGetAttrsSupported = true;
+
+    /**
+     * False if the MRC does not support xtreemfs_get_xlocsets.
+     */
+    private volatile boolean                          batchGetXLocSetsSupported = true;
+
+    /**
+     * False if the MRC does not support xtreemfs_rmdir_recursive and xtreemfs_setattr_recursive, i.e.
+     * directory trees have to be traversed by the client.
+     */
+    private volatile boolean                          recursiveOperationsSupported = true;
+
+    /**
+     * Maximum number of entries the MRC deletes or updates per recursive request. The MRC changes all entries of
+     * a request in a single transaction and does not change more than 500 entries at once.
+     */
+    private static final int                          RECURSIVE_OPERATION_CHUNK_SIZE = 500;
+
+    /**
+     * Time in seconds to wait before repeating a recursive deletion if the MRC did not delete any entries, i.e. it
+     * is still busy deleting the objects of previously deleted files.
+     */
+    private static final int                          RECURSIVE_DELETION_BUSY_DELAY_S = 1;
+
     /**
      * FileSize update thread to update file size periodically.
      */
@@ -477,15 +543,7 @@ public class VolumeImplementation implements Volume, AdminVolume {
      */
     public AdminFileHandle openFile(UserCredentials userCredentials, String path, int flags, int mode,
             int truncateNewFileSize) throws IOException, PosixErrorException, AddressToUUIDNotFoundException {
-        boolean asyncWritesEnabled = (volumeOptions.getMaxWriteahead() > 0);
-
-        if ((SYSTEM_V_FCNTL.SYSTEM_V_FCNTL_H_O_SYNC.getNumber() & flags) > 0) {
-            if (Logging.isDebug()) {
-                Logging.logMessage(Logging.LEVEL_DEBUG, Category.misc, this, "open called with"
-                        + " O_SYNC, async writes were disabled");
-            }
-            asyncWritesEnabled = false;
-        }
+        boolean asyncWritesEnabled = isAsyncWritesEnabled(flags);
 
         openRequest request = openRequest.newBuilder().setVolumeName(volumeName).setPath(path)
                 .setFlags(flags).setMode(mode).setAttributes(0).build();
@@ -502,6 +560,17 @@ public class VolumeImplementation implements Volume, AdminVolume {
 
         assert (response != null);
 
+        return createFileHandle(userCredentials, path, flags, response, asyncWritesEnabled, truncateNewFileSize);
+    }
+
+    /**
+     * Creates a FileHandle from the response of an open request and finishes the open, i.e. updates the
+     * metadata cache and truncates the file if O_TRUNC was set.
+     */
+    private AdminFileHandle createFileHandle(UserCredentials userCredentials, String path, int flags,
+            openResponse response, boolean asyncWritesEnabled, int truncateNewFileSize) throws IOException,
+            PosixErrorException, AddressToUUIDNotFoundException {
+
         // We must have obtained file credentials.
         assert (response.hasCreds());
 
@@ -557,6 +626,113 @@ public class VolumeImplementation implements Volume, AdminVolume {
         return fileHandle;
     }
 
+    private boolean isAsyncWritesEnabled(int flags) {
+        if ((SYSTEM_V_FCNTL.SYSTEM_V_FCNTL_H_O_SYNC.getNumber() & flags) > 0) {
+            if (Logging.isDebug()) {
+                Logging.logMessage(Logging.LEVEL_DEBUG, Category.misc, this, "open called with"
+                        + " O_SYNC, async writes were disabled");
+            }
+            return false;
+        }
+        return volumeOptions.getMaxWriteahead() > 0;
+    }
+
+    /*
+     * (non-Javadoc)
+     * 
+     * @see org.xtreemfs.common.libxtreemfs.Volume#openFileAsync(org.xtreemfs.foundation
+     * .pbrpc.generatedinterfaces.RPC .UserCredentials, java.lang.String, int, int)
+     */
+    @Override
+    public AsyncResult<FileHandle> openFileAsync(final UserCredentials userCredentials, final String path,
+            final int flags, int mode) {
+        if ((flags & SYSTEM_V_FCNTL.SYSTEM_V_FCNTL_H_O_TRUNC.getNumber()) > 0) {
+            return AsyncResult.failed(new PosixErrorException(POSIXErrno.POSIX_ERROR_EINVAL,
+                    "O_TRUNC is not supported by asynchronous open"));
+        }
+        final boolean asyncWritesEnabled = isAsyncWritesEnabled(flags);
+
+        openRequest request = openRequest.newBuilder().setVolumeName(volumeName).setPath(path)
+                .setFlags(flags).setMode(mode).setAttributes(0).build();
+
+        AsyncResult<openResponse> response = RPCCaller.<openRequest, openResponse> asyncCall(SERVICES.MRC,
+                userCredentials, authBogus, volumeOptions, uuidResolver, mrcUUIDIterator, false, request, null,
+                new CallGenerator<openRequest, openResponse>() {
+                    @Override
+                    public RPCResponse<openResponse> executeCall(InetSocketAddress server, Auth authHeader,
+                            UserCredentials userCreds, openRequest input) throws IOException {
+                        return mrcServiceClient.open(server, authHeader, userCreds, input);
+                    }
+                });
+
+        return response.transform(new AsyncResult.Transformation<openResponse, FileHandle>() {
+            @Override
+            FileHandle apply(openResponse response) throws IOException {
+                return createFileHandle(userCredentials, path, flags, response, asyncWritesEnabled, 0);
+            }
+        });
+    }
+
+    /*
+     * (non-Javadoc)
+     * 
+     * @see org.xtreemfs.common.libxtreemfs.Volume#createFiles(org.xtreemfs.foundation
+     * .pbrpc.generatedinterfaces.RPC .UserCredentials, java.lang.String, java.util.List, int, int)
+     */
+    @Override
+    public List<FileHandle> createFiles(UserCredentials userCredentials, String directory, List<String> names,
+            int flags, int mode) throws IOException, PosixErrorException, AddressToUUIDNotFoundException {
+        flags |= SYSTEM_V_FCNTL.SYSTEM_V_FCNTL_H_O_CREAT.getNumber();
+        List<FileHandle> fileHandles = new ArrayList<FileHandle>(names.size());
+        if (names.isEmpty()) {
+            return fileHandles;
+        }
+
+        xtreemfs_create_filesResponse response = null;
+        if (batchCreateSupported) {
+            xtreemfs_create_filesRequest request = xtreemfs_create_filesRequest.newBuilder()
+                    .setVolumeName(volumeName).setDirPath(directory).addAllNames(names).setFlags(flags)
+                    .setMode(mode).setAttributes(0).build();
+
+            try {
+                response = RPCCaller.<xtreemfs_create_filesRequest, xtreemfs_create_filesResponse> syncCall(
+                        SERVICES.MRC, userCredentials, authBogus, volumeOptions, uuidResolver, mrcUUIDIterator,
+                        false, request,
+                        new CallGenerator<xtreemfs_create_filesRequest, xtreemfs_create_filesResponse>() {
+                            @Override
+                            public RPCResponse<xtreemfs_create_filesResponse> executeCall(
+                                    InetSocketAddress server, Auth authHeader, UserCredentials userCreds,
+                                    xtreemfs_create_filesRequest input) throws IOException {
+                                return mrcServiceClient.xtreemfs_create_files(server, authHeader, userCreds,
+                                        input);
+                            }
+                        });
+            } catch (InvalidProcIdException e) {
+                // The MRC is too old to create files in batches.
+                batchCreateSupported = false;
+            }
+        }
+
+        boolean asyncWritesEnabled = isAsyncWritesEnabled(flags);
+        try {
+            for (int i = 0; i < names.size(); i++) {
+                String path = Helper.concatenatePath(directory, names.get(i));
+                if (response != null) {
+                    fileHandles.add(createFileHandle(userCredentials, path, flags, response.getFiles(i),
+                            asyncWritesEnabled, 0));
+                } else {
+                    fileHandles.add(openFile(userCredentials, path, flags, mode));
+                }
+            }
+        } catch (IOException e) {
+            for (FileHandle fileHandle : fileHandles) {
+                fileHandle.close();
+            }
+            throw e;
+        }
+        return fileHandles;
+    }
+
     /*
      * (non-Javadoc)
      * 
@@ -598,17 +774,7 @@ public class VolumeImplementation implements Volume, AdminVolume {
         // Wait until async writes have finished and merge StatCache object with
         // possibly newer information from FileInfo.
         if (fileInfo == null) {
-            // Unknown if this file at "path" is open - look it up by its
-            // fileId.
-            FileInfo fileInfoFromOpenFileTable = openFileTable.get(stat.getIno()); // Ino == fileId
-            if (fileInfoFromOpenFileTable != null) {
-                // File at "path" is opened.
-
-                // Wait for pending asynchronous writes which haven't finished
-                // yet and whose new file size is not considered yet by the stat object.
-                fileInfoFromOpenFileTable.waitForPendingAsyncWrites();
-                stat = fileInfoFromOpenFileTable.mergeStatAndOSDWriteResponse(stat);
-            }
+            stat = mergeStatWithOpenFile(stat, true);
         } else {
             fileInfo.waitForPendingAsyncWrites();
             stat = fileInfo.mergeStatAndOSDWriteResponse(stat);
@@ -616,6 +782,135 @@ public class VolumeImplementation implements Volume, AdminVolume {
         return stat;
     }
 
+    /*
+     * (non-Javadoc)
+     * 
+     * @see org.xtreemfs.common.libxtreemfs.Volume#getAttrAsync(org.xtreemfs.foundation
+     * .pbrpc.generatedinterfaces.RPC .UserCredentials, java.lang.String)
+     */
+    @Override
+    public AsyncResult<Stat> getAttrAsync(UserCredentials userCredentials, final String path) {
+        Stat stat = metadataCache.getStat(path);
+        if (stat != null) {
+            return AsyncResult.succeeded(mergeStatWithOpenFile(stat, false));
+        }
+
+        getattrRequest request = getattrRequest.newBuilder().setVolumeName(volumeName).setPath(path)
+                .setKnownEtag(0).build();
+
+        AsyncResult<getattrResponse> response = RPCCaller.<getattrRequest, getattrResponse> asyncCall(
+                SERVICES.MRC, userCredentials, authBogus, volumeOptions, uuidResolver, mrcUUIDIterator, false,
+                request, null, new CallGenerator<getattrRequest, getattrResponse>() {
+                    @Override
+                    public RPCResponse<getattrResponse> executeCall(InetSocketAddress server, Auth authHeader,
+                            UserCredentials userCreds, getattrRequest input) throws IOException {
+                        return mrcServiceClient.getattr(server, authHeader, userCreds, input);
+                    }
+                });
+
+        return response.transform(new AsyncResult.Transformation<getattrResponse, Stat>() {
+            @Override
+            Stat apply(getattrResponse response) {
+                updateStatCache(path, response.getStbuf());
+                return mergeStatWithOpenFile(response.getStbuf(), false);
+            }
+        });
+    }
+
+    /*
+     * (non-Javadoc)
+     * 
+     * @see org.xtreemfs.common.libxtreemfs.Volume#getAttrs(org.xtreemfs.foundation
+     * .pbrpc.generatedinterfaces.RPC .UserCredentials, java.util.List)
+     */
+    @Override
+    public List<Stat> getAttrs(UserCredentials userCredentials, List<String> paths) throws IOException,
+            PosixErrorException, AddressToUUIDNotFoundException {
+        Stat[] stats = new Stat[paths.size()];
+
+        // Serve as many Stat objects as possible from the StatCache.
+        List<Integer> uncached = new ArrayList<Integer>();
+        for (int i = 0; i < stats.length; i++) {
+            stats[i] = metadataCache.getStat(paths.get(i));
+            if (stats[i] == null) {
+                uncached.add(i);
+            }
+        }
+
+        if (!uncached.isEmpty() && batchGetAttrsSupported) {
+            xtreemfs_getattrsRequest.Builder request = xtreemfs_getattrsRequest.newBuilder().setVolumeName(
+                    volumeName);
+            for (int i : uncached) {
+                request.addPaths(paths.get(i));
+            }
+
+            try {
+                xtreemfs_getattrsResponse response = RPCCaller
+                        .<xtreemfs_getattrsRequest, xtreemfs_getattrsResponse> syncCall(SERVICES.MRC,
+                                userCredentials, authBogus, volumeOptions, uuidResolver, mrcUUIDIterator, false,
+                                request.build(),
+                                new CallGenerator<xtreemfs_getattrsRequest, xtreemfs_getattrsResponse>() {
+                                    @Override
+                                    public RPCResponse<xtreemfs_getattrsResponse> executeCall(
+                                            InetSocketAddress server, Auth authHeader,
+                                            UserCredentials userCreds, xtreemfs_getattrsRequest input)
+                                            throws IOException {
+                                        return mrcServiceClient.xtreemfs_getattrs(server, authHeader, userCreds,
+                                                input);
+                                    }
+                                });
+
+                for (int j = 0; j < uncached.size(); j++) {
+                    getattrResponse stat = response.getStats(j);
+                    if (stat.hasStbuf()) {
+                        int i = uncached.get(j);
+                        stats[i] = stat.getStbuf();
+                        updateStatCache(paths.get(i), stats[i]);
+                    }
+                }
+                uncached.clear();
+            } catch (InvalidProcIdException e) {
+                // The MRC is too old to retrieve attributes in batches.
+                batchGetAttrsSupported = false;
+            }
+        }
+
+        for (int i : uncached) {
+            try {
+                stats[i] = getAttrHelper(userCredentials, paths.get(i));
+            } catch (PosixErrorException e) {
+                stats[i] = null;
+            }
+        }
+
+        for (int i = 0; i < stats.length; i++) {
+            if (stats[i] != null) {
+                stats[i] = mergeStatWithOpenFile(stats[i], true);
+            }
+        }
+        return Arrays.asList(stats);
+    }
+
+    /**
+     * Merges a Stat object with possibly newer information from the FileInfo of the file, if it is open.
+     * If "waitForPendingWrites" is false, the file sizes of pending asynchronous writes are not considered.
+     */
+    private Stat mergeStatWithOpenFile(Stat stat, boolean waitForPendingWrites) {
+        // Unknown if this file is open - look it up by its fileId.
+        FileInfo fileInfoFromOpenFileTable = openFileTable.get(stat.getIno()); // Ino == fileId
+        if (fileInfoFromOpenFileTable != null) {
+            // File is opened.
+
+            // Wait for pending asynchronous writes which haven't finished
+            // yet and whose new file size is not considered yet by the stat object.
+            if (waitForPendingWrites) {
+                fileInfoFromOpenFileTable.waitForPendingAsyncWrites();
+            }
+            stat = fileInfoFromOpenFileTable.mergeStatAndOSDWriteResponse(stat);
+        }
+        return stat;
+    }
+
     private Stat getAttrHelper(UserCredentials userCredentials, String path) throws IOException,
             PosixErrorException, AddressToUUIDNotFoundException {
         // Check if Stat object is cached.
@@ -647,15 +942,19 @@ public class VolumeImplementation implements Volume, AdminVolume {
             assert (response != null);
 
             stat = response.getStbuf();
-            if (stat.getNlink() > 1) { // Do not cache hardlinks
-                metadataCache.invalidate(path);
-            } else {
-                metadataCache.updateStat(path, stat);
-            }
+            updateStatCache(path, stat);
         }
         return stat;
     }
 
+    private void updateStatCache(String path, Stat stat) {
+        if (stat.getNlink() > 1) { // Do not cache hardlinks
+            metadataCache.invalidate(path);
+        } else {
+            metadataCache.updateStat(path, stat);
+        }
+    }
+
     /*
      * (non-Javadoc)
      * 
@@ -703,6 +1002,68 @@ public class VolumeImplementation implements Volume, AdminVolume {
         }
     }
 
+    /*
+     * (non-Javadoc)
+     * 
+     * @see org.xtreemfs.common.libxtreemfs.Volume#setAttrRecursively(org.xtreemfs.foundation
+     * .pbrpc.generatedinterfaces.RPC .UserCredentials, java.lang.String,
+     * org.xtreemfs.pbrpc.generatedinterfaces.MRC.Stat, int)
+     */
+    @Override
+    public void setAttrRecursively(UserCredentials userCredentials, String path, Stat stat, int toSet)
+            throws IOException, PosixErrorException, AddressToUUIDNotFoundException {
+        if (recursiveOperationsSupported) {
+            xtreemfs_setattr_recursiveRequest.Builder request = xtreemfs_setattr_recursiveRequest.newBuilder()
+                    .setVolumeName(volumeName).setPath(path).setStbuf(stat).setToSet(toSet)
+                    .setMaxEntries(RECURSIVE_OPERATION_CHUNK_SIZE);
+
+            try {
+                xtreemfs_setattr_recursiveResponse response;
+                do {
+                    response = RPCCaller
+                            .<xtreemfs_setattr_recursiveRequest, xtreemfs_setattr_recursiveResponse> syncCall(
+                                    SERVICES.MRC, userCredentials, authBogus, volumeOptions, uuidResolver,
+                                    mrcUUIDIterator, false, request.build(),
+                                    new CallGenerator<xtreemfs_setattr_recursiveRequest, xtreemfs_setattr_recursiveResponse>() {
+                                        @Override
+                                        public RPCResponse<xtreemfs_setattr_recursiveResponse> executeCall(
+                                                InetSocketAddress server, Auth authHeader,
+                                                UserCredentials userCreds, xtreemfs_setattr_recursiveRequest input)
+                                                throws IOException {
+                                            return mrcServiceClient.xtreemfs_setattr_recursive(server,
+                                                    authHeader, userCreds, input);
+                                        }
+                                    });
+                    request.setCursor(response.getCursor());
+                } while (response.hasCursor());
+                return;
+            } catch (InvalidProcIdException e) {
+                // The MRC is too old to update directory trees.
+                recursiveOperationsSupported = false;
+            } finally {
+                metadataCache.invalidatePrefix(path);
+            }
+        }
+
+        // Update directories before listing them, like chmod -R.
+        setAttr(userCredentials, path, stat, toSet);
+
+        DirectoryEntriesIterator it = readDirIterator(userCredentials, path, 0, false);
+        while (it.hasNext()) {
+            for (DirectoryEntry entry : it.next().getEntriesList()) {
+                if (entry.getName().equals(".") || entry.getName().equals("..")) {
+                    continue;
+                }
+                String entryPath = Helper.concatenatePath(path, entry.getName());
+                if (isDirectory(entry.getStbuf())) {
+                    setAttrRecursively(userCredentials, entryPath, stat, toSet);
+                } else {
+                    setAttr(userCredentials, entryPath, stat, toSet);
+                }
+            }
+        }
+    }
+
     @Override
     public void unlink(UserCredentials userCredentials, String path) throws IOException, PosixErrorException,
             AddressToUUIDNotFoundException {
@@ -951,6 +1312,128 @@ public class VolumeImplementation implements Volume, AdminVolume {
         metadataCache.invalidateDirEntry(path, Helper.getBasename(path));
     }
 
+    /*
+     * (non-Javadoc)
+     * 
+     * @see org.xtreemfs.common.libxtreemfs.Volume#removeDirectoryRecursively(org.xtreemfs.
+     * foundation.pbrpc.generatedinterfaces .RPC.UserCredentials, java.lang.String)
+     */
+    @Override
+    public void removeDirectoryRecursively(UserCredentials userCredentials, String path) throws IOException,
+            PosixErrorException, AddressToUUIDNotFoundException {
+        if (recursiveOperationsSupported) {
+            xtreemfs_rmdir_recursiveRequest request = xtreemfs_rmdir_recursiveRequest.newBuilder()
+                    .setVolumeName(volumeName).setPath(path).setMaxEntries(RECURSIVE_OPERATION_CHUNK_SIZE).build();
+
+            try {
+                xtreemfs_rmdir_recursiveResponse response;
+                do {
+                    response = RPCCaller
+                            .<xtreemfs_rmdir_recursiveRequest, xtreemfs_rmdir_recursiveResponse> syncCall(
+                                    SERVICES.MRC, userCredentials, authBogus, volumeOptions, uuidResolver,
+                                    mrcUUIDIterator, false, request,
+                                    new CallGenerator<xtreemfs_rmdir_recursiveRequest, xtreemfs_rmdir_recursiveResponse>() {
+                                        @Override
+                                        public RPCResponse<xtreemfs_rmdir_recursiveResponse> executeCall(
+                                                InetSocketAddress server, Auth authHeader,
+                                                UserCredentials userCreds, xtreemfs_rmdir_recursiveRequest input)
+                                                throws IOException {
+                                            return mrcServiceClient.xtreemfs_rmdir_recursive(server, authHeader,
+                                                    userCreds, input);
+                                        }
+                                    });
+                    if (!response.getComplete() && response.getNumDeleted() == 0) {
+                        RPCCaller.waitDelay(RECURSIVE_DELETION_BUSY_DELAY_S);
+                    }
+                } while (!response.getComplete());
+
+                String parentDir = Helper.resolveParentDirectory(path);
+                metadataCache.updateStatTime(parentDir, response.getTimestampS(),
+                        Setattrs.SETATTR_CTIME.getNumber() | Setattrs.SETATTR_MTIME.getNumber());
+                metadataCache.invalidateDirEntry(parentDir, Helper.getBasename(path));
+                return;
+            } catch (InvalidProcIdException e) {
+                // The MRC is too old to delete directory trees.
+                recursiveOperationsSupported = false;
+            } finally {
+                metadataCache.invalidatePrefix(path);
+            }
+        }
+
+        // Collect the entries before deleting them, as deleting entries while
+        // listing the directory by offset would skip entries.
+        List<String> subdirs = new ArrayList<String>();
+        List<String> files = new ArrayList<String>();
+        DirectoryEntriesIterator it = readDirIterator(userCredentials, path, 0, false);
+        while (it.hasNext()) {
+            for (DirectoryEntry entry : it.next().getEntriesList()) {
+                if (entry.getName().equals(".") || entry.getName().equals("..")) {
+                    continue;
+                }
+                if (isDirectory(entry.getStbuf())) {
+                    subdirs.add(Helper.concatenatePath(path, entry.getName()));
+                } else {
+                    files.add(Helper.concatenatePath(path, entry.getName()));
+                }
+            }
+        }
+
+        for (String file : files) {
+            unlink(userCredentials, file);
+        }
+        for (String subdir : subdirs) {
+            removeDirectoryRecursively(userCredentials, subdir);
+        }
+        removeDirectory(userCredentials, path);
+    }
+
+    private static boolean isDirectory(Stat stat) {
+        return (stat.getMode() & SYSTEM_V_FCNTL.SYSTEM_V_FCNTL_H_S_IFDIR.getNumber()) != 0;
+    }
+
+    /*
+     * (non-Javadoc)
+     * 
+     * @see org.xtreemfs.common.libxtreemfs.Volume#readDirIterator(org.xtreemfs.foundation
+     * .pbrpc.generatedinterfaces.RPC .UserCredentials, java.lang.String, int, boolean)
+     */
+    @Override
+    public DirectoryEntriesIterator readDirIterator(UserCredentials userCredentials, String path, int pageSize,
+            boolean namesOnly) {
+        if (pageSize <= 0) {
+            pageSize = volumeOptions.getReaddirChunkSize();
+        }
+        return new DirectoryEntriesIterator(this, userCredentials, path, pageSize, namesOnly);
+    }
+
+    /**
+     * Retrieves up to "limit" entries of a directory from the MRC. If "cursor" is not null, the entries
+     * following the cursor are returned. Otherwise, the entries following the first "offset" entries are
+     * returned.
+     */
+    DirectoryEntries readDirChunk(UserCredentials userCredentials, String path, int offset, String cursor,
+            int limit, boolean namesOnly) throws IOException, PosixErrorException, AddressToUUIDNotFoundException {
+        readdirRequest.Builder request = readdirRequest.newBuilder().setPath(path).setVolumeName(volumeName)
+                .setNamesOnly(namesOnly).setKnownEtag(0).setSeenDirectoryEntriesCount(offset)
+                .setLimitDirectoryEntriesCount(limit);
+        if (cursor != null) {
+            request.setContinuationCursor(cursor);
+        }
+
+        DirectoryEntries readDirResponse = RPCCaller.<readdirRequest, DirectoryEntries> syncCall(SERVICES.MRC,
+                userCredentials, authBogus, volumeOptions, uuidResolver, mrcUUIDIterator, false, request.build(),
+                new CallGenerator<readdirRequest, DirectoryEntries>() {
+                    @Override
+                    public RPCResponse<DirectoryEntries> executeCall(InetSocketAddress server, Auth authHeader,
+                            UserCredentials userCreds, readdirRequest input) throws IOException {
+                        return mrcServiceClient.readdir(server, authHeader, userCreds, input);
+                    }
+                });
+
+        assert (readDirResponse != null);
+        return readDirResponse;
+    }
+
     /*
      * (non-Javadoc)
      * 
@@ -973,56 +1456,53 @@ public class VolumeImplementation implements Volume, AdminVolume {
 
         DirectoryEntries.Builder dirEntriesBuilder = DirectoryEntries.newBuilder();
 
-        // Process large requests in multiples of readdirChunkSize.
+        // Process large requests in multiples of readdirChunkSize. Subsequent chunks are requested with the
+        // continuation cursor of the previous chunk, if the MRC supports it.
+        String cursor = null;
         for (int currentOffset = offset; currentOffset < offset + count; currentOffset += volumeOptions
                 .getReaddirChunkSize()) {
 
             int limitDirEntriesCount = (currentOffset > offset + count) ? (currentOffset - offset - count)
                     : volumeOptions.getReaddirChunkSize();
 
-            readdirRequest request = readdirRequest.newBuilder().setPath(path).setVolumeName(volumeName)
-                    .setNamesOnly(namesOnly).setKnownEtag(0).setSeenDirectoryEntriesCount(currentOffset)
-                    .setLimitDirectoryEntriesCount(limitDirEntriesCount).build();
-
-            DirectoryEntries readDirResponse = RPCCaller.<readdirRequest, DirectoryEntries> syncCall(SERVICES.MRC,
-                    userCredentials,
-                    authBogus, volumeOptions, uuidResolver, mrcUUIDIterator, false, request,
-                    new CallGenerator<readdirRequest, DirectoryEntries>() {
-                        @Override
-                        public RPCResponse<DirectoryEntries> executeCall(InetSocketAddress server,
-                                Auth authHeader, UserCredentials userCreds, readdirRequest input)
-                                throws IOException {
-                            return mrcServiceClient.readdir(server, authHeader, userCreds, input);
-                        }
-                    });
-
-            assert (readDirResponse != null);
+            DirectoryEntries readDirResponse = readDirChunk(userCredentials, path, currentOffset, cursor,
+                    limitDirEntriesCount, namesOnly);
 
             dirEntriesBuilder.addAllEntries(readDirResponse.getEntriesList());
 
             // Break if this is the last chunk.
-            if (dirEntriesBuilder.getEntriesCount() < (currentOffset + volumeOptions.getReaddirChunkSize())) {
+            if (readDirResponse.getEntriesCount() < limitDirEntriesCount) {
                 break;
             }
+            cursor = readDirResponse.hasContinuationCursor() ? readDirResponse.getContinuationCursor() : null;
         }
 
         // TODO: Merge possible pending file size updates of files into
         // the stat entries of listed files.
 
+        result = dirEntriesBuilder.build();
+        cacheDirEntries(path, offset, count, namesOnly, result);
+        return result;
+    }
+
+    /**
+     * Caches the Stat objects of a readdir result and, if it contains the complete directory, the result
+     * itself.
+     */
+    private void cacheDirEntries(String path, int offset, int count, boolean namesOnly, DirectoryEntries result) {
         // Cache the first stat buffers that fit into the cache.
         int minimum = //
-        (volumeOptions.getMetadataCacheSize() > dirEntriesBuilder.getEntriesCount()) //
-        ? dirEntriesBuilder.getEntriesCount()
+        (volumeOptions.getMetadataCacheSize() > result.getEntriesCount()) //
+        ? result.getEntriesCount()
                 : volumeOptions.getMetadataCacheSize();
 
         for (int i = 0; i < minimum; i++) {
-            if (dirEntriesBuilder.getEntries(i).hasStbuf()) {
-                if (dirEntriesBuilder.getEntries(i).getStbuf().getNlink() > 1) { // Do not cache hard links.
+            if (result.getEntries(i).hasStbuf()) {
+                if (result.getEntries(i).getStbuf().getNlink() > 1) { // Do not cache hard links.
                     metadataCache.invalidate(path);
                 } else {
-                    metadataCache.updateStat(
-                            Helper.concatenatePath(path, dirEntriesBuilder.getEntries(i).getName()),
-                            dirEntriesBuilder.getEntries(i).getStbuf());
+                    metadataCache.updateStat(Helper.concatenatePath(path, result.getEntries(i).getName()),
+                            result.getEntries(i).getStbuf());
                 }
             }
         }
@@ -1035,12 +1515,50 @@ public class VolumeImplementation implements Volume, AdminVolume {
         // condition.
         // TODO: Set an upper bound of dentries, otherwise don't cache it.
 
-        result = dirEntriesBuilder.build();
-
         if (!namesOnly && offset == 0 && result.getEntriesCount() < count) {
             metadataCache.updateDirEntries(path, result);
         }
-        return result;
+    }
+
+    /*
+     * (non-Javadoc)
+     * 
+     * @see org.xtreemfs.common.libxtreemfs.Volume#readDirAsync(org.xtreemfs.foundation
+     * .pbrpc.generatedinterfaces.RPC .UserCredentials, java.lang.String, int, int, boolean)
+     */
+    @Override
+    public AsyncResult<DirectoryEntries> readDirAsync(UserCredentials userCredentials, final String path,
+            final int offset, int count, final boolean namesOnly) {
+        // A limit of 0 makes the MRC return all entries beginning at "offset".
+        final int limit = count;
+        final int requestedCount = count == 0 ? Integer.MAX_VALUE - offset - 1 : count;
+
+        DirectoryEntries cached = metadataCache.getDirEntries(path, offset, requestedCount);
+        if (cached != null) {
+            return AsyncResult.succeeded(cached);
+        }
+
+        readdirRequest request = readdirRequest.newBuilder().setPath(path).setVolumeName(volumeName)
+                .setNamesOnly(namesOnly).setKnownEtag(0).setSeenDirectoryEntriesCount(offset)
+                .setLimitDirectoryEntriesCount(limit).build();
+
+        AsyncResult<DirectoryEntries> response = RPCCaller.<readdirRequest, DirectoryEntries> asyncCall(
+                SERVICES.MRC, userCredentials, authBogus, volumeOptions, uuidResolver, mrcUUIDIterator, false,
+                request, null, new CallGenerator<readdirRequest, DirectoryEntries>() {
+                    @Override
+                    public RPCResponse<DirectoryEntries> executeCall(InetSocketAddress server, Auth authHeader,
+                            UserCredentials userCreds, readdirRequest input) throws IOException {
+                        return mrcServiceClient.readdir(server, authHeader, userCreds, input);
+                    }
+                });
+
+        return response.transform(new AsyncResult.Transformation<DirectoryEntries, DirectoryEntries>() {
+            @Override
+            DirectoryEntries apply(DirectoryEntries result) {
+                cacheDirEntries(path, offset, requestedCount, namesOnly, result);
+                return result;
+            }
+        });
     }
 
     /*
@@ -1094,6 +1612,45 @@ public class VolumeImplementation implements Volume, AdminVolume {
         return response;
     }
 
+    /*
+     * (non-Javadoc)
+     * 
+     * @see org.xtreemfs.common.libxtreemfs.Volume#listXAttrsAsync(org.xtreemfs.foundation
+     * .pbrpc.generatedinterfaces .RPC.UserCredentials, java.lang.String, boolean)
+     */
+    @Override
+    public AsyncResult<listxattrResponse> listXAttrsAsync(UserCredentials userCredentials, final String path,
+            boolean useCache) {
+        if (useCache) {
+            listxattrResponse cached = metadataCache.getXAttrs(path);
+            if (cached != null) {
+                return AsyncResult.succeeded(cached);
+            }
+        }
+
+        listxattrRequest request = listxattrRequest.newBuilder().setVolumeName(volumeName).setPath(path)
+                .setNamesOnly(false).build();
+
+        AsyncResult<listxattrResponse> response = RPCCaller.<listxattrRequest, listxattrResponse> asyncCall(
+                SERVICES.MRC, userCredentials, authBogus, volumeOptions, uuidResolver, mrcUUIDIterator, false,
+                request, null, new CallGenerator<listxattrRequest, listxattrResponse>() {
+                    @Override
+                    public RPCResponse<listxattrResponse> executeCall(InetSocketAddress server,
+                            Auth authHeader, UserCredentials userCreds, listxattrRequest input)
+                            throws IOException {
+                        return mrcServiceClient.listxattr(server, authHeader, userCreds, input);
+                    }
+                });
+
+        return response.transform(new AsyncResult.Transformation<listxattrResponse, listxattrResponse>() {
+            @Override
+            listxattrResponse apply(listxattrResponse response) {
+                metadataCache.updateXAttrs(path, response);
+                return response;
+            }
+        });
+    }
+
     /*
      * (non-Javadoc)
      * 
@@ -1155,6 +1712,39 @@ public class VolumeImplementation implements Volume, AdminVolume {
         metadataCache.updateXAttr(path, name, value);
     }
 
+    /*
+     * (non-Javadoc)
+     * 
+     * @see org.xtreemfs.common.libxtreemfs.Volume#setXAttrAsync(org.xtreemfs.foundation
+     * .pbrpc.generatedinterfaces.RPC .UserCredentials, java.lang.String, java.lang.String, java.lang.String,
+     * org.xtreemfs.pbrpc.generatedinterfaces.MRC.XATTR_FLAGS)
+     */
+    @Override
+    public AsyncResult<Void> setXAttrAsync(UserCredentials userCredentials, final String path,
+            final String name, final String value, XATTR_FLAGS flags) {
+        setxattrRequest request = setxattrRequest.newBuilder().setVolumeName(volumeName).setPath(path)
+                .setName(name).setValue(value).setFlags(flags.getNumber()).build();
+
+        AsyncResult<timestampResponse> response = RPCCaller.<setxattrRequest, timestampResponse> asyncCall(
+                SERVICES.MRC, userCredentials, authBogus, volumeOptions, uuidResolver, mrcUUIDIterator, false,
+                request, null, new CallGenerator<setxattrRequest, timestampResponse>() {
+                    @Override
+                    public RPCResponse<timestampResponse> executeCall(InetSocketAddress server,
+                            Auth authHeader, UserCredentials userCreds, setxattrRequest input)
+                            throws IOException {
+                        return mrcServiceClient.setxattr(server, authHeader, userCreds, input);
+                    }
+                });
+
+        return response.transform(new AsyncResult.Transformation<timestampResponse, Void>() {
+            @Override
+            Void apply(timestampResponse response) {
+                metadataCache.updateXAttr(path, name, value);
+                return null;
+            }
+        });
+    }
+
     /*
      * (non-Javadoc)
      * 
@@ -1218,6 +1808,59 @@ public class VolumeImplementation implements Volume, AdminVolume {
         return null;
     }
 
+    /*
+     * (non-Javadoc)
+     * 
+     * @see org.xtreemfs.common.libxtreemfs.Volume#getXAttrAsync(org.xtreemfs.foundation
+     * .pbrpc.generatedinterfaces.RPC .UserCredentials, java.lang.String, java.lang.String)
+     */
+    @Override
+    public AsyncResult<String> getXAttrAsync(UserCredentials userCredentials, String path, final String name) {
+        if (name.startsWith("xtreemfs.")) {
+            // Retrieve only the value of the requested attribute, not the whole list.
+            getxattrRequest request = getxattrRequest.newBuilder().setVolumeName(volumeName).setPath(path)
+                    .setName(name).build();
+
+            AsyncResult<getxattrResponse> response = RPCCaller.<getxattrRequest, getxattrResponse> asyncCall(
+                    SERVICES.MRC, userCredentials, authBogus, volumeOptions, uuidResolver, mrcUUIDIterator,
+                    false, request, null, new CallGenerator<getxattrRequest, getxattrResponse>() {
+                        @Override
+                        public RPCResponse<getxattrResponse> executeCall(InetSocketAddress server,
+                                Auth authHeader, UserCredentials userCreds, getxattrRequest input)
+                                throws IOException {
+                            return mrcServiceClient.getxattr(server, authHeader, userCreds, input);
+                        }
+                    });
+
+            return response.transform(new AsyncResult.Transformation<getxattrResponse, String>() {
+                @Override
+                String apply(getxattrResponse response) {
+                    return response.hasValue() ? response.getValue() : null;
+                }
+            });
+        }
+
+        // No "xtreemfs." attribute, lookup metadata cache.
+        Tupel<String, Boolean> cachedXattr = metadataCache.getXAttr(path, name);
+        if (cachedXattr.getFirst() == null && cachedXattr.getSecond()) {
+            // All attributes were cached but the requested attribute was not found.
+            return AsyncResult.succeeded(null);
+        }
+
+        return listXAttrsAsync(userCredentials, path, true).transform(
+                new AsyncResult.Transformation<listxattrResponse, String>() {
+                    @Override
+                    String apply(listxattrResponse xattrList) {
+                        for (XAttr xattr : xattrList.getXattrsList()) {
+                            if (xattr.getName().equals(name)) {
+                                return xattr.getValue();
+                            }
+                        }
+                        return null;
+                    }
+                });
+    }
+
     /*
      * (non-Javadoc)
      * 
@@ -1296,6 +1939,38 @@ public class VolumeImplementation implements Volume, AdminVolume {
         metadataCache.invalidateXAttr(path, name);
     }
 
+    /*
+     * (non-Javadoc)
+     * 
+     * @see org.xtreemfs.common.libxtreemfs.Volume#removeXAttrAsync(org.xtreemfs.foundation
+     * .pbrpc.generatedinterfaces .RPC.UserCredentials, java.lang.String, java.lang.String)
+     */
+    @Override
+    public AsyncResult<Void> removeXAttrAsync(UserCredentials userCredentials, final String path,
+            final String name) {
+        removexattrRequest request = removexattrRequest.newBuilder().setVolumeName(volumeName).setPath(path)
+                .setName(name).build();
+
+        AsyncResult<timestampResponse> response = RPCCaller.<removexattrRequest, timestampResponse> asyncCall(
+                SERVICES.MRC, userCredentials, authBogus, volumeOptions, uuidResolver, mrcUUIDIterator, false,
+                request, null, new CallGenerator<removexattrRequest, timestampResponse>() {
+                    @Override
+                    public RPCResponse<timestampResponse> executeCall(InetSocketAddress server,
+                            Auth authHeader, UserCredentials userCreds, removexattrRequest input)
+                            throws IOException {
+                        return mrcServiceClient.removexattr(server, authHeader, userCreds, input);
+                    }
+                });
+
+        return response.transform(new AsyncResult.Transformation<timestampResponse, Void>() {
+            @Override
+            Void apply(timestampResponse response) {
+                metadataCache.invalidateXAttr(path, name);
+                return null;
+            }
+        });
+    }
+
     /*
      * (non-Javadoc)
      * 
@@ -1606,6 +2281,147 @@ public class VolumeImplementation implements Volume, AdminVolume {
         }
     }
 
+    /**
+     * Renews the XCaps of the given file handles asynchronously with a single RPC. If the MRC does not support
+     * batched renewals, the XCaps are renewed one by one.
+     */
+    protected void renewXCapsAsync(List<FileHandleImplementation> fileHandles) throws IOException,
+            AddressToUUIDNotFoundException {
+        if (!batchXCapRenewalSupported) {
+            for (FileHandleImplementation fileHandle : fileHandles) {
+                fileHandle.renewXCapAsync();
+            }
+            return;
+        }
+
+        final List<FileHandleImplementation> renewedFileHandles = new ArrayList<FileHandleImplementation>(
+                fileHandles);
+        xtreemfs_renew_capabilitiesRequest.Builder request = xtreemfs_renew_capabilitiesRequest.newBuilder();
+        for (FileHandleImplementation fileHandle : renewedFileHandles) {
+            request.addXcaps(fileHandle.startXCapRenewal());
+        }
+
+        RPCResponse<xtreemfs_renew_capabilitiesResponse> r = null;
+        try {
+            String address = uuidResolver.uuidToAddress(mrcUUIDIterator.getUUID());
+            InetSocketAddress server = RPCCaller.getInetSocketAddressFromAddress(address, SERVICES.MRC);
+            r = mrcServiceClient.xtreemfs_renew_capabilities(server, authBogus, userCredentialsBogus,
+                    request.build());
+        } finally {
+            if (r == null) {
+                for (FileHandleImplementation fileHandle : renewedFileHandles) {
+                    fileHandle.finishXCapRenewal(null);
+                }
+            }
+        }
+
+        r.registerListener(new RPCResponseAvailableListener<xtreemfs_renew_capabilitiesResponse>() {
+            @Override
+            public void responseAvailable(RPCResponse<xtreemfs_renew_capabilitiesResponse> r) {
+                List<XCap> newXCaps = null;
+                try {
+                    newXCaps = r.get().getXcapsList();
+                } catch (PBRPCException e) {
+                    if (e.getErrorType() == ErrorType.INVALID_PROC_ID) {
+                        // The MRC is too old to renew XCaps in batches.
+                        batchXCapRenewalSupported = false;
+                    }
+                    if (Logging.isDebug()) {
+                        Logging.logMessage(Logging.LEVEL_DEBUG, Category.misc, this, "renewXCapsAsync: Renewing"
+                                + " %s XCaps failed. Error: %s", renewedFileHandles.size(), e.getMessage());
+                    }
+                } catch (Exception e) {
+                    if (Logging.isDebug()) {
+                        Logging.logMessage(Logging.LEVEL_DEBUG, Category.misc, this, "renewXCapsAsync: Renewing"
+                                + " %s XCaps failed. Error: %s", renewedFileHandles.size(), e.getMessage());
+                    }
+                } finally {
+                    r.freeBuffers();
+                    for (int i = 0; i < renewedFileHandles.size(); i++) {
+                        renewedFileHandles.get(i).finishXCapRenewal(
+                                newXCaps != null && i < newXCaps.size() ? newXCaps.get(i) : null);
+                    }
+                }
+            }
+        });
+    }
+
+    /**
+     * Sends the pending file size updates of the given temporary file handles asynchronously with a single
+     * RPC. If the MRC does not support batched file size updates, they are sent one by one.
+     */
+    protected void writeBackFileSizesAsync(List<FileHandleImplementation> fileHandles) throws IOException,
+            AddressToUUIDNotFoundException {
+        if (!batchFileSizeUpdateSupported) {
+            IOException error = null;
+            for (FileHandleImplementation fileHandle : fileHandles) {
+                try {
+                    fileHandle.writeBackFileSizeAsync();
+                } catch (IOException e) {
+                    fileHandle.fileSizeUpdateFinished(false);
+                    error = e;
+                }
+            }
+            if (error != null) {
+                throw error;
+            }
+            return;
+        }
+
+        final List<FileHandleImplementation> updatedFileHandles = new ArrayList<FileHandleImplementation>(
+                fileHandles);
+        xtreemfs_update_file_sizesRequest.Builder request = xtreemfs_update_file_sizesRequest.newBuilder();
+        for (FileHandleImplementation fileHandle : updatedFileHandles) {
+            request.addUpdates(fileHandle.getFileSizeUpdateRequest());
+        }
+
+        RPCResponse<xtreemfs_update_file_sizesResponse> r = null;
+        try {
+            String address = uuidResolver.uuidToAddress(mrcUUIDIterator.getUUID());
+            InetSocketAddress server = RPCCaller.getInetSocketAddressFromAddress(address, SERVICES.MRC);
+            r = mrcServiceClient.xtreemfs_update_file_sizes(server, authBogus, userCredentialsBogus,
+                    request.build());
+        } finally {
+            if (r == null) {
+                for (FileHandleImplementation fileHandle : updatedFileHandles) {
+                    fileHandle.fileSizeUpdateFinished(false);
+                }
+            }
+        }
+
+        r.registerListener(new RPCResponseAvailableListener<xtreemfs_update_file_sizesResponse>() {
+            @Override
+            public void responseAvailable(RPCResponse<xtreemfs_update_file_sizesResponse> r) {
+                List<Boolean> success = null;
+                try {
+                    success = r.get().getSuccessList();
+                } catch (PBRPCException e) {
+                    if (e.getErrorType() == ErrorType.INVALID_PROC_ID) {
+                        // The MRC is too old to update file sizes in batches.
+                        batchFileSizeUpdateSupported = false;
+                    }
+                    if (Logging.isDebug()) {
+                        Logging.logMessage(Logging.LEVEL_DEBUG, Category.misc, this, "writeBackFileSizesAsync:"
+                                + " Updating %s file sizes failed. Error: %s", updatedFileHandles.size(),
+                                e.getMessage());
+                    }
+                } catch (Exception e) {
+                    if (Logging.isDebug()) {
+                        Logging.logMessage(Logging.LEVEL_DEBUG, Category.misc, this, "writeBackFileSizesAsync:"
+                                + " Updating %s file sizes failed. Error: %s", updatedFileHandles.size(),
+                                e.getMessage());
+                    }
+                } finally {
+                    r.freeBuffers();
+                    for (int i = 0; i < updatedFileHandles.size(); i++) {
+                        updatedFileHandles.get(i).fileSizeUpdateFinished(
+                                success != null && i < success.size() && success.get(i));
+                    }
+                }
+            }
+        });
+    }
+
     protected UUIDIterator getMrcUuidIterator() {
         return this.mrcUUIDIterator;
     }
@@ -1657,11 +2473,89 @@ public class VolumeImplementation implements Volume, AdminVolume {
     public List<StripeLocation> getStripeLocations(UserCredentials userCredentials, String path,
             long startSize, long length) throws IOException, PosixErrorException,
             AddressToUUIDNotFoundException {
+        return getStripeLocations(getXLocSetByOpen(userCredentials, path), startSize, length,
+                new HashMap<String, String>());
+    }
+
+    /*
+     * (non-Javadoc)
+     * 
+     * @see
+     * org.xtreemfs.common.libxtreemfs.Volume#getStripeLocations(org.xtreemfs.foundation.pbrpc.generatedinterfaces
+     * .RPC.UserCredentials, java.util.List, java.util.List)
+     */
+    @Override
+    public List<List<StripeLocation>> getStripeLocations(UserCredentials userCredentials, List<String> paths,
+            List<Long> lengths) throws IOException, PosixErrorException, AddressToUUIDNotFoundException {
+        XLocSet[] xLocSets = new XLocSet[paths.size()];
+
+        if (!paths.isEmpty() && batchGetXLocSetsSupported) {
+            xtreemfs_get_xlocsetsRequest request = xtreemfs_get_xlocsetsRequest.newBuilder()
+                    .setVolumeName(volumeName).addAllPaths(paths).build();
+
+            try {
+                xtreemfs_get_xlocsetsResponse response = RPCCaller
+                        .<xtreemfs_get_xlocsetsRequest, xtreemfs_get_xlocsetsResponse> syncCall(SERVICES.MRC,
+                                userCredentials, authBogus, volumeOptions, uuidResolver, mrcUUIDIterator, false,
+                                request,
+                                new CallGenerator<xtreemfs_get_xlocsetsRequest, xtreemfs_get_xlocsetsResponse>() {
+                                    @Override
+                                    public RPCResponse<xtreemfs_get_xlocsetsResponse> executeCall(
+                                            InetSocketAddress server, Auth authHeader,
+                                            UserCredentials userCreds, xtreemfs_get_xlocsetsRequest input)
+                                            throws IOException {
+                                        return mrcServiceClient.xtreemfs_get_xlocsets(server, authHeader,
+                                                userCreds, input);
+                                    }
+                                });
+
+                for (int i = 0; i < xLocSets.length; i++) {
+                    xLocSets[i] = response.getXlocsets(i);
+                }
+            } catch (InvalidProcIdException e) {
+                // The MRC is too old to retrieve XLocSets in batches.
+                batchGetXLocSetsSupported = false;
+            }
+        }
+
+        // Resolve the hostname of each OSD only once.
+        Map<String, String> hostnames = new HashMap<String, String>();
+
+        List<List<StripeLocation>> stripeLocations = new ArrayList<List<StripeLocation>>(paths.size());
+        for (int i = 0; i < xLocSets.length; i++) {
+            if (xLocSets[i] == null) {
+                try {
+                    xLocSets[i] = getXLocSetByOpen(userCredentials, paths.get(i));
+                } catch (PosixErrorException e) {
+                    stripeLocations.add(Collections.<StripeLocation> emptyList());
+                    continue;
+                }
+            }
+
+            if (xLocSets[i].getReplicasCount() == 0) {
+                stripeLocations.add(Collections.<StripeLocation> emptyList());
+            } else {
+                stripeLocations.add(getStripeLocations(xLocSets[i], 0, lengths.get(i), hostnames));
+            }
+        }
+        return stripeLocations;
+    }
+
+    private XLocSet getXLocSetByOpen(UserCredentials userCredentials, String path) throws IOException,
+            PosixErrorException, AddressToUUIDNotFoundException {
         FileHandleImplementation fileHandle = (FileHandleImplementation) this.openFile(userCredentials, path,
                 SYSTEM_V_FCNTL.SYSTEM_V_FCNTL_H_O_RDONLY.getNumber());
         XLocSet xLocs = fileHandle.getXlocSet();
         fileHandle.close();
+        return xLocs;
+    }
 
+    /**
+     * Maps the stripes of the given range to the OSDs of all replicas in "xLocs". Resolved hostnames are stored
+     * in "hostnames" by UUID, or null if the hostname of an OSD can't be resolved.
+     */
+    private List<StripeLocation> getStripeLocations(XLocSet xLocs, long startSize, long length,
+            Map<String, String> hostnames) throws AddressToUUIDNotFoundException {
         long stripeSize = xLocs.getReplicas(0).getStripingPolicy().getStripeSize() * 1024;
         long indexOfFirstStripeToConsider = (startSize / stripeSize);
         long remainingLengthOfFirstStripe = Math.min(length, stripeSize - (startSize % stripeSize));
@@ -1671,16 +2565,16 @@ public class VolumeImplementation implements Volume, AdminVolume {
         // add first Stripe
         ArrayList<String> uuids = getUuidsForStripeFromReplicas(xLocs.getReplicasList(),
                 indexOfFirstStripeToConsider);
-        ArrayList<String> hostnames = resolveHostnamesFromUuids(uuids);
+        ArrayList<String> hosts = resolveHostnamesFromUuids(uuids, hostnames);
         stripeLocations.add(new StripeLocation(startSize, remainingLengthOfFirstStripe, uuids
-                .toArray(new String[uuids.size()]), hostnames.toArray(new String[hostnames.size()])));
+                .toArray(new String[uuids.size()]), hosts.toArray(new String[hosts.size()])));
 
         for (long index = indexOfFirstStripeToConsider + 1; index * stripeSize < startSize + length; index++) {
             uuids = getUuidsForStripeFromReplicas(xLocs.getReplicasList(), index);
-            hostnames = resolveHostnamesFromUuids(uuids);
+            hosts = resolveHostnamesFromUuids(uuids, hostnames);
             stripeLocations.add(new StripeLocation(index * stripeSize, Math.min(stripeSize, startSize
-                    + length - index * stripeSize), uuids.toArray(new String[uuids.size()]), hostnames
-                    .toArray(new String[hostnames.size()])));
+                    + length - index * stripeSize), uuids.toArray(new String[uuids.size()]), hosts
+                    .toArray(new String[hosts.size()])));
         }
         return stripeLocations;
     }
@@ -1693,32 +2587,23 @@ public class VolumeImplementation implements Volume, AdminVolume {
         return Helper.getNumObjects(userCredentials, fileAttr, stripingPolicy);
     }
 
-    private ArrayList<String> resolveHostnamesFromUuids(ArrayList<String> uuids)
+    private ArrayList<String> resolveHostnamesFromUuids(ArrayList<String> uuids, Map<String, String> resolved)
             throws AddressToUUIDNotFoundException {
         ArrayList<String> hostnames = new ArrayList<String>();
         for (int i = 0; i < uuids.size(); i++) {
-            String hostname = uuidResolver.uuidToAddress(uuids.get(i));
-            hostname = hostname.substring(0, hostname.lastIndexOf(':'));
-            if (isIpAddress(hostname)) {
-                try {
-                    InetSocketAddress address = new InetSocketAddress(InetAddress.getByName(hostname), 0);
-                    hostname = address.getHostName();
-                } catch (Exception e) {
-                    hostname = null;
-                }
+            String hostname;
+            if (resolved.containsKey(uuids.get(i))) {
+                hostname = resolved.get(uuids.get(i));
+            } else {
+                hostname = resolveHostnameFromUuid(uuids.get(i));
+                resolved.put(uuids.get(i), hostname);
+            }
 
-                if (hostname == null) {
-                    // if hostname can't be resolved correctly, delete corresponding uuid. Also decrement
-                    // the counter i to not skip entries in the uuid list!
-                    if (Logging.isDebug()) {
-                        Logging.logMessage(Logging.LEVEL_DEBUG, this,
-                                "Couldn't resolve hostname for uuid %s", uuids.get(i));
-                    }
-                    uuids.remove(i);
-                    i--;
-                } else {
-                    hostnames.add(hostname);
-                }
+            if (hostname == null) {
+                // if hostname can't be resolved correctly, delete corresponding uuid. Also decrement
+                // the counter i to not skip entries in the uuid list!
+                uuids.remove(i);
+                i--;
             } else {
                 hostnames.add(hostname);
             }
@@ -1726,6 +2611,28 @@ public class VolumeImplementation implements Volume, AdminVolume {
         return hostnames;
     }
 
+    /**
+     * Returns the hostname of the service with the given UUID, or null if its IP address can't be resolved to a
+     * hostname.
+     */
+    private String resolveHostnameFromUuid(String uuid) throws AddressToUUIDNotFoundException {
+        String hostname = uuidResolver.uuidToAddress(uuid);
+        hostname = hostname.substring(0, hostname.lastIndexOf(':'));
+        if (isIpAddress(hostname)) {
+            try {
+                InetSocketAddress address = new InetSocketAddress(InetAddress.getByName(hostname), 0);
+                hostname = address.getHostName();
+            } catch (Exception e) {
+                hostname = null;
+            }
+
+            if (hostname == null && Logging.isDebug()) {
+                Logging.logMessage(Logging.LEVEL_DEBUG, this, "Couldn't resolve hostname for uuid %s", uuid);
+            }
+        }
+        return hostname;
+    }
+
     private ArrayList<String> getUuidsForStripeFromReplicas(List<Replica> replicasList, long stripeIndex) {
         ArrayList<String> uuids = new ArrayList<String>();
         for (Replica replica : replicasList) {
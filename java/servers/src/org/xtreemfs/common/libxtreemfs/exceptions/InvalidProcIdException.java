@@ -0,0 +1,22 @@
+/*
+ * Copyright (c) 2015 by Zuse Institute Berlin
+ *
+ * Licensed under the BSD License, see LICENSE file for details.
+ *
+ */
+package org.xtreemfs.common.libxtreemfs.exceptions;
+
+/**
+ * This exception is thrown, when a server does not know the procedure of a request, e.g. because it runs an
+ * older version. <br>
+ * The client may fall back to other procedures that provide the same functionality.
+ **/
+public class InvalidProcIdException extends XtreemFSException {
+
+    private static final long serialVersionUID = 1L;
+
+    public InvalidProcIdException(String errorMsg) {
+        super(errorMsg);
+    }
+
+}
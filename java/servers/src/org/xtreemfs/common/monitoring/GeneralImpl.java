@@ -14,6 +14,7 @@ import org.xtreemfs.babudb.BabuDBFactory;
 import org.xtreemfs.common.HeartbeatThread;
 import org.xtreemfs.common.monitoring.StatusMonitor.ServiceTypes;
 import org.xtreemfs.common.monitoring.generatedcode.General;
+import org.xtreemfs.common.statusserver.LatencyStatusPage;
 import org.xtreemfs.pbrpc.generatedinterfaces.DIRServiceConstants;
 import org.xtreemfs.pbrpc.generatedinterfaces.MRCServiceConstants;
 import org.xtreemfs.pbrpc.generatedinterfaces.OSDServiceConstants;
@@ -220,4 +221,20 @@ public class GeneralImpl extends General {
         throw new SnmpStatusException("Internal error. Couldn't fetch values.");
     }
     
-}
\ No newline at end of file
+    @Override
+    public String getStageLatencies() throws SnmpStatusException {
+        if (statusMonitor.getInitiatingService().equals(ServiceTypes.DIR)) {
+            return LatencyStatusPage.getSummary(statusMonitor.getMasterDIR().getStageLatencies());
+        }
+        
+        if (statusMonitor.getInitiatingService().equals(ServiceTypes.MRC)) {
+            return LatencyStatusPage.getSummary(statusMonitor.getMasterMRC().getStageLatencies());
+        }
+        
+        if (statusMonitor.getInitiatingService().equals(ServiceTypes.OSD)) {
+            return LatencyStatusPage.getSummary(statusMonitor.getMasterOSD().getStageLatencies());
+        }
+        throw new SnmpStatusException("Internal error. Couldn't fetch values.");
+    }
+    
+}
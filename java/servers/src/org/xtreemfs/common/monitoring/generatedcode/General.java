@@ -60,6 +60,12 @@ public class General implements GeneralMBean, Serializable {
      */
     protected Integer RpcInterface = new Integer(1);
 
+    /**
+     * Variable for storing the value of "StageLatencies".
+     * The variable is identified by: "1.3.6.1.4.1.38350.1.14".
+     */
+    protected String StageLatencies = new String("JDMK 5.1");
+
     /**
      * Variable for storing the value of "ServiceUUID".
      * The variable is identified by: "1.3.6.1.4.1.38350.1.13".
@@ -160,6 +166,13 @@ public class General implements GeneralMBean, Serializable {
         return RpcInterface;
     }
 
+    /**
+     * Getter for the "StageLatencies" variable.
+     */
+    public String getStageLatencies() throws SnmpStatusException {
+        return StageLatencies;
+    }
+
     /**
      * Getter for the "ServiceUUID" variable.
      */
@@ -44,6 +44,11 @@ public interface GeneralMBean {
      */
     public Integer getRpcInterface() throws SnmpStatusException;
 
+    /**
+     * Getter for the "StageLatencies" variable.
+     */
+    public String getStageLatencies() throws SnmpStatusException;
+
     /**
      * Getter for the "ServiceUUID" variable.
      */
@@ -57,6 +57,7 @@ public class GeneralMeta extends SnmpMibGroup
             registerObject(6);
             registerObject(5);
             registerObject(4);
+            registerObject(14);
             registerObject(13);
             registerObject(12);
             registerObject(3);
@@ -93,6 +94,9 @@ public class GeneralMeta extends SnmpMibGroup
             case 4:
                 return new SnmpInt(node.getRpcInterface());
 
+            case 14:
+                return new SnmpString(node.getStageLatencies());
+
             case 13:
                 return new SnmpString(node.getServiceUUID());
 
@@ -144,6 +148,9 @@ public class GeneralMeta extends SnmpMibGroup
             case 4:
                 throw new SnmpStatusException(SnmpStatusException.snmpRspNotWritable);
 
+            case 14:
+                throw new SnmpStatusException(SnmpStatusException.snmpRspNotWritable);
+
             case 13:
                 throw new SnmpStatusException(SnmpStatusException.snmpRspNotWritable);
 
@@ -195,6 +202,9 @@ public class GeneralMeta extends SnmpMibGroup
             case 4:
                 throw new SnmpStatusException(SnmpStatusException.snmpRspNotWritable);
 
+            case 14:
+                throw new SnmpStatusException(SnmpStatusException.snmpRspNotWritable);
+
             case 13:
                 throw new SnmpStatusException(SnmpStatusException.snmpRspNotWritable);
 
@@ -279,6 +289,7 @@ public class GeneralMeta extends SnmpMibGroup
             case 6:
             case 5:
             case 4:
+            case 14:
             case 13:
             case 12:
             case 3:
@@ -305,6 +316,7 @@ public class GeneralMeta extends SnmpMibGroup
             case 6:
             case 5:
             case 4:
+            case 14:
             case 13:
             case 12:
             case 3:
@@ -366,6 +378,9 @@ public class GeneralMeta extends SnmpMibGroup
             case 4:
                 return "RpcInterface";
 
+            case 14:
+                return "StageLatencies";
+
             case 13:
                 return "ServiceUUID";
 
@@ -52,6 +52,7 @@ public class XTREEMFS_MIBOidTable extends SnmpOidTableSupport implements Seriali
         new SnmpOidRecord("tcpPort", "1.3.6.1.4.1.38350.1.6", "I"),
         new SnmpOidRecord("databaseVersion", "1.3.6.1.4.1.38350.1.5", "S"),
         new SnmpOidRecord("rpcInterface", "1.3.6.1.4.1.38350.1.4", "I"),
+        new SnmpOidRecord("stageLatencies", "1.3.6.1.4.1.38350.1.14", "S"),
         new SnmpOidRecord("serviceUUID", "1.3.6.1.4.1.38350.1.13", "S"),
         new SnmpOidRecord("serviceType", "1.3.6.1.4.1.38350.1.12", "S"),
         new SnmpOidRecord("jvmFreeMemory", "1.3.6.1.4.1.38350.1.3", "C64"),
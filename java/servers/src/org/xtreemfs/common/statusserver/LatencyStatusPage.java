@@ -0,0 +1,231 @@
+/*
+ * Copyright (c) 2015 by Zuse Institute Berlin
+ *
+ * Licensed under the BSD License, see LICENSE file for details.
+ *
+ */
+
+package org.xtreemfs.common.statusserver;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.xtreemfs.foundation.json.JSONParser;
+import org.xtreemfs.foundation.logging.Logging;
+import org.xtreemfs.foundation.monitoring.LatencyHistogram;
+import org.xtreemfs.foundation.monitoring.OperationLatencies;
+import org.xtreemfs.pbrpc.generatedinterfaces.DIR.ServiceType;
+
+import com.sun.net.httpserver.HttpExchange;
+
+/**
+ * Serves the latency histograms of the stages of a service, broken down by operation and split into queue
+ * time and execution time. The page is available as HTML table (/latency) and as JSON (/latency.json).
+ */
+public class LatencyStatusPage extends StatusServerModule {
+
+    private static final double[]       PERCENTILES = { 50, 90, 99, 99.9 };
+
+    private final LatencyStatusProvider statusProvider;
+
+    private final boolean               json;
+
+    public LatencyStatusPage(LatencyStatusProvider statusProvider, boolean json) {
+        this.statusProvider = statusProvider;
+        this.json = json;
+    }
+
+    @Override
+    public String getDisplayName() {
+        return json ? "Stage Latencies JSON Interface" : "Stage Latencies";
+    }
+
+    @Override
+    public String getUriPath() {
+        return json ? "/latency.json" : "/latency";
+    }
+
+    @Override
+    public boolean isAvailableForService(ServiceType service) {
+        return true;
+    }
+
+    @Override
+    public void initialize(ServiceType service, Object serviceRequestDispatcher) {
+    }
+
+    @Override
+    public void shutdown() {
+    }
+
+    @Override
+    public void handle(HttpExchange httpExchange) throws IOException {
+        try {
+            if (json) {
+                httpExchange.getResponseHeaders().set("Access-Control-Allow-Origin", "*");
+                httpExchange.getResponseHeaders().set("Access-Control-Allow-Methods", "GET");
+                httpExchange.getResponseHeaders().set("Content-Type", "application/json");
+                sendResponse(httpExchange, JSONParser.writeJSON(toMap()));
+            } else {
+                sendResponse(httpExchange, toHTML());
+            }
+        } catch (Throwable ex) {
+            Logging.logError(Logging.LEVEL_WARN, (Object) null, ex);
+            httpExchange.sendResponseHeaders(500, 0);
+        }
+        httpExchange.close();
+    }
+
+    private Map<String, Object> toMap() {
+        Map<String, Object> result = new LinkedHashMap<String, Object>();
+        for (OperationLatencies stage : statusProvider.getLatencies()) {
+            Map<String, Object> ops = new LinkedHashMap<String, Object>();
+            ops.put("total", toMap(stage.getTotalQueueTime(), stage.getTotalServiceTime()));
+            for (int opId : stage.getOperationIds()) {
+                ops.put(getOperationName(opId), toMap(stage.getQueueTime(opId), stage.getServiceTime(opId)));
+            }
+            result.put(stage.getStageName(), ops);
+        }
+        return result;
+    }
+
+    private static Map<String, Object> toMap(LatencyHistogram queueTime, LatencyHistogram serviceTime) {
+        Map<String, Object> result = new LinkedHashMap<String, Object>();
+        result.put("count", serviceTime.getCount());
+        result.put("queue_us", toMap(queueTime));
+        result.put("service_us", toMap(serviceTime));
+        return result;
+    }
+
+    private static Map<String, Object> toMap(LatencyHistogram h) {
+        Map<String, Object> result = new LinkedHashMap<String, Object>();
+        result.put("mean", Math.round(h.getMean()));
+        for (double p : PERCENTILES) {
+            result.put("p" + formatPercentile(p), h.getPercentile(p));
+        }
+        result.put("max", h.getMax());
+        return result;
+    }
+
+    private String toHTML() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("<HTML><HEAD><TITLE>Stage Latencies</TITLE></HEAD><BODY><H1>STAGE LATENCIES</H1>");
+        sb.append("<P>All times in microseconds. Queue: time spent waiting in the stage's queue. "
+                + "Service: time spent executing the request in the stage.</P>");
+
+        for (OperationLatencies stage : statusProvider.getLatencies()) {
+            sb.append("<H2>").append(stage.getStageName()).append("</H2>");
+            sb.append("<TABLE BORDER=\"1\" CELLPADDING=\"3\"><TR><TH>operation</TH><TH>count</TH>");
+            for (String kind : new String[] { "queue", "service" }) {
+                sb.append("<TH>").append(kind).append(" mean</TH>");
+                for (double p : PERCENTILES) {
+                    sb.append("<TH>").append(kind).append(" p").append(formatPercentile(p)).append("</TH>");
+                }
+                sb.append("<TH>").append(kind).append(" max</TH>");
+            }
+            sb.append("</TR>");
+
+            appendRow(sb, "<I>total</I>", stage.getTotalQueueTime(), stage.getTotalServiceTime());
+            for (int opId : stage.getOperationIds()) {
+                appendRow(sb, getOperationName(opId), stage.getQueueTime(opId), stage.getServiceTime(opId));
+            }
+            sb.append("</TABLE>");
+        }
+
+        sb.append("</BODY></HTML>");
+        return sb.toString();
+    }
+
+    private static void appendRow(StringBuilder sb, String name, LatencyHistogram queueTime,
+            LatencyHistogram serviceTime) {
+        sb.append("<TR><TD>").append(name).append("</TD><TD ALIGN=\"right\">").append(serviceTime.getCount())
+                .append("</TD>");
+        for (LatencyHistogram h : new LatencyHistogram[] { queueTime, serviceTime }) {
+            sb.append("<TD ALIGN=\"right\">").append(Math.round(h.getMean())).append("</TD>");
+            for (double p : PERCENTILES) {
+                sb.append("<TD ALIGN=\"right\">").append(h.getPercentile(p)).append("</TD>");
+            }
+            sb.append("<TD ALIGN=\"right\">").append(h.getMax()).append("</TD>");
+        }
+        sb.append("</TR>");
+    }
+
+    private String getOperationName(int opId) {
+        if (opId == OperationLatencies.INTERNAL_OPERATION) {
+            return "internal";
+        }
+        String name = statusProvider.getOperationName(opId);
+        return name == null ? Integer.toString(opId) : name;
+    }
+
+    private static String formatPercentile(double p) {
+        return p == Math.floor(p) ? Integer.toString((int) p) : Double.toString(p);
+    }
+
+    /**
+     * Returns a compact single-line summary of the total queue and execution times per stage, e.g. for SNMP.
+     */
+    public static String getSummary(List<OperationLatencies> latencies) {
+        StringBuilder sb = new StringBuilder();
+        for (OperationLatencies stage : latencies) {
+            LatencyHistogram q = stage.getTotalQueueTime();
+            LatencyHistogram s = stage.getTotalServiceTime();
+            sb.append(String.format("%s: n=%d queue p50/p99=%d/%dus service p50/p99=%d/%dus; ",
+                    stage.getStageName(), s.getCount(), q.getPercentile(50), q.getPercentile(99),
+                    s.getPercentile(50), s.getPercentile(99)));
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Maps the procedure IDs defined in a generated <code>*ServiceConstants</code> class to the names of the
+     * procedures.
+     */
+    public static Map<Integer, String> getProcedureNames(Class<?> serviceConstants) {
+        Map<Integer, String> names = new HashMap<Integer, String>();
+        for (Field field : serviceConstants.getDeclaredFields()) {
+            if (field.getName().startsWith("PROC_ID_")) {
+                try {
+                    names.put(field.getInt(null), field.getName().substring("PROC_ID_".length()).toLowerCase());
+                } catch (IllegalAccessException e) {
+                    Logging.logError(Logging.LEVEL_ERROR, null, e);
+                }
+            }
+        }
+        return names;
+    }
+
+    /**
+     * Provides the latency histograms of the stages of a service.
+     */
+    public interface LatencyStatusProvider {
+
+        List<OperationLatencies> getLatencies();
+
+        /**
+         * Returns the name of the operation with the given procedure ID, or <code>null</code> if unknown.
+         */
+        String getOperationName(int operationId);
+    }
+
+    /**
+     * A provider that names operations after the procedures of a generated service interface.
+     */
+    public abstract static class ServiceLatencyStatusProvider implements LatencyStatusProvider {
+
+        private final Map<Integer, String> procedureNames;
+
+        public ServiceLatencyStatusProvider(Class<?> serviceConstants) {
+            this.procedureNames = getProcedureNames(serviceConstants);
+        }
+
+        @Override
+        public String getOperationName(int operationId) {
+            return procedureNames.get(operationId);
+        }
+    }
+}
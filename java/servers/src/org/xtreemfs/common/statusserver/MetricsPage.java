@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2015 by Zuse Institute Berlin
+ *
+ * Licensed under the BSD License, see LICENSE file for details.
+ *
+ */
+
+package org.xtreemfs.common.statusserver;
+
+import java.io.IOException;
+
+import org.xtreemfs.common.statusserver.LatencyStatusPage.LatencyStatusProvider;
+import org.xtreemfs.common.uuids.UUIDResolver;
+import org.xtreemfs.foundation.buffer.BufferPool;
+import org.xtreemfs.foundation.logging.Logging;
+import org.xtreemfs.foundation.monitoring.MetricsRegistry;
+import org.xtreemfs.foundation.monitoring.MetricsRegistry.Collector;
+import org.xtreemfs.foundation.monitoring.MetricsRegistry.Gauge;
+import org.xtreemfs.foundation.monitoring.MetricsWriter;
+import org.xtreemfs.foundation.monitoring.OperationLatencies;
+import org.xtreemfs.pbrpc.generatedinterfaces.DIR.ServiceType;
+
+import com.sun.net.httpserver.HttpExchange;
+
+/**
+ * Exposes the metrics of a service in the Prometheus text format (/metrics). In contrast to the HTML status
+ * pages, no templates are rendered, so that the page can be scraped at a high frequency.
+ */
+public class MetricsPage extends StatusServerModule {
+
+    private final MetricsRegistry registry;
+
+    public MetricsPage(MetricsRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public String getDisplayName() {
+        return "Metrics (Prometheus)";
+    }
+
+    @Override
+    public String getUriPath() {
+        return "/metrics";
+    }
+
+    @Override
+    public boolean isAvailableForService(ServiceType service) {
+        return true;
+    }
+
+    @Override
+    public void initialize(ServiceType service, Object serviceRequestDispatcher) {
+    }
+
+    @Override
+    public void shutdown() {
+    }
+
+    @Override
+    public void handle(HttpExchange httpExchange) throws IOException {
+        try {
+            httpExchange.getResponseHeaders().set("Content-Type", "text/plain; version=0.0.4");
+            sendResponse(httpExchange, registry.scrape());
+        } catch (Throwable ex) {
+            Logging.logError(Logging.LEVEL_WARN, (Object) null, ex);
+            httpExchange.sendResponseHeaders(500, 0);
+        }
+        httpExchange.close();
+    }
+
+    /**
+     * Registers the metrics that are common to all services: JVM memory, buffer pool, UUID cache and the
+     * latencies of the request processing stages.
+     */
+    public static void registerCommonMetrics(MetricsRegistry registry, final LatencyStatusProvider latencies) {
+
+        registry.registerGauge("xtreemfs_jvm_memory_used_bytes", "Memory used by the JVM.", new Gauge() {
+            @Override
+            public long getValue() {
+                return Runtime.getRuntime().totalMemory() - Runtime.getRuntime().freeMemory();
+            }
+        });
+        registry.registerGauge("xtreemfs_jvm_memory_max_bytes", "Max. memory the JVM will use.", new Gauge() {
+            @Override
+            public long getValue() {
+                return Runtime.getRuntime().maxMemory();
+            }
+        });
+        registry.registerGauge("xtreemfs_uuid_cache_entries", "Number of cached UUID mappings.", new Gauge() {
+            @Override
+            public long getValue() {
+                return UUIDResolver.getCacheSize();
+            }
+        });
+
+        registry.register(new Collector() {
+            @Override
+            public void collect(MetricsWriter writer) {
+                writer.family("xtreemfs_buffer_pool_size", "Number of pooled buffers.", "gauge");
+                for (int size : BufferPool.BUFF_SIZES)
+                    writer.sample("xtreemfs_buffer_pool_size", new String[] { "size", Integer.toString(size) },
+                            BufferPool.getPoolSize(size));
+
+                writer.family("xtreemfs_buffer_pool_requests_total", "Number of buffers requested from the pool.",
+                        "counter");
+                for (int size : BufferPool.BUFF_SIZES)
+                    writer.sample("xtreemfs_buffer_pool_requests_total",
+                            new String[] { "size", Integer.toString(size) }, BufferPool.getNumRequests(size));
+                writer.sample("xtreemfs_buffer_pool_requests_total", new String[] { "size", "unpooled" },
+                        BufferPool.getNumRequests(0));
+
+                writer.family("xtreemfs_buffer_pool_creates_total", "Number of newly allocated pooled buffers.",
+                        "counter");
+                for (int size : BufferPool.BUFF_SIZES)
+                    writer.sample("xtreemfs_buffer_pool_creates_total",
+                            new String[] { "size", Integer.toString(size) }, BufferPool.getNumCreates(size));
+            }
+        });
+
+        registry.register(new Collector() {
+            @Override
+            public void collect(MetricsWriter writer) {
+                writer.family("xtreemfs_stage_queue_seconds", "Time requests waited in the queue of a stage.",
+                        "summary");
+                for (OperationLatencies stage : latencies.getLatencies()) {
+                    for (int opId : stage.getOperationIds())
+                        writer.summary("xtreemfs_stage_queue_seconds", getLabels(stage, opId),
+                                stage.getQueueTime(opId));
+                }
+
+                writer.family("xtreemfs_stage_service_seconds", "Time a stage needed to execute requests.",
+                        "summary");
+                for (OperationLatencies stage : latencies.getLatencies()) {
+                    for (int opId : stage.getOperationIds())
+                        writer.summary("xtreemfs_stage_service_seconds", getLabels(stage, opId),
+                                stage.getServiceTime(opId));
+                }
+            }
+
+            private String[] getLabels(OperationLatencies stage, int opId) {
+                String op = opId == OperationLatencies.INTERNAL_OPERATION ? "internal" : latencies
+                        .getOperationName(opId);
+                return new String[] { "stage", stage.getStageName(), "operation",
+                        op == null ? Integer.toString(opId) : op };
+            }
+        });
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2015 by Zuse Institute Berlin
+ *
+ * Licensed under the BSD License, see LICENSE file for details.
+ *
+ */
+
+package org.xtreemfs.common.statusserver;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.xtreemfs.foundation.json.JSONParser;
+import org.xtreemfs.foundation.logging.Logging;
+import org.xtreemfs.foundation.trace.Span;
+import org.xtreemfs.foundation.trace.Tracer;
+import org.xtreemfs.pbrpc.generatedinterfaces.DIR.ServiceType;
+
+import com.sun.net.httpserver.HttpExchange;
+
+/**
+ * Dumps the spans of traced requests as JSON (/traces). A single trace can be selected with
+ * <code>/traces?id=&lt;trace ID&gt;</code>.
+ */
+public class TraceStatusPage extends StatusServerModule {
+
+    @Override
+    public String getDisplayName() {
+        return "Request Traces";
+    }
+
+    @Override
+    public String getUriPath() {
+        return "/traces";
+    }
+
+    @Override
+    public boolean isAvailableForService(ServiceType service) {
+        return service == ServiceType.SERVICE_TYPE_MRC || service == ServiceType.SERVICE_TYPE_OSD;
+    }
+
+    @Override
+    public void initialize(ServiceType service, Object serviceRequestDispatcher) {
+    }
+
+    @Override
+    public void shutdown() {
+    }
+
+    @Override
+    public void handle(HttpExchange httpExchange) throws IOException {
+        long traceId = 0;
+        String query = httpExchange.getRequestURI().getQuery();
+        if (query != null && query.startsWith("id=")) {
+            try {
+                traceId = Tracer.parseTraceId(query.substring("id=".length()));
+            } catch (NumberFormatException e) {
+                httpExchange.sendResponseHeaders(400, 0);
+                httpExchange.close();
+                return;
+            }
+        }
+
+        try {
+            List<Object> spans = new ArrayList<Object>();
+            for (Span span : Tracer.getSpans(traceId)) {
+                Map<String, Object> s = new LinkedHashMap<String, Object>();
+                s.put("trace_id", Tracer.formatTraceId(span.getTraceId()));
+                s.put("start_time_ms", span.getStartTime());
+                s.put("component", span.getComponent());
+                s.put("operation", span.getOperation());
+                s.put("queue_us", span.getQueueMicros());
+                s.put("service_us", span.getServiceMicros());
+                spans.add(s);
+            }
+
+            Map<String, Object> result = new LinkedHashMap<String, Object>();
+            result.put("enabled", Tracer.isEnabled());
+            result.put("spans", spans);
+
+            httpExchange.getResponseHeaders().set("Content-Type", "application/json");
+            sendResponse(httpExchange, JSONParser.writeJSON(result));
+        } catch (Throwable ex) {
+            Logging.logError(Logging.LEVEL_WARN, (Object) null, ex);
+            httpExchange.sendResponseHeaders(500, 0);
+        }
+        httpExchange.close();
+    }
+}
@@ -28,9 +28,16 @@ import org.xtreemfs.foundation.pbrpc.Schemes;
 import org.xtreemfs.foundation.pbrpc.generatedinterfaces.RPC.UserCredentials;
 import org.xtreemfs.pbrpc.generatedinterfaces.DIR.AddressMapping;
 import org.xtreemfs.pbrpc.generatedinterfaces.DIR.AddressMappingSet;
+import org.xtreemfs.pbrpc.generatedinterfaces.DIR.Service;
+import org.xtreemfs.pbrpc.generatedinterfaces.DIR.ServiceType;
+import org.xtreemfs.pbrpc.generatedinterfaces.DIR.serviceWatchResponse;
 
 /**
  * Resolves UUID to InetSocketAddress+Protocol mappings.
+ * <p>
+ * Between two cache cleanups, the resolver watches the cached services at the
+ * DIR and drops the mappings of services that go offline, are re-registered or
+ * are deregistered, so that they are fetched again on the next access.
  * 
  * @author bjko
  */
@@ -55,6 +62,13 @@ public final class UUIDResolver extends Thread {
 
     protected final UserCredentials uc;
 
+    /**
+     * the DIR registry version up to which changes have been seen, or 0 if none
+     */
+    private long                  knownVersion;
+
+    private boolean               watchSupported;
+
     protected UUIDResolver(DIRClient client, int cacheCleanInterval, int maxUnusedEntry, boolean singleton)
         throws IOException {
         
@@ -67,6 +81,7 @@ public final class UUIDResolver extends Thread {
         this.maxUnusedEntry = maxUnusedEntry;
         this.cacheCleanInterval = cacheCleanInterval;
         this.uc = UserCredentials.newBuilder().setUsername("uuidresolver").addGroups("xtreemfs-services").build();
+        this.watchSupported = true;
         myNetworks = new ArrayList<String>();
         renewNetworks(this);
         
@@ -260,12 +275,71 @@ public final class UUIDResolver extends Thread {
                 
             }
             try {
-                sleep(cacheCleanInterval);
+                waitForChanges();
             } catch (InterruptedException ex) {
             }
         } while (!quit);
     }
     
+    /**
+     * Waits for the next cache cleanup, and invalidates the entries of
+     * services whose status changes at the DIR in the meantime.
+     */
+    private void waitForChanges() throws InterruptedException {
+        
+        final long end = TimeSync.getLocalSystemTime() + cacheCleanInterval;
+        
+        for (long now = TimeSync.getLocalSystemTime(); now < end && !quit; now = TimeSync.getLocalSystemTime()) {
+            
+            List<String> uuids = new ArrayList<String>();
+            for (UUIDCacheEntry entry : cache.values())
+                if (!entry.isSticky())
+                    uuids.add(entry.getUuid());
+            
+            if (dir == null || !watchSupported || uuids.isEmpty()) {
+                sleep(end - now);
+                return;
+            }
+            
+            try {
+                serviceWatchResponse changes = dir.xtreemfs_service_watch(null, GlobalConstants.AUTH_NONE, uc,
+                    ServiceType.SERVICE_TYPE_MIXED, knownVersion, (int) Math.min(end - now,
+                        DIRClient.MAX_SERVICE_WATCH_TIMEOUT_MS), uuids, true, 1);
+                
+                // entries that are fetched after a complete response are up
+                // to date
+                if (!changes.getComplete()) {
+                    for (Service service : changes.getServicesList())
+                        invalidate(service.getUuid());
+                    for (String uuid : changes.getRemovedUuidsList())
+                        invalidate(uuid);
+                }
+                knownVersion = changes.getVersion();
+                
+            } catch (IOException ex) {
+                if (DIRClient.isUnsupportedOperation(ex)) {
+                    watchSupported = false;
+                } else {
+                    Logging.logMessage(Logging.LEVEL_WARN, Category.misc, this,
+                        "cannot watch services at DIR: %s", ex.toString());
+                    knownVersion = 0;
+                    sleep(end - TimeSync.getLocalSystemTime());
+                    return;
+                }
+            }
+        }
+    }
+    
+    private void invalidate(String uuid) {
+        UUIDCacheEntry entry = cache.get(uuid);
+        if (entry != null && !entry.isSticky()) {
+            cache.remove(uuid);
+            if (Logging.isDebug())
+                Logging.logMessage(Logging.LEVEL_DEBUG, Category.misc, this,
+                    "service status changed, removed entry from UUID cache: %s", uuid);
+        }
+    }
+    
     /**
      * Add a UUID which is mapped on localhost
      * 
@@ -310,6 +384,14 @@ public final class UUIDResolver extends Thread {
         theInstance.cache.put(uuid, e);
     }
     
+    /**
+     * Returns the number of cached UUID mappings, or 0 if the resolver is not running.
+     */
+    public static int getCacheSize() {
+        final UUIDResolver instance = theInstance;
+        return instance == null ? 0 : instance.cache.size();
+    }
+    
     public static String getCache() {
         StringBuilder sb = new StringBuilder();
         for (UUIDCacheEntry e : theInstance.cache.values()) {
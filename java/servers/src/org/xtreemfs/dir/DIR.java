@@ -46,7 +46,8 @@ public class DIR {
         config.checkConfig();
         
         
-        Logging.start(config.getDebugLevel(), config.getDebugCategories());
+        Logging.start(config.getDebugLevel(), config.getDebugAsyncBufferSize(), config.getDebugRateLimit(),
+            config.getDebugCategories());
         
         BabuDBConfig dbsConfig = new BabuDBConfig(configFileName);
         
@@ -31,6 +31,7 @@ import org.xtreemfs.pbrpc.generatedinterfaces.DIR.addressMappingSetResponse;
 import org.xtreemfs.pbrpc.generatedinterfaces.DIR.configurationSetResponse;
 import org.xtreemfs.pbrpc.generatedinterfaces.DIR.globalTimeSGetResponse;
 import org.xtreemfs.pbrpc.generatedinterfaces.DIR.serviceRegisterResponse;
+import org.xtreemfs.pbrpc.generatedinterfaces.DIR.serviceWatchResponse;
 import org.xtreemfs.pbrpc.generatedinterfaces.DIRServiceClient;
 
 /**
@@ -41,6 +42,13 @@ import org.xtreemfs.pbrpc.generatedinterfaces.DIRServiceClient;
  */
 public class DIRClient implements TimeServerClient {
     
+    /**
+     * Maximum time (in milliseconds) to wait for changes in
+     * xtreemfs_service_watch, which is below the RPC timeouts of services and
+     * clients.
+     */
+    public static final int             MAX_SERVICE_WATCH_TIMEOUT_MS = 10 * 1000;
+    
     /**
      * Generated DIR service rpc client.
      */
@@ -274,6 +282,37 @@ public class DIRClient implements TimeServerClient {
         return response;
     }
     
+    /**
+     * Returns the changes of the service registry since a known version. If
+     * there are no changes, the call blocks until a change occurs or the
+     * timeout expires. The timeout should not exceed
+     * {@link #MAX_SERVICE_WATCH_TIMEOUT_MS}, so that the call does not run
+     * into the RPC timeout.
+     */
+    public serviceWatchResponse xtreemfs_service_watch(InetSocketAddress server, final Auth authHeader,
+            final UserCredentials userCreds, final ServiceType type, final long knownVersion, final int timeoutMs,
+            final List<String> uuids, final boolean statusChangesOnly, int maxRetries) throws IOException,
+            InterruptedException {
+        serviceWatchResponse response = (serviceWatchResponse) syncCall(new CallGenerator() {
+            @Override
+            public RPCResponse executeCall(DIRServiceClient client, InetSocketAddress server) throws IOException {
+                return client.xtreemfs_service_watch(server, authHeader, userCreds, type, knownVersion, timeoutMs,
+                        uuids, statusChangesOnly);
+            }
+        }, maxRetries);
+        return response;
+    }
+    
+    /**
+     * Checks whether a call failed because the DIR does not support the
+     * operation, e.g. because it runs an older version.
+     */
+    public static boolean isUnsupportedOperation(IOException exc) {
+        Throwable cause = exc instanceof PBRPCException ? exc : exc.getCause();
+        return cause instanceof PBRPCException
+            && ((PBRPCException) cause).getErrorType() == ErrorType.INVALID_PROC_ID;
+    }
+    
     public Configuration xtreemfs_configuration_get(InetSocketAddress server, final Auth authHeader,
             final UserCredentials userCreds, final String uuid) throws IOException, InterruptedException {
         return xtreemfs_configuration_get(server, authHeader, userCreds, uuid, maxRetries);
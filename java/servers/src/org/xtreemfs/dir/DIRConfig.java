@@ -25,6 +25,8 @@ public class DIRConfig extends ServiceConfig {
     private final Parameter[] dirParameter = {
             Parameter.DEBUG_LEVEL,
             Parameter.DEBUG_CATEGORIES,
+            Parameter.DEBUG_ASYNC_BUFFER_SIZE,
+            Parameter.DEBUG_RATE_LIMIT,
             Parameter.PORT,
             Parameter.HTTP_PORT,
             Parameter.LISTEN_ADDRESS,
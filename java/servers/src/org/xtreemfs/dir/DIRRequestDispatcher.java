@@ -31,6 +31,10 @@ import org.xtreemfs.babudb.config.BabuDBConfig;
 import org.xtreemfs.common.config.PolicyContainer;
 import org.xtreemfs.common.monitoring.StatusMonitor;
 import org.xtreemfs.common.statusserver.BabuDBStatusPage;
+import org.xtreemfs.common.statusserver.LatencyStatusPage;
+import org.xtreemfs.common.statusserver.LatencyStatusPage.LatencyStatusProvider;
+import org.xtreemfs.common.statusserver.LatencyStatusPage.ServiceLatencyStatusProvider;
+import org.xtreemfs.common.statusserver.MetricsPage;
 import org.xtreemfs.common.statusserver.PrintStackTrace;
 import org.xtreemfs.common.statusserver.StatusServer;
 import org.xtreemfs.dir.data.ServiceRecord;
@@ -50,6 +54,7 @@ import org.xtreemfs.dir.operations.ServiceOfflineOperation;
 import org.xtreemfs.dir.operations.SetAddressMappingOperation;
 import org.xtreemfs.dir.operations.SetConfigurationOperation;
 import org.xtreemfs.dir.operations.UpdateVivaldiClientOperation;
+import org.xtreemfs.dir.operations.WatchServicesOperation;
 import org.xtreemfs.foundation.CrashReporter;
 import org.xtreemfs.foundation.LifeCycleListener;
 import org.xtreemfs.foundation.LifeCycleThread;
@@ -60,6 +65,9 @@ import org.xtreemfs.foundation.buffer.BufferPool;
 import org.xtreemfs.foundation.buffer.ReusableBuffer;
 import org.xtreemfs.foundation.logging.Logging;
 import org.xtreemfs.foundation.logging.Logging.Category;
+import org.xtreemfs.foundation.monitoring.MetricsRegistry;
+import org.xtreemfs.foundation.monitoring.MetricsRegistry.Gauge;
+import org.xtreemfs.foundation.monitoring.OperationLatencies;
 import org.xtreemfs.foundation.pbrpc.Schemes;
 import org.xtreemfs.foundation.pbrpc.generatedinterfaces.RPC.ErrorType;
 import org.xtreemfs.foundation.pbrpc.generatedinterfaces.RPC.MessageType;
@@ -105,11 +113,15 @@ public class DIRRequestDispatcher extends LifeCycleThread implements RPCServerRe
     private final RPCNIOSocketServer              server;
     
     private final BlockingQueue<RPCServerRequest> queue;
+
+    private final OperationLatencies              latencies;
     
     private volatile boolean                      quit;
     
     private final BabuDB                          database;
     
+    private final ServiceRegistry                 serviceRegistry;
+    
     private final DiscoveryMsgThread              discoveryThr;
     
     private final MonitoringThread                monThr;
@@ -142,6 +154,18 @@ public class DIRRequestDispatcher extends LifeCycleThread implements RPCServerRe
             }
         });
         
+        // keep an in-memory copy of the service registry, unless the database
+        // is replicated and may thus be changed by other DIRs
+        if (dbsConfig.getPlugins() == null || dbsConfig.getPlugins().isEmpty()) {
+            try {
+                serviceRegistry = new ServiceRegistry(getServices().getList());
+            } catch (Exception exc) {
+                throw new IOException("could not load the service registry", exc);
+            }
+        } else {
+            serviceRegistry = null;
+        }
+        
         registerOperations();
         
         // start the server
@@ -169,6 +193,7 @@ public class DIRRequestDispatcher extends LifeCycleThread implements RPCServerRe
         }
         
         queue = new LinkedBlockingQueue<RPCServerRequest>();
+        latencies = new OperationLatencies("DIR");
         quit = false;
         
         server = new RPCNIOSocketServer(config.getPort(), config.getAddress(), this, sslOptions);
@@ -207,6 +232,38 @@ public class DIRRequestDispatcher extends LifeCycleThread implements RPCServerRe
                 }
             }));
 
+            final DIRRequestDispatcher master = this;
+            LatencyStatusProvider latencyProvider = new ServiceLatencyStatusProvider(DIRServiceConstants.class) {
+                @Override
+                public List<OperationLatencies> getLatencies() {
+                    return master.getStageLatencies();
+                }
+            };
+            statusServer.registerModule(new LatencyStatusPage(latencyProvider, false));
+            statusServer.registerModule(new LatencyStatusPage(latencyProvider, true));
+
+            MetricsRegistry metrics = new MetricsRegistry();
+            MetricsPage.registerCommonMetrics(metrics, latencyProvider);
+            metrics.registerGauge("xtreemfs_dir_client_connections", "Number of open client connections.", new Gauge() {
+                @Override
+                public long getValue() {
+                    return master.getNumConnections();
+                }
+            });
+            metrics.registerGauge("xtreemfs_dir_pending_requests", "Number of requests received but not answered.", new Gauge() {
+                @Override
+                public long getValue() {
+                    return master.getNumRequests();
+                }
+            });
+            metrics.registerGauge("xtreemfs_dir_queue_length", "Number of requests waiting to be processed.", new Gauge() {
+                @Override
+                public long getValue() {
+                    return master.queue.size();
+                }
+            });
+            statusServer.registerModule(new MetricsPage(metrics));
+
             if (config.getAdminPassword().length() > 0) {
                 statusServer.addAuthorizedUser("admin", config.getAdminPassword());
             }
@@ -254,7 +311,10 @@ public class DIRRequestDispatcher extends LifeCycleThread implements RPCServerRe
             while (!quit) {
                 final RPCServerRequest rq = queue.take();
                 synchronized (database) {
+                    final long startNanos = System.nanoTime();
                     processRequest(rq);
+                    latencies.record(rq.getHeader().getRequestHeader().getProcId(),
+                            startNanos - rq.getReceiveNanos(), System.nanoTime() - startNanos);
                 }
             }
         } catch (InterruptedException ex) {
@@ -316,6 +376,9 @@ public class DIRRequestDispatcher extends LifeCycleThread implements RPCServerRe
         if (statusServer != null) {
             statusServer.shutdown();
         }
+        if (serviceRegistry != null) {
+            serviceRegistry.shutdown();
+        }
         server.shutdown();
         server.waitForShutdown();
         database.shutdown();
@@ -376,12 +439,24 @@ public class DIRRequestDispatcher extends LifeCycleThread implements RPCServerRe
         
         op = new UpdateVivaldiClientOperation(this);
         registry.put(op.getProcedureId(), op);
+        
+        op = new WatchServicesOperation(this);
+        registry.put(op.getProcedureId(), op);
     }
     
     public Database getDirDatabase() throws BabuDBException {
         return database.getDatabaseManager().getDatabase(DB_NAME);
     }
     
+    /**
+     * Returns the in-memory copy of the service registry, or
+     * <code>null</code> if service records have to be looked up in the
+     * database because it is replicated.
+     */
+    public ServiceRegistry getServiceRegistry() {
+        return serviceRegistry;
+    }
+    
     @Override
     public void receiveRecord(RPCServerRequest rq) {
         if (Logging.isDebug())
@@ -459,6 +534,15 @@ public class DIRRequestDispatcher extends LifeCycleThread implements RPCServerRe
     public long getNumRequests() {
         return server.getPendingRequests();
     }
+
+    /**
+     * Returns the latency histograms of the request processing of the DIR.
+     */
+    public List<OperationLatencies> getStageLatencies() {
+        List<OperationLatencies> result = new ArrayList<OperationLatencies>(1);
+        result.add(latencies);
+        return result;
+    }
     
     public int getNumConnections() {
         return server.getNumConnections();
@@ -0,0 +1,507 @@
+/*
+ * Copyright (c) 2015 by Zuse Institute Berlin
+ *
+ * Licensed under the BSD License, see LICENSE file for details.
+ *
+ */
+
+package org.xtreemfs.dir;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.Timer;
+import java.util.TimerTask;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.xtreemfs.common.HeartbeatThread;
+import org.xtreemfs.common.KeyValuePairs;
+import org.xtreemfs.dir.data.ServiceRecord;
+import org.xtreemfs.pbrpc.generatedinterfaces.DIR.Service;
+import org.xtreemfs.pbrpc.generatedinterfaces.DIR.ServiceDataMap;
+import org.xtreemfs.pbrpc.generatedinterfaces.DIR.ServiceSet;
+import org.xtreemfs.pbrpc.generatedinterfaces.DIR.ServiceType;
+import org.xtreemfs.pbrpc.generatedinterfaces.DIR.serviceWatchResponse;
+import org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.KeyValuePair;
+
+/**
+ * In-memory copy of the service registry index of the DIR database, which
+ * allows services to be looked up by type, name and UUID without scanning and
+ * deserializing all records in the database.
+ * <p>
+ * The registry is written through: operations that change service records
+ * update it when they issue the change to the database, so that changes
+ * become visible to lookups at the same time as in the database. Readers are
+ * served from an immutable snapshot that is replaced on each change. Since
+ * responses to lookups by type contain the number of seconds since the last
+ * update of each service, they are cached per type for at most one second.
+ * <p>
+ * Each change increments the version of the registry and is kept in a bounded
+ * change log, so that callers can watch the registry for changes since a known
+ * version. If there are no changes, watches are parked until a matching change
+ * occurs or their timeout expires.
+ */
+public class ServiceRegistry {
+
+    public static final String SECONDS_SINCE_LAST_UPDATE = "seconds_since_last_update";
+
+    /**
+     * maximum number of changes kept in the change log; watchers that fall
+     * further behind receive all services
+     */
+    private static final int   MAX_CHANGES               = 10000;
+
+    private static final Timer watchTimer                = new Timer("DIR service watch timer", true);
+
+    private volatile Snapshot  snapshot;
+
+    /**
+     * the current version of the registry; starts with the time of creation,
+     * so that versions of a restarted DIR are not mistaken for old ones
+     */
+    private long               version;
+
+    private final ArrayDeque<Change> changes;
+
+    private final List<Watch>  watches;
+
+    public ServiceRegistry(List<ServiceRecord> records) {
+        TreeMap<String, Service> services = new TreeMap<String, Service>();
+        for (ServiceRecord record : records)
+            services.put(record.getUuid(), toCachedService(record));
+        snapshot = new Snapshot(services);
+        version = System.currentTimeMillis();
+        changes = new ArrayDeque<Change>();
+        watches = new LinkedList<Watch>();
+    }
+
+    /**
+     * Receives the changes of the registry for a watch.
+     */
+    public interface ChangeListener {
+
+        public void changed(serviceWatchResponse changes);
+    }
+
+    /**
+     * Adds or replaces the record of a service.
+     */
+    public void put(ServiceRecord record) {
+
+        List<Watch> triggered;
+        List<serviceWatchResponse> responses;
+        synchronized (this) {
+            Service service = toCachedService(record);
+            Service previous = snapshot.byUuid.get(service.getUuid());
+
+            TreeMap<String, Service> services = new TreeMap<String, Service>(snapshot.byUuid);
+            services.put(service.getUuid(), service);
+            snapshot = new Snapshot(services);
+
+            triggered = addChange(new Change(++version, service.getUuid(), previous == null ? null : previous
+                    .getType(), service.getType(), isStatusChange(previous, service)));
+            responses = getChanges(triggered);
+        }
+
+        notifyWatches(triggered, responses);
+    }
+
+    /**
+     * Removes the record of a service.
+     */
+    public void remove(String uuid) {
+
+        List<Watch> triggered;
+        List<serviceWatchResponse> responses;
+        synchronized (this) {
+            Service previous = snapshot.byUuid.get(uuid);
+            if (previous == null)
+                return;
+
+            TreeMap<String, Service> services = new TreeMap<String, Service>(snapshot.byUuid);
+            services.remove(uuid);
+            snapshot = new Snapshot(services);
+
+            triggered = addChange(new Change(++version, uuid, previous.getType(), null, true));
+            responses = getChanges(triggered);
+        }
+
+        notifyWatches(triggered, responses);
+    }
+
+    /**
+     * Reports the changes of matching services since <code>knownVersion</code>
+     * to the listener. If there are no such changes, the listener is called
+     * once a matching change occurs, or after <code>timeoutMs</code> without
+     * any changes.
+     * 
+     * @param type
+     *            the type of the services to watch, or
+     *            {@link ServiceType#SERVICE_TYPE_MIXED} for all services
+     * @param knownVersion
+     *            the registry version known to the caller, or 0 to retrieve
+     *            all matching services
+     * @param uuids
+     *            the UUIDs of the services to watch, or an empty list to
+     *            watch all services
+     * @param statusChangesOnly
+     *            if true, regular updates of services are not reported
+     * @param timeoutMs
+     *            the maximum time to wait for changes
+     * @param listener
+     *            the listener to notify
+     */
+    public void watch(ServiceType type, long knownVersion, List<String> uuids, boolean statusChangesOnly,
+        long timeoutMs, ChangeListener listener) {
+
+        Watch watch = new Watch(type, knownVersion, uuids.isEmpty() ? null : new HashSet<String>(uuids),
+            statusChangesOnly, listener);
+
+        serviceWatchResponse response;
+        synchronized (this) {
+            response = getChanges(watch);
+            if (!response.getComplete() && response.getServicesCount() == 0
+                && response.getRemovedUuidsCount() == 0) {
+                watches.add(watch);
+                watchTimer.schedule(watch, timeoutMs);
+                return;
+            }
+        }
+
+        listener.changed(response);
+    }
+
+    /**
+     * Discards all parked watches without notifying their listeners.
+     */
+    public synchronized void shutdown() {
+        for (Watch watch : watches)
+            watch.cancel();
+        watches.clear();
+    }
+
+    /**
+     * Returns the number of parked watches.
+     */
+    public synchronized int getNumWatches() {
+        return watches.size();
+    }
+
+    /**
+     * Returns all services of the given type, or all services if the type is
+     * {@link ServiceType#SERVICE_TYPE_MIXED}, including the number of seconds
+     * since their last update.
+     */
+    public ServiceSet getServicesByType(ServiceType type) {
+
+        final Snapshot current = snapshot;
+        final long now = System.currentTimeMillis() / 1000l;
+
+        CachedServiceSet cached = current.setsByType.get(type);
+        if (cached != null && cached.timestamp == now)
+            return cached.services;
+
+        List<Service> services = type == ServiceType.SERVICE_TYPE_MIXED ? new ArrayList<Service>(
+            current.byUuid.values()) : current.byType.get(type);
+
+        ServiceSet.Builder set = ServiceSet.newBuilder();
+        if (services != null) {
+            for (Service service : services)
+                set.addServices(withSecondsSinceLastUpdate(service, now));
+        }
+
+        ServiceSet result = set.build();
+        current.setsByType.put(type, new CachedServiceSet(now, result));
+        return result;
+    }
+
+    /**
+     * Returns all services with the given name.
+     */
+    public ServiceSet getServicesByName(String name) {
+        List<Service> services = snapshot.byName.get(name);
+        return services == null ? ServiceSet.getDefaultInstance() : ServiceSet.newBuilder().addAllServices(
+            services).build();
+    }
+
+    /**
+     * Returns the service with the given UUID, or an empty set if no such
+     * service is registered.
+     */
+    public ServiceSet getServiceByUuid(String uuid) {
+        Service service = snapshot.byUuid.get(uuid);
+        return service == null ? ServiceSet.getDefaultInstance() : ServiceSet.newBuilder().addServices(
+            service).build();
+    }
+
+    /**
+     * Appends a change to the change log and returns the watches that are
+     * triggered by it. Must be called while holding the lock.
+     */
+    private List<Watch> addChange(Change change) {
+
+        changes.addLast(change);
+        if (changes.size() > MAX_CHANGES)
+            changes.removeFirst();
+
+        List<Watch> triggered = new ArrayList<Watch>();
+        for (Iterator<Watch> it = watches.iterator(); it.hasNext();) {
+            Watch watch = it.next();
+            if (watch.matches(change)) {
+                it.remove();
+                watch.cancel();
+                triggered.add(watch);
+            }
+        }
+        return triggered;
+    }
+
+    /**
+     * Must be called while holding the lock.
+     */
+    private List<serviceWatchResponse> getChanges(List<Watch> watches) {
+        List<serviceWatchResponse> responses = new ArrayList<serviceWatchResponse>(watches.size());
+        for (Watch watch : watches)
+            responses.add(getChanges(watch));
+        return responses;
+    }
+
+    /**
+     * Returns the changes of all services matching the watch since the version
+     * known to the watcher, or all matching services if the changes are not
+     * known anymore. Must be called while holding the lock.
+     */
+    private serviceWatchResponse getChanges(Watch watch) {
+
+        final Snapshot current = snapshot;
+        final long now = System.currentTimeMillis() / 1000l;
+
+        serviceWatchResponse.Builder response = serviceWatchResponse.newBuilder().setVersion(version)
+                .setTimestampS(now);
+
+        if (watch.knownVersion == version)
+            return response.setComplete(false).build();
+
+        boolean complete = watch.knownVersion == 0 || watch.knownVersion > version || changes.isEmpty()
+            || changes.getFirst().version > watch.knownVersion + 1;
+        response.setComplete(complete);
+
+        if (complete) {
+            for (Service service : current.byUuid.values())
+                if (watch.matches(service.getType(), service.getUuid()))
+                    response.addServices(withSecondsSinceLastUpdate(service, now));
+            return response.build();
+        }
+
+        // collect the services that have changed since the known version
+        Set<String> changed = new LinkedHashSet<String>();
+        for (Iterator<Change> it = changes.descendingIterator(); it.hasNext();) {
+            Change change = it.next();
+            if (change.version <= watch.knownVersion)
+                break;
+            if (watch.matches(change))
+                changed.add(change.uuid);
+        }
+
+        for (String uuid : changed) {
+            Service service = current.byUuid.get(uuid);
+            if (service != null && watch.matches(service.getType(), uuid))
+                response.addServices(withSecondsSinceLastUpdate(service, now));
+            else
+                response.addRemovedUuids(uuid);
+        }
+
+        return response.build();
+    }
+
+    private void notifyWatches(List<Watch> watches, List<serviceWatchResponse> responses) {
+        for (int i = 0; i < watches.size(); i++)
+            watches.get(i).listener.changed(responses.get(i));
+    }
+
+    private void timedOut(Watch watch) {
+
+        serviceWatchResponse response;
+        synchronized (this) {
+            if (!watches.remove(watch))
+                return;
+            response = getChanges(watch);
+        }
+
+        watch.listener.changed(response);
+    }
+
+    /**
+     * Checks whether a service has been registered, has gone offline or online
+     * or its status has been changed, as opposed to a regular update.
+     */
+    private static boolean isStatusChange(Service previous, Service service) {
+
+        if (previous == null)
+            return true;
+
+        if ((previous.getLastUpdatedS() == 0) != (service.getLastUpdatedS() == 0))
+            return true;
+
+        String previousStatus = KeyValuePairs.getValue(previous.getData().getDataList(),
+            HeartbeatThread.STATUS_ATTR);
+        String status = KeyValuePairs.getValue(service.getData().getDataList(), HeartbeatThread.STATUS_ATTR);
+        return previousStatus == null ? status != null : !previousStatus.equals(status);
+    }
+
+    private static Service withSecondsSinceLastUpdate(Service service, long now) {
+        long secondsSinceLastUpdate = now - service.getLastUpdatedS();
+        return service.toBuilder().setData(
+            service.getData().toBuilder().addData(
+                KeyValuePair.newBuilder().setKey(SECONDS_SINCE_LAST_UPDATE).setValue(
+                    Long.toString(secondsSinceLastUpdate)))).build();
+    }
+
+    /**
+     * Converts a record to an immutable service message without the data
+     * that is computed per response.
+     */
+    private static Service toCachedService(ServiceRecord record) {
+        Service service = record.getService();
+
+        ServiceDataMap.Builder data = ServiceDataMap.newBuilder();
+        for (KeyValuePair kvp : service.getData().getDataList())
+            if (!kvp.getKey().equals(SECONDS_SINCE_LAST_UPDATE))
+                data.addData(kvp);
+
+        return service.toBuilder().setData(data).build();
+    }
+
+    /**
+     * An immutable view of all services, sorted by UUID like the database
+     * index.
+     */
+    private static final class Snapshot {
+
+        final Map<String, Service>                          byUuid;
+
+        final Map<ServiceType, List<Service>>               byType;
+
+        final Map<String, List<Service>>                    byName;
+
+        final ConcurrentHashMap<ServiceType, CachedServiceSet> setsByType;
+
+        Snapshot(TreeMap<String, Service> services) {
+
+            Map<ServiceType, List<Service>> byType = new HashMap<ServiceType, List<Service>>();
+            Map<String, List<Service>> byName = new HashMap<String, List<Service>>();
+
+            for (Service service : services.values()) {
+
+                List<Service> list = byType.get(service.getType());
+                if (list == null) {
+                    list = new ArrayList<Service>();
+                    byType.put(service.getType(), list);
+                }
+                list.add(service);
+
+                list = byName.get(service.getName());
+                if (list == null) {
+                    list = new ArrayList<Service>();
+                    byName.put(service.getName(), list);
+                }
+                list.add(service);
+            }
+
+            this.byUuid = Collections.unmodifiableMap(services);
+            this.byType = byType;
+            this.byName = byName;
+            this.setsByType = new ConcurrentHashMap<ServiceType, CachedServiceSet>();
+        }
+    }
+
+    /**
+     * An entry of the change log.
+     */
+    private static final class Change {
+
+        final long        version;
+
+        final String      uuid;
+
+        /** the type of the service before the change, or null if it was not registered */
+        final ServiceType oldType;
+
+        /** the type of the service after the change, or null if it has been removed */
+        final ServiceType newType;
+
+        final boolean     statusChange;
+
+        Change(long version, String uuid, ServiceType oldType, ServiceType newType, boolean statusChange) {
+            this.version = version;
+            this.uuid = uuid;
+            this.oldType = oldType;
+            this.newType = newType;
+            this.statusChange = statusChange;
+        }
+    }
+
+    /**
+     * A watch that is parked until a matching change occurs or it times out.
+     */
+    private final class Watch extends TimerTask {
+
+        final ServiceType    type;
+
+        final long           knownVersion;
+
+        /** the UUIDs of the services to watch, or null to watch all services */
+        final Set<String>    uuids;
+
+        final boolean        statusChangesOnly;
+
+        final ChangeListener listener;
+
+        Watch(ServiceType type, long knownVersion, Set<String> uuids, boolean statusChangesOnly,
+            ChangeListener listener) {
+            this.type = type;
+            this.knownVersion = knownVersion;
+            this.uuids = uuids;
+            this.statusChangesOnly = statusChangesOnly;
+            this.listener = listener;
+        }
+
+        boolean matches(ServiceType serviceType, String uuid) {
+            return (type == ServiceType.SERVICE_TYPE_MIXED || type == serviceType)
+                && (uuids == null || uuids.contains(uuid));
+        }
+
+        boolean matches(Change change) {
+            return (!statusChangesOnly || change.statusChange)
+                && ((change.oldType != null && matches(change.oldType, change.uuid)) || (change.newType != null && matches(
+                    change.newType, change.uuid)));
+        }
+
+        @Override
+        public void run() {
+            timedOut(this);
+        }
+    }
+
+    private static final class CachedServiceSet {
+
+        final long       timestamp;
+
+        final ServiceSet services;
+
+        CachedServiceSet(long timestamp, ServiceSet services) {
+            this.timestamp = timestamp;
+            this.services = services;
+        }
+    }
+
+}
@@ -51,6 +51,9 @@ public class DeregisterServiceOperation extends DIROperation {
             }
         });
         
+        if (master.getServiceRegistry() != null)
+            master.getServiceRegistry().remove(request.getUuid());
+        
         master.notifyServiceDeregistred(request.getUuid());
     }
     
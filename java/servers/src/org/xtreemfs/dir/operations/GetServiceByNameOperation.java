@@ -15,6 +15,7 @@ import org.xtreemfs.babudb.api.database.ResultSet;
 import org.xtreemfs.babudb.api.exception.BabuDBException;
 import org.xtreemfs.dir.DIRRequest;
 import org.xtreemfs.dir.DIRRequestDispatcher;
+import org.xtreemfs.dir.ServiceRegistry;
 import org.xtreemfs.dir.data.ServiceRecord;
 import org.xtreemfs.foundation.buffer.ReusableBuffer;
 import org.xtreemfs.pbrpc.generatedinterfaces.DIR.ServiceSet;
@@ -45,6 +46,12 @@ public class GetServiceByNameOperation extends DIROperation {
     public void startRequest(DIRRequest rq) {
         final serviceGetByNameRequest request = (serviceGetByNameRequest) rq.getRequestMessage();
         
+        final ServiceRegistry serviceRegistry = master.getServiceRegistry();
+        if (serviceRegistry != null) {
+            requestFinished(serviceRegistry.getServicesByName(request.getName()), rq);
+            return;
+        }
+        
         database.prefixLookup(DIRRequestDispatcher.INDEX_ID_SERVREG, new byte[0], rq).registerListener(
                 new DBRequestListener<ResultSet<byte[], byte[]>, ServiceSet>(true) {
                     
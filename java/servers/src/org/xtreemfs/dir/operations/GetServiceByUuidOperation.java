@@ -12,6 +12,7 @@ import org.xtreemfs.babudb.api.database.Database;
 import org.xtreemfs.babudb.api.exception.BabuDBException;
 import org.xtreemfs.dir.DIRRequest;
 import org.xtreemfs.dir.DIRRequestDispatcher;
+import org.xtreemfs.dir.ServiceRegistry;
 import org.xtreemfs.dir.data.ServiceRecord;
 import org.xtreemfs.foundation.buffer.ReusableBuffer;
 import org.xtreemfs.pbrpc.generatedinterfaces.DIR.ServiceSet;
@@ -42,6 +43,12 @@ public class GetServiceByUuidOperation extends DIROperation {
     public void startRequest(DIRRequest rq) {
         serviceGetByUUIDRequest request = (serviceGetByUUIDRequest) rq.getRequestMessage();
         
+        final ServiceRegistry serviceRegistry = master.getServiceRegistry();
+        if (serviceRegistry != null) {
+            requestFinished(serviceRegistry.getServiceByUuid(request.getName()), rq);
+            return;
+        }
+        
         database.lookup(DIRRequestDispatcher.INDEX_ID_SERVREG, request.getName().getBytes(), rq).registerListener(
                 new DBRequestListener<byte[], ServiceSet>(true) {
                     
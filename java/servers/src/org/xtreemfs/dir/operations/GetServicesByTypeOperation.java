@@ -15,6 +15,7 @@ import org.xtreemfs.babudb.api.database.ResultSet;
 import org.xtreemfs.babudb.api.exception.BabuDBException;
 import org.xtreemfs.dir.DIRRequest;
 import org.xtreemfs.dir.DIRRequestDispatcher;
+import org.xtreemfs.dir.ServiceRegistry;
 import org.xtreemfs.dir.data.ServiceRecord;
 import org.xtreemfs.foundation.buffer.ReusableBuffer;
 import org.xtreemfs.pbrpc.generatedinterfaces.DIR.ServiceSet;
@@ -46,6 +47,12 @@ public class GetServicesByTypeOperation extends DIROperation {
     public void startRequest(DIRRequest rq) {
         final serviceGetByTypeRequest request = (serviceGetByTypeRequest) rq.getRequestMessage();
         
+        final ServiceRegistry serviceRegistry = master.getServiceRegistry();
+        if (serviceRegistry != null) {
+            requestFinished(serviceRegistry.getServicesByType(request.getType()), rq);
+            return;
+        }
+        
         database.prefixLookup(DIRRequestDispatcher.INDEX_ID_SERVREG, new byte[0], rq).registerListener(
                 new DBRequestListener<ResultSet<byte[], byte[]>, ServiceSet>(true) {
                     
@@ -146,6 +146,10 @@ public class RegisterServiceOperation extends DIROperation {
                                         return version;
                                     }
                                 });
+
+                        if (master.getServiceRegistry() != null)
+                            master.getServiceRegistry().put(newRec);
+
                         return null;
                     }
                 });
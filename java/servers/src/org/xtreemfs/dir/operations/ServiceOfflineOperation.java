@@ -64,6 +64,9 @@ public class ServiceOfflineOperation extends DIROperation {
                                     return null;
                                 }
                             });
+                            
+                            if (master.getServiceRegistry() != null)
+                                master.getServiceRegistry().put(dbData);
                         } else
                             requestFinished(null, rq);
                         
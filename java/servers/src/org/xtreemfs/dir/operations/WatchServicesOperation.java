@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2015 by Zuse Institute Berlin
+ *
+ * Licensed under the BSD License, see LICENSE file for details.
+ *
+ */
+
+package org.xtreemfs.dir.operations;
+
+import org.xtreemfs.dir.DIRRequest;
+import org.xtreemfs.dir.DIRRequestDispatcher;
+import org.xtreemfs.dir.ServiceRegistry;
+import org.xtreemfs.foundation.pbrpc.generatedinterfaces.RPC.ErrorType;
+import org.xtreemfs.foundation.pbrpc.generatedinterfaces.RPC.POSIXErrno;
+import org.xtreemfs.pbrpc.generatedinterfaces.DIR.serviceWatchRequest;
+import org.xtreemfs.pbrpc.generatedinterfaces.DIR.serviceWatchResponse;
+import org.xtreemfs.pbrpc.generatedinterfaces.DIRServiceConstants;
+
+import com.google.protobuf.Message;
+
+/**
+ * Returns the changes of the service registry since a version known to the
+ * caller. If there are no changes, the request is parked at the
+ * {@link ServiceRegistry} until a change occurs or the request times out,
+ * which allows callers to react to changes immediately without polling.
+ */
+public class WatchServicesOperation extends DIROperation {
+    
+    /**
+     * upper bound for the time a request may be parked, in ms
+     */
+    private static final int MAX_TIMEOUT_MS = 60 * 1000;
+    
+    public WatchServicesOperation(DIRRequestDispatcher master) {
+        super(master);
+    }
+    
+    @Override
+    public int getProcedureId() {
+        return DIRServiceConstants.PROC_ID_XTREEMFS_SERVICE_WATCH;
+    }
+    
+    @Override
+    public void startRequest(final DIRRequest rq) {
+        final serviceWatchRequest request = (serviceWatchRequest) rq.getRequestMessage();
+        
+        // changes made by other DIRs cannot be observed if the database is
+        // replicated; callers have to fall back to polling
+        final ServiceRegistry serviceRegistry = master.getServiceRegistry();
+        if (serviceRegistry == null) {
+            rq.sendError(ErrorType.INVALID_PROC_ID, POSIXErrno.POSIX_ERROR_EIO,
+                "watching services is not supported by replicated DIRs");
+            return;
+        }
+        
+        serviceRegistry.watch(request.getType(), request.getKnownVersion(), request.getUuidsList(), request
+                .getStatusChangesOnly(), Math.max(0, Math.min(request.getTimeoutMs(), MAX_TIMEOUT_MS)),
+            new ServiceRegistry.ChangeListener() {
+                @Override
+                public void changed(serviceWatchResponse changes) {
+                    requestFinished(changes, rq);
+                }
+            });
+    }
+    
+    @Override
+    public boolean isAuthRequired() {
+        return false;
+    }
+    
+    @Override
+    protected Message getRequestMessagePrototype() {
+        return serviceWatchRequest.getDefaultInstance();
+    }
+    
+    @Override
+    void requestFinished(Object result, DIRRequest rq) {
+        rq.sendSuccess((serviceWatchResponse) result);
+    }
+    
+}
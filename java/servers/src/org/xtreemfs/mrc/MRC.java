@@ -100,7 +100,8 @@ public class MRC {
             return;
         }
         
-        Logging.start(config.getDebugLevel(), config.getDebugCategories());
+        Logging.start(config.getDebugLevel(), config.getDebugAsyncBufferSize(), config.getDebugRateLimit(),
+            config.getDebugCategories());
         
         new MRC(config, dbsConfig);
     }
@@ -26,6 +26,8 @@ public class MRCConfig extends ServiceConfig {
     final Parameter[] mrcParameter = {
             Parameter.DEBUG_LEVEL,
             Parameter.DEBUG_CATEGORIES,
+            Parameter.DEBUG_ASYNC_BUFFER_SIZE,
+            Parameter.DEBUG_RATE_LIMIT,
             Parameter.PORT,
             Parameter.HTTP_PORT,
             Parameter.LISTEN_ADDRESS,
@@ -62,6 +64,9 @@ public class MRCConfig extends ServiceConfig {
             Parameter.FAILOVER_WAIT,
             Parameter.USE_RENEWAL_SIGNAL,
             Parameter.USE_MULTIHOMING,
+            Parameter.TRACING_ENABLED,
+            Parameter.TRACING_SAMPLING_INTERVAL,
+            Parameter.TRACING_BUFFER_SIZE,
             Parameter.FLEASE_LEASE_TIMEOUT_MS
             };
     /*
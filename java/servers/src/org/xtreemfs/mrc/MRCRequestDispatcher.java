@@ -32,8 +32,13 @@ import org.xtreemfs.common.config.RemoteConfigHelper;
 import org.xtreemfs.common.config.ServiceConfig;
 import org.xtreemfs.common.monitoring.StatusMonitor;
 import org.xtreemfs.common.statusserver.BabuDBStatusPage;
+import org.xtreemfs.common.statusserver.LatencyStatusPage;
+import org.xtreemfs.common.statusserver.LatencyStatusPage.LatencyStatusProvider;
+import org.xtreemfs.common.statusserver.LatencyStatusPage.ServiceLatencyStatusProvider;
+import org.xtreemfs.common.statusserver.MetricsPage;
 import org.xtreemfs.common.statusserver.PrintStackTrace;
 import org.xtreemfs.common.statusserver.StatusServer;
+import org.xtreemfs.common.statusserver.TraceStatusPage;
 import org.xtreemfs.common.uuids.ServiceUUID;
 import org.xtreemfs.common.uuids.UUIDResolver;
 import org.xtreemfs.common.uuids.UnknownUUIDException;
@@ -48,6 +53,9 @@ import org.xtreemfs.foundation.VersionManagement;
 import org.xtreemfs.foundation.buffer.BufferPool;
 import org.xtreemfs.foundation.logging.Logging;
 import org.xtreemfs.foundation.logging.Logging.Category;
+import org.xtreemfs.foundation.monitoring.MetricsRegistry;
+import org.xtreemfs.foundation.monitoring.MetricsRegistry.Gauge;
+import org.xtreemfs.foundation.monitoring.OperationLatencies;
 import org.xtreemfs.foundation.pbrpc.Schemes;
 import org.xtreemfs.foundation.pbrpc.client.RPCNIOSocketClient;
 import org.xtreemfs.foundation.pbrpc.generatedinterfaces.RPC.ErrorType;
@@ -57,6 +65,7 @@ import org.xtreemfs.foundation.pbrpc.generatedinterfaces.RPC.RPCHeader;
 import org.xtreemfs.foundation.pbrpc.server.RPCNIOSocketServer;
 import org.xtreemfs.foundation.pbrpc.server.RPCServerRequest;
 import org.xtreemfs.foundation.pbrpc.server.RPCServerRequestListener;
+import org.xtreemfs.foundation.trace.Tracer;
 import org.xtreemfs.foundation.util.OutputUtils;
 import org.xtreemfs.mrc.StatusPage.Vars;
 import org.xtreemfs.mrc.ac.FileAccessManager;
@@ -67,6 +76,7 @@ import org.xtreemfs.mrc.database.VolumeManager;
 import org.xtreemfs.mrc.database.babudb.BabuDBVolumeManager;
 import org.xtreemfs.mrc.metadata.StripingPolicy;
 import org.xtreemfs.mrc.osdselection.OSDStatusManager;
+import org.xtreemfs.mrc.stages.FileDeletionThread;
 import org.xtreemfs.mrc.stages.OnCloseReplicationThread;
 import org.xtreemfs.mrc.stages.ProcessingStage;
 import org.xtreemfs.mrc.stages.XLocSetCoordinator;
@@ -116,6 +126,8 @@ public class MRCRequestDispatcher implements RPCServerRequestListener, LifeCycle
 
     private final OnCloseReplicationThread onCloseReplicationThread;
 
+    private final FileDeletionThread       fileDeletionThread;
+
     private final VolumeManager            volumeManager;
 
     private final FileAccessManager        fileAccessManager;
@@ -201,6 +213,10 @@ public class MRCRequestDispatcher implements RPCServerRequestListener, LifeCycle
         osdClient = new OSDServiceClient(clientStage, null);
         TimeSync.initialize(dirClient, config.getRemoteTimeSync(), config.getLocalClockRenew());
 
+        if (config.isTracingEnabled()) {
+            Tracer.initialize(config.getTracingBufferSize(), config.getTracingSamplingInterval());
+        }
+
         authProvider = policyContainer.getAuthenticationProvider();
         authProvider.initialize(config.isUsingSSL());
         if (Logging.isInfo())
@@ -324,6 +340,38 @@ public class MRCRequestDispatcher implements RPCServerRequestListener, LifeCycle
                 }
             }));
 
+            LatencyStatusProvider latencyProvider = new ServiceLatencyStatusProvider(MRCServiceConstants.class) {
+                @Override
+                public List<OperationLatencies> getLatencies() {
+                    return master.getStageLatencies();
+                }
+            };
+            statusServer.registerModule(new LatencyStatusPage(latencyProvider, false));
+            statusServer.registerModule(new LatencyStatusPage(latencyProvider, true));
+            statusServer.registerModule(new TraceStatusPage());
+
+            MetricsRegistry metrics = new MetricsRegistry();
+            MetricsPage.registerCommonMetrics(metrics, latencyProvider);
+            metrics.registerGauge("xtreemfs_mrc_client_connections", "Number of open client connections.", new Gauge() {
+                @Override
+                public long getValue() {
+                    return master.getNumConnections();
+                }
+            });
+            metrics.registerGauge("xtreemfs_mrc_pending_requests", "Number of requests received but not answered.", new Gauge() {
+                @Override
+                public long getValue() {
+                    return master.getNumRequests();
+                }
+            });
+            metrics.registerGauge("xtreemfs_mrc_processing_queue_length", "Number of requests waiting for the processing stage.", new Gauge() {
+                @Override
+                public long getValue() {
+                    return master.procStage.getQueueLength();
+                }
+            });
+            statusServer.registerModule(new MetricsPage(metrics));
+
             if (config.getAdminPassword().length() > 0) {
                 statusServer.addAuthorizedUser("admin", config.getAdminPassword());
             }
@@ -337,6 +385,9 @@ public class MRCRequestDispatcher implements RPCServerRequestListener, LifeCycle
         onCloseReplicationThread = new OnCloseReplicationThread(this);
         onCloseReplicationThread.setLifeCycleListener(this);
 
+        fileDeletionThread = new FileDeletionThread(this);
+        fileDeletionThread.setLifeCycleListener(this);
+
         if (replicated) {
             mrcMonitor = new MRCStatusManager(this);
             mrcMonitor.setLifeCycleListener(this);
@@ -348,6 +399,8 @@ public class MRCRequestDispatcher implements RPCServerRequestListener, LifeCycle
 
         onCloseReplicationThread.shutdown();
 
+        fileDeletionThread.shutdown();
+
         heartbeatThread.shutdown();
 
         serverStage.shutdown();
@@ -412,6 +465,9 @@ public class MRCRequestDispatcher implements RPCServerRequestListener, LifeCycle
             onCloseReplicationThread.start();
             onCloseReplicationThread.waitForStartup();
 
+            fileDeletionThread.start();
+            fileDeletionThread.waitForStartup();
+
             serverStage.start();
             serverStage.waitForStartup();
 
@@ -435,6 +491,9 @@ public class MRCRequestDispatcher implements RPCServerRequestListener, LifeCycle
         onCloseReplicationThread.shutdown();
         onCloseReplicationThread.waitForShutdown();
 
+        fileDeletionThread.shutdown();
+        fileDeletionThread.waitForShutdown();
+
         heartbeatThread.shutdown();
         heartbeatThread.waitForShutdown();
 
@@ -753,6 +812,10 @@ public class MRCRequestDispatcher implements RPCServerRequestListener, LifeCycle
         return onCloseReplicationThread;
     }
 
+    public FileDeletionThread getFileDeletionThread() {
+        return fileDeletionThread;
+    }
+
     public MRCPolicyContainer getPolicyContainer() {
         return policyContainer;
     }
@@ -937,6 +1000,15 @@ public class MRCRequestDispatcher implements RPCServerRequestListener, LifeCycle
         return procStage;
     }
 
+    /**
+     * Returns the latency histograms of all stages of the MRC.
+     */
+    public List<OperationLatencies> getStageLatencies() {
+        List<OperationLatencies> latencies = new ArrayList<OperationLatencies>(1);
+        latencies.add(procStage.getLatencies());
+        return latencies;
+    }
+
     /**
      * The hashCode is based on the UUID and the system time when {@link MRCRequestDispatcher} was initialized. <br>
      * It will be unique between different MRCs and instances on the same MRC.
@@ -140,6 +140,16 @@ public interface StorageManager {
     
     public DatabaseResultSet<FileMetadata> getChildren(long parentId, int seen, int num) throws DatabaseException;
     
+    /**
+     * Returns up to <code>num</code> children of a directory whose names
+     * follow <code>startAfter</code> in database order. Unlike
+     * {@link #getChildren(long, int, int)}, preceding entries do not have to
+     * be skipped, which makes it possible to list large directories in pages
+     * at constant costs per page.
+     */
+    public DatabaseResultSet<FileMetadata> getChildren(long parentId, String startAfter, int num)
+        throws DatabaseException;
+    
     // handling snapshots
     
     public void createSnapshot(String snapName, long parentId, String dirName, boolean recursive)
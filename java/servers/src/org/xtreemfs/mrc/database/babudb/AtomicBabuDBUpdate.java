@@ -8,6 +8,10 @@
 
 package org.xtreemfs.mrc.database.babudb;
 
+import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.Map;
+
 import org.xtreemfs.babudb.api.database.Database;
 import org.xtreemfs.babudb.api.database.DatabaseInsertGroup;
 import org.xtreemfs.babudb.api.database.DatabaseRequestListener;
@@ -25,6 +29,12 @@ public class AtomicBabuDBUpdate implements AtomicDBUpdate {
     
     private Object                          context;
     
+    /**
+     * volume metadata (e.g. file counts, volume size) written by this update; needed to correctly apply multiple
+     * incremental changes to the same counter within one update
+     */
+    private Map<ByteBuffer, byte[]>         volumeMetadata;
+    
     // private List<Object[]> updates;
     //    
     // private String dbName;
@@ -45,6 +55,12 @@ public class AtomicBabuDBUpdate implements AtomicDBUpdate {
     @Override
     public void addUpdate(Object... update) {
         ig.addInsert((Integer) update[0], (byte[]) update[1], (byte[]) update[2]);
+        
+        if ((Integer) update[0] == BabuDBStorageManager.VOLUME_INDEX) {
+            if (volumeMetadata == null)
+                volumeMetadata = new HashMap<ByteBuffer, byte[]>();
+            volumeMetadata.put(ByteBuffer.wrap((byte[]) update[1]), (byte[]) update[2]);
+        }
         // updates.add(update);
     }
     
@@ -64,6 +80,14 @@ public class AtomicBabuDBUpdate implements AtomicDBUpdate {
         }
     }
     
+    /**
+     * Returns the value of a volume metadata key that has been written by this update, or <code>null</code> if the
+     * key has not been written.
+     */
+    byte[] getVolumeMetadata(byte[] key) {
+        return volumeMetadata == null ? null : volumeMetadata.get(ByteBuffer.wrap(key));
+    }
+    
     public String toString() {
         return ig.toString();
     }
@@ -544,6 +544,30 @@ public class BabuDBStorageHelper {
         return new ChildrenIterator(database, it, from, num);
     }
     
+    public static ChildrenIterator getChildren(DatabaseRO database, long parentId, String startAfter, int num)
+        throws BabuDBException {
+        
+        // look up the range between the last record of 'startAfter' and the
+        // first record of the next directory; since bytes are compared as
+        // signed values, names that extend 'startAfter' with a non-ASCII
+        // character precede its records, so the range has to start right
+        // after the key of its last record rather than at its name
+        byte[] from;
+        if (startAfter.length() == 0)
+            from = BabuDBStorageHelper.createFilePrefixKey(parentId);
+        else {
+            byte[] lastKey = BabuDBStorageHelper.createFileKey(parentId, startAfter, FileMetadata.RC_METADATA);
+            from = new byte[lastKey.length + 1];
+            System.arraycopy(lastKey, 0, from, 0, lastKey.length);
+            from[lastKey.length] = Byte.MIN_VALUE;
+        }
+        byte[] to = BabuDBStorageHelper.createFilePrefixKey(parentId + 1);
+        ResultSet<byte[], byte[]> it = database.rangeLookup(BabuDBStorageManager.FILE_INDEX, from, to, null)
+                .get();
+        
+        return new ChildrenIterator(database, it, 0, num);
+    }
+    
     public static void getNestedFiles(List<FileMetadata> files, Database database, long dirId,
         boolean recursive) throws BabuDBException {
         
@@ -525,6 +525,18 @@ public class BabuDBStorageManager implements StorageManager {
         
     }
     
+    @Override
+    public DatabaseResultSet<FileMetadata> getChildren(long parentId, String startAfter, int num)
+        throws DatabaseException {
+        
+        try {
+            return BabuDBStorageHelper.getChildren(database, parentId, startAfter, num);
+        } catch (Exception exc) {
+            throw new DatabaseException(exc);
+        }
+        
+    }
+    
     @Override
     public StripingPolicy getDefaultStripingPolicy(long fileId) throws DatabaseException {
         
@@ -993,7 +1005,9 @@ public class BabuDBStorageManager implements StorageManager {
     
     protected void updateVolumeSize(long diff, AtomicDBUpdate update) throws DatabaseException {
         
-        long newSize = getVolumeSize() + diff;
+        byte[] pending = update instanceof AtomicBabuDBUpdate ? ((AtomicBabuDBUpdate) update)
+                .getVolumeMetadata(VOL_SIZE_KEY) : null;
+        long newSize = (pending != null ? ByteBuffer.wrap(pending).getLong(0) : getVolumeSize()) + diff;
         
         byte[] sizeBytes = new byte[8];
         ByteBuffer.wrap(sizeBytes).putLong(0, newSize);
@@ -1049,7 +1063,11 @@ public class BabuDBStorageManager implements StorageManager {
     private void updateCount(byte[] key, boolean increment, AtomicDBUpdate update) throws DatabaseException {
         
         try {
-            byte[] countBytes = BabuDBStorageHelper.getVolumeMetadata(database, key);
+            // take into account changes to the count by previous calls with the same update
+            byte[] countBytes = update instanceof AtomicBabuDBUpdate ? ((AtomicBabuDBUpdate) update)
+                    .getVolumeMetadata(key) : null;
+            countBytes = countBytes != null ? countBytes.clone() : BabuDBStorageHelper.getVolumeMetadata(database,
+                    key);
             ByteBuffer countBuf = ByteBuffer.wrap(countBytes);
             countBuf.putLong(0, countBuf.getLong() + (increment ? 1 : -1));
             
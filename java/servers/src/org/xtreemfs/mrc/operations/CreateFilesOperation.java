@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2015 by Zuse Institute Berlin
+ *
+ * Licensed under the BSD License, see LICENSE file for details.
+ *
+ */
+
+package org.xtreemfs.mrc.operations;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.xtreemfs.foundation.pbrpc.generatedinterfaces.RPC.POSIXErrno;
+import org.xtreemfs.mrc.MRCRequest;
+import org.xtreemfs.mrc.MRCRequestDispatcher;
+import org.xtreemfs.mrc.UserException;
+import org.xtreemfs.mrc.ac.FileAccessManager;
+import org.xtreemfs.mrc.database.AtomicDBUpdate;
+import org.xtreemfs.mrc.database.DatabaseException;
+import org.xtreemfs.mrc.database.DatabaseException.ExceptionType;
+import org.xtreemfs.mrc.database.StorageManager;
+import org.xtreemfs.mrc.metadata.FileMetadata;
+import org.xtreemfs.mrc.utils.Path;
+import org.xtreemfs.mrc.utils.PathResolver;
+import org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_create_filesRequest;
+import org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_create_filesResponse;
+
+/**
+ * Opens or creates multiple files in the same directory. The parent directory is only resolved once, and all
+ * files are opened with a single atomic database update, i.e. either all files are opened, or none.
+ */
+public class CreateFilesOperation extends MRCOperation {
+
+    private final OpenOperation openOperation;
+
+    public CreateFilesOperation(MRCRequestDispatcher master) {
+        super(master);
+        openOperation = new OpenOperation(master);
+    }
+
+    @Override
+    public void startRequest(MRCRequest rq) throws Throwable {
+
+        // perform master redirect if necessary
+        if (master.getReplMasterUUID() != null
+            && !master.getReplMasterUUID().equals(master.getConfig().getUUID().toString()))
+            throw new DatabaseException(ExceptionType.REDIRECT);
+
+        final xtreemfs_create_filesRequest rqArgs = (xtreemfs_create_filesRequest) rq.getRequestArgs();
+        final FileAccessManager faMan = master.getFileAccessManager();
+        final int flags = rqArgs.getFlags() | FileAccessManager.O_CREAT;
+
+        // the files are not visible to each other before the update has been
+        // executed, so each name may only occur once
+        Set<String> names = new HashSet<String>();
+        for (String name : rqArgs.getNamesList()) {
+            if (name.length() == 0 || name.indexOf('/') != -1 || name.equals(".") || name.equals(".."))
+                throw new UserException(POSIXErrno.POSIX_ERROR_EINVAL, "invalid file name '" + name + "'");
+            if (!names.add(name))
+                throw new UserException(POSIXErrno.POSIX_ERROR_EINVAL, "file name '" + name
+                    + "' occurs more than once");
+        }
+
+        xtreemfs_create_filesResponse.Builder response = xtreemfs_create_filesResponse.newBuilder();
+
+        StorageManager sMan = null;
+        AtomicDBUpdate update = null;
+        FileMetadata[] parentPath = null;
+        long nextFileId = 0;
+
+        for (String name : rqArgs.getNamesList()) {
+
+            Path p = new Path(rqArgs.getVolumeName(), rqArgs.getDirPath() + "/" + name);
+
+            PathResolver res;
+            if (parentPath == null) {
+
+                sMan = master.getVolumeManager().getStorageManagerByName(p.getComp(0));
+                res = new PathResolver(sMan, p);
+
+                // check whether the path prefix is searchable
+                faMan.checkSearchPermission(sMan, res, rq.getDetails().userId, rq.getDetails().superUser, rq
+                        .getDetails().groupIds);
+
+                update = sMan.createAtomicDBUpdate(master, rq);
+                parentPath = res.getParentPath();
+
+            } else {
+                res = new PathResolver(sMan, p, parentPath);
+            }
+
+            // new files are not visible to the database before the update has
+            // been executed, so file IDs have to be assigned here
+            long newFileId = 0;
+            if (res.getFile() == null) {
+                if (nextFileId == 0)
+                    nextFileId = sMan.getNextFileId();
+                newFileId = nextFileId++;
+            }
+
+            response.addFiles(openOperation.openFile(rq, sMan, res, p, flags, rqArgs.getMode(), rqArgs
+                    .getAttributes(), rqArgs.getCoordinates(), newFileId, update));
+        }
+
+        // set the response
+        rq.setResponse(response.build());
+
+        if (update != null)
+            update.execute();
+        else
+            finishRequest(rq);
+    }
+
+}
@@ -0,0 +1,304 @@
+/*
+ * Copyright (c) 2015 by Zuse Institute Berlin
+ *
+ * Licensed under the BSD License, see LICENSE file for details.
+ *
+ */
+
+package org.xtreemfs.mrc.operations;
+
+import java.net.InetSocketAddress;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+import org.xtreemfs.foundation.TimeSync;
+import org.xtreemfs.foundation.pbrpc.generatedinterfaces.RPC.POSIXErrno;
+import org.xtreemfs.mrc.MRCRequest;
+import org.xtreemfs.mrc.MRCRequestDispatcher;
+import org.xtreemfs.mrc.UserException;
+import org.xtreemfs.mrc.ac.FileAccessManager;
+import org.xtreemfs.mrc.database.AtomicDBUpdate;
+import org.xtreemfs.mrc.database.DBAccessResultListener;
+import org.xtreemfs.mrc.database.DatabaseException;
+import org.xtreemfs.mrc.database.DatabaseException.ExceptionType;
+import org.xtreemfs.mrc.database.DatabaseResultSet;
+import org.xtreemfs.mrc.database.StorageManager;
+import org.xtreemfs.mrc.database.VolumeInfo;
+import org.xtreemfs.mrc.metadata.FileMetadata;
+import org.xtreemfs.mrc.metadata.XLocList;
+import org.xtreemfs.mrc.stages.FileDeletionThread;
+import org.xtreemfs.mrc.stages.FileDeletionThread.FileDeletion;
+import org.xtreemfs.mrc.utils.Converter;
+import org.xtreemfs.mrc.utils.MRCHelper;
+import org.xtreemfs.mrc.utils.Path;
+import org.xtreemfs.mrc.utils.PathResolver;
+import org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.SnapConfig;
+import org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_rmdir_recursiveRequest;
+import org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_rmdir_recursiveResponse;
+
+/**
+ * Deletes a directory including all of its contents, in depth-first order. To keep the processing stage responsive,
+ * at most <code>max_entries</code>, and never more than {@link #MAX_ENTRIES_PER_REQUEST}, entries are deleted per
+ * request; the client repeats the request until the directory itself has been deleted. All deletions of a request
+ * are committed asynchronously in a single transaction, and the request is finished once it has been committed.
+ * Afterwards, the objects of the deleted files are deleted asynchronously by the {@link FileDeletionThread}. No
+ * more entries are deleted than files fit into the queue of the deletion thread; if it is full, no entries are
+ * deleted and the client has to wait before repeating the request.
+ * <p>
+ * Since deletions are not visible before they have been committed, a request ends before a file with multiple
+ * links, whose link count has to be read from the database, unless it is the first entry of the request.
+ */
+public class DeleteRecursiveOperation extends MRCOperation {
+
+    static final int MAX_ENTRIES_PER_REQUEST = 500;
+
+    static final int READDIR_BATCH_SIZE      = 100;
+
+    public DeleteRecursiveOperation(MRCRequestDispatcher master) {
+        super(master);
+    }
+
+    @Override
+    public void startRequest(MRCRequest rq) throws Throwable {
+
+        // perform master redirect if necessary
+        if (master.getReplMasterUUID() != null
+            && !master.getReplMasterUUID().equals(master.getConfig().getUUID().toString()))
+            throw new DatabaseException(ExceptionType.REDIRECT);
+
+        final xtreemfs_rmdir_recursiveRequest rqArgs = (xtreemfs_rmdir_recursiveRequest) rq.getRequestArgs();
+        final FileAccessManager faMan = master.getFileAccessManager();
+
+        validateContext(rq);
+
+        if (rqArgs.getMaxEntries() <= 0)
+            throw new UserException(POSIXErrno.POSIX_ERROR_EINVAL, "max_entries must be positive");
+
+        Path p = new Path(rqArgs.getVolumeName(), rqArgs.getPath());
+        if (p.getCompCount() == 1)
+            throw new UserException(POSIXErrno.POSIX_ERROR_EPERM, "the volume root cannot be deleted");
+
+        final StorageManager sMan = master.getVolumeManager().getStorageManagerByName(p.getComp(0));
+        final PathResolver res = new PathResolver(sMan, p);
+
+        // check whether the path prefix is searchable
+        faMan.checkSearchPermission(sMan, res, rq.getDetails().userId, rq.getDetails().superUser,
+            rq.getDetails().groupIds);
+
+        // check whether the parent directory grants write access
+        faMan.checkPermission(FileAccessManager.O_WRONLY, sMan, res.getParentDir(), 0, rq.getDetails().userId,
+            rq.getDetails().superUser, rq.getDetails().groupIds);
+
+        // check whether the directory exists
+        res.checkIfFileDoesNotExist();
+
+        FileMetadata dir = res.getFile();
+        if (!dir.isDirectory())
+            throw new UserException(POSIXErrno.POSIX_ERROR_ENOTDIR, "'" + p + "' is not a directory");
+
+        Deletion deletion = new Deletion(rq, sMan,
+            ((InetSocketAddress) rq.getRPCRequest().getSenderAddress()).getAddress().getHostAddress());
+
+        // check whether the directory itself can be deleted, and whether its contents can be deleted
+        deletion.checkDirectory(dir, res.getParentDirId());
+
+        Deque<Directory> stack = new ArrayDeque<Directory>();
+        stack.push(new Directory(dir, res.getParentDirId()));
+
+        // do not delete more files than can be handed over to the deletion thread
+        final int maxEntries = Math.min(Math.min(rqArgs.getMaxEntries(), MAX_ENTRIES_PER_REQUEST), master
+                .getFileDeletionThread().getRemainingCapacity());
+        int numDeleted = 0;
+        boolean linkPending = false;
+
+        while (numDeleted < maxEntries) {
+
+            Directory current = stack.peek();
+
+            // continue after the entries that have already been deleted, as deletions have not been committed
+            // yet
+            DatabaseResultSet<FileMetadata> children = sMan.getChildren(current.dir.getId(), current.lastName,
+                READDIR_BATCH_SIZE);
+            FileMetadata subdir = null;
+            int numChildren = 0;
+            try {
+                while (children.hasNext() && numDeleted < maxEntries) {
+
+                    FileMetadata child = children.next();
+                    numChildren++;
+
+                    // the link count of a file with multiple links is read from the database, i.e. previous
+                    // deletions of links to the same file have to be committed first
+                    if (!child.isDirectory() && child.getLinkCount() > 1 && numDeleted > 0) {
+                        linkPending = true;
+                        break;
+                    }
+
+                    current.lastName = child.getFileName();
+
+                    if (child.isDirectory()) {
+                        subdir = child;
+                        break;
+                    }
+
+                    deletion.delete(current.dir.getId(), child);
+                    numDeleted++;
+                }
+            } finally {
+                children.destroy();
+            }
+
+            if (linkPending)
+                break;
+
+            // descend into subdirectories first
+            if (subdir != null) {
+                deletion.checkDirectory(subdir, current.dir.getId());
+                stack.push(new Directory(subdir, current.dir.getId()));
+                continue;
+            }
+
+            if (numChildren == READDIR_BATCH_SIZE || numDeleted == maxEntries)
+                continue;
+
+            // the directory is empty
+            stack.pop();
+            deletion.delete(current.parentId, current.dir);
+            numDeleted++;
+
+            if (stack.isEmpty())
+                break;
+        }
+
+        int time = (int) (TimeSync.getGlobalTime() / 1000);
+
+        // update POSIX timestamps of parent directory
+        if (stack.isEmpty())
+            MRCHelper.updateFileTimes(res.getParentsParentId(), res.getParentDir(), false, true, true, sMan, time,
+                deletion.update);
+
+        // set the response
+        rq.setResponse(xtreemfs_rmdir_recursiveResponse.newBuilder().setTimestampS(time)
+                .setNumDeleted(numDeleted).setComplete(stack.isEmpty()).build());
+
+        if (numDeleted == 0)
+            finishRequest(rq);
+        else
+            deletion.execute();
+    }
+
+    /**
+     * A directory whose contents are being deleted.
+     */
+    private static final class Directory {
+
+        final FileMetadata dir;
+
+        final long         parentId;
+
+        /** the name of the last child that has been deleted or descended into */
+        String             lastName;
+
+        Directory(FileMetadata dir, long parentId) {
+            this.dir = dir;
+            this.parentId = parentId;
+            this.lastName = "";
+        }
+    }
+
+    /**
+     * Deletes entries in a single transaction and hands over the files to delete at the OSDs once the transaction
+     * has been committed.
+     */
+    private final class Deletion implements DBAccessResultListener<Object> {
+
+        private final MRCRequest            rq;
+
+        private final StorageManager        sMan;
+
+        private final VolumeInfo            volume;
+
+        private final String                clientAddress;
+
+        private final List<FileDeletion>    osdDeletions;
+
+        private final AtomicDBUpdate        update;
+
+        Deletion(MRCRequest rq, StorageManager sMan, String clientAddress) throws DatabaseException {
+            this.rq = rq;
+            this.sMan = sMan;
+            this.volume = sMan.getVolumeInfo();
+            this.clientAddress = clientAddress;
+            this.osdDeletions = new ArrayList<FileDeletion>();
+            this.update = sMan.createAtomicDBUpdate(this, rq);
+        }
+
+        void checkDirectory(FileMetadata dir, long parentId) throws Throwable {
+
+            final FileAccessManager faMan = master.getFileAccessManager();
+
+            // check whether the entry itself can be deleted (this is e.g.
+            // important w/ POSIX access control if the sticky bit is set)
+            faMan.checkPermission(FileAccessManager.NON_POSIX_RM_MV_IN_DIR, sMan, dir, parentId,
+                rq.getDetails().userId, rq.getDetails().superUser, rq.getDetails().groupIds);
+
+            // check whether the directory can be listed and its entries can be deleted
+            faMan.checkPermission(FileAccessManager.NON_POSIX_SEARCH, sMan, dir, parentId, rq.getDetails().userId,
+                rq.getDetails().superUser, rq.getDetails().groupIds);
+            faMan.checkPermission(FileAccessManager.O_WRONLY, sMan, dir, parentId, rq.getDetails().userId,
+                rq.getDetails().superUser, rq.getDetails().groupIds);
+        }
+
+        void delete(long parentId, FileMetadata file) throws Throwable {
+
+            if (!file.isDirectory()) {
+
+                master.getFileAccessManager().checkPermission(FileAccessManager.NON_POSIX_RM_MV_IN_DIR, sMan, file,
+                    parentId, rq.getDetails().userId, rq.getDetails().superUser, rq.getDetails().groupIds);
+            }
+
+            short remainingLinks = sMan.delete(parentId, file.getFileName(), update);
+
+            // unless there are links remaining, delete the file content at the OSDs; the deletion capability is
+            // created by the deletion thread
+            XLocList xLoc = file.isDirectory() ? null : file.getXLocList();
+            if (remainingLinks == 0 && xLoc != null && xLoc.getReplicaCount() > 0) {
+                osdDeletions.add(new FileDeletion(MRCHelper.createGlobalFileId(volume, file), Converter
+                        .xLocListToXLocSet(xLoc).build(), file.getEpoch(),
+                    !volume.isSnapshotsEnabled() ? SnapConfig.SNAP_CONFIG_SNAPS_DISABLED
+                        : volume.isSnapVolume() ? SnapConfig.SNAP_CONFIG_ACCESS_SNAP
+                            : SnapConfig.SNAP_CONFIG_ACCESS_CURRENT, volume.getCreationTime(), clientAddress));
+            }
+        }
+
+        /**
+         * Commits the transaction asynchronously. The request is finished when the transaction has been committed.
+         */
+        void execute() throws DatabaseException {
+
+            // reserve the capacity of the deletion thread until the files can be enqueued
+            master.getFileDeletionThread().reserveCapacity(osdDeletions.size());
+            try {
+                update.execute();
+            } catch (DatabaseException exc) {
+                master.getFileDeletionThread().releaseCapacity(osdDeletions.size());
+                throw exc;
+            }
+        }
+
+        @Override
+        public void finished(Object result, Object context) {
+            master.getFileDeletionThread().enqueueReservedFiles(osdDeletions);
+            master.finished(result, context);
+        }
+
+        @Override
+        public void failed(Throwable error, Object context) {
+            master.getFileDeletionThread().releaseCapacity(osdDeletions.size());
+            master.failed(error, context);
+        }
+    }
+
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2015 by Zuse Institute Berlin
+ *
+ * Licensed under the BSD License, see LICENSE file for details.
+ *
+ */
+
+package org.xtreemfs.mrc.operations;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.xtreemfs.foundation.logging.Logging;
+import org.xtreemfs.foundation.logging.Logging.Category;
+import org.xtreemfs.mrc.MRCRequest;
+import org.xtreemfs.mrc.MRCRequestDispatcher;
+import org.xtreemfs.mrc.UserException;
+import org.xtreemfs.mrc.ac.FileAccessManager;
+import org.xtreemfs.mrc.database.StorageManager;
+import org.xtreemfs.mrc.metadata.FileMetadata;
+import org.xtreemfs.mrc.utils.Path;
+import org.xtreemfs.mrc.utils.PathResolver;
+import org.xtreemfs.pbrpc.generatedinterfaces.MRC.getattrResponse;
+import org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_getattrsRequest;
+import org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_getattrsResponse;
+
+/**
+ * Returns the attributes of multiple files or directories. Parent directories shared by several paths are
+ * only resolved and checked for search permission once. Paths that do not exist or cannot be accessed yield
+ * an empty entry.
+ */
+public class GetAttrsOperation extends MRCOperation {
+
+    private final StatOperation statOperation;
+
+    public GetAttrsOperation(MRCRequestDispatcher master) {
+        super(master);
+        statOperation = new StatOperation(master);
+    }
+
+    @Override
+    public void startRequest(MRCRequest rq) throws Throwable {
+
+        final xtreemfs_getattrsRequest rqArgs = (xtreemfs_getattrsRequest) rq.getRequestArgs();
+        final FileAccessManager faMan = master.getFileAccessManager();
+
+        validateContext(rq);
+
+        xtreemfs_getattrsResponse.Builder response = xtreemfs_getattrsResponse.newBuilder();
+
+        // parent path -> resolved and searchable parent path
+        Map<String, FileMetadata[]> parentPaths = new HashMap<String, FileMetadata[]>();
+        StorageManager sMan = null;
+
+        for (String path : rqArgs.getPathsList()) {
+
+            try {
+
+                Path p = new Path(rqArgs.getVolumeName(), path);
+                if (sMan == null)
+                    sMan = master.getVolumeManager().getStorageManagerByName(p.getComp(0));
+
+                String parent = p.getCompCount() > 1 ? p.toString().substring(0,
+                        p.toString().length() - p.getLastComp(0).length()) : null;
+                FileMetadata[] parentPath = parent == null ? null : parentPaths.get(parent);
+
+                PathResolver res;
+                if (parentPath == null) {
+
+                    res = new PathResolver(sMan, p);
+
+                    // check whether the path prefix is searchable
+                    faMan.checkSearchPermission(sMan, res, rq.getDetails().userId, rq.getDetails().superUser,
+                            rq.getDetails().groupIds);
+
+                    if (parent != null)
+                        parentPaths.put(parent, res.getParentPath());
+
+                } else {
+                    res = new PathResolver(sMan, p, parentPath);
+                }
+
+                // check whether file exists
+                res.checkIfFileDoesNotExist();
+
+                response.addStats(getattrResponse.newBuilder().setStbuf(
+                        statOperation.getStat(rq, sMan, sMan.getVolumeInfo(), res.getFile())));
+
+            } catch (UserException exc) {
+                if (Logging.isDebug())
+                    Logging.logMessage(Logging.LEVEL_DEBUG, Category.proc, this, "could not stat '%s': %s", path,
+                            exc.getMessage());
+                response.addStats(getattrResponse.getDefaultInstance());
+            }
+        }
+
+        // set the response
+        rq.setResponse(response.build());
+
+        finishRequest(rq);
+    }
+
+}
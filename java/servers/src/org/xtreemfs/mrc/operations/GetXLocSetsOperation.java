@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2015 by Zuse Institute Berlin
+ *
+ * Licensed under the BSD License, see LICENSE file for details.
+ *
+ */
+
+package org.xtreemfs.mrc.operations;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.xtreemfs.foundation.logging.Logging;
+import org.xtreemfs.foundation.logging.Logging.Category;
+import org.xtreemfs.foundation.pbrpc.generatedinterfaces.RPC.POSIXErrno;
+import org.xtreemfs.mrc.MRCRequest;
+import org.xtreemfs.mrc.MRCRequestDispatcher;
+import org.xtreemfs.mrc.UserException;
+import org.xtreemfs.mrc.ac.FileAccessManager;
+import org.xtreemfs.mrc.database.StorageManager;
+import org.xtreemfs.mrc.metadata.FileMetadata;
+import org.xtreemfs.mrc.metadata.XLocList;
+import org.xtreemfs.mrc.utils.Converter;
+import org.xtreemfs.mrc.utils.Path;
+import org.xtreemfs.mrc.utils.PathResolver;
+import org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.Replicas;
+import org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.VivaldiCoordinates;
+import org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XLocSet;
+import org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_get_xlocsetsRequest;
+import org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_get_xlocsetsResponse;
+
+/**
+ * Returns the XLocSets of multiple files, e.g. to plan the placement of tasks that process the files. The replicas
+ * are ordered by the replica selection policy of the volume, as for an open call. Parent directories shared by
+ * several paths are only resolved and checked for search permission once. Paths that do not exist, cannot be
+ * accessed or do not refer to files yield an XLocSet without replicas.
+ */
+public class GetXLocSetsOperation extends MRCOperation {
+
+    private static final XLocSet EMPTY_XLOCSET = XLocSet.newBuilder().setReadOnlyFileSize(0)
+                                                       .setReplicaUpdatePolicy("").setVersion(0).build();
+
+    public GetXLocSetsOperation(MRCRequestDispatcher master) {
+        super(master);
+    }
+
+    @Override
+    public void startRequest(MRCRequest rq) throws Throwable {
+
+        final xtreemfs_get_xlocsetsRequest rqArgs = (xtreemfs_get_xlocsetsRequest) rq.getRequestArgs();
+        final FileAccessManager faMan = master.getFileAccessManager();
+
+        validateContext(rq);
+
+        final InetAddress clientAddress = ((InetSocketAddress) rq.getRPCRequest().getSenderAddress()).getAddress();
+        final VivaldiCoordinates coordinates = rqArgs.getCoordinates();
+
+        xtreemfs_get_xlocsetsResponse.Builder response = xtreemfs_get_xlocsetsResponse.newBuilder();
+
+        // parent path -> resolved and searchable parent path
+        Map<String, FileMetadata[]> parentPaths = new HashMap<String, FileMetadata[]>();
+        StorageManager sMan = null;
+
+        for (String path : rqArgs.getPathsList()) {
+
+            try {
+
+                Path p = new Path(rqArgs.getVolumeName(), path);
+                if (sMan == null)
+                    sMan = master.getVolumeManager().getStorageManagerByName(p.getComp(0));
+
+                String parent = p.getCompCount() > 1 ? p.toString().substring(0,
+                        p.toString().length() - p.getLastComp(0).length()) : null;
+                FileMetadata[] parentPath = parent == null ? null : parentPaths.get(parent);
+
+                PathResolver res;
+                if (parentPath == null) {
+
+                    res = new PathResolver(sMan, p);
+
+                    // check whether the path prefix is searchable
+                    faMan.checkSearchPermission(sMan, res, rq.getDetails().userId, rq.getDetails().superUser,
+                            rq.getDetails().groupIds);
+
+                    if (parent != null)
+                        parentPaths.put(parent, res.getParentPath());
+
+                } else {
+                    res = new PathResolver(sMan, p, parentPath);
+                }
+
+                // check whether file exists
+                res.checkIfFileDoesNotExist();
+
+                FileMetadata file = res.getFile();
+                if (file.isDirectory())
+                    throw new UserException(POSIXErrno.POSIX_ERROR_EISDIR, path + " is a directory");
+                if (sMan.getSoftlinkTarget(file.getId()) != null)
+                    throw new UserException(POSIXErrno.POSIX_ERROR_EINVAL, path + " is a symbolic link");
+
+                // files without replicas have not been opened yet
+                XLocList xLocList = file.getXLocList();
+                if (xLocList == null || xLocList.getReplicaCount() == 0) {
+                    response.addXlocsets(EMPTY_XLOCSET);
+                    continue;
+                }
+
+                // re-order the replica list, based on the replica selection policy
+                XLocSet.Builder xLocSet = Converter.xLocListToXLocSet(xLocList);
+                Replicas sortedRepls = master.getOSDStatusManager().getSortedReplicaList(
+                        sMan.getVolumeInfo().getId(), clientAddress, coordinates, xLocSet.getReplicasList(),
+                        xLocList);
+                if (sortedRepls != null) {
+                    xLocSet.clearReplicas();
+                    xLocSet.addAllReplicas(sortedRepls.getReplicasList());
+                }
+                xLocSet.setReadOnlyFileSize(file.getSize());
+
+                response.addXlocsets(xLocSet);
+
+            } catch (UserException exc) {
+                if (Logging.isDebug())
+                    Logging.logMessage(Logging.LEVEL_DEBUG, Category.proc, this,
+                            "could not retrieve XLocSet of '%s': %s", path, exc.getMessage());
+                response.addXlocsets(EMPTY_XLOCSET);
+            }
+        }
+
+        // set the response
+        rq.setResponse(response.build());
+
+        finishRequest(rq);
+    }
+
+}
@@ -41,6 +41,7 @@ import org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes;
 import org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials;
 import org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.Replica;
 import org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.SnapConfig;
+import org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.VivaldiCoordinates;
 import org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XLocSet;
 import org.xtreemfs.pbrpc.generatedinterfaces.MRC.openRequest;
 import org.xtreemfs.pbrpc.generatedinterfaces.MRC.openResponse;
@@ -76,20 +77,55 @@ public class OpenOperation extends MRCOperation {
         
         StorageManager sMan = vMan.getStorageManagerByName(p.getComp(0));
         PathResolver res = new PathResolver(sMan, p);
-        VolumeInfo volume = sMan.getVolumeInfo();
         
         // check whether the path prefix is searchable
         faMan.checkSearchPermission(sMan, res, rq.getDetails().userId, rq.getDetails().superUser, rq
                 .getDetails().groupIds);
         
         AtomicDBUpdate update = sMan.createAtomicDBUpdate(master, rq);
+        
+        // set the response
+        rq.setResponse(openFile(rq, sMan, res, p, rqArgs.getFlags(), rqArgs.getMode(), rqArgs.getAttributes(),
+            rqArgs.getCoordinates(), 0, update));
+        
+        update.execute();
+        
+        // enable only for test servers that should log each file
+        // create/write/trunc
+        /*
+         * if (create || write || truncate) { try {
+         * logfile.print(System.currentTimeMillis
+         * ()+";"+rq.getRPCRequest().getClientIdentity
+         * ()+";"+rqArgs.getPath()+"\n"); logfile.flush(); } catch (Exception
+         * ex) {
+         * 
+         * } }
+         */
+    }
+    
+    /**
+     * Opens a file, or creates it if it does not exist and O_CREAT is set. All
+     * metadata changes are added to the given update. The search permission
+     * on the path prefix has to be checked by the caller.
+     * 
+     * @param newFileId
+     *            the ID assigned to the file if it is created, or 0 for the
+     *            next free file ID of the volume
+     * @return the file credentials and the server timestamp
+     */
+    openResponse openFile(MRCRequest rq, StorageManager sMan, PathResolver res, Path p, int flags, int mode,
+        int attributes, VivaldiCoordinates coordinates, long newFileId, AtomicDBUpdate update) throws Throwable {
+        
+        final FileAccessManager faMan = master.getFileAccessManager();
+        final VolumeInfo volume = sMan.getVolumeInfo();
+        
         FileMetadata file = null;
         
         // analyze the flags
-        boolean create = (rqArgs.getFlags() & FileAccessManager.O_CREAT) != 0;
-        boolean excl = (rqArgs.getFlags() & FileAccessManager.O_EXCL) != 0;
-        boolean truncate = (rqArgs.getFlags() & FileAccessManager.O_TRUNC) != 0;
-        boolean write = (rqArgs.getFlags() & (FileAccessManager.O_WRONLY | FileAccessManager.O_RDWR)) != 0;
+        boolean create = (flags & FileAccessManager.O_CREAT) != 0;
+        boolean excl = (flags & FileAccessManager.O_EXCL) != 0;
+        boolean truncate = (flags & FileAccessManager.O_TRUNC) != 0;
+        boolean write = (flags & (FileAccessManager.O_WRONLY | FileAccessManager.O_RDWR)) != 0;
         
         boolean createNew = false;
         
@@ -119,12 +155,12 @@ public class OpenOperation extends MRCOperation {
             // check whether the file is marked as 'read-only'; in this
             // case, throw an exception if write access is requested
             if (file.isReadOnly()
-                && ((rqArgs.getFlags() & (FileAccessManager.O_RDWR | FileAccessManager.O_WRONLY
+                && ((flags & (FileAccessManager.O_RDWR | FileAccessManager.O_WRONLY
                     | FileAccessManager.O_TRUNC | FileAccessManager.O_APPEND)) != 0))
                 throw new UserException(POSIXErrno.POSIX_ERROR_EPERM, "read-only files cannot be written");
             
             // check whether the permission is granted
-            faMan.checkPermission(rqArgs.getFlags(), sMan, file, res.getParentDirId(),
+            faMan.checkPermission(flags, sMan, file, res.getParentDirId(),
                 rq.getDetails().userId, rq.getDetails().superUser, rq.getDetails().groupIds);
 
         } catch (UserException exc) {
@@ -140,9 +176,9 @@ public class OpenOperation extends MRCOperation {
                         .getDetails().groupIds);
                 
                 // get the next free file ID
-                long fileId = sMan.getNextFileId();
+                long fileId = newFileId != 0 ? newFileId : sMan.getNextFileId();
                 
-                if ((rqArgs.getMode() & GlobalTypes.SYSTEM_V_FCNTL.SYSTEM_V_FCNTL_H_S_IFIFO.getNumber()) != 0) {
+                if ((mode & GlobalTypes.SYSTEM_V_FCNTL.SYSTEM_V_FCNTL_H_S_IFIFO.getNumber()) != 0) {
                     throw new UserException(POSIXErrno.POSIX_ERROR_EIO, "FIFOs not supported");
                 }
                 
@@ -156,7 +192,7 @@ public class OpenOperation extends MRCOperation {
 
                 // create the metadata object
                 file = sMan.createFile(fileId, res.getParentDirId(), res.getFileName(), time, time, time,
-                        rq.getDetails().userId, groupId, rqArgs.getMode(), rqArgs.getAttributes(), 0, false, 0, 0,
+                        rq.getDetails().userId, groupId, mode, attributes, 0, false, 0, 0,
                         update);
                 
                 // set the file ID as the last one
@@ -225,7 +261,7 @@ public class OpenOperation extends MRCOperation {
                 // with a set of feasible OSDs from the OSD status manager
                 XLoc replica = MRCHelper.createReplica(null, sMan, master.getOSDStatusManager(), volume, res
                         .getParentDirId(), p.toString(), ((InetSocketAddress) rq.getRPCRequest()
-                        .getSenderAddress()).getAddress(), rqArgs.getCoordinates(), xLocList, 0);
+                        .getSenderAddress()).getAddress(), coordinates, xLocList, 0);
                 
                 // integrate the new replica in the XLoc list
                 String[] osds = new String[replica.getOSDCount()];
@@ -260,7 +296,7 @@ public class OpenOperation extends MRCOperation {
                     // with a set of feasible OSDs from the OSD status manager
                     XLoc replica = MRCHelper.createReplica(null, sMan, master.getOSDStatusManager(), volume,
                         res.getParentDirId(), p.toString(), ((InetSocketAddress) rq.getRPCRequest()
-                                .getSenderAddress()).getAddress(), rqArgs.getCoordinates(), xLocList,
+                                .getSenderAddress()).getAddress(), coordinates, xLocList,
                         defaultReplPolicy != null ? defaultReplPolicy.getFlags() : 0);
                     
                     // integrate the new replica in the XLoc list
@@ -297,13 +333,13 @@ public class OpenOperation extends MRCOperation {
         // re-order the replica list, based on the replica selection policy
         List<Replica> sortedReplList = master.getOSDStatusManager().getSortedReplicaList(volume.getId(),
             ((InetSocketAddress) rq.getRPCRequest().getSenderAddress()).getAddress(),
-            rqArgs.getCoordinates(), xLocSet.getReplicasList(), xLocList).getReplicasList();
+            coordinates, xLocSet.getReplicasList(), xLocList).getReplicasList();
         xLocSet.clearReplicas();
         xLocSet.addAllReplicas(sortedReplList);
         xLocSet.setReadOnlyFileSize(file.getSize());
         
         // issue a new capability
-        Capability cap = new Capability(MRCHelper.createGlobalFileId(volume, file), rqArgs.getFlags(), master
+        Capability cap = new Capability(MRCHelper.createGlobalFileId(volume, file), flags, master
                 .getConfig().getCapabilityTimeout(), TimeSync.getGlobalTime() / 1000
             + master.getConfig().getCapabilityTimeout(), ((InetSocketAddress) rq.getRPCRequest()
                 .getSenderAddress()).getAddress().getHostAddress(), trEpoch, replicateOnClose, !volume
@@ -338,23 +374,7 @@ public class OpenOperation extends MRCOperation {
             MRCHelper.updateFileTimes(res.getParentsParentId(), res.getParentDir(), false, true, true, sMan,
                 time, update);
         
-        // set the response
-        rq.setResponse(openResponse.newBuilder().setCreds(
-            FileCredentials.newBuilder().setXcap(cap.getXCap()).setXlocs(xLocSet)).setTimestampS(time)
-                .build());
-        
-        update.execute();
-        
-        // enable only for test servers that should log each file
-        // create/write/trunc
-        /*
-         * if (create || write || truncate) { try {
-         * logfile.print(System.currentTimeMillis
-         * ()+";"+rq.getRPCRequest().getClientIdentity
-         * ()+";"+rqArgs.getPath()+"\n"); logfile.flush(); } catch (Exception
-         * ex) {
-         * 
-         * } }
-         */
+        return openResponse.newBuilder().setCreds(
+            FileCredentials.newBuilder().setXcap(cap.getXCap()).setXlocs(xLocSet)).setTimestampS(time).build();
     }
 }
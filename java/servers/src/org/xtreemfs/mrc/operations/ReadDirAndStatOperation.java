@@ -80,6 +80,14 @@ public class ReadDirAndStatOperation extends MRCOperation {
                 .getLimitDirectoryEntriesCount();
         boolean namesOnly = rqArgs.getNamesOnly();
         
+        // if a continuation cursor is given, list the children following the
+        // cursor instead of skipping 'seenEntries' entries; '..' and '.' have
+        // been returned before in this case
+        String cursor = rqArgs.hasContinuationCursor() && rqArgs.getContinuationCursor().length() > 0 ? rqArgs
+                .getContinuationCursor() : null;
+        if (cursor != null)
+            seenEntries = Integer.MAX_VALUE;
+        
         // do not report stat info for individual files if there are no search
         // permissions on the directory
         try {
@@ -146,8 +154,14 @@ public class ReadDirAndStatOperation extends MRCOperation {
             }
             
             // get all children
-            DatabaseResultSet<FileMetadata> it = sMan.getChildren(res.getFile().getId(), seenEntries - 2, numEntries
+            DatabaseResultSet<FileMetadata> it = cursor != null ? sMan.getChildren(res.getFile().getId(), cursor,
+                numEntries) : sMan.getChildren(res.getFile().getId(), seenEntries - 2, numEntries
                 - dirContent.getEntriesCount());
+            
+            // the cursor of the next page is the name of the last returned
+            // child
+            String nextCursor = cursor;
+            
             while (it.hasNext()) {
                 
                 FileMetadata child = it.next();
@@ -162,9 +176,13 @@ public class ReadDirAndStatOperation extends MRCOperation {
                     entry.setStbuf(getStat(sMan, faMan, rq, volume, child));
                 
                 dirContent.addEntries(entry);
+                nextCursor = child.getFileName();
             }
             it.destroy();
             
+            if (nextCursor != null)
+                dirContent.setContinuationCursor(nextCursor);
+            
         }
         
         // set the response
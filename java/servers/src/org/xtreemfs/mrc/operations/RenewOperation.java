@@ -10,11 +10,15 @@ package org.xtreemfs.mrc.operations;
 
 import org.xtreemfs.common.Capability;
 import org.xtreemfs.foundation.TimeSync;
+import org.xtreemfs.foundation.logging.Logging;
+import org.xtreemfs.foundation.logging.Logging.Category;
 import org.xtreemfs.foundation.pbrpc.generatedinterfaces.RPC.POSIXErrno;
 import org.xtreemfs.mrc.MRCRequest;
 import org.xtreemfs.mrc.MRCRequestDispatcher;
 import org.xtreemfs.mrc.UserException;
 import org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCap;
+import org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_renew_capabilitiesRequest;
+import org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_renew_capabilitiesResponse;
 
 import com.google.protobuf.Message;
 
@@ -34,7 +38,37 @@ public class RenewOperation extends MRCOperation {
     @Override
     public void startRequest(MRCRequest rq) throws Throwable {
         
-        final XCap xcap = (XCap) rq.getRequestArgs();
+        final Message args = rq.getRequestArgs();
+        
+        if (args instanceof xtreemfs_renew_capabilitiesRequest) {
+            
+            // renew all capabilities of the batch; capabilities that cannot be
+            // renewed are returned unchanged, so that the remaining ones are
+            // not affected
+            final xtreemfs_renew_capabilitiesRequest rqArgs = (xtreemfs_renew_capabilitiesRequest) args;
+            final xtreemfs_renew_capabilitiesResponse.Builder response = xtreemfs_renew_capabilitiesResponse
+                    .newBuilder();
+            for (XCap xcap : rqArgs.getXcapsList()) {
+                try {
+                    response.addXcaps(renew(xcap));
+                } catch (UserException exc) {
+                    if (Logging.isDebug())
+                        Logging.logMessage(Logging.LEVEL_DEBUG, Category.proc, this, "could not renew %s: %s",
+                                xcap.getFileId(), exc.getMessage());
+                    response.addXcaps(xcap);
+                }
+            }
+            
+            rq.setResponse(response.build());
+            
+        } else {
+            rq.setResponse(renew((XCap) args));
+        }
+        
+        finishRequest(rq);
+    }
+    
+    private XCap renew(XCap xcap) throws UserException {
         
         // create a capability object to verify the capability
         Capability cap = new Capability(xcap, master.getConfig().getCapabilitySecret());
@@ -53,9 +87,7 @@ public class RenewOperation extends MRCOperation {
                 .isReplicateOnClose(), cap.getSnapConfig(), cap.getSnapTimestamp(), master.getConfig()
                 .getCapabilitySecret());
         
-        // set the response
-        rq.setResponse(newCap.getXCap());
-        finishRequest(rq);
+        return newCap.getXCap();
     }
 
 }
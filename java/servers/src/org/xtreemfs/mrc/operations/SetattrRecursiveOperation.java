@@ -0,0 +1,278 @@
+/*
+ * Copyright (c) 2015 by Zuse Institute Berlin
+ *
+ * Licensed under the BSD License, see LICENSE file for details.
+ *
+ */
+
+package org.xtreemfs.mrc.operations;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+
+import org.xtreemfs.foundation.TimeSync;
+import org.xtreemfs.foundation.pbrpc.generatedinterfaces.RPC.POSIXErrno;
+import org.xtreemfs.mrc.MRCRequest;
+import org.xtreemfs.mrc.MRCRequestDispatcher;
+import org.xtreemfs.mrc.UserException;
+import org.xtreemfs.mrc.ac.FileAccessManager;
+import org.xtreemfs.mrc.database.AtomicDBUpdate;
+import org.xtreemfs.mrc.database.DatabaseResultSet;
+import org.xtreemfs.mrc.database.StorageManager;
+import org.xtreemfs.mrc.metadata.FileMetadata;
+import org.xtreemfs.mrc.utils.MRCHelper;
+import org.xtreemfs.mrc.utils.Path;
+import org.xtreemfs.mrc.utils.PathResolver;
+import org.xtreemfs.pbrpc.generatedinterfaces.MRC;
+import org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_setattr_recursiveRequest;
+import org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_setattr_recursiveResponse;
+
+/**
+ * Changes the access mode, owner or owning group of a directory and all of its contents, in depth-first order.
+ * Like {@link DeleteRecursiveOperation}, at most <code>max_entries</code>, and never more than
+ * {@link DeleteRecursiveOperation#MAX_ENTRIES_PER_REQUEST}, entries are updated per request. All updates of a
+ * request are committed asynchronously in a single transaction, and the request is finished once it has been
+ * committed.
+ * <p>
+ * The position at which a subsequent request continues is returned as a cursor, which consists of the names of
+ * the entries on the path from the directory to the last updated entry, separated by slashes. A trailing slash
+ * indicates that the last updated entry is a directory whose contents have not been updated yet.
+ */
+public class SetattrRecursiveOperation extends MRCOperation {
+
+    private static final int SUPPORTED_ATTRS = MRC.Setattrs.SETATTR_MODE.getNumber()
+                                                 | MRC.Setattrs.SETATTR_UID.getNumber()
+                                                 | MRC.Setattrs.SETATTR_GID.getNumber();
+
+    public SetattrRecursiveOperation(MRCRequestDispatcher master) {
+        super(master);
+    }
+
+    @Override
+    public void startRequest(MRCRequest rq) throws Throwable {
+
+        final xtreemfs_setattr_recursiveRequest rqArgs = (xtreemfs_setattr_recursiveRequest) rq.getRequestArgs();
+        final FileAccessManager faMan = master.getFileAccessManager();
+
+        validateContext(rq);
+
+        if (rqArgs.getToSet() == 0 || (rqArgs.getToSet() & ~SUPPORTED_ATTRS) != 0)
+            throw new UserException(POSIXErrno.POSIX_ERROR_EINVAL,
+                "only the access mode, owner and owning group can be changed recursively");
+        if (rqArgs.getMaxEntries() <= 0)
+            throw new UserException(POSIXErrno.POSIX_ERROR_EINVAL, "max_entries must be positive");
+
+        Path p = new Path(rqArgs.getVolumeName(), rqArgs.getPath());
+
+        final StorageManager sMan = master.getVolumeManager().getStorageManagerByName(p.getComp(0));
+        final PathResolver res = new PathResolver(sMan, p);
+
+        // check whether the path prefix is searchable
+        faMan.checkSearchPermission(sMan, res, rq.getDetails().userId, rq.getDetails().superUser,
+            rq.getDetails().groupIds);
+
+        // check whether the directory exists
+        res.checkIfFileDoesNotExist();
+
+        FileMetadata dir = res.getFile();
+        if (!dir.isDirectory())
+            throw new UserException(POSIXErrno.POSIX_ERROR_ENOTDIR, "'" + p + "' is not a directory");
+
+        Update update = new Update(rq, sMan, rqArgs);
+        Deque<Directory> stack = new ArrayDeque<Directory>();
+        final int maxEntries = Math.min(rqArgs.getMaxEntries(), DeleteRecursiveOperation.MAX_ENTRIES_PER_REQUEST);
+        int numUpdated = 0;
+
+        if (!rqArgs.hasCursor()) {
+            update.apply(res.getParentDirId(), dir);
+            numUpdated++;
+            stack.push(new Directory(dir));
+        } else {
+            restore(sMan, dir, rqArgs.getCursor(), stack);
+        }
+
+        while (!stack.isEmpty() && numUpdated < maxEntries) {
+
+            Directory current = stack.peek();
+
+            DatabaseResultSet<FileMetadata> children = sMan.getChildren(current.dir.getId(), current.lastName,
+                DeleteRecursiveOperation.READDIR_BATCH_SIZE);
+            FileMetadata subdir = null;
+            int numChildren = 0;
+            try {
+                while (children.hasNext() && numUpdated < maxEntries) {
+
+                    FileMetadata child = children.next();
+                    numChildren++;
+
+                    update.apply(current.dir.getId(), child);
+                    numUpdated++;
+                    current.lastName = child.getFileName();
+
+                    if (child.isDirectory()) {
+                        subdir = child;
+                        break;
+                    }
+                }
+            } finally {
+                children.destroy();
+            }
+
+            // descend into subdirectories first
+            if (subdir != null)
+                stack.push(new Directory(subdir));
+            else if (numChildren < DeleteRecursiveOperation.READDIR_BATCH_SIZE && numUpdated < maxEntries)
+                stack.pop();
+        }
+
+        // set the response
+        xtreemfs_setattr_recursiveResponse.Builder response = xtreemfs_setattr_recursiveResponse.newBuilder()
+                .setTimestampS(update.time).setNumUpdated(numUpdated);
+        if (!stack.isEmpty())
+            response.setCursor(toCursor(stack));
+        rq.setResponse(response.build());
+
+        if (numUpdated == 0)
+            finishRequest(rq);
+        else
+            update.execute();
+    }
+
+    private static String toCursor(Deque<Directory> stack) {
+        StringBuilder cursor = new StringBuilder();
+        for (Iterator<Directory> it = stack.descendingIterator(); it.hasNext();) {
+            cursor.append(it.next().lastName);
+            if (it.hasNext())
+                cursor.append('/');
+        }
+        return cursor.toString();
+    }
+
+    private static void restore(StorageManager sMan, FileMetadata dir, String cursor, Deque<Directory> stack)
+            throws Throwable {
+
+        String[] names = cursor.split("/", -1);
+
+        Directory current = new Directory(dir);
+        current.lastName = names[0];
+        stack.push(current);
+
+        for (int i = 1; i < names.length && current.lastName.length() != 0; i++) {
+
+            // continue after the directory if it has been removed or replaced in the meantime
+            FileMetadata subdir = sMan.getMetadata(current.dir.getId(), current.lastName);
+            if (subdir == null || !subdir.isDirectory())
+                break;
+
+            current = new Directory(subdir);
+            current.lastName = names[i];
+            stack.push(current);
+        }
+    }
+
+    /**
+     * A directory whose contents are being updated.
+     */
+    private static final class Directory {
+
+        final FileMetadata dir;
+
+        /** the name of the last child that has been updated, or an empty string if none has been updated yet */
+        String             lastName;
+
+        Directory(FileMetadata dir) {
+            this.dir = dir;
+            this.lastName = "";
+        }
+    }
+
+    /**
+     * Applies the attributes to entries in a single transaction.
+     */
+    private final class Update {
+
+        private final MRCRequest                        rq;
+
+        private final StorageManager                    sMan;
+
+        private final xtreemfs_setattr_recursiveRequest rqArgs;
+
+        private final boolean                           setMode;
+
+        private final boolean                           setUID;
+
+        private final boolean                           setGID;
+
+        private final boolean                           restrictChown;
+
+        private final int                               time;
+
+        private final AtomicDBUpdate                    update;
+
+        Update(MRCRequest rq, StorageManager sMan, xtreemfs_setattr_recursiveRequest rqArgs) throws Throwable {
+
+            this.rq = rq;
+            this.sMan = sMan;
+            this.rqArgs = rqArgs;
+            this.setMode = (rqArgs.getToSet() & MRC.Setattrs.SETATTR_MODE.getNumber()) != 0;
+            this.setUID = (rqArgs.getToSet() & MRC.Setattrs.SETATTR_UID.getNumber()) != 0;
+            this.setGID = (rqArgs.getToSet() & MRC.Setattrs.SETATTR_GID.getNumber()) != 0;
+            this.time = (int) (TimeSync.getGlobalTime() / 1000);
+            this.update = sMan.createAtomicDBUpdate(master, rq);
+
+            // check if changing owners needs to be restricted to root users
+            byte[] value = sMan.getXAttr(1, StorageManager.SYSTEM_UID, "xtreemfs." + MRCHelper.VOL_ATTR_PREFIX
+                + ".chown_non_root");
+            this.restrictChown = value != null && new String(value).equals("true");
+
+            if (setUID && !restrictChown && !rq.getDetails().superUser)
+                throw new UserException(POSIXErrno.POSIX_ERROR_EPERM, "changing owners is restricted to superusers");
+
+            if (setGID
+                && !(rq.getDetails().superUser || rq.getDetails().groupIds.contains(rqArgs.getStbuf().getGroupId())))
+                throw new UserException(
+                    POSIXErrno.POSIX_ERROR_EPERM,
+                    "changing owning groups is restricted to superusers or file owners who are in the group that is supposed to be assigned");
+        }
+
+        void apply(long parentId, FileMetadata file) throws Throwable {
+
+            final FileAccessManager faMan = master.getFileAccessManager();
+
+            // check whether the directory can be listed before its access mode is changed
+            if (file.isDirectory())
+                faMan.checkPermission(FileAccessManager.NON_POSIX_SEARCH, sMan, file, parentId,
+                    rq.getDetails().userId, rq.getDetails().superUser, rq.getDetails().groupIds);
+
+            // check whether the attributes may be changed
+            if (setMode || setGID || (setUID && restrictChown))
+                faMan.checkPrivilegedPermissions(sMan, file, rq.getDetails().userId, rq.getDetails().superUser,
+                    rq.getDetails().groupIds);
+
+            // change the access mode; only bits 0-12 may be changed
+            if (setMode)
+                faMan.setPosixAccessMode(sMan, file, parentId, rq.getDetails().userId, rq.getDetails().groupIds,
+                    (file.getPerms() & 0xFFFFF000) | (rqArgs.getStbuf().getMode() & 0xFFF),
+                    rq.getDetails().superUser, update);
+
+            // change owner and owning group
+            if (setUID || setGID) {
+                file.setOwnerAndGroup(setUID ? rqArgs.getStbuf().getUserId() : file.getOwnerId(),
+                    setGID ? rqArgs.getStbuf().getGroupId() : file.getOwningGroupId());
+                sMan.setMetadata(file, FileMetadata.RC_METADATA, update);
+            }
+
+            // update POSIX timestamps
+            MRCHelper.updateFileTimes(parentId, file, false, true, false, sMan, time, update);
+        }
+
+        /**
+         * Commits the transaction asynchronously. The request is finished when the transaction has been committed.
+         */
+        void execute() throws Throwable {
+            update.execute();
+        }
+    }
+
+}
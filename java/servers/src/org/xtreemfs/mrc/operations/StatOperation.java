@@ -8,9 +8,11 @@
 
 package org.xtreemfs.mrc.operations;
 
+import org.xtreemfs.mrc.MRCException;
 import org.xtreemfs.mrc.MRCRequest;
 import org.xtreemfs.mrc.MRCRequestDispatcher;
 import org.xtreemfs.mrc.ac.FileAccessManager;
+import org.xtreemfs.mrc.database.DatabaseException;
 import org.xtreemfs.mrc.database.StorageManager;
 import org.xtreemfs.mrc.database.VolumeInfo;
 import org.xtreemfs.mrc.database.VolumeManager;
@@ -67,33 +69,8 @@ public class StatOperation extends MRCOperation {
         getattrResponse.Builder stat = getattrResponse.newBuilder();
         
         // retrieve and prepare the metadata to return
-        if (knownEtag != newEtag) {
-            
-            String linkTarget = sMan.getSoftlinkTarget(file.getId());
-            int mode = faMan.getPosixAccessMode(sMan, file, rq.getDetails().userId, rq.getDetails().groupIds);
-            mode |= linkTarget != null ? GlobalTypes.SYSTEM_V_FCNTL.SYSTEM_V_FCNTL_H_S_IFLNK.getNumber()
-                : file.isDirectory() ? GlobalTypes.SYSTEM_V_FCNTL.SYSTEM_V_FCNTL_H_S_IFDIR.getNumber()
-                    : ((file.getPerms() & GlobalTypes.SYSTEM_V_FCNTL.SYSTEM_V_FCNTL_H_S_IFIFO.getNumber()) != 0) ? GlobalTypes.SYSTEM_V_FCNTL.SYSTEM_V_FCNTL_H_S_IFIFO
-                            .getNumber()
-                        : GlobalTypes.SYSTEM_V_FCNTL.SYSTEM_V_FCNTL_H_S_IFREG.getNumber();
-            
-            long size = linkTarget != null ? linkTarget.length() : file.isDirectory() ? 0 : file.getSize();
-            int blkSize = 0;
-            if ((linkTarget == null) && (!file.isDirectory())) {
-                XLocList xlocList = file.getXLocList();
-                if ((xlocList != null) && (xlocList.getReplicaCount() > 0))
-                    blkSize = xlocList.getReplica(0).getStripingPolicy().getStripeSize() * 1024;
-            }
-            
-            stat.setStbuf(Stat.newBuilder().setDev(volume.getId().hashCode()).setIno(file.getId()).setMode(
-                mode).setNlink(file.getLinkCount()).setUserId(file.getOwnerId()).setGroupId(
-                file.getOwningGroupId()).setSize(size).setAtimeNs((long) file.getAtime() * (long) 1e9)
-                    .setCtimeNs((long) file.getCtime() * (long) 1e9).setMtimeNs(
-                        (long) file.getMtime() * (long) 1e9).setBlksize(blkSize).setTruncateEpoch(
-                        file.isDirectory() ? 0 : file.getEpoch()).setAttributes((int) file.getW32Attrs())
-                    .setEtag(newEtag));
-            
-        }
+        if (knownEtag != newEtag)
+            stat.setStbuf(getStat(rq, sMan, volume, file));
         
         // set the response
         rq.setResponse(stat.build());
@@ -102,4 +79,36 @@ public class StatOperation extends MRCOperation {
         
     }
     
+    /**
+     * Creates the stat buffer for the given file.
+     */
+    Stat.Builder getStat(MRCRequest rq, StorageManager sMan, VolumeInfo volume, FileMetadata file)
+        throws DatabaseException, MRCException {
+        
+        final FileAccessManager faMan = master.getFileAccessManager();
+        
+        String linkTarget = sMan.getSoftlinkTarget(file.getId());
+        int mode = faMan.getPosixAccessMode(sMan, file, rq.getDetails().userId, rq.getDetails().groupIds);
+        mode |= linkTarget != null ? GlobalTypes.SYSTEM_V_FCNTL.SYSTEM_V_FCNTL_H_S_IFLNK.getNumber()
+            : file.isDirectory() ? GlobalTypes.SYSTEM_V_FCNTL.SYSTEM_V_FCNTL_H_S_IFDIR.getNumber()
+                : ((file.getPerms() & GlobalTypes.SYSTEM_V_FCNTL.SYSTEM_V_FCNTL_H_S_IFIFO.getNumber()) != 0) ? GlobalTypes.SYSTEM_V_FCNTL.SYSTEM_V_FCNTL_H_S_IFIFO
+                        .getNumber()
+                    : GlobalTypes.SYSTEM_V_FCNTL.SYSTEM_V_FCNTL_H_S_IFREG.getNumber();
+        
+        long size = linkTarget != null ? linkTarget.length() : file.isDirectory() ? 0 : file.getSize();
+        int blkSize = 0;
+        if ((linkTarget == null) && (!file.isDirectory())) {
+            XLocList xlocList = file.getXLocList();
+            if ((xlocList != null) && (xlocList.getReplicaCount() > 0))
+                blkSize = xlocList.getReplica(0).getStripingPolicy().getStripeSize() * 1024;
+        }
+        
+        return Stat.newBuilder().setDev(volume.getId().hashCode()).setIno(file.getId()).setMode(mode).setNlink(
+            file.getLinkCount()).setUserId(file.getOwnerId()).setGroupId(file.getOwningGroupId()).setSize(size)
+                .setAtimeNs((long) file.getAtime() * (long) 1e9).setCtimeNs((long) file.getCtime() * (long) 1e9)
+                .setMtimeNs((long) file.getMtime() * (long) 1e9).setBlksize(blkSize).setTruncateEpoch(
+                    file.isDirectory() ? 0 : file.getEpoch()).setAttributes((int) file.getW32Attrs()).setEtag(
+                    file.getCtime() + file.getMtime());
+    }
+    
 }
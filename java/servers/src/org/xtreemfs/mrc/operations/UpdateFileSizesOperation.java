@@ -0,0 +1,183 @@
+/*
+ * Copyright (c) 2015 by Zuse Institute Berlin
+ *
+ * Licensed under the BSD License, see LICENSE file for details.
+ *
+ */
+
+package org.xtreemfs.mrc.operations;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.xtreemfs.common.Capability;
+import org.xtreemfs.foundation.logging.Logging;
+import org.xtreemfs.foundation.logging.Logging.Category;
+import org.xtreemfs.foundation.pbrpc.generatedinterfaces.RPC.POSIXErrno;
+import org.xtreemfs.mrc.MRCRequest;
+import org.xtreemfs.mrc.MRCRequestDispatcher;
+import org.xtreemfs.mrc.UserException;
+import org.xtreemfs.mrc.database.AtomicDBUpdate;
+import org.xtreemfs.mrc.database.DBAccessResultListener;
+import org.xtreemfs.mrc.database.DatabaseException;
+import org.xtreemfs.mrc.database.DatabaseException.ExceptionType;
+import org.xtreemfs.mrc.database.StorageManager;
+import org.xtreemfs.mrc.metadata.FileMetadata;
+import org.xtreemfs.mrc.utils.MRCHelper.GlobalFileIdResolver;
+import org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_file_sizeRequest;
+import org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_file_sizesRequest;
+import org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_file_sizesResponse;
+
+/**
+ * Updates the sizes of multiple files. All updates of files in the same volume are applied with a single
+ * atomic database update.
+ */
+public class UpdateFileSizesOperation extends MRCOperation {
+
+    public UpdateFileSizesOperation(MRCRequestDispatcher master) {
+        super(master);
+    }
+
+    @Override
+    public void startRequest(MRCRequest rq) throws Throwable {
+
+        // perform master redirect if necessary
+        if (master.getReplMasterUUID() != null
+            && !master.getReplMasterUUID().equals(master.getConfig().getUUID().toString()))
+            throw new DatabaseException(ExceptionType.REDIRECT);
+
+        final xtreemfs_update_file_sizesRequest rqArgs = (xtreemfs_update_file_sizesRequest) rq.getRequestArgs();
+
+        final UpdateListener listener = new UpdateListener();
+        final Map<String, VolumeUpdate> volumeUpdates = new HashMap<String, VolumeUpdate>();
+        final xtreemfs_update_file_sizesResponse.Builder response = xtreemfs_update_file_sizesResponse
+                .newBuilder();
+
+        for (xtreemfs_update_file_sizeRequest fsUpdate : rqArgs.getUpdatesList()) {
+
+            try {
+
+                Capability cap = new Capability(fsUpdate.getXcap(), master.getConfig().getCapabilitySecret());
+
+                // check whether the capability has a valid signature
+                if (!cap.hasValidSignature())
+                    throw new UserException(POSIXErrno.POSIX_ERROR_EPERM, cap + " does not have a valid signature");
+
+                // check whether the capability has expired
+                if (cap.hasExpired())
+                    throw new UserException(POSIXErrno.POSIX_ERROR_EPERM, cap + " has expired");
+
+                // closing files may trigger on-close replication, which is
+                // only supported by xtreemfs_update_file_size
+                if (fsUpdate.getCloseFile())
+                    throw new UserException(POSIXErrno.POSIX_ERROR_EINVAL,
+                        "files cannot be closed with a batched file size update");
+
+                // parse volume and file ID from global file ID
+                GlobalFileIdResolver idRes = new GlobalFileIdResolver(cap.getFileId());
+
+                VolumeUpdate volUpdate = volumeUpdates.get(idRes.getVolumeId());
+                if (volUpdate == null) {
+                    StorageManager sMan = master.getVolumeManager().getStorageManager(idRes.getVolumeId());
+                    volUpdate = new VolumeUpdate(sMan, sMan.createAtomicDBUpdate(listener, rq));
+                    volumeUpdates.put(idRes.getVolumeId(), volUpdate);
+                }
+
+                // if the batch contains multiple updates for the same file,
+                // apply them to the same metadata object
+                FileMetadata file = volUpdate.files.get(idRes.getLocalFileId());
+                if (file == null) {
+                    file = volUpdate.sMan.getMetadata(idRes.getLocalFileId());
+                    if (file == null)
+                        throw new UserException(POSIXErrno.POSIX_ERROR_ENOENT, "file '" + cap.getFileId()
+                            + "' does not exist");
+                    volUpdate.files.put(idRes.getLocalFileId(), file);
+                }
+
+                long oldFileSize = file.getSize();
+                if (UpdateFileSizeOperation.updateFileSize(file, fsUpdate.getOsdWriteResponse(), cap.getFileId(),
+                    volUpdate.sMan, volUpdate.update)) {
+                    volUpdate.sizeDiff += file.getSize() - oldFileSize;
+                    volUpdate.sizeChanged = true;
+                }
+
+                response.addSuccess(true);
+
+            } catch (UserException exc) {
+                if (Logging.isDebug())
+                    Logging.logMessage(Logging.LEVEL_DEBUG, Category.proc, this, "rejected file size update: %s",
+                        exc.getMessage());
+                response.addSuccess(false);
+            }
+        }
+
+        // set the response
+        rq.setResponse(response.build());
+
+        // update the volume sizes and execute one database update per volume;
+        // the request is finished when all database updates are completed
+        for (VolumeUpdate volUpdate : volumeUpdates.values()) {
+            if (volUpdate.sizeChanged)
+                volUpdate.sMan.getVolumeInfo().updateVolumeSize(volUpdate.sizeDiff, volUpdate.update);
+            listener.pending.incrementAndGet();
+            volUpdate.update.execute();
+        }
+
+        listener.finished(null, rq);
+    }
+
+    /**
+     * Pending updates of files in a single volume.
+     */
+    private static class VolumeUpdate {
+
+        final StorageManager         sMan;
+
+        final AtomicDBUpdate         update;
+
+        final Map<Long, FileMetadata> files;
+
+        long                         sizeDiff;
+
+        boolean                      sizeChanged;
+
+        VolumeUpdate(StorageManager sMan, AtomicDBUpdate update) {
+            this.sMan = sMan;
+            this.update = update;
+            this.files = new HashMap<Long, FileMetadata>();
+        }
+    }
+
+    /**
+     * Finishes the request once all database updates have been executed.
+     */
+    private class UpdateListener implements DBAccessResultListener<Object> {
+
+        /**
+         * number of pending database updates, plus one until all updates
+         * have been started
+         */
+        final AtomicInteger pending = new AtomicInteger(1);
+
+        volatile Throwable  error;
+
+        @Override
+        public void finished(Object result, Object context) {
+            if (pending.decrementAndGet() > 0)
+                return;
+
+            if (error != null)
+                master.failed(error, context);
+            else
+                master.finished(result, context);
+        }
+
+        @Override
+        public void failed(Throwable error, Object context) {
+            this.error = error;
+            finished(null, context);
+        }
+    }
+
+}
@@ -177,21 +177,28 @@ public abstract class DCMapPolicyBase implements OSDSelectionPolicy {
         if(!initialized)
             return -1;
         
-        Integer cached = matchingDCcache.get(addr);
-        if (cached == null) {
-            for (int i = 0; i < matchers.length; i++) {
-                for (int j = 0; j < matchers[i].length; j++) {
-                    if (matchers[i][j].matches(addr)) {
-                        matchingDCcache.put(addr, i);
-                        return i;
-                    }
+        // OSDs may be selected concurrently; the LRU cache is modified by
+        // both get() and put()
+        synchronized (matchingDCcache) {
+            Integer cached = matchingDCcache.get(addr);
+            if (cached != null)
+                return cached;
+        }
+        
+        int dc = -1;
+        search: for (int i = 0; i < matchers.length; i++) {
+            for (int j = 0; j < matchers[i].length; j++) {
+                if (matchers[i][j].matches(addr)) {
+                    dc = i;
+                    break search;
                 }
             }
-            matchingDCcache.put(addr, -1);
-            return -1;
-        } else {
-            return cached;
         }
+        
+        synchronized (matchingDCcache) {
+            matchingDCcache.put(addr, dc);
+        }
+        return dc;
     }
     
 }
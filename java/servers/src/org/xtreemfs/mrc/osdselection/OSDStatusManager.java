@@ -10,11 +10,18 @@ package org.xtreemfs.mrc.osdselection;
 
 import java.io.IOException;
 import java.net.InetAddress;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
 
 import org.xtreemfs.common.KeyValuePairs;
+import org.xtreemfs.dir.DIRClient;
+import org.xtreemfs.dir.ServiceRegistry;
 import org.xtreemfs.foundation.LifeCycleThread;
 import org.xtreemfs.foundation.logging.Logging;
 import org.xtreemfs.foundation.logging.Logging.Category;
@@ -26,14 +33,31 @@ import org.xtreemfs.mrc.database.VolumeChangeListener;
 import org.xtreemfs.mrc.database.VolumeInfo;
 import org.xtreemfs.mrc.metadata.XLocList;
 import org.xtreemfs.pbrpc.generatedinterfaces.DIR.Service;
+import org.xtreemfs.pbrpc.generatedinterfaces.DIR.ServiceDataMap;
 import org.xtreemfs.pbrpc.generatedinterfaces.DIR.ServiceSet;
 import org.xtreemfs.pbrpc.generatedinterfaces.DIR.ServiceType;
+import org.xtreemfs.pbrpc.generatedinterfaces.DIR.serviceWatchResponse;
+import org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.KeyValuePair;
 import org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.Replica;
 import org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.Replicas;
 import org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.VivaldiCoordinates;
 
 /**
  * Checks regularly for suitable OSDs for each volume.
+ * <p>
+ * Changes of the set of registered OSDs are pushed by the Directory Service via
+ * long-polling watch requests. If the Directory Service does not support
+ * watches, the list of OSDs is polled every check interval instead.
+ * <p>
+ * Since every heartbeat of an OSD is reported as a change, changes are
+ * collected and published at most once per check interval. Only OSDs that
+ * have been registered or removed are published immediately. This keeps the
+ * caches that depend on the set of known OSDs, e.g. the placement plan cache
+ * of the volume filters, from being invalidated with every heartbeat.
+ * <p>
+ * The set of known OSDs and the volume filters are published as immutable snapshots, which are replaced as a
+ * whole when they change (copy-on-write). Selecting OSDs and sorting replicas therefore does not require any
+ * lock; only changes to the snapshots are serialized.
  * 
  * @author bjko
  */
@@ -45,19 +69,21 @@ public class OSDStatusManager extends LifeCycleThread implements VolumeChangeLis
     private int                                checkIntervalMillis = 1000 * 5;
     
     /**
-     * A list of volumes registered with the thread.
+     * A list of volumes registered with the thread. The map is never modified
+     * after having been published.
      */
-    private final Map<String, VolumeOSDFilter> volumeMap;
+    private volatile Map<String, VolumeOSDFilter> volumeMap;
     
     /**
      * The latest set of all known OSDs fetched from the Directory Service.
      */
-    private ServiceSet.Builder                 knownOSDs;
+    private volatile ServiceSet                   knownOSDs;
     
     /**
-     * A map containing all known OSDs sorted by their UUIDs.
+     * A map containing all known OSDs sorted by their UUIDs. The map is never
+     * modified after having been published.
      */
-    private final Map<String, Service>               knownOSDMap;
+    private volatile Map<String, Service>         knownOSDMap;
     
     /**
      * Thread shuts down if true.
@@ -76,7 +102,7 @@ public class OSDStatusManager extends LifeCycleThread implements VolumeChangeLis
         this.master = master;
         
         volumeMap = new HashMap<String, VolumeOSDFilter>();
-        knownOSDs = ServiceSet.newBuilder();
+        knownOSDs = ServiceSet.getDefaultInstance();
         knownOSDMap = new HashMap<String, Service>();
         
         int interval = master.getConfig().getOsdCheckInterval();
@@ -86,13 +112,7 @@ public class OSDStatusManager extends LifeCycleThread implements VolumeChangeLis
     @Override
     public synchronized void volumeChanged(VolumeInfo volume) {
         
-        final String volId = volume.getId();
-        VolumeOSDFilter vol = volumeMap.get(volId);
-        
-        if (vol == null) {
-            vol = new VolumeOSDFilter(master, knownOSDMap);
-            volumeMap.put(volId, vol);
-        }
+        VolumeOSDFilter vol = new VolumeOSDFilter(master);
         
         try {
             vol.init(volume);
@@ -100,12 +120,18 @@ public class OSDStatusManager extends LifeCycleThread implements VolumeChangeLis
             Logging.logError(Logging.LEVEL_ERROR, this, e);
         }
         
+        Map<String, VolumeOSDFilter> newVolumeMap = new HashMap<String, VolumeOSDFilter>(volumeMap);
+        newVolumeMap.put(volume.getId(), vol);
+        volumeMap = newVolumeMap;
+        
         this.notifyAll();
     }
     
     @Override
     public synchronized void volumeDeleted(String volumeId) {
-        volumeMap.remove(volumeId);
+        Map<String, VolumeOSDFilter> newVolumeMap = new HashMap<String, VolumeOSDFilter>(volumeMap);
+        newVolumeMap.remove(volumeId);
+        volumeMap = newVolumeMap;
     }
     
     @Override
@@ -119,7 +145,9 @@ public class OSDStatusManager extends LifeCycleThread implements VolumeChangeLis
             return;
         }
         
-        vol.setAttribute(key, value);
+        Map<String, VolumeOSDFilter> newVolumeMap = new HashMap<String, VolumeOSDFilter>(volumeMap);
+        newVolumeMap.put(volumeId, vol.copyWithAttribute(key, value));
+        volumeMap = newVolumeMap;
         
     }
     
@@ -141,8 +169,8 @@ public class OSDStatusManager extends LifeCycleThread implements VolumeChangeLis
         
         // initially fetch the list of OSDs from the Directory Service
         try {
-            knownOSDs = master.getDirClient().xtreemfs_service_get_by_type(null, RPCAuthentication.authNone,
-                RPCAuthentication.userService, ServiceType.SERVICE_TYPE_OSD).toBuilder();
+            evaluateResponse(master.getDirClient().xtreemfs_service_get_by_type(null, RPCAuthentication.authNone,
+                RPCAuthentication.userService, ServiceType.SERVICE_TYPE_OSD));
         } catch (Throwable exc) {
             this.notifyCrashed(exc);
         }
@@ -153,13 +181,55 @@ public class OSDStatusManager extends LifeCycleThread implements VolumeChangeLis
                 "OSD status manager operational, using DIR %s", master.getConfig().getDirectoryService()
                         .toString());
         
+        long knownVersion = 0;
+        boolean watchSupported = true;
+        
+        // changes that have been received but not yet published
+        Map<String, Service> pendingOSDs = new TreeMap<String, Service>(knownOSDMap);
+        boolean membershipChanged = false;
+        long lastPublished = System.currentTimeMillis();
+        
         while (!quit) {
             
+            if (watchSupported) {
+                try {
+                    // wait for changes of the set of registered OSDs, at
+                    // most until the pending changes have to be published
+                    int timeout = (int) Math.max(1, checkIntervalMillis - (System.currentTimeMillis() - lastPublished));
+                    serviceWatchResponse changes = master.getDirClient().xtreemfs_service_watch(null,
+                        RPCAuthentication.authNone, RPCAuthentication.userService, ServiceType.SERVICE_TYPE_OSD,
+                        knownVersion, Math.min(timeout, DIRClient.MAX_SERVICE_WATCH_TIMEOUT_MS),
+                        Collections.<String> emptyList(), false, 1);
+                    knownVersion = changes.getVersion();
+                    
+                    membershipChanged |= mergeChanges(pendingOSDs, changes);
+                    
+                    long now = System.currentTimeMillis();
+                    if (membershipChanged || now - lastPublished >= checkIntervalMillis) {
+                        publishChanges(pendingOSDs, changes.getTimestampS());
+                        membershipChanged = false;
+                        lastPublished = now;
+                    }
+                    continue;
+                    
+                } catch (InterruptedException ex) {
+                    break;
+                } catch (IOException exc) {
+                    if (DIRClient.isUnsupportedOperation(exc)) {
+                        Logging.logMessage(Logging.LEVEL_INFO, Category.misc, this,
+                            "DIR does not support watching services, polling the list of OSDs instead");
+                        watchSupported = false;
+                    } else if (!quit) {
+                        Logging.logMessage(Logging.LEVEL_ERROR, Category.misc, this, OutputUtils
+                                .stackTraceToString(exc));
+                        knownVersion = 0;
+                    }
+                }
+            }
+            
             synchronized (this) {
                 try {
-                    this
-                            .wait(knownOSDs == null || knownOSDs.getServicesCount() == 0 ? checkIntervalMillis / 2
-                                : checkIntervalMillis);
+                    this.wait(knownOSDs.getServicesCount() == 0 ? checkIntervalMillis / 2 : checkIntervalMillis);
                 } catch (InterruptedException ex) {
                     break;
                 }
@@ -171,14 +241,14 @@ public class OSDStatusManager extends LifeCycleThread implements VolumeChangeLis
             try {
                 // request list of registered OSDs from Directory
                 // Service
-                knownOSDs = master.getDirClient().xtreemfs_service_get_by_type(null, RPCAuthentication.authNone,
-                            RPCAuthentication.userService, ServiceType.SERVICE_TYPE_OSD).toBuilder();
+                ServiceSet osds = master.getDirClient().xtreemfs_service_get_by_type(null,
+                    RPCAuthentication.authNone, RPCAuthentication.userService, ServiceType.SERVICE_TYPE_OSD);
                 
                 Logging
                         .logMessage(Logging.LEVEL_DEBUG, Category.misc, this,
                             "... received OSD list from DIR");
                 
-                evaluateResponse(knownOSDs);
+                evaluateResponse(osds);
                 
             } catch (InterruptedException ex) {
                 break;
@@ -206,7 +276,7 @@ public class OSDStatusManager extends LifeCycleThread implements VolumeChangeLis
      *            the number of requested OSDs
      * @return a list of feasible OSDs
      */
-    public synchronized ServiceSet.Builder getUsableOSDs(String volumeId, InetAddress clientIP,
+    public ServiceSet.Builder getUsableOSDs(String volumeId, InetAddress clientIP,
         VivaldiCoordinates clientCoords, XLocList currentXLoc, int numOSDs) {
         
         VolumeOSDFilter vol = volumeMap.get(volumeId);
@@ -223,7 +293,7 @@ public class OSDStatusManager extends LifeCycleThread implements VolumeChangeLis
         return result;
     }
     
-    public synchronized ServiceSet.Builder getUsableOSDs(String volumeId) {
+    public ServiceSet.Builder getUsableOSDs(String volumeId) {
         
         VolumeOSDFilter vol = volumeMap.get(volumeId);
         if (vol == null) {
@@ -236,7 +306,7 @@ public class OSDStatusManager extends LifeCycleThread implements VolumeChangeLis
         return vol.filterByOSDSelectionPolicy(knownOSDs);
     }
     
-    public synchronized Replicas getSortedReplicaList(String volumeId, InetAddress clientIP,
+    public Replicas getSortedReplicaList(String volumeId, InetAddress clientIP,
         VivaldiCoordinates clientCoords, List<Replica> repls, XLocList xLocList) {
         
         VolumeOSDFilter vol = volumeMap.get(volumeId);
@@ -247,11 +317,11 @@ public class OSDStatusManager extends LifeCycleThread implements VolumeChangeLis
         }
         
         // return a sorted set of replicas
-        return vol.sortByReplicaSelectionPolicy(clientIP, clientCoords, repls, xLocList);
+        return vol.sortByReplicaSelectionPolicy(knownOSDMap, clientIP, clientCoords, repls, xLocList);
         
     }
     
-    public synchronized void evaluateResponse(ServiceSet.Builder knownOSDs) {
+    public synchronized void evaluateResponse(ServiceSet knownOSDs) {
         
         if (Logging.isDebug())
             Logging.logMessage(Logging.LEVEL_DEBUG, Category.misc, this, "response...");
@@ -269,13 +339,68 @@ public class OSDStatusManager extends LifeCycleThread implements VolumeChangeLis
             }
         
         // update the list of known OSDs
-        this.knownOSDs = knownOSDs;
-        knownOSDMap.clear();
+        Map<String, Service> newKnownOSDMap = new HashMap<String, Service>();
         for (Service osd : knownOSDs.getServicesList())
-            knownOSDMap.put(osd.getUuid(), osd);
+            newKnownOSDMap.put(osd.getUuid(), osd);
+        this.knownOSDMap = newKnownOSDMap;
+        this.knownOSDs = knownOSDs;
+    }
+    
+    /**
+     * Merges the changes of the set of registered OSDs reported by the
+     * Directory Service into the given map.
+     * 
+     * @param osds
+     *            the registered OSDs, mapped to their UUIDs
+     * @param changes
+     *            the response to a watch request
+     * @return <code>true</code> if OSDs have been registered or removed,
+     *         <code>false</code> if registered OSDs have only been updated
+     */
+    static boolean mergeChanges(Map<String, Service> osds, serviceWatchResponse changes) {
+        
+        if (changes.getComplete()) {
+            Set<String> oldUUIDs = new HashSet<String>(osds.keySet());
+            osds.clear();
+            for (Service osd : changes.getServicesList())
+                osds.put(osd.getUuid(), osd);
+            return !oldUUIDs.equals(osds.keySet());
+        }
+        
+        boolean membershipChanged = false;
+        for (Service osd : changes.getServicesList())
+            membershipChanged |= osds.put(osd.getUuid(), osd) == null;
+        for (String uuid : changes.getRemovedUuidsList())
+            membershipChanged |= osds.remove(uuid) != null;
+        
+        return membershipChanged;
+    }
+    
+    /**
+     * Publishes the given set of registered OSDs.
+     * 
+     * @param osds
+     *            the registered OSDs, mapped to their UUIDs
+     * @param timestampS
+     *            the time of the Directory Service at which the set was valid
+     */
+    private void publishChanges(Map<String, Service> osds, long timestampS) {
+        
+        // OSDs that have stopped sending heartbeats are not reported as
+        // changed, so the time since the last update has to be recomputed for
+        // all OSDs
+        ServiceSet.Builder newKnownOSDs = ServiceSet.newBuilder();
+        for (Service osd : osds.values()) {
+            List<KeyValuePair> data = new ArrayList<KeyValuePair>(osd.getData().getDataList());
+            KeyValuePairs.putValue(data, ServiceRegistry.SECONDS_SINCE_LAST_UPDATE, Long.toString(timestampS
+                - osd.getLastUpdatedS()));
+            newKnownOSDs.addServices(osd.toBuilder().setData(ServiceDataMap.newBuilder().addAllData(data)));
+        }
+        
+        evaluateResponse(newKnownOSDs.build());
     }
     
-    public synchronized Service getOSDService(String uuid) {
+    public Service getOSDService(String uuid) {
         return knownOSDMap.get(uuid);
     }
     
@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2015 by Zuse Institute Berlin
+ *
+ * Licensed under the BSD License, see LICENSE file for details.
+ *
+ */
+
+package org.xtreemfs.mrc.osdselection;
+
+import java.net.Inet4Address;
+import java.net.InetAddress;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.xtreemfs.pbrpc.generatedinterfaces.DIR.ServiceSet;
+import org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.VivaldiCoordinates;
+
+/**
+ * Caches the results of the OSD selection policies of a volume ("placement plans").
+ * <p>
+ * As long as the set of known OSDs does not change, most policies return the same OSDs for all clients, or
+ * for all clients in the same data center. The result of the longest prefix of a volume's policy chain that
+ * only consists of such policies is cached, keyed by the properties of the client that the policies depend
+ * on. Policies following the prefix (e.g. random sorting) are applied to the cached plan on each request.
+ * <p>
+ * Vivaldi coordinates are quantized to square cells with an edge length of {@link #VIVALDI_CELL_SIZE_MS}, so
+ * that all clients in a cell share a plan. The distances of such clients to an OSD differ by less than the
+ * diagonal of a cell (about 14 ms), which is small compared to the distances between data centers that
+ * {@link SortVivaldiPolicy} is meant to tell apart.
+ * <p>
+ * A cache is only valid for a single set of known OSDs. Policy attribute changes replace the
+ * {@link VolumeOSDFilter} and thus its cache.<br>
+ * NOTE: This class is thread-safe.
+ */
+public class PlacementPlanCache {
+
+    /**
+     * key of the plan for the policy chain without client information
+     */
+    public static final String                          NO_CLIENT_KEY        = "*";
+
+    /**
+     * edge length of the cells that Vivaldi coordinates are quantized to, in
+     * milliseconds of round-trip time
+     */
+    public static final double                          VIVALDI_CELL_SIZE_MS = 10;
+
+    /**
+     * max. number of cached plans; if exceeded, all plans are dropped
+     */
+    private static final int                            MAX_PLANS            = 1024;
+
+    private final ServiceSet                            knownOSDs;
+
+    private final ConcurrentHashMap<String, ServiceSet> plans;
+
+    public PlacementPlanCache(ServiceSet knownOSDs) {
+        this.knownOSDs = knownOSDs;
+        this.plans = new ConcurrentHashMap<String, ServiceSet>();
+    }
+
+    /**
+     * Checks whether the cached plans have been calculated for the given set of known OSDs. Since
+     * {@link OSDStatusManager} replaces the set as a whole when it changes, the sets are compared by identity.
+     */
+    public boolean isValidFor(ServiceSet knownOSDs) {
+        return this.knownOSDs == knownOSDs;
+    }
+
+    public ServiceSet get(String key) {
+        return plans.get(key);
+    }
+
+    public void put(String key, ServiceSet plan) {
+        if (plans.size() >= MAX_PLANS)
+            plans.clear();
+        plans.put(key, plan);
+    }
+
+    /**
+     * Checks whether the result of a policy only depends on the set of known OSDs, the number of requested
+     * OSDs and the properties of the client that are part of the key (see
+     * {@link #getKey(OSDSelectionPolicy[], int, InetAddress, VivaldiCoordinates, int)}), where the Vivaldi
+     * coordinates of the client are only considered up to the cell they are located in.
+     */
+    private static boolean isCacheable(OSDSelectionPolicy policy) {
+
+        // policies loaded from plug-ins, as well as subclasses of the
+        // built-in policies, are never cached
+        Class<?> cls = policy.getClass();
+        return cls == FilterDefaultPolicy.class || cls == FilterFQDNPolicy.class || cls == FilterUUIDPolicy.class
+            || cls == GroupDCMapPolicy.class || cls == SortDCMapPolicy.class || cls == GroupFQDNPolicy.class
+            || cls == SortFQDNPolicy.class || cls == SortVivaldiPolicy.class || cls == SortUUIDPolicy.class
+            || cls == SortReversePolicy.class || cls == SortHostRoundRobinPolicy.class;
+    }
+
+    /**
+     * Returns the number of leading policies of the given policy chain whose results can be cached. If it is 0,
+     * the cache is bypassed.
+     */
+    public static int getCacheablePrefixLength(OSDSelectionPolicy[] policies) {
+        int length = 0;
+        while (length < policies.length && isCacheable(policies[length]))
+            length++;
+        return length;
+    }
+
+    /**
+     * Returns the key of the plan for the given client, which has been calculated by the first
+     * <code>prefixLength</code> policies.
+     */
+    public static String getKey(OSDSelectionPolicy[] policies, int prefixLength, InetAddress clientIP,
+        VivaldiCoordinates clientCoords, int numOSDs) {
+
+        StringBuilder key = new StringBuilder();
+        key.append(numOSDs);
+
+        for (int i = 0; i < prefixLength; i++) {
+
+            OSDSelectionPolicy policy = policies[i];
+
+            // the data center map policies only depend on the data center
+            // the client is located in
+            if (policy instanceof DCMapPolicyBase && clientIP instanceof Inet4Address)
+                key.append("/dc:").append(((DCMapPolicyBase) policy).getMatchingDC((Inet4Address) clientIP));
+
+            else if (policy instanceof DCMapPolicyBase || policy instanceof GroupFQDNPolicy
+                || policy instanceof SortFQDNPolicy)
+                key.append("/ip:").append(clientIP == null ? null : clientIP.getHostAddress());
+
+            else if (policy instanceof SortVivaldiPolicy)
+                key.append("/vc:").append(
+                        clientCoords == null ? null : getCell(clientCoords.getXCoordinate()) + ","
+                            + getCell(clientCoords.getYCoordinate()));
+        }
+
+        return key.toString();
+    }
+
+    private static long getCell(double coordinate) {
+        return (long) Math.floor(coordinate / VIVALDI_CELL_SIZE_MS);
+    }
+
+}
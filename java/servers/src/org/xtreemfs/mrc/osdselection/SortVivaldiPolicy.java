@@ -9,9 +9,13 @@
 package org.xtreemfs.mrc.osdselection;
 
 import java.net.InetAddress;
-import java.util.Hashtable;
-import java.util.LinkedList;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.xtreemfs.mrc.metadata.XLocList;
 import org.xtreemfs.osd.vivaldi.VivaldiNode;
@@ -30,74 +34,39 @@ public class SortVivaldiPolicy implements OSDSelectionPolicy {
     public static final short POLICY_ID = (short) OSDSelectionPolicyType.OSD_SELECTION_POLICY_SORT_VIVALDI
                                                 .getNumber();
     
+    /**
+     * parsed coordinates of all OSDs, by UUID; the coordinate string they
+     * have been parsed from is kept to detect changes
+     */
+    private static final ConcurrentHashMap<String, ParsedCoordinates> osdCoordinates =
+        new ConcurrentHashMap<String, ParsedCoordinates>();
+    
     public ServiceSet.Builder getOSDs(ServiceSet.Builder allOSDs, InetAddress clientIP,
         VivaldiCoordinates clientCoords, XLocList currentXLoc, int numOSDs) {
         
         if (allOSDs == null)
             return null;
         
-        // Calculate the distances from the client to all the OSDs
-        Hashtable<String, Double> distances = new Hashtable<String, Double>();
+        // Calculate the distances from the client to all the OSDs; OSDs
+        // without coordinates must be left at the end of the list
+        final List<Service> osds = allOSDs.getServicesList();
+        final Map<String, Double> distances = new HashMap<String, Double>();
         
-        for (Service oneOSD : allOSDs.getServicesList()) {
-            
-            ServiceDataMap sdm = oneOSD.getData();
-            String strCoords = org.xtreemfs.common.KeyValuePairs.getValue(sdm.getDataList(),
-                "vivaldi_coordinates");
+        for (Service oneOSD : osds) {
             
-            if (strCoords != null) {
-                
-                VivaldiCoordinates osdCoords = VivaldiNode.stringToCoordinates(strCoords);
-                if (osdCoords != null) {
-                    
-                    double currentDistance = VivaldiNode.calculateDistance(clientCoords, osdCoords);
-                    
-                    distances.put(oneOSD.getUuid(), currentDistance);
-                }
-            }
+            VivaldiCoordinates osdCoords = getCoordinates(oneOSD);
+            distances.put(oneOSD.getUuid(), osdCoords == null ? Double.POSITIVE_INFINITY : VivaldiNode
+                    .calculateDistance(clientCoords, osdCoords));
         }
         
-        // Create a new ServiceSet and add the sorted services to it
-        List<Service> retSet = new LinkedList<Service>();
-        for (Service oneOSD : allOSDs.getServicesList()) {
-            
-            Double oneOSDDistance = distances.get(oneOSD.getUuid());
-            if (oneOSDDistance != null) { // Does the DS contain the info for
-                // this service?
-                
-                boolean inserted = false;
-                int i = 0;
-                
-                while (!inserted) {
-                    
-                    if (i >= retSet.size()) {
-                        
-                        retSet.add(oneOSD);
-                        inserted = true;
-                        
-                    } else {
-                        
-                        Double iDistance = distances.get(retSet.get(i).getUuid());
-                        
-                        if ((iDistance == null) || // The OSDs without
-                            // coordinates must be left
-                            // at the end of the list
-                            (oneOSDDistance.doubleValue() < iDistance.doubleValue())) {
-                            
-                            retSet.add(i, oneOSD);
-                            inserted = true;
-                            
-                        } else {
-                            i++;
-                        }
-                    }
-                }
-            } else {
-                // If the OSD cannot be sorted because the DS does not provide
-                // all its information, we append it to the end of the list
-                retSet.add(oneOSD);
+        // sort the OSDs by their distances; since the sort is stable, OSDs
+        // with equal distances retain their original order
+        List<Service> retSet = new ArrayList<Service>(osds);
+        Collections.sort(retSet, new Comparator<Service>() {
+            public int compare(Service o1, Service o2) {
+                return Double.compare(distances.get(o1.getUuid()), distances.get(o2.getUuid()));
             }
-        }
+        });
         
         return ServiceSet.newBuilder().addAllServices(retSet);
     }
@@ -112,4 +81,32 @@ public class SortVivaldiPolicy implements OSDSelectionPolicy {
         // No attribute defined yet
     }
     
+    private static VivaldiCoordinates getCoordinates(Service osd) {
+        
+        ServiceDataMap sdm = osd.getData();
+        String strCoords = org.xtreemfs.common.KeyValuePairs.getValue(sdm.getDataList(), "vivaldi_coordinates");
+        if (strCoords == null)
+            return null;
+        
+        ParsedCoordinates cached = osdCoordinates.get(osd.getUuid());
+        if (cached == null || !cached.string.equals(strCoords)) {
+            cached = new ParsedCoordinates(strCoords, VivaldiNode.stringToCoordinates(strCoords));
+            osdCoordinates.put(osd.getUuid(), cached);
+        }
+        
+        return cached.coordinates;
+    }
+    
+    private static final class ParsedCoordinates {
+        
+        final String             string;
+        
+        final VivaldiCoordinates coordinates;
+        
+        ParsedCoordinates(String string, VivaldiCoordinates coordinates) {
+            this.string = string;
+            this.coordinates = coordinates;
+        }
+    }
+    
 }
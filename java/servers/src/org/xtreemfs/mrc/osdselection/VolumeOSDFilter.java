@@ -9,9 +9,12 @@
 package org.xtreemfs.mrc.osdselection;
 
 import java.net.InetAddress;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
 
 import org.xtreemfs.foundation.logging.Logging;
 import org.xtreemfs.foundation.logging.Logging.Category;
@@ -34,6 +37,9 @@ import org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.VivaldiCoordinates;
 
 /**
  * Volume and policy record.
+ * <p>
+ * Once initialized, a filter is not modified anymore. Setting a policy attribute creates a new filter (see
+ * {@link #copyWithAttribute(String, String)}), so that OSDs can be selected concurrently without locking.
  */
 public class VolumeOSDFilter {
 
@@ -60,13 +66,29 @@ public class VolumeOSDFilter {
     private Map<Short, OSDSelectionPolicy> policyMap;
 
     /**
-     * map containing all known OSDs
+     * all policy attributes that have been set, in the order in which they
+     * have been set
      */
-    private final Map<String, Service>           knownOSDMap;
+    private Map<String, String>            attributes;
 
-    public VolumeOSDFilter(MRCRequestDispatcher master, Map<String, Service> knownOSDMap) {
+    /**
+     * instances of all OSD selection policies, in the order in which they are
+     * applied
+     */
+    private OSDSelectionPolicy[]           osdPolicies;
+
+    /**
+     * number of leading OSD selection policies whose results can be cached
+     */
+    private int                            numCacheablePolicies;
+
+    /**
+     * cached placement plans for the current set of known OSDs
+     */
+    private volatile PlacementPlanCache    planCache;
+
+    public VolumeOSDFilter(MRCRequestDispatcher master) {
         this.master = master;
-        this.knownOSDMap = knownOSDMap;
     }
 
     public void init(VolumeInfo volume) throws DatabaseException {
@@ -75,6 +97,53 @@ public class VolumeOSDFilter {
         this.osdPolicy = volume.getOsdPolicy();
         this.replPolicy = volume.getReplicaPolicy();
 
+        initPolicies();
+
+        // get all policy attributes
+
+        try {
+            DatabaseResultSet<XAttr> xattrs = master.getVolumeManager().getStorageManager(this.volId)
+                    .getXAttrs(1, StorageManager.SYSTEM_UID);
+
+            while (xattrs.hasNext()) {
+                XAttr xattr = xattrs.next();
+                if (xattr.getKey().startsWith(MRCHelper.XTREEMFS_POLICY_ATTR_PREFIX)) {
+                    setAttribute(xattr.getKey(), new String(xattr.getValue()));
+                }
+            }
+
+            xattrs.destroy();
+
+        } catch (Exception exc) {
+            Logging.logMessage(Logging.LEVEL_ERROR, Category.misc, "could not set policy attributes");
+            Logging.logMessage(Logging.LEVEL_ERROR, Category.misc, OutputUtils.stackTraceToString(exc));
+        }
+
+    }
+
+    /**
+     * Creates a copy of this filter with new policy instances, to which all
+     * attributes of this filter plus the given attribute are applied.
+     */
+    public VolumeOSDFilter copyWithAttribute(String key, String value) {
+
+        VolumeOSDFilter copy = new VolumeOSDFilter(master);
+        copy.volId = volId;
+        copy.osdPolicy = osdPolicy;
+        copy.replPolicy = replPolicy;
+        copy.initPolicies();
+
+        for (Entry<String, String> attr : attributes.entrySet())
+            copy.setAttribute(attr.getKey(), attr.getValue());
+        copy.setAttribute(key, value);
+
+        return copy;
+    }
+
+    private void initPolicies() {
+
+        attributes = new LinkedHashMap<String, String>();
+
         // initialize the policy map
         policyMap = new HashMap<Short, OSDSelectionPolicy>();
         for (short pol : osdPolicy) {
@@ -101,29 +170,25 @@ public class VolumeOSDFilter {
             }
         }
 
-        // get all policy attributes
-
-        try {
-            DatabaseResultSet<XAttr> xattrs = master.getVolumeManager().getStorageManager(this.volId)
-                    .getXAttrs(1, StorageManager.SYSTEM_UID);
-
-            while (xattrs.hasNext()) {
-                XAttr xattr = xattrs.next();
-                if (xattr.getKey().startsWith(MRCHelper.XTREEMFS_POLICY_ATTR_PREFIX)) {
-                    setAttribute(xattr.getKey(), new String(xattr.getValue()));
-                }
+        // determine the chain of OSD selection policies
+        List<OSDSelectionPolicy> policies = new ArrayList<OSDSelectionPolicy>(osdPolicy.length);
+        for (short id : osdPolicy) {
+            OSDSelectionPolicy policy = policyMap.get(id);
+            if (policy == null) {
+                Logging.logMessage(Logging.LEVEL_ERROR, Category.misc, this,
+                        "could not find OSD selection policy with ID=%d, will be ignored", id);
+                continue;
             }
-
-            xattrs.destroy();
-
-        } catch (Exception exc) {
-            Logging.logMessage(Logging.LEVEL_ERROR, Category.misc, "could not set policy attributes");
-            Logging.logMessage(Logging.LEVEL_ERROR, Category.misc, OutputUtils.stackTraceToString(exc));
+            policies.add(policy);
         }
+        osdPolicies = policies.toArray(new OSDSelectionPolicy[policies.size()]);
 
+        numCacheablePolicies = PlacementPlanCache.getCacheablePrefixLength(osdPolicies);
     }
 
-    public void setAttribute(String key, String value) {
+    private void setAttribute(String key, String value) {
+
+        attributes.put(key, value);
 
         assert (key.startsWith(MRCHelper.XTREEMFS_POLICY_ATTR_PREFIX));
         key = key.substring(MRCHelper.XTREEMFS_POLICY_ATTR_PREFIX.length());
@@ -151,45 +216,88 @@ public class VolumeOSDFilter {
 
     }
 
-    public ServiceSet.Builder filterByOSDSelectionPolicy(ServiceSet.Builder knownOSDs, InetAddress clientIP,
+    public ServiceSet.Builder filterByOSDSelectionPolicy(ServiceSet knownOSDs, InetAddress clientIP,
             VivaldiCoordinates clientCoords, XLocList currentXLoc, int numOSDs) {
 
-        ServiceSet.Builder result = ServiceSet.newBuilder().addAllServices(knownOSDs.getServicesList());
-        for (short id : osdPolicy) {
-            OSDSelectionPolicy policy = policyMap.get(id);
-            if (policy == null) {
-                Logging.logMessage(Logging.LEVEL_ERROR, Category.proc, this,
-                        "could not find OSD selection policy with ID=%d, will be ignored", id);
-                continue;
+        ServiceSet.Builder result;
+        int first = 0;
+
+        // OSDs that have been assigned to other replicas of the file are
+        // excluded, so plans can only be reused for files without replicas
+        if (numCacheablePolicies > 0 && (currentXLoc == null || currentXLoc.getReplicaCount() == 0)) {
+
+            String key = PlacementPlanCache.getKey(osdPolicies, numCacheablePolicies, clientIP, clientCoords,
+                    numOSDs);
+            PlacementPlanCache cache = getPlanCache(knownOSDs);
+
+            ServiceSet plan = cache.get(key);
+            if (plan == null) {
+                ServiceSet.Builder osds = ServiceSet.newBuilder().addAllServices(knownOSDs.getServicesList());
+                for (int i = 0; i < numCacheablePolicies; i++)
+                    osds = osdPolicies[i].getOSDs(osds, clientIP, clientCoords, currentXLoc, numOSDs);
+                plan = osds.build();
+                cache.put(key, plan);
             }
 
-            result = policy.getOSDs(result, clientIP, clientCoords, currentXLoc, numOSDs);
+            result = plan.toBuilder();
+            first = numCacheablePolicies;
+
+        } else {
+            result = ServiceSet.newBuilder().addAllServices(knownOSDs.getServicesList());
         }
 
+        for (int i = first; i < osdPolicies.length; i++)
+            result = osdPolicies[i].getOSDs(result, clientIP, clientCoords, currentXLoc, numOSDs);
+
         return result;
     }
 
-    public ServiceSet.Builder filterByOSDSelectionPolicy(ServiceSet.Builder knownOSDs) {
+    public ServiceSet.Builder filterByOSDSelectionPolicy(ServiceSet knownOSDs) {
 
-        ServiceSet.Builder result = ServiceSet.newBuilder().addAllServices(knownOSDs.getServicesList());
-        for (short id : osdPolicy) {
+        ServiceSet.Builder result;
+        int first = 0;
 
-            OSDSelectionPolicy policy = policyMap.get(id);
+        if (numCacheablePolicies > 0) {
 
-            if (policy == null) {
-                Logging.logMessage(Logging.LEVEL_WARN, Category.misc, this,
-                        "could not find OSD selection policy with ID %d, will be ignored", id);
-                continue;
+            PlacementPlanCache cache = getPlanCache(knownOSDs);
+
+            ServiceSet plan = cache.get(PlacementPlanCache.NO_CLIENT_KEY);
+            if (plan == null) {
+                ServiceSet.Builder osds = ServiceSet.newBuilder().addAllServices(knownOSDs.getServicesList());
+                for (int i = 0; i < numCacheablePolicies; i++)
+                    osds = osdPolicies[i].getOSDs(osds);
+                plan = osds.build();
+                cache.put(PlacementPlanCache.NO_CLIENT_KEY, plan);
             }
 
-            result = policy.getOSDs(result);
+            result = plan.toBuilder();
+            first = numCacheablePolicies;
+
+        } else {
+            result = ServiceSet.newBuilder().addAllServices(knownOSDs.getServicesList());
         }
 
+        for (int i = first; i < osdPolicies.length; i++)
+            result = osdPolicies[i].getOSDs(result);
+
         return result;
     }
 
-    public Replicas sortByReplicaSelectionPolicy(InetAddress clientIP, VivaldiCoordinates clientCoords,
-            List<Replica> unsortedRepls, XLocList xLocList) {
+    /**
+     * Returns the placement plan cache for the given set of known OSDs. All
+     * plans are discarded when the set of known OSDs has changed.
+     */
+    private PlacementPlanCache getPlanCache(ServiceSet knownOSDs) {
+        PlacementPlanCache cache = planCache;
+        if (cache == null || !cache.isValidFor(knownOSDs)) {
+            cache = new PlacementPlanCache(knownOSDs);
+            planCache = cache;
+        }
+        return cache;
+    }
+
+    public Replicas sortByReplicaSelectionPolicy(Map<String, Service> knownOSDMap, InetAddress clientIP,
+            VivaldiCoordinates clientCoords, List<Replica> unsortedRepls, XLocList xLocList) {
 
         // head OSD -> replica
         Map<String, Replica> replMap = new HashMap<String, Replica>();
@@ -0,0 +1,335 @@
+/*
+ * Copyright (c) 2015 by Zuse Institute Berlin
+ *
+ * Licensed under the BSD License, see LICENSE file for details.
+ *
+ */
+
+package org.xtreemfs.mrc.stages;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.xtreemfs.common.Capability;
+import org.xtreemfs.common.libxtreemfs.Helper;
+import org.xtreemfs.common.uuids.ServiceUUID;
+import org.xtreemfs.foundation.LifeCycleThread;
+import org.xtreemfs.foundation.logging.Logging;
+import org.xtreemfs.foundation.logging.Logging.Category;
+import org.xtreemfs.foundation.pbrpc.client.RPCAuthentication;
+import org.xtreemfs.foundation.pbrpc.client.RPCResponse;
+import org.xtreemfs.foundation.pbrpc.client.RPCResponseAvailableListener;
+import org.xtreemfs.mrc.MRCRequestDispatcher;
+import org.xtreemfs.mrc.ac.FileAccessManager;
+import org.xtreemfs.pbrpc.generatedinterfaces.Common.emptyResponse;
+import org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials;
+import org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.SnapConfig;
+import org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XLocSet;
+
+/**
+ * Deletes the objects of files that have been deleted at the MRC on behalf of a client, e.g. by a recursive
+ * deletion. Files are deleted by sending an unlink request to the head OSD of each replica, which hands the
+ * deletion over to its deletion stage. The capability for the unlink request is created when the request is sent,
+ * so that it does not expire while the file is queued.
+ * <p>
+ * At most {@link #MAX_PENDING_REQUESTS} requests are pending at a time, and at most
+ * {@link #MAX_PENDING_REQUESTS_PER_OSD} per OSD, so that an unavailable OSD does not stall the deletions at all
+ * other OSDs. Failed requests are retried with an exponential backoff. The queue holds at most
+ * {@link #MAX_QUEUE_LENGTH} files; operations that enqueue files have to check {@link #getRemainingCapacity()}
+ * beforehand. Operations that enqueue files once their database update has been committed have to reserve the
+ * capacity in the meantime.
+ * <p>
+ * Deletions that are still queued when the MRC is shut down or that fail {@link #MAX_ATTEMPTS} times are given
+ * up; the remaining objects are orphaned and can be removed with the OSD cleanup tool.
+ */
+public class FileDeletionThread extends LifeCycleThread {
+
+    public static final int                                   MAX_QUEUE_LENGTH             = 100000;
+
+    static final int                                          MAX_PENDING_REQUESTS         = 64;
+
+    static final int                                          MAX_PENDING_REQUESTS_PER_OSD = 16;
+
+    static final int                                          MAX_ATTEMPTS                 = 6;
+
+    /**
+     * the delay before the first retry of a failed request; doubled with each further retry
+     */
+    static final long                                         RETRY_DELAY_MS               = 10 * 1000;
+
+    /**
+     * the delay before a request to an OSD with {@link #MAX_PENDING_REQUESTS_PER_OSD} pending requests is tried
+     * again
+     */
+    static final long                                         BUSY_DELAY_MS                = 1000;
+
+    private final MRCRequestDispatcher                        master;
+
+    private volatile boolean                                  quit;
+
+    private final LinkedBlockingQueue<FileDeletion>           files;
+
+    /**
+     * deletions at single replicas that are retried or deferred
+     */
+    private final DelayQueue<ReplicaDeletion>                 retries;
+
+    private final Semaphore                                   pendingRequests;
+
+    private final ConcurrentHashMap<String, AtomicInteger>    pendingRequestsPerOSD;
+
+    /**
+     * the number of files that will be enqueued when pending database updates have been committed
+     */
+    private final AtomicInteger                               reserved;
+
+    public FileDeletionThread(MRCRequestDispatcher master) {
+        super("FileDeletionThr");
+        this.master = master;
+        this.files = new LinkedBlockingQueue<FileDeletion>(MAX_QUEUE_LENGTH);
+        this.retries = new DelayQueue<ReplicaDeletion>();
+        this.pendingRequests = new Semaphore(MAX_PENDING_REQUESTS);
+        this.pendingRequestsPerOSD = new ConcurrentHashMap<String, AtomicInteger>();
+        this.reserved = new AtomicInteger();
+    }
+
+    public void shutdown() {
+        this.quit = true;
+        this.interrupt();
+    }
+
+    /**
+     * Enqueues the deletion of all replicas of a file. The caller has to make sure that the queue is not full.
+     *
+     * @param file
+     *            the file to delete
+     */
+    public void enqueueFile(FileDeletion file) {
+        assert (file != null);
+        if (!files.offer(file))
+            Logging.logMessage(Logging.LEVEL_ERROR, Category.proc, this,
+                "deletion queue full, objects of file %s are orphaned", file.fileId);
+    }
+
+    /**
+     * Reserves capacity for files that will be enqueued later by {@link #enqueueReservedFiles(List)}.
+     *
+     * @param numFiles
+     *            the number of files
+     */
+    public void reserveCapacity(int numFiles) {
+        reserved.addAndGet(numFiles);
+    }
+
+    /**
+     * Releases capacity that has been reserved for files that will not be enqueued.
+     *
+     * @param numFiles
+     *            the number of files
+     */
+    public void releaseCapacity(int numFiles) {
+        reserved.addAndGet(-numFiles);
+    }
+
+    /**
+     * Enqueues files for which capacity has been reserved.
+     *
+     * @param files
+     *            the files to delete
+     */
+    public void enqueueReservedFiles(List<FileDeletion> files) {
+        for (FileDeletion file : files)
+            enqueueFile(file);
+        releaseCapacity(files.size());
+    }
+
+    /**
+     * Returns the number of files that can be enqueued or reserved without exceeding {@link #MAX_QUEUE_LENGTH}.
+     */
+    public int getRemainingCapacity() {
+        return Math.max(0, MAX_QUEUE_LENGTH - getQueueLength() - reserved.get());
+    }
+
+    public int getQueueLength() {
+        return files.size() + retries.size();
+    }
+
+    public void run() {
+
+        notifyStarted();
+        try {
+            if (Logging.isDebug())
+                Logging.logMessage(Logging.LEVEL_DEBUG, Category.lifecycle, this, "FileDeletionThread started");
+
+            do {
+                // retries that are due take precedence over new files
+                ReplicaDeletion replica = retries.poll();
+                if (replica != null) {
+                    send(replica);
+                    continue;
+                }
+
+                FileDeletion file = files.poll(BUSY_DELAY_MS, TimeUnit.MILLISECONDS);
+                if (file == null)
+                    continue;
+
+                for (int i = 0; i < file.xLocSet.getReplicasCount(); i++)
+                    send(new ReplicaDeletion(file, i));
+
+            } while (!quit);
+        } catch (InterruptedException ex) {
+            // shutdown
+        }
+
+        int remaining = getQueueLength();
+        if (remaining > 0)
+            Logging.logMessage(Logging.LEVEL_WARN, Category.proc, this,
+                "%d deletions are still queued, their objects are orphaned", remaining);
+
+        notifyStopped();
+
+        if (Logging.isDebug())
+            Logging.logMessage(Logging.LEVEL_DEBUG, Category.lifecycle, this, "FileDeletionThread finished");
+    }
+
+    private void send(final ReplicaDeletion replica) throws InterruptedException {
+
+        final String osdUUID = Helper.getOSDUUIDFromXlocSet(replica.file.xLocSet, replica.replicaIndex, 0);
+
+        AtomicInteger pendingAtOSD = pendingRequestsPerOSD.get(osdUUID);
+        if (pendingAtOSD == null) {
+            pendingRequestsPerOSD.putIfAbsent(osdUUID, new AtomicInteger());
+            pendingAtOSD = pendingRequestsPerOSD.get(osdUUID);
+        }
+
+        // defer the deletion if the OSD is busy, e.g. because it does not respond
+        if (pendingAtOSD.get() >= MAX_PENDING_REQUESTS_PER_OSD) {
+            replica.delay(BUSY_DELAY_MS);
+            retries.add(replica);
+            return;
+        }
+
+        pendingRequests.acquire();
+        pendingAtOSD.incrementAndGet();
+        final AtomicInteger finalPendingAtOSD = pendingAtOSD;
+        final String fileId = replica.file.fileId;
+        try {
+            ServiceUUID osd = new ServiceUUID(osdUUID);
+
+            @SuppressWarnings("unchecked")
+            RPCResponse<emptyResponse> response = master.getOSDClient().unlink(osd.getAddress(),
+                RPCAuthentication.authNone, RPCAuthentication.userService, replica.file.createCredentials(master),
+                fileId);
+            response.registerListener(new RPCResponseAvailableListener<emptyResponse>() {
+                @Override
+                public void responseAvailable(RPCResponse<emptyResponse> r) {
+                    try {
+                        r.get();
+                    } catch (Exception exc) {
+                        failed(replica, osdUUID, exc);
+                    } finally {
+                        r.freeBuffers();
+                        finalPendingAtOSD.decrementAndGet();
+                        pendingRequests.release();
+                    }
+                }
+            });
+
+        } catch (Exception exc) {
+            pendingAtOSD.decrementAndGet();
+            pendingRequests.release();
+            failed(replica, osdUUID, exc);
+        }
+    }
+
+    private void failed(ReplicaDeletion replica, String osdUUID, Exception exc) {
+
+        if (++replica.attempt < MAX_ATTEMPTS && !quit) {
+            Logging.logMessage(Logging.LEVEL_WARN, Category.proc, this,
+                "could not delete file %s at OSD %s (attempt %d), retrying: %s", replica.file.fileId, osdUUID,
+                replica.attempt, exc.toString());
+            replica.delay(RETRY_DELAY_MS << (replica.attempt - 1));
+            retries.add(replica);
+        } else {
+            Logging.logMessage(Logging.LEVEL_ERROR, Category.proc, this,
+                "could not delete file %s at OSD %s, objects are orphaned: %s", replica.file.fileId, osdUUID,
+                exc.toString());
+        }
+    }
+
+    /**
+     * A file whose objects have to be deleted at the OSDs, including all information required to create a
+     * capability for the deletion.
+     */
+    public static final class FileDeletion {
+
+        final String     fileId;
+
+        final XLocSet    xLocSet;
+
+        final int        epoch;
+
+        final SnapConfig snapConfig;
+
+        final long       snapTimestamp;
+
+        final String     clientIdentity;
+
+        public FileDeletion(String fileId, XLocSet xLocSet, int epoch, SnapConfig snapConfig, long snapTimestamp,
+            String clientIdentity) {
+            this.fileId = fileId;
+            this.xLocSet = xLocSet;
+            this.epoch = epoch;
+            this.snapConfig = snapConfig;
+            this.snapTimestamp = snapTimestamp;
+            this.clientIdentity = clientIdentity;
+        }
+
+        FileCredentials createCredentials(MRCRequestDispatcher master) {
+            Capability cap = new Capability(fileId, FileAccessManager.NON_POSIX_DELETE, master.getConfig()
+                    .getCapabilityTimeout(), Integer.MAX_VALUE, clientIdentity, epoch, false, snapConfig,
+                snapTimestamp, master.getConfig().getCapabilitySecret());
+            return FileCredentials.newBuilder().setXcap(cap.getXCap()).setXlocs(xLocSet).build();
+        }
+    }
+
+    /**
+     * The deletion of a file at a single replica, which is retried or deferred.
+     */
+    private static final class ReplicaDeletion implements Delayed {
+
+        final FileDeletion file;
+
+        final int          replicaIndex;
+
+        int                attempt;
+
+        long               dueNanos;
+
+        ReplicaDeletion(FileDeletion file, int replicaIndex) {
+            this.file = file;
+            this.replicaIndex = replicaIndex;
+        }
+
+        void delay(long delayMs) {
+            dueNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(delayMs);
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(dueNanos - System.nanoTime(), TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed o) {
+            long diff = dueNanos - ((ReplicaDeletion) o).dueNanos;
+            return diff < 0 ? -1 : diff > 0 ? 1 : 0;
+        }
+    }
+}
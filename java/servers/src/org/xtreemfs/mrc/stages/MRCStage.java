@@ -16,7 +16,10 @@ import java.util.concurrent.atomic.AtomicLong;
 import org.xtreemfs.foundation.LifeCycleThread;
 import org.xtreemfs.foundation.logging.Logging;
 import org.xtreemfs.foundation.logging.Logging.Category;
+import org.xtreemfs.foundation.monitoring.OperationLatencies;
+import org.xtreemfs.foundation.trace.Tracer;
 import org.xtreemfs.mrc.MRCRequest;
+import org.xtreemfs.mrc.StatusPage;
 
 public abstract class MRCStage extends LifeCycleThread {
     
@@ -62,10 +65,16 @@ public abstract class MRCStage extends LifeCycleThread {
     
     public AtomicLong                    _sumRqTime;
     
+    /**
+     * queue and execution times of the requests processed by the stage
+     */
+    protected final OperationLatencies   latencies;
+    
     public MRCStage(String stageName) {
         super(stageName);
         q = new LinkedBlockingQueue<StageMethod>();
         this.quit = false;
+        this.latencies = new OperationLatencies(stageName);
         
         _numRq = new AtomicInteger(0);
         _maxRqTime = new AtomicInteger(0);
@@ -102,6 +111,13 @@ public abstract class MRCStage extends LifeCycleThread {
         return q.size();
     }
     
+    /**
+     * Returns the latency histograms of the stage.
+     */
+    public OperationLatencies getLatencies() {
+        return latencies;
+    }
+    
     @Override
     public void run() {
         
@@ -119,7 +135,25 @@ public abstract class MRCStage extends LifeCycleThread {
                         "processing request XID=%d method %d",
                         rq.getRPCRequest().getHeader().getCallId(), op.getStageMethod());
                 
-                processMethod(op);
+                final long traceId = rq.getRPCRequest().getTraceId();
+                final long startNanos = System.nanoTime();
+                if (traceId == 0) {
+                    processMethod(op);
+                } else {
+                    Tracer.setCurrentTraceId(traceId);
+                    try {
+                        processMethod(op);
+                    } finally {
+                        Tracer.setCurrentTraceId(0);
+                    }
+                }
+                final long endNanos = System.nanoTime();
+                
+                final int procId = rq.getRPCRequest().getHeader().getRequestHeader().getProcId();
+                latencies.record(procId, startNanos - op.getEnqueueNanos(), endNanos - startNanos);
+                if (traceId != 0)
+                    Tracer.record(traceId, getName(), StatusPage.getOpName(procId), startNanos
+                        - op.getEnqueueNanos(), endNanos - startNanos);
                 
             } catch (InterruptedException ex) {
                 break;
@@ -148,10 +182,13 @@ public abstract class MRCStage extends LifeCycleThread {
         
         private MRCStageCallbackInterface callback;
         
+        private final long                enqueueNanos;
+        
         public StageMethod(MRCRequest rq, int stageMethod, MRCStageCallbackInterface callback) {
             this.rq = rq;
             this.stageMethod = stageMethod;
             this.callback = callback;
+            this.enqueueNanos = System.nanoTime();
         }
         
         public int getStageMethod() {
@@ -177,6 +214,10 @@ public abstract class MRCStage extends LifeCycleThread {
         public void setCallback(MRCStageCallbackInterface callback) {
             this.callback = callback;
         }
+        
+        public long getEnqueueNanos() {
+            return enqueueNanos;
+        }
     }
     
 }
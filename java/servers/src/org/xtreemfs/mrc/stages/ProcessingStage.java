@@ -35,13 +35,16 @@ import org.xtreemfs.mrc.operations.AddReplicaOperation;
 import org.xtreemfs.mrc.operations.CheckFileListOperation;
 import org.xtreemfs.mrc.operations.CheckpointOperation;
 import org.xtreemfs.mrc.operations.CreateDirOperation;
+import org.xtreemfs.mrc.operations.CreateFilesOperation;
 import org.xtreemfs.mrc.operations.CreateLinkOperation;
 import org.xtreemfs.mrc.operations.CreateSymLinkOperation;
 import org.xtreemfs.mrc.operations.CreateVolumeOperation;
 import org.xtreemfs.mrc.operations.DeleteOperation;
+import org.xtreemfs.mrc.operations.DeleteRecursiveOperation;
 import org.xtreemfs.mrc.operations.DeleteVolumeOperation;
 import org.xtreemfs.mrc.operations.DumpDBOperation;
 import org.xtreemfs.mrc.operations.FSetAttrOperation;
+import org.xtreemfs.mrc.operations.GetAttrsOperation;
 import org.xtreemfs.mrc.operations.GetFileCredentialsOperation;
 import org.xtreemfs.mrc.operations.GetLocalVolumesOperation;
 import org.xtreemfs.mrc.operations.GetSuitableOSDsOperation;
@@ -49,6 +52,7 @@ import org.xtreemfs.mrc.operations.GetXAttrOperation;
 import org.xtreemfs.mrc.operations.GetXAttrsOperation;
 import org.xtreemfs.mrc.operations.GetXLocListOperation;
 import org.xtreemfs.mrc.operations.GetXLocSetOperation;
+import org.xtreemfs.mrc.operations.GetXLocSetsOperation;
 import org.xtreemfs.mrc.operations.InternalDebugOperation;
 import org.xtreemfs.mrc.operations.MRCOperation;
 import org.xtreemfs.mrc.operations.MoveOperation;
@@ -64,11 +68,13 @@ import org.xtreemfs.mrc.operations.SetReadOnlyXattrOperation;
 import org.xtreemfs.mrc.operations.SetReplicaUpdatePolicyOperation;
 import org.xtreemfs.mrc.operations.SetXAttrOperation;
 import org.xtreemfs.mrc.operations.SetattrOperation;
+import org.xtreemfs.mrc.operations.SetattrRecursiveOperation;
 import org.xtreemfs.mrc.operations.ShutdownOperation;
 import org.xtreemfs.mrc.operations.StatFSOperation;
 import org.xtreemfs.mrc.operations.StatOperation;
 import org.xtreemfs.mrc.operations.TruncateOperation;
 import org.xtreemfs.mrc.operations.UpdateFileSizeOperation;
+import org.xtreemfs.mrc.operations.UpdateFileSizesOperation;
 import org.xtreemfs.pbrpc.generatedinterfaces.MRCServiceConstants;
 
 import com.google.protobuf.Descriptors.FieldDescriptor;
@@ -123,6 +129,7 @@ public class ProcessingStage extends MRCStage {
         operations.put(MRCServiceConstants.PROC_ID_REMOVEXATTR, new RemoveXAttrOperation(master));
         operations.put(MRCServiceConstants.PROC_ID_OPEN, new OpenOperation(master));
         operations.put(MRCServiceConstants.PROC_ID_XTREEMFS_RENEW_CAPABILITY, new RenewOperation(master));
+        operations.put(MRCServiceConstants.PROC_ID_XTREEMFS_RENEW_CAPABILITIES, new RenewOperation(master));
         operations.put(MRCServiceConstants.PROC_ID_XTREEMFS_REPLICA_ADD, new AddReplicaOperation(master));
         operations.put(MRCServiceConstants.PROC_ID_XTREEMFS_REPLICA_REMOVE,
             new RemoveReplicaOperation(master));
@@ -145,6 +152,12 @@ public class ProcessingStage extends MRCStage {
         operations.put(MRCServiceConstants.PROC_ID_XTREEMFS_INTERNAL_DEBUG,
             new InternalDebugOperation(master));
         operations.put(MRCServiceConstants.PROC_ID_XTREEMFS_UPDATE_FILE_SIZE, new UpdateFileSizeOperation(master));
+        operations.put(MRCServiceConstants.PROC_ID_XTREEMFS_UPDATE_FILE_SIZES, new UpdateFileSizesOperation(master));
+        operations.put(MRCServiceConstants.PROC_ID_XTREEMFS_CREATE_FILES, new CreateFilesOperation(master));
+        operations.put(MRCServiceConstants.PROC_ID_XTREEMFS_GETATTRS, new GetAttrsOperation(master));
+        operations.put(MRCServiceConstants.PROC_ID_XTREEMFS_GET_XLOCSETS, new GetXLocSetsOperation(master));
+        operations.put(MRCServiceConstants.PROC_ID_XTREEMFS_RMDIR_RECURSIVE, new DeleteRecursiveOperation(master));
+        operations.put(MRCServiceConstants.PROC_ID_XTREEMFS_SETATTR_RECURSIVE, new SetattrRecursiveOperation(master));
         operations.put(MRCServiceConstants.PROC_ID_ACCESS, new AccessOperation(master));
         // TODO operations.put(replication_toMasterRequest.TAG, new
         // ReplicationToMasterOperation(master));
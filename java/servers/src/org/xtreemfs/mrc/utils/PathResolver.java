@@ -55,6 +55,23 @@ public class PathResolver {
         this.resolvedPath = files;
     }
     
+    /**
+     * Resolves the last component of a path in an already resolved parent
+     * directory, e.g. the parent path of another file in the same directory.
+     * 
+     * @param parentPath
+     *            the resolved parent path, as returned by
+     *            {@link #getParentPath()}
+     */
+    public PathResolver(StorageManager sMan, Path path, FileMetadata[] parentPath) throws DatabaseException {
+        
+        this.path = path;
+        this.resolvedPath = new FileMetadata[parentPath.length + 1];
+        System.arraycopy(parentPath, 0, resolvedPath, 0, parentPath.length);
+        resolvedPath[parentPath.length] = sMan.getMetadata(parentPath[parentPath.length - 1].getId(), path
+                .getLastComp(0));
+    }
+    
     public String getFileName() {
         if (fileName == null)
             fileName = path.getLastComp(0);
@@ -100,6 +117,15 @@ public class PathResolver {
         return resolvedPath;
     }
     
+    /**
+     * Returns the resolved path without the last component.
+     */
+    public FileMetadata[] getParentPath() {
+        FileMetadata[] parentPath = new FileMetadata[resolvedPath.length - 1];
+        System.arraycopy(resolvedPath, 0, parentPath, 0, parentPath.length);
+        return parentPath;
+    }
+    
     public String toString() {
         return path.toString();
     }
@@ -7,9 +7,8 @@
 
 package org.xtreemfs.osd;
 
-import java.util.Map;
 import org.xtreemfs.common.xloc.XLocations;
-import org.xtreemfs.foundation.LRUCache;
+import org.xtreemfs.foundation.ConcurrentCache;
 
 /**
  *  This class implements a cache for Locations
@@ -18,7 +17,7 @@ import org.xtreemfs.foundation.LRUCache;
  */
 public class LocationsCache {
     
-    private Map<String, XLocations> cache;
+    private final ConcurrentCache<String, XLocations> cache;
     private final int maximumSize;
     
     /**
@@ -27,7 +26,7 @@ public class LocationsCache {
      */
     public LocationsCache(int size) {
         maximumSize = size;
-        cache = new LRUCache(maximumSize);
+        cache = new ConcurrentCache<String, XLocations>(maximumSize);
     }
 
     /**
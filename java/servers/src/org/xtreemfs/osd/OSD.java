@@ -93,7 +93,8 @@ public class OSD {
         
         config.checkConfig();
         
-        Logging.start(config.getDebugLevel(), config.getDebugCategories());
+        Logging.start(config.getDebugLevel(), config.getDebugAsyncBufferSize(), config.getDebugRateLimit(),
+            config.getDebugCategories());
         
         new OSD(config);
     }
@@ -29,6 +29,8 @@ public class OSDConfig extends ServiceConfig {
     private final Parameter[] osdParameter = {            
             Parameter.DEBUG_LEVEL,
             Parameter.DEBUG_CATEGORIES,
+            Parameter.DEBUG_ASYNC_BUFFER_SIZE,
+            Parameter.DEBUG_RATE_LIMIT,
             Parameter.PORT,
             Parameter.HTTP_PORT,
             Parameter.LISTEN_ADDRESS,
@@ -60,6 +62,7 @@ public class OSDConfig extends ServiceConfig {
             Parameter.FLEASE_LEASE_TIMEOUT_MS,
             Parameter.FLEASE_MESSAGE_TO_MS,
             Parameter.FLEASE_RETRIES,
+            Parameter.FLEASE_MESSAGE_BATCH_SIZE,
             Parameter.POLICY_DIR,
             Parameter.CAPABILITY_SECRET,
             Parameter.SOCKET_SEND_BUFFER_SIZE,
@@ -81,7 +84,13 @@ public class OSDConfig extends ServiceConfig {
             Parameter.STORAGE_THREADS,
             Parameter.USE_RENEWAL_SIGNAL,
             Parameter.USE_MULTIHOMING,
-            Parameter.HEALTH_CHECK
+            Parameter.TRACING_ENABLED,
+            Parameter.TRACING_SAMPLING_INTERVAL,
+            Parameter.TRACING_BUFFER_SIZE,
+            Parameter.HEALTH_CHECK,
+            Parameter.SCRUBBER_ENABLED,
+            Parameter.SCRUBBER_OBJECTS_PER_SECOND,
+            Parameter.SCRUBBER_INTERVAL_S
     };
     /*
      * @formatter:on   
@@ -214,6 +223,13 @@ public class OSDConfig extends ServiceConfig {
         return (Integer) parameter.get(Parameter.FLEASE_RETRIES);
     }
 
+    /**
+     * @return the fleaseMessageBatchSize
+     */
+    public int getFleaseMessageBatchSize() {
+        return (Integer) parameter.get(Parameter.FLEASE_MESSAGE_BATCH_SIZE);
+    }
+
     /**
      * @param capabilitySecret
      *            the capabilitySecret to set
@@ -291,4 +307,16 @@ public class OSDConfig extends ServiceConfig {
     public String getHealthCheckScript() {
         return (String) parameter.get(Parameter.HEALTH_CHECK);
     }
+
+    public boolean isScrubberEnabled() {
+        return (Boolean) parameter.get(Parameter.SCRUBBER_ENABLED);
+    }
+
+    public int getScrubberObjectsPerSecond() {
+        return (Integer) parameter.get(Parameter.SCRUBBER_OBJECTS_PER_SECOND);
+    }
+
+    public int getScrubberIntervalS() {
+        return (Integer) parameter.get(Parameter.SCRUBBER_INTERVAL_S);
+    }
 }
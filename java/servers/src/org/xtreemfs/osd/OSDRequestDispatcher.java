@@ -31,8 +31,13 @@ import org.xtreemfs.common.config.PolicyContainer;
 import org.xtreemfs.common.config.RemoteConfigHelper;
 import org.xtreemfs.common.config.ServiceConfig;
 import org.xtreemfs.common.monitoring.StatusMonitor;
+import org.xtreemfs.common.statusserver.LatencyStatusPage;
+import org.xtreemfs.common.statusserver.LatencyStatusPage.LatencyStatusProvider;
+import org.xtreemfs.common.statusserver.LatencyStatusPage.ServiceLatencyStatusProvider;
+import org.xtreemfs.common.statusserver.MetricsPage;
 import org.xtreemfs.common.statusserver.PrintStackTrace;
 import org.xtreemfs.common.statusserver.StatusServer;
+import org.xtreemfs.common.statusserver.TraceStatusPage;
 import org.xtreemfs.common.uuids.ServiceUUID;
 import org.xtreemfs.common.uuids.UUIDResolver;
 import org.xtreemfs.common.uuids.UnknownUUIDException;
@@ -49,6 +54,11 @@ import org.xtreemfs.foundation.checksums.ChecksumFactory;
 import org.xtreemfs.foundation.checksums.provider.JavaChecksumProvider;
 import org.xtreemfs.foundation.logging.Logging;
 import org.xtreemfs.foundation.logging.Logging.Category;
+import org.xtreemfs.foundation.monitoring.MetricsRegistry;
+import org.xtreemfs.foundation.monitoring.MetricsRegistry.Collector;
+import org.xtreemfs.foundation.monitoring.MetricsRegistry.Gauge;
+import org.xtreemfs.foundation.monitoring.MetricsWriter;
+import org.xtreemfs.foundation.monitoring.OperationLatencies;
 import org.xtreemfs.foundation.pbrpc.Schemes;
 import org.xtreemfs.foundation.pbrpc.client.RPCNIOSocketClient;
 import org.xtreemfs.foundation.pbrpc.generatedinterfaces.RPC.ErrorType;
@@ -61,6 +71,7 @@ import org.xtreemfs.foundation.pbrpc.server.RPCServerRequest;
 import org.xtreemfs.foundation.pbrpc.server.RPCServerRequestListener;
 import org.xtreemfs.foundation.pbrpc.server.RPCUDPSocketServer;
 import org.xtreemfs.foundation.pbrpc.utils.ErrorUtils;
+import org.xtreemfs.foundation.trace.Tracer;
 import org.xtreemfs.foundation.util.FSUtils;
 import org.xtreemfs.osd.operations.CheckObjectOperation;
 import org.xtreemfs.osd.operations.CleanupGetResultsOperation;
@@ -104,10 +115,12 @@ import org.xtreemfs.osd.rwre.RWReplicationStage;
 import org.xtreemfs.osd.stages.DeletionStage;
 import org.xtreemfs.osd.stages.PreprocStage;
 import org.xtreemfs.osd.stages.ReplicationStage;
+import org.xtreemfs.osd.stages.Stage;
 import org.xtreemfs.osd.stages.StorageStage;
 import org.xtreemfs.osd.stages.VivaldiStage;
 import org.xtreemfs.osd.storage.CleanupThread;
 import org.xtreemfs.osd.storage.CleanupVersionsThread;
+import org.xtreemfs.osd.storage.ScrubberThread;
 import org.xtreemfs.osd.storage.HashStorageLayout;
 import org.xtreemfs.osd.storage.MetadataCache;
 import org.xtreemfs.osd.storage.StorageLayout;
@@ -184,6 +197,8 @@ public class OSDRequestDispatcher implements RPCServerRequestListener, LifeCycle
 
     protected final CleanupVersionsThread               cvThread;
 
+    protected final ScrubberThread                      scrubThread;
+
     protected final RWReplicationStage                  rwrStage;
 
     private List<OSDStatusListener>                     statusListener;
@@ -354,6 +369,10 @@ public class OSDRequestDispatcher implements RPCServerRequestListener, LifeCycle
         osdClientForReplication = new OSDServiceClient(rpcClientForReplication, null);
 
         TimeSync.initialize(dirClient, config.getRemoteTimeSync(), config.getLocalClockRenew());
+
+        if (config.isTracingEnabled()) {
+            Tracer.initialize(config.getTracingBufferSize(), config.getTracingSamplingInterval());
+        }
         UUIDResolver.start(dirClient, 10 * 1000, 600 * 1000);
         UUIDResolver.addLocalMapping(config.getUUID(), config.getPort(), Schemes.getScheme(config
                 .isUsingSSL(), config.isGRIDSSLmode()));
@@ -490,6 +509,20 @@ public class OSDRequestDispatcher implements RPCServerRequestListener, LifeCycle
             statusServer.registerModule(new PrintStackTrace());
             statusServer.registerModule(new ReplicatedFileStatusPage());
             statusServer.registerModule(new ReplicatedFileStatusJSON());
+            LatencyStatusProvider latencyProvider = new ServiceLatencyStatusProvider(OSDServiceConstants.class) {
+                @Override
+                public List<OperationLatencies> getLatencies() {
+                    return getStageLatencies();
+                }
+            };
+            statusServer.registerModule(new LatencyStatusPage(latencyProvider, false));
+            statusServer.registerModule(new LatencyStatusPage(latencyProvider, true));
+            statusServer.registerModule(new TraceStatusPage());
+
+            MetricsRegistry metrics = new MetricsRegistry();
+            MetricsPage.registerCommonMetrics(metrics, latencyProvider);
+            registerMetrics(metrics);
+            statusServer.registerModule(new MetricsPage(metrics));
 
             if (config.getAdminPassword().length() > 0) {
                 statusServer.addAuthorizedUser("admin", config.getAdminPassword());
@@ -509,6 +542,9 @@ public class OSDRequestDispatcher implements RPCServerRequestListener, LifeCycle
         cvThread = new CleanupVersionsThread(this, storageLayout);
         cvThread.setLifeCycleListener(this);
         
+        scrubThread = new ScrubberThread(this, storageLayout);
+        scrubThread.setLifeCycleListener(this);
+        
         statusListener = new ArrayList<OSDStatusListener>();
         if (config.isUsingSnmp()) {
             statusListener.add(new StatusMonitor(
@@ -532,6 +568,138 @@ public class OSDRequestDispatcher implements RPCServerRequestListener, LifeCycle
         return cvThread;
     }
 
+    private void registerMetrics(MetricsRegistry metrics) {
+        final OSDRequestDispatcher master = this;
+
+        metrics.registerGauge("xtreemfs_osd_client_connections", "Number of open client connections.",
+                new Gauge() {
+                    @Override
+                    public long getValue() {
+                        return master.getNumClientConnections();
+                    }
+                });
+        metrics.registerGauge("xtreemfs_osd_pending_requests", "Number of requests received but not answered.",
+                new Gauge() {
+                    @Override
+                    public long getValue() {
+                        return master.getPendingRequests();
+                    }
+                });
+        metrics.registerGauge("xtreemfs_osd_open_files", "Number of files in the open file table.", new Gauge() {
+            @Override
+            public long getValue() {
+                return master.getPreprocStage().getNumOpenFiles();
+            }
+        });
+        metrics.registerGauge("xtreemfs_osd_free_space_bytes", "Free space on the OSD's storage device.",
+                new Gauge() {
+                    @Override
+                    public long getValue() {
+                        return master.getFreeSpace();
+                    }
+                });
+        metrics.registerCounter("xtreemfs_osd_objects_received_total", "Number of objects written by clients.",
+                new Gauge() {
+                    @Override
+                    public long getValue() {
+                        return master.getObjectsReceived();
+                    }
+                });
+        metrics.registerCounter("xtreemfs_osd_objects_sent_total", "Number of objects read by clients.",
+                new Gauge() {
+                    @Override
+                    public long getValue() {
+                        return master.getObjectsSent();
+                    }
+                });
+        metrics.registerCounter("xtreemfs_osd_received_bytes_total", "Number of bytes written by clients.",
+                new Gauge() {
+                    @Override
+                    public long getValue() {
+                        return master.getBytesReceived();
+                    }
+                });
+        metrics.registerCounter("xtreemfs_osd_sent_bytes_total", "Number of bytes read by clients.", new Gauge() {
+            @Override
+            public long getValue() {
+                return master.getBytesSent();
+            }
+        });
+        metrics.registerCounter("xtreemfs_osd_replicated_objects_received_total",
+                "Number of objects fetched from other replicas.", new Gauge() {
+                    @Override
+                    public long getValue() {
+                        return master.getReplicatedObjectsReceived();
+                    }
+                });
+        metrics.registerCounter("xtreemfs_osd_replicated_received_bytes_total",
+                "Number of bytes fetched from other replicas.", new Gauge() {
+                    @Override
+                    public long getValue() {
+                        return master.getReplicatedBytesReceived();
+                    }
+                });
+        metrics.registerGauge("xtreemfs_osd_replication_transfer_rate_bytes",
+                "Rate at which objects are fetched from other read-only replicas, in bytes/s.", new Gauge() {
+                    @Override
+                    public long getValue() {
+                        return master.getReplicationStage().getTransferRate();
+                    }
+                });
+        metrics.registerGauge("xtreemfs_osd_rwr_open_files",
+                "Number of files with read/write replication state.", new Gauge() {
+                    @Override
+                    public long getValue() {
+                        return master.getRWReplicationStage().getNumOpenFiles();
+                    }
+                });
+        metrics.registerGauge("xtreemfs_osd_rwr_objects_in_flight",
+                "Number of objects being fetched to reset a read/write replica.", new Gauge() {
+                    @Override
+                    public long getValue() {
+                        return master.getRWReplicationStage().getNumObjectsInFlight();
+                    }
+                });
+        metrics.registerCounter("xtreemfs_osd_files_deleted_total", "Number of deleted files.", new Gauge() {
+            @Override
+            public long getValue() {
+                return master.getDeletionStage().getNumFilesDeleted();
+            }
+        });
+        metrics.registerCounter("xtreemfs_osd_scrubbed_objects_total",
+                "Number of objects verified by the background scrubber.", new Gauge() {
+                    @Override
+                    public long getValue() {
+                        return master.getScrubberThread().getObjectsScrubbed();
+                    }
+                });
+        metrics.registerCounter("xtreemfs_osd_scrubber_corrupt_objects_total",
+                "Number of corrupt objects detected by the background scrubber.", new Gauge() {
+                    @Override
+                    public long getValue() {
+                        return master.getScrubberThread().getCorruptObjects();
+                    }
+                });
+
+        metrics.register(new Collector() {
+            @Override
+            public void collect(MetricsWriter writer) {
+                writer.family("xtreemfs_stage_queue_length", "Number of requests waiting in the queue of a stage.",
+                        "gauge");
+                for (Stage stage : new Stage[] { preprocStage, delStage, replStage, rwrStage }) {
+                    writer.sample("xtreemfs_stage_queue_length", new String[] { "stage", stage.getName() },
+                            stage.getQueueLength());
+                }
+                writer.sample("xtreemfs_stage_queue_length", new String[] { "stage", "OSD StorageStage" },
+                        stStage.getQueueLength());
+            }
+        });
+    }
+
+    public ScrubberThread getScrubberThread() {
+        return scrubThread;
+    }
+
     public void start() {
 
         try {
@@ -551,6 +719,7 @@ public class OSDRequestDispatcher implements RPCServerRequestListener, LifeCycle
             vStage.start();
             cThread.start();
             cvThread.start();
+            scrubThread.start();
             rwrStage.start();
 
             udpCom.waitForStartup();
@@ -560,6 +729,7 @@ public class OSDRequestDispatcher implements RPCServerRequestListener, LifeCycle
             vStage.waitForStartup();
             cThread.waitForStartup();
             cvThread.waitForStartup();
+            scrubThread.waitForStartup();
             rwrStage.waitForStartup();
 
             heartbeatThread.initialize();
@@ -599,6 +769,7 @@ public class OSDRequestDispatcher implements RPCServerRequestListener, LifeCycle
 
             serviceAvailability.shutdown();
 
+            scrubThread.shutdown();
             udpCom.shutdown();
             preprocStage.shutdown();
             delStage.shutdown();
@@ -621,6 +792,7 @@ public class OSDRequestDispatcher implements RPCServerRequestListener, LifeCycle
             vStage.waitForShutdown();
             cThread.waitForShutdown();
             cvThread.waitForShutdown();
+            scrubThread.waitForShutdown();
 
             if (statusServer != null) {
                 statusServer.shutdown();
@@ -648,6 +820,7 @@ public class OSDRequestDispatcher implements RPCServerRequestListener, LifeCycle
             rpcClient.shutdown();
             rpcClientForReplication.shutdown();
 
+            scrubThread.shutdown();
             udpCom.shutdown();
             preprocStage.shutdown();
             delStage.shutdown();
@@ -945,6 +1118,19 @@ public class OSDRequestDispatcher implements RPCServerRequestListener, LifeCycle
         return this.rwrStage;
     }
 
+    /**
+     * Returns the latency histograms of all stages that process client requests.
+     */
+    public List<OperationLatencies> getStageLatencies() {
+        List<OperationLatencies> latencies = new ArrayList<OperationLatencies>();
+        latencies.add(preprocStage.getLatencies());
+        latencies.add(stStage.getLatencies());
+        latencies.add(delStage.getLatencies());
+        latencies.add(replStage.getLatencies());
+        latencies.add(rwrStage.getLatencies());
+        return latencies;
+    }
+
     // FIXME: implement operations for Gmax, Ping
     /*
      * @Override public void receiveUDP(UDPMessage msg) { assert (msg.isRequest() || msg.isResponse());
@@ -56,9 +56,12 @@ class StatusPage extends StatusServerModule {
             BYTERX("<!-- $BYTERX -->"),
             REPLOBJWRITE("<!-- $REPLOBJWRITE -->"),
             REPLBYTERX("<!-- $REPLBYTERX -->"),
+            REPLRATE("<!-- $REPLRATE -->"),
             GMAXMSG("<!-- $GMAXMSG -->"),
             GMAXRPC("<!-- $GMAXRPC -->"),
             DELETES("<!-- $DELETES -->"),
+            SCRUBSTATUS("<!-- $SCRUBSTATUS -->"),
+            SCRUBUNREPAIRED("<!-- $SCRUBUNREPAIRED -->"),
             GLOBALTIME("<!-- $GLOBALTIME -->"),
             GLOBALRESYNC("<!-- $GLOBALRESYNC -->"),
             LOCALTIME("<!-- $LOCALTIME -->"),
@@ -201,9 +204,22 @@ class StatusPage extends StatusServerModule {
         values.put(
                 Vars.REPLBYTERX,
                 OutputUtils.formatBytes(myDispatcher.getReplicatedBytesReceived()));
+        values.put(
+                Vars.REPLRATE,
+                OutputUtils.formatBytes(myDispatcher.getReplicationStage().getTransferRate()) + "/s");
         values.put(
                 Vars.DELETES,
                 Long.toString(myDispatcher.getDeletionStage().getNumFilesDeleted()));
+        values.put(
+                Vars.SCRUBSTATUS,
+                myDispatcher.getScrubberThread().getStatus());
+        StringBuilder unrepaired = new StringBuilder();
+        for (String obj : myDispatcher.getScrubberThread().getUnrepairedObjects()) {
+            unrepaired.append(obj).append("\n");
+        }
+        values.put(
+                Vars.SCRUBUNREPAIRED,
+                unrepaired.length() == 0 ? "none" : "<span class=\"levelWARN\">" + unrepaired + "</span>");
         values.put(
                 Vars.GLOBALTIME,
                 new Date(globalTime).toString() + " (" + globalTime + ")");
@@ -893,11 +893,10 @@ public class OSDDrain {
                         InetSocketAddress osdAddress = new ServiceUUID(osdUUID, resolver).getAddress();
 
                         r = osdClient.xtreemfs_internal_get_object_set(osdAddress, password, userCreds, fc,
-                                                                       fileID);
+                                                                       fileID, ObjectSet.LATEST_FORMAT);
                         ObjectList ol = r.get();
 
-                        byte[] serializedBitSet = ol.getSet().toByteArray();
-                        oSet = new ObjectSet(sp.getWidth(), osdRelPos, serializedBitSet);
+                        oSet = new ObjectSet(sp.getWidth(), osdRelPos, ol);
                     } catch (Exception e) {
                         if (Logging.isDebug()) {
                             Logging.logError(Logging.LEVEL_WARN, this, e);
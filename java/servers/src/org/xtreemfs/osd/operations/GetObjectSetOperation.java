@@ -8,7 +8,6 @@
 
 package org.xtreemfs.osd.operations;
 
-import com.google.protobuf.ByteString;
 import java.io.IOException;
 
 import org.xtreemfs.common.Capability;
@@ -69,12 +68,9 @@ public class GetObjectSetOperation extends OSDOperation {
         if (error != null) {
             rq.sendError(error);
         } else {
-            // serialize objectSet
-            byte[] serialized;
+            // serialize objectSet in the latest format the requester understands
             try {
-                serialized = result.getSerializedBitSet();
-
-                ObjectList objList = ObjectList.newBuilder().setSet(ByteString.copyFrom(serialized)).setStripeWidth(result.getStripeWidth()).setFirst(result.getFirstObjectNo()).build();
+                ObjectList objList = result.toObjectList(args.getObjectSetFormat());
                 rq.sendSuccess(objList,null);
             } catch (IOException e) {
                 rq.sendInternalServerError(e);
@@ -15,7 +15,6 @@ import org.xtreemfs.common.uuids.ServiceUUID;
 import org.xtreemfs.common.xloc.InvalidXLocationsException;
 import org.xtreemfs.common.xloc.StripingPolicyImpl;
 import org.xtreemfs.common.xloc.XLocations;
-import org.xtreemfs.foundation.buffer.ReusableBuffer;
 import org.xtreemfs.foundation.pbrpc.generatedinterfaces.RPC.ErrorType;
 import org.xtreemfs.foundation.pbrpc.generatedinterfaces.RPC.POSIXErrno;
 import org.xtreemfs.foundation.pbrpc.generatedinterfaces.RPC.RPCHeader.ErrorResponse;
@@ -34,7 +33,6 @@ import org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectList;
 import org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_internal_read_localRequest;
 import org.xtreemfs.pbrpc.generatedinterfaces.OSDServiceConstants;
 
-import com.google.protobuf.ByteString;
 
 public final class LocalReadOperation extends OSDOperation {
     
@@ -101,13 +99,9 @@ public final class LocalReadOperation extends OSDOperation {
         if (error != null) {
             rq.sendError(error);
         } else {
-            // serialize objectSet
-            ReusableBuffer objectSetBuffer = null;
-            byte[] serialized;
+            // serialize objectSet in the latest format the requester understands
             try {
-                serialized = result.getSerializedBitSet();
-                
-                ObjectList objList = ObjectList.newBuilder().setSet(ByteString.copyFrom(serialized)).setFirst(result.getFirstObjectNo()).setStripeWidth(result.getStripeWidth()).build();
+                ObjectList objList = result.toObjectList(args.getObjectSetFormat());
                 readFinish(rq, args, data, objList);
             } catch (IOException e) {
                 rq.sendInternalServerError(e);
@@ -5,6 +5,7 @@ import org.xtreemfs.common.ReplicaUpdatePolicies;
 import org.xtreemfs.common.uuids.ServiceUUID;
 import org.xtreemfs.common.xloc.InvalidXLocationsException;
 import org.xtreemfs.common.xloc.XLocations;
+import org.xtreemfs.foundation.TimeSync;
 import org.xtreemfs.foundation.logging.Logging;
 import org.xtreemfs.foundation.pbrpc.generatedinterfaces.RPC.ErrorType;
 import org.xtreemfs.foundation.pbrpc.generatedinterfaces.RPC.POSIXErrno;
@@ -13,12 +14,20 @@ import org.xtreemfs.foundation.pbrpc.utils.ErrorUtils;
 import org.xtreemfs.osd.OSDRequest;
 import org.xtreemfs.osd.OSDRequestDispatcher;
 import org.xtreemfs.osd.stages.ReplicationStage.FetchObjectCallback;
+import org.xtreemfs.osd.storage.CowPolicy;
 import org.xtreemfs.osd.storage.ObjectInformation;
+import org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.SYSTEM_V_FCNTL;
+import org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.SnapConfig;
 import org.xtreemfs.pbrpc.generatedinterfaces.OSD.xtreemfs_repair_objectRequest;
 import org.xtreemfs.pbrpc.generatedinterfaces.OSDServiceConstants;
 
 public class RepairObjectOperation extends OSDOperation {
 
+    /**
+     * validity of capabilities issued for internal repairs, in seconds
+     */
+    private static final int INTERNAL_CAP_VALIDITY_S = 600;
+
     final String      sharedSecret;
 
     final ServiceUUID localUUID;
@@ -52,14 +61,8 @@ public class RepairObjectOperation extends OSDOperation {
     }
 
     private void repairROnlyObject(final OSDRequest rq, final xtreemfs_repair_objectRequest args) {
-    	if (rq.getLocationList().getLocalReplica().isComplete()) {
-    		
-    		//rest complete flag, otherwise replica is unable to fetch objects
-            rq.getLocationList().getLocalReplica().resetCompleteFlagAndRestoreStrageyFlag();
-    	}
-    	//Assumption: fetched Object is not corrupted
-		master.getReplicationStage().fetchObject(args.getFileId(), args.getObjectNumber(), rq.getLocationList(),
-                rq.getCapability(), rq.getCowPolicy(), rq, new FetchObjectCallback() {
+        fetchObject(args.getFileId(), args.getObjectNumber(), rq.getLocationList(), rq.getCapability(),
+                rq.getCowPolicy(), rq, new FetchObjectCallback() {
 
             @Override
             public void fetchComplete(ObjectInformation objectInfo, ErrorResponse error) {
@@ -69,16 +72,56 @@ public class RepairObjectOperation extends OSDOperation {
                     rq.sendError(error);
                 }
             }
-		});     
+        });
+    }
+
+    private void fetchObject(String fileId, long objNo, XLocations xLoc, Capability cap, CowPolicy cow,
+            OSDRequest rq, FetchObjectCallback callback) {
+        if (xLoc.getLocalReplica().isComplete()) {
+
+            // rest complete flag, otherwise replica is unable to fetch objects
+            xLoc.getLocalReplica().resetCompleteFlagAndRestoreStrageyFlag();
+        }
+        // Assumption: fetched Object is not corrupted
+        master.getReplicationStage().fetchObject(fileId, objNo, xLoc, cap, cow, rq, callback);
     }
 
     private void repairRWObject(final OSDRequest rq, final xtreemfs_repair_objectRequest args) {   	
     	//TODO(lukas) add rw support
     }
 
+    /**
+     * Repairs a corrupt object of a read-only replicated file by fetching it from another replica. Used by
+     * the background scrubber, which has no client capability at hand.
+     * 
+     * @param args
+     *            fileId, objNo, XLocations, truncate epoch, FetchObjectCallback
+     */
     @Override
     public void startInternalEvent(Object[] args) {
-        // TODO Auto-generated method stub
+        final String fileId = (String) args[0];
+        final long objNo = (Long) args[1];
+        final XLocations xLoc = (XLocations) args[2];
+        final long truncateEpoch = (Long) args[3];
+        final FetchObjectCallback callback = (FetchObjectCallback) args[4];
+
+        if (!xLoc.getReplicaUpdatePolicy().equals(ReplicaUpdatePolicies.REPL_UPDATE_PC_RONLY)
+            || xLoc.getNumReplicas() < 2) {
+            callback.fetchComplete(null, ErrorUtils.getErrorResponse(ErrorType.ERRNO, POSIXErrno.POSIX_ERROR_EIO,
+                    "object can only be repaired automatically if the file is read-only replicated"));
+            return;
+        }
+
+        if (Logging.isDebug()) {
+            Logging.logMessage(Logging.LEVEL_DEBUG, this, "Repair object event for file %s-%d", fileId, objNo);
+        }
+
+        Capability cap = new Capability(fileId, SYSTEM_V_FCNTL.SYSTEM_V_FCNTL_H_O_RDONLY.getNumber(),
+                INTERNAL_CAP_VALIDITY_S, TimeSync.getGlobalTime() / 1000 + INTERNAL_CAP_VALIDITY_S,
+                localUUID.toString(), (int) truncateEpoch, false, SnapConfig.SNAP_CONFIG_SNAPS_DISABLED, 0,
+                sharedSecret);
+
+        fetchObject(fileId, objNo, xLoc, cap, CowPolicy.PolicyNoCow, null, callback);
     }
 
     @Override
@@ -16,6 +16,7 @@ import org.xtreemfs.common.Capability;
 import org.xtreemfs.common.uuids.ServiceUUID;
 import org.xtreemfs.common.xloc.XLocations;
 import org.xtreemfs.foundation.LRUCache;
+import org.xtreemfs.foundation.TimeSync;
 import org.xtreemfs.foundation.buffer.ReusableBuffer;
 import org.xtreemfs.foundation.logging.Logging;
 import org.xtreemfs.foundation.logging.Logging.Category;
@@ -45,7 +46,7 @@ public class ObjectDissemination {
      * controls how many fetch-object-requests will be allowed to sent overall by all files (used for
      * load-balancing)
      */
-    private static final int                           MAX_OBJECTS_IN_PROGRESS_OVERALL                          = 20;
+    private static final int                           MAX_OBJECTS_IN_PROGRESS_OVERALL                          = 64;
 
     /**
      * objects of these files are downloading currently or in future <br>
@@ -68,6 +69,21 @@ public class ObjectDissemination {
 
     private AtomicLong                                 monitoringReadDataSizeInLastXs;
 
+    /**
+     * start (ms) of the current interval for measuring the transfer rate, and bytes fetched since then; only
+     * accessed by the replication stage
+     */
+    private long                                       rateIntervalStart;
+
+    private long                                       rateIntervalBytes;
+
+    /**
+     * transfer rate (bytes/s) over all files in the last completed interval, and the end (ms) of that interval
+     */
+    private volatile long                              transferRate;
+
+    private volatile long                              transferRateTimestamp;
+
     /**
      * Measures the throughput of the last 1 second.
      */
@@ -203,6 +219,7 @@ public class ObjectDissemination {
         
         // monitoring
         monitoringReadDataSizeInLastXs.addAndGet(data.getData().limit());
+        updateTransferRate(data.getData().limit());
 
         file.objectFetched(objectNo, usedOSD, data);
 
@@ -243,6 +260,36 @@ public class ObjectDissemination {
             fileCompleted(file.fileID);
     }
 
+    private void updateTransferRate(long bytes) {
+        long now = TimeSync.getLocalSystemTime();
+        long elapsed = now - rateIntervalStart;
+
+        // start a new interval if no object has been fetched for a while
+        if (elapsed > 2 * MONITORING_THROUGHPUT_INTERVAL) {
+            rateIntervalStart = now;
+            rateIntervalBytes = bytes;
+            return;
+        }
+
+        rateIntervalBytes += bytes;
+        if (elapsed >= MONITORING_THROUGHPUT_INTERVAL) {
+            transferRate = rateIntervalBytes * 1000 / elapsed;
+            transferRateTimestamp = now;
+            rateIntervalStart = now;
+            rateIntervalBytes = 0;
+        }
+    }
+
+    /**
+     * Returns the rate at which objects have been fetched from other replicas, over all files, in bytes/s.
+     * The rate is measured in intervals of {@link #MONITORING_THROUGHPUT_INTERVAL} ms.
+     */
+    public long getTransferRate() {
+        if (TimeSync.getLocalSystemTime() - transferRateTimestamp > 2 * MONITORING_THROUGHPUT_INTERVAL)
+            return 0;
+        return transferRate;
+    }
+
     /**
      * cleans up maps, lists, ...
      * 
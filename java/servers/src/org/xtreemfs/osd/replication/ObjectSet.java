@@ -13,6 +13,8 @@ import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.BitSet;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
@@ -20,30 +22,68 @@ import java.util.Random;
 import java.util.zip.DeflaterOutputStream;
 import java.util.zip.InflaterInputStream;
 
+import org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectList;
+import org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectSetFormat;
+
+import com.google.protobuf.ByteString;
 
 /**
- * Stores the objects in a Java BitSet. <br>
+ * Stores the objects in a compressed bitmap, similar to a Roaring bitmap. The indices of the objects are split
+ * into chunks of 2^16 indices. A chunk stores the lower 16 bits of its indices in a sorted array if it contains
+ * at most {@link #ARRAY_MAX_SIZE} indices, and in a bitmap otherwise. Sparse sets of large files therefore
+ * require little memory, while dense sets require about as much memory as a BitSet. Set operations are
+ * applied chunk by chunk. <br>
+ * The set can be serialized in the formats defined by {@link ObjectSetFormat}. The
+ * {@link ObjectSetFormat#OBJECT_SET_FORMAT_RUNS_V1} format consists of unsigned LEB128 varints: the number of
+ * chunks, followed by the key of each chunk (i.e. the upper 16 bits of its indices, as the difference to the
+ * key of the previous chunk), the type of its encoding and its indices. Indices are encoded either as an
+ * array (number of indices, first index, differences to the respective previous index), as runs (number of
+ * runs, for each run the difference between its first index and the end of the previous run, and its length
+ * minus one) or as a bitmap (1024 little-endian 64 bit words), whichever is shortest. <br>
  * 29.06.2009
  */
 public class ObjectSet implements /*Serializable,*/ Iterable<Long> { // FIXME
-    public static final int DEFAULT_INITIAL_SIZE = 1024;
+    public static final int             DEFAULT_INITIAL_SIZE = 1024;
+
+    /**
+     * the latest format in which object sets can be serialized
+     */
+    public static final ObjectSetFormat LATEST_FORMAT        = ObjectSetFormat.OBJECT_SET_FORMAT_RUNS_V1;
+
+    /**
+     * the maximum number of indices of a chunk that are stored in an array
+     */
+    static final int                    ARRAY_MAX_SIZE       = 4096;
+
+    private static final int            BITMAP_WORDS         = 1024;
+
+    private static final int            ENCODING_ARRAY       = 0;
+
+    private static final int            ENCODING_RUNS        = 1;
+
+    private static final int            ENCODING_BITMAP      = 2;
+
+    /**
+     * contains the chunks, sorted by key
+     */
+    protected ArrayList<Chunk>          chunks;
 
     /**
-     * contains the objects
+     * the number of objects in the set
      */
-    protected BitSet        objects;
+    protected int                       cardinality;
 
     /**
      * only every x object will be saved, so the set contains less free entries
      */
-    protected int           stripeWidth;
+    protected int                       stripeWidth;
 
     /**
      * the first object number which should be stored
      */
-    protected int           firstObjectNo;
+    protected int                       firstObjectNo;
 
-    protected Random        random;
+    protected Random                    random;
 
     /**
      * Creates an ObjectSet with a default size of 1024. All objects can be stored to this ObjectSet.
@@ -54,7 +94,7 @@ public class ObjectSet implements /*Serializable,*/ Iterable<Long> { // FIXME
 
     /**
      * Creates an ObjectSet with the given size. All objects can be stored to this ObjectSet.
-     * 
+     *
      * @param initialSize
      */
     public ObjectSet(int initialSize) {
@@ -64,7 +104,7 @@ public class ObjectSet implements /*Serializable,*/ Iterable<Long> { // FIXME
     /**
      * Creates an ObjectSet with a default size of 1024. It uses the stripe width information to store the
      * appropriate objects in a compact manner. Other objects could not be stored.
-     * 
+     *
      * @param stripeWidth
      * @param firstObjectNo
      *            the first object of the file which should be stored in this object set
@@ -76,11 +116,12 @@ public class ObjectSet implements /*Serializable,*/ Iterable<Long> { // FIXME
     /**
      * Creates an ObjectSet with the given size. It uses the stripe width information to store the appropriate
      * objects in a compact manner. Other objects could not be stored.
-     * 
+     *
      * @param stripeWidth
      * @param firstObjectNo
      *            the first object of the file which should be stored in this object set
      * @param initialSize
+     *            the expected number of objects; chunks are allocated on demand
      */
     public ObjectSet(int stripeWidth, int firstObjectNo, int initialSize) {
         if (stripeWidth <= 0)
@@ -90,54 +131,85 @@ public class ObjectSet implements /*Serializable,*/ Iterable<Long> { // FIXME
 
         this.stripeWidth = stripeWidth;
         this.firstObjectNo = firstObjectNo;
-        this.objects = new BitSet(initialSize);
+        this.chunks = new ArrayList<Chunk>();
     }
 
+    /**
+     * Creates an ObjectSet from a set serialized with {@link #getSerializedBitSet()}.
+     */
     public ObjectSet(int stripeWidth, int firstObjectNo, byte[] serializedBitSet) throws ClassCastException,
             IOException, ClassNotFoundException {
-        this.objects = deserializeAndDecompress(serializedBitSet);
+        this(stripeWidth, firstObjectNo, serializedBitSet, ObjectSetFormat.OBJECT_SET_FORMAT_JAVA_BITSET);
+    }
 
-        this.stripeWidth = stripeWidth;
-        this.firstObjectNo = firstObjectNo;
+    /**
+     * Creates an ObjectSet from a set serialized with {@link #serialize(ObjectSetFormat)}.
+     */
+    public ObjectSet(int stripeWidth, int firstObjectNo, byte[] serializedSet, ObjectSetFormat format)
+            throws ClassCastException, IOException, ClassNotFoundException {
+        this(stripeWidth, firstObjectNo, DEFAULT_INITIAL_SIZE);
+
+        switch (format) {
+        case OBJECT_SET_FORMAT_JAVA_BITSET: {
+            BitSet objects = deserializeAndDecompress(serializedSet);
+            for (int i = objects.nextSetBit(0); i >= 0; i = objects.nextSetBit(i + 1))
+                addIndex(i);
+            break;
+        }
+        case OBJECT_SET_FORMAT_RUNS_V1:
+            deserializeRuns(serializedSet);
+            break;
+        default:
+            throw new IOException("unknown object set format: " + format);
+        }
+    }
+
+    /**
+     * Creates an ObjectSet from an object list received from an OSD.
+     */
+    public ObjectSet(int stripeWidth, int firstObjectNo, ObjectList objectList) throws ClassCastException,
+            IOException, ClassNotFoundException {
+        this(stripeWidth, firstObjectNo, objectList.getSet().toByteArray(), objectList.getFormat());
     }
 
     public ObjectSet(ObjectSet objectSet) {
         this.stripeWidth = objectSet.stripeWidth;
         this.firstObjectNo = objectSet.firstObjectNo;
-        this.objects = new BitSet(objectSet.objects.size());
-        this.objects.or(objectSet.objects);
+        this.chunks = new ArrayList<Chunk>(objectSet.chunks.size());
+        for (Chunk chunk : objectSet.chunks)
+            this.chunks.add(chunk.copy());
+        this.cardinality = objectSet.cardinality;
     }
 
     /**
-     * 
+     *
      * @see java.util.Set#add(java.lang.Object)
      */
     public boolean add(Long object) {
-        if (!objects.get((int) (object / stripeWidth))) {
-            objects.set((int) (object / stripeWidth));
-            return true;
-        } else
-            return false;
+        return addIndex((int) (object / stripeWidth));
     }
 
     /**
-     * 
+     *
      * @see java.util.Set#contains(java.lang.Object)
      */
     public boolean contains(Long object) {
-        return objects.get((int) (object / stripeWidth));
+        int index = (int) (object / stripeWidth);
+        int pos = findChunk(index >>> 16);
+        return pos >= 0 && chunks.get(pos).contains(index & 0xFFFF);
     }
 
     /**
-     * 
+     *
      * @return
      */
     public Long getFirst() {
-        return (long) (firstObjectNo + (objects.nextSetBit(0) * stripeWidth));
+        return toObjectNo(nextIndex(0));
     }
 
     /**
-     * 
+     * Returns a random object of the set. All objects are selected with the same probability.
+     *
      * @return
      */
     public Long getRandom() {
@@ -145,17 +217,18 @@ public class ObjectSet implements /*Serializable,*/ Iterable<Long> { // FIXME
         if (random == null)
             random = new Random();
 
-        int highestSetBit = objects.length(); // correct: objects.length() - 1, but then the highest bit would
-                                              // not be included
-        int randomIndex = random.nextInt(highestSetBit);
-        int index = objects.nextSetBit(randomIndex);
-        assert (index != -1);
+        int rank = random.nextInt(cardinality);
+        for (Chunk chunk : chunks) {
+            if (rank < chunk.cardinality)
+                return toObjectNo((chunk.key << 16) | chunk.select(rank));
+            rank -= chunk.cardinality;
+        }
 
-        return (long) (firstObjectNo + (index * stripeWidth));
+        throw new AssertionError("cardinality does not match the chunks");
     }
 
     /**
-     * 
+     *
      * @see java.util.Set#iterator()
      */
     public Iterator<Long> iterator() {
@@ -164,58 +237,55 @@ public class ObjectSet implements /*Serializable,*/ Iterable<Long> { // FIXME
 
             @Override
             public Long next() {
-                currentPosition = objects.nextSetBit(currentPosition + 1);
+                currentPosition = nextIndex(currentPosition + 1);
                 if (currentPosition == -1)
                     throw new NoSuchElementException("iteration has no more elements");
-                return (long) (firstObjectNo + (currentPosition * stripeWidth));
+                return toObjectNo(currentPosition);
             }
 
             @Override
             public boolean hasNext() {
-                return (objects.nextSetBit(currentPosition + 1) == -1) ? false : true;
+                return nextIndex(currentPosition + 1) != -1;
             }
 
             @Override
             public void remove() {
-                objects.clear(currentPosition);
+                removeIndex(currentPosition);
             }
         };
     }
 
     /**
-     * 
+     *
      * @see java.util.Set#remove(java.lang.Object)
      */
     public boolean remove(Long object) {
-        if (objects.get((int) (object / stripeWidth))) {
-            objects.clear((int) (object / stripeWidth));
-            return true;
-        } else
-            return false;
+        return removeIndex((int) (object / stripeWidth));
     }
 
     /**
-     * 
+     *
      * @see java.util.Set#isEmpty()
      */
     public boolean isEmpty() {
-        return objects.isEmpty(); // O(1)
+        return cardinality == 0; // O(1)
     }
 
     /**
-     * 
+     *
      * @see java.util.Set#size()
      */
     public int size() {
-        return objects.cardinality(); // O(n)
+        return cardinality; // O(1)
     }
 
     /**
-     * 
+     *
      * @see java.util.Set#clear()
      */
     public void clear() {
-        objects.clear();
+        chunks.clear();
+        cardinality = 0;
     }
 
     /**
@@ -224,8 +294,13 @@ public class ObjectSet implements /*Serializable,*/ Iterable<Long> { // FIXME
     public boolean equals(Object obj) {
         if (obj instanceof ObjectSet) {
             ObjectSet otherSet = (ObjectSet) obj;
-            return stripeWidth == otherSet.stripeWidth && firstObjectNo == otherSet.firstObjectNo
-                    && objects.equals(otherSet.objects);
+            if (stripeWidth != otherSet.stripeWidth || firstObjectNo != otherSet.firstObjectNo
+                    || cardinality != otherSet.cardinality || chunks.size() != otherSet.chunks.size())
+                return false;
+            for (int i = 0; i < chunks.size(); i++)
+                if (!chunks.get(i).equals(otherSet.chunks.get(i)))
+                    return false;
+            return true;
         } else
             return false;
     }
@@ -233,57 +308,254 @@ public class ObjectSet implements /*Serializable,*/ Iterable<Long> { // FIXME
     /**
      * Generates the intersection of this set and the given set. Modifies this set, so only the objects which
      * are contained in both sets remain.
-     * 
+     *
      * @param otherSet
      * @return
      */
     public boolean intersection(ObjectSet otherSet) {
-        if (stripeWidth != otherSet.stripeWidth || firstObjectNo != otherSet.firstObjectNo)
-            throw new IllegalArgumentException(
-                    "The sets are not compatible. They must have the same stripe width and first object number.");
-        int previousLength = objects.cardinality();
-        objects.and(otherSet.objects);
-        return (objects.cardinality() != previousLength) ? true : false;
+        checkCompatibility(otherSet);
+        int previousLength = cardinality;
+
+        ArrayList<Chunk> result = new ArrayList<Chunk>(Math.min(chunks.size(), otherSet.chunks.size()));
+        int newCardinality = 0;
+        for (int i = 0, j = 0; i < chunks.size() && j < otherSet.chunks.size();) {
+            Chunk chunk = chunks.get(i);
+            Chunk otherChunk = otherSet.chunks.get(j);
+            if (chunk.key < otherChunk.key)
+                i++;
+            else if (chunk.key > otherChunk.key)
+                j++;
+            else {
+                Chunk and = Chunk.and(chunk, otherChunk);
+                if (and != null) {
+                    result.add(and);
+                    newCardinality += and.cardinality;
+                }
+                i++;
+                j++;
+            }
+        }
+        chunks = result;
+        cardinality = newCardinality;
+
+        return cardinality != previousLength;
     }
 
     /**
      * Generates the union of this set and the given set. Modifies this set, so all objects which are
      * contained in one of the two sets remain.
-     * 
+     *
      * @param otherSet
      * @return
      */
     public boolean union(ObjectSet otherSet) {
-        if (stripeWidth != otherSet.stripeWidth || firstObjectNo != otherSet.firstObjectNo)
-            throw new IllegalArgumentException(
-                    "The sets are not compatible. They must have the same stripe width and first object number.");
-        int previousLength = objects.cardinality();
-        objects.or(otherSet.objects);
-        return (objects.cardinality() != previousLength) ? true : false;
+        checkCompatibility(otherSet);
+        int previousLength = cardinality;
+
+        ArrayList<Chunk> result = new ArrayList<Chunk>(chunks.size() + otherSet.chunks.size());
+        int newCardinality = 0;
+        int i = 0, j = 0;
+        while (i < chunks.size() || j < otherSet.chunks.size()) {
+            Chunk chunk = i < chunks.size() ? chunks.get(i) : null;
+            Chunk otherChunk = j < otherSet.chunks.size() ? otherSet.chunks.get(j) : null;
+            Chunk or;
+            if (otherChunk == null || (chunk != null && chunk.key < otherChunk.key)) {
+                or = chunk;
+                i++;
+            } else if (chunk == null || chunk.key > otherChunk.key) {
+                or = otherChunk.copy();
+                j++;
+            } else {
+                or = Chunk.or(chunk, otherChunk);
+                i++;
+                j++;
+            }
+            result.add(or);
+            newCardinality += or.cardinality;
+        }
+        chunks = result;
+        cardinality = newCardinality;
+
+        return cardinality != previousLength;
     }
 
+    /**
+     * Generates the difference of this set and the given set. Modifies this set, so only the objects which
+     * are not contained in the given set remain.
+     *
+     * @param otherSet
+     * @return true, if the set has changed
+     */
+    public boolean difference(ObjectSet otherSet) {
+        checkCompatibility(otherSet);
+        int previousLength = cardinality;
+
+        ArrayList<Chunk> result = new ArrayList<Chunk>(chunks.size());
+        int newCardinality = 0;
+        for (int i = 0, j = 0; i < chunks.size(); i++) {
+            Chunk chunk = chunks.get(i);
+            while (j < otherSet.chunks.size() && otherSet.chunks.get(j).key < chunk.key)
+                j++;
+            Chunk andNot = j < otherSet.chunks.size() && otherSet.chunks.get(j).key == chunk.key ? Chunk.andNot(
+                    chunk, otherSet.chunks.get(j)) : chunk;
+            if (andNot != null) {
+                result.add(andNot);
+                newCardinality += andNot.cardinality;
+            }
+        }
+        chunks = result;
+        cardinality = newCardinality;
+
+        return cardinality != previousLength;
+    }
+
+    /**
+     * Replaces the set by its complement with respect to all objects up to the given object.
+     *
+     * @param lastObject
+     * @return true, if the set has changed
+     */
     public boolean complement(int lastObject) {
-        int indexOfLastObject = lastObject / stripeWidth;
-        int previousLength = objects.size();
+        int lastIndex = lastObject / stripeWidth;
+        if (lastIndex < 0)
+            return false;
+
+        int lastKey = lastIndex >>> 16;
+        ArrayList<Chunk> result = new ArrayList<Chunk>(lastKey + 1);
+        int newCardinality = 0;
+        int pos = 0;
+        for (int key = 0; key <= lastKey; key++) {
+            long[] bitmap;
+            if (pos < chunks.size() && chunks.get(pos).key == key)
+                bitmap = chunks.get(pos++).toBitmapWords();
+            else
+                bitmap = new long[BITMAP_WORDS];
 
-        if (objects.size() - 1 < indexOfLastObject)
-            objects.clear(indexOfLastObject);
-        objects.flip(0, objects.size());
+            // flip all indices of the chunk up to the last index
+            int last = key == lastKey ? lastIndex & 0xFFFF : 0xFFFF;
+            for (int w = 0; w < (last >>> 6); w++)
+                bitmap[w] = ~bitmap[w];
+            bitmap[last >>> 6] ^= -1L >>> (63 - (last & 63));
 
-        return (objects.size() != previousLength) ? true : false;
+            Chunk chunk = Chunk.fromBitmap(key, bitmap);
+            if (chunk != null) {
+                result.add(chunk);
+                newCardinality += chunk.cardinality;
+            }
+        }
+        for (; pos < chunks.size(); pos++) {
+            result.add(chunks.get(pos));
+            newCardinality += chunks.get(pos).cardinality;
+        }
+        chunks = result;
+        cardinality = newCardinality;
+
+        return true;
     }
-    
+
     @Override
     public String toString() {
+        StringBuilder objects = new StringBuilder("{");
+        for (int i = nextIndex(0); i != -1; i = nextIndex(i + 1)) {
+            if (objects.length() > 1)
+                objects.append(", ");
+            objects.append(i);
+        }
+        objects.append("}");
         return "stripe width: " + stripeWidth + ", first objectNo: " + firstObjectNo + ", objects: "
                 + objects.toString();
     }
 
     @Override
     public ObjectSet clone() throws CloneNotSupportedException {
-        ObjectSet clone = new ObjectSet(this.stripeWidth, this.firstObjectNo, this.objects.size());
-        clone.objects.or(this.objects);
-        return clone;
+        return new ObjectSet(this);
+    }
+
+    private void checkCompatibility(ObjectSet otherSet) {
+        if (stripeWidth != otherSet.stripeWidth || firstObjectNo != otherSet.firstObjectNo)
+            throw new IllegalArgumentException(
+                    "The sets are not compatible. They must have the same stripe width and first object number.");
+    }
+
+    private Long toObjectNo(int index) {
+        return firstObjectNo + ((long) index * stripeWidth);
+    }
+
+    /**
+     * Returns the position of the chunk with the given key, or <code>-(insertion point) - 1</code> if there is
+     * no such chunk.
+     */
+    private int findChunk(int key) {
+        int low = 0;
+        int high = chunks.size() - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int midKey = chunks.get(mid).key;
+            if (midKey < key)
+                low = mid + 1;
+            else if (midKey > key)
+                high = mid - 1;
+            else
+                return mid;
+        }
+        return -(low + 1);
+    }
+
+    private boolean addIndex(int index) {
+        int key = index >>> 16;
+        int pos = findChunk(key);
+        Chunk chunk;
+        if (pos >= 0)
+            chunk = chunks.get(pos);
+        else {
+            chunk = new Chunk(key);
+            chunks.add(-pos - 1, chunk);
+        }
+
+        if (chunk.add(index & 0xFFFF)) {
+            cardinality++;
+            return true;
+        }
+        return false;
+    }
+
+    private boolean removeIndex(int index) {
+        int pos = findChunk(index >>> 16);
+        if (pos < 0)
+            return false;
+
+        Chunk chunk = chunks.get(pos);
+        if (!chunk.remove(index & 0xFFFF))
+            return false;
+
+        if (chunk.cardinality == 0)
+            chunks.remove(pos);
+        cardinality--;
+        return true;
+    }
+
+    /**
+     * Returns the smallest index in the set that is greater than or equal to the given index, or -1 if there
+     * is none.
+     */
+    private int nextIndex(int fromIndex) {
+        if (fromIndex < 0)
+            return -1;
+
+        int key = fromIndex >>> 16;
+        int pos = findChunk(key);
+        if (pos >= 0) {
+            int low = chunks.get(pos).next(fromIndex & 0xFFFF);
+            if (low != -1)
+                return (key << 16) | low;
+            pos++;
+        } else
+            pos = -pos - 1;
+
+        if (pos == chunks.size())
+            return -1;
+        Chunk chunk = chunks.get(pos);
+        return (chunk.key << 16) | chunk.next(0);
     }
 
     /*
@@ -296,20 +568,110 @@ public class ObjectSet implements /*Serializable,*/ Iterable<Long> { // FIXME
     /**
      * Returns NOT the first element of the set, but returns the internal value of the field
      * <code>firstObjectNo</code>.
-     * 
+     *
      * @return
      */
     public int getFirstObjectNo() {
         return firstObjectNo;
     }
 
+    /**
+     * Serializes the set in the {@link ObjectSetFormat#OBJECT_SET_FORMAT_JAVA_BITSET} format, which is
+     * understood by all OSDs and clients.
+     */
     public byte[] getSerializedBitSet() throws IOException {
-        return serializeAndCompress(objects);
+        return serialize(ObjectSetFormat.OBJECT_SET_FORMAT_JAVA_BITSET);
+    }
+
+    /**
+     * Serializes the set in the given format.
+     */
+    public byte[] serialize(ObjectSetFormat format) throws IOException {
+        switch (format) {
+        case OBJECT_SET_FORMAT_JAVA_BITSET: {
+            BitSet objects = new BitSet();
+            for (Chunk chunk : chunks)
+                for (int low = chunk.next(0); low != -1; low = low == 0xFFFF ? -1 : chunk.next(low + 1))
+                    objects.set((chunk.key << 16) | low);
+            return serializeAndCompress(objects);
+        }
+        case OBJECT_SET_FORMAT_RUNS_V1:
+            return serializeRuns();
+        default:
+            throw new IOException("unknown object set format: " + format);
+        }
+    }
+
+    /**
+     * Creates an object list that contains the set, serialized in the latest format that is supported by both
+     * this OSD and the receiver.
+     *
+     * @param receiverFormat
+     *            the latest format supported by the receiver
+     */
+    public ObjectList toObjectList(ObjectSetFormat receiverFormat) throws IOException {
+        ObjectSetFormat format = receiverFormat.getNumber() < LATEST_FORMAT.getNumber() ? receiverFormat
+                : LATEST_FORMAT;
+        return ObjectList.newBuilder().setSet(ByteString.copyFrom(serialize(format))).setFormat(format)
+                .setStripeWidth(stripeWidth).setFirst(firstObjectNo).build();
+    }
+
+    private byte[] serializeRuns() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(16 + 4 * chunks.size());
+        writeVarInt(out, chunks.size());
+        int previousKey = 0;
+        for (Chunk chunk : chunks) {
+            writeVarInt(out, chunk.key - previousKey);
+            previousKey = chunk.key;
+            chunk.write(out);
+        }
+        return out.toByteArray();
+    }
+
+    private void deserializeRuns(byte[] serializedSet) throws IOException {
+        Input in = new Input(serializedSet);
+        int numChunks = in.readVarInt();
+        if (numChunks > 0x10000)
+            throw new IOException("malformed object set: too many chunks");
+
+        int key = 0;
+        for (int i = 0; i < numChunks; i++) {
+            int delta = in.readVarInt();
+            if (i > 0 && delta == 0)
+                throw new IOException("malformed object set: chunks not in ascending order");
+            key += delta;
+            if (key > 0xFFFF)
+                throw new IOException("malformed object set: chunk key out of range");
+
+            Chunk chunk = Chunk.read(key, in);
+            chunks.add(chunk);
+            cardinality += chunk.cardinality;
+        }
+
+        if (!in.isAtEnd())
+            throw new IOException("malformed object set: trailing data");
+    }
+
+    private static void writeVarInt(ByteArrayOutputStream out, int value) {
+        while ((value & ~0x7F) != 0) {
+            out.write((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.write(value);
+    }
+
+    private static int varIntSize(int value) {
+        int size = 1;
+        while ((value & ~0x7F) != 0) {
+            size++;
+            value >>>= 7;
+        }
+        return size;
     }
 
     /**
      * Serializes the given BitSet.
-     * 
+     *
      * @param set
      * @return
      * @throws IOException
@@ -326,7 +688,7 @@ public class ObjectSet implements /*Serializable,*/ Iterable<Long> { // FIXME
 
     /**
      * Serializes and compresses the given BitSet.
-     * 
+     *
      * @param set
      * @return
      * @throws IOException
@@ -345,7 +707,7 @@ public class ObjectSet implements /*Serializable,*/ Iterable<Long> { // FIXME
 
     /**
      * Deserializes the given object.
-     * 
+     *
      * @param set
      * @return
      * @throws IOException
@@ -365,7 +727,7 @@ public class ObjectSet implements /*Serializable,*/ Iterable<Long> { // FIXME
 
     /**
      * Deserializes and decompresses the given object.
-     * 
+     *
      * @param set
      * @return
      * @throws IOException
@@ -383,4 +745,452 @@ public class ObjectSet implements /*Serializable,*/ Iterable<Long> { // FIXME
 
         return (BitSet) o;
     }
+
+    /**
+     * A chunk of 2^16 indices that share their upper 16 bits.
+     */
+    protected static final class Chunk {
+
+        /**
+         * the upper 16 bits of the indices
+         */
+        final int key;
+
+        int       cardinality;
+
+        /**
+         * the sorted lower 16 bits of the indices, if the chunk contains at most {@link #ARRAY_MAX_SIZE}
+         * indices; null otherwise
+         */
+        char[]    array;
+
+        /**
+         * the indices as a bitmap, if array is null
+         */
+        long[]    bitmap;
+
+        Chunk(int key) {
+            this(key, 0, new char[4], null);
+        }
+
+        private Chunk(int key, int cardinality, char[] array, long[] bitmap) {
+            this.key = key;
+            this.cardinality = cardinality;
+            this.array = array;
+            this.bitmap = bitmap;
+        }
+
+        Chunk copy() {
+            return new Chunk(key, cardinality, array == null ? null : Arrays.copyOf(array, cardinality),
+                    bitmap == null ? null : bitmap.clone());
+        }
+
+        boolean contains(int low) {
+            if (array != null)
+                return Arrays.binarySearch(array, 0, cardinality, (char) low) >= 0;
+            return (bitmap[low >>> 6] & (1L << low)) != 0;
+        }
+
+        boolean add(int low) {
+            if (array != null) {
+                int pos = Arrays.binarySearch(array, 0, cardinality, (char) low);
+                if (pos >= 0)
+                    return false;
+
+                if (cardinality == ARRAY_MAX_SIZE) {
+                    toBitmap();
+                    return add(low);
+                }
+
+                pos = -pos - 1;
+                if (cardinality == array.length)
+                    array = Arrays.copyOf(array, Math.min(2 * array.length, ARRAY_MAX_SIZE));
+                System.arraycopy(array, pos, array, pos + 1, cardinality - pos);
+                array[pos] = (char) low;
+                cardinality++;
+                return true;
+            }
+
+            long bit = 1L << low;
+            if ((bitmap[low >>> 6] & bit) != 0)
+                return false;
+            bitmap[low >>> 6] |= bit;
+            cardinality++;
+            return true;
+        }
+
+        boolean remove(int low) {
+            if (array != null) {
+                int pos = Arrays.binarySearch(array, 0, cardinality, (char) low);
+                if (pos < 0)
+                    return false;
+                System.arraycopy(array, pos + 1, array, pos, cardinality - pos - 1);
+                cardinality--;
+                return true;
+            }
+
+            long bit = 1L << low;
+            if ((bitmap[low >>> 6] & bit) == 0)
+                return false;
+            bitmap[low >>> 6] &= ~bit;
+            cardinality--;
+
+            // convert back with some hysteresis, to avoid converting back and forth
+            if (cardinality <= ARRAY_MAX_SIZE / 2)
+                toArray();
+            return true;
+        }
+
+        /**
+         * Returns the smallest lower 16 bits of an index in the chunk that are greater than or equal to the
+         * given ones, or -1 if there are none.
+         */
+        int next(int low) {
+            if (array != null) {
+                int pos = Arrays.binarySearch(array, 0, cardinality, (char) low);
+                if (pos < 0)
+                    pos = -pos - 1;
+                return pos < cardinality ? array[pos] : -1;
+            }
+
+            int w = low >>> 6;
+            long word = bitmap[w] & (-1L << low);
+            while (word == 0) {
+                if (++w == BITMAP_WORDS)
+                    return -1;
+                word = bitmap[w];
+            }
+            return (w << 6) + Long.numberOfTrailingZeros(word);
+        }
+
+        /**
+         * Returns the lower 16 bits of the index with the given rank.
+         */
+        int select(int rank) {
+            if (array != null)
+                return array[rank];
+
+            for (int w = 0;; w++) {
+                long word = bitmap[w];
+                int count = Long.bitCount(word);
+                if (rank < count) {
+                    for (; rank > 0; rank--)
+                        word &= word - 1;
+                    return (w << 6) + Long.numberOfTrailingZeros(word);
+                }
+                rank -= count;
+            }
+        }
+
+        long[] toBitmapWords() {
+            if (bitmap != null)
+                return bitmap.clone();
+
+            long[] words = new long[BITMAP_WORDS];
+            for (int i = 0; i < cardinality; i++)
+                words[array[i] >>> 6] |= 1L << array[i];
+            return words;
+        }
+
+        private void toBitmap() {
+            bitmap = toBitmapWords();
+            array = null;
+        }
+
+        private void toArray() {
+            char[] values = new char[cardinality];
+            int i = 0;
+            for (int w = 0; w < BITMAP_WORDS; w++)
+                for (long word = bitmap[w]; word != 0; word &= word - 1)
+                    values[i++] = (char) ((w << 6) + Long.numberOfTrailingZeros(word));
+            array = values;
+            bitmap = null;
+        }
+
+        /**
+         * Creates a chunk from a bitmap, or returns null if the bitmap is empty.
+         */
+        static Chunk fromBitmap(int key, long[] bitmap) {
+            int cardinality = 0;
+            for (long word : bitmap)
+                cardinality += Long.bitCount(word);
+            if (cardinality == 0)
+                return null;
+
+            Chunk chunk = new Chunk(key, cardinality, null, bitmap);
+            if (cardinality <= ARRAY_MAX_SIZE)
+                chunk.toArray();
+            return chunk;
+        }
+
+        /**
+         * Returns the intersection of two chunks with the same key, or null if it is empty.
+         */
+        static Chunk and(Chunk a, Chunk b) {
+            if (a.array != null && b.array != null) {
+                char[] values = new char[Math.min(a.cardinality, b.cardinality)];
+                int n = 0;
+                for (int i = 0, j = 0; i < a.cardinality && j < b.cardinality;) {
+                    if (a.array[i] < b.array[j])
+                        i++;
+                    else if (a.array[i] > b.array[j])
+                        j++;
+                    else {
+                        values[n++] = a.array[i];
+                        i++;
+                        j++;
+                    }
+                }
+                return n == 0 ? null : new Chunk(a.key, n, values, null);
+            }
+
+            if (a.array != null || b.array != null) {
+                Chunk small = a.array != null ? a : b;
+                Chunk large = a.array != null ? b : a;
+                char[] values = new char[small.cardinality];
+                int n = 0;
+                for (int i = 0; i < small.cardinality; i++)
+                    if (large.contains(small.array[i]))
+                        values[n++] = small.array[i];
+                return n == 0 ? null : new Chunk(a.key, n, values, null);
+            }
+
+            long[] words = new long[BITMAP_WORDS];
+            for (int w = 0; w < BITMAP_WORDS; w++)
+                words[w] = a.bitmap[w] & b.bitmap[w];
+            return fromBitmap(a.key, words);
+        }
+
+        /**
+         * Returns the indices of the first chunk that are not contained in the second chunk with the same key,
+         * or null if there are none.
+         */
+        static Chunk andNot(Chunk a, Chunk b) {
+            if (a.array != null) {
+                char[] values = new char[a.cardinality];
+                int n = 0;
+                for (int i = 0; i < a.cardinality; i++)
+                    if (!b.contains(a.array[i]))
+                        values[n++] = a.array[i];
+                return n == 0 ? null : new Chunk(a.key, n, values, null);
+            }
+
+            long[] words = a.bitmap.clone();
+            if (b.array != null) {
+                for (int i = 0; i < b.cardinality; i++)
+                    words[b.array[i] >>> 6] &= ~(1L << b.array[i]);
+            } else {
+                for (int w = 0; w < BITMAP_WORDS; w++)
+                    words[w] &= ~b.bitmap[w];
+            }
+            return fromBitmap(a.key, words);
+        }
+
+        /**
+         * Returns the union of two chunks with the same key.
+         */
+        static Chunk or(Chunk a, Chunk b) {
+            if (a.array != null && b.array != null && a.cardinality + b.cardinality <= ARRAY_MAX_SIZE) {
+                char[] values = new char[a.cardinality + b.cardinality];
+                int n = 0;
+                int i = 0, j = 0;
+                while (i < a.cardinality && j < b.cardinality) {
+                    if (a.array[i] < b.array[j])
+                        values[n++] = a.array[i++];
+                    else if (a.array[i] > b.array[j])
+                        values[n++] = b.array[j++];
+                    else {
+                        values[n++] = a.array[i++];
+                        j++;
+                    }
+                }
+                while (i < a.cardinality)
+                    values[n++] = a.array[i++];
+                while (j < b.cardinality)
+                    values[n++] = b.array[j++];
+                return new Chunk(a.key, n, values, null);
+            }
+
+            long[] words = a.toBitmapWords();
+            if (b.array != null) {
+                for (int i = 0; i < b.cardinality; i++)
+                    words[b.array[i] >>> 6] |= 1L << b.array[i];
+            } else {
+                for (int w = 0; w < BITMAP_WORDS; w++)
+                    words[w] |= b.bitmap[w];
+            }
+            return fromBitmap(a.key, words);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof Chunk))
+                return false;
+
+            Chunk other = (Chunk) obj;
+            if (key != other.key || cardinality != other.cardinality)
+                return false;
+            if (array != null && other.array != null) {
+                for (int i = 0; i < cardinality; i++)
+                    if (array[i] != other.array[i])
+                        return false;
+                return true;
+            }
+            return Arrays.equals(toBitmapWords(), other.toBitmapWords());
+        }
+
+        @Override
+        public int hashCode() {
+            return key * 31 + cardinality;
+        }
+
+        /**
+         * Writes the encoding of the indices that requires the least space.
+         */
+        void write(ByteArrayOutputStream out) {
+
+            // determine the sizes of the array and run encodings
+            int arraySize = varIntSize(cardinality);
+            int numRuns = 0;
+            int runsSize = 0;
+            int previous = -1;
+            int runStart = -1;
+            int runEnd = 0;
+            for (int low = next(0); low != -1; low = low == 0xFFFF ? -1 : next(low + 1)) {
+                arraySize += varIntSize(previous == -1 ? low : low - previous);
+                if (low != previous + 1 || previous == -1) {
+                    if (runStart != -1)
+                        runsSize += varIntSize(previous - runStart);
+                    runsSize += varIntSize(low - runEnd);
+                    numRuns++;
+                    runStart = low;
+                }
+                runEnd = low + 1;
+                previous = low;
+            }
+            runsSize += varIntSize(previous - runStart) + varIntSize(numRuns);
+
+            if (runsSize <= arraySize && runsSize <= 8 * BITMAP_WORDS) {
+                out.write(ENCODING_RUNS);
+                writeVarInt(out, numRuns);
+                runEnd = 0;
+                for (int low = next(0); low != -1;) {
+                    int end = low;
+                    while (end < 0xFFFF && contains(end + 1))
+                        end++;
+                    writeVarInt(out, low - runEnd);
+                    writeVarInt(out, end - low);
+                    runEnd = end + 1;
+                    low = end == 0xFFFF ? -1 : next(end + 1);
+                }
+            } else if (arraySize <= 8 * BITMAP_WORDS) {
+                out.write(ENCODING_ARRAY);
+                writeVarInt(out, cardinality);
+                previous = -1;
+                for (int low = next(0); low != -1; low = low == 0xFFFF ? -1 : next(low + 1)) {
+                    writeVarInt(out, previous == -1 ? low : low - previous);
+                    previous = low;
+                }
+            } else {
+                out.write(ENCODING_BITMAP);
+                long[] words = toBitmapWords();
+                for (long word : words)
+                    for (int i = 0; i < 8; i++)
+                        out.write((int) (word >>> (8 * i)));
+            }
+        }
+
+        static Chunk read(int key, Input in) throws IOException {
+            int encoding = in.readByte();
+            switch (encoding) {
+            case ENCODING_ARRAY: {
+                int n = in.readVarInt();
+                if (n <= 0 || n > 0x10000)
+                    throw new IOException("malformed object set: invalid number of indices");
+
+                Chunk chunk = new Chunk(key, 0, new char[Math.min(n, ARRAY_MAX_SIZE)], null);
+                int previous = -1;
+                for (int i = 0; i < n; i++) {
+                    int delta = in.readVarInt();
+                    if (previous != -1 && delta == 0)
+                        throw new IOException("malformed object set: indices not in ascending order");
+                    int low = previous == -1 ? delta : previous + delta;
+                    if (low > 0xFFFF)
+                        throw new IOException("malformed object set: index out of range");
+                    chunk.add(low);
+                    previous = low;
+                }
+                return chunk;
+            }
+            case ENCODING_RUNS: {
+                int numRuns = in.readVarInt();
+                if (numRuns <= 0 || numRuns > 0x8000)
+                    throw new IOException("malformed object set: invalid number of runs");
+
+                long[] words = new long[BITMAP_WORDS];
+                int runEnd = 0;
+                for (int i = 0; i < numRuns; i++) {
+                    int start = runEnd + in.readVarInt();
+                    int end = start + in.readVarInt();
+                    if (start < runEnd || end < start || end > 0xFFFF)
+                        throw new IOException("malformed object set: run out of range");
+                    for (int low = start; low <= end; low++)
+                        words[low >>> 6] |= 1L << low;
+                    runEnd = end + 1;
+                }
+                return fromBitmap(key, words);
+            }
+            case ENCODING_BITMAP: {
+                long[] words = new long[BITMAP_WORDS];
+                for (int w = 0; w < BITMAP_WORDS; w++)
+                    for (int i = 0; i < 8; i++)
+                        words[w] |= (long) in.readByte() << (8 * i);
+                Chunk chunk = fromBitmap(key, words);
+                if (chunk == null)
+                    throw new IOException("malformed object set: empty chunk");
+                return chunk;
+            }
+            default:
+                throw new IOException("malformed object set: unknown chunk encoding " + encoding);
+            }
+        }
+    }
+
+    /**
+     * Reads bytes and varints from a serialized set.
+     */
+    private static final class Input {
+
+        private final byte[] data;
+
+        private int          position;
+
+        Input(byte[] data) {
+            this.data = data;
+        }
+
+        int readByte() throws IOException {
+            if (position == data.length)
+                throw new IOException("malformed object set: unexpected end of data");
+            return data[position++] & 0xFF;
+        }
+
+        int readVarInt() throws IOException {
+            int value = 0;
+            for (int shift = 0; shift < 32; shift += 7) {
+                int b = readByte();
+                value |= (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    if (value < 0)
+                        throw new IOException("malformed object set: varint out of range");
+                    return value;
+                }
+            }
+            throw new IOException("malformed object set: varint too long");
+        }
+
+        boolean isAtEnd() {
+            return position == data.length;
+        }
+    }
 }
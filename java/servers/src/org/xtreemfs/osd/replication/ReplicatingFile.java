@@ -87,6 +87,12 @@ class ReplicatingFile {
          */
         InternalObjectData                 data            = null;
         
+        /**
+         * the time at which the last fetch request for the object was sent
+         * (in ns)
+         */
+        long                               fetchStartNanos;
+        
         public ReplicatingObject(long objectNo) {
             this.objectNo = objectNo;
         }
@@ -302,13 +308,13 @@ class ReplicatingFile {
     /**
      * the absolute maximum that can be set for maxRequestsPerFile
      */
-    private static final int                 MAX_MAX_OBJECTS_IN_PROGRESS = 5;
+    private static final int                 MAX_MAX_OBJECTS_IN_PROGRESS = 32;
     
     private final OSDRequestDispatcher       master;
     
     /**
-     * controls how many fetch-object-requests will be sent per file (used for
-     * load-balancing)
+     * controls how many fetch-object-requests will be sent per file at most,
+     * regardless of the transfer window (used for load-balancing)
      */
     private static int                       maxObjectsInProgress;
     
@@ -316,6 +322,11 @@ class ReplicatingFile {
     
     private final TransferStrategy           strategy;
     
+    /**
+     * adapts the number of objects in progress to the available bandwidth
+     */
+    private final TransferWindow             window;
+    
     private final long                       lastObject;
     
     private XLocations                       xLoc;
@@ -367,6 +378,7 @@ class ReplicatingFile {
         this.cancelled = false;
         this.objectsInProgress = new HashMap<Long, ReplicatingObject>();
         this.waitingRequests = new HashMap<Long, ReplicatingObject>();
+        this.window = new TransferWindow(MAX_MAX_OBJECTS_IN_PROGRESS);
         
         // IMPORTANT: stripe size must be the same in all striping policies
         StripingPolicyImpl sp = xLoc.getLocalReplica().getStripingPolicy();
@@ -525,7 +537,7 @@ class ReplicatingFile {
      * @throws TransferStrategyException
      */
     public void replicate() throws TransferStrategyException {
-        while (objectsInProgress.size() < maxObjectsInProgress) {
+        while (objectsInProgress.size() < Math.min(window.getSize(), maxObjectsInProgress)) {
             strategy.selectNext();
             NextRequest next = strategy.getNext();
             
@@ -566,6 +578,8 @@ class ReplicatingFile {
         try {
             boolean objectCompleted = object.objectFetched(data, usedOSD);
             if (objectCompleted) {
+                window.fetched(usedOSD.toString(), System.nanoTime() - object.fetchStartNanos,
+                    objectsInProgress.size());
                 objectReplicationCompleted(objectNo);
                 
                 // if (!strategy.isObjectListEmpty()) { // there are still
@@ -631,6 +645,8 @@ class ReplicatingFile {
         ReplicatingObject object = objectsInProgress.get(objectNo);
         assert (object != null);
         
+        window.failed();
+        
         try {
             boolean objectCompleted = object.objectNotFetchedBecauseError(error, usedOSD);
             if (objectCompleted) {
@@ -696,13 +712,15 @@ class ReplicatingFile {
         // check that the load-restriction works
         assert (objectsInProgress.size() <= MAX_MAX_OBJECTS_IN_PROGRESS);
         
+        objectsInProgress.get(objectNo).fetchStartNanos = System.nanoTime();
+        
         OSDServiceClient client = master.getOSDClientForReplication();
         // IMPORTANT: stripe size must be the same in all striping policies
         FileCredentials fcred = FileCredentials.newBuilder().setXcap(cap.getXCap()).setXlocs(xLoc.getXLocSet()).build();
         RPCResponse<InternalReadLocalResponse> response = client.xtreemfs_internal_read_local(osd.getAddress(), RPCAuthentication.authNone,RPCAuthentication.userService,
             fcred, fileID, objectNo, 0, 0, xLoc
                     .getLocalReplica().getStripingPolicy().getStripeSizeForObject(objectNo), attachObjectSet,
-            new ArrayList(0));
+            new ArrayList(0), ObjectSet.LATEST_FORMAT);
         
         response.registerListener(new RPCResponseAvailableListener<InternalReadLocalResponse>() {
             @Override
@@ -802,7 +820,8 @@ class ReplicatingFile {
     }
     
     /**
-     * adjust this value for load-balancing
+     * adjust this value for load-balancing; it limits the transfer window of
+     * each file
      * 
      * @param maxObjects
      */
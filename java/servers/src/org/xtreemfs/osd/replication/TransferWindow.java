@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2015 by Zuse Institute Berlin
+ *
+ * Licensed under the BSD License, see LICENSE file for details.
+ *
+ */
+
+package org.xtreemfs.osd.replication;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Adapts the number of objects of a file that are fetched concurrently to the
+ * available bandwidth, similar to TCP congestion control. The window grows by
+ * one object per fetched object until the fetch latency exceeds the lowest
+ * latency observed for the same source OSD by more than
+ * {@link #MIN_QUEUEING_DELAY_NANOS} or the lowest latency itself, which
+ * indicates that requests queue up at the source OSD or in the network. The
+ * lowest latency is tracked per source OSD, as the round-trip times of the
+ * replicas of a file may differ widely. Afterwards, it grows by one object per window
+ * (additive increase). Queueing shrinks the window by one object per window,
+ * failed fetches halve it (multiplicative decrease).
+ * <p>
+ * The window only grows while it is fully used. It is not thread-safe, as it is
+ * only accessed by the replication stage.
+ */
+public class TransferWindow {
+
+    /**
+     * the number of objects that are fetched concurrently when a transfer
+     * starts
+     */
+    public static final int  INITIAL_SIZE             = 2;
+
+    /**
+     * the latency increase that is tolerated without assuming queueing, to
+     * avoid reacting to jitter if latencies are small
+     */
+    public static final long MIN_QUEUEING_DELAY_NANOS = 5L * 1000 * 1000;
+
+    /**
+     * the number of fetches after which the lowest latency is determined anew,
+     * so that the window follows changes of the network and of the load of the
+     * source OSDs
+     */
+    public static final int  MIN_LATENCY_SAMPLES      = 256;
+
+    private final int        maxSize;
+
+    private double           size;
+
+    private boolean          slowStart;
+
+    private final Map<String, SourceLatency> latencies;
+
+    public TransferWindow(int maxSize) {
+        assert (maxSize >= 1);
+        this.maxSize = maxSize;
+        this.size = Math.min(INITIAL_SIZE, maxSize);
+        this.slowStart = true;
+        this.latencies = new HashMap<String, SourceLatency>();
+    }
+
+    /**
+     * Returns the number of objects that may be fetched concurrently.
+     */
+    public int getSize() {
+        return (int) size;
+    }
+
+    /**
+     * Adapts the window to a successfully fetched object.
+     *
+     * @param source
+     *            the UUID of the OSD the object was fetched from
+     * @param latencyNanos
+     *            the time between sending the request and processing the
+     *            response
+     * @param inFlight
+     *            the number of objects that were being fetched, including the
+     *            fetched object
+     */
+    public void fetched(String source, long latencyNanos, int inFlight) {
+
+        SourceLatency latency = latencies.get(source);
+        if (latency == null) {
+            latency = new SourceLatency();
+            latencies.put(source, latency);
+        }
+        long minLatencyNanos = latency.sample(latencyNanos);
+
+        if (latencyNanos - minLatencyNanos > Math.max(minLatencyNanos, MIN_QUEUEING_DELAY_NANOS)) {
+            slowStart = false;
+            size = Math.max(1, size - 1 / size);
+        } else if (inFlight >= (int) size) {
+            size = Math.min(maxSize, slowStart ? size + 1 : size + 1 / size);
+        }
+    }
+
+    /**
+     * Adapts the window to a fetch that failed, e.g. because the source OSD
+     * could not be reached.
+     */
+    public void failed() {
+        slowStart = false;
+        size = Math.max(1, size / 2);
+    }
+
+    public boolean isSlowStart() {
+        return slowStart;
+    }
+
+    /**
+     * The lowest latency of the fetches from a single source OSD.
+     */
+    private static final class SourceLatency {
+
+        private long minLatencyNanos     = Long.MAX_VALUE;
+
+        private long nextMinLatencyNanos = Long.MAX_VALUE;
+
+        private int  numSamples;
+
+        /**
+         * Adds a latency sample and returns the lowest latency.
+         */
+        long sample(long latencyNanos) {
+            if (latencyNanos < minLatencyNanos)
+                minLatencyNanos = latencyNanos;
+            if (latencyNanos < nextMinLatencyNanos)
+                nextMinLatencyNanos = latencyNanos;
+            if (++numSamples == MIN_LATENCY_SAMPLES) {
+                minLatencyNanos = nextMinLatencyNanos;
+                nextMinLatencyNanos = Long.MAX_VALUE;
+                numSamples = 0;
+            }
+            return minLatencyNanos;
+        }
+    }
+
+}
@@ -8,11 +8,11 @@
 
 package org.xtreemfs.osd.replication.selection;
 
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.TreeMap;
-import java.util.Map.Entry;
 
 import org.xtreemfs.common.uuids.ServiceUUID;
 import org.xtreemfs.osd.replication.ObjectSet;
@@ -20,11 +20,19 @@ import org.xtreemfs.osd.replication.transferStrategies.TransferStrategy.ObjectSe
 import org.xtreemfs.osd.replication.transferStrategies.TransferStrategy.TransferStrategyException;
 
 /**
- * 
+ * Selects the wanted objects that are available on the fewest OSDs first. The occurrences of the objects are
+ * determined with set operations on the object sets of the OSDs, which process the sets chunk by chunk instead
+ * of looking up each wanted object in each set. When the object set of an OSD changes, only the objects that
+ * have been added to or removed from it are moved to another occurrence.
  * <br>
  * 29.06.2009
  */
 public class RarestFirstObjectSelection {
+    /**
+     * the occurrence of objects that are not contained in any object set; they get the lowest priority
+     */
+    private static final int              NOT_FOUND = Integer.MAX_VALUE;
+
     /**
      * max. occurrence of objects == #replicas, so map should not be too big
      */
@@ -69,13 +77,15 @@ public class RarestFirstObjectSelection {
      * @param objectsOnOSDsMap
      */
     public void buildQueue(ObjectSet objects, Map<ServiceUUID, ObjectSetInfo> objectsOnOSDsMap) {
-        // iterate through all wanted objects
-        Iterator<Long> objectsIt = objects.iterator();
-        while (objectsIt.hasNext()) {
-            Long objectNo = objectsIt.next();
+        rarestObjects.clear();
 
-            addObject(objectNo, objectsOnOSDsMap);
-        }
+        // start with all wanted objects not being found, and move the objects of each OSD one occurrence up
+        rarestObjects.put(NOT_FOUND, new ObjectSet(toFullSet(objects)));
+        objectsCount = objects.size();
+
+        for (ObjectSetInfo setInfo : objectsOnOSDsMap.values())
+            if (setInfo.set != null)
+                increaseOccurrence(toFullSet(setInfo.set));
     }
 
     /**
@@ -96,7 +106,7 @@ public class RarestFirstObjectSelection {
         // if object occurres zero times, at least one map is missing (of a complete replica) => object gets the lowest
         // priority
         if (counter == 0)
-            counter = Integer.MAX_VALUE;
+            counter = NOT_FOUND;
 
         addObject(objectNo, counter);
     }
@@ -127,43 +137,90 @@ public class RarestFirstObjectSelection {
     }
 
     /**
+     * Updates the queue after the object set of an OSD has changed. This is an alternative to
+     * {@link #invalidateQueue()}, which only moves the added and removed objects.
      * 
-     * @param objects
      * @param oldObjectSet
+     *            the previous object set of the OSD, or null if there was none
      * @param newObjectSet
+     *            the new object set of the OSD
      */
-    /*
-     * alternative to invalidation; not used so far
+    public void objectSetChanged(ObjectSet oldObjectSet, ObjectSet newObjectSet) {
+        // the queue will be built when the next object is selected
+        if (objectsCount <= 0)
+            return;
+
+        ObjectSet newSet = toFullSet(newObjectSet);
+        ObjectSet added = new ObjectSet(newSet);
+        if (oldObjectSet != null) {
+            ObjectSet oldSet = toFullSet(oldObjectSet);
+            added.difference(oldSet);
+
+            ObjectSet removed = new ObjectSet(oldSet);
+            removed.difference(newSet);
+            if (!removed.isEmpty())
+                decreaseOccurrence(removed);
+        }
+        if (!added.isEmpty())
+            increaseOccurrence(added);
+    }
+
+    /**
+     * Increases the occurrence of all queued objects that are contained in the given set by one.
      */
-    public void newObjectSetArrived(ObjectSet objects, ObjectSet oldObjectSet, ObjectSet newObjectSet) {
-        ObjectSet objectSet;
-        if (oldObjectSet == null)
-            objectSet = new ObjectSet();
+    private void increaseOccurrence(ObjectSet objects) {
+        // start with the most frequent objects, so that no object is moved twice; objects that have not been
+        // found yet are the least frequent ones
+        List<Integer> occurrences = new ArrayList<Integer>(rarestObjects.descendingKeySet());
+        if (occurrences.remove(Integer.valueOf(NOT_FOUND)))
+            occurrences.add(NOT_FOUND);
+
+        for (int occurrence : occurrences)
+            moveObjects(occurrence, occurrence == NOT_FOUND ? 1 : occurrence + 1, objects);
+    }
+
+    /**
+     * Decreases the occurrence of all queued objects that are contained in the given set by one.
+     */
+    private void decreaseOccurrence(ObjectSet objects) {
+        // start with the least frequent objects, so that no object is moved twice
+        List<Integer> occurrences = new ArrayList<Integer>(rarestObjects.keySet());
+        occurrences.remove(Integer.valueOf(NOT_FOUND));
+
+        for (int occurrence : occurrences)
+            moveObjects(occurrence, occurrence == 1 ? NOT_FOUND : occurrence - 1, objects);
+    }
+
+    /**
+     * Moves all objects with the given occurrence that are contained in the given set to another occurrence.
+     */
+    private void moveObjects(int fromOccurrence, int toOccurrence, ObjectSet objects) {
+        ObjectSet from = rarestObjects.get(fromOccurrence);
+        ObjectSet moved = new ObjectSet(from);
+        moved.intersection(objects);
+        if (moved.isEmpty())
+            return;
+
+        from.difference(moved);
+        ObjectSet to = rarestObjects.get(toOccurrence);
+        if (to == null)
+            rarestObjects.put(toOccurrence, moved);
         else
-            objectSet = new ObjectSet(oldObjectSet);
-
-        // object set should only contain new objects (difference to old object set)
-        objectSet.complement(newObjectSet.size()-1);
-        objectSet.intersection(newObjectSet);
-        
-        // object set should only contain new wanted objects
-        objectSet.intersection(objects);
-
-        // iterate through all new wanted objects
-        Iterator<Long> objectsIt = objectSet.iterator();
-        while (objectsIt.hasNext()) {
-            Long objectNo = objectsIt.next();
-
-            // find objectNo in an objectSet
-            for (Entry<Integer, ObjectSet> e : rarestObjects.entrySet())
-                if (e.getValue().contains(objectNo)) {
-                    // increase occurrence of objectNo
-                    e.getValue().remove(objectNo);
-                    objectsCount--;
-                    addObject(objectNo, e.getKey() + 1);
-                    break;
-                }
-        }
+            to.union(moved);
+    }
+
+    /**
+     * Returns the given set, or a copy of it that can be combined with the sets of the queue if it only
+     * contains the objects of a single OSD of a striped replica.
+     */
+    private static ObjectSet toFullSet(ObjectSet set) {
+        if (set.getStripeWidth() == 1 && set.getFirstObjectNo() == 0)
+            return set;
+
+        ObjectSet fullSet = new ObjectSet(set.size());
+        for (Long objectNo : set)
+            fullSet.add(objectNo);
+        return fullSet;
     }
 
     public void removeObject(long objectNo) {
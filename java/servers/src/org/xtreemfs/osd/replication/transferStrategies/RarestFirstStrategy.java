@@ -60,8 +60,8 @@ public class RarestFirstStrategy extends RandomStrategy {
 
     @Override
     public void setOSDsObjectSet(ObjectSet set, ServiceUUID osd) {
-//        objectSelection.newObjectSetArrived(requiredObjects, objectsOnOSDs.get(osd).set, set);
-        objectSelection.invalidateQueue();
+        ObjectSetInfo oldSetInfo = objectsOnOSDs.get(osd);
+        objectSelection.objectSetChanged(oldSetInfo == null ? null : oldSetInfo.set, set);
         super.setOSDsObjectSet(set, osd);
     }
     
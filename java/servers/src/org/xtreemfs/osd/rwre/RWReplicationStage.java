@@ -157,7 +157,7 @@ public class RWReplicationStage extends Stage implements FleaseMessageSenderInte
 
         FleaseConfig fcfg = new FleaseConfig(master.getConfig().getFleaseLeaseToMS(), master.getConfig()
                 .getFleaseDmaxMS(), master.getConfig().getFleaseMsgToMS(), null, localID.toString(), master.getConfig()
-                .getFleaseRetries());
+                .getFleaseRetries(), true, 0, false, master.getConfig().getFleaseMessageBatchSize());
 
         fstage = new FleaseStage(fcfg, master.getConfig().getObjDir() + "/", this, false,
                 new FleaseViewChangeListenerInterface() {
@@ -1529,4 +1529,19 @@ public class RWReplicationStage extends Stage implements FleaseMessageSenderInte
         }
     }
 
+    /**
+     * Returns the number of files for which replication state is kept. The value is read without
+     * synchronization and may be slightly outdated.
+     */
+    public int getNumOpenFiles() {
+        return files.size();
+    }
+
+    /**
+     * Returns the number of objects currently being fetched from other replicas. The value is read without
+     * synchronization and may be slightly outdated.
+     */
+    public int getNumObjectsInFlight() {
+        return numObjsInFlight;
+    }
 }
@@ -9,16 +9,16 @@
 package org.xtreemfs.osd.stages;
 
 import java.io.IOException;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.TimeUnit;
 
 import org.xtreemfs.common.Capability;
 import org.xtreemfs.common.ReplicaUpdatePolicies;
 import org.xtreemfs.common.xloc.InvalidXLocationsException;
 import org.xtreemfs.common.xloc.XLocations;
-import org.xtreemfs.foundation.LRUCache;
+import org.xtreemfs.foundation.ConcurrentCache;
 import org.xtreemfs.foundation.TimeSync;
 import org.xtreemfs.foundation.buffer.ASCIIString;
 import org.xtreemfs.foundation.logging.Logging;
@@ -80,11 +80,13 @@ public class PreprocStage extends Stage {
 
     public final static int                                 STAGEOP_UPDATE_XLOC        = 17;
 
+    public final static int                                 STAGEOP_GET_CACHED_XLOC    = 18;
+
     private final static long                               OFT_CLEAN_INTERVAL         = 1000 * 60;
     
     private final static long                               OFT_OPEN_EXTENSION         = 1000 * 30;
     
-    private final Map<String, LRUCache<String, Capability>> capCache;
+    private final ConcurrentMap<String, ConcurrentCache<String, Capability>> capCache;
     
     private final OpenFileTable                             oft;
     
@@ -99,7 +101,7 @@ public class PreprocStage extends Stage {
     /**
      * X-Location cache
      */
-    private final LRUCache<String, XLocations>              xLocCache;
+    private final ConcurrentCache<String, XLocations>       xLocCache;
     
     private final MetadataCache                             metadataCache;
     
@@ -117,9 +119,9 @@ public class PreprocStage extends Stage {
         
         super("OSD PreProcSt", maxRequestsQueueLength);
         
-        capCache = new HashMap();
+        capCache = new ConcurrentHashMap<String, ConcurrentCache<String, Capability>>();
         oft = new OpenFileTable();
-        xLocCache = new LRUCache<String, XLocations>(10000);
+        xLocCache = new ConcurrentCache<String, XLocations>(10000);
         this.master = master;
         this.metadataCache = metadataCache;
         this.layout = layout;
@@ -127,7 +129,9 @@ public class PreprocStage extends Stage {
     }
     
     public void prepareRequest(OSDRequest request, ParseCompleteCallback listener) {
-        this.enqueueOperation(STAGEOP_PARSE_AUTH_OFTOPEN, new Object[] { request }, null, listener);
+        // bypass the queue capacity check like for internal requests, but
+        // attach the request so that its latencies and trace are recorded
+        q.add(new StageRequest(STAGEOP_PARSE_AUTH_OFTOPEN, new Object[] { request }, request, listener));
     }
     
     public static interface ParseCompleteCallback {
@@ -207,6 +211,10 @@ public class PreprocStage extends Stage {
                 request.setFileOpen(true);
             }
             request.setCowPolicy(cowPolicy);
+
+            // remember the most recent XLocSet, which is needed to repair objects in the background
+            if (request.getLocationList() != null)
+                xLocCache.put(fileId, request.getLocationList());
         }
 
         callback.parseComplete(request, null);
@@ -225,6 +233,27 @@ public class PreprocStage extends Stage {
         
     }
     
+    /**
+     * Returns the most recent XLocSet of a file that was sent along with a client request, or
+     * <code>null</code> if no XLocSet is cached for the file.
+     */
+    public void getCachedXLoc(String fileId, GetCachedXLocCallback listener) {
+        this.enqueueOperation(STAGEOP_GET_CACHED_XLOC, new Object[] { fileId }, null, listener);
+    }
+    
+    public static interface GetCachedXLocCallback {
+        
+        public void getCachedXLocComplete(XLocations xLoc, ErrorResponse error);
+    }
+    
+    private void doGetCachedXLoc(StageRequest m) {
+        
+        final String fileId = (String) m.getArgs()[0];
+        final GetCachedXLocCallback callback = (GetCachedXLocCallback) m.getCallback();
+        
+        callback.getCachedXLocComplete(xLocCache.get(fileId), null);
+    }
+    
     public void checkDeleteOnClose(String fileId, DeleteOnCloseCallback listener) {
         this.enqueueOperation(STAGEOP_OFT_DELETE, new Object[] { fileId }, null, listener);
     }
@@ -366,7 +395,7 @@ public class PreprocStage extends Stage {
         final CloseCallback callback = (CloseCallback) m.getCallback();
 
         OpenFileTableEntry entry = oft.close(fileId);
-        LRUCache<String, Capability> cachedCaps = capCache.remove(entry.getFileId());
+        capCache.remove(entry.getFileId());
 
         callback.closeResult(entry, null);
     }
@@ -393,7 +422,7 @@ public class PreprocStage extends Stage {
                     continue;
                 }
                 
-                processMethod(op);
+                executeMethod(op);
                 
             } catch (InterruptedException ex) {
                 break;
@@ -498,6 +527,9 @@ public class PreprocStage extends Stage {
         case STAGEOP_UPDATE_XLOC:
             doUpdateXLocSetFromFlease(m);
             break;
+        case STAGEOP_GET_CACHED_XLOC:
+            doGetCachedXLoc(m);
+            break;
         default:
             Logging.logMessage(Logging.LEVEL_ERROR, this, "unknown stageop called: %d", requestedMethod);
             break;
@@ -603,7 +635,7 @@ public class PreprocStage extends Stage {
         // check if the capability is valid
         boolean isValid = false;
         // look in capCache
-        LRUCache<String, Capability> cachedCaps = capCache.get(rqCap.getFileId());
+        ConcurrentCache<String, Capability> cachedCaps = capCache.get(rqCap.getFileId());
         if (cachedCaps != null) {
             final Capability cap = cachedCaps.get(rqCap.getSignature());
             if (cap != null) {
@@ -620,8 +652,11 @@ public class PreprocStage extends Stage {
             if (isValid) {
                 // add to cache
                 if (cachedCaps == null) {
-                    cachedCaps = new LRUCache<String, Capability>(MAX_CAP_CACHE);
-                    capCache.put(rqCap.getFileId(), cachedCaps);
+                    cachedCaps = new ConcurrentCache<String, Capability>(MAX_CAP_CACHE);
+                    ConcurrentCache<String, Capability> existing = capCache.putIfAbsent(rqCap.getFileId(),
+                        cachedCaps);
+                    if (existing != null)
+                        cachedCaps = existing;
                 }
                 cachedCaps.put(rqCap.getSignature(), rqCap);
             }
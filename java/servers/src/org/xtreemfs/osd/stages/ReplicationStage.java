@@ -74,6 +74,13 @@ public class ReplicationStage extends Stage {
                 request, listener);
     }
 
+    /**
+     * Returns the rate at which objects are currently fetched from other replicas, in bytes/s.
+     */
+    public long getTransferRate() {
+        return disseminationLayer.getTransferRate();
+    }
+
     public static interface FetchObjectCallback {
         public void fetchComplete(ObjectInformation objectInfo, ErrorResponse error);
     }
@@ -180,7 +187,7 @@ public class ReplicationStage extends Stage {
             if (objectList != null) {
                 try {
                     ObjectSet objectSet = new ObjectSet(objectList.getStripeWidth(), objectList
-                            .getFirst(), objectList.getSet().toByteArray());
+                            .getFirst(), objectList);
                     disseminationLayer.objectSetFetched(fileId, usedOSD, objectSet, objectList.getSet()
                             .size());
                 } catch (IOException e) {
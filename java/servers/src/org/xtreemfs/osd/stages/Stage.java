@@ -18,7 +18,9 @@ import org.xtreemfs.foundation.buffer.BufferPool;
 import org.xtreemfs.foundation.buffer.ReusableBuffer;
 import org.xtreemfs.foundation.logging.Logging;
 import org.xtreemfs.foundation.logging.Logging.Category;
+import org.xtreemfs.foundation.monitoring.OperationLatencies;
 import org.xtreemfs.foundation.pbrpc.generatedinterfaces.RPC.RPCHeader.ErrorResponse;
+import org.xtreemfs.foundation.trace.Tracer;
 import org.xtreemfs.foundation.util.OutputUtils;
 import org.xtreemfs.osd.OSDRequest;
 
@@ -40,9 +42,23 @@ public abstract class Stage extends LifeCycleThread {
     
     public AtomicLong                     _sumRqTime;
     
+    /**
+     * queue and execution times of the requests processed by the stage
+     */
+    protected final OperationLatencies    latencies;
+    
     public Stage(String stageName, int queueCapacity) {
+        this(stageName, queueCapacity, new OperationLatencies(stageName));
+    }
+    
+    /**
+     * Creates a stage that records its request latencies in the given object,
+     * which may be shared among several stages.
+     */
+    public Stage(String stageName, int queueCapacity, OperationLatencies latencies) {
         
         super(stageName);
+        this.latencies = latencies;
         q = new LinkedBlockingQueue<StageRequest>();
         this.queueCapacity = queueCapacity;
         this.quit = false;
@@ -135,6 +151,13 @@ public abstract class Stage extends LifeCycleThread {
         return q.size();
     }
     
+    /**
+     * Returns the latency histograms of the stage.
+     */
+    public OperationLatencies getLatencies() {
+        return latencies;
+    }
+    
     @Override
     public void run() {
         
@@ -144,7 +167,7 @@ public abstract class Stage extends LifeCycleThread {
             try {
                 final StageRequest op = q.take();
                 
-                processMethod(op);
+                executeMethod(op);
                 
             } catch (InterruptedException ex) {
                 break;
@@ -166,6 +189,32 @@ public abstract class Stage extends LifeCycleThread {
          */
     }
     
+    /**
+     * Executes a stage method and records its queue and execution time.
+     * 
+     * @param method
+     *            the stage method to execute
+     */
+    protected void executeMethod(StageRequest method) {
+        final long traceId = method.getTraceId();
+        final long startNanos = System.nanoTime();
+        if (traceId == 0) {
+            processMethod(method);
+        } else {
+            Tracer.setCurrentTraceId(traceId);
+            try {
+                processMethod(method);
+            } finally {
+                Tracer.setCurrentTraceId(0);
+            }
+        }
+        final long endNanos = System.nanoTime();
+        latencies.record(method.getOperationId(), startNanos - method.getEnqueueNanos(), endNanos - startNanos);
+        if (traceId != 0)
+            Tracer.record(traceId, getName(), method.getOperationName(), startNanos - method.getEnqueueNanos(),
+                endNanos - startNanos);
+    }
+    
     /**
      * Handles the actual execution of a stage method. Must be implemented by
      * all stages.
@@ -189,11 +238,14 @@ public abstract class Stage extends LifeCycleThread {
         
         private final OSDRequest request;
         
+        private final long       enqueueNanos;
+        
         public StageRequest(int stageMethod, Object[] args, OSDRequest request, Object callback) {
             this.args = args;
             this.stageMethod = stageMethod;
             this.callback = callback;
             this.request = request;
+            this.enqueueNanos = System.nanoTime();
         }
         
         public int getStageMethod() {
@@ -212,6 +264,36 @@ public abstract class Stage extends LifeCycleThread {
             return request;
         }
         
+        public long getEnqueueNanos() {
+            return enqueueNanos;
+        }
+        
+        /**
+         * Returns the procedure ID of the client request, or
+         * {@link OperationLatencies#INTERNAL_OPERATION} for internal events.
+         */
+        public int getOperationId() {
+            if (request == null || request.getRpcRequest() == null)
+                return OperationLatencies.INTERNAL_OPERATION;
+            return request.getRpcRequest().getHeader().getRequestHeader().getProcId();
+        }
+        
+        /**
+         * Returns the ID of the trace the client request belongs to, or 0 if
+         * the request is not traced.
+         */
+        public long getTraceId() {
+            if (request == null || request.getRpcRequest() == null)
+                return 0;
+            return request.getRpcRequest().getTraceId();
+        }
+        
+        String getOperationName() {
+            if (request != null && request.getOperation() != null)
+                return request.getOperation().getClass().getSimpleName() + "#" + stageMethod;
+            return "proc " + getOperationId() + "#" + stageMethod;
+        }
+        
         public void sendInternalServerError(Throwable cause) {
             if (request != null) {
                 request.sendInternalServerError(cause);
@@ -10,6 +10,7 @@ package org.xtreemfs.osd.stages;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 
 import org.xtreemfs.common.xloc.Replica;
@@ -49,8 +50,9 @@ public class StorageStage extends Stage {
         
         storageThreads = new StorageThread[numberOfThreads];
         for (int i = 0; i < numberOfThreads; i++) {
-            // Each storage thread gets the max. queue length as it is possible that one thread gets the whole load
-            storageThreads[i] = new StorageThread(i, master, cache, layout, maxRequestsQueueLength);
+            // Each storage thread gets the max. queue length as it is possible that one thread gets the whole load.
+            // All threads record their latencies in the histograms of the stage.
+            storageThreads[i] = new StorageThread(i, master, cache, layout, maxRequestsQueueLength, latencies);
             storageThreads[i].setLifeCycleListener(master);
         }
     }
@@ -207,6 +209,34 @@ public class StorageStage extends Stage {
         public void createGetFileIDListComplete(ArrayList<String> fileIDList, ErrorResponse Error);
     }
     
+    /**
+     * Verifies the checksums of up to <code>maxObjects</code> local objects of a file, starting with object
+     * <code>firstObjNo</code>. Used by the background scrubber.
+     */
+    public void scrubObjects(String fileId, StripingPolicyImpl sp, long firstObjNo, int maxObjects,
+        ScrubObjectsCallback listener) {
+        this.enqueueOperation(fileId, StorageThread.STAGEOP_SCRUB_OBJECTS, new Object[] { fileId, sp, firstObjNo,
+            maxObjects }, null, listener);
+    }
+
+    public static interface ScrubObjectsCallback {
+
+        /**
+         * @param corruptObjects
+         *            numbers of the objects whose checksums did not match
+         * @param numObjects
+         *            number of objects that were verified
+         * @param numBytes
+         *            number of bytes that were read
+         * @param nextObjNo
+         *            number of the object to continue with, or -1 if all objects of the file were verified
+         * @param truncateEpoch
+         *            the truncate epoch of the file
+         */
+        public void scrubObjectsComplete(List<Long> corruptObjects, int numObjects, long numBytes,
+            long nextObjNo, long truncateEpoch, ErrorResponse error);
+    }
+
     public void enqueueOperation(int stageOp, Object[] args, OSDRequest request, Object callback) {
         notifyCrashed(new Exception(
                 "wrong method call: use enqueueOperation(String fileId, int stageOp, Object[] args, OSDRequest request, Object callback) instead!"));
@@ -713,7 +713,7 @@ public class VivaldiStage extends Stage {
                 pollTimeoutInMS = checkTimer();
                 final StageRequest op = q.poll(pollTimeoutInMS, TimeUnit.MILLISECONDS);
                 if (op != null) {
-                    processMethod(op);
+                    executeMethod(op);
                 }
             } catch (InterruptedException ex) {
                 break;
@@ -27,7 +27,7 @@ import java.util.Map;
 import java.util.Stack;
 
 import org.xtreemfs.common.xloc.StripingPolicyImpl;
-import org.xtreemfs.foundation.LRUCache;
+import org.xtreemfs.foundation.ConcurrentCache;
 import org.xtreemfs.foundation.buffer.BufferPool;
 import org.xtreemfs.foundation.buffer.ReusableBuffer;
 import org.xtreemfs.foundation.checksums.ChecksumAlgorithm;
@@ -109,7 +109,7 @@ public class HashStorageLayout extends StorageLayout {
 
     private final boolean                  checksumsEnabled;
 
-    private final LRUCache<String, String> hashedPathCache;
+    private final ConcurrentCache<String, String> hashedPathCache;
 
     private static final boolean           USE_PATH_CACHE                = true;
 
@@ -121,7 +121,7 @@ public class HashStorageLayout extends StorageLayout {
 
     private static final String            ERROR_MESSAGE_INCOMPLETE_READ = "Failed to read the requested number of bytes from the file on disk. Maybe there's a media error or the file was modified outside the scope of the OSD by another process?";
 
-    private final LRUCache<String, XLocSetVersionState> xLocSetVSCache;
+    private final ConcurrentCache<String, XLocSetVersionState> xLocSetVSCache;
 
     /** Creates a new instance of HashStorageLayout */
     public HashStorageLayout(OSDConfig config, MetadataCache cache) throws IOException {
@@ -183,9 +183,9 @@ public class HashStorageLayout extends StorageLayout {
 
         _stat_fileInfoLoads = 0;
 
-        hashedPathCache = new LRUCache<String, String>(2048);
+        hashedPathCache = new ConcurrentCache<String, String>(2048);
 
-        xLocSetVSCache = new LRUCache<String, XLocSetVersionState>(2048);
+        xLocSetVSCache = new ConcurrentCache<String, XLocSetVersionState>(2048);
     }
 
     @Override
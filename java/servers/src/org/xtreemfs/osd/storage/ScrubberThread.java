@@ -0,0 +1,416 @@
+/*
+ * Copyright (c) 2015 by Zuse Institute Berlin
+ *
+ * Licensed under the BSD License, see LICENSE file for details.
+ *
+ */
+
+package org.xtreemfs.osd.storage;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map.Entry;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.xtreemfs.common.xloc.StripingPolicyImpl;
+import org.xtreemfs.common.xloc.XLocations;
+import org.xtreemfs.foundation.LifeCycleThread;
+import org.xtreemfs.foundation.TimeSync;
+import org.xtreemfs.foundation.logging.Logging;
+import org.xtreemfs.foundation.logging.Logging.Category;
+import org.xtreemfs.foundation.pbrpc.generatedinterfaces.RPC.RPCHeader.ErrorResponse;
+import org.xtreemfs.foundation.pbrpc.utils.ErrorUtils;
+import org.xtreemfs.foundation.util.OutputUtils;
+import org.xtreemfs.osd.OSDRequestDispatcher;
+import org.xtreemfs.osd.stages.PreprocStage.GetCachedXLocCallback;
+import org.xtreemfs.osd.stages.ReplicationStage.FetchObjectCallback;
+import org.xtreemfs.osd.stages.StorageStage.ScrubObjectsCallback;
+import org.xtreemfs.osd.storage.StorageLayout.FileData;
+import org.xtreemfs.osd.storage.StorageLayout.FileList;
+import org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.Replica;
+import org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.StripingPolicy;
+import org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.StripingPolicyType;
+import org.xtreemfs.pbrpc.generatedinterfaces.OSDServiceConstants;
+
+/**
+ * Periodically verifies the checksums of all objects stored on the local OSD. Objects are read by the storage
+ * threads in small batches; the scrubber yields as long as client requests are queued at the storage stage
+ * and does not exceed a configurable number of objects per second.
+ * <p>
+ * Corrupt objects of read-only replicated files are fetched again from another replica. All other corrupt
+ * objects are logged and listed on the status page, so that they can be repaired with xtfs_scrub.
+ */
+public class ScrubberThread extends LifeCycleThread {
+
+    public final static String  STATUS_FORMAT          = "files: %d (last pass: %d)   objects: %d   bytes: %s   rate: %.1f objects/s   corrupt: %d   repaired: %d   running since: %s";
+
+    public final static String  IDLE_FORMAT            = "idle, last pass finished %s: %d files";
+
+    public final static String  DISABLED               = "disabled";
+
+    /**
+     * max. number of objects verified with a single storage stage request
+     */
+    private final static int    OBJECTS_PER_REQUEST    = 8;
+
+    /**
+     * number of files retrieved from the storage layout at once
+     */
+    private final static int    FILES_PER_LIST         = 1024;
+
+    /**
+     * max. time for which the scrubber yields to client requests before it verifies the next batch anyway
+     */
+    private final static long   MAX_YIELD_MS           = 1000;
+
+    private final static long   YIELD_SLEEP_MS         = 10;
+
+    /**
+     * max. number of corrupt objects that could not be repaired and are kept for the status page
+     */
+    private final static int    MAX_UNREPAIRED_ENTRIES = 100;
+
+    private final OSDRequestDispatcher master;
+
+    private final StorageLayout layout;
+
+    private final boolean       enabled;
+
+    private final int           objectsPerSecond;
+
+    private final long          intervalMs;
+
+    private volatile boolean    quit;
+
+    private volatile boolean    isRunning;
+
+    private final AtomicLong    objectsScrubbed;
+
+    private final AtomicLong    bytesScrubbed;
+
+    private final AtomicLong    corruptObjects;
+
+    private final AtomicLong    repairedObjects;
+
+    private volatile long       filesScrubbed;
+
+    private volatile long       lastPassNumFiles;
+
+    private volatile long       startTime;
+
+    private volatile long       lastPassEndTime;
+
+    private long                nextSlotNanos;
+
+    private final List<String>  unrepaired;
+
+    public ScrubberThread(OSDRequestDispatcher master, StorageLayout layout) {
+        super("ScrubberThr");
+        this.master = master;
+        this.layout = layout;
+        this.enabled = master.getConfig().isScrubberEnabled() && master.getConfig().isUseChecksums();
+        this.objectsPerSecond = master.getConfig().getScrubberObjectsPerSecond();
+        this.intervalMs = master.getConfig().getScrubberIntervalS() * 1000L;
+        this.objectsScrubbed = new AtomicLong(0L);
+        this.bytesScrubbed = new AtomicLong(0L);
+        this.corruptObjects = new AtomicLong(0L);
+        this.repairedObjects = new AtomicLong(0L);
+        this.unrepaired = new LinkedList<String>();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public boolean isRunning() {
+        return isRunning;
+    }
+
+    public long getObjectsScrubbed() {
+        return objectsScrubbed.get();
+    }
+
+    public long getCorruptObjects() {
+        return corruptObjects.get();
+    }
+
+    public long getRepairedObjects() {
+        return repairedObjects.get();
+    }
+
+    /**
+     * Returns the time at which the last complete pass over all local files finished, or 0 if no pass has
+     * been completed yet.
+     */
+    public long getLastPassEndTime() {
+        return lastPassEndTime;
+    }
+
+    /**
+     * Returns the corrupt objects that could not be repaired automatically, as "fileId-objNo".
+     */
+    public List<String> getUnrepairedObjects() {
+        synchronized (unrepaired) {
+            return new ArrayList<String>(unrepaired);
+        }
+    }
+
+    public String getStatus() {
+        if (!enabled) {
+            return DISABLED;
+        }
+        if (isRunning) {
+            final long runtimeMs = Math.max(TimeSync.getGlobalTime() - startTime, 1);
+            return String.format(STATUS_FORMAT, filesScrubbed, lastPassNumFiles, objectsScrubbed.get(),
+                    OutputUtils.formatBytes(bytesScrubbed.get()),
+                    objectsScrubbed.get() * 1000.0 / runtimeMs, corruptObjects.get(), repairedObjects.get(),
+                    new Date(startTime));
+        } else {
+            return String.format(IDLE_FORMAT, lastPassEndTime == 0 ? "never" : new Date(lastPassEndTime)
+                    .toString(), lastPassNumFiles);
+        }
+    }
+
+    public void shutdown() {
+        synchronized (this) {
+            quit = true;
+            this.notifyAll();
+        }
+    }
+
+    @Override
+    public void run() {
+        notifyStarted();
+        try {
+            while (enabled && !quit) {
+                runScrub();
+
+                synchronized (this) {
+                    if (!quit)
+                        this.wait(intervalMs);
+                }
+            }
+        } catch (InterruptedException ex) {
+            // shutdown
+        } catch (Throwable thr) {
+            this.notifyCrashed(thr);
+        }
+        notifyStopped();
+    }
+
+    private void runScrub() throws InterruptedException {
+        if (Logging.isInfo())
+            Logging.logMessage(Logging.LEVEL_INFO, Category.storage, this, "starting background scrub");
+
+        isRunning = true;
+        startTime = TimeSync.getGlobalTime();
+        filesScrubbed = 0;
+        objectsScrubbed.set(0L);
+        bytesScrubbed.set(0L);
+        corruptObjects.set(0L);
+        repairedObjects.set(0L);
+        nextSlotNanos = System.nanoTime();
+
+        FileList l = null;
+        try {
+            do {
+                l = layout.getFileList(l, FILES_PER_LIST);
+                for (Entry<String, FileData> file : l.files.entrySet()) {
+                    if (quit)
+                        return;
+                    if (file.getValue().metaDataOnly)
+                        continue;
+
+                    scrubFile(file.getKey(), file.getValue().objectSize);
+                    filesScrubbed++;
+                }
+            } while (l.hasMore);
+        } finally {
+            isRunning = false;
+        }
+
+        lastPassNumFiles = filesScrubbed;
+        lastPassEndTime = TimeSync.getGlobalTime();
+
+        if (Logging.isInfo())
+            Logging.logMessage(Logging.LEVEL_INFO, Category.storage, this,
+                    "background scrub finished: %d files, %d objects, %d corrupt, %d repaired", filesScrubbed,
+                    objectsScrubbed.get(), corruptObjects.get(), repairedObjects.get());
+    }
+
+    private void scrubFile(final String fileId, int objectSizeKB) throws InterruptedException {
+
+        // The actual striping policy of the file is unknown on the OSD. Object numbers are not relevant for
+        // scrubbing, and a stripe size that is at least as large as the largest object ensures that all
+        // objects are read completely.
+        int stripeSizeKB = 128;
+        while (stripeSizeKB < objectSizeKB)
+            stripeSizeKB <<= 1;
+        final StripingPolicyImpl sp = StripingPolicyImpl.getPolicy(Replica.newBuilder().setStripingPolicy(
+                StripingPolicy.newBuilder().setType(StripingPolicyType.STRIPING_POLICY_RAID0).setStripeSize(
+                        stripeSizeKB).setWidth(1)).setReplicationFlags(0).addOsdUuids(
+                master.getConfig().getUUID().toString()).build(), 0);
+
+        long objNo = 0;
+        while (objNo != -1 && !quit) {
+            yieldToClients();
+
+            final ScrubResult result = new ScrubResult();
+            master.getStorageStage().scrubObjects(fileId, sp, objNo, OBJECTS_PER_REQUEST, result);
+            if (!result.waitForResult())
+                return;
+
+            if (result.error != null) {
+                Logging.logMessage(Logging.LEVEL_WARN, Category.storage, this, "cannot scrub file %s: %s", fileId,
+                        ErrorUtils.formatError(result.error));
+                return;
+            }
+
+            objectsScrubbed.addAndGet(result.numObjects);
+            bytesScrubbed.addAndGet(result.numBytes);
+            for (long corruptObjNo : result.corruptObjects) {
+                corruptObjects.incrementAndGet();
+                Logging.logMessage(Logging.LEVEL_WARN, Category.storage, this,
+                        "checksum mismatch detected for object %s-%d", fileId, corruptObjNo);
+                repairObject(fileId, corruptObjNo, result.truncateEpoch);
+            }
+
+            throttle(result.numObjects);
+            objNo = result.nextObjNo;
+        }
+    }
+
+    /**
+     * Fetches a corrupt object from another replica, if the file is read-only replicated and its XLocSet is
+     * known from a recent client request.
+     */
+    private void repairObject(final String fileId, final long objNo, long truncateEpoch)
+        throws InterruptedException {
+
+        final CachedXLocResult xLoc = new CachedXLocResult();
+        master.getPreprocStage().getCachedXLoc(fileId, xLoc);
+        if (!xLoc.waitForResult())
+            return;
+
+        if (xLoc.xLoc == null) {
+            addUnrepaired(fileId, objNo, "XLocSet unknown");
+            return;
+        }
+
+        master.getOperation(OSDServiceConstants.PROC_ID_XTREEMFS_REPAIR_OBJECT).startInternalEvent(
+                new Object[] { fileId, objNo, xLoc.xLoc, truncateEpoch, new FetchObjectCallback() {
+                    @Override
+                    public void fetchComplete(ObjectInformation objectInfo, ErrorResponse error) {
+                        if (error == null) {
+                            repairedObjects.incrementAndGet();
+                            if (Logging.isInfo())
+                                Logging.logMessage(Logging.LEVEL_INFO, Category.storage, this,
+                                        "repaired object %s-%d", fileId, objNo);
+                        } else {
+                            addUnrepaired(fileId, objNo, error.getErrorMessage());
+                        }
+                    }
+                } });
+    }
+
+    private void addUnrepaired(String fileId, long objNo, String reason) {
+        Logging.logMessage(Logging.LEVEL_WARN, Category.storage, this,
+                "object %s-%d is corrupt and cannot be repaired automatically (%s), run xtfs_scrub -repair",
+                fileId, objNo, reason);
+        synchronized (unrepaired) {
+            unrepaired.add(fileId + "-" + objNo);
+            if (unrepaired.size() > MAX_UNREPAIRED_ENTRIES)
+                unrepaired.remove(0);
+        }
+    }
+
+    /**
+     * Waits while client requests are queued at the storage stage, but not longer than MAX_YIELD_MS.
+     */
+    private void yieldToClients() throws InterruptedException {
+        final long until = System.currentTimeMillis() + MAX_YIELD_MS;
+        while (!quit && master.getStorageStage().getQueueLength() > 0 && System.currentTimeMillis() < until)
+            Thread.sleep(YIELD_SLEEP_MS);
+    }
+
+    /**
+     * Blocks until the given number of objects may be verified according to the configured rate.
+     */
+    private void throttle(int numObjects) throws InterruptedException {
+        if (objectsPerSecond <= 0)
+            return;
+
+        final long now = System.nanoTime();
+        // do not accumulate more than one second of unused slots
+        if (nextSlotNanos < now - 1000000000L)
+            nextSlotNanos = now - 1000000000L;
+        nextSlotNanos += numObjects * 1000000000L / objectsPerSecond;
+
+        final long waitNanos = nextSlotNanos - now;
+        if (waitNanos > 0)
+            Thread.sleep(waitNanos / 1000000L, (int) (waitNanos % 1000000L));
+    }
+
+    /**
+     * Base class for callbacks the scrubber waits for. Waiting is aborted when the thread is shut down, since
+     * the stages may not respond anymore.
+     */
+    private abstract class Result {
+
+        private boolean done;
+
+        synchronized void complete() {
+            done = true;
+            this.notify();
+        }
+
+        /**
+         * @return <code>false</code> if the scrubber was shut down before the result was available
+         */
+        synchronized boolean waitForResult() throws InterruptedException {
+            while (!done && !quit)
+                this.wait(YIELD_SLEEP_MS * 100);
+            return done;
+        }
+    }
+
+    private final class ScrubResult extends Result implements ScrubObjectsCallback {
+
+        private List<Long>    corruptObjects;
+
+        private int           numObjects;
+
+        private long          numBytes;
+
+        private long          nextObjNo;
+
+        private long          truncateEpoch;
+
+        private ErrorResponse error;
+
+        @Override
+        public synchronized void scrubObjectsComplete(List<Long> corruptObjects, int numObjects, long numBytes,
+            long nextObjNo, long truncateEpoch, ErrorResponse error) {
+            this.corruptObjects = corruptObjects;
+            this.numObjects = numObjects;
+            this.numBytes = numBytes;
+            this.nextObjNo = nextObjNo;
+            this.truncateEpoch = truncateEpoch;
+            this.error = error;
+            complete();
+        }
+    }
+
+    private final class CachedXLocResult extends Result implements GetCachedXLocCallback {
+
+        private XLocations xLoc;
+
+        @Override
+        public synchronized void getCachedXLocComplete(XLocations xLoc, ErrorResponse error) {
+            this.xLoc = xLoc;
+            complete();
+        }
+    }
+}
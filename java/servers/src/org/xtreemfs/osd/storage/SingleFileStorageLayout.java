@@ -20,7 +20,7 @@ import java.util.Map.Entry;
 import java.util.Stack;
 
 import org.xtreemfs.common.xloc.StripingPolicyImpl;
-import org.xtreemfs.foundation.LRUCache;
+import org.xtreemfs.foundation.ConcurrentCache;
 import org.xtreemfs.foundation.buffer.BufferPool;
 import org.xtreemfs.foundation.buffer.ReusableBuffer;
 import org.xtreemfs.foundation.checksums.ChecksumAlgorithm;
@@ -57,7 +57,7 @@ public class SingleFileStorageLayout extends StorageLayout {
 
     private ChecksumAlgorithm              checksumAlgo;
 
-    private final LRUCache<String, String> hashedPathCache;
+    private final ConcurrentCache<String, String> hashedPathCache;
     private static final int HASH_CUTOFF = 4;
 
     private final ByteBuffer mdata;
@@ -84,7 +84,7 @@ public class SingleFileStorageLayout extends StorageLayout {
             }
         }
 
-        hashedPathCache = new LRUCache<String, String>(2048);
+        hashedPathCache = new ConcurrentCache<String, String>(2048);
 
         Logging.logMessage(Logging.LEVEL_ERROR, this,"this storage layout is still under development and should not be used except for testing!");
     }
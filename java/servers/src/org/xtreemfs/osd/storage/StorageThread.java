@@ -25,6 +25,7 @@ import org.xtreemfs.foundation.buffer.BufferPool;
 import org.xtreemfs.foundation.buffer.ReusableBuffer;
 import org.xtreemfs.foundation.logging.Logging;
 import org.xtreemfs.foundation.logging.Logging.Category;
+import org.xtreemfs.foundation.monitoring.OperationLatencies;
 import org.xtreemfs.foundation.pbrpc.client.RPCAuthentication;
 import org.xtreemfs.foundation.pbrpc.generatedinterfaces.RPC.ErrorType;
 import org.xtreemfs.foundation.pbrpc.generatedinterfaces.RPC.MessageType;
@@ -45,6 +46,7 @@ import org.xtreemfs.osd.stages.StorageStage.InternalGetGmaxCallback;
 import org.xtreemfs.osd.stages.StorageStage.InternalGetMaxObjectNoCallback;
 import org.xtreemfs.osd.stages.StorageStage.InternalGetReplicaStateCallback;
 import org.xtreemfs.osd.stages.StorageStage.ReadObjectCallback;
+import org.xtreemfs.osd.stages.StorageStage.ScrubObjectsCallback;
 import org.xtreemfs.osd.stages.StorageStage.TruncateCallback;
 import org.xtreemfs.osd.stages.StorageStage.WriteObjectCallback;
 import org.xtreemfs.osd.storage.VersionTable.Version;
@@ -87,6 +89,8 @@ public class StorageThread extends Stage {
     
     public static final int      STAGEOP_DELETE_OBJECTS        = 14;
     
+    public static final int      STAGEOP_SCRUB_OBJECTS         = 15;
+    
     private MetadataCache        cache;
     
     private StorageLayout        layout;
@@ -96,9 +100,9 @@ public class StorageThread extends Stage {
     private final boolean        checksumsEnabled;
     
     public StorageThread(int id, OSDRequestDispatcher dispatcher, MetadataCache cache, StorageLayout layout,
-        int maxQueueLength) {
+        int maxQueueLength, OperationLatencies latencies) {
         
-        super("OSD StThr " + id, maxQueueLength);
+        super("OSD StThr " + id, maxQueueLength, latencies);
         
         this.cache = cache;
         this.layout = layout;
@@ -154,6 +158,9 @@ public class StorageThread extends Stage {
             case STAGEOP_DELETE_OBJECTS:
                 processDeleteObjects(method);
                 break;
+            case STAGEOP_SCRUB_OBJECTS:
+                processScrubObjects(method);
+                break;
             }
             
         } catch (Exception ex) {
@@ -827,6 +834,56 @@ public class StorageThread extends Stage {
         
     }
     
+    /**
+     * Reads a range of local objects and verifies their checksums. Objects
+     * without a stored checksum are skipped.
+     * 
+     * @param rq
+     */
+    private void processScrubObjects(StageRequest rq) {
+        final ScrubObjectsCallback cback = (ScrubObjectsCallback) rq.getCallback();
+        try {
+            final String fileId = (String) rq.getArgs()[0];
+            final StripingPolicyImpl sp = (StripingPolicyImpl) rq.getArgs()[1];
+            final long firstObjNo = (Long) rq.getArgs()[2];
+            final int maxObjects = (Integer) rq.getArgs()[3];
+            
+            // do not add the file to the metadata cache, which is meant for
+            // files that are accessed by clients
+            final FileMetadata fi = layout.getFileMetadataNoCaching(sp, fileId);
+            final long lastObjNo = fi.getLastObjectNumber();
+            
+            List<Long> corruptObjects = new ArrayList<Long>();
+            int numObjects = 0;
+            long numBytes = 0;
+            long objNo = firstObjNo;
+            for (; objNo <= lastObjNo && numObjects < maxObjects; objNo++) {
+                
+                final long objVer = fi.getLatestObjectVersion(objNo);
+                if (objVer == 0 || fi.getObjectChecksum(objNo, objVer) == 0)
+                    continue;
+                
+                ObjectInformation obj = layout.readObject(fileId, fi, objNo, 0, -1, objVer);
+                numObjects++;
+                if (obj.getData() != null) {
+                    numBytes += obj.getData().remaining();
+                    BufferPool.free(obj.getData());
+                }
+                if (obj.isChecksumInvalidOnOSD())
+                    corruptObjects.add(objNo);
+            }
+            
+            if (fi != cache.getFileInfo(fileId))
+                layout.closeFile(fi);
+            
+            cback.scrubObjectsComplete(corruptObjects, numObjects, numBytes, objNo > lastObjNo ? -1 : objNo,
+                fi.getTruncateEpoch(), null);
+        } catch (IOException ex) {
+            cback.scrubObjectsComplete(null, 0, 0, -1, 0, ErrorUtils.getErrorResponse(ErrorType.ERRNO,
+                POSIXErrno.POSIX_ERROR_EIO, ex.toString()));
+        }
+    }
+    
     private void processGetFileIDList(StageRequest rq) {
         final GetFileIDListCallback cback = (GetFileIDListCallback) rq.getCallback();
         ArrayList<String> fileIDList = null;
@@ -12471,6 +12471,2544 @@ public final class DIR {
     // @@protoc_insertion_point(class_scope:xtreemfs.pbrpc.serviceRegisterResponse)
   }
 
+  public interface serviceWatchRequestOrBuilder
+      extends com.google.protobuf.MessageOrBuilder {
+
+    // required .xtreemfs.pbrpc.ServiceType type = 1;
+    /**
+     * <code>required .xtreemfs.pbrpc.ServiceType type = 1;</code>
+     *
+     * <pre>
+     * Service types to watch. Use MIXED to watch all types.
+     * </pre>
+     */
+    boolean hasType();
+    /**
+     * <code>required .xtreemfs.pbrpc.ServiceType type = 1;</code>
+     *
+     * <pre>
+     * Service types to watch. Use MIXED to watch all types.
+     * </pre>
+     */
+    org.xtreemfs.pbrpc.generatedinterfaces.DIR.ServiceType getType();
+
+    // required fixed64 known_version = 2;
+    /**
+     * <code>required fixed64 known_version = 2;</code>
+     *
+     * <pre>
+     * Registry version returned by the previous call, or 0 to retrieve
+     * all matching services.
+     * </pre>
+     */
+    boolean hasKnownVersion();
+    /**
+     * <code>required fixed64 known_version = 2;</code>
+     *
+     * <pre>
+     * Registry version returned by the previous call, or 0 to retrieve
+     * all matching services.
+     * </pre>
+     */
+    long getKnownVersion();
+
+    // required fixed32 timeout_ms = 3;
+    /**
+     * <code>required fixed32 timeout_ms = 3;</code>
+     *
+     * <pre>
+     * Maximum time to wait for changes in ms. Should be shorter than the
+     * RPC timeout of the caller.
+     * </pre>
+     */
+    boolean hasTimeoutMs();
+    /**
+     * <code>required fixed32 timeout_ms = 3;</code>
+     *
+     * <pre>
+     * Maximum time to wait for changes in ms. Should be shorter than the
+     * RPC timeout of the caller.
+     * </pre>
+     */
+    int getTimeoutMs();
+
+    // repeated string uuids = 4;
+    /**
+     * <code>repeated string uuids = 4;</code>
+     *
+     * <pre>
+     * If set, only changes of the services with these UUIDs are reported.
+     * </pre>
+     */
+    java.util.List<java.lang.String>
+    getUuidsList();
+    /**
+     * <code>repeated string uuids = 4;</code>
+     *
+     * <pre>
+     * If set, only changes of the services with these UUIDs are reported.
+     * </pre>
+     */
+    int getUuidsCount();
+    /**
+     * <code>repeated string uuids = 4;</code>
+     *
+     * <pre>
+     * If set, only changes of the services with these UUIDs are reported.
+     * </pre>
+     */
+    java.lang.String getUuids(int index);
+    /**
+     * <code>repeated string uuids = 4;</code>
+     *
+     * <pre>
+     * If set, only changes of the services with these UUIDs are reported.
+     * </pre>
+     */
+    com.google.protobuf.ByteString
+        getUuidsBytes(int index);
+
+    // optional bool status_changes_only = 5 [default = false];
+    /**
+     * <code>optional bool status_changes_only = 5 [default = false];</code>
+     *
+     * <pre>
+     * If set, only registrations, deregistrations and changes of the
+     * availability or status of services are reported, but no regular
+     * updates.
+     * </pre>
+     */
+    boolean hasStatusChangesOnly();
+    /**
+     * <code>optional bool status_changes_only = 5 [default = false];</code>
+     *
+     * <pre>
+     * If set, only registrations, deregistrations and changes of the
+     * availability or status of services are reported, but no regular
+     * updates.
+     * </pre>
+     */
+    boolean getStatusChangesOnly();
+  }
+  /**
+   * Protobuf type {@code xtreemfs.pbrpc.serviceWatchRequest}
+   */
+  public static final class serviceWatchRequest extends
+      com.google.protobuf.GeneratedMessage
+      implements serviceWatchRequestOrBuilder {
+    // Use serviceWatchRequest.newBuilder() to construct.
+    private serviceWatchRequest(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+      this.unknownFields = builder.getUnknownFields();
+    }
+    private serviceWatchRequest(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+    private static final serviceWatchRequest defaultInstance;
+    public static serviceWatchRequest getDefaultInstance() {
+      return defaultInstance;
+    }
+
+    public serviceWatchRequest getDefaultInstanceForType() {
+      return defaultInstance;
+    }
+
+    private final com.google.protobuf.UnknownFieldSet unknownFields;
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+        getUnknownFields() {
+      return this.unknownFields;
+    }
+    private serviceWatchRequest(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      initFields();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 8: {
+              int rawValue = input.readEnum();
+              org.xtreemfs.pbrpc.generatedinterfaces.DIR.ServiceType value = org.xtreemfs.pbrpc.generatedinterfaces.DIR.ServiceType.valueOf(rawValue);
+              if (value == null) {
+                unknownFields.mergeVarintField(1, rawValue);
+              } else {
+                bitField0_ |= 0x00000001;
+                type_ = value;
+              }
+              break;
+            }
+            case 17: {
+              bitField0_ |= 0x00000002;
+              knownVersion_ = input.readFixed64();
+              break;
+            }
+            case 29: {
+              bitField0_ |= 0x00000004;
+              timeoutMs_ = input.readFixed32();
+              break;
+            }
+            case 34: {
+              if (!((mutable_bitField0_ & 0x00000008) == 0x00000008)) {
+                uuids_ = new com.google.protobuf.LazyStringArrayList();
+                mutable_bitField0_ |= 0x00000008;
+              }
+              uuids_.add(input.readBytes());
+              break;
+            }
+            case 40: {
+              bitField0_ |= 0x00000008;
+              statusChangesOnly_ = input.readBool();
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e.getMessage()).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000008) == 0x00000008)) {
+          uuids_ = new com.google.protobuf.UnmodifiableLazyStringList(uuids_);
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.xtreemfs.pbrpc.generatedinterfaces.DIR.internal_static_xtreemfs_pbrpc_serviceWatchRequest_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.xtreemfs.pbrpc.generatedinterfaces.DIR.internal_static_xtreemfs_pbrpc_serviceWatchRequest_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.xtreemfs.pbrpc.generatedinterfaces.DIR.serviceWatchRequest.class, org.xtreemfs.pbrpc.generatedinterfaces.DIR.serviceWatchRequest.Builder.class);
+    }
+
+    public static com.google.protobuf.Parser<serviceWatchRequest> PARSER =
+        new com.google.protobuf.AbstractParser<serviceWatchRequest>() {
+      public serviceWatchRequest parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new serviceWatchRequest(input, extensionRegistry);
+      }
+    };
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<serviceWatchRequest> getParserForType() {
+      return PARSER;
+    }
+
+    private int bitField0_;
+    // required .xtreemfs.pbrpc.ServiceType type = 1;
+    public static final int TYPE_FIELD_NUMBER = 1;
+    private org.xtreemfs.pbrpc.generatedinterfaces.DIR.ServiceType type_;
+    /**
+     * <code>required .xtreemfs.pbrpc.ServiceType type = 1;</code>
+     *
+     * <pre>
+     * Service types to watch. Use MIXED to watch all types.
+     * </pre>
+     */
+    public boolean hasType() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    /**
+     * <code>required .xtreemfs.pbrpc.ServiceType type = 1;</code>
+     *
+     * <pre>
+     * Service types to watch. Use MIXED to watch all types.
+     * </pre>
+     */
+    public org.xtreemfs.pbrpc.generatedinterfaces.DIR.ServiceType getType() {
+      return type_;
+    }
+
+    // required fixed64 known_version = 2;
+    public static final int KNOWN_VERSION_FIELD_NUMBER = 2;
+    private long knownVersion_;
+    /**
+     * <code>required fixed64 known_version = 2;</code>
+     *
+     * <pre>
+     * Registry version returned by the previous call, or 0 to retrieve
+     * all matching services.
+     * </pre>
+     */
+    public boolean hasKnownVersion() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
+    }
+    /**
+     * <code>required fixed64 known_version = 2;</code>
+     *
+     * <pre>
+     * Registry version returned by the previous call, or 0 to retrieve
+     * all matching services.
+     * </pre>
+     */
+    public long getKnownVersion() {
+      return knownVersion_;
+    }
+
+    // required fixed32 timeout_ms = 3;
+    public static final int TIMEOUT_MS_FIELD_NUMBER = 3;
+    private int timeoutMs_;
+    /**
+     * <code>required fixed32 timeout_ms = 3;</code>
+     *
+     * <pre>
+     * Maximum time to wait for changes in ms. Should be shorter than the
+     * RPC timeout of the caller.
+     * </pre>
+     */
+    public boolean hasTimeoutMs() {
+      return ((bitField0_ & 0x00000004) == 0x00000004);
+    }
+    /**
+     * <code>required fixed32 timeout_ms = 3;</code>
+     *
+     * <pre>
+     * Maximum time to wait for changes in ms. Should be shorter than the
+     * RPC timeout of the caller.
+     * </pre>
+     */
+    public int getTimeoutMs() {
+      return timeoutMs_;
+    }
+
+    // repeated string uuids = 4;
+    public static final int UUIDS_FIELD_NUMBER = 4;
+    private com.google.protobuf.LazyStringList uuids_;
+    /**
+     * <code>repeated string uuids = 4;</code>
+     *
+     * <pre>
+     * If set, only changes of the services with these UUIDs are reported.
+     * </pre>
+     */
+    public java.util.List<java.lang.String>
+        getUuidsList() {
+      return uuids_;
+    }
+    /**
+     * <code>repeated string uuids = 4;</code>
+     *
+     * <pre>
+     * If set, only changes of the services with these UUIDs are reported.
+     * </pre>
+     */
+    public int getUuidsCount() {
+      return uuids_.size();
+    }
+    /**
+     * <code>repeated string uuids = 4;</code>
+     *
+     * <pre>
+     * If set, only changes of the services with these UUIDs are reported.
+     * </pre>
+     */
+    public java.lang.String getUuids(int index) {
+      return uuids_.get(index);
+    }
+    /**
+     * <code>repeated string uuids = 4;</code>
+     *
+     * <pre>
+     * If set, only changes of the services with these UUIDs are reported.
+     * </pre>
+     */
+    public com.google.protobuf.ByteString
+        getUuidsBytes(int index) {
+      return uuids_.getByteString(index);
+    }
+
+    // optional bool status_changes_only = 5 [default = false];
+    public static final int STATUS_CHANGES_ONLY_FIELD_NUMBER = 5;
+    private boolean statusChangesOnly_;
+    /**
+     * <code>optional bool status_changes_only = 5 [default = false];</code>
+     *
+     * <pre>
+     * If set, only registrations, deregistrations and changes of the
+     * availability or status of services are reported, but no regular
+     * updates.
+     * </pre>
+     */
+    public boolean hasStatusChangesOnly() {
+      return ((bitField0_ & 0x00000008) == 0x00000008);
+    }
+    /**
+     * <code>optional bool status_changes_only = 5 [default = false];</code>
+     *
+     * <pre>
+     * If set, only registrations, deregistrations and changes of the
+     * availability or status of services are reported, but no regular
+     * updates.
+     * </pre>
+     */
+    public boolean getStatusChangesOnly() {
+      return statusChangesOnly_;
+    }
+
+    private void initFields() {
+      type_ = org.xtreemfs.pbrpc.generatedinterfaces.DIR.ServiceType.SERVICE_TYPE_MIXED;
+      knownVersion_ = 0L;
+      timeoutMs_ = 0;
+      uuids_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+      statusChangesOnly_ = false;
+    }
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized != -1) return isInitialized == 1;
+
+      if (!hasType()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!hasKnownVersion()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!hasTimeoutMs()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeEnum(1, type_.getNumber());
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        output.writeFixed64(2, knownVersion_);
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        output.writeFixed32(3, timeoutMs_);
+      }
+      for (int i = 0; i < uuids_.size(); i++) {
+        output.writeBytes(4, uuids_.getByteString(i));
+      }
+      if (((bitField0_ & 0x00000008) == 0x00000008)) {
+        output.writeBool(5, statusChangesOnly_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    private int memoizedSerializedSize = -1;
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeEnumSize(1, type_.getNumber());
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeFixed64Size(2, knownVersion_);
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeFixed32Size(3, timeoutMs_);
+      }
+      {
+        int dataSize = 0;
+        for (int i = 0; i < uuids_.size(); i++) {
+          dataSize += com.google.protobuf.CodedOutputStream
+            .computeBytesSizeNoTag(uuids_.getByteString(i));
+        }
+        size += dataSize;
+        size += 1 * getUuidsList().size();
+      }
+      if (((bitField0_ & 0x00000008) == 0x00000008)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(5, statusChangesOnly_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSerializedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
+      return super.writeReplace();
+    }
+
+    public static org.xtreemfs.pbrpc.generatedinterfaces.DIR.serviceWatchRequest parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.DIR.serviceWatchRequest parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.DIR.serviceWatchRequest parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.DIR.serviceWatchRequest parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.DIR.serviceWatchRequest parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.DIR.serviceWatchRequest parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.DIR.serviceWatchRequest parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.DIR.serviceWatchRequest parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.DIR.serviceWatchRequest parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.DIR.serviceWatchRequest parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(org.xtreemfs.pbrpc.generatedinterfaces.DIR.serviceWatchRequest prototype) {
+      return newBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() { return newBuilder(this); }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code xtreemfs.pbrpc.serviceWatchRequest}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder>
+       implements org.xtreemfs.pbrpc.generatedinterfaces.DIR.serviceWatchRequestOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.xtreemfs.pbrpc.generatedinterfaces.DIR.internal_static_xtreemfs_pbrpc_serviceWatchRequest_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.xtreemfs.pbrpc.generatedinterfaces.DIR.internal_static_xtreemfs_pbrpc_serviceWatchRequest_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.xtreemfs.pbrpc.generatedinterfaces.DIR.serviceWatchRequest.class, org.xtreemfs.pbrpc.generatedinterfaces.DIR.serviceWatchRequest.Builder.class);
+      }
+
+      // Construct using org.xtreemfs.pbrpc.generatedinterfaces.DIR.serviceWatchRequest.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+        }
+      }
+      private static Builder create() {
+        return new Builder();
+      }
+
+      public Builder clear() {
+        super.clear();
+        type_ = org.xtreemfs.pbrpc.generatedinterfaces.DIR.ServiceType.SERVICE_TYPE_MIXED;
+        bitField0_ = (bitField0_ & ~0x00000001);
+        knownVersion_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000002);
+        timeoutMs_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000004);
+        uuids_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+        bitField0_ = (bitField0_ & ~0x00000008);
+        statusChangesOnly_ = false;
+        bitField0_ = (bitField0_ & ~0x00000010);
+        return this;
+      }
+
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.xtreemfs.pbrpc.generatedinterfaces.DIR.internal_static_xtreemfs_pbrpc_serviceWatchRequest_descriptor;
+      }
+
+      public org.xtreemfs.pbrpc.generatedinterfaces.DIR.serviceWatchRequest getDefaultInstanceForType() {
+        return org.xtreemfs.pbrpc.generatedinterfaces.DIR.serviceWatchRequest.getDefaultInstance();
+      }
+
+      public org.xtreemfs.pbrpc.generatedinterfaces.DIR.serviceWatchRequest build() {
+        org.xtreemfs.pbrpc.generatedinterfaces.DIR.serviceWatchRequest result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public org.xtreemfs.pbrpc.generatedinterfaces.DIR.serviceWatchRequest buildPartial() {
+        org.xtreemfs.pbrpc.generatedinterfaces.DIR.serviceWatchRequest result = new org.xtreemfs.pbrpc.generatedinterfaces.DIR.serviceWatchRequest(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.type_ = type_;
+        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+          to_bitField0_ |= 0x00000002;
+        }
+        result.knownVersion_ = knownVersion_;
+        if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
+          to_bitField0_ |= 0x00000004;
+        }
+        result.timeoutMs_ = timeoutMs_;
+        if (((bitField0_ & 0x00000008) == 0x00000008)) {
+          uuids_ = new com.google.protobuf.UnmodifiableLazyStringList(
+              uuids_);
+          bitField0_ = (bitField0_ & ~0x00000008);
+        }
+        result.uuids_ = uuids_;
+        if (((from_bitField0_ & 0x00000010) == 0x00000010)) {
+          to_bitField0_ |= 0x00000008;
+        }
+        result.statusChangesOnly_ = statusChangesOnly_;
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.xtreemfs.pbrpc.generatedinterfaces.DIR.serviceWatchRequest) {
+          return mergeFrom((org.xtreemfs.pbrpc.generatedinterfaces.DIR.serviceWatchRequest)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.xtreemfs.pbrpc.generatedinterfaces.DIR.serviceWatchRequest other) {
+        if (other == org.xtreemfs.pbrpc.generatedinterfaces.DIR.serviceWatchRequest.getDefaultInstance()) return this;
+        if (other.hasType()) {
+          setType(other.getType());
+        }
+        if (other.hasKnownVersion()) {
+          setKnownVersion(other.getKnownVersion());
+        }
+        if (other.hasTimeoutMs()) {
+          setTimeoutMs(other.getTimeoutMs());
+        }
+        if (!other.uuids_.isEmpty()) {
+          if (uuids_.isEmpty()) {
+            uuids_ = other.uuids_;
+            bitField0_ = (bitField0_ & ~0x00000008);
+          } else {
+            ensureUuidsIsMutable();
+            uuids_.addAll(other.uuids_);
+          }
+          onChanged();
+        }
+        if (other.hasStatusChangesOnly()) {
+          setStatusChangesOnly(other.getStatusChangesOnly());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        if (!hasType()) {
+          
+          return false;
+        }
+        if (!hasKnownVersion()) {
+          
+          return false;
+        }
+        if (!hasTimeoutMs()) {
+          
+          return false;
+        }
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        org.xtreemfs.pbrpc.generatedinterfaces.DIR.serviceWatchRequest parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (org.xtreemfs.pbrpc.generatedinterfaces.DIR.serviceWatchRequest) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      // required .xtreemfs.pbrpc.ServiceType type = 1;
+      private org.xtreemfs.pbrpc.generatedinterfaces.DIR.ServiceType type_ = org.xtreemfs.pbrpc.generatedinterfaces.DIR.ServiceType.SERVICE_TYPE_MIXED;
+      /**
+       * <code>required .xtreemfs.pbrpc.ServiceType type = 1;</code>
+       *
+       * <pre>
+       * Service types to watch. Use MIXED to watch all types.
+       * </pre>
+       */
+      public boolean hasType() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      /**
+       * <code>required .xtreemfs.pbrpc.ServiceType type = 1;</code>
+       *
+       * <pre>
+       * Service types to watch. Use MIXED to watch all types.
+       * </pre>
+       */
+      public org.xtreemfs.pbrpc.generatedinterfaces.DIR.ServiceType getType() {
+        return type_;
+      }
+      /**
+       * <code>required .xtreemfs.pbrpc.ServiceType type = 1;</code>
+       *
+       * <pre>
+       * Service types to watch. Use MIXED to watch all types.
+       * </pre>
+       */
+      public Builder setType(org.xtreemfs.pbrpc.generatedinterfaces.DIR.ServiceType value) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        bitField0_ |= 0x00000001;
+        type_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required .xtreemfs.pbrpc.ServiceType type = 1;</code>
+       *
+       * <pre>
+       * Service types to watch. Use MIXED to watch all types.
+       * </pre>
+       */
+      public Builder clearType() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        type_ = org.xtreemfs.pbrpc.generatedinterfaces.DIR.ServiceType.SERVICE_TYPE_MIXED;
+        onChanged();
+        return this;
+      }
+
+      // required fixed64 known_version = 2;
+      private long knownVersion_ ;
+      /**
+       * <code>required fixed64 known_version = 2;</code>
+       *
+       * <pre>
+       * Registry version returned by the previous call, or 0 to retrieve
+       * all matching services.
+       * </pre>
+       */
+      public boolean hasKnownVersion() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
+      }
+      /**
+       * <code>required fixed64 known_version = 2;</code>
+       *
+       * <pre>
+       * Registry version returned by the previous call, or 0 to retrieve
+       * all matching services.
+       * </pre>
+       */
+      public long getKnownVersion() {
+        return knownVersion_;
+      }
+      /**
+       * <code>required fixed64 known_version = 2;</code>
+       *
+       * <pre>
+       * Registry version returned by the previous call, or 0 to retrieve
+       * all matching services.
+       * </pre>
+       */
+      public Builder setKnownVersion(long value) {
+        bitField0_ |= 0x00000002;
+        knownVersion_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required fixed64 known_version = 2;</code>
+       *
+       * <pre>
+       * Registry version returned by the previous call, or 0 to retrieve
+       * all matching services.
+       * </pre>
+       */
+      public Builder clearKnownVersion() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        knownVersion_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      // required fixed32 timeout_ms = 3;
+      private int timeoutMs_ ;
+      /**
+       * <code>required fixed32 timeout_ms = 3;</code>
+       *
+       * <pre>
+       * Maximum time to wait for changes in ms. Should be shorter than the
+       * RPC timeout of the caller.
+       * </pre>
+       */
+      public boolean hasTimeoutMs() {
+        return ((bitField0_ & 0x00000004) == 0x00000004);
+      }
+      /**
+       * <code>required fixed32 timeout_ms = 3;</code>
+       *
+       * <pre>
+       * Maximum time to wait for changes in ms. Should be shorter than the
+       * RPC timeout of the caller.
+       * </pre>
+       */
+      public int getTimeoutMs() {
+        return timeoutMs_;
+      }
+      /**
+       * <code>required fixed32 timeout_ms = 3;</code>
+       *
+       * <pre>
+       * Maximum time to wait for changes in ms. Should be shorter than the
+       * RPC timeout of the caller.
+       * </pre>
+       */
+      public Builder setTimeoutMs(int value) {
+        bitField0_ |= 0x00000004;
+        timeoutMs_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required fixed32 timeout_ms = 3;</code>
+       *
+       * <pre>
+       * Maximum time to wait for changes in ms. Should be shorter than the
+       * RPC timeout of the caller.
+       * </pre>
+       */
+      public Builder clearTimeoutMs() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        timeoutMs_ = 0;
+        onChanged();
+        return this;
+      }
+
+      // repeated string uuids = 4;
+      private com.google.protobuf.LazyStringList uuids_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+      private void ensureUuidsIsMutable() {
+        if (!((bitField0_ & 0x00000008) == 0x00000008)) {
+          uuids_ = new com.google.protobuf.LazyStringArrayList(uuids_);
+          bitField0_ |= 0x00000008;
+         }
+      }
+      /**
+       * <code>repeated string uuids = 4;</code>
+       *
+       * <pre>
+       * If set, only changes of the services with these UUIDs are reported.
+       * </pre>
+       */
+      public java.util.List<java.lang.String>
+          getUuidsList() {
+        return java.util.Collections.unmodifiableList(uuids_);
+      }
+      /**
+       * <code>repeated string uuids = 4;</code>
+       *
+       * <pre>
+       * If set, only changes of the services with these UUIDs are reported.
+       * </pre>
+       */
+      public int getUuidsCount() {
+        return uuids_.size();
+      }
+      /**
+       * <code>repeated string uuids = 4;</code>
+       *
+       * <pre>
+       * If set, only changes of the services with these UUIDs are reported.
+       * </pre>
+       */
+      public java.lang.String getUuids(int index) {
+        return uuids_.get(index);
+      }
+      /**
+       * <code>repeated string uuids = 4;</code>
+       *
+       * <pre>
+       * If set, only changes of the services with these UUIDs are reported.
+       * </pre>
+       */
+      public com.google.protobuf.ByteString
+          getUuidsBytes(int index) {
+        return uuids_.getByteString(index);
+      }
+      /**
+       * <code>repeated string uuids = 4;</code>
+       *
+       * <pre>
+       * If set, only changes of the services with these UUIDs are reported.
+       * </pre>
+       */
+      public Builder setUuids(
+          int index, java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureUuidsIsMutable();
+        uuids_.set(index, value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string uuids = 4;</code>
+       *
+       * <pre>
+       * If set, only changes of the services with these UUIDs are reported.
+       * </pre>
+       */
+      public Builder addUuids(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureUuidsIsMutable();
+        uuids_.add(value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string uuids = 4;</code>
+       *
+       * <pre>
+       * If set, only changes of the services with these UUIDs are reported.
+       * </pre>
+       */
+      public Builder addAllUuids(
+          java.lang.Iterable<java.lang.String> values) {
+        ensureUuidsIsMutable();
+        super.addAll(values, uuids_);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string uuids = 4;</code>
+       *
+       * <pre>
+       * If set, only changes of the services with these UUIDs are reported.
+       * </pre>
+       */
+      public Builder clearUuids() {
+        uuids_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+        bitField0_ = (bitField0_ & ~0x00000008);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string uuids = 4;</code>
+       *
+       * <pre>
+       * If set, only changes of the services with these UUIDs are reported.
+       * </pre>
+       */
+      public Builder addUuidsBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureUuidsIsMutable();
+        uuids_.add(value);
+        onChanged();
+        return this;
+      }
+
+      // optional bool status_changes_only = 5 [default = false];
+      private boolean statusChangesOnly_ ;
+      /**
+       * <code>optional bool status_changes_only = 5 [default = false];</code>
+       *
+       * <pre>
+       * If set, only registrations, deregistrations and changes of the
+       * availability or status of services are reported, but no regular
+       * updates.
+       * </pre>
+       */
+      public boolean hasStatusChangesOnly() {
+        return ((bitField0_ & 0x00000010) == 0x00000010);
+      }
+      /**
+       * <code>optional bool status_changes_only = 5 [default = false];</code>
+       *
+       * <pre>
+       * If set, only registrations, deregistrations and changes of the
+       * availability or status of services are reported, but no regular
+       * updates.
+       * </pre>
+       */
+      public boolean getStatusChangesOnly() {
+        return statusChangesOnly_;
+      }
+      /**
+       * <code>optional bool status_changes_only = 5 [default = false];</code>
+       *
+       * <pre>
+       * If set, only registrations, deregistrations and changes of the
+       * availability or status of services are reported, but no regular
+       * updates.
+       * </pre>
+       */
+      public Builder setStatusChangesOnly(boolean value) {
+        bitField0_ |= 0x00000010;
+        statusChangesOnly_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional bool status_changes_only = 5 [default = false];</code>
+       *
+       * <pre>
+       * If set, only registrations, deregistrations and changes of the
+       * availability or status of services are reported, but no regular
+       * updates.
+       * </pre>
+       */
+      public Builder clearStatusChangesOnly() {
+        bitField0_ = (bitField0_ & ~0x00000010);
+        statusChangesOnly_ = false;
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:xtreemfs.pbrpc.serviceWatchRequest)
+    }
+
+    static {
+      defaultInstance = new serviceWatchRequest(true);
+      defaultInstance.initFields();
+    }
+
+    // @@protoc_insertion_point(class_scope:xtreemfs.pbrpc.serviceWatchRequest)
+  }
+
+  public interface serviceWatchResponseOrBuilder
+      extends com.google.protobuf.MessageOrBuilder {
+
+    // required fixed64 version = 1;
+    /**
+     * <code>required fixed64 version = 1;</code>
+     *
+     * <pre>
+     * Current registry version, to be passed to the next call.
+     * </pre>
+     */
+    boolean hasVersion();
+    /**
+     * <code>required fixed64 version = 1;</code>
+     *
+     * <pre>
+     * Current registry version, to be passed to the next call.
+     * </pre>
+     */
+    long getVersion();
+
+    // required bool complete = 2;
+    /**
+     * <code>required bool complete = 2;</code>
+     *
+     * <pre>
+     * True if services contains all matching services instead of the
+     * changes since known_version.
+     * </pre>
+     */
+    boolean hasComplete();
+    /**
+     * <code>required bool complete = 2;</code>
+     *
+     * <pre>
+     * True if services contains all matching services instead of the
+     * changes since known_version.
+     * </pre>
+     */
+    boolean getComplete();
+
+    // repeated .xtreemfs.pbrpc.Service services = 3;
+    /**
+     * <code>repeated .xtreemfs.pbrpc.Service services = 3;</code>
+     *
+     * <pre>
+     * Matching services that have been registered or updated, including
+     * the seconds_since_last_update attribute.
+     * </pre>
+     */
+    java.util.List<org.xtreemfs.pbrpc.generatedinterfaces.DIR.Service> 
+        getServicesList();
+    /**
+     * <code>repeated .xtreemfs.pbrpc.Service services = 3;</code>
+     *
+     * <pre>
+     * Matching services that have been registered or updated, including
+     * the seconds_since_last_update attribute.
+     * </pre>
+     */
+    org.xtreemfs.pbrpc.generatedinterfaces.DIR.Service getServices(int index);
+    /**
+     * <code>repeated .xtreemfs.pbrpc.Service services = 3;</code>
+     *
+     * <pre>
+     * Matching services that have been registered or updated, including
+     * the seconds_since_last_update attribute.
+     * </pre>
+     */
+    int getServicesCount();
+    /**
+     * <code>repeated .xtreemfs.pbrpc.Service services = 3;</code>
+     *
+     * <pre>
+     * Matching services that have been registered or updated, including
+     * the seconds_since_last_update attribute.
+     * </pre>
+     */
+    java.util.List<? extends org.xtreemfs.pbrpc.generatedinterfaces.DIR.ServiceOrBuilder> 
+        getServicesOrBuilderList();
+    /**
+     * <code>repeated .xtreemfs.pbrpc.Service services = 3;</code>
+     *
+     * <pre>
+     * Matching services that have been registered or updated, including
+     * the seconds_since_last_update attribute.
+     * </pre>
+     */
+    org.xtreemfs.pbrpc.generatedinterfaces.DIR.ServiceOrBuilder getServicesOrBuilder(
+        int index);
+
+    // repeated string removed_uuids = 4;
+    /**
+     * <code>repeated string removed_uuids = 4;</code>
+     *
+     * <pre>
+     * UUIDs of matching services that have been deregistered.
+     * </pre>
+     */
+    java.util.List<java.lang.String>
+    getRemovedUuidsList();
+    /**
+     * <code>repeated string removed_uuids = 4;</code>
+     *
+     * <pre>
+     * UUIDs of matching services that have been deregistered.
+     * </pre>
+     */
+    int getRemovedUuidsCount();
+    /**
+     * <code>repeated string removed_uuids = 4;</code>
+     *
+     * <pre>
+     * UUIDs of matching services that have been deregistered.
+     * </pre>
+     */
+    java.lang.String getRemovedUuids(int index);
+    /**
+     * <code>repeated string removed_uuids = 4;</code>
+     *
+     * <pre>
+     * UUIDs of matching services that have been deregistered.
+     * </pre>
+     */
+    com.google.protobuf.ByteString
+        getRemovedUuidsBytes(int index);
+
+    // required fixed64 timestamp_s = 5;
+    /**
+     * <code>required fixed64 timestamp_s = 5;</code>
+     *
+     * <pre>
+     * Current time of the DIR in seconds.
+     * </pre>
+     */
+    boolean hasTimestampS();
+    /**
+     * <code>required fixed64 timestamp_s = 5;</code>
+     *
+     * <pre>
+     * Current time of the DIR in seconds.
+     * </pre>
+     */
+    long getTimestampS();
+  }
+  /**
+   * Protobuf type {@code xtreemfs.pbrpc.serviceWatchResponse}
+   */
+  public static final class serviceWatchResponse extends
+      com.google.protobuf.GeneratedMessage
+      implements serviceWatchResponseOrBuilder {
+    // Use serviceWatchResponse.newBuilder() to construct.
+    private serviceWatchResponse(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+      this.unknownFields = builder.getUnknownFields();
+    }
+    private serviceWatchResponse(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+    private static final serviceWatchResponse defaultInstance;
+    public static serviceWatchResponse getDefaultInstance() {
+      return defaultInstance;
+    }
+
+    public serviceWatchResponse getDefaultInstanceForType() {
+      return defaultInstance;
+    }
+
+    private final com.google.protobuf.UnknownFieldSet unknownFields;
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+        getUnknownFields() {
+      return this.unknownFields;
+    }
+    private serviceWatchResponse(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      initFields();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 9: {
+              bitField0_ |= 0x00000001;
+              version_ = input.readFixed64();
+              break;
+            }
+            case 16: {
+              bitField0_ |= 0x00000002;
+              complete_ = input.readBool();
+              break;
+            }
+            case 26: {
+              if (!((mutable_bitField0_ & 0x00000004) == 0x00000004)) {
+                services_ = new java.util.ArrayList<org.xtreemfs.pbrpc.generatedinterfaces.DIR.Service>();
+                mutable_bitField0_ |= 0x00000004;
+              }
+              services_.add(input.readMessage(org.xtreemfs.pbrpc.generatedinterfaces.DIR.Service.PARSER, extensionRegistry));
+              break;
+            }
+            case 34: {
+              if (!((mutable_bitField0_ & 0x00000008) == 0x00000008)) {
+                removedUuids_ = new com.google.protobuf.LazyStringArrayList();
+                mutable_bitField0_ |= 0x00000008;
+              }
+              removedUuids_.add(input.readBytes());
+              break;
+            }
+            case 41: {
+              bitField0_ |= 0x00000004;
+              timestampS_ = input.readFixed64();
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e.getMessage()).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000004) == 0x00000004)) {
+          services_ = java.util.Collections.unmodifiableList(services_);
+        }
+        if (((mutable_bitField0_ & 0x00000008) == 0x00000008)) {
+          removedUuids_ = new com.google.protobuf.UnmodifiableLazyStringList(removedUuids_);
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.xtreemfs.pbrpc.generatedinterfaces.DIR.internal_static_xtreemfs_pbrpc_serviceWatchResponse_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.xtreemfs.pbrpc.generatedinterfaces.DIR.internal_static_xtreemfs_pbrpc_serviceWatchResponse_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.xtreemfs.pbrpc.generatedinterfaces.DIR.serviceWatchResponse.class, org.xtreemfs.pbrpc.generatedinterfaces.DIR.serviceWatchResponse.Builder.class);
+    }
+
+    public static com.google.protobuf.Parser<serviceWatchResponse> PARSER =
+        new com.google.protobuf.AbstractParser<serviceWatchResponse>() {
+      public serviceWatchResponse parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new serviceWatchResponse(input, extensionRegistry);
+      }
+    };
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<serviceWatchResponse> getParserForType() {
+      return PARSER;
+    }
+
+    private int bitField0_;
+    // required fixed64 version = 1;
+    public static final int VERSION_FIELD_NUMBER = 1;
+    private long version_;
+    /**
+     * <code>required fixed64 version = 1;</code>
+     *
+     * <pre>
+     * Current registry version, to be passed to the next call.
+     * </pre>
+     */
+    public boolean hasVersion() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    /**
+     * <code>required fixed64 version = 1;</code>
+     *
+     * <pre>
+     * Current registry version, to be passed to the next call.
+     * </pre>
+     */
+    public long getVersion() {
+      return version_;
+    }
+
+    // required bool complete = 2;
+    public static final int COMPLETE_FIELD_NUMBER = 2;
+    private boolean complete_;
+    /**
+     * <code>required bool complete = 2;</code>
+     *
+     * <pre>
+     * True if services contains all matching services instead of the
+     * changes since known_version.
+     * </pre>
+     */
+    public boolean hasComplete() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
+    }
+    /**
+     * <code>required bool complete = 2;</code>
+     *
+     * <pre>
+     * True if services contains all matching services instead of the
+     * changes since known_version.
+     * </pre>
+     */
+    public boolean getComplete() {
+      return complete_;
+    }
+
+    // repeated .xtreemfs.pbrpc.Service services = 3;
+    public static final int SERVICES_FIELD_NUMBER = 3;
+    private java.util.List<org.xtreemfs.pbrpc.generatedinterfaces.DIR.Service> services_;
+    /**
+     * <code>repeated .xtreemfs.pbrpc.Service services = 3;</code>
+     *
+     * <pre>
+     * Matching services that have been registered or updated, including
+     * the seconds_since_last_update attribute.
+     * </pre>
+     */
+    public java.util.List<org.xtreemfs.pbrpc.generatedinterfaces.DIR.Service> getServicesList() {
+      return services_;
+    }
+    /**
+     * <code>repeated .xtreemfs.pbrpc.Service services = 3;</code>
+     *
+     * <pre>
+     * Matching services that have been registered or updated, including
+     * the seconds_since_last_update attribute.
+     * </pre>
+     */
+    public java.util.List<? extends org.xtreemfs.pbrpc.generatedinterfaces.DIR.ServiceOrBuilder> 
+        getServicesOrBuilderList() {
+      return services_;
+    }
+    /**
+     * <code>repeated .xtreemfs.pbrpc.Service services = 3;</code>
+     *
+     * <pre>
+     * Matching services that have been registered or updated, including
+     * the seconds_since_last_update attribute.
+     * </pre>
+     */
+    public int getServicesCount() {
+      return services_.size();
+    }
+    /**
+     * <code>repeated .xtreemfs.pbrpc.Service services = 3;</code>
+     *
+     * <pre>
+     * Matching services that have been registered or updated, including
+     * the seconds_since_last_update attribute.
+     * </pre>
+     */
+    public org.xtreemfs.pbrpc.generatedinterfaces.DIR.Service getServices(int index) {
+      return services_.get(index);
+    }
+    /**
+     * <code>repeated .xtreemfs.pbrpc.Service services = 3;</code>
+     *
+     * <pre>
+     * Matching services that have been registered or updated, including
+     * the seconds_since_last_update attribute.
+     * </pre>
+     */
+    public org.xtreemfs.pbrpc.generatedinterfaces.DIR.ServiceOrBuilder getServicesOrBuilder(
+        int index) {
+      return services_.get(index);
+    }
+
+    // repeated string removed_uuids = 4;
+    public static final int REMOVED_UUIDS_FIELD_NUMBER = 4;
+    private com.google.protobuf.LazyStringList removedUuids_;
+    /**
+     * <code>repeated string removed_uuids = 4;</code>
+     *
+     * <pre>
+     * UUIDs of matching services that have been deregistered.
+     * </pre>
+     */
+    public java.util.List<java.lang.String>
+        getRemovedUuidsList() {
+      return removedUuids_;
+    }
+    /**
+     * <code>repeated string removed_uuids = 4;</code>
+     *
+     * <pre>
+     * UUIDs of matching services that have been deregistered.
+     * </pre>
+     */
+    public int getRemovedUuidsCount() {
+      return removedUuids_.size();
+    }
+    /**
+     * <code>repeated string removed_uuids = 4;</code>
+     *
+     * <pre>
+     * UUIDs of matching services that have been deregistered.
+     * </pre>
+     */
+    public java.lang.String getRemovedUuids(int index) {
+      return removedUuids_.get(index);
+    }
+    /**
+     * <code>repeated string removed_uuids = 4;</code>
+     *
+     * <pre>
+     * UUIDs of matching services that have been deregistered.
+     * </pre>
+     */
+    public com.google.protobuf.ByteString
+        getRemovedUuidsBytes(int index) {
+      return removedUuids_.getByteString(index);
+    }
+
+    // required fixed64 timestamp_s = 5;
+    public static final int TIMESTAMP_S_FIELD_NUMBER = 5;
+    private long timestampS_;
+    /**
+     * <code>required fixed64 timestamp_s = 5;</code>
+     *
+     * <pre>
+     * Current time of the DIR in seconds.
+     * </pre>
+     */
+    public boolean hasTimestampS() {
+      return ((bitField0_ & 0x00000004) == 0x00000004);
+    }
+    /**
+     * <code>required fixed64 timestamp_s = 5;</code>
+     *
+     * <pre>
+     * Current time of the DIR in seconds.
+     * </pre>
+     */
+    public long getTimestampS() {
+      return timestampS_;
+    }
+
+    private void initFields() {
+      version_ = 0L;
+      complete_ = false;
+      services_ = java.util.Collections.emptyList();
+      removedUuids_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+      timestampS_ = 0L;
+    }
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized != -1) return isInitialized == 1;
+
+      if (!hasVersion()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!hasComplete()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!hasTimestampS()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      for (int i = 0; i < getServicesCount(); i++) {
+        if (!getServices(i).isInitialized()) {
+          memoizedIsInitialized = 0;
+          return false;
+        }
+      }
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeFixed64(1, version_);
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        output.writeBool(2, complete_);
+      }
+      for (int i = 0; i < services_.size(); i++) {
+        output.writeMessage(3, services_.get(i));
+      }
+      for (int i = 0; i < removedUuids_.size(); i++) {
+        output.writeBytes(4, removedUuids_.getByteString(i));
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        output.writeFixed64(5, timestampS_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    private int memoizedSerializedSize = -1;
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeFixed64Size(1, version_);
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(2, complete_);
+      }
+      for (int i = 0; i < services_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(3, services_.get(i));
+      }
+      {
+        int dataSize = 0;
+        for (int i = 0; i < removedUuids_.size(); i++) {
+          dataSize += com.google.protobuf.CodedOutputStream
+            .computeBytesSizeNoTag(removedUuids_.getByteString(i));
+        }
+        size += dataSize;
+        size += 1 * getRemovedUuidsList().size();
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeFixed64Size(5, timestampS_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSerializedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
+      return super.writeReplace();
+    }
+
+    public static org.xtreemfs.pbrpc.generatedinterfaces.DIR.serviceWatchResponse parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.DIR.serviceWatchResponse parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.DIR.serviceWatchResponse parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.DIR.serviceWatchResponse parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.DIR.serviceWatchResponse parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.DIR.serviceWatchResponse parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.DIR.serviceWatchResponse parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.DIR.serviceWatchResponse parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.DIR.serviceWatchResponse parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.DIR.serviceWatchResponse parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(org.xtreemfs.pbrpc.generatedinterfaces.DIR.serviceWatchResponse prototype) {
+      return newBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() { return newBuilder(this); }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code xtreemfs.pbrpc.serviceWatchResponse}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder>
+       implements org.xtreemfs.pbrpc.generatedinterfaces.DIR.serviceWatchResponseOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.xtreemfs.pbrpc.generatedinterfaces.DIR.internal_static_xtreemfs_pbrpc_serviceWatchResponse_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.xtreemfs.pbrpc.generatedinterfaces.DIR.internal_static_xtreemfs_pbrpc_serviceWatchResponse_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.xtreemfs.pbrpc.generatedinterfaces.DIR.serviceWatchResponse.class, org.xtreemfs.pbrpc.generatedinterfaces.DIR.serviceWatchResponse.Builder.class);
+      }
+
+      // Construct using org.xtreemfs.pbrpc.generatedinterfaces.DIR.serviceWatchResponse.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+          getServicesFieldBuilder();
+        }
+      }
+      private static Builder create() {
+        return new Builder();
+      }
+
+      public Builder clear() {
+        super.clear();
+        version_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000001);
+        complete_ = false;
+        bitField0_ = (bitField0_ & ~0x00000002);
+        if (servicesBuilder_ == null) {
+          services_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000004);
+        } else {
+          servicesBuilder_.clear();
+        }
+        removedUuids_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+        bitField0_ = (bitField0_ & ~0x00000008);
+        timestampS_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000010);
+        return this;
+      }
+
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.xtreemfs.pbrpc.generatedinterfaces.DIR.internal_static_xtreemfs_pbrpc_serviceWatchResponse_descriptor;
+      }
+
+      public org.xtreemfs.pbrpc.generatedinterfaces.DIR.serviceWatchResponse getDefaultInstanceForType() {
+        return org.xtreemfs.pbrpc.generatedinterfaces.DIR.serviceWatchResponse.getDefaultInstance();
+      }
+
+      public org.xtreemfs.pbrpc.generatedinterfaces.DIR.serviceWatchResponse build() {
+        org.xtreemfs.pbrpc.generatedinterfaces.DIR.serviceWatchResponse result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public org.xtreemfs.pbrpc.generatedinterfaces.DIR.serviceWatchResponse buildPartial() {
+        org.xtreemfs.pbrpc.generatedinterfaces.DIR.serviceWatchResponse result = new org.xtreemfs.pbrpc.generatedinterfaces.DIR.serviceWatchResponse(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.version_ = version_;
+        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+          to_bitField0_ |= 0x00000002;
+        }
+        result.complete_ = complete_;
+        if (servicesBuilder_ == null) {
+          if (((bitField0_ & 0x00000004) == 0x00000004)) {
+            services_ = java.util.Collections.unmodifiableList(services_);
+            bitField0_ = (bitField0_ & ~0x00000004);
+          }
+          result.services_ = services_;
+        } else {
+          result.services_ = servicesBuilder_.build();
+        }
+        if (((bitField0_ & 0x00000008) == 0x00000008)) {
+          removedUuids_ = new com.google.protobuf.UnmodifiableLazyStringList(
+              removedUuids_);
+          bitField0_ = (bitField0_ & ~0x00000008);
+        }
+        result.removedUuids_ = removedUuids_;
+        if (((from_bitField0_ & 0x00000010) == 0x00000010)) {
+          to_bitField0_ |= 0x00000004;
+        }
+        result.timestampS_ = timestampS_;
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.xtreemfs.pbrpc.generatedinterfaces.DIR.serviceWatchResponse) {
+          return mergeFrom((org.xtreemfs.pbrpc.generatedinterfaces.DIR.serviceWatchResponse)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.xtreemfs.pbrpc.generatedinterfaces.DIR.serviceWatchResponse other) {
+        if (other == org.xtreemfs.pbrpc.generatedinterfaces.DIR.serviceWatchResponse.getDefaultInstance()) return this;
+        if (other.hasVersion()) {
+          setVersion(other.getVersion());
+        }
+        if (other.hasComplete()) {
+          setComplete(other.getComplete());
+        }
+        if (servicesBuilder_ == null) {
+          if (!other.services_.isEmpty()) {
+            if (services_.isEmpty()) {
+              services_ = other.services_;
+              bitField0_ = (bitField0_ & ~0x00000004);
+            } else {
+              ensureServicesIsMutable();
+              services_.addAll(other.services_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.services_.isEmpty()) {
+            if (servicesBuilder_.isEmpty()) {
+              servicesBuilder_.dispose();
+              servicesBuilder_ = null;
+              services_ = other.services_;
+              bitField0_ = (bitField0_ & ~0x00000004);
+              servicesBuilder_ = 
+                com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
+                   getServicesFieldBuilder() : null;
+            } else {
+              servicesBuilder_.addAllMessages(other.services_);
+            }
+          }
+        }
+        if (!other.removedUuids_.isEmpty()) {
+          if (removedUuids_.isEmpty()) {
+            removedUuids_ = other.removedUuids_;
+            bitField0_ = (bitField0_ & ~0x00000008);
+          } else {
+            ensureRemovedUuidsIsMutable();
+            removedUuids_.addAll(other.removedUuids_);
+          }
+          onChanged();
+        }
+        if (other.hasTimestampS()) {
+          setTimestampS(other.getTimestampS());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        if (!hasVersion()) {
+          
+          return false;
+        }
+        if (!hasComplete()) {
+          
+          return false;
+        }
+        if (!hasTimestampS()) {
+          
+          return false;
+        }
+        for (int i = 0; i < getServicesCount(); i++) {
+          if (!getServices(i).isInitialized()) {
+            
+            return false;
+          }
+        }
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        org.xtreemfs.pbrpc.generatedinterfaces.DIR.serviceWatchResponse parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (org.xtreemfs.pbrpc.generatedinterfaces.DIR.serviceWatchResponse) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      // required fixed64 version = 1;
+      private long version_ ;
+      /**
+       * <code>required fixed64 version = 1;</code>
+       *
+       * <pre>
+       * Current registry version, to be passed to the next call.
+       * </pre>
+       */
+      public boolean hasVersion() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      /**
+       * <code>required fixed64 version = 1;</code>
+       *
+       * <pre>
+       * Current registry version, to be passed to the next call.
+       * </pre>
+       */
+      public long getVersion() {
+        return version_;
+      }
+      /**
+       * <code>required fixed64 version = 1;</code>
+       *
+       * <pre>
+       * Current registry version, to be passed to the next call.
+       * </pre>
+       */
+      public Builder setVersion(long value) {
+        bitField0_ |= 0x00000001;
+        version_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required fixed64 version = 1;</code>
+       *
+       * <pre>
+       * Current registry version, to be passed to the next call.
+       * </pre>
+       */
+      public Builder clearVersion() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        version_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      // required bool complete = 2;
+      private boolean complete_ ;
+      /**
+       * <code>required bool complete = 2;</code>
+       *
+       * <pre>
+       * True if services contains all matching services instead of the
+       * changes since known_version.
+       * </pre>
+       */
+      public boolean hasComplete() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
+      }
+      /**
+       * <code>required bool complete = 2;</code>
+       *
+       * <pre>
+       * True if services contains all matching services instead of the
+       * changes since known_version.
+       * </pre>
+       */
+      public boolean getComplete() {
+        return complete_;
+      }
+      /**
+       * <code>required bool complete = 2;</code>
+       *
+       * <pre>
+       * True if services contains all matching services instead of the
+       * changes since known_version.
+       * </pre>
+       */
+      public Builder setComplete(boolean value) {
+        bitField0_ |= 0x00000002;
+        complete_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required bool complete = 2;</code>
+       *
+       * <pre>
+       * True if services contains all matching services instead of the
+       * changes since known_version.
+       * </pre>
+       */
+      public Builder clearComplete() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        complete_ = false;
+        onChanged();
+        return this;
+      }
+
+      // repeated .xtreemfs.pbrpc.Service services = 3;
+      private java.util.List<org.xtreemfs.pbrpc.generatedinterfaces.DIR.Service> services_ =
+        java.util.Collections.emptyList();
+      private void ensureServicesIsMutable() {
+        if (!((bitField0_ & 0x00000004) == 0x00000004)) {
+          services_ = new java.util.ArrayList<org.xtreemfs.pbrpc.generatedinterfaces.DIR.Service>(services_);
+          bitField0_ |= 0x00000004;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilder<
+          org.xtreemfs.pbrpc.generatedinterfaces.DIR.Service, org.xtreemfs.pbrpc.generatedinterfaces.DIR.Service.Builder, org.xtreemfs.pbrpc.generatedinterfaces.DIR.ServiceOrBuilder> servicesBuilder_;
+
+      /**
+       * <code>repeated .xtreemfs.pbrpc.Service services = 3;</code>
+       *
+       * <pre>
+       * Matching services that have been registered or updated, including
+       * the seconds_since_last_update attribute.
+       * </pre>
+       */
+      public java.util.List<org.xtreemfs.pbrpc.generatedinterfaces.DIR.Service> getServicesList() {
+        if (servicesBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(services_);
+        } else {
+          return servicesBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .xtreemfs.pbrpc.Service services = 3;</code>
+       *
+       * <pre>
+       * Matching services that have been registered or updated, including
+       * the seconds_since_last_update attribute.
+       * </pre>
+       */
+      public int getServicesCount() {
+        if (servicesBuilder_ == null) {
+          return services_.size();
+        } else {
+          return servicesBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .xtreemfs.pbrpc.Service services = 3;</code>
+       *
+       * <pre>
+       * Matching services that have been registered or updated, including
+       * the seconds_since_last_update attribute.
+       * </pre>
+       */
+      public org.xtreemfs.pbrpc.generatedinterfaces.DIR.Service getServices(int index) {
+        if (servicesBuilder_ == null) {
+          return services_.get(index);
+        } else {
+          return servicesBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .xtreemfs.pbrpc.Service services = 3;</code>
+       *
+       * <pre>
+       * Matching services that have been registered or updated, including
+       * the seconds_since_last_update attribute.
+       * </pre>
+       */
+      public Builder setServices(
+          int index, org.xtreemfs.pbrpc.generatedinterfaces.DIR.Service value) {
+        if (servicesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureServicesIsMutable();
+          services_.set(index, value);
+          onChanged();
+        } else {
+          servicesBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .xtreemfs.pbrpc.Service services = 3;</code>
+       *
+       * <pre>
+       * Matching services that have been registered or updated, including
+       * the seconds_since_last_update attribute.
+       * </pre>
+       */
+      public Builder setServices(
+          int index, org.xtreemfs.pbrpc.generatedinterfaces.DIR.Service.Builder builderForValue) {
+        if (servicesBuilder_ == null) {
+          ensureServicesIsMutable();
+          services_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          servicesBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .xtreemfs.pbrpc.Service services = 3;</code>
+       *
+       * <pre>
+       * Matching services that have been registered or updated, including
+       * the seconds_since_last_update attribute.
+       * </pre>
+       */
+      public Builder addServices(org.xtreemfs.pbrpc.generatedinterfaces.DIR.Service value) {
+        if (servicesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureServicesIsMutable();
+          services_.add(value);
+          onChanged();
+        } else {
+          servicesBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .xtreemfs.pbrpc.Service services = 3;</code>
+       *
+       * <pre>
+       * Matching services that have been registered or updated, including
+       * the seconds_since_last_update attribute.
+       * </pre>
+       */
+      public Builder addServices(
+          int index, org.xtreemfs.pbrpc.generatedinterfaces.DIR.Service value) {
+        if (servicesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureServicesIsMutable();
+          services_.add(index, value);
+          onChanged();
+        } else {
+          servicesBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .xtreemfs.pbrpc.Service services = 3;</code>
+       *
+       * <pre>
+       * Matching services that have been registered or updated, including
+       * the seconds_since_last_update attribute.
+       * </pre>
+       */
+      public Builder addServices(
+          org.xtreemfs.pbrpc.generatedinterfaces.DIR.Service.Builder builderForValue) {
+        if (servicesBuilder_ == null) {
+          ensureServicesIsMutable();
+          services_.add(builderForValue.build());
+          onChanged();
+        } else {
+          servicesBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .xtreemfs.pbrpc.Service services = 3;</code>
+       *
+       * <pre>
+       * Matching services that have been registered or updated, including
+       * the seconds_since_last_update attribute.
+       * </pre>
+       */
+      public Builder addServices(
+          int index, org.xtreemfs.pbrpc.generatedinterfaces.DIR.Service.Builder builderForValue) {
+        if (servicesBuilder_ == null) {
+          ensureServicesIsMutable();
+          services_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          servicesBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .xtreemfs.pbrpc.Service services = 3;</code>
+       *
+       * <pre>
+       * Matching services that have been registered or updated, including
+       * the seconds_since_last_update attribute.
+       * </pre>
+       */
+      public Builder addAllServices(
+          java.lang.Iterable<? extends org.xtreemfs.pbrpc.generatedinterfaces.DIR.Service> values) {
+        if (servicesBuilder_ == null) {
+          ensureServicesIsMutable();
+          super.addAll(values, services_);
+          onChanged();
+        } else {
+          servicesBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .xtreemfs.pbrpc.Service services = 3;</code>
+       *
+       * <pre>
+       * Matching services that have been registered or updated, including
+       * the seconds_since_last_update attribute.
+       * </pre>
+       */
+      public Builder clearServices() {
+        if (servicesBuilder_ == null) {
+          services_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000004);
+          onChanged();
+        } else {
+          servicesBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .xtreemfs.pbrpc.Service services = 3;</code>
+       *
+       * <pre>
+       * Matching services that have been registered or updated, including
+       * the seconds_since_last_update attribute.
+       * </pre>
+       */
+      public Builder removeServices(int index) {
+        if (servicesBuilder_ == null) {
+          ensureServicesIsMutable();
+          services_.remove(index);
+          onChanged();
+        } else {
+          servicesBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .xtreemfs.pbrpc.Service services = 3;</code>
+       *
+       * <pre>
+       * Matching services that have been registered or updated, including
+       * the seconds_since_last_update attribute.
+       * </pre>
+       */
+      public org.xtreemfs.pbrpc.generatedinterfaces.DIR.Service.Builder getServicesBuilder(
+          int index) {
+        return getServicesFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .xtreemfs.pbrpc.Service services = 3;</code>
+       *
+       * <pre>
+       * Matching services that have been registered or updated, including
+       * the seconds_since_last_update attribute.
+       * </pre>
+       */
+      public org.xtreemfs.pbrpc.generatedinterfaces.DIR.ServiceOrBuilder getServicesOrBuilder(
+          int index) {
+        if (servicesBuilder_ == null) {
+          return services_.get(index);  } else {
+          return servicesBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .xtreemfs.pbrpc.Service services = 3;</code>
+       *
+       * <pre>
+       * Matching services that have been registered or updated, including
+       * the seconds_since_last_update attribute.
+       * </pre>
+       */
+      public java.util.List<? extends org.xtreemfs.pbrpc.generatedinterfaces.DIR.ServiceOrBuilder> 
+           getServicesOrBuilderList() {
+        if (servicesBuilder_ != null) {
+          return servicesBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(services_);
+        }
+      }
+      /**
+       * <code>repeated .xtreemfs.pbrpc.Service services = 3;</code>
+       *
+       * <pre>
+       * Matching services that have been registered or updated, including
+       * the seconds_since_last_update attribute.
+       * </pre>
+       */
+      public org.xtreemfs.pbrpc.generatedinterfaces.DIR.Service.Builder addServicesBuilder() {
+        return getServicesFieldBuilder().addBuilder(
+            org.xtreemfs.pbrpc.generatedinterfaces.DIR.Service.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .xtreemfs.pbrpc.Service services = 3;</code>
+       *
+       * <pre>
+       * Matching services that have been registered or updated, including
+       * the seconds_since_last_update attribute.
+       * </pre>
+       */
+      public org.xtreemfs.pbrpc.generatedinterfaces.DIR.Service.Builder addServicesBuilder(
+          int index) {
+        return getServicesFieldBuilder().addBuilder(
+            index, org.xtreemfs.pbrpc.generatedinterfaces.DIR.Service.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .xtreemfs.pbrpc.Service services = 3;</code>
+       *
+       * <pre>
+       * Matching services that have been registered or updated, including
+       * the seconds_since_last_update attribute.
+       * </pre>
+       */
+      public java.util.List<org.xtreemfs.pbrpc.generatedinterfaces.DIR.Service.Builder> 
+           getServicesBuilderList() {
+        return getServicesFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilder<
+          org.xtreemfs.pbrpc.generatedinterfaces.DIR.Service, org.xtreemfs.pbrpc.generatedinterfaces.DIR.Service.Builder, org.xtreemfs.pbrpc.generatedinterfaces.DIR.ServiceOrBuilder> 
+          getServicesFieldBuilder() {
+        if (servicesBuilder_ == null) {
+          servicesBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
+              org.xtreemfs.pbrpc.generatedinterfaces.DIR.Service, org.xtreemfs.pbrpc.generatedinterfaces.DIR.Service.Builder, org.xtreemfs.pbrpc.generatedinterfaces.DIR.ServiceOrBuilder>(
+                  services_,
+                  ((bitField0_ & 0x00000004) == 0x00000004),
+                  getParentForChildren(),
+                  isClean());
+          services_ = null;
+        }
+        return servicesBuilder_;
+      }
+
+      // repeated string removed_uuids = 4;
+      private com.google.protobuf.LazyStringList removedUuids_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+      private void ensureRemovedUuidsIsMutable() {
+        if (!((bitField0_ & 0x00000008) == 0x00000008)) {
+          removedUuids_ = new com.google.protobuf.LazyStringArrayList(removedUuids_);
+          bitField0_ |= 0x00000008;
+         }
+      }
+      /**
+       * <code>repeated string removed_uuids = 4;</code>
+       *
+       * <pre>
+       * UUIDs of matching services that have been deregistered.
+       * </pre>
+       */
+      public java.util.List<java.lang.String>
+          getRemovedUuidsList() {
+        return java.util.Collections.unmodifiableList(removedUuids_);
+      }
+      /**
+       * <code>repeated string removed_uuids = 4;</code>
+       *
+       * <pre>
+       * UUIDs of matching services that have been deregistered.
+       * </pre>
+       */
+      public int getRemovedUuidsCount() {
+        return removedUuids_.size();
+      }
+      /**
+       * <code>repeated string removed_uuids = 4;</code>
+       *
+       * <pre>
+       * UUIDs of matching services that have been deregistered.
+       * </pre>
+       */
+      public java.lang.String getRemovedUuids(int index) {
+        return removedUuids_.get(index);
+      }
+      /**
+       * <code>repeated string removed_uuids = 4;</code>
+       *
+       * <pre>
+       * UUIDs of matching services that have been deregistered.
+       * </pre>
+       */
+      public com.google.protobuf.ByteString
+          getRemovedUuidsBytes(int index) {
+        return removedUuids_.getByteString(index);
+      }
+      /**
+       * <code>repeated string removed_uuids = 4;</code>
+       *
+       * <pre>
+       * UUIDs of matching services that have been deregistered.
+       * </pre>
+       */
+      public Builder setRemovedUuids(
+          int index, java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureRemovedUuidsIsMutable();
+        removedUuids_.set(index, value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string removed_uuids = 4;</code>
+       *
+       * <pre>
+       * UUIDs of matching services that have been deregistered.
+       * </pre>
+       */
+      public Builder addRemovedUuids(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureRemovedUuidsIsMutable();
+        removedUuids_.add(value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string removed_uuids = 4;</code>
+       *
+       * <pre>
+       * UUIDs of matching services that have been deregistered.
+       * </pre>
+       */
+      public Builder addAllRemovedUuids(
+          java.lang.Iterable<java.lang.String> values) {
+        ensureRemovedUuidsIsMutable();
+        super.addAll(values, removedUuids_);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string removed_uuids = 4;</code>
+       *
+       * <pre>
+       * UUIDs of matching services that have been deregistered.
+       * </pre>
+       */
+      public Builder clearRemovedUuids() {
+        removedUuids_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+        bitField0_ = (bitField0_ & ~0x00000008);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string removed_uuids = 4;</code>
+       *
+       * <pre>
+       * UUIDs of matching services that have been deregistered.
+       * </pre>
+       */
+      public Builder addRemovedUuidsBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureRemovedUuidsIsMutable();
+        removedUuids_.add(value);
+        onChanged();
+        return this;
+      }
+
+      // required fixed64 timestamp_s = 5;
+      private long timestampS_ ;
+      /**
+       * <code>required fixed64 timestamp_s = 5;</code>
+       *
+       * <pre>
+       * Current time of the DIR in seconds.
+       * </pre>
+       */
+      public boolean hasTimestampS() {
+        return ((bitField0_ & 0x00000010) == 0x00000010);
+      }
+      /**
+       * <code>required fixed64 timestamp_s = 5;</code>
+       *
+       * <pre>
+       * Current time of the DIR in seconds.
+       * </pre>
+       */
+      public long getTimestampS() {
+        return timestampS_;
+      }
+      /**
+       * <code>required fixed64 timestamp_s = 5;</code>
+       *
+       * <pre>
+       * Current time of the DIR in seconds.
+       * </pre>
+       */
+      public Builder setTimestampS(long value) {
+        bitField0_ |= 0x00000010;
+        timestampS_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required fixed64 timestamp_s = 5;</code>
+       *
+       * <pre>
+       * Current time of the DIR in seconds.
+       * </pre>
+       */
+      public Builder clearTimestampS() {
+        bitField0_ = (bitField0_ & ~0x00000010);
+        timestampS_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:xtreemfs.pbrpc.serviceWatchResponse)
+    }
+
+    static {
+      defaultInstance = new serviceWatchResponse(true);
+      defaultInstance.initFields();
+    }
+
+    // @@protoc_insertion_point(class_scope:xtreemfs.pbrpc.serviceWatchResponse)
+  }
+
   public interface configurationGetRequestOrBuilder
       extends com.google.protobuf.MessageOrBuilder {
 
@@ -13511,6 +16049,16 @@ public final class DIR {
   private static
     com.google.protobuf.GeneratedMessage.FieldAccessorTable
       internal_static_xtreemfs_pbrpc_serviceRegisterResponse_fieldAccessorTable;
+  private static com.google.protobuf.Descriptors.Descriptor
+    internal_static_xtreemfs_pbrpc_serviceWatchRequest_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_xtreemfs_pbrpc_serviceWatchRequest_fieldAccessorTable;
+  private static com.google.protobuf.Descriptors.Descriptor
+    internal_static_xtreemfs_pbrpc_serviceWatchResponse_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_xtreemfs_pbrpc_serviceWatchResponse_fieldAccessorTable;
   private static com.google.protobuf.Descriptors.Descriptor
     internal_static_xtreemfs_pbrpc_configurationGetRequest_descriptor;
   private static
@@ -13563,61 +16111,71 @@ public final class DIR {
       "mfs.pbrpc.ServiceType\"B\n\026serviceRegister" +
       "Request\022(\n\007service\030\001 \002(\0132\027.xtreemfs.pbrp" +
       "c.Service\".\n\027serviceRegisterResponse\022\023\n\013" +
-      "new_version\030\001 \002(\006\"\'\n\027configurationGetReq" +
-      "uest\022\014\n\004uuid\030\001 \002(\t\"/\n\030configurationSetRe" +
-      "sponse\022\023\n\013new_version\030\001 \001(\006*\200\001\n\013ServiceT" +
-      "ype\022\026\n\022SERVICE_TYPE_MIXED\020\000\022\024\n\020SERVICE_T" +
-      "YPE_MRC\020\001\022\024\n\020SERVICE_TYPE_OSD\020\002\022\027\n\023SERVI" +
-      "CE_TYPE_VOLUME\020\003\022\024\n\020SERVICE_TYPE_DIR\020\004*g" +
-      "\n\rServiceStatus\022\030\n\024SERVICE_STATUS_AVAIL\020",
-      "\000\022 \n\034SERVICE_STATUS_TO_BE_REMOVED\020\001\022\032\n\026S" +
-      "ERVICE_STATUS_REMOVED\020\0022\355\r\n\020DirectorySer" +
-      "vice\022u\n\035xtreemfs_address_mappings_get\022(." +
-      "xtreemfs.pbrpc.addressMappingGetRequest\032" +
-      "!.xtreemfs.pbrpc.AddressMappingSet\"\007\215\265\030\001" +
-      "\000\000\000\022t\n xtreemfs_address_mappings_remove\022" +
-      "(.xtreemfs.pbrpc.addressMappingGetReques" +
-      "t\032\035.xtreemfs.pbrpc.emptyResponse\"\007\215\265\030\002\000\000" +
-      "\000\022v\n\035xtreemfs_address_mappings_set\022!.xtr" +
-      "eemfs.pbrpc.AddressMappingSet\032).xtreemfs",
-      ".pbrpc.addressMappingSetResponse\"\007\215\265\030\003\000\000" +
-      "\000\022Z\n\025xtreemfs_discover_dir\022\034.xtreemfs.pb" +
-      "rpc.emptyRequest\032\032.xtreemfs.pbrpc.DirSer" +
-      "vice\"\007\215\265\030\004\000\000\000\022k\n\032xtreemfs_global_time_s_" +
-      "get\022\034.xtreemfs.pbrpc.emptyRequest\032&.xtre" +
-      "emfs.pbrpc.globalTimeSGetResponse\"\007\215\265\030\005\000" +
-      "\000\000\022o\n\033xtreemfs_service_deregister\022(.xtre" +
-      "emfs.pbrpc.serviceDeregisterRequest\032\035.xt" +
-      "reemfs.pbrpc.emptyResponse\"\007\215\265\030\006\000\000\000\022l\n\034x" +
-      "treemfs_service_get_by_name\022\'.xtreemfs.p",
-      "brpc.serviceGetByNameRequest\032\032.xtreemfs." +
-      "pbrpc.ServiceSet\"\007\215\265\030\007\000\000\000\022l\n\034xtreemfs_se" +
-      "rvice_get_by_type\022\'.xtreemfs.pbrpc.servi" +
-      "ceGetByTypeRequest\032\032.xtreemfs.pbrpc.Serv" +
-      "iceSet\"\007\215\265\030\010\000\000\000\022l\n\034xtreemfs_service_get_" +
-      "by_uuid\022\'.xtreemfs.pbrpc.serviceGetByUUI" +
-      "DRequest\032\032.xtreemfs.pbrpc.ServiceSet\"\007\215\265" +
-      "\030\t\000\000\000\022k\n\030xtreemfs_service_offline\022\'.xtre" +
-      "emfs.pbrpc.serviceGetByUUIDRequest\032\035.xtr" +
-      "eemfs.pbrpc.emptyResponse\"\007\215\265\030\n\000\000\000\022u\n\031xt",
-      "reemfs_service_register\022&.xtreemfs.pbrpc" +
-      ".serviceRegisterRequest\032\'.xtreemfs.pbrpc" +
-      ".serviceRegisterResponse\"\007\215\265\030\013\000\000\000\022[\n\023xtr" +
-      "eemfs_checkpoint\022\034.xtreemfs.pbrpc.emptyR" +
-      "equest\032\035.xtreemfs.pbrpc.emptyResponse\"\007\215" +
-      "\265\030\024\000\000\000\022Y\n\021xtreemfs_shutdown\022\034.xtreemfs.p" +
-      "brpc.emptyRequest\032\035.xtreemfs.pbrpc.empty" +
-      "Response\"\007\215\265\030\025\000\000\000\022m\n\032xtreemfs_configurat" +
-      "ion_get\022\'.xtreemfs.pbrpc.configurationGe" +
-      "tRequest\032\035.xtreemfs.pbrpc.Configuration\"",
-      "\007\215\265\030\026\000\000\000\022n\n\032xtreemfs_configuration_set\022\035" +
-      ".xtreemfs.pbrpc.Configuration\032(.xtreemfs" +
-      ".pbrpc.configurationSetResponse\"\007\215\265\030\027\000\000\000" +
-      "\022l\n\036xtreemfs_vivaldi_client_update\022\".xtr" +
-      "eemfs.pbrpc.VivaldiCoordinates\032\035.xtreemf" +
-      "s.pbrpc.emptyResponse\"\007\215\265\030\030\000\000\000\032\007\225\265\030\021\'\000\000B" +
-      "(\n&org.xtreemfs.pbrpc.generatedinterface" +
-      "s"
+      "new_version\030\001 \002(\006\"\236\001\n\023serviceWatchReques" +
+      "t\022)\n\004type\030\001 \002(\0162\033.xtreemfs.pbrpc.Service" +
+      "Type\022\025\n\rknown_version\030\002 \002(\006\022\022\n\ntimeout_m" +
+      "s\030\003 \002(\007\022\r\n\005uuids\030\004 \003(\t\022\"\n\023status_changes" +
+      "_only\030\005 \001(\010:\005false\"\220\001\n\024serviceWatchRespo" +
+      "nse\022\017\n\007version\030\001 \002(\006\022\020\n\010complete\030\002 \002(\010\022)" +
+      "\n\010services\030\003 \003(\0132\027.xtreemfs.pbrpc.Servic",
+      "e\022\025\n\rremoved_uuids\030\004 \003(\t\022\023\n\013timestamp_s\030" +
+      "\005 \002(\006\"\'\n\027configurationGetRequest\022\014\n\004uuid" +
+      "\030\001 \002(\t\"/\n\030configurationSetResponse\022\023\n\013ne" +
+      "w_version\030\001 \001(\006*\200\001\n\013ServiceType\022\026\n\022SERVI" +
+      "CE_TYPE_MIXED\020\000\022\024\n\020SERVICE_TYPE_MRC\020\001\022\024\n" +
+      "\020SERVICE_TYPE_OSD\020\002\022\027\n\023SERVICE_TYPE_VOLU" +
+      "ME\020\003\022\024\n\020SERVICE_TYPE_DIR\020\004*g\n\rServiceSta" +
+      "tus\022\030\n\024SERVICE_STATUS_AVAIL\020\000\022 \n\034SERVICE" +
+      "_STATUS_TO_BE_REMOVED\020\001\022\032\n\026SERVICE_STATU" +
+      "S_REMOVED\020\0022\333\016\n\020DirectoryService\022u\n\035xtre",
+      "emfs_address_mappings_get\022(.xtreemfs.pbr" +
+      "pc.addressMappingGetRequest\032!.xtreemfs.p" +
+      "brpc.AddressMappingSet\"\007\215\265\030\001\000\000\000\022t\n xtree" +
+      "mfs_address_mappings_remove\022(.xtreemfs.p" +
+      "brpc.addressMappingGetRequest\032\035.xtreemfs" +
+      ".pbrpc.emptyResponse\"\007\215\265\030\002\000\000\000\022v\n\035xtreemf" +
+      "s_address_mappings_set\022!.xtreemfs.pbrpc." +
+      "AddressMappingSet\032).xtreemfs.pbrpc.addre" +
+      "ssMappingSetResponse\"\007\215\265\030\003\000\000\000\022Z\n\025xtreemf" +
+      "s_discover_dir\022\034.xtreemfs.pbrpc.emptyReq",
+      "uest\032\032.xtreemfs.pbrpc.DirService\"\007\215\265\030\004\000\000" +
+      "\000\022k\n\032xtreemfs_global_time_s_get\022\034.xtreem" +
+      "fs.pbrpc.emptyRequest\032&.xtreemfs.pbrpc.g" +
+      "lobalTimeSGetResponse\"\007\215\265\030\005\000\000\000\022o\n\033xtreem" +
+      "fs_service_deregister\022(.xtreemfs.pbrpc.s" +
+      "erviceDeregisterRequest\032\035.xtreemfs.pbrpc" +
+      ".emptyResponse\"\007\215\265\030\006\000\000\000\022l\n\034xtreemfs_serv" +
+      "ice_get_by_name\022\'.xtreemfs.pbrpc.service" +
+      "GetByNameRequest\032\032.xtreemfs.pbrpc.Servic" +
+      "eSet\"\007\215\265\030\007\000\000\000\022l\n\034xtreemfs_service_get_by",
+      "_type\022\'.xtreemfs.pbrpc.serviceGetByTypeR" +
+      "equest\032\032.xtreemfs.pbrpc.ServiceSet\"\007\215\265\030\010" +
+      "\000\000\000\022l\n\034xtreemfs_service_get_by_uuid\022\'.xt" +
+      "reemfs.pbrpc.serviceGetByUUIDRequest\032\032.x" +
+      "treemfs.pbrpc.ServiceSet\"\007\215\265\030\t\000\000\000\022k\n\030xtr" +
+      "eemfs_service_offline\022\'.xtreemfs.pbrpc.s" +
+      "erviceGetByUUIDRequest\032\035.xtreemfs.pbrpc." +
+      "emptyResponse\"\007\215\265\030\n\000\000\000\022u\n\031xtreemfs_servi" +
+      "ce_register\022&.xtreemfs.pbrpc.serviceRegi" +
+      "sterRequest\032\'.xtreemfs.pbrpc.serviceRegi",
+      "sterResponse\"\007\215\265\030\013\000\000\000\022[\n\023xtreemfs_checkp" +
+      "oint\022\034.xtreemfs.pbrpc.emptyRequest\032\035.xtr" +
+      "eemfs.pbrpc.emptyResponse\"\007\215\265\030\024\000\000\000\022Y\n\021xt" +
+      "reemfs_shutdown\022\034.xtreemfs.pbrpc.emptyRe" +
+      "quest\032\035.xtreemfs.pbrpc.emptyResponse\"\007\215\265" +
+      "\030\025\000\000\000\022m\n\032xtreemfs_configuration_get\022\'.xt" +
+      "reemfs.pbrpc.configurationGetRequest\032\035.x" +
+      "treemfs.pbrpc.Configuration\"\007\215\265\030\026\000\000\000\022n\n\032" +
+      "xtreemfs_configuration_set\022\035.xtreemfs.pb" +
+      "rpc.Configuration\032(.xtreemfs.pbrpc.confi",
+      "gurationSetResponse\"\007\215\265\030\027\000\000\000\022l\n\036xtreemfs" +
+      "_vivaldi_client_update\022\".xtreemfs.pbrpc." +
+      "VivaldiCoordinates\032\035.xtreemfs.pbrpc.empt" +
+      "yResponse\"\007\215\265\030\030\000\000\000\022l\n\026xtreemfs_service_w" +
+      "atch\022#.xtreemfs.pbrpc.serviceWatchReques" +
+      "t\032$.xtreemfs.pbrpc.serviceWatchResponse\"" +
+      "\007\215\265\030\031\000\000\000\032\007\225\265\030\021\'\000\000B(\n&org.xtreemfs.pbrpc." +
+      "generatedinterfaces"
     };
     com.google.protobuf.Descriptors.FileDescriptor.InternalDescriptorAssigner assigner =
       new com.google.protobuf.Descriptors.FileDescriptor.InternalDescriptorAssigner() {
@@ -13726,14 +16284,26 @@ public final class DIR {
             com.google.protobuf.GeneratedMessage.FieldAccessorTable(
               internal_static_xtreemfs_pbrpc_serviceRegisterResponse_descriptor,
               new java.lang.String[] { "NewVersion", });
-          internal_static_xtreemfs_pbrpc_configurationGetRequest_descriptor =
+          internal_static_xtreemfs_pbrpc_serviceWatchRequest_descriptor =
             getDescriptor().getMessageTypes().get(17);
+          internal_static_xtreemfs_pbrpc_serviceWatchRequest_fieldAccessorTable = new
+            com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+              internal_static_xtreemfs_pbrpc_serviceWatchRequest_descriptor,
+              new java.lang.String[] { "Type", "KnownVersion", "TimeoutMs", "Uuids", "StatusChangesOnly", });
+          internal_static_xtreemfs_pbrpc_serviceWatchResponse_descriptor =
+            getDescriptor().getMessageTypes().get(18);
+          internal_static_xtreemfs_pbrpc_serviceWatchResponse_fieldAccessorTable = new
+            com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+              internal_static_xtreemfs_pbrpc_serviceWatchResponse_descriptor,
+              new java.lang.String[] { "Version", "Complete", "Services", "RemovedUuids", "TimestampS", });
+          internal_static_xtreemfs_pbrpc_configurationGetRequest_descriptor =
+            getDescriptor().getMessageTypes().get(19);
           internal_static_xtreemfs_pbrpc_configurationGetRequest_fieldAccessorTable = new
             com.google.protobuf.GeneratedMessage.FieldAccessorTable(
               internal_static_xtreemfs_pbrpc_configurationGetRequest_descriptor,
               new java.lang.String[] { "Uuid", });
           internal_static_xtreemfs_pbrpc_configurationSetResponse_descriptor =
-            getDescriptor().getMessageTypes().get(18);
+            getDescriptor().getMessageTypes().get(20);
           internal_static_xtreemfs_pbrpc_configurationSetResponse_fieldAccessorTable = new
             com.google.protobuf.GeneratedMessage.FieldAccessorTable(
               internal_static_xtreemfs_pbrpc_configurationSetResponse_descriptor,
@@ -13756,6 +16326,7 @@ public final class DIR {
           registry.add(org.xtreemfs.foundation.pbrpc.generatedinterfaces.PBRPC.procId);
           registry.add(org.xtreemfs.foundation.pbrpc.generatedinterfaces.PBRPC.procId);
           registry.add(org.xtreemfs.foundation.pbrpc.generatedinterfaces.PBRPC.procId);
+          registry.add(org.xtreemfs.foundation.pbrpc.generatedinterfaces.PBRPC.procId);
           registry.add(org.xtreemfs.foundation.pbrpc.generatedinterfaces.PBRPC.interfaceId);
           return registry;
         }
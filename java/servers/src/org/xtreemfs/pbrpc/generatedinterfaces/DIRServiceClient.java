@@ -1,5 +1,5 @@
-//automatically generated from DIR.proto at Thu Dec 11 16:09:37 CET 2014
-//(c) 2014. See LICENSE file for details.
+//automatically generated from DIR.proto at Mon Oct 19 05:42:52 UTC 2026
+//(c) 2026. See LICENSE file for details.
 
 package org.xtreemfs.pbrpc.generatedinterfaces;
 
@@ -232,6 +232,19 @@ public class DIRServiceClient {
          return xtreemfs_vivaldi_client_update(server, authHeader, userCreds,msg);
     }
 
+    public RPCResponse<DIR.serviceWatchResponse> xtreemfs_service_watch(InetSocketAddress server, Auth authHeader, UserCredentials userCreds, DIR.serviceWatchRequest input) throws IOException {
+         if (server == null) server = defaultServer;
+         if (server == null) throw new IllegalArgumentException("defaultServer must be set in constructor if you want to pass null as server in calls");
+         RPCResponse<DIR.serviceWatchResponse> response = new RPCResponse<DIR.serviceWatchResponse>(DIR.serviceWatchResponse.getDefaultInstance());
+         client.sendRequest(server, authHeader, userCreds, 10001, 25, input, null, response, false);
+         return response;
+    }
+
+    public RPCResponse<DIR.serviceWatchResponse> xtreemfs_service_watch(InetSocketAddress server, Auth authHeader, UserCredentials userCreds, DIR.ServiceType type, long known_version, int timeout_ms, List<String> uuids, boolean status_changes_only) throws IOException {
+         final DIR.serviceWatchRequest msg = DIR.serviceWatchRequest.newBuilder().setType(type).setKnownVersion(known_version).setTimeoutMs(timeout_ms).addAllUuids(uuids).setStatusChangesOnly(status_changes_only).build();
+         return xtreemfs_service_watch(server, authHeader, userCreds,msg);
+    }
+
     public boolean clientIsAlive() {
         return client.isAlive();
     }
@@ -1,5 +1,5 @@
-//automatically generated from DIR.proto at Thu Dec 11 16:09:37 CET 2014
-//(c) 2014. See LICENSE file for details.
+//automatically generated from DIR.proto at Mon Oct 19 05:42:52 UTC 2026
+//(c) 2026. See LICENSE file for details.
 
 package org.xtreemfs.pbrpc.generatedinterfaces;
 
@@ -24,6 +24,7 @@ public class DIRServiceConstants {
     public static final int PROC_ID_XTREEMFS_CONFIGURATION_GET = 22;
     public static final int PROC_ID_XTREEMFS_CONFIGURATION_SET = 23;
     public static final int PROC_ID_XTREEMFS_VIVALDI_CLIENT_UPDATE = 24;
+    public static final int PROC_ID_XTREEMFS_SERVICE_WATCH = 25;
 
     public static Message getRequestMessage(int procId) {
         switch (procId) {
@@ -43,6 +44,7 @@ public class DIRServiceConstants {
            case 22: return DIR.configurationGetRequest.getDefaultInstance();
            case 23: return DIR.Configuration.getDefaultInstance();
            case 24: return GlobalTypes.VivaldiCoordinates.getDefaultInstance();
+           case 25: return DIR.serviceWatchRequest.getDefaultInstance();
            default: throw new RuntimeException("unknown procedure id");
         }
     }
@@ -66,6 +68,7 @@ public class DIRServiceConstants {
            case 22: return DIR.Configuration.getDefaultInstance();
            case 23: return DIR.configurationSetResponse.getDefaultInstance();
            case 24: return null;
+           case 25: return DIR.serviceWatchResponse.getDefaultInstance();
            default: throw new RuntimeException("unknown procedure id");
         }
     }
@@ -3394,6 +3394,36 @@ public final class MRC {
      */
     org.xtreemfs.pbrpc.generatedinterfaces.MRC.DirectoryEntryOrBuilder getEntriesOrBuilder(
         int index);
+
+    // optional string continuation_cursor = 2;
+    /**
+     * <code>optional string continuation_cursor = 2;</code>
+     *
+     * <pre>
+     * a cursor that can be passed to the next readdir call to continue the
+     * listing after the last returned entry
+     * </pre>
+     */
+    boolean hasContinuationCursor();
+    /**
+     * <code>optional string continuation_cursor = 2;</code>
+     *
+     * <pre>
+     * a cursor that can be passed to the next readdir call to continue the
+     * listing after the last returned entry
+     * </pre>
+     */
+    java.lang.String getContinuationCursor();
+    /**
+     * <code>optional string continuation_cursor = 2;</code>
+     *
+     * <pre>
+     * a cursor that can be passed to the next readdir call to continue the
+     * listing after the last returned entry
+     * </pre>
+     */
+    com.google.protobuf.ByteString
+        getContinuationCursorBytes();
   }
   /**
    * Protobuf type {@code xtreemfs.pbrpc.DirectoryEntries}
@@ -3458,6 +3488,11 @@ public final class MRC {
               entries_.add(input.readMessage(org.xtreemfs.pbrpc.generatedinterfaces.MRC.DirectoryEntry.PARSER, extensionRegistry));
               break;
             }
+            case 18: {
+              bitField0_ |= 0x00000001;
+              continuationCursor_ = input.readBytes();
+              break;
+            }
           }
         }
       } catch (com.google.protobuf.InvalidProtocolBufferException e) {
@@ -3500,6 +3535,7 @@ public final class MRC {
       return PARSER;
     }
 
+    private int bitField0_;
     // repeated .xtreemfs.pbrpc.DirectoryEntry entries = 1;
     public static final int ENTRIES_FIELD_NUMBER = 1;
     private java.util.List<org.xtreemfs.pbrpc.generatedinterfaces.MRC.DirectoryEntry> entries_;
@@ -3536,8 +3572,67 @@ public final class MRC {
       return entries_.get(index);
     }
 
+    // optional string continuation_cursor = 2;
+    public static final int CONTINUATION_CURSOR_FIELD_NUMBER = 2;
+    private java.lang.Object continuationCursor_;
+    /**
+     * <code>optional string continuation_cursor = 2;</code>
+     *
+     * <pre>
+     * a cursor that can be passed to the next readdir call to continue the
+     * listing after the last returned entry
+     * </pre>
+     */
+    public boolean hasContinuationCursor() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    /**
+     * <code>optional string continuation_cursor = 2;</code>
+     *
+     * <pre>
+     * a cursor that can be passed to the next readdir call to continue the
+     * listing after the last returned entry
+     * </pre>
+     */
+    public java.lang.String getContinuationCursor() {
+      java.lang.Object ref = continuationCursor_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          continuationCursor_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string continuation_cursor = 2;</code>
+     *
+     * <pre>
+     * a cursor that can be passed to the next readdir call to continue the
+     * listing after the last returned entry
+     * </pre>
+     */
+    public com.google.protobuf.ByteString
+        getContinuationCursorBytes() {
+      java.lang.Object ref = continuationCursor_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        continuationCursor_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
     private void initFields() {
       entries_ = java.util.Collections.emptyList();
+      continuationCursor_ = "";
     }
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
@@ -3560,6 +3655,9 @@ public final class MRC {
       for (int i = 0; i < entries_.size(); i++) {
         output.writeMessage(1, entries_.get(i));
       }
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeBytes(2, getContinuationCursorBytes());
+      }
       getUnknownFields().writeTo(output);
     }
 
@@ -3573,6 +3671,10 @@ public final class MRC {
         size += com.google.protobuf.CodedOutputStream
           .computeMessageSize(1, entries_.get(i));
       }
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(2, getContinuationCursorBytes());
+      }
       size += getUnknownFields().getSerializedSize();
       memoizedSerializedSize = size;
       return size;
@@ -3700,6 +3802,8 @@ public final class MRC {
         } else {
           entriesBuilder_.clear();
         }
+        continuationCursor_ = "";
+        bitField0_ = (bitField0_ & ~0x00000002);
         return this;
       }
 
@@ -3727,6 +3831,7 @@ public final class MRC {
       public org.xtreemfs.pbrpc.generatedinterfaces.MRC.DirectoryEntries buildPartial() {
         org.xtreemfs.pbrpc.generatedinterfaces.MRC.DirectoryEntries result = new org.xtreemfs.pbrpc.generatedinterfaces.MRC.DirectoryEntries(this);
         int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
         if (entriesBuilder_ == null) {
           if (((bitField0_ & 0x00000001) == 0x00000001)) {
             entries_ = java.util.Collections.unmodifiableList(entries_);
@@ -3736,6 +3841,11 @@ public final class MRC {
         } else {
           result.entries_ = entriesBuilder_.build();
         }
+        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.continuationCursor_ = continuationCursor_;
+        result.bitField0_ = to_bitField0_;
         onBuilt();
         return result;
       }
@@ -3777,6 +3887,11 @@ public final class MRC {
             }
           }
         }
+        if (other.hasContinuationCursor()) {
+          bitField0_ |= 0x00000002;
+          continuationCursor_ = other.continuationCursor_;
+          onChanged();
+        }
         this.mergeUnknownFields(other.getUnknownFields());
         return this;
       }
@@ -4050,6 +4165,110 @@ public final class MRC {
         return entriesBuilder_;
       }
 
+      // optional string continuation_cursor = 2;
+      private java.lang.Object continuationCursor_ = "";
+      /**
+       * <code>optional string continuation_cursor = 2;</code>
+       *
+       * <pre>
+       * a cursor that can be passed to the next readdir call to continue the
+       * listing after the last returned entry
+       * </pre>
+       */
+      public boolean hasContinuationCursor() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
+      }
+      /**
+       * <code>optional string continuation_cursor = 2;</code>
+       *
+       * <pre>
+       * a cursor that can be passed to the next readdir call to continue the
+       * listing after the last returned entry
+       * </pre>
+       */
+      public java.lang.String getContinuationCursor() {
+        java.lang.Object ref = continuationCursor_;
+        if (!(ref instanceof java.lang.String)) {
+          java.lang.String s = ((com.google.protobuf.ByteString) ref)
+              .toStringUtf8();
+          continuationCursor_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string continuation_cursor = 2;</code>
+       *
+       * <pre>
+       * a cursor that can be passed to the next readdir call to continue the
+       * listing after the last returned entry
+       * </pre>
+       */
+      public com.google.protobuf.ByteString
+          getContinuationCursorBytes() {
+        java.lang.Object ref = continuationCursor_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          continuationCursor_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string continuation_cursor = 2;</code>
+       *
+       * <pre>
+       * a cursor that can be passed to the next readdir call to continue the
+       * listing after the last returned entry
+       * </pre>
+       */
+      public Builder setContinuationCursor(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+        continuationCursor_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string continuation_cursor = 2;</code>
+       *
+       * <pre>
+       * a cursor that can be passed to the next readdir call to continue the
+       * listing after the last returned entry
+       * </pre>
+       */
+      public Builder clearContinuationCursor() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        continuationCursor_ = getDefaultInstance().getContinuationCursor();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string continuation_cursor = 2;</code>
+       *
+       * <pre>
+       * a cursor that can be passed to the next readdir call to continue the
+       * listing after the last returned entry
+       * </pre>
+       */
+      public Builder setContinuationCursorBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+        continuationCursor_ = value;
+        onChanged();
+        return this;
+      }
+
       // @@protoc_insertion_point(builder_scope:xtreemfs.pbrpc.DirectoryEntries)
     }
 
@@ -19936,6 +20155,39 @@ public final class MRC {
      * </pre>
      */
     long getSeenDirectoryEntriesCount();
+
+    // optional string continuation_cursor = 7;
+    /**
+     * <code>optional string continuation_cursor = 7;</code>
+     *
+     * <pre>
+     * the continuation cursor returned by the previous call; if not empty,
+     * the entries following the cursor are returned, and
+     * seen_directory_entries_count is ignored
+     * </pre>
+     */
+    boolean hasContinuationCursor();
+    /**
+     * <code>optional string continuation_cursor = 7;</code>
+     *
+     * <pre>
+     * the continuation cursor returned by the previous call; if not empty,
+     * the entries following the cursor are returned, and
+     * seen_directory_entries_count is ignored
+     * </pre>
+     */
+    java.lang.String getContinuationCursor();
+    /**
+     * <code>optional string continuation_cursor = 7;</code>
+     *
+     * <pre>
+     * the continuation cursor returned by the previous call; if not empty,
+     * the entries following the cursor are returned, and
+     * seen_directory_entries_count is ignored
+     * </pre>
+     */
+    com.google.protobuf.ByteString
+        getContinuationCursorBytes();
   }
   /**
    * Protobuf type {@code xtreemfs.pbrpc.readdirRequest}
@@ -20022,6 +20274,11 @@ public final class MRC {
               seenDirectoryEntriesCount_ = input.readFixed64();
               break;
             }
+            case 58: {
+              bitField0_ |= 0x00000040;
+              continuationCursor_ = input.readBytes();
+              break;
+            }
           }
         }
       } catch (com.google.protobuf.InvalidProtocolBufferException e) {
@@ -20274,6 +20531,67 @@ public final class MRC {
       return seenDirectoryEntriesCount_;
     }
 
+    // optional string continuation_cursor = 7;
+    public static final int CONTINUATION_CURSOR_FIELD_NUMBER = 7;
+    private java.lang.Object continuationCursor_;
+    /**
+     * <code>optional string continuation_cursor = 7;</code>
+     *
+     * <pre>
+     * the continuation cursor returned by the previous call; if not empty,
+     * the entries following the cursor are returned, and
+     * seen_directory_entries_count is ignored
+     * </pre>
+     */
+    public boolean hasContinuationCursor() {
+      return ((bitField0_ & 0x00000040) == 0x00000040);
+    }
+    /**
+     * <code>optional string continuation_cursor = 7;</code>
+     *
+     * <pre>
+     * the continuation cursor returned by the previous call; if not empty,
+     * the entries following the cursor are returned, and
+     * seen_directory_entries_count is ignored
+     * </pre>
+     */
+    public java.lang.String getContinuationCursor() {
+      java.lang.Object ref = continuationCursor_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          continuationCursor_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string continuation_cursor = 7;</code>
+     *
+     * <pre>
+     * the continuation cursor returned by the previous call; if not empty,
+     * the entries following the cursor are returned, and
+     * seen_directory_entries_count is ignored
+     * </pre>
+     */
+    public com.google.protobuf.ByteString
+        getContinuationCursorBytes() {
+      java.lang.Object ref = continuationCursor_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        continuationCursor_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
     private void initFields() {
       volumeName_ = "";
       path_ = "";
@@ -20281,6 +20599,7 @@ public final class MRC {
       limitDirectoryEntriesCount_ = 0;
       namesOnly_ = false;
       seenDirectoryEntriesCount_ = 0L;
+      continuationCursor_ = "";
     }
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
@@ -20336,6 +20655,9 @@ public final class MRC {
       if (((bitField0_ & 0x00000020) == 0x00000020)) {
         output.writeFixed64(6, seenDirectoryEntriesCount_);
       }
+      if (((bitField0_ & 0x00000040) == 0x00000040)) {
+        output.writeBytes(7, getContinuationCursorBytes());
+      }
       getUnknownFields().writeTo(output);
     }
 
@@ -20369,6 +20691,10 @@ public final class MRC {
         size += com.google.protobuf.CodedOutputStream
           .computeFixed64Size(6, seenDirectoryEntriesCount_);
       }
+      if (((bitField0_ & 0x00000040) == 0x00000040)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(7, getContinuationCursorBytes());
+      }
       size += getUnknownFields().getSerializedSize();
       memoizedSerializedSize = size;
       return size;
@@ -20501,6 +20827,8 @@ public final class MRC {
         bitField0_ = (bitField0_ & ~0x00000010);
         seenDirectoryEntriesCount_ = 0L;
         bitField0_ = (bitField0_ & ~0x00000020);
+        continuationCursor_ = "";
+        bitField0_ = (bitField0_ & ~0x00000040);
         return this;
       }
 
@@ -20553,6 +20881,10 @@ public final class MRC {
           to_bitField0_ |= 0x00000020;
         }
         result.seenDirectoryEntriesCount_ = seenDirectoryEntriesCount_;
+        if (((from_bitField0_ & 0x00000040) == 0x00000040)) {
+          to_bitField0_ |= 0x00000040;
+        }
+        result.continuationCursor_ = continuationCursor_;
         result.bitField0_ = to_bitField0_;
         onBuilt();
         return result;
@@ -20591,6 +20923,11 @@ public final class MRC {
         if (other.hasSeenDirectoryEntriesCount()) {
           setSeenDirectoryEntriesCount(other.getSeenDirectoryEntriesCount());
         }
+        if (other.hasContinuationCursor()) {
+          bitField0_ |= 0x00000040;
+          continuationCursor_ = other.continuationCursor_;
+          onChanged();
+        }
         this.mergeUnknownFields(other.getUnknownFields());
         return this;
       }
@@ -21046,6 +21383,116 @@ public final class MRC {
         return this;
       }
 
+      // optional string continuation_cursor = 7;
+      private java.lang.Object continuationCursor_ = "";
+      /**
+       * <code>optional string continuation_cursor = 7;</code>
+       *
+       * <pre>
+       * the continuation cursor returned by the previous call; if not empty,
+       * the entries following the cursor are returned, and
+       * seen_directory_entries_count is ignored
+       * </pre>
+       */
+      public boolean hasContinuationCursor() {
+        return ((bitField0_ & 0x00000040) == 0x00000040);
+      }
+      /**
+       * <code>optional string continuation_cursor = 7;</code>
+       *
+       * <pre>
+       * the continuation cursor returned by the previous call; if not empty,
+       * the entries following the cursor are returned, and
+       * seen_directory_entries_count is ignored
+       * </pre>
+       */
+      public java.lang.String getContinuationCursor() {
+        java.lang.Object ref = continuationCursor_;
+        if (!(ref instanceof java.lang.String)) {
+          java.lang.String s = ((com.google.protobuf.ByteString) ref)
+              .toStringUtf8();
+          continuationCursor_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string continuation_cursor = 7;</code>
+       *
+       * <pre>
+       * the continuation cursor returned by the previous call; if not empty,
+       * the entries following the cursor are returned, and
+       * seen_directory_entries_count is ignored
+       * </pre>
+       */
+      public com.google.protobuf.ByteString
+          getContinuationCursorBytes() {
+        java.lang.Object ref = continuationCursor_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          continuationCursor_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string continuation_cursor = 7;</code>
+       *
+       * <pre>
+       * the continuation cursor returned by the previous call; if not empty,
+       * the entries following the cursor are returned, and
+       * seen_directory_entries_count is ignored
+       * </pre>
+       */
+      public Builder setContinuationCursor(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000040;
+        continuationCursor_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string continuation_cursor = 7;</code>
+       *
+       * <pre>
+       * the continuation cursor returned by the previous call; if not empty,
+       * the entries following the cursor are returned, and
+       * seen_directory_entries_count is ignored
+       * </pre>
+       */
+      public Builder clearContinuationCursor() {
+        bitField0_ = (bitField0_ & ~0x00000040);
+        continuationCursor_ = getDefaultInstance().getContinuationCursor();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string continuation_cursor = 7;</code>
+       *
+       * <pre>
+       * the continuation cursor returned by the previous call; if not empty,
+       * the entries following the cursor are returned, and
+       * seen_directory_entries_count is ignored
+       * </pre>
+       */
+      public Builder setContinuationCursorBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000040;
+        continuationCursor_ = value;
+        onChanged();
+        return this;
+      }
+
       // @@protoc_insertion_point(builder_scope:xtreemfs.pbrpc.readdirRequest)
     }
 
@@ -39708,127 +40155,57 @@ public final class MRC {
     // @@protoc_insertion_point(class_scope:xtreemfs.pbrpc.xtreemfs_replica_listRequest)
   }
 
-  public interface xtreemfs_get_xlocsetRequestOrBuilder
+  public interface xtreemfs_renew_capabilitiesRequestOrBuilder
       extends com.google.protobuf.MessageOrBuilder {
 
-    // optional string file_id = 1;
-    /**
-     * <code>optional string file_id = 1;</code>
-     *
-     * <pre>
-     * the file ID
-     * </pre>
-     */
-    boolean hasFileId();
-    /**
-     * <code>optional string file_id = 1;</code>
-     *
-     * <pre>
-     * the file ID
-     * </pre>
-     */
-    java.lang.String getFileId();
-    /**
-     * <code>optional string file_id = 1;</code>
-     *
-     * <pre>
-     * the file ID
-     * </pre>
-     */
-    com.google.protobuf.ByteString
-        getFileIdBytes();
-
-    // optional string path = 2;
-    /**
-     * <code>optional string path = 2;</code>
-     *
-     * <pre>
-     * or path and volume_name to file
-     * </pre>
-     */
-    boolean hasPath();
-    /**
-     * <code>optional string path = 2;</code>
-     *
-     * <pre>
-     * or path and volume_name to file
-     * </pre>
-     */
-    java.lang.String getPath();
-    /**
-     * <code>optional string path = 2;</code>
-     *
-     * <pre>
-     * or path and volume_name to file
-     * </pre>
-     */
-    com.google.protobuf.ByteString
-        getPathBytes();
-
-    // optional string volume_name = 3;
+    // repeated .xtreemfs.pbrpc.XCap xcaps = 1;
     /**
-     * <code>optional string volume_name = 3;</code>
-     */
-    boolean hasVolumeName();
-    /**
-     * <code>optional string volume_name = 3;</code>
+     * <code>repeated .xtreemfs.pbrpc.XCap xcaps = 1;</code>
      */
-    java.lang.String getVolumeName();
+    java.util.List<org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCap> 
+        getXcapsList();
     /**
-     * <code>optional string volume_name = 3;</code>
+     * <code>repeated .xtreemfs.pbrpc.XCap xcaps = 1;</code>
      */
-    com.google.protobuf.ByteString
-        getVolumeNameBytes();
-
-    // optional .xtreemfs.pbrpc.XCap xcap = 4;
+    org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCap getXcaps(int index);
     /**
-     * <code>optional .xtreemfs.pbrpc.XCap xcap = 4;</code>
-     *
-     * <pre>
-     * or a valid XCap.
-     * </pre>
+     * <code>repeated .xtreemfs.pbrpc.XCap xcaps = 1;</code>
      */
-    boolean hasXcap();
+    int getXcapsCount();
     /**
-     * <code>optional .xtreemfs.pbrpc.XCap xcap = 4;</code>
-     *
-     * <pre>
-     * or a valid XCap.
-     * </pre>
+     * <code>repeated .xtreemfs.pbrpc.XCap xcaps = 1;</code>
      */
-    org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCap getXcap();
+    java.util.List<? extends org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCapOrBuilder> 
+        getXcapsOrBuilderList();
     /**
-     * <code>optional .xtreemfs.pbrpc.XCap xcap = 4;</code>
-     *
-     * <pre>
-     * or a valid XCap.
-     * </pre>
+     * <code>repeated .xtreemfs.pbrpc.XCap xcaps = 1;</code>
      */
-    org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCapOrBuilder getXcapOrBuilder();
+    org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCapOrBuilder getXcapsOrBuilder(
+        int index);
   }
   /**
-   * Protobuf type {@code xtreemfs.pbrpc.xtreemfs_get_xlocsetRequest}
+   * Protobuf type {@code xtreemfs.pbrpc.xtreemfs_renew_capabilitiesRequest}
    *
    * <pre>
-   * requests the xLocSet of a file
+   * requests new capabilities for files whose capabilities expire soon
    * </pre>
    */
-  public static final class xtreemfs_get_xlocsetRequest extends
+  public static final class xtreemfs_renew_capabilitiesRequest extends
       com.google.protobuf.GeneratedMessage
-      implements xtreemfs_get_xlocsetRequestOrBuilder {
-    // Use xtreemfs_get_xlocsetRequest.newBuilder() to construct.
-    private xtreemfs_get_xlocsetRequest(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      implements xtreemfs_renew_capabilitiesRequestOrBuilder {
+    // Use xtreemfs_renew_capabilitiesRequest.newBuilder() to construct.
+    private xtreemfs_renew_capabilitiesRequest(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
       super(builder);
       this.unknownFields = builder.getUnknownFields();
     }
-    private xtreemfs_get_xlocsetRequest(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+    private xtreemfs_renew_capabilitiesRequest(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
 
-    private static final xtreemfs_get_xlocsetRequest defaultInstance;
-    public static xtreemfs_get_xlocsetRequest getDefaultInstance() {
+    private static final xtreemfs_renew_capabilitiesRequest defaultInstance;
+    public static xtreemfs_renew_capabilitiesRequest getDefaultInstance() {
       return defaultInstance;
     }
 
-    public xtreemfs_get_xlocsetRequest getDefaultInstanceForType() {
+    public xtreemfs_renew_capabilitiesRequest getDefaultInstanceForType() {
       return defaultInstance;
     }
 
@@ -39838,7 +40215,7 @@ public final class MRC {
         getUnknownFields() {
       return this.unknownFields;
     }
-    private xtreemfs_get_xlocsetRequest(
+    private xtreemfs_renew_capabilitiesRequest(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
@@ -39862,31 +40239,11 @@ public final class MRC {
               break;
             }
             case 10: {
-              bitField0_ |= 0x00000001;
-              fileId_ = input.readBytes();
-              break;
-            }
-            case 18: {
-              bitField0_ |= 0x00000002;
-              path_ = input.readBytes();
-              break;
-            }
-            case 26: {
-              bitField0_ |= 0x00000004;
-              volumeName_ = input.readBytes();
-              break;
-            }
-            case 34: {
-              org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCap.Builder subBuilder = null;
-              if (((bitField0_ & 0x00000008) == 0x00000008)) {
-                subBuilder = xcap_.toBuilder();
-              }
-              xcap_ = input.readMessage(org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCap.PARSER, extensionRegistry);
-              if (subBuilder != null) {
-                subBuilder.mergeFrom(xcap_);
-                xcap_ = subBuilder.buildPartial();
+              if (!((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
+                xcaps_ = new java.util.ArrayList<org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCap>();
+                mutable_bitField0_ |= 0x00000001;
               }
-              bitField0_ |= 0x00000008;
+              xcaps_.add(input.readMessage(org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCap.PARSER, extensionRegistry));
               break;
             }
           }
@@ -39897,238 +40254,86 @@ public final class MRC {
         throw new com.google.protobuf.InvalidProtocolBufferException(
             e.getMessage()).setUnfinishedMessage(this);
       } finally {
+        if (((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
+          xcaps_ = java.util.Collections.unmodifiableList(xcaps_);
+        }
         this.unknownFields = unknownFields.build();
         makeExtensionsImmutable();
       }
     }
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return org.xtreemfs.pbrpc.generatedinterfaces.MRC.internal_static_xtreemfs_pbrpc_xtreemfs_get_xlocsetRequest_descriptor;
+      return org.xtreemfs.pbrpc.generatedinterfaces.MRC.internal_static_xtreemfs_pbrpc_xtreemfs_renew_capabilitiesRequest_descriptor;
     }
 
     protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return org.xtreemfs.pbrpc.generatedinterfaces.MRC.internal_static_xtreemfs_pbrpc_xtreemfs_get_xlocsetRequest_fieldAccessorTable
+      return org.xtreemfs.pbrpc.generatedinterfaces.MRC.internal_static_xtreemfs_pbrpc_xtreemfs_renew_capabilitiesRequest_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_get_xlocsetRequest.class, org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_get_xlocsetRequest.Builder.class);
+              org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_renew_capabilitiesRequest.class, org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_renew_capabilitiesRequest.Builder.class);
     }
 
-    public static com.google.protobuf.Parser<xtreemfs_get_xlocsetRequest> PARSER =
-        new com.google.protobuf.AbstractParser<xtreemfs_get_xlocsetRequest>() {
-      public xtreemfs_get_xlocsetRequest parsePartialFrom(
+    public static com.google.protobuf.Parser<xtreemfs_renew_capabilitiesRequest> PARSER =
+        new com.google.protobuf.AbstractParser<xtreemfs_renew_capabilitiesRequest>() {
+      public xtreemfs_renew_capabilitiesRequest parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
-        return new xtreemfs_get_xlocsetRequest(input, extensionRegistry);
+        return new xtreemfs_renew_capabilitiesRequest(input, extensionRegistry);
       }
     };
 
     @java.lang.Override
-    public com.google.protobuf.Parser<xtreemfs_get_xlocsetRequest> getParserForType() {
+    public com.google.protobuf.Parser<xtreemfs_renew_capabilitiesRequest> getParserForType() {
       return PARSER;
     }
 
-    private int bitField0_;
-    // optional string file_id = 1;
-    public static final int FILE_ID_FIELD_NUMBER = 1;
-    private java.lang.Object fileId_;
-    /**
-     * <code>optional string file_id = 1;</code>
-     *
-     * <pre>
-     * the file ID
-     * </pre>
-     */
-    public boolean hasFileId() {
-      return ((bitField0_ & 0x00000001) == 0x00000001);
-    }
-    /**
-     * <code>optional string file_id = 1;</code>
-     *
-     * <pre>
-     * the file ID
-     * </pre>
-     */
-    public java.lang.String getFileId() {
-      java.lang.Object ref = fileId_;
-      if (ref instanceof java.lang.String) {
-        return (java.lang.String) ref;
-      } else {
-        com.google.protobuf.ByteString bs = 
-            (com.google.protobuf.ByteString) ref;
-        java.lang.String s = bs.toStringUtf8();
-        if (bs.isValidUtf8()) {
-          fileId_ = s;
-        }
-        return s;
-      }
-    }
-    /**
-     * <code>optional string file_id = 1;</code>
-     *
-     * <pre>
-     * the file ID
-     * </pre>
-     */
-    public com.google.protobuf.ByteString
-        getFileIdBytes() {
-      java.lang.Object ref = fileId_;
-      if (ref instanceof java.lang.String) {
-        com.google.protobuf.ByteString b = 
-            com.google.protobuf.ByteString.copyFromUtf8(
-                (java.lang.String) ref);
-        fileId_ = b;
-        return b;
-      } else {
-        return (com.google.protobuf.ByteString) ref;
-      }
-    }
-
-    // optional string path = 2;
-    public static final int PATH_FIELD_NUMBER = 2;
-    private java.lang.Object path_;
-    /**
-     * <code>optional string path = 2;</code>
-     *
-     * <pre>
-     * or path and volume_name to file
-     * </pre>
-     */
-    public boolean hasPath() {
-      return ((bitField0_ & 0x00000002) == 0x00000002);
-    }
-    /**
-     * <code>optional string path = 2;</code>
-     *
-     * <pre>
-     * or path and volume_name to file
-     * </pre>
-     */
-    public java.lang.String getPath() {
-      java.lang.Object ref = path_;
-      if (ref instanceof java.lang.String) {
-        return (java.lang.String) ref;
-      } else {
-        com.google.protobuf.ByteString bs = 
-            (com.google.protobuf.ByteString) ref;
-        java.lang.String s = bs.toStringUtf8();
-        if (bs.isValidUtf8()) {
-          path_ = s;
-        }
-        return s;
-      }
-    }
-    /**
-     * <code>optional string path = 2;</code>
-     *
-     * <pre>
-     * or path and volume_name to file
-     * </pre>
-     */
-    public com.google.protobuf.ByteString
-        getPathBytes() {
-      java.lang.Object ref = path_;
-      if (ref instanceof java.lang.String) {
-        com.google.protobuf.ByteString b = 
-            com.google.protobuf.ByteString.copyFromUtf8(
-                (java.lang.String) ref);
-        path_ = b;
-        return b;
-      } else {
-        return (com.google.protobuf.ByteString) ref;
-      }
-    }
-
-    // optional string volume_name = 3;
-    public static final int VOLUME_NAME_FIELD_NUMBER = 3;
-    private java.lang.Object volumeName_;
-    /**
-     * <code>optional string volume_name = 3;</code>
-     */
-    public boolean hasVolumeName() {
-      return ((bitField0_ & 0x00000004) == 0x00000004);
-    }
+    // repeated .xtreemfs.pbrpc.XCap xcaps = 1;
+    public static final int XCAPS_FIELD_NUMBER = 1;
+    private java.util.List<org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCap> xcaps_;
     /**
-     * <code>optional string volume_name = 3;</code>
+     * <code>repeated .xtreemfs.pbrpc.XCap xcaps = 1;</code>
      */
-    public java.lang.String getVolumeName() {
-      java.lang.Object ref = volumeName_;
-      if (ref instanceof java.lang.String) {
-        return (java.lang.String) ref;
-      } else {
-        com.google.protobuf.ByteString bs = 
-            (com.google.protobuf.ByteString) ref;
-        java.lang.String s = bs.toStringUtf8();
-        if (bs.isValidUtf8()) {
-          volumeName_ = s;
-        }
-        return s;
-      }
+    public java.util.List<org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCap> getXcapsList() {
+      return xcaps_;
     }
     /**
-     * <code>optional string volume_name = 3;</code>
+     * <code>repeated .xtreemfs.pbrpc.XCap xcaps = 1;</code>
      */
-    public com.google.protobuf.ByteString
-        getVolumeNameBytes() {
-      java.lang.Object ref = volumeName_;
-      if (ref instanceof java.lang.String) {
-        com.google.protobuf.ByteString b = 
-            com.google.protobuf.ByteString.copyFromUtf8(
-                (java.lang.String) ref);
-        volumeName_ = b;
-        return b;
-      } else {
-        return (com.google.protobuf.ByteString) ref;
-      }
+    public java.util.List<? extends org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCapOrBuilder> 
+        getXcapsOrBuilderList() {
+      return xcaps_;
     }
-
-    // optional .xtreemfs.pbrpc.XCap xcap = 4;
-    public static final int XCAP_FIELD_NUMBER = 4;
-    private org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCap xcap_;
     /**
-     * <code>optional .xtreemfs.pbrpc.XCap xcap = 4;</code>
-     *
-     * <pre>
-     * or a valid XCap.
-     * </pre>
+     * <code>repeated .xtreemfs.pbrpc.XCap xcaps = 1;</code>
      */
-    public boolean hasXcap() {
-      return ((bitField0_ & 0x00000008) == 0x00000008);
+    public int getXcapsCount() {
+      return xcaps_.size();
     }
     /**
-     * <code>optional .xtreemfs.pbrpc.XCap xcap = 4;</code>
-     *
-     * <pre>
-     * or a valid XCap.
-     * </pre>
+     * <code>repeated .xtreemfs.pbrpc.XCap xcaps = 1;</code>
      */
-    public org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCap getXcap() {
-      return xcap_;
+    public org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCap getXcaps(int index) {
+      return xcaps_.get(index);
     }
     /**
-     * <code>optional .xtreemfs.pbrpc.XCap xcap = 4;</code>
-     *
-     * <pre>
-     * or a valid XCap.
-     * </pre>
+     * <code>repeated .xtreemfs.pbrpc.XCap xcaps = 1;</code>
      */
-    public org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCapOrBuilder getXcapOrBuilder() {
-      return xcap_;
+    public org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCapOrBuilder getXcapsOrBuilder(
+        int index) {
+      return xcaps_.get(index);
     }
 
     private void initFields() {
-      fileId_ = "";
-      path_ = "";
-      volumeName_ = "";
-      xcap_ = org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCap.getDefaultInstance();
+      xcaps_ = java.util.Collections.emptyList();
     }
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
       byte isInitialized = memoizedIsInitialized;
       if (isInitialized != -1) return isInitialized == 1;
 
-      if (hasXcap()) {
-        if (!getXcap().isInitialized()) {
+      for (int i = 0; i < getXcapsCount(); i++) {
+        if (!getXcaps(i).isInitialized()) {
           memoizedIsInitialized = 0;
           return false;
         }
@@ -40140,17 +40345,8 @@ public final class MRC {
     public void writeTo(com.google.protobuf.CodedOutputStream output)
                         throws java.io.IOException {
       getSerializedSize();
-      if (((bitField0_ & 0x00000001) == 0x00000001)) {
-        output.writeBytes(1, getFileIdBytes());
-      }
-      if (((bitField0_ & 0x00000002) == 0x00000002)) {
-        output.writeBytes(2, getPathBytes());
-      }
-      if (((bitField0_ & 0x00000004) == 0x00000004)) {
-        output.writeBytes(3, getVolumeNameBytes());
-      }
-      if (((bitField0_ & 0x00000008) == 0x00000008)) {
-        output.writeMessage(4, xcap_);
+      for (int i = 0; i < xcaps_.size(); i++) {
+        output.writeMessage(1, xcaps_.get(i));
       }
       getUnknownFields().writeTo(output);
     }
@@ -40161,21 +40357,9 @@ public final class MRC {
       if (size != -1) return size;
 
       size = 0;
-      if (((bitField0_ & 0x00000001) == 0x00000001)) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeBytesSize(1, getFileIdBytes());
-      }
-      if (((bitField0_ & 0x00000002) == 0x00000002)) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeBytesSize(2, getPathBytes());
-      }
-      if (((bitField0_ & 0x00000004) == 0x00000004)) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeBytesSize(3, getVolumeNameBytes());
-      }
-      if (((bitField0_ & 0x00000008) == 0x00000008)) {
+      for (int i = 0; i < xcaps_.size(); i++) {
         size += com.google.protobuf.CodedOutputStream
-          .computeMessageSize(4, xcap_);
+          .computeMessageSize(1, xcaps_.get(i));
       }
       size += getUnknownFields().getSerializedSize();
       memoizedSerializedSize = size;
@@ -40189,53 +40373,53 @@ public final class MRC {
       return super.writeReplace();
     }
 
-    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_get_xlocsetRequest parseFrom(
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_renew_capabilitiesRequest parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_get_xlocsetRequest parseFrom(
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_renew_capabilitiesRequest parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_get_xlocsetRequest parseFrom(byte[] data)
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_renew_capabilitiesRequest parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_get_xlocsetRequest parseFrom(
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_renew_capabilitiesRequest parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_get_xlocsetRequest parseFrom(java.io.InputStream input)
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_renew_capabilitiesRequest parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return PARSER.parseFrom(input);
     }
-    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_get_xlocsetRequest parseFrom(
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_renew_capabilitiesRequest parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return PARSER.parseFrom(input, extensionRegistry);
     }
-    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_get_xlocsetRequest parseDelimitedFrom(java.io.InputStream input)
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_renew_capabilitiesRequest parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return PARSER.parseDelimitedFrom(input);
     }
-    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_get_xlocsetRequest parseDelimitedFrom(
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_renew_capabilitiesRequest parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return PARSER.parseDelimitedFrom(input, extensionRegistry);
     }
-    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_get_xlocsetRequest parseFrom(
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_renew_capabilitiesRequest parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return PARSER.parseFrom(input);
     }
-    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_get_xlocsetRequest parseFrom(
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_renew_capabilitiesRequest parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -40244,7 +40428,7 @@ public final class MRC {
 
     public static Builder newBuilder() { return Builder.create(); }
     public Builder newBuilderForType() { return newBuilder(); }
-    public static Builder newBuilder(org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_get_xlocsetRequest prototype) {
+    public static Builder newBuilder(org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_renew_capabilitiesRequest prototype) {
       return newBuilder().mergeFrom(prototype);
     }
     public Builder toBuilder() { return newBuilder(this); }
@@ -40256,28 +40440,28 @@ public final class MRC {
       return builder;
     }
     /**
-     * Protobuf type {@code xtreemfs.pbrpc.xtreemfs_get_xlocsetRequest}
+     * Protobuf type {@code xtreemfs.pbrpc.xtreemfs_renew_capabilitiesRequest}
      *
      * <pre>
-     * requests the xLocSet of a file
+     * requests new capabilities for files whose capabilities expire soon
      * </pre>
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessage.Builder<Builder>
-       implements org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_get_xlocsetRequestOrBuilder {
+       implements org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_renew_capabilitiesRequestOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return org.xtreemfs.pbrpc.generatedinterfaces.MRC.internal_static_xtreemfs_pbrpc_xtreemfs_get_xlocsetRequest_descriptor;
+        return org.xtreemfs.pbrpc.generatedinterfaces.MRC.internal_static_xtreemfs_pbrpc_xtreemfs_renew_capabilitiesRequest_descriptor;
       }
 
       protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return org.xtreemfs.pbrpc.generatedinterfaces.MRC.internal_static_xtreemfs_pbrpc_xtreemfs_get_xlocsetRequest_fieldAccessorTable
+        return org.xtreemfs.pbrpc.generatedinterfaces.MRC.internal_static_xtreemfs_pbrpc_xtreemfs_renew_capabilitiesRequest_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_get_xlocsetRequest.class, org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_get_xlocsetRequest.Builder.class);
+                org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_renew_capabilitiesRequest.class, org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_renew_capabilitiesRequest.Builder.class);
       }
 
-      // Construct using org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_get_xlocsetRequest.newBuilder()
+      // Construct using org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_renew_capabilitiesRequest.newBuilder()
       private Builder() {
         maybeForceBuilderInitialization();
       }
@@ -40289,7 +40473,7 @@ public final class MRC {
       }
       private void maybeForceBuilderInitialization() {
         if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
-          getXcapFieldBuilder();
+          getXcapsFieldBuilder();
         }
       }
       private static Builder create() {
@@ -40298,18 +40482,12 @@ public final class MRC {
 
       public Builder clear() {
         super.clear();
-        fileId_ = "";
-        bitField0_ = (bitField0_ & ~0x00000001);
-        path_ = "";
-        bitField0_ = (bitField0_ & ~0x00000002);
-        volumeName_ = "";
-        bitField0_ = (bitField0_ & ~0x00000004);
-        if (xcapBuilder_ == null) {
-          xcap_ = org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCap.getDefaultInstance();
+        if (xcapsBuilder_ == null) {
+          xcaps_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
         } else {
-          xcapBuilder_.clear();
+          xcapsBuilder_.clear();
         }
-        bitField0_ = (bitField0_ & ~0x00000008);
         return this;
       }
 
@@ -40319,86 +40497,81 @@ public final class MRC {
 
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return org.xtreemfs.pbrpc.generatedinterfaces.MRC.internal_static_xtreemfs_pbrpc_xtreemfs_get_xlocsetRequest_descriptor;
+        return org.xtreemfs.pbrpc.generatedinterfaces.MRC.internal_static_xtreemfs_pbrpc_xtreemfs_renew_capabilitiesRequest_descriptor;
       }
 
-      public org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_get_xlocsetRequest getDefaultInstanceForType() {
-        return org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_get_xlocsetRequest.getDefaultInstance();
+      public org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_renew_capabilitiesRequest getDefaultInstanceForType() {
+        return org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_renew_capabilitiesRequest.getDefaultInstance();
       }
 
-      public org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_get_xlocsetRequest build() {
-        org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_get_xlocsetRequest result = buildPartial();
+      public org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_renew_capabilitiesRequest build() {
+        org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_renew_capabilitiesRequest result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
         return result;
       }
 
-      public org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_get_xlocsetRequest buildPartial() {
-        org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_get_xlocsetRequest result = new org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_get_xlocsetRequest(this);
+      public org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_renew_capabilitiesRequest buildPartial() {
+        org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_renew_capabilitiesRequest result = new org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_renew_capabilitiesRequest(this);
         int from_bitField0_ = bitField0_;
-        int to_bitField0_ = 0;
-        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
-          to_bitField0_ |= 0x00000001;
-        }
-        result.fileId_ = fileId_;
-        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
-          to_bitField0_ |= 0x00000002;
-        }
-        result.path_ = path_;
-        if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
-          to_bitField0_ |= 0x00000004;
-        }
-        result.volumeName_ = volumeName_;
-        if (((from_bitField0_ & 0x00000008) == 0x00000008)) {
-          to_bitField0_ |= 0x00000008;
-        }
-        if (xcapBuilder_ == null) {
-          result.xcap_ = xcap_;
+        if (xcapsBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) == 0x00000001)) {
+            xcaps_ = java.util.Collections.unmodifiableList(xcaps_);
+            bitField0_ = (bitField0_ & ~0x00000001);
+          }
+          result.xcaps_ = xcaps_;
         } else {
-          result.xcap_ = xcapBuilder_.build();
+          result.xcaps_ = xcapsBuilder_.build();
         }
-        result.bitField0_ = to_bitField0_;
         onBuilt();
         return result;
       }
 
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_get_xlocsetRequest) {
-          return mergeFrom((org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_get_xlocsetRequest)other);
+        if (other instanceof org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_renew_capabilitiesRequest) {
+          return mergeFrom((org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_renew_capabilitiesRequest)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_get_xlocsetRequest other) {
-        if (other == org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_get_xlocsetRequest.getDefaultInstance()) return this;
-        if (other.hasFileId()) {
-          bitField0_ |= 0x00000001;
-          fileId_ = other.fileId_;
-          onChanged();
-        }
-        if (other.hasPath()) {
-          bitField0_ |= 0x00000002;
-          path_ = other.path_;
-          onChanged();
-        }
-        if (other.hasVolumeName()) {
-          bitField0_ |= 0x00000004;
-          volumeName_ = other.volumeName_;
-          onChanged();
-        }
-        if (other.hasXcap()) {
-          mergeXcap(other.getXcap());
+      public Builder mergeFrom(org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_renew_capabilitiesRequest other) {
+        if (other == org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_renew_capabilitiesRequest.getDefaultInstance()) return this;
+        if (xcapsBuilder_ == null) {
+          if (!other.xcaps_.isEmpty()) {
+            if (xcaps_.isEmpty()) {
+              xcaps_ = other.xcaps_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+            } else {
+              ensureXcapsIsMutable();
+              xcaps_.addAll(other.xcaps_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.xcaps_.isEmpty()) {
+            if (xcapsBuilder_.isEmpty()) {
+              xcapsBuilder_.dispose();
+              xcapsBuilder_ = null;
+              xcaps_ = other.xcaps_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+              xcapsBuilder_ = 
+                com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
+                   getXcapsFieldBuilder() : null;
+            } else {
+              xcapsBuilder_.addAllMessages(other.xcaps_);
+            }
+          }
         }
         this.mergeUnknownFields(other.getUnknownFields());
         return this;
       }
 
       public final boolean isInitialized() {
-        if (hasXcap()) {
-          if (!getXcap().isInitialized()) {
+        for (int i = 0; i < getXcapsCount(); i++) {
+          if (!getXcaps(i).isInitialized()) {
             
             return false;
           }
@@ -40410,11 +40583,11 @@ public final class MRC {
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
-        org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_get_xlocsetRequest parsedMessage = null;
+        org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_renew_capabilitiesRequest parsedMessage = null;
         try {
           parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_get_xlocsetRequest) e.getUnfinishedMessage();
+          parsedMessage = (org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_renew_capabilitiesRequest) e.getUnfinishedMessage();
           throw e;
         } finally {
           if (parsedMessage != null) {
@@ -40425,562 +40598,329 @@ public final class MRC {
       }
       private int bitField0_;
 
-      // optional string file_id = 1;
-      private java.lang.Object fileId_ = "";
+      // repeated .xtreemfs.pbrpc.XCap xcaps = 1;
+      private java.util.List<org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCap> xcaps_ =
+        java.util.Collections.emptyList();
+      private void ensureXcapsIsMutable() {
+        if (!((bitField0_ & 0x00000001) == 0x00000001)) {
+          xcaps_ = new java.util.ArrayList<org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCap>(xcaps_);
+          bitField0_ |= 0x00000001;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilder<
+          org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCap, org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCap.Builder, org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCapOrBuilder> xcapsBuilder_;
+
       /**
-       * <code>optional string file_id = 1;</code>
-       *
-       * <pre>
-       * the file ID
-       * </pre>
+       * <code>repeated .xtreemfs.pbrpc.XCap xcaps = 1;</code>
        */
-      public boolean hasFileId() {
-        return ((bitField0_ & 0x00000001) == 0x00000001);
+      public java.util.List<org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCap> getXcapsList() {
+        if (xcapsBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(xcaps_);
+        } else {
+          return xcapsBuilder_.getMessageList();
+        }
       }
       /**
-       * <code>optional string file_id = 1;</code>
-       *
-       * <pre>
-       * the file ID
-       * </pre>
+       * <code>repeated .xtreemfs.pbrpc.XCap xcaps = 1;</code>
        */
-      public java.lang.String getFileId() {
-        java.lang.Object ref = fileId_;
-        if (!(ref instanceof java.lang.String)) {
-          java.lang.String s = ((com.google.protobuf.ByteString) ref)
-              .toStringUtf8();
-          fileId_ = s;
-          return s;
+      public int getXcapsCount() {
+        if (xcapsBuilder_ == null) {
+          return xcaps_.size();
         } else {
-          return (java.lang.String) ref;
+          return xcapsBuilder_.getCount();
         }
       }
       /**
-       * <code>optional string file_id = 1;</code>
-       *
-       * <pre>
-       * the file ID
-       * </pre>
+       * <code>repeated .xtreemfs.pbrpc.XCap xcaps = 1;</code>
        */
-      public com.google.protobuf.ByteString
-          getFileIdBytes() {
-        java.lang.Object ref = fileId_;
-        if (ref instanceof String) {
-          com.google.protobuf.ByteString b = 
-              com.google.protobuf.ByteString.copyFromUtf8(
-                  (java.lang.String) ref);
-          fileId_ = b;
-          return b;
+      public org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCap getXcaps(int index) {
+        if (xcapsBuilder_ == null) {
+          return xcaps_.get(index);
         } else {
-          return (com.google.protobuf.ByteString) ref;
+          return xcapsBuilder_.getMessage(index);
         }
       }
       /**
-       * <code>optional string file_id = 1;</code>
-       *
-       * <pre>
-       * the file ID
-       * </pre>
+       * <code>repeated .xtreemfs.pbrpc.XCap xcaps = 1;</code>
        */
-      public Builder setFileId(
-          java.lang.String value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000001;
-        fileId_ = value;
-        onChanged();
+      public Builder setXcaps(
+          int index, org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCap value) {
+        if (xcapsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureXcapsIsMutable();
+          xcaps_.set(index, value);
+          onChanged();
+        } else {
+          xcapsBuilder_.setMessage(index, value);
+        }
         return this;
       }
       /**
-       * <code>optional string file_id = 1;</code>
-       *
-       * <pre>
-       * the file ID
-       * </pre>
+       * <code>repeated .xtreemfs.pbrpc.XCap xcaps = 1;</code>
        */
-      public Builder clearFileId() {
-        bitField0_ = (bitField0_ & ~0x00000001);
-        fileId_ = getDefaultInstance().getFileId();
-        onChanged();
+      public Builder setXcaps(
+          int index, org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCap.Builder builderForValue) {
+        if (xcapsBuilder_ == null) {
+          ensureXcapsIsMutable();
+          xcaps_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          xcapsBuilder_.setMessage(index, builderForValue.build());
+        }
         return this;
       }
       /**
-       * <code>optional string file_id = 1;</code>
-       *
-       * <pre>
-       * the file ID
-       * </pre>
-       */
-      public Builder setFileIdBytes(
-          com.google.protobuf.ByteString value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000001;
-        fileId_ = value;
-        onChanged();
-        return this;
-      }
-
-      // optional string path = 2;
-      private java.lang.Object path_ = "";
-      /**
-       * <code>optional string path = 2;</code>
-       *
-       * <pre>
-       * or path and volume_name to file
-       * </pre>
-       */
-      public boolean hasPath() {
-        return ((bitField0_ & 0x00000002) == 0x00000002);
-      }
-      /**
-       * <code>optional string path = 2;</code>
-       *
-       * <pre>
-       * or path and volume_name to file
-       * </pre>
+       * <code>repeated .xtreemfs.pbrpc.XCap xcaps = 1;</code>
        */
-      public java.lang.String getPath() {
-        java.lang.Object ref = path_;
-        if (!(ref instanceof java.lang.String)) {
-          java.lang.String s = ((com.google.protobuf.ByteString) ref)
-              .toStringUtf8();
-          path_ = s;
-          return s;
+      public Builder addXcaps(org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCap value) {
+        if (xcapsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureXcapsIsMutable();
+          xcaps_.add(value);
+          onChanged();
         } else {
-          return (java.lang.String) ref;
+          xcapsBuilder_.addMessage(value);
         }
+        return this;
       }
       /**
-       * <code>optional string path = 2;</code>
-       *
-       * <pre>
-       * or path and volume_name to file
-       * </pre>
+       * <code>repeated .xtreemfs.pbrpc.XCap xcaps = 1;</code>
        */
-      public com.google.protobuf.ByteString
-          getPathBytes() {
-        java.lang.Object ref = path_;
-        if (ref instanceof String) {
-          com.google.protobuf.ByteString b = 
-              com.google.protobuf.ByteString.copyFromUtf8(
-                  (java.lang.String) ref);
-          path_ = b;
-          return b;
+      public Builder addXcaps(
+          int index, org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCap value) {
+        if (xcapsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureXcapsIsMutable();
+          xcaps_.add(index, value);
+          onChanged();
         } else {
-          return (com.google.protobuf.ByteString) ref;
+          xcapsBuilder_.addMessage(index, value);
         }
-      }
-      /**
-       * <code>optional string path = 2;</code>
-       *
-       * <pre>
-       * or path and volume_name to file
-       * </pre>
-       */
-      public Builder setPath(
-          java.lang.String value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000002;
-        path_ = value;
-        onChanged();
-        return this;
-      }
-      /**
-       * <code>optional string path = 2;</code>
-       *
-       * <pre>
-       * or path and volume_name to file
-       * </pre>
-       */
-      public Builder clearPath() {
-        bitField0_ = (bitField0_ & ~0x00000002);
-        path_ = getDefaultInstance().getPath();
-        onChanged();
-        return this;
-      }
-      /**
-       * <code>optional string path = 2;</code>
-       *
-       * <pre>
-       * or path and volume_name to file
-       * </pre>
-       */
-      public Builder setPathBytes(
-          com.google.protobuf.ByteString value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000002;
-        path_ = value;
-        onChanged();
         return this;
       }
-
-      // optional string volume_name = 3;
-      private java.lang.Object volumeName_ = "";
-      /**
-       * <code>optional string volume_name = 3;</code>
-       */
-      public boolean hasVolumeName() {
-        return ((bitField0_ & 0x00000004) == 0x00000004);
-      }
       /**
-       * <code>optional string volume_name = 3;</code>
+       * <code>repeated .xtreemfs.pbrpc.XCap xcaps = 1;</code>
        */
-      public java.lang.String getVolumeName() {
-        java.lang.Object ref = volumeName_;
-        if (!(ref instanceof java.lang.String)) {
-          java.lang.String s = ((com.google.protobuf.ByteString) ref)
-              .toStringUtf8();
-          volumeName_ = s;
-          return s;
+      public Builder addXcaps(
+          org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCap.Builder builderForValue) {
+        if (xcapsBuilder_ == null) {
+          ensureXcapsIsMutable();
+          xcaps_.add(builderForValue.build());
+          onChanged();
         } else {
-          return (java.lang.String) ref;
+          xcapsBuilder_.addMessage(builderForValue.build());
         }
+        return this;
       }
       /**
-       * <code>optional string volume_name = 3;</code>
+       * <code>repeated .xtreemfs.pbrpc.XCap xcaps = 1;</code>
        */
-      public com.google.protobuf.ByteString
-          getVolumeNameBytes() {
-        java.lang.Object ref = volumeName_;
-        if (ref instanceof String) {
-          com.google.protobuf.ByteString b = 
-              com.google.protobuf.ByteString.copyFromUtf8(
-                  (java.lang.String) ref);
-          volumeName_ = b;
-          return b;
+      public Builder addXcaps(
+          int index, org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCap.Builder builderForValue) {
+        if (xcapsBuilder_ == null) {
+          ensureXcapsIsMutable();
+          xcaps_.add(index, builderForValue.build());
+          onChanged();
         } else {
-          return (com.google.protobuf.ByteString) ref;
+          xcapsBuilder_.addMessage(index, builderForValue.build());
         }
-      }
-      /**
-       * <code>optional string volume_name = 3;</code>
-       */
-      public Builder setVolumeName(
-          java.lang.String value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000004;
-        volumeName_ = value;
-        onChanged();
-        return this;
-      }
-      /**
-       * <code>optional string volume_name = 3;</code>
-       */
-      public Builder clearVolumeName() {
-        bitField0_ = (bitField0_ & ~0x00000004);
-        volumeName_ = getDefaultInstance().getVolumeName();
-        onChanged();
-        return this;
-      }
-      /**
-       * <code>optional string volume_name = 3;</code>
-       */
-      public Builder setVolumeNameBytes(
-          com.google.protobuf.ByteString value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000004;
-        volumeName_ = value;
-        onChanged();
         return this;
       }
-
-      // optional .xtreemfs.pbrpc.XCap xcap = 4;
-      private org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCap xcap_ = org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCap.getDefaultInstance();
-      private com.google.protobuf.SingleFieldBuilder<
-          org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCap, org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCap.Builder, org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCapOrBuilder> xcapBuilder_;
-      /**
-       * <code>optional .xtreemfs.pbrpc.XCap xcap = 4;</code>
-       *
-       * <pre>
-       * or a valid XCap.
-       * </pre>
-       */
-      public boolean hasXcap() {
-        return ((bitField0_ & 0x00000008) == 0x00000008);
-      }
       /**
-       * <code>optional .xtreemfs.pbrpc.XCap xcap = 4;</code>
-       *
-       * <pre>
-       * or a valid XCap.
-       * </pre>
+       * <code>repeated .xtreemfs.pbrpc.XCap xcaps = 1;</code>
        */
-      public org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCap getXcap() {
-        if (xcapBuilder_ == null) {
-          return xcap_;
+      public Builder addAllXcaps(
+          java.lang.Iterable<? extends org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCap> values) {
+        if (xcapsBuilder_ == null) {
+          ensureXcapsIsMutable();
+          super.addAll(values, xcaps_);
+          onChanged();
         } else {
-          return xcapBuilder_.getMessage();
+          xcapsBuilder_.addAllMessages(values);
         }
+        return this;
       }
       /**
-       * <code>optional .xtreemfs.pbrpc.XCap xcap = 4;</code>
-       *
-       * <pre>
-       * or a valid XCap.
-       * </pre>
+       * <code>repeated .xtreemfs.pbrpc.XCap xcaps = 1;</code>
        */
-      public Builder setXcap(org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCap value) {
-        if (xcapBuilder_ == null) {
-          if (value == null) {
-            throw new NullPointerException();
-          }
-          xcap_ = value;
+      public Builder clearXcaps() {
+        if (xcapsBuilder_ == null) {
+          xcaps_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
           onChanged();
         } else {
-          xcapBuilder_.setMessage(value);
+          xcapsBuilder_.clear();
         }
-        bitField0_ |= 0x00000008;
         return this;
       }
       /**
-       * <code>optional .xtreemfs.pbrpc.XCap xcap = 4;</code>
-       *
-       * <pre>
-       * or a valid XCap.
-       * </pre>
+       * <code>repeated .xtreemfs.pbrpc.XCap xcaps = 1;</code>
        */
-      public Builder setXcap(
-          org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCap.Builder builderForValue) {
-        if (xcapBuilder_ == null) {
-          xcap_ = builderForValue.build();
+      public Builder removeXcaps(int index) {
+        if (xcapsBuilder_ == null) {
+          ensureXcapsIsMutable();
+          xcaps_.remove(index);
           onChanged();
         } else {
-          xcapBuilder_.setMessage(builderForValue.build());
+          xcapsBuilder_.remove(index);
         }
-        bitField0_ |= 0x00000008;
         return this;
       }
       /**
-       * <code>optional .xtreemfs.pbrpc.XCap xcap = 4;</code>
-       *
-       * <pre>
-       * or a valid XCap.
-       * </pre>
+       * <code>repeated .xtreemfs.pbrpc.XCap xcaps = 1;</code>
        */
-      public Builder mergeXcap(org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCap value) {
-        if (xcapBuilder_ == null) {
-          if (((bitField0_ & 0x00000008) == 0x00000008) &&
-              xcap_ != org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCap.getDefaultInstance()) {
-            xcap_ =
-              org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCap.newBuilder(xcap_).mergeFrom(value).buildPartial();
-          } else {
-            xcap_ = value;
-          }
-          onChanged();
-        } else {
-          xcapBuilder_.mergeFrom(value);
+      public org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCap.Builder getXcapsBuilder(
+          int index) {
+        return getXcapsFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .xtreemfs.pbrpc.XCap xcaps = 1;</code>
+       */
+      public org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCapOrBuilder getXcapsOrBuilder(
+          int index) {
+        if (xcapsBuilder_ == null) {
+          return xcaps_.get(index);  } else {
+          return xcapsBuilder_.getMessageOrBuilder(index);
         }
-        bitField0_ |= 0x00000008;
-        return this;
       }
       /**
-       * <code>optional .xtreemfs.pbrpc.XCap xcap = 4;</code>
-       *
-       * <pre>
-       * or a valid XCap.
-       * </pre>
+       * <code>repeated .xtreemfs.pbrpc.XCap xcaps = 1;</code>
        */
-      public Builder clearXcap() {
-        if (xcapBuilder_ == null) {
-          xcap_ = org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCap.getDefaultInstance();
-          onChanged();
+      public java.util.List<? extends org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCapOrBuilder> 
+           getXcapsOrBuilderList() {
+        if (xcapsBuilder_ != null) {
+          return xcapsBuilder_.getMessageOrBuilderList();
         } else {
-          xcapBuilder_.clear();
+          return java.util.Collections.unmodifiableList(xcaps_);
         }
-        bitField0_ = (bitField0_ & ~0x00000008);
-        return this;
       }
       /**
-       * <code>optional .xtreemfs.pbrpc.XCap xcap = 4;</code>
-       *
-       * <pre>
-       * or a valid XCap.
-       * </pre>
+       * <code>repeated .xtreemfs.pbrpc.XCap xcaps = 1;</code>
        */
-      public org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCap.Builder getXcapBuilder() {
-        bitField0_ |= 0x00000008;
-        onChanged();
-        return getXcapFieldBuilder().getBuilder();
+      public org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCap.Builder addXcapsBuilder() {
+        return getXcapsFieldBuilder().addBuilder(
+            org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCap.getDefaultInstance());
       }
       /**
-       * <code>optional .xtreemfs.pbrpc.XCap xcap = 4;</code>
-       *
-       * <pre>
-       * or a valid XCap.
-       * </pre>
+       * <code>repeated .xtreemfs.pbrpc.XCap xcaps = 1;</code>
        */
-      public org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCapOrBuilder getXcapOrBuilder() {
-        if (xcapBuilder_ != null) {
-          return xcapBuilder_.getMessageOrBuilder();
-        } else {
-          return xcap_;
-        }
+      public org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCap.Builder addXcapsBuilder(
+          int index) {
+        return getXcapsFieldBuilder().addBuilder(
+            index, org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCap.getDefaultInstance());
       }
       /**
-       * <code>optional .xtreemfs.pbrpc.XCap xcap = 4;</code>
-       *
-       * <pre>
-       * or a valid XCap.
-       * </pre>
+       * <code>repeated .xtreemfs.pbrpc.XCap xcaps = 1;</code>
        */
-      private com.google.protobuf.SingleFieldBuilder<
+      public java.util.List<org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCap.Builder> 
+           getXcapsBuilderList() {
+        return getXcapsFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilder<
           org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCap, org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCap.Builder, org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCapOrBuilder> 
-          getXcapFieldBuilder() {
-        if (xcapBuilder_ == null) {
-          xcapBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+          getXcapsFieldBuilder() {
+        if (xcapsBuilder_ == null) {
+          xcapsBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
               org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCap, org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCap.Builder, org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCapOrBuilder>(
-                  xcap_,
+                  xcaps_,
+                  ((bitField0_ & 0x00000001) == 0x00000001),
                   getParentForChildren(),
                   isClean());
-          xcap_ = null;
+          xcaps_ = null;
         }
-        return xcapBuilder_;
+        return xcapsBuilder_;
       }
 
-      // @@protoc_insertion_point(builder_scope:xtreemfs.pbrpc.xtreemfs_get_xlocsetRequest)
+      // @@protoc_insertion_point(builder_scope:xtreemfs.pbrpc.xtreemfs_renew_capabilitiesRequest)
     }
 
     static {
-      defaultInstance = new xtreemfs_get_xlocsetRequest(true);
+      defaultInstance = new xtreemfs_renew_capabilitiesRequest(true);
       defaultInstance.initFields();
     }
 
-    // @@protoc_insertion_point(class_scope:xtreemfs.pbrpc.xtreemfs_get_xlocsetRequest)
+    // @@protoc_insertion_point(class_scope:xtreemfs.pbrpc.xtreemfs_renew_capabilitiesRequest)
   }
 
-  public interface xtreemfs_replica_removeRequestOrBuilder
+  public interface xtreemfs_renew_capabilitiesResponseOrBuilder
       extends com.google.protobuf.MessageOrBuilder {
 
-    // optional string file_id = 1;
-    /**
-     * <code>optional string file_id = 1;</code>
-     *
-     * <pre>
-     * the file ID
-     * </pre>
-     */
-    boolean hasFileId();
-    /**
-     * <code>optional string file_id = 1;</code>
-     *
-     * <pre>
-     * the file ID
-     * </pre>
-     */
-    java.lang.String getFileId();
-    /**
-     * <code>optional string file_id = 1;</code>
-     *
-     * <pre>
-     * the file ID
-     * </pre>
-     */
-    com.google.protobuf.ByteString
-        getFileIdBytes();
-
-    // optional string path = 3;
-    /**
-     * <code>optional string path = 3;</code>
-     *
-     * <pre>
-     * or path and volume_name to file.
-     * </pre>
-     */
-    boolean hasPath();
+    // repeated .xtreemfs.pbrpc.XCap xcaps = 1;
     /**
-     * <code>optional string path = 3;</code>
+     * <code>repeated .xtreemfs.pbrpc.XCap xcaps = 1;</code>
      *
      * <pre>
-     * or path and volume_name to file.
+     * the renewed capabilities, in the order of the request; capabilities
+     * that could not be renewed are returned unchanged
      * </pre>
      */
-    java.lang.String getPath();
+    java.util.List<org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCap> 
+        getXcapsList();
     /**
-     * <code>optional string path = 3;</code>
+     * <code>repeated .xtreemfs.pbrpc.XCap xcaps = 1;</code>
      *
      * <pre>
-     * or path and volume_name to file.
+     * the renewed capabilities, in the order of the request; capabilities
+     * that could not be renewed are returned unchanged
      * </pre>
      */
-    com.google.protobuf.ByteString
-        getPathBytes();
-
-    // optional string volume_name = 4;
-    /**
-     * <code>optional string volume_name = 4;</code>
-     */
-    boolean hasVolumeName();
-    /**
-     * <code>optional string volume_name = 4;</code>
-     */
-    java.lang.String getVolumeName();
-    /**
-     * <code>optional string volume_name = 4;</code>
-     */
-    com.google.protobuf.ByteString
-        getVolumeNameBytes();
-
-    // required string osd_uuid = 2;
+    org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCap getXcaps(int index);
     /**
-     * <code>required string osd_uuid = 2;</code>
+     * <code>repeated .xtreemfs.pbrpc.XCap xcaps = 1;</code>
      *
      * <pre>
-     * the UUID of the head OSD of the replica to remove
+     * the renewed capabilities, in the order of the request; capabilities
+     * that could not be renewed are returned unchanged
      * </pre>
      */
-    boolean hasOsdUuid();
+    int getXcapsCount();
     /**
-     * <code>required string osd_uuid = 2;</code>
+     * <code>repeated .xtreemfs.pbrpc.XCap xcaps = 1;</code>
      *
      * <pre>
-     * the UUID of the head OSD of the replica to remove
+     * the renewed capabilities, in the order of the request; capabilities
+     * that could not be renewed are returned unchanged
      * </pre>
      */
-    java.lang.String getOsdUuid();
+    java.util.List<? extends org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCapOrBuilder> 
+        getXcapsOrBuilderList();
     /**
-     * <code>required string osd_uuid = 2;</code>
+     * <code>repeated .xtreemfs.pbrpc.XCap xcaps = 1;</code>
      *
      * <pre>
-     * the UUID of the head OSD of the replica to remove
+     * the renewed capabilities, in the order of the request; capabilities
+     * that could not be renewed are returned unchanged
      * </pre>
      */
-    com.google.protobuf.ByteString
-        getOsdUuidBytes();
+    org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCapOrBuilder getXcapsOrBuilder(
+        int index);
   }
   /**
-   * Protobuf type {@code xtreemfs.pbrpc.xtreemfs_replica_removeRequest}
-   *
-   * <pre>
-   * removes a replica from a file
-   * </pre>
+   * Protobuf type {@code xtreemfs.pbrpc.xtreemfs_renew_capabilitiesResponse}
    */
-  public static final class xtreemfs_replica_removeRequest extends
+  public static final class xtreemfs_renew_capabilitiesResponse extends
       com.google.protobuf.GeneratedMessage
-      implements xtreemfs_replica_removeRequestOrBuilder {
-    // Use xtreemfs_replica_removeRequest.newBuilder() to construct.
-    private xtreemfs_replica_removeRequest(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      implements xtreemfs_renew_capabilitiesResponseOrBuilder {
+    // Use xtreemfs_renew_capabilitiesResponse.newBuilder() to construct.
+    private xtreemfs_renew_capabilitiesResponse(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
       super(builder);
       this.unknownFields = builder.getUnknownFields();
     }
-    private xtreemfs_replica_removeRequest(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+    private xtreemfs_renew_capabilitiesResponse(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
 
-    private static final xtreemfs_replica_removeRequest defaultInstance;
-    public static xtreemfs_replica_removeRequest getDefaultInstance() {
+    private static final xtreemfs_renew_capabilitiesResponse defaultInstance;
+    public static xtreemfs_renew_capabilitiesResponse getDefaultInstance() {
       return defaultInstance;
     }
 
-    public xtreemfs_replica_removeRequest getDefaultInstanceForType() {
+    public xtreemfs_renew_capabilitiesResponse getDefaultInstanceForType() {
       return defaultInstance;
     }
 
@@ -40990,7 +40930,7 @@ public final class MRC {
         getUnknownFields() {
       return this.unknownFields;
     }
-    private xtreemfs_replica_removeRequest(
+    private xtreemfs_renew_capabilitiesResponse(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
@@ -41014,23 +40954,11 @@ public final class MRC {
               break;
             }
             case 10: {
-              bitField0_ |= 0x00000001;
-              fileId_ = input.readBytes();
-              break;
-            }
-            case 18: {
-              bitField0_ |= 0x00000008;
-              osdUuid_ = input.readBytes();
-              break;
-            }
-            case 26: {
-              bitField0_ |= 0x00000002;
-              path_ = input.readBytes();
-              break;
-            }
-            case 34: {
-              bitField0_ |= 0x00000004;
-              volumeName_ = input.readBytes();
+              if (!((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
+                xcaps_ = new java.util.ArrayList<org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCap>();
+                mutable_bitField0_ |= 0x00000001;
+              }
+              xcaps_.add(input.readMessage(org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCap.PARSER, extensionRegistry));
               break;
             }
           }
@@ -41041,260 +40969,114 @@ public final class MRC {
         throw new com.google.protobuf.InvalidProtocolBufferException(
             e.getMessage()).setUnfinishedMessage(this);
       } finally {
+        if (((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
+          xcaps_ = java.util.Collections.unmodifiableList(xcaps_);
+        }
         this.unknownFields = unknownFields.build();
         makeExtensionsImmutable();
       }
     }
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return org.xtreemfs.pbrpc.generatedinterfaces.MRC.internal_static_xtreemfs_pbrpc_xtreemfs_replica_removeRequest_descriptor;
+      return org.xtreemfs.pbrpc.generatedinterfaces.MRC.internal_static_xtreemfs_pbrpc_xtreemfs_renew_capabilitiesResponse_descriptor;
     }
 
     protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return org.xtreemfs.pbrpc.generatedinterfaces.MRC.internal_static_xtreemfs_pbrpc_xtreemfs_replica_removeRequest_fieldAccessorTable
+      return org.xtreemfs.pbrpc.generatedinterfaces.MRC.internal_static_xtreemfs_pbrpc_xtreemfs_renew_capabilitiesResponse_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_replica_removeRequest.class, org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_replica_removeRequest.Builder.class);
+              org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_renew_capabilitiesResponse.class, org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_renew_capabilitiesResponse.Builder.class);
     }
 
-    public static com.google.protobuf.Parser<xtreemfs_replica_removeRequest> PARSER =
-        new com.google.protobuf.AbstractParser<xtreemfs_replica_removeRequest>() {
-      public xtreemfs_replica_removeRequest parsePartialFrom(
+    public static com.google.protobuf.Parser<xtreemfs_renew_capabilitiesResponse> PARSER =
+        new com.google.protobuf.AbstractParser<xtreemfs_renew_capabilitiesResponse>() {
+      public xtreemfs_renew_capabilitiesResponse parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
-        return new xtreemfs_replica_removeRequest(input, extensionRegistry);
+        return new xtreemfs_renew_capabilitiesResponse(input, extensionRegistry);
       }
     };
 
     @java.lang.Override
-    public com.google.protobuf.Parser<xtreemfs_replica_removeRequest> getParserForType() {
+    public com.google.protobuf.Parser<xtreemfs_renew_capabilitiesResponse> getParserForType() {
       return PARSER;
     }
 
-    private int bitField0_;
-    // optional string file_id = 1;
-    public static final int FILE_ID_FIELD_NUMBER = 1;
-    private java.lang.Object fileId_;
-    /**
-     * <code>optional string file_id = 1;</code>
-     *
-     * <pre>
-     * the file ID
-     * </pre>
-     */
-    public boolean hasFileId() {
-      return ((bitField0_ & 0x00000001) == 0x00000001);
-    }
+    // repeated .xtreemfs.pbrpc.XCap xcaps = 1;
+    public static final int XCAPS_FIELD_NUMBER = 1;
+    private java.util.List<org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCap> xcaps_;
     /**
-     * <code>optional string file_id = 1;</code>
+     * <code>repeated .xtreemfs.pbrpc.XCap xcaps = 1;</code>
      *
      * <pre>
-     * the file ID
+     * the renewed capabilities, in the order of the request; capabilities
+     * that could not be renewed are returned unchanged
      * </pre>
      */
-    public java.lang.String getFileId() {
-      java.lang.Object ref = fileId_;
-      if (ref instanceof java.lang.String) {
-        return (java.lang.String) ref;
-      } else {
-        com.google.protobuf.ByteString bs = 
-            (com.google.protobuf.ByteString) ref;
-        java.lang.String s = bs.toStringUtf8();
-        if (bs.isValidUtf8()) {
-          fileId_ = s;
-        }
-        return s;
-      }
+    public java.util.List<org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCap> getXcapsList() {
+      return xcaps_;
     }
     /**
-     * <code>optional string file_id = 1;</code>
+     * <code>repeated .xtreemfs.pbrpc.XCap xcaps = 1;</code>
      *
      * <pre>
-     * the file ID
+     * the renewed capabilities, in the order of the request; capabilities
+     * that could not be renewed are returned unchanged
      * </pre>
      */
-    public com.google.protobuf.ByteString
-        getFileIdBytes() {
-      java.lang.Object ref = fileId_;
-      if (ref instanceof java.lang.String) {
-        com.google.protobuf.ByteString b = 
-            com.google.protobuf.ByteString.copyFromUtf8(
-                (java.lang.String) ref);
-        fileId_ = b;
-        return b;
-      } else {
-        return (com.google.protobuf.ByteString) ref;
-      }
+    public java.util.List<? extends org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCapOrBuilder> 
+        getXcapsOrBuilderList() {
+      return xcaps_;
     }
-
-    // optional string path = 3;
-    public static final int PATH_FIELD_NUMBER = 3;
-    private java.lang.Object path_;
     /**
-     * <code>optional string path = 3;</code>
+     * <code>repeated .xtreemfs.pbrpc.XCap xcaps = 1;</code>
      *
      * <pre>
-     * or path and volume_name to file.
+     * the renewed capabilities, in the order of the request; capabilities
+     * that could not be renewed are returned unchanged
      * </pre>
      */
-    public boolean hasPath() {
-      return ((bitField0_ & 0x00000002) == 0x00000002);
+    public int getXcapsCount() {
+      return xcaps_.size();
     }
     /**
-     * <code>optional string path = 3;</code>
+     * <code>repeated .xtreemfs.pbrpc.XCap xcaps = 1;</code>
      *
      * <pre>
-     * or path and volume_name to file.
+     * the renewed capabilities, in the order of the request; capabilities
+     * that could not be renewed are returned unchanged
      * </pre>
      */
-    public java.lang.String getPath() {
-      java.lang.Object ref = path_;
-      if (ref instanceof java.lang.String) {
-        return (java.lang.String) ref;
-      } else {
-        com.google.protobuf.ByteString bs = 
-            (com.google.protobuf.ByteString) ref;
-        java.lang.String s = bs.toStringUtf8();
-        if (bs.isValidUtf8()) {
-          path_ = s;
-        }
-        return s;
-      }
+    public org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCap getXcaps(int index) {
+      return xcaps_.get(index);
     }
     /**
-     * <code>optional string path = 3;</code>
+     * <code>repeated .xtreemfs.pbrpc.XCap xcaps = 1;</code>
      *
      * <pre>
-     * or path and volume_name to file.
+     * the renewed capabilities, in the order of the request; capabilities
+     * that could not be renewed are returned unchanged
      * </pre>
      */
-    public com.google.protobuf.ByteString
-        getPathBytes() {
-      java.lang.Object ref = path_;
-      if (ref instanceof java.lang.String) {
-        com.google.protobuf.ByteString b = 
-            com.google.protobuf.ByteString.copyFromUtf8(
-                (java.lang.String) ref);
-        path_ = b;
-        return b;
-      } else {
-        return (com.google.protobuf.ByteString) ref;
-      }
+    public org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCapOrBuilder getXcapsOrBuilder(
+        int index) {
+      return xcaps_.get(index);
     }
 
-    // optional string volume_name = 4;
-    public static final int VOLUME_NAME_FIELD_NUMBER = 4;
-    private java.lang.Object volumeName_;
-    /**
-     * <code>optional string volume_name = 4;</code>
-     */
-    public boolean hasVolumeName() {
-      return ((bitField0_ & 0x00000004) == 0x00000004);
-    }
-    /**
-     * <code>optional string volume_name = 4;</code>
-     */
-    public java.lang.String getVolumeName() {
-      java.lang.Object ref = volumeName_;
-      if (ref instanceof java.lang.String) {
-        return (java.lang.String) ref;
-      } else {
-        com.google.protobuf.ByteString bs = 
-            (com.google.protobuf.ByteString) ref;
-        java.lang.String s = bs.toStringUtf8();
-        if (bs.isValidUtf8()) {
-          volumeName_ = s;
-        }
-        return s;
-      }
-    }
-    /**
-     * <code>optional string volume_name = 4;</code>
-     */
-    public com.google.protobuf.ByteString
-        getVolumeNameBytes() {
-      java.lang.Object ref = volumeName_;
-      if (ref instanceof java.lang.String) {
-        com.google.protobuf.ByteString b = 
-            com.google.protobuf.ByteString.copyFromUtf8(
-                (java.lang.String) ref);
-        volumeName_ = b;
-        return b;
-      } else {
-        return (com.google.protobuf.ByteString) ref;
-      }
-    }
-
-    // required string osd_uuid = 2;
-    public static final int OSD_UUID_FIELD_NUMBER = 2;
-    private java.lang.Object osdUuid_;
-    /**
-     * <code>required string osd_uuid = 2;</code>
-     *
-     * <pre>
-     * the UUID of the head OSD of the replica to remove
-     * </pre>
-     */
-    public boolean hasOsdUuid() {
-      return ((bitField0_ & 0x00000008) == 0x00000008);
-    }
-    /**
-     * <code>required string osd_uuid = 2;</code>
-     *
-     * <pre>
-     * the UUID of the head OSD of the replica to remove
-     * </pre>
-     */
-    public java.lang.String getOsdUuid() {
-      java.lang.Object ref = osdUuid_;
-      if (ref instanceof java.lang.String) {
-        return (java.lang.String) ref;
-      } else {
-        com.google.protobuf.ByteString bs = 
-            (com.google.protobuf.ByteString) ref;
-        java.lang.String s = bs.toStringUtf8();
-        if (bs.isValidUtf8()) {
-          osdUuid_ = s;
-        }
-        return s;
-      }
-    }
-    /**
-     * <code>required string osd_uuid = 2;</code>
-     *
-     * <pre>
-     * the UUID of the head OSD of the replica to remove
-     * </pre>
-     */
-    public com.google.protobuf.ByteString
-        getOsdUuidBytes() {
-      java.lang.Object ref = osdUuid_;
-      if (ref instanceof java.lang.String) {
-        com.google.protobuf.ByteString b = 
-            com.google.protobuf.ByteString.copyFromUtf8(
-                (java.lang.String) ref);
-        osdUuid_ = b;
-        return b;
-      } else {
-        return (com.google.protobuf.ByteString) ref;
-      }
-    }
-
-    private void initFields() {
-      fileId_ = "";
-      path_ = "";
-      volumeName_ = "";
-      osdUuid_ = "";
+    private void initFields() {
+      xcaps_ = java.util.Collections.emptyList();
     }
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
       byte isInitialized = memoizedIsInitialized;
       if (isInitialized != -1) return isInitialized == 1;
 
-      if (!hasOsdUuid()) {
-        memoizedIsInitialized = 0;
-        return false;
+      for (int i = 0; i < getXcapsCount(); i++) {
+        if (!getXcaps(i).isInitialized()) {
+          memoizedIsInitialized = 0;
+          return false;
+        }
       }
       memoizedIsInitialized = 1;
       return true;
@@ -41303,17 +41085,8 @@ public final class MRC {
     public void writeTo(com.google.protobuf.CodedOutputStream output)
                         throws java.io.IOException {
       getSerializedSize();
-      if (((bitField0_ & 0x00000001) == 0x00000001)) {
-        output.writeBytes(1, getFileIdBytes());
-      }
-      if (((bitField0_ & 0x00000008) == 0x00000008)) {
-        output.writeBytes(2, getOsdUuidBytes());
-      }
-      if (((bitField0_ & 0x00000002) == 0x00000002)) {
-        output.writeBytes(3, getPathBytes());
-      }
-      if (((bitField0_ & 0x00000004) == 0x00000004)) {
-        output.writeBytes(4, getVolumeNameBytes());
+      for (int i = 0; i < xcaps_.size(); i++) {
+        output.writeMessage(1, xcaps_.get(i));
       }
       getUnknownFields().writeTo(output);
     }
@@ -41324,21 +41097,9 @@ public final class MRC {
       if (size != -1) return size;
 
       size = 0;
-      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+      for (int i = 0; i < xcaps_.size(); i++) {
         size += com.google.protobuf.CodedOutputStream
-          .computeBytesSize(1, getFileIdBytes());
-      }
-      if (((bitField0_ & 0x00000008) == 0x00000008)) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeBytesSize(2, getOsdUuidBytes());
-      }
-      if (((bitField0_ & 0x00000002) == 0x00000002)) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeBytesSize(3, getPathBytes());
-      }
-      if (((bitField0_ & 0x00000004) == 0x00000004)) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeBytesSize(4, getVolumeNameBytes());
+          .computeMessageSize(1, xcaps_.get(i));
       }
       size += getUnknownFields().getSerializedSize();
       memoizedSerializedSize = size;
@@ -41352,53 +41113,53 @@ public final class MRC {
       return super.writeReplace();
     }
 
-    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_replica_removeRequest parseFrom(
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_renew_capabilitiesResponse parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_replica_removeRequest parseFrom(
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_renew_capabilitiesResponse parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_replica_removeRequest parseFrom(byte[] data)
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_renew_capabilitiesResponse parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_replica_removeRequest parseFrom(
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_renew_capabilitiesResponse parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_replica_removeRequest parseFrom(java.io.InputStream input)
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_renew_capabilitiesResponse parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return PARSER.parseFrom(input);
     }
-    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_replica_removeRequest parseFrom(
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_renew_capabilitiesResponse parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return PARSER.parseFrom(input, extensionRegistry);
     }
-    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_replica_removeRequest parseDelimitedFrom(java.io.InputStream input)
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_renew_capabilitiesResponse parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return PARSER.parseDelimitedFrom(input);
     }
-    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_replica_removeRequest parseDelimitedFrom(
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_renew_capabilitiesResponse parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return PARSER.parseDelimitedFrom(input, extensionRegistry);
     }
-    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_replica_removeRequest parseFrom(
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_renew_capabilitiesResponse parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return PARSER.parseFrom(input);
     }
-    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_replica_removeRequest parseFrom(
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_renew_capabilitiesResponse parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -41407,7 +41168,7 @@ public final class MRC {
 
     public static Builder newBuilder() { return Builder.create(); }
     public Builder newBuilderForType() { return newBuilder(); }
-    public static Builder newBuilder(org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_replica_removeRequest prototype) {
+    public static Builder newBuilder(org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_renew_capabilitiesResponse prototype) {
       return newBuilder().mergeFrom(prototype);
     }
     public Builder toBuilder() { return newBuilder(this); }
@@ -41419,28 +41180,24 @@ public final class MRC {
       return builder;
     }
     /**
-     * Protobuf type {@code xtreemfs.pbrpc.xtreemfs_replica_removeRequest}
-     *
-     * <pre>
-     * removes a replica from a file
-     * </pre>
+     * Protobuf type {@code xtreemfs.pbrpc.xtreemfs_renew_capabilitiesResponse}
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessage.Builder<Builder>
-       implements org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_replica_removeRequestOrBuilder {
+       implements org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_renew_capabilitiesResponseOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return org.xtreemfs.pbrpc.generatedinterfaces.MRC.internal_static_xtreemfs_pbrpc_xtreemfs_replica_removeRequest_descriptor;
+        return org.xtreemfs.pbrpc.generatedinterfaces.MRC.internal_static_xtreemfs_pbrpc_xtreemfs_renew_capabilitiesResponse_descriptor;
       }
 
       protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return org.xtreemfs.pbrpc.generatedinterfaces.MRC.internal_static_xtreemfs_pbrpc_xtreemfs_replica_removeRequest_fieldAccessorTable
+        return org.xtreemfs.pbrpc.generatedinterfaces.MRC.internal_static_xtreemfs_pbrpc_xtreemfs_renew_capabilitiesResponse_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_replica_removeRequest.class, org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_replica_removeRequest.Builder.class);
+                org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_renew_capabilitiesResponse.class, org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_renew_capabilitiesResponse.Builder.class);
       }
 
-      // Construct using org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_replica_removeRequest.newBuilder()
+      // Construct using org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_renew_capabilitiesResponse.newBuilder()
       private Builder() {
         maybeForceBuilderInitialization();
       }
@@ -41452,6 +41209,7 @@ public final class MRC {
       }
       private void maybeForceBuilderInitialization() {
         if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+          getXcapsFieldBuilder();
         }
       }
       private static Builder create() {
@@ -41460,14 +41218,12 @@ public final class MRC {
 
       public Builder clear() {
         super.clear();
-        fileId_ = "";
-        bitField0_ = (bitField0_ & ~0x00000001);
-        path_ = "";
-        bitField0_ = (bitField0_ & ~0x00000002);
-        volumeName_ = "";
-        bitField0_ = (bitField0_ & ~0x00000004);
-        osdUuid_ = "";
-        bitField0_ = (bitField0_ & ~0x00000008);
+        if (xcapsBuilder_ == null) {
+          xcaps_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+        } else {
+          xcapsBuilder_.clear();
+        }
         return this;
       }
 
@@ -41477,85 +41233,84 @@ public final class MRC {
 
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return org.xtreemfs.pbrpc.generatedinterfaces.MRC.internal_static_xtreemfs_pbrpc_xtreemfs_replica_removeRequest_descriptor;
+        return org.xtreemfs.pbrpc.generatedinterfaces.MRC.internal_static_xtreemfs_pbrpc_xtreemfs_renew_capabilitiesResponse_descriptor;
       }
 
-      public org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_replica_removeRequest getDefaultInstanceForType() {
-        return org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_replica_removeRequest.getDefaultInstance();
+      public org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_renew_capabilitiesResponse getDefaultInstanceForType() {
+        return org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_renew_capabilitiesResponse.getDefaultInstance();
       }
 
-      public org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_replica_removeRequest build() {
-        org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_replica_removeRequest result = buildPartial();
+      public org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_renew_capabilitiesResponse build() {
+        org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_renew_capabilitiesResponse result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
         return result;
       }
 
-      public org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_replica_removeRequest buildPartial() {
-        org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_replica_removeRequest result = new org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_replica_removeRequest(this);
+      public org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_renew_capabilitiesResponse buildPartial() {
+        org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_renew_capabilitiesResponse result = new org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_renew_capabilitiesResponse(this);
         int from_bitField0_ = bitField0_;
-        int to_bitField0_ = 0;
-        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
-          to_bitField0_ |= 0x00000001;
-        }
-        result.fileId_ = fileId_;
-        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
-          to_bitField0_ |= 0x00000002;
-        }
-        result.path_ = path_;
-        if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
-          to_bitField0_ |= 0x00000004;
-        }
-        result.volumeName_ = volumeName_;
-        if (((from_bitField0_ & 0x00000008) == 0x00000008)) {
-          to_bitField0_ |= 0x00000008;
+        if (xcapsBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) == 0x00000001)) {
+            xcaps_ = java.util.Collections.unmodifiableList(xcaps_);
+            bitField0_ = (bitField0_ & ~0x00000001);
+          }
+          result.xcaps_ = xcaps_;
+        } else {
+          result.xcaps_ = xcapsBuilder_.build();
         }
-        result.osdUuid_ = osdUuid_;
-        result.bitField0_ = to_bitField0_;
         onBuilt();
         return result;
       }
 
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_replica_removeRequest) {
-          return mergeFrom((org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_replica_removeRequest)other);
+        if (other instanceof org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_renew_capabilitiesResponse) {
+          return mergeFrom((org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_renew_capabilitiesResponse)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_replica_removeRequest other) {
-        if (other == org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_replica_removeRequest.getDefaultInstance()) return this;
-        if (other.hasFileId()) {
-          bitField0_ |= 0x00000001;
-          fileId_ = other.fileId_;
-          onChanged();
-        }
-        if (other.hasPath()) {
-          bitField0_ |= 0x00000002;
-          path_ = other.path_;
-          onChanged();
-        }
-        if (other.hasVolumeName()) {
-          bitField0_ |= 0x00000004;
-          volumeName_ = other.volumeName_;
-          onChanged();
-        }
-        if (other.hasOsdUuid()) {
-          bitField0_ |= 0x00000008;
-          osdUuid_ = other.osdUuid_;
-          onChanged();
+      public Builder mergeFrom(org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_renew_capabilitiesResponse other) {
+        if (other == org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_renew_capabilitiesResponse.getDefaultInstance()) return this;
+        if (xcapsBuilder_ == null) {
+          if (!other.xcaps_.isEmpty()) {
+            if (xcaps_.isEmpty()) {
+              xcaps_ = other.xcaps_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+            } else {
+              ensureXcapsIsMutable();
+              xcaps_.addAll(other.xcaps_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.xcaps_.isEmpty()) {
+            if (xcapsBuilder_.isEmpty()) {
+              xcapsBuilder_.dispose();
+              xcapsBuilder_ = null;
+              xcaps_ = other.xcaps_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+              xcapsBuilder_ = 
+                com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
+                   getXcapsFieldBuilder() : null;
+            } else {
+              xcapsBuilder_.addAllMessages(other.xcaps_);
+            }
+          }
         }
         this.mergeUnknownFields(other.getUnknownFields());
         return this;
       }
 
       public final boolean isInitialized() {
-        if (!hasOsdUuid()) {
-          
-          return false;
+        for (int i = 0; i < getXcapsCount(); i++) {
+          if (!getXcaps(i).isInitialized()) {
+            
+            return false;
+          }
         }
         return true;
       }
@@ -41564,11 +41319,11 @@ public final class MRC {
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
-        org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_replica_removeRequest parsedMessage = null;
+        org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_renew_capabilitiesResponse parsedMessage = null;
         try {
           parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_replica_removeRequest) e.getUnfinishedMessage();
+          parsedMessage = (org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_renew_capabilitiesResponse) e.getUnfinishedMessage();
           throw e;
         } finally {
           if (parsedMessage != null) {
@@ -41579,418 +41334,353 @@ public final class MRC {
       }
       private int bitField0_;
 
-      // optional string file_id = 1;
-      private java.lang.Object fileId_ = "";
+      // repeated .xtreemfs.pbrpc.XCap xcaps = 1;
+      private java.util.List<org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCap> xcaps_ =
+        java.util.Collections.emptyList();
+      private void ensureXcapsIsMutable() {
+        if (!((bitField0_ & 0x00000001) == 0x00000001)) {
+          xcaps_ = new java.util.ArrayList<org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCap>(xcaps_);
+          bitField0_ |= 0x00000001;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilder<
+          org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCap, org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCap.Builder, org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCapOrBuilder> xcapsBuilder_;
+
       /**
-       * <code>optional string file_id = 1;</code>
+       * <code>repeated .xtreemfs.pbrpc.XCap xcaps = 1;</code>
        *
        * <pre>
-       * the file ID
+       * the renewed capabilities, in the order of the request; capabilities
+       * that could not be renewed are returned unchanged
        * </pre>
        */
-      public boolean hasFileId() {
-        return ((bitField0_ & 0x00000001) == 0x00000001);
+      public java.util.List<org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCap> getXcapsList() {
+        if (xcapsBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(xcaps_);
+        } else {
+          return xcapsBuilder_.getMessageList();
+        }
       }
       /**
-       * <code>optional string file_id = 1;</code>
+       * <code>repeated .xtreemfs.pbrpc.XCap xcaps = 1;</code>
        *
        * <pre>
-       * the file ID
+       * the renewed capabilities, in the order of the request; capabilities
+       * that could not be renewed are returned unchanged
        * </pre>
        */
-      public java.lang.String getFileId() {
-        java.lang.Object ref = fileId_;
-        if (!(ref instanceof java.lang.String)) {
-          java.lang.String s = ((com.google.protobuf.ByteString) ref)
-              .toStringUtf8();
-          fileId_ = s;
-          return s;
+      public int getXcapsCount() {
+        if (xcapsBuilder_ == null) {
+          return xcaps_.size();
         } else {
-          return (java.lang.String) ref;
+          return xcapsBuilder_.getCount();
         }
       }
       /**
-       * <code>optional string file_id = 1;</code>
+       * <code>repeated .xtreemfs.pbrpc.XCap xcaps = 1;</code>
        *
        * <pre>
-       * the file ID
+       * the renewed capabilities, in the order of the request; capabilities
+       * that could not be renewed are returned unchanged
        * </pre>
        */
-      public com.google.protobuf.ByteString
-          getFileIdBytes() {
-        java.lang.Object ref = fileId_;
-        if (ref instanceof String) {
-          com.google.protobuf.ByteString b = 
-              com.google.protobuf.ByteString.copyFromUtf8(
-                  (java.lang.String) ref);
-          fileId_ = b;
-          return b;
+      public org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCap getXcaps(int index) {
+        if (xcapsBuilder_ == null) {
+          return xcaps_.get(index);
         } else {
-          return (com.google.protobuf.ByteString) ref;
+          return xcapsBuilder_.getMessage(index);
         }
       }
       /**
-       * <code>optional string file_id = 1;</code>
+       * <code>repeated .xtreemfs.pbrpc.XCap xcaps = 1;</code>
        *
        * <pre>
-       * the file ID
+       * the renewed capabilities, in the order of the request; capabilities
+       * that could not be renewed are returned unchanged
        * </pre>
        */
-      public Builder setFileId(
-          java.lang.String value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000001;
-        fileId_ = value;
-        onChanged();
+      public Builder setXcaps(
+          int index, org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCap value) {
+        if (xcapsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureXcapsIsMutable();
+          xcaps_.set(index, value);
+          onChanged();
+        } else {
+          xcapsBuilder_.setMessage(index, value);
+        }
         return this;
       }
       /**
-       * <code>optional string file_id = 1;</code>
+       * <code>repeated .xtreemfs.pbrpc.XCap xcaps = 1;</code>
        *
        * <pre>
-       * the file ID
+       * the renewed capabilities, in the order of the request; capabilities
+       * that could not be renewed are returned unchanged
        * </pre>
        */
-      public Builder clearFileId() {
-        bitField0_ = (bitField0_ & ~0x00000001);
-        fileId_ = getDefaultInstance().getFileId();
-        onChanged();
+      public Builder setXcaps(
+          int index, org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCap.Builder builderForValue) {
+        if (xcapsBuilder_ == null) {
+          ensureXcapsIsMutable();
+          xcaps_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          xcapsBuilder_.setMessage(index, builderForValue.build());
+        }
         return this;
       }
       /**
-       * <code>optional string file_id = 1;</code>
+       * <code>repeated .xtreemfs.pbrpc.XCap xcaps = 1;</code>
        *
        * <pre>
-       * the file ID
+       * the renewed capabilities, in the order of the request; capabilities
+       * that could not be renewed are returned unchanged
        * </pre>
        */
-      public Builder setFileIdBytes(
-          com.google.protobuf.ByteString value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000001;
-        fileId_ = value;
-        onChanged();
+      public Builder addXcaps(org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCap value) {
+        if (xcapsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureXcapsIsMutable();
+          xcaps_.add(value);
+          onChanged();
+        } else {
+          xcapsBuilder_.addMessage(value);
+        }
         return this;
       }
-
-      // optional string path = 3;
-      private java.lang.Object path_ = "";
       /**
-       * <code>optional string path = 3;</code>
+       * <code>repeated .xtreemfs.pbrpc.XCap xcaps = 1;</code>
        *
        * <pre>
-       * or path and volume_name to file.
+       * the renewed capabilities, in the order of the request; capabilities
+       * that could not be renewed are returned unchanged
        * </pre>
        */
-      public boolean hasPath() {
-        return ((bitField0_ & 0x00000002) == 0x00000002);
+      public Builder addXcaps(
+          int index, org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCap value) {
+        if (xcapsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureXcapsIsMutable();
+          xcaps_.add(index, value);
+          onChanged();
+        } else {
+          xcapsBuilder_.addMessage(index, value);
+        }
+        return this;
       }
       /**
-       * <code>optional string path = 3;</code>
+       * <code>repeated .xtreemfs.pbrpc.XCap xcaps = 1;</code>
        *
        * <pre>
-       * or path and volume_name to file.
+       * the renewed capabilities, in the order of the request; capabilities
+       * that could not be renewed are returned unchanged
        * </pre>
        */
-      public java.lang.String getPath() {
-        java.lang.Object ref = path_;
-        if (!(ref instanceof java.lang.String)) {
-          java.lang.String s = ((com.google.protobuf.ByteString) ref)
-              .toStringUtf8();
-          path_ = s;
-          return s;
+      public Builder addXcaps(
+          org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCap.Builder builderForValue) {
+        if (xcapsBuilder_ == null) {
+          ensureXcapsIsMutable();
+          xcaps_.add(builderForValue.build());
+          onChanged();
         } else {
-          return (java.lang.String) ref;
+          xcapsBuilder_.addMessage(builderForValue.build());
         }
+        return this;
       }
       /**
-       * <code>optional string path = 3;</code>
+       * <code>repeated .xtreemfs.pbrpc.XCap xcaps = 1;</code>
        *
        * <pre>
-       * or path and volume_name to file.
+       * the renewed capabilities, in the order of the request; capabilities
+       * that could not be renewed are returned unchanged
        * </pre>
        */
-      public com.google.protobuf.ByteString
-          getPathBytes() {
-        java.lang.Object ref = path_;
-        if (ref instanceof String) {
-          com.google.protobuf.ByteString b = 
-              com.google.protobuf.ByteString.copyFromUtf8(
-                  (java.lang.String) ref);
-          path_ = b;
-          return b;
+      public Builder addXcaps(
+          int index, org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCap.Builder builderForValue) {
+        if (xcapsBuilder_ == null) {
+          ensureXcapsIsMutable();
+          xcaps_.add(index, builderForValue.build());
+          onChanged();
         } else {
-          return (com.google.protobuf.ByteString) ref;
+          xcapsBuilder_.addMessage(index, builderForValue.build());
         }
+        return this;
       }
       /**
-       * <code>optional string path = 3;</code>
+       * <code>repeated .xtreemfs.pbrpc.XCap xcaps = 1;</code>
        *
        * <pre>
-       * or path and volume_name to file.
+       * the renewed capabilities, in the order of the request; capabilities
+       * that could not be renewed are returned unchanged
        * </pre>
        */
-      public Builder setPath(
-          java.lang.String value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000002;
-        path_ = value;
-        onChanged();
+      public Builder addAllXcaps(
+          java.lang.Iterable<? extends org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCap> values) {
+        if (xcapsBuilder_ == null) {
+          ensureXcapsIsMutable();
+          super.addAll(values, xcaps_);
+          onChanged();
+        } else {
+          xcapsBuilder_.addAllMessages(values);
+        }
         return this;
       }
       /**
-       * <code>optional string path = 3;</code>
+       * <code>repeated .xtreemfs.pbrpc.XCap xcaps = 1;</code>
        *
        * <pre>
-       * or path and volume_name to file.
+       * the renewed capabilities, in the order of the request; capabilities
+       * that could not be renewed are returned unchanged
        * </pre>
        */
-      public Builder clearPath() {
-        bitField0_ = (bitField0_ & ~0x00000002);
-        path_ = getDefaultInstance().getPath();
-        onChanged();
+      public Builder clearXcaps() {
+        if (xcapsBuilder_ == null) {
+          xcaps_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+          onChanged();
+        } else {
+          xcapsBuilder_.clear();
+        }
         return this;
       }
       /**
-       * <code>optional string path = 3;</code>
+       * <code>repeated .xtreemfs.pbrpc.XCap xcaps = 1;</code>
        *
        * <pre>
-       * or path and volume_name to file.
+       * the renewed capabilities, in the order of the request; capabilities
+       * that could not be renewed are returned unchanged
        * </pre>
        */
-      public Builder setPathBytes(
-          com.google.protobuf.ByteString value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000002;
-        path_ = value;
-        onChanged();
-        return this;
-      }
-
-      // optional string volume_name = 4;
-      private java.lang.Object volumeName_ = "";
-      /**
-       * <code>optional string volume_name = 4;</code>
-       */
-      public boolean hasVolumeName() {
-        return ((bitField0_ & 0x00000004) == 0x00000004);
-      }
-      /**
-       * <code>optional string volume_name = 4;</code>
-       */
-      public java.lang.String getVolumeName() {
-        java.lang.Object ref = volumeName_;
-        if (!(ref instanceof java.lang.String)) {
-          java.lang.String s = ((com.google.protobuf.ByteString) ref)
-              .toStringUtf8();
-          volumeName_ = s;
-          return s;
-        } else {
-          return (java.lang.String) ref;
-        }
-      }
-      /**
-       * <code>optional string volume_name = 4;</code>
-       */
-      public com.google.protobuf.ByteString
-          getVolumeNameBytes() {
-        java.lang.Object ref = volumeName_;
-        if (ref instanceof String) {
-          com.google.protobuf.ByteString b = 
-              com.google.protobuf.ByteString.copyFromUtf8(
-                  (java.lang.String) ref);
-          volumeName_ = b;
-          return b;
+      public Builder removeXcaps(int index) {
+        if (xcapsBuilder_ == null) {
+          ensureXcapsIsMutable();
+          xcaps_.remove(index);
+          onChanged();
         } else {
-          return (com.google.protobuf.ByteString) ref;
+          xcapsBuilder_.remove(index);
         }
-      }
-      /**
-       * <code>optional string volume_name = 4;</code>
-       */
-      public Builder setVolumeName(
-          java.lang.String value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000004;
-        volumeName_ = value;
-        onChanged();
-        return this;
-      }
-      /**
-       * <code>optional string volume_name = 4;</code>
-       */
-      public Builder clearVolumeName() {
-        bitField0_ = (bitField0_ & ~0x00000004);
-        volumeName_ = getDefaultInstance().getVolumeName();
-        onChanged();
-        return this;
-      }
-      /**
-       * <code>optional string volume_name = 4;</code>
-       */
-      public Builder setVolumeNameBytes(
-          com.google.protobuf.ByteString value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000004;
-        volumeName_ = value;
-        onChanged();
         return this;
       }
-
-      // required string osd_uuid = 2;
-      private java.lang.Object osdUuid_ = "";
       /**
-       * <code>required string osd_uuid = 2;</code>
+       * <code>repeated .xtreemfs.pbrpc.XCap xcaps = 1;</code>
        *
        * <pre>
-       * the UUID of the head OSD of the replica to remove
+       * the renewed capabilities, in the order of the request; capabilities
+       * that could not be renewed are returned unchanged
        * </pre>
        */
-      public boolean hasOsdUuid() {
-        return ((bitField0_ & 0x00000008) == 0x00000008);
+      public org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCap.Builder getXcapsBuilder(
+          int index) {
+        return getXcapsFieldBuilder().getBuilder(index);
       }
       /**
-       * <code>required string osd_uuid = 2;</code>
+       * <code>repeated .xtreemfs.pbrpc.XCap xcaps = 1;</code>
        *
        * <pre>
-       * the UUID of the head OSD of the replica to remove
+       * the renewed capabilities, in the order of the request; capabilities
+       * that could not be renewed are returned unchanged
        * </pre>
        */
-      public java.lang.String getOsdUuid() {
-        java.lang.Object ref = osdUuid_;
-        if (!(ref instanceof java.lang.String)) {
-          java.lang.String s = ((com.google.protobuf.ByteString) ref)
-              .toStringUtf8();
-          osdUuid_ = s;
-          return s;
-        } else {
-          return (java.lang.String) ref;
+      public org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCapOrBuilder getXcapsOrBuilder(
+          int index) {
+        if (xcapsBuilder_ == null) {
+          return xcaps_.get(index);  } else {
+          return xcapsBuilder_.getMessageOrBuilder(index);
         }
       }
       /**
-       * <code>required string osd_uuid = 2;</code>
+       * <code>repeated .xtreemfs.pbrpc.XCap xcaps = 1;</code>
        *
        * <pre>
-       * the UUID of the head OSD of the replica to remove
+       * the renewed capabilities, in the order of the request; capabilities
+       * that could not be renewed are returned unchanged
        * </pre>
        */
-      public com.google.protobuf.ByteString
-          getOsdUuidBytes() {
-        java.lang.Object ref = osdUuid_;
-        if (ref instanceof String) {
-          com.google.protobuf.ByteString b = 
-              com.google.protobuf.ByteString.copyFromUtf8(
-                  (java.lang.String) ref);
-          osdUuid_ = b;
-          return b;
+      public java.util.List<? extends org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCapOrBuilder> 
+           getXcapsOrBuilderList() {
+        if (xcapsBuilder_ != null) {
+          return xcapsBuilder_.getMessageOrBuilderList();
         } else {
-          return (com.google.protobuf.ByteString) ref;
+          return java.util.Collections.unmodifiableList(xcaps_);
         }
       }
       /**
-       * <code>required string osd_uuid = 2;</code>
+       * <code>repeated .xtreemfs.pbrpc.XCap xcaps = 1;</code>
        *
        * <pre>
-       * the UUID of the head OSD of the replica to remove
+       * the renewed capabilities, in the order of the request; capabilities
+       * that could not be renewed are returned unchanged
        * </pre>
        */
-      public Builder setOsdUuid(
-          java.lang.String value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000008;
-        osdUuid_ = value;
-        onChanged();
-        return this;
+      public org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCap.Builder addXcapsBuilder() {
+        return getXcapsFieldBuilder().addBuilder(
+            org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCap.getDefaultInstance());
       }
       /**
-       * <code>required string osd_uuid = 2;</code>
+       * <code>repeated .xtreemfs.pbrpc.XCap xcaps = 1;</code>
        *
        * <pre>
-       * the UUID of the head OSD of the replica to remove
+       * the renewed capabilities, in the order of the request; capabilities
+       * that could not be renewed are returned unchanged
        * </pre>
        */
-      public Builder clearOsdUuid() {
-        bitField0_ = (bitField0_ & ~0x00000008);
-        osdUuid_ = getDefaultInstance().getOsdUuid();
-        onChanged();
-        return this;
+      public org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCap.Builder addXcapsBuilder(
+          int index) {
+        return getXcapsFieldBuilder().addBuilder(
+            index, org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCap.getDefaultInstance());
       }
       /**
-       * <code>required string osd_uuid = 2;</code>
+       * <code>repeated .xtreemfs.pbrpc.XCap xcaps = 1;</code>
        *
        * <pre>
-       * the UUID of the head OSD of the replica to remove
+       * the renewed capabilities, in the order of the request; capabilities
+       * that could not be renewed are returned unchanged
        * </pre>
        */
-      public Builder setOsdUuidBytes(
-          com.google.protobuf.ByteString value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000008;
-        osdUuid_ = value;
-        onChanged();
-        return this;
+      public java.util.List<org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCap.Builder> 
+           getXcapsBuilderList() {
+        return getXcapsFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilder<
+          org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCap, org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCap.Builder, org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCapOrBuilder> 
+          getXcapsFieldBuilder() {
+        if (xcapsBuilder_ == null) {
+          xcapsBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
+              org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCap, org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCap.Builder, org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCapOrBuilder>(
+                  xcaps_,
+                  ((bitField0_ & 0x00000001) == 0x00000001),
+                  getParentForChildren(),
+                  isClean());
+          xcaps_ = null;
+        }
+        return xcapsBuilder_;
       }
 
-      // @@protoc_insertion_point(builder_scope:xtreemfs.pbrpc.xtreemfs_replica_removeRequest)
+      // @@protoc_insertion_point(builder_scope:xtreemfs.pbrpc.xtreemfs_renew_capabilitiesResponse)
     }
 
     static {
-      defaultInstance = new xtreemfs_replica_removeRequest(true);
+      defaultInstance = new xtreemfs_renew_capabilitiesResponse(true);
       defaultInstance.initFields();
     }
 
-    // @@protoc_insertion_point(class_scope:xtreemfs.pbrpc.xtreemfs_replica_removeRequest)
+    // @@protoc_insertion_point(class_scope:xtreemfs.pbrpc.xtreemfs_renew_capabilitiesResponse)
   }
 
-  public interface xtreemfs_restore_fileRequestOrBuilder
+  public interface xtreemfs_get_xlocsetRequestOrBuilder
       extends com.google.protobuf.MessageOrBuilder {
 
-    // required string file_path = 1;
-    /**
-     * <code>required string file_path = 1;</code>
-     *
-     * <pre>
-     * the path to the restored file
-     * </pre>
-     */
-    boolean hasFilePath();
-    /**
-     * <code>required string file_path = 1;</code>
-     *
-     * <pre>
-     * the path to the restored file
-     * </pre>
-     */
-    java.lang.String getFilePath();
-    /**
-     * <code>required string file_path = 1;</code>
-     *
-     * <pre>
-     * the path to the restored file
-     * </pre>
-     */
-    com.google.protobuf.ByteString
-        getFilePathBytes();
-
-    // required string file_id = 2;
+    // optional string file_id = 1;
     /**
-     * <code>required string file_id = 2;</code>
+     * <code>optional string file_id = 1;</code>
      *
      * <pre>
      * the file ID
@@ -41998,7 +41688,7 @@ public final class MRC {
      */
     boolean hasFileId();
     /**
-     * <code>required string file_id = 2;</code>
+     * <code>optional string file_id = 1;</code>
      *
      * <pre>
      * the file ID
@@ -42006,7 +41696,7 @@ public final class MRC {
      */
     java.lang.String getFileId();
     /**
-     * <code>required string file_id = 2;</code>
+     * <code>optional string file_id = 1;</code>
      *
      * <pre>
      * the file ID
@@ -42015,92 +41705,97 @@ public final class MRC {
     com.google.protobuf.ByteString
         getFileIdBytes();
 
-    // required fixed64 file_size = 3;
+    // optional string path = 2;
     /**
-     * <code>required fixed64 file_size = 3;</code>
+     * <code>optional string path = 2;</code>
      *
      * <pre>
-     * the file size
+     * or path and volume_name to file
      * </pre>
      */
-    boolean hasFileSize();
+    boolean hasPath();
     /**
-     * <code>required fixed64 file_size = 3;</code>
+     * <code>optional string path = 2;</code>
      *
      * <pre>
-     * the file size
+     * or path and volume_name to file
      * </pre>
      */
-    long getFileSize();
-
-    // required string osd_uuid = 4;
+    java.lang.String getPath();
     /**
-     * <code>required string osd_uuid = 4;</code>
+     * <code>optional string path = 2;</code>
      *
      * <pre>
-     * the UUID of the OSD with the orphaned file content
+     * or path and volume_name to file
      * </pre>
      */
-    boolean hasOsdUuid();
+    com.google.protobuf.ByteString
+        getPathBytes();
+
+    // optional string volume_name = 3;
     /**
-     * <code>required string osd_uuid = 4;</code>
-     *
-     * <pre>
-     * the UUID of the OSD with the orphaned file content
-     * </pre>
+     * <code>optional string volume_name = 3;</code>
      */
-    java.lang.String getOsdUuid();
+    boolean hasVolumeName();
     /**
-     * <code>required string osd_uuid = 4;</code>
+     * <code>optional string volume_name = 3;</code>
+     */
+    java.lang.String getVolumeName();
+    /**
+     * <code>optional string volume_name = 3;</code>
+     */
+    com.google.protobuf.ByteString
+        getVolumeNameBytes();
+
+    // optional .xtreemfs.pbrpc.XCap xcap = 4;
+    /**
+     * <code>optional .xtreemfs.pbrpc.XCap xcap = 4;</code>
      *
      * <pre>
-     * the UUID of the OSD with the orphaned file content
+     * or a valid XCap.
      * </pre>
      */
-    com.google.protobuf.ByteString
-        getOsdUuidBytes();
-
-    // required fixed32 stripe_size = 5;
+    boolean hasXcap();
     /**
-     * <code>required fixed32 stripe_size = 5;</code>
+     * <code>optional .xtreemfs.pbrpc.XCap xcap = 4;</code>
      *
      * <pre>
-     * the stripe size of the file
+     * or a valid XCap.
      * </pre>
      */
-    boolean hasStripeSize();
+    org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCap getXcap();
     /**
-     * <code>required fixed32 stripe_size = 5;</code>
+     * <code>optional .xtreemfs.pbrpc.XCap xcap = 4;</code>
      *
      * <pre>
-     * the stripe size of the file
+     * or a valid XCap.
      * </pre>
      */
-    int getStripeSize();
+    org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCapOrBuilder getXcapOrBuilder();
   }
   /**
-   * Protobuf type {@code xtreemfs.pbrpc.xtreemfs_restore_fileRequest}
+   * Protobuf type {@code xtreemfs.pbrpc.xtreemfs_get_xlocsetRequest}
    *
    * <pre>
-   * restores a file w/ orphaned file content by creating a new metadata object
+   * requests the xLocSet of a file
    * </pre>
    */
-  public static final class xtreemfs_restore_fileRequest extends
+  public static final class xtreemfs_get_xlocsetRequest extends
       com.google.protobuf.GeneratedMessage
-      implements xtreemfs_restore_fileRequestOrBuilder {
-    // Use xtreemfs_restore_fileRequest.newBuilder() to construct.
-    private xtreemfs_restore_fileRequest(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      implements xtreemfs_get_xlocsetRequestOrBuilder {
+    // Use xtreemfs_get_xlocsetRequest.newBuilder() to construct.
+    private xtreemfs_get_xlocsetRequest(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
       super(builder);
       this.unknownFields = builder.getUnknownFields();
     }
-    private xtreemfs_restore_fileRequest(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+    private xtreemfs_get_xlocsetRequest(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
 
-    private static final xtreemfs_restore_fileRequest defaultInstance;
-    public static xtreemfs_restore_fileRequest getDefaultInstance() {
+    private static final xtreemfs_get_xlocsetRequest defaultInstance;
+    public static xtreemfs_get_xlocsetRequest getDefaultInstance() {
       return defaultInstance;
     }
 
-    public xtreemfs_restore_fileRequest getDefaultInstanceForType() {
+    public xtreemfs_get_xlocsetRequest getDefaultInstanceForType() {
       return defaultInstance;
     }
 
@@ -42110,7 +41805,7 @@ public final class MRC {
         getUnknownFields() {
       return this.unknownFields;
     }
-    private xtreemfs_restore_fileRequest(
+    private xtreemfs_get_xlocsetRequest(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
@@ -42135,27 +41830,30 @@ public final class MRC {
             }
             case 10: {
               bitField0_ |= 0x00000001;
-              filePath_ = input.readBytes();
+              fileId_ = input.readBytes();
               break;
             }
             case 18: {
               bitField0_ |= 0x00000002;
-              fileId_ = input.readBytes();
+              path_ = input.readBytes();
               break;
             }
-            case 25: {
+            case 26: {
               bitField0_ |= 0x00000004;
-              fileSize_ = input.readFixed64();
+              volumeName_ = input.readBytes();
               break;
             }
             case 34: {
+              org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCap.Builder subBuilder = null;
+              if (((bitField0_ & 0x00000008) == 0x00000008)) {
+                subBuilder = xcap_.toBuilder();
+              }
+              xcap_ = input.readMessage(org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCap.PARSER, extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(xcap_);
+                xcap_ = subBuilder.buildPartial();
+              }
               bitField0_ |= 0x00000008;
-              osdUuid_ = input.readBytes();
-              break;
-            }
-            case 45: {
-              bitField0_ |= 0x00000010;
-              stripeSize_ = input.readFixed32();
               break;
             }
           }
@@ -42172,54 +41870,54 @@ public final class MRC {
     }
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return org.xtreemfs.pbrpc.generatedinterfaces.MRC.internal_static_xtreemfs_pbrpc_xtreemfs_restore_fileRequest_descriptor;
+      return org.xtreemfs.pbrpc.generatedinterfaces.MRC.internal_static_xtreemfs_pbrpc_xtreemfs_get_xlocsetRequest_descriptor;
     }
 
     protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return org.xtreemfs.pbrpc.generatedinterfaces.MRC.internal_static_xtreemfs_pbrpc_xtreemfs_restore_fileRequest_fieldAccessorTable
+      return org.xtreemfs.pbrpc.generatedinterfaces.MRC.internal_static_xtreemfs_pbrpc_xtreemfs_get_xlocsetRequest_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_restore_fileRequest.class, org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_restore_fileRequest.Builder.class);
+              org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_get_xlocsetRequest.class, org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_get_xlocsetRequest.Builder.class);
     }
 
-    public static com.google.protobuf.Parser<xtreemfs_restore_fileRequest> PARSER =
-        new com.google.protobuf.AbstractParser<xtreemfs_restore_fileRequest>() {
-      public xtreemfs_restore_fileRequest parsePartialFrom(
+    public static com.google.protobuf.Parser<xtreemfs_get_xlocsetRequest> PARSER =
+        new com.google.protobuf.AbstractParser<xtreemfs_get_xlocsetRequest>() {
+      public xtreemfs_get_xlocsetRequest parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
-        return new xtreemfs_restore_fileRequest(input, extensionRegistry);
+        return new xtreemfs_get_xlocsetRequest(input, extensionRegistry);
       }
     };
 
     @java.lang.Override
-    public com.google.protobuf.Parser<xtreemfs_restore_fileRequest> getParserForType() {
+    public com.google.protobuf.Parser<xtreemfs_get_xlocsetRequest> getParserForType() {
       return PARSER;
     }
 
     private int bitField0_;
-    // required string file_path = 1;
-    public static final int FILE_PATH_FIELD_NUMBER = 1;
-    private java.lang.Object filePath_;
+    // optional string file_id = 1;
+    public static final int FILE_ID_FIELD_NUMBER = 1;
+    private java.lang.Object fileId_;
     /**
-     * <code>required string file_path = 1;</code>
+     * <code>optional string file_id = 1;</code>
      *
      * <pre>
-     * the path to the restored file
+     * the file ID
      * </pre>
      */
-    public boolean hasFilePath() {
+    public boolean hasFileId() {
       return ((bitField0_ & 0x00000001) == 0x00000001);
     }
     /**
-     * <code>required string file_path = 1;</code>
+     * <code>optional string file_id = 1;</code>
      *
      * <pre>
-     * the path to the restored file
+     * the file ID
      * </pre>
      */
-    public java.lang.String getFilePath() {
-      java.lang.Object ref = filePath_;
+    public java.lang.String getFileId() {
+      java.lang.Object ref = fileId_;
       if (ref instanceof java.lang.String) {
         return (java.lang.String) ref;
       } else {
@@ -42227,54 +41925,54 @@ public final class MRC {
             (com.google.protobuf.ByteString) ref;
         java.lang.String s = bs.toStringUtf8();
         if (bs.isValidUtf8()) {
-          filePath_ = s;
+          fileId_ = s;
         }
         return s;
       }
     }
     /**
-     * <code>required string file_path = 1;</code>
+     * <code>optional string file_id = 1;</code>
      *
      * <pre>
-     * the path to the restored file
+     * the file ID
      * </pre>
      */
     public com.google.protobuf.ByteString
-        getFilePathBytes() {
-      java.lang.Object ref = filePath_;
+        getFileIdBytes() {
+      java.lang.Object ref = fileId_;
       if (ref instanceof java.lang.String) {
         com.google.protobuf.ByteString b = 
             com.google.protobuf.ByteString.copyFromUtf8(
                 (java.lang.String) ref);
-        filePath_ = b;
+        fileId_ = b;
         return b;
       } else {
         return (com.google.protobuf.ByteString) ref;
       }
     }
 
-    // required string file_id = 2;
-    public static final int FILE_ID_FIELD_NUMBER = 2;
-    private java.lang.Object fileId_;
+    // optional string path = 2;
+    public static final int PATH_FIELD_NUMBER = 2;
+    private java.lang.Object path_;
     /**
-     * <code>required string file_id = 2;</code>
+     * <code>optional string path = 2;</code>
      *
      * <pre>
-     * the file ID
+     * or path and volume_name to file
      * </pre>
      */
-    public boolean hasFileId() {
+    public boolean hasPath() {
       return ((bitField0_ & 0x00000002) == 0x00000002);
     }
     /**
-     * <code>required string file_id = 2;</code>
+     * <code>optional string path = 2;</code>
      *
      * <pre>
-     * the file ID
+     * or path and volume_name to file
      * </pre>
      */
-    public java.lang.String getFileId() {
-      java.lang.Object ref = fileId_;
+    public java.lang.String getPath() {
+      java.lang.Object ref = path_;
       if (ref instanceof java.lang.String) {
         return (java.lang.String) ref;
       } else {
@@ -42282,78 +41980,46 @@ public final class MRC {
             (com.google.protobuf.ByteString) ref;
         java.lang.String s = bs.toStringUtf8();
         if (bs.isValidUtf8()) {
-          fileId_ = s;
+          path_ = s;
         }
         return s;
       }
     }
     /**
-     * <code>required string file_id = 2;</code>
+     * <code>optional string path = 2;</code>
      *
      * <pre>
-     * the file ID
+     * or path and volume_name to file
      * </pre>
      */
     public com.google.protobuf.ByteString
-        getFileIdBytes() {
-      java.lang.Object ref = fileId_;
+        getPathBytes() {
+      java.lang.Object ref = path_;
       if (ref instanceof java.lang.String) {
         com.google.protobuf.ByteString b = 
             com.google.protobuf.ByteString.copyFromUtf8(
                 (java.lang.String) ref);
-        fileId_ = b;
+        path_ = b;
         return b;
       } else {
         return (com.google.protobuf.ByteString) ref;
       }
     }
 
-    // required fixed64 file_size = 3;
-    public static final int FILE_SIZE_FIELD_NUMBER = 3;
-    private long fileSize_;
+    // optional string volume_name = 3;
+    public static final int VOLUME_NAME_FIELD_NUMBER = 3;
+    private java.lang.Object volumeName_;
     /**
-     * <code>required fixed64 file_size = 3;</code>
-     *
-     * <pre>
-     * the file size
-     * </pre>
+     * <code>optional string volume_name = 3;</code>
      */
-    public boolean hasFileSize() {
+    public boolean hasVolumeName() {
       return ((bitField0_ & 0x00000004) == 0x00000004);
     }
     /**
-     * <code>required fixed64 file_size = 3;</code>
-     *
-     * <pre>
-     * the file size
-     * </pre>
-     */
-    public long getFileSize() {
-      return fileSize_;
-    }
-
-    // required string osd_uuid = 4;
-    public static final int OSD_UUID_FIELD_NUMBER = 4;
-    private java.lang.Object osdUuid_;
-    /**
-     * <code>required string osd_uuid = 4;</code>
-     *
-     * <pre>
-     * the UUID of the OSD with the orphaned file content
-     * </pre>
-     */
-    public boolean hasOsdUuid() {
-      return ((bitField0_ & 0x00000008) == 0x00000008);
-    }
-    /**
-     * <code>required string osd_uuid = 4;</code>
-     *
-     * <pre>
-     * the UUID of the OSD with the orphaned file content
-     * </pre>
+     * <code>optional string volume_name = 3;</code>
      */
-    public java.lang.String getOsdUuid() {
-      java.lang.Object ref = osdUuid_;
+    public java.lang.String getVolumeName() {
+      java.lang.Object ref = volumeName_;
       if (ref instanceof java.lang.String) {
         return (java.lang.String) ref;
       } else {
@@ -42361,87 +42027,78 @@ public final class MRC {
             (com.google.protobuf.ByteString) ref;
         java.lang.String s = bs.toStringUtf8();
         if (bs.isValidUtf8()) {
-          osdUuid_ = s;
+          volumeName_ = s;
         }
         return s;
       }
     }
     /**
-     * <code>required string osd_uuid = 4;</code>
-     *
-     * <pre>
-     * the UUID of the OSD with the orphaned file content
-     * </pre>
+     * <code>optional string volume_name = 3;</code>
      */
     public com.google.protobuf.ByteString
-        getOsdUuidBytes() {
-      java.lang.Object ref = osdUuid_;
+        getVolumeNameBytes() {
+      java.lang.Object ref = volumeName_;
       if (ref instanceof java.lang.String) {
         com.google.protobuf.ByteString b = 
             com.google.protobuf.ByteString.copyFromUtf8(
                 (java.lang.String) ref);
-        osdUuid_ = b;
+        volumeName_ = b;
         return b;
       } else {
         return (com.google.protobuf.ByteString) ref;
       }
     }
 
-    // required fixed32 stripe_size = 5;
-    public static final int STRIPE_SIZE_FIELD_NUMBER = 5;
-    private int stripeSize_;
+    // optional .xtreemfs.pbrpc.XCap xcap = 4;
+    public static final int XCAP_FIELD_NUMBER = 4;
+    private org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCap xcap_;
     /**
-     * <code>required fixed32 stripe_size = 5;</code>
+     * <code>optional .xtreemfs.pbrpc.XCap xcap = 4;</code>
      *
      * <pre>
-     * the stripe size of the file
+     * or a valid XCap.
      * </pre>
      */
-    public boolean hasStripeSize() {
-      return ((bitField0_ & 0x00000010) == 0x00000010);
+    public boolean hasXcap() {
+      return ((bitField0_ & 0x00000008) == 0x00000008);
     }
     /**
-     * <code>required fixed32 stripe_size = 5;</code>
+     * <code>optional .xtreemfs.pbrpc.XCap xcap = 4;</code>
      *
      * <pre>
-     * the stripe size of the file
+     * or a valid XCap.
      * </pre>
      */
-    public int getStripeSize() {
-      return stripeSize_;
+    public org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCap getXcap() {
+      return xcap_;
+    }
+    /**
+     * <code>optional .xtreemfs.pbrpc.XCap xcap = 4;</code>
+     *
+     * <pre>
+     * or a valid XCap.
+     * </pre>
+     */
+    public org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCapOrBuilder getXcapOrBuilder() {
+      return xcap_;
     }
 
     private void initFields() {
-      filePath_ = "";
       fileId_ = "";
-      fileSize_ = 0L;
-      osdUuid_ = "";
-      stripeSize_ = 0;
+      path_ = "";
+      volumeName_ = "";
+      xcap_ = org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCap.getDefaultInstance();
     }
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
       byte isInitialized = memoizedIsInitialized;
       if (isInitialized != -1) return isInitialized == 1;
 
-      if (!hasFilePath()) {
-        memoizedIsInitialized = 0;
-        return false;
-      }
-      if (!hasFileId()) {
-        memoizedIsInitialized = 0;
-        return false;
-      }
-      if (!hasFileSize()) {
-        memoizedIsInitialized = 0;
-        return false;
-      }
-      if (!hasOsdUuid()) {
-        memoizedIsInitialized = 0;
-        return false;
-      }
-      if (!hasStripeSize()) {
-        memoizedIsInitialized = 0;
-        return false;
+      if (hasXcap()) {
+        if (!getXcap().isInitialized()) {
+          memoizedIsInitialized = 0;
+          return false;
+        }
       }
       memoizedIsInitialized = 1;
       return true;
@@ -42451,19 +42108,16 @@ public final class MRC {
                         throws java.io.IOException {
       getSerializedSize();
       if (((bitField0_ & 0x00000001) == 0x00000001)) {
-        output.writeBytes(1, getFilePathBytes());
+        output.writeBytes(1, getFileIdBytes());
       }
       if (((bitField0_ & 0x00000002) == 0x00000002)) {
-        output.writeBytes(2, getFileIdBytes());
+        output.writeBytes(2, getPathBytes());
       }
       if (((bitField0_ & 0x00000004) == 0x00000004)) {
-        output.writeFixed64(3, fileSize_);
+        output.writeBytes(3, getVolumeNameBytes());
       }
       if (((bitField0_ & 0x00000008) == 0x00000008)) {
-        output.writeBytes(4, getOsdUuidBytes());
-      }
-      if (((bitField0_ & 0x00000010) == 0x00000010)) {
-        output.writeFixed32(5, stripeSize_);
+        output.writeMessage(4, xcap_);
       }
       getUnknownFields().writeTo(output);
     }
@@ -42476,23 +42130,19 @@ public final class MRC {
       size = 0;
       if (((bitField0_ & 0x00000001) == 0x00000001)) {
         size += com.google.protobuf.CodedOutputStream
-          .computeBytesSize(1, getFilePathBytes());
+          .computeBytesSize(1, getFileIdBytes());
       }
       if (((bitField0_ & 0x00000002) == 0x00000002)) {
         size += com.google.protobuf.CodedOutputStream
-          .computeBytesSize(2, getFileIdBytes());
+          .computeBytesSize(2, getPathBytes());
       }
       if (((bitField0_ & 0x00000004) == 0x00000004)) {
         size += com.google.protobuf.CodedOutputStream
-          .computeFixed64Size(3, fileSize_);
+          .computeBytesSize(3, getVolumeNameBytes());
       }
       if (((bitField0_ & 0x00000008) == 0x00000008)) {
         size += com.google.protobuf.CodedOutputStream
-          .computeBytesSize(4, getOsdUuidBytes());
-      }
-      if (((bitField0_ & 0x00000010) == 0x00000010)) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeFixed32Size(5, stripeSize_);
+          .computeMessageSize(4, xcap_);
       }
       size += getUnknownFields().getSerializedSize();
       memoizedSerializedSize = size;
@@ -42506,53 +42156,53 @@ public final class MRC {
       return super.writeReplace();
     }
 
-    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_restore_fileRequest parseFrom(
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_get_xlocsetRequest parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_restore_fileRequest parseFrom(
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_get_xlocsetRequest parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_restore_fileRequest parseFrom(byte[] data)
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_get_xlocsetRequest parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_restore_fileRequest parseFrom(
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_get_xlocsetRequest parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_restore_fileRequest parseFrom(java.io.InputStream input)
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_get_xlocsetRequest parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return PARSER.parseFrom(input);
     }
-    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_restore_fileRequest parseFrom(
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_get_xlocsetRequest parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return PARSER.parseFrom(input, extensionRegistry);
     }
-    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_restore_fileRequest parseDelimitedFrom(java.io.InputStream input)
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_get_xlocsetRequest parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return PARSER.parseDelimitedFrom(input);
     }
-    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_restore_fileRequest parseDelimitedFrom(
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_get_xlocsetRequest parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return PARSER.parseDelimitedFrom(input, extensionRegistry);
     }
-    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_restore_fileRequest parseFrom(
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_get_xlocsetRequest parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return PARSER.parseFrom(input);
     }
-    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_restore_fileRequest parseFrom(
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_get_xlocsetRequest parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -42561,7 +42211,7 @@ public final class MRC {
 
     public static Builder newBuilder() { return Builder.create(); }
     public Builder newBuilderForType() { return newBuilder(); }
-    public static Builder newBuilder(org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_restore_fileRequest prototype) {
+    public static Builder newBuilder(org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_get_xlocsetRequest prototype) {
       return newBuilder().mergeFrom(prototype);
     }
     public Builder toBuilder() { return newBuilder(this); }
@@ -42573,28 +42223,28 @@ public final class MRC {
       return builder;
     }
     /**
-     * Protobuf type {@code xtreemfs.pbrpc.xtreemfs_restore_fileRequest}
+     * Protobuf type {@code xtreemfs.pbrpc.xtreemfs_get_xlocsetRequest}
      *
      * <pre>
-     * restores a file w/ orphaned file content by creating a new metadata object
+     * requests the xLocSet of a file
      * </pre>
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessage.Builder<Builder>
-       implements org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_restore_fileRequestOrBuilder {
+       implements org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_get_xlocsetRequestOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return org.xtreemfs.pbrpc.generatedinterfaces.MRC.internal_static_xtreemfs_pbrpc_xtreemfs_restore_fileRequest_descriptor;
+        return org.xtreemfs.pbrpc.generatedinterfaces.MRC.internal_static_xtreemfs_pbrpc_xtreemfs_get_xlocsetRequest_descriptor;
       }
 
       protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return org.xtreemfs.pbrpc.generatedinterfaces.MRC.internal_static_xtreemfs_pbrpc_xtreemfs_restore_fileRequest_fieldAccessorTable
+        return org.xtreemfs.pbrpc.generatedinterfaces.MRC.internal_static_xtreemfs_pbrpc_xtreemfs_get_xlocsetRequest_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_restore_fileRequest.class, org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_restore_fileRequest.Builder.class);
+                org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_get_xlocsetRequest.class, org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_get_xlocsetRequest.Builder.class);
       }
 
-      // Construct using org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_restore_fileRequest.newBuilder()
+      // Construct using org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_get_xlocsetRequest.newBuilder()
       private Builder() {
         maybeForceBuilderInitialization();
       }
@@ -42606,6 +42256,7 @@ public final class MRC {
       }
       private void maybeForceBuilderInitialization() {
         if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+          getXcapFieldBuilder();
         }
       }
       private static Builder create() {
@@ -42614,16 +42265,18 @@ public final class MRC {
 
       public Builder clear() {
         super.clear();
-        filePath_ = "";
-        bitField0_ = (bitField0_ & ~0x00000001);
         fileId_ = "";
+        bitField0_ = (bitField0_ & ~0x00000001);
+        path_ = "";
         bitField0_ = (bitField0_ & ~0x00000002);
-        fileSize_ = 0L;
+        volumeName_ = "";
         bitField0_ = (bitField0_ & ~0x00000004);
-        osdUuid_ = "";
+        if (xcapBuilder_ == null) {
+          xcap_ = org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCap.getDefaultInstance();
+        } else {
+          xcapBuilder_.clear();
+        }
         bitField0_ = (bitField0_ & ~0x00000008);
-        stripeSize_ = 0;
-        bitField0_ = (bitField0_ & ~0x00000010);
         return this;
       }
 
@@ -42633,106 +42286,89 @@ public final class MRC {
 
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return org.xtreemfs.pbrpc.generatedinterfaces.MRC.internal_static_xtreemfs_pbrpc_xtreemfs_restore_fileRequest_descriptor;
+        return org.xtreemfs.pbrpc.generatedinterfaces.MRC.internal_static_xtreemfs_pbrpc_xtreemfs_get_xlocsetRequest_descriptor;
       }
 
-      public org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_restore_fileRequest getDefaultInstanceForType() {
-        return org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_restore_fileRequest.getDefaultInstance();
+      public org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_get_xlocsetRequest getDefaultInstanceForType() {
+        return org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_get_xlocsetRequest.getDefaultInstance();
       }
 
-      public org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_restore_fileRequest build() {
-        org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_restore_fileRequest result = buildPartial();
+      public org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_get_xlocsetRequest build() {
+        org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_get_xlocsetRequest result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
         return result;
       }
 
-      public org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_restore_fileRequest buildPartial() {
-        org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_restore_fileRequest result = new org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_restore_fileRequest(this);
+      public org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_get_xlocsetRequest buildPartial() {
+        org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_get_xlocsetRequest result = new org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_get_xlocsetRequest(this);
         int from_bitField0_ = bitField0_;
         int to_bitField0_ = 0;
         if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
           to_bitField0_ |= 0x00000001;
         }
-        result.filePath_ = filePath_;
+        result.fileId_ = fileId_;
         if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
           to_bitField0_ |= 0x00000002;
         }
-        result.fileId_ = fileId_;
+        result.path_ = path_;
         if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
           to_bitField0_ |= 0x00000004;
         }
-        result.fileSize_ = fileSize_;
+        result.volumeName_ = volumeName_;
         if (((from_bitField0_ & 0x00000008) == 0x00000008)) {
           to_bitField0_ |= 0x00000008;
         }
-        result.osdUuid_ = osdUuid_;
-        if (((from_bitField0_ & 0x00000010) == 0x00000010)) {
-          to_bitField0_ |= 0x00000010;
+        if (xcapBuilder_ == null) {
+          result.xcap_ = xcap_;
+        } else {
+          result.xcap_ = xcapBuilder_.build();
         }
-        result.stripeSize_ = stripeSize_;
         result.bitField0_ = to_bitField0_;
         onBuilt();
         return result;
       }
 
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_restore_fileRequest) {
-          return mergeFrom((org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_restore_fileRequest)other);
+        if (other instanceof org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_get_xlocsetRequest) {
+          return mergeFrom((org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_get_xlocsetRequest)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_restore_fileRequest other) {
-        if (other == org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_restore_fileRequest.getDefaultInstance()) return this;
-        if (other.hasFilePath()) {
+      public Builder mergeFrom(org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_get_xlocsetRequest other) {
+        if (other == org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_get_xlocsetRequest.getDefaultInstance()) return this;
+        if (other.hasFileId()) {
           bitField0_ |= 0x00000001;
-          filePath_ = other.filePath_;
+          fileId_ = other.fileId_;
           onChanged();
         }
-        if (other.hasFileId()) {
+        if (other.hasPath()) {
           bitField0_ |= 0x00000002;
-          fileId_ = other.fileId_;
+          path_ = other.path_;
           onChanged();
         }
-        if (other.hasFileSize()) {
-          setFileSize(other.getFileSize());
-        }
-        if (other.hasOsdUuid()) {
-          bitField0_ |= 0x00000008;
-          osdUuid_ = other.osdUuid_;
+        if (other.hasVolumeName()) {
+          bitField0_ |= 0x00000004;
+          volumeName_ = other.volumeName_;
           onChanged();
         }
-        if (other.hasStripeSize()) {
-          setStripeSize(other.getStripeSize());
+        if (other.hasXcap()) {
+          mergeXcap(other.getXcap());
         }
         this.mergeUnknownFields(other.getUnknownFields());
         return this;
       }
 
       public final boolean isInitialized() {
-        if (!hasFilePath()) {
-          
-          return false;
-        }
-        if (!hasFileId()) {
-          
-          return false;
-        }
-        if (!hasFileSize()) {
-          
-          return false;
-        }
-        if (!hasOsdUuid()) {
-          
-          return false;
-        }
-        if (!hasStripeSize()) {
-          
-          return false;
+        if (hasXcap()) {
+          if (!getXcap().isInitialized()) {
+            
+            return false;
+          }
         }
         return true;
       }
@@ -42741,11 +42377,11 @@ public final class MRC {
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
-        org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_restore_fileRequest parsedMessage = null;
+        org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_get_xlocsetRequest parsedMessage = null;
         try {
           parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_restore_fileRequest) e.getUnfinishedMessage();
+          parsedMessage = (org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_get_xlocsetRequest) e.getUnfinishedMessage();
           throw e;
         } finally {
           if (parsedMessage != null) {
@@ -42756,462 +42392,562 @@ public final class MRC {
       }
       private int bitField0_;
 
-      // required string file_path = 1;
-      private java.lang.Object filePath_ = "";
+      // optional string file_id = 1;
+      private java.lang.Object fileId_ = "";
       /**
-       * <code>required string file_path = 1;</code>
+       * <code>optional string file_id = 1;</code>
        *
        * <pre>
-       * the path to the restored file
+       * the file ID
        * </pre>
        */
-      public boolean hasFilePath() {
+      public boolean hasFileId() {
         return ((bitField0_ & 0x00000001) == 0x00000001);
       }
       /**
-       * <code>required string file_path = 1;</code>
+       * <code>optional string file_id = 1;</code>
        *
        * <pre>
-       * the path to the restored file
+       * the file ID
        * </pre>
        */
-      public java.lang.String getFilePath() {
-        java.lang.Object ref = filePath_;
+      public java.lang.String getFileId() {
+        java.lang.Object ref = fileId_;
         if (!(ref instanceof java.lang.String)) {
           java.lang.String s = ((com.google.protobuf.ByteString) ref)
               .toStringUtf8();
-          filePath_ = s;
+          fileId_ = s;
           return s;
         } else {
           return (java.lang.String) ref;
         }
       }
       /**
-       * <code>required string file_path = 1;</code>
+       * <code>optional string file_id = 1;</code>
        *
        * <pre>
-       * the path to the restored file
+       * the file ID
        * </pre>
        */
       public com.google.protobuf.ByteString
-          getFilePathBytes() {
-        java.lang.Object ref = filePath_;
+          getFileIdBytes() {
+        java.lang.Object ref = fileId_;
         if (ref instanceof String) {
           com.google.protobuf.ByteString b = 
               com.google.protobuf.ByteString.copyFromUtf8(
                   (java.lang.String) ref);
-          filePath_ = b;
+          fileId_ = b;
           return b;
         } else {
           return (com.google.protobuf.ByteString) ref;
         }
       }
       /**
-       * <code>required string file_path = 1;</code>
+       * <code>optional string file_id = 1;</code>
        *
        * <pre>
-       * the path to the restored file
+       * the file ID
        * </pre>
        */
-      public Builder setFilePath(
+      public Builder setFileId(
           java.lang.String value) {
         if (value == null) {
     throw new NullPointerException();
   }
   bitField0_ |= 0x00000001;
-        filePath_ = value;
+        fileId_ = value;
         onChanged();
         return this;
       }
       /**
-       * <code>required string file_path = 1;</code>
+       * <code>optional string file_id = 1;</code>
        *
        * <pre>
-       * the path to the restored file
+       * the file ID
        * </pre>
        */
-      public Builder clearFilePath() {
+      public Builder clearFileId() {
         bitField0_ = (bitField0_ & ~0x00000001);
-        filePath_ = getDefaultInstance().getFilePath();
+        fileId_ = getDefaultInstance().getFileId();
         onChanged();
         return this;
       }
       /**
-       * <code>required string file_path = 1;</code>
+       * <code>optional string file_id = 1;</code>
        *
        * <pre>
-       * the path to the restored file
+       * the file ID
        * </pre>
        */
-      public Builder setFilePathBytes(
+      public Builder setFileIdBytes(
           com.google.protobuf.ByteString value) {
         if (value == null) {
     throw new NullPointerException();
   }
   bitField0_ |= 0x00000001;
-        filePath_ = value;
+        fileId_ = value;
         onChanged();
         return this;
       }
 
-      // required string file_id = 2;
-      private java.lang.Object fileId_ = "";
+      // optional string path = 2;
+      private java.lang.Object path_ = "";
       /**
-       * <code>required string file_id = 2;</code>
+       * <code>optional string path = 2;</code>
        *
        * <pre>
-       * the file ID
+       * or path and volume_name to file
        * </pre>
        */
-      public boolean hasFileId() {
+      public boolean hasPath() {
         return ((bitField0_ & 0x00000002) == 0x00000002);
       }
       /**
-       * <code>required string file_id = 2;</code>
+       * <code>optional string path = 2;</code>
        *
        * <pre>
-       * the file ID
+       * or path and volume_name to file
        * </pre>
        */
-      public java.lang.String getFileId() {
-        java.lang.Object ref = fileId_;
+      public java.lang.String getPath() {
+        java.lang.Object ref = path_;
         if (!(ref instanceof java.lang.String)) {
           java.lang.String s = ((com.google.protobuf.ByteString) ref)
               .toStringUtf8();
-          fileId_ = s;
+          path_ = s;
           return s;
         } else {
           return (java.lang.String) ref;
         }
       }
       /**
-       * <code>required string file_id = 2;</code>
+       * <code>optional string path = 2;</code>
        *
        * <pre>
-       * the file ID
+       * or path and volume_name to file
        * </pre>
        */
       public com.google.protobuf.ByteString
-          getFileIdBytes() {
-        java.lang.Object ref = fileId_;
+          getPathBytes() {
+        java.lang.Object ref = path_;
         if (ref instanceof String) {
           com.google.protobuf.ByteString b = 
               com.google.protobuf.ByteString.copyFromUtf8(
                   (java.lang.String) ref);
-          fileId_ = b;
+          path_ = b;
           return b;
         } else {
           return (com.google.protobuf.ByteString) ref;
         }
       }
       /**
-       * <code>required string file_id = 2;</code>
+       * <code>optional string path = 2;</code>
        *
        * <pre>
-       * the file ID
+       * or path and volume_name to file
        * </pre>
        */
-      public Builder setFileId(
+      public Builder setPath(
           java.lang.String value) {
         if (value == null) {
     throw new NullPointerException();
   }
   bitField0_ |= 0x00000002;
-        fileId_ = value;
+        path_ = value;
         onChanged();
         return this;
       }
       /**
-       * <code>required string file_id = 2;</code>
+       * <code>optional string path = 2;</code>
        *
        * <pre>
-       * the file ID
+       * or path and volume_name to file
        * </pre>
        */
-      public Builder clearFileId() {
+      public Builder clearPath() {
         bitField0_ = (bitField0_ & ~0x00000002);
-        fileId_ = getDefaultInstance().getFileId();
+        path_ = getDefaultInstance().getPath();
         onChanged();
         return this;
       }
       /**
-       * <code>required string file_id = 2;</code>
+       * <code>optional string path = 2;</code>
        *
        * <pre>
-       * the file ID
+       * or path and volume_name to file
        * </pre>
        */
-      public Builder setFileIdBytes(
+      public Builder setPathBytes(
           com.google.protobuf.ByteString value) {
         if (value == null) {
     throw new NullPointerException();
   }
   bitField0_ |= 0x00000002;
-        fileId_ = value;
+        path_ = value;
         onChanged();
         return this;
       }
 
-      // required fixed64 file_size = 3;
-      private long fileSize_ ;
+      // optional string volume_name = 3;
+      private java.lang.Object volumeName_ = "";
       /**
-       * <code>required fixed64 file_size = 3;</code>
-       *
-       * <pre>
-       * the file size
-       * </pre>
+       * <code>optional string volume_name = 3;</code>
        */
-      public boolean hasFileSize() {
+      public boolean hasVolumeName() {
         return ((bitField0_ & 0x00000004) == 0x00000004);
       }
       /**
-       * <code>required fixed64 file_size = 3;</code>
-       *
-       * <pre>
-       * the file size
-       * </pre>
+       * <code>optional string volume_name = 3;</code>
        */
-      public long getFileSize() {
-        return fileSize_;
+      public java.lang.String getVolumeName() {
+        java.lang.Object ref = volumeName_;
+        if (!(ref instanceof java.lang.String)) {
+          java.lang.String s = ((com.google.protobuf.ByteString) ref)
+              .toStringUtf8();
+          volumeName_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
       }
       /**
-       * <code>required fixed64 file_size = 3;</code>
-       *
-       * <pre>
-       * the file size
-       * </pre>
+       * <code>optional string volume_name = 3;</code>
        */
-      public Builder setFileSize(long value) {
-        bitField0_ |= 0x00000004;
-        fileSize_ = value;
+      public com.google.protobuf.ByteString
+          getVolumeNameBytes() {
+        java.lang.Object ref = volumeName_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          volumeName_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string volume_name = 3;</code>
+       */
+      public Builder setVolumeName(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000004;
+        volumeName_ = value;
         onChanged();
         return this;
       }
       /**
-       * <code>required fixed64 file_size = 3;</code>
-       *
-       * <pre>
-       * the file size
-       * </pre>
+       * <code>optional string volume_name = 3;</code>
        */
-      public Builder clearFileSize() {
+      public Builder clearVolumeName() {
         bitField0_ = (bitField0_ & ~0x00000004);
-        fileSize_ = 0L;
+        volumeName_ = getDefaultInstance().getVolumeName();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string volume_name = 3;</code>
+       */
+      public Builder setVolumeNameBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000004;
+        volumeName_ = value;
         onChanged();
         return this;
       }
 
-      // required string osd_uuid = 4;
-      private java.lang.Object osdUuid_ = "";
+      // optional .xtreemfs.pbrpc.XCap xcap = 4;
+      private org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCap xcap_ = org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCap.getDefaultInstance();
+      private com.google.protobuf.SingleFieldBuilder<
+          org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCap, org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCap.Builder, org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCapOrBuilder> xcapBuilder_;
       /**
-       * <code>required string osd_uuid = 4;</code>
+       * <code>optional .xtreemfs.pbrpc.XCap xcap = 4;</code>
        *
        * <pre>
-       * the UUID of the OSD with the orphaned file content
+       * or a valid XCap.
        * </pre>
        */
-      public boolean hasOsdUuid() {
+      public boolean hasXcap() {
         return ((bitField0_ & 0x00000008) == 0x00000008);
       }
       /**
-       * <code>required string osd_uuid = 4;</code>
+       * <code>optional .xtreemfs.pbrpc.XCap xcap = 4;</code>
        *
        * <pre>
-       * the UUID of the OSD with the orphaned file content
+       * or a valid XCap.
        * </pre>
        */
-      public java.lang.String getOsdUuid() {
-        java.lang.Object ref = osdUuid_;
-        if (!(ref instanceof java.lang.String)) {
-          java.lang.String s = ((com.google.protobuf.ByteString) ref)
-              .toStringUtf8();
-          osdUuid_ = s;
-          return s;
+      public org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCap getXcap() {
+        if (xcapBuilder_ == null) {
+          return xcap_;
         } else {
-          return (java.lang.String) ref;
+          return xcapBuilder_.getMessage();
         }
       }
       /**
-       * <code>required string osd_uuid = 4;</code>
+       * <code>optional .xtreemfs.pbrpc.XCap xcap = 4;</code>
        *
        * <pre>
-       * the UUID of the OSD with the orphaned file content
+       * or a valid XCap.
        * </pre>
        */
-      public com.google.protobuf.ByteString
-          getOsdUuidBytes() {
-        java.lang.Object ref = osdUuid_;
-        if (ref instanceof String) {
-          com.google.protobuf.ByteString b = 
-              com.google.protobuf.ByteString.copyFromUtf8(
-                  (java.lang.String) ref);
-          osdUuid_ = b;
-          return b;
+      public Builder setXcap(org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCap value) {
+        if (xcapBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          xcap_ = value;
+          onChanged();
         } else {
-          return (com.google.protobuf.ByteString) ref;
+          xcapBuilder_.setMessage(value);
         }
-      }
-      /**
-       * <code>required string osd_uuid = 4;</code>
-       *
-       * <pre>
-       * the UUID of the OSD with the orphaned file content
-       * </pre>
-       */
-      public Builder setOsdUuid(
-          java.lang.String value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000008;
-        osdUuid_ = value;
-        onChanged();
+        bitField0_ |= 0x00000008;
         return this;
       }
       /**
-       * <code>required string osd_uuid = 4;</code>
+       * <code>optional .xtreemfs.pbrpc.XCap xcap = 4;</code>
        *
        * <pre>
-       * the UUID of the OSD with the orphaned file content
+       * or a valid XCap.
        * </pre>
        */
-      public Builder clearOsdUuid() {
-        bitField0_ = (bitField0_ & ~0x00000008);
-        osdUuid_ = getDefaultInstance().getOsdUuid();
-        onChanged();
+      public Builder setXcap(
+          org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCap.Builder builderForValue) {
+        if (xcapBuilder_ == null) {
+          xcap_ = builderForValue.build();
+          onChanged();
+        } else {
+          xcapBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000008;
         return this;
       }
       /**
-       * <code>required string osd_uuid = 4;</code>
+       * <code>optional .xtreemfs.pbrpc.XCap xcap = 4;</code>
        *
        * <pre>
-       * the UUID of the OSD with the orphaned file content
+       * or a valid XCap.
        * </pre>
        */
-      public Builder setOsdUuidBytes(
-          com.google.protobuf.ByteString value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000008;
-        osdUuid_ = value;
-        onChanged();
+      public Builder mergeXcap(org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCap value) {
+        if (xcapBuilder_ == null) {
+          if (((bitField0_ & 0x00000008) == 0x00000008) &&
+              xcap_ != org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCap.getDefaultInstance()) {
+            xcap_ =
+              org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCap.newBuilder(xcap_).mergeFrom(value).buildPartial();
+          } else {
+            xcap_ = value;
+          }
+          onChanged();
+        } else {
+          xcapBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000008;
         return this;
       }
-
-      // required fixed32 stripe_size = 5;
-      private int stripeSize_ ;
       /**
-       * <code>required fixed32 stripe_size = 5;</code>
+       * <code>optional .xtreemfs.pbrpc.XCap xcap = 4;</code>
        *
        * <pre>
-       * the stripe size of the file
+       * or a valid XCap.
        * </pre>
        */
-      public boolean hasStripeSize() {
-        return ((bitField0_ & 0x00000010) == 0x00000010);
+      public Builder clearXcap() {
+        if (xcapBuilder_ == null) {
+          xcap_ = org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCap.getDefaultInstance();
+          onChanged();
+        } else {
+          xcapBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000008);
+        return this;
       }
       /**
-       * <code>required fixed32 stripe_size = 5;</code>
+       * <code>optional .xtreemfs.pbrpc.XCap xcap = 4;</code>
        *
        * <pre>
-       * the stripe size of the file
+       * or a valid XCap.
        * </pre>
        */
-      public int getStripeSize() {
-        return stripeSize_;
+      public org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCap.Builder getXcapBuilder() {
+        bitField0_ |= 0x00000008;
+        onChanged();
+        return getXcapFieldBuilder().getBuilder();
       }
       /**
-       * <code>required fixed32 stripe_size = 5;</code>
+       * <code>optional .xtreemfs.pbrpc.XCap xcap = 4;</code>
        *
        * <pre>
-       * the stripe size of the file
+       * or a valid XCap.
        * </pre>
        */
-      public Builder setStripeSize(int value) {
-        bitField0_ |= 0x00000010;
-        stripeSize_ = value;
-        onChanged();
-        return this;
+      public org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCapOrBuilder getXcapOrBuilder() {
+        if (xcapBuilder_ != null) {
+          return xcapBuilder_.getMessageOrBuilder();
+        } else {
+          return xcap_;
+        }
       }
       /**
-       * <code>required fixed32 stripe_size = 5;</code>
+       * <code>optional .xtreemfs.pbrpc.XCap xcap = 4;</code>
        *
        * <pre>
-       * the stripe size of the file
+       * or a valid XCap.
        * </pre>
        */
-      public Builder clearStripeSize() {
-        bitField0_ = (bitField0_ & ~0x00000010);
-        stripeSize_ = 0;
-        onChanged();
-        return this;
+      private com.google.protobuf.SingleFieldBuilder<
+          org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCap, org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCap.Builder, org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCapOrBuilder> 
+          getXcapFieldBuilder() {
+        if (xcapBuilder_ == null) {
+          xcapBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCap, org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCap.Builder, org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCapOrBuilder>(
+                  xcap_,
+                  getParentForChildren(),
+                  isClean());
+          xcap_ = null;
+        }
+        return xcapBuilder_;
       }
 
-      // @@protoc_insertion_point(builder_scope:xtreemfs.pbrpc.xtreemfs_restore_fileRequest)
+      // @@protoc_insertion_point(builder_scope:xtreemfs.pbrpc.xtreemfs_get_xlocsetRequest)
     }
 
     static {
-      defaultInstance = new xtreemfs_restore_fileRequest(true);
+      defaultInstance = new xtreemfs_get_xlocsetRequest(true);
       defaultInstance.initFields();
     }
 
-    // @@protoc_insertion_point(class_scope:xtreemfs.pbrpc.xtreemfs_restore_fileRequest)
+    // @@protoc_insertion_point(class_scope:xtreemfs.pbrpc.xtreemfs_get_xlocsetRequest)
   }
 
-  public interface xtreemfs_rmvolRequestOrBuilder
+  public interface xtreemfs_replica_removeRequestOrBuilder
       extends com.google.protobuf.MessageOrBuilder {
 
-    // required string volume_name = 1;
+    // optional string file_id = 1;
     /**
-     * <code>required string volume_name = 1;</code>
+     * <code>optional string file_id = 1;</code>
      *
      * <pre>
-     * the name of the volume to delete
+     * the file ID
      * </pre>
      */
-    boolean hasVolumeName();
+    boolean hasFileId();
     /**
-     * <code>required string volume_name = 1;</code>
+     * <code>optional string file_id = 1;</code>
      *
      * <pre>
-     * the name of the volume to delete
+     * the file ID
      * </pre>
      */
-    java.lang.String getVolumeName();
+    java.lang.String getFileId();
     /**
-     * <code>required string volume_name = 1;</code>
+     * <code>optional string file_id = 1;</code>
      *
      * <pre>
-     * the name of the volume to delete
+     * the file ID
+     * </pre>
+     */
+    com.google.protobuf.ByteString
+        getFileIdBytes();
+
+    // optional string path = 3;
+    /**
+     * <code>optional string path = 3;</code>
+     *
+     * <pre>
+     * or path and volume_name to file.
+     * </pre>
+     */
+    boolean hasPath();
+    /**
+     * <code>optional string path = 3;</code>
+     *
+     * <pre>
+     * or path and volume_name to file.
+     * </pre>
+     */
+    java.lang.String getPath();
+    /**
+     * <code>optional string path = 3;</code>
+     *
+     * <pre>
+     * or path and volume_name to file.
      * </pre>
      */
+    com.google.protobuf.ByteString
+        getPathBytes();
+
+    // optional string volume_name = 4;
+    /**
+     * <code>optional string volume_name = 4;</code>
+     */
+    boolean hasVolumeName();
+    /**
+     * <code>optional string volume_name = 4;</code>
+     */
+    java.lang.String getVolumeName();
+    /**
+     * <code>optional string volume_name = 4;</code>
+     */
     com.google.protobuf.ByteString
         getVolumeNameBytes();
+
+    // required string osd_uuid = 2;
+    /**
+     * <code>required string osd_uuid = 2;</code>
+     *
+     * <pre>
+     * the UUID of the head OSD of the replica to remove
+     * </pre>
+     */
+    boolean hasOsdUuid();
+    /**
+     * <code>required string osd_uuid = 2;</code>
+     *
+     * <pre>
+     * the UUID of the head OSD of the replica to remove
+     * </pre>
+     */
+    java.lang.String getOsdUuid();
+    /**
+     * <code>required string osd_uuid = 2;</code>
+     *
+     * <pre>
+     * the UUID of the head OSD of the replica to remove
+     * </pre>
+     */
+    com.google.protobuf.ByteString
+        getOsdUuidBytes();
   }
   /**
-   * Protobuf type {@code xtreemfs.pbrpc.xtreemfs_rmvolRequest}
+   * Protobuf type {@code xtreemfs.pbrpc.xtreemfs_replica_removeRequest}
    *
    * <pre>
-   * deletes a volume
+   * removes a replica from a file
    * </pre>
    */
-  public static final class xtreemfs_rmvolRequest extends
+  public static final class xtreemfs_replica_removeRequest extends
       com.google.protobuf.GeneratedMessage
-      implements xtreemfs_rmvolRequestOrBuilder {
-    // Use xtreemfs_rmvolRequest.newBuilder() to construct.
-    private xtreemfs_rmvolRequest(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      implements xtreemfs_replica_removeRequestOrBuilder {
+    // Use xtreemfs_replica_removeRequest.newBuilder() to construct.
+    private xtreemfs_replica_removeRequest(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
       super(builder);
       this.unknownFields = builder.getUnknownFields();
     }
-    private xtreemfs_rmvolRequest(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+    private xtreemfs_replica_removeRequest(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
 
-    private static final xtreemfs_rmvolRequest defaultInstance;
-    public static xtreemfs_rmvolRequest getDefaultInstance() {
+    private static final xtreemfs_replica_removeRequest defaultInstance;
+    public static xtreemfs_replica_removeRequest getDefaultInstance() {
       return defaultInstance;
     }
 
-    public xtreemfs_rmvolRequest getDefaultInstanceForType() {
+    public xtreemfs_replica_removeRequest getDefaultInstanceForType() {
       return defaultInstance;
     }
 
@@ -43221,7 +42957,7 @@ public final class MRC {
         getUnknownFields() {
       return this.unknownFields;
     }
-    private xtreemfs_rmvolRequest(
+    private xtreemfs_replica_removeRequest(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
@@ -43246,6 +42982,21 @@ public final class MRC {
             }
             case 10: {
               bitField0_ |= 0x00000001;
+              fileId_ = input.readBytes();
+              break;
+            }
+            case 18: {
+              bitField0_ |= 0x00000008;
+              osdUuid_ = input.readBytes();
+              break;
+            }
+            case 26: {
+              bitField0_ |= 0x00000002;
+              path_ = input.readBytes();
+              break;
+            }
+            case 34: {
+              bitField0_ |= 0x00000004;
               volumeName_ = input.readBytes();
               break;
             }
@@ -43263,54 +43014,54 @@ public final class MRC {
     }
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return org.xtreemfs.pbrpc.generatedinterfaces.MRC.internal_static_xtreemfs_pbrpc_xtreemfs_rmvolRequest_descriptor;
+      return org.xtreemfs.pbrpc.generatedinterfaces.MRC.internal_static_xtreemfs_pbrpc_xtreemfs_replica_removeRequest_descriptor;
     }
 
     protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return org.xtreemfs.pbrpc.generatedinterfaces.MRC.internal_static_xtreemfs_pbrpc_xtreemfs_rmvolRequest_fieldAccessorTable
+      return org.xtreemfs.pbrpc.generatedinterfaces.MRC.internal_static_xtreemfs_pbrpc_xtreemfs_replica_removeRequest_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_rmvolRequest.class, org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_rmvolRequest.Builder.class);
+              org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_replica_removeRequest.class, org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_replica_removeRequest.Builder.class);
     }
 
-    public static com.google.protobuf.Parser<xtreemfs_rmvolRequest> PARSER =
-        new com.google.protobuf.AbstractParser<xtreemfs_rmvolRequest>() {
-      public xtreemfs_rmvolRequest parsePartialFrom(
+    public static com.google.protobuf.Parser<xtreemfs_replica_removeRequest> PARSER =
+        new com.google.protobuf.AbstractParser<xtreemfs_replica_removeRequest>() {
+      public xtreemfs_replica_removeRequest parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
-        return new xtreemfs_rmvolRequest(input, extensionRegistry);
+        return new xtreemfs_replica_removeRequest(input, extensionRegistry);
       }
     };
 
     @java.lang.Override
-    public com.google.protobuf.Parser<xtreemfs_rmvolRequest> getParserForType() {
+    public com.google.protobuf.Parser<xtreemfs_replica_removeRequest> getParserForType() {
       return PARSER;
     }
 
     private int bitField0_;
-    // required string volume_name = 1;
-    public static final int VOLUME_NAME_FIELD_NUMBER = 1;
-    private java.lang.Object volumeName_;
+    // optional string file_id = 1;
+    public static final int FILE_ID_FIELD_NUMBER = 1;
+    private java.lang.Object fileId_;
     /**
-     * <code>required string volume_name = 1;</code>
+     * <code>optional string file_id = 1;</code>
      *
      * <pre>
-     * the name of the volume to delete
+     * the file ID
      * </pre>
      */
-    public boolean hasVolumeName() {
+    public boolean hasFileId() {
       return ((bitField0_ & 0x00000001) == 0x00000001);
     }
     /**
-     * <code>required string volume_name = 1;</code>
+     * <code>optional string file_id = 1;</code>
      *
      * <pre>
-     * the name of the volume to delete
+     * the file ID
      * </pre>
      */
-    public java.lang.String getVolumeName() {
-      java.lang.Object ref = volumeName_;
+    public java.lang.String getFileId() {
+      java.lang.Object ref = fileId_;
       if (ref instanceof java.lang.String) {
         return (java.lang.String) ref;
       } else {
@@ -43318,18 +43069,116 @@ public final class MRC {
             (com.google.protobuf.ByteString) ref;
         java.lang.String s = bs.toStringUtf8();
         if (bs.isValidUtf8()) {
-          volumeName_ = s;
+          fileId_ = s;
         }
         return s;
       }
     }
     /**
-     * <code>required string volume_name = 1;</code>
+     * <code>optional string file_id = 1;</code>
      *
      * <pre>
-     * the name of the volume to delete
+     * the file ID
+     * </pre>
+     */
+    public com.google.protobuf.ByteString
+        getFileIdBytes() {
+      java.lang.Object ref = fileId_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        fileId_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    // optional string path = 3;
+    public static final int PATH_FIELD_NUMBER = 3;
+    private java.lang.Object path_;
+    /**
+     * <code>optional string path = 3;</code>
+     *
+     * <pre>
+     * or path and volume_name to file.
+     * </pre>
+     */
+    public boolean hasPath() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
+    }
+    /**
+     * <code>optional string path = 3;</code>
+     *
+     * <pre>
+     * or path and volume_name to file.
+     * </pre>
+     */
+    public java.lang.String getPath() {
+      java.lang.Object ref = path_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          path_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string path = 3;</code>
+     *
+     * <pre>
+     * or path and volume_name to file.
      * </pre>
      */
+    public com.google.protobuf.ByteString
+        getPathBytes() {
+      java.lang.Object ref = path_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        path_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    // optional string volume_name = 4;
+    public static final int VOLUME_NAME_FIELD_NUMBER = 4;
+    private java.lang.Object volumeName_;
+    /**
+     * <code>optional string volume_name = 4;</code>
+     */
+    public boolean hasVolumeName() {
+      return ((bitField0_ & 0x00000004) == 0x00000004);
+    }
+    /**
+     * <code>optional string volume_name = 4;</code>
+     */
+    public java.lang.String getVolumeName() {
+      java.lang.Object ref = volumeName_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          volumeName_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string volume_name = 4;</code>
+     */
     public com.google.protobuf.ByteString
         getVolumeNameBytes() {
       java.lang.Object ref = volumeName_;
@@ -43344,15 +43193,73 @@ public final class MRC {
       }
     }
 
+    // required string osd_uuid = 2;
+    public static final int OSD_UUID_FIELD_NUMBER = 2;
+    private java.lang.Object osdUuid_;
+    /**
+     * <code>required string osd_uuid = 2;</code>
+     *
+     * <pre>
+     * the UUID of the head OSD of the replica to remove
+     * </pre>
+     */
+    public boolean hasOsdUuid() {
+      return ((bitField0_ & 0x00000008) == 0x00000008);
+    }
+    /**
+     * <code>required string osd_uuid = 2;</code>
+     *
+     * <pre>
+     * the UUID of the head OSD of the replica to remove
+     * </pre>
+     */
+    public java.lang.String getOsdUuid() {
+      java.lang.Object ref = osdUuid_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          osdUuid_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>required string osd_uuid = 2;</code>
+     *
+     * <pre>
+     * the UUID of the head OSD of the replica to remove
+     * </pre>
+     */
+    public com.google.protobuf.ByteString
+        getOsdUuidBytes() {
+      java.lang.Object ref = osdUuid_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        osdUuid_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
     private void initFields() {
+      fileId_ = "";
+      path_ = "";
       volumeName_ = "";
+      osdUuid_ = "";
     }
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
       byte isInitialized = memoizedIsInitialized;
       if (isInitialized != -1) return isInitialized == 1;
 
-      if (!hasVolumeName()) {
+      if (!hasOsdUuid()) {
         memoizedIsInitialized = 0;
         return false;
       }
@@ -43364,7 +43271,16 @@ public final class MRC {
                         throws java.io.IOException {
       getSerializedSize();
       if (((bitField0_ & 0x00000001) == 0x00000001)) {
-        output.writeBytes(1, getVolumeNameBytes());
+        output.writeBytes(1, getFileIdBytes());
+      }
+      if (((bitField0_ & 0x00000008) == 0x00000008)) {
+        output.writeBytes(2, getOsdUuidBytes());
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        output.writeBytes(3, getPathBytes());
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        output.writeBytes(4, getVolumeNameBytes());
       }
       getUnknownFields().writeTo(output);
     }
@@ -43377,7 +43293,19 @@ public final class MRC {
       size = 0;
       if (((bitField0_ & 0x00000001) == 0x00000001)) {
         size += com.google.protobuf.CodedOutputStream
-          .computeBytesSize(1, getVolumeNameBytes());
+          .computeBytesSize(1, getFileIdBytes());
+      }
+      if (((bitField0_ & 0x00000008) == 0x00000008)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(2, getOsdUuidBytes());
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(3, getPathBytes());
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(4, getVolumeNameBytes());
       }
       size += getUnknownFields().getSerializedSize();
       memoizedSerializedSize = size;
@@ -43391,53 +43319,53 @@ public final class MRC {
       return super.writeReplace();
     }
 
-    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_rmvolRequest parseFrom(
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_replica_removeRequest parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_rmvolRequest parseFrom(
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_replica_removeRequest parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_rmvolRequest parseFrom(byte[] data)
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_replica_removeRequest parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_rmvolRequest parseFrom(
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_replica_removeRequest parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_rmvolRequest parseFrom(java.io.InputStream input)
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_replica_removeRequest parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return PARSER.parseFrom(input);
     }
-    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_rmvolRequest parseFrom(
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_replica_removeRequest parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return PARSER.parseFrom(input, extensionRegistry);
     }
-    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_rmvolRequest parseDelimitedFrom(java.io.InputStream input)
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_replica_removeRequest parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return PARSER.parseDelimitedFrom(input);
     }
-    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_rmvolRequest parseDelimitedFrom(
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_replica_removeRequest parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return PARSER.parseDelimitedFrom(input, extensionRegistry);
     }
-    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_rmvolRequest parseFrom(
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_replica_removeRequest parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return PARSER.parseFrom(input);
     }
-    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_rmvolRequest parseFrom(
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_replica_removeRequest parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -43446,7 +43374,7 @@ public final class MRC {
 
     public static Builder newBuilder() { return Builder.create(); }
     public Builder newBuilderForType() { return newBuilder(); }
-    public static Builder newBuilder(org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_rmvolRequest prototype) {
+    public static Builder newBuilder(org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_replica_removeRequest prototype) {
       return newBuilder().mergeFrom(prototype);
     }
     public Builder toBuilder() { return newBuilder(this); }
@@ -43458,28 +43386,28 @@ public final class MRC {
       return builder;
     }
     /**
-     * Protobuf type {@code xtreemfs.pbrpc.xtreemfs_rmvolRequest}
+     * Protobuf type {@code xtreemfs.pbrpc.xtreemfs_replica_removeRequest}
      *
      * <pre>
-     * deletes a volume
+     * removes a replica from a file
      * </pre>
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessage.Builder<Builder>
-       implements org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_rmvolRequestOrBuilder {
+       implements org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_replica_removeRequestOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return org.xtreemfs.pbrpc.generatedinterfaces.MRC.internal_static_xtreemfs_pbrpc_xtreemfs_rmvolRequest_descriptor;
+        return org.xtreemfs.pbrpc.generatedinterfaces.MRC.internal_static_xtreemfs_pbrpc_xtreemfs_replica_removeRequest_descriptor;
       }
 
       protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return org.xtreemfs.pbrpc.generatedinterfaces.MRC.internal_static_xtreemfs_pbrpc_xtreemfs_rmvolRequest_fieldAccessorTable
+        return org.xtreemfs.pbrpc.generatedinterfaces.MRC.internal_static_xtreemfs_pbrpc_xtreemfs_replica_removeRequest_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_rmvolRequest.class, org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_rmvolRequest.Builder.class);
+                org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_replica_removeRequest.class, org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_replica_removeRequest.Builder.class);
       }
 
-      // Construct using org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_rmvolRequest.newBuilder()
+      // Construct using org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_replica_removeRequest.newBuilder()
       private Builder() {
         maybeForceBuilderInitialization();
       }
@@ -43499,8 +43427,14 @@ public final class MRC {
 
       public Builder clear() {
         super.clear();
-        volumeName_ = "";
+        fileId_ = "";
         bitField0_ = (bitField0_ & ~0x00000001);
+        path_ = "";
+        bitField0_ = (bitField0_ & ~0x00000002);
+        volumeName_ = "";
+        bitField0_ = (bitField0_ & ~0x00000004);
+        osdUuid_ = "";
+        bitField0_ = (bitField0_ & ~0x00000008);
         return this;
       }
 
@@ -43510,56 +43444,83 @@ public final class MRC {
 
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return org.xtreemfs.pbrpc.generatedinterfaces.MRC.internal_static_xtreemfs_pbrpc_xtreemfs_rmvolRequest_descriptor;
+        return org.xtreemfs.pbrpc.generatedinterfaces.MRC.internal_static_xtreemfs_pbrpc_xtreemfs_replica_removeRequest_descriptor;
       }
 
-      public org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_rmvolRequest getDefaultInstanceForType() {
-        return org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_rmvolRequest.getDefaultInstance();
+      public org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_replica_removeRequest getDefaultInstanceForType() {
+        return org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_replica_removeRequest.getDefaultInstance();
       }
 
-      public org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_rmvolRequest build() {
-        org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_rmvolRequest result = buildPartial();
+      public org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_replica_removeRequest build() {
+        org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_replica_removeRequest result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
         return result;
       }
 
-      public org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_rmvolRequest buildPartial() {
-        org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_rmvolRequest result = new org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_rmvolRequest(this);
+      public org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_replica_removeRequest buildPartial() {
+        org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_replica_removeRequest result = new org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_replica_removeRequest(this);
         int from_bitField0_ = bitField0_;
         int to_bitField0_ = 0;
         if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
           to_bitField0_ |= 0x00000001;
         }
+        result.fileId_ = fileId_;
+        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+          to_bitField0_ |= 0x00000002;
+        }
+        result.path_ = path_;
+        if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
+          to_bitField0_ |= 0x00000004;
+        }
         result.volumeName_ = volumeName_;
+        if (((from_bitField0_ & 0x00000008) == 0x00000008)) {
+          to_bitField0_ |= 0x00000008;
+        }
+        result.osdUuid_ = osdUuid_;
         result.bitField0_ = to_bitField0_;
         onBuilt();
         return result;
       }
 
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_rmvolRequest) {
-          return mergeFrom((org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_rmvolRequest)other);
+        if (other instanceof org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_replica_removeRequest) {
+          return mergeFrom((org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_replica_removeRequest)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_rmvolRequest other) {
-        if (other == org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_rmvolRequest.getDefaultInstance()) return this;
-        if (other.hasVolumeName()) {
+      public Builder mergeFrom(org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_replica_removeRequest other) {
+        if (other == org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_replica_removeRequest.getDefaultInstance()) return this;
+        if (other.hasFileId()) {
           bitField0_ |= 0x00000001;
+          fileId_ = other.fileId_;
+          onChanged();
+        }
+        if (other.hasPath()) {
+          bitField0_ |= 0x00000002;
+          path_ = other.path_;
+          onChanged();
+        }
+        if (other.hasVolumeName()) {
+          bitField0_ |= 0x00000004;
           volumeName_ = other.volumeName_;
           onChanged();
         }
+        if (other.hasOsdUuid()) {
+          bitField0_ |= 0x00000008;
+          osdUuid_ = other.osdUuid_;
+          onChanged();
+        }
         this.mergeUnknownFields(other.getUnknownFields());
         return this;
       }
 
       public final boolean isInitialized() {
-        if (!hasVolumeName()) {
+        if (!hasOsdUuid()) {
           
           return false;
         }
@@ -43570,11 +43531,11 @@ public final class MRC {
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
-        org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_rmvolRequest parsedMessage = null;
+        org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_replica_removeRequest parsedMessage = null;
         try {
           parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_rmvolRequest) e.getUnfinishedMessage();
+          parsedMessage = (org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_replica_removeRequest) e.getUnfinishedMessage();
           throw e;
         } finally {
           if (parsedMessage != null) {
@@ -43585,240 +43546,13735 @@ public final class MRC {
       }
       private int bitField0_;
 
-      // required string volume_name = 1;
-      private java.lang.Object volumeName_ = "";
+      // optional string file_id = 1;
+      private java.lang.Object fileId_ = "";
       /**
-       * <code>required string volume_name = 1;</code>
+       * <code>optional string file_id = 1;</code>
        *
        * <pre>
-       * the name of the volume to delete
+       * the file ID
        * </pre>
        */
-      public boolean hasVolumeName() {
+      public boolean hasFileId() {
         return ((bitField0_ & 0x00000001) == 0x00000001);
       }
       /**
-       * <code>required string volume_name = 1;</code>
+       * <code>optional string file_id = 1;</code>
        *
        * <pre>
-       * the name of the volume to delete
+       * the file ID
        * </pre>
        */
-      public java.lang.String getVolumeName() {
-        java.lang.Object ref = volumeName_;
+      public java.lang.String getFileId() {
+        java.lang.Object ref = fileId_;
         if (!(ref instanceof java.lang.String)) {
           java.lang.String s = ((com.google.protobuf.ByteString) ref)
               .toStringUtf8();
-          volumeName_ = s;
+          fileId_ = s;
           return s;
         } else {
           return (java.lang.String) ref;
         }
       }
       /**
-       * <code>required string volume_name = 1;</code>
+       * <code>optional string file_id = 1;</code>
        *
        * <pre>
-       * the name of the volume to delete
+       * the file ID
        * </pre>
        */
       public com.google.protobuf.ByteString
-          getVolumeNameBytes() {
-        java.lang.Object ref = volumeName_;
+          getFileIdBytes() {
+        java.lang.Object ref = fileId_;
         if (ref instanceof String) {
           com.google.protobuf.ByteString b = 
               com.google.protobuf.ByteString.copyFromUtf8(
                   (java.lang.String) ref);
-          volumeName_ = b;
+          fileId_ = b;
           return b;
         } else {
           return (com.google.protobuf.ByteString) ref;
         }
       }
       /**
-       * <code>required string volume_name = 1;</code>
+       * <code>optional string file_id = 1;</code>
        *
        * <pre>
-       * the name of the volume to delete
+       * the file ID
        * </pre>
        */
-      public Builder setVolumeName(
+      public Builder setFileId(
           java.lang.String value) {
         if (value == null) {
     throw new NullPointerException();
   }
   bitField0_ |= 0x00000001;
-        volumeName_ = value;
+        fileId_ = value;
         onChanged();
         return this;
       }
       /**
-       * <code>required string volume_name = 1;</code>
+       * <code>optional string file_id = 1;</code>
        *
        * <pre>
-       * the name of the volume to delete
+       * the file ID
        * </pre>
        */
-      public Builder clearVolumeName() {
+      public Builder clearFileId() {
         bitField0_ = (bitField0_ & ~0x00000001);
-        volumeName_ = getDefaultInstance().getVolumeName();
+        fileId_ = getDefaultInstance().getFileId();
         onChanged();
         return this;
       }
       /**
-       * <code>required string volume_name = 1;</code>
+       * <code>optional string file_id = 1;</code>
        *
        * <pre>
-       * the name of the volume to delete
+       * the file ID
        * </pre>
        */
-      public Builder setVolumeNameBytes(
+      public Builder setFileIdBytes(
           com.google.protobuf.ByteString value) {
         if (value == null) {
     throw new NullPointerException();
   }
   bitField0_ |= 0x00000001;
-        volumeName_ = value;
+        fileId_ = value;
         onChanged();
         return this;
       }
 
-      // @@protoc_insertion_point(builder_scope:xtreemfs.pbrpc.xtreemfs_rmvolRequest)
-    }
-
-    static {
-      defaultInstance = new xtreemfs_rmvolRequest(true);
-      defaultInstance.initFields();
-    }
-
-    // @@protoc_insertion_point(class_scope:xtreemfs.pbrpc.xtreemfs_rmvolRequest)
+      // optional string path = 3;
+      private java.lang.Object path_ = "";
+      /**
+       * <code>optional string path = 3;</code>
+       *
+       * <pre>
+       * or path and volume_name to file.
+       * </pre>
+       */
+      public boolean hasPath() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
+      }
+      /**
+       * <code>optional string path = 3;</code>
+       *
+       * <pre>
+       * or path and volume_name to file.
+       * </pre>
+       */
+      public java.lang.String getPath() {
+        java.lang.Object ref = path_;
+        if (!(ref instanceof java.lang.String)) {
+          java.lang.String s = ((com.google.protobuf.ByteString) ref)
+              .toStringUtf8();
+          path_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string path = 3;</code>
+       *
+       * <pre>
+       * or path and volume_name to file.
+       * </pre>
+       */
+      public com.google.protobuf.ByteString
+          getPathBytes() {
+        java.lang.Object ref = path_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          path_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string path = 3;</code>
+       *
+       * <pre>
+       * or path and volume_name to file.
+       * </pre>
+       */
+      public Builder setPath(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
   }
+  bitField0_ |= 0x00000002;
+        path_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string path = 3;</code>
+       *
+       * <pre>
+       * or path and volume_name to file.
+       * </pre>
+       */
+      public Builder clearPath() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        path_ = getDefaultInstance().getPath();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string path = 3;</code>
+       *
+       * <pre>
+       * or path and volume_name to file.
+       * </pre>
+       */
+      public Builder setPathBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+        path_ = value;
+        onChanged();
+        return this;
+      }
 
-  public interface xtreemfs_update_file_sizeRequestOrBuilder
-      extends com.google.protobuf.MessageOrBuilder {
-
-    // required .xtreemfs.pbrpc.XCap xcap = 1;
-    /**
-     * <code>required .xtreemfs.pbrpc.XCap xcap = 1;</code>
-     *
-     * <pre>
-     * the capability that was returned when opening the file
-     * </pre>
-     */
-    boolean hasXcap();
-    /**
-     * <code>required .xtreemfs.pbrpc.XCap xcap = 1;</code>
-     *
-     * <pre>
-     * the capability that was returned when opening the file
-     * </pre>
-     */
-    org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCap getXcap();
-    /**
-     * <code>required .xtreemfs.pbrpc.XCap xcap = 1;</code>
-     *
-     * <pre>
-     * the capability that was returned when opening the file
-     * </pre>
-     */
-    org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCapOrBuilder getXcapOrBuilder();
+      // optional string volume_name = 4;
+      private java.lang.Object volumeName_ = "";
+      /**
+       * <code>optional string volume_name = 4;</code>
+       */
+      public boolean hasVolumeName() {
+        return ((bitField0_ & 0x00000004) == 0x00000004);
+      }
+      /**
+       * <code>optional string volume_name = 4;</code>
+       */
+      public java.lang.String getVolumeName() {
+        java.lang.Object ref = volumeName_;
+        if (!(ref instanceof java.lang.String)) {
+          java.lang.String s = ((com.google.protobuf.ByteString) ref)
+              .toStringUtf8();
+          volumeName_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string volume_name = 4;</code>
+       */
+      public com.google.protobuf.ByteString
+          getVolumeNameBytes() {
+        java.lang.Object ref = volumeName_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          volumeName_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string volume_name = 4;</code>
+       */
+      public Builder setVolumeName(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000004;
+        volumeName_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string volume_name = 4;</code>
+       */
+      public Builder clearVolumeName() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        volumeName_ = getDefaultInstance().getVolumeName();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string volume_name = 4;</code>
+       */
+      public Builder setVolumeNameBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000004;
+        volumeName_ = value;
+        onChanged();
+        return this;
+      }
 
-    // required .xtreemfs.pbrpc.OSDWriteResponse osd_write_response = 2;
+      // required string osd_uuid = 2;
+      private java.lang.Object osdUuid_ = "";
+      /**
+       * <code>required string osd_uuid = 2;</code>
+       *
+       * <pre>
+       * the UUID of the head OSD of the replica to remove
+       * </pre>
+       */
+      public boolean hasOsdUuid() {
+        return ((bitField0_ & 0x00000008) == 0x00000008);
+      }
+      /**
+       * <code>required string osd_uuid = 2;</code>
+       *
+       * <pre>
+       * the UUID of the head OSD of the replica to remove
+       * </pre>
+       */
+      public java.lang.String getOsdUuid() {
+        java.lang.Object ref = osdUuid_;
+        if (!(ref instanceof java.lang.String)) {
+          java.lang.String s = ((com.google.protobuf.ByteString) ref)
+              .toStringUtf8();
+          osdUuid_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>required string osd_uuid = 2;</code>
+       *
+       * <pre>
+       * the UUID of the head OSD of the replica to remove
+       * </pre>
+       */
+      public com.google.protobuf.ByteString
+          getOsdUuidBytes() {
+        java.lang.Object ref = osdUuid_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          osdUuid_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>required string osd_uuid = 2;</code>
+       *
+       * <pre>
+       * the UUID of the head OSD of the replica to remove
+       * </pre>
+       */
+      public Builder setOsdUuid(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000008;
+        osdUuid_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required string osd_uuid = 2;</code>
+       *
+       * <pre>
+       * the UUID of the head OSD of the replica to remove
+       * </pre>
+       */
+      public Builder clearOsdUuid() {
+        bitField0_ = (bitField0_ & ~0x00000008);
+        osdUuid_ = getDefaultInstance().getOsdUuid();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required string osd_uuid = 2;</code>
+       *
+       * <pre>
+       * the UUID of the head OSD of the replica to remove
+       * </pre>
+       */
+      public Builder setOsdUuidBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000008;
+        osdUuid_ = value;
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:xtreemfs.pbrpc.xtreemfs_replica_removeRequest)
+    }
+
+    static {
+      defaultInstance = new xtreemfs_replica_removeRequest(true);
+      defaultInstance.initFields();
+    }
+
+    // @@protoc_insertion_point(class_scope:xtreemfs.pbrpc.xtreemfs_replica_removeRequest)
+  }
+
+  public interface xtreemfs_restore_fileRequestOrBuilder
+      extends com.google.protobuf.MessageOrBuilder {
+
+    // required string file_path = 1;
     /**
-     * <code>required .xtreemfs.pbrpc.OSDWriteResponse osd_write_response = 2;</code>
+     * <code>required string file_path = 1;</code>
      *
      * <pre>
-     * the OSDWriteResponse received from an OSD that contains the new file size
+     * the path to the restored file
      * </pre>
      */
-    boolean hasOsdWriteResponse();
+    boolean hasFilePath();
     /**
-     * <code>required .xtreemfs.pbrpc.OSDWriteResponse osd_write_response = 2;</code>
+     * <code>required string file_path = 1;</code>
      *
      * <pre>
-     * the OSDWriteResponse received from an OSD that contains the new file size
+     * the path to the restored file
      * </pre>
      */
-    org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.OSDWriteResponse getOsdWriteResponse();
+    java.lang.String getFilePath();
     /**
-     * <code>required .xtreemfs.pbrpc.OSDWriteResponse osd_write_response = 2;</code>
+     * <code>required string file_path = 1;</code>
      *
      * <pre>
-     * the OSDWriteResponse received from an OSD that contains the new file size
+     * the path to the restored file
      * </pre>
      */
-    org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.OSDWriteResponseOrBuilder getOsdWriteResponseOrBuilder();
+    com.google.protobuf.ByteString
+        getFilePathBytes();
 
-    // optional bool close_file = 3;
+    // required string file_id = 2;
     /**
-     * <code>optional bool close_file = 3;</code>
+     * <code>required string file_id = 2;</code>
      *
      * <pre>
-     * a flag indicating that the file is supposed to be closed
+     * the file ID
      * </pre>
      */
-    boolean hasCloseFile();
+    boolean hasFileId();
     /**
-     * <code>optional bool close_file = 3;</code>
+     * <code>required string file_id = 2;</code>
+     *
+     * <pre>
+     * the file ID
+     * </pre>
+     */
+    java.lang.String getFileId();
+    /**
+     * <code>required string file_id = 2;</code>
+     *
+     * <pre>
+     * the file ID
+     * </pre>
+     */
+    com.google.protobuf.ByteString
+        getFileIdBytes();
+
+    // required fixed64 file_size = 3;
+    /**
+     * <code>required fixed64 file_size = 3;</code>
+     *
+     * <pre>
+     * the file size
+     * </pre>
+     */
+    boolean hasFileSize();
+    /**
+     * <code>required fixed64 file_size = 3;</code>
+     *
+     * <pre>
+     * the file size
+     * </pre>
+     */
+    long getFileSize();
+
+    // required string osd_uuid = 4;
+    /**
+     * <code>required string osd_uuid = 4;</code>
+     *
+     * <pre>
+     * the UUID of the OSD with the orphaned file content
+     * </pre>
+     */
+    boolean hasOsdUuid();
+    /**
+     * <code>required string osd_uuid = 4;</code>
+     *
+     * <pre>
+     * the UUID of the OSD with the orphaned file content
+     * </pre>
+     */
+    java.lang.String getOsdUuid();
+    /**
+     * <code>required string osd_uuid = 4;</code>
+     *
+     * <pre>
+     * the UUID of the OSD with the orphaned file content
+     * </pre>
+     */
+    com.google.protobuf.ByteString
+        getOsdUuidBytes();
+
+    // required fixed32 stripe_size = 5;
+    /**
+     * <code>required fixed32 stripe_size = 5;</code>
+     *
+     * <pre>
+     * the stripe size of the file
+     * </pre>
+     */
+    boolean hasStripeSize();
+    /**
+     * <code>required fixed32 stripe_size = 5;</code>
+     *
+     * <pre>
+     * the stripe size of the file
+     * </pre>
+     */
+    int getStripeSize();
+  }
+  /**
+   * Protobuf type {@code xtreemfs.pbrpc.xtreemfs_restore_fileRequest}
+   *
+   * <pre>
+   * restores a file w/ orphaned file content by creating a new metadata object
+   * </pre>
+   */
+  public static final class xtreemfs_restore_fileRequest extends
+      com.google.protobuf.GeneratedMessage
+      implements xtreemfs_restore_fileRequestOrBuilder {
+    // Use xtreemfs_restore_fileRequest.newBuilder() to construct.
+    private xtreemfs_restore_fileRequest(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+      this.unknownFields = builder.getUnknownFields();
+    }
+    private xtreemfs_restore_fileRequest(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+    private static final xtreemfs_restore_fileRequest defaultInstance;
+    public static xtreemfs_restore_fileRequest getDefaultInstance() {
+      return defaultInstance;
+    }
+
+    public xtreemfs_restore_fileRequest getDefaultInstanceForType() {
+      return defaultInstance;
+    }
+
+    private final com.google.protobuf.UnknownFieldSet unknownFields;
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+        getUnknownFields() {
+      return this.unknownFields;
+    }
+    private xtreemfs_restore_fileRequest(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      initFields();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 10: {
+              bitField0_ |= 0x00000001;
+              filePath_ = input.readBytes();
+              break;
+            }
+            case 18: {
+              bitField0_ |= 0x00000002;
+              fileId_ = input.readBytes();
+              break;
+            }
+            case 25: {
+              bitField0_ |= 0x00000004;
+              fileSize_ = input.readFixed64();
+              break;
+            }
+            case 34: {
+              bitField0_ |= 0x00000008;
+              osdUuid_ = input.readBytes();
+              break;
+            }
+            case 45: {
+              bitField0_ |= 0x00000010;
+              stripeSize_ = input.readFixed32();
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e.getMessage()).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.xtreemfs.pbrpc.generatedinterfaces.MRC.internal_static_xtreemfs_pbrpc_xtreemfs_restore_fileRequest_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.xtreemfs.pbrpc.generatedinterfaces.MRC.internal_static_xtreemfs_pbrpc_xtreemfs_restore_fileRequest_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_restore_fileRequest.class, org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_restore_fileRequest.Builder.class);
+    }
+
+    public static com.google.protobuf.Parser<xtreemfs_restore_fileRequest> PARSER =
+        new com.google.protobuf.AbstractParser<xtreemfs_restore_fileRequest>() {
+      public xtreemfs_restore_fileRequest parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new xtreemfs_restore_fileRequest(input, extensionRegistry);
+      }
+    };
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<xtreemfs_restore_fileRequest> getParserForType() {
+      return PARSER;
+    }
+
+    private int bitField0_;
+    // required string file_path = 1;
+    public static final int FILE_PATH_FIELD_NUMBER = 1;
+    private java.lang.Object filePath_;
+    /**
+     * <code>required string file_path = 1;</code>
+     *
+     * <pre>
+     * the path to the restored file
+     * </pre>
+     */
+    public boolean hasFilePath() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    /**
+     * <code>required string file_path = 1;</code>
+     *
+     * <pre>
+     * the path to the restored file
+     * </pre>
+     */
+    public java.lang.String getFilePath() {
+      java.lang.Object ref = filePath_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          filePath_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>required string file_path = 1;</code>
+     *
+     * <pre>
+     * the path to the restored file
+     * </pre>
+     */
+    public com.google.protobuf.ByteString
+        getFilePathBytes() {
+      java.lang.Object ref = filePath_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        filePath_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    // required string file_id = 2;
+    public static final int FILE_ID_FIELD_NUMBER = 2;
+    private java.lang.Object fileId_;
+    /**
+     * <code>required string file_id = 2;</code>
+     *
+     * <pre>
+     * the file ID
+     * </pre>
+     */
+    public boolean hasFileId() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
+    }
+    /**
+     * <code>required string file_id = 2;</code>
+     *
+     * <pre>
+     * the file ID
+     * </pre>
+     */
+    public java.lang.String getFileId() {
+      java.lang.Object ref = fileId_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          fileId_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>required string file_id = 2;</code>
+     *
+     * <pre>
+     * the file ID
+     * </pre>
+     */
+    public com.google.protobuf.ByteString
+        getFileIdBytes() {
+      java.lang.Object ref = fileId_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        fileId_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    // required fixed64 file_size = 3;
+    public static final int FILE_SIZE_FIELD_NUMBER = 3;
+    private long fileSize_;
+    /**
+     * <code>required fixed64 file_size = 3;</code>
+     *
+     * <pre>
+     * the file size
+     * </pre>
+     */
+    public boolean hasFileSize() {
+      return ((bitField0_ & 0x00000004) == 0x00000004);
+    }
+    /**
+     * <code>required fixed64 file_size = 3;</code>
+     *
+     * <pre>
+     * the file size
+     * </pre>
+     */
+    public long getFileSize() {
+      return fileSize_;
+    }
+
+    // required string osd_uuid = 4;
+    public static final int OSD_UUID_FIELD_NUMBER = 4;
+    private java.lang.Object osdUuid_;
+    /**
+     * <code>required string osd_uuid = 4;</code>
+     *
+     * <pre>
+     * the UUID of the OSD with the orphaned file content
+     * </pre>
+     */
+    public boolean hasOsdUuid() {
+      return ((bitField0_ & 0x00000008) == 0x00000008);
+    }
+    /**
+     * <code>required string osd_uuid = 4;</code>
+     *
+     * <pre>
+     * the UUID of the OSD with the orphaned file content
+     * </pre>
+     */
+    public java.lang.String getOsdUuid() {
+      java.lang.Object ref = osdUuid_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          osdUuid_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>required string osd_uuid = 4;</code>
+     *
+     * <pre>
+     * the UUID of the OSD with the orphaned file content
+     * </pre>
+     */
+    public com.google.protobuf.ByteString
+        getOsdUuidBytes() {
+      java.lang.Object ref = osdUuid_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        osdUuid_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    // required fixed32 stripe_size = 5;
+    public static final int STRIPE_SIZE_FIELD_NUMBER = 5;
+    private int stripeSize_;
+    /**
+     * <code>required fixed32 stripe_size = 5;</code>
+     *
+     * <pre>
+     * the stripe size of the file
+     * </pre>
+     */
+    public boolean hasStripeSize() {
+      return ((bitField0_ & 0x00000010) == 0x00000010);
+    }
+    /**
+     * <code>required fixed32 stripe_size = 5;</code>
+     *
+     * <pre>
+     * the stripe size of the file
+     * </pre>
+     */
+    public int getStripeSize() {
+      return stripeSize_;
+    }
+
+    private void initFields() {
+      filePath_ = "";
+      fileId_ = "";
+      fileSize_ = 0L;
+      osdUuid_ = "";
+      stripeSize_ = 0;
+    }
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized != -1) return isInitialized == 1;
+
+      if (!hasFilePath()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!hasFileId()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!hasFileSize()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!hasOsdUuid()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!hasStripeSize()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeBytes(1, getFilePathBytes());
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        output.writeBytes(2, getFileIdBytes());
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        output.writeFixed64(3, fileSize_);
+      }
+      if (((bitField0_ & 0x00000008) == 0x00000008)) {
+        output.writeBytes(4, getOsdUuidBytes());
+      }
+      if (((bitField0_ & 0x00000010) == 0x00000010)) {
+        output.writeFixed32(5, stripeSize_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    private int memoizedSerializedSize = -1;
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(1, getFilePathBytes());
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(2, getFileIdBytes());
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeFixed64Size(3, fileSize_);
+      }
+      if (((bitField0_ & 0x00000008) == 0x00000008)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(4, getOsdUuidBytes());
+      }
+      if (((bitField0_ & 0x00000010) == 0x00000010)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeFixed32Size(5, stripeSize_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSerializedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
+      return super.writeReplace();
+    }
+
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_restore_fileRequest parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_restore_fileRequest parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_restore_fileRequest parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_restore_fileRequest parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_restore_fileRequest parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_restore_fileRequest parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_restore_fileRequest parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_restore_fileRequest parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_restore_fileRequest parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_restore_fileRequest parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_restore_fileRequest prototype) {
+      return newBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() { return newBuilder(this); }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code xtreemfs.pbrpc.xtreemfs_restore_fileRequest}
+     *
+     * <pre>
+     * restores a file w/ orphaned file content by creating a new metadata object
+     * </pre>
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder>
+       implements org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_restore_fileRequestOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.xtreemfs.pbrpc.generatedinterfaces.MRC.internal_static_xtreemfs_pbrpc_xtreemfs_restore_fileRequest_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.xtreemfs.pbrpc.generatedinterfaces.MRC.internal_static_xtreemfs_pbrpc_xtreemfs_restore_fileRequest_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_restore_fileRequest.class, org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_restore_fileRequest.Builder.class);
+      }
+
+      // Construct using org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_restore_fileRequest.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+        }
+      }
+      private static Builder create() {
+        return new Builder();
+      }
+
+      public Builder clear() {
+        super.clear();
+        filePath_ = "";
+        bitField0_ = (bitField0_ & ~0x00000001);
+        fileId_ = "";
+        bitField0_ = (bitField0_ & ~0x00000002);
+        fileSize_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000004);
+        osdUuid_ = "";
+        bitField0_ = (bitField0_ & ~0x00000008);
+        stripeSize_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000010);
+        return this;
+      }
+
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.xtreemfs.pbrpc.generatedinterfaces.MRC.internal_static_xtreemfs_pbrpc_xtreemfs_restore_fileRequest_descriptor;
+      }
+
+      public org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_restore_fileRequest getDefaultInstanceForType() {
+        return org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_restore_fileRequest.getDefaultInstance();
+      }
+
+      public org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_restore_fileRequest build() {
+        org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_restore_fileRequest result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_restore_fileRequest buildPartial() {
+        org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_restore_fileRequest result = new org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_restore_fileRequest(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.filePath_ = filePath_;
+        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+          to_bitField0_ |= 0x00000002;
+        }
+        result.fileId_ = fileId_;
+        if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
+          to_bitField0_ |= 0x00000004;
+        }
+        result.fileSize_ = fileSize_;
+        if (((from_bitField0_ & 0x00000008) == 0x00000008)) {
+          to_bitField0_ |= 0x00000008;
+        }
+        result.osdUuid_ = osdUuid_;
+        if (((from_bitField0_ & 0x00000010) == 0x00000010)) {
+          to_bitField0_ |= 0x00000010;
+        }
+        result.stripeSize_ = stripeSize_;
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_restore_fileRequest) {
+          return mergeFrom((org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_restore_fileRequest)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_restore_fileRequest other) {
+        if (other == org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_restore_fileRequest.getDefaultInstance()) return this;
+        if (other.hasFilePath()) {
+          bitField0_ |= 0x00000001;
+          filePath_ = other.filePath_;
+          onChanged();
+        }
+        if (other.hasFileId()) {
+          bitField0_ |= 0x00000002;
+          fileId_ = other.fileId_;
+          onChanged();
+        }
+        if (other.hasFileSize()) {
+          setFileSize(other.getFileSize());
+        }
+        if (other.hasOsdUuid()) {
+          bitField0_ |= 0x00000008;
+          osdUuid_ = other.osdUuid_;
+          onChanged();
+        }
+        if (other.hasStripeSize()) {
+          setStripeSize(other.getStripeSize());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        if (!hasFilePath()) {
+          
+          return false;
+        }
+        if (!hasFileId()) {
+          
+          return false;
+        }
+        if (!hasFileSize()) {
+          
+          return false;
+        }
+        if (!hasOsdUuid()) {
+          
+          return false;
+        }
+        if (!hasStripeSize()) {
+          
+          return false;
+        }
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_restore_fileRequest parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_restore_fileRequest) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      // required string file_path = 1;
+      private java.lang.Object filePath_ = "";
+      /**
+       * <code>required string file_path = 1;</code>
+       *
+       * <pre>
+       * the path to the restored file
+       * </pre>
+       */
+      public boolean hasFilePath() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      /**
+       * <code>required string file_path = 1;</code>
+       *
+       * <pre>
+       * the path to the restored file
+       * </pre>
+       */
+      public java.lang.String getFilePath() {
+        java.lang.Object ref = filePath_;
+        if (!(ref instanceof java.lang.String)) {
+          java.lang.String s = ((com.google.protobuf.ByteString) ref)
+              .toStringUtf8();
+          filePath_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>required string file_path = 1;</code>
+       *
+       * <pre>
+       * the path to the restored file
+       * </pre>
+       */
+      public com.google.protobuf.ByteString
+          getFilePathBytes() {
+        java.lang.Object ref = filePath_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          filePath_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>required string file_path = 1;</code>
+       *
+       * <pre>
+       * the path to the restored file
+       * </pre>
+       */
+      public Builder setFilePath(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+        filePath_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required string file_path = 1;</code>
+       *
+       * <pre>
+       * the path to the restored file
+       * </pre>
+       */
+      public Builder clearFilePath() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        filePath_ = getDefaultInstance().getFilePath();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required string file_path = 1;</code>
+       *
+       * <pre>
+       * the path to the restored file
+       * </pre>
+       */
+      public Builder setFilePathBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+        filePath_ = value;
+        onChanged();
+        return this;
+      }
+
+      // required string file_id = 2;
+      private java.lang.Object fileId_ = "";
+      /**
+       * <code>required string file_id = 2;</code>
+       *
+       * <pre>
+       * the file ID
+       * </pre>
+       */
+      public boolean hasFileId() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
+      }
+      /**
+       * <code>required string file_id = 2;</code>
+       *
+       * <pre>
+       * the file ID
+       * </pre>
+       */
+      public java.lang.String getFileId() {
+        java.lang.Object ref = fileId_;
+        if (!(ref instanceof java.lang.String)) {
+          java.lang.String s = ((com.google.protobuf.ByteString) ref)
+              .toStringUtf8();
+          fileId_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>required string file_id = 2;</code>
+       *
+       * <pre>
+       * the file ID
+       * </pre>
+       */
+      public com.google.protobuf.ByteString
+          getFileIdBytes() {
+        java.lang.Object ref = fileId_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          fileId_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>required string file_id = 2;</code>
+       *
+       * <pre>
+       * the file ID
+       * </pre>
+       */
+      public Builder setFileId(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+        fileId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required string file_id = 2;</code>
+       *
+       * <pre>
+       * the file ID
+       * </pre>
+       */
+      public Builder clearFileId() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        fileId_ = getDefaultInstance().getFileId();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required string file_id = 2;</code>
+       *
+       * <pre>
+       * the file ID
+       * </pre>
+       */
+      public Builder setFileIdBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+        fileId_ = value;
+        onChanged();
+        return this;
+      }
+
+      // required fixed64 file_size = 3;
+      private long fileSize_ ;
+      /**
+       * <code>required fixed64 file_size = 3;</code>
+       *
+       * <pre>
+       * the file size
+       * </pre>
+       */
+      public boolean hasFileSize() {
+        return ((bitField0_ & 0x00000004) == 0x00000004);
+      }
+      /**
+       * <code>required fixed64 file_size = 3;</code>
+       *
+       * <pre>
+       * the file size
+       * </pre>
+       */
+      public long getFileSize() {
+        return fileSize_;
+      }
+      /**
+       * <code>required fixed64 file_size = 3;</code>
+       *
+       * <pre>
+       * the file size
+       * </pre>
+       */
+      public Builder setFileSize(long value) {
+        bitField0_ |= 0x00000004;
+        fileSize_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required fixed64 file_size = 3;</code>
+       *
+       * <pre>
+       * the file size
+       * </pre>
+       */
+      public Builder clearFileSize() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        fileSize_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      // required string osd_uuid = 4;
+      private java.lang.Object osdUuid_ = "";
+      /**
+       * <code>required string osd_uuid = 4;</code>
+       *
+       * <pre>
+       * the UUID of the OSD with the orphaned file content
+       * </pre>
+       */
+      public boolean hasOsdUuid() {
+        return ((bitField0_ & 0x00000008) == 0x00000008);
+      }
+      /**
+       * <code>required string osd_uuid = 4;</code>
+       *
+       * <pre>
+       * the UUID of the OSD with the orphaned file content
+       * </pre>
+       */
+      public java.lang.String getOsdUuid() {
+        java.lang.Object ref = osdUuid_;
+        if (!(ref instanceof java.lang.String)) {
+          java.lang.String s = ((com.google.protobuf.ByteString) ref)
+              .toStringUtf8();
+          osdUuid_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>required string osd_uuid = 4;</code>
+       *
+       * <pre>
+       * the UUID of the OSD with the orphaned file content
+       * </pre>
+       */
+      public com.google.protobuf.ByteString
+          getOsdUuidBytes() {
+        java.lang.Object ref = osdUuid_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          osdUuid_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>required string osd_uuid = 4;</code>
+       *
+       * <pre>
+       * the UUID of the OSD with the orphaned file content
+       * </pre>
+       */
+      public Builder setOsdUuid(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000008;
+        osdUuid_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required string osd_uuid = 4;</code>
+       *
+       * <pre>
+       * the UUID of the OSD with the orphaned file content
+       * </pre>
+       */
+      public Builder clearOsdUuid() {
+        bitField0_ = (bitField0_ & ~0x00000008);
+        osdUuid_ = getDefaultInstance().getOsdUuid();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required string osd_uuid = 4;</code>
+       *
+       * <pre>
+       * the UUID of the OSD with the orphaned file content
+       * </pre>
+       */
+      public Builder setOsdUuidBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000008;
+        osdUuid_ = value;
+        onChanged();
+        return this;
+      }
+
+      // required fixed32 stripe_size = 5;
+      private int stripeSize_ ;
+      /**
+       * <code>required fixed32 stripe_size = 5;</code>
+       *
+       * <pre>
+       * the stripe size of the file
+       * </pre>
+       */
+      public boolean hasStripeSize() {
+        return ((bitField0_ & 0x00000010) == 0x00000010);
+      }
+      /**
+       * <code>required fixed32 stripe_size = 5;</code>
+       *
+       * <pre>
+       * the stripe size of the file
+       * </pre>
+       */
+      public int getStripeSize() {
+        return stripeSize_;
+      }
+      /**
+       * <code>required fixed32 stripe_size = 5;</code>
+       *
+       * <pre>
+       * the stripe size of the file
+       * </pre>
+       */
+      public Builder setStripeSize(int value) {
+        bitField0_ |= 0x00000010;
+        stripeSize_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required fixed32 stripe_size = 5;</code>
+       *
+       * <pre>
+       * the stripe size of the file
+       * </pre>
+       */
+      public Builder clearStripeSize() {
+        bitField0_ = (bitField0_ & ~0x00000010);
+        stripeSize_ = 0;
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:xtreemfs.pbrpc.xtreemfs_restore_fileRequest)
+    }
+
+    static {
+      defaultInstance = new xtreemfs_restore_fileRequest(true);
+      defaultInstance.initFields();
+    }
+
+    // @@protoc_insertion_point(class_scope:xtreemfs.pbrpc.xtreemfs_restore_fileRequest)
+  }
+
+  public interface xtreemfs_rmvolRequestOrBuilder
+      extends com.google.protobuf.MessageOrBuilder {
+
+    // required string volume_name = 1;
+    /**
+     * <code>required string volume_name = 1;</code>
+     *
+     * <pre>
+     * the name of the volume to delete
+     * </pre>
+     */
+    boolean hasVolumeName();
+    /**
+     * <code>required string volume_name = 1;</code>
+     *
+     * <pre>
+     * the name of the volume to delete
+     * </pre>
+     */
+    java.lang.String getVolumeName();
+    /**
+     * <code>required string volume_name = 1;</code>
+     *
+     * <pre>
+     * the name of the volume to delete
+     * </pre>
+     */
+    com.google.protobuf.ByteString
+        getVolumeNameBytes();
+  }
+  /**
+   * Protobuf type {@code xtreemfs.pbrpc.xtreemfs_rmvolRequest}
+   *
+   * <pre>
+   * deletes a volume
+   * </pre>
+   */
+  public static final class xtreemfs_rmvolRequest extends
+      com.google.protobuf.GeneratedMessage
+      implements xtreemfs_rmvolRequestOrBuilder {
+    // Use xtreemfs_rmvolRequest.newBuilder() to construct.
+    private xtreemfs_rmvolRequest(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+      this.unknownFields = builder.getUnknownFields();
+    }
+    private xtreemfs_rmvolRequest(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+    private static final xtreemfs_rmvolRequest defaultInstance;
+    public static xtreemfs_rmvolRequest getDefaultInstance() {
+      return defaultInstance;
+    }
+
+    public xtreemfs_rmvolRequest getDefaultInstanceForType() {
+      return defaultInstance;
+    }
+
+    private final com.google.protobuf.UnknownFieldSet unknownFields;
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+        getUnknownFields() {
+      return this.unknownFields;
+    }
+    private xtreemfs_rmvolRequest(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      initFields();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 10: {
+              bitField0_ |= 0x00000001;
+              volumeName_ = input.readBytes();
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e.getMessage()).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.xtreemfs.pbrpc.generatedinterfaces.MRC.internal_static_xtreemfs_pbrpc_xtreemfs_rmvolRequest_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.xtreemfs.pbrpc.generatedinterfaces.MRC.internal_static_xtreemfs_pbrpc_xtreemfs_rmvolRequest_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_rmvolRequest.class, org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_rmvolRequest.Builder.class);
+    }
+
+    public static com.google.protobuf.Parser<xtreemfs_rmvolRequest> PARSER =
+        new com.google.protobuf.AbstractParser<xtreemfs_rmvolRequest>() {
+      public xtreemfs_rmvolRequest parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new xtreemfs_rmvolRequest(input, extensionRegistry);
+      }
+    };
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<xtreemfs_rmvolRequest> getParserForType() {
+      return PARSER;
+    }
+
+    private int bitField0_;
+    // required string volume_name = 1;
+    public static final int VOLUME_NAME_FIELD_NUMBER = 1;
+    private java.lang.Object volumeName_;
+    /**
+     * <code>required string volume_name = 1;</code>
+     *
+     * <pre>
+     * the name of the volume to delete
+     * </pre>
+     */
+    public boolean hasVolumeName() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    /**
+     * <code>required string volume_name = 1;</code>
+     *
+     * <pre>
+     * the name of the volume to delete
+     * </pre>
+     */
+    public java.lang.String getVolumeName() {
+      java.lang.Object ref = volumeName_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          volumeName_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>required string volume_name = 1;</code>
+     *
+     * <pre>
+     * the name of the volume to delete
+     * </pre>
+     */
+    public com.google.protobuf.ByteString
+        getVolumeNameBytes() {
+      java.lang.Object ref = volumeName_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        volumeName_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    private void initFields() {
+      volumeName_ = "";
+    }
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized != -1) return isInitialized == 1;
+
+      if (!hasVolumeName()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeBytes(1, getVolumeNameBytes());
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    private int memoizedSerializedSize = -1;
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(1, getVolumeNameBytes());
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSerializedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
+      return super.writeReplace();
+    }
+
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_rmvolRequest parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_rmvolRequest parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_rmvolRequest parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_rmvolRequest parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_rmvolRequest parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_rmvolRequest parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_rmvolRequest parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_rmvolRequest parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_rmvolRequest parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_rmvolRequest parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_rmvolRequest prototype) {
+      return newBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() { return newBuilder(this); }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code xtreemfs.pbrpc.xtreemfs_rmvolRequest}
+     *
+     * <pre>
+     * deletes a volume
+     * </pre>
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder>
+       implements org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_rmvolRequestOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.xtreemfs.pbrpc.generatedinterfaces.MRC.internal_static_xtreemfs_pbrpc_xtreemfs_rmvolRequest_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.xtreemfs.pbrpc.generatedinterfaces.MRC.internal_static_xtreemfs_pbrpc_xtreemfs_rmvolRequest_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_rmvolRequest.class, org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_rmvolRequest.Builder.class);
+      }
+
+      // Construct using org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_rmvolRequest.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+        }
+      }
+      private static Builder create() {
+        return new Builder();
+      }
+
+      public Builder clear() {
+        super.clear();
+        volumeName_ = "";
+        bitField0_ = (bitField0_ & ~0x00000001);
+        return this;
+      }
+
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.xtreemfs.pbrpc.generatedinterfaces.MRC.internal_static_xtreemfs_pbrpc_xtreemfs_rmvolRequest_descriptor;
+      }
+
+      public org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_rmvolRequest getDefaultInstanceForType() {
+        return org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_rmvolRequest.getDefaultInstance();
+      }
+
+      public org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_rmvolRequest build() {
+        org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_rmvolRequest result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_rmvolRequest buildPartial() {
+        org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_rmvolRequest result = new org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_rmvolRequest(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.volumeName_ = volumeName_;
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_rmvolRequest) {
+          return mergeFrom((org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_rmvolRequest)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_rmvolRequest other) {
+        if (other == org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_rmvolRequest.getDefaultInstance()) return this;
+        if (other.hasVolumeName()) {
+          bitField0_ |= 0x00000001;
+          volumeName_ = other.volumeName_;
+          onChanged();
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        if (!hasVolumeName()) {
+          
+          return false;
+        }
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_rmvolRequest parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_rmvolRequest) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      // required string volume_name = 1;
+      private java.lang.Object volumeName_ = "";
+      /**
+       * <code>required string volume_name = 1;</code>
+       *
+       * <pre>
+       * the name of the volume to delete
+       * </pre>
+       */
+      public boolean hasVolumeName() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      /**
+       * <code>required string volume_name = 1;</code>
+       *
+       * <pre>
+       * the name of the volume to delete
+       * </pre>
+       */
+      public java.lang.String getVolumeName() {
+        java.lang.Object ref = volumeName_;
+        if (!(ref instanceof java.lang.String)) {
+          java.lang.String s = ((com.google.protobuf.ByteString) ref)
+              .toStringUtf8();
+          volumeName_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>required string volume_name = 1;</code>
+       *
+       * <pre>
+       * the name of the volume to delete
+       * </pre>
+       */
+      public com.google.protobuf.ByteString
+          getVolumeNameBytes() {
+        java.lang.Object ref = volumeName_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          volumeName_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>required string volume_name = 1;</code>
+       *
+       * <pre>
+       * the name of the volume to delete
+       * </pre>
+       */
+      public Builder setVolumeName(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+        volumeName_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required string volume_name = 1;</code>
+       *
+       * <pre>
+       * the name of the volume to delete
+       * </pre>
+       */
+      public Builder clearVolumeName() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        volumeName_ = getDefaultInstance().getVolumeName();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required string volume_name = 1;</code>
+       *
+       * <pre>
+       * the name of the volume to delete
+       * </pre>
+       */
+      public Builder setVolumeNameBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+        volumeName_ = value;
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:xtreemfs.pbrpc.xtreemfs_rmvolRequest)
+    }
+
+    static {
+      defaultInstance = new xtreemfs_rmvolRequest(true);
+      defaultInstance.initFields();
+    }
+
+    // @@protoc_insertion_point(class_scope:xtreemfs.pbrpc.xtreemfs_rmvolRequest)
+  }
+
+  public interface xtreemfs_update_file_sizeRequestOrBuilder
+      extends com.google.protobuf.MessageOrBuilder {
+
+    // required .xtreemfs.pbrpc.XCap xcap = 1;
+    /**
+     * <code>required .xtreemfs.pbrpc.XCap xcap = 1;</code>
+     *
+     * <pre>
+     * the capability that was returned when opening the file
+     * </pre>
+     */
+    boolean hasXcap();
+    /**
+     * <code>required .xtreemfs.pbrpc.XCap xcap = 1;</code>
+     *
+     * <pre>
+     * the capability that was returned when opening the file
+     * </pre>
+     */
+    org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCap getXcap();
+    /**
+     * <code>required .xtreemfs.pbrpc.XCap xcap = 1;</code>
+     *
+     * <pre>
+     * the capability that was returned when opening the file
+     * </pre>
+     */
+    org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCapOrBuilder getXcapOrBuilder();
+
+    // required .xtreemfs.pbrpc.OSDWriteResponse osd_write_response = 2;
+    /**
+     * <code>required .xtreemfs.pbrpc.OSDWriteResponse osd_write_response = 2;</code>
+     *
+     * <pre>
+     * the OSDWriteResponse received from an OSD that contains the new file size
+     * </pre>
+     */
+    boolean hasOsdWriteResponse();
+    /**
+     * <code>required .xtreemfs.pbrpc.OSDWriteResponse osd_write_response = 2;</code>
+     *
+     * <pre>
+     * the OSDWriteResponse received from an OSD that contains the new file size
+     * </pre>
+     */
+    org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.OSDWriteResponse getOsdWriteResponse();
+    /**
+     * <code>required .xtreemfs.pbrpc.OSDWriteResponse osd_write_response = 2;</code>
+     *
+     * <pre>
+     * the OSDWriteResponse received from an OSD that contains the new file size
+     * </pre>
+     */
+    org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.OSDWriteResponseOrBuilder getOsdWriteResponseOrBuilder();
+
+    // optional bool close_file = 3;
+    /**
+     * <code>optional bool close_file = 3;</code>
+     *
+     * <pre>
+     * a flag indicating that the file is supposed to be closed
+     * </pre>
+     */
+    boolean hasCloseFile();
+    /**
+     * <code>optional bool close_file = 3;</code>
+     *
+     * <pre>
+     * a flag indicating that the file is supposed to be closed
+     * </pre>
+     */
+    boolean getCloseFile();
+
+    // optional .xtreemfs.pbrpc.VivaldiCoordinates coordinates = 4;
+    /**
+     * <code>optional .xtreemfs.pbrpc.VivaldiCoordinates coordinates = 4;</code>
+     *
+     * <pre>
+     * the client's Vivaldi coordinates (e.g. used for creating replicas at
+     * specific locations when the file is closed)
+     * </pre>
+     */
+    boolean hasCoordinates();
+    /**
+     * <code>optional .xtreemfs.pbrpc.VivaldiCoordinates coordinates = 4;</code>
+     *
+     * <pre>
+     * the client's Vivaldi coordinates (e.g. used for creating replicas at
+     * specific locations when the file is closed)
+     * </pre>
+     */
+    org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.VivaldiCoordinates getCoordinates();
+    /**
+     * <code>optional .xtreemfs.pbrpc.VivaldiCoordinates coordinates = 4;</code>
+     *
+     * <pre>
+     * the client's Vivaldi coordinates (e.g. used for creating replicas at
+     * specific locations when the file is closed)
+     * </pre>
+     */
+    org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.VivaldiCoordinatesOrBuilder getCoordinatesOrBuilder();
+  }
+  /**
+   * Protobuf type {@code xtreemfs.pbrpc.xtreemfs_update_file_sizeRequest}
+   *
+   * <pre>
+   * updates the size of an open file
+   * </pre>
+   */
+  public static final class xtreemfs_update_file_sizeRequest extends
+      com.google.protobuf.GeneratedMessage
+      implements xtreemfs_update_file_sizeRequestOrBuilder {
+    // Use xtreemfs_update_file_sizeRequest.newBuilder() to construct.
+    private xtreemfs_update_file_sizeRequest(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+      this.unknownFields = builder.getUnknownFields();
+    }
+    private xtreemfs_update_file_sizeRequest(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+    private static final xtreemfs_update_file_sizeRequest defaultInstance;
+    public static xtreemfs_update_file_sizeRequest getDefaultInstance() {
+      return defaultInstance;
+    }
+
+    public xtreemfs_update_file_sizeRequest getDefaultInstanceForType() {
+      return defaultInstance;
+    }
+
+    private final com.google.protobuf.UnknownFieldSet unknownFields;
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+        getUnknownFields() {
+      return this.unknownFields;
+    }
+    private xtreemfs_update_file_sizeRequest(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      initFields();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 10: {
+              org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCap.Builder subBuilder = null;
+              if (((bitField0_ & 0x00000001) == 0x00000001)) {
+                subBuilder = xcap_.toBuilder();
+              }
+              xcap_ = input.readMessage(org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCap.PARSER, extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(xcap_);
+                xcap_ = subBuilder.buildPartial();
+              }
+              bitField0_ |= 0x00000001;
+              break;
+            }
+            case 18: {
+              org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.OSDWriteResponse.Builder subBuilder = null;
+              if (((bitField0_ & 0x00000002) == 0x00000002)) {
+                subBuilder = osdWriteResponse_.toBuilder();
+              }
+              osdWriteResponse_ = input.readMessage(org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.OSDWriteResponse.PARSER, extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(osdWriteResponse_);
+                osdWriteResponse_ = subBuilder.buildPartial();
+              }
+              bitField0_ |= 0x00000002;
+              break;
+            }
+            case 24: {
+              bitField0_ |= 0x00000004;
+              closeFile_ = input.readBool();
+              break;
+            }
+            case 34: {
+              org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.VivaldiCoordinates.Builder subBuilder = null;
+              if (((bitField0_ & 0x00000008) == 0x00000008)) {
+                subBuilder = coordinates_.toBuilder();
+              }
+              coordinates_ = input.readMessage(org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.VivaldiCoordinates.PARSER, extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(coordinates_);
+                coordinates_ = subBuilder.buildPartial();
+              }
+              bitField0_ |= 0x00000008;
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e.getMessage()).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.xtreemfs.pbrpc.generatedinterfaces.MRC.internal_static_xtreemfs_pbrpc_xtreemfs_update_file_sizeRequest_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.xtreemfs.pbrpc.generatedinterfaces.MRC.internal_static_xtreemfs_pbrpc_xtreemfs_update_file_sizeRequest_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_file_sizeRequest.class, org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_file_sizeRequest.Builder.class);
+    }
+
+    public static com.google.protobuf.Parser<xtreemfs_update_file_sizeRequest> PARSER =
+        new com.google.protobuf.AbstractParser<xtreemfs_update_file_sizeRequest>() {
+      public xtreemfs_update_file_sizeRequest parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new xtreemfs_update_file_sizeRequest(input, extensionRegistry);
+      }
+    };
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<xtreemfs_update_file_sizeRequest> getParserForType() {
+      return PARSER;
+    }
+
+    private int bitField0_;
+    // required .xtreemfs.pbrpc.XCap xcap = 1;
+    public static final int XCAP_FIELD_NUMBER = 1;
+    private org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCap xcap_;
+    /**
+     * <code>required .xtreemfs.pbrpc.XCap xcap = 1;</code>
+     *
+     * <pre>
+     * the capability that was returned when opening the file
+     * </pre>
+     */
+    public boolean hasXcap() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    /**
+     * <code>required .xtreemfs.pbrpc.XCap xcap = 1;</code>
+     *
+     * <pre>
+     * the capability that was returned when opening the file
+     * </pre>
+     */
+    public org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCap getXcap() {
+      return xcap_;
+    }
+    /**
+     * <code>required .xtreemfs.pbrpc.XCap xcap = 1;</code>
+     *
+     * <pre>
+     * the capability that was returned when opening the file
+     * </pre>
+     */
+    public org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCapOrBuilder getXcapOrBuilder() {
+      return xcap_;
+    }
+
+    // required .xtreemfs.pbrpc.OSDWriteResponse osd_write_response = 2;
+    public static final int OSD_WRITE_RESPONSE_FIELD_NUMBER = 2;
+    private org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.OSDWriteResponse osdWriteResponse_;
+    /**
+     * <code>required .xtreemfs.pbrpc.OSDWriteResponse osd_write_response = 2;</code>
+     *
+     * <pre>
+     * the OSDWriteResponse received from an OSD that contains the new file size
+     * </pre>
+     */
+    public boolean hasOsdWriteResponse() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
+    }
+    /**
+     * <code>required .xtreemfs.pbrpc.OSDWriteResponse osd_write_response = 2;</code>
+     *
+     * <pre>
+     * the OSDWriteResponse received from an OSD that contains the new file size
+     * </pre>
+     */
+    public org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.OSDWriteResponse getOsdWriteResponse() {
+      return osdWriteResponse_;
+    }
+    /**
+     * <code>required .xtreemfs.pbrpc.OSDWriteResponse osd_write_response = 2;</code>
+     *
+     * <pre>
+     * the OSDWriteResponse received from an OSD that contains the new file size
+     * </pre>
+     */
+    public org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.OSDWriteResponseOrBuilder getOsdWriteResponseOrBuilder() {
+      return osdWriteResponse_;
+    }
+
+    // optional bool close_file = 3;
+    public static final int CLOSE_FILE_FIELD_NUMBER = 3;
+    private boolean closeFile_;
+    /**
+     * <code>optional bool close_file = 3;</code>
+     *
+     * <pre>
+     * a flag indicating that the file is supposed to be closed
+     * </pre>
+     */
+    public boolean hasCloseFile() {
+      return ((bitField0_ & 0x00000004) == 0x00000004);
+    }
+    /**
+     * <code>optional bool close_file = 3;</code>
+     *
+     * <pre>
+     * a flag indicating that the file is supposed to be closed
+     * </pre>
+     */
+    public boolean getCloseFile() {
+      return closeFile_;
+    }
+
+    // optional .xtreemfs.pbrpc.VivaldiCoordinates coordinates = 4;
+    public static final int COORDINATES_FIELD_NUMBER = 4;
+    private org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.VivaldiCoordinates coordinates_;
+    /**
+     * <code>optional .xtreemfs.pbrpc.VivaldiCoordinates coordinates = 4;</code>
+     *
+     * <pre>
+     * the client's Vivaldi coordinates (e.g. used for creating replicas at
+     * specific locations when the file is closed)
+     * </pre>
+     */
+    public boolean hasCoordinates() {
+      return ((bitField0_ & 0x00000008) == 0x00000008);
+    }
+    /**
+     * <code>optional .xtreemfs.pbrpc.VivaldiCoordinates coordinates = 4;</code>
+     *
+     * <pre>
+     * the client's Vivaldi coordinates (e.g. used for creating replicas at
+     * specific locations when the file is closed)
+     * </pre>
+     */
+    public org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.VivaldiCoordinates getCoordinates() {
+      return coordinates_;
+    }
+    /**
+     * <code>optional .xtreemfs.pbrpc.VivaldiCoordinates coordinates = 4;</code>
+     *
+     * <pre>
+     * the client's Vivaldi coordinates (e.g. used for creating replicas at
+     * specific locations when the file is closed)
+     * </pre>
+     */
+    public org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.VivaldiCoordinatesOrBuilder getCoordinatesOrBuilder() {
+      return coordinates_;
+    }
+
+    private void initFields() {
+      xcap_ = org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCap.getDefaultInstance();
+      osdWriteResponse_ = org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.OSDWriteResponse.getDefaultInstance();
+      closeFile_ = false;
+      coordinates_ = org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.VivaldiCoordinates.getDefaultInstance();
+    }
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized != -1) return isInitialized == 1;
+
+      if (!hasXcap()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!hasOsdWriteResponse()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!getXcap().isInitialized()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (hasCoordinates()) {
+        if (!getCoordinates().isInitialized()) {
+          memoizedIsInitialized = 0;
+          return false;
+        }
+      }
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeMessage(1, xcap_);
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        output.writeMessage(2, osdWriteResponse_);
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        output.writeBool(3, closeFile_);
+      }
+      if (((bitField0_ & 0x00000008) == 0x00000008)) {
+        output.writeMessage(4, coordinates_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    private int memoizedSerializedSize = -1;
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, xcap_);
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(2, osdWriteResponse_);
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(3, closeFile_);
+      }
+      if (((bitField0_ & 0x00000008) == 0x00000008)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(4, coordinates_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSerializedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
+      return super.writeReplace();
+    }
+
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_file_sizeRequest parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_file_sizeRequest parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_file_sizeRequest parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_file_sizeRequest parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_file_sizeRequest parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_file_sizeRequest parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_file_sizeRequest parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_file_sizeRequest parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_file_sizeRequest parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_file_sizeRequest parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_file_sizeRequest prototype) {
+      return newBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() { return newBuilder(this); }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code xtreemfs.pbrpc.xtreemfs_update_file_sizeRequest}
+     *
+     * <pre>
+     * updates the size of an open file
+     * </pre>
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder>
+       implements org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_file_sizeRequestOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.xtreemfs.pbrpc.generatedinterfaces.MRC.internal_static_xtreemfs_pbrpc_xtreemfs_update_file_sizeRequest_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.xtreemfs.pbrpc.generatedinterfaces.MRC.internal_static_xtreemfs_pbrpc_xtreemfs_update_file_sizeRequest_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_file_sizeRequest.class, org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_file_sizeRequest.Builder.class);
+      }
+
+      // Construct using org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_file_sizeRequest.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+          getXcapFieldBuilder();
+          getOsdWriteResponseFieldBuilder();
+          getCoordinatesFieldBuilder();
+        }
+      }
+      private static Builder create() {
+        return new Builder();
+      }
+
+      public Builder clear() {
+        super.clear();
+        if (xcapBuilder_ == null) {
+          xcap_ = org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCap.getDefaultInstance();
+        } else {
+          xcapBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000001);
+        if (osdWriteResponseBuilder_ == null) {
+          osdWriteResponse_ = org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.OSDWriteResponse.getDefaultInstance();
+        } else {
+          osdWriteResponseBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000002);
+        closeFile_ = false;
+        bitField0_ = (bitField0_ & ~0x00000004);
+        if (coordinatesBuilder_ == null) {
+          coordinates_ = org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.VivaldiCoordinates.getDefaultInstance();
+        } else {
+          coordinatesBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000008);
+        return this;
+      }
+
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.xtreemfs.pbrpc.generatedinterfaces.MRC.internal_static_xtreemfs_pbrpc_xtreemfs_update_file_sizeRequest_descriptor;
+      }
+
+      public org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_file_sizeRequest getDefaultInstanceForType() {
+        return org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_file_sizeRequest.getDefaultInstance();
+      }
+
+      public org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_file_sizeRequest build() {
+        org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_file_sizeRequest result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_file_sizeRequest buildPartial() {
+        org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_file_sizeRequest result = new org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_file_sizeRequest(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        if (xcapBuilder_ == null) {
+          result.xcap_ = xcap_;
+        } else {
+          result.xcap_ = xcapBuilder_.build();
+        }
+        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+          to_bitField0_ |= 0x00000002;
+        }
+        if (osdWriteResponseBuilder_ == null) {
+          result.osdWriteResponse_ = osdWriteResponse_;
+        } else {
+          result.osdWriteResponse_ = osdWriteResponseBuilder_.build();
+        }
+        if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
+          to_bitField0_ |= 0x00000004;
+        }
+        result.closeFile_ = closeFile_;
+        if (((from_bitField0_ & 0x00000008) == 0x00000008)) {
+          to_bitField0_ |= 0x00000008;
+        }
+        if (coordinatesBuilder_ == null) {
+          result.coordinates_ = coordinates_;
+        } else {
+          result.coordinates_ = coordinatesBuilder_.build();
+        }
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_file_sizeRequest) {
+          return mergeFrom((org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_file_sizeRequest)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_file_sizeRequest other) {
+        if (other == org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_file_sizeRequest.getDefaultInstance()) return this;
+        if (other.hasXcap()) {
+          mergeXcap(other.getXcap());
+        }
+        if (other.hasOsdWriteResponse()) {
+          mergeOsdWriteResponse(other.getOsdWriteResponse());
+        }
+        if (other.hasCloseFile()) {
+          setCloseFile(other.getCloseFile());
+        }
+        if (other.hasCoordinates()) {
+          mergeCoordinates(other.getCoordinates());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        if (!hasXcap()) {
+          
+          return false;
+        }
+        if (!hasOsdWriteResponse()) {
+          
+          return false;
+        }
+        if (!getXcap().isInitialized()) {
+          
+          return false;
+        }
+        if (hasCoordinates()) {
+          if (!getCoordinates().isInitialized()) {
+            
+            return false;
+          }
+        }
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_file_sizeRequest parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_file_sizeRequest) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      // required .xtreemfs.pbrpc.XCap xcap = 1;
+      private org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCap xcap_ = org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCap.getDefaultInstance();
+      private com.google.protobuf.SingleFieldBuilder<
+          org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCap, org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCap.Builder, org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCapOrBuilder> xcapBuilder_;
+      /**
+       * <code>required .xtreemfs.pbrpc.XCap xcap = 1;</code>
+       *
+       * <pre>
+       * the capability that was returned when opening the file
+       * </pre>
+       */
+      public boolean hasXcap() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      /**
+       * <code>required .xtreemfs.pbrpc.XCap xcap = 1;</code>
+       *
+       * <pre>
+       * the capability that was returned when opening the file
+       * </pre>
+       */
+      public org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCap getXcap() {
+        if (xcapBuilder_ == null) {
+          return xcap_;
+        } else {
+          return xcapBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>required .xtreemfs.pbrpc.XCap xcap = 1;</code>
+       *
+       * <pre>
+       * the capability that was returned when opening the file
+       * </pre>
+       */
+      public Builder setXcap(org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCap value) {
+        if (xcapBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          xcap_ = value;
+          onChanged();
+        } else {
+          xcapBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000001;
+        return this;
+      }
+      /**
+       * <code>required .xtreemfs.pbrpc.XCap xcap = 1;</code>
+       *
+       * <pre>
+       * the capability that was returned when opening the file
+       * </pre>
+       */
+      public Builder setXcap(
+          org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCap.Builder builderForValue) {
+        if (xcapBuilder_ == null) {
+          xcap_ = builderForValue.build();
+          onChanged();
+        } else {
+          xcapBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000001;
+        return this;
+      }
+      /**
+       * <code>required .xtreemfs.pbrpc.XCap xcap = 1;</code>
+       *
+       * <pre>
+       * the capability that was returned when opening the file
+       * </pre>
+       */
+      public Builder mergeXcap(org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCap value) {
+        if (xcapBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) == 0x00000001) &&
+              xcap_ != org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCap.getDefaultInstance()) {
+            xcap_ =
+              org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCap.newBuilder(xcap_).mergeFrom(value).buildPartial();
+          } else {
+            xcap_ = value;
+          }
+          onChanged();
+        } else {
+          xcapBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000001;
+        return this;
+      }
+      /**
+       * <code>required .xtreemfs.pbrpc.XCap xcap = 1;</code>
+       *
+       * <pre>
+       * the capability that was returned when opening the file
+       * </pre>
+       */
+      public Builder clearXcap() {
+        if (xcapBuilder_ == null) {
+          xcap_ = org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCap.getDefaultInstance();
+          onChanged();
+        } else {
+          xcapBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000001);
+        return this;
+      }
+      /**
+       * <code>required .xtreemfs.pbrpc.XCap xcap = 1;</code>
+       *
+       * <pre>
+       * the capability that was returned when opening the file
+       * </pre>
+       */
+      public org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCap.Builder getXcapBuilder() {
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return getXcapFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>required .xtreemfs.pbrpc.XCap xcap = 1;</code>
+       *
+       * <pre>
+       * the capability that was returned when opening the file
+       * </pre>
+       */
+      public org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCapOrBuilder getXcapOrBuilder() {
+        if (xcapBuilder_ != null) {
+          return xcapBuilder_.getMessageOrBuilder();
+        } else {
+          return xcap_;
+        }
+      }
+      /**
+       * <code>required .xtreemfs.pbrpc.XCap xcap = 1;</code>
+       *
+       * <pre>
+       * the capability that was returned when opening the file
+       * </pre>
+       */
+      private com.google.protobuf.SingleFieldBuilder<
+          org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCap, org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCap.Builder, org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCapOrBuilder> 
+          getXcapFieldBuilder() {
+        if (xcapBuilder_ == null) {
+          xcapBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCap, org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCap.Builder, org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCapOrBuilder>(
+                  xcap_,
+                  getParentForChildren(),
+                  isClean());
+          xcap_ = null;
+        }
+        return xcapBuilder_;
+      }
+
+      // required .xtreemfs.pbrpc.OSDWriteResponse osd_write_response = 2;
+      private org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.OSDWriteResponse osdWriteResponse_ = org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.OSDWriteResponse.getDefaultInstance();
+      private com.google.protobuf.SingleFieldBuilder<
+          org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.OSDWriteResponse, org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.OSDWriteResponse.Builder, org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.OSDWriteResponseOrBuilder> osdWriteResponseBuilder_;
+      /**
+       * <code>required .xtreemfs.pbrpc.OSDWriteResponse osd_write_response = 2;</code>
+       *
+       * <pre>
+       * the OSDWriteResponse received from an OSD that contains the new file size
+       * </pre>
+       */
+      public boolean hasOsdWriteResponse() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
+      }
+      /**
+       * <code>required .xtreemfs.pbrpc.OSDWriteResponse osd_write_response = 2;</code>
+       *
+       * <pre>
+       * the OSDWriteResponse received from an OSD that contains the new file size
+       * </pre>
+       */
+      public org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.OSDWriteResponse getOsdWriteResponse() {
+        if (osdWriteResponseBuilder_ == null) {
+          return osdWriteResponse_;
+        } else {
+          return osdWriteResponseBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>required .xtreemfs.pbrpc.OSDWriteResponse osd_write_response = 2;</code>
+       *
+       * <pre>
+       * the OSDWriteResponse received from an OSD that contains the new file size
+       * </pre>
+       */
+      public Builder setOsdWriteResponse(org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.OSDWriteResponse value) {
+        if (osdWriteResponseBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          osdWriteResponse_ = value;
+          onChanged();
+        } else {
+          osdWriteResponseBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000002;
+        return this;
+      }
+      /**
+       * <code>required .xtreemfs.pbrpc.OSDWriteResponse osd_write_response = 2;</code>
+       *
+       * <pre>
+       * the OSDWriteResponse received from an OSD that contains the new file size
+       * </pre>
+       */
+      public Builder setOsdWriteResponse(
+          org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.OSDWriteResponse.Builder builderForValue) {
+        if (osdWriteResponseBuilder_ == null) {
+          osdWriteResponse_ = builderForValue.build();
+          onChanged();
+        } else {
+          osdWriteResponseBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000002;
+        return this;
+      }
+      /**
+       * <code>required .xtreemfs.pbrpc.OSDWriteResponse osd_write_response = 2;</code>
+       *
+       * <pre>
+       * the OSDWriteResponse received from an OSD that contains the new file size
+       * </pre>
+       */
+      public Builder mergeOsdWriteResponse(org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.OSDWriteResponse value) {
+        if (osdWriteResponseBuilder_ == null) {
+          if (((bitField0_ & 0x00000002) == 0x00000002) &&
+              osdWriteResponse_ != org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.OSDWriteResponse.getDefaultInstance()) {
+            osdWriteResponse_ =
+              org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.OSDWriteResponse.newBuilder(osdWriteResponse_).mergeFrom(value).buildPartial();
+          } else {
+            osdWriteResponse_ = value;
+          }
+          onChanged();
+        } else {
+          osdWriteResponseBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000002;
+        return this;
+      }
+      /**
+       * <code>required .xtreemfs.pbrpc.OSDWriteResponse osd_write_response = 2;</code>
+       *
+       * <pre>
+       * the OSDWriteResponse received from an OSD that contains the new file size
+       * </pre>
+       */
+      public Builder clearOsdWriteResponse() {
+        if (osdWriteResponseBuilder_ == null) {
+          osdWriteResponse_ = org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.OSDWriteResponse.getDefaultInstance();
+          onChanged();
+        } else {
+          osdWriteResponseBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000002);
+        return this;
+      }
+      /**
+       * <code>required .xtreemfs.pbrpc.OSDWriteResponse osd_write_response = 2;</code>
+       *
+       * <pre>
+       * the OSDWriteResponse received from an OSD that contains the new file size
+       * </pre>
+       */
+      public org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.OSDWriteResponse.Builder getOsdWriteResponseBuilder() {
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return getOsdWriteResponseFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>required .xtreemfs.pbrpc.OSDWriteResponse osd_write_response = 2;</code>
+       *
+       * <pre>
+       * the OSDWriteResponse received from an OSD that contains the new file size
+       * </pre>
+       */
+      public org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.OSDWriteResponseOrBuilder getOsdWriteResponseOrBuilder() {
+        if (osdWriteResponseBuilder_ != null) {
+          return osdWriteResponseBuilder_.getMessageOrBuilder();
+        } else {
+          return osdWriteResponse_;
+        }
+      }
+      /**
+       * <code>required .xtreemfs.pbrpc.OSDWriteResponse osd_write_response = 2;</code>
+       *
+       * <pre>
+       * the OSDWriteResponse received from an OSD that contains the new file size
+       * </pre>
+       */
+      private com.google.protobuf.SingleFieldBuilder<
+          org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.OSDWriteResponse, org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.OSDWriteResponse.Builder, org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.OSDWriteResponseOrBuilder> 
+          getOsdWriteResponseFieldBuilder() {
+        if (osdWriteResponseBuilder_ == null) {
+          osdWriteResponseBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.OSDWriteResponse, org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.OSDWriteResponse.Builder, org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.OSDWriteResponseOrBuilder>(
+                  osdWriteResponse_,
+                  getParentForChildren(),
+                  isClean());
+          osdWriteResponse_ = null;
+        }
+        return osdWriteResponseBuilder_;
+      }
+
+      // optional bool close_file = 3;
+      private boolean closeFile_ ;
+      /**
+       * <code>optional bool close_file = 3;</code>
+       *
+       * <pre>
+       * a flag indicating that the file is supposed to be closed
+       * </pre>
+       */
+      public boolean hasCloseFile() {
+        return ((bitField0_ & 0x00000004) == 0x00000004);
+      }
+      /**
+       * <code>optional bool close_file = 3;</code>
+       *
+       * <pre>
+       * a flag indicating that the file is supposed to be closed
+       * </pre>
+       */
+      public boolean getCloseFile() {
+        return closeFile_;
+      }
+      /**
+       * <code>optional bool close_file = 3;</code>
+       *
+       * <pre>
+       * a flag indicating that the file is supposed to be closed
+       * </pre>
+       */
+      public Builder setCloseFile(boolean value) {
+        bitField0_ |= 0x00000004;
+        closeFile_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional bool close_file = 3;</code>
+       *
+       * <pre>
+       * a flag indicating that the file is supposed to be closed
+       * </pre>
+       */
+      public Builder clearCloseFile() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        closeFile_ = false;
+        onChanged();
+        return this;
+      }
+
+      // optional .xtreemfs.pbrpc.VivaldiCoordinates coordinates = 4;
+      private org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.VivaldiCoordinates coordinates_ = org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.VivaldiCoordinates.getDefaultInstance();
+      private com.google.protobuf.SingleFieldBuilder<
+          org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.VivaldiCoordinates, org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.VivaldiCoordinates.Builder, org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.VivaldiCoordinatesOrBuilder> coordinatesBuilder_;
+      /**
+       * <code>optional .xtreemfs.pbrpc.VivaldiCoordinates coordinates = 4;</code>
+       *
+       * <pre>
+       * the client's Vivaldi coordinates (e.g. used for creating replicas at
+       * specific locations when the file is closed)
+       * </pre>
+       */
+      public boolean hasCoordinates() {
+        return ((bitField0_ & 0x00000008) == 0x00000008);
+      }
+      /**
+       * <code>optional .xtreemfs.pbrpc.VivaldiCoordinates coordinates = 4;</code>
+       *
+       * <pre>
+       * the client's Vivaldi coordinates (e.g. used for creating replicas at
+       * specific locations when the file is closed)
+       * </pre>
+       */
+      public org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.VivaldiCoordinates getCoordinates() {
+        if (coordinatesBuilder_ == null) {
+          return coordinates_;
+        } else {
+          return coordinatesBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>optional .xtreemfs.pbrpc.VivaldiCoordinates coordinates = 4;</code>
+       *
+       * <pre>
+       * the client's Vivaldi coordinates (e.g. used for creating replicas at
+       * specific locations when the file is closed)
+       * </pre>
+       */
+      public Builder setCoordinates(org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.VivaldiCoordinates value) {
+        if (coordinatesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          coordinates_ = value;
+          onChanged();
+        } else {
+          coordinatesBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000008;
+        return this;
+      }
+      /**
+       * <code>optional .xtreemfs.pbrpc.VivaldiCoordinates coordinates = 4;</code>
+       *
+       * <pre>
+       * the client's Vivaldi coordinates (e.g. used for creating replicas at
+       * specific locations when the file is closed)
+       * </pre>
+       */
+      public Builder setCoordinates(
+          org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.VivaldiCoordinates.Builder builderForValue) {
+        if (coordinatesBuilder_ == null) {
+          coordinates_ = builderForValue.build();
+          onChanged();
+        } else {
+          coordinatesBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000008;
+        return this;
+      }
+      /**
+       * <code>optional .xtreemfs.pbrpc.VivaldiCoordinates coordinates = 4;</code>
+       *
+       * <pre>
+       * the client's Vivaldi coordinates (e.g. used for creating replicas at
+       * specific locations when the file is closed)
+       * </pre>
+       */
+      public Builder mergeCoordinates(org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.VivaldiCoordinates value) {
+        if (coordinatesBuilder_ == null) {
+          if (((bitField0_ & 0x00000008) == 0x00000008) &&
+              coordinates_ != org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.VivaldiCoordinates.getDefaultInstance()) {
+            coordinates_ =
+              org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.VivaldiCoordinates.newBuilder(coordinates_).mergeFrom(value).buildPartial();
+          } else {
+            coordinates_ = value;
+          }
+          onChanged();
+        } else {
+          coordinatesBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000008;
+        return this;
+      }
+      /**
+       * <code>optional .xtreemfs.pbrpc.VivaldiCoordinates coordinates = 4;</code>
+       *
+       * <pre>
+       * the client's Vivaldi coordinates (e.g. used for creating replicas at
+       * specific locations when the file is closed)
+       * </pre>
+       */
+      public Builder clearCoordinates() {
+        if (coordinatesBuilder_ == null) {
+          coordinates_ = org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.VivaldiCoordinates.getDefaultInstance();
+          onChanged();
+        } else {
+          coordinatesBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000008);
+        return this;
+      }
+      /**
+       * <code>optional .xtreemfs.pbrpc.VivaldiCoordinates coordinates = 4;</code>
+       *
+       * <pre>
+       * the client's Vivaldi coordinates (e.g. used for creating replicas at
+       * specific locations when the file is closed)
+       * </pre>
+       */
+      public org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.VivaldiCoordinates.Builder getCoordinatesBuilder() {
+        bitField0_ |= 0x00000008;
+        onChanged();
+        return getCoordinatesFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>optional .xtreemfs.pbrpc.VivaldiCoordinates coordinates = 4;</code>
+       *
+       * <pre>
+       * the client's Vivaldi coordinates (e.g. used for creating replicas at
+       * specific locations when the file is closed)
+       * </pre>
+       */
+      public org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.VivaldiCoordinatesOrBuilder getCoordinatesOrBuilder() {
+        if (coordinatesBuilder_ != null) {
+          return coordinatesBuilder_.getMessageOrBuilder();
+        } else {
+          return coordinates_;
+        }
+      }
+      /**
+       * <code>optional .xtreemfs.pbrpc.VivaldiCoordinates coordinates = 4;</code>
+       *
+       * <pre>
+       * the client's Vivaldi coordinates (e.g. used for creating replicas at
+       * specific locations when the file is closed)
+       * </pre>
+       */
+      private com.google.protobuf.SingleFieldBuilder<
+          org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.VivaldiCoordinates, org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.VivaldiCoordinates.Builder, org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.VivaldiCoordinatesOrBuilder> 
+          getCoordinatesFieldBuilder() {
+        if (coordinatesBuilder_ == null) {
+          coordinatesBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.VivaldiCoordinates, org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.VivaldiCoordinates.Builder, org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.VivaldiCoordinatesOrBuilder>(
+                  coordinates_,
+                  getParentForChildren(),
+                  isClean());
+          coordinates_ = null;
+        }
+        return coordinatesBuilder_;
+      }
+
+      // @@protoc_insertion_point(builder_scope:xtreemfs.pbrpc.xtreemfs_update_file_sizeRequest)
+    }
+
+    static {
+      defaultInstance = new xtreemfs_update_file_sizeRequest(true);
+      defaultInstance.initFields();
+    }
+
+    // @@protoc_insertion_point(class_scope:xtreemfs.pbrpc.xtreemfs_update_file_sizeRequest)
+  }
+
+  public interface xtreemfs_update_file_sizesRequestOrBuilder
+      extends com.google.protobuf.MessageOrBuilder {
+
+    // repeated .xtreemfs.pbrpc.xtreemfs_update_file_sizeRequest updates = 1;
+    /**
+     * <code>repeated .xtreemfs.pbrpc.xtreemfs_update_file_sizeRequest updates = 1;</code>
+     */
+    java.util.List<org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_file_sizeRequest> 
+        getUpdatesList();
+    /**
+     * <code>repeated .xtreemfs.pbrpc.xtreemfs_update_file_sizeRequest updates = 1;</code>
+     */
+    org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_file_sizeRequest getUpdates(int index);
+    /**
+     * <code>repeated .xtreemfs.pbrpc.xtreemfs_update_file_sizeRequest updates = 1;</code>
+     */
+    int getUpdatesCount();
+    /**
+     * <code>repeated .xtreemfs.pbrpc.xtreemfs_update_file_sizeRequest updates = 1;</code>
+     */
+    java.util.List<? extends org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_file_sizeRequestOrBuilder> 
+        getUpdatesOrBuilderList();
+    /**
+     * <code>repeated .xtreemfs.pbrpc.xtreemfs_update_file_sizeRequest updates = 1;</code>
+     */
+    org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_file_sizeRequestOrBuilder getUpdatesOrBuilder(
+        int index);
+  }
+  /**
+   * Protobuf type {@code xtreemfs.pbrpc.xtreemfs_update_file_sizesRequest}
+   *
+   * <pre>
+   * updates the sizes of multiple files at once; files cannot be closed with
+   * a batched update, i.e. close_file must not be set
+   * </pre>
+   */
+  public static final class xtreemfs_update_file_sizesRequest extends
+      com.google.protobuf.GeneratedMessage
+      implements xtreemfs_update_file_sizesRequestOrBuilder {
+    // Use xtreemfs_update_file_sizesRequest.newBuilder() to construct.
+    private xtreemfs_update_file_sizesRequest(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+      this.unknownFields = builder.getUnknownFields();
+    }
+    private xtreemfs_update_file_sizesRequest(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+    private static final xtreemfs_update_file_sizesRequest defaultInstance;
+    public static xtreemfs_update_file_sizesRequest getDefaultInstance() {
+      return defaultInstance;
+    }
+
+    public xtreemfs_update_file_sizesRequest getDefaultInstanceForType() {
+      return defaultInstance;
+    }
+
+    private final com.google.protobuf.UnknownFieldSet unknownFields;
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+        getUnknownFields() {
+      return this.unknownFields;
+    }
+    private xtreemfs_update_file_sizesRequest(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      initFields();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 10: {
+              if (!((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
+                updates_ = new java.util.ArrayList<org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_file_sizeRequest>();
+                mutable_bitField0_ |= 0x00000001;
+              }
+              updates_.add(input.readMessage(org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_file_sizeRequest.PARSER, extensionRegistry));
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e.getMessage()).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
+          updates_ = java.util.Collections.unmodifiableList(updates_);
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.xtreemfs.pbrpc.generatedinterfaces.MRC.internal_static_xtreemfs_pbrpc_xtreemfs_update_file_sizesRequest_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.xtreemfs.pbrpc.generatedinterfaces.MRC.internal_static_xtreemfs_pbrpc_xtreemfs_update_file_sizesRequest_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_file_sizesRequest.class, org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_file_sizesRequest.Builder.class);
+    }
+
+    public static com.google.protobuf.Parser<xtreemfs_update_file_sizesRequest> PARSER =
+        new com.google.protobuf.AbstractParser<xtreemfs_update_file_sizesRequest>() {
+      public xtreemfs_update_file_sizesRequest parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new xtreemfs_update_file_sizesRequest(input, extensionRegistry);
+      }
+    };
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<xtreemfs_update_file_sizesRequest> getParserForType() {
+      return PARSER;
+    }
+
+    // repeated .xtreemfs.pbrpc.xtreemfs_update_file_sizeRequest updates = 1;
+    public static final int UPDATES_FIELD_NUMBER = 1;
+    private java.util.List<org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_file_sizeRequest> updates_;
+    /**
+     * <code>repeated .xtreemfs.pbrpc.xtreemfs_update_file_sizeRequest updates = 1;</code>
+     */
+    public java.util.List<org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_file_sizeRequest> getUpdatesList() {
+      return updates_;
+    }
+    /**
+     * <code>repeated .xtreemfs.pbrpc.xtreemfs_update_file_sizeRequest updates = 1;</code>
+     */
+    public java.util.List<? extends org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_file_sizeRequestOrBuilder> 
+        getUpdatesOrBuilderList() {
+      return updates_;
+    }
+    /**
+     * <code>repeated .xtreemfs.pbrpc.xtreemfs_update_file_sizeRequest updates = 1;</code>
+     */
+    public int getUpdatesCount() {
+      return updates_.size();
+    }
+    /**
+     * <code>repeated .xtreemfs.pbrpc.xtreemfs_update_file_sizeRequest updates = 1;</code>
+     */
+    public org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_file_sizeRequest getUpdates(int index) {
+      return updates_.get(index);
+    }
+    /**
+     * <code>repeated .xtreemfs.pbrpc.xtreemfs_update_file_sizeRequest updates = 1;</code>
+     */
+    public org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_file_sizeRequestOrBuilder getUpdatesOrBuilder(
+        int index) {
+      return updates_.get(index);
+    }
+
+    private void initFields() {
+      updates_ = java.util.Collections.emptyList();
+    }
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized != -1) return isInitialized == 1;
+
+      for (int i = 0; i < getUpdatesCount(); i++) {
+        if (!getUpdates(i).isInitialized()) {
+          memoizedIsInitialized = 0;
+          return false;
+        }
+      }
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      for (int i = 0; i < updates_.size(); i++) {
+        output.writeMessage(1, updates_.get(i));
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    private int memoizedSerializedSize = -1;
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      for (int i = 0; i < updates_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, updates_.get(i));
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSerializedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
+      return super.writeReplace();
+    }
+
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_file_sizesRequest parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_file_sizesRequest parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_file_sizesRequest parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_file_sizesRequest parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_file_sizesRequest parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_file_sizesRequest parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_file_sizesRequest parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_file_sizesRequest parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_file_sizesRequest parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_file_sizesRequest parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_file_sizesRequest prototype) {
+      return newBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() { return newBuilder(this); }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code xtreemfs.pbrpc.xtreemfs_update_file_sizesRequest}
+     *
+     * <pre>
+     * updates the sizes of multiple files at once; files cannot be closed with
+     * a batched update, i.e. close_file must not be set
+     * </pre>
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder>
+       implements org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_file_sizesRequestOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.xtreemfs.pbrpc.generatedinterfaces.MRC.internal_static_xtreemfs_pbrpc_xtreemfs_update_file_sizesRequest_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.xtreemfs.pbrpc.generatedinterfaces.MRC.internal_static_xtreemfs_pbrpc_xtreemfs_update_file_sizesRequest_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_file_sizesRequest.class, org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_file_sizesRequest.Builder.class);
+      }
+
+      // Construct using org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_file_sizesRequest.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+          getUpdatesFieldBuilder();
+        }
+      }
+      private static Builder create() {
+        return new Builder();
+      }
+
+      public Builder clear() {
+        super.clear();
+        if (updatesBuilder_ == null) {
+          updates_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+        } else {
+          updatesBuilder_.clear();
+        }
+        return this;
+      }
+
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.xtreemfs.pbrpc.generatedinterfaces.MRC.internal_static_xtreemfs_pbrpc_xtreemfs_update_file_sizesRequest_descriptor;
+      }
+
+      public org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_file_sizesRequest getDefaultInstanceForType() {
+        return org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_file_sizesRequest.getDefaultInstance();
+      }
+
+      public org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_file_sizesRequest build() {
+        org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_file_sizesRequest result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_file_sizesRequest buildPartial() {
+        org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_file_sizesRequest result = new org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_file_sizesRequest(this);
+        int from_bitField0_ = bitField0_;
+        if (updatesBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) == 0x00000001)) {
+            updates_ = java.util.Collections.unmodifiableList(updates_);
+            bitField0_ = (bitField0_ & ~0x00000001);
+          }
+          result.updates_ = updates_;
+        } else {
+          result.updates_ = updatesBuilder_.build();
+        }
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_file_sizesRequest) {
+          return mergeFrom((org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_file_sizesRequest)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_file_sizesRequest other) {
+        if (other == org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_file_sizesRequest.getDefaultInstance()) return this;
+        if (updatesBuilder_ == null) {
+          if (!other.updates_.isEmpty()) {
+            if (updates_.isEmpty()) {
+              updates_ = other.updates_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+            } else {
+              ensureUpdatesIsMutable();
+              updates_.addAll(other.updates_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.updates_.isEmpty()) {
+            if (updatesBuilder_.isEmpty()) {
+              updatesBuilder_.dispose();
+              updatesBuilder_ = null;
+              updates_ = other.updates_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+              updatesBuilder_ = 
+                com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
+                   getUpdatesFieldBuilder() : null;
+            } else {
+              updatesBuilder_.addAllMessages(other.updates_);
+            }
+          }
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        for (int i = 0; i < getUpdatesCount(); i++) {
+          if (!getUpdates(i).isInitialized()) {
+            
+            return false;
+          }
+        }
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_file_sizesRequest parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_file_sizesRequest) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      // repeated .xtreemfs.pbrpc.xtreemfs_update_file_sizeRequest updates = 1;
+      private java.util.List<org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_file_sizeRequest> updates_ =
+        java.util.Collections.emptyList();
+      private void ensureUpdatesIsMutable() {
+        if (!((bitField0_ & 0x00000001) == 0x00000001)) {
+          updates_ = new java.util.ArrayList<org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_file_sizeRequest>(updates_);
+          bitField0_ |= 0x00000001;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilder<
+          org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_file_sizeRequest, org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_file_sizeRequest.Builder, org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_file_sizeRequestOrBuilder> updatesBuilder_;
+
+      /**
+       * <code>repeated .xtreemfs.pbrpc.xtreemfs_update_file_sizeRequest updates = 1;</code>
+       */
+      public java.util.List<org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_file_sizeRequest> getUpdatesList() {
+        if (updatesBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(updates_);
+        } else {
+          return updatesBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .xtreemfs.pbrpc.xtreemfs_update_file_sizeRequest updates = 1;</code>
+       */
+      public int getUpdatesCount() {
+        if (updatesBuilder_ == null) {
+          return updates_.size();
+        } else {
+          return updatesBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .xtreemfs.pbrpc.xtreemfs_update_file_sizeRequest updates = 1;</code>
+       */
+      public org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_file_sizeRequest getUpdates(int index) {
+        if (updatesBuilder_ == null) {
+          return updates_.get(index);
+        } else {
+          return updatesBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .xtreemfs.pbrpc.xtreemfs_update_file_sizeRequest updates = 1;</code>
+       */
+      public Builder setUpdates(
+          int index, org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_file_sizeRequest value) {
+        if (updatesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureUpdatesIsMutable();
+          updates_.set(index, value);
+          onChanged();
+        } else {
+          updatesBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .xtreemfs.pbrpc.xtreemfs_update_file_sizeRequest updates = 1;</code>
+       */
+      public Builder setUpdates(
+          int index, org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_file_sizeRequest.Builder builderForValue) {
+        if (updatesBuilder_ == null) {
+          ensureUpdatesIsMutable();
+          updates_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          updatesBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .xtreemfs.pbrpc.xtreemfs_update_file_sizeRequest updates = 1;</code>
+       */
+      public Builder addUpdates(org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_file_sizeRequest value) {
+        if (updatesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureUpdatesIsMutable();
+          updates_.add(value);
+          onChanged();
+        } else {
+          updatesBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .xtreemfs.pbrpc.xtreemfs_update_file_sizeRequest updates = 1;</code>
+       */
+      public Builder addUpdates(
+          int index, org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_file_sizeRequest value) {
+        if (updatesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureUpdatesIsMutable();
+          updates_.add(index, value);
+          onChanged();
+        } else {
+          updatesBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .xtreemfs.pbrpc.xtreemfs_update_file_sizeRequest updates = 1;</code>
+       */
+      public Builder addUpdates(
+          org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_file_sizeRequest.Builder builderForValue) {
+        if (updatesBuilder_ == null) {
+          ensureUpdatesIsMutable();
+          updates_.add(builderForValue.build());
+          onChanged();
+        } else {
+          updatesBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .xtreemfs.pbrpc.xtreemfs_update_file_sizeRequest updates = 1;</code>
+       */
+      public Builder addUpdates(
+          int index, org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_file_sizeRequest.Builder builderForValue) {
+        if (updatesBuilder_ == null) {
+          ensureUpdatesIsMutable();
+          updates_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          updatesBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .xtreemfs.pbrpc.xtreemfs_update_file_sizeRequest updates = 1;</code>
+       */
+      public Builder addAllUpdates(
+          java.lang.Iterable<? extends org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_file_sizeRequest> values) {
+        if (updatesBuilder_ == null) {
+          ensureUpdatesIsMutable();
+          super.addAll(values, updates_);
+          onChanged();
+        } else {
+          updatesBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .xtreemfs.pbrpc.xtreemfs_update_file_sizeRequest updates = 1;</code>
+       */
+      public Builder clearUpdates() {
+        if (updatesBuilder_ == null) {
+          updates_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+          onChanged();
+        } else {
+          updatesBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .xtreemfs.pbrpc.xtreemfs_update_file_sizeRequest updates = 1;</code>
+       */
+      public Builder removeUpdates(int index) {
+        if (updatesBuilder_ == null) {
+          ensureUpdatesIsMutable();
+          updates_.remove(index);
+          onChanged();
+        } else {
+          updatesBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .xtreemfs.pbrpc.xtreemfs_update_file_sizeRequest updates = 1;</code>
+       */
+      public org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_file_sizeRequest.Builder getUpdatesBuilder(
+          int index) {
+        return getUpdatesFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .xtreemfs.pbrpc.xtreemfs_update_file_sizeRequest updates = 1;</code>
+       */
+      public org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_file_sizeRequestOrBuilder getUpdatesOrBuilder(
+          int index) {
+        if (updatesBuilder_ == null) {
+          return updates_.get(index);  } else {
+          return updatesBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .xtreemfs.pbrpc.xtreemfs_update_file_sizeRequest updates = 1;</code>
+       */
+      public java.util.List<? extends org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_file_sizeRequestOrBuilder> 
+           getUpdatesOrBuilderList() {
+        if (updatesBuilder_ != null) {
+          return updatesBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(updates_);
+        }
+      }
+      /**
+       * <code>repeated .xtreemfs.pbrpc.xtreemfs_update_file_sizeRequest updates = 1;</code>
+       */
+      public org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_file_sizeRequest.Builder addUpdatesBuilder() {
+        return getUpdatesFieldBuilder().addBuilder(
+            org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_file_sizeRequest.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .xtreemfs.pbrpc.xtreemfs_update_file_sizeRequest updates = 1;</code>
+       */
+      public org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_file_sizeRequest.Builder addUpdatesBuilder(
+          int index) {
+        return getUpdatesFieldBuilder().addBuilder(
+            index, org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_file_sizeRequest.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .xtreemfs.pbrpc.xtreemfs_update_file_sizeRequest updates = 1;</code>
+       */
+      public java.util.List<org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_file_sizeRequest.Builder> 
+           getUpdatesBuilderList() {
+        return getUpdatesFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilder<
+          org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_file_sizeRequest, org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_file_sizeRequest.Builder, org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_file_sizeRequestOrBuilder> 
+          getUpdatesFieldBuilder() {
+        if (updatesBuilder_ == null) {
+          updatesBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
+              org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_file_sizeRequest, org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_file_sizeRequest.Builder, org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_file_sizeRequestOrBuilder>(
+                  updates_,
+                  ((bitField0_ & 0x00000001) == 0x00000001),
+                  getParentForChildren(),
+                  isClean());
+          updates_ = null;
+        }
+        return updatesBuilder_;
+      }
+
+      // @@protoc_insertion_point(builder_scope:xtreemfs.pbrpc.xtreemfs_update_file_sizesRequest)
+    }
+
+    static {
+      defaultInstance = new xtreemfs_update_file_sizesRequest(true);
+      defaultInstance.initFields();
+    }
+
+    // @@protoc_insertion_point(class_scope:xtreemfs.pbrpc.xtreemfs_update_file_sizesRequest)
+  }
+
+  public interface xtreemfs_update_file_sizesResponseOrBuilder
+      extends com.google.protobuf.MessageOrBuilder {
+
+    // repeated bool success = 1 [packed = true];
+    /**
+     * <code>repeated bool success = 1 [packed = true];</code>
+     *
+     * <pre>
+     * one flag per update, in the order of the request; false if the update
+     * was rejected, e.g. because of an invalid capability
+     * </pre>
+     */
+    java.util.List<java.lang.Boolean> getSuccessList();
+    /**
+     * <code>repeated bool success = 1 [packed = true];</code>
+     *
+     * <pre>
+     * one flag per update, in the order of the request; false if the update
+     * was rejected, e.g. because of an invalid capability
+     * </pre>
+     */
+    int getSuccessCount();
+    /**
+     * <code>repeated bool success = 1 [packed = true];</code>
+     *
+     * <pre>
+     * one flag per update, in the order of the request; false if the update
+     * was rejected, e.g. because of an invalid capability
+     * </pre>
+     */
+    boolean getSuccess(int index);
+  }
+  /**
+   * Protobuf type {@code xtreemfs.pbrpc.xtreemfs_update_file_sizesResponse}
+   */
+  public static final class xtreemfs_update_file_sizesResponse extends
+      com.google.protobuf.GeneratedMessage
+      implements xtreemfs_update_file_sizesResponseOrBuilder {
+    // Use xtreemfs_update_file_sizesResponse.newBuilder() to construct.
+    private xtreemfs_update_file_sizesResponse(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+      this.unknownFields = builder.getUnknownFields();
+    }
+    private xtreemfs_update_file_sizesResponse(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+    private static final xtreemfs_update_file_sizesResponse defaultInstance;
+    public static xtreemfs_update_file_sizesResponse getDefaultInstance() {
+      return defaultInstance;
+    }
+
+    public xtreemfs_update_file_sizesResponse getDefaultInstanceForType() {
+      return defaultInstance;
+    }
+
+    private final com.google.protobuf.UnknownFieldSet unknownFields;
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+        getUnknownFields() {
+      return this.unknownFields;
+    }
+    private xtreemfs_update_file_sizesResponse(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      initFields();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 8: {
+              if (!((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
+                success_ = new java.util.ArrayList<java.lang.Boolean>();
+                mutable_bitField0_ |= 0x00000001;
+              }
+              success_.add(input.readBool());
+              break;
+            }
+            case 10: {
+              int length = input.readRawVarint32();
+              int limit = input.pushLimit(length);
+              if (!((mutable_bitField0_ & 0x00000001) == 0x00000001) && input.getBytesUntilLimit() > 0) {
+                success_ = new java.util.ArrayList<java.lang.Boolean>();
+                mutable_bitField0_ |= 0x00000001;
+              }
+              while (input.getBytesUntilLimit() > 0) {
+                success_.add(input.readBool());
+              }
+              input.popLimit(limit);
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e.getMessage()).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
+          success_ = java.util.Collections.unmodifiableList(success_);
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.xtreemfs.pbrpc.generatedinterfaces.MRC.internal_static_xtreemfs_pbrpc_xtreemfs_update_file_sizesResponse_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.xtreemfs.pbrpc.generatedinterfaces.MRC.internal_static_xtreemfs_pbrpc_xtreemfs_update_file_sizesResponse_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_file_sizesResponse.class, org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_file_sizesResponse.Builder.class);
+    }
+
+    public static com.google.protobuf.Parser<xtreemfs_update_file_sizesResponse> PARSER =
+        new com.google.protobuf.AbstractParser<xtreemfs_update_file_sizesResponse>() {
+      public xtreemfs_update_file_sizesResponse parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new xtreemfs_update_file_sizesResponse(input, extensionRegistry);
+      }
+    };
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<xtreemfs_update_file_sizesResponse> getParserForType() {
+      return PARSER;
+    }
+
+    // repeated bool success = 1 [packed = true];
+    public static final int SUCCESS_FIELD_NUMBER = 1;
+    private java.util.List<java.lang.Boolean> success_;
+    /**
+     * <code>repeated bool success = 1 [packed = true];</code>
+     *
+     * <pre>
+     * one flag per update, in the order of the request; false if the update
+     * was rejected, e.g. because of an invalid capability
+     * </pre>
+     */
+    public java.util.List<java.lang.Boolean>
+        getSuccessList() {
+      return success_;
+    }
+    /**
+     * <code>repeated bool success = 1 [packed = true];</code>
+     *
+     * <pre>
+     * one flag per update, in the order of the request; false if the update
+     * was rejected, e.g. because of an invalid capability
+     * </pre>
+     */
+    public int getSuccessCount() {
+      return success_.size();
+    }
+    /**
+     * <code>repeated bool success = 1 [packed = true];</code>
+     *
+     * <pre>
+     * one flag per update, in the order of the request; false if the update
+     * was rejected, e.g. because of an invalid capability
+     * </pre>
+     */
+    public boolean getSuccess(int index) {
+      return success_.get(index);
+    }
+    private int successMemoizedSerializedSize = -1;
+
+    private void initFields() {
+      success_ = java.util.Collections.emptyList();
+    }
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized != -1) return isInitialized == 1;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (getSuccessList().size() > 0) {
+        output.writeRawVarint32(10);
+        output.writeRawVarint32(successMemoizedSerializedSize);
+      }
+      for (int i = 0; i < success_.size(); i++) {
+        output.writeBoolNoTag(success_.get(i));
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    private int memoizedSerializedSize = -1;
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      {
+        int dataSize = 0;
+        dataSize = 1 * getSuccessList().size();
+        size += dataSize;
+        if (!getSuccessList().isEmpty()) {
+          size += 1;
+          size += com.google.protobuf.CodedOutputStream
+              .computeInt32SizeNoTag(dataSize);
+        }
+        successMemoizedSerializedSize = dataSize;
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSerializedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
+      return super.writeReplace();
+    }
+
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_file_sizesResponse parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_file_sizesResponse parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_file_sizesResponse parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_file_sizesResponse parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_file_sizesResponse parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_file_sizesResponse parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_file_sizesResponse parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_file_sizesResponse parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_file_sizesResponse parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_file_sizesResponse parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_file_sizesResponse prototype) {
+      return newBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() { return newBuilder(this); }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code xtreemfs.pbrpc.xtreemfs_update_file_sizesResponse}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder>
+       implements org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_file_sizesResponseOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.xtreemfs.pbrpc.generatedinterfaces.MRC.internal_static_xtreemfs_pbrpc_xtreemfs_update_file_sizesResponse_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.xtreemfs.pbrpc.generatedinterfaces.MRC.internal_static_xtreemfs_pbrpc_xtreemfs_update_file_sizesResponse_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_file_sizesResponse.class, org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_file_sizesResponse.Builder.class);
+      }
+
+      // Construct using org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_file_sizesResponse.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+        }
+      }
+      private static Builder create() {
+        return new Builder();
+      }
+
+      public Builder clear() {
+        super.clear();
+        success_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        return this;
+      }
+
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.xtreemfs.pbrpc.generatedinterfaces.MRC.internal_static_xtreemfs_pbrpc_xtreemfs_update_file_sizesResponse_descriptor;
+      }
+
+      public org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_file_sizesResponse getDefaultInstanceForType() {
+        return org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_file_sizesResponse.getDefaultInstance();
+      }
+
+      public org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_file_sizesResponse build() {
+        org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_file_sizesResponse result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_file_sizesResponse buildPartial() {
+        org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_file_sizesResponse result = new org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_file_sizesResponse(this);
+        int from_bitField0_ = bitField0_;
+        if (((bitField0_ & 0x00000001) == 0x00000001)) {
+          success_ = java.util.Collections.unmodifiableList(success_);
+          bitField0_ = (bitField0_ & ~0x00000001);
+        }
+        result.success_ = success_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_file_sizesResponse) {
+          return mergeFrom((org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_file_sizesResponse)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_file_sizesResponse other) {
+        if (other == org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_file_sizesResponse.getDefaultInstance()) return this;
+        if (!other.success_.isEmpty()) {
+          if (success_.isEmpty()) {
+            success_ = other.success_;
+            bitField0_ = (bitField0_ & ~0x00000001);
+          } else {
+            ensureSuccessIsMutable();
+            success_.addAll(other.success_);
+          }
+          onChanged();
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_file_sizesResponse parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_file_sizesResponse) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      // repeated bool success = 1 [packed = true];
+      private java.util.List<java.lang.Boolean> success_ = java.util.Collections.emptyList();
+      private void ensureSuccessIsMutable() {
+        if (!((bitField0_ & 0x00000001) == 0x00000001)) {
+          success_ = new java.util.ArrayList<java.lang.Boolean>(success_);
+          bitField0_ |= 0x00000001;
+         }
+      }
+      /**
+       * <code>repeated bool success = 1 [packed = true];</code>
+       *
+       * <pre>
+       * one flag per update, in the order of the request; false if the update
+       * was rejected, e.g. because of an invalid capability
+       * </pre>
+       */
+      public java.util.List<java.lang.Boolean>
+          getSuccessList() {
+        return java.util.Collections.unmodifiableList(success_);
+      }
+      /**
+       * <code>repeated bool success = 1 [packed = true];</code>
+       *
+       * <pre>
+       * one flag per update, in the order of the request; false if the update
+       * was rejected, e.g. because of an invalid capability
+       * </pre>
+       */
+      public int getSuccessCount() {
+        return success_.size();
+      }
+      /**
+       * <code>repeated bool success = 1 [packed = true];</code>
+       *
+       * <pre>
+       * one flag per update, in the order of the request; false if the update
+       * was rejected, e.g. because of an invalid capability
+       * </pre>
+       */
+      public boolean getSuccess(int index) {
+        return success_.get(index);
+      }
+      /**
+       * <code>repeated bool success = 1 [packed = true];</code>
+       *
+       * <pre>
+       * one flag per update, in the order of the request; false if the update
+       * was rejected, e.g. because of an invalid capability
+       * </pre>
+       */
+      public Builder setSuccess(
+          int index, boolean value) {
+        ensureSuccessIsMutable();
+        success_.set(index, value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated bool success = 1 [packed = true];</code>
+       *
+       * <pre>
+       * one flag per update, in the order of the request; false if the update
+       * was rejected, e.g. because of an invalid capability
+       * </pre>
+       */
+      public Builder addSuccess(boolean value) {
+        ensureSuccessIsMutable();
+        success_.add(value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated bool success = 1 [packed = true];</code>
+       *
+       * <pre>
+       * one flag per update, in the order of the request; false if the update
+       * was rejected, e.g. because of an invalid capability
+       * </pre>
+       */
+      public Builder addAllSuccess(
+          java.lang.Iterable<? extends java.lang.Boolean> values) {
+        ensureSuccessIsMutable();
+        super.addAll(values, success_);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated bool success = 1 [packed = true];</code>
+       *
+       * <pre>
+       * one flag per update, in the order of the request; false if the update
+       * was rejected, e.g. because of an invalid capability
+       * </pre>
+       */
+      public Builder clearSuccess() {
+        success_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:xtreemfs.pbrpc.xtreemfs_update_file_sizesResponse)
+    }
+
+    static {
+      defaultInstance = new xtreemfs_update_file_sizesResponse(true);
+      defaultInstance.initFields();
+    }
+
+    // @@protoc_insertion_point(class_scope:xtreemfs.pbrpc.xtreemfs_update_file_sizesResponse)
+  }
+
+  public interface xtreemfs_create_filesRequestOrBuilder
+      extends com.google.protobuf.MessageOrBuilder {
+
+    // required string volume_name = 1;
+    /**
+     * <code>required string volume_name = 1;</code>
+     *
+     * <pre>
+     * the volume name
+     * </pre>
+     */
+    boolean hasVolumeName();
+    /**
+     * <code>required string volume_name = 1;</code>
+     *
+     * <pre>
+     * the volume name
+     * </pre>
+     */
+    java.lang.String getVolumeName();
+    /**
+     * <code>required string volume_name = 1;</code>
+     *
+     * <pre>
+     * the volume name
+     * </pre>
+     */
+    com.google.protobuf.ByteString
+        getVolumeNameBytes();
+
+    // required string dir_path = 2;
+    /**
+     * <code>required string dir_path = 2;</code>
+     *
+     * <pre>
+     * the path to the parent directory, relative to the volume root
+     * </pre>
+     */
+    boolean hasDirPath();
+    /**
+     * <code>required string dir_path = 2;</code>
+     *
+     * <pre>
+     * the path to the parent directory, relative to the volume root
+     * </pre>
+     */
+    java.lang.String getDirPath();
+    /**
+     * <code>required string dir_path = 2;</code>
+     *
+     * <pre>
+     * the path to the parent directory, relative to the volume root
+     * </pre>
+     */
+    com.google.protobuf.ByteString
+        getDirPathBytes();
+
+    // repeated string names = 3;
+    /**
+     * <code>repeated string names = 3;</code>
+     *
+     * <pre>
+     * the names of the files in the parent directory
+     * </pre>
+     */
+    java.util.List<java.lang.String>
+    getNamesList();
+    /**
+     * <code>repeated string names = 3;</code>
+     *
+     * <pre>
+     * the names of the files in the parent directory
+     * </pre>
+     */
+    int getNamesCount();
+    /**
+     * <code>repeated string names = 3;</code>
+     *
+     * <pre>
+     * the names of the files in the parent directory
+     * </pre>
+     */
+    java.lang.String getNames(int index);
+    /**
+     * <code>repeated string names = 3;</code>
+     *
+     * <pre>
+     * the names of the files in the parent directory
+     * </pre>
+     */
+    com.google.protobuf.ByteString
+        getNamesBytes(int index);
+
+    // required fixed32 flags = 4;
+    /**
+     * <code>required fixed32 flags = 4;</code>
+     *
+     * <pre>
+     * a bitmap of open flags as in openRequest; O_CREAT is implied
+     * </pre>
+     */
+    boolean hasFlags();
+    /**
+     * <code>required fixed32 flags = 4;</code>
+     *
+     * <pre>
+     * a bitmap of open flags as in openRequest; O_CREAT is implied
+     * </pre>
+     */
+    int getFlags();
+
+    // required fixed32 mode = 5;
+    /**
+     * <code>required fixed32 mode = 5;</code>
+     *
+     * <pre>
+     * the initial access mode for newly created files
+     * </pre>
+     */
+    boolean hasMode();
+    /**
+     * <code>required fixed32 mode = 5;</code>
+     *
+     * <pre>
+     * the initial access mode for newly created files
+     * </pre>
+     */
+    int getMode();
+
+    // required fixed32 attributes = 6;
+    /**
+     * <code>required fixed32 attributes = 6;</code>
+     *
+     * <pre>
+     * the initial set of Win32-specific attributes
+     * </pre>
+     */
+    boolean hasAttributes();
+    /**
+     * <code>required fixed32 attributes = 6;</code>
+     *
+     * <pre>
+     * the initial set of Win32-specific attributes
+     * </pre>
+     */
+    int getAttributes();
+
+    // optional .xtreemfs.pbrpc.VivaldiCoordinates coordinates = 7;
+    /**
+     * <code>optional .xtreemfs.pbrpc.VivaldiCoordinates coordinates = 7;</code>
+     *
+     * <pre>
+     * optional set of Vivaldi cooridnates of the client, which can be
+     * used to select OSDs and order the list of replicas
+     * </pre>
+     */
+    boolean hasCoordinates();
+    /**
+     * <code>optional .xtreemfs.pbrpc.VivaldiCoordinates coordinates = 7;</code>
+     *
+     * <pre>
+     * optional set of Vivaldi cooridnates of the client, which can be
+     * used to select OSDs and order the list of replicas
+     * </pre>
+     */
+    org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.VivaldiCoordinates getCoordinates();
+    /**
+     * <code>optional .xtreemfs.pbrpc.VivaldiCoordinates coordinates = 7;</code>
+     *
+     * <pre>
+     * optional set of Vivaldi cooridnates of the client, which can be
+     * used to select OSDs and order the list of replicas
+     * </pre>
+     */
+    org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.VivaldiCoordinatesOrBuilder getCoordinatesOrBuilder();
+  }
+  /**
+   * Protobuf type {@code xtreemfs.pbrpc.xtreemfs_create_filesRequest}
+   *
+   * <pre>
+   * opens multiple files in the same directory at once; the files are
+   * created if they do not exist
+   * </pre>
+   */
+  public static final class xtreemfs_create_filesRequest extends
+      com.google.protobuf.GeneratedMessage
+      implements xtreemfs_create_filesRequestOrBuilder {
+    // Use xtreemfs_create_filesRequest.newBuilder() to construct.
+    private xtreemfs_create_filesRequest(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+      this.unknownFields = builder.getUnknownFields();
+    }
+    private xtreemfs_create_filesRequest(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+    private static final xtreemfs_create_filesRequest defaultInstance;
+    public static xtreemfs_create_filesRequest getDefaultInstance() {
+      return defaultInstance;
+    }
+
+    public xtreemfs_create_filesRequest getDefaultInstanceForType() {
+      return defaultInstance;
+    }
+
+    private final com.google.protobuf.UnknownFieldSet unknownFields;
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+        getUnknownFields() {
+      return this.unknownFields;
+    }
+    private xtreemfs_create_filesRequest(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      initFields();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 10: {
+              bitField0_ |= 0x00000001;
+              volumeName_ = input.readBytes();
+              break;
+            }
+            case 18: {
+              bitField0_ |= 0x00000002;
+              dirPath_ = input.readBytes();
+              break;
+            }
+            case 26: {
+              if (!((mutable_bitField0_ & 0x00000004) == 0x00000004)) {
+                names_ = new com.google.protobuf.LazyStringArrayList();
+                mutable_bitField0_ |= 0x00000004;
+              }
+              names_.add(input.readBytes());
+              break;
+            }
+            case 37: {
+              bitField0_ |= 0x00000004;
+              flags_ = input.readFixed32();
+              break;
+            }
+            case 45: {
+              bitField0_ |= 0x00000008;
+              mode_ = input.readFixed32();
+              break;
+            }
+            case 53: {
+              bitField0_ |= 0x00000010;
+              attributes_ = input.readFixed32();
+              break;
+            }
+            case 58: {
+              org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.VivaldiCoordinates.Builder subBuilder = null;
+              if (((bitField0_ & 0x00000020) == 0x00000020)) {
+                subBuilder = coordinates_.toBuilder();
+              }
+              coordinates_ = input.readMessage(org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.VivaldiCoordinates.PARSER, extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(coordinates_);
+                coordinates_ = subBuilder.buildPartial();
+              }
+              bitField0_ |= 0x00000020;
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e.getMessage()).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000004) == 0x00000004)) {
+          names_ = new com.google.protobuf.UnmodifiableLazyStringList(names_);
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.xtreemfs.pbrpc.generatedinterfaces.MRC.internal_static_xtreemfs_pbrpc_xtreemfs_create_filesRequest_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.xtreemfs.pbrpc.generatedinterfaces.MRC.internal_static_xtreemfs_pbrpc_xtreemfs_create_filesRequest_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_create_filesRequest.class, org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_create_filesRequest.Builder.class);
+    }
+
+    public static com.google.protobuf.Parser<xtreemfs_create_filesRequest> PARSER =
+        new com.google.protobuf.AbstractParser<xtreemfs_create_filesRequest>() {
+      public xtreemfs_create_filesRequest parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new xtreemfs_create_filesRequest(input, extensionRegistry);
+      }
+    };
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<xtreemfs_create_filesRequest> getParserForType() {
+      return PARSER;
+    }
+
+    private int bitField0_;
+    // required string volume_name = 1;
+    public static final int VOLUME_NAME_FIELD_NUMBER = 1;
+    private java.lang.Object volumeName_;
+    /**
+     * <code>required string volume_name = 1;</code>
+     *
+     * <pre>
+     * the volume name
+     * </pre>
+     */
+    public boolean hasVolumeName() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    /**
+     * <code>required string volume_name = 1;</code>
+     *
+     * <pre>
+     * the volume name
+     * </pre>
+     */
+    public java.lang.String getVolumeName() {
+      java.lang.Object ref = volumeName_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          volumeName_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>required string volume_name = 1;</code>
+     *
+     * <pre>
+     * the volume name
+     * </pre>
+     */
+    public com.google.protobuf.ByteString
+        getVolumeNameBytes() {
+      java.lang.Object ref = volumeName_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        volumeName_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    // required string dir_path = 2;
+    public static final int DIR_PATH_FIELD_NUMBER = 2;
+    private java.lang.Object dirPath_;
+    /**
+     * <code>required string dir_path = 2;</code>
+     *
+     * <pre>
+     * the path to the parent directory, relative to the volume root
+     * </pre>
+     */
+    public boolean hasDirPath() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
+    }
+    /**
+     * <code>required string dir_path = 2;</code>
+     *
+     * <pre>
+     * the path to the parent directory, relative to the volume root
+     * </pre>
+     */
+    public java.lang.String getDirPath() {
+      java.lang.Object ref = dirPath_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          dirPath_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>required string dir_path = 2;</code>
+     *
+     * <pre>
+     * the path to the parent directory, relative to the volume root
+     * </pre>
+     */
+    public com.google.protobuf.ByteString
+        getDirPathBytes() {
+      java.lang.Object ref = dirPath_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        dirPath_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    // repeated string names = 3;
+    public static final int NAMES_FIELD_NUMBER = 3;
+    private com.google.protobuf.LazyStringList names_;
+    /**
+     * <code>repeated string names = 3;</code>
+     *
+     * <pre>
+     * the names of the files in the parent directory
+     * </pre>
+     */
+    public java.util.List<java.lang.String>
+        getNamesList() {
+      return names_;
+    }
+    /**
+     * <code>repeated string names = 3;</code>
+     *
+     * <pre>
+     * the names of the files in the parent directory
+     * </pre>
+     */
+    public int getNamesCount() {
+      return names_.size();
+    }
+    /**
+     * <code>repeated string names = 3;</code>
+     *
+     * <pre>
+     * the names of the files in the parent directory
+     * </pre>
+     */
+    public java.lang.String getNames(int index) {
+      return names_.get(index);
+    }
+    /**
+     * <code>repeated string names = 3;</code>
+     *
+     * <pre>
+     * the names of the files in the parent directory
+     * </pre>
+     */
+    public com.google.protobuf.ByteString
+        getNamesBytes(int index) {
+      return names_.getByteString(index);
+    }
+
+    // required fixed32 flags = 4;
+    public static final int FLAGS_FIELD_NUMBER = 4;
+    private int flags_;
+    /**
+     * <code>required fixed32 flags = 4;</code>
+     *
+     * <pre>
+     * a bitmap of open flags as in openRequest; O_CREAT is implied
+     * </pre>
+     */
+    public boolean hasFlags() {
+      return ((bitField0_ & 0x00000004) == 0x00000004);
+    }
+    /**
+     * <code>required fixed32 flags = 4;</code>
+     *
+     * <pre>
+     * a bitmap of open flags as in openRequest; O_CREAT is implied
+     * </pre>
+     */
+    public int getFlags() {
+      return flags_;
+    }
+
+    // required fixed32 mode = 5;
+    public static final int MODE_FIELD_NUMBER = 5;
+    private int mode_;
+    /**
+     * <code>required fixed32 mode = 5;</code>
+     *
+     * <pre>
+     * the initial access mode for newly created files
+     * </pre>
+     */
+    public boolean hasMode() {
+      return ((bitField0_ & 0x00000008) == 0x00000008);
+    }
+    /**
+     * <code>required fixed32 mode = 5;</code>
+     *
+     * <pre>
+     * the initial access mode for newly created files
+     * </pre>
+     */
+    public int getMode() {
+      return mode_;
+    }
+
+    // required fixed32 attributes = 6;
+    public static final int ATTRIBUTES_FIELD_NUMBER = 6;
+    private int attributes_;
+    /**
+     * <code>required fixed32 attributes = 6;</code>
+     *
+     * <pre>
+     * the initial set of Win32-specific attributes
+     * </pre>
+     */
+    public boolean hasAttributes() {
+      return ((bitField0_ & 0x00000010) == 0x00000010);
+    }
+    /**
+     * <code>required fixed32 attributes = 6;</code>
+     *
+     * <pre>
+     * the initial set of Win32-specific attributes
+     * </pre>
+     */
+    public int getAttributes() {
+      return attributes_;
+    }
+
+    // optional .xtreemfs.pbrpc.VivaldiCoordinates coordinates = 7;
+    public static final int COORDINATES_FIELD_NUMBER = 7;
+    private org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.VivaldiCoordinates coordinates_;
+    /**
+     * <code>optional .xtreemfs.pbrpc.VivaldiCoordinates coordinates = 7;</code>
+     *
+     * <pre>
+     * optional set of Vivaldi cooridnates of the client, which can be
+     * used to select OSDs and order the list of replicas
+     * </pre>
+     */
+    public boolean hasCoordinates() {
+      return ((bitField0_ & 0x00000020) == 0x00000020);
+    }
+    /**
+     * <code>optional .xtreemfs.pbrpc.VivaldiCoordinates coordinates = 7;</code>
+     *
+     * <pre>
+     * optional set of Vivaldi cooridnates of the client, which can be
+     * used to select OSDs and order the list of replicas
+     * </pre>
+     */
+    public org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.VivaldiCoordinates getCoordinates() {
+      return coordinates_;
+    }
+    /**
+     * <code>optional .xtreemfs.pbrpc.VivaldiCoordinates coordinates = 7;</code>
+     *
+     * <pre>
+     * optional set of Vivaldi cooridnates of the client, which can be
+     * used to select OSDs and order the list of replicas
+     * </pre>
+     */
+    public org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.VivaldiCoordinatesOrBuilder getCoordinatesOrBuilder() {
+      return coordinates_;
+    }
+
+    private void initFields() {
+      volumeName_ = "";
+      dirPath_ = "";
+      names_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+      flags_ = 0;
+      mode_ = 0;
+      attributes_ = 0;
+      coordinates_ = org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.VivaldiCoordinates.getDefaultInstance();
+    }
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized != -1) return isInitialized == 1;
+
+      if (!hasVolumeName()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!hasDirPath()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!hasFlags()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!hasMode()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!hasAttributes()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (hasCoordinates()) {
+        if (!getCoordinates().isInitialized()) {
+          memoizedIsInitialized = 0;
+          return false;
+        }
+      }
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeBytes(1, getVolumeNameBytes());
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        output.writeBytes(2, getDirPathBytes());
+      }
+      for (int i = 0; i < names_.size(); i++) {
+        output.writeBytes(3, names_.getByteString(i));
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        output.writeFixed32(4, flags_);
+      }
+      if (((bitField0_ & 0x00000008) == 0x00000008)) {
+        output.writeFixed32(5, mode_);
+      }
+      if (((bitField0_ & 0x00000010) == 0x00000010)) {
+        output.writeFixed32(6, attributes_);
+      }
+      if (((bitField0_ & 0x00000020) == 0x00000020)) {
+        output.writeMessage(7, coordinates_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    private int memoizedSerializedSize = -1;
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(1, getVolumeNameBytes());
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(2, getDirPathBytes());
+      }
+      {
+        int dataSize = 0;
+        for (int i = 0; i < names_.size(); i++) {
+          dataSize += com.google.protobuf.CodedOutputStream
+            .computeBytesSizeNoTag(names_.getByteString(i));
+        }
+        size += dataSize;
+        size += 1 * getNamesList().size();
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeFixed32Size(4, flags_);
+      }
+      if (((bitField0_ & 0x00000008) == 0x00000008)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeFixed32Size(5, mode_);
+      }
+      if (((bitField0_ & 0x00000010) == 0x00000010)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeFixed32Size(6, attributes_);
+      }
+      if (((bitField0_ & 0x00000020) == 0x00000020)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(7, coordinates_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSerializedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
+      return super.writeReplace();
+    }
+
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_create_filesRequest parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_create_filesRequest parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_create_filesRequest parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_create_filesRequest parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_create_filesRequest parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_create_filesRequest parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_create_filesRequest parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_create_filesRequest parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_create_filesRequest parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_create_filesRequest parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_create_filesRequest prototype) {
+      return newBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() { return newBuilder(this); }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code xtreemfs.pbrpc.xtreemfs_create_filesRequest}
+     *
+     * <pre>
+     * opens multiple files in the same directory at once; the files are
+     * created if they do not exist
+     * </pre>
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder>
+       implements org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_create_filesRequestOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.xtreemfs.pbrpc.generatedinterfaces.MRC.internal_static_xtreemfs_pbrpc_xtreemfs_create_filesRequest_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.xtreemfs.pbrpc.generatedinterfaces.MRC.internal_static_xtreemfs_pbrpc_xtreemfs_create_filesRequest_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_create_filesRequest.class, org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_create_filesRequest.Builder.class);
+      }
+
+      // Construct using org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_create_filesRequest.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+          getCoordinatesFieldBuilder();
+        }
+      }
+      private static Builder create() {
+        return new Builder();
+      }
+
+      public Builder clear() {
+        super.clear();
+        volumeName_ = "";
+        bitField0_ = (bitField0_ & ~0x00000001);
+        dirPath_ = "";
+        bitField0_ = (bitField0_ & ~0x00000002);
+        names_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+        bitField0_ = (bitField0_ & ~0x00000004);
+        flags_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000008);
+        mode_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000010);
+        attributes_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000020);
+        if (coordinatesBuilder_ == null) {
+          coordinates_ = org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.VivaldiCoordinates.getDefaultInstance();
+        } else {
+          coordinatesBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000040);
+        return this;
+      }
+
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.xtreemfs.pbrpc.generatedinterfaces.MRC.internal_static_xtreemfs_pbrpc_xtreemfs_create_filesRequest_descriptor;
+      }
+
+      public org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_create_filesRequest getDefaultInstanceForType() {
+        return org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_create_filesRequest.getDefaultInstance();
+      }
+
+      public org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_create_filesRequest build() {
+        org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_create_filesRequest result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_create_filesRequest buildPartial() {
+        org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_create_filesRequest result = new org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_create_filesRequest(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.volumeName_ = volumeName_;
+        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+          to_bitField0_ |= 0x00000002;
+        }
+        result.dirPath_ = dirPath_;
+        if (((bitField0_ & 0x00000004) == 0x00000004)) {
+          names_ = new com.google.protobuf.UnmodifiableLazyStringList(
+              names_);
+          bitField0_ = (bitField0_ & ~0x00000004);
+        }
+        result.names_ = names_;
+        if (((from_bitField0_ & 0x00000008) == 0x00000008)) {
+          to_bitField0_ |= 0x00000004;
+        }
+        result.flags_ = flags_;
+        if (((from_bitField0_ & 0x00000010) == 0x00000010)) {
+          to_bitField0_ |= 0x00000008;
+        }
+        result.mode_ = mode_;
+        if (((from_bitField0_ & 0x00000020) == 0x00000020)) {
+          to_bitField0_ |= 0x00000010;
+        }
+        result.attributes_ = attributes_;
+        if (((from_bitField0_ & 0x00000040) == 0x00000040)) {
+          to_bitField0_ |= 0x00000020;
+        }
+        if (coordinatesBuilder_ == null) {
+          result.coordinates_ = coordinates_;
+        } else {
+          result.coordinates_ = coordinatesBuilder_.build();
+        }
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_create_filesRequest) {
+          return mergeFrom((org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_create_filesRequest)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_create_filesRequest other) {
+        if (other == org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_create_filesRequest.getDefaultInstance()) return this;
+        if (other.hasVolumeName()) {
+          bitField0_ |= 0x00000001;
+          volumeName_ = other.volumeName_;
+          onChanged();
+        }
+        if (other.hasDirPath()) {
+          bitField0_ |= 0x00000002;
+          dirPath_ = other.dirPath_;
+          onChanged();
+        }
+        if (!other.names_.isEmpty()) {
+          if (names_.isEmpty()) {
+            names_ = other.names_;
+            bitField0_ = (bitField0_ & ~0x00000004);
+          } else {
+            ensureNamesIsMutable();
+            names_.addAll(other.names_);
+          }
+          onChanged();
+        }
+        if (other.hasFlags()) {
+          setFlags(other.getFlags());
+        }
+        if (other.hasMode()) {
+          setMode(other.getMode());
+        }
+        if (other.hasAttributes()) {
+          setAttributes(other.getAttributes());
+        }
+        if (other.hasCoordinates()) {
+          mergeCoordinates(other.getCoordinates());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        if (!hasVolumeName()) {
+          
+          return false;
+        }
+        if (!hasDirPath()) {
+          
+          return false;
+        }
+        if (!hasFlags()) {
+          
+          return false;
+        }
+        if (!hasMode()) {
+          
+          return false;
+        }
+        if (!hasAttributes()) {
+          
+          return false;
+        }
+        if (hasCoordinates()) {
+          if (!getCoordinates().isInitialized()) {
+            
+            return false;
+          }
+        }
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_create_filesRequest parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_create_filesRequest) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      // required string volume_name = 1;
+      private java.lang.Object volumeName_ = "";
+      /**
+       * <code>required string volume_name = 1;</code>
+       *
+       * <pre>
+       * the volume name
+       * </pre>
+       */
+      public boolean hasVolumeName() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      /**
+       * <code>required string volume_name = 1;</code>
+       *
+       * <pre>
+       * the volume name
+       * </pre>
+       */
+      public java.lang.String getVolumeName() {
+        java.lang.Object ref = volumeName_;
+        if (!(ref instanceof java.lang.String)) {
+          java.lang.String s = ((com.google.protobuf.ByteString) ref)
+              .toStringUtf8();
+          volumeName_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>required string volume_name = 1;</code>
+       *
+       * <pre>
+       * the volume name
+       * </pre>
+       */
+      public com.google.protobuf.ByteString
+          getVolumeNameBytes() {
+        java.lang.Object ref = volumeName_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          volumeName_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>required string volume_name = 1;</code>
+       *
+       * <pre>
+       * the volume name
+       * </pre>
+       */
+      public Builder setVolumeName(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+        volumeName_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required string volume_name = 1;</code>
+       *
+       * <pre>
+       * the volume name
+       * </pre>
+       */
+      public Builder clearVolumeName() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        volumeName_ = getDefaultInstance().getVolumeName();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required string volume_name = 1;</code>
+       *
+       * <pre>
+       * the volume name
+       * </pre>
+       */
+      public Builder setVolumeNameBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+        volumeName_ = value;
+        onChanged();
+        return this;
+      }
+
+      // required string dir_path = 2;
+      private java.lang.Object dirPath_ = "";
+      /**
+       * <code>required string dir_path = 2;</code>
+       *
+       * <pre>
+       * the path to the parent directory, relative to the volume root
+       * </pre>
+       */
+      public boolean hasDirPath() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
+      }
+      /**
+       * <code>required string dir_path = 2;</code>
+       *
+       * <pre>
+       * the path to the parent directory, relative to the volume root
+       * </pre>
+       */
+      public java.lang.String getDirPath() {
+        java.lang.Object ref = dirPath_;
+        if (!(ref instanceof java.lang.String)) {
+          java.lang.String s = ((com.google.protobuf.ByteString) ref)
+              .toStringUtf8();
+          dirPath_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>required string dir_path = 2;</code>
+       *
+       * <pre>
+       * the path to the parent directory, relative to the volume root
+       * </pre>
+       */
+      public com.google.protobuf.ByteString
+          getDirPathBytes() {
+        java.lang.Object ref = dirPath_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          dirPath_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>required string dir_path = 2;</code>
+       *
+       * <pre>
+       * the path to the parent directory, relative to the volume root
+       * </pre>
+       */
+      public Builder setDirPath(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+        dirPath_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required string dir_path = 2;</code>
+       *
+       * <pre>
+       * the path to the parent directory, relative to the volume root
+       * </pre>
+       */
+      public Builder clearDirPath() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        dirPath_ = getDefaultInstance().getDirPath();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required string dir_path = 2;</code>
+       *
+       * <pre>
+       * the path to the parent directory, relative to the volume root
+       * </pre>
+       */
+      public Builder setDirPathBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+        dirPath_ = value;
+        onChanged();
+        return this;
+      }
+
+      // repeated string names = 3;
+      private com.google.protobuf.LazyStringList names_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+      private void ensureNamesIsMutable() {
+        if (!((bitField0_ & 0x00000004) == 0x00000004)) {
+          names_ = new com.google.protobuf.LazyStringArrayList(names_);
+          bitField0_ |= 0x00000004;
+         }
+      }
+      /**
+       * <code>repeated string names = 3;</code>
+       *
+       * <pre>
+       * the names of the files in the parent directory
+       * </pre>
+       */
+      public java.util.List<java.lang.String>
+          getNamesList() {
+        return java.util.Collections.unmodifiableList(names_);
+      }
+      /**
+       * <code>repeated string names = 3;</code>
+       *
+       * <pre>
+       * the names of the files in the parent directory
+       * </pre>
+       */
+      public int getNamesCount() {
+        return names_.size();
+      }
+      /**
+       * <code>repeated string names = 3;</code>
+       *
+       * <pre>
+       * the names of the files in the parent directory
+       * </pre>
+       */
+      public java.lang.String getNames(int index) {
+        return names_.get(index);
+      }
+      /**
+       * <code>repeated string names = 3;</code>
+       *
+       * <pre>
+       * the names of the files in the parent directory
+       * </pre>
+       */
+      public com.google.protobuf.ByteString
+          getNamesBytes(int index) {
+        return names_.getByteString(index);
+      }
+      /**
+       * <code>repeated string names = 3;</code>
+       *
+       * <pre>
+       * the names of the files in the parent directory
+       * </pre>
+       */
+      public Builder setNames(
+          int index, java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureNamesIsMutable();
+        names_.set(index, value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string names = 3;</code>
+       *
+       * <pre>
+       * the names of the files in the parent directory
+       * </pre>
+       */
+      public Builder addNames(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureNamesIsMutable();
+        names_.add(value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string names = 3;</code>
+       *
+       * <pre>
+       * the names of the files in the parent directory
+       * </pre>
+       */
+      public Builder addAllNames(
+          java.lang.Iterable<java.lang.String> values) {
+        ensureNamesIsMutable();
+        super.addAll(values, names_);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string names = 3;</code>
+       *
+       * <pre>
+       * the names of the files in the parent directory
+       * </pre>
+       */
+      public Builder clearNames() {
+        names_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+        bitField0_ = (bitField0_ & ~0x00000004);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string names = 3;</code>
+       *
+       * <pre>
+       * the names of the files in the parent directory
+       * </pre>
+       */
+      public Builder addNamesBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureNamesIsMutable();
+        names_.add(value);
+        onChanged();
+        return this;
+      }
+
+      // required fixed32 flags = 4;
+      private int flags_ ;
+      /**
+       * <code>required fixed32 flags = 4;</code>
+       *
+       * <pre>
+       * a bitmap of open flags as in openRequest; O_CREAT is implied
+       * </pre>
+       */
+      public boolean hasFlags() {
+        return ((bitField0_ & 0x00000008) == 0x00000008);
+      }
+      /**
+       * <code>required fixed32 flags = 4;</code>
+       *
+       * <pre>
+       * a bitmap of open flags as in openRequest; O_CREAT is implied
+       * </pre>
+       */
+      public int getFlags() {
+        return flags_;
+      }
+      /**
+       * <code>required fixed32 flags = 4;</code>
+       *
+       * <pre>
+       * a bitmap of open flags as in openRequest; O_CREAT is implied
+       * </pre>
+       */
+      public Builder setFlags(int value) {
+        bitField0_ |= 0x00000008;
+        flags_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required fixed32 flags = 4;</code>
+       *
+       * <pre>
+       * a bitmap of open flags as in openRequest; O_CREAT is implied
+       * </pre>
+       */
+      public Builder clearFlags() {
+        bitField0_ = (bitField0_ & ~0x00000008);
+        flags_ = 0;
+        onChanged();
+        return this;
+      }
+
+      // required fixed32 mode = 5;
+      private int mode_ ;
+      /**
+       * <code>required fixed32 mode = 5;</code>
+       *
+       * <pre>
+       * the initial access mode for newly created files
+       * </pre>
+       */
+      public boolean hasMode() {
+        return ((bitField0_ & 0x00000010) == 0x00000010);
+      }
+      /**
+       * <code>required fixed32 mode = 5;</code>
+       *
+       * <pre>
+       * the initial access mode for newly created files
+       * </pre>
+       */
+      public int getMode() {
+        return mode_;
+      }
+      /**
+       * <code>required fixed32 mode = 5;</code>
+       *
+       * <pre>
+       * the initial access mode for newly created files
+       * </pre>
+       */
+      public Builder setMode(int value) {
+        bitField0_ |= 0x00000010;
+        mode_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required fixed32 mode = 5;</code>
+       *
+       * <pre>
+       * the initial access mode for newly created files
+       * </pre>
+       */
+      public Builder clearMode() {
+        bitField0_ = (bitField0_ & ~0x00000010);
+        mode_ = 0;
+        onChanged();
+        return this;
+      }
+
+      // required fixed32 attributes = 6;
+      private int attributes_ ;
+      /**
+       * <code>required fixed32 attributes = 6;</code>
+       *
+       * <pre>
+       * the initial set of Win32-specific attributes
+       * </pre>
+       */
+      public boolean hasAttributes() {
+        return ((bitField0_ & 0x00000020) == 0x00000020);
+      }
+      /**
+       * <code>required fixed32 attributes = 6;</code>
+       *
+       * <pre>
+       * the initial set of Win32-specific attributes
+       * </pre>
+       */
+      public int getAttributes() {
+        return attributes_;
+      }
+      /**
+       * <code>required fixed32 attributes = 6;</code>
+       *
+       * <pre>
+       * the initial set of Win32-specific attributes
+       * </pre>
+       */
+      public Builder setAttributes(int value) {
+        bitField0_ |= 0x00000020;
+        attributes_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required fixed32 attributes = 6;</code>
+       *
+       * <pre>
+       * the initial set of Win32-specific attributes
+       * </pre>
+       */
+      public Builder clearAttributes() {
+        bitField0_ = (bitField0_ & ~0x00000020);
+        attributes_ = 0;
+        onChanged();
+        return this;
+      }
+
+      // optional .xtreemfs.pbrpc.VivaldiCoordinates coordinates = 7;
+      private org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.VivaldiCoordinates coordinates_ = org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.VivaldiCoordinates.getDefaultInstance();
+      private com.google.protobuf.SingleFieldBuilder<
+          org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.VivaldiCoordinates, org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.VivaldiCoordinates.Builder, org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.VivaldiCoordinatesOrBuilder> coordinatesBuilder_;
+      /**
+       * <code>optional .xtreemfs.pbrpc.VivaldiCoordinates coordinates = 7;</code>
+       *
+       * <pre>
+       * optional set of Vivaldi cooridnates of the client, which can be
+       * used to select OSDs and order the list of replicas
+       * </pre>
+       */
+      public boolean hasCoordinates() {
+        return ((bitField0_ & 0x00000040) == 0x00000040);
+      }
+      /**
+       * <code>optional .xtreemfs.pbrpc.VivaldiCoordinates coordinates = 7;</code>
+       *
+       * <pre>
+       * optional set of Vivaldi cooridnates of the client, which can be
+       * used to select OSDs and order the list of replicas
+       * </pre>
+       */
+      public org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.VivaldiCoordinates getCoordinates() {
+        if (coordinatesBuilder_ == null) {
+          return coordinates_;
+        } else {
+          return coordinatesBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>optional .xtreemfs.pbrpc.VivaldiCoordinates coordinates = 7;</code>
+       *
+       * <pre>
+       * optional set of Vivaldi cooridnates of the client, which can be
+       * used to select OSDs and order the list of replicas
+       * </pre>
+       */
+      public Builder setCoordinates(org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.VivaldiCoordinates value) {
+        if (coordinatesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          coordinates_ = value;
+          onChanged();
+        } else {
+          coordinatesBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000040;
+        return this;
+      }
+      /**
+       * <code>optional .xtreemfs.pbrpc.VivaldiCoordinates coordinates = 7;</code>
+       *
+       * <pre>
+       * optional set of Vivaldi cooridnates of the client, which can be
+       * used to select OSDs and order the list of replicas
+       * </pre>
+       */
+      public Builder setCoordinates(
+          org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.VivaldiCoordinates.Builder builderForValue) {
+        if (coordinatesBuilder_ == null) {
+          coordinates_ = builderForValue.build();
+          onChanged();
+        } else {
+          coordinatesBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000040;
+        return this;
+      }
+      /**
+       * <code>optional .xtreemfs.pbrpc.VivaldiCoordinates coordinates = 7;</code>
+       *
+       * <pre>
+       * optional set of Vivaldi cooridnates of the client, which can be
+       * used to select OSDs and order the list of replicas
+       * </pre>
+       */
+      public Builder mergeCoordinates(org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.VivaldiCoordinates value) {
+        if (coordinatesBuilder_ == null) {
+          if (((bitField0_ & 0x00000040) == 0x00000040) &&
+              coordinates_ != org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.VivaldiCoordinates.getDefaultInstance()) {
+            coordinates_ =
+              org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.VivaldiCoordinates.newBuilder(coordinates_).mergeFrom(value).buildPartial();
+          } else {
+            coordinates_ = value;
+          }
+          onChanged();
+        } else {
+          coordinatesBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000040;
+        return this;
+      }
+      /**
+       * <code>optional .xtreemfs.pbrpc.VivaldiCoordinates coordinates = 7;</code>
+       *
+       * <pre>
+       * optional set of Vivaldi cooridnates of the client, which can be
+       * used to select OSDs and order the list of replicas
+       * </pre>
+       */
+      public Builder clearCoordinates() {
+        if (coordinatesBuilder_ == null) {
+          coordinates_ = org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.VivaldiCoordinates.getDefaultInstance();
+          onChanged();
+        } else {
+          coordinatesBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000040);
+        return this;
+      }
+      /**
+       * <code>optional .xtreemfs.pbrpc.VivaldiCoordinates coordinates = 7;</code>
+       *
+       * <pre>
+       * optional set of Vivaldi cooridnates of the client, which can be
+       * used to select OSDs and order the list of replicas
+       * </pre>
+       */
+      public org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.VivaldiCoordinates.Builder getCoordinatesBuilder() {
+        bitField0_ |= 0x00000040;
+        onChanged();
+        return getCoordinatesFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>optional .xtreemfs.pbrpc.VivaldiCoordinates coordinates = 7;</code>
+       *
+       * <pre>
+       * optional set of Vivaldi cooridnates of the client, which can be
+       * used to select OSDs and order the list of replicas
+       * </pre>
+       */
+      public org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.VivaldiCoordinatesOrBuilder getCoordinatesOrBuilder() {
+        if (coordinatesBuilder_ != null) {
+          return coordinatesBuilder_.getMessageOrBuilder();
+        } else {
+          return coordinates_;
+        }
+      }
+      /**
+       * <code>optional .xtreemfs.pbrpc.VivaldiCoordinates coordinates = 7;</code>
+       *
+       * <pre>
+       * optional set of Vivaldi cooridnates of the client, which can be
+       * used to select OSDs and order the list of replicas
+       * </pre>
+       */
+      private com.google.protobuf.SingleFieldBuilder<
+          org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.VivaldiCoordinates, org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.VivaldiCoordinates.Builder, org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.VivaldiCoordinatesOrBuilder> 
+          getCoordinatesFieldBuilder() {
+        if (coordinatesBuilder_ == null) {
+          coordinatesBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.VivaldiCoordinates, org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.VivaldiCoordinates.Builder, org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.VivaldiCoordinatesOrBuilder>(
+                  coordinates_,
+                  getParentForChildren(),
+                  isClean());
+          coordinates_ = null;
+        }
+        return coordinatesBuilder_;
+      }
+
+      // @@protoc_insertion_point(builder_scope:xtreemfs.pbrpc.xtreemfs_create_filesRequest)
+    }
+
+    static {
+      defaultInstance = new xtreemfs_create_filesRequest(true);
+      defaultInstance.initFields();
+    }
+
+    // @@protoc_insertion_point(class_scope:xtreemfs.pbrpc.xtreemfs_create_filesRequest)
+  }
+
+  public interface xtreemfs_create_filesResponseOrBuilder
+      extends com.google.protobuf.MessageOrBuilder {
+
+    // repeated .xtreemfs.pbrpc.openResponse files = 1;
+    /**
+     * <code>repeated .xtreemfs.pbrpc.openResponse files = 1;</code>
+     *
+     * <pre>
+     * the file credentials and timestamps, in the order of the request
+     * </pre>
+     */
+    java.util.List<org.xtreemfs.pbrpc.generatedinterfaces.MRC.openResponse> 
+        getFilesList();
+    /**
+     * <code>repeated .xtreemfs.pbrpc.openResponse files = 1;</code>
+     *
+     * <pre>
+     * the file credentials and timestamps, in the order of the request
+     * </pre>
+     */
+    org.xtreemfs.pbrpc.generatedinterfaces.MRC.openResponse getFiles(int index);
+    /**
+     * <code>repeated .xtreemfs.pbrpc.openResponse files = 1;</code>
+     *
+     * <pre>
+     * the file credentials and timestamps, in the order of the request
+     * </pre>
+     */
+    int getFilesCount();
+    /**
+     * <code>repeated .xtreemfs.pbrpc.openResponse files = 1;</code>
+     *
+     * <pre>
+     * the file credentials and timestamps, in the order of the request
+     * </pre>
+     */
+    java.util.List<? extends org.xtreemfs.pbrpc.generatedinterfaces.MRC.openResponseOrBuilder> 
+        getFilesOrBuilderList();
+    /**
+     * <code>repeated .xtreemfs.pbrpc.openResponse files = 1;</code>
+     *
+     * <pre>
+     * the file credentials and timestamps, in the order of the request
+     * </pre>
+     */
+    org.xtreemfs.pbrpc.generatedinterfaces.MRC.openResponseOrBuilder getFilesOrBuilder(
+        int index);
+  }
+  /**
+   * Protobuf type {@code xtreemfs.pbrpc.xtreemfs_create_filesResponse}
+   */
+  public static final class xtreemfs_create_filesResponse extends
+      com.google.protobuf.GeneratedMessage
+      implements xtreemfs_create_filesResponseOrBuilder {
+    // Use xtreemfs_create_filesResponse.newBuilder() to construct.
+    private xtreemfs_create_filesResponse(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+      this.unknownFields = builder.getUnknownFields();
+    }
+    private xtreemfs_create_filesResponse(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+    private static final xtreemfs_create_filesResponse defaultInstance;
+    public static xtreemfs_create_filesResponse getDefaultInstance() {
+      return defaultInstance;
+    }
+
+    public xtreemfs_create_filesResponse getDefaultInstanceForType() {
+      return defaultInstance;
+    }
+
+    private final com.google.protobuf.UnknownFieldSet unknownFields;
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+        getUnknownFields() {
+      return this.unknownFields;
+    }
+    private xtreemfs_create_filesResponse(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      initFields();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 10: {
+              if (!((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
+                files_ = new java.util.ArrayList<org.xtreemfs.pbrpc.generatedinterfaces.MRC.openResponse>();
+                mutable_bitField0_ |= 0x00000001;
+              }
+              files_.add(input.readMessage(org.xtreemfs.pbrpc.generatedinterfaces.MRC.openResponse.PARSER, extensionRegistry));
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e.getMessage()).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
+          files_ = java.util.Collections.unmodifiableList(files_);
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.xtreemfs.pbrpc.generatedinterfaces.MRC.internal_static_xtreemfs_pbrpc_xtreemfs_create_filesResponse_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.xtreemfs.pbrpc.generatedinterfaces.MRC.internal_static_xtreemfs_pbrpc_xtreemfs_create_filesResponse_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_create_filesResponse.class, org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_create_filesResponse.Builder.class);
+    }
+
+    public static com.google.protobuf.Parser<xtreemfs_create_filesResponse> PARSER =
+        new com.google.protobuf.AbstractParser<xtreemfs_create_filesResponse>() {
+      public xtreemfs_create_filesResponse parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new xtreemfs_create_filesResponse(input, extensionRegistry);
+      }
+    };
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<xtreemfs_create_filesResponse> getParserForType() {
+      return PARSER;
+    }
+
+    // repeated .xtreemfs.pbrpc.openResponse files = 1;
+    public static final int FILES_FIELD_NUMBER = 1;
+    private java.util.List<org.xtreemfs.pbrpc.generatedinterfaces.MRC.openResponse> files_;
+    /**
+     * <code>repeated .xtreemfs.pbrpc.openResponse files = 1;</code>
+     *
+     * <pre>
+     * the file credentials and timestamps, in the order of the request
+     * </pre>
+     */
+    public java.util.List<org.xtreemfs.pbrpc.generatedinterfaces.MRC.openResponse> getFilesList() {
+      return files_;
+    }
+    /**
+     * <code>repeated .xtreemfs.pbrpc.openResponse files = 1;</code>
+     *
+     * <pre>
+     * the file credentials and timestamps, in the order of the request
+     * </pre>
+     */
+    public java.util.List<? extends org.xtreemfs.pbrpc.generatedinterfaces.MRC.openResponseOrBuilder> 
+        getFilesOrBuilderList() {
+      return files_;
+    }
+    /**
+     * <code>repeated .xtreemfs.pbrpc.openResponse files = 1;</code>
+     *
+     * <pre>
+     * the file credentials and timestamps, in the order of the request
+     * </pre>
+     */
+    public int getFilesCount() {
+      return files_.size();
+    }
+    /**
+     * <code>repeated .xtreemfs.pbrpc.openResponse files = 1;</code>
+     *
+     * <pre>
+     * the file credentials and timestamps, in the order of the request
+     * </pre>
+     */
+    public org.xtreemfs.pbrpc.generatedinterfaces.MRC.openResponse getFiles(int index) {
+      return files_.get(index);
+    }
+    /**
+     * <code>repeated .xtreemfs.pbrpc.openResponse files = 1;</code>
+     *
+     * <pre>
+     * the file credentials and timestamps, in the order of the request
+     * </pre>
+     */
+    public org.xtreemfs.pbrpc.generatedinterfaces.MRC.openResponseOrBuilder getFilesOrBuilder(
+        int index) {
+      return files_.get(index);
+    }
+
+    private void initFields() {
+      files_ = java.util.Collections.emptyList();
+    }
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized != -1) return isInitialized == 1;
+
+      for (int i = 0; i < getFilesCount(); i++) {
+        if (!getFiles(i).isInitialized()) {
+          memoizedIsInitialized = 0;
+          return false;
+        }
+      }
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      for (int i = 0; i < files_.size(); i++) {
+        output.writeMessage(1, files_.get(i));
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    private int memoizedSerializedSize = -1;
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      for (int i = 0; i < files_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, files_.get(i));
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSerializedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
+      return super.writeReplace();
+    }
+
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_create_filesResponse parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_create_filesResponse parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_create_filesResponse parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_create_filesResponse parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_create_filesResponse parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_create_filesResponse parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_create_filesResponse parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_create_filesResponse parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_create_filesResponse parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_create_filesResponse parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_create_filesResponse prototype) {
+      return newBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() { return newBuilder(this); }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code xtreemfs.pbrpc.xtreemfs_create_filesResponse}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder>
+       implements org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_create_filesResponseOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.xtreemfs.pbrpc.generatedinterfaces.MRC.internal_static_xtreemfs_pbrpc_xtreemfs_create_filesResponse_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.xtreemfs.pbrpc.generatedinterfaces.MRC.internal_static_xtreemfs_pbrpc_xtreemfs_create_filesResponse_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_create_filesResponse.class, org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_create_filesResponse.Builder.class);
+      }
+
+      // Construct using org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_create_filesResponse.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+          getFilesFieldBuilder();
+        }
+      }
+      private static Builder create() {
+        return new Builder();
+      }
+
+      public Builder clear() {
+        super.clear();
+        if (filesBuilder_ == null) {
+          files_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+        } else {
+          filesBuilder_.clear();
+        }
+        return this;
+      }
+
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.xtreemfs.pbrpc.generatedinterfaces.MRC.internal_static_xtreemfs_pbrpc_xtreemfs_create_filesResponse_descriptor;
+      }
+
+      public org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_create_filesResponse getDefaultInstanceForType() {
+        return org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_create_filesResponse.getDefaultInstance();
+      }
+
+      public org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_create_filesResponse build() {
+        org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_create_filesResponse result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_create_filesResponse buildPartial() {
+        org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_create_filesResponse result = new org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_create_filesResponse(this);
+        int from_bitField0_ = bitField0_;
+        if (filesBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) == 0x00000001)) {
+            files_ = java.util.Collections.unmodifiableList(files_);
+            bitField0_ = (bitField0_ & ~0x00000001);
+          }
+          result.files_ = files_;
+        } else {
+          result.files_ = filesBuilder_.build();
+        }
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_create_filesResponse) {
+          return mergeFrom((org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_create_filesResponse)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_create_filesResponse other) {
+        if (other == org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_create_filesResponse.getDefaultInstance()) return this;
+        if (filesBuilder_ == null) {
+          if (!other.files_.isEmpty()) {
+            if (files_.isEmpty()) {
+              files_ = other.files_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+            } else {
+              ensureFilesIsMutable();
+              files_.addAll(other.files_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.files_.isEmpty()) {
+            if (filesBuilder_.isEmpty()) {
+              filesBuilder_.dispose();
+              filesBuilder_ = null;
+              files_ = other.files_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+              filesBuilder_ = 
+                com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
+                   getFilesFieldBuilder() : null;
+            } else {
+              filesBuilder_.addAllMessages(other.files_);
+            }
+          }
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        for (int i = 0; i < getFilesCount(); i++) {
+          if (!getFiles(i).isInitialized()) {
+            
+            return false;
+          }
+        }
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_create_filesResponse parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_create_filesResponse) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      // repeated .xtreemfs.pbrpc.openResponse files = 1;
+      private java.util.List<org.xtreemfs.pbrpc.generatedinterfaces.MRC.openResponse> files_ =
+        java.util.Collections.emptyList();
+      private void ensureFilesIsMutable() {
+        if (!((bitField0_ & 0x00000001) == 0x00000001)) {
+          files_ = new java.util.ArrayList<org.xtreemfs.pbrpc.generatedinterfaces.MRC.openResponse>(files_);
+          bitField0_ |= 0x00000001;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilder<
+          org.xtreemfs.pbrpc.generatedinterfaces.MRC.openResponse, org.xtreemfs.pbrpc.generatedinterfaces.MRC.openResponse.Builder, org.xtreemfs.pbrpc.generatedinterfaces.MRC.openResponseOrBuilder> filesBuilder_;
+
+      /**
+       * <code>repeated .xtreemfs.pbrpc.openResponse files = 1;</code>
+       *
+       * <pre>
+       * the file credentials and timestamps, in the order of the request
+       * </pre>
+       */
+      public java.util.List<org.xtreemfs.pbrpc.generatedinterfaces.MRC.openResponse> getFilesList() {
+        if (filesBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(files_);
+        } else {
+          return filesBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .xtreemfs.pbrpc.openResponse files = 1;</code>
+       *
+       * <pre>
+       * the file credentials and timestamps, in the order of the request
+       * </pre>
+       */
+      public int getFilesCount() {
+        if (filesBuilder_ == null) {
+          return files_.size();
+        } else {
+          return filesBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .xtreemfs.pbrpc.openResponse files = 1;</code>
+       *
+       * <pre>
+       * the file credentials and timestamps, in the order of the request
+       * </pre>
+       */
+      public org.xtreemfs.pbrpc.generatedinterfaces.MRC.openResponse getFiles(int index) {
+        if (filesBuilder_ == null) {
+          return files_.get(index);
+        } else {
+          return filesBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .xtreemfs.pbrpc.openResponse files = 1;</code>
+       *
+       * <pre>
+       * the file credentials and timestamps, in the order of the request
+       * </pre>
+       */
+      public Builder setFiles(
+          int index, org.xtreemfs.pbrpc.generatedinterfaces.MRC.openResponse value) {
+        if (filesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureFilesIsMutable();
+          files_.set(index, value);
+          onChanged();
+        } else {
+          filesBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .xtreemfs.pbrpc.openResponse files = 1;</code>
+       *
+       * <pre>
+       * the file credentials and timestamps, in the order of the request
+       * </pre>
+       */
+      public Builder setFiles(
+          int index, org.xtreemfs.pbrpc.generatedinterfaces.MRC.openResponse.Builder builderForValue) {
+        if (filesBuilder_ == null) {
+          ensureFilesIsMutable();
+          files_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          filesBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .xtreemfs.pbrpc.openResponse files = 1;</code>
+       *
+       * <pre>
+       * the file credentials and timestamps, in the order of the request
+       * </pre>
+       */
+      public Builder addFiles(org.xtreemfs.pbrpc.generatedinterfaces.MRC.openResponse value) {
+        if (filesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureFilesIsMutable();
+          files_.add(value);
+          onChanged();
+        } else {
+          filesBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .xtreemfs.pbrpc.openResponse files = 1;</code>
+       *
+       * <pre>
+       * the file credentials and timestamps, in the order of the request
+       * </pre>
+       */
+      public Builder addFiles(
+          int index, org.xtreemfs.pbrpc.generatedinterfaces.MRC.openResponse value) {
+        if (filesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureFilesIsMutable();
+          files_.add(index, value);
+          onChanged();
+        } else {
+          filesBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .xtreemfs.pbrpc.openResponse files = 1;</code>
+       *
+       * <pre>
+       * the file credentials and timestamps, in the order of the request
+       * </pre>
+       */
+      public Builder addFiles(
+          org.xtreemfs.pbrpc.generatedinterfaces.MRC.openResponse.Builder builderForValue) {
+        if (filesBuilder_ == null) {
+          ensureFilesIsMutable();
+          files_.add(builderForValue.build());
+          onChanged();
+        } else {
+          filesBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .xtreemfs.pbrpc.openResponse files = 1;</code>
+       *
+       * <pre>
+       * the file credentials and timestamps, in the order of the request
+       * </pre>
+       */
+      public Builder addFiles(
+          int index, org.xtreemfs.pbrpc.generatedinterfaces.MRC.openResponse.Builder builderForValue) {
+        if (filesBuilder_ == null) {
+          ensureFilesIsMutable();
+          files_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          filesBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .xtreemfs.pbrpc.openResponse files = 1;</code>
+       *
+       * <pre>
+       * the file credentials and timestamps, in the order of the request
+       * </pre>
+       */
+      public Builder addAllFiles(
+          java.lang.Iterable<? extends org.xtreemfs.pbrpc.generatedinterfaces.MRC.openResponse> values) {
+        if (filesBuilder_ == null) {
+          ensureFilesIsMutable();
+          super.addAll(values, files_);
+          onChanged();
+        } else {
+          filesBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .xtreemfs.pbrpc.openResponse files = 1;</code>
+       *
+       * <pre>
+       * the file credentials and timestamps, in the order of the request
+       * </pre>
+       */
+      public Builder clearFiles() {
+        if (filesBuilder_ == null) {
+          files_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+          onChanged();
+        } else {
+          filesBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .xtreemfs.pbrpc.openResponse files = 1;</code>
+       *
+       * <pre>
+       * the file credentials and timestamps, in the order of the request
+       * </pre>
+       */
+      public Builder removeFiles(int index) {
+        if (filesBuilder_ == null) {
+          ensureFilesIsMutable();
+          files_.remove(index);
+          onChanged();
+        } else {
+          filesBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .xtreemfs.pbrpc.openResponse files = 1;</code>
+       *
+       * <pre>
+       * the file credentials and timestamps, in the order of the request
+       * </pre>
+       */
+      public org.xtreemfs.pbrpc.generatedinterfaces.MRC.openResponse.Builder getFilesBuilder(
+          int index) {
+        return getFilesFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .xtreemfs.pbrpc.openResponse files = 1;</code>
+       *
+       * <pre>
+       * the file credentials and timestamps, in the order of the request
+       * </pre>
+       */
+      public org.xtreemfs.pbrpc.generatedinterfaces.MRC.openResponseOrBuilder getFilesOrBuilder(
+          int index) {
+        if (filesBuilder_ == null) {
+          return files_.get(index);  } else {
+          return filesBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .xtreemfs.pbrpc.openResponse files = 1;</code>
+       *
+       * <pre>
+       * the file credentials and timestamps, in the order of the request
+       * </pre>
+       */
+      public java.util.List<? extends org.xtreemfs.pbrpc.generatedinterfaces.MRC.openResponseOrBuilder> 
+           getFilesOrBuilderList() {
+        if (filesBuilder_ != null) {
+          return filesBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(files_);
+        }
+      }
+      /**
+       * <code>repeated .xtreemfs.pbrpc.openResponse files = 1;</code>
+       *
+       * <pre>
+       * the file credentials and timestamps, in the order of the request
+       * </pre>
+       */
+      public org.xtreemfs.pbrpc.generatedinterfaces.MRC.openResponse.Builder addFilesBuilder() {
+        return getFilesFieldBuilder().addBuilder(
+            org.xtreemfs.pbrpc.generatedinterfaces.MRC.openResponse.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .xtreemfs.pbrpc.openResponse files = 1;</code>
+       *
+       * <pre>
+       * the file credentials and timestamps, in the order of the request
+       * </pre>
+       */
+      public org.xtreemfs.pbrpc.generatedinterfaces.MRC.openResponse.Builder addFilesBuilder(
+          int index) {
+        return getFilesFieldBuilder().addBuilder(
+            index, org.xtreemfs.pbrpc.generatedinterfaces.MRC.openResponse.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .xtreemfs.pbrpc.openResponse files = 1;</code>
+       *
+       * <pre>
+       * the file credentials and timestamps, in the order of the request
+       * </pre>
+       */
+      public java.util.List<org.xtreemfs.pbrpc.generatedinterfaces.MRC.openResponse.Builder> 
+           getFilesBuilderList() {
+        return getFilesFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilder<
+          org.xtreemfs.pbrpc.generatedinterfaces.MRC.openResponse, org.xtreemfs.pbrpc.generatedinterfaces.MRC.openResponse.Builder, org.xtreemfs.pbrpc.generatedinterfaces.MRC.openResponseOrBuilder> 
+          getFilesFieldBuilder() {
+        if (filesBuilder_ == null) {
+          filesBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
+              org.xtreemfs.pbrpc.generatedinterfaces.MRC.openResponse, org.xtreemfs.pbrpc.generatedinterfaces.MRC.openResponse.Builder, org.xtreemfs.pbrpc.generatedinterfaces.MRC.openResponseOrBuilder>(
+                  files_,
+                  ((bitField0_ & 0x00000001) == 0x00000001),
+                  getParentForChildren(),
+                  isClean());
+          files_ = null;
+        }
+        return filesBuilder_;
+      }
+
+      // @@protoc_insertion_point(builder_scope:xtreemfs.pbrpc.xtreemfs_create_filesResponse)
+    }
+
+    static {
+      defaultInstance = new xtreemfs_create_filesResponse(true);
+      defaultInstance.initFields();
+    }
+
+    // @@protoc_insertion_point(class_scope:xtreemfs.pbrpc.xtreemfs_create_filesResponse)
+  }
+
+  public interface xtreemfs_getattrsRequestOrBuilder
+      extends com.google.protobuf.MessageOrBuilder {
+
+    // required string volume_name = 1;
+    /**
+     * <code>required string volume_name = 1;</code>
+     *
+     * <pre>
+     * the volume name
+     * </pre>
+     */
+    boolean hasVolumeName();
+    /**
+     * <code>required string volume_name = 1;</code>
+     *
+     * <pre>
+     * the volume name
+     * </pre>
+     */
+    java.lang.String getVolumeName();
+    /**
+     * <code>required string volume_name = 1;</code>
+     *
+     * <pre>
+     * the volume name
+     * </pre>
+     */
+    com.google.protobuf.ByteString
+        getVolumeNameBytes();
+
+    // repeated string paths = 2;
+    /**
+     * <code>repeated string paths = 2;</code>
+     *
+     * <pre>
+     * the paths to the files or directories, relative to the volume root
+     * </pre>
+     */
+    java.util.List<java.lang.String>
+    getPathsList();
+    /**
+     * <code>repeated string paths = 2;</code>
+     *
+     * <pre>
+     * the paths to the files or directories, relative to the volume root
+     * </pre>
+     */
+    int getPathsCount();
+    /**
+     * <code>repeated string paths = 2;</code>
+     *
+     * <pre>
+     * the paths to the files or directories, relative to the volume root
+     * </pre>
+     */
+    java.lang.String getPaths(int index);
+    /**
+     * <code>repeated string paths = 2;</code>
+     *
+     * <pre>
+     * the paths to the files or directories, relative to the volume root
+     * </pre>
+     */
+    com.google.protobuf.ByteString
+        getPathsBytes(int index);
+  }
+  /**
+   * Protobuf type {@code xtreemfs.pbrpc.xtreemfs_getattrsRequest}
+   *
+   * <pre>
+   * requests the attributes of multiple files or directories at once
+   * </pre>
+   */
+  public static final class xtreemfs_getattrsRequest extends
+      com.google.protobuf.GeneratedMessage
+      implements xtreemfs_getattrsRequestOrBuilder {
+    // Use xtreemfs_getattrsRequest.newBuilder() to construct.
+    private xtreemfs_getattrsRequest(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+      this.unknownFields = builder.getUnknownFields();
+    }
+    private xtreemfs_getattrsRequest(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+    private static final xtreemfs_getattrsRequest defaultInstance;
+    public static xtreemfs_getattrsRequest getDefaultInstance() {
+      return defaultInstance;
+    }
+
+    public xtreemfs_getattrsRequest getDefaultInstanceForType() {
+      return defaultInstance;
+    }
+
+    private final com.google.protobuf.UnknownFieldSet unknownFields;
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+        getUnknownFields() {
+      return this.unknownFields;
+    }
+    private xtreemfs_getattrsRequest(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      initFields();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 10: {
+              bitField0_ |= 0x00000001;
+              volumeName_ = input.readBytes();
+              break;
+            }
+            case 18: {
+              if (!((mutable_bitField0_ & 0x00000002) == 0x00000002)) {
+                paths_ = new com.google.protobuf.LazyStringArrayList();
+                mutable_bitField0_ |= 0x00000002;
+              }
+              paths_.add(input.readBytes());
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e.getMessage()).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000002) == 0x00000002)) {
+          paths_ = new com.google.protobuf.UnmodifiableLazyStringList(paths_);
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.xtreemfs.pbrpc.generatedinterfaces.MRC.internal_static_xtreemfs_pbrpc_xtreemfs_getattrsRequest_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.xtreemfs.pbrpc.generatedinterfaces.MRC.internal_static_xtreemfs_pbrpc_xtreemfs_getattrsRequest_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_getattrsRequest.class, org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_getattrsRequest.Builder.class);
+    }
+
+    public static com.google.protobuf.Parser<xtreemfs_getattrsRequest> PARSER =
+        new com.google.protobuf.AbstractParser<xtreemfs_getattrsRequest>() {
+      public xtreemfs_getattrsRequest parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new xtreemfs_getattrsRequest(input, extensionRegistry);
+      }
+    };
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<xtreemfs_getattrsRequest> getParserForType() {
+      return PARSER;
+    }
+
+    private int bitField0_;
+    // required string volume_name = 1;
+    public static final int VOLUME_NAME_FIELD_NUMBER = 1;
+    private java.lang.Object volumeName_;
+    /**
+     * <code>required string volume_name = 1;</code>
+     *
+     * <pre>
+     * the volume name
+     * </pre>
+     */
+    public boolean hasVolumeName() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    /**
+     * <code>required string volume_name = 1;</code>
+     *
+     * <pre>
+     * the volume name
+     * </pre>
+     */
+    public java.lang.String getVolumeName() {
+      java.lang.Object ref = volumeName_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          volumeName_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>required string volume_name = 1;</code>
+     *
+     * <pre>
+     * the volume name
+     * </pre>
+     */
+    public com.google.protobuf.ByteString
+        getVolumeNameBytes() {
+      java.lang.Object ref = volumeName_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        volumeName_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    // repeated string paths = 2;
+    public static final int PATHS_FIELD_NUMBER = 2;
+    private com.google.protobuf.LazyStringList paths_;
+    /**
+     * <code>repeated string paths = 2;</code>
+     *
+     * <pre>
+     * the paths to the files or directories, relative to the volume root
+     * </pre>
+     */
+    public java.util.List<java.lang.String>
+        getPathsList() {
+      return paths_;
+    }
+    /**
+     * <code>repeated string paths = 2;</code>
+     *
+     * <pre>
+     * the paths to the files or directories, relative to the volume root
+     * </pre>
+     */
+    public int getPathsCount() {
+      return paths_.size();
+    }
+    /**
+     * <code>repeated string paths = 2;</code>
+     *
+     * <pre>
+     * the paths to the files or directories, relative to the volume root
+     * </pre>
+     */
+    public java.lang.String getPaths(int index) {
+      return paths_.get(index);
+    }
+    /**
+     * <code>repeated string paths = 2;</code>
+     *
+     * <pre>
+     * the paths to the files or directories, relative to the volume root
+     * </pre>
+     */
+    public com.google.protobuf.ByteString
+        getPathsBytes(int index) {
+      return paths_.getByteString(index);
+    }
+
+    private void initFields() {
+      volumeName_ = "";
+      paths_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+    }
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized != -1) return isInitialized == 1;
+
+      if (!hasVolumeName()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeBytes(1, getVolumeNameBytes());
+      }
+      for (int i = 0; i < paths_.size(); i++) {
+        output.writeBytes(2, paths_.getByteString(i));
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    private int memoizedSerializedSize = -1;
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(1, getVolumeNameBytes());
+      }
+      {
+        int dataSize = 0;
+        for (int i = 0; i < paths_.size(); i++) {
+          dataSize += com.google.protobuf.CodedOutputStream
+            .computeBytesSizeNoTag(paths_.getByteString(i));
+        }
+        size += dataSize;
+        size += 1 * getPathsList().size();
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSerializedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
+      return super.writeReplace();
+    }
+
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_getattrsRequest parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_getattrsRequest parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_getattrsRequest parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_getattrsRequest parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_getattrsRequest parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_getattrsRequest parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_getattrsRequest parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_getattrsRequest parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_getattrsRequest parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_getattrsRequest parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_getattrsRequest prototype) {
+      return newBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() { return newBuilder(this); }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code xtreemfs.pbrpc.xtreemfs_getattrsRequest}
+     *
+     * <pre>
+     * requests the attributes of multiple files or directories at once
+     * </pre>
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder>
+       implements org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_getattrsRequestOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.xtreemfs.pbrpc.generatedinterfaces.MRC.internal_static_xtreemfs_pbrpc_xtreemfs_getattrsRequest_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.xtreemfs.pbrpc.generatedinterfaces.MRC.internal_static_xtreemfs_pbrpc_xtreemfs_getattrsRequest_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_getattrsRequest.class, org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_getattrsRequest.Builder.class);
+      }
+
+      // Construct using org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_getattrsRequest.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+        }
+      }
+      private static Builder create() {
+        return new Builder();
+      }
+
+      public Builder clear() {
+        super.clear();
+        volumeName_ = "";
+        bitField0_ = (bitField0_ & ~0x00000001);
+        paths_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+        bitField0_ = (bitField0_ & ~0x00000002);
+        return this;
+      }
+
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.xtreemfs.pbrpc.generatedinterfaces.MRC.internal_static_xtreemfs_pbrpc_xtreemfs_getattrsRequest_descriptor;
+      }
+
+      public org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_getattrsRequest getDefaultInstanceForType() {
+        return org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_getattrsRequest.getDefaultInstance();
+      }
+
+      public org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_getattrsRequest build() {
+        org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_getattrsRequest result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_getattrsRequest buildPartial() {
+        org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_getattrsRequest result = new org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_getattrsRequest(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.volumeName_ = volumeName_;
+        if (((bitField0_ & 0x00000002) == 0x00000002)) {
+          paths_ = new com.google.protobuf.UnmodifiableLazyStringList(
+              paths_);
+          bitField0_ = (bitField0_ & ~0x00000002);
+        }
+        result.paths_ = paths_;
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_getattrsRequest) {
+          return mergeFrom((org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_getattrsRequest)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_getattrsRequest other) {
+        if (other == org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_getattrsRequest.getDefaultInstance()) return this;
+        if (other.hasVolumeName()) {
+          bitField0_ |= 0x00000001;
+          volumeName_ = other.volumeName_;
+          onChanged();
+        }
+        if (!other.paths_.isEmpty()) {
+          if (paths_.isEmpty()) {
+            paths_ = other.paths_;
+            bitField0_ = (bitField0_ & ~0x00000002);
+          } else {
+            ensurePathsIsMutable();
+            paths_.addAll(other.paths_);
+          }
+          onChanged();
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        if (!hasVolumeName()) {
+          
+          return false;
+        }
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_getattrsRequest parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_getattrsRequest) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      // required string volume_name = 1;
+      private java.lang.Object volumeName_ = "";
+      /**
+       * <code>required string volume_name = 1;</code>
+       *
+       * <pre>
+       * the volume name
+       * </pre>
+       */
+      public boolean hasVolumeName() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      /**
+       * <code>required string volume_name = 1;</code>
+       *
+       * <pre>
+       * the volume name
+       * </pre>
+       */
+      public java.lang.String getVolumeName() {
+        java.lang.Object ref = volumeName_;
+        if (!(ref instanceof java.lang.String)) {
+          java.lang.String s = ((com.google.protobuf.ByteString) ref)
+              .toStringUtf8();
+          volumeName_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>required string volume_name = 1;</code>
+       *
+       * <pre>
+       * the volume name
+       * </pre>
+       */
+      public com.google.protobuf.ByteString
+          getVolumeNameBytes() {
+        java.lang.Object ref = volumeName_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          volumeName_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>required string volume_name = 1;</code>
+       *
+       * <pre>
+       * the volume name
+       * </pre>
+       */
+      public Builder setVolumeName(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+        volumeName_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required string volume_name = 1;</code>
+       *
+       * <pre>
+       * the volume name
+       * </pre>
+       */
+      public Builder clearVolumeName() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        volumeName_ = getDefaultInstance().getVolumeName();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required string volume_name = 1;</code>
+       *
+       * <pre>
+       * the volume name
+       * </pre>
+       */
+      public Builder setVolumeNameBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+        volumeName_ = value;
+        onChanged();
+        return this;
+      }
+
+      // repeated string paths = 2;
+      private com.google.protobuf.LazyStringList paths_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+      private void ensurePathsIsMutable() {
+        if (!((bitField0_ & 0x00000002) == 0x00000002)) {
+          paths_ = new com.google.protobuf.LazyStringArrayList(paths_);
+          bitField0_ |= 0x00000002;
+         }
+      }
+      /**
+       * <code>repeated string paths = 2;</code>
+       *
+       * <pre>
+       * the paths to the files or directories, relative to the volume root
+       * </pre>
+       */
+      public java.util.List<java.lang.String>
+          getPathsList() {
+        return java.util.Collections.unmodifiableList(paths_);
+      }
+      /**
+       * <code>repeated string paths = 2;</code>
+       *
+       * <pre>
+       * the paths to the files or directories, relative to the volume root
+       * </pre>
+       */
+      public int getPathsCount() {
+        return paths_.size();
+      }
+      /**
+       * <code>repeated string paths = 2;</code>
+       *
+       * <pre>
+       * the paths to the files or directories, relative to the volume root
+       * </pre>
+       */
+      public java.lang.String getPaths(int index) {
+        return paths_.get(index);
+      }
+      /**
+       * <code>repeated string paths = 2;</code>
+       *
+       * <pre>
+       * the paths to the files or directories, relative to the volume root
+       * </pre>
+       */
+      public com.google.protobuf.ByteString
+          getPathsBytes(int index) {
+        return paths_.getByteString(index);
+      }
+      /**
+       * <code>repeated string paths = 2;</code>
+       *
+       * <pre>
+       * the paths to the files or directories, relative to the volume root
+       * </pre>
+       */
+      public Builder setPaths(
+          int index, java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensurePathsIsMutable();
+        paths_.set(index, value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string paths = 2;</code>
+       *
+       * <pre>
+       * the paths to the files or directories, relative to the volume root
+       * </pre>
+       */
+      public Builder addPaths(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensurePathsIsMutable();
+        paths_.add(value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string paths = 2;</code>
+       *
+       * <pre>
+       * the paths to the files or directories, relative to the volume root
+       * </pre>
+       */
+      public Builder addAllPaths(
+          java.lang.Iterable<java.lang.String> values) {
+        ensurePathsIsMutable();
+        super.addAll(values, paths_);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string paths = 2;</code>
+       *
+       * <pre>
+       * the paths to the files or directories, relative to the volume root
+       * </pre>
+       */
+      public Builder clearPaths() {
+        paths_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+        bitField0_ = (bitField0_ & ~0x00000002);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string paths = 2;</code>
+       *
+       * <pre>
+       * the paths to the files or directories, relative to the volume root
+       * </pre>
+       */
+      public Builder addPathsBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensurePathsIsMutable();
+        paths_.add(value);
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:xtreemfs.pbrpc.xtreemfs_getattrsRequest)
+    }
+
+    static {
+      defaultInstance = new xtreemfs_getattrsRequest(true);
+      defaultInstance.initFields();
+    }
+
+    // @@protoc_insertion_point(class_scope:xtreemfs.pbrpc.xtreemfs_getattrsRequest)
+  }
+
+  public interface xtreemfs_getattrsResponseOrBuilder
+      extends com.google.protobuf.MessageOrBuilder {
+
+    // repeated .xtreemfs.pbrpc.getattrResponse stats = 1;
+    /**
+     * <code>repeated .xtreemfs.pbrpc.getattrResponse stats = 1;</code>
+     *
+     * <pre>
+     * the attributes, in the order of the request; no stbuf is returned for
+     * paths that do not exist or cannot be accessed
+     * </pre>
+     */
+    java.util.List<org.xtreemfs.pbrpc.generatedinterfaces.MRC.getattrResponse> 
+        getStatsList();
+    /**
+     * <code>repeated .xtreemfs.pbrpc.getattrResponse stats = 1;</code>
+     *
+     * <pre>
+     * the attributes, in the order of the request; no stbuf is returned for
+     * paths that do not exist or cannot be accessed
+     * </pre>
+     */
+    org.xtreemfs.pbrpc.generatedinterfaces.MRC.getattrResponse getStats(int index);
+    /**
+     * <code>repeated .xtreemfs.pbrpc.getattrResponse stats = 1;</code>
+     *
+     * <pre>
+     * the attributes, in the order of the request; no stbuf is returned for
+     * paths that do not exist or cannot be accessed
+     * </pre>
+     */
+    int getStatsCount();
+    /**
+     * <code>repeated .xtreemfs.pbrpc.getattrResponse stats = 1;</code>
+     *
+     * <pre>
+     * the attributes, in the order of the request; no stbuf is returned for
+     * paths that do not exist or cannot be accessed
+     * </pre>
+     */
+    java.util.List<? extends org.xtreemfs.pbrpc.generatedinterfaces.MRC.getattrResponseOrBuilder> 
+        getStatsOrBuilderList();
+    /**
+     * <code>repeated .xtreemfs.pbrpc.getattrResponse stats = 1;</code>
+     *
+     * <pre>
+     * the attributes, in the order of the request; no stbuf is returned for
+     * paths that do not exist or cannot be accessed
+     * </pre>
+     */
+    org.xtreemfs.pbrpc.generatedinterfaces.MRC.getattrResponseOrBuilder getStatsOrBuilder(
+        int index);
+  }
+  /**
+   * Protobuf type {@code xtreemfs.pbrpc.xtreemfs_getattrsResponse}
+   */
+  public static final class xtreemfs_getattrsResponse extends
+      com.google.protobuf.GeneratedMessage
+      implements xtreemfs_getattrsResponseOrBuilder {
+    // Use xtreemfs_getattrsResponse.newBuilder() to construct.
+    private xtreemfs_getattrsResponse(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+      this.unknownFields = builder.getUnknownFields();
+    }
+    private xtreemfs_getattrsResponse(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+    private static final xtreemfs_getattrsResponse defaultInstance;
+    public static xtreemfs_getattrsResponse getDefaultInstance() {
+      return defaultInstance;
+    }
+
+    public xtreemfs_getattrsResponse getDefaultInstanceForType() {
+      return defaultInstance;
+    }
+
+    private final com.google.protobuf.UnknownFieldSet unknownFields;
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+        getUnknownFields() {
+      return this.unknownFields;
+    }
+    private xtreemfs_getattrsResponse(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      initFields();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 10: {
+              if (!((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
+                stats_ = new java.util.ArrayList<org.xtreemfs.pbrpc.generatedinterfaces.MRC.getattrResponse>();
+                mutable_bitField0_ |= 0x00000001;
+              }
+              stats_.add(input.readMessage(org.xtreemfs.pbrpc.generatedinterfaces.MRC.getattrResponse.PARSER, extensionRegistry));
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e.getMessage()).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
+          stats_ = java.util.Collections.unmodifiableList(stats_);
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.xtreemfs.pbrpc.generatedinterfaces.MRC.internal_static_xtreemfs_pbrpc_xtreemfs_getattrsResponse_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.xtreemfs.pbrpc.generatedinterfaces.MRC.internal_static_xtreemfs_pbrpc_xtreemfs_getattrsResponse_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_getattrsResponse.class, org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_getattrsResponse.Builder.class);
+    }
+
+    public static com.google.protobuf.Parser<xtreemfs_getattrsResponse> PARSER =
+        new com.google.protobuf.AbstractParser<xtreemfs_getattrsResponse>() {
+      public xtreemfs_getattrsResponse parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new xtreemfs_getattrsResponse(input, extensionRegistry);
+      }
+    };
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<xtreemfs_getattrsResponse> getParserForType() {
+      return PARSER;
+    }
+
+    // repeated .xtreemfs.pbrpc.getattrResponse stats = 1;
+    public static final int STATS_FIELD_NUMBER = 1;
+    private java.util.List<org.xtreemfs.pbrpc.generatedinterfaces.MRC.getattrResponse> stats_;
+    /**
+     * <code>repeated .xtreemfs.pbrpc.getattrResponse stats = 1;</code>
+     *
+     * <pre>
+     * the attributes, in the order of the request; no stbuf is returned for
+     * paths that do not exist or cannot be accessed
+     * </pre>
+     */
+    public java.util.List<org.xtreemfs.pbrpc.generatedinterfaces.MRC.getattrResponse> getStatsList() {
+      return stats_;
+    }
+    /**
+     * <code>repeated .xtreemfs.pbrpc.getattrResponse stats = 1;</code>
+     *
+     * <pre>
+     * the attributes, in the order of the request; no stbuf is returned for
+     * paths that do not exist or cannot be accessed
+     * </pre>
+     */
+    public java.util.List<? extends org.xtreemfs.pbrpc.generatedinterfaces.MRC.getattrResponseOrBuilder> 
+        getStatsOrBuilderList() {
+      return stats_;
+    }
+    /**
+     * <code>repeated .xtreemfs.pbrpc.getattrResponse stats = 1;</code>
+     *
+     * <pre>
+     * the attributes, in the order of the request; no stbuf is returned for
+     * paths that do not exist or cannot be accessed
+     * </pre>
+     */
+    public int getStatsCount() {
+      return stats_.size();
+    }
+    /**
+     * <code>repeated .xtreemfs.pbrpc.getattrResponse stats = 1;</code>
+     *
+     * <pre>
+     * the attributes, in the order of the request; no stbuf is returned for
+     * paths that do not exist or cannot be accessed
+     * </pre>
+     */
+    public org.xtreemfs.pbrpc.generatedinterfaces.MRC.getattrResponse getStats(int index) {
+      return stats_.get(index);
+    }
+    /**
+     * <code>repeated .xtreemfs.pbrpc.getattrResponse stats = 1;</code>
+     *
+     * <pre>
+     * the attributes, in the order of the request; no stbuf is returned for
+     * paths that do not exist or cannot be accessed
+     * </pre>
+     */
+    public org.xtreemfs.pbrpc.generatedinterfaces.MRC.getattrResponseOrBuilder getStatsOrBuilder(
+        int index) {
+      return stats_.get(index);
+    }
+
+    private void initFields() {
+      stats_ = java.util.Collections.emptyList();
+    }
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized != -1) return isInitialized == 1;
+
+      for (int i = 0; i < getStatsCount(); i++) {
+        if (!getStats(i).isInitialized()) {
+          memoizedIsInitialized = 0;
+          return false;
+        }
+      }
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      for (int i = 0; i < stats_.size(); i++) {
+        output.writeMessage(1, stats_.get(i));
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    private int memoizedSerializedSize = -1;
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      for (int i = 0; i < stats_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, stats_.get(i));
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSerializedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
+      return super.writeReplace();
+    }
+
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_getattrsResponse parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_getattrsResponse parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_getattrsResponse parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_getattrsResponse parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_getattrsResponse parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_getattrsResponse parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_getattrsResponse parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_getattrsResponse parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_getattrsResponse parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_getattrsResponse parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_getattrsResponse prototype) {
+      return newBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() { return newBuilder(this); }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code xtreemfs.pbrpc.xtreemfs_getattrsResponse}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder>
+       implements org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_getattrsResponseOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.xtreemfs.pbrpc.generatedinterfaces.MRC.internal_static_xtreemfs_pbrpc_xtreemfs_getattrsResponse_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.xtreemfs.pbrpc.generatedinterfaces.MRC.internal_static_xtreemfs_pbrpc_xtreemfs_getattrsResponse_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_getattrsResponse.class, org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_getattrsResponse.Builder.class);
+      }
+
+      // Construct using org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_getattrsResponse.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+          getStatsFieldBuilder();
+        }
+      }
+      private static Builder create() {
+        return new Builder();
+      }
+
+      public Builder clear() {
+        super.clear();
+        if (statsBuilder_ == null) {
+          stats_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+        } else {
+          statsBuilder_.clear();
+        }
+        return this;
+      }
+
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.xtreemfs.pbrpc.generatedinterfaces.MRC.internal_static_xtreemfs_pbrpc_xtreemfs_getattrsResponse_descriptor;
+      }
+
+      public org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_getattrsResponse getDefaultInstanceForType() {
+        return org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_getattrsResponse.getDefaultInstance();
+      }
+
+      public org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_getattrsResponse build() {
+        org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_getattrsResponse result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_getattrsResponse buildPartial() {
+        org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_getattrsResponse result = new org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_getattrsResponse(this);
+        int from_bitField0_ = bitField0_;
+        if (statsBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) == 0x00000001)) {
+            stats_ = java.util.Collections.unmodifiableList(stats_);
+            bitField0_ = (bitField0_ & ~0x00000001);
+          }
+          result.stats_ = stats_;
+        } else {
+          result.stats_ = statsBuilder_.build();
+        }
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_getattrsResponse) {
+          return mergeFrom((org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_getattrsResponse)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_getattrsResponse other) {
+        if (other == org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_getattrsResponse.getDefaultInstance()) return this;
+        if (statsBuilder_ == null) {
+          if (!other.stats_.isEmpty()) {
+            if (stats_.isEmpty()) {
+              stats_ = other.stats_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+            } else {
+              ensureStatsIsMutable();
+              stats_.addAll(other.stats_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.stats_.isEmpty()) {
+            if (statsBuilder_.isEmpty()) {
+              statsBuilder_.dispose();
+              statsBuilder_ = null;
+              stats_ = other.stats_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+              statsBuilder_ = 
+                com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
+                   getStatsFieldBuilder() : null;
+            } else {
+              statsBuilder_.addAllMessages(other.stats_);
+            }
+          }
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        for (int i = 0; i < getStatsCount(); i++) {
+          if (!getStats(i).isInitialized()) {
+            
+            return false;
+          }
+        }
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_getattrsResponse parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_getattrsResponse) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      // repeated .xtreemfs.pbrpc.getattrResponse stats = 1;
+      private java.util.List<org.xtreemfs.pbrpc.generatedinterfaces.MRC.getattrResponse> stats_ =
+        java.util.Collections.emptyList();
+      private void ensureStatsIsMutable() {
+        if (!((bitField0_ & 0x00000001) == 0x00000001)) {
+          stats_ = new java.util.ArrayList<org.xtreemfs.pbrpc.generatedinterfaces.MRC.getattrResponse>(stats_);
+          bitField0_ |= 0x00000001;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilder<
+          org.xtreemfs.pbrpc.generatedinterfaces.MRC.getattrResponse, org.xtreemfs.pbrpc.generatedinterfaces.MRC.getattrResponse.Builder, org.xtreemfs.pbrpc.generatedinterfaces.MRC.getattrResponseOrBuilder> statsBuilder_;
+
+      /**
+       * <code>repeated .xtreemfs.pbrpc.getattrResponse stats = 1;</code>
+       *
+       * <pre>
+       * the attributes, in the order of the request; no stbuf is returned for
+       * paths that do not exist or cannot be accessed
+       * </pre>
+       */
+      public java.util.List<org.xtreemfs.pbrpc.generatedinterfaces.MRC.getattrResponse> getStatsList() {
+        if (statsBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(stats_);
+        } else {
+          return statsBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .xtreemfs.pbrpc.getattrResponse stats = 1;</code>
+       *
+       * <pre>
+       * the attributes, in the order of the request; no stbuf is returned for
+       * paths that do not exist or cannot be accessed
+       * </pre>
+       */
+      public int getStatsCount() {
+        if (statsBuilder_ == null) {
+          return stats_.size();
+        } else {
+          return statsBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .xtreemfs.pbrpc.getattrResponse stats = 1;</code>
+       *
+       * <pre>
+       * the attributes, in the order of the request; no stbuf is returned for
+       * paths that do not exist or cannot be accessed
+       * </pre>
+       */
+      public org.xtreemfs.pbrpc.generatedinterfaces.MRC.getattrResponse getStats(int index) {
+        if (statsBuilder_ == null) {
+          return stats_.get(index);
+        } else {
+          return statsBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .xtreemfs.pbrpc.getattrResponse stats = 1;</code>
+       *
+       * <pre>
+       * the attributes, in the order of the request; no stbuf is returned for
+       * paths that do not exist or cannot be accessed
+       * </pre>
+       */
+      public Builder setStats(
+          int index, org.xtreemfs.pbrpc.generatedinterfaces.MRC.getattrResponse value) {
+        if (statsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureStatsIsMutable();
+          stats_.set(index, value);
+          onChanged();
+        } else {
+          statsBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .xtreemfs.pbrpc.getattrResponse stats = 1;</code>
+       *
+       * <pre>
+       * the attributes, in the order of the request; no stbuf is returned for
+       * paths that do not exist or cannot be accessed
+       * </pre>
+       */
+      public Builder setStats(
+          int index, org.xtreemfs.pbrpc.generatedinterfaces.MRC.getattrResponse.Builder builderForValue) {
+        if (statsBuilder_ == null) {
+          ensureStatsIsMutable();
+          stats_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          statsBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .xtreemfs.pbrpc.getattrResponse stats = 1;</code>
+       *
+       * <pre>
+       * the attributes, in the order of the request; no stbuf is returned for
+       * paths that do not exist or cannot be accessed
+       * </pre>
+       */
+      public Builder addStats(org.xtreemfs.pbrpc.generatedinterfaces.MRC.getattrResponse value) {
+        if (statsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureStatsIsMutable();
+          stats_.add(value);
+          onChanged();
+        } else {
+          statsBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .xtreemfs.pbrpc.getattrResponse stats = 1;</code>
+       *
+       * <pre>
+       * the attributes, in the order of the request; no stbuf is returned for
+       * paths that do not exist or cannot be accessed
+       * </pre>
+       */
+      public Builder addStats(
+          int index, org.xtreemfs.pbrpc.generatedinterfaces.MRC.getattrResponse value) {
+        if (statsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureStatsIsMutable();
+          stats_.add(index, value);
+          onChanged();
+        } else {
+          statsBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .xtreemfs.pbrpc.getattrResponse stats = 1;</code>
+       *
+       * <pre>
+       * the attributes, in the order of the request; no stbuf is returned for
+       * paths that do not exist or cannot be accessed
+       * </pre>
+       */
+      public Builder addStats(
+          org.xtreemfs.pbrpc.generatedinterfaces.MRC.getattrResponse.Builder builderForValue) {
+        if (statsBuilder_ == null) {
+          ensureStatsIsMutable();
+          stats_.add(builderForValue.build());
+          onChanged();
+        } else {
+          statsBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .xtreemfs.pbrpc.getattrResponse stats = 1;</code>
+       *
+       * <pre>
+       * the attributes, in the order of the request; no stbuf is returned for
+       * paths that do not exist or cannot be accessed
+       * </pre>
+       */
+      public Builder addStats(
+          int index, org.xtreemfs.pbrpc.generatedinterfaces.MRC.getattrResponse.Builder builderForValue) {
+        if (statsBuilder_ == null) {
+          ensureStatsIsMutable();
+          stats_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          statsBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .xtreemfs.pbrpc.getattrResponse stats = 1;</code>
+       *
+       * <pre>
+       * the attributes, in the order of the request; no stbuf is returned for
+       * paths that do not exist or cannot be accessed
+       * </pre>
+       */
+      public Builder addAllStats(
+          java.lang.Iterable<? extends org.xtreemfs.pbrpc.generatedinterfaces.MRC.getattrResponse> values) {
+        if (statsBuilder_ == null) {
+          ensureStatsIsMutable();
+          super.addAll(values, stats_);
+          onChanged();
+        } else {
+          statsBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .xtreemfs.pbrpc.getattrResponse stats = 1;</code>
+       *
+       * <pre>
+       * the attributes, in the order of the request; no stbuf is returned for
+       * paths that do not exist or cannot be accessed
+       * </pre>
+       */
+      public Builder clearStats() {
+        if (statsBuilder_ == null) {
+          stats_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+          onChanged();
+        } else {
+          statsBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .xtreemfs.pbrpc.getattrResponse stats = 1;</code>
+       *
+       * <pre>
+       * the attributes, in the order of the request; no stbuf is returned for
+       * paths that do not exist or cannot be accessed
+       * </pre>
+       */
+      public Builder removeStats(int index) {
+        if (statsBuilder_ == null) {
+          ensureStatsIsMutable();
+          stats_.remove(index);
+          onChanged();
+        } else {
+          statsBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .xtreemfs.pbrpc.getattrResponse stats = 1;</code>
+       *
+       * <pre>
+       * the attributes, in the order of the request; no stbuf is returned for
+       * paths that do not exist or cannot be accessed
+       * </pre>
+       */
+      public org.xtreemfs.pbrpc.generatedinterfaces.MRC.getattrResponse.Builder getStatsBuilder(
+          int index) {
+        return getStatsFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .xtreemfs.pbrpc.getattrResponse stats = 1;</code>
+       *
+       * <pre>
+       * the attributes, in the order of the request; no stbuf is returned for
+       * paths that do not exist or cannot be accessed
+       * </pre>
+       */
+      public org.xtreemfs.pbrpc.generatedinterfaces.MRC.getattrResponseOrBuilder getStatsOrBuilder(
+          int index) {
+        if (statsBuilder_ == null) {
+          return stats_.get(index);  } else {
+          return statsBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .xtreemfs.pbrpc.getattrResponse stats = 1;</code>
+       *
+       * <pre>
+       * the attributes, in the order of the request; no stbuf is returned for
+       * paths that do not exist or cannot be accessed
+       * </pre>
+       */
+      public java.util.List<? extends org.xtreemfs.pbrpc.generatedinterfaces.MRC.getattrResponseOrBuilder> 
+           getStatsOrBuilderList() {
+        if (statsBuilder_ != null) {
+          return statsBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(stats_);
+        }
+      }
+      /**
+       * <code>repeated .xtreemfs.pbrpc.getattrResponse stats = 1;</code>
+       *
+       * <pre>
+       * the attributes, in the order of the request; no stbuf is returned for
+       * paths that do not exist or cannot be accessed
+       * </pre>
+       */
+      public org.xtreemfs.pbrpc.generatedinterfaces.MRC.getattrResponse.Builder addStatsBuilder() {
+        return getStatsFieldBuilder().addBuilder(
+            org.xtreemfs.pbrpc.generatedinterfaces.MRC.getattrResponse.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .xtreemfs.pbrpc.getattrResponse stats = 1;</code>
+       *
+       * <pre>
+       * the attributes, in the order of the request; no stbuf is returned for
+       * paths that do not exist or cannot be accessed
+       * </pre>
+       */
+      public org.xtreemfs.pbrpc.generatedinterfaces.MRC.getattrResponse.Builder addStatsBuilder(
+          int index) {
+        return getStatsFieldBuilder().addBuilder(
+            index, org.xtreemfs.pbrpc.generatedinterfaces.MRC.getattrResponse.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .xtreemfs.pbrpc.getattrResponse stats = 1;</code>
+       *
+       * <pre>
+       * the attributes, in the order of the request; no stbuf is returned for
+       * paths that do not exist or cannot be accessed
+       * </pre>
+       */
+      public java.util.List<org.xtreemfs.pbrpc.generatedinterfaces.MRC.getattrResponse.Builder> 
+           getStatsBuilderList() {
+        return getStatsFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilder<
+          org.xtreemfs.pbrpc.generatedinterfaces.MRC.getattrResponse, org.xtreemfs.pbrpc.generatedinterfaces.MRC.getattrResponse.Builder, org.xtreemfs.pbrpc.generatedinterfaces.MRC.getattrResponseOrBuilder> 
+          getStatsFieldBuilder() {
+        if (statsBuilder_ == null) {
+          statsBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
+              org.xtreemfs.pbrpc.generatedinterfaces.MRC.getattrResponse, org.xtreemfs.pbrpc.generatedinterfaces.MRC.getattrResponse.Builder, org.xtreemfs.pbrpc.generatedinterfaces.MRC.getattrResponseOrBuilder>(
+                  stats_,
+                  ((bitField0_ & 0x00000001) == 0x00000001),
+                  getParentForChildren(),
+                  isClean());
+          stats_ = null;
+        }
+        return statsBuilder_;
+      }
+
+      // @@protoc_insertion_point(builder_scope:xtreemfs.pbrpc.xtreemfs_getattrsResponse)
+    }
+
+    static {
+      defaultInstance = new xtreemfs_getattrsResponse(true);
+      defaultInstance.initFields();
+    }
+
+    // @@protoc_insertion_point(class_scope:xtreemfs.pbrpc.xtreemfs_getattrsResponse)
+  }
+
+  public interface xtreemfs_get_xlocsetsRequestOrBuilder
+      extends com.google.protobuf.MessageOrBuilder {
+
+    // required string volume_name = 1;
+    /**
+     * <code>required string volume_name = 1;</code>
+     *
+     * <pre>
+     * the volume name
+     * </pre>
+     */
+    boolean hasVolumeName();
+    /**
+     * <code>required string volume_name = 1;</code>
+     *
+     * <pre>
+     * the volume name
+     * </pre>
+     */
+    java.lang.String getVolumeName();
+    /**
+     * <code>required string volume_name = 1;</code>
+     *
+     * <pre>
+     * the volume name
+     * </pre>
+     */
+    com.google.protobuf.ByteString
+        getVolumeNameBytes();
+
+    // repeated string paths = 2;
+    /**
+     * <code>repeated string paths = 2;</code>
+     *
+     * <pre>
+     * the paths to the files, relative to the volume root
+     * </pre>
+     */
+    java.util.List<java.lang.String>
+    getPathsList();
+    /**
+     * <code>repeated string paths = 2;</code>
+     *
+     * <pre>
+     * the paths to the files, relative to the volume root
+     * </pre>
+     */
+    int getPathsCount();
+    /**
+     * <code>repeated string paths = 2;</code>
+     *
+     * <pre>
+     * the paths to the files, relative to the volume root
+     * </pre>
+     */
+    java.lang.String getPaths(int index);
+    /**
+     * <code>repeated string paths = 2;</code>
+     *
+     * <pre>
+     * the paths to the files, relative to the volume root
+     * </pre>
+     */
+    com.google.protobuf.ByteString
+        getPathsBytes(int index);
+
+    // optional .xtreemfs.pbrpc.VivaldiCoordinates coordinates = 3;
+    /**
+     * <code>optional .xtreemfs.pbrpc.VivaldiCoordinates coordinates = 3;</code>
+     *
+     * <pre>
+     * optional set of Vivaldi coordinates of the client, which can be used
+     * to order the list of replicas
+     * </pre>
+     */
+    boolean hasCoordinates();
+    /**
+     * <code>optional .xtreemfs.pbrpc.VivaldiCoordinates coordinates = 3;</code>
+     *
+     * <pre>
+     * optional set of Vivaldi coordinates of the client, which can be used
+     * to order the list of replicas
+     * </pre>
+     */
+    org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.VivaldiCoordinates getCoordinates();
+    /**
+     * <code>optional .xtreemfs.pbrpc.VivaldiCoordinates coordinates = 3;</code>
+     *
+     * <pre>
+     * optional set of Vivaldi coordinates of the client, which can be used
+     * to order the list of replicas
+     * </pre>
+     */
+    org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.VivaldiCoordinatesOrBuilder getCoordinatesOrBuilder();
+  }
+  /**
+   * Protobuf type {@code xtreemfs.pbrpc.xtreemfs_get_xlocsetsRequest}
+   *
+   * <pre>
+   * requests the XLocSets of multiple files at once
+   * </pre>
+   */
+  public static final class xtreemfs_get_xlocsetsRequest extends
+      com.google.protobuf.GeneratedMessage
+      implements xtreemfs_get_xlocsetsRequestOrBuilder {
+    // Use xtreemfs_get_xlocsetsRequest.newBuilder() to construct.
+    private xtreemfs_get_xlocsetsRequest(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+      this.unknownFields = builder.getUnknownFields();
+    }
+    private xtreemfs_get_xlocsetsRequest(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+    private static final xtreemfs_get_xlocsetsRequest defaultInstance;
+    public static xtreemfs_get_xlocsetsRequest getDefaultInstance() {
+      return defaultInstance;
+    }
+
+    public xtreemfs_get_xlocsetsRequest getDefaultInstanceForType() {
+      return defaultInstance;
+    }
+
+    private final com.google.protobuf.UnknownFieldSet unknownFields;
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+        getUnknownFields() {
+      return this.unknownFields;
+    }
+    private xtreemfs_get_xlocsetsRequest(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      initFields();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 10: {
+              bitField0_ |= 0x00000001;
+              volumeName_ = input.readBytes();
+              break;
+            }
+            case 18: {
+              if (!((mutable_bitField0_ & 0x00000002) == 0x00000002)) {
+                paths_ = new com.google.protobuf.LazyStringArrayList();
+                mutable_bitField0_ |= 0x00000002;
+              }
+              paths_.add(input.readBytes());
+              break;
+            }
+            case 26: {
+              org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.VivaldiCoordinates.Builder subBuilder = null;
+              if (((bitField0_ & 0x00000002) == 0x00000002)) {
+                subBuilder = coordinates_.toBuilder();
+              }
+              coordinates_ = input.readMessage(org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.VivaldiCoordinates.PARSER, extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(coordinates_);
+                coordinates_ = subBuilder.buildPartial();
+              }
+              bitField0_ |= 0x00000002;
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e.getMessage()).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000002) == 0x00000002)) {
+          paths_ = new com.google.protobuf.UnmodifiableLazyStringList(paths_);
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.xtreemfs.pbrpc.generatedinterfaces.MRC.internal_static_xtreemfs_pbrpc_xtreemfs_get_xlocsetsRequest_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.xtreemfs.pbrpc.generatedinterfaces.MRC.internal_static_xtreemfs_pbrpc_xtreemfs_get_xlocsetsRequest_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_get_xlocsetsRequest.class, org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_get_xlocsetsRequest.Builder.class);
+    }
+
+    public static com.google.protobuf.Parser<xtreemfs_get_xlocsetsRequest> PARSER =
+        new com.google.protobuf.AbstractParser<xtreemfs_get_xlocsetsRequest>() {
+      public xtreemfs_get_xlocsetsRequest parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new xtreemfs_get_xlocsetsRequest(input, extensionRegistry);
+      }
+    };
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<xtreemfs_get_xlocsetsRequest> getParserForType() {
+      return PARSER;
+    }
+
+    private int bitField0_;
+    // required string volume_name = 1;
+    public static final int VOLUME_NAME_FIELD_NUMBER = 1;
+    private java.lang.Object volumeName_;
+    /**
+     * <code>required string volume_name = 1;</code>
+     *
+     * <pre>
+     * the volume name
+     * </pre>
+     */
+    public boolean hasVolumeName() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    /**
+     * <code>required string volume_name = 1;</code>
+     *
+     * <pre>
+     * the volume name
+     * </pre>
+     */
+    public java.lang.String getVolumeName() {
+      java.lang.Object ref = volumeName_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          volumeName_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>required string volume_name = 1;</code>
+     *
+     * <pre>
+     * the volume name
+     * </pre>
+     */
+    public com.google.protobuf.ByteString
+        getVolumeNameBytes() {
+      java.lang.Object ref = volumeName_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        volumeName_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    // repeated string paths = 2;
+    public static final int PATHS_FIELD_NUMBER = 2;
+    private com.google.protobuf.LazyStringList paths_;
+    /**
+     * <code>repeated string paths = 2;</code>
+     *
+     * <pre>
+     * the paths to the files, relative to the volume root
+     * </pre>
+     */
+    public java.util.List<java.lang.String>
+        getPathsList() {
+      return paths_;
+    }
+    /**
+     * <code>repeated string paths = 2;</code>
+     *
+     * <pre>
+     * the paths to the files, relative to the volume root
+     * </pre>
+     */
+    public int getPathsCount() {
+      return paths_.size();
+    }
+    /**
+     * <code>repeated string paths = 2;</code>
+     *
+     * <pre>
+     * the paths to the files, relative to the volume root
+     * </pre>
+     */
+    public java.lang.String getPaths(int index) {
+      return paths_.get(index);
+    }
+    /**
+     * <code>repeated string paths = 2;</code>
+     *
+     * <pre>
+     * the paths to the files, relative to the volume root
+     * </pre>
+     */
+    public com.google.protobuf.ByteString
+        getPathsBytes(int index) {
+      return paths_.getByteString(index);
+    }
+
+    // optional .xtreemfs.pbrpc.VivaldiCoordinates coordinates = 3;
+    public static final int COORDINATES_FIELD_NUMBER = 3;
+    private org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.VivaldiCoordinates coordinates_;
+    /**
+     * <code>optional .xtreemfs.pbrpc.VivaldiCoordinates coordinates = 3;</code>
+     *
+     * <pre>
+     * optional set of Vivaldi coordinates of the client, which can be used
+     * to order the list of replicas
+     * </pre>
+     */
+    public boolean hasCoordinates() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
+    }
+    /**
+     * <code>optional .xtreemfs.pbrpc.VivaldiCoordinates coordinates = 3;</code>
+     *
+     * <pre>
+     * optional set of Vivaldi coordinates of the client, which can be used
+     * to order the list of replicas
+     * </pre>
+     */
+    public org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.VivaldiCoordinates getCoordinates() {
+      return coordinates_;
+    }
+    /**
+     * <code>optional .xtreemfs.pbrpc.VivaldiCoordinates coordinates = 3;</code>
+     *
+     * <pre>
+     * optional set of Vivaldi coordinates of the client, which can be used
+     * to order the list of replicas
+     * </pre>
+     */
+    public org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.VivaldiCoordinatesOrBuilder getCoordinatesOrBuilder() {
+      return coordinates_;
+    }
+
+    private void initFields() {
+      volumeName_ = "";
+      paths_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+      coordinates_ = org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.VivaldiCoordinates.getDefaultInstance();
+    }
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized != -1) return isInitialized == 1;
+
+      if (!hasVolumeName()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (hasCoordinates()) {
+        if (!getCoordinates().isInitialized()) {
+          memoizedIsInitialized = 0;
+          return false;
+        }
+      }
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeBytes(1, getVolumeNameBytes());
+      }
+      for (int i = 0; i < paths_.size(); i++) {
+        output.writeBytes(2, paths_.getByteString(i));
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        output.writeMessage(3, coordinates_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    private int memoizedSerializedSize = -1;
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(1, getVolumeNameBytes());
+      }
+      {
+        int dataSize = 0;
+        for (int i = 0; i < paths_.size(); i++) {
+          dataSize += com.google.protobuf.CodedOutputStream
+            .computeBytesSizeNoTag(paths_.getByteString(i));
+        }
+        size += dataSize;
+        size += 1 * getPathsList().size();
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(3, coordinates_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSerializedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
+      return super.writeReplace();
+    }
+
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_get_xlocsetsRequest parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_get_xlocsetsRequest parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_get_xlocsetsRequest parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_get_xlocsetsRequest parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_get_xlocsetsRequest parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_get_xlocsetsRequest parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_get_xlocsetsRequest parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_get_xlocsetsRequest parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_get_xlocsetsRequest parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_get_xlocsetsRequest parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_get_xlocsetsRequest prototype) {
+      return newBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() { return newBuilder(this); }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code xtreemfs.pbrpc.xtreemfs_get_xlocsetsRequest}
+     *
+     * <pre>
+     * requests the XLocSets of multiple files at once
+     * </pre>
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder>
+       implements org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_get_xlocsetsRequestOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.xtreemfs.pbrpc.generatedinterfaces.MRC.internal_static_xtreemfs_pbrpc_xtreemfs_get_xlocsetsRequest_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.xtreemfs.pbrpc.generatedinterfaces.MRC.internal_static_xtreemfs_pbrpc_xtreemfs_get_xlocsetsRequest_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_get_xlocsetsRequest.class, org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_get_xlocsetsRequest.Builder.class);
+      }
+
+      // Construct using org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_get_xlocsetsRequest.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+          getCoordinatesFieldBuilder();
+        }
+      }
+      private static Builder create() {
+        return new Builder();
+      }
+
+      public Builder clear() {
+        super.clear();
+        volumeName_ = "";
+        bitField0_ = (bitField0_ & ~0x00000001);
+        paths_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+        bitField0_ = (bitField0_ & ~0x00000002);
+        if (coordinatesBuilder_ == null) {
+          coordinates_ = org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.VivaldiCoordinates.getDefaultInstance();
+        } else {
+          coordinatesBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000004);
+        return this;
+      }
+
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.xtreemfs.pbrpc.generatedinterfaces.MRC.internal_static_xtreemfs_pbrpc_xtreemfs_get_xlocsetsRequest_descriptor;
+      }
+
+      public org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_get_xlocsetsRequest getDefaultInstanceForType() {
+        return org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_get_xlocsetsRequest.getDefaultInstance();
+      }
+
+      public org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_get_xlocsetsRequest build() {
+        org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_get_xlocsetsRequest result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_get_xlocsetsRequest buildPartial() {
+        org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_get_xlocsetsRequest result = new org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_get_xlocsetsRequest(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.volumeName_ = volumeName_;
+        if (((bitField0_ & 0x00000002) == 0x00000002)) {
+          paths_ = new com.google.protobuf.UnmodifiableLazyStringList(
+              paths_);
+          bitField0_ = (bitField0_ & ~0x00000002);
+        }
+        result.paths_ = paths_;
+        if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
+          to_bitField0_ |= 0x00000002;
+        }
+        if (coordinatesBuilder_ == null) {
+          result.coordinates_ = coordinates_;
+        } else {
+          result.coordinates_ = coordinatesBuilder_.build();
+        }
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_get_xlocsetsRequest) {
+          return mergeFrom((org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_get_xlocsetsRequest)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_get_xlocsetsRequest other) {
+        if (other == org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_get_xlocsetsRequest.getDefaultInstance()) return this;
+        if (other.hasVolumeName()) {
+          bitField0_ |= 0x00000001;
+          volumeName_ = other.volumeName_;
+          onChanged();
+        }
+        if (!other.paths_.isEmpty()) {
+          if (paths_.isEmpty()) {
+            paths_ = other.paths_;
+            bitField0_ = (bitField0_ & ~0x00000002);
+          } else {
+            ensurePathsIsMutable();
+            paths_.addAll(other.paths_);
+          }
+          onChanged();
+        }
+        if (other.hasCoordinates()) {
+          mergeCoordinates(other.getCoordinates());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        if (!hasVolumeName()) {
+          
+          return false;
+        }
+        if (hasCoordinates()) {
+          if (!getCoordinates().isInitialized()) {
+            
+            return false;
+          }
+        }
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_get_xlocsetsRequest parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_get_xlocsetsRequest) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      // required string volume_name = 1;
+      private java.lang.Object volumeName_ = "";
+      /**
+       * <code>required string volume_name = 1;</code>
+       *
+       * <pre>
+       * the volume name
+       * </pre>
+       */
+      public boolean hasVolumeName() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      /**
+       * <code>required string volume_name = 1;</code>
+       *
+       * <pre>
+       * the volume name
+       * </pre>
+       */
+      public java.lang.String getVolumeName() {
+        java.lang.Object ref = volumeName_;
+        if (!(ref instanceof java.lang.String)) {
+          java.lang.String s = ((com.google.protobuf.ByteString) ref)
+              .toStringUtf8();
+          volumeName_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>required string volume_name = 1;</code>
+       *
+       * <pre>
+       * the volume name
+       * </pre>
+       */
+      public com.google.protobuf.ByteString
+          getVolumeNameBytes() {
+        java.lang.Object ref = volumeName_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          volumeName_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>required string volume_name = 1;</code>
+       *
+       * <pre>
+       * the volume name
+       * </pre>
+       */
+      public Builder setVolumeName(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+        volumeName_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required string volume_name = 1;</code>
+       *
+       * <pre>
+       * the volume name
+       * </pre>
+       */
+      public Builder clearVolumeName() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        volumeName_ = getDefaultInstance().getVolumeName();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required string volume_name = 1;</code>
+       *
+       * <pre>
+       * the volume name
+       * </pre>
+       */
+      public Builder setVolumeNameBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+        volumeName_ = value;
+        onChanged();
+        return this;
+      }
+
+      // repeated string paths = 2;
+      private com.google.protobuf.LazyStringList paths_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+      private void ensurePathsIsMutable() {
+        if (!((bitField0_ & 0x00000002) == 0x00000002)) {
+          paths_ = new com.google.protobuf.LazyStringArrayList(paths_);
+          bitField0_ |= 0x00000002;
+         }
+      }
+      /**
+       * <code>repeated string paths = 2;</code>
+       *
+       * <pre>
+       * the paths to the files, relative to the volume root
+       * </pre>
+       */
+      public java.util.List<java.lang.String>
+          getPathsList() {
+        return java.util.Collections.unmodifiableList(paths_);
+      }
+      /**
+       * <code>repeated string paths = 2;</code>
+       *
+       * <pre>
+       * the paths to the files, relative to the volume root
+       * </pre>
+       */
+      public int getPathsCount() {
+        return paths_.size();
+      }
+      /**
+       * <code>repeated string paths = 2;</code>
+       *
+       * <pre>
+       * the paths to the files, relative to the volume root
+       * </pre>
+       */
+      public java.lang.String getPaths(int index) {
+        return paths_.get(index);
+      }
+      /**
+       * <code>repeated string paths = 2;</code>
+       *
+       * <pre>
+       * the paths to the files, relative to the volume root
+       * </pre>
+       */
+      public com.google.protobuf.ByteString
+          getPathsBytes(int index) {
+        return paths_.getByteString(index);
+      }
+      /**
+       * <code>repeated string paths = 2;</code>
+       *
+       * <pre>
+       * the paths to the files, relative to the volume root
+       * </pre>
+       */
+      public Builder setPaths(
+          int index, java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensurePathsIsMutable();
+        paths_.set(index, value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string paths = 2;</code>
+       *
+       * <pre>
+       * the paths to the files, relative to the volume root
+       * </pre>
+       */
+      public Builder addPaths(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensurePathsIsMutable();
+        paths_.add(value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string paths = 2;</code>
+       *
+       * <pre>
+       * the paths to the files, relative to the volume root
+       * </pre>
+       */
+      public Builder addAllPaths(
+          java.lang.Iterable<java.lang.String> values) {
+        ensurePathsIsMutable();
+        super.addAll(values, paths_);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string paths = 2;</code>
+       *
+       * <pre>
+       * the paths to the files, relative to the volume root
+       * </pre>
+       */
+      public Builder clearPaths() {
+        paths_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+        bitField0_ = (bitField0_ & ~0x00000002);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string paths = 2;</code>
+       *
+       * <pre>
+       * the paths to the files, relative to the volume root
+       * </pre>
+       */
+      public Builder addPathsBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensurePathsIsMutable();
+        paths_.add(value);
+        onChanged();
+        return this;
+      }
+
+      // optional .xtreemfs.pbrpc.VivaldiCoordinates coordinates = 3;
+      private org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.VivaldiCoordinates coordinates_ = org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.VivaldiCoordinates.getDefaultInstance();
+      private com.google.protobuf.SingleFieldBuilder<
+          org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.VivaldiCoordinates, org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.VivaldiCoordinates.Builder, org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.VivaldiCoordinatesOrBuilder> coordinatesBuilder_;
+      /**
+       * <code>optional .xtreemfs.pbrpc.VivaldiCoordinates coordinates = 3;</code>
+       *
+       * <pre>
+       * optional set of Vivaldi coordinates of the client, which can be used
+       * to order the list of replicas
+       * </pre>
+       */
+      public boolean hasCoordinates() {
+        return ((bitField0_ & 0x00000004) == 0x00000004);
+      }
+      /**
+       * <code>optional .xtreemfs.pbrpc.VivaldiCoordinates coordinates = 3;</code>
+       *
+       * <pre>
+       * optional set of Vivaldi coordinates of the client, which can be used
+       * to order the list of replicas
+       * </pre>
+       */
+      public org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.VivaldiCoordinates getCoordinates() {
+        if (coordinatesBuilder_ == null) {
+          return coordinates_;
+        } else {
+          return coordinatesBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>optional .xtreemfs.pbrpc.VivaldiCoordinates coordinates = 3;</code>
+       *
+       * <pre>
+       * optional set of Vivaldi coordinates of the client, which can be used
+       * to order the list of replicas
+       * </pre>
+       */
+      public Builder setCoordinates(org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.VivaldiCoordinates value) {
+        if (coordinatesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          coordinates_ = value;
+          onChanged();
+        } else {
+          coordinatesBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000004;
+        return this;
+      }
+      /**
+       * <code>optional .xtreemfs.pbrpc.VivaldiCoordinates coordinates = 3;</code>
+       *
+       * <pre>
+       * optional set of Vivaldi coordinates of the client, which can be used
+       * to order the list of replicas
+       * </pre>
+       */
+      public Builder setCoordinates(
+          org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.VivaldiCoordinates.Builder builderForValue) {
+        if (coordinatesBuilder_ == null) {
+          coordinates_ = builderForValue.build();
+          onChanged();
+        } else {
+          coordinatesBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000004;
+        return this;
+      }
+      /**
+       * <code>optional .xtreemfs.pbrpc.VivaldiCoordinates coordinates = 3;</code>
+       *
+       * <pre>
+       * optional set of Vivaldi coordinates of the client, which can be used
+       * to order the list of replicas
+       * </pre>
+       */
+      public Builder mergeCoordinates(org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.VivaldiCoordinates value) {
+        if (coordinatesBuilder_ == null) {
+          if (((bitField0_ & 0x00000004) == 0x00000004) &&
+              coordinates_ != org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.VivaldiCoordinates.getDefaultInstance()) {
+            coordinates_ =
+              org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.VivaldiCoordinates.newBuilder(coordinates_).mergeFrom(value).buildPartial();
+          } else {
+            coordinates_ = value;
+          }
+          onChanged();
+        } else {
+          coordinatesBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000004;
+        return this;
+      }
+      /**
+       * <code>optional .xtreemfs.pbrpc.VivaldiCoordinates coordinates = 3;</code>
+       *
+       * <pre>
+       * optional set of Vivaldi coordinates of the client, which can be used
+       * to order the list of replicas
+       * </pre>
+       */
+      public Builder clearCoordinates() {
+        if (coordinatesBuilder_ == null) {
+          coordinates_ = org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.VivaldiCoordinates.getDefaultInstance();
+          onChanged();
+        } else {
+          coordinatesBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000004);
+        return this;
+      }
+      /**
+       * <code>optional .xtreemfs.pbrpc.VivaldiCoordinates coordinates = 3;</code>
+       *
+       * <pre>
+       * optional set of Vivaldi coordinates of the client, which can be used
+       * to order the list of replicas
+       * </pre>
+       */
+      public org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.VivaldiCoordinates.Builder getCoordinatesBuilder() {
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return getCoordinatesFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>optional .xtreemfs.pbrpc.VivaldiCoordinates coordinates = 3;</code>
+       *
+       * <pre>
+       * optional set of Vivaldi coordinates of the client, which can be used
+       * to order the list of replicas
+       * </pre>
+       */
+      public org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.VivaldiCoordinatesOrBuilder getCoordinatesOrBuilder() {
+        if (coordinatesBuilder_ != null) {
+          return coordinatesBuilder_.getMessageOrBuilder();
+        } else {
+          return coordinates_;
+        }
+      }
+      /**
+       * <code>optional .xtreemfs.pbrpc.VivaldiCoordinates coordinates = 3;</code>
+       *
+       * <pre>
+       * optional set of Vivaldi coordinates of the client, which can be used
+       * to order the list of replicas
+       * </pre>
+       */
+      private com.google.protobuf.SingleFieldBuilder<
+          org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.VivaldiCoordinates, org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.VivaldiCoordinates.Builder, org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.VivaldiCoordinatesOrBuilder> 
+          getCoordinatesFieldBuilder() {
+        if (coordinatesBuilder_ == null) {
+          coordinatesBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.VivaldiCoordinates, org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.VivaldiCoordinates.Builder, org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.VivaldiCoordinatesOrBuilder>(
+                  coordinates_,
+                  getParentForChildren(),
+                  isClean());
+          coordinates_ = null;
+        }
+        return coordinatesBuilder_;
+      }
+
+      // @@protoc_insertion_point(builder_scope:xtreemfs.pbrpc.xtreemfs_get_xlocsetsRequest)
+    }
+
+    static {
+      defaultInstance = new xtreemfs_get_xlocsetsRequest(true);
+      defaultInstance.initFields();
+    }
+
+    // @@protoc_insertion_point(class_scope:xtreemfs.pbrpc.xtreemfs_get_xlocsetsRequest)
+  }
+
+  public interface xtreemfs_get_xlocsetsResponseOrBuilder
+      extends com.google.protobuf.MessageOrBuilder {
+
+    // repeated .xtreemfs.pbrpc.XLocSet xlocsets = 1;
+    /**
+     * <code>repeated .xtreemfs.pbrpc.XLocSet xlocsets = 1;</code>
+     *
+     * <pre>
+     * the XLocSets with replicas ordered by the replica selection policy of
+     * the volume, in the order of the request; XLocSets without replicas
+     * are returned for paths that do not exist, cannot be accessed or do not
+     * refer to files
+     * </pre>
+     */
+    java.util.List<org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XLocSet> 
+        getXlocsetsList();
+    /**
+     * <code>repeated .xtreemfs.pbrpc.XLocSet xlocsets = 1;</code>
+     *
+     * <pre>
+     * the XLocSets with replicas ordered by the replica selection policy of
+     * the volume, in the order of the request; XLocSets without replicas
+     * are returned for paths that do not exist, cannot be accessed or do not
+     * refer to files
+     * </pre>
+     */
+    org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XLocSet getXlocsets(int index);
+    /**
+     * <code>repeated .xtreemfs.pbrpc.XLocSet xlocsets = 1;</code>
+     *
+     * <pre>
+     * the XLocSets with replicas ordered by the replica selection policy of
+     * the volume, in the order of the request; XLocSets without replicas
+     * are returned for paths that do not exist, cannot be accessed or do not
+     * refer to files
+     * </pre>
+     */
+    int getXlocsetsCount();
+    /**
+     * <code>repeated .xtreemfs.pbrpc.XLocSet xlocsets = 1;</code>
+     *
+     * <pre>
+     * the XLocSets with replicas ordered by the replica selection policy of
+     * the volume, in the order of the request; XLocSets without replicas
+     * are returned for paths that do not exist, cannot be accessed or do not
+     * refer to files
+     * </pre>
+     */
+    java.util.List<? extends org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XLocSetOrBuilder> 
+        getXlocsetsOrBuilderList();
+    /**
+     * <code>repeated .xtreemfs.pbrpc.XLocSet xlocsets = 1;</code>
+     *
+     * <pre>
+     * the XLocSets with replicas ordered by the replica selection policy of
+     * the volume, in the order of the request; XLocSets without replicas
+     * are returned for paths that do not exist, cannot be accessed or do not
+     * refer to files
+     * </pre>
+     */
+    org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XLocSetOrBuilder getXlocsetsOrBuilder(
+        int index);
+  }
+  /**
+   * Protobuf type {@code xtreemfs.pbrpc.xtreemfs_get_xlocsetsResponse}
+   */
+  public static final class xtreemfs_get_xlocsetsResponse extends
+      com.google.protobuf.GeneratedMessage
+      implements xtreemfs_get_xlocsetsResponseOrBuilder {
+    // Use xtreemfs_get_xlocsetsResponse.newBuilder() to construct.
+    private xtreemfs_get_xlocsetsResponse(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+      this.unknownFields = builder.getUnknownFields();
+    }
+    private xtreemfs_get_xlocsetsResponse(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+    private static final xtreemfs_get_xlocsetsResponse defaultInstance;
+    public static xtreemfs_get_xlocsetsResponse getDefaultInstance() {
+      return defaultInstance;
+    }
+
+    public xtreemfs_get_xlocsetsResponse getDefaultInstanceForType() {
+      return defaultInstance;
+    }
+
+    private final com.google.protobuf.UnknownFieldSet unknownFields;
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+        getUnknownFields() {
+      return this.unknownFields;
+    }
+    private xtreemfs_get_xlocsetsResponse(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      initFields();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 10: {
+              if (!((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
+                xlocsets_ = new java.util.ArrayList<org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XLocSet>();
+                mutable_bitField0_ |= 0x00000001;
+              }
+              xlocsets_.add(input.readMessage(org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XLocSet.PARSER, extensionRegistry));
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e.getMessage()).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
+          xlocsets_ = java.util.Collections.unmodifiableList(xlocsets_);
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.xtreemfs.pbrpc.generatedinterfaces.MRC.internal_static_xtreemfs_pbrpc_xtreemfs_get_xlocsetsResponse_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.xtreemfs.pbrpc.generatedinterfaces.MRC.internal_static_xtreemfs_pbrpc_xtreemfs_get_xlocsetsResponse_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_get_xlocsetsResponse.class, org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_get_xlocsetsResponse.Builder.class);
+    }
+
+    public static com.google.protobuf.Parser<xtreemfs_get_xlocsetsResponse> PARSER =
+        new com.google.protobuf.AbstractParser<xtreemfs_get_xlocsetsResponse>() {
+      public xtreemfs_get_xlocsetsResponse parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new xtreemfs_get_xlocsetsResponse(input, extensionRegistry);
+      }
+    };
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<xtreemfs_get_xlocsetsResponse> getParserForType() {
+      return PARSER;
+    }
+
+    // repeated .xtreemfs.pbrpc.XLocSet xlocsets = 1;
+    public static final int XLOCSETS_FIELD_NUMBER = 1;
+    private java.util.List<org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XLocSet> xlocsets_;
+    /**
+     * <code>repeated .xtreemfs.pbrpc.XLocSet xlocsets = 1;</code>
+     *
+     * <pre>
+     * the XLocSets with replicas ordered by the replica selection policy of
+     * the volume, in the order of the request; XLocSets without replicas
+     * are returned for paths that do not exist, cannot be accessed or do not
+     * refer to files
+     * </pre>
+     */
+    public java.util.List<org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XLocSet> getXlocsetsList() {
+      return xlocsets_;
+    }
+    /**
+     * <code>repeated .xtreemfs.pbrpc.XLocSet xlocsets = 1;</code>
+     *
+     * <pre>
+     * the XLocSets with replicas ordered by the replica selection policy of
+     * the volume, in the order of the request; XLocSets without replicas
+     * are returned for paths that do not exist, cannot be accessed or do not
+     * refer to files
+     * </pre>
+     */
+    public java.util.List<? extends org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XLocSetOrBuilder> 
+        getXlocsetsOrBuilderList() {
+      return xlocsets_;
+    }
+    /**
+     * <code>repeated .xtreemfs.pbrpc.XLocSet xlocsets = 1;</code>
+     *
+     * <pre>
+     * the XLocSets with replicas ordered by the replica selection policy of
+     * the volume, in the order of the request; XLocSets without replicas
+     * are returned for paths that do not exist, cannot be accessed or do not
+     * refer to files
+     * </pre>
+     */
+    public int getXlocsetsCount() {
+      return xlocsets_.size();
+    }
+    /**
+     * <code>repeated .xtreemfs.pbrpc.XLocSet xlocsets = 1;</code>
+     *
+     * <pre>
+     * the XLocSets with replicas ordered by the replica selection policy of
+     * the volume, in the order of the request; XLocSets without replicas
+     * are returned for paths that do not exist, cannot be accessed or do not
+     * refer to files
+     * </pre>
+     */
+    public org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XLocSet getXlocsets(int index) {
+      return xlocsets_.get(index);
+    }
+    /**
+     * <code>repeated .xtreemfs.pbrpc.XLocSet xlocsets = 1;</code>
+     *
+     * <pre>
+     * the XLocSets with replicas ordered by the replica selection policy of
+     * the volume, in the order of the request; XLocSets without replicas
+     * are returned for paths that do not exist, cannot be accessed or do not
+     * refer to files
+     * </pre>
+     */
+    public org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XLocSetOrBuilder getXlocsetsOrBuilder(
+        int index) {
+      return xlocsets_.get(index);
+    }
+
+    private void initFields() {
+      xlocsets_ = java.util.Collections.emptyList();
+    }
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized != -1) return isInitialized == 1;
+
+      for (int i = 0; i < getXlocsetsCount(); i++) {
+        if (!getXlocsets(i).isInitialized()) {
+          memoizedIsInitialized = 0;
+          return false;
+        }
+      }
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      for (int i = 0; i < xlocsets_.size(); i++) {
+        output.writeMessage(1, xlocsets_.get(i));
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    private int memoizedSerializedSize = -1;
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      for (int i = 0; i < xlocsets_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, xlocsets_.get(i));
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSerializedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
+      return super.writeReplace();
+    }
+
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_get_xlocsetsResponse parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_get_xlocsetsResponse parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_get_xlocsetsResponse parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_get_xlocsetsResponse parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_get_xlocsetsResponse parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_get_xlocsetsResponse parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_get_xlocsetsResponse parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_get_xlocsetsResponse parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_get_xlocsetsResponse parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_get_xlocsetsResponse parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_get_xlocsetsResponse prototype) {
+      return newBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() { return newBuilder(this); }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code xtreemfs.pbrpc.xtreemfs_get_xlocsetsResponse}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder>
+       implements org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_get_xlocsetsResponseOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.xtreemfs.pbrpc.generatedinterfaces.MRC.internal_static_xtreemfs_pbrpc_xtreemfs_get_xlocsetsResponse_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.xtreemfs.pbrpc.generatedinterfaces.MRC.internal_static_xtreemfs_pbrpc_xtreemfs_get_xlocsetsResponse_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_get_xlocsetsResponse.class, org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_get_xlocsetsResponse.Builder.class);
+      }
+
+      // Construct using org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_get_xlocsetsResponse.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+          getXlocsetsFieldBuilder();
+        }
+      }
+      private static Builder create() {
+        return new Builder();
+      }
+
+      public Builder clear() {
+        super.clear();
+        if (xlocsetsBuilder_ == null) {
+          xlocsets_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+        } else {
+          xlocsetsBuilder_.clear();
+        }
+        return this;
+      }
+
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.xtreemfs.pbrpc.generatedinterfaces.MRC.internal_static_xtreemfs_pbrpc_xtreemfs_get_xlocsetsResponse_descriptor;
+      }
+
+      public org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_get_xlocsetsResponse getDefaultInstanceForType() {
+        return org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_get_xlocsetsResponse.getDefaultInstance();
+      }
+
+      public org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_get_xlocsetsResponse build() {
+        org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_get_xlocsetsResponse result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_get_xlocsetsResponse buildPartial() {
+        org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_get_xlocsetsResponse result = new org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_get_xlocsetsResponse(this);
+        int from_bitField0_ = bitField0_;
+        if (xlocsetsBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) == 0x00000001)) {
+            xlocsets_ = java.util.Collections.unmodifiableList(xlocsets_);
+            bitField0_ = (bitField0_ & ~0x00000001);
+          }
+          result.xlocsets_ = xlocsets_;
+        } else {
+          result.xlocsets_ = xlocsetsBuilder_.build();
+        }
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_get_xlocsetsResponse) {
+          return mergeFrom((org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_get_xlocsetsResponse)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_get_xlocsetsResponse other) {
+        if (other == org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_get_xlocsetsResponse.getDefaultInstance()) return this;
+        if (xlocsetsBuilder_ == null) {
+          if (!other.xlocsets_.isEmpty()) {
+            if (xlocsets_.isEmpty()) {
+              xlocsets_ = other.xlocsets_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+            } else {
+              ensureXlocsetsIsMutable();
+              xlocsets_.addAll(other.xlocsets_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.xlocsets_.isEmpty()) {
+            if (xlocsetsBuilder_.isEmpty()) {
+              xlocsetsBuilder_.dispose();
+              xlocsetsBuilder_ = null;
+              xlocsets_ = other.xlocsets_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+              xlocsetsBuilder_ = 
+                com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
+                   getXlocsetsFieldBuilder() : null;
+            } else {
+              xlocsetsBuilder_.addAllMessages(other.xlocsets_);
+            }
+          }
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        for (int i = 0; i < getXlocsetsCount(); i++) {
+          if (!getXlocsets(i).isInitialized()) {
+            
+            return false;
+          }
+        }
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_get_xlocsetsResponse parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_get_xlocsetsResponse) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      // repeated .xtreemfs.pbrpc.XLocSet xlocsets = 1;
+      private java.util.List<org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XLocSet> xlocsets_ =
+        java.util.Collections.emptyList();
+      private void ensureXlocsetsIsMutable() {
+        if (!((bitField0_ & 0x00000001) == 0x00000001)) {
+          xlocsets_ = new java.util.ArrayList<org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XLocSet>(xlocsets_);
+          bitField0_ |= 0x00000001;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilder<
+          org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XLocSet, org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XLocSet.Builder, org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XLocSetOrBuilder> xlocsetsBuilder_;
+
+      /**
+       * <code>repeated .xtreemfs.pbrpc.XLocSet xlocsets = 1;</code>
+       *
+       * <pre>
+       * the XLocSets with replicas ordered by the replica selection policy of
+       * the volume, in the order of the request; XLocSets without replicas
+       * are returned for paths that do not exist, cannot be accessed or do not
+       * refer to files
+       * </pre>
+       */
+      public java.util.List<org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XLocSet> getXlocsetsList() {
+        if (xlocsetsBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(xlocsets_);
+        } else {
+          return xlocsetsBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .xtreemfs.pbrpc.XLocSet xlocsets = 1;</code>
+       *
+       * <pre>
+       * the XLocSets with replicas ordered by the replica selection policy of
+       * the volume, in the order of the request; XLocSets without replicas
+       * are returned for paths that do not exist, cannot be accessed or do not
+       * refer to files
+       * </pre>
+       */
+      public int getXlocsetsCount() {
+        if (xlocsetsBuilder_ == null) {
+          return xlocsets_.size();
+        } else {
+          return xlocsetsBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .xtreemfs.pbrpc.XLocSet xlocsets = 1;</code>
+       *
+       * <pre>
+       * the XLocSets with replicas ordered by the replica selection policy of
+       * the volume, in the order of the request; XLocSets without replicas
+       * are returned for paths that do not exist, cannot be accessed or do not
+       * refer to files
+       * </pre>
+       */
+      public org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XLocSet getXlocsets(int index) {
+        if (xlocsetsBuilder_ == null) {
+          return xlocsets_.get(index);
+        } else {
+          return xlocsetsBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .xtreemfs.pbrpc.XLocSet xlocsets = 1;</code>
+       *
+       * <pre>
+       * the XLocSets with replicas ordered by the replica selection policy of
+       * the volume, in the order of the request; XLocSets without replicas
+       * are returned for paths that do not exist, cannot be accessed or do not
+       * refer to files
+       * </pre>
+       */
+      public Builder setXlocsets(
+          int index, org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XLocSet value) {
+        if (xlocsetsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureXlocsetsIsMutable();
+          xlocsets_.set(index, value);
+          onChanged();
+        } else {
+          xlocsetsBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .xtreemfs.pbrpc.XLocSet xlocsets = 1;</code>
+       *
+       * <pre>
+       * the XLocSets with replicas ordered by the replica selection policy of
+       * the volume, in the order of the request; XLocSets without replicas
+       * are returned for paths that do not exist, cannot be accessed or do not
+       * refer to files
+       * </pre>
+       */
+      public Builder setXlocsets(
+          int index, org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XLocSet.Builder builderForValue) {
+        if (xlocsetsBuilder_ == null) {
+          ensureXlocsetsIsMutable();
+          xlocsets_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          xlocsetsBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .xtreemfs.pbrpc.XLocSet xlocsets = 1;</code>
+       *
+       * <pre>
+       * the XLocSets with replicas ordered by the replica selection policy of
+       * the volume, in the order of the request; XLocSets without replicas
+       * are returned for paths that do not exist, cannot be accessed or do not
+       * refer to files
+       * </pre>
+       */
+      public Builder addXlocsets(org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XLocSet value) {
+        if (xlocsetsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureXlocsetsIsMutable();
+          xlocsets_.add(value);
+          onChanged();
+        } else {
+          xlocsetsBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .xtreemfs.pbrpc.XLocSet xlocsets = 1;</code>
+       *
+       * <pre>
+       * the XLocSets with replicas ordered by the replica selection policy of
+       * the volume, in the order of the request; XLocSets without replicas
+       * are returned for paths that do not exist, cannot be accessed or do not
+       * refer to files
+       * </pre>
+       */
+      public Builder addXlocsets(
+          int index, org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XLocSet value) {
+        if (xlocsetsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureXlocsetsIsMutable();
+          xlocsets_.add(index, value);
+          onChanged();
+        } else {
+          xlocsetsBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .xtreemfs.pbrpc.XLocSet xlocsets = 1;</code>
+       *
+       * <pre>
+       * the XLocSets with replicas ordered by the replica selection policy of
+       * the volume, in the order of the request; XLocSets without replicas
+       * are returned for paths that do not exist, cannot be accessed or do not
+       * refer to files
+       * </pre>
+       */
+      public Builder addXlocsets(
+          org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XLocSet.Builder builderForValue) {
+        if (xlocsetsBuilder_ == null) {
+          ensureXlocsetsIsMutable();
+          xlocsets_.add(builderForValue.build());
+          onChanged();
+        } else {
+          xlocsetsBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .xtreemfs.pbrpc.XLocSet xlocsets = 1;</code>
+       *
+       * <pre>
+       * the XLocSets with replicas ordered by the replica selection policy of
+       * the volume, in the order of the request; XLocSets without replicas
+       * are returned for paths that do not exist, cannot be accessed or do not
+       * refer to files
+       * </pre>
+       */
+      public Builder addXlocsets(
+          int index, org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XLocSet.Builder builderForValue) {
+        if (xlocsetsBuilder_ == null) {
+          ensureXlocsetsIsMutable();
+          xlocsets_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          xlocsetsBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .xtreemfs.pbrpc.XLocSet xlocsets = 1;</code>
+       *
+       * <pre>
+       * the XLocSets with replicas ordered by the replica selection policy of
+       * the volume, in the order of the request; XLocSets without replicas
+       * are returned for paths that do not exist, cannot be accessed or do not
+       * refer to files
+       * </pre>
+       */
+      public Builder addAllXlocsets(
+          java.lang.Iterable<? extends org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XLocSet> values) {
+        if (xlocsetsBuilder_ == null) {
+          ensureXlocsetsIsMutable();
+          super.addAll(values, xlocsets_);
+          onChanged();
+        } else {
+          xlocsetsBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .xtreemfs.pbrpc.XLocSet xlocsets = 1;</code>
+       *
+       * <pre>
+       * the XLocSets with replicas ordered by the replica selection policy of
+       * the volume, in the order of the request; XLocSets without replicas
+       * are returned for paths that do not exist, cannot be accessed or do not
+       * refer to files
+       * </pre>
+       */
+      public Builder clearXlocsets() {
+        if (xlocsetsBuilder_ == null) {
+          xlocsets_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+          onChanged();
+        } else {
+          xlocsetsBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .xtreemfs.pbrpc.XLocSet xlocsets = 1;</code>
+       *
+       * <pre>
+       * the XLocSets with replicas ordered by the replica selection policy of
+       * the volume, in the order of the request; XLocSets without replicas
+       * are returned for paths that do not exist, cannot be accessed or do not
+       * refer to files
+       * </pre>
+       */
+      public Builder removeXlocsets(int index) {
+        if (xlocsetsBuilder_ == null) {
+          ensureXlocsetsIsMutable();
+          xlocsets_.remove(index);
+          onChanged();
+        } else {
+          xlocsetsBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .xtreemfs.pbrpc.XLocSet xlocsets = 1;</code>
+       *
+       * <pre>
+       * the XLocSets with replicas ordered by the replica selection policy of
+       * the volume, in the order of the request; XLocSets without replicas
+       * are returned for paths that do not exist, cannot be accessed or do not
+       * refer to files
+       * </pre>
+       */
+      public org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XLocSet.Builder getXlocsetsBuilder(
+          int index) {
+        return getXlocsetsFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .xtreemfs.pbrpc.XLocSet xlocsets = 1;</code>
+       *
+       * <pre>
+       * the XLocSets with replicas ordered by the replica selection policy of
+       * the volume, in the order of the request; XLocSets without replicas
+       * are returned for paths that do not exist, cannot be accessed or do not
+       * refer to files
+       * </pre>
+       */
+      public org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XLocSetOrBuilder getXlocsetsOrBuilder(
+          int index) {
+        if (xlocsetsBuilder_ == null) {
+          return xlocsets_.get(index);  } else {
+          return xlocsetsBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .xtreemfs.pbrpc.XLocSet xlocsets = 1;</code>
+       *
+       * <pre>
+       * the XLocSets with replicas ordered by the replica selection policy of
+       * the volume, in the order of the request; XLocSets without replicas
+       * are returned for paths that do not exist, cannot be accessed or do not
+       * refer to files
+       * </pre>
+       */
+      public java.util.List<? extends org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XLocSetOrBuilder> 
+           getXlocsetsOrBuilderList() {
+        if (xlocsetsBuilder_ != null) {
+          return xlocsetsBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(xlocsets_);
+        }
+      }
+      /**
+       * <code>repeated .xtreemfs.pbrpc.XLocSet xlocsets = 1;</code>
+       *
+       * <pre>
+       * the XLocSets with replicas ordered by the replica selection policy of
+       * the volume, in the order of the request; XLocSets without replicas
+       * are returned for paths that do not exist, cannot be accessed or do not
+       * refer to files
+       * </pre>
+       */
+      public org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XLocSet.Builder addXlocsetsBuilder() {
+        return getXlocsetsFieldBuilder().addBuilder(
+            org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XLocSet.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .xtreemfs.pbrpc.XLocSet xlocsets = 1;</code>
+       *
+       * <pre>
+       * the XLocSets with replicas ordered by the replica selection policy of
+       * the volume, in the order of the request; XLocSets without replicas
+       * are returned for paths that do not exist, cannot be accessed or do not
+       * refer to files
+       * </pre>
+       */
+      public org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XLocSet.Builder addXlocsetsBuilder(
+          int index) {
+        return getXlocsetsFieldBuilder().addBuilder(
+            index, org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XLocSet.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .xtreemfs.pbrpc.XLocSet xlocsets = 1;</code>
+       *
+       * <pre>
+       * the XLocSets with replicas ordered by the replica selection policy of
+       * the volume, in the order of the request; XLocSets without replicas
+       * are returned for paths that do not exist, cannot be accessed or do not
+       * refer to files
+       * </pre>
+       */
+      public java.util.List<org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XLocSet.Builder> 
+           getXlocsetsBuilderList() {
+        return getXlocsetsFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilder<
+          org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XLocSet, org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XLocSet.Builder, org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XLocSetOrBuilder> 
+          getXlocsetsFieldBuilder() {
+        if (xlocsetsBuilder_ == null) {
+          xlocsetsBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
+              org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XLocSet, org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XLocSet.Builder, org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XLocSetOrBuilder>(
+                  xlocsets_,
+                  ((bitField0_ & 0x00000001) == 0x00000001),
+                  getParentForChildren(),
+                  isClean());
+          xlocsets_ = null;
+        }
+        return xlocsetsBuilder_;
+      }
+
+      // @@protoc_insertion_point(builder_scope:xtreemfs.pbrpc.xtreemfs_get_xlocsetsResponse)
+    }
+
+    static {
+      defaultInstance = new xtreemfs_get_xlocsetsResponse(true);
+      defaultInstance.initFields();
+    }
+
+    // @@protoc_insertion_point(class_scope:xtreemfs.pbrpc.xtreemfs_get_xlocsetsResponse)
+  }
+
+  public interface xtreemfs_rmdir_recursiveRequestOrBuilder
+      extends com.google.protobuf.MessageOrBuilder {
+
+    // required string volume_name = 1;
+    /**
+     * <code>required string volume_name = 1;</code>
+     *
+     * <pre>
+     * the volume name
+     * </pre>
+     */
+    boolean hasVolumeName();
+    /**
+     * <code>required string volume_name = 1;</code>
+     *
+     * <pre>
+     * the volume name
+     * </pre>
+     */
+    java.lang.String getVolumeName();
+    /**
+     * <code>required string volume_name = 1;</code>
+     *
+     * <pre>
+     * the volume name
+     * </pre>
+     */
+    com.google.protobuf.ByteString
+        getVolumeNameBytes();
+
+    // required string path = 2;
+    /**
+     * <code>required string path = 2;</code>
+     *
+     * <pre>
+     * the path to the directory, relative to the volume root
+     * </pre>
+     */
+    boolean hasPath();
+    /**
+     * <code>required string path = 2;</code>
+     *
+     * <pre>
+     * the path to the directory, relative to the volume root
+     * </pre>
+     */
+    java.lang.String getPath();
+    /**
+     * <code>required string path = 2;</code>
+     *
+     * <pre>
+     * the path to the directory, relative to the volume root
+     * </pre>
+     */
+    com.google.protobuf.ByteString
+        getPathBytes();
+
+    // required fixed32 max_entries = 3;
+    /**
+     * <code>required fixed32 max_entries = 3;</code>
+     *
+     * <pre>
+     * the maximum number of entries to delete with this call
+     * </pre>
+     */
+    boolean hasMaxEntries();
+    /**
+     * <code>required fixed32 max_entries = 3;</code>
+     *
+     * <pre>
+     * the maximum number of entries to delete with this call
+     * </pre>
+     */
+    int getMaxEntries();
+  }
+  /**
+   * Protobuf type {@code xtreemfs.pbrpc.xtreemfs_rmdir_recursiveRequest}
+   *
+   * <pre>
+   * deletes a directory including all of its contents; at most
+   * max_entries entries are deleted per call, i.e. the call has to be
+   * repeated until the response indicates that the directory was deleted
+   * </pre>
+   */
+  public static final class xtreemfs_rmdir_recursiveRequest extends
+      com.google.protobuf.GeneratedMessage
+      implements xtreemfs_rmdir_recursiveRequestOrBuilder {
+    // Use xtreemfs_rmdir_recursiveRequest.newBuilder() to construct.
+    private xtreemfs_rmdir_recursiveRequest(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+      this.unknownFields = builder.getUnknownFields();
+    }
+    private xtreemfs_rmdir_recursiveRequest(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+    private static final xtreemfs_rmdir_recursiveRequest defaultInstance;
+    public static xtreemfs_rmdir_recursiveRequest getDefaultInstance() {
+      return defaultInstance;
+    }
+
+    public xtreemfs_rmdir_recursiveRequest getDefaultInstanceForType() {
+      return defaultInstance;
+    }
+
+    private final com.google.protobuf.UnknownFieldSet unknownFields;
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+        getUnknownFields() {
+      return this.unknownFields;
+    }
+    private xtreemfs_rmdir_recursiveRequest(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      initFields();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 10: {
+              bitField0_ |= 0x00000001;
+              volumeName_ = input.readBytes();
+              break;
+            }
+            case 18: {
+              bitField0_ |= 0x00000002;
+              path_ = input.readBytes();
+              break;
+            }
+            case 29: {
+              bitField0_ |= 0x00000004;
+              maxEntries_ = input.readFixed32();
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e.getMessage()).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.xtreemfs.pbrpc.generatedinterfaces.MRC.internal_static_xtreemfs_pbrpc_xtreemfs_rmdir_recursiveRequest_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.xtreemfs.pbrpc.generatedinterfaces.MRC.internal_static_xtreemfs_pbrpc_xtreemfs_rmdir_recursiveRequest_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_rmdir_recursiveRequest.class, org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_rmdir_recursiveRequest.Builder.class);
+    }
+
+    public static com.google.protobuf.Parser<xtreemfs_rmdir_recursiveRequest> PARSER =
+        new com.google.protobuf.AbstractParser<xtreemfs_rmdir_recursiveRequest>() {
+      public xtreemfs_rmdir_recursiveRequest parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new xtreemfs_rmdir_recursiveRequest(input, extensionRegistry);
+      }
+    };
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<xtreemfs_rmdir_recursiveRequest> getParserForType() {
+      return PARSER;
+    }
+
+    private int bitField0_;
+    // required string volume_name = 1;
+    public static final int VOLUME_NAME_FIELD_NUMBER = 1;
+    private java.lang.Object volumeName_;
+    /**
+     * <code>required string volume_name = 1;</code>
+     *
+     * <pre>
+     * the volume name
+     * </pre>
+     */
+    public boolean hasVolumeName() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    /**
+     * <code>required string volume_name = 1;</code>
+     *
+     * <pre>
+     * the volume name
+     * </pre>
+     */
+    public java.lang.String getVolumeName() {
+      java.lang.Object ref = volumeName_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          volumeName_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>required string volume_name = 1;</code>
+     *
+     * <pre>
+     * the volume name
+     * </pre>
+     */
+    public com.google.protobuf.ByteString
+        getVolumeNameBytes() {
+      java.lang.Object ref = volumeName_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        volumeName_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    // required string path = 2;
+    public static final int PATH_FIELD_NUMBER = 2;
+    private java.lang.Object path_;
+    /**
+     * <code>required string path = 2;</code>
+     *
+     * <pre>
+     * the path to the directory, relative to the volume root
+     * </pre>
+     */
+    public boolean hasPath() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
+    }
+    /**
+     * <code>required string path = 2;</code>
+     *
+     * <pre>
+     * the path to the directory, relative to the volume root
+     * </pre>
+     */
+    public java.lang.String getPath() {
+      java.lang.Object ref = path_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          path_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>required string path = 2;</code>
+     *
+     * <pre>
+     * the path to the directory, relative to the volume root
+     * </pre>
+     */
+    public com.google.protobuf.ByteString
+        getPathBytes() {
+      java.lang.Object ref = path_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        path_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    // required fixed32 max_entries = 3;
+    public static final int MAX_ENTRIES_FIELD_NUMBER = 3;
+    private int maxEntries_;
+    /**
+     * <code>required fixed32 max_entries = 3;</code>
+     *
+     * <pre>
+     * the maximum number of entries to delete with this call
+     * </pre>
+     */
+    public boolean hasMaxEntries() {
+      return ((bitField0_ & 0x00000004) == 0x00000004);
+    }
+    /**
+     * <code>required fixed32 max_entries = 3;</code>
+     *
+     * <pre>
+     * the maximum number of entries to delete with this call
+     * </pre>
+     */
+    public int getMaxEntries() {
+      return maxEntries_;
+    }
+
+    private void initFields() {
+      volumeName_ = "";
+      path_ = "";
+      maxEntries_ = 0;
+    }
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized != -1) return isInitialized == 1;
+
+      if (!hasVolumeName()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!hasPath()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!hasMaxEntries()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeBytes(1, getVolumeNameBytes());
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        output.writeBytes(2, getPathBytes());
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        output.writeFixed32(3, maxEntries_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    private int memoizedSerializedSize = -1;
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(1, getVolumeNameBytes());
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(2, getPathBytes());
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeFixed32Size(3, maxEntries_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSerializedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
+      return super.writeReplace();
+    }
+
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_rmdir_recursiveRequest parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_rmdir_recursiveRequest parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_rmdir_recursiveRequest parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_rmdir_recursiveRequest parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_rmdir_recursiveRequest parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_rmdir_recursiveRequest parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_rmdir_recursiveRequest parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_rmdir_recursiveRequest parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_rmdir_recursiveRequest parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_rmdir_recursiveRequest parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_rmdir_recursiveRequest prototype) {
+      return newBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() { return newBuilder(this); }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code xtreemfs.pbrpc.xtreemfs_rmdir_recursiveRequest}
+     *
+     * <pre>
+     * deletes a directory including all of its contents; at most
+     * max_entries entries are deleted per call, i.e. the call has to be
+     * repeated until the response indicates that the directory was deleted
+     * </pre>
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder>
+       implements org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_rmdir_recursiveRequestOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.xtreemfs.pbrpc.generatedinterfaces.MRC.internal_static_xtreemfs_pbrpc_xtreemfs_rmdir_recursiveRequest_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.xtreemfs.pbrpc.generatedinterfaces.MRC.internal_static_xtreemfs_pbrpc_xtreemfs_rmdir_recursiveRequest_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_rmdir_recursiveRequest.class, org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_rmdir_recursiveRequest.Builder.class);
+      }
+
+      // Construct using org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_rmdir_recursiveRequest.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+        }
+      }
+      private static Builder create() {
+        return new Builder();
+      }
+
+      public Builder clear() {
+        super.clear();
+        volumeName_ = "";
+        bitField0_ = (bitField0_ & ~0x00000001);
+        path_ = "";
+        bitField0_ = (bitField0_ & ~0x00000002);
+        maxEntries_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000004);
+        return this;
+      }
+
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.xtreemfs.pbrpc.generatedinterfaces.MRC.internal_static_xtreemfs_pbrpc_xtreemfs_rmdir_recursiveRequest_descriptor;
+      }
+
+      public org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_rmdir_recursiveRequest getDefaultInstanceForType() {
+        return org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_rmdir_recursiveRequest.getDefaultInstance();
+      }
+
+      public org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_rmdir_recursiveRequest build() {
+        org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_rmdir_recursiveRequest result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_rmdir_recursiveRequest buildPartial() {
+        org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_rmdir_recursiveRequest result = new org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_rmdir_recursiveRequest(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.volumeName_ = volumeName_;
+        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+          to_bitField0_ |= 0x00000002;
+        }
+        result.path_ = path_;
+        if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
+          to_bitField0_ |= 0x00000004;
+        }
+        result.maxEntries_ = maxEntries_;
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_rmdir_recursiveRequest) {
+          return mergeFrom((org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_rmdir_recursiveRequest)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_rmdir_recursiveRequest other) {
+        if (other == org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_rmdir_recursiveRequest.getDefaultInstance()) return this;
+        if (other.hasVolumeName()) {
+          bitField0_ |= 0x00000001;
+          volumeName_ = other.volumeName_;
+          onChanged();
+        }
+        if (other.hasPath()) {
+          bitField0_ |= 0x00000002;
+          path_ = other.path_;
+          onChanged();
+        }
+        if (other.hasMaxEntries()) {
+          setMaxEntries(other.getMaxEntries());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        if (!hasVolumeName()) {
+          
+          return false;
+        }
+        if (!hasPath()) {
+          
+          return false;
+        }
+        if (!hasMaxEntries()) {
+          
+          return false;
+        }
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_rmdir_recursiveRequest parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_rmdir_recursiveRequest) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      // required string volume_name = 1;
+      private java.lang.Object volumeName_ = "";
+      /**
+       * <code>required string volume_name = 1;</code>
+       *
+       * <pre>
+       * the volume name
+       * </pre>
+       */
+      public boolean hasVolumeName() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      /**
+       * <code>required string volume_name = 1;</code>
+       *
+       * <pre>
+       * the volume name
+       * </pre>
+       */
+      public java.lang.String getVolumeName() {
+        java.lang.Object ref = volumeName_;
+        if (!(ref instanceof java.lang.String)) {
+          java.lang.String s = ((com.google.protobuf.ByteString) ref)
+              .toStringUtf8();
+          volumeName_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>required string volume_name = 1;</code>
+       *
+       * <pre>
+       * the volume name
+       * </pre>
+       */
+      public com.google.protobuf.ByteString
+          getVolumeNameBytes() {
+        java.lang.Object ref = volumeName_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          volumeName_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>required string volume_name = 1;</code>
+       *
+       * <pre>
+       * the volume name
+       * </pre>
+       */
+      public Builder setVolumeName(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+        volumeName_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required string volume_name = 1;</code>
+       *
+       * <pre>
+       * the volume name
+       * </pre>
+       */
+      public Builder clearVolumeName() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        volumeName_ = getDefaultInstance().getVolumeName();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required string volume_name = 1;</code>
+       *
+       * <pre>
+       * the volume name
+       * </pre>
+       */
+      public Builder setVolumeNameBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+        volumeName_ = value;
+        onChanged();
+        return this;
+      }
+
+      // required string path = 2;
+      private java.lang.Object path_ = "";
+      /**
+       * <code>required string path = 2;</code>
+       *
+       * <pre>
+       * the path to the directory, relative to the volume root
+       * </pre>
+       */
+      public boolean hasPath() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
+      }
+      /**
+       * <code>required string path = 2;</code>
+       *
+       * <pre>
+       * the path to the directory, relative to the volume root
+       * </pre>
+       */
+      public java.lang.String getPath() {
+        java.lang.Object ref = path_;
+        if (!(ref instanceof java.lang.String)) {
+          java.lang.String s = ((com.google.protobuf.ByteString) ref)
+              .toStringUtf8();
+          path_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>required string path = 2;</code>
+       *
+       * <pre>
+       * the path to the directory, relative to the volume root
+       * </pre>
+       */
+      public com.google.protobuf.ByteString
+          getPathBytes() {
+        java.lang.Object ref = path_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          path_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>required string path = 2;</code>
+       *
+       * <pre>
+       * the path to the directory, relative to the volume root
+       * </pre>
+       */
+      public Builder setPath(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+        path_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required string path = 2;</code>
+       *
+       * <pre>
+       * the path to the directory, relative to the volume root
+       * </pre>
+       */
+      public Builder clearPath() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        path_ = getDefaultInstance().getPath();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required string path = 2;</code>
+       *
+       * <pre>
+       * the path to the directory, relative to the volume root
+       * </pre>
+       */
+      public Builder setPathBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+        path_ = value;
+        onChanged();
+        return this;
+      }
+
+      // required fixed32 max_entries = 3;
+      private int maxEntries_ ;
+      /**
+       * <code>required fixed32 max_entries = 3;</code>
+       *
+       * <pre>
+       * the maximum number of entries to delete with this call
+       * </pre>
+       */
+      public boolean hasMaxEntries() {
+        return ((bitField0_ & 0x00000004) == 0x00000004);
+      }
+      /**
+       * <code>required fixed32 max_entries = 3;</code>
+       *
+       * <pre>
+       * the maximum number of entries to delete with this call
+       * </pre>
+       */
+      public int getMaxEntries() {
+        return maxEntries_;
+      }
+      /**
+       * <code>required fixed32 max_entries = 3;</code>
+       *
+       * <pre>
+       * the maximum number of entries to delete with this call
+       * </pre>
+       */
+      public Builder setMaxEntries(int value) {
+        bitField0_ |= 0x00000004;
+        maxEntries_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required fixed32 max_entries = 3;</code>
+       *
+       * <pre>
+       * the maximum number of entries to delete with this call
+       * </pre>
+       */
+      public Builder clearMaxEntries() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        maxEntries_ = 0;
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:xtreemfs.pbrpc.xtreemfs_rmdir_recursiveRequest)
+    }
+
+    static {
+      defaultInstance = new xtreemfs_rmdir_recursiveRequest(true);
+      defaultInstance.initFields();
+    }
+
+    // @@protoc_insertion_point(class_scope:xtreemfs.pbrpc.xtreemfs_rmdir_recursiveRequest)
+  }
+
+  public interface xtreemfs_rmdir_recursiveResponseOrBuilder
+      extends com.google.protobuf.MessageOrBuilder {
+
+    // required fixed32 timestamp_s = 1;
+    /**
+     * <code>required fixed32 timestamp_s = 1;</code>
+     *
+     * <pre>
+     * the current server time
+     * </pre>
+     */
+    boolean hasTimestampS();
+    /**
+     * <code>required fixed32 timestamp_s = 1;</code>
+     *
+     * <pre>
+     * the current server time
+     * </pre>
+     */
+    int getTimestampS();
+
+    // required fixed32 num_deleted = 2;
+    /**
+     * <code>required fixed32 num_deleted = 2;</code>
+     *
+     * <pre>
+     * the number of entries deleted with this call; 0 if the MRC is still
+     * busy deleting the objects of previously deleted files, in which case
+     * the client should wait before repeating the call
+     * </pre>
+     */
+    boolean hasNumDeleted();
+    /**
+     * <code>required fixed32 num_deleted = 2;</code>
+     *
+     * <pre>
+     * the number of entries deleted with this call; 0 if the MRC is still
+     * busy deleting the objects of previously deleted files, in which case
+     * the client should wait before repeating the call
+     * </pre>
+     */
+    int getNumDeleted();
+
+    // required bool complete = 3;
+    /**
+     * <code>required bool complete = 3;</code>
+     *
+     * <pre>
+     * true if the directory itself was deleted, i.e. the deletion is complete
+     * </pre>
+     */
+    boolean hasComplete();
+    /**
+     * <code>required bool complete = 3;</code>
+     *
+     * <pre>
+     * true if the directory itself was deleted, i.e. the deletion is complete
+     * </pre>
+     */
+    boolean getComplete();
+  }
+  /**
+   * Protobuf type {@code xtreemfs.pbrpc.xtreemfs_rmdir_recursiveResponse}
+   */
+  public static final class xtreemfs_rmdir_recursiveResponse extends
+      com.google.protobuf.GeneratedMessage
+      implements xtreemfs_rmdir_recursiveResponseOrBuilder {
+    // Use xtreemfs_rmdir_recursiveResponse.newBuilder() to construct.
+    private xtreemfs_rmdir_recursiveResponse(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+      this.unknownFields = builder.getUnknownFields();
+    }
+    private xtreemfs_rmdir_recursiveResponse(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+    private static final xtreemfs_rmdir_recursiveResponse defaultInstance;
+    public static xtreemfs_rmdir_recursiveResponse getDefaultInstance() {
+      return defaultInstance;
+    }
+
+    public xtreemfs_rmdir_recursiveResponse getDefaultInstanceForType() {
+      return defaultInstance;
+    }
+
+    private final com.google.protobuf.UnknownFieldSet unknownFields;
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+        getUnknownFields() {
+      return this.unknownFields;
+    }
+    private xtreemfs_rmdir_recursiveResponse(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      initFields();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 13: {
+              bitField0_ |= 0x00000001;
+              timestampS_ = input.readFixed32();
+              break;
+            }
+            case 21: {
+              bitField0_ |= 0x00000002;
+              numDeleted_ = input.readFixed32();
+              break;
+            }
+            case 24: {
+              bitField0_ |= 0x00000004;
+              complete_ = input.readBool();
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e.getMessage()).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.xtreemfs.pbrpc.generatedinterfaces.MRC.internal_static_xtreemfs_pbrpc_xtreemfs_rmdir_recursiveResponse_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.xtreemfs.pbrpc.generatedinterfaces.MRC.internal_static_xtreemfs_pbrpc_xtreemfs_rmdir_recursiveResponse_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_rmdir_recursiveResponse.class, org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_rmdir_recursiveResponse.Builder.class);
+    }
+
+    public static com.google.protobuf.Parser<xtreemfs_rmdir_recursiveResponse> PARSER =
+        new com.google.protobuf.AbstractParser<xtreemfs_rmdir_recursiveResponse>() {
+      public xtreemfs_rmdir_recursiveResponse parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new xtreemfs_rmdir_recursiveResponse(input, extensionRegistry);
+      }
+    };
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<xtreemfs_rmdir_recursiveResponse> getParserForType() {
+      return PARSER;
+    }
+
+    private int bitField0_;
+    // required fixed32 timestamp_s = 1;
+    public static final int TIMESTAMP_S_FIELD_NUMBER = 1;
+    private int timestampS_;
+    /**
+     * <code>required fixed32 timestamp_s = 1;</code>
+     *
+     * <pre>
+     * the current server time
+     * </pre>
+     */
+    public boolean hasTimestampS() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    /**
+     * <code>required fixed32 timestamp_s = 1;</code>
+     *
+     * <pre>
+     * the current server time
+     * </pre>
+     */
+    public int getTimestampS() {
+      return timestampS_;
+    }
+
+    // required fixed32 num_deleted = 2;
+    public static final int NUM_DELETED_FIELD_NUMBER = 2;
+    private int numDeleted_;
+    /**
+     * <code>required fixed32 num_deleted = 2;</code>
+     *
+     * <pre>
+     * the number of entries deleted with this call; 0 if the MRC is still
+     * busy deleting the objects of previously deleted files, in which case
+     * the client should wait before repeating the call
+     * </pre>
+     */
+    public boolean hasNumDeleted() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
+    }
+    /**
+     * <code>required fixed32 num_deleted = 2;</code>
+     *
+     * <pre>
+     * the number of entries deleted with this call; 0 if the MRC is still
+     * busy deleting the objects of previously deleted files, in which case
+     * the client should wait before repeating the call
+     * </pre>
+     */
+    public int getNumDeleted() {
+      return numDeleted_;
+    }
+
+    // required bool complete = 3;
+    public static final int COMPLETE_FIELD_NUMBER = 3;
+    private boolean complete_;
+    /**
+     * <code>required bool complete = 3;</code>
+     *
+     * <pre>
+     * true if the directory itself was deleted, i.e. the deletion is complete
+     * </pre>
+     */
+    public boolean hasComplete() {
+      return ((bitField0_ & 0x00000004) == 0x00000004);
+    }
+    /**
+     * <code>required bool complete = 3;</code>
+     *
+     * <pre>
+     * true if the directory itself was deleted, i.e. the deletion is complete
+     * </pre>
+     */
+    public boolean getComplete() {
+      return complete_;
+    }
+
+    private void initFields() {
+      timestampS_ = 0;
+      numDeleted_ = 0;
+      complete_ = false;
+    }
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized != -1) return isInitialized == 1;
+
+      if (!hasTimestampS()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!hasNumDeleted()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!hasComplete()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeFixed32(1, timestampS_);
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        output.writeFixed32(2, numDeleted_);
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        output.writeBool(3, complete_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    private int memoizedSerializedSize = -1;
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeFixed32Size(1, timestampS_);
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeFixed32Size(2, numDeleted_);
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(3, complete_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSerializedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
+      return super.writeReplace();
+    }
+
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_rmdir_recursiveResponse parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_rmdir_recursiveResponse parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_rmdir_recursiveResponse parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_rmdir_recursiveResponse parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_rmdir_recursiveResponse parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_rmdir_recursiveResponse parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_rmdir_recursiveResponse parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_rmdir_recursiveResponse parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_rmdir_recursiveResponse parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_rmdir_recursiveResponse parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_rmdir_recursiveResponse prototype) {
+      return newBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() { return newBuilder(this); }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code xtreemfs.pbrpc.xtreemfs_rmdir_recursiveResponse}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder>
+       implements org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_rmdir_recursiveResponseOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.xtreemfs.pbrpc.generatedinterfaces.MRC.internal_static_xtreemfs_pbrpc_xtreemfs_rmdir_recursiveResponse_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.xtreemfs.pbrpc.generatedinterfaces.MRC.internal_static_xtreemfs_pbrpc_xtreemfs_rmdir_recursiveResponse_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_rmdir_recursiveResponse.class, org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_rmdir_recursiveResponse.Builder.class);
+      }
+
+      // Construct using org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_rmdir_recursiveResponse.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+        }
+      }
+      private static Builder create() {
+        return new Builder();
+      }
+
+      public Builder clear() {
+        super.clear();
+        timestampS_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000001);
+        numDeleted_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000002);
+        complete_ = false;
+        bitField0_ = (bitField0_ & ~0x00000004);
+        return this;
+      }
+
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.xtreemfs.pbrpc.generatedinterfaces.MRC.internal_static_xtreemfs_pbrpc_xtreemfs_rmdir_recursiveResponse_descriptor;
+      }
+
+      public org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_rmdir_recursiveResponse getDefaultInstanceForType() {
+        return org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_rmdir_recursiveResponse.getDefaultInstance();
+      }
+
+      public org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_rmdir_recursiveResponse build() {
+        org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_rmdir_recursiveResponse result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_rmdir_recursiveResponse buildPartial() {
+        org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_rmdir_recursiveResponse result = new org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_rmdir_recursiveResponse(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.timestampS_ = timestampS_;
+        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+          to_bitField0_ |= 0x00000002;
+        }
+        result.numDeleted_ = numDeleted_;
+        if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
+          to_bitField0_ |= 0x00000004;
+        }
+        result.complete_ = complete_;
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_rmdir_recursiveResponse) {
+          return mergeFrom((org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_rmdir_recursiveResponse)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_rmdir_recursiveResponse other) {
+        if (other == org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_rmdir_recursiveResponse.getDefaultInstance()) return this;
+        if (other.hasTimestampS()) {
+          setTimestampS(other.getTimestampS());
+        }
+        if (other.hasNumDeleted()) {
+          setNumDeleted(other.getNumDeleted());
+        }
+        if (other.hasComplete()) {
+          setComplete(other.getComplete());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        if (!hasTimestampS()) {
+          
+          return false;
+        }
+        if (!hasNumDeleted()) {
+          
+          return false;
+        }
+        if (!hasComplete()) {
+          
+          return false;
+        }
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_rmdir_recursiveResponse parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_rmdir_recursiveResponse) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      // required fixed32 timestamp_s = 1;
+      private int timestampS_ ;
+      /**
+       * <code>required fixed32 timestamp_s = 1;</code>
+       *
+       * <pre>
+       * the current server time
+       * </pre>
+       */
+      public boolean hasTimestampS() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      /**
+       * <code>required fixed32 timestamp_s = 1;</code>
+       *
+       * <pre>
+       * the current server time
+       * </pre>
+       */
+      public int getTimestampS() {
+        return timestampS_;
+      }
+      /**
+       * <code>required fixed32 timestamp_s = 1;</code>
+       *
+       * <pre>
+       * the current server time
+       * </pre>
+       */
+      public Builder setTimestampS(int value) {
+        bitField0_ |= 0x00000001;
+        timestampS_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required fixed32 timestamp_s = 1;</code>
+       *
+       * <pre>
+       * the current server time
+       * </pre>
+       */
+      public Builder clearTimestampS() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        timestampS_ = 0;
+        onChanged();
+        return this;
+      }
+
+      // required fixed32 num_deleted = 2;
+      private int numDeleted_ ;
+      /**
+       * <code>required fixed32 num_deleted = 2;</code>
+       *
+       * <pre>
+       * the number of entries deleted with this call; 0 if the MRC is still
+       * busy deleting the objects of previously deleted files, in which case
+       * the client should wait before repeating the call
+       * </pre>
+       */
+      public boolean hasNumDeleted() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
+      }
+      /**
+       * <code>required fixed32 num_deleted = 2;</code>
+       *
+       * <pre>
+       * the number of entries deleted with this call; 0 if the MRC is still
+       * busy deleting the objects of previously deleted files, in which case
+       * the client should wait before repeating the call
+       * </pre>
+       */
+      public int getNumDeleted() {
+        return numDeleted_;
+      }
+      /**
+       * <code>required fixed32 num_deleted = 2;</code>
+       *
+       * <pre>
+       * the number of entries deleted with this call; 0 if the MRC is still
+       * busy deleting the objects of previously deleted files, in which case
+       * the client should wait before repeating the call
+       * </pre>
+       */
+      public Builder setNumDeleted(int value) {
+        bitField0_ |= 0x00000002;
+        numDeleted_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required fixed32 num_deleted = 2;</code>
+       *
+       * <pre>
+       * the number of entries deleted with this call; 0 if the MRC is still
+       * busy deleting the objects of previously deleted files, in which case
+       * the client should wait before repeating the call
+       * </pre>
+       */
+      public Builder clearNumDeleted() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        numDeleted_ = 0;
+        onChanged();
+        return this;
+      }
+
+      // required bool complete = 3;
+      private boolean complete_ ;
+      /**
+       * <code>required bool complete = 3;</code>
+       *
+       * <pre>
+       * true if the directory itself was deleted, i.e. the deletion is complete
+       * </pre>
+       */
+      public boolean hasComplete() {
+        return ((bitField0_ & 0x00000004) == 0x00000004);
+      }
+      /**
+       * <code>required bool complete = 3;</code>
+       *
+       * <pre>
+       * true if the directory itself was deleted, i.e. the deletion is complete
+       * </pre>
+       */
+      public boolean getComplete() {
+        return complete_;
+      }
+      /**
+       * <code>required bool complete = 3;</code>
+       *
+       * <pre>
+       * true if the directory itself was deleted, i.e. the deletion is complete
+       * </pre>
+       */
+      public Builder setComplete(boolean value) {
+        bitField0_ |= 0x00000004;
+        complete_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required bool complete = 3;</code>
+       *
+       * <pre>
+       * true if the directory itself was deleted, i.e. the deletion is complete
+       * </pre>
+       */
+      public Builder clearComplete() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        complete_ = false;
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:xtreemfs.pbrpc.xtreemfs_rmdir_recursiveResponse)
+    }
+
+    static {
+      defaultInstance = new xtreemfs_rmdir_recursiveResponse(true);
+      defaultInstance.initFields();
+    }
+
+    // @@protoc_insertion_point(class_scope:xtreemfs.pbrpc.xtreemfs_rmdir_recursiveResponse)
+  }
+
+  public interface xtreemfs_setattr_recursiveRequestOrBuilder
+      extends com.google.protobuf.MessageOrBuilder {
+
+    // required string volume_name = 1;
+    /**
+     * <code>required string volume_name = 1;</code>
+     *
+     * <pre>
+     * the volume name
+     * </pre>
+     */
+    boolean hasVolumeName();
+    /**
+     * <code>required string volume_name = 1;</code>
+     *
+     * <pre>
+     * the volume name
+     * </pre>
+     */
+    java.lang.String getVolumeName();
+    /**
+     * <code>required string volume_name = 1;</code>
+     *
+     * <pre>
+     * the volume name
+     * </pre>
+     */
+    com.google.protobuf.ByteString
+        getVolumeNameBytes();
+
+    // required string path = 2;
+    /**
+     * <code>required string path = 2;</code>
+     *
+     * <pre>
+     * the path to the directory, relative to the volume root
+     * </pre>
+     */
+    boolean hasPath();
+    /**
+     * <code>required string path = 2;</code>
+     *
+     * <pre>
+     * the path to the directory, relative to the volume root
+     * </pre>
+     */
+    java.lang.String getPath();
+    /**
+     * <code>required string path = 2;</code>
+     *
+     * <pre>
+     * the path to the directory, relative to the volume root
+     * </pre>
+     */
+    com.google.protobuf.ByteString
+        getPathBytes();
+
+    // required .xtreemfs.pbrpc.Stat stbuf = 3;
+    /**
+     * <code>required .xtreemfs.pbrpc.Stat stbuf = 3;</code>
+     *
+     * <pre>
+     * a buffer containing the attributes to update
+     * </pre>
+     */
+    boolean hasStbuf();
+    /**
+     * <code>required .xtreemfs.pbrpc.Stat stbuf = 3;</code>
+     *
+     * <pre>
+     * a buffer containing the attributes to update
+     * </pre>
+     */
+    org.xtreemfs.pbrpc.generatedinterfaces.MRC.Stat getStbuf();
+    /**
+     * <code>required .xtreemfs.pbrpc.Stat stbuf = 3;</code>
+     *
+     * <pre>
+     * a buffer containing the attributes to update
+     * </pre>
+     */
+    org.xtreemfs.pbrpc.generatedinterfaces.MRC.StatOrBuilder getStbufOrBuilder();
+
+    // required fixed32 to_set = 4;
+    /**
+     * <code>required fixed32 to_set = 4;</code>
+     *
+     * <pre>
+     * a bitmap of Setattrs indicating which attributes to update; only
+     * SETATTR_MODE, SETATTR_UID and SETATTR_GID are allowed
+     * </pre>
+     */
+    boolean hasToSet();
+    /**
+     * <code>required fixed32 to_set = 4;</code>
+     *
+     * <pre>
+     * a bitmap of Setattrs indicating which attributes to update; only
+     * SETATTR_MODE, SETATTR_UID and SETATTR_GID are allowed
+     * </pre>
+     */
+    int getToSet();
+
+    // required fixed32 max_entries = 5;
+    /**
+     * <code>required fixed32 max_entries = 5;</code>
+     *
+     * <pre>
+     * the maximum number of entries to update with this call
+     * </pre>
+     */
+    boolean hasMaxEntries();
+    /**
+     * <code>required fixed32 max_entries = 5;</code>
+     *
+     * <pre>
+     * the maximum number of entries to update with this call
+     * </pre>
+     */
+    int getMaxEntries();
+
+    // optional string cursor = 6;
+    /**
+     * <code>optional string cursor = 6;</code>
+     *
+     * <pre>
+     * the cursor returned by the previous call, if any
+     * </pre>
+     */
+    boolean hasCursor();
+    /**
+     * <code>optional string cursor = 6;</code>
+     *
+     * <pre>
+     * the cursor returned by the previous call, if any
+     * </pre>
+     */
+    java.lang.String getCursor();
+    /**
+     * <code>optional string cursor = 6;</code>
+     *
+     * <pre>
+     * the cursor returned by the previous call, if any
+     * </pre>
+     */
+    com.google.protobuf.ByteString
+        getCursorBytes();
+  }
+  /**
+   * Protobuf type {@code xtreemfs.pbrpc.xtreemfs_setattr_recursiveRequest}
+   *
+   * <pre>
+   * changes the access mode, owner or owning group of a directory and all
+   * of its contents; at most max_entries entries are updated per call, i.e.
+   * the call has to be repeated with the returned cursor until no cursor
+   * is returned anymore
+   * </pre>
+   */
+  public static final class xtreemfs_setattr_recursiveRequest extends
+      com.google.protobuf.GeneratedMessage
+      implements xtreemfs_setattr_recursiveRequestOrBuilder {
+    // Use xtreemfs_setattr_recursiveRequest.newBuilder() to construct.
+    private xtreemfs_setattr_recursiveRequest(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+      this.unknownFields = builder.getUnknownFields();
+    }
+    private xtreemfs_setattr_recursiveRequest(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+    private static final xtreemfs_setattr_recursiveRequest defaultInstance;
+    public static xtreemfs_setattr_recursiveRequest getDefaultInstance() {
+      return defaultInstance;
+    }
+
+    public xtreemfs_setattr_recursiveRequest getDefaultInstanceForType() {
+      return defaultInstance;
+    }
+
+    private final com.google.protobuf.UnknownFieldSet unknownFields;
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+        getUnknownFields() {
+      return this.unknownFields;
+    }
+    private xtreemfs_setattr_recursiveRequest(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      initFields();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 10: {
+              bitField0_ |= 0x00000001;
+              volumeName_ = input.readBytes();
+              break;
+            }
+            case 18: {
+              bitField0_ |= 0x00000002;
+              path_ = input.readBytes();
+              break;
+            }
+            case 26: {
+              org.xtreemfs.pbrpc.generatedinterfaces.MRC.Stat.Builder subBuilder = null;
+              if (((bitField0_ & 0x00000004) == 0x00000004)) {
+                subBuilder = stbuf_.toBuilder();
+              }
+              stbuf_ = input.readMessage(org.xtreemfs.pbrpc.generatedinterfaces.MRC.Stat.PARSER, extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(stbuf_);
+                stbuf_ = subBuilder.buildPartial();
+              }
+              bitField0_ |= 0x00000004;
+              break;
+            }
+            case 37: {
+              bitField0_ |= 0x00000008;
+              toSet_ = input.readFixed32();
+              break;
+            }
+            case 45: {
+              bitField0_ |= 0x00000010;
+              maxEntries_ = input.readFixed32();
+              break;
+            }
+            case 50: {
+              bitField0_ |= 0x00000020;
+              cursor_ = input.readBytes();
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e.getMessage()).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.xtreemfs.pbrpc.generatedinterfaces.MRC.internal_static_xtreemfs_pbrpc_xtreemfs_setattr_recursiveRequest_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.xtreemfs.pbrpc.generatedinterfaces.MRC.internal_static_xtreemfs_pbrpc_xtreemfs_setattr_recursiveRequest_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_setattr_recursiveRequest.class, org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_setattr_recursiveRequest.Builder.class);
+    }
+
+    public static com.google.protobuf.Parser<xtreemfs_setattr_recursiveRequest> PARSER =
+        new com.google.protobuf.AbstractParser<xtreemfs_setattr_recursiveRequest>() {
+      public xtreemfs_setattr_recursiveRequest parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new xtreemfs_setattr_recursiveRequest(input, extensionRegistry);
+      }
+    };
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<xtreemfs_setattr_recursiveRequest> getParserForType() {
+      return PARSER;
+    }
+
+    private int bitField0_;
+    // required string volume_name = 1;
+    public static final int VOLUME_NAME_FIELD_NUMBER = 1;
+    private java.lang.Object volumeName_;
+    /**
+     * <code>required string volume_name = 1;</code>
+     *
+     * <pre>
+     * the volume name
+     * </pre>
+     */
+    public boolean hasVolumeName() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    /**
+     * <code>required string volume_name = 1;</code>
+     *
+     * <pre>
+     * the volume name
+     * </pre>
+     */
+    public java.lang.String getVolumeName() {
+      java.lang.Object ref = volumeName_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          volumeName_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>required string volume_name = 1;</code>
+     *
+     * <pre>
+     * the volume name
+     * </pre>
+     */
+    public com.google.protobuf.ByteString
+        getVolumeNameBytes() {
+      java.lang.Object ref = volumeName_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        volumeName_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    // required string path = 2;
+    public static final int PATH_FIELD_NUMBER = 2;
+    private java.lang.Object path_;
+    /**
+     * <code>required string path = 2;</code>
+     *
+     * <pre>
+     * the path to the directory, relative to the volume root
+     * </pre>
+     */
+    public boolean hasPath() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
+    }
+    /**
+     * <code>required string path = 2;</code>
+     *
+     * <pre>
+     * the path to the directory, relative to the volume root
+     * </pre>
+     */
+    public java.lang.String getPath() {
+      java.lang.Object ref = path_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          path_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>required string path = 2;</code>
+     *
+     * <pre>
+     * the path to the directory, relative to the volume root
+     * </pre>
+     */
+    public com.google.protobuf.ByteString
+        getPathBytes() {
+      java.lang.Object ref = path_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        path_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    // required .xtreemfs.pbrpc.Stat stbuf = 3;
+    public static final int STBUF_FIELD_NUMBER = 3;
+    private org.xtreemfs.pbrpc.generatedinterfaces.MRC.Stat stbuf_;
+    /**
+     * <code>required .xtreemfs.pbrpc.Stat stbuf = 3;</code>
+     *
+     * <pre>
+     * a buffer containing the attributes to update
+     * </pre>
+     */
+    public boolean hasStbuf() {
+      return ((bitField0_ & 0x00000004) == 0x00000004);
+    }
+    /**
+     * <code>required .xtreemfs.pbrpc.Stat stbuf = 3;</code>
+     *
+     * <pre>
+     * a buffer containing the attributes to update
+     * </pre>
+     */
+    public org.xtreemfs.pbrpc.generatedinterfaces.MRC.Stat getStbuf() {
+      return stbuf_;
+    }
+    /**
+     * <code>required .xtreemfs.pbrpc.Stat stbuf = 3;</code>
+     *
+     * <pre>
+     * a buffer containing the attributes to update
+     * </pre>
+     */
+    public org.xtreemfs.pbrpc.generatedinterfaces.MRC.StatOrBuilder getStbufOrBuilder() {
+      return stbuf_;
+    }
+
+    // required fixed32 to_set = 4;
+    public static final int TO_SET_FIELD_NUMBER = 4;
+    private int toSet_;
+    /**
+     * <code>required fixed32 to_set = 4;</code>
+     *
+     * <pre>
+     * a bitmap of Setattrs indicating which attributes to update; only
+     * SETATTR_MODE, SETATTR_UID and SETATTR_GID are allowed
+     * </pre>
+     */
+    public boolean hasToSet() {
+      return ((bitField0_ & 0x00000008) == 0x00000008);
+    }
+    /**
+     * <code>required fixed32 to_set = 4;</code>
+     *
+     * <pre>
+     * a bitmap of Setattrs indicating which attributes to update; only
+     * SETATTR_MODE, SETATTR_UID and SETATTR_GID are allowed
+     * </pre>
+     */
+    public int getToSet() {
+      return toSet_;
+    }
+
+    // required fixed32 max_entries = 5;
+    public static final int MAX_ENTRIES_FIELD_NUMBER = 5;
+    private int maxEntries_;
+    /**
+     * <code>required fixed32 max_entries = 5;</code>
+     *
+     * <pre>
+     * the maximum number of entries to update with this call
+     * </pre>
+     */
+    public boolean hasMaxEntries() {
+      return ((bitField0_ & 0x00000010) == 0x00000010);
+    }
+    /**
+     * <code>required fixed32 max_entries = 5;</code>
+     *
+     * <pre>
+     * the maximum number of entries to update with this call
+     * </pre>
+     */
+    public int getMaxEntries() {
+      return maxEntries_;
+    }
+
+    // optional string cursor = 6;
+    public static final int CURSOR_FIELD_NUMBER = 6;
+    private java.lang.Object cursor_;
+    /**
+     * <code>optional string cursor = 6;</code>
+     *
+     * <pre>
+     * the cursor returned by the previous call, if any
+     * </pre>
+     */
+    public boolean hasCursor() {
+      return ((bitField0_ & 0x00000020) == 0x00000020);
+    }
+    /**
+     * <code>optional string cursor = 6;</code>
+     *
+     * <pre>
+     * the cursor returned by the previous call, if any
+     * </pre>
+     */
+    public java.lang.String getCursor() {
+      java.lang.Object ref = cursor_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          cursor_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string cursor = 6;</code>
+     *
+     * <pre>
+     * the cursor returned by the previous call, if any
+     * </pre>
+     */
+    public com.google.protobuf.ByteString
+        getCursorBytes() {
+      java.lang.Object ref = cursor_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        cursor_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    private void initFields() {
+      volumeName_ = "";
+      path_ = "";
+      stbuf_ = org.xtreemfs.pbrpc.generatedinterfaces.MRC.Stat.getDefaultInstance();
+      toSet_ = 0;
+      maxEntries_ = 0;
+      cursor_ = "";
+    }
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized != -1) return isInitialized == 1;
+
+      if (!hasVolumeName()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!hasPath()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!hasStbuf()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!hasToSet()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!hasMaxEntries()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!getStbuf().isInitialized()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeBytes(1, getVolumeNameBytes());
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        output.writeBytes(2, getPathBytes());
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        output.writeMessage(3, stbuf_);
+      }
+      if (((bitField0_ & 0x00000008) == 0x00000008)) {
+        output.writeFixed32(4, toSet_);
+      }
+      if (((bitField0_ & 0x00000010) == 0x00000010)) {
+        output.writeFixed32(5, maxEntries_);
+      }
+      if (((bitField0_ & 0x00000020) == 0x00000020)) {
+        output.writeBytes(6, getCursorBytes());
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    private int memoizedSerializedSize = -1;
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(1, getVolumeNameBytes());
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(2, getPathBytes());
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(3, stbuf_);
+      }
+      if (((bitField0_ & 0x00000008) == 0x00000008)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeFixed32Size(4, toSet_);
+      }
+      if (((bitField0_ & 0x00000010) == 0x00000010)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeFixed32Size(5, maxEntries_);
+      }
+      if (((bitField0_ & 0x00000020) == 0x00000020)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(6, getCursorBytes());
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSerializedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
+      return super.writeReplace();
+    }
+
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_setattr_recursiveRequest parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_setattr_recursiveRequest parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_setattr_recursiveRequest parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_setattr_recursiveRequest parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_setattr_recursiveRequest parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_setattr_recursiveRequest parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_setattr_recursiveRequest parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_setattr_recursiveRequest parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_setattr_recursiveRequest parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_setattr_recursiveRequest parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_setattr_recursiveRequest prototype) {
+      return newBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() { return newBuilder(this); }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code xtreemfs.pbrpc.xtreemfs_setattr_recursiveRequest}
+     *
+     * <pre>
+     * changes the access mode, owner or owning group of a directory and all
+     * of its contents; at most max_entries entries are updated per call, i.e.
+     * the call has to be repeated with the returned cursor until no cursor
+     * is returned anymore
+     * </pre>
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder>
+       implements org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_setattr_recursiveRequestOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.xtreemfs.pbrpc.generatedinterfaces.MRC.internal_static_xtreemfs_pbrpc_xtreemfs_setattr_recursiveRequest_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.xtreemfs.pbrpc.generatedinterfaces.MRC.internal_static_xtreemfs_pbrpc_xtreemfs_setattr_recursiveRequest_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_setattr_recursiveRequest.class, org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_setattr_recursiveRequest.Builder.class);
+      }
+
+      // Construct using org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_setattr_recursiveRequest.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+          getStbufFieldBuilder();
+        }
+      }
+      private static Builder create() {
+        return new Builder();
+      }
+
+      public Builder clear() {
+        super.clear();
+        volumeName_ = "";
+        bitField0_ = (bitField0_ & ~0x00000001);
+        path_ = "";
+        bitField0_ = (bitField0_ & ~0x00000002);
+        if (stbufBuilder_ == null) {
+          stbuf_ = org.xtreemfs.pbrpc.generatedinterfaces.MRC.Stat.getDefaultInstance();
+        } else {
+          stbufBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000004);
+        toSet_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000008);
+        maxEntries_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000010);
+        cursor_ = "";
+        bitField0_ = (bitField0_ & ~0x00000020);
+        return this;
+      }
+
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.xtreemfs.pbrpc.generatedinterfaces.MRC.internal_static_xtreemfs_pbrpc_xtreemfs_setattr_recursiveRequest_descriptor;
+      }
+
+      public org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_setattr_recursiveRequest getDefaultInstanceForType() {
+        return org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_setattr_recursiveRequest.getDefaultInstance();
+      }
+
+      public org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_setattr_recursiveRequest build() {
+        org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_setattr_recursiveRequest result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_setattr_recursiveRequest buildPartial() {
+        org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_setattr_recursiveRequest result = new org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_setattr_recursiveRequest(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.volumeName_ = volumeName_;
+        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+          to_bitField0_ |= 0x00000002;
+        }
+        result.path_ = path_;
+        if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
+          to_bitField0_ |= 0x00000004;
+        }
+        if (stbufBuilder_ == null) {
+          result.stbuf_ = stbuf_;
+        } else {
+          result.stbuf_ = stbufBuilder_.build();
+        }
+        if (((from_bitField0_ & 0x00000008) == 0x00000008)) {
+          to_bitField0_ |= 0x00000008;
+        }
+        result.toSet_ = toSet_;
+        if (((from_bitField0_ & 0x00000010) == 0x00000010)) {
+          to_bitField0_ |= 0x00000010;
+        }
+        result.maxEntries_ = maxEntries_;
+        if (((from_bitField0_ & 0x00000020) == 0x00000020)) {
+          to_bitField0_ |= 0x00000020;
+        }
+        result.cursor_ = cursor_;
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_setattr_recursiveRequest) {
+          return mergeFrom((org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_setattr_recursiveRequest)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_setattr_recursiveRequest other) {
+        if (other == org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_setattr_recursiveRequest.getDefaultInstance()) return this;
+        if (other.hasVolumeName()) {
+          bitField0_ |= 0x00000001;
+          volumeName_ = other.volumeName_;
+          onChanged();
+        }
+        if (other.hasPath()) {
+          bitField0_ |= 0x00000002;
+          path_ = other.path_;
+          onChanged();
+        }
+        if (other.hasStbuf()) {
+          mergeStbuf(other.getStbuf());
+        }
+        if (other.hasToSet()) {
+          setToSet(other.getToSet());
+        }
+        if (other.hasMaxEntries()) {
+          setMaxEntries(other.getMaxEntries());
+        }
+        if (other.hasCursor()) {
+          bitField0_ |= 0x00000020;
+          cursor_ = other.cursor_;
+          onChanged();
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        if (!hasVolumeName()) {
+          
+          return false;
+        }
+        if (!hasPath()) {
+          
+          return false;
+        }
+        if (!hasStbuf()) {
+          
+          return false;
+        }
+        if (!hasToSet()) {
+          
+          return false;
+        }
+        if (!hasMaxEntries()) {
+          
+          return false;
+        }
+        if (!getStbuf().isInitialized()) {
+          
+          return false;
+        }
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_setattr_recursiveRequest parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_setattr_recursiveRequest) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      // required string volume_name = 1;
+      private java.lang.Object volumeName_ = "";
+      /**
+       * <code>required string volume_name = 1;</code>
+       *
+       * <pre>
+       * the volume name
+       * </pre>
+       */
+      public boolean hasVolumeName() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      /**
+       * <code>required string volume_name = 1;</code>
+       *
+       * <pre>
+       * the volume name
+       * </pre>
+       */
+      public java.lang.String getVolumeName() {
+        java.lang.Object ref = volumeName_;
+        if (!(ref instanceof java.lang.String)) {
+          java.lang.String s = ((com.google.protobuf.ByteString) ref)
+              .toStringUtf8();
+          volumeName_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>required string volume_name = 1;</code>
+       *
+       * <pre>
+       * the volume name
+       * </pre>
+       */
+      public com.google.protobuf.ByteString
+          getVolumeNameBytes() {
+        java.lang.Object ref = volumeName_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          volumeName_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>required string volume_name = 1;</code>
+       *
+       * <pre>
+       * the volume name
+       * </pre>
+       */
+      public Builder setVolumeName(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+        volumeName_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required string volume_name = 1;</code>
+       *
+       * <pre>
+       * the volume name
+       * </pre>
+       */
+      public Builder clearVolumeName() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        volumeName_ = getDefaultInstance().getVolumeName();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required string volume_name = 1;</code>
+       *
+       * <pre>
+       * the volume name
+       * </pre>
+       */
+      public Builder setVolumeNameBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+        volumeName_ = value;
+        onChanged();
+        return this;
+      }
+
+      // required string path = 2;
+      private java.lang.Object path_ = "";
+      /**
+       * <code>required string path = 2;</code>
+       *
+       * <pre>
+       * the path to the directory, relative to the volume root
+       * </pre>
+       */
+      public boolean hasPath() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
+      }
+      /**
+       * <code>required string path = 2;</code>
+       *
+       * <pre>
+       * the path to the directory, relative to the volume root
+       * </pre>
+       */
+      public java.lang.String getPath() {
+        java.lang.Object ref = path_;
+        if (!(ref instanceof java.lang.String)) {
+          java.lang.String s = ((com.google.protobuf.ByteString) ref)
+              .toStringUtf8();
+          path_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>required string path = 2;</code>
+       *
+       * <pre>
+       * the path to the directory, relative to the volume root
+       * </pre>
+       */
+      public com.google.protobuf.ByteString
+          getPathBytes() {
+        java.lang.Object ref = path_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          path_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>required string path = 2;</code>
+       *
+       * <pre>
+       * the path to the directory, relative to the volume root
+       * </pre>
+       */
+      public Builder setPath(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+        path_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required string path = 2;</code>
+       *
+       * <pre>
+       * the path to the directory, relative to the volume root
+       * </pre>
+       */
+      public Builder clearPath() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        path_ = getDefaultInstance().getPath();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required string path = 2;</code>
+       *
+       * <pre>
+       * the path to the directory, relative to the volume root
+       * </pre>
+       */
+      public Builder setPathBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+        path_ = value;
+        onChanged();
+        return this;
+      }
+
+      // required .xtreemfs.pbrpc.Stat stbuf = 3;
+      private org.xtreemfs.pbrpc.generatedinterfaces.MRC.Stat stbuf_ = org.xtreemfs.pbrpc.generatedinterfaces.MRC.Stat.getDefaultInstance();
+      private com.google.protobuf.SingleFieldBuilder<
+          org.xtreemfs.pbrpc.generatedinterfaces.MRC.Stat, org.xtreemfs.pbrpc.generatedinterfaces.MRC.Stat.Builder, org.xtreemfs.pbrpc.generatedinterfaces.MRC.StatOrBuilder> stbufBuilder_;
+      /**
+       * <code>required .xtreemfs.pbrpc.Stat stbuf = 3;</code>
+       *
+       * <pre>
+       * a buffer containing the attributes to update
+       * </pre>
+       */
+      public boolean hasStbuf() {
+        return ((bitField0_ & 0x00000004) == 0x00000004);
+      }
+      /**
+       * <code>required .xtreemfs.pbrpc.Stat stbuf = 3;</code>
+       *
+       * <pre>
+       * a buffer containing the attributes to update
+       * </pre>
+       */
+      public org.xtreemfs.pbrpc.generatedinterfaces.MRC.Stat getStbuf() {
+        if (stbufBuilder_ == null) {
+          return stbuf_;
+        } else {
+          return stbufBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>required .xtreemfs.pbrpc.Stat stbuf = 3;</code>
+       *
+       * <pre>
+       * a buffer containing the attributes to update
+       * </pre>
+       */
+      public Builder setStbuf(org.xtreemfs.pbrpc.generatedinterfaces.MRC.Stat value) {
+        if (stbufBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          stbuf_ = value;
+          onChanged();
+        } else {
+          stbufBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000004;
+        return this;
+      }
+      /**
+       * <code>required .xtreemfs.pbrpc.Stat stbuf = 3;</code>
+       *
+       * <pre>
+       * a buffer containing the attributes to update
+       * </pre>
+       */
+      public Builder setStbuf(
+          org.xtreemfs.pbrpc.generatedinterfaces.MRC.Stat.Builder builderForValue) {
+        if (stbufBuilder_ == null) {
+          stbuf_ = builderForValue.build();
+          onChanged();
+        } else {
+          stbufBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000004;
+        return this;
+      }
+      /**
+       * <code>required .xtreemfs.pbrpc.Stat stbuf = 3;</code>
+       *
+       * <pre>
+       * a buffer containing the attributes to update
+       * </pre>
+       */
+      public Builder mergeStbuf(org.xtreemfs.pbrpc.generatedinterfaces.MRC.Stat value) {
+        if (stbufBuilder_ == null) {
+          if (((bitField0_ & 0x00000004) == 0x00000004) &&
+              stbuf_ != org.xtreemfs.pbrpc.generatedinterfaces.MRC.Stat.getDefaultInstance()) {
+            stbuf_ =
+              org.xtreemfs.pbrpc.generatedinterfaces.MRC.Stat.newBuilder(stbuf_).mergeFrom(value).buildPartial();
+          } else {
+            stbuf_ = value;
+          }
+          onChanged();
+        } else {
+          stbufBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000004;
+        return this;
+      }
+      /**
+       * <code>required .xtreemfs.pbrpc.Stat stbuf = 3;</code>
+       *
+       * <pre>
+       * a buffer containing the attributes to update
+       * </pre>
+       */
+      public Builder clearStbuf() {
+        if (stbufBuilder_ == null) {
+          stbuf_ = org.xtreemfs.pbrpc.generatedinterfaces.MRC.Stat.getDefaultInstance();
+          onChanged();
+        } else {
+          stbufBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000004);
+        return this;
+      }
+      /**
+       * <code>required .xtreemfs.pbrpc.Stat stbuf = 3;</code>
+       *
+       * <pre>
+       * a buffer containing the attributes to update
+       * </pre>
+       */
+      public org.xtreemfs.pbrpc.generatedinterfaces.MRC.Stat.Builder getStbufBuilder() {
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return getStbufFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>required .xtreemfs.pbrpc.Stat stbuf = 3;</code>
+       *
+       * <pre>
+       * a buffer containing the attributes to update
+       * </pre>
+       */
+      public org.xtreemfs.pbrpc.generatedinterfaces.MRC.StatOrBuilder getStbufOrBuilder() {
+        if (stbufBuilder_ != null) {
+          return stbufBuilder_.getMessageOrBuilder();
+        } else {
+          return stbuf_;
+        }
+      }
+      /**
+       * <code>required .xtreemfs.pbrpc.Stat stbuf = 3;</code>
+       *
+       * <pre>
+       * a buffer containing the attributes to update
+       * </pre>
+       */
+      private com.google.protobuf.SingleFieldBuilder<
+          org.xtreemfs.pbrpc.generatedinterfaces.MRC.Stat, org.xtreemfs.pbrpc.generatedinterfaces.MRC.Stat.Builder, org.xtreemfs.pbrpc.generatedinterfaces.MRC.StatOrBuilder> 
+          getStbufFieldBuilder() {
+        if (stbufBuilder_ == null) {
+          stbufBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              org.xtreemfs.pbrpc.generatedinterfaces.MRC.Stat, org.xtreemfs.pbrpc.generatedinterfaces.MRC.Stat.Builder, org.xtreemfs.pbrpc.generatedinterfaces.MRC.StatOrBuilder>(
+                  stbuf_,
+                  getParentForChildren(),
+                  isClean());
+          stbuf_ = null;
+        }
+        return stbufBuilder_;
+      }
+
+      // required fixed32 to_set = 4;
+      private int toSet_ ;
+      /**
+       * <code>required fixed32 to_set = 4;</code>
+       *
+       * <pre>
+       * a bitmap of Setattrs indicating which attributes to update; only
+       * SETATTR_MODE, SETATTR_UID and SETATTR_GID are allowed
+       * </pre>
+       */
+      public boolean hasToSet() {
+        return ((bitField0_ & 0x00000008) == 0x00000008);
+      }
+      /**
+       * <code>required fixed32 to_set = 4;</code>
+       *
+       * <pre>
+       * a bitmap of Setattrs indicating which attributes to update; only
+       * SETATTR_MODE, SETATTR_UID and SETATTR_GID are allowed
+       * </pre>
+       */
+      public int getToSet() {
+        return toSet_;
+      }
+      /**
+       * <code>required fixed32 to_set = 4;</code>
+       *
+       * <pre>
+       * a bitmap of Setattrs indicating which attributes to update; only
+       * SETATTR_MODE, SETATTR_UID and SETATTR_GID are allowed
+       * </pre>
+       */
+      public Builder setToSet(int value) {
+        bitField0_ |= 0x00000008;
+        toSet_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required fixed32 to_set = 4;</code>
+       *
+       * <pre>
+       * a bitmap of Setattrs indicating which attributes to update; only
+       * SETATTR_MODE, SETATTR_UID and SETATTR_GID are allowed
+       * </pre>
+       */
+      public Builder clearToSet() {
+        bitField0_ = (bitField0_ & ~0x00000008);
+        toSet_ = 0;
+        onChanged();
+        return this;
+      }
+
+      // required fixed32 max_entries = 5;
+      private int maxEntries_ ;
+      /**
+       * <code>required fixed32 max_entries = 5;</code>
+       *
+       * <pre>
+       * the maximum number of entries to update with this call
+       * </pre>
+       */
+      public boolean hasMaxEntries() {
+        return ((bitField0_ & 0x00000010) == 0x00000010);
+      }
+      /**
+       * <code>required fixed32 max_entries = 5;</code>
+       *
+       * <pre>
+       * the maximum number of entries to update with this call
+       * </pre>
+       */
+      public int getMaxEntries() {
+        return maxEntries_;
+      }
+      /**
+       * <code>required fixed32 max_entries = 5;</code>
+       *
+       * <pre>
+       * the maximum number of entries to update with this call
+       * </pre>
+       */
+      public Builder setMaxEntries(int value) {
+        bitField0_ |= 0x00000010;
+        maxEntries_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required fixed32 max_entries = 5;</code>
+       *
+       * <pre>
+       * the maximum number of entries to update with this call
+       * </pre>
+       */
+      public Builder clearMaxEntries() {
+        bitField0_ = (bitField0_ & ~0x00000010);
+        maxEntries_ = 0;
+        onChanged();
+        return this;
+      }
+
+      // optional string cursor = 6;
+      private java.lang.Object cursor_ = "";
+      /**
+       * <code>optional string cursor = 6;</code>
+       *
+       * <pre>
+       * the cursor returned by the previous call, if any
+       * </pre>
+       */
+      public boolean hasCursor() {
+        return ((bitField0_ & 0x00000020) == 0x00000020);
+      }
+      /**
+       * <code>optional string cursor = 6;</code>
+       *
+       * <pre>
+       * the cursor returned by the previous call, if any
+       * </pre>
+       */
+      public java.lang.String getCursor() {
+        java.lang.Object ref = cursor_;
+        if (!(ref instanceof java.lang.String)) {
+          java.lang.String s = ((com.google.protobuf.ByteString) ref)
+              .toStringUtf8();
+          cursor_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string cursor = 6;</code>
+       *
+       * <pre>
+       * the cursor returned by the previous call, if any
+       * </pre>
+       */
+      public com.google.protobuf.ByteString
+          getCursorBytes() {
+        java.lang.Object ref = cursor_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          cursor_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string cursor = 6;</code>
+       *
+       * <pre>
+       * the cursor returned by the previous call, if any
+       * </pre>
+       */
+      public Builder setCursor(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000020;
+        cursor_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string cursor = 6;</code>
+       *
+       * <pre>
+       * the cursor returned by the previous call, if any
+       * </pre>
+       */
+      public Builder clearCursor() {
+        bitField0_ = (bitField0_ & ~0x00000020);
+        cursor_ = getDefaultInstance().getCursor();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string cursor = 6;</code>
+       *
+       * <pre>
+       * the cursor returned by the previous call, if any
+       * </pre>
+       */
+      public Builder setCursorBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000020;
+        cursor_ = value;
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:xtreemfs.pbrpc.xtreemfs_setattr_recursiveRequest)
+    }
+
+    static {
+      defaultInstance = new xtreemfs_setattr_recursiveRequest(true);
+      defaultInstance.initFields();
+    }
+
+    // @@protoc_insertion_point(class_scope:xtreemfs.pbrpc.xtreemfs_setattr_recursiveRequest)
+  }
+
+  public interface xtreemfs_setattr_recursiveResponseOrBuilder
+      extends com.google.protobuf.MessageOrBuilder {
+
+    // required fixed32 timestamp_s = 1;
+    /**
+     * <code>required fixed32 timestamp_s = 1;</code>
+     *
+     * <pre>
+     * the current server time
+     * </pre>
+     */
+    boolean hasTimestampS();
+    /**
+     * <code>required fixed32 timestamp_s = 1;</code>
+     *
+     * <pre>
+     * the current server time
+     * </pre>
+     */
+    int getTimestampS();
+
+    // required fixed32 num_updated = 2;
+    /**
+     * <code>required fixed32 num_updated = 2;</code>
+     *
+     * <pre>
+     * the number of entries updated with this call
+     * </pre>
+     */
+    boolean hasNumUpdated();
+    /**
+     * <code>required fixed32 num_updated = 2;</code>
      *
      * <pre>
-     * a flag indicating that the file is supposed to be closed
+     * the number of entries updated with this call
      * </pre>
      */
-    boolean getCloseFile();
+    int getNumUpdated();
 
-    // optional .xtreemfs.pbrpc.VivaldiCoordinates coordinates = 4;
+    // optional string cursor = 3;
     /**
-     * <code>optional .xtreemfs.pbrpc.VivaldiCoordinates coordinates = 4;</code>
+     * <code>optional string cursor = 3;</code>
      *
      * <pre>
-     * the client's Vivaldi coordinates (e.g. used for creating replicas at
-     * specific locations when the file is closed)
+     * the position from which the next call continues; not set if all
+     * entries have been updated
      * </pre>
      */
-    boolean hasCoordinates();
+    boolean hasCursor();
     /**
-     * <code>optional .xtreemfs.pbrpc.VivaldiCoordinates coordinates = 4;</code>
+     * <code>optional string cursor = 3;</code>
      *
      * <pre>
-     * the client's Vivaldi coordinates (e.g. used for creating replicas at
-     * specific locations when the file is closed)
+     * the position from which the next call continues; not set if all
+     * entries have been updated
      * </pre>
      */
-    org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.VivaldiCoordinates getCoordinates();
+    java.lang.String getCursor();
     /**
-     * <code>optional .xtreemfs.pbrpc.VivaldiCoordinates coordinates = 4;</code>
+     * <code>optional string cursor = 3;</code>
      *
      * <pre>
-     * the client's Vivaldi coordinates (e.g. used for creating replicas at
-     * specific locations when the file is closed)
+     * the position from which the next call continues; not set if all
+     * entries have been updated
      * </pre>
      */
-    org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.VivaldiCoordinatesOrBuilder getCoordinatesOrBuilder();
+    com.google.protobuf.ByteString
+        getCursorBytes();
   }
   /**
-   * Protobuf type {@code xtreemfs.pbrpc.xtreemfs_update_file_sizeRequest}
-   *
-   * <pre>
-   * updates the size of an open file
-   * </pre>
+   * Protobuf type {@code xtreemfs.pbrpc.xtreemfs_setattr_recursiveResponse}
    */
-  public static final class xtreemfs_update_file_sizeRequest extends
+  public static final class xtreemfs_setattr_recursiveResponse extends
       com.google.protobuf.GeneratedMessage
-      implements xtreemfs_update_file_sizeRequestOrBuilder {
-    // Use xtreemfs_update_file_sizeRequest.newBuilder() to construct.
-    private xtreemfs_update_file_sizeRequest(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      implements xtreemfs_setattr_recursiveResponseOrBuilder {
+    // Use xtreemfs_setattr_recursiveResponse.newBuilder() to construct.
+    private xtreemfs_setattr_recursiveResponse(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
       super(builder);
       this.unknownFields = builder.getUnknownFields();
     }
-    private xtreemfs_update_file_sizeRequest(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+    private xtreemfs_setattr_recursiveResponse(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
 
-    private static final xtreemfs_update_file_sizeRequest defaultInstance;
-    public static xtreemfs_update_file_sizeRequest getDefaultInstance() {
+    private static final xtreemfs_setattr_recursiveResponse defaultInstance;
+    public static xtreemfs_setattr_recursiveResponse getDefaultInstance() {
       return defaultInstance;
     }
 
-    public xtreemfs_update_file_sizeRequest getDefaultInstanceForType() {
+    public xtreemfs_setattr_recursiveResponse getDefaultInstanceForType() {
       return defaultInstance;
     }
 
@@ -43828,7 +57284,7 @@ public final class MRC {
         getUnknownFields() {
       return this.unknownFields;
     }
-    private xtreemfs_update_file_sizeRequest(
+    private xtreemfs_setattr_recursiveResponse(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
@@ -43851,48 +57307,19 @@ public final class MRC {
               }
               break;
             }
-            case 10: {
-              org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCap.Builder subBuilder = null;
-              if (((bitField0_ & 0x00000001) == 0x00000001)) {
-                subBuilder = xcap_.toBuilder();
-              }
-              xcap_ = input.readMessage(org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCap.PARSER, extensionRegistry);
-              if (subBuilder != null) {
-                subBuilder.mergeFrom(xcap_);
-                xcap_ = subBuilder.buildPartial();
-              }
+            case 13: {
               bitField0_ |= 0x00000001;
+              timestampS_ = input.readFixed32();
               break;
             }
-            case 18: {
-              org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.OSDWriteResponse.Builder subBuilder = null;
-              if (((bitField0_ & 0x00000002) == 0x00000002)) {
-                subBuilder = osdWriteResponse_.toBuilder();
-              }
-              osdWriteResponse_ = input.readMessage(org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.OSDWriteResponse.PARSER, extensionRegistry);
-              if (subBuilder != null) {
-                subBuilder.mergeFrom(osdWriteResponse_);
-                osdWriteResponse_ = subBuilder.buildPartial();
-              }
+            case 21: {
               bitField0_ |= 0x00000002;
+              numUpdated_ = input.readFixed32();
               break;
             }
-            case 24: {
+            case 26: {
               bitField0_ |= 0x00000004;
-              closeFile_ = input.readBool();
-              break;
-            }
-            case 34: {
-              org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.VivaldiCoordinates.Builder subBuilder = null;
-              if (((bitField0_ & 0x00000008) == 0x00000008)) {
-                subBuilder = coordinates_.toBuilder();
-              }
-              coordinates_ = input.readMessage(org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.VivaldiCoordinates.PARSER, extensionRegistry);
-              if (subBuilder != null) {
-                subBuilder.mergeFrom(coordinates_);
-                coordinates_ = subBuilder.buildPartial();
-              }
-              bitField0_ |= 0x00000008;
+              cursor_ = input.readBytes();
               break;
             }
           }
@@ -43909,190 +57336,156 @@ public final class MRC {
     }
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return org.xtreemfs.pbrpc.generatedinterfaces.MRC.internal_static_xtreemfs_pbrpc_xtreemfs_update_file_sizeRequest_descriptor;
+      return org.xtreemfs.pbrpc.generatedinterfaces.MRC.internal_static_xtreemfs_pbrpc_xtreemfs_setattr_recursiveResponse_descriptor;
     }
 
     protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return org.xtreemfs.pbrpc.generatedinterfaces.MRC.internal_static_xtreemfs_pbrpc_xtreemfs_update_file_sizeRequest_fieldAccessorTable
+      return org.xtreemfs.pbrpc.generatedinterfaces.MRC.internal_static_xtreemfs_pbrpc_xtreemfs_setattr_recursiveResponse_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_file_sizeRequest.class, org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_file_sizeRequest.Builder.class);
+              org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_setattr_recursiveResponse.class, org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_setattr_recursiveResponse.Builder.class);
     }
 
-    public static com.google.protobuf.Parser<xtreemfs_update_file_sizeRequest> PARSER =
-        new com.google.protobuf.AbstractParser<xtreemfs_update_file_sizeRequest>() {
-      public xtreemfs_update_file_sizeRequest parsePartialFrom(
+    public static com.google.protobuf.Parser<xtreemfs_setattr_recursiveResponse> PARSER =
+        new com.google.protobuf.AbstractParser<xtreemfs_setattr_recursiveResponse>() {
+      public xtreemfs_setattr_recursiveResponse parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
-        return new xtreemfs_update_file_sizeRequest(input, extensionRegistry);
+        return new xtreemfs_setattr_recursiveResponse(input, extensionRegistry);
       }
     };
 
     @java.lang.Override
-    public com.google.protobuf.Parser<xtreemfs_update_file_sizeRequest> getParserForType() {
+    public com.google.protobuf.Parser<xtreemfs_setattr_recursiveResponse> getParserForType() {
       return PARSER;
     }
 
     private int bitField0_;
-    // required .xtreemfs.pbrpc.XCap xcap = 1;
-    public static final int XCAP_FIELD_NUMBER = 1;
-    private org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCap xcap_;
+    // required fixed32 timestamp_s = 1;
+    public static final int TIMESTAMP_S_FIELD_NUMBER = 1;
+    private int timestampS_;
     /**
-     * <code>required .xtreemfs.pbrpc.XCap xcap = 1;</code>
+     * <code>required fixed32 timestamp_s = 1;</code>
      *
      * <pre>
-     * the capability that was returned when opening the file
+     * the current server time
      * </pre>
      */
-    public boolean hasXcap() {
+    public boolean hasTimestampS() {
       return ((bitField0_ & 0x00000001) == 0x00000001);
     }
     /**
-     * <code>required .xtreemfs.pbrpc.XCap xcap = 1;</code>
-     *
-     * <pre>
-     * the capability that was returned when opening the file
-     * </pre>
-     */
-    public org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCap getXcap() {
-      return xcap_;
-    }
-    /**
-     * <code>required .xtreemfs.pbrpc.XCap xcap = 1;</code>
+     * <code>required fixed32 timestamp_s = 1;</code>
      *
      * <pre>
-     * the capability that was returned when opening the file
+     * the current server time
      * </pre>
      */
-    public org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCapOrBuilder getXcapOrBuilder() {
-      return xcap_;
+    public int getTimestampS() {
+      return timestampS_;
     }
 
-    // required .xtreemfs.pbrpc.OSDWriteResponse osd_write_response = 2;
-    public static final int OSD_WRITE_RESPONSE_FIELD_NUMBER = 2;
-    private org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.OSDWriteResponse osdWriteResponse_;
+    // required fixed32 num_updated = 2;
+    public static final int NUM_UPDATED_FIELD_NUMBER = 2;
+    private int numUpdated_;
     /**
-     * <code>required .xtreemfs.pbrpc.OSDWriteResponse osd_write_response = 2;</code>
+     * <code>required fixed32 num_updated = 2;</code>
      *
      * <pre>
-     * the OSDWriteResponse received from an OSD that contains the new file size
+     * the number of entries updated with this call
      * </pre>
      */
-    public boolean hasOsdWriteResponse() {
+    public boolean hasNumUpdated() {
       return ((bitField0_ & 0x00000002) == 0x00000002);
     }
     /**
-     * <code>required .xtreemfs.pbrpc.OSDWriteResponse osd_write_response = 2;</code>
-     *
-     * <pre>
-     * the OSDWriteResponse received from an OSD that contains the new file size
-     * </pre>
-     */
-    public org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.OSDWriteResponse getOsdWriteResponse() {
-      return osdWriteResponse_;
-    }
-    /**
-     * <code>required .xtreemfs.pbrpc.OSDWriteResponse osd_write_response = 2;</code>
+     * <code>required fixed32 num_updated = 2;</code>
      *
      * <pre>
-     * the OSDWriteResponse received from an OSD that contains the new file size
+     * the number of entries updated with this call
      * </pre>
      */
-    public org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.OSDWriteResponseOrBuilder getOsdWriteResponseOrBuilder() {
-      return osdWriteResponse_;
+    public int getNumUpdated() {
+      return numUpdated_;
     }
 
-    // optional bool close_file = 3;
-    public static final int CLOSE_FILE_FIELD_NUMBER = 3;
-    private boolean closeFile_;
+    // optional string cursor = 3;
+    public static final int CURSOR_FIELD_NUMBER = 3;
+    private java.lang.Object cursor_;
     /**
-     * <code>optional bool close_file = 3;</code>
+     * <code>optional string cursor = 3;</code>
      *
      * <pre>
-     * a flag indicating that the file is supposed to be closed
+     * the position from which the next call continues; not set if all
+     * entries have been updated
      * </pre>
      */
-    public boolean hasCloseFile() {
+    public boolean hasCursor() {
       return ((bitField0_ & 0x00000004) == 0x00000004);
     }
     /**
-     * <code>optional bool close_file = 3;</code>
-     *
-     * <pre>
-     * a flag indicating that the file is supposed to be closed
-     * </pre>
-     */
-    public boolean getCloseFile() {
-      return closeFile_;
-    }
-
-    // optional .xtreemfs.pbrpc.VivaldiCoordinates coordinates = 4;
-    public static final int COORDINATES_FIELD_NUMBER = 4;
-    private org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.VivaldiCoordinates coordinates_;
-    /**
-     * <code>optional .xtreemfs.pbrpc.VivaldiCoordinates coordinates = 4;</code>
-     *
-     * <pre>
-     * the client's Vivaldi coordinates (e.g. used for creating replicas at
-     * specific locations when the file is closed)
-     * </pre>
-     */
-    public boolean hasCoordinates() {
-      return ((bitField0_ & 0x00000008) == 0x00000008);
-    }
-    /**
-     * <code>optional .xtreemfs.pbrpc.VivaldiCoordinates coordinates = 4;</code>
+     * <code>optional string cursor = 3;</code>
      *
      * <pre>
-     * the client's Vivaldi coordinates (e.g. used for creating replicas at
-     * specific locations when the file is closed)
+     * the position from which the next call continues; not set if all
+     * entries have been updated
      * </pre>
      */
-    public org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.VivaldiCoordinates getCoordinates() {
-      return coordinates_;
+    public java.lang.String getCursor() {
+      java.lang.Object ref = cursor_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          cursor_ = s;
+        }
+        return s;
+      }
     }
     /**
-     * <code>optional .xtreemfs.pbrpc.VivaldiCoordinates coordinates = 4;</code>
+     * <code>optional string cursor = 3;</code>
      *
      * <pre>
-     * the client's Vivaldi coordinates (e.g. used for creating replicas at
-     * specific locations when the file is closed)
+     * the position from which the next call continues; not set if all
+     * entries have been updated
      * </pre>
      */
-    public org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.VivaldiCoordinatesOrBuilder getCoordinatesOrBuilder() {
-      return coordinates_;
+    public com.google.protobuf.ByteString
+        getCursorBytes() {
+      java.lang.Object ref = cursor_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        cursor_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
     }
 
     private void initFields() {
-      xcap_ = org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCap.getDefaultInstance();
-      osdWriteResponse_ = org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.OSDWriteResponse.getDefaultInstance();
-      closeFile_ = false;
-      coordinates_ = org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.VivaldiCoordinates.getDefaultInstance();
+      timestampS_ = 0;
+      numUpdated_ = 0;
+      cursor_ = "";
     }
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
       byte isInitialized = memoizedIsInitialized;
       if (isInitialized != -1) return isInitialized == 1;
 
-      if (!hasXcap()) {
-        memoizedIsInitialized = 0;
-        return false;
-      }
-      if (!hasOsdWriteResponse()) {
+      if (!hasTimestampS()) {
         memoizedIsInitialized = 0;
         return false;
       }
-      if (!getXcap().isInitialized()) {
+      if (!hasNumUpdated()) {
         memoizedIsInitialized = 0;
         return false;
       }
-      if (hasCoordinates()) {
-        if (!getCoordinates().isInitialized()) {
-          memoizedIsInitialized = 0;
-          return false;
-        }
-      }
       memoizedIsInitialized = 1;
       return true;
     }
@@ -44101,16 +57494,13 @@ public final class MRC {
                         throws java.io.IOException {
       getSerializedSize();
       if (((bitField0_ & 0x00000001) == 0x00000001)) {
-        output.writeMessage(1, xcap_);
+        output.writeFixed32(1, timestampS_);
       }
       if (((bitField0_ & 0x00000002) == 0x00000002)) {
-        output.writeMessage(2, osdWriteResponse_);
+        output.writeFixed32(2, numUpdated_);
       }
       if (((bitField0_ & 0x00000004) == 0x00000004)) {
-        output.writeBool(3, closeFile_);
-      }
-      if (((bitField0_ & 0x00000008) == 0x00000008)) {
-        output.writeMessage(4, coordinates_);
+        output.writeBytes(3, getCursorBytes());
       }
       getUnknownFields().writeTo(output);
     }
@@ -44123,19 +57513,15 @@ public final class MRC {
       size = 0;
       if (((bitField0_ & 0x00000001) == 0x00000001)) {
         size += com.google.protobuf.CodedOutputStream
-          .computeMessageSize(1, xcap_);
+          .computeFixed32Size(1, timestampS_);
       }
       if (((bitField0_ & 0x00000002) == 0x00000002)) {
         size += com.google.protobuf.CodedOutputStream
-          .computeMessageSize(2, osdWriteResponse_);
+          .computeFixed32Size(2, numUpdated_);
       }
       if (((bitField0_ & 0x00000004) == 0x00000004)) {
         size += com.google.protobuf.CodedOutputStream
-          .computeBoolSize(3, closeFile_);
-      }
-      if (((bitField0_ & 0x00000008) == 0x00000008)) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeMessageSize(4, coordinates_);
+          .computeBytesSize(3, getCursorBytes());
       }
       size += getUnknownFields().getSerializedSize();
       memoizedSerializedSize = size;
@@ -44149,53 +57535,53 @@ public final class MRC {
       return super.writeReplace();
     }
 
-    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_file_sizeRequest parseFrom(
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_setattr_recursiveResponse parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_file_sizeRequest parseFrom(
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_setattr_recursiveResponse parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_file_sizeRequest parseFrom(byte[] data)
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_setattr_recursiveResponse parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_file_sizeRequest parseFrom(
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_setattr_recursiveResponse parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_file_sizeRequest parseFrom(java.io.InputStream input)
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_setattr_recursiveResponse parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return PARSER.parseFrom(input);
     }
-    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_file_sizeRequest parseFrom(
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_setattr_recursiveResponse parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return PARSER.parseFrom(input, extensionRegistry);
     }
-    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_file_sizeRequest parseDelimitedFrom(java.io.InputStream input)
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_setattr_recursiveResponse parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return PARSER.parseDelimitedFrom(input);
     }
-    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_file_sizeRequest parseDelimitedFrom(
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_setattr_recursiveResponse parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return PARSER.parseDelimitedFrom(input, extensionRegistry);
     }
-    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_file_sizeRequest parseFrom(
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_setattr_recursiveResponse parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return PARSER.parseFrom(input);
     }
-    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_file_sizeRequest parseFrom(
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_setattr_recursiveResponse parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -44204,7 +57590,7 @@ public final class MRC {
 
     public static Builder newBuilder() { return Builder.create(); }
     public Builder newBuilderForType() { return newBuilder(); }
-    public static Builder newBuilder(org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_file_sizeRequest prototype) {
+    public static Builder newBuilder(org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_setattr_recursiveResponse prototype) {
       return newBuilder().mergeFrom(prototype);
     }
     public Builder toBuilder() { return newBuilder(this); }
@@ -44216,725 +57602,362 @@ public final class MRC {
       return builder;
     }
     /**
-     * Protobuf type {@code xtreemfs.pbrpc.xtreemfs_update_file_sizeRequest}
-     *
-     * <pre>
-     * updates the size of an open file
-     * </pre>
+     * Protobuf type {@code xtreemfs.pbrpc.xtreemfs_setattr_recursiveResponse}
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessage.Builder<Builder>
-       implements org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_file_sizeRequestOrBuilder {
+       implements org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_setattr_recursiveResponseOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return org.xtreemfs.pbrpc.generatedinterfaces.MRC.internal_static_xtreemfs_pbrpc_xtreemfs_update_file_sizeRequest_descriptor;
+        return org.xtreemfs.pbrpc.generatedinterfaces.MRC.internal_static_xtreemfs_pbrpc_xtreemfs_setattr_recursiveResponse_descriptor;
       }
 
       protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return org.xtreemfs.pbrpc.generatedinterfaces.MRC.internal_static_xtreemfs_pbrpc_xtreemfs_update_file_sizeRequest_fieldAccessorTable
+        return org.xtreemfs.pbrpc.generatedinterfaces.MRC.internal_static_xtreemfs_pbrpc_xtreemfs_setattr_recursiveResponse_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_file_sizeRequest.class, org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_file_sizeRequest.Builder.class);
-      }
-
-      // Construct using org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_file_sizeRequest.newBuilder()
-      private Builder() {
-        maybeForceBuilderInitialization();
-      }
-
-      private Builder(
-          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
-        super(parent);
-        maybeForceBuilderInitialization();
-      }
-      private void maybeForceBuilderInitialization() {
-        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
-          getXcapFieldBuilder();
-          getOsdWriteResponseFieldBuilder();
-          getCoordinatesFieldBuilder();
-        }
+                org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_setattr_recursiveResponse.class, org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_setattr_recursiveResponse.Builder.class);
       }
-      private static Builder create() {
-        return new Builder();
-      }
-
-      public Builder clear() {
-        super.clear();
-        if (xcapBuilder_ == null) {
-          xcap_ = org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCap.getDefaultInstance();
-        } else {
-          xcapBuilder_.clear();
-        }
-        bitField0_ = (bitField0_ & ~0x00000001);
-        if (osdWriteResponseBuilder_ == null) {
-          osdWriteResponse_ = org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.OSDWriteResponse.getDefaultInstance();
-        } else {
-          osdWriteResponseBuilder_.clear();
-        }
-        bitField0_ = (bitField0_ & ~0x00000002);
-        closeFile_ = false;
-        bitField0_ = (bitField0_ & ~0x00000004);
-        if (coordinatesBuilder_ == null) {
-          coordinates_ = org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.VivaldiCoordinates.getDefaultInstance();
-        } else {
-          coordinatesBuilder_.clear();
-        }
-        bitField0_ = (bitField0_ & ~0x00000008);
-        return this;
-      }
-
-      public Builder clone() {
-        return create().mergeFrom(buildPartial());
-      }
-
-      public com.google.protobuf.Descriptors.Descriptor
-          getDescriptorForType() {
-        return org.xtreemfs.pbrpc.generatedinterfaces.MRC.internal_static_xtreemfs_pbrpc_xtreemfs_update_file_sizeRequest_descriptor;
-      }
-
-      public org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_file_sizeRequest getDefaultInstanceForType() {
-        return org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_file_sizeRequest.getDefaultInstance();
-      }
-
-      public org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_file_sizeRequest build() {
-        org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_file_sizeRequest result = buildPartial();
-        if (!result.isInitialized()) {
-          throw newUninitializedMessageException(result);
-        }
-        return result;
-      }
-
-      public org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_file_sizeRequest buildPartial() {
-        org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_file_sizeRequest result = new org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_file_sizeRequest(this);
-        int from_bitField0_ = bitField0_;
-        int to_bitField0_ = 0;
-        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
-          to_bitField0_ |= 0x00000001;
-        }
-        if (xcapBuilder_ == null) {
-          result.xcap_ = xcap_;
-        } else {
-          result.xcap_ = xcapBuilder_.build();
-        }
-        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
-          to_bitField0_ |= 0x00000002;
-        }
-        if (osdWriteResponseBuilder_ == null) {
-          result.osdWriteResponse_ = osdWriteResponse_;
-        } else {
-          result.osdWriteResponse_ = osdWriteResponseBuilder_.build();
-        }
-        if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
-          to_bitField0_ |= 0x00000004;
-        }
-        result.closeFile_ = closeFile_;
-        if (((from_bitField0_ & 0x00000008) == 0x00000008)) {
-          to_bitField0_ |= 0x00000008;
-        }
-        if (coordinatesBuilder_ == null) {
-          result.coordinates_ = coordinates_;
-        } else {
-          result.coordinates_ = coordinatesBuilder_.build();
-        }
-        result.bitField0_ = to_bitField0_;
-        onBuilt();
-        return result;
-      }
-
-      public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_file_sizeRequest) {
-          return mergeFrom((org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_file_sizeRequest)other);
-        } else {
-          super.mergeFrom(other);
-          return this;
-        }
-      }
-
-      public Builder mergeFrom(org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_file_sizeRequest other) {
-        if (other == org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_file_sizeRequest.getDefaultInstance()) return this;
-        if (other.hasXcap()) {
-          mergeXcap(other.getXcap());
-        }
-        if (other.hasOsdWriteResponse()) {
-          mergeOsdWriteResponse(other.getOsdWriteResponse());
-        }
-        if (other.hasCloseFile()) {
-          setCloseFile(other.getCloseFile());
-        }
-        if (other.hasCoordinates()) {
-          mergeCoordinates(other.getCoordinates());
-        }
-        this.mergeUnknownFields(other.getUnknownFields());
-        return this;
-      }
-
-      public final boolean isInitialized() {
-        if (!hasXcap()) {
-          
-          return false;
-        }
-        if (!hasOsdWriteResponse()) {
-          
-          return false;
-        }
-        if (!getXcap().isInitialized()) {
-          
-          return false;
-        }
-        if (hasCoordinates()) {
-          if (!getCoordinates().isInitialized()) {
-            
-            return false;
-          }
-        }
-        return true;
-      }
-
-      public Builder mergeFrom(
-          com.google.protobuf.CodedInputStream input,
-          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-          throws java.io.IOException {
-        org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_file_sizeRequest parsedMessage = null;
-        try {
-          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
-        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_file_sizeRequest) e.getUnfinishedMessage();
-          throw e;
-        } finally {
-          if (parsedMessage != null) {
-            mergeFrom(parsedMessage);
-          }
-        }
-        return this;
-      }
-      private int bitField0_;
 
-      // required .xtreemfs.pbrpc.XCap xcap = 1;
-      private org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCap xcap_ = org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCap.getDefaultInstance();
-      private com.google.protobuf.SingleFieldBuilder<
-          org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCap, org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCap.Builder, org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCapOrBuilder> xcapBuilder_;
-      /**
-       * <code>required .xtreemfs.pbrpc.XCap xcap = 1;</code>
-       *
-       * <pre>
-       * the capability that was returned when opening the file
-       * </pre>
-       */
-      public boolean hasXcap() {
-        return ((bitField0_ & 0x00000001) == 0x00000001);
-      }
-      /**
-       * <code>required .xtreemfs.pbrpc.XCap xcap = 1;</code>
-       *
-       * <pre>
-       * the capability that was returned when opening the file
-       * </pre>
-       */
-      public org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCap getXcap() {
-        if (xcapBuilder_ == null) {
-          return xcap_;
-        } else {
-          return xcapBuilder_.getMessage();
-        }
-      }
-      /**
-       * <code>required .xtreemfs.pbrpc.XCap xcap = 1;</code>
-       *
-       * <pre>
-       * the capability that was returned when opening the file
-       * </pre>
-       */
-      public Builder setXcap(org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCap value) {
-        if (xcapBuilder_ == null) {
-          if (value == null) {
-            throw new NullPointerException();
-          }
-          xcap_ = value;
-          onChanged();
-        } else {
-          xcapBuilder_.setMessage(value);
-        }
-        bitField0_ |= 0x00000001;
-        return this;
-      }
-      /**
-       * <code>required .xtreemfs.pbrpc.XCap xcap = 1;</code>
-       *
-       * <pre>
-       * the capability that was returned when opening the file
-       * </pre>
-       */
-      public Builder setXcap(
-          org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCap.Builder builderForValue) {
-        if (xcapBuilder_ == null) {
-          xcap_ = builderForValue.build();
-          onChanged();
-        } else {
-          xcapBuilder_.setMessage(builderForValue.build());
-        }
-        bitField0_ |= 0x00000001;
-        return this;
-      }
-      /**
-       * <code>required .xtreemfs.pbrpc.XCap xcap = 1;</code>
-       *
-       * <pre>
-       * the capability that was returned when opening the file
-       * </pre>
-       */
-      public Builder mergeXcap(org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCap value) {
-        if (xcapBuilder_ == null) {
-          if (((bitField0_ & 0x00000001) == 0x00000001) &&
-              xcap_ != org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCap.getDefaultInstance()) {
-            xcap_ =
-              org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCap.newBuilder(xcap_).mergeFrom(value).buildPartial();
-          } else {
-            xcap_ = value;
-          }
-          onChanged();
-        } else {
-          xcapBuilder_.mergeFrom(value);
-        }
-        bitField0_ |= 0x00000001;
-        return this;
-      }
-      /**
-       * <code>required .xtreemfs.pbrpc.XCap xcap = 1;</code>
-       *
-       * <pre>
-       * the capability that was returned when opening the file
-       * </pre>
-       */
-      public Builder clearXcap() {
-        if (xcapBuilder_ == null) {
-          xcap_ = org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCap.getDefaultInstance();
-          onChanged();
-        } else {
-          xcapBuilder_.clear();
+      // Construct using org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_setattr_recursiveResponse.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
         }
+      }
+      private static Builder create() {
+        return new Builder();
+      }
+
+      public Builder clear() {
+        super.clear();
+        timestampS_ = 0;
         bitField0_ = (bitField0_ & ~0x00000001);
+        numUpdated_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000002);
+        cursor_ = "";
+        bitField0_ = (bitField0_ & ~0x00000004);
         return this;
       }
-      /**
-       * <code>required .xtreemfs.pbrpc.XCap xcap = 1;</code>
-       *
-       * <pre>
-       * the capability that was returned when opening the file
-       * </pre>
-       */
-      public org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCap.Builder getXcapBuilder() {
-        bitField0_ |= 0x00000001;
-        onChanged();
-        return getXcapFieldBuilder().getBuilder();
+
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
       }
-      /**
-       * <code>required .xtreemfs.pbrpc.XCap xcap = 1;</code>
-       *
-       * <pre>
-       * the capability that was returned when opening the file
-       * </pre>
-       */
-      public org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCapOrBuilder getXcapOrBuilder() {
-        if (xcapBuilder_ != null) {
-          return xcapBuilder_.getMessageOrBuilder();
-        } else {
-          return xcap_;
-        }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.xtreemfs.pbrpc.generatedinterfaces.MRC.internal_static_xtreemfs_pbrpc_xtreemfs_setattr_recursiveResponse_descriptor;
       }
-      /**
-       * <code>required .xtreemfs.pbrpc.XCap xcap = 1;</code>
-       *
-       * <pre>
-       * the capability that was returned when opening the file
-       * </pre>
-       */
-      private com.google.protobuf.SingleFieldBuilder<
-          org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCap, org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCap.Builder, org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCapOrBuilder> 
-          getXcapFieldBuilder() {
-        if (xcapBuilder_ == null) {
-          xcapBuilder_ = new com.google.protobuf.SingleFieldBuilder<
-              org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCap, org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCap.Builder, org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCapOrBuilder>(
-                  xcap_,
-                  getParentForChildren(),
-                  isClean());
-          xcap_ = null;
+
+      public org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_setattr_recursiveResponse getDefaultInstanceForType() {
+        return org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_setattr_recursiveResponse.getDefaultInstance();
+      }
+
+      public org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_setattr_recursiveResponse build() {
+        org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_setattr_recursiveResponse result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
         }
-        return xcapBuilder_;
+        return result;
       }
 
-      // required .xtreemfs.pbrpc.OSDWriteResponse osd_write_response = 2;
-      private org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.OSDWriteResponse osdWriteResponse_ = org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.OSDWriteResponse.getDefaultInstance();
-      private com.google.protobuf.SingleFieldBuilder<
-          org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.OSDWriteResponse, org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.OSDWriteResponse.Builder, org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.OSDWriteResponseOrBuilder> osdWriteResponseBuilder_;
-      /**
-       * <code>required .xtreemfs.pbrpc.OSDWriteResponse osd_write_response = 2;</code>
-       *
-       * <pre>
-       * the OSDWriteResponse received from an OSD that contains the new file size
-       * </pre>
-       */
-      public boolean hasOsdWriteResponse() {
-        return ((bitField0_ & 0x00000002) == 0x00000002);
+      public org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_setattr_recursiveResponse buildPartial() {
+        org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_setattr_recursiveResponse result = new org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_setattr_recursiveResponse(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.timestampS_ = timestampS_;
+        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+          to_bitField0_ |= 0x00000002;
+        }
+        result.numUpdated_ = numUpdated_;
+        if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
+          to_bitField0_ |= 0x00000004;
+        }
+        result.cursor_ = cursor_;
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
       }
-      /**
-       * <code>required .xtreemfs.pbrpc.OSDWriteResponse osd_write_response = 2;</code>
-       *
-       * <pre>
-       * the OSDWriteResponse received from an OSD that contains the new file size
-       * </pre>
-       */
-      public org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.OSDWriteResponse getOsdWriteResponse() {
-        if (osdWriteResponseBuilder_ == null) {
-          return osdWriteResponse_;
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_setattr_recursiveResponse) {
+          return mergeFrom((org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_setattr_recursiveResponse)other);
         } else {
-          return osdWriteResponseBuilder_.getMessage();
+          super.mergeFrom(other);
+          return this;
         }
       }
-      /**
-       * <code>required .xtreemfs.pbrpc.OSDWriteResponse osd_write_response = 2;</code>
-       *
-       * <pre>
-       * the OSDWriteResponse received from an OSD that contains the new file size
-       * </pre>
-       */
-      public Builder setOsdWriteResponse(org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.OSDWriteResponse value) {
-        if (osdWriteResponseBuilder_ == null) {
-          if (value == null) {
-            throw new NullPointerException();
-          }
-          osdWriteResponse_ = value;
+
+      public Builder mergeFrom(org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_setattr_recursiveResponse other) {
+        if (other == org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_setattr_recursiveResponse.getDefaultInstance()) return this;
+        if (other.hasTimestampS()) {
+          setTimestampS(other.getTimestampS());
+        }
+        if (other.hasNumUpdated()) {
+          setNumUpdated(other.getNumUpdated());
+        }
+        if (other.hasCursor()) {
+          bitField0_ |= 0x00000004;
+          cursor_ = other.cursor_;
           onChanged();
-        } else {
-          osdWriteResponseBuilder_.setMessage(value);
         }
-        bitField0_ |= 0x00000002;
+        this.mergeUnknownFields(other.getUnknownFields());
         return this;
       }
-      /**
-       * <code>required .xtreemfs.pbrpc.OSDWriteResponse osd_write_response = 2;</code>
-       *
-       * <pre>
-       * the OSDWriteResponse received from an OSD that contains the new file size
-       * </pre>
-       */
-      public Builder setOsdWriteResponse(
-          org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.OSDWriteResponse.Builder builderForValue) {
-        if (osdWriteResponseBuilder_ == null) {
-          osdWriteResponse_ = builderForValue.build();
-          onChanged();
-        } else {
-          osdWriteResponseBuilder_.setMessage(builderForValue.build());
+
+      public final boolean isInitialized() {
+        if (!hasTimestampS()) {
+          
+          return false;
         }
-        bitField0_ |= 0x00000002;
-        return this;
+        if (!hasNumUpdated()) {
+          
+          return false;
+        }
+        return true;
       }
-      /**
-       * <code>required .xtreemfs.pbrpc.OSDWriteResponse osd_write_response = 2;</code>
-       *
-       * <pre>
-       * the OSDWriteResponse received from an OSD that contains the new file size
-       * </pre>
-       */
-      public Builder mergeOsdWriteResponse(org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.OSDWriteResponse value) {
-        if (osdWriteResponseBuilder_ == null) {
-          if (((bitField0_ & 0x00000002) == 0x00000002) &&
-              osdWriteResponse_ != org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.OSDWriteResponse.getDefaultInstance()) {
-            osdWriteResponse_ =
-              org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.OSDWriteResponse.newBuilder(osdWriteResponse_).mergeFrom(value).buildPartial();
-          } else {
-            osdWriteResponse_ = value;
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_setattr_recursiveResponse parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_setattr_recursiveResponse) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
           }
-          onChanged();
-        } else {
-          osdWriteResponseBuilder_.mergeFrom(value);
         }
-        bitField0_ |= 0x00000002;
         return this;
       }
+      private int bitField0_;
+
+      // required fixed32 timestamp_s = 1;
+      private int timestampS_ ;
       /**
-       * <code>required .xtreemfs.pbrpc.OSDWriteResponse osd_write_response = 2;</code>
+       * <code>required fixed32 timestamp_s = 1;</code>
        *
        * <pre>
-       * the OSDWriteResponse received from an OSD that contains the new file size
+       * the current server time
        * </pre>
        */
-      public Builder clearOsdWriteResponse() {
-        if (osdWriteResponseBuilder_ == null) {
-          osdWriteResponse_ = org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.OSDWriteResponse.getDefaultInstance();
-          onChanged();
-        } else {
-          osdWriteResponseBuilder_.clear();
-        }
-        bitField0_ = (bitField0_ & ~0x00000002);
-        return this;
+      public boolean hasTimestampS() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
       }
       /**
-       * <code>required .xtreemfs.pbrpc.OSDWriteResponse osd_write_response = 2;</code>
+       * <code>required fixed32 timestamp_s = 1;</code>
        *
        * <pre>
-       * the OSDWriteResponse received from an OSD that contains the new file size
+       * the current server time
        * </pre>
        */
-      public org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.OSDWriteResponse.Builder getOsdWriteResponseBuilder() {
-        bitField0_ |= 0x00000002;
-        onChanged();
-        return getOsdWriteResponseFieldBuilder().getBuilder();
+      public int getTimestampS() {
+        return timestampS_;
       }
       /**
-       * <code>required .xtreemfs.pbrpc.OSDWriteResponse osd_write_response = 2;</code>
+       * <code>required fixed32 timestamp_s = 1;</code>
        *
        * <pre>
-       * the OSDWriteResponse received from an OSD that contains the new file size
+       * the current server time
        * </pre>
        */
-      public org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.OSDWriteResponseOrBuilder getOsdWriteResponseOrBuilder() {
-        if (osdWriteResponseBuilder_ != null) {
-          return osdWriteResponseBuilder_.getMessageOrBuilder();
-        } else {
-          return osdWriteResponse_;
-        }
+      public Builder setTimestampS(int value) {
+        bitField0_ |= 0x00000001;
+        timestampS_ = value;
+        onChanged();
+        return this;
       }
       /**
-       * <code>required .xtreemfs.pbrpc.OSDWriteResponse osd_write_response = 2;</code>
+       * <code>required fixed32 timestamp_s = 1;</code>
        *
        * <pre>
-       * the OSDWriteResponse received from an OSD that contains the new file size
+       * the current server time
        * </pre>
        */
-      private com.google.protobuf.SingleFieldBuilder<
-          org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.OSDWriteResponse, org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.OSDWriteResponse.Builder, org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.OSDWriteResponseOrBuilder> 
-          getOsdWriteResponseFieldBuilder() {
-        if (osdWriteResponseBuilder_ == null) {
-          osdWriteResponseBuilder_ = new com.google.protobuf.SingleFieldBuilder<
-              org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.OSDWriteResponse, org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.OSDWriteResponse.Builder, org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.OSDWriteResponseOrBuilder>(
-                  osdWriteResponse_,
-                  getParentForChildren(),
-                  isClean());
-          osdWriteResponse_ = null;
-        }
-        return osdWriteResponseBuilder_;
+      public Builder clearTimestampS() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        timestampS_ = 0;
+        onChanged();
+        return this;
       }
 
-      // optional bool close_file = 3;
-      private boolean closeFile_ ;
+      // required fixed32 num_updated = 2;
+      private int numUpdated_ ;
       /**
-       * <code>optional bool close_file = 3;</code>
+       * <code>required fixed32 num_updated = 2;</code>
        *
        * <pre>
-       * a flag indicating that the file is supposed to be closed
+       * the number of entries updated with this call
        * </pre>
        */
-      public boolean hasCloseFile() {
-        return ((bitField0_ & 0x00000004) == 0x00000004);
+      public boolean hasNumUpdated() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
       }
       /**
-       * <code>optional bool close_file = 3;</code>
+       * <code>required fixed32 num_updated = 2;</code>
        *
        * <pre>
-       * a flag indicating that the file is supposed to be closed
+       * the number of entries updated with this call
        * </pre>
        */
-      public boolean getCloseFile() {
-        return closeFile_;
+      public int getNumUpdated() {
+        return numUpdated_;
       }
       /**
-       * <code>optional bool close_file = 3;</code>
+       * <code>required fixed32 num_updated = 2;</code>
        *
        * <pre>
-       * a flag indicating that the file is supposed to be closed
+       * the number of entries updated with this call
        * </pre>
        */
-      public Builder setCloseFile(boolean value) {
-        bitField0_ |= 0x00000004;
-        closeFile_ = value;
+      public Builder setNumUpdated(int value) {
+        bitField0_ |= 0x00000002;
+        numUpdated_ = value;
         onChanged();
         return this;
       }
       /**
-       * <code>optional bool close_file = 3;</code>
+       * <code>required fixed32 num_updated = 2;</code>
        *
        * <pre>
-       * a flag indicating that the file is supposed to be closed
+       * the number of entries updated with this call
        * </pre>
        */
-      public Builder clearCloseFile() {
-        bitField0_ = (bitField0_ & ~0x00000004);
-        closeFile_ = false;
+      public Builder clearNumUpdated() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        numUpdated_ = 0;
         onChanged();
         return this;
       }
 
-      // optional .xtreemfs.pbrpc.VivaldiCoordinates coordinates = 4;
-      private org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.VivaldiCoordinates coordinates_ = org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.VivaldiCoordinates.getDefaultInstance();
-      private com.google.protobuf.SingleFieldBuilder<
-          org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.VivaldiCoordinates, org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.VivaldiCoordinates.Builder, org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.VivaldiCoordinatesOrBuilder> coordinatesBuilder_;
-      /**
-       * <code>optional .xtreemfs.pbrpc.VivaldiCoordinates coordinates = 4;</code>
-       *
-       * <pre>
-       * the client's Vivaldi coordinates (e.g. used for creating replicas at
-       * specific locations when the file is closed)
-       * </pre>
-       */
-      public boolean hasCoordinates() {
-        return ((bitField0_ & 0x00000008) == 0x00000008);
-      }
+      // optional string cursor = 3;
+      private java.lang.Object cursor_ = "";
       /**
-       * <code>optional .xtreemfs.pbrpc.VivaldiCoordinates coordinates = 4;</code>
+       * <code>optional string cursor = 3;</code>
        *
        * <pre>
-       * the client's Vivaldi coordinates (e.g. used for creating replicas at
-       * specific locations when the file is closed)
+       * the position from which the next call continues; not set if all
+       * entries have been updated
        * </pre>
        */
-      public org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.VivaldiCoordinates getCoordinates() {
-        if (coordinatesBuilder_ == null) {
-          return coordinates_;
-        } else {
-          return coordinatesBuilder_.getMessage();
-        }
+      public boolean hasCursor() {
+        return ((bitField0_ & 0x00000004) == 0x00000004);
       }
       /**
-       * <code>optional .xtreemfs.pbrpc.VivaldiCoordinates coordinates = 4;</code>
+       * <code>optional string cursor = 3;</code>
        *
        * <pre>
-       * the client's Vivaldi coordinates (e.g. used for creating replicas at
-       * specific locations when the file is closed)
+       * the position from which the next call continues; not set if all
+       * entries have been updated
        * </pre>
        */
-      public Builder setCoordinates(org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.VivaldiCoordinates value) {
-        if (coordinatesBuilder_ == null) {
-          if (value == null) {
-            throw new NullPointerException();
-          }
-          coordinates_ = value;
-          onChanged();
+      public java.lang.String getCursor() {
+        java.lang.Object ref = cursor_;
+        if (!(ref instanceof java.lang.String)) {
+          java.lang.String s = ((com.google.protobuf.ByteString) ref)
+              .toStringUtf8();
+          cursor_ = s;
+          return s;
         } else {
-          coordinatesBuilder_.setMessage(value);
+          return (java.lang.String) ref;
         }
-        bitField0_ |= 0x00000008;
-        return this;
       }
       /**
-       * <code>optional .xtreemfs.pbrpc.VivaldiCoordinates coordinates = 4;</code>
+       * <code>optional string cursor = 3;</code>
        *
        * <pre>
-       * the client's Vivaldi coordinates (e.g. used for creating replicas at
-       * specific locations when the file is closed)
+       * the position from which the next call continues; not set if all
+       * entries have been updated
        * </pre>
        */
-      public Builder setCoordinates(
-          org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.VivaldiCoordinates.Builder builderForValue) {
-        if (coordinatesBuilder_ == null) {
-          coordinates_ = builderForValue.build();
-          onChanged();
+      public com.google.protobuf.ByteString
+          getCursorBytes() {
+        java.lang.Object ref = cursor_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          cursor_ = b;
+          return b;
         } else {
-          coordinatesBuilder_.setMessage(builderForValue.build());
+          return (com.google.protobuf.ByteString) ref;
         }
-        bitField0_ |= 0x00000008;
-        return this;
       }
       /**
-       * <code>optional .xtreemfs.pbrpc.VivaldiCoordinates coordinates = 4;</code>
+       * <code>optional string cursor = 3;</code>
        *
        * <pre>
-       * the client's Vivaldi coordinates (e.g. used for creating replicas at
-       * specific locations when the file is closed)
+       * the position from which the next call continues; not set if all
+       * entries have been updated
        * </pre>
        */
-      public Builder mergeCoordinates(org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.VivaldiCoordinates value) {
-        if (coordinatesBuilder_ == null) {
-          if (((bitField0_ & 0x00000008) == 0x00000008) &&
-              coordinates_ != org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.VivaldiCoordinates.getDefaultInstance()) {
-            coordinates_ =
-              org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.VivaldiCoordinates.newBuilder(coordinates_).mergeFrom(value).buildPartial();
-          } else {
-            coordinates_ = value;
-          }
-          onChanged();
-        } else {
-          coordinatesBuilder_.mergeFrom(value);
-        }
-        bitField0_ |= 0x00000008;
+      public Builder setCursor(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000004;
+        cursor_ = value;
+        onChanged();
         return this;
       }
       /**
-       * <code>optional .xtreemfs.pbrpc.VivaldiCoordinates coordinates = 4;</code>
+       * <code>optional string cursor = 3;</code>
        *
        * <pre>
-       * the client's Vivaldi coordinates (e.g. used for creating replicas at
-       * specific locations when the file is closed)
+       * the position from which the next call continues; not set if all
+       * entries have been updated
        * </pre>
        */
-      public Builder clearCoordinates() {
-        if (coordinatesBuilder_ == null) {
-          coordinates_ = org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.VivaldiCoordinates.getDefaultInstance();
-          onChanged();
-        } else {
-          coordinatesBuilder_.clear();
-        }
-        bitField0_ = (bitField0_ & ~0x00000008);
+      public Builder clearCursor() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        cursor_ = getDefaultInstance().getCursor();
+        onChanged();
         return this;
       }
       /**
-       * <code>optional .xtreemfs.pbrpc.VivaldiCoordinates coordinates = 4;</code>
+       * <code>optional string cursor = 3;</code>
        *
        * <pre>
-       * the client's Vivaldi coordinates (e.g. used for creating replicas at
-       * specific locations when the file is closed)
+       * the position from which the next call continues; not set if all
+       * entries have been updated
        * </pre>
        */
-      public org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.VivaldiCoordinates.Builder getCoordinatesBuilder() {
-        bitField0_ |= 0x00000008;
+      public Builder setCursorBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000004;
+        cursor_ = value;
         onChanged();
-        return getCoordinatesFieldBuilder().getBuilder();
-      }
-      /**
-       * <code>optional .xtreemfs.pbrpc.VivaldiCoordinates coordinates = 4;</code>
-       *
-       * <pre>
-       * the client's Vivaldi coordinates (e.g. used for creating replicas at
-       * specific locations when the file is closed)
-       * </pre>
-       */
-      public org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.VivaldiCoordinatesOrBuilder getCoordinatesOrBuilder() {
-        if (coordinatesBuilder_ != null) {
-          return coordinatesBuilder_.getMessageOrBuilder();
-        } else {
-          return coordinates_;
-        }
-      }
-      /**
-       * <code>optional .xtreemfs.pbrpc.VivaldiCoordinates coordinates = 4;</code>
-       *
-       * <pre>
-       * the client's Vivaldi coordinates (e.g. used for creating replicas at
-       * specific locations when the file is closed)
-       * </pre>
-       */
-      private com.google.protobuf.SingleFieldBuilder<
-          org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.VivaldiCoordinates, org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.VivaldiCoordinates.Builder, org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.VivaldiCoordinatesOrBuilder> 
-          getCoordinatesFieldBuilder() {
-        if (coordinatesBuilder_ == null) {
-          coordinatesBuilder_ = new com.google.protobuf.SingleFieldBuilder<
-              org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.VivaldiCoordinates, org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.VivaldiCoordinates.Builder, org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.VivaldiCoordinatesOrBuilder>(
-                  coordinates_,
-                  getParentForChildren(),
-                  isClean());
-          coordinates_ = null;
-        }
-        return coordinatesBuilder_;
+        return this;
       }
 
-      // @@protoc_insertion_point(builder_scope:xtreemfs.pbrpc.xtreemfs_update_file_sizeRequest)
+      // @@protoc_insertion_point(builder_scope:xtreemfs.pbrpc.xtreemfs_setattr_recursiveResponse)
     }
 
     static {
-      defaultInstance = new xtreemfs_update_file_sizeRequest(true);
+      defaultInstance = new xtreemfs_setattr_recursiveResponse(true);
       defaultInstance.initFields();
     }
 
-    // @@protoc_insertion_point(class_scope:xtreemfs.pbrpc.xtreemfs_update_file_sizeRequest)
+    // @@protoc_insertion_point(class_scope:xtreemfs.pbrpc.xtreemfs_setattr_recursiveResponse)
   }
 
   public interface xtreemfs_set_replica_update_policyRequestOrBuilder
@@ -47973,6 +60996,16 @@ public final class MRC {
   private static
     com.google.protobuf.GeneratedMessage.FieldAccessorTable
       internal_static_xtreemfs_pbrpc_xtreemfs_replica_listRequest_fieldAccessorTable;
+  private static com.google.protobuf.Descriptors.Descriptor
+    internal_static_xtreemfs_pbrpc_xtreemfs_renew_capabilitiesRequest_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_xtreemfs_pbrpc_xtreemfs_renew_capabilitiesRequest_fieldAccessorTable;
+  private static com.google.protobuf.Descriptors.Descriptor
+    internal_static_xtreemfs_pbrpc_xtreemfs_renew_capabilitiesResponse_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_xtreemfs_pbrpc_xtreemfs_renew_capabilitiesResponse_fieldAccessorTable;
   private static com.google.protobuf.Descriptors.Descriptor
     internal_static_xtreemfs_pbrpc_xtreemfs_get_xlocsetRequest_descriptor;
   private static
@@ -47998,6 +61031,66 @@ public final class MRC {
   private static
     com.google.protobuf.GeneratedMessage.FieldAccessorTable
       internal_static_xtreemfs_pbrpc_xtreemfs_update_file_sizeRequest_fieldAccessorTable;
+  private static com.google.protobuf.Descriptors.Descriptor
+    internal_static_xtreemfs_pbrpc_xtreemfs_update_file_sizesRequest_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_xtreemfs_pbrpc_xtreemfs_update_file_sizesRequest_fieldAccessorTable;
+  private static com.google.protobuf.Descriptors.Descriptor
+    internal_static_xtreemfs_pbrpc_xtreemfs_update_file_sizesResponse_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_xtreemfs_pbrpc_xtreemfs_update_file_sizesResponse_fieldAccessorTable;
+  private static com.google.protobuf.Descriptors.Descriptor
+    internal_static_xtreemfs_pbrpc_xtreemfs_create_filesRequest_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_xtreemfs_pbrpc_xtreemfs_create_filesRequest_fieldAccessorTable;
+  private static com.google.protobuf.Descriptors.Descriptor
+    internal_static_xtreemfs_pbrpc_xtreemfs_create_filesResponse_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_xtreemfs_pbrpc_xtreemfs_create_filesResponse_fieldAccessorTable;
+  private static com.google.protobuf.Descriptors.Descriptor
+    internal_static_xtreemfs_pbrpc_xtreemfs_getattrsRequest_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_xtreemfs_pbrpc_xtreemfs_getattrsRequest_fieldAccessorTable;
+  private static com.google.protobuf.Descriptors.Descriptor
+    internal_static_xtreemfs_pbrpc_xtreemfs_getattrsResponse_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_xtreemfs_pbrpc_xtreemfs_getattrsResponse_fieldAccessorTable;
+  private static com.google.protobuf.Descriptors.Descriptor
+    internal_static_xtreemfs_pbrpc_xtreemfs_get_xlocsetsRequest_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_xtreemfs_pbrpc_xtreemfs_get_xlocsetsRequest_fieldAccessorTable;
+  private static com.google.protobuf.Descriptors.Descriptor
+    internal_static_xtreemfs_pbrpc_xtreemfs_get_xlocsetsResponse_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_xtreemfs_pbrpc_xtreemfs_get_xlocsetsResponse_fieldAccessorTable;
+  private static com.google.protobuf.Descriptors.Descriptor
+    internal_static_xtreemfs_pbrpc_xtreemfs_rmdir_recursiveRequest_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_xtreemfs_pbrpc_xtreemfs_rmdir_recursiveRequest_fieldAccessorTable;
+  private static com.google.protobuf.Descriptors.Descriptor
+    internal_static_xtreemfs_pbrpc_xtreemfs_rmdir_recursiveResponse_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_xtreemfs_pbrpc_xtreemfs_rmdir_recursiveResponse_fieldAccessorTable;
+  private static com.google.protobuf.Descriptors.Descriptor
+    internal_static_xtreemfs_pbrpc_xtreemfs_setattr_recursiveRequest_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_xtreemfs_pbrpc_xtreemfs_setattr_recursiveRequest_fieldAccessorTable;
+  private static com.google.protobuf.Descriptors.Descriptor
+    internal_static_xtreemfs_pbrpc_xtreemfs_setattr_recursiveResponse_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_xtreemfs_pbrpc_xtreemfs_setattr_recursiveResponse_fieldAccessorTable;
   private static com.google.protobuf.Descriptors.Descriptor
     internal_static_xtreemfs_pbrpc_xtreemfs_set_replica_update_policyRequest_descriptor;
   private static
@@ -48042,236 +61135,295 @@ public final class MRC {
       "ksize\030\013 \002(\007\022\014\n\004etag\030\014 \001(\006\022\026\n\016truncate_ep" +
       "och\030\r \002(\007\022\022\n\nattributes\030\016 \001(\007\"C\n\016Directo" +
       "ryEntry\022\014\n\004name\030\001 \002(\t\022#\n\005stbuf\030\002 \001(\0132\024.x",
-      "treemfs.pbrpc.Stat\"C\n\020DirectoryEntries\022/" +
+      "treemfs.pbrpc.Stat\"`\n\020DirectoryEntries\022/" +
       "\n\007entries\030\001 \003(\0132\036.xtreemfs.pbrpc.Directo" +
-      "ryEntry\"@\n\005XAttr\022\014\n\004name\030\001 \002(\t\022\r\n\005value\030" +
-      "\002 \001(\t\022\032\n\022value_bytes_string\030\003 \001(\014\"\244\002\n\006Vo" +
-      "lume\022F\n\025access_control_policy\030\001 \002(\0162\'.xt" +
-      "reemfs.pbrpc.AccessControlPolicyType\022?\n\027" +
-      "default_striping_policy\030\002 \002(\0132\036.xtreemfs" +
-      ".pbrpc.StripingPolicy\022\n\n\002id\030\003 \002(\t\022\014\n\004mod" +
-      "e\030\004 \002(\007\022\014\n\004name\030\005 \002(\t\022\026\n\016owner_group_id\030" +
-      "\006 \002(\t\022\025\n\rowner_user_id\030\007 \002(\t\022+\n\005attrs\030\010 ",
-      "\003(\0132\034.xtreemfs.pbrpc.KeyValuePair\022\r\n\005quo" +
-      "ta\030\t \001(\006\"2\n\007Volumes\022\'\n\007volumes\030\001 \003(\0132\026.x" +
-      "treemfs.pbrpc.Volume\"\310\002\n\007StatVFS\022\r\n\005bsiz" +
-      "e\030\001 \002(\007\022\016\n\006bavail\030\002 \002(\006\022\r\n\005bfree\030\r \001(\006\022\016" +
-      "\n\006blocks\030\003 \002(\006\022\014\n\004fsid\030\004 \002(\t\022\017\n\007namemax\030" +
-      "\005 \002(\007\022F\n\025access_control_policy\030\006 \002(\0162\'.x" +
-      "treemfs.pbrpc.AccessControlPolicyType\022?\n" +
-      "\027default_striping_policy\030\007 \002(\0132\036.xtreemf" +
-      "s.pbrpc.StripingPolicy\022\014\n\004etag\030\010 \002(\006\022\014\n\004" +
-      "mode\030\t \002(\007\022\014\n\004name\030\n \002(\t\022\026\n\016owner_group_",
-      "id\030\013 \002(\t\022\025\n\rowner_user_id\030\014 \002(\t\"i\n\017fseta" +
-      "ttrRequest\022#\n\005stbuf\030\001 \002(\0132\024.xtreemfs.pbr" +
-      "pc.Stat\022\016\n\006to_set\030\002 \002(\007\022!\n\003cap\030\003 \002(\0132\024.x" +
-      "treemfs.pbrpc.XCap\"G\n\016getattrRequest\022\023\n\013" +
-      "volume_name\030\001 \002(\t\022\014\n\004path\030\002 \002(\t\022\022\n\nknown" +
-      "_etag\030\003 \002(\006\"6\n\017getattrResponse\022#\n\005stbuf\030" +
-      "\001 \001(\0132\024.xtreemfs.pbrpc.Stat\"B\n\017getxattrR" +
-      "equest\022\023\n\013volume_name\030\001 \002(\t\022\014\n\004path\030\002 \002(" +
-      "\t\022\014\n\004name\030\003 \002(\t\"=\n\020getxattrResponse\022\r\n\005v" +
-      "alue\030\001 \002(\t\022\032\n\022value_bytes_string\030\002 \001(\014\"J",
-      "\n\013linkRequest\022\023\n\013volume_name\030\001 \002(\t\022\023\n\013ta" +
-      "rget_path\030\002 \002(\t\022\021\n\tlink_path\030\003 \002(\t\"I\n\020li" +
-      "stxattrRequest\022\023\n\013volume_name\030\001 \002(\t\022\014\n\004p" +
-      "ath\030\002 \002(\t\022\022\n\nnames_only\030\003 \002(\010\":\n\021listxat" +
-      "trResponse\022%\n\006xattrs\030\001 \003(\0132\025.xtreemfs.pb" +
-      "rpc.XAttr\"?\n\014mkdirRequest\022\023\n\013volume_name" +
-      "\030\001 \002(\t\022\014\n\004path\030\002 \002(\t\022\014\n\004mode\030\003 \002(\007\"\232\001\n\013o" +
-      "penRequest\022\023\n\013volume_name\030\001 \002(\t\022\014\n\004path\030" +
-      "\002 \002(\t\022\r\n\005flags\030\003 \002(\007\022\014\n\004mode\030\004 \002(\007\022\022\n\nat" +
-      "tributes\030\005 \002(\007\0227\n\013coordinates\030\006 \001(\0132\".xt",
-      "reemfs.pbrpc.VivaldiCoordinates\"S\n\014openR" +
-      "esponse\022.\n\005creds\030\001 \002(\0132\037.xtreemfs.pbrpc." +
-      "FileCredentials\022\023\n\013timestamp_s\030\002 \002(\007\"\250\001\n" +
-      "\016readdirRequest\022\023\n\013volume_name\030\001 \002(\t\022\014\n\004" +
-      "path\030\002 \002(\t\022\022\n\nknown_etag\030\003 \002(\006\022%\n\035limit_" +
-      "directory_entries_count\030\004 \002(\007\022\022\n\nnames_o" +
-      "nly\030\005 \002(\010\022$\n\034seen_directory_entries_coun" +
-      "t\030\006 \002(\006\"4\n\017readlinkRequest\022\023\n\013volume_nam" +
-      "e\030\001 \002(\t\022\014\n\004path\030\002 \002(\t\",\n\020readlinkRespons" +
-      "e\022\030\n\020link_target_path\030\001 \003(\t\"E\n\022removexat",
-      "trRequest\022\023\n\013volume_name\030\001 \002(\t\022\014\n\004path\030\002" +
-      " \002(\t\022\014\n\004name\030\003 \002(\t\"N\n\rrenameRequest\022\023\n\013v" +
-      "olume_name\030\001 \002(\t\022\023\n\013source_path\030\002 \002(\t\022\023\n" +
-      "\013target_path\030\003 \002(\t\"U\n\016renameResponse\022\023\n\013" +
-      "timestamp_s\030\001 \002(\007\022.\n\005creds\030\002 \001(\0132\037.xtree" +
-      "mfs.pbrpc.FileCredentials\"1\n\014rmdirReques" +
-      "t\022\023\n\013volume_name\030\001 \002(\t\022\014\n\004path\030\002 \002(\t\"h\n\016" +
-      "setattrRequest\022\023\n\013volume_name\030\001 \002(\t\022\014\n\004p" +
-      "ath\030\002 \002(\t\022#\n\005stbuf\030\003 \002(\0132\024.xtreemfs.pbrp" +
-      "c.Stat\022\016\n\006to_set\030\004 \002(\007\"|\n\017setxattrReques",
-      "t\022\023\n\013volume_name\030\001 \002(\t\022\014\n\004path\030\002 \002(\t\022\014\n\004" +
-      "name\030\003 \002(\t\022\r\n\005value\030\004 \002(\t\022\032\n\022value_bytes" +
-      "_string\030\006 \001(\014\022\r\n\005flags\030\005 \002(\007\"9\n\016statvfsR" +
-      "equest\022\023\n\013volume_name\030\001 \002(\t\022\022\n\nknown_eta" +
-      "g\030\005 \002(\006\"M\n\016symlinkRequest\022\023\n\013volume_name" +
-      "\030\001 \002(\t\022\023\n\013target_path\030\002 \002(\t\022\021\n\tlink_path" +
-      "\030\003 \002(\t\"2\n\runlinkRequest\022\023\n\013volume_name\030\001" +
-      " \002(\t\022\014\n\004path\030\002 \002(\t\"U\n\016unlinkResponse\022\023\n\013" +
-      "timestamp_s\030\001 \002(\007\022.\n\005creds\030\002 \001(\0132\037.xtree" +
-      "mfs.pbrpc.FileCredentials\"A\n\raccessReque",
-      "st\022\023\n\013volume_name\030\001 \002(\t\022\014\n\004path\030\002 \002(\t\022\r\n" +
-      "\005flags\030\003 \002(\007\"Z\n!xtreemfs_check_file_exis" +
-      "tsRequest\022\021\n\tvolume_id\030\001 \002(\t\022\020\n\010file_ids" +
-      "\030\002 \003(\t\022\020\n\010osd_uuid\030\003 \002(\t\"\315\001\n\"xtreemfs_ch" +
-      "eck_file_existsResponse\022\025\n\rvolume_exists" +
-      "\030\001 \002(\010\022V\n\013file_states\030\002 \003(\0162=.xtreemfs.p" +
-      "brpc.xtreemfs_check_file_existsResponse." +
-      "FILE_STATEB\002\020\001\"8\n\nFILE_STATE\022\013\n\007DELETED\020" +
-      "\000\022\016\n\nREGISTERED\020\001\022\r\n\tABANDONED\020\002\":\n%xtre" +
-      "emfs_dump_restore_databaseRequest\022\021\n\tdum",
-      "p_file\030\001 \002(\t\"i\n!xtreemfs_get_suitable_os" +
-      "dsRequest\022\017\n\007file_id\030\001 \001(\t\022\014\n\004path\030\003 \001(\t" +
-      "\022\023\n\013volume_name\030\004 \001(\t\022\020\n\010num_osds\030\002 \002(\007\"" +
-      "7\n\"xtreemfs_get_suitable_osdsResponse\022\021\n" +
-      "\tosd_uuids\030\001 \003(\t\"(\n\021timestampResponse\022\023\n" +
-      "\013timestamp_s\030\001 \002(\007\"!\n\rstringMessage\022\020\n\010a" +
-      "_string\030\001 \002(\t\"\'\n\027xtreemfs_listdirRequest" +
-      "\022\014\n\004path\030\001 \002(\t\")\n\030xtreemfs_listdirRespon" +
-      "se\022\r\n\005names\030\001 \003(\t\"\177\n\033xtreemfs_replica_ad" +
-      "dRequest\022\017\n\007file_id\030\001 \001(\t\022\014\n\004path\030\003 \001(\t\022",
-      "\023\n\013volume_name\030\004 \001(\t\022,\n\013new_replica\030\002 \002(" +
-      "\0132\027.xtreemfs.pbrpc.Replica\"R\n\034xtreemfs_r" +
-      "eplica_listRequest\022\017\n\007file_id\030\001 \001(\t\022\014\n\004p" +
-      "ath\030\002 \001(\t\022\023\n\013volume_name\030\003 \001(\t\"u\n\033xtreem" +
-      "fs_get_xlocsetRequest\022\017\n\007file_id\030\001 \001(\t\022\014" +
-      "\n\004path\030\002 \001(\t\022\023\n\013volume_name\030\003 \001(\t\022\"\n\004xca" +
-      "p\030\004 \001(\0132\024.xtreemfs.pbrpc.XCap\"f\n\036xtreemf" +
-      "s_replica_removeRequest\022\017\n\007file_id\030\001 \001(\t" +
-      "\022\014\n\004path\030\003 \001(\t\022\023\n\013volume_name\030\004 \001(\t\022\020\n\010o" +
-      "sd_uuid\030\002 \002(\t\"|\n\034xtreemfs_restore_fileRe",
-      "quest\022\021\n\tfile_path\030\001 \002(\t\022\017\n\007file_id\030\002 \002(" +
-      "\t\022\021\n\tfile_size\030\003 \002(\006\022\020\n\010osd_uuid\030\004 \002(\t\022\023" +
-      "\n\013stripe_size\030\005 \002(\007\",\n\025xtreemfs_rmvolReq" +
-      "uest\022\023\n\013volume_name\030\001 \002(\t\"\321\001\n xtreemfs_u" +
-      "pdate_file_sizeRequest\022\"\n\004xcap\030\001 \002(\0132\024.x" +
-      "treemfs.pbrpc.XCap\022<\n\022osd_write_response" +
-      "\030\002 \002(\0132 .xtreemfs.pbrpc.OSDWriteResponse" +
-      "\022\022\n\nclose_file\030\003 \001(\010\0227\n\013coordinates\030\004 \001(" +
-      "\0132\".xtreemfs.pbrpc.VivaldiCoordinates\"S\n" +
-      ")xtreemfs_set_replica_update_policyReque",
-      "st\022\017\n\007file_id\030\001 \002(\t\022\025\n\rupdate_policy\030\002 \002" +
-      "(\t\"G\n*xtreemfs_set_replica_update_policy" +
-      "Response\022\031\n\021old_update_policy\030\001 \002(\t\"E\n#x" +
-      "treemfs_set_read_only_xattrRequest\022\017\n\007fi" +
-      "le_id\030\001 \002(\t\022\r\n\005value\030\002 \002(\010\"7\n$xtreemfs_s" +
-      "et_read_only_xattrResponse\022\017\n\007was_set\030\001 " +
-      "\002(\010\"7\n$xtreemfs_get_file_credentialsRequ" +
-      "est\022\017\n\007file_id\030\001 \002(\t*\242\001\n\010Setattrs\022\020\n\014SET" +
-      "ATTR_MODE\020\001\022\017\n\013SETATTR_UID\020\002\022\017\n\013SETATTR_" +
-      "GID\020\004\022\020\n\014SETATTR_SIZE\020\010\022\021\n\rSETATTR_ATIME",
-      "\020\020\022\021\n\rSETATTR_MTIME\020 \022\021\n\rSETATTR_CTIME\020@" +
-      "\022\027\n\022SETATTR_ATTRIBUTES\020\200\001*>\n\013XATTR_FLAGS" +
-      "\022\026\n\022XATTR_FLAGS_CREATE\020\001\022\027\n\023XATTR_FLAGS_" +
-      "REPLACE\020\002*j\n\014ACCESS_FLAGS\022\025\n\021ACCESS_FLAG" +
-      "S_F_OK\020\000\022\025\n\021ACCESS_FLAGS_X_OK\020\001\022\025\n\021ACCES" +
-      "S_FLAGS_W_OK\020\002\022\025\n\021ACCESS_FLAGS_R_OK\020\0042\203 " +
-      "\n\nMRCService\022S\n\010fsetattr\022\037.xtreemfs.pbrp" +
-      "c.fsetattrRequest\032\035.xtreemfs.pbrpc.empty" +
-      "Response\"\007\215\265\030\002\000\000\000\022@\n\tftruncate\022\024.xtreemf" +
-      "s.pbrpc.XCap\032\024.xtreemfs.pbrpc.XCap\"\007\215\265\030\003",
-      "\000\000\000\022S\n\007getattr\022\036.xtreemfs.pbrpc.getattrR" +
-      "equest\032\037.xtreemfs.pbrpc.getattrResponse\"" +
-      "\007\215\265\030\004\000\000\000\022V\n\010getxattr\022\037.xtreemfs.pbrpc.ge" +
-      "txattrRequest\032 .xtreemfs.pbrpc.getxattrR" +
-      "esponse\"\007\215\265\030\005\000\000\000\022O\n\004link\022\033.xtreemfs.pbrp" +
-      "c.linkRequest\032!.xtreemfs.pbrpc.timestamp" +
-      "Response\"\007\215\265\030\006\000\000\000\022Y\n\tlistxattr\022 .xtreemf" +
-      "s.pbrpc.listxattrRequest\032!.xtreemfs.pbrp" +
-      "c.listxattrResponse\"\007\215\265\030\007\000\000\000\022Q\n\005mkdir\022\034." +
-      "xtreemfs.pbrpc.mkdirRequest\032!.xtreemfs.p",
-      "brpc.timestampResponse\"\007\215\265\030\010\000\000\000\022J\n\004open\022" +
-      "\033.xtreemfs.pbrpc.openRequest\032\034.xtreemfs." +
-      "pbrpc.openResponse\"\007\215\265\030\t\000\000\000\022T\n\007readdir\022\036" +
-      ".xtreemfs.pbrpc.readdirRequest\032 .xtreemf" +
-      "s.pbrpc.DirectoryEntries\"\007\215\265\030\n\000\000\000\022V\n\010rea" +
-      "dlink\022\037.xtreemfs.pbrpc.readlinkRequest\032 " +
-      ".xtreemfs.pbrpc.readlinkResponse\"\007\215\265\030\013\000\000" +
-      "\000\022]\n\013removexattr\022\".xtreemfs.pbrpc.remove" +
-      "xattrRequest\032!.xtreemfs.pbrpc.timestampR" +
-      "esponse\"\007\215\265\030\014\000\000\000\022P\n\006rename\022\035.xtreemfs.pb",
-      "rpc.renameRequest\032\036.xtreemfs.pbrpc.renam" +
-      "eResponse\"\007\215\265\030\r\000\000\000\022Q\n\005rmdir\022\034.xtreemfs.p" +
-      "brpc.rmdirRequest\032!.xtreemfs.pbrpc.times" +
-      "tampResponse\"\007\215\265\030\016\000\000\000\022U\n\007setattr\022\036.xtree" +
-      "mfs.pbrpc.setattrRequest\032!.xtreemfs.pbrp" +
-      "c.timestampResponse\"\007\215\265\030\017\000\000\000\022W\n\010setxattr" +
-      "\022\037.xtreemfs.pbrpc.setxattrRequest\032!.xtre" +
-      "emfs.pbrpc.timestampResponse\"\007\215\265\030\020\000\000\000\022K\n" +
-      "\007statvfs\022\036.xtreemfs.pbrpc.statvfsRequest" +
-      "\032\027.xtreemfs.pbrpc.StatVFS\"\007\215\265\030\021\000\000\000\022U\n\007sy",
-      "mlink\022\036.xtreemfs.pbrpc.symlinkRequest\032!." +
-      "xtreemfs.pbrpc.timestampResponse\"\007\215\265\030\022\000\000" +
-      "\000\022P\n\006unlink\022\035.xtreemfs.pbrpc.unlinkReque" +
-      "st\032\036.xtreemfs.pbrpc.unlinkResponse\"\007\215\265\030\023" +
-      "\000\000\000\022O\n\006access\022\035.xtreemfs.pbrpc.accessReq" +
+      "ryEntry\022\033\n\023continuation_cursor\030\002 \001(\t\"@\n\005" +
+      "XAttr\022\014\n\004name\030\001 \002(\t\022\r\n\005value\030\002 \001(\t\022\032\n\022va" +
+      "lue_bytes_string\030\003 \001(\014\"\244\002\n\006Volume\022F\n\025acc" +
+      "ess_control_policy\030\001 \002(\0162\'.xtreemfs.pbrp" +
+      "c.AccessControlPolicyType\022?\n\027default_str" +
+      "iping_policy\030\002 \002(\0132\036.xtreemfs.pbrpc.Stri" +
+      "pingPolicy\022\n\n\002id\030\003 \002(\t\022\014\n\004mode\030\004 \002(\007\022\014\n\004" +
+      "name\030\005 \002(\t\022\026\n\016owner_group_id\030\006 \002(\t\022\025\n\row",
+      "ner_user_id\030\007 \002(\t\022+\n\005attrs\030\010 \003(\0132\034.xtree" +
+      "mfs.pbrpc.KeyValuePair\022\r\n\005quota\030\t \001(\006\"2\n" +
+      "\007Volumes\022\'\n\007volumes\030\001 \003(\0132\026.xtreemfs.pbr" +
+      "pc.Volume\"\310\002\n\007StatVFS\022\r\n\005bsize\030\001 \002(\007\022\016\n\006" +
+      "bavail\030\002 \002(\006\022\r\n\005bfree\030\r \001(\006\022\016\n\006blocks\030\003 " +
+      "\002(\006\022\014\n\004fsid\030\004 \002(\t\022\017\n\007namemax\030\005 \002(\007\022F\n\025ac" +
+      "cess_control_policy\030\006 \002(\0162\'.xtreemfs.pbr" +
+      "pc.AccessControlPolicyType\022?\n\027default_st" +
+      "riping_policy\030\007 \002(\0132\036.xtreemfs.pbrpc.Str" +
+      "ipingPolicy\022\014\n\004etag\030\010 \002(\006\022\014\n\004mode\030\t \002(\007\022",
+      "\014\n\004name\030\n \002(\t\022\026\n\016owner_group_id\030\013 \002(\t\022\025\n" +
+      "\rowner_user_id\030\014 \002(\t\"i\n\017fsetattrRequest\022" +
+      "#\n\005stbuf\030\001 \002(\0132\024.xtreemfs.pbrpc.Stat\022\016\n\006" +
+      "to_set\030\002 \002(\007\022!\n\003cap\030\003 \002(\0132\024.xtreemfs.pbr" +
+      "pc.XCap\"G\n\016getattrRequest\022\023\n\013volume_name" +
+      "\030\001 \002(\t\022\014\n\004path\030\002 \002(\t\022\022\n\nknown_etag\030\003 \002(\006" +
+      "\"6\n\017getattrResponse\022#\n\005stbuf\030\001 \001(\0132\024.xtr" +
+      "eemfs.pbrpc.Stat\"B\n\017getxattrRequest\022\023\n\013v" +
+      "olume_name\030\001 \002(\t\022\014\n\004path\030\002 \002(\t\022\014\n\004name\030\003" +
+      " \002(\t\"=\n\020getxattrResponse\022\r\n\005value\030\001 \002(\t\022",
+      "\032\n\022value_bytes_string\030\002 \001(\014\"J\n\013linkReque" +
+      "st\022\023\n\013volume_name\030\001 \002(\t\022\023\n\013target_path\030\002" +
+      " \002(\t\022\021\n\tlink_path\030\003 \002(\t\"I\n\020listxattrRequ" +
+      "est\022\023\n\013volume_name\030\001 \002(\t\022\014\n\004path\030\002 \002(\t\022\022" +
+      "\n\nnames_only\030\003 \002(\010\":\n\021listxattrResponse\022" +
+      "%\n\006xattrs\030\001 \003(\0132\025.xtreemfs.pbrpc.XAttr\"?" +
+      "\n\014mkdirRequest\022\023\n\013volume_name\030\001 \002(\t\022\014\n\004p" +
+      "ath\030\002 \002(\t\022\014\n\004mode\030\003 \002(\007\"\232\001\n\013openRequest\022" +
+      "\023\n\013volume_name\030\001 \002(\t\022\014\n\004path\030\002 \002(\t\022\r\n\005fl" +
+      "ags\030\003 \002(\007\022\014\n\004mode\030\004 \002(\007\022\022\n\nattributes\030\005 ",
+      "\002(\007\0227\n\013coordinates\030\006 \001(\0132\".xtreemfs.pbrp" +
+      "c.VivaldiCoordinates\"S\n\014openResponse\022.\n\005" +
+      "creds\030\001 \002(\0132\037.xtreemfs.pbrpc.FileCredent" +
+      "ials\022\023\n\013timestamp_s\030\002 \002(\007\"\305\001\n\016readdirReq" +
+      "uest\022\023\n\013volume_name\030\001 \002(\t\022\014\n\004path\030\002 \002(\t\022" +
+      "\022\n\nknown_etag\030\003 \002(\006\022%\n\035limit_directory_e" +
+      "ntries_count\030\004 \002(\007\022\022\n\nnames_only\030\005 \002(\010\022$" +
+      "\n\034seen_directory_entries_count\030\006 \002(\006\022\033\n\023" +
+      "continuation_cursor\030\007 \001(\t\"4\n\017readlinkReq" +
+      "uest\022\023\n\013volume_name\030\001 \002(\t\022\014\n\004path\030\002 \002(\t\"",
+      ",\n\020readlinkResponse\022\030\n\020link_target_path\030" +
+      "\001 \003(\t\"E\n\022removexattrRequest\022\023\n\013volume_na" +
+      "me\030\001 \002(\t\022\014\n\004path\030\002 \002(\t\022\014\n\004name\030\003 \002(\t\"N\n\r" +
+      "renameRequest\022\023\n\013volume_name\030\001 \002(\t\022\023\n\013so" +
+      "urce_path\030\002 \002(\t\022\023\n\013target_path\030\003 \002(\t\"U\n\016" +
+      "renameResponse\022\023\n\013timestamp_s\030\001 \002(\007\022.\n\005c" +
+      "reds\030\002 \001(\0132\037.xtreemfs.pbrpc.FileCredenti" +
+      "als\"1\n\014rmdirRequest\022\023\n\013volume_name\030\001 \002(\t" +
+      "\022\014\n\004path\030\002 \002(\t\"h\n\016setattrRequest\022\023\n\013volu" +
+      "me_name\030\001 \002(\t\022\014\n\004path\030\002 \002(\t\022#\n\005stbuf\030\003 \002",
+      "(\0132\024.xtreemfs.pbrpc.Stat\022\016\n\006to_set\030\004 \002(\007" +
+      "\"|\n\017setxattrRequest\022\023\n\013volume_name\030\001 \002(\t" +
+      "\022\014\n\004path\030\002 \002(\t\022\014\n\004name\030\003 \002(\t\022\r\n\005value\030\004 " +
+      "\002(\t\022\032\n\022value_bytes_string\030\006 \001(\014\022\r\n\005flags" +
+      "\030\005 \002(\007\"9\n\016statvfsRequest\022\023\n\013volume_name\030" +
+      "\001 \002(\t\022\022\n\nknown_etag\030\005 \002(\006\"M\n\016symlinkRequ" +
+      "est\022\023\n\013volume_name\030\001 \002(\t\022\023\n\013target_path\030" +
+      "\002 \002(\t\022\021\n\tlink_path\030\003 \002(\t\"2\n\runlinkReques" +
+      "t\022\023\n\013volume_name\030\001 \002(\t\022\014\n\004path\030\002 \002(\t\"U\n\016" +
+      "unlinkResponse\022\023\n\013timestamp_s\030\001 \002(\007\022.\n\005c",
+      "reds\030\002 \001(\0132\037.xtreemfs.pbrpc.FileCredenti" +
+      "als\"A\n\raccessRequest\022\023\n\013volume_name\030\001 \002(" +
+      "\t\022\014\n\004path\030\002 \002(\t\022\r\n\005flags\030\003 \002(\007\"Z\n!xtreem" +
+      "fs_check_file_existsRequest\022\021\n\tvolume_id" +
+      "\030\001 \002(\t\022\020\n\010file_ids\030\002 \003(\t\022\020\n\010osd_uuid\030\003 \002" +
+      "(\t\"\315\001\n\"xtreemfs_check_file_existsRespons" +
+      "e\022\025\n\rvolume_exists\030\001 \002(\010\022V\n\013file_states\030" +
+      "\002 \003(\0162=.xtreemfs.pbrpc.xtreemfs_check_fi" +
+      "le_existsResponse.FILE_STATEB\002\020\001\"8\n\nFILE" +
+      "_STATE\022\013\n\007DELETED\020\000\022\016\n\nREGISTERED\020\001\022\r\n\tA",
+      "BANDONED\020\002\":\n%xtreemfs_dump_restore_data" +
+      "baseRequest\022\021\n\tdump_file\030\001 \002(\t\"i\n!xtreem" +
+      "fs_get_suitable_osdsRequest\022\017\n\007file_id\030\001" +
+      " \001(\t\022\014\n\004path\030\003 \001(\t\022\023\n\013volume_name\030\004 \001(\t\022" +
+      "\020\n\010num_osds\030\002 \002(\007\"7\n\"xtreemfs_get_suitab" +
+      "le_osdsResponse\022\021\n\tosd_uuids\030\001 \003(\t\"(\n\021ti" +
+      "mestampResponse\022\023\n\013timestamp_s\030\001 \002(\007\"!\n\r" +
+      "stringMessage\022\020\n\010a_string\030\001 \002(\t\"\'\n\027xtree" +
+      "mfs_listdirRequest\022\014\n\004path\030\001 \002(\t\")\n\030xtre" +
+      "emfs_listdirResponse\022\r\n\005names\030\001 \003(\t\"\177\n\033x",
+      "treemfs_replica_addRequest\022\017\n\007file_id\030\001 " +
+      "\001(\t\022\014\n\004path\030\003 \001(\t\022\023\n\013volume_name\030\004 \001(\t\022," +
+      "\n\013new_replica\030\002 \002(\0132\027.xtreemfs.pbrpc.Rep" +
+      "lica\"R\n\034xtreemfs_replica_listRequest\022\017\n\007" +
+      "file_id\030\001 \001(\t\022\014\n\004path\030\002 \001(\t\022\023\n\013volume_na" +
+      "me\030\003 \001(\t\"I\n\"xtreemfs_renew_capabilitiesR" +
+      "equest\022#\n\005xcaps\030\001 \003(\0132\024.xtreemfs.pbrpc.X" +
+      "Cap\"J\n#xtreemfs_renew_capabilitiesRespon" +
+      "se\022#\n\005xcaps\030\001 \003(\0132\024.xtreemfs.pbrpc.XCap\"" +
+      "u\n\033xtreemfs_get_xlocsetRequest\022\017\n\007file_i",
+      "d\030\001 \001(\t\022\014\n\004path\030\002 \001(\t\022\023\n\013volume_name\030\003 \001" +
+      "(\t\022\"\n\004xcap\030\004 \001(\0132\024.xtreemfs.pbrpc.XCap\"f" +
+      "\n\036xtreemfs_replica_removeRequest\022\017\n\007file" +
+      "_id\030\001 \001(\t\022\014\n\004path\030\003 \001(\t\022\023\n\013volume_name\030\004" +
+      " \001(\t\022\020\n\010osd_uuid\030\002 \002(\t\"|\n\034xtreemfs_resto" +
+      "re_fileRequest\022\021\n\tfile_path\030\001 \002(\t\022\017\n\007fil" +
+      "e_id\030\002 \002(\t\022\021\n\tfile_size\030\003 \002(\006\022\020\n\010osd_uui" +
+      "d\030\004 \002(\t\022\023\n\013stripe_size\030\005 \002(\007\",\n\025xtreemfs" +
+      "_rmvolRequest\022\023\n\013volume_name\030\001 \002(\t\"\321\001\n x" +
+      "treemfs_update_file_sizeRequest\022\"\n\004xcap\030",
+      "\001 \002(\0132\024.xtreemfs.pbrpc.XCap\022<\n\022osd_write" +
+      "_response\030\002 \002(\0132 .xtreemfs.pbrpc.OSDWrit" +
+      "eResponse\022\022\n\nclose_file\030\003 \001(\010\0227\n\013coordin" +
+      "ates\030\004 \001(\0132\".xtreemfs.pbrpc.VivaldiCoord" +
+      "inates\"f\n!xtreemfs_update_file_sizesRequ" +
+      "est\022A\n\007updates\030\001 \003(\01320.xtreemfs.pbrpc.xt" +
+      "reemfs_update_file_sizeRequest\"9\n\"xtreem" +
+      "fs_update_file_sizesResponse\022\023\n\007success\030" +
+      "\001 \003(\010B\002\020\001\"\276\001\n\034xtreemfs_create_filesReque" +
+      "st\022\023\n\013volume_name\030\001 \002(\t\022\020\n\010dir_path\030\002 \002(",
+      "\t\022\r\n\005names\030\003 \003(\t\022\r\n\005flags\030\004 \002(\007\022\014\n\004mode\030" +
+      "\005 \002(\007\022\022\n\nattributes\030\006 \002(\007\0227\n\013coordinates" +
+      "\030\007 \001(\0132\".xtreemfs.pbrpc.VivaldiCoordinat" +
+      "es\"L\n\035xtreemfs_create_filesResponse\022+\n\005f" +
+      "iles\030\001 \003(\0132\034.xtreemfs.pbrpc.openResponse" +
+      "\">\n\030xtreemfs_getattrsRequest\022\023\n\013volume_n" +
+      "ame\030\001 \002(\t\022\r\n\005paths\030\002 \003(\t\"K\n\031xtreemfs_get" +
+      "attrsResponse\022.\n\005stats\030\001 \003(\0132\037.xtreemfs." +
+      "pbrpc.getattrResponse\"{\n\034xtreemfs_get_xl" +
+      "ocsetsRequest\022\023\n\013volume_name\030\001 \002(\t\022\r\n\005pa",
+      "ths\030\002 \003(\t\0227\n\013coordinates\030\003 \001(\0132\".xtreemf" +
+      "s.pbrpc.VivaldiCoordinates\"J\n\035xtreemfs_g" +
+      "et_xlocsetsResponse\022)\n\010xlocsets\030\001 \003(\0132\027." +
+      "xtreemfs.pbrpc.XLocSet\"Y\n\037xtreemfs_rmdir" +
+      "_recursiveRequest\022\023\n\013volume_name\030\001 \002(\t\022\014" +
+      "\n\004path\030\002 \002(\t\022\023\n\013max_entries\030\003 \002(\007\"^\n xtr" +
+      "eemfs_rmdir_recursiveResponse\022\023\n\013timesta" +
+      "mp_s\030\001 \002(\007\022\023\n\013num_deleted\030\002 \002(\007\022\020\n\010compl" +
+      "ete\030\003 \002(\010\"\240\001\n!xtreemfs_setattr_recursive" +
+      "Request\022\023\n\013volume_name\030\001 \002(\t\022\014\n\004path\030\002 \002",
+      "(\t\022#\n\005stbuf\030\003 \002(\0132\024.xtreemfs.pbrpc.Stat\022" +
+      "\016\n\006to_set\030\004 \002(\007\022\023\n\013max_entries\030\005 \002(\007\022\016\n\006" +
+      "cursor\030\006 \001(\t\"^\n\"xtreemfs_setattr_recursi" +
+      "veResponse\022\023\n\013timestamp_s\030\001 \002(\007\022\023\n\013num_u" +
+      "pdated\030\002 \002(\007\022\016\n\006cursor\030\003 \001(\t\"S\n)xtreemfs" +
+      "_set_replica_update_policyRequest\022\017\n\007fil" +
+      "e_id\030\001 \002(\t\022\025\n\rupdate_policy\030\002 \002(\t\"G\n*xtr" +
+      "eemfs_set_replica_update_policyResponse\022" +
+      "\031\n\021old_update_policy\030\001 \002(\t\"E\n#xtreemfs_s" +
+      "et_read_only_xattrRequest\022\017\n\007file_id\030\001 \002",
+      "(\t\022\r\n\005value\030\002 \002(\010\"7\n$xtreemfs_set_read_o" +
+      "nly_xattrResponse\022\017\n\007was_set\030\001 \002(\010\"7\n$xt" +
+      "reemfs_get_file_credentialsRequest\022\017\n\007fi" +
+      "le_id\030\001 \002(\t*\242\001\n\010Setattrs\022\020\n\014SETATTR_MODE" +
+      "\020\001\022\017\n\013SETATTR_UID\020\002\022\017\n\013SETATTR_GID\020\004\022\020\n\014" +
+      "SETATTR_SIZE\020\010\022\021\n\rSETATTR_ATIME\020\020\022\021\n\rSET" +
+      "ATTR_MTIME\020 \022\021\n\rSETATTR_CTIME\020@\022\027\n\022SETAT" +
+      "TR_ATTRIBUTES\020\200\001*>\n\013XATTR_FLAGS\022\026\n\022XATTR" +
+      "_FLAGS_CREATE\020\001\022\027\n\023XATTR_FLAGS_REPLACE\020\002" +
+      "*j\n\014ACCESS_FLAGS\022\025\n\021ACCESS_FLAGS_F_OK\020\000\022",
+      "\025\n\021ACCESS_FLAGS_X_OK\020\001\022\025\n\021ACCESS_FLAGS_W" +
+      "_OK\020\002\022\025\n\021ACCESS_FLAGS_R_OK\020\0042\255\'\n\nMRCServ" +
+      "ice\022S\n\010fsetattr\022\037.xtreemfs.pbrpc.fsetatt" +
+      "rRequest\032\035.xtreemfs.pbrpc.emptyResponse\"" +
+      "\007\215\265\030\002\000\000\000\022@\n\tftruncate\022\024.xtreemfs.pbrpc.X" +
+      "Cap\032\024.xtreemfs.pbrpc.XCap\"\007\215\265\030\003\000\000\000\022S\n\007ge" +
+      "tattr\022\036.xtreemfs.pbrpc.getattrRequest\032\037." +
+      "xtreemfs.pbrpc.getattrResponse\"\007\215\265\030\004\000\000\000\022" +
+      "V\n\010getxattr\022\037.xtreemfs.pbrpc.getxattrReq" +
+      "uest\032 .xtreemfs.pbrpc.getxattrResponse\"\007",
+      "\215\265\030\005\000\000\000\022O\n\004link\022\033.xtreemfs.pbrpc.linkReq" +
+      "uest\032!.xtreemfs.pbrpc.timestampResponse\"" +
+      "\007\215\265\030\006\000\000\000\022Y\n\tlistxattr\022 .xtreemfs.pbrpc.l" +
+      "istxattrRequest\032!.xtreemfs.pbrpc.listxat" +
+      "trResponse\"\007\215\265\030\007\000\000\000\022Q\n\005mkdir\022\034.xtreemfs." +
+      "pbrpc.mkdirRequest\032!.xtreemfs.pbrpc.time" +
+      "stampResponse\"\007\215\265\030\010\000\000\000\022J\n\004open\022\033.xtreemf" +
+      "s.pbrpc.openRequest\032\034.xtreemfs.pbrpc.ope" +
+      "nResponse\"\007\215\265\030\t\000\000\000\022T\n\007readdir\022\036.xtreemfs" +
+      ".pbrpc.readdirRequest\032 .xtreemfs.pbrpc.D",
+      "irectoryEntries\"\007\215\265\030\n\000\000\000\022V\n\010readlink\022\037.x" +
+      "treemfs.pbrpc.readlinkRequest\032 .xtreemfs" +
+      ".pbrpc.readlinkResponse\"\007\215\265\030\013\000\000\000\022]\n\013remo" +
+      "vexattr\022\".xtreemfs.pbrpc.removexattrRequ" +
+      "est\032!.xtreemfs.pbrpc.timestampResponse\"\007" +
+      "\215\265\030\014\000\000\000\022P\n\006rename\022\035.xtreemfs.pbrpc.renam" +
+      "eRequest\032\036.xtreemfs.pbrpc.renameResponse" +
+      "\"\007\215\265\030\r\000\000\000\022Q\n\005rmdir\022\034.xtreemfs.pbrpc.rmdi" +
+      "rRequest\032!.xtreemfs.pbrpc.timestampRespo" +
+      "nse\"\007\215\265\030\016\000\000\000\022U\n\007setattr\022\036.xtreemfs.pbrpc",
+      ".setattrRequest\032!.xtreemfs.pbrpc.timesta" +
+      "mpResponse\"\007\215\265\030\017\000\000\000\022W\n\010setxattr\022\037.xtreem" +
+      "fs.pbrpc.setxattrRequest\032!.xtreemfs.pbrp" +
+      "c.timestampResponse\"\007\215\265\030\020\000\000\000\022K\n\007statvfs\022" +
+      "\036.xtreemfs.pbrpc.statvfsRequest\032\027.xtreem" +
+      "fs.pbrpc.StatVFS\"\007\215\265\030\021\000\000\000\022U\n\007symlink\022\036.x" +
+      "treemfs.pbrpc.symlinkRequest\032!.xtreemfs." +
+      "pbrpc.timestampResponse\"\007\215\265\030\022\000\000\000\022P\n\006unli" +
+      "nk\022\035.xtreemfs.pbrpc.unlinkRequest\032\036.xtre" +
+      "emfs.pbrpc.unlinkResponse\"\007\215\265\030\023\000\000\000\022O\n\006ac",
+      "cess\022\035.xtreemfs.pbrpc.accessRequest\032\035.xt" +
+      "reemfs.pbrpc.emptyResponse\"\007\215\265\030\024\000\000\000\022[\n\023x" +
+      "treemfs_checkpoint\022\034.xtreemfs.pbrpc.empt" +
+      "yRequest\032\035.xtreemfs.pbrpc.emptyResponse\"" +
+      "\007\215\265\030\036\000\000\000\022\214\001\n\032xtreemfs_check_file_exists\022" +
+      "1.xtreemfs.pbrpc.xtreemfs_check_file_exi" +
+      "stsRequest\0322.xtreemfs.pbrpc.xtreemfs_che" +
+      "ck_file_existsResponse\"\007\215\265\030\037\000\000\000\022w\n\026xtree" +
+      "mfs_dump_database\0225.xtreemfs.pbrpc.xtree" +
+      "mfs_dump_restore_databaseRequest\032\035.xtree",
+      "mfs.pbrpc.emptyResponse\"\007\215\265\030 \000\000\000\022\214\001\n\032xtr" +
+      "eemfs_get_suitable_osds\0221.xtreemfs.pbrpc" +
+      ".xtreemfs_get_suitable_osdsRequest\0322.xtr" +
+      "eemfs.pbrpc.xtreemfs_get_suitable_osdsRe" +
+      "sponse\"\007\215\265\030!\000\000\000\022`\n\027xtreemfs_internal_deb" +
+      "ug\022\035.xtreemfs.pbrpc.stringMessage\032\035.xtre" +
+      "emfs.pbrpc.stringMessage\"\007\215\265\030\"\000\000\000\022n\n\020xtr" +
+      "eemfs_listdir\022\'.xtreemfs.pbrpc.xtreemfs_" +
+      "listdirRequest\032(.xtreemfs.pbrpc.xtreemfs" +
+      "_listdirResponse\"\007\215\265\030#\000\000\000\022P\n\016xtreemfs_ls",
+      "vol\022\034.xtreemfs.pbrpc.emptyRequest\032\027.xtre" +
+      "emfs.pbrpc.Volumes\"\007\215\265\030$\000\000\000\022P\n\016xtreemfs_" +
+      "mkvol\022\026.xtreemfs.pbrpc.Volume\032\035.xtreemfs" +
+      ".pbrpc.emptyResponse\"\007\215\265\030/\000\000\000\022P\n\031xtreemf" +
+      "s_renew_capability\022\024.xtreemfs.pbrpc.XCap" +
+      "\032\024.xtreemfs.pbrpc.XCap\"\007\215\265\030%\000\000\000\022f\n\036xtree" +
+      "mfs_replication_to_master\022\034.xtreemfs.pbr" +
+      "pc.emptyRequest\032\035.xtreemfs.pbrpc.emptyRe" +
+      "sponse\"\007\215\265\030&\000\000\000\022k\n\024xtreemfs_replica_add\022" +
+      "+.xtreemfs.pbrpc.xtreemfs_replica_addReq",
       "uest\032\035.xtreemfs.pbrpc.emptyResponse\"\007\215\265\030" +
-      "\024\000\000\000\022[\n\023xtreemfs_checkpoint\022\034.xtreemfs.p" +
-      "brpc.emptyRequest\032\035.xtreemfs.pbrpc.empty" +
-      "Response\"\007\215\265\030\036\000\000\000\022\214\001\n\032xtreemfs_check_fil" +
-      "e_exists\0221.xtreemfs.pbrpc.xtreemfs_check",
-      "_file_existsRequest\0322.xtreemfs.pbrpc.xtr" +
-      "eemfs_check_file_existsResponse\"\007\215\265\030\037\000\000\000" +
-      "\022w\n\026xtreemfs_dump_database\0225.xtreemfs.pb" +
-      "rpc.xtreemfs_dump_restore_databaseReques" +
-      "t\032\035.xtreemfs.pbrpc.emptyResponse\"\007\215\265\030 \000\000" +
-      "\000\022\214\001\n\032xtreemfs_get_suitable_osds\0221.xtree" +
-      "mfs.pbrpc.xtreemfs_get_suitable_osdsRequ" +
-      "est\0322.xtreemfs.pbrpc.xtreemfs_get_suitab" +
-      "le_osdsResponse\"\007\215\265\030!\000\000\000\022`\n\027xtreemfs_int" +
-      "ernal_debug\022\035.xtreemfs.pbrpc.stringMessa",
-      "ge\032\035.xtreemfs.pbrpc.stringMessage\"\007\215\265\030\"\000" +
-      "\000\000\022n\n\020xtreemfs_listdir\022\'.xtreemfs.pbrpc." +
-      "xtreemfs_listdirRequest\032(.xtreemfs.pbrpc" +
-      ".xtreemfs_listdirResponse\"\007\215\265\030#\000\000\000\022P\n\016xt" +
-      "reemfs_lsvol\022\034.xtreemfs.pbrpc.emptyReque" +
-      "st\032\027.xtreemfs.pbrpc.Volumes\"\007\215\265\030$\000\000\000\022P\n\016" +
-      "xtreemfs_mkvol\022\026.xtreemfs.pbrpc.Volume\032\035" +
-      ".xtreemfs.pbrpc.emptyResponse\"\007\215\265\030/\000\000\000\022P" +
-      "\n\031xtreemfs_renew_capability\022\024.xtreemfs.p" +
-      "brpc.XCap\032\024.xtreemfs.pbrpc.XCap\"\007\215\265\030%\000\000\000",
-      "\022f\n\036xtreemfs_replication_to_master\022\034.xtr" +
-      "eemfs.pbrpc.emptyRequest\032\035.xtreemfs.pbrp" +
-      "c.emptyResponse\"\007\215\265\030&\000\000\000\022k\n\024xtreemfs_rep" +
-      "lica_add\022+.xtreemfs.pbrpc.xtreemfs_repli" +
-      "ca_addRequest\032\035.xtreemfs.pbrpc.emptyResp" +
-      "onse\"\007\215\265\030\'\000\000\000\022h\n\025xtreemfs_replica_list\022," +
-      ".xtreemfs.pbrpc.xtreemfs_replica_listReq" +
-      "uest\032\030.xtreemfs.pbrpc.Replicas\"\007\215\265\030(\000\000\000\022" +
-      "s\n\027xtreemfs_replica_remove\022..xtreemfs.pb" +
-      "rpc.xtreemfs_replica_removeRequest\032\037.xtr",
-      "eemfs.pbrpc.FileCredentials\"\007\215\265\030)\000\000\000\022z\n\031" +
-      "xtreemfs_restore_database\0225.xtreemfs.pbr" +
-      "pc.xtreemfs_dump_restore_databaseRequest" +
-      "\032\035.xtreemfs.pbrpc.emptyResponse\"\007\215\265\030*\000\000\000" +
-      "\022m\n\025xtreemfs_restore_file\022,.xtreemfs.pbr" +
-      "pc.xtreemfs_restore_fileRequest\032\035.xtreem" +
-      "fs.pbrpc.emptyResponse\"\007\215\265\030+\000\000\000\022_\n\016xtree" +
-      "mfs_rmvol\022%.xtreemfs.pbrpc.xtreemfs_rmvo" +
-      "lRequest\032\035.xtreemfs.pbrpc.emptyResponse\"" +
-      "\007\215\265\030,\000\000\000\022Y\n\021xtreemfs_shutdown\022\034.xtreemfs",
-      ".pbrpc.emptyRequest\032\035.xtreemfs.pbrpc.emp" +
-      "tyResponse\"\007\215\265\030-\000\000\000\022y\n\031xtreemfs_update_f" +
-      "ile_size\0220.xtreemfs.pbrpc.xtreemfs_updat" +
-      "e_file_sizeRequest\032!.xtreemfs.pbrpc.time" +
-      "stampResponse\"\007\215\265\030.\000\000\000\022\244\001\n\"xtreemfs_set_" +
-      "replica_update_policy\0229.xtreemfs.pbrpc.x" +
-      "treemfs_set_replica_update_policyRequest" +
-      "\032:.xtreemfs.pbrpc.xtreemfs_set_replica_u" +
-      "pdate_policyResponse\"\007\215\265\0300\000\000\000\022\222\001\n\034xtreem" +
-      "fs_set_read_only_xattr\0223.xtreemfs.pbrpc.",
-      "xtreemfs_set_read_only_xattrRequest\0324.xt" +
-      "reemfs.pbrpc.xtreemfs_set_read_only_xatt" +
-      "rResponse\"\007\215\265\0301\000\000\000\022\177\n\035xtreemfs_get_file_" +
-      "credentials\0224.xtreemfs.pbrpc.xtreemfs_ge" +
-      "t_file_credentialsRequest\032\037.xtreemfs.pbr" +
-      "pc.FileCredentials\"\007\215\265\0302\000\000\000\022e\n\024xtreemfs_" +
-      "get_xlocset\022+.xtreemfs.pbrpc.xtreemfs_ge" +
-      "t_xlocsetRequest\032\027.xtreemfs.pbrpc.XLocSe" +
-      "t\"\007\215\265\0303\000\000\000\032\007\225\265\030!N\000\000B(\n&org.xtreemfs.pbrp" +
-      "c.generatedinterfaces"
+      "\'\000\000\000\022h\n\025xtreemfs_replica_list\022,.xtreemfs" +
+      ".pbrpc.xtreemfs_replica_listRequest\032\030.xt" +
+      "reemfs.pbrpc.Replicas\"\007\215\265\030(\000\000\000\022s\n\027xtreem" +
+      "fs_replica_remove\022..xtreemfs.pbrpc.xtree" +
+      "mfs_replica_removeRequest\032\037.xtreemfs.pbr" +
+      "pc.FileCredentials\"\007\215\265\030)\000\000\000\022z\n\031xtreemfs_" +
+      "restore_database\0225.xtreemfs.pbrpc.xtreem" +
+      "fs_dump_restore_databaseRequest\032\035.xtreem" +
+      "fs.pbrpc.emptyResponse\"\007\215\265\030*\000\000\000\022m\n\025xtree",
+      "mfs_restore_file\022,.xtreemfs.pbrpc.xtreem" +
+      "fs_restore_fileRequest\032\035.xtreemfs.pbrpc." +
+      "emptyResponse\"\007\215\265\030+\000\000\000\022_\n\016xtreemfs_rmvol" +
+      "\022%.xtreemfs.pbrpc.xtreemfs_rmvolRequest\032" +
+      "\035.xtreemfs.pbrpc.emptyResponse\"\007\215\265\030,\000\000\000\022" +
+      "Y\n\021xtreemfs_shutdown\022\034.xtreemfs.pbrpc.em" +
+      "ptyRequest\032\035.xtreemfs.pbrpc.emptyRespons" +
+      "e\"\007\215\265\030-\000\000\000\022y\n\031xtreemfs_update_file_size\022" +
+      "0.xtreemfs.pbrpc.xtreemfs_update_file_si" +
+      "zeRequest\032!.xtreemfs.pbrpc.timestampResp",
+      "onse\"\007\215\265\030.\000\000\000\022\244\001\n\"xtreemfs_set_replica_u" +
+      "pdate_policy\0229.xtreemfs.pbrpc.xtreemfs_s" +
+      "et_replica_update_policyRequest\032:.xtreem" +
+      "fs.pbrpc.xtreemfs_set_replica_update_pol" +
+      "icyResponse\"\007\215\265\0300\000\000\000\022\222\001\n\034xtreemfs_set_re" +
+      "ad_only_xattr\0223.xtreemfs.pbrpc.xtreemfs_" +
+      "set_read_only_xattrRequest\0324.xtreemfs.pb" +
+      "rpc.xtreemfs_set_read_only_xattrResponse" +
+      "\"\007\215\265\0301\000\000\000\022\177\n\035xtreemfs_get_file_credentia" +
+      "ls\0224.xtreemfs.pbrpc.xtreemfs_get_file_cr",
+      "edentialsRequest\032\037.xtreemfs.pbrpc.FileCr" +
+      "edentials\"\007\215\265\0302\000\000\000\022e\n\024xtreemfs_get_xlocs" +
+      "et\022+.xtreemfs.pbrpc.xtreemfs_get_xlocset" +
+      "Request\032\027.xtreemfs.pbrpc.XLocSet\"\007\215\265\0303\000\000" +
+      "\000\022\217\001\n\033xtreemfs_renew_capabilities\0222.xtre" +
+      "emfs.pbrpc.xtreemfs_renew_capabilitiesRe" +
+      "quest\0323.xtreemfs.pbrpc.xtreemfs_renew_ca" +
+      "pabilitiesResponse\"\007\215\265\0304\000\000\000\022\214\001\n\032xtreemfs" +
+      "_update_file_sizes\0221.xtreemfs.pbrpc.xtre" +
+      "emfs_update_file_sizesRequest\0322.xtreemfs",
+      ".pbrpc.xtreemfs_update_file_sizesRespons" +
+      "e\"\007\215\265\0305\000\000\000\022}\n\025xtreemfs_create_files\022,.xt" +
+      "reemfs.pbrpc.xtreemfs_create_filesReques" +
+      "t\032-.xtreemfs.pbrpc.xtreemfs_create_files" +
+      "Response\"\007\215\265\0306\000\000\000\022q\n\021xtreemfs_getattrs\022(" +
+      ".xtreemfs.pbrpc.xtreemfs_getattrsRequest" +
+      "\032).xtreemfs.pbrpc.xtreemfs_getattrsRespo" +
+      "nse\"\007\215\265\0307\000\000\000\022}\n\025xtreemfs_get_xlocsets\022,." +
+      "xtreemfs.pbrpc.xtreemfs_get_xlocsetsRequ" +
+      "est\032-.xtreemfs.pbrpc.xtreemfs_get_xlocse",
+      "tsResponse\"\007\215\265\0308\000\000\000\022\206\001\n\030xtreemfs_rmdir_r" +
+      "ecursive\022/.xtreemfs.pbrpc.xtreemfs_rmdir" +
+      "_recursiveRequest\0320.xtreemfs.pbrpc.xtree" +
+      "mfs_rmdir_recursiveResponse\"\007\215\265\0309\000\000\000\022\214\001\n" +
+      "\032xtreemfs_setattr_recursive\0221.xtreemfs.p" +
+      "brpc.xtreemfs_setattr_recursiveRequest\0322" +
+      ".xtreemfs.pbrpc.xtreemfs_setattr_recursi" +
+      "veResponse\"\007\215\265\030:\000\000\000\032\007\225\265\030!N\000\000B(\n&org.xtre" +
+      "emfs.pbrpc.generatedinterfaces"
     };
     com.google.protobuf.Descriptors.FileDescriptor.InternalDescriptorAssigner assigner =
       new com.google.protobuf.Descriptors.FileDescriptor.InternalDescriptorAssigner() {
@@ -48295,7 +61447,7 @@ public final class MRC {
           internal_static_xtreemfs_pbrpc_DirectoryEntries_fieldAccessorTable = new
             com.google.protobuf.GeneratedMessage.FieldAccessorTable(
               internal_static_xtreemfs_pbrpc_DirectoryEntries_descriptor,
-              new java.lang.String[] { "Entries", });
+              new java.lang.String[] { "Entries", "ContinuationCursor", });
           internal_static_xtreemfs_pbrpc_XAttr_descriptor =
             getDescriptor().getMessageTypes().get(3);
           internal_static_xtreemfs_pbrpc_XAttr_fieldAccessorTable = new
@@ -48391,7 +61543,7 @@ public final class MRC {
           internal_static_xtreemfs_pbrpc_readdirRequest_fieldAccessorTable = new
             com.google.protobuf.GeneratedMessage.FieldAccessorTable(
               internal_static_xtreemfs_pbrpc_readdirRequest_descriptor,
-              new java.lang.String[] { "VolumeName", "Path", "KnownEtag", "LimitDirectoryEntriesCount", "NamesOnly", "SeenDirectoryEntriesCount", });
+              new java.lang.String[] { "VolumeName", "Path", "KnownEtag", "LimitDirectoryEntriesCount", "NamesOnly", "SeenDirectoryEntriesCount", "ContinuationCursor", });
           internal_static_xtreemfs_pbrpc_readlinkRequest_descriptor =
             getDescriptor().getMessageTypes().get(19);
           internal_static_xtreemfs_pbrpc_readlinkRequest_fieldAccessorTable = new
@@ -48536,62 +61688,146 @@ public final class MRC {
             com.google.protobuf.GeneratedMessage.FieldAccessorTable(
               internal_static_xtreemfs_pbrpc_xtreemfs_replica_listRequest_descriptor,
               new java.lang.String[] { "FileId", "Path", "VolumeName", });
-          internal_static_xtreemfs_pbrpc_xtreemfs_get_xlocsetRequest_descriptor =
+          internal_static_xtreemfs_pbrpc_xtreemfs_renew_capabilitiesRequest_descriptor =
             getDescriptor().getMessageTypes().get(43);
+          internal_static_xtreemfs_pbrpc_xtreemfs_renew_capabilitiesRequest_fieldAccessorTable = new
+            com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+              internal_static_xtreemfs_pbrpc_xtreemfs_renew_capabilitiesRequest_descriptor,
+              new java.lang.String[] { "Xcaps", });
+          internal_static_xtreemfs_pbrpc_xtreemfs_renew_capabilitiesResponse_descriptor =
+            getDescriptor().getMessageTypes().get(44);
+          internal_static_xtreemfs_pbrpc_xtreemfs_renew_capabilitiesResponse_fieldAccessorTable = new
+            com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+              internal_static_xtreemfs_pbrpc_xtreemfs_renew_capabilitiesResponse_descriptor,
+              new java.lang.String[] { "Xcaps", });
+          internal_static_xtreemfs_pbrpc_xtreemfs_get_xlocsetRequest_descriptor =
+            getDescriptor().getMessageTypes().get(45);
           internal_static_xtreemfs_pbrpc_xtreemfs_get_xlocsetRequest_fieldAccessorTable = new
             com.google.protobuf.GeneratedMessage.FieldAccessorTable(
               internal_static_xtreemfs_pbrpc_xtreemfs_get_xlocsetRequest_descriptor,
               new java.lang.String[] { "FileId", "Path", "VolumeName", "Xcap", });
           internal_static_xtreemfs_pbrpc_xtreemfs_replica_removeRequest_descriptor =
-            getDescriptor().getMessageTypes().get(44);
+            getDescriptor().getMessageTypes().get(46);
           internal_static_xtreemfs_pbrpc_xtreemfs_replica_removeRequest_fieldAccessorTable = new
             com.google.protobuf.GeneratedMessage.FieldAccessorTable(
               internal_static_xtreemfs_pbrpc_xtreemfs_replica_removeRequest_descriptor,
               new java.lang.String[] { "FileId", "Path", "VolumeName", "OsdUuid", });
           internal_static_xtreemfs_pbrpc_xtreemfs_restore_fileRequest_descriptor =
-            getDescriptor().getMessageTypes().get(45);
+            getDescriptor().getMessageTypes().get(47);
           internal_static_xtreemfs_pbrpc_xtreemfs_restore_fileRequest_fieldAccessorTable = new
             com.google.protobuf.GeneratedMessage.FieldAccessorTable(
               internal_static_xtreemfs_pbrpc_xtreemfs_restore_fileRequest_descriptor,
               new java.lang.String[] { "FilePath", "FileId", "FileSize", "OsdUuid", "StripeSize", });
           internal_static_xtreemfs_pbrpc_xtreemfs_rmvolRequest_descriptor =
-            getDescriptor().getMessageTypes().get(46);
+            getDescriptor().getMessageTypes().get(48);
           internal_static_xtreemfs_pbrpc_xtreemfs_rmvolRequest_fieldAccessorTable = new
             com.google.protobuf.GeneratedMessage.FieldAccessorTable(
               internal_static_xtreemfs_pbrpc_xtreemfs_rmvolRequest_descriptor,
               new java.lang.String[] { "VolumeName", });
           internal_static_xtreemfs_pbrpc_xtreemfs_update_file_sizeRequest_descriptor =
-            getDescriptor().getMessageTypes().get(47);
+            getDescriptor().getMessageTypes().get(49);
           internal_static_xtreemfs_pbrpc_xtreemfs_update_file_sizeRequest_fieldAccessorTable = new
             com.google.protobuf.GeneratedMessage.FieldAccessorTable(
               internal_static_xtreemfs_pbrpc_xtreemfs_update_file_sizeRequest_descriptor,
               new java.lang.String[] { "Xcap", "OsdWriteResponse", "CloseFile", "Coordinates", });
+          internal_static_xtreemfs_pbrpc_xtreemfs_update_file_sizesRequest_descriptor =
+            getDescriptor().getMessageTypes().get(50);
+          internal_static_xtreemfs_pbrpc_xtreemfs_update_file_sizesRequest_fieldAccessorTable = new
+            com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+              internal_static_xtreemfs_pbrpc_xtreemfs_update_file_sizesRequest_descriptor,
+              new java.lang.String[] { "Updates", });
+          internal_static_xtreemfs_pbrpc_xtreemfs_update_file_sizesResponse_descriptor =
+            getDescriptor().getMessageTypes().get(51);
+          internal_static_xtreemfs_pbrpc_xtreemfs_update_file_sizesResponse_fieldAccessorTable = new
+            com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+              internal_static_xtreemfs_pbrpc_xtreemfs_update_file_sizesResponse_descriptor,
+              new java.lang.String[] { "Success", });
+          internal_static_xtreemfs_pbrpc_xtreemfs_create_filesRequest_descriptor =
+            getDescriptor().getMessageTypes().get(52);
+          internal_static_xtreemfs_pbrpc_xtreemfs_create_filesRequest_fieldAccessorTable = new
+            com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+              internal_static_xtreemfs_pbrpc_xtreemfs_create_filesRequest_descriptor,
+              new java.lang.String[] { "VolumeName", "DirPath", "Names", "Flags", "Mode", "Attributes", "Coordinates", });
+          internal_static_xtreemfs_pbrpc_xtreemfs_create_filesResponse_descriptor =
+            getDescriptor().getMessageTypes().get(53);
+          internal_static_xtreemfs_pbrpc_xtreemfs_create_filesResponse_fieldAccessorTable = new
+            com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+              internal_static_xtreemfs_pbrpc_xtreemfs_create_filesResponse_descriptor,
+              new java.lang.String[] { "Files", });
+          internal_static_xtreemfs_pbrpc_xtreemfs_getattrsRequest_descriptor =
+            getDescriptor().getMessageTypes().get(54);
+          internal_static_xtreemfs_pbrpc_xtreemfs_getattrsRequest_fieldAccessorTable = new
+            com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+              internal_static_xtreemfs_pbrpc_xtreemfs_getattrsRequest_descriptor,
+              new java.lang.String[] { "VolumeName", "Paths", });
+          internal_static_xtreemfs_pbrpc_xtreemfs_getattrsResponse_descriptor =
+            getDescriptor().getMessageTypes().get(55);
+          internal_static_xtreemfs_pbrpc_xtreemfs_getattrsResponse_fieldAccessorTable = new
+            com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+              internal_static_xtreemfs_pbrpc_xtreemfs_getattrsResponse_descriptor,
+              new java.lang.String[] { "Stats", });
+          internal_static_xtreemfs_pbrpc_xtreemfs_get_xlocsetsRequest_descriptor =
+            getDescriptor().getMessageTypes().get(56);
+          internal_static_xtreemfs_pbrpc_xtreemfs_get_xlocsetsRequest_fieldAccessorTable = new
+            com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+              internal_static_xtreemfs_pbrpc_xtreemfs_get_xlocsetsRequest_descriptor,
+              new java.lang.String[] { "VolumeName", "Paths", "Coordinates", });
+          internal_static_xtreemfs_pbrpc_xtreemfs_get_xlocsetsResponse_descriptor =
+            getDescriptor().getMessageTypes().get(57);
+          internal_static_xtreemfs_pbrpc_xtreemfs_get_xlocsetsResponse_fieldAccessorTable = new
+            com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+              internal_static_xtreemfs_pbrpc_xtreemfs_get_xlocsetsResponse_descriptor,
+              new java.lang.String[] { "Xlocsets", });
+          internal_static_xtreemfs_pbrpc_xtreemfs_rmdir_recursiveRequest_descriptor =
+            getDescriptor().getMessageTypes().get(58);
+          internal_static_xtreemfs_pbrpc_xtreemfs_rmdir_recursiveRequest_fieldAccessorTable = new
+            com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+              internal_static_xtreemfs_pbrpc_xtreemfs_rmdir_recursiveRequest_descriptor,
+              new java.lang.String[] { "VolumeName", "Path", "MaxEntries", });
+          internal_static_xtreemfs_pbrpc_xtreemfs_rmdir_recursiveResponse_descriptor =
+            getDescriptor().getMessageTypes().get(59);
+          internal_static_xtreemfs_pbrpc_xtreemfs_rmdir_recursiveResponse_fieldAccessorTable = new
+            com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+              internal_static_xtreemfs_pbrpc_xtreemfs_rmdir_recursiveResponse_descriptor,
+              new java.lang.String[] { "TimestampS", "NumDeleted", "Complete", });
+          internal_static_xtreemfs_pbrpc_xtreemfs_setattr_recursiveRequest_descriptor =
+            getDescriptor().getMessageTypes().get(60);
+          internal_static_xtreemfs_pbrpc_xtreemfs_setattr_recursiveRequest_fieldAccessorTable = new
+            com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+              internal_static_xtreemfs_pbrpc_xtreemfs_setattr_recursiveRequest_descriptor,
+              new java.lang.String[] { "VolumeName", "Path", "Stbuf", "ToSet", "MaxEntries", "Cursor", });
+          internal_static_xtreemfs_pbrpc_xtreemfs_setattr_recursiveResponse_descriptor =
+            getDescriptor().getMessageTypes().get(61);
+          internal_static_xtreemfs_pbrpc_xtreemfs_setattr_recursiveResponse_fieldAccessorTable = new
+            com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+              internal_static_xtreemfs_pbrpc_xtreemfs_setattr_recursiveResponse_descriptor,
+              new java.lang.String[] { "TimestampS", "NumUpdated", "Cursor", });
           internal_static_xtreemfs_pbrpc_xtreemfs_set_replica_update_policyRequest_descriptor =
-            getDescriptor().getMessageTypes().get(48);
+            getDescriptor().getMessageTypes().get(62);
           internal_static_xtreemfs_pbrpc_xtreemfs_set_replica_update_policyRequest_fieldAccessorTable = new
             com.google.protobuf.GeneratedMessage.FieldAccessorTable(
               internal_static_xtreemfs_pbrpc_xtreemfs_set_replica_update_policyRequest_descriptor,
               new java.lang.String[] { "FileId", "UpdatePolicy", });
           internal_static_xtreemfs_pbrpc_xtreemfs_set_replica_update_policyResponse_descriptor =
-            getDescriptor().getMessageTypes().get(49);
+            getDescriptor().getMessageTypes().get(63);
           internal_static_xtreemfs_pbrpc_xtreemfs_set_replica_update_policyResponse_fieldAccessorTable = new
             com.google.protobuf.GeneratedMessage.FieldAccessorTable(
               internal_static_xtreemfs_pbrpc_xtreemfs_set_replica_update_policyResponse_descriptor,
               new java.lang.String[] { "OldUpdatePolicy", });
           internal_static_xtreemfs_pbrpc_xtreemfs_set_read_only_xattrRequest_descriptor =
-            getDescriptor().getMessageTypes().get(50);
+            getDescriptor().getMessageTypes().get(64);
           internal_static_xtreemfs_pbrpc_xtreemfs_set_read_only_xattrRequest_fieldAccessorTable = new
             com.google.protobuf.GeneratedMessage.FieldAccessorTable(
               internal_static_xtreemfs_pbrpc_xtreemfs_set_read_only_xattrRequest_descriptor,
               new java.lang.String[] { "FileId", "Value", });
           internal_static_xtreemfs_pbrpc_xtreemfs_set_read_only_xattrResponse_descriptor =
-            getDescriptor().getMessageTypes().get(51);
+            getDescriptor().getMessageTypes().get(65);
           internal_static_xtreemfs_pbrpc_xtreemfs_set_read_only_xattrResponse_fieldAccessorTable = new
             com.google.protobuf.GeneratedMessage.FieldAccessorTable(
               internal_static_xtreemfs_pbrpc_xtreemfs_set_read_only_xattrResponse_descriptor,
               new java.lang.String[] { "WasSet", });
           internal_static_xtreemfs_pbrpc_xtreemfs_get_file_credentialsRequest_descriptor =
-            getDescriptor().getMessageTypes().get(52);
+            getDescriptor().getMessageTypes().get(66);
           internal_static_xtreemfs_pbrpc_xtreemfs_get_file_credentialsRequest_fieldAccessorTable = new
             com.google.protobuf.GeneratedMessage.FieldAccessorTable(
               internal_static_xtreemfs_pbrpc_xtreemfs_get_file_credentialsRequest_descriptor,
@@ -48639,6 +61875,13 @@ public final class MRC {
           registry.add(org.xtreemfs.foundation.pbrpc.generatedinterfaces.PBRPC.procId);
           registry.add(org.xtreemfs.foundation.pbrpc.generatedinterfaces.PBRPC.procId);
           registry.add(org.xtreemfs.foundation.pbrpc.generatedinterfaces.PBRPC.procId);
+          registry.add(org.xtreemfs.foundation.pbrpc.generatedinterfaces.PBRPC.procId);
+          registry.add(org.xtreemfs.foundation.pbrpc.generatedinterfaces.PBRPC.procId);
+          registry.add(org.xtreemfs.foundation.pbrpc.generatedinterfaces.PBRPC.procId);
+          registry.add(org.xtreemfs.foundation.pbrpc.generatedinterfaces.PBRPC.procId);
+          registry.add(org.xtreemfs.foundation.pbrpc.generatedinterfaces.PBRPC.procId);
+          registry.add(org.xtreemfs.foundation.pbrpc.generatedinterfaces.PBRPC.procId);
+          registry.add(org.xtreemfs.foundation.pbrpc.generatedinterfaces.PBRPC.procId);
           registry.add(org.xtreemfs.foundation.pbrpc.generatedinterfaces.PBRPC.interfaceId);
           return registry;
         }
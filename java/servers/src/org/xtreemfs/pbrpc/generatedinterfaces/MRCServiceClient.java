@@ -1,5 +1,5 @@
-//automatically generated from MRC.proto at Thu Dec 11 16:09:37 CET 2014
-//(c) 2014. See LICENSE file for details.
+//automatically generated from MRC.proto at Mon Oct 19 05:16:33 UTC 2026
+//(c) 2026. See LICENSE file for details.
 
 package org.xtreemfs.pbrpc.generatedinterfaces;
 
@@ -136,8 +136,8 @@ public class MRCServiceClient {
          return response;
     }
 
-    public RPCResponse<MRC.DirectoryEntries> readdir(InetSocketAddress server, Auth authHeader, UserCredentials userCreds, String volume_name, String path, long known_etag, int limit_directory_entries_count, boolean names_only, long seen_directory_entries_count) throws IOException {
-         final MRC.readdirRequest msg = MRC.readdirRequest.newBuilder().setVolumeName(volume_name).setPath(path).setKnownEtag(known_etag).setLimitDirectoryEntriesCount(limit_directory_entries_count).setNamesOnly(names_only).setSeenDirectoryEntriesCount(seen_directory_entries_count).build();
+    public RPCResponse<MRC.DirectoryEntries> readdir(InetSocketAddress server, Auth authHeader, UserCredentials userCreds, String volume_name, String path, long known_etag, int limit_directory_entries_count, boolean names_only, long seen_directory_entries_count, String continuation_cursor) throws IOException {
+         final MRC.readdirRequest msg = MRC.readdirRequest.newBuilder().setVolumeName(volume_name).setPath(path).setKnownEtag(known_etag).setLimitDirectoryEntriesCount(limit_directory_entries_count).setNamesOnly(names_only).setSeenDirectoryEntriesCount(seen_directory_entries_count).setContinuationCursor(continuation_cursor).build();
          return readdir(server, authHeader, userCreds,msg);
     }
 
@@ -557,6 +557,97 @@ public class MRCServiceClient {
          return xtreemfs_get_xlocset(server, authHeader, userCreds,msg);
     }
 
+    public RPCResponse<MRC.xtreemfs_renew_capabilitiesResponse> xtreemfs_renew_capabilities(InetSocketAddress server, Auth authHeader, UserCredentials userCreds, MRC.xtreemfs_renew_capabilitiesRequest input) throws IOException {
+         if (server == null) server = defaultServer;
+         if (server == null) throw new IllegalArgumentException("defaultServer must be set in constructor if you want to pass null as server in calls");
+         RPCResponse<MRC.xtreemfs_renew_capabilitiesResponse> response = new RPCResponse<MRC.xtreemfs_renew_capabilitiesResponse>(MRC.xtreemfs_renew_capabilitiesResponse.getDefaultInstance());
+         client.sendRequest(server, authHeader, userCreds, 20001, 52, input, null, response, false);
+         return response;
+    }
+
+    public RPCResponse<MRC.xtreemfs_renew_capabilitiesResponse> xtreemfs_renew_capabilities(InetSocketAddress server, Auth authHeader, UserCredentials userCreds, List<GlobalTypes.XCap> xcaps) throws IOException {
+         final MRC.xtreemfs_renew_capabilitiesRequest msg = MRC.xtreemfs_renew_capabilitiesRequest.newBuilder().addAllXcaps(xcaps).build();
+         return xtreemfs_renew_capabilities(server, authHeader, userCreds,msg);
+    }
+
+    public RPCResponse<MRC.xtreemfs_update_file_sizesResponse> xtreemfs_update_file_sizes(InetSocketAddress server, Auth authHeader, UserCredentials userCreds, MRC.xtreemfs_update_file_sizesRequest input) throws IOException {
+         if (server == null) server = defaultServer;
+         if (server == null) throw new IllegalArgumentException("defaultServer must be set in constructor if you want to pass null as server in calls");
+         RPCResponse<MRC.xtreemfs_update_file_sizesResponse> response = new RPCResponse<MRC.xtreemfs_update_file_sizesResponse>(MRC.xtreemfs_update_file_sizesResponse.getDefaultInstance());
+         client.sendRequest(server, authHeader, userCreds, 20001, 53, input, null, response, false);
+         return response;
+    }
+
+    public RPCResponse<MRC.xtreemfs_update_file_sizesResponse> xtreemfs_update_file_sizes(InetSocketAddress server, Auth authHeader, UserCredentials userCreds, List<MRC.xtreemfs_update_file_sizeRequest> updates) throws IOException {
+         final MRC.xtreemfs_update_file_sizesRequest msg = MRC.xtreemfs_update_file_sizesRequest.newBuilder().addAllUpdates(updates).build();
+         return xtreemfs_update_file_sizes(server, authHeader, userCreds,msg);
+    }
+
+    public RPCResponse<MRC.xtreemfs_create_filesResponse> xtreemfs_create_files(InetSocketAddress server, Auth authHeader, UserCredentials userCreds, MRC.xtreemfs_create_filesRequest input) throws IOException {
+         if (server == null) server = defaultServer;
+         if (server == null) throw new IllegalArgumentException("defaultServer must be set in constructor if you want to pass null as server in calls");
+         RPCResponse<MRC.xtreemfs_create_filesResponse> response = new RPCResponse<MRC.xtreemfs_create_filesResponse>(MRC.xtreemfs_create_filesResponse.getDefaultInstance());
+         client.sendRequest(server, authHeader, userCreds, 20001, 54, input, null, response, false);
+         return response;
+    }
+
+    public RPCResponse<MRC.xtreemfs_create_filesResponse> xtreemfs_create_files(InetSocketAddress server, Auth authHeader, UserCredentials userCreds, String volume_name, String dir_path, List<String> names, int flags, int mode, int attributes, GlobalTypes.VivaldiCoordinates coordinates) throws IOException {
+         final MRC.xtreemfs_create_filesRequest msg = MRC.xtreemfs_create_filesRequest.newBuilder().setVolumeName(volume_name).setDirPath(dir_path).addAllNames(names).setFlags(flags).setMode(mode).setAttributes(attributes).setCoordinates(coordinates).build();
+         return xtreemfs_create_files(server, authHeader, userCreds,msg);
+    }
+
+    public RPCResponse<MRC.xtreemfs_getattrsResponse> xtreemfs_getattrs(InetSocketAddress server, Auth authHeader, UserCredentials userCreds, MRC.xtreemfs_getattrsRequest input) throws IOException {
+         if (server == null) server = defaultServer;
+         if (server == null) throw new IllegalArgumentException("defaultServer must be set in constructor if you want to pass null as server in calls");
+         RPCResponse<MRC.xtreemfs_getattrsResponse> response = new RPCResponse<MRC.xtreemfs_getattrsResponse>(MRC.xtreemfs_getattrsResponse.getDefaultInstance());
+         client.sendRequest(server, authHeader, userCreds, 20001, 55, input, null, response, false);
+         return response;
+    }
+
+    public RPCResponse<MRC.xtreemfs_getattrsResponse> xtreemfs_getattrs(InetSocketAddress server, Auth authHeader, UserCredentials userCreds, String volume_name, List<String> paths) throws IOException {
+         final MRC.xtreemfs_getattrsRequest msg = MRC.xtreemfs_getattrsRequest.newBuilder().setVolumeName(volume_name).addAllPaths(paths).build();
+         return xtreemfs_getattrs(server, authHeader, userCreds,msg);
+    }
+
+    public RPCResponse<MRC.xtreemfs_get_xlocsetsResponse> xtreemfs_get_xlocsets(InetSocketAddress server, Auth authHeader, UserCredentials userCreds, MRC.xtreemfs_get_xlocsetsRequest input) throws IOException {
+         if (server == null) server = defaultServer;
+         if (server == null) throw new IllegalArgumentException("defaultServer must be set in constructor if you want to pass null as server in calls");
+         RPCResponse<MRC.xtreemfs_get_xlocsetsResponse> response = new RPCResponse<MRC.xtreemfs_get_xlocsetsResponse>(MRC.xtreemfs_get_xlocsetsResponse.getDefaultInstance());
+         client.sendRequest(server, authHeader, userCreds, 20001, 56, input, null, response, false);
+         return response;
+    }
+
+    public RPCResponse<MRC.xtreemfs_get_xlocsetsResponse> xtreemfs_get_xlocsets(InetSocketAddress server, Auth authHeader, UserCredentials userCreds, String volume_name, List<String> paths, GlobalTypes.VivaldiCoordinates coordinates) throws IOException {
+         final MRC.xtreemfs_get_xlocsetsRequest msg = MRC.xtreemfs_get_xlocsetsRequest.newBuilder().setVolumeName(volume_name).addAllPaths(paths).setCoordinates(coordinates).build();
+         return xtreemfs_get_xlocsets(server, authHeader, userCreds,msg);
+    }
+
+    public RPCResponse<MRC.xtreemfs_rmdir_recursiveResponse> xtreemfs_rmdir_recursive(InetSocketAddress server, Auth authHeader, UserCredentials userCreds, MRC.xtreemfs_rmdir_recursiveRequest input) throws IOException {
+         if (server == null) server = defaultServer;
+         if (server == null) throw new IllegalArgumentException("defaultServer must be set in constructor if you want to pass null as server in calls");
+         RPCResponse<MRC.xtreemfs_rmdir_recursiveResponse> response = new RPCResponse<MRC.xtreemfs_rmdir_recursiveResponse>(MRC.xtreemfs_rmdir_recursiveResponse.getDefaultInstance());
+         client.sendRequest(server, authHeader, userCreds, 20001, 57, input, null, response, false);
+         return response;
+    }
+
+    public RPCResponse<MRC.xtreemfs_rmdir_recursiveResponse> xtreemfs_rmdir_recursive(InetSocketAddress server, Auth authHeader, UserCredentials userCreds, String volume_name, String path, int max_entries) throws IOException {
+         final MRC.xtreemfs_rmdir_recursiveRequest msg = MRC.xtreemfs_rmdir_recursiveRequest.newBuilder().setVolumeName(volume_name).setPath(path).setMaxEntries(max_entries).build();
+         return xtreemfs_rmdir_recursive(server, authHeader, userCreds,msg);
+    }
+
+    public RPCResponse<MRC.xtreemfs_setattr_recursiveResponse> xtreemfs_setattr_recursive(InetSocketAddress server, Auth authHeader, UserCredentials userCreds, MRC.xtreemfs_setattr_recursiveRequest input) throws IOException {
+         if (server == null) server = defaultServer;
+         if (server == null) throw new IllegalArgumentException("defaultServer must be set in constructor if you want to pass null as server in calls");
+         RPCResponse<MRC.xtreemfs_setattr_recursiveResponse> response = new RPCResponse<MRC.xtreemfs_setattr_recursiveResponse>(MRC.xtreemfs_setattr_recursiveResponse.getDefaultInstance());
+         client.sendRequest(server, authHeader, userCreds, 20001, 58, input, null, response, false);
+         return response;
+    }
+
+    public RPCResponse<MRC.xtreemfs_setattr_recursiveResponse> xtreemfs_setattr_recursive(InetSocketAddress server, Auth authHeader, UserCredentials userCreds, String volume_name, String path, MRC.Stat stbuf, int to_set, int max_entries, String cursor) throws IOException {
+         final MRC.xtreemfs_setattr_recursiveRequest msg = MRC.xtreemfs_setattr_recursiveRequest.newBuilder().setVolumeName(volume_name).setPath(path).setStbuf(stbuf).setToSet(to_set).setMaxEntries(max_entries).setCursor(cursor).build();
+         return xtreemfs_setattr_recursive(server, authHeader, userCreds,msg);
+    }
+
     public boolean clientIsAlive() {
         return client.isAlive();
     }
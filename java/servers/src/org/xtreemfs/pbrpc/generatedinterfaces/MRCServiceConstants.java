@@ -1,5 +1,5 @@
-//automatically generated from MRC.proto at Thu Dec 11 16:09:37 CET 2014
-//(c) 2014. See LICENSE file for details.
+//automatically generated from MRC.proto at Mon Oct 19 05:16:33 UTC 2026
+//(c) 2026. See LICENSE file for details.
 
 package org.xtreemfs.pbrpc.generatedinterfaces;
 
@@ -49,6 +49,13 @@ public class MRCServiceConstants {
     public static final int PROC_ID_XTREEMFS_SET_READ_ONLY_XATTR = 49;
     public static final int PROC_ID_XTREEMFS_GET_FILE_CREDENTIALS = 50;
     public static final int PROC_ID_XTREEMFS_GET_XLOCSET = 51;
+    public static final int PROC_ID_XTREEMFS_RENEW_CAPABILITIES = 52;
+    public static final int PROC_ID_XTREEMFS_UPDATE_FILE_SIZES = 53;
+    public static final int PROC_ID_XTREEMFS_CREATE_FILES = 54;
+    public static final int PROC_ID_XTREEMFS_GETATTRS = 55;
+    public static final int PROC_ID_XTREEMFS_GET_XLOCSETS = 56;
+    public static final int PROC_ID_XTREEMFS_RMDIR_RECURSIVE = 57;
+    public static final int PROC_ID_XTREEMFS_SETATTR_RECURSIVE = 58;
 
     public static Message getRequestMessage(int procId) {
         switch (procId) {
@@ -93,6 +100,13 @@ public class MRCServiceConstants {
            case 49: return MRC.xtreemfs_set_read_only_xattrRequest.getDefaultInstance();
            case 50: return MRC.xtreemfs_get_file_credentialsRequest.getDefaultInstance();
            case 51: return MRC.xtreemfs_get_xlocsetRequest.getDefaultInstance();
+           case 52: return MRC.xtreemfs_renew_capabilitiesRequest.getDefaultInstance();
+           case 53: return MRC.xtreemfs_update_file_sizesRequest.getDefaultInstance();
+           case 54: return MRC.xtreemfs_create_filesRequest.getDefaultInstance();
+           case 55: return MRC.xtreemfs_getattrsRequest.getDefaultInstance();
+           case 56: return MRC.xtreemfs_get_xlocsetsRequest.getDefaultInstance();
+           case 57: return MRC.xtreemfs_rmdir_recursiveRequest.getDefaultInstance();
+           case 58: return MRC.xtreemfs_setattr_recursiveRequest.getDefaultInstance();
            default: throw new RuntimeException("unknown procedure id");
         }
     }
@@ -141,6 +155,13 @@ public class MRCServiceConstants {
            case 49: return MRC.xtreemfs_set_read_only_xattrResponse.getDefaultInstance();
            case 50: return GlobalTypes.FileCredentials.getDefaultInstance();
            case 51: return GlobalTypes.XLocSet.getDefaultInstance();
+           case 52: return MRC.xtreemfs_renew_capabilitiesResponse.getDefaultInstance();
+           case 53: return MRC.xtreemfs_update_file_sizesResponse.getDefaultInstance();
+           case 54: return MRC.xtreemfs_create_filesResponse.getDefaultInstance();
+           case 55: return MRC.xtreemfs_getattrsResponse.getDefaultInstance();
+           case 56: return MRC.xtreemfs_get_xlocsetsResponse.getDefaultInstance();
+           case 57: return MRC.xtreemfs_rmdir_recursiveResponse.getDefaultInstance();
+           case 58: return MRC.xtreemfs_setattr_recursiveResponse.getDefaultInstance();
            default: throw new RuntimeException("unknown procedure id");
         }
     }
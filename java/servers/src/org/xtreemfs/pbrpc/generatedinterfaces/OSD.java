@@ -8,6 +8,114 @@ public final class OSD {
   public static void registerAllExtensions(
       com.google.protobuf.ExtensionRegistry registry) {
   }
+  /**
+   * Protobuf enum {@code xtreemfs.pbrpc.ObjectSetFormat}
+   *
+   * <pre>
+   * Encoding of the set of an ObjectList.
+   * Formats are numbered in ascending order, a peer that supports
+   * a format also supports all formats with lower numbers.
+   * </pre>
+   */
+  public enum ObjectSetFormat
+      implements com.google.protobuf.ProtocolMessageEnum {
+    /**
+     * <code>OBJECT_SET_FORMAT_JAVA_BITSET = 0;</code>
+     *
+     * <pre>
+     * java.util.BitSet, serialized with Java serialization and
+     * compressed with deflate.
+     * </pre>
+     */
+    OBJECT_SET_FORMAT_JAVA_BITSET(0, 0),
+    /**
+     * <code>OBJECT_SET_FORMAT_RUNS_V1 = 1;</code>
+     *
+     * <pre>
+     * Version 1 of the run-length encoded container format, see
+     * org.xtreemfs.osd.replication.ObjectSet for details.
+     * </pre>
+     */
+    OBJECT_SET_FORMAT_RUNS_V1(1, 1),
+    ;
+
+    /**
+     * <code>OBJECT_SET_FORMAT_JAVA_BITSET = 0;</code>
+     *
+     * <pre>
+     * java.util.BitSet, serialized with Java serialization and
+     * compressed with deflate.
+     * </pre>
+     */
+    public static final int OBJECT_SET_FORMAT_JAVA_BITSET_VALUE = 0;
+    /**
+     * <code>OBJECT_SET_FORMAT_RUNS_V1 = 1;</code>
+     *
+     * <pre>
+     * Version 1 of the run-length encoded container format, see
+     * org.xtreemfs.osd.replication.ObjectSet for details.
+     * </pre>
+     */
+    public static final int OBJECT_SET_FORMAT_RUNS_V1_VALUE = 1;
+
+
+    public final int getNumber() { return value; }
+
+    public static ObjectSetFormat valueOf(int value) {
+      switch (value) {
+        case 0: return OBJECT_SET_FORMAT_JAVA_BITSET;
+        case 1: return OBJECT_SET_FORMAT_RUNS_V1;
+        default: return null;
+      }
+    }
+
+    public static com.google.protobuf.Internal.EnumLiteMap<ObjectSetFormat>
+        internalGetValueMap() {
+      return internalValueMap;
+    }
+    private static com.google.protobuf.Internal.EnumLiteMap<ObjectSetFormat>
+        internalValueMap =
+          new com.google.protobuf.Internal.EnumLiteMap<ObjectSetFormat>() {
+            public ObjectSetFormat findValueByNumber(int number) {
+              return ObjectSetFormat.valueOf(number);
+            }
+          };
+
+    public final com.google.protobuf.Descriptors.EnumValueDescriptor
+        getValueDescriptor() {
+      return getDescriptor().getValues().get(index);
+    }
+    public final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptorForType() {
+      return getDescriptor();
+    }
+    public static final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptor() {
+      return org.xtreemfs.pbrpc.generatedinterfaces.OSD.getDescriptor().getEnumTypes().get(0);
+    }
+
+    private static final ObjectSetFormat[] VALUES = values();
+
+    public static ObjectSetFormat valueOf(
+        com.google.protobuf.Descriptors.EnumValueDescriptor desc) {
+      if (desc.getType() != getDescriptor()) {
+        throw new java.lang.IllegalArgumentException(
+          "EnumValueDescriptor is not for this type.");
+      }
+      return VALUES[desc.getIndex()];
+    }
+
+    private final int index;
+    private final int value;
+
+    private ObjectSetFormat(int index, int value) {
+      this.index = index;
+      this.value = value;
+    }
+
+    // @@protoc_insertion_point(enum_scope:xtreemfs.pbrpc.ObjectSetFormat)
+  }
+
   /**
    * Protobuf enum {@code xtreemfs.pbrpc.OSDHealthResult}
    *
@@ -97,7 +205,7 @@ public final class OSD {
     }
     public static final com.google.protobuf.Descriptors.EnumDescriptor
         getDescriptor() {
-      return org.xtreemfs.pbrpc.generatedinterfaces.OSD.getDescriptor().getEnumTypes().get(0);
+      return org.xtreemfs.pbrpc.generatedinterfaces.OSD.getDescriptor().getEnumTypes().get(1);
     }
 
     private static final OSDHealthResult[] VALUES = values();
@@ -2495,6 +2603,24 @@ public final class OSD {
      * <code>required fixed32 first_ = 3;</code>
      */
     int getFirst();
+
+    // optional .xtreemfs.pbrpc.ObjectSetFormat format = 4 [default = OBJECT_SET_FORMAT_JAVA_BITSET];
+    /**
+     * <code>optional .xtreemfs.pbrpc.ObjectSetFormat format = 4 [default = OBJECT_SET_FORMAT_JAVA_BITSET];</code>
+     *
+     * <pre>
+     * Encoding of set.
+     * </pre>
+     */
+    boolean hasFormat();
+    /**
+     * <code>optional .xtreemfs.pbrpc.ObjectSetFormat format = 4 [default = OBJECT_SET_FORMAT_JAVA_BITSET];</code>
+     *
+     * <pre>
+     * Encoding of set.
+     * </pre>
+     */
+    org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectSetFormat getFormat();
   }
   /**
    * Protobuf type {@code xtreemfs.pbrpc.ObjectList}
@@ -2568,6 +2694,17 @@ public final class OSD {
               first_ = input.readFixed32();
               break;
             }
+            case 32: {
+              int rawValue = input.readEnum();
+              org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectSetFormat value = org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectSetFormat.valueOf(rawValue);
+              if (value == null) {
+                unknownFields.mergeVarintField(4, rawValue);
+              } else {
+                bitField0_ |= 0x00000008;
+                format_ = value;
+              }
+              break;
+            }
           }
         }
       } catch (com.google.protobuf.InvalidProtocolBufferException e) {
@@ -2664,10 +2801,35 @@ public final class OSD {
       return first_;
     }
 
+    // optional .xtreemfs.pbrpc.ObjectSetFormat format = 4 [default = OBJECT_SET_FORMAT_JAVA_BITSET];
+    public static final int FORMAT_FIELD_NUMBER = 4;
+    private org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectSetFormat format_;
+    /**
+     * <code>optional .xtreemfs.pbrpc.ObjectSetFormat format = 4 [default = OBJECT_SET_FORMAT_JAVA_BITSET];</code>
+     *
+     * <pre>
+     * Encoding of set.
+     * </pre>
+     */
+    public boolean hasFormat() {
+      return ((bitField0_ & 0x00000008) == 0x00000008);
+    }
+    /**
+     * <code>optional .xtreemfs.pbrpc.ObjectSetFormat format = 4 [default = OBJECT_SET_FORMAT_JAVA_BITSET];</code>
+     *
+     * <pre>
+     * Encoding of set.
+     * </pre>
+     */
+    public org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectSetFormat getFormat() {
+      return format_;
+    }
+
     private void initFields() {
       set_ = com.google.protobuf.ByteString.EMPTY;
       stripeWidth_ = 0;
       first_ = 0;
+      format_ = org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectSetFormat.OBJECT_SET_FORMAT_JAVA_BITSET;
     }
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
@@ -2702,6 +2864,9 @@ public final class OSD {
       if (((bitField0_ & 0x00000004) == 0x00000004)) {
         output.writeFixed32(3, first_);
       }
+      if (((bitField0_ & 0x00000008) == 0x00000008)) {
+        output.writeEnum(4, format_.getNumber());
+      }
       getUnknownFields().writeTo(output);
     }
 
@@ -2723,6 +2888,10 @@ public final class OSD {
         size += com.google.protobuf.CodedOutputStream
           .computeFixed32Size(3, first_);
       }
+      if (((bitField0_ & 0x00000008) == 0x00000008)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeEnumSize(4, format_.getNumber());
+      }
       size += getUnknownFields().getSerializedSize();
       memoizedSerializedSize = size;
       return size;
@@ -2851,6 +3020,8 @@ public final class OSD {
         bitField0_ = (bitField0_ & ~0x00000002);
         first_ = 0;
         bitField0_ = (bitField0_ & ~0x00000004);
+        format_ = org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectSetFormat.OBJECT_SET_FORMAT_JAVA_BITSET;
+        bitField0_ = (bitField0_ & ~0x00000008);
         return this;
       }
 
@@ -2891,6 +3062,10 @@ public final class OSD {
           to_bitField0_ |= 0x00000004;
         }
         result.first_ = first_;
+        if (((from_bitField0_ & 0x00000008) == 0x00000008)) {
+          to_bitField0_ |= 0x00000008;
+        }
+        result.format_ = format_;
         result.bitField0_ = to_bitField0_;
         onBuilt();
         return result;
@@ -2916,6 +3091,9 @@ public final class OSD {
         if (other.hasFirst()) {
           setFirst(other.getFirst());
         }
+        if (other.hasFormat()) {
+          setFormat(other.getFormat());
+        }
         this.mergeUnknownFields(other.getUnknownFields());
         return this;
       }
@@ -3073,6 +3251,58 @@ public final class OSD {
         return this;
       }
 
+      // optional .xtreemfs.pbrpc.ObjectSetFormat format = 4 [default = OBJECT_SET_FORMAT_JAVA_BITSET];
+      private org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectSetFormat format_ = org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectSetFormat.OBJECT_SET_FORMAT_JAVA_BITSET;
+      /**
+       * <code>optional .xtreemfs.pbrpc.ObjectSetFormat format = 4 [default = OBJECT_SET_FORMAT_JAVA_BITSET];</code>
+       *
+       * <pre>
+       * Encoding of set.
+       * </pre>
+       */
+      public boolean hasFormat() {
+        return ((bitField0_ & 0x00000008) == 0x00000008);
+      }
+      /**
+       * <code>optional .xtreemfs.pbrpc.ObjectSetFormat format = 4 [default = OBJECT_SET_FORMAT_JAVA_BITSET];</code>
+       *
+       * <pre>
+       * Encoding of set.
+       * </pre>
+       */
+      public org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectSetFormat getFormat() {
+        return format_;
+      }
+      /**
+       * <code>optional .xtreemfs.pbrpc.ObjectSetFormat format = 4 [default = OBJECT_SET_FORMAT_JAVA_BITSET];</code>
+       *
+       * <pre>
+       * Encoding of set.
+       * </pre>
+       */
+      public Builder setFormat(org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectSetFormat value) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        bitField0_ |= 0x00000008;
+        format_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional .xtreemfs.pbrpc.ObjectSetFormat format = 4 [default = OBJECT_SET_FORMAT_JAVA_BITSET];</code>
+       *
+       * <pre>
+       * Encoding of set.
+       * </pre>
+       */
+      public Builder clearFormat() {
+        bitField0_ = (bitField0_ & ~0x00000008);
+        format_ = org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectSetFormat.OBJECT_SET_FORMAT_JAVA_BITSET;
+        onChanged();
+        return this;
+      }
+
       // @@protoc_insertion_point(builder_scope:xtreemfs.pbrpc.ObjectList)
     }
 
@@ -25805,6 +26035,24 @@ public final class OSD {
      */
     org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectListOrBuilder getRequiredObjectsOrBuilder(
         int index);
+
+    // optional .xtreemfs.pbrpc.ObjectSetFormat object_set_format = 9 [default = OBJECT_SET_FORMAT_JAVA_BITSET];
+    /**
+     * <code>optional .xtreemfs.pbrpc.ObjectSetFormat object_set_format = 9 [default = OBJECT_SET_FORMAT_JAVA_BITSET];</code>
+     *
+     * <pre>
+     * Highest encoding of the object list the caller supports.
+     * </pre>
+     */
+    boolean hasObjectSetFormat();
+    /**
+     * <code>optional .xtreemfs.pbrpc.ObjectSetFormat object_set_format = 9 [default = OBJECT_SET_FORMAT_JAVA_BITSET];</code>
+     *
+     * <pre>
+     * Highest encoding of the object list the caller supports.
+     * </pre>
+     */
+    org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectSetFormat getObjectSetFormat();
   }
   /**
    * Protobuf type {@code xtreemfs.pbrpc.xtreemfs_internal_read_localRequest}
@@ -25908,6 +26156,17 @@ public final class OSD {
               requiredObjects_.add(input.readMessage(org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectList.PARSER, extensionRegistry));
               break;
             }
+            case 72: {
+              int rawValue = input.readEnum();
+              org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectSetFormat value = org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectSetFormat.valueOf(rawValue);
+              if (value == null) {
+                unknownFields.mergeVarintField(9, rawValue);
+              } else {
+                bitField0_ |= 0x00000080;
+                objectSetFormat_ = value;
+              }
+              break;
+            }
           }
         }
       } catch (com.google.protobuf.InvalidProtocolBufferException e) {
@@ -26132,6 +26391,30 @@ public final class OSD {
       return requiredObjects_.get(index);
     }
 
+    // optional .xtreemfs.pbrpc.ObjectSetFormat object_set_format = 9 [default = OBJECT_SET_FORMAT_JAVA_BITSET];
+    public static final int OBJECT_SET_FORMAT_FIELD_NUMBER = 9;
+    private org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectSetFormat objectSetFormat_;
+    /**
+     * <code>optional .xtreemfs.pbrpc.ObjectSetFormat object_set_format = 9 [default = OBJECT_SET_FORMAT_JAVA_BITSET];</code>
+     *
+     * <pre>
+     * Highest encoding of the object list the caller supports.
+     * </pre>
+     */
+    public boolean hasObjectSetFormat() {
+      return ((bitField0_ & 0x00000080) == 0x00000080);
+    }
+    /**
+     * <code>optional .xtreemfs.pbrpc.ObjectSetFormat object_set_format = 9 [default = OBJECT_SET_FORMAT_JAVA_BITSET];</code>
+     *
+     * <pre>
+     * Highest encoding of the object list the caller supports.
+     * </pre>
+     */
+    public org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectSetFormat getObjectSetFormat() {
+      return objectSetFormat_;
+    }
+
     private void initFields() {
       fileCredentials_ = org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials.getDefaultInstance();
       fileId_ = "";
@@ -26141,6 +26424,7 @@ public final class OSD {
       length_ = 0;
       attachObjectList_ = false;
       requiredObjects_ = java.util.Collections.emptyList();
+      objectSetFormat_ = org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectSetFormat.OBJECT_SET_FORMAT_JAVA_BITSET;
     }
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
@@ -26216,6 +26500,9 @@ public final class OSD {
       for (int i = 0; i < requiredObjects_.size(); i++) {
         output.writeMessage(8, requiredObjects_.get(i));
       }
+      if (((bitField0_ & 0x00000080) == 0x00000080)) {
+        output.writeEnum(9, objectSetFormat_.getNumber());
+      }
       getUnknownFields().writeTo(output);
     }
 
@@ -26257,6 +26544,10 @@ public final class OSD {
         size += com.google.protobuf.CodedOutputStream
           .computeMessageSize(8, requiredObjects_.get(i));
       }
+      if (((bitField0_ & 0x00000080) == 0x00000080)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeEnumSize(9, objectSetFormat_.getNumber());
+      }
       size += getUnknownFields().getSerializedSize();
       memoizedSerializedSize = size;
       return size;
@@ -26399,6 +26690,8 @@ public final class OSD {
         } else {
           requiredObjectsBuilder_.clear();
         }
+        objectSetFormat_ = org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectSetFormat.OBJECT_SET_FORMAT_JAVA_BITSET;
+        bitField0_ = (bitField0_ & ~0x00000100);
         return this;
       }
 
@@ -26468,6 +26761,10 @@ public final class OSD {
         } else {
           result.requiredObjects_ = requiredObjectsBuilder_.build();
         }
+        if (((from_bitField0_ & 0x00000100) == 0x00000100)) {
+          to_bitField0_ |= 0x00000080;
+        }
+        result.objectSetFormat_ = objectSetFormat_;
         result.bitField0_ = to_bitField0_;
         onBuilt();
         return result;
@@ -26533,6 +26830,9 @@ public final class OSD {
             }
           }
         }
+        if (other.hasObjectSetFormat()) {
+          setObjectSetFormat(other.getObjectSetFormat());
+        }
         this.mergeUnknownFields(other.getUnknownFields());
         return this;
       }
@@ -27194,6 +27494,58 @@ public final class OSD {
         return requiredObjectsBuilder_;
       }
 
+      // optional .xtreemfs.pbrpc.ObjectSetFormat object_set_format = 9 [default = OBJECT_SET_FORMAT_JAVA_BITSET];
+      private org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectSetFormat objectSetFormat_ = org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectSetFormat.OBJECT_SET_FORMAT_JAVA_BITSET;
+      /**
+       * <code>optional .xtreemfs.pbrpc.ObjectSetFormat object_set_format = 9 [default = OBJECT_SET_FORMAT_JAVA_BITSET];</code>
+       *
+       * <pre>
+       * Highest encoding of the object list the caller supports.
+       * </pre>
+       */
+      public boolean hasObjectSetFormat() {
+        return ((bitField0_ & 0x00000100) == 0x00000100);
+      }
+      /**
+       * <code>optional .xtreemfs.pbrpc.ObjectSetFormat object_set_format = 9 [default = OBJECT_SET_FORMAT_JAVA_BITSET];</code>
+       *
+       * <pre>
+       * Highest encoding of the object list the caller supports.
+       * </pre>
+       */
+      public org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectSetFormat getObjectSetFormat() {
+        return objectSetFormat_;
+      }
+      /**
+       * <code>optional .xtreemfs.pbrpc.ObjectSetFormat object_set_format = 9 [default = OBJECT_SET_FORMAT_JAVA_BITSET];</code>
+       *
+       * <pre>
+       * Highest encoding of the object list the caller supports.
+       * </pre>
+       */
+      public Builder setObjectSetFormat(org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectSetFormat value) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        bitField0_ |= 0x00000100;
+        objectSetFormat_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional .xtreemfs.pbrpc.ObjectSetFormat object_set_format = 9 [default = OBJECT_SET_FORMAT_JAVA_BITSET];</code>
+       *
+       * <pre>
+       * Highest encoding of the object list the caller supports.
+       * </pre>
+       */
+      public Builder clearObjectSetFormat() {
+        bitField0_ = (bitField0_ & ~0x00000100);
+        objectSetFormat_ = org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectSetFormat.OBJECT_SET_FORMAT_JAVA_BITSET;
+        onChanged();
+        return this;
+      }
+
       // @@protoc_insertion_point(builder_scope:xtreemfs.pbrpc.xtreemfs_internal_read_localRequest)
     }
 
@@ -27236,6 +27588,24 @@ public final class OSD {
      */
     com.google.protobuf.ByteString
         getFileIdBytes();
+
+    // optional .xtreemfs.pbrpc.ObjectSetFormat object_set_format = 3 [default = OBJECT_SET_FORMAT_JAVA_BITSET];
+    /**
+     * <code>optional .xtreemfs.pbrpc.ObjectSetFormat object_set_format = 3 [default = OBJECT_SET_FORMAT_JAVA_BITSET];</code>
+     *
+     * <pre>
+     * Highest encoding of the object list the caller supports.
+     * </pre>
+     */
+    boolean hasObjectSetFormat();
+    /**
+     * <code>optional .xtreemfs.pbrpc.ObjectSetFormat object_set_format = 3 [default = OBJECT_SET_FORMAT_JAVA_BITSET];</code>
+     *
+     * <pre>
+     * Highest encoding of the object list the caller supports.
+     * </pre>
+     */
+    org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectSetFormat getObjectSetFormat();
   }
   /**
    * Protobuf type {@code xtreemfs.pbrpc.xtreemfs_internal_get_object_setRequest}
@@ -27306,6 +27676,17 @@ public final class OSD {
               fileId_ = input.readBytes();
               break;
             }
+            case 24: {
+              int rawValue = input.readEnum();
+              org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectSetFormat value = org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectSetFormat.valueOf(rawValue);
+              if (value == null) {
+                unknownFields.mergeVarintField(3, rawValue);
+              } else {
+                bitField0_ |= 0x00000004;
+                objectSetFormat_ = value;
+              }
+              break;
+            }
           }
         }
       } catch (com.google.protobuf.InvalidProtocolBufferException e) {
@@ -27411,9 +27792,34 @@ public final class OSD {
       }
     }
 
+    // optional .xtreemfs.pbrpc.ObjectSetFormat object_set_format = 3 [default = OBJECT_SET_FORMAT_JAVA_BITSET];
+    public static final int OBJECT_SET_FORMAT_FIELD_NUMBER = 3;
+    private org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectSetFormat objectSetFormat_;
+    /**
+     * <code>optional .xtreemfs.pbrpc.ObjectSetFormat object_set_format = 3 [default = OBJECT_SET_FORMAT_JAVA_BITSET];</code>
+     *
+     * <pre>
+     * Highest encoding of the object list the caller supports.
+     * </pre>
+     */
+    public boolean hasObjectSetFormat() {
+      return ((bitField0_ & 0x00000004) == 0x00000004);
+    }
+    /**
+     * <code>optional .xtreemfs.pbrpc.ObjectSetFormat object_set_format = 3 [default = OBJECT_SET_FORMAT_JAVA_BITSET];</code>
+     *
+     * <pre>
+     * Highest encoding of the object list the caller supports.
+     * </pre>
+     */
+    public org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectSetFormat getObjectSetFormat() {
+      return objectSetFormat_;
+    }
+
     private void initFields() {
       fileCredentials_ = org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials.getDefaultInstance();
       fileId_ = "";
+      objectSetFormat_ = org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectSetFormat.OBJECT_SET_FORMAT_JAVA_BITSET;
     }
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
@@ -27445,6 +27851,9 @@ public final class OSD {
       if (((bitField0_ & 0x00000002) == 0x00000002)) {
         output.writeBytes(2, getFileIdBytes());
       }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        output.writeEnum(3, objectSetFormat_.getNumber());
+      }
       getUnknownFields().writeTo(output);
     }
 
@@ -27462,6 +27871,10 @@ public final class OSD {
         size += com.google.protobuf.CodedOutputStream
           .computeBytesSize(2, getFileIdBytes());
       }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeEnumSize(3, objectSetFormat_.getNumber());
+      }
       size += getUnknownFields().getSerializedSize();
       memoizedSerializedSize = size;
       return size;
@@ -27587,6 +28000,8 @@ public final class OSD {
         bitField0_ = (bitField0_ & ~0x00000001);
         fileId_ = "";
         bitField0_ = (bitField0_ & ~0x00000002);
+        objectSetFormat_ = org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectSetFormat.OBJECT_SET_FORMAT_JAVA_BITSET;
+        bitField0_ = (bitField0_ & ~0x00000004);
         return this;
       }
 
@@ -27627,6 +28042,10 @@ public final class OSD {
           to_bitField0_ |= 0x00000002;
         }
         result.fileId_ = fileId_;
+        if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
+          to_bitField0_ |= 0x00000004;
+        }
+        result.objectSetFormat_ = objectSetFormat_;
         result.bitField0_ = to_bitField0_;
         onBuilt();
         return result;
@@ -27651,6 +28070,9 @@ public final class OSD {
           fileId_ = other.fileId_;
           onChanged();
         }
+        if (other.hasObjectSetFormat()) {
+          setObjectSetFormat(other.getObjectSetFormat());
+        }
         this.mergeUnknownFields(other.getUnknownFields());
         return this;
       }
@@ -27881,6 +28303,58 @@ public final class OSD {
         return this;
       }
 
+      // optional .xtreemfs.pbrpc.ObjectSetFormat object_set_format = 3 [default = OBJECT_SET_FORMAT_JAVA_BITSET];
+      private org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectSetFormat objectSetFormat_ = org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectSetFormat.OBJECT_SET_FORMAT_JAVA_BITSET;
+      /**
+       * <code>optional .xtreemfs.pbrpc.ObjectSetFormat object_set_format = 3 [default = OBJECT_SET_FORMAT_JAVA_BITSET];</code>
+       *
+       * <pre>
+       * Highest encoding of the object list the caller supports.
+       * </pre>
+       */
+      public boolean hasObjectSetFormat() {
+        return ((bitField0_ & 0x00000004) == 0x00000004);
+      }
+      /**
+       * <code>optional .xtreemfs.pbrpc.ObjectSetFormat object_set_format = 3 [default = OBJECT_SET_FORMAT_JAVA_BITSET];</code>
+       *
+       * <pre>
+       * Highest encoding of the object list the caller supports.
+       * </pre>
+       */
+      public org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectSetFormat getObjectSetFormat() {
+        return objectSetFormat_;
+      }
+      /**
+       * <code>optional .xtreemfs.pbrpc.ObjectSetFormat object_set_format = 3 [default = OBJECT_SET_FORMAT_JAVA_BITSET];</code>
+       *
+       * <pre>
+       * Highest encoding of the object list the caller supports.
+       * </pre>
+       */
+      public Builder setObjectSetFormat(org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectSetFormat value) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        bitField0_ |= 0x00000004;
+        objectSetFormat_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional .xtreemfs.pbrpc.ObjectSetFormat object_set_format = 3 [default = OBJECT_SET_FORMAT_JAVA_BITSET];</code>
+       *
+       * <pre>
+       * Highest encoding of the object list the caller supports.
+       * </pre>
+       */
+      public Builder clearObjectSetFormat() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        objectSetFormat_ = org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectSetFormat.OBJECT_SET_FORMAT_JAVA_BITSET;
+        onChanged();
+        return this;
+      }
+
       // @@protoc_insertion_point(builder_scope:xtreemfs.pbrpc.xtreemfs_internal_get_object_setRequest)
     }
 
@@ -32930,228 +33404,237 @@ public final class OSD {
       "\030\003 \002(\006\022\016\n\006offset\030\004 \002(\006\022\021\n\texclusive\030\005 \002(" +
       "\010\"U\n\nObjectData\022\020\n\010checksum\030\001 \002(\007\022\037\n\027inv" +
       "alid_checksum_on_osd\030\002 \002(\010\022\024\n\014zero_paddi" +
-      "ng\030\003 \002(\007\"?\n\nObjectList\022\013\n\003set\030\001 \002(\014\022\024\n\014s",
-      "tripe_width\030\002 \002(\007\022\016\n\006first_\030\003 \002(\007\">\n\rObj" +
-      "ectVersion\022\025\n\robject_number\030\001 \002(\006\022\026\n\016obj" +
-      "ect_version\030\002 \002(\006\"=\n\016TruncateRecord\022\017\n\007v" +
-      "ersion\030\001 \002(\006\022\032\n\022last_object_number\030\002 \002(\006" +
-      "\">\n\013TruncateLog\022/\n\007records\030\001 \003(\0132\036.xtree" +
-      "mfs.pbrpc.TruncateRecord\"R\n\023XLocSetVersi" +
-      "onState\022\017\n\007version\030\001 \002(\007\022\023\n\013invalidated\030" +
-      "\002 \002(\010\022\025\n\rmodified_time\030\003 \001(\006\"\324\001\n\rReplica" +
-      "Status\022\026\n\016truncate_epoch\030\001 \002(\006\022\021\n\tfile_s" +
-      "ize\030\002 \002(\006\022\027\n\017max_obj_version\030\003 \002(\006\022\025\n\rpr",
-      "imary_epoch\030\004 \002(\007\0225\n\016objectVersions\030\005 \003(" +
-      "\0132\035.xtreemfs.pbrpc.ObjectVersion\0221\n\014trun" +
-      "cate_log\030\006 \002(\0132\033.xtreemfs.pbrpc.Truncate" +
-      "Log\"X\n\024ObjectVersionMapping\022\025\n\robject_nu" +
-      "mber\030\001 \002(\006\022\026\n\016object_version\030\002 \002(\006\022\021\n\tos" +
-      "d_uuids\030\003 \003(\t\"\275\001\n\031AuthoritativeReplicaSt" +
-      "ate\022\026\n\016truncate_epoch\030\001 \002(\006\022\027\n\017max_obj_v" +
-      "ersion\030\004 \002(\006\022<\n\016objectVersions\030\002 \003(\0132$.x" +
-      "treemfs.pbrpc.ObjectVersionMapping\0221\n\014tr" +
-      "uncate_log\030\003 \002(\0132\033.xtreemfs.pbrpc.Trunca",
-      "teLog\"u\n\031InternalReadLocalResponse\022(\n\004da" +
-      "ta\030\001 \002(\0132\032.xtreemfs.pbrpc.ObjectData\022.\n\n" +
-      "object_set\030\002 \003(\0132\032.xtreemfs.pbrpc.Object" +
-      "List\"\250\001\n\013readRequest\0229\n\020file_credentials" +
-      "\030\001 \002(\0132\037.xtreemfs.pbrpc.FileCredentials\022" +
-      "\017\n\007file_id\030\002 \002(\t\022\025\n\robject_number\030\003 \002(\006\022" +
-      "\026\n\016object_version\030\004 \002(\006\022\016\n\006offset\030\005 \002(\007\022" +
-      "\016\n\006length\030\006 \002(\007\"t\n\017truncateRequest\0229\n\020fi" +
-      "le_credentials\030\001 \002(\0132\037.xtreemfs.pbrpc.Fi" +
-      "leCredentials\022\017\n\007file_id\030\002 \002(\t\022\025\n\rnew_fi",
-      "le_size\030\003 \002(\006\"`\n\022unlink_osd_Request\0229\n\020f" +
+      "ng\030\003 \002(\007\"\217\001\n\nObjectList\022\013\n\003set\030\001 \002(\014\022\024\n\014",
+      "stripe_width\030\002 \002(\007\022\016\n\006first_\030\003 \002(\007\022N\n\006fo" +
+      "rmat\030\004 \001(\0162\037.xtreemfs.pbrpc.ObjectSetFor" +
+      "mat:\035OBJECT_SET_FORMAT_JAVA_BITSET\">\n\rOb" +
+      "jectVersion\022\025\n\robject_number\030\001 \002(\006\022\026\n\016ob" +
+      "ject_version\030\002 \002(\006\"=\n\016TruncateRecord\022\017\n\007" +
+      "version\030\001 \002(\006\022\032\n\022last_object_number\030\002 \002(" +
+      "\006\">\n\013TruncateLog\022/\n\007records\030\001 \003(\0132\036.xtre" +
+      "emfs.pbrpc.TruncateRecord\"R\n\023XLocSetVers" +
+      "ionState\022\017\n\007version\030\001 \002(\007\022\023\n\013invalidated" +
+      "\030\002 \002(\010\022\025\n\rmodified_time\030\003 \001(\006\"\324\001\n\rReplic",
+      "aStatus\022\026\n\016truncate_epoch\030\001 \002(\006\022\021\n\tfile_" +
+      "size\030\002 \002(\006\022\027\n\017max_obj_version\030\003 \002(\006\022\025\n\rp" +
+      "rimary_epoch\030\004 \002(\007\0225\n\016objectVersions\030\005 \003" +
+      "(\0132\035.xtreemfs.pbrpc.ObjectVersion\0221\n\014tru" +
+      "ncate_log\030\006 \002(\0132\033.xtreemfs.pbrpc.Truncat" +
+      "eLog\"X\n\024ObjectVersionMapping\022\025\n\robject_n" +
+      "umber\030\001 \002(\006\022\026\n\016object_version\030\002 \002(\006\022\021\n\to" +
+      "sd_uuids\030\003 \003(\t\"\275\001\n\031AuthoritativeReplicaS" +
+      "tate\022\026\n\016truncate_epoch\030\001 \002(\006\022\027\n\017max_obj_" +
+      "version\030\004 \002(\006\022<\n\016objectVersions\030\002 \003(\0132$.",
+      "xtreemfs.pbrpc.ObjectVersionMapping\0221\n\014t" +
+      "runcate_log\030\003 \002(\0132\033.xtreemfs.pbrpc.Trunc" +
+      "ateLog\"u\n\031InternalReadLocalResponse\022(\n\004d" +
+      "ata\030\001 \002(\0132\032.xtreemfs.pbrpc.ObjectData\022.\n" +
+      "\nobject_set\030\002 \003(\0132\032.xtreemfs.pbrpc.Objec" +
+      "tList\"\250\001\n\013readRequest\0229\n\020file_credential" +
+      "s\030\001 \002(\0132\037.xtreemfs.pbrpc.FileCredentials" +
+      "\022\017\n\007file_id\030\002 \002(\t\022\025\n\robject_number\030\003 \002(\006" +
+      "\022\026\n\016object_version\030\004 \002(\006\022\016\n\006offset\030\005 \002(\007" +
+      "\022\016\n\006length\030\006 \002(\007\"t\n\017truncateRequest\0229\n\020f",
       "ile_credentials\030\001 \002(\0132\037.xtreemfs.pbrpc.F" +
-      "ileCredentials\022\017\n\007file_id\030\002 \002(\t\"\341\001\n\014writ" +
-      "eRequest\0229\n\020file_credentials\030\001 \002(\0132\037.xtr" +
-      "eemfs.pbrpc.FileCredentials\022\017\n\007file_id\030\002" +
-      " \002(\t\022\025\n\robject_number\030\003 \002(\006\022\026\n\016object_ve" +
-      "rsion\030\004 \002(\006\022\016\n\006offset\030\005 \002(\007\022\025\n\rlease_tim" +
-      "eout\030\006 \002(\006\022/\n\013object_data\030\007 \002(\0132\032.xtreem" +
-      "fs.pbrpc.ObjectData\"q\n\036xtreemfs_broadcas" +
-      "t_gmaxRequest\022\017\n\007file_id\030\001 \002(\t\022\026\n\016trunca",
-      "te_epoch\030\002 \002(\006\022\023\n\013last_object\030\003 \002(\006\022\021\n\tf" +
-      "ile_size\030\004 \002(\006\"\231\001\n\034xtreemfs_check_object" +
-      "Request\0229\n\020file_credentials\030\001 \002(\0132\037.xtre" +
-      "emfs.pbrpc.FileCredentials\022\017\n\007file_id\030\002 " +
-      "\002(\t\022\025\n\robject_number\030\003 \002(\006\022\026\n\016object_ver" +
-      "sion\030\004 \002(\006\"7\n$xtreemfs_cleanup_get_resul" +
-      "tsResponse\022\017\n\007results\030\001 \003(\t\"9\n#xtreemfs_" +
-      "cleanup_is_runningResponse\022\022\n\nis_running" +
-      "\030\001 \002(\010\"\241\001\n\035xtreemfs_cleanup_startRequest" +
-      "\022\026\n\016remove_zombies\030\001 \002(\010\022\035\n\025remove_unava",
-      "il_volume\030\002 \002(\010\022\026\n\016lost_and_found\030\003 \002(\010\022" +
-      "\027\n\017delete_metadata\030\004 \002(\010\022\030\n\020metadata_tim" +
-      "eout\030\005 \002(\007\"1\n\037xtreemfs_cleanup_statusRes" +
-      "ponse\022\016\n\006status\030\001 \002(\t\"\226\001\n\031xtreemfs_rwr_f" +
-      "etchRequest\0229\n\020file_credentials\030\001 \002(\0132\037." +
-      "xtreemfs.pbrpc.FileCredentials\022\017\n\007file_i" +
-      "d\030\002 \002(\t\022\025\n\robject_number\030\003 \002(\006\022\026\n\016object" +
-      "_version\030\004 \002(\006\"\232\001\n\035xtreemfs_repair_objec" +
+      "ileCredentials\022\017\n\007file_id\030\002 \002(\t\022\025\n\rnew_f" +
+      "ile_size\030\003 \002(\006\"`\n\022unlink_osd_Request\0229\n\020" +
+      "file_credentials\030\001 \002(\0132\037.xtreemfs.pbrpc." +
+      "FileCredentials\022\017\n\007file_id\030\002 \002(\t\"\341\001\n\014wri" +
+      "teRequest\0229\n\020file_credentials\030\001 \002(\0132\037.xt" +
+      "reemfs.pbrpc.FileCredentials\022\017\n\007file_id\030" +
+      "\002 \002(\t\022\025\n\robject_number\030\003 \002(\006\022\026\n\016object_v" +
+      "ersion\030\004 \002(\006\022\016\n\006offset\030\005 \002(\007\022\025\n\rlease_ti" +
+      "meout\030\006 \002(\006\022/\n\013object_data\030\007 \002(\0132\032.xtree",
+      "mfs.pbrpc.ObjectData\"q\n\036xtreemfs_broadca" +
+      "st_gmaxRequest\022\017\n\007file_id\030\001 \002(\t\022\026\n\016trunc" +
+      "ate_epoch\030\002 \002(\006\022\023\n\013last_object\030\003 \002(\006\022\021\n\t" +
+      "file_size\030\004 \002(\006\"\231\001\n\034xtreemfs_check_objec" +
       "tRequest\0229\n\020file_credentials\030\001 \002(\0132\037.xtr" +
-      "eemfs.pbrpc.FileCredentials\022\017\n\007file_id\030\002",
+      "eemfs.pbrpc.FileCredentials\022\017\n\007file_id\030\002" +
       " \002(\t\022\025\n\robject_number\030\003 \002(\006\022\026\n\016object_ve" +
-      "rsion\030\004 \002(\006\"N\n\036xtreemfs_rwr_flease_msgRe" +
-      "quest\022\027\n\017sender_hostname\030\001 \002(\t\022\023\n\013sender" +
-      "_port\030\002 \002(\007\"\212\001\n%xtreemfs_rwr_set_primary" +
-      "_epochRequest\0229\n\020file_credentials\030\001 \002(\0132" +
-      "\037.xtreemfs.pbrpc.FileCredentials\022\017\n\007file" +
-      "_id\030\002 \002(\t\022\025\n\rprimary_epoch\030\003 \002(\007\"\207\001\n\032xtr" +
-      "eemfs_rwr_statusRequest\0229\n\020file_credenti" +
-      "als\030\001 \002(\0132\037.xtreemfs.pbrpc.FileCredentia" +
-      "ls\022\017\n\007file_id\030\002 \002(\t\022\035\n\025max_local_obj_ver",
-      "sion\030\003 \002(\006\"\231\001\n\034xtreemfs_rwr_truncateRequ" +
-      "est\0229\n\020file_credentials\030\001 \002(\0132\037.xtreemfs" +
-      ".pbrpc.FileCredentials\022\017\n\007file_id\030\002 \002(\t\022" +
-      "\025\n\rnew_file_size\030\003 \002(\006\022\026\n\016object_version" +
-      "\030\004 \002(\006\"\347\001\n\032xtreemfs_rwr_updateRequest\0229\n" +
-      "\020file_credentials\030\001 \002(\0132\037.xtreemfs.pbrpc" +
-      ".FileCredentials\022\017\n\007file_id\030\002 \002(\t\022\025\n\rnew" +
-      "_file_size\030\003 \002(\006\022\025\n\robject_number\030\007 \002(\006\022" +
-      "\026\n\016object_version\030\004 \002(\006\022\016\n\006offset\030\005 \002(\007\022" +
-      "\'\n\003obj\030\006 \002(\0132\032.xtreemfs.pbrpc.ObjectData",
-      "\"o\n!xtreemfs_internal_get_gmaxRequest\0229\n" +
-      "\020file_credentials\030\001 \002(\0132\037.xtreemfs.pbrpc" +
-      ".FileCredentials\022\017\n\007file_id\030\002 \002(\t\"t\n&xtr" +
-      "eemfs_internal_get_file_sizeRequest\0229\n\020f" +
-      "ile_credentials\030\001 \002(\0132\037.xtreemfs.pbrpc.F" +
-      "ileCredentials\022\017\n\007file_id\030\002 \002(\t\"<\n\'xtree" +
-      "mfs_internal_get_file_sizeResponse\022\021\n\tfi" +
-      "le_size\030\001 \002(\006\"\222\002\n#xtreemfs_internal_read" +
-      "_localRequest\0229\n\020file_credentials\030\001 \002(\0132" +
-      "\037.xtreemfs.pbrpc.FileCredentials\022\017\n\007file",
-      "_id\030\002 \002(\t\022\025\n\robject_number\030\003 \002(\006\022\026\n\016obje" +
-      "ct_version\030\004 \002(\006\022\016\n\006offset\030\005 \002(\007\022\016\n\006leng" +
-      "th\030\006 \002(\007\022\032\n\022attach_object_list\030\007 \002(\010\0224\n\020" +
-      "required_objects\030\010 \003(\0132\032.xtreemfs.pbrpc." +
-      "ObjectList\"u\n\'xtreemfs_internal_get_obje" +
-      "ct_setRequest\0229\n\020file_credentials\030\001 \002(\0132" +
-      "\037.xtreemfs.pbrpc.FileCredentials\022\017\n\007file" +
-      "_id\030\002 \002(\t\"=\n)xtreemfs_internal_get_filei" +
-      "d_listResponse\022\020\n\010file_ids\030\001 \003(\t\"t\n\013lock" +
-      "Request\0229\n\020file_credentials\030\001 \002(\0132\037.xtre",
-      "emfs.pbrpc.FileCredentials\022*\n\014lock_reque" +
-      "st\030\002 \002(\0132\024.xtreemfs.pbrpc.Lock\"j\n\025xtreem" +
-      "fs_pingMesssage\0227\n\013coordinates\030\001 \002(\0132\".x" +
-      "treemfs.pbrpc.VivaldiCoordinates\022\030\n\020requ" +
-      "est_response\030\002 \002(\010\"\246\001\n\036xtreemfs_rwr_auth" +
-      "_stateRequest\0229\n\020file_credentials\030\001 \002(\0132" +
-      "\037.xtreemfs.pbrpc.FileCredentials\022\017\n\007file" +
-      "_id\030\002 \002(\t\0228\n\005state\030\003 \002(\0132).xtreemfs.pbrp" +
-      "c.AuthoritativeReplicaState\"\207\001\n\"xtreemfs" +
-      "_rwr_reset_completeRequest\0229\n\020file_crede",
-      "ntials\030\001 \002(\0132\037.xtreemfs.pbrpc.FileCreden" +
-      "tials\022\017\n\007file_id\030\002 \002(\t\022\025\n\rprimary_epoch\030" +
-      "\003 \002(\007\"q\n#xtreemfs_xloc_set_invalidateReq" +
+      "rsion\030\004 \002(\006\"7\n$xtreemfs_cleanup_get_resu" +
+      "ltsResponse\022\017\n\007results\030\001 \003(\t\"9\n#xtreemfs" +
+      "_cleanup_is_runningResponse\022\022\n\nis_runnin",
+      "g\030\001 \002(\010\"\241\001\n\035xtreemfs_cleanup_startReques" +
+      "t\022\026\n\016remove_zombies\030\001 \002(\010\022\035\n\025remove_unav" +
+      "ail_volume\030\002 \002(\010\022\026\n\016lost_and_found\030\003 \002(\010" +
+      "\022\027\n\017delete_metadata\030\004 \002(\010\022\030\n\020metadata_ti" +
+      "meout\030\005 \002(\007\"1\n\037xtreemfs_cleanup_statusRe" +
+      "sponse\022\016\n\006status\030\001 \002(\t\"\226\001\n\031xtreemfs_rwr_" +
+      "fetchRequest\0229\n\020file_credentials\030\001 \002(\0132\037" +
+      ".xtreemfs.pbrpc.FileCredentials\022\017\n\007file_" +
+      "id\030\002 \002(\t\022\025\n\robject_number\030\003 \002(\006\022\026\n\016objec" +
+      "t_version\030\004 \002(\006\"\232\001\n\035xtreemfs_repair_obje",
+      "ctRequest\0229\n\020file_credentials\030\001 \002(\0132\037.xt" +
+      "reemfs.pbrpc.FileCredentials\022\017\n\007file_id\030" +
+      "\002 \002(\t\022\025\n\robject_number\030\003 \002(\006\022\026\n\016object_v" +
+      "ersion\030\004 \002(\006\"N\n\036xtreemfs_rwr_flease_msgR" +
+      "equest\022\027\n\017sender_hostname\030\001 \002(\t\022\023\n\013sende" +
+      "r_port\030\002 \002(\007\"\212\001\n%xtreemfs_rwr_set_primar" +
+      "y_epochRequest\0229\n\020file_credentials\030\001 \002(\013" +
+      "2\037.xtreemfs.pbrpc.FileCredentials\022\017\n\007fil" +
+      "e_id\030\002 \002(\t\022\025\n\rprimary_epoch\030\003 \002(\007\"\207\001\n\032xt" +
+      "reemfs_rwr_statusRequest\0229\n\020file_credent",
+      "ials\030\001 \002(\0132\037.xtreemfs.pbrpc.FileCredenti" +
+      "als\022\017\n\007file_id\030\002 \002(\t\022\035\n\025max_local_obj_ve" +
+      "rsion\030\003 \002(\006\"\231\001\n\034xtreemfs_rwr_truncateReq" +
       "uest\0229\n\020file_credentials\030\001 \002(\0132\037.xtreemf" +
       "s.pbrpc.FileCredentials\022\017\n\007file_id\030\002 \002(\t" +
-      "\"\216\001\n$xtreemfs_xloc_set_invalidateRespons" +
-      "e\022/\n\013lease_state\030\001 \002(\0162\032.xtreemfs.pbrpc." +
-      "LeaseState\0225\n\016replica_status\030\002 \001(\0132\035.xtr" +
-      "eemfs.pbrpc.ReplicaStatus*\215\001\n\017OSDHealthR" +
-      "esult\022\034\n\030OSD_HEALTH_RESULT_PASSED\020\000\022\035\n\031O",
-      "SD_HEALTH_RESULT_WARNING\020\001\022\034\n\030OSD_HEALTH" +
-      "_RESULT_FAILED\020\002\022\037\n\033OSD_HEALTH_RESULT_NO" +
-      "T_AVAIL\020\0032\277\036\n\nOSDService\022L\n\004read\022\033.xtree" +
-      "mfs.pbrpc.readRequest\032\032.xtreemfs.pbrpc.O" +
-      "bjectData\"\013\215\265\030\n\000\000\000\230\265\030\001\022V\n\010truncate\022\037.xtr" +
-      "eemfs.pbrpc.truncateRequest\032 .xtreemfs.p" +
-      "brpc.OSDWriteResponse\"\007\215\265\030\013\000\000\000\022T\n\006unlink" +
-      "\022\".xtreemfs.pbrpc.unlink_osd_Request\032\035.x" +
-      "treemfs.pbrpc.emptyResponse\"\007\215\265\030\014\000\000\000\022T\n\005" +
-      "write\022\034.xtreemfs.pbrpc.writeRequest\032 .xt",
-      "reemfs.pbrpc.OSDWriteResponse\"\013\215\265\030\r\000\000\000\240\265" +
-      "\030\001\022q\n\027xtreemfs_broadcast_gmax\022..xtreemfs" +
-      ".pbrpc.xtreemfs_broadcast_gmaxRequest\032\035." +
-      "xtreemfs.pbrpc.emptyResponse\"\007\215\265\030\024\000\000\000\022j\n" +
-      "\025xtreemfs_check_object\022,.xtreemfs.pbrpc." +
-      "xtreemfs_check_objectRequest\032\032.xtreemfs." +
-      "pbrpc.ObjectData\"\007\215\265\030\025\000\000\000\022{\n\034xtreemfs_cl" +
-      "eanup_get_results\022\034.xtreemfs.pbrpc.empty" +
-      "Request\0324.xtreemfs.pbrpc.xtreemfs_cleanu" +
-      "p_get_resultsResponse\"\007\215\265\030\036\000\000\000\022y\n\033xtreem",
-      "fs_cleanup_is_running\022\034.xtreemfs.pbrpc.e" +
-      "mptyRequest\0323.xtreemfs.pbrpc.xtreemfs_cl" +
-      "eanup_is_runningResponse\"\007\215\265\030\037\000\000\000\022o\n\026xtr" +
-      "eemfs_cleanup_start\022-.xtreemfs.pbrpc.xtr" +
-      "eemfs_cleanup_startRequest\032\035.xtreemfs.pb" +
-      "rpc.emptyResponse\"\007\215\265\030 \000\000\000\022q\n\027xtreemfs_c" +
-      "leanup_status\022\034.xtreemfs.pbrpc.emptyRequ" +
-      "est\032/.xtreemfs.pbrpc.xtreemfs_cleanup_st" +
-      "atusResponse\"\007\215\265\030!\000\000\000\022]\n\025xtreemfs_cleanu" +
-      "p_stop\022\034.xtreemfs.pbrpc.emptyRequest\032\035.x",
-      "treemfs.pbrpc.emptyResponse\"\007\215\265\030\"\000\000\000\022g\n\037" +
-      "xtreemfs_cleanup_versions_start\022\034.xtreem" +
-      "fs.pbrpc.emptyRequest\032\035.xtreemfs.pbrpc.e" +
-      "mptyResponse\"\007\215\265\030#\000\000\000\022o\n\026xtreemfs_repair" +
-      "_object\022-.xtreemfs.pbrpc.xtreemfs_repair" +
-      "_objectRequest\032\035.xtreemfs.pbrpc.emptyRes" +
-      "ponse\"\007\215\265\030$\000\000\000\022d\n\022xtreemfs_rwr_fetch\022).x" +
-      "treemfs.pbrpc.xtreemfs_rwr_fetchRequest\032" +
-      "\032.xtreemfs.pbrpc.ObjectData\"\007\215\265\030I\000\000\000\022u\n\027" +
-      "xtreemfs_rwr_flease_msg\022..xtreemfs.pbrpc",
-      ".xtreemfs_rwr_flease_msgRequest\032\035.xtreem" +
-      "fs.pbrpc.emptyResponse\"\013\215\265\030G\000\000\000\240\265\030\001\022^\n\023x" +
-      "treemfs_rwr_notify\022\037.xtreemfs.pbrpc.File" +
-      "Credentials\032\035.xtreemfs.pbrpc.emptyRespon" +
-      "se\"\007\215\265\030K\000\000\000\022|\n\036xtreemfs_rwr_set_primary_" +
-      "epoch\0225.xtreemfs.pbrpc.xtreemfs_rwr_set_" +
-      "primary_epochRequest\032\032.xtreemfs.pbrpc.Ob" +
-      "jectData\"\007\215\265\030N\000\000\000\022i\n\023xtreemfs_rwr_status" +
-      "\022*.xtreemfs.pbrpc.xtreemfs_rwr_statusReq" +
-      "uest\032\035.xtreemfs.pbrpc.ReplicaStatus\"\007\215\265\030",
-      "L\000\000\000\022m\n\025xtreemfs_rwr_truncate\022,.xtreemfs" +
-      ".pbrpc.xtreemfs_rwr_truncateRequest\032\035.xt" +
-      "reemfs.pbrpc.emptyResponse\"\007\215\265\030J\000\000\000\022m\n\023x" +
-      "treemfs_rwr_update\022*.xtreemfs.pbrpc.xtre" +
-      "emfs_rwr_updateRequest\032\035.xtreemfs.pbrpc." +
-      "emptyResponse\"\013\215\265\030H\000\000\000\240\265\030\001\022q\n\027xtreemfs_r" +
-      "wr_auth_state\022..xtreemfs.pbrpc.xtreemfs_" +
-      "rwr_auth_stateRequest\032\035.xtreemfs.pbrpc.e" +
-      "mptyResponse\"\007\215\265\030O\000\000\000\022y\n\033xtreemfs_rwr_re" +
-      "set_complete\0222.xtreemfs.pbrpc.xtreemfs_r",
-      "wr_reset_completeRequest\032\035.xtreemfs.pbrp" +
-      "c.emptyResponse\"\007\215\265\030P\000\000\000\022v\n\032xtreemfs_int" +
-      "ernal_get_gmax\0221.xtreemfs.pbrpc.xtreemfs" +
-      "_internal_get_gmaxRequest\032\034.xtreemfs.pbr" +
-      "pc.InternalGmax\"\007\215\265\030(\000\000\000\022h\n\032xtreemfs_int" +
-      "ernal_truncate\022\037.xtreemfs.pbrpc.truncate" +
-      "Request\032 .xtreemfs.pbrpc.OSDWriteRespons" +
-      "e\"\007\215\265\030)\000\000\000\022\233\001\n\037xtreemfs_internal_get_fil" +
-      "e_size\0226.xtreemfs.pbrpc.xtreemfs_interna" +
-      "l_get_file_sizeRequest\0327.xtreemfs.pbrpc.",
-      "xtreemfs_internal_get_file_sizeResponse\"" +
-      "\007\215\265\030*\000\000\000\022\207\001\n\034xtreemfs_internal_read_loca" +
-      "l\0223.xtreemfs.pbrpc.xtreemfs_internal_rea" +
-      "d_localRequest\032).xtreemfs.pbrpc.Internal" +
-      "ReadLocalResponse\"\007\215\265\030+\000\000\000\022\200\001\n xtreemfs_" +
-      "internal_get_object_set\0227.xtreemfs.pbrpc" +
-      ".xtreemfs_internal_get_object_setRequest" +
-      "\032\032.xtreemfs.pbrpc.ObjectList\"\007\215\265\030,\000\000\000\022\205\001" +
-      "\n!xtreemfs_internal_get_fileid_list\022\034.xt" +
-      "reemfs.pbrpc.emptyRequest\0329.xtreemfs.pbr",
-      "pc.xtreemfs_internal_get_fileid_listResp" +
-      "onse\"\007\215\265\030-\000\000\000\022S\n\025xtreemfs_lock_acquire\022\033" +
-      ".xtreemfs.pbrpc.lockRequest\032\024.xtreemfs.p" +
-      "brpc.Lock\"\007\215\265\0302\000\000\000\022Q\n\023xtreemfs_lock_chec" +
-      "k\022\033.xtreemfs.pbrpc.lockRequest\032\024.xtreemf" +
-      "s.pbrpc.Lock\"\007\215\265\0303\000\000\000\022\\\n\025xtreemfs_lock_r" +
-      "elease\022\033.xtreemfs.pbrpc.lockRequest\032\035.xt" +
-      "reemfs.pbrpc.emptyResponse\"\007\215\265\0304\000\000\000\022f\n\rx" +
-      "treemfs_ping\022%.xtreemfs.pbrpc.xtreemfs_p" +
-      "ingMesssage\032%.xtreemfs.pbrpc.xtreemfs_pi",
-      "ngMesssage\"\007\215\265\030<\000\000\000\022Y\n\021xtreemfs_shutdown" +
-      "\022\034.xtreemfs.pbrpc.emptyRequest\032\035.xtreemf" +
-      "s.pbrpc.emptyResponse\"\007\215\265\030F\000\000\000\022\222\001\n\034xtree" +
-      "mfs_xloc_set_invalidate\0223.xtreemfs.pbrpc" +
-      ".xtreemfs_xloc_set_invalidateRequest\0324.x" +
-      "treemfs.pbrpc.xtreemfs_xloc_set_invalida" +
-      "teResponse\"\007\215\265\030Q\000\000\000\022}\n#xtreemfs_rwr_auth" +
-      "_state_invalidated\022..xtreemfs.pbrpc.xtre" +
-      "emfs_rwr_auth_stateRequest\032\035.xtreemfs.pb" +
-      "rpc.emptyResponse\"\007\215\265\030R\000\000\000\032\007\225\265\0301u\000\000B(\n&o",
-      "rg.xtreemfs.pbrpc.generatedinterfaces"
+      "\022\025\n\rnew_file_size\030\003 \002(\006\022\026\n\016object_versio" +
+      "n\030\004 \002(\006\"\347\001\n\032xtreemfs_rwr_updateRequest\0229" +
+      "\n\020file_credentials\030\001 \002(\0132\037.xtreemfs.pbrp" +
+      "c.FileCredentials\022\017\n\007file_id\030\002 \002(\t\022\025\n\rne" +
+      "w_file_size\030\003 \002(\006\022\025\n\robject_number\030\007 \002(\006",
+      "\022\026\n\016object_version\030\004 \002(\006\022\016\n\006offset\030\005 \002(\007" +
+      "\022\'\n\003obj\030\006 \002(\0132\032.xtreemfs.pbrpc.ObjectDat" +
+      "a\"o\n!xtreemfs_internal_get_gmaxRequest\0229" +
+      "\n\020file_credentials\030\001 \002(\0132\037.xtreemfs.pbrp" +
+      "c.FileCredentials\022\017\n\007file_id\030\002 \002(\t\"t\n&xt" +
+      "reemfs_internal_get_file_sizeRequest\0229\n\020" +
+      "file_credentials\030\001 \002(\0132\037.xtreemfs.pbrpc." +
+      "FileCredentials\022\017\n\007file_id\030\002 \002(\t\"<\n\'xtre" +
+      "emfs_internal_get_file_sizeResponse\022\021\n\tf" +
+      "ile_size\030\001 \002(\006\"\355\002\n#xtreemfs_internal_rea",
+      "d_localRequest\0229\n\020file_credentials\030\001 \002(\013" +
+      "2\037.xtreemfs.pbrpc.FileCredentials\022\017\n\007fil" +
+      "e_id\030\002 \002(\t\022\025\n\robject_number\030\003 \002(\006\022\026\n\016obj" +
+      "ect_version\030\004 \002(\006\022\016\n\006offset\030\005 \002(\007\022\016\n\006len" +
+      "gth\030\006 \002(\007\022\032\n\022attach_object_list\030\007 \002(\010\0224\n" +
+      "\020required_objects\030\010 \003(\0132\032.xtreemfs.pbrpc" +
+      ".ObjectList\022Y\n\021object_set_format\030\t \001(\0162\037" +
+      ".xtreemfs.pbrpc.ObjectSetFormat:\035OBJECT_" +
+      "SET_FORMAT_JAVA_BITSET\"\320\001\n\'xtreemfs_inte" +
+      "rnal_get_object_setRequest\0229\n\020file_crede",
+      "ntials\030\001 \002(\0132\037.xtreemfs.pbrpc.FileCreden" +
+      "tials\022\017\n\007file_id\030\002 \002(\t\022Y\n\021object_set_for" +
+      "mat\030\003 \001(\0162\037.xtreemfs.pbrpc.ObjectSetForm" +
+      "at:\035OBJECT_SET_FORMAT_JAVA_BITSET\"=\n)xtr" +
+      "eemfs_internal_get_fileid_listResponse\022\020" +
+      "\n\010file_ids\030\001 \003(\t\"t\n\013lockRequest\0229\n\020file_" +
+      "credentials\030\001 \002(\0132\037.xtreemfs.pbrpc.FileC" +
+      "redentials\022*\n\014lock_request\030\002 \002(\0132\024.xtree" +
+      "mfs.pbrpc.Lock\"j\n\025xtreemfs_pingMesssage\022" +
+      "7\n\013coordinates\030\001 \002(\0132\".xtreemfs.pbrpc.Vi",
+      "valdiCoordinates\022\030\n\020request_response\030\002 \002" +
+      "(\010\"\246\001\n\036xtreemfs_rwr_auth_stateRequest\0229\n" +
+      "\020file_credentials\030\001 \002(\0132\037.xtreemfs.pbrpc" +
+      ".FileCredentials\022\017\n\007file_id\030\002 \002(\t\0228\n\005sta" +
+      "te\030\003 \002(\0132).xtreemfs.pbrpc.AuthoritativeR" +
+      "eplicaState\"\207\001\n\"xtreemfs_rwr_reset_compl" +
+      "eteRequest\0229\n\020file_credentials\030\001 \002(\0132\037.x" +
+      "treemfs.pbrpc.FileCredentials\022\017\n\007file_id" +
+      "\030\002 \002(\t\022\025\n\rprimary_epoch\030\003 \002(\007\"q\n#xtreemf" +
+      "s_xloc_set_invalidateRequest\0229\n\020file_cre",
+      "dentials\030\001 \002(\0132\037.xtreemfs.pbrpc.FileCred" +
+      "entials\022\017\n\007file_id\030\002 \002(\t\"\216\001\n$xtreemfs_xl" +
+      "oc_set_invalidateResponse\022/\n\013lease_state" +
+      "\030\001 \002(\0162\032.xtreemfs.pbrpc.LeaseState\0225\n\016re" +
+      "plica_status\030\002 \001(\0132\035.xtreemfs.pbrpc.Repl" +
+      "icaStatus*S\n\017ObjectSetFormat\022!\n\035OBJECT_S" +
+      "ET_FORMAT_JAVA_BITSET\020\000\022\035\n\031OBJECT_SET_FO" +
+      "RMAT_RUNS_V1\020\001*\215\001\n\017OSDHealthResult\022\034\n\030OS" +
+      "D_HEALTH_RESULT_PASSED\020\000\022\035\n\031OSD_HEALTH_R" +
+      "ESULT_WARNING\020\001\022\034\n\030OSD_HEALTH_RESULT_FAI",
+      "LED\020\002\022\037\n\033OSD_HEALTH_RESULT_NOT_AVAIL\020\0032\277" +
+      "\036\n\nOSDService\022L\n\004read\022\033.xtreemfs.pbrpc.r" +
+      "eadRequest\032\032.xtreemfs.pbrpc.ObjectData\"\013" +
+      "\215\265\030\n\000\000\000\230\265\030\001\022V\n\010truncate\022\037.xtreemfs.pbrpc" +
+      ".truncateRequest\032 .xtreemfs.pbrpc.OSDWri" +
+      "teResponse\"\007\215\265\030\013\000\000\000\022T\n\006unlink\022\".xtreemfs" +
+      ".pbrpc.unlink_osd_Request\032\035.xtreemfs.pbr" +
+      "pc.emptyResponse\"\007\215\265\030\014\000\000\000\022T\n\005write\022\034.xtr" +
+      "eemfs.pbrpc.writeRequest\032 .xtreemfs.pbrp" +
+      "c.OSDWriteResponse\"\013\215\265\030\r\000\000\000\240\265\030\001\022q\n\027xtree",
+      "mfs_broadcast_gmax\022..xtreemfs.pbrpc.xtre" +
+      "emfs_broadcast_gmaxRequest\032\035.xtreemfs.pb" +
+      "rpc.emptyResponse\"\007\215\265\030\024\000\000\000\022j\n\025xtreemfs_c" +
+      "heck_object\022,.xtreemfs.pbrpc.xtreemfs_ch" +
+      "eck_objectRequest\032\032.xtreemfs.pbrpc.Objec" +
+      "tData\"\007\215\265\030\025\000\000\000\022{\n\034xtreemfs_cleanup_get_r" +
+      "esults\022\034.xtreemfs.pbrpc.emptyRequest\0324.x" +
+      "treemfs.pbrpc.xtreemfs_cleanup_get_resul" +
+      "tsResponse\"\007\215\265\030\036\000\000\000\022y\n\033xtreemfs_cleanup_" +
+      "is_running\022\034.xtreemfs.pbrpc.emptyRequest",
+      "\0323.xtreemfs.pbrpc.xtreemfs_cleanup_is_ru" +
+      "nningResponse\"\007\215\265\030\037\000\000\000\022o\n\026xtreemfs_clean" +
+      "up_start\022-.xtreemfs.pbrpc.xtreemfs_clean" +
+      "up_startRequest\032\035.xtreemfs.pbrpc.emptyRe" +
+      "sponse\"\007\215\265\030 \000\000\000\022q\n\027xtreemfs_cleanup_stat" +
+      "us\022\034.xtreemfs.pbrpc.emptyRequest\032/.xtree" +
+      "mfs.pbrpc.xtreemfs_cleanup_statusRespons" +
+      "e\"\007\215\265\030!\000\000\000\022]\n\025xtreemfs_cleanup_stop\022\034.xt" +
+      "reemfs.pbrpc.emptyRequest\032\035.xtreemfs.pbr" +
+      "pc.emptyResponse\"\007\215\265\030\"\000\000\000\022g\n\037xtreemfs_cl",
+      "eanup_versions_start\022\034.xtreemfs.pbrpc.em" +
+      "ptyRequest\032\035.xtreemfs.pbrpc.emptyRespons" +
+      "e\"\007\215\265\030#\000\000\000\022o\n\026xtreemfs_repair_object\022-.x" +
+      "treemfs.pbrpc.xtreemfs_repair_objectRequ" +
+      "est\032\035.xtreemfs.pbrpc.emptyResponse\"\007\215\265\030$" +
+      "\000\000\000\022d\n\022xtreemfs_rwr_fetch\022).xtreemfs.pbr" +
+      "pc.xtreemfs_rwr_fetchRequest\032\032.xtreemfs." +
+      "pbrpc.ObjectData\"\007\215\265\030I\000\000\000\022u\n\027xtreemfs_rw" +
+      "r_flease_msg\022..xtreemfs.pbrpc.xtreemfs_r" +
+      "wr_flease_msgRequest\032\035.xtreemfs.pbrpc.em",
+      "ptyResponse\"\013\215\265\030G\000\000\000\240\265\030\001\022^\n\023xtreemfs_rwr" +
+      "_notify\022\037.xtreemfs.pbrpc.FileCredentials" +
+      "\032\035.xtreemfs.pbrpc.emptyResponse\"\007\215\265\030K\000\000\000" +
+      "\022|\n\036xtreemfs_rwr_set_primary_epoch\0225.xtr" +
+      "eemfs.pbrpc.xtreemfs_rwr_set_primary_epo" +
+      "chRequest\032\032.xtreemfs.pbrpc.ObjectData\"\007\215" +
+      "\265\030N\000\000\000\022i\n\023xtreemfs_rwr_status\022*.xtreemfs" +
+      ".pbrpc.xtreemfs_rwr_statusRequest\032\035.xtre" +
+      "emfs.pbrpc.ReplicaStatus\"\007\215\265\030L\000\000\000\022m\n\025xtr" +
+      "eemfs_rwr_truncate\022,.xtreemfs.pbrpc.xtre",
+      "emfs_rwr_truncateRequest\032\035.xtreemfs.pbrp" +
+      "c.emptyResponse\"\007\215\265\030J\000\000\000\022m\n\023xtreemfs_rwr" +
+      "_update\022*.xtreemfs.pbrpc.xtreemfs_rwr_up" +
+      "dateRequest\032\035.xtreemfs.pbrpc.emptyRespon" +
+      "se\"\013\215\265\030H\000\000\000\240\265\030\001\022q\n\027xtreemfs_rwr_auth_sta" +
+      "te\022..xtreemfs.pbrpc.xtreemfs_rwr_auth_st" +
+      "ateRequest\032\035.xtreemfs.pbrpc.emptyRespons" +
+      "e\"\007\215\265\030O\000\000\000\022y\n\033xtreemfs_rwr_reset_complet" +
+      "e\0222.xtreemfs.pbrpc.xtreemfs_rwr_reset_co" +
+      "mpleteRequest\032\035.xtreemfs.pbrpc.emptyResp",
+      "onse\"\007\215\265\030P\000\000\000\022v\n\032xtreemfs_internal_get_g" +
+      "max\0221.xtreemfs.pbrpc.xtreemfs_internal_g" +
+      "et_gmaxRequest\032\034.xtreemfs.pbrpc.Internal" +
+      "Gmax\"\007\215\265\030(\000\000\000\022h\n\032xtreemfs_internal_trunc" +
+      "ate\022\037.xtreemfs.pbrpc.truncateRequest\032 .x" +
+      "treemfs.pbrpc.OSDWriteResponse\"\007\215\265\030)\000\000\000\022" +
+      "\233\001\n\037xtreemfs_internal_get_file_size\0226.xt" +
+      "reemfs.pbrpc.xtreemfs_internal_get_file_" +
+      "sizeRequest\0327.xtreemfs.pbrpc.xtreemfs_in" +
+      "ternal_get_file_sizeResponse\"\007\215\265\030*\000\000\000\022\207\001",
+      "\n\034xtreemfs_internal_read_local\0223.xtreemf" +
+      "s.pbrpc.xtreemfs_internal_read_localRequ" +
+      "est\032).xtreemfs.pbrpc.InternalReadLocalRe" +
+      "sponse\"\007\215\265\030+\000\000\000\022\200\001\n xtreemfs_internal_ge" +
+      "t_object_set\0227.xtreemfs.pbrpc.xtreemfs_i" +
+      "nternal_get_object_setRequest\032\032.xtreemfs" +
+      ".pbrpc.ObjectList\"\007\215\265\030,\000\000\000\022\205\001\n!xtreemfs_" +
+      "internal_get_fileid_list\022\034.xtreemfs.pbrp" +
+      "c.emptyRequest\0329.xtreemfs.pbrpc.xtreemfs" +
+      "_internal_get_fileid_listResponse\"\007\215\265\030-\000",
+      "\000\000\022S\n\025xtreemfs_lock_acquire\022\033.xtreemfs.p" +
+      "brpc.lockRequest\032\024.xtreemfs.pbrpc.Lock\"\007" +
+      "\215\265\0302\000\000\000\022Q\n\023xtreemfs_lock_check\022\033.xtreemf" +
+      "s.pbrpc.lockRequest\032\024.xtreemfs.pbrpc.Loc" +
+      "k\"\007\215\265\0303\000\000\000\022\\\n\025xtreemfs_lock_release\022\033.xt" +
+      "reemfs.pbrpc.lockRequest\032\035.xtreemfs.pbrp" +
+      "c.emptyResponse\"\007\215\265\0304\000\000\000\022f\n\rxtreemfs_pin" +
+      "g\022%.xtreemfs.pbrpc.xtreemfs_pingMesssage" +
+      "\032%.xtreemfs.pbrpc.xtreemfs_pingMesssage\"" +
+      "\007\215\265\030<\000\000\000\022Y\n\021xtreemfs_shutdown\022\034.xtreemfs",
+      ".pbrpc.emptyRequest\032\035.xtreemfs.pbrpc.emp" +
+      "tyResponse\"\007\215\265\030F\000\000\000\022\222\001\n\034xtreemfs_xloc_se" +
+      "t_invalidate\0223.xtreemfs.pbrpc.xtreemfs_x" +
+      "loc_set_invalidateRequest\0324.xtreemfs.pbr" +
+      "pc.xtreemfs_xloc_set_invalidateResponse\"" +
+      "\007\215\265\030Q\000\000\000\022}\n#xtreemfs_rwr_auth_state_inva" +
+      "lidated\022..xtreemfs.pbrpc.xtreemfs_rwr_au" +
+      "th_stateRequest\032\035.xtreemfs.pbrpc.emptyRe" +
+      "sponse\"\007\215\265\030R\000\000\000\032\007\225\265\0301u\000\000B(\n&org.xtreemfs" +
+      ".pbrpc.generatedinterfaces"
     };
     com.google.protobuf.Descriptors.FileDescriptor.InternalDescriptorAssigner assigner =
       new com.google.protobuf.Descriptors.FileDescriptor.InternalDescriptorAssigner() {
@@ -33181,7 +33664,7 @@ public final class OSD {
           internal_static_xtreemfs_pbrpc_ObjectList_fieldAccessorTable = new
             com.google.protobuf.GeneratedMessage.FieldAccessorTable(
               internal_static_xtreemfs_pbrpc_ObjectList_descriptor,
-              new java.lang.String[] { "Set", "StripeWidth", "First", });
+              new java.lang.String[] { "Set", "StripeWidth", "First", "Format", });
           internal_static_xtreemfs_pbrpc_ObjectVersion_descriptor =
             getDescriptor().getMessageTypes().get(4);
           internal_static_xtreemfs_pbrpc_ObjectVersion_fieldAccessorTable = new
@@ -33355,13 +33838,13 @@ public final class OSD {
           internal_static_xtreemfs_pbrpc_xtreemfs_internal_read_localRequest_fieldAccessorTable = new
             com.google.protobuf.GeneratedMessage.FieldAccessorTable(
               internal_static_xtreemfs_pbrpc_xtreemfs_internal_read_localRequest_descriptor,
-              new java.lang.String[] { "FileCredentials", "FileId", "ObjectNumber", "ObjectVersion", "Offset", "Length", "AttachObjectList", "RequiredObjects", });
+              new java.lang.String[] { "FileCredentials", "FileId", "ObjectNumber", "ObjectVersion", "Offset", "Length", "AttachObjectList", "RequiredObjects", "ObjectSetFormat", });
           internal_static_xtreemfs_pbrpc_xtreemfs_internal_get_object_setRequest_descriptor =
             getDescriptor().getMessageTypes().get(33);
           internal_static_xtreemfs_pbrpc_xtreemfs_internal_get_object_setRequest_fieldAccessorTable = new
             com.google.protobuf.GeneratedMessage.FieldAccessorTable(
               internal_static_xtreemfs_pbrpc_xtreemfs_internal_get_object_setRequest_descriptor,
-              new java.lang.String[] { "FileCredentials", "FileId", });
+              new java.lang.String[] { "FileCredentials", "FileId", "ObjectSetFormat", });
           internal_static_xtreemfs_pbrpc_xtreemfs_internal_get_fileid_listResponse_descriptor =
             getDescriptor().getMessageTypes().get(34);
           internal_static_xtreemfs_pbrpc_xtreemfs_internal_get_fileid_listResponse_fieldAccessorTable = new
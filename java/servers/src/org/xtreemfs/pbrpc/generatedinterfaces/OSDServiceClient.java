@@ -1,5 +1,5 @@
-//automatically generated from OSD.proto at Thu Dec 11 16:09:37 CET 2014
-//(c) 2014. See LICENSE file for details.
+//automatically generated from OSD.proto at Mon Oct 19 05:58:22 UTC 2026
+//(c) 2026. See LICENSE file for details.
 
 package org.xtreemfs.pbrpc.generatedinterfaces;
 
@@ -357,8 +357,8 @@ public class OSDServiceClient {
          return response;
     }
 
-    public RPCResponse<OSD.InternalReadLocalResponse> xtreemfs_internal_read_local(InetSocketAddress server, Auth authHeader, UserCredentials userCreds, GlobalTypes.FileCredentials file_credentials, String file_id, long object_number, long object_version, int offset, int length, boolean attach_object_list, List<OSD.ObjectList> required_objects) throws IOException {
-         final OSD.xtreemfs_internal_read_localRequest msg = OSD.xtreemfs_internal_read_localRequest.newBuilder().setFileCredentials(file_credentials).setFileId(file_id).setObjectNumber(object_number).setObjectVersion(object_version).setOffset(offset).setLength(length).setAttachObjectList(attach_object_list).addAllRequiredObjects(required_objects).build();
+    public RPCResponse<OSD.InternalReadLocalResponse> xtreemfs_internal_read_local(InetSocketAddress server, Auth authHeader, UserCredentials userCreds, GlobalTypes.FileCredentials file_credentials, String file_id, long object_number, long object_version, int offset, int length, boolean attach_object_list, List<OSD.ObjectList> required_objects, OSD.ObjectSetFormat object_set_format) throws IOException {
+         final OSD.xtreemfs_internal_read_localRequest msg = OSD.xtreemfs_internal_read_localRequest.newBuilder().setFileCredentials(file_credentials).setFileId(file_id).setObjectNumber(object_number).setObjectVersion(object_version).setOffset(offset).setLength(length).setAttachObjectList(attach_object_list).addAllRequiredObjects(required_objects).setObjectSetFormat(object_set_format).build();
          return xtreemfs_internal_read_local(server, authHeader, userCreds,msg);
     }
 
@@ -370,8 +370,8 @@ public class OSDServiceClient {
          return response;
     }
 
-    public RPCResponse<OSD.ObjectList> xtreemfs_internal_get_object_set(InetSocketAddress server, Auth authHeader, UserCredentials userCreds, GlobalTypes.FileCredentials file_credentials, String file_id) throws IOException {
-         final OSD.xtreemfs_internal_get_object_setRequest msg = OSD.xtreemfs_internal_get_object_setRequest.newBuilder().setFileCredentials(file_credentials).setFileId(file_id).build();
+    public RPCResponse<OSD.ObjectList> xtreemfs_internal_get_object_set(InetSocketAddress server, Auth authHeader, UserCredentials userCreds, GlobalTypes.FileCredentials file_credentials, String file_id, OSD.ObjectSetFormat object_set_format) throws IOException {
+         final OSD.xtreemfs_internal_get_object_setRequest msg = OSD.xtreemfs_internal_get_object_setRequest.newBuilder().setFileCredentials(file_credentials).setFileId(file_id).setObjectSetFormat(object_set_format).build();
          return xtreemfs_internal_get_object_set(server, authHeader, userCreds,msg);
     }
 
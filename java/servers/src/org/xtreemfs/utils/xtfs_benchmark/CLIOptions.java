@@ -46,6 +46,7 @@ class CLIOptions {
     private static final String              SEQ_READ;
     private static final String              RAND_WRITE;
     private static final String              RAND_READ;
+    private static final String              RAND_READ_ASYNC;
     private static final String              FILEBASED_WRITE;
     private static final String              FILEBASED_READ;
     private static final String              THREADS;
@@ -59,6 +60,7 @@ class CLIOptions {
     private static final String              SIZE_RAND;
     private static final String              SIZE_BASEFILE;
     private static final String              SIZE_FILES;
+    private static final String              ASYNC_REQUESTS;
     private static final String              NO_CLEANUP;
     private static final String              NO_CLEANUP_VOLUMES;
     private static final String              NO_CLEANUP_BASEFILE;
@@ -76,6 +78,7 @@ class CLIOptions {
         SEQ_UNALIGNED_WRITE = "usw";
         RAND_WRITE = "rw";
         RAND_READ = "rr";
+        RAND_READ_ASYNC = "rra";
         FILEBASED_WRITE = "fw";
         FILEBASED_READ = "fr";
         THREADS = "n";
@@ -89,6 +92,7 @@ class CLIOptions {
         SIZE_RAND = "rsize";
         SIZE_BASEFILE = "-basefile-size";
         SIZE_FILES = "-file-size";
+        ASYNC_REQUESTS = "-async-requests";
         NO_CLEANUP = "-no-cleanup";
         NO_CLEANUP_VOLUMES = "-no-cleanup-volumes";
         NO_CLEANUP_BASEFILE = "-no-cleanup-basefile";
@@ -110,6 +114,7 @@ class CLIOptions {
     BenchmarkConfig buildParamsFromCLIOptions() throws Exception {
         setBasefileSize();
         setFileSize();
+        setAsyncRequests();
         setDirAddresses();
         setOsdSelectionPolicies();
         setOsdSelectionByUuids();
@@ -156,6 +161,8 @@ class CLIOptions {
         options.put(SEQ_READ, new CLIParser.CliOption(SWITCH, "sequential read benchmark", ""));
         options.put(RAND_WRITE, new CLIParser.CliOption(SWITCH, "random write benchmark", ""));
         options.put(RAND_READ, new CLIParser.CliOption(SWITCH, "random read benchmark", ""));
+        options.put(RAND_READ_ASYNC, new CLIParser.CliOption(SWITCH,
+                "random read benchmark with asynchronous requests", ""));
         options.put(FILEBASED_WRITE, new CLIParser.CliOption(SWITCH, "random filebased write benchmark", ""));
         options.put(FILEBASED_READ, new CLIParser.CliOption(SWITCH, "random filebased read benchmark", ""));
 
@@ -172,6 +179,9 @@ class CLIOptions {
         options.put(STRIPE_SIZE, new CLIParser.CliOption(STRING,
                 "stripeSize in [B|K|M|G] (no modifier assumes bytes). default: 128K", "<stripeSize>"));
         options.put(STRIPE_WITDH, new CLIParser.CliOption(STRING, "stripe width. default: 1", "<stripe width>"));
+        options.put(ASYNC_REQUESTS, new CLIParser.CliOption(STRING,
+                "number of requests in flight per benchmark for benchmarks with asynchronous requests. default: 64",
+                "<number>"));
 
         /* sizes */
         options.put(SIZE_SEQ, new CLIParser.CliOption(STRING,
@@ -241,6 +251,12 @@ class CLIOptions {
         }
     }
 
+    private void setAsyncRequests() {
+        String optionValue = options.get(ASYNC_REQUESTS).stringValue;
+        if (null != optionValue)
+            builder.setAsyncRequests(Integer.parseInt(optionValue));
+    }
+
     /* if no DirAdress is given, use DirAddress from ConfigFile */
     private void setDirAddresses() {
         String dirAddresses = options.get(DIR_ADDRESSES).stringValue;
@@ -436,6 +452,10 @@ class CLIOptions {
         return options.get(RAND_READ).switchValue;
     }
 
+    boolean asyncRandomReadBenchmarkIsSet() {
+        return options.get(RAND_READ_ASYNC).switchValue;
+    }
+
     boolean randomWriteBenchmarkIsSet() {
         return options.get(RAND_WRITE).switchValue;
     }
@@ -108,6 +108,12 @@ public class xtfs_benchmark {
             results.addAll(result);
         }
 
+        if (cliOptions.asyncRandomReadBenchmarkIsSet()) {
+            result = controller.startAsyncRandomReadBenchmark(cliOptions.getRandomSize(),
+                    cliOptions.getNumberOfThreads());
+            results.addAll(result);
+        }
+
         if (cliOptions.randomFilebasedWriteBenchmarkIsSet()) {
             result = controller.startFilebasedWriteBenchmark(cliOptions.getRandomSize(), cliOptions.getNumberOfThreads());
             results.addAll(result);
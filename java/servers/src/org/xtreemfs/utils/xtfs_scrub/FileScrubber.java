@@ -1,10 +1,15 @@
 package org.xtreemfs.utils.xtfs_scrub;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
 import org.xtreemfs.common.ReplicaUpdatePolicies;
 import org.xtreemfs.common.libxtreemfs.AdminFileHandle;
@@ -28,7 +33,9 @@ public class FileScrubber implements Runnable {
 
     private final FileScrubbedListener listener;
 
-    private long                       nextObjectToScrub;
+    private final ExecutorService      objectCheckPool;
+
+    private final OSDThrottle          throttle;
 
     /** Size of the file on the OSD(s). */
     private long                       byteCounter;
@@ -41,9 +48,12 @@ public class FileScrubber implements Runnable {
 
     private boolean                    isReadOnly;
 
+    /** Objects can only be repaired from other replicas if the file is read-only replicated. */
+    private boolean                    isReadOnlyReplicated;
+
     public FileScrubber(String fileName, AdminVolume volume, FileScrubbedListener listener,
-            Set<String> removedOSDs, boolean repair, boolean delete) throws PosixErrorException,
-            AddressToUUIDNotFoundException, IOException {
+            Set<String> removedOSDs, boolean repair, boolean delete, ExecutorService objectCheckPool,
+            OSDThrottle throttle) throws PosixErrorException, AddressToUUIDNotFoundException, IOException {
 
         this.volume = volume;
         try {
@@ -57,21 +67,24 @@ public class FileScrubber implements Runnable {
         }
         this.fileName = fileName;
         this.listener = listener;
-        returnStatus = new TreeSet<ReturnStatus>();
+        // object checks of different OSDs report their results concurrently
+        returnStatus = Collections.synchronizedSet(new TreeSet<ReturnStatus>());
 
-        nextObjectToScrub = 0;
         byteCounter = 0;
         this.removedOSDs = removedOSDs;
         this.repair = repair;
         this.delete = delete;
+        this.objectCheckPool = objectCheckPool;
+        this.throttle = throttle;
     }
 
     public void run() {
         String replicaUpdatePolicy = fileHandle.getReplicaUpdatePolicy();
 
         // If file has only one replica, treat it as non replicated.
-        if (replicaUpdatePolicy.equals(ReplicaUpdatePolicies.REPL_UPDATE_PC_RONLY)
-                && fileHandle.getReplicasList().size() > 1) {
+        isReadOnlyReplicated = replicaUpdatePolicy.equals(ReplicaUpdatePolicies.REPL_UPDATE_PC_RONLY)
+                && fileHandle.getReplicasList().size() > 1;
+        if (isReadOnlyReplicated) {
             scrubReadOnlyReplicatedFile();
         } else {
             scrubRWOrNonReplicatedFile();
@@ -98,8 +111,9 @@ public class FileScrubber implements Runnable {
             returnStatus.add(ReturnStatus.UNREACHABLE);
         }
 
-        // Read all replicas.
+        // Check all replicas. The objects of all replicas are checked in parallel, see checkObjects().
         List<Replica> removedReplicas = new LinkedList<Replica>();
+        List<Future<?>> checks = new ArrayList<Future<?>>();
         for (int r = 0; r < replicas.size(); r++) {
             Replica replica = replicas.get(r);
             // check if an OSD was removed.
@@ -122,36 +136,11 @@ public class FileScrubber implements Runnable {
                     printFileErrorMessage("cannot mark replica# " + r + " of file " + fileName
                             + " as complete, because " + ex);
                 }
-                // check objects of the replica
-                for (long o = 0; o < numObjs; o++) {
-                    try {
-                        fileHandle.checkObjectAndGetSize(r, o);
-                    } catch (InvalidChecksumException ex) {
-                    	String errormsg = "";
-                        if (repair) {
-                            try {
-                                fileHandle.repairObject(r, o);
-                                errormsg = "object #" + o + " of replica " + r + " had an invalid checksum on OSD "
-                                        + getOSDUUIDFromObjectNo(replica, o) + " and was repaired";
-                                returnStatus.add(ReturnStatus.FAILURE_OBJECTS);
-                            } catch (IOException e) {
-                                errormsg = "object #" + o + " of replica " + r + " has an invalid checksum on OSD "
-                                        + getOSDUUIDFromObjectNo(replica, o) + " and is irreparable";
-                                returnStatus.add(ReturnStatus.FAILURE_OBJECTS);
-                            }
-                        } else {
-                            errormsg = "object #" + o + " of replica " + r + " has an invalid checksum on OSD "
-                                    + getOSDUUIDFromObjectNo(replica, o);
-                            returnStatus.add(ReturnStatus.FAILURE_OBJECTS);                            	
-                        }
-                        printFileErrorMessage(errormsg);
-                    } catch (IOException ex) {
-                        printFileErrorMessage("unable to check object #" + o + " of replica " + r + ": " + ex);
-                        returnStatus.add(ReturnStatus.UNREACHABLE);
-                    }
-                }
+                checkObjects(r, replica, numObjs, checks);
             }
         }
+        waitForChecks(checks);
+
         // handle removed replicas
         if (!removedReplicas.isEmpty()) {
             if (repair) {
@@ -174,6 +163,7 @@ public class FileScrubber implements Runnable {
 
         // Read all replicas.
         List<Replica> removedReplicas = new LinkedList<Replica>();
+        List<Integer> healthyReplicas = new ArrayList<Integer>();
         for (int r = 0; r < replicas.size(); r++) {
             Replica replica = replicas.get(r);
             // Check if an OSD was removed.
@@ -206,29 +196,33 @@ public class FileScrubber implements Runnable {
                 }
             }
             if (!isReplOnDeadOsd) {
-                // check objects of the replica
-                boolean eof = false;
-                nextObjectToScrub = 0;
-                while (!eof) {
-                    try {
-                        int objSize = fileHandle.checkObjectAndGetSize(r, nextObjectToScrub++);
-                        if (objSize < replica.getStripingPolicy().getStripeSize()) {
-                            eof = true;
-                        }
-                    } catch (InvalidChecksumException ex) {
-                        printFileErrorMessage("object #" + (nextObjectToScrub - 1) + " of replica " + r
-                                + " has an invalid checksum on OSD " + replica.getOsdUuids((int) ((nextObjectToScrub - 1) % replica.getOsdUuidsCount())));
-                        returnStatus.add(ReturnStatus.FAILURE_OBJECTS);
-                        break;
-                    } catch (IOException ex) {
-                        printFileErrorMessage("unable to check object #" + (nextObjectToScrub - 1)
-                                + " of replica " + r + ": " + ex);
-                        returnStatus.add(ReturnStatus.UNREACHABLE);
-                        break;
-                    }
-                }
+                healthyReplicas.add(r);
             }
         }
+
+        // Check the objects of all replicas. In contrast to read-only replicas, the number of objects is
+        // derived from the size of the file on the OSDs.
+        long sizeOnOSD = -1;
+        if (!healthyReplicas.isEmpty()) {
+            try {
+                sizeOnOSD = fileHandle.getSizeOnOSD();
+            } catch (IOException ex) {
+                printFileErrorMessage("unable to get file size: " + ex);
+                returnStatus.add(ReturnStatus.UNREACHABLE);
+            }
+        }
+        if (sizeOnOSD >= 0) {
+            List<Future<?>> checks = new ArrayList<Future<?>>();
+            for (int r : healthyReplicas) {
+                Replica replica = replicas.get(r);
+                long stripeSize = replica.getStripingPolicy().getStripeSize() * 1024L;
+                // a file always has at least one (possibly empty) object
+                long numObjs = Math.max(1, (sizeOnOSD + stripeSize - 1) / stripeSize);
+                checkObjects(r, replica, numObjs, checks);
+            }
+            waitForChecks(checks);
+        }
+
         // Handle removed replicas.
         if (!removedReplicas.isEmpty()) {
             if (repair) {
@@ -268,6 +262,83 @@ public class FileScrubber implements Runnable {
         }
     }
 
+    /**
+     * Checks the objects 0..numObjs-1 of the given replica. One task is submitted per OSD of the replica,
+     * which checks the objects stored on this OSD in ascending order. Thus, the OSDs of all replicas are
+     * checked in parallel while the load on each single OSD is limited by the throttle.
+     */
+    private void checkObjects(final int replicaNo, final Replica replica, final long numObjs,
+            List<Future<?>> checks) {
+
+        final int width = replica.getStripingPolicy().getWidth();
+        for (int i = 0; i < width && i < numObjs; i++) {
+            final int osdIndex = i;
+            checks.add(objectCheckPool.submit(new Runnable() {
+                public void run() {
+                    final String osdUuid = replica.getOsdUuids(osdIndex);
+                    for (long o = osdIndex; o < numObjs; o += width) {
+                        try {
+                            throttle.acquire(osdUuid);
+                        } catch (InterruptedException ex) {
+                            returnStatus.add(ReturnStatus.UNREACHABLE);
+                            return;
+                        }
+                        if (!checkObject(replicaNo, replica, o)) {
+                            // the OSD is not reachable, skip its remaining objects
+                            return;
+                        }
+                    }
+                }
+            }));
+        }
+    }
+
+    /**
+     * Checks a single object and repairs it if necessary. Returns <code>false</code> if the OSD holding the
+     * object could not be reached.
+     */
+    private boolean checkObject(int r, Replica replica, long o) {
+        try {
+            fileHandle.checkObjectAndGetSize(r, o);
+        } catch (InvalidChecksumException ex) {
+            String errormsg = "";
+            if (repair && isReadOnlyReplicated) {
+                try {
+                    fileHandle.repairObject(r, o);
+                    errormsg = "object #" + o + " of replica " + r + " had an invalid checksum on OSD "
+                            + getOSDUUIDFromObjectNo(replica, o) + " and was repaired";
+                } catch (IOException e) {
+                    errormsg = "object #" + o + " of replica " + r + " has an invalid checksum on OSD "
+                            + getOSDUUIDFromObjectNo(replica, o) + " and is irreparable";
+                }
+            } else {
+                errormsg = "object #" + o + " of replica " + r + " has an invalid checksum on OSD "
+                        + getOSDUUIDFromObjectNo(replica, o);
+            }
+            returnStatus.add(ReturnStatus.FAILURE_OBJECTS);
+            printFileErrorMessage(errormsg);
+        } catch (IOException ex) {
+            printFileErrorMessage("unable to check object #" + o + " of replica " + r + ": " + ex);
+            returnStatus.add(ReturnStatus.UNREACHABLE);
+            return false;
+        }
+        return true;
+    }
+
+    private void waitForChecks(List<Future<?>> checks) {
+        for (Future<?> check : checks) {
+            try {
+                check.get();
+            } catch (InterruptedException ex) {
+                returnStatus.add(ReturnStatus.UNREACHABLE);
+                return;
+            } catch (ExecutionException ex) {
+                printFileErrorMessage("object check failed: " + ex.getCause());
+                returnStatus.add(ReturnStatus.UNREACHABLE);
+            }
+        }
+    }
+
     private void printFileErrorMessage(String error) {
         System.err.format("file '%s' (%s):\n\t%s\n", fileName, fileHandle.getGlobalFileId(), error);
     }
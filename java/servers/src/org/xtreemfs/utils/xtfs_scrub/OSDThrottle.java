@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2015 by Zuse Institute Berlin
+ *
+ * Licensed under the BSD License, see LICENSE file for details.
+ *
+ */
+
+package org.xtreemfs.utils.xtfs_scrub;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Limits the number of object checks per second that are sent to a single OSD. Each OSD has its own token
+ * bucket, so that a slow or busy OSD does not throttle the checks on all other OSDs.
+ */
+public class OSDThrottle {
+
+    private final double            checksPerSecond;
+
+    private final Map<String, long[]> nextSlot;
+
+    /**
+     * @param checksPerSecond
+     *            max. number of object checks per second and OSD; 0 disables throttling
+     */
+    public OSDThrottle(int checksPerSecond) {
+        this.checksPerSecond = checksPerSecond;
+        this.nextSlot = new HashMap<String, long[]>();
+    }
+
+    /**
+     * Blocks until the next object check on the given OSD may be sent.
+     */
+    public void acquire(String osdUuid) throws InterruptedException {
+        if (checksPerSecond <= 0) {
+            return;
+        }
+
+        final long interval = (long) (1000000000L / checksPerSecond);
+        long waitUntil;
+        synchronized (nextSlot) {
+            long[] slot = nextSlot.get(osdUuid);
+            if (slot == null) {
+                slot = new long[] { System.nanoTime() };
+                nextSlot.put(osdUuid, slot);
+            }
+            final long now = System.nanoTime();
+            // do not accumulate more than one second of unused slots
+            if (slot[0] < now - 1000000000L) {
+                slot[0] = now - 1000000000L;
+            }
+            waitUntil = slot[0];
+            slot[0] += interval;
+        }
+
+        long waitNanos = waitUntil - System.nanoTime();
+        if (waitNanos > 0) {
+            Thread.sleep(waitNanos / 1000000L, (int) (waitNanos % 1000000L));
+        }
+    }
+
+}
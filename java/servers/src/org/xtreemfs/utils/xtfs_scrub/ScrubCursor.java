@@ -0,0 +1,172 @@
+/*
+ * Copyright (c) 2015 by Zuse Institute Berlin
+ *
+ * Licensed under the BSD License, see LICENSE file for details.
+ *
+ */
+
+package org.xtreemfs.utils.xtfs_scrub;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+
+/**
+ * Persists the position of a running scrub, so that an interrupted scrub can be resumed. The cursor is the
+ * path of the last file for which the file itself and all files preceding it in traversal order have been
+ * scrubbed.
+ * <p>
+ * Directories are traversed depth-first in the order in which the MRC returns their entries, which is the
+ * order of their keys in the MRC database. Hence, the traversal order of two paths corresponds to a
+ * component-wise comparison of their names in database order, see {@link #compare(String, String)}.
+ */
+public class ScrubCursor {
+
+    private static final String UTF8 = "UTF-8";
+
+    private final File          file;
+
+    private final String        volumeName;
+
+    private String              position;
+
+    private long                numFiles;
+
+    /**
+     * Creates a cursor that is stored in the given file. If the file contains a cursor for the same volume,
+     * its position is loaded.
+     */
+    public ScrubCursor(File file, String volumeName) throws IOException {
+        this.file = file;
+        this.volumeName = volumeName;
+
+        if (file.exists()) {
+            BufferedReader in = new BufferedReader(new InputStreamReader(new FileInputStream(file), UTF8));
+            try {
+                String vol = in.readLine();
+                String count = in.readLine();
+                String pos = in.readLine();
+                if (volumeName.equals(vol) && count != null && pos != null) {
+                    numFiles = Long.parseLong(count);
+                    position = pos;
+                }
+            } catch (NumberFormatException exc) {
+                throw new IOException("invalid scrub cursor file: " + file, exc);
+            } finally {
+                in.close();
+            }
+        }
+    }
+
+    /**
+     * Returns the path of the last file that was scrubbed, or <code>null</code> if the scrub starts from the
+     * beginning.
+     */
+    public String getPosition() {
+        return position;
+    }
+
+    /**
+     * Returns the number of files that were scrubbed up to the current position.
+     */
+    public long getNumFiles() {
+        return numFiles;
+    }
+
+    /**
+     * Checks whether the file with the given path was already scrubbed.
+     */
+    public boolean isScrubbed(String path) {
+        return position != null && compare(path, position) <= 0;
+    }
+
+    /**
+     * Checks whether the directory with the given path (ending with a '/') is entirely scrubbed, i.e. it
+     * precedes the current position and does not contain it.
+     */
+    public boolean isScrubbedDir(String dirPath) {
+        return position != null && !position.startsWith(dirPath) && compare(dirPath, position) < 0;
+    }
+
+    /**
+     * Moves the cursor to the given file and writes it to disk. The file is replaced atomically, so that a
+     * crash never leaves a partial cursor behind.
+     */
+    public synchronized void store(String path, long numFiles) throws IOException {
+        this.position = path;
+        this.numFiles = numFiles;
+
+        File tmp = new File(file.getPath() + ".tmp");
+        Writer out = new OutputStreamWriter(new FileOutputStream(tmp), UTF8);
+        try {
+            out.write(volumeName + "\n" + numFiles + "\n" + path + "\n");
+        } finally {
+            out.close();
+        }
+        if (!tmp.renameTo(file)) {
+            throw new IOException("cannot replace scrub cursor file " + file);
+        }
+    }
+
+    /**
+     * Removes the cursor file after a scrub has completed.
+     */
+    public synchronized void delete() {
+        position = null;
+        numFiles = 0;
+        file.delete();
+    }
+
+    /**
+     * Compares two absolute paths in scrub traversal order. Paths are compared component by component; the
+     * names are compared in the order of the MRC's file index, see {@link #compareNames(String, String)}.
+     */
+    public static int compare(String path1, String path2) {
+        String[] c1 = path1.split("/");
+        String[] c2 = path2.split("/");
+        for (int i = 0; i < Math.min(c1.length, c2.length); i++) {
+            int cmp = compareNames(c1[i], c2[i]);
+            if (cmp != 0) {
+                return cmp;
+            }
+        }
+        return c1.length - c2.length;
+    }
+
+    /**
+     * Compares two entry names in the order in which the MRC lists them. The MRC stores an entry under a key
+     * consisting of the UTF-8 bytes of its name followed by a type byte (0 or 1), and BabuDB compares keys
+     * as signed bytes. Hence, names are compared as signed bytes, and a name precedes a longer name that
+     * starts with it only if the next byte of the longer name is not negative, i.e. not part of a non-ASCII
+     * character.
+     */
+    private static int compareNames(String s1, String s2) {
+        try {
+            byte[] b1 = s1.getBytes(UTF8);
+            byte[] b2 = s2.getBytes(UTF8);
+            int len = Math.min(b1.length, b2.length);
+            for (int i = 0; i < len; i++) {
+                int cmp = b1[i] - b2[i];
+                if (cmp != 0) {
+                    return cmp;
+                }
+            }
+            if (b1.length == b2.length) {
+                return 0;
+            } else if (b1.length < b2.length) {
+                return b2[len] < 0 ? 1 : -1;
+            } else {
+                return b1[len] < 0 ? -1 : 1;
+            }
+        } catch (IOException exc) {
+            // UTF-8 is always supported
+            throw new RuntimeException(exc);
+        }
+    }
+
+}
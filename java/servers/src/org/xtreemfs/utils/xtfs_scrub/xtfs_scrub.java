@@ -8,15 +8,17 @@
 
 package org.xtreemfs.utils.xtfs_scrub;
 
+import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.EmptyStackException;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.Stack;
+import java.util.TreeMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
@@ -24,6 +26,7 @@ import java.util.concurrent.TimeUnit;
 import org.xtreemfs.common.libxtreemfs.AdminClient;
 import org.xtreemfs.common.libxtreemfs.AdminVolume;
 import org.xtreemfs.common.libxtreemfs.ClientFactory;
+import org.xtreemfs.common.libxtreemfs.DirectoryEntriesIterator;
 import org.xtreemfs.common.libxtreemfs.Options;
 import org.xtreemfs.common.libxtreemfs.exceptions.PosixErrorException;
 import org.xtreemfs.foundation.SSLOptions;
@@ -67,17 +70,45 @@ public class xtfs_scrub {
 
     private static final int            DEFAULT_NUM_THREADS = 10;
 
+    /** Number of concurrent object checks per file scrub thread. */
+    private static final int            OBJECT_CHECKS_PER_THREAD = 4;
+
+    /** Number of directory entries fetched from the MRC at once. */
+    private static final int            READDIR_PAGE_SIZE   = 1024;
+
+    /** Number of scrubbed files after which the cursor is written to disk. */
+    private static final int            CURSOR_SYNC_INTERVAL = 100;
+
     private AdminVolume                 volume;
 
     private final boolean               repair, delete, silent;
 
     private final ExecutorService       tPool;
 
+    private final ExecutorService       objectCheckPool;
+
+    private final OSDThrottle           throttle;
+
+    private final ScrubCursor           cursor;
+
     private long                        lastBytesScrubbed;
 
-    private final Stack<String>         directories;
+    /** Directories currently being listed, the innermost directory is on top of the stack. */
+    private final Stack<DirectoryListing> directories;
+
+    /** Sequence numbers (in traversal order) of the files currently being scrubbed. */
+    private final Map<String, Long>     inFlightFiles;
 
-    private final Stack<String>         files;
+    /** Scrubbed files that cannot be retired yet because a predecessor is still in flight. */
+    private final TreeMap<Long, String> completedFiles;
+
+    private long                        nextFileSeqNo;
+
+    private long                        nextFileSeqNoToRetire;
+
+    private long                        numFilesRetired;
+
+    private long                        numFilesRetiredAtLastSync;
 
     private final Object                completeLock;
 
@@ -91,22 +122,54 @@ public class xtfs_scrub {
 
     private boolean                     isLatestScrubAttrSettable;
 
-    private String                      currentDirName      = null;
+    /** set if a directory could not be listed; the scrub is then aborted and resumed from the cursor */
+    private boolean                     isAborted;
+
+    /** the last file that was retired, i.e. up to which the cursor may be advanced */
+    private String                      lastFileRetired;
 
     private int                         numFiles, numReplicaFailure, numObjectFailure, numFileOk,
             numUnreachable, numWrongFS, numDead;
 
     private final Set<String>           removedOSDs;
 
+    /**
+     * State of a directory that is listed page by page.
+     */
+    private static final class DirectoryListing {
+
+        final String             path;
+
+        DirectoryEntriesIterator pages;
+
+        DirectoryEntries         page;
+
+        int                      index;
+
+        DirectoryListing(String path) {
+            this.path = path;
+        }
+    }
+
     public xtfs_scrub(AdminClient client, AdminVolume volume, int numThrs, boolean repair, boolean delete,
             boolean silent) throws IOException {
+        this(client, volume, numThrs, repair, delete, silent, 0, null);
+    }
+
+    public xtfs_scrub(AdminClient client, AdminVolume volume, int numThrs, boolean repair, boolean delete,
+            boolean silent, int osdChecksPerSecond, ScrubCursor cursor) throws IOException {
         this.repair = repair;
         this.delete = delete;
         this.silent = silent;
         this.numThrs = numThrs;
-        directories = new Stack<String>();
-        files = new Stack<String>();
+        this.cursor = cursor;
+        directories = new Stack<DirectoryListing>();
+        inFlightFiles = new HashMap<String, Long>();
+        completedFiles = new TreeMap<Long, String>();
+        numFilesRetired = cursor == null ? 0 : cursor.getNumFiles();
         tPool = Executors.newFixedThreadPool(numThrs);
+        objectCheckPool = Executors.newFixedThreadPool(numThrs * OBJECT_CHECKS_PER_THREAD);
+        throttle = new OSDThrottle(osdChecksPerSecond);
         numInFlight = 0;
         completeLock = new Object();
         hasFinished = false;
@@ -140,12 +203,17 @@ public class xtfs_scrub {
             }
         }
 
+        if (cursor != null && cursor.getPosition() != null) {
+            System.out.println("resuming scrub after '" + cursor.getPosition() + "' (" + cursor.getNumFiles()
+                    + " files already scrubbed)");
+        }
+
     }
 
     public int scrub() {
 
         System.out.println("");
-        directories.push("/");
+        directories.push(new DirectoryListing("/"));
         // create scrub xattr if not done yet
         try {
             volume.setXAttr(credentials, "/", latestScrubAttr, Long.toString(TimeSync.getLocalSystemTime()),
@@ -171,6 +239,7 @@ public class xtfs_scrub {
             tPool.awaitTermination(1, TimeUnit.HOURS);
         } catch (InterruptedException e) {
         }
+        objectCheckPool.shutdown();
 
         if (!silent)
             System.out.format("scrubbed %-42s      %15s - total %15s\n\u001b[100D\u001b[A", "all files", "",
@@ -191,49 +260,160 @@ public class xtfs_scrub {
     }
 
     private void fillQueue() {
-        try {
-            synchronized (directories) {
-                while (numInFlight < numThrs) {
-                    try {
-                        String fileName = files.pop();
-                        try {
-
-                            FileScrubbedListener fsListener = new FileScrubbedListener() {
-                                public void fileScrubbed(String fileName, long bytesScrubbed,
-                                        Collection<ReturnStatus> rstatus) {
-                                    xtfs_scrub.this.fileScrubbed(fileName, bytesScrubbed, rstatus);
-                                }
-                            };
-
-                            FileScrubber fi = new FileScrubber(fileName, volume, fsListener, removedOSDs,
-                                    repair, delete);
-                            tPool.submit(fi);
-                            numInFlight++;
-                        } catch (IOException ex) {
-                            Logging.logError(Logging.LEVEL_WARN, this, ex);
+        synchronized (directories) {
+            while (numInFlight < numThrs) {
+                String fileName = nextFile();
+                if (fileName == null) {
+                    break;
+                }
+                try {
+
+                    FileScrubbedListener fsListener = new FileScrubbedListener() {
+                        public void fileScrubbed(String fileName, long bytesScrubbed,
+                                Collection<ReturnStatus> rstatus) {
+                            xtfs_scrub.this.fileScrubbed(fileName, bytesScrubbed, rstatus);
                         }
-                    } catch (EmptyStackException ex) {
-                        // fetch next dir
-                        fetchNextDir();
-                    }
+                    };
+
+                    FileScrubber fi = new FileScrubber(fileName, volume, fsListener, removedOSDs, repair,
+                            delete, objectCheckPool, throttle);
+                    tPool.submit(fi);
+                    inFlightFiles.put(fileName, nextFileSeqNo++);
+                    numInFlight++;
+                } catch (IOException ex) {
+                    Logging.logError(Logging.LEVEL_WARN, this, ex);
                 }
             }
-        } catch (EmptyStackException ex) {
-            // no more entries, finished!
-            if (isLatestScrubAttrSettable) {
+
+            if (numInFlight > 0 || !directories.isEmpty()) {
+                return;
+            }
+        }
+
+        if (isAborted) {
+            // keep the cursor, so that the next run resumes after the last scrubbed file
+            if (cursor != null && lastFileRetired != null && numFilesRetired > numFilesRetiredAtLastSync) {
                 try {
-                    // mark volume as scrubbed
-                    volume.setXAttr(credentials, "/", latestScrubAttr,
-                            Long.toString(TimeSync.getLocalSystemTime()), XATTR_FLAGS.XATTR_FLAGS_REPLACE);
+                    cursor.store(lastFileRetired, numFilesRetired);
+                } catch (IOException ex) {
+                    System.out.println("\nWarning: cannot store scrub cursor: " + ex);
+                }
+            }
+            finish(1);
+            return;
+        }
+
+        // no more entries, finished!
+        if (isLatestScrubAttrSettable) {
+            try {
+                // mark volume as scrubbed
+                volume.setXAttr(credentials, "/", latestScrubAttr, Long.toString(TimeSync.getLocalSystemTime()),
+                        XATTR_FLAGS.XATTR_FLAGS_REPLACE);
+
+            } catch (IOException ex2) {
+                System.out.println("\nWarning: cannot mark volume as successfully scrubbed: " + ex2);
+            }
+        }
+        if (cursor != null) {
+            cursor.delete();
+        }
 
-                } catch (IOException ex2) {
-                    System.out.println("\nWarning: cannot mark volume as successfully scrubbed: " + ex2);
+        finish(0);
+    }
+
+    /**
+     * Returns the path of the next regular file in traversal order, or <code>null</code> if all directories
+     * have been listed. Directories are listed page by page and traversed depth-first, so that only one page
+     * per directory level is kept in memory. Files that precede the cursor are skipped.
+     */
+    private String nextFile() {
+        while (!directories.isEmpty()) {
+            DirectoryListing dir = directories.peek();
+
+            if (dir.page == null || dir.index >= dir.page.getEntriesCount()) {
+                if (!fetchNextPage(dir)) {
+                    if (isAborted) {
+                        return null;
+                    }
+                    directories.pop();
+                    continue;
+                }
+                if (dir.page.getEntriesCount() == 0) {
+                    directories.pop();
+                    continue;
                 }
             }
 
-            finish(0);
+            DirectoryEntry e = dir.page.getEntries(dir.index++);
+            if ((e.getStbuf().getMode() & SYSTEM_V_FCNTL.SYSTEM_V_FCNTL_H_S_IFREG.getNumber()) != 0) {
+                // regular file
+                String path = dir.path + e.getName();
+                if (cursor == null || !cursor.isScrubbed(path)) {
+                    return path;
+                }
+            } else if ((e.getStbuf().getMode() & SYSTEM_V_FCNTL.SYSTEM_V_FCNTL_H_S_IFDIR.getNumber()) != 0) {
+                if (!e.getName().equals(".") && !e.getName().equals("..")) {
+                    String path = dir.path + e.getName() + "/";
+                    if (cursor == null || !cursor.isScrubbedDir(path)) {
+                        directories.push(new DirectoryListing(path));
+                    }
+                }
+            }
+        }
+        return null;
+    }
+
+    private boolean fetchNextPage(DirectoryListing dir) {
+        try {
+            if (dir.pages == null) {
+                dir.pages = volume.readDirIterator(credentials, dir.path, READDIR_PAGE_SIZE, false);
+            }
+            if (!dir.pages.hasNext()) {
+                // last page, directory is complete
+                return false;
+            }
+
+            dir.page = dir.pages.next();
+            dir.index = 0;
+            return true;
+        } catch (IOException ex) {
+            System.err.println("cannot contact MRC... aborting");
+            System.err.println(ex);
+            isAborted = true;
+            directories.clear();
+            return false;
+        }
+    }
+
+    /**
+     * Advances the cursor to the last file that was scrubbed together with all of its predecessors in
+     * traversal order. Must be called while holding the lock on <code>directories</code>.
+     */
+    private void retireFile(String fileName) {
+        Long seqNo = inFlightFiles.remove(fileName);
+        if (seqNo == null) {
             return;
         }
+        completedFiles.put(seqNo, fileName);
+
+        String lastRetired = null;
+        while (!completedFiles.isEmpty() && completedFiles.firstKey() == nextFileSeqNoToRetire) {
+            lastRetired = completedFiles.remove(nextFileSeqNoToRetire++);
+            numFilesRetired++;
+        }
+        if (lastRetired != null) {
+            lastFileRetired = lastRetired;
+        }
+
+        if (cursor != null && lastRetired != null
+                && numFilesRetired - numFilesRetiredAtLastSync >= CURSOR_SYNC_INTERVAL) {
+            numFilesRetiredAtLastSync = numFilesRetired;
+            try {
+                cursor.store(lastRetired, numFilesRetired);
+            } catch (IOException ex) {
+                System.out.println("\nWarning: cannot store scrub cursor: " + ex);
+            }
+        }
     }
 
     private void finish(int returnCode) {
@@ -253,6 +433,9 @@ public class xtfs_scrub {
 
         // update statistics
 
+        synchronized (directories) {
+            retireFile(fileName);
+        }
         if (fileName.length() > 42) {
             fileName = "..." + fileName.substring(fileName.length() - 39, fileName.length());
         }
@@ -290,38 +473,6 @@ public class xtfs_scrub {
 
     }
 
-    private void fetchNextDir() {
-        currentDirName = directories.pop();
-
-        try {
-
-            DirectoryEntries ls = volume.readDir(credentials, currentDirName, 0, 0, false);
-
-            if (ls == null) {
-                Logging.logMessage(Logging.LEVEL_ERROR, this, "path %s does not exist!", currentDirName);
-                return;
-            }
-
-            for (int i = 0; i < ls.getEntriesCount(); i++) {
-                DirectoryEntry e = ls.getEntries(i);
-                if ((e.getStbuf().getMode() & SYSTEM_V_FCNTL.SYSTEM_V_FCNTL_H_S_IFREG.getNumber()) != 0) {
-                    // regular file
-                    files.push(currentDirName + e.getName());
-                } else if ((e.getStbuf().getMode() & SYSTEM_V_FCNTL.SYSTEM_V_FCNTL_H_S_IFDIR.getNumber()) != 0) {
-                    if (!e.getName().equals(".") && !e.getName().equals(".."))
-                        directories.push(currentDirName + e.getName() + "/");
-                }
-            }
-        } catch (IOException ex) {
-            System.err.println("cannot contact MRC... aborting");
-            System.err.println(ex);
-        } catch (Exception ex) {
-            ex.printStackTrace();
-            throw new EmptyStackException();
-        }
-
-    }
-
     public static void main(String[] args) {
 
         Logging.start(Logging.LEVEL_WARN);
@@ -345,6 +496,10 @@ public class xtfs_scrub {
         options.put("silent", new CliOption(CliOption.OPTIONTYPE.SWITCH, "don't show the progress bar", ""));
         options.put("thrs", new CliOption(CliOption.OPTIONTYPE.NUMBER,
                 "number of concurrent file scrub threads (default=" + DEFAULT_NUM_THREADS + ")", "n"));
+        options.put("osd_rate", new CliOption(CliOption.OPTIONTYPE.NUMBER,
+                "max. number of object checks per second and OSD (default=0, unlimited)", "n"));
+        options.put("cursor", new CliOption(CliOption.OPTIONTYPE.STRING,
+                "file in which the scrub position is stored; an interrupted scrub is resumed from it", "<file>"));
 
         CLIParser.parseCLI(args, options, arguments);
 
@@ -444,8 +599,23 @@ public class xtfs_scrub {
             numThreads = options.get("thrs").numValue.intValue();
         }
 
+        int osdChecksPerSecond = 0;
+        if (options.get("osd_rate").numValue != null) {
+            osdChecksPerSecond = options.get("osd_rate").numValue.intValue();
+        }
+
         final String volumeName = arguments.get(0);
 
+        ScrubCursor cursor = null;
+        if (options.get("cursor").stringValue != null) {
+            try {
+                cursor = new ScrubCursor(new File(options.get("cursor").stringValue), volumeName);
+            } catch (IOException e) {
+                System.err.println("unable to read scrub cursor, because: " + e.getMessage());
+                System.exit(1);
+            }
+        }
+
         Options userOptions = new Options();
 
         AdminClient c = ClientFactory.createAdminClient(dirAddrs, credentials, sslOptions, userOptions);
@@ -462,7 +632,8 @@ public class xtfs_scrub {
         int exitCode = 1;
         try {
 
-            xtfs_scrub scrubber = new xtfs_scrub(c, volume, numThreads, repair, delete, silent);
+            xtfs_scrub scrubber = new xtfs_scrub(c, volume, numThreads, repair, delete, silent,
+                    osdChecksPerSecond, cursor);
             exitCode = scrubber.scrub();
             if (exitCode == 0) {
                 System.out.println("\n\nsuccessfully scrubbed volume '" + volumeName + "'");
@@ -7,11 +7,20 @@
 package org.xtreemfs.common.libxtreemfs;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
 import java.io.File;
 import java.io.FileFilter;
 import java.io.FileWriter;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.junit.After;
 import org.junit.Before;
@@ -26,6 +35,7 @@ import org.xtreemfs.foundation.logging.Logging;
 import org.xtreemfs.foundation.pbrpc.client.RPCAuthentication;
 import org.xtreemfs.foundation.pbrpc.client.RPCResponse;
 import org.xtreemfs.foundation.pbrpc.generatedinterfaces.RPC.Auth;
+import org.xtreemfs.foundation.pbrpc.generatedinterfaces.RPC.POSIXErrno;
 import org.xtreemfs.foundation.pbrpc.generatedinterfaces.RPC.UserCredentials;
 import org.xtreemfs.foundation.util.FSUtils;
 import org.xtreemfs.osd.storage.HashStorageLayout;
@@ -36,7 +46,10 @@ import org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.SYSTEM_V_FCNTL;
 import org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.StripingPolicy;
 import org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.StripingPolicyType;
 import org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCap;
+import org.xtreemfs.pbrpc.generatedinterfaces.MRC.DirectoryEntries;
 import org.xtreemfs.pbrpc.generatedinterfaces.MRC.Stat;
+import org.xtreemfs.pbrpc.generatedinterfaces.MRC.XATTR_FLAGS;
+import org.xtreemfs.pbrpc.generatedinterfaces.MRC.XAttr;
 import org.xtreemfs.pbrpc.generatedinterfaces.MRC.getattrResponse;
 import org.xtreemfs.pbrpc.generatedinterfaces.MRCServiceClient;
 import org.xtreemfs.pbrpc.generatedinterfaces.OSD.Lock;
@@ -290,6 +303,35 @@ public class FileHandleTest {
         assertEquals(oldXCap.getTruncateEpoch(), renewedXCap.getTruncateEpoch());
     }
 
+    @Test
+    public void testBatchedXcapRenewal() throws Exception {
+        String volumeName = "testBatchedXcapRenewal";
+        int flags = SYSTEM_V_FCNTL.SYSTEM_V_FCNTL_H_O_CREAT.getNumber()
+                | SYSTEM_V_FCNTL.SYSTEM_V_FCNTL_H_O_RDWR.getNumber();
+        Client client = ClientFactory.createClient(dirAddress, userCredentials, null, options);
+        client.start();
+        client.createVolume(mrcAddress, auth, userCredentials, volumeName);
+        VolumeImplementation volume = (VolumeImplementation) client.openVolume(volumeName, null, options);
+
+        List<FileHandleImplementation> fileHandles = new ArrayList<FileHandleImplementation>();
+        List<XCap> oldXCaps = new ArrayList<XCap>();
+        for (int i = 0; i < 3; i++) {
+            FileHandleImplementation fileHandle = (FileHandleImplementation) volume.openFile(userCredentials,
+                    "testfile" + i, flags, 0777);
+            fileHandles.add(fileHandle);
+            oldXCaps.add(fileHandle.getXcap());
+        }
+
+        Thread.sleep(2000);
+        volume.renewXCapsAsync(fileHandles);
+        for (int i = 0; i < fileHandles.size(); i++) {
+            fileHandles.get(i).waitForAsyncXcapRenewalFinished();
+            XCap renewedXCap = fileHandles.get(i).getXcap();
+            assertEquals(oldXCaps.get(i).getFileId(), renewedXCap.getFileId());
+            assertTrue(oldXCaps.get(i).getExpireTimeS() < renewedXCap.getExpireTimeS());
+        }
+    }
+
     @Test(expected = PosixErrorException.class)
     public void testTruncateWithAsyncWritesFailed() throws Exception {
         String volumeName = "testTruncateWithAsyncWritesFailed";
@@ -415,6 +457,36 @@ public class FileHandleTest {
         r.freeBuffers();
     }
 
+    @Test
+    public void testWriteBackFileSizesAsync() throws Exception {
+        String volumeName = "testWriteBackFileSizesAsync";
+        int flags = SYSTEM_V_FCNTL.SYSTEM_V_FCNTL_H_O_CREAT.getNumber()
+                | SYSTEM_V_FCNTL.SYSTEM_V_FCNTL_H_O_RDWR.getNumber();
+        Client client = ClientFactory.createClient(dirAddress, userCredentials, null, options);
+        client.start();
+        client.createVolume(mrcAddress, auth, userCredentials, volumeName);
+        VolumeImplementation volume = (VolumeImplementation) client.openVolume(volumeName, null, options);
+
+        List<FileHandleImplementation> fileHandles = new ArrayList<FileHandleImplementation>();
+        for (int i = 0; i < 3; i++) {
+            FileHandleImplementation fileHandle = (FileHandleImplementation) volume.openFile(userCredentials,
+                    "testfile" + i, flags, 0777);
+            fileHandle.setOsdWriteResponseForAsyncWriteBack(OSDWriteResponse.newBuilder().setSizeInBytes(1000 + i)
+                    .setTruncateEpoch(0).build());
+            fileHandles.add(fileHandle);
+        }
+        volume.writeBackFileSizesAsync(fileHandles);
+
+        Thread.sleep(2000);
+
+        for (int i = 0; i < fileHandles.size(); i++) {
+            RPCResponse<getattrResponse> r = mrcClient.getattr(testEnv.getMRCAddress(), auth, userCredentials,
+                    volumeName, "testfile" + i, 0l);
+            assertEquals(1000 + i, r.get().getStbuf().getSize());
+            r.freeBuffers();
+        }
+    }
+
     @Test
     public void testWriteWithMoreThanOneBlock() throws Exception {
         final String volumeName = "testWriteWithMoreThanOneBlock";
@@ -843,4 +915,117 @@ public class FileHandleTest {
         volume.close();
         client.deleteVolume(auth, userCredentials, volumeName);
     }
+
+    @Test
+    public void testAsyncOperations() throws Exception {
+        String volumeName = "testAsyncOperations";
+        String fileName = "/testfile";
+        client.createVolume(mrcAddress, auth, userCredentials, volumeName);
+        Volume volume = client.openVolume(volumeName, null, options);
+
+        // Disable the asynchronous write handler so that the objects are written by writeAsync() itself.
+        int flags = SYSTEM_V_FCNTL.SYSTEM_V_FCNTL_H_O_CREAT.getNumber()
+                | SYSTEM_V_FCNTL.SYSTEM_V_FCNTL_H_O_RDWR.getNumber()
+                | SYSTEM_V_FCNTL.SYSTEM_V_FCNTL_H_O_SYNC.getNumber();
+        FileHandle fileHandle = volume.openFileAsync(userCredentials, fileName, flags, 0777).waitForResult();
+
+        // Write and read multiple objects.
+        byte[] data = new byte[300 * 1024];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = (byte) i;
+        }
+        assertEquals(data.length, (int) fileHandle.writeAsync(userCredentials, data, 0, data.length, 0).get());
+
+        byte[] readData = new byte[data.length + 512];
+        assertEquals(data.length, (int) fileHandle.readAsync(userCredentials, readData, 512, data.length, 0)
+                .waitForResult());
+        assertTrue(Arrays.equals(data, Arrays.copyOfRange(readData, 512, readData.length)));
+
+        // The file size of the open file is merged into the attributes.
+        final AtomicReference<Stat> stat = new AtomicReference<Stat>();
+        final CountDownLatch statReceived = new CountDownLatch(1);
+        volume.getAttrAsync(userCredentials, fileName).addListener(new AsyncResultListener<Stat>() {
+            @Override
+            public void succeeded(Stat result) {
+                stat.set(result);
+                statReceived.countDown();
+            }
+
+            @Override
+            public void failed(IOException error) {
+                statReceived.countDown();
+            }
+        });
+        assertTrue(statReceived.await(30, TimeUnit.SECONDS));
+        assertEquals(data.length, stat.get().getSize());
+
+        try {
+            volume.getAttrAsync(userCredentials, "/nonexistent").waitForResult();
+            fail("getattr of a nonexistent file succeeded");
+        } catch (PosixErrorException e) {
+            assertEquals(POSIXErrno.POSIX_ERROR_ENOENT, e.getPosixError());
+        }
+
+        // Extended attributes.
+        volume.setXAttrAsync(userCredentials, fileName, "user.foo", "bar", XATTR_FLAGS.XATTR_FLAGS_CREATE)
+                .waitForResult();
+        assertEquals("bar", volume.getXAttrAsync(userCredentials, fileName, "user.foo").waitForResult());
+        boolean found = false;
+        for (XAttr xattr : volume.listXAttrsAsync(userCredentials, fileName, false).waitForResult()
+                .getXattrsList()) {
+            found |= xattr.getName().equals("user.foo");
+        }
+        assertTrue(found);
+        volume.removeXAttrAsync(userCredentials, fileName, "user.foo").waitForResult();
+        assertNull(volume.getXAttrAsync(userCredentials, fileName, "user.foo").waitForResult());
+
+        // The directory contains ".", ".." and the file.
+        DirectoryEntries entries = volume.readDirAsync(userCredentials, "/", 0, 0, false).waitForResult();
+        assertEquals(3, entries.getEntriesCount());
+
+        // O_TRUNC is not supported.
+        try {
+            volume.openFileAsync(userCredentials, fileName, SYSTEM_V_FCNTL.SYSTEM_V_FCNTL_H_O_TRUNC.getNumber(),
+                    0777).waitForResult();
+            fail("asynchronous open with O_TRUNC succeeded");
+        } catch (PosixErrorException e) {
+            assertEquals(POSIXErrno.POSIX_ERROR_EINVAL, e.getPosixError());
+        }
+
+        fileHandle.close();
+        volume.close();
+        client.deleteVolume(auth, userCredentials, volumeName);
+    }
+
+    @Test
+    public void testReadAsyncAfterAsyncWrites() throws Exception {
+        String volumeName = "testReadAsyncAfterAsyncWrites";
+        String fileName = "/testfile";
+        client.createVolume(mrcAddress, auth, userCredentials, volumeName);
+
+        Options asyncWriteOptions = new Options();
+        asyncWriteOptions.setMaxWriteAhead(1024 * 1024);
+        Volume volume = client.openVolume(volumeName, null, asyncWriteOptions);
+
+        int flags = SYSTEM_V_FCNTL.SYSTEM_V_FCNTL_H_O_CREAT.getNumber()
+                | SYSTEM_V_FCNTL.SYSTEM_V_FCNTL_H_O_RDWR.getNumber();
+        FileHandle fileHandle = volume.openFile(userCredentials, fileName, flags, 0777);
+
+        // The read is chained to the pending asynchronous writes, and returns the written data.
+        byte[] data = new byte[256 * 1024];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = (byte) (i % 251);
+        }
+        for (int offset = 0; offset < data.length; offset += 64 * 1024) {
+            fileHandle.write(userCredentials, data, offset, 64 * 1024, offset);
+        }
+        byte[] readData = new byte[data.length];
+        AsyncResult<Integer> read = fileHandle.readAsync(userCredentials, readData, 0, data.length, 0);
+        assertEquals(data.length, (int) read.get(30, TimeUnit.SECONDS));
+        assertTrue(Arrays.equals(data, readData));
+
+        fileHandle.close();
+        volume.close();
+        client.deleteVolume(auth, userCredentials, volumeName);
+    }
 }
@@ -11,6 +11,11 @@ import static org.junit.Assert.assertEquals;
 import java.io.IOException;
 import java.net.InetSocketAddress;
 import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.AfterClass;
 import org.junit.BeforeClass;
@@ -19,15 +24,20 @@ import org.junit.Test;
 import org.junit.rules.TestRule;
 import org.xtreemfs.common.ReplicaUpdatePolicies;
 import org.xtreemfs.common.libxtreemfs.RPCCaller.CallGenerator;
+import org.xtreemfs.common.libxtreemfs.exceptions.AddressToUUIDNotFoundException;
 import org.xtreemfs.dir.DIRConfig;
 import org.xtreemfs.dir.DIRRequestDispatcher;
 import org.xtreemfs.foundation.buffer.ReusableBuffer;
 import org.xtreemfs.foundation.json.JSONParser;
 import org.xtreemfs.foundation.json.JSONString;
 import org.xtreemfs.foundation.logging.Logging;
+import org.xtreemfs.foundation.pbrpc.client.PBRPCException;
 import org.xtreemfs.foundation.pbrpc.client.RPCAuthentication;
 import org.xtreemfs.foundation.pbrpc.client.RPCResponse;
+import org.xtreemfs.foundation.pbrpc.client.RPCResponseAvailableListener;
 import org.xtreemfs.foundation.pbrpc.generatedinterfaces.RPC.Auth;
+import org.xtreemfs.foundation.pbrpc.generatedinterfaces.RPC.ErrorType;
+import org.xtreemfs.foundation.pbrpc.generatedinterfaces.RPC.RPCHeader.ErrorResponse;
 import org.xtreemfs.foundation.pbrpc.generatedinterfaces.RPC.UserCredentials;
 import org.xtreemfs.foundation.util.FSUtils;
 import org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.OSDWriteResponse;
@@ -197,4 +207,113 @@ public class RPCCallerTest {
             assertEquals(readData[i], overwriteData.getBytes()[i]);
         }
     }
+
+    /**
+     * Checks that an asynchronous call which is redirected to a UUID that has not been resolved yet does not
+     * resolve it on the network thread: like a DIR lookup, the resolution requires the network thread itself.
+     */
+    @Test
+    public void testAsyncRedirectToUncachedUUID() throws Exception {
+        final ExecutorService networkThread = Executors.newSingleThreadExecutor();
+        try {
+            UUIDResolver resolver = new UUIDResolver() {
+                @Override
+                public String uuidToAddress(String uuid) throws AddressToUUIDNotFoundException {
+                    if (uuid.equals("oldMaster")) {
+                        return "localhost:32636";
+                    }
+
+                    // the UUID of the new master is not cached: wait for the network thread to receive the
+                    // response of the DIR
+                    Future<String> dirResponse = networkThread.submit(new Callable<String>() {
+                        @Override
+                        public String call() {
+                            return "localhost:32637";
+                        }
+                    });
+                    try {
+                        return dirResponse.get();
+                    } catch (Exception e) {
+                        throw new AddressToUUIDNotFoundException(uuid);
+                    }
+                }
+
+                @Override
+                public String volumeNameToMRCUUID(String volumeName) {
+                    throw new UnsupportedOperationException();
+                }
+
+                @Override
+                public void volumeNameToMRCUUID(String volumeName, UUIDIterator uuidIterator) {
+                    throw new UnsupportedOperationException();
+                }
+            };
+
+            UUIDIterator it = new UUIDIterator();
+            it.addUUID("oldMaster");
+            it.addUUID("newMaster");
+
+            final ErrorResponse redirect = ErrorResponse.newBuilder().setErrorType(ErrorType.REDIRECT)
+                    .setRedirectToServerUuid("newMaster").build();
+
+            AsyncResult<OSDWriteResponse> result = RPCCaller.<Object, OSDWriteResponse> asyncCall(SERVICES.OSD,
+                    userCredentials, auth, new Options(), resolver, it, false, null, null,
+                    new CallGenerator<Object, OSDWriteResponse>() {
+                        @Override
+                        public RPCResponse<OSDWriteResponse> executeCall(InetSocketAddress server,
+                                Auth authHeader, UserCredentials userCreds, Object input) {
+                            PBRPCException error = server.getPort() == 32636 ? new PBRPCException(redirect) : null;
+                            return new NetworkThreadResponse(networkThread, error);
+                        }
+                    });
+
+            assertEquals(OSDWriteResponse.getDefaultInstance(), result.get(10, TimeUnit.SECONDS));
+            assertEquals("newMaster", it.getUUID());
+        } finally {
+            networkThread.shutdownNow();
+        }
+    }
+
+    /**
+     * Response whose listener is notified by the given network thread.
+     */
+    private static class NetworkThreadResponse extends RPCResponse<OSDWriteResponse> {
+
+        private final ExecutorService networkThread;
+
+        private final IOException     error;
+
+        NetworkThreadResponse(ExecutorService networkThread, IOException error) {
+            super(OSDWriteResponse.getDefaultInstance());
+            this.networkThread = networkThread;
+            this.error = error;
+        }
+
+        @Override
+        public void registerListener(final RPCResponseAvailableListener<OSDWriteResponse> listener) {
+            networkThread.execute(new Runnable() {
+                @Override
+                public void run() {
+                    listener.responseAvailable(NetworkThreadResponse.this);
+                }
+            });
+        }
+
+        @Override
+        public OSDWriteResponse get() throws IOException {
+            if (error != null) {
+                throw error;
+            }
+            return OSDWriteResponse.getDefaultInstance();
+        }
+
+        @Override
+        public ReusableBuffer getData() {
+            return null;
+        }
+
+        @Override
+        public void freeBuffers() {
+        }
+    }
 }
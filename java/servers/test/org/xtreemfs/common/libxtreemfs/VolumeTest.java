@@ -7,6 +7,7 @@
 package org.xtreemfs.common.libxtreemfs;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertNull;
@@ -15,6 +16,7 @@ import static org.junit.Assert.fail;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 import org.junit.AfterClass;
@@ -49,6 +51,7 @@ import org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.StripingPolicy;
 import org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.StripingPolicyType;
 import org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.VivaldiCoordinates;
 import org.xtreemfs.pbrpc.generatedinterfaces.MRC.DirectoryEntries;
+import org.xtreemfs.pbrpc.generatedinterfaces.MRC.DirectoryEntry;
 import org.xtreemfs.pbrpc.generatedinterfaces.MRC.Setattrs;
 import org.xtreemfs.pbrpc.generatedinterfaces.MRC.Stat;
 import org.xtreemfs.pbrpc.generatedinterfaces.MRC.StatVFS;
@@ -215,6 +218,24 @@ public class VolumeTest {
         for (int i = 0; i < fileCount; i++) {
             assertEquals(TESTFILE + i, entrySet.getEntries(2 + i).getName());
         }
+
+        // test streaming the directory page by page
+        List<String> names = new ArrayList<String>();
+        DirectoryEntriesIterator pages = volume.readDirIterator(userCredentials, "/", 3, true);
+        while (pages.hasNext()) {
+            DirectoryEntries page = pages.next();
+            assertTrue(page.getEntriesCount() <= 3);
+            for (DirectoryEntry entry : page.getEntriesList()) {
+                assertFalse(entry.hasStbuf());
+                names.add(entry.getName());
+            }
+        }
+        assertEquals(2 + fileCount, names.size());
+        assertEquals("..", names.get(0));
+        assertEquals(".", names.get(1));
+        for (int i = 0; i < fileCount; i++) {
+            assertEquals(TESTFILE + i, names.get(2 + i));
+        }
     }
 
     @Test
@@ -972,6 +993,54 @@ public class VolumeTest {
         assertNotSame(stripeLocations.get(0).getUuids()[2], stripeLocations.get(1).getUuids()[2]);
     }
 
+    @Test
+    public void testGetStripeLocationsOfMultipleFiles() throws Exception {
+        VOLUME_NAME = "testGetStripeLocationsOfMultipleFiles";
+        client.createVolume(mrcAddress, auth, userCredentials, VOLUME_NAME, 0777,
+                userCredentials.getUsername(), userCredentials.getGroups(0),
+                AccessControlPolicyType.ACCESS_CONTROL_POLICY_POSIX,
+                StripingPolicyType.STRIPING_POLICY_RAID0, 2, 1, new ArrayList<GlobalTypes.KeyValuePair>());
+        Volume volume = client.openVolume(VOLUME_NAME, null, options);
+
+        volume.createDirectory(userCredentials, "/dir", 0777);
+        List<String> paths = new ArrayList<String>();
+        List<Long> lengths = new ArrayList<Long>();
+        for (int i = 0; i < 3; i++) {
+            final String path = "/dir/file" + i;
+            FileHandle fileHandle = volume.openFile(userCredentials, path,
+                    SYSTEM_V_FCNTL.SYSTEM_V_FCNTL_H_O_CREAT.getNumber(), 0777);
+            byte[] data = new byte[1000 + 2000 * i];
+            fileHandle.write(userCredentials, data, data.length, 0);
+            fileHandle.close();
+            paths.add(path);
+            lengths.add((long) data.length);
+        }
+        paths.add("/dir/doesNotExist");
+        lengths.add(100L);
+        paths.add("/dir");
+        lengths.add(100L);
+
+        List<List<StripeLocation>> stripeLocations = volume.getStripeLocations(userCredentials, paths, lengths);
+        assertEquals(paths.size(), stripeLocations.size());
+        for (int i = 0; i < 3; i++) {
+            List<StripeLocation> expected = volume.getStripeLocations(userCredentials, paths.get(i), 0,
+                    lengths.get(i));
+            assertEquals(expected.size(), stripeLocations.get(i).size());
+            for (int j = 0; j < expected.size(); j++) {
+                assertEquals(expected.get(j).getStartSize(), stripeLocations.get(i).get(j).getStartSize());
+                assertEquals(expected.get(j).getLength(), stripeLocations.get(i).get(j).getLength());
+                assertEquals(Arrays.asList(expected.get(j).getUuids()),
+                        Arrays.asList(stripeLocations.get(i).get(j).getUuids()));
+                assertEquals(1, stripeLocations.get(i).get(j).getHostnames().length);
+            }
+        }
+        assertEquals(2, stripeLocations.get(1).size());
+        assertTrue(stripeLocations.get(3).isEmpty());
+        assertTrue(stripeLocations.get(4).isEmpty());
+
+        volume.close();
+    }
+
     @Test
     public void testVolumeQuota() throws Exception {
         final String VOLUME_NAME = "testVolumeQuota";
@@ -1047,4 +1116,49 @@ public class VolumeTest {
 
         volume.close();
     }
+
+    @Test
+    public void testCreateFilesAndGetAttrs() throws Exception {
+        VOLUME_NAME = "testCreateFilesAndGetAttrs";
+        client.createVolume(mrcAddress, auth, userCredentials, VOLUME_NAME);
+        Volume volume = client.openVolume(VOLUME_NAME, null, options);
+
+        volume.createDirectory(userCredentials, "/DIR1", 0777);
+        FileHandle fh = volume.openFile(userCredentials, "/DIR1/EXISTING",
+                SYSTEM_V_FCNTL.SYSTEM_V_FCNTL_H_O_CREAT.getNumber(), 0777);
+        fh.write(userCredentials, "foo".getBytes(), 3, 0);
+        fh.close();
+
+        // create new files and open an existing one in a single request
+        List<FileHandle> fileHandles = volume.createFiles(userCredentials, "/DIR1",
+                Arrays.asList("FILE1", "FILE2", "EXISTING"), SYSTEM_V_FCNTL.SYSTEM_V_FCNTL_H_O_RDWR.getNumber(),
+                0777);
+        assertEquals(3, fileHandles.size());
+        fileHandles.get(1).write(userCredentials, "foobar".getBytes(), 6, 0);
+        for (FileHandle fileHandle : fileHandles) {
+            fileHandle.close();
+        }
+
+        // creating the same file twice in a batch must fail without creating any file
+        try {
+            volume.createFiles(userCredentials, "/DIR1", Arrays.asList("FILE3", "FILE3"),
+                    SYSTEM_V_FCNTL.SYSTEM_V_FCNTL_H_O_RDWR.getNumber(), 0777);
+            fail("duplicate file names were accepted");
+        } catch (PosixErrorException exc) {
+            assertEquals(POSIXErrno.POSIX_ERROR_EINVAL, exc.getPosixError());
+        }
+
+        List<Stat> stats = volume.getAttrs(userCredentials,
+                Arrays.asList("/DIR1/FILE1", "/DIR1/FILE2", "/DIR1/FILE3", "/DIR1/EXISTING", "/DIR2/FILE1"));
+        assertEquals(5, stats.size());
+        assertEquals(0, stats.get(0).getSize());
+        assertEquals(6, stats.get(1).getSize());
+        assertNull(stats.get(2));
+        assertEquals(3, stats.get(3).getSize());
+        assertNull(stats.get(4));
+        assertTrue(stats.get(0).getIno() != stats.get(1).getIno());
+        assertEquals(volume.getAttr(userCredentials, "/DIR1/FILE2").getIno(), stats.get(1).getIno());
+
+        volume.close();
+    }
 }
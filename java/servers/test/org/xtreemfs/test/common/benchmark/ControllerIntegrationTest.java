@@ -186,6 +186,8 @@ public class ControllerIntegrationTest {
         compareResults("RAND_WRITE", 2, 1L * MiB_IN_BYTES, 2, results);
         results = controller.startRandomReadBenchmark(1L*BenchmarkUtils.MiB_IN_BYTES, 2);
         compareResults("RAND_READ", 2, 1L * MiB_IN_BYTES, 2, results);
+        results = controller.startAsyncRandomReadBenchmark(1L*BenchmarkUtils.MiB_IN_BYTES, 2);
+        compareResults("RAND_READ_ASYNC", 2, 1L * MiB_IN_BYTES, 2, results);
         controller.teardown();
     }
 
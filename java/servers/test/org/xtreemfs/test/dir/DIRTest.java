@@ -8,11 +8,14 @@
 package org.xtreemfs.test.dir;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
 import java.io.IOException;
 import java.net.InetSocketAddress;
+import java.util.Collections;
+import java.util.List;
 import java.util.Set;
 
 import org.junit.After;
@@ -43,6 +46,7 @@ import org.xtreemfs.pbrpc.generatedinterfaces.DIR.addressMappingSetResponse;
 import org.xtreemfs.pbrpc.generatedinterfaces.DIR.configurationSetResponse;
 import org.xtreemfs.pbrpc.generatedinterfaces.DIR.globalTimeSGetResponse;
 import org.xtreemfs.pbrpc.generatedinterfaces.DIR.serviceRegisterResponse;
+import org.xtreemfs.pbrpc.generatedinterfaces.DIR.serviceWatchResponse;
 import org.xtreemfs.pbrpc.generatedinterfaces.DIRServiceClient;
 import org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.KeyValuePair;
 import org.xtreemfs.test.SetupUtils;
@@ -195,6 +199,173 @@ public class DIRTest {
         osd.shutdown();
     }
 
+    @Test
+    public void testRegistryLookups() throws Exception {
+
+        DIRServiceClient client = testEnv.getDirClient();
+
+        ServiceDataMap dmap = ServiceDataMap.newBuilder()
+                .addData(KeyValuePair.newBuilder().setKey("bla").setValue("yagga")).build();
+        String[] uuids = { "osdA", "osdB", "mrcA" };
+        ServiceType[] types = { ServiceType.SERVICE_TYPE_OSD, ServiceType.SERVICE_TYPE_OSD,
+                ServiceType.SERVICE_TYPE_MRC };
+        for (int i = 0; i < uuids.length; i++) {
+            Service sr = Service.newBuilder().setData(dmap).setType(types[i]).setUuid(uuids[i])
+                    .setName("service " + (i % 2)).setLastUpdatedS(0).setVersion(0).build();
+            RPCResponse<serviceRegisterResponse> r = client.xtreemfs_service_register(null,
+                    RPCAuthentication.authNone, RPCAuthentication.userService, sr);
+            assertEquals(1, r.get().getNewVersion());
+            r.freeBuffers();
+        }
+
+        // look up services by type
+        ServiceSet osds = getServicesByType(client, ServiceType.SERVICE_TYPE_OSD);
+        assertEquals(2, osds.getServicesCount());
+        assertEquals("osdA", osds.getServices(0).getUuid());
+        assertEquals("osdB", osds.getServices(1).getUuid());
+        for (Service osd : osds.getServicesList()) {
+            assertEquals(1, osd.getVersion());
+            assertTrue(osd.getLastUpdatedS() > 0);
+            assertTrue(getValue(osd, "seconds_since_last_update") != null);
+            assertEquals("yagga", getValue(osd, "bla"));
+        }
+        assertEquals(3, getServicesByType(client, ServiceType.SERVICE_TYPE_MIXED).getServicesCount());
+        assertEquals(0, getServicesByType(client, ServiceType.SERVICE_TYPE_VOLUME).getServicesCount());
+
+        // look up services by name and UUID
+        RPCResponse<ServiceSet> r1 = client.xtreemfs_service_get_by_name(null, RPCAuthentication.authNone,
+                RPCAuthentication.userService, "service 0");
+        ServiceSet byName = r1.get();
+        r1.freeBuffers();
+        assertEquals(2, byName.getServicesCount());
+        assertEquals("mrcA", byName.getServices(0).getUuid());
+        assertEquals("osdA", byName.getServices(1).getUuid());
+
+        r1 = client.xtreemfs_service_get_by_uuid(null, RPCAuthentication.authNone,
+                RPCAuthentication.userService, "osdB");
+        ServiceSet byUuid = r1.get();
+        r1.freeBuffers();
+        assertEquals(1, byUuid.getServicesCount());
+        assertEquals("service 1", byUuid.getServices(0).getName());
+
+        // mark a service as offline
+        RPCResponse r2 = client.xtreemfs_service_offline(null, RPCAuthentication.authNone,
+                RPCAuthentication.userService, "osdA");
+        r2.get();
+        r2.freeBuffers();
+
+        osds = getServicesByType(client, ServiceType.SERVICE_TYPE_OSD);
+        assertEquals(0, osds.getServices(0).getLastUpdatedS());
+        assertEquals(2, osds.getServices(0).getVersion());
+
+        // deregister services
+        for (String uuid : uuids) {
+            r2 = client.xtreemfs_service_deregister(null, RPCAuthentication.authNone,
+                    RPCAuthentication.userService, uuid);
+            r2.get();
+            r2.freeBuffers();
+        }
+
+        assertEquals(0, getServicesByType(client, ServiceType.SERVICE_TYPE_MIXED).getServicesCount());
+        r1 = client.xtreemfs_service_get_by_uuid(null, RPCAuthentication.authNone,
+                RPCAuthentication.userService, "osdB");
+        assertEquals(0, r1.get().getServicesCount());
+        r1.freeBuffers();
+    }
+
+    @Test
+    public void testServiceWatch() throws Exception {
+
+        DIRServiceClient client = testEnv.getDirClient();
+        List<String> all = Collections.emptyList();
+
+        registerService(client, "osdA", 0);
+
+        // an unknown version yields all services of the type
+        serviceWatchResponse changes = watch(client, 0, all, false, 0).get();
+        assertTrue(changes.getComplete());
+        assertEquals(1, changes.getServicesCount());
+        assertEquals("osdA", changes.getServices(0).getUuid());
+        assertTrue(changes.getTimestampS() > 0);
+        final long v0 = changes.getVersion();
+
+        // without changes, the request times out
+        long start = System.currentTimeMillis();
+        changes = watch(client, v0, all, false, 500).get();
+        assertTrue(System.currentTimeMillis() - start >= 400);
+        assertFalse(changes.getComplete());
+        assertEquals(0, changes.getServicesCount());
+        assertEquals(v0, changes.getVersion());
+
+        // a new service is reported while the request is parked
+        RPCResponse<serviceWatchResponse> r = watch(client, v0, all, false, 10000);
+        Thread.sleep(200);
+        registerService(client, "osdB", 0);
+        changes = r.get();
+        r.freeBuffers();
+        assertFalse(changes.getComplete());
+        assertEquals(1, changes.getServicesCount());
+        assertEquals("osdB", changes.getServices(0).getUuid());
+        assertTrue(changes.getVersion() > v0);
+        final long v1 = changes.getVersion();
+
+        // regular updates are not reported to status watches, deregistrations are
+        r = watch(client, v1, all, true, 10000);
+        registerService(client, "osdA", 1);
+        Thread.sleep(200);
+        RPCResponse r2 = client.xtreemfs_service_deregister(null, RPCAuthentication.authNone,
+                RPCAuthentication.userService, "osdB");
+        r2.get();
+        r2.freeBuffers();
+        changes = r.get();
+        r.freeBuffers();
+        assertFalse(changes.getComplete());
+        assertEquals(0, changes.getServicesCount());
+        assertEquals(1, changes.getRemovedUuidsCount());
+        assertEquals("osdB", changes.getRemovedUuids(0));
+
+        // changes of other services are not reported to watches with a UUID filter
+        changes = watch(client, v1, Collections.singletonList("osdC"), false, 0).get();
+        assertFalse(changes.getComplete());
+        assertEquals(0, changes.getServicesCount());
+        assertEquals(0, changes.getRemovedUuidsCount());
+    }
+
+    private static void registerService(DIRServiceClient client, String uuid, long version) throws Exception {
+        Service sr = Service.newBuilder().setData(ServiceDataMap.newBuilder()).setType(ServiceType.SERVICE_TYPE_OSD)
+                .setUuid(uuid).setName(uuid).setLastUpdatedS(0).setVersion(version).build();
+        RPCResponse<serviceRegisterResponse> r = client.xtreemfs_service_register(null, RPCAuthentication.authNone,
+                RPCAuthentication.userService, sr);
+        try {
+            assertEquals(version + 1, r.get().getNewVersion());
+        } finally {
+            r.freeBuffers();
+        }
+    }
+
+    private static RPCResponse<serviceWatchResponse> watch(DIRServiceClient client, long knownVersion,
+            List<String> uuids, boolean statusChangesOnly, int timeoutMs) throws Exception {
+        return client.xtreemfs_service_watch(null, RPCAuthentication.authNone, RPCAuthentication.userService,
+                ServiceType.SERVICE_TYPE_OSD, knownVersion, timeoutMs, uuids, statusChangesOnly);
+    }
+
+    private static ServiceSet getServicesByType(DIRServiceClient client, ServiceType type) throws Exception {
+        RPCResponse<ServiceSet> r = client.xtreemfs_service_get_by_type(null, RPCAuthentication.authNone,
+                RPCAuthentication.userService, type);
+        try {
+            return r.get();
+        } finally {
+            r.freeBuffers();
+        }
+    }
+
+    private static String getValue(Service service, String key) {
+        for (KeyValuePair kvp : service.getData().getDataList())
+            if (kvp.getKey().equals(key))
+                return kvp.getValue();
+        return null;
+    }
+
     @Test
     public void testConfiguration() throws Exception {
 
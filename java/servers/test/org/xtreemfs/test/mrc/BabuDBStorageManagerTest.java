@@ -410,6 +410,120 @@ public class BabuDBStorageManagerTest {
         
     }
     
+    @Test
+    public void testCursorReaddir() throws Exception {
+        
+        final String userId = "me";
+        final String groupId = "myGroup";
+        final short perms = 511;
+        final long w32Attrs = Long.MIN_VALUE;
+        exc = null;
+        
+        AtomicDBUpdate update = mngr.createAtomicDBUpdate(listener, null);
+        mngr.createDir(1, 0, "root", 0, 0, 0, userId, groupId, perms, w32Attrs, update).getId();
+        update.execute();
+        waitForResponse();
+        
+        // create 10 nested directories
+        for (int i = 0; i < 10; i++) {
+            
+            update = mngr.createAtomicDBUpdate(listener, null);
+            mngr.createDir(i + 2, 1, "entry" + i, 0, 0, 0, userId, groupId, perms, w32Attrs, update).getId();
+            update.execute();
+            waitForResponse();
+        }
+        
+        // create a file in the first nested directory, which must not show up
+        // in the listing of the root directory
+        update = mngr.createAtomicDBUpdate(listener, null);
+        mngr.createFile(12, 2, "nested", 0, 0, 0, userId, groupId, perms, w32Attrs, 0, false, 0, 0, update);
+        update.execute();
+        waitForResponse();
+        
+        // list the root directory in pages of three entries, each page
+        // starting after the last entry of the previous page
+        List<String> tmp = new LinkedList<String>();
+        String cursor = "";
+        for (;;) {
+            DatabaseResultSet<FileMetadata> children = mngr.getChildren(1, cursor, 3);
+            int count = 0;
+            while (children.hasNext()) {
+                cursor = children.next().getFileName();
+                tmp.add(cursor);
+                count++;
+            }
+            children.destroy();
+            
+            if (count < 3)
+                break;
+        }
+        
+        assertEquals(10, tmp.size());
+        for (int i = 0; i < 10; i++)
+            assertEquals("entry" + i, tmp.get(i));
+        
+        // list all entries following a file that does not exist
+        DatabaseResultSet<FileMetadata> children = mngr.getChildren(1, "entry4a", Integer.MAX_VALUE);
+        tmp = new LinkedList<String>();
+        while (children.hasNext())
+            tmp.add(children.next().getFileName());
+        children.destroy();
+        
+        assertEquals(5, tmp.size());
+        assertEquals("entry5", tmp.get(0));
+    }
+    
+    @Test
+    public void testCursorReaddirNonASCII() throws Exception {
+        
+        final String userId = "me";
+        final String groupId = "myGroup";
+        final short perms = 511;
+        final long w32Attrs = Long.MIN_VALUE;
+        exc = null;
+        
+        AtomicDBUpdate update = mngr.createAtomicDBUpdate(listener, null);
+        mngr.createDir(1, 0, "root", 0, 0, 0, userId, groupId, perms, w32Attrs, update).getId();
+        update.execute();
+        waitForResponse();
+        
+        // since the MRC compares bytes as signed values, "x\u00e9" precedes
+        // "x", which precedes "xa"
+        String[] names = { "w", "x", "x\u00e9", "x\u00e9\u00e9", "xa", "y" };
+        for (int i = 0; i < names.length; i++) {
+            update = mngr.createAtomicDBUpdate(listener, null);
+            mngr.createDir(i + 2, 1, names[i], 0, 0, 0, userId, groupId, perms, w32Attrs, update).getId();
+            update.execute();
+            waitForResponse();
+        }
+        
+        List<String> expected = new LinkedList<String>();
+        DatabaseResultSet<FileMetadata> children = mngr.getChildren(1, 0, Integer.MAX_VALUE);
+        while (children.hasNext())
+            expected.add(children.next().getFileName());
+        children.destroy();
+        assertEquals(names.length, expected.size());
+        
+        // list the directory in pages of one entry; each entry has to be
+        // returned exactly once, in database order
+        List<String> tmp = new LinkedList<String>();
+        String cursor = "";
+        for (int i = 0; i <= names.length; i++) {
+            children = mngr.getChildren(1, cursor, 1);
+            boolean found = children.hasNext();
+            if (found) {
+                cursor = children.next().getFileName();
+                tmp.add(cursor);
+            }
+            children.destroy();
+            
+            if (!found)
+                break;
+        }
+        
+        assertEquals(expected, tmp);
+    }
+    
     private void waitForResponse() throws Exception {
         
         synchronized (lock) {
@@ -15,6 +15,7 @@ import static org.junit.Assert.fail;
 
 import java.io.IOException;
 import java.net.InetSocketAddress;
+import java.util.Arrays;
 import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
@@ -53,7 +54,12 @@ import org.xtreemfs.pbrpc.generatedinterfaces.MRC.Setattrs;
 import org.xtreemfs.pbrpc.generatedinterfaces.MRC.Stat;
 import org.xtreemfs.pbrpc.generatedinterfaces.MRC.Volumes;
 import org.xtreemfs.pbrpc.generatedinterfaces.MRC.XAttr;
+import org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_renew_capabilitiesRequest;
+import org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_rmdir_recursiveResponse;
+import org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_setattr_recursiveRequest;
+import org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_setattr_recursiveResponse;
 import org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_file_sizeRequest;
+import org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_file_sizesRequest;
 import org.xtreemfs.pbrpc.generatedinterfaces.MRCServiceClient;
 import org.xtreemfs.test.SetupUtils;
 import org.xtreemfs.test.TestEnvironment;
@@ -269,11 +275,11 @@ public class MRCTest {
         // test 'readDir' and 'stat'
         
         DirectoryEntries entrySet = invokeSync(client.readdir(mrcAddress, RPCAuthentication.authNone, uc,
-            volumeName, "", -1, 1000, false, 0));
+            volumeName, "", -1, 1000, false, 0, ""));
         assertEquals(4, entrySet.getEntriesCount());
         
         entrySet = invokeSync(client.readdir(mrcAddress, RPCAuthentication.authNone, uc, volumeName, "myDir",
-            -1, 1000, false, 0));
+            -1, 1000, false, 0, ""));
         assertEquals(12, entrySet.getEntriesCount());
         
         Stat stat = invokeSync(
@@ -294,7 +300,7 @@ public class MRCTest {
         invokeSync(client.unlink(mrcAddress, RPCAuthentication.authNone, uc, volumeName, "myDir/test3.txt"));
         
         entrySet = invokeSync(client.readdir(mrcAddress, RPCAuthentication.authNone, uc, volumeName, "myDir",
-            -1, 1000, false, 0));
+            -1, 1000, false, 0, ""));
         assertEquals(11, entrySet.getEntriesCount());
         
         invokeSync(client.rmdir(mrcAddress, RPCAuthentication.authNone, uc, volumeName, "anotherDir"));
@@ -312,7 +318,7 @@ public class MRCTest {
             AccessControlPolicyType.ACCESS_CONTROL_POLICY_NULL, getDefaultStripingPolicy(), "", 0,
             volumeName, "", "", getKVList(), 0));
         invokeSync(client.readdir(mrcAddress, RPCAuthentication.authNone, uc, volumeName, "/", -1, 1000,
-            false, 0));
+            false, 0, ""));
     }
     
     @Test
@@ -572,6 +578,191 @@ public class MRCTest {
         }
     }
     
+    @Test
+    public void testRecursiveSetattrAndDelete() throws Exception {
+        
+        final String uid = "userXY";
+        final List<String> gids = createGIDs("groupZ");
+        final String volumeName = "testVolume";
+        final UserCredentials uc = createUserCredentials(uid, gids);
+        
+        invokeSync(client.xtreemfs_mkvol(mrcAddress, RPCAuthentication.authNone, uc,
+            AccessControlPolicyType.ACCESS_CONTROL_POLICY_POSIX, getDefaultStripingPolicy(), "", 0775,
+            volumeName, "", "", getKVList(), 0));
+        
+        // create a tree with 15 entries, including the directory itself, an
+        // empty directory, a file with two links in the tree and a file that
+        // is also linked from outside the tree
+        String[] dirs = { "dir", "dir/a", "dir/b", "dir/b/c", "dir/e" };
+        String[] files = { "dir/a/f0", "dir/a/f1", "dir/a/f2", "dir/a/f3", "dir/a/f4", "dir/b/c/g0",
+            "dir/b/c/g1", "dir/b/c/g2", "dir/h" };
+        for (String dir : dirs)
+            invokeSync(client.mkdir(mrcAddress, RPCAuthentication.authNone, uc, volumeName, dir, 0775));
+        for (String file : files)
+            invokeSync(client.open(mrcAddress, RPCAuthentication.authNone, uc, volumeName, file,
+                FileAccessManager.O_CREAT, 0664, 0, getDefaultCoordinates()));
+        invokeSync(client.link(mrcAddress, RPCAuthentication.authNone, uc, volumeName, "dir/a/f0", "dir/a/f5"));
+        invokeSync(client.link(mrcAddress, RPCAuthentication.authNone, uc, volumeName, "dir/h", "keep"));
+        
+        long numFiles = Long.parseLong(invokeSync(
+            client.getxattr(mrcAddress, RPCAuthentication.authNone, uc, volumeName, "", "xtreemfs.num_files"))
+                .getValue());
+        long numDirs = Long.parseLong(invokeSync(
+            client.getxattr(mrcAddress, RPCAuthentication.authNone, uc, volumeName, "", "xtreemfs.num_dirs"))
+                .getValue());
+        
+        // only mode, owner and group can be changed recursively
+        try {
+            invokeSync(client.xtreemfs_setattr_recursive(mrcAddress, RPCAuthentication.authNone, uc,
+                xtreemfs_setattr_recursiveRequest.newBuilder().setVolumeName(volumeName).setPath("dir")
+                        .setStbuf(createChmodStat(0700)).setToSet(Setattrs.SETATTR_SIZE.getNumber())
+                        .setMaxEntries(10).build()));
+            fail("size must not be changed recursively");
+        } catch (PBRPCException exc) {
+            assertEquals(POSIXErrno.POSIX_ERROR_EINVAL, exc.getPOSIXErrno());
+        }
+        
+        // change the access mode of the tree, four entries at a time
+        xtreemfs_setattr_recursiveRequest.Builder setattrRq = xtreemfs_setattr_recursiveRequest.newBuilder()
+                .setVolumeName(volumeName).setPath("dir").setStbuf(createChmodStat(0750))
+                .setToSet(Setattrs.SETATTR_MODE.getNumber()).setMaxEntries(4);
+        int numUpdated = 0;
+        int numCalls = 0;
+        xtreemfs_setattr_recursiveResponse setattrResp;
+        do {
+            setattrResp = invokeSync(client.xtreemfs_setattr_recursive(mrcAddress, RPCAuthentication.authNone,
+                uc, setattrRq.build()));
+            assertTrue(setattrResp.getNumUpdated() <= 4);
+            numUpdated += setattrResp.getNumUpdated();
+            numCalls++;
+            setattrRq.setCursor(setattrResp.getCursor());
+        } while (setattrResp.hasCursor());
+        
+        assertEquals(15, numUpdated);
+        assertTrue(numCalls >= 4);
+        for (String path : dirs)
+            assertEquals(0750, invokeSync(
+                client.getattr(mrcAddress, RPCAuthentication.authNone, uc, volumeName, path, -1)).getStbuf()
+                    .getMode() & 0777);
+        for (String path : files)
+            assertEquals(0750, invokeSync(
+                client.getattr(mrcAddress, RPCAuthentication.authNone, uc, volumeName, path, -1)).getStbuf()
+                    .getMode() & 0777);
+        
+        // neither the volume root nor files can be deleted recursively
+        try {
+            invokeSync(client.xtreemfs_rmdir_recursive(mrcAddress, RPCAuthentication.authNone, uc, volumeName, "",
+                10));
+            fail("the volume root must not be deleted");
+        } catch (PBRPCException exc) {
+            assertEquals(POSIXErrno.POSIX_ERROR_EPERM, exc.getPOSIXErrno());
+        }
+        try {
+            invokeSync(client.xtreemfs_rmdir_recursive(mrcAddress, RPCAuthentication.authNone, uc, volumeName,
+                "dir/h", 10));
+            fail("files must not be deleted recursively");
+        } catch (PBRPCException exc) {
+            assertEquals(POSIXErrno.POSIX_ERROR_ENOTDIR, exc.getPOSIXErrno());
+        }
+        
+        // delete the tree, three entries at a time
+        int numDeleted = 0;
+        xtreemfs_rmdir_recursiveResponse rmdirResp;
+        do {
+            rmdirResp = invokeSync(client.xtreemfs_rmdir_recursive(mrcAddress, RPCAuthentication.authNone, uc,
+                volumeName, "dir", 3));
+            assertTrue(rmdirResp.getNumDeleted() <= 3);
+            numDeleted += rmdirResp.getNumDeleted();
+        } while (!rmdirResp.getComplete());
+        
+        assertEquals(15, numDeleted);
+        assertTree(mrcAddress, uid, gids, volumeName, "", "keep");
+        assertEquals(1, invokeSync(
+            client.getattr(mrcAddress, RPCAuthentication.authNone, uc, volumeName, "keep", -1)).getStbuf()
+                .getNlink());
+        
+        // check the volume statistics, which are updated several times per
+        // transaction
+        assertEquals(String.valueOf(numFiles - 8), invokeSync(
+            client.getxattr(mrcAddress, RPCAuthentication.authNone, uc, volumeName, "", "xtreemfs.num_files"))
+                .getValue());
+        assertEquals(String.valueOf(numDirs - 5), invokeSync(
+            client.getxattr(mrcAddress, RPCAuthentication.authNone, uc, volumeName, "", "xtreemfs.num_dirs"))
+                .getValue());
+    }
+    
+    @Test
+    public void testRecursiveSetattrAndDeleteNonASCII() throws Exception {
+        
+        final String uid = "userXY";
+        final List<String> gids = createGIDs("groupZ");
+        final String volumeName = "testVolume";
+        final UserCredentials uc = createUserCredentials(uid, gids);
+        
+        invokeSync(client.xtreemfs_mkvol(mrcAddress, RPCAuthentication.authNone, uc,
+            AccessControlPolicyType.ACCESS_CONTROL_POLICY_POSIX, getDefaultStripingPolicy(), "", 0775,
+            volumeName, "", "", getKVList(), 0));
+        
+        // create a tree with a subdirectory and siblings whose names extend
+        // the name of the subdirectory with non-ASCII characters, which
+        // precede the subdirectory in database order
+        String[] dirs = { "dir", "dir/x", "dir/x\u00e9\u00e9" };
+        String[] files = { "dir/x/f", "dir/x\u00e9", "dir/x\u00e9\u00e9/g", "dir/xa" };
+        for (String dir : dirs)
+            invokeSync(client.mkdir(mrcAddress, RPCAuthentication.authNone, uc, volumeName, dir, 0775));
+        for (String file : files)
+            invokeSync(client.open(mrcAddress, RPCAuthentication.authNone, uc, volumeName, file,
+                FileAccessManager.O_CREAT, 0664, 0, getDefaultCoordinates()));
+        
+        long numFiles = Long.parseLong(invokeSync(
+            client.getxattr(mrcAddress, RPCAuthentication.authNone, uc, volumeName, "", "xtreemfs.num_files"))
+                .getValue());
+        long numDirs = Long.parseLong(invokeSync(
+            client.getxattr(mrcAddress, RPCAuthentication.authNone, uc, volumeName, "", "xtreemfs.num_dirs"))
+                .getValue());
+        
+        // change the access mode of the tree, one entry at a time; each entry
+        // has to be updated exactly once
+        xtreemfs_setattr_recursiveRequest.Builder setattrRq = xtreemfs_setattr_recursiveRequest.newBuilder()
+                .setVolumeName(volumeName).setPath("dir").setStbuf(createChmodStat(0750))
+                .setToSet(Setattrs.SETATTR_MODE.getNumber()).setMaxEntries(1);
+        int numUpdated = 0;
+        xtreemfs_setattr_recursiveResponse setattrResp;
+        do {
+            setattrResp = invokeSync(client.xtreemfs_setattr_recursive(mrcAddress, RPCAuthentication.authNone,
+                uc, setattrRq.build()));
+            numUpdated += setattrResp.getNumUpdated();
+            assertTrue("recursive setattr does not terminate", numUpdated <= 7);
+            setattrRq.setCursor(setattrResp.getCursor());
+        } while (setattrResp.hasCursor());
+        
+        assertEquals(7, numUpdated);
+        for (String path : files)
+            assertEquals(0750, invokeSync(
+                client.getattr(mrcAddress, RPCAuthentication.authNone, uc, volumeName, path, -1)).getStbuf()
+                    .getMode() & 0777);
+        
+        // delete the tree, one entry at a time; each entry has to be deleted
+        // exactly once
+        int numDeleted = 0;
+        xtreemfs_rmdir_recursiveResponse rmdirResp;
+        do {
+            rmdirResp = invokeSync(client.xtreemfs_rmdir_recursive(mrcAddress, RPCAuthentication.authNone, uc,
+                volumeName, "dir", 1));
+            numDeleted += rmdirResp.getNumDeleted();
+            assertTrue("recursive deletion does not terminate", numDeleted <= 7);
+        } while (!rmdirResp.getComplete());
+        
+        assertEquals(7, numDeleted);
+        assertTree(mrcAddress, uid, gids, volumeName, "");
+        assertEquals(String.valueOf(numFiles - 4), invokeSync(
+            client.getxattr(mrcAddress, RPCAuthentication.authNone, uc, volumeName, "", "xtreemfs.num_files"))
+                .getValue());
+        assertEquals(String.valueOf(numDirs - 3), invokeSync(
+            client.getxattr(mrcAddress, RPCAuthentication.authNone, uc, volumeName, "", "xtreemfs.num_dirs"))
+                .getValue());
+    }
+    
     @Test
     public void testOpen() throws Exception {
         
@@ -630,6 +821,19 @@ public class MRCTest {
             RPCAuthentication.userService, xcap));
         assertTrue(xcap.getExpireTimeS() < newCap.getExpireTimeS());
         
+        // test renewing a batch of capabilities; the capability with an
+        // invalid signature has to be returned unchanged
+        XCap invalidCap = xcap.toBuilder().setServerSignature("invalid").build();
+        List<XCap> newCaps = invokeSync(
+            client.xtreemfs_renew_capabilities(mrcAddress, RPCAuthentication.authNone,
+                RPCAuthentication.userService, xtreemfs_renew_capabilitiesRequest.newBuilder().addXcaps(xcap)
+                        .addXcaps(invalidCap).addXcaps(newCap).build())).getXcapsList();
+        assertEquals(3, newCaps.size());
+        assertTrue(xcap.getExpireTimeS() < newCaps.get(0).getExpireTimeS());
+        assertEquals(xcap.getFileId(), newCaps.get(0).getFileId());
+        assertEquals(invalidCap, newCaps.get(1));
+        assertTrue(newCap.getExpireTimeS() <= newCaps.get(2).getExpireTimeS());
+        
         // open w/ truncate flag; check whether the epoch number is incremented
         invokeSync(client.open(mrcAddress, RPCAuthentication.authNone, uc, volumeName, "trunc",
             FileAccessManager.O_CREAT, 0777, 0, getDefaultCoordinates()));
@@ -854,7 +1058,7 @@ public class MRCTest {
         
         final UserCredentials ucS = createUserCredentials("someone", createGIDs("somegroup"));
         assertNotNull(invokeSync(client.readdir(mrcAddress, RPCAuthentication.authNone, ucS, noACVolumeName,
-            "newDir/newFile", -1, 1000, false, 0)));
+            "newDir/newFile", -1, 1000, false, 0, "")));
         
         // VOLUME policy
         
@@ -891,7 +1095,7 @@ public class MRCTest {
         
         // check permissions by opening the file
         assertNotNull(invokeSync(client.readdir(mrcAddress, RPCAuthentication.authNone, uc1, posixVolName,
-            "newDir", -1, 1000, false, 0)));
+            "newDir", -1, 1000, false, 0, "")));
         
         try {
             invokeSync(client.mkdir(mrcAddress, RPCAuthentication.authNone, uc2, posixVolName, "newDir2",
@@ -951,14 +1155,14 @@ public class MRCTest {
         // readdir on "/newDir"; should fail for any user now
         try {
             invokeSync(client.readdir(mrcAddress, RPCAuthentication.authNone, uc1, posixVolName, "newDir",
-                -1, 1000, false, 0));
+                -1, 1000, false, 0, ""));
             fail("access should have been denied");
         } catch (PBRPCException exc) {
         }
         
         try {
             invokeSync(client.readdir(mrcAddress, RPCAuthentication.authNone, uc2, posixVolName, "newDir",
-                -1, 1000, false, 0));
+                -1, 1000, false, 0, ""));
             fail("access should have been denied");
         } catch (PBRPCException exc) {
         }
@@ -969,14 +1173,14 @@ public class MRCTest {
         
         try {
             invokeSync(client.readdir(mrcAddress, RPCAuthentication.authNone, uc1, posixVolName, "newDir",
-                -1, 1000, false, 0));
+                -1, 1000, false, 0, ""));
             fail("access should have been denied due to insufficient permissions");
         } catch (PBRPCException exc) {
         }
         
         try {
             invokeSync(client.readdir(mrcAddress, RPCAuthentication.authNone, uc3, posixVolName, "newDir",
-                -1, 1000, false, 0));
+                -1, 1000, false, 0, ""));
             fail("access should have been denied due to insufficient search permissions");
         } catch (PBRPCException exc) {
         }
@@ -987,11 +1191,11 @@ public class MRCTest {
         
         // access should be granted to others now
         invokeSync(client.readdir(mrcAddress, RPCAuthentication.authNone, uc3, posixVolName, "newDir", -1,
-            1000, false, 0));
+            1000, false, 0, ""));
         
         // check permissions
         assertNotNull(invokeSync(client.readdir(mrcAddress, RPCAuthentication.authNone, uc2, posixVolName,
-            "newDir", -1, 1000, false, 0)));
+            "newDir", -1, 1000, false, 0, "")));
         
         // check permissions
         assertNotNull(invokeSync(client.getattr(mrcAddress, RPCAuthentication.authNone, uc3, posixVolName,
@@ -1004,7 +1208,7 @@ public class MRCTest {
         // owner of 'newDir' should still not have access rights
         try {
             invokeSync(client.readdir(mrcAddress, RPCAuthentication.authNone, uc1, posixVolName, "newDir",
-                -1, 1000, false, 0));
+                -1, 1000, false, 0, ""));
             fail("access should have been denied due to insufficient permissions");
         } catch (PBRPCException exc) {
         }
@@ -1176,6 +1380,56 @@ public class MRCTest {
         assertEquals(32L, stat.getSize());
     }
     
+    @Test
+    public void testBatchedFileSizeUpdate() throws Exception {
+        
+        final String uid = "userXY";
+        final List<String> gids = createGIDs("groupZ");
+        final String[] volumeNames = { "testVolume1", "testVolume2" };
+        final UserCredentials uc = createUserCredentials(uid, gids);
+        
+        // create two files in a first volume and one in a second volume
+        XCap[] caps = new XCap[3];
+        for (String volumeName : volumeNames)
+            invokeSync(client.xtreemfs_mkvol(mrcAddress, RPCAuthentication.authNone, uc,
+                AccessControlPolicyType.ACCESS_CONTROL_POLICY_NULL, getDefaultStripingPolicy(), "", 0,
+                volumeName, "", "", getKVList(), 0));
+        for (int i = 0; i < caps.length; i++)
+            caps[i] = invokeSync(
+                client.open(mrcAddress, RPCAuthentication.authNone, uc, volumeNames[i / 2], "testFile" + i,
+                    FileAccessManager.O_CREAT | FileAccessManager.O_RDWR, 0777, 0, getDefaultCoordinates()))
+                    .getCreds().getXcap();
+        
+        // update all file sizes with a single request; the second update of
+        // the first file is outdated, the last two updates are invalid
+        List<Boolean> success = invokeSync(
+            client.xtreemfs_update_file_sizes(mrcAddress, RPCAuthentication.authNone,
+                RPCAuthentication.userService, xtreemfs_update_file_sizesRequest.newBuilder()
+                        .addUpdates(createFSUpdate(caps[0], 27, 0))
+                        .addUpdates(createFSUpdate(caps[1], 5, 0))
+                        .addUpdates(createFSUpdate(caps[0], 12, 0))
+                        .addUpdates(createFSUpdate(caps[2], 100, 0))
+                        .addUpdates(createFSUpdate(caps[2].toBuilder().setServerSignature("invalid").build(), 1, 1))
+                        .addUpdates(createFSUpdate(caps[2], 1, 1).toBuilder().setCloseFile(true)).build()))
+                .getSuccessList();
+        assertEquals(6, success.size());
+        assertEquals(Arrays.asList(true, true, true, true, false, false), success);
+        
+        long[] sizes = { 27, 5, 100 };
+        for (int i = 0; i < caps.length; i++)
+            assertEquals(sizes[i], invokeSync(
+                client.getattr(mrcAddress, RPCAuthentication.authNone, uc, volumeNames[i / 2], "testFile" + i,
+                    -1)).getStbuf().getSize());
+        
+        // check the volume sizes
+        assertEquals("32", invokeSync(
+            client.getxattr(mrcAddress, RPCAuthentication.authNone, uc, volumeNames[0], "",
+                "xtreemfs.used_space")).getValue());
+        assertEquals("100", invokeSync(
+            client.getxattr(mrcAddress, RPCAuthentication.authNone, uc, volumeNames[1], "",
+                "xtreemfs.used_space")).getValue());
+    }
+    
     @Test
     public void testDefaultStripingPolicies() throws Exception {
         
@@ -1387,7 +1641,7 @@ public class MRCTest {
             // if the path points to a directory, check whether the number of
             // subdirectories is correct
             DirectoryEntries dir = invokeSync(client.readdir(mrcAddress, RPCAuthentication.authNone, uc,
-                volumeName, path, -1, 1000, false, 0));
+                volumeName, path, -1, 1000, false, 0, ""));
             int size = dir.getEntriesCount();
             
             int count = 0;
@@ -1428,6 +1682,11 @@ public class MRCTest {
         return OSDWriteResponse.newBuilder().setSizeInBytes(newFS).setTruncateEpoch(newEpoch).build();
     }
     
+    private static xtreemfs_update_file_sizeRequest createFSUpdate(XCap cap, int newFS, int newEpoch) {
+        return xtreemfs_update_file_sizeRequest.newBuilder().setXcap(cap)
+                .setOsdWriteResponse(createFSResponse(newFS, newEpoch)).build();
+    }
+    
     private static Stat createChownStat(String newUid, String newGid) {
         return getDefaultStatBuilder().setUserId(newUid).setGroupId(newGid).build();
     }
@@ -11,6 +11,8 @@ package org.xtreemfs.test.mrc;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
@@ -36,9 +38,12 @@ import org.xtreemfs.mrc.osdselection.FilterFQDNPolicy;
 import org.xtreemfs.mrc.osdselection.GroupDCMapPolicy;
 import org.xtreemfs.mrc.osdselection.GroupFQDNPolicy;
 import org.xtreemfs.mrc.osdselection.Inet4AddressMatcher;
+import org.xtreemfs.mrc.osdselection.OSDSelectionPolicy;
+import org.xtreemfs.mrc.osdselection.PlacementPlanCache;
 import org.xtreemfs.mrc.osdselection.SortDCMapPolicy;
 import org.xtreemfs.mrc.osdselection.SortFQDNPolicy;
 import org.xtreemfs.mrc.osdselection.SortHostRoundRobinPolicy;
+import org.xtreemfs.mrc.osdselection.SortRandomPolicy;
 import org.xtreemfs.mrc.osdselection.SortVivaldiPolicy;
 import org.xtreemfs.osd.vivaldi.VivaldiNode;
 import org.xtreemfs.pbrpc.generatedinterfaces.DIR.Service;
@@ -560,8 +565,23 @@ public class OSDPolicyTest {
         assertEquals("osd5", sortedList.getServices(2).getUuid());
         assertEquals("osd4", sortedList.getServices(3).getUuid());
         assertEquals("osd1", sortedList.getServices(4).getUuid());
+
+        // move osd3 far away; the new coordinates have to be taken into account
+        sdm = ServiceDataMap.newBuilder();
+        sdm.addData(KeyValuePair.newBuilder().setKey("vivaldi_coordinates").setValue(
+            VivaldiNode.coordinatesToString(coords4.setXCoordinate(30.0).build())));
+        osds.setServices(3, Service.newBuilder().setType(ServiceType.SERVICE_TYPE_OSD).setLastUpdatedS(0)
+                .setVersion(2).setUuid("osd3").setName("osd3").setData(sdm));
+
+        sortedList = policy.getOSDs(osds, clientAddr, clientCoordinates, null, 0);
+
+        assertEquals("osd2", sortedList.getServices(0).getUuid());
+        assertEquals("osd5", sortedList.getServices(1).getUuid());
+        assertEquals("osd4", sortedList.getServices(2).getUuid());
+        assertEquals("osd3", sortedList.getServices(3).getUuid());
+        assertEquals("osd1", sortedList.getServices(4).getUuid());
     }
-    
+
     @Test
     public void testSortHostRoundRobinPolicy() throws Exception {
 
@@ -599,6 +619,84 @@ public class OSDPolicyTest {
         }
     }
 
+    @Test
+    public void testPlacementPlanCache() throws Exception {
+        
+        Properties p = new Properties();
+        p.setProperty("datacenters", "A,B");
+        p.setProperty("distance.A-B", "10");
+        p.setProperty("A.addresses", "192.168.2.0/24");
+        p.setProperty("B.addresses", "192.168.3.0/24");
+        
+        ServiceSet osds = ServiceSet.newBuilder().addServices(
+            Service.newBuilder().setType(ServiceType.SERVICE_TYPE_OSD).setLastUpdatedS(0).setName("osd1")
+                    .setVersion(1).setUuid("osd1").setData(getDefaultServiceDataMap())).build();
+        PlacementPlanCache cache = new PlacementPlanCache(osds);
+        
+        // clients in the same data center share a plan ...
+        OSDSelectionPolicy[] policies = new OSDSelectionPolicy[] { new FilterDefaultPolicy(),
+            new GroupDCMapPolicy(p) };
+        String key = PlacementPlanCache.getKey(policies, 2, InetAddress.getByName("192.168.2.100"), null, 1);
+        cache.put(key, osds);
+        assertSame(osds, cache.get(PlacementPlanCache.getKey(policies, 2, InetAddress.getByName("192.168.2.101"),
+            null, 1)));
+        
+        // ... but not with clients in other data centers or with requests for
+        // a different number of OSDs
+        assertNull(cache.get(PlacementPlanCache.getKey(policies, 2, InetAddress.getByName("192.168.3.100"), null,
+            1)));
+        assertNull(cache.get(PlacementPlanCache.getKey(policies, 2, InetAddress.getByName("192.168.2.100"), null,
+            2)));
+        
+        // the FQDN policies depend on the client address
+        policies = new OSDSelectionPolicy[] { new SortFQDNPolicy() };
+        cache.put(PlacementPlanCache.getKey(policies, 1, InetAddress.getByName("192.168.2.100"), null, 1), osds);
+        assertSame(osds, cache.get(PlacementPlanCache.getKey(policies, 1, InetAddress.getByName("192.168.2.100"),
+            null, 1)));
+        assertNull(cache.get(PlacementPlanCache.getKey(policies, 1, InetAddress.getByName("192.168.2.101"), null,
+            1)));
+        
+        // the Vivaldi policy depends on the cell the client is located in
+        policies = new OSDSelectionPolicy[] { new SortVivaldiPolicy() };
+        InetAddress clientAddr = InetAddress.getByName("192.168.2.100");
+        cache.put(PlacementPlanCache.getKey(policies, 1, clientAddr, getCoordinates(1.0, 1.0), 1), osds);
+        assertSame(osds, cache.get(PlacementPlanCache.getKey(policies, 1, clientAddr, getCoordinates(
+            PlacementPlanCache.VIVALDI_CELL_SIZE_MS - 1, 2.0), 1)));
+        assertNull(cache.get(PlacementPlanCache.getKey(policies, 1, clientAddr, getCoordinates(
+            PlacementPlanCache.VIVALDI_CELL_SIZE_MS + 1, 1.0), 1)));
+        assertNull(cache.get(PlacementPlanCache.getKey(policies, 1, clientAddr, getCoordinates(1.0, -1.0), 1)));
+        
+        // plans are only valid for the set of OSDs they have been calculated
+        // for
+        assertTrue(cache.isValidFor(osds));
+        assertFalse(cache.isValidFor(osds.toBuilder().addServices(
+            Service.newBuilder().setType(ServiceType.SERVICE_TYPE_OSD).setLastUpdatedS(0).setName("osd2")
+                    .setVersion(1).setUuid("osd2").setData(getDefaultServiceDataMap())).build()));
+        assertFalse(cache.isValidFor(ServiceSet.getDefaultInstance()));
+    }
+    
+    @Test
+    public void testPlacementPlanCacheBypass() throws Exception {
+        
+        // policies after the first policy that cannot be cached are applied
+        // on each request
+        assertEquals(2, PlacementPlanCache.getCacheablePrefixLength(new OSDSelectionPolicy[] {
+            new FilterDefaultPolicy(), new SortVivaldiPolicy(), new SortRandomPolicy(), new SortFQDNPolicy() }));
+        
+        // policy chains starting with random or custom policies are never
+        // cached
+        assertEquals(0, PlacementPlanCache.getCacheablePrefixLength(new OSDSelectionPolicy[] {
+            new SortRandomPolicy(), new FilterDefaultPolicy() }));
+        assertEquals(0, PlacementPlanCache.getCacheablePrefixLength(new OSDSelectionPolicy[] {
+            new FilterDefaultPolicy() {
+            }, new SortFQDNPolicy() }));
+        assertEquals(0, PlacementPlanCache.getCacheablePrefixLength(new OSDSelectionPolicy[0]));
+    }
+    
+    private static VivaldiCoordinates getCoordinates(double x, double y) {
+        return VivaldiCoordinates.newBuilder().setXCoordinate(x).setYCoordinate(y).setLocalError(0.1).build();
+    }
+    
     private static ServiceDataMap getDefaultServiceDataMap() {
         return ServiceDataMap.newBuilder().build();
     }
@@ -258,7 +258,7 @@ public class SnapshotTest {
             boolean recursive) throws Exception {
 
         DirectoryEntries entries = invokeSync(client.readdir(mrcAddress, RPCAuthentication.authNone, uc,
-                volume, relPath, -1, 1000, false, 0));
+                volume, relPath, -1, 1000, false, 0, ""));
         for (DirectoryEntry entry : entries.getEntriesList()) {
 
             boolean isDir = (entry.getStbuf().getMode() & SYSTEM_V_FCNTL.SYSTEM_V_FCNTL_H_S_IFDIR.getNumber()) > 0;
@@ -0,0 +1,176 @@
+/*
+ * Copyright (c) 2015 by Zuse Institute Berlin
+ *
+ * Licensed under the BSD License, see LICENSE file for details.
+ *
+ */
+
+package org.xtreemfs.test.osd;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.RandomAccessFile;
+import java.util.Properties;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestRule;
+import org.xtreemfs.common.Capability;
+import org.xtreemfs.common.uuids.ServiceUUID;
+import org.xtreemfs.foundation.buffer.BufferPool;
+import org.xtreemfs.foundation.buffer.ReusableBuffer;
+import org.xtreemfs.foundation.logging.Logging;
+import org.xtreemfs.foundation.pbrpc.client.RPCAuthentication;
+import org.xtreemfs.foundation.pbrpc.client.RPCResponse;
+import org.xtreemfs.osd.OSD;
+import org.xtreemfs.osd.OSDConfig;
+import org.xtreemfs.osd.storage.ScrubberThread;
+import org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials;
+import org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.OSDWriteResponse;
+import org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.Replica;
+import org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.SYSTEM_V_FCNTL;
+import org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.SnapConfig;
+import org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XLocSet;
+import org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectData;
+import org.xtreemfs.pbrpc.generatedinterfaces.OSDServiceClient;
+import org.xtreemfs.test.SetupUtils;
+import org.xtreemfs.test.TestEnvironment;
+import org.xtreemfs.test.TestHelper;
+
+public class OSDScrubberTest {
+    @Rule
+    public final TestRule   testLog     = TestHelper.testLog;
+
+    private static final int OBJECT_SIZE = 4096;
+
+    private static final int NUM_OBJECTS = 3;
+
+    private TestEnvironment testEnv;
+
+    private OSD             osdServer;
+
+    @Before
+    public void setUp() throws Exception {
+        Logging.start(SetupUtils.DEBUG_LEVEL, SetupUtils.DEBUG_CATEGORIES);
+
+        testEnv = new TestEnvironment(new TestEnvironment.Services[] { TestEnvironment.Services.DIR_SERVICE,
+                TestEnvironment.Services.TIME_SYNC, TestEnvironment.Services.UUID_RESOLVER,
+                TestEnvironment.Services.MRC_CLIENT, TestEnvironment.Services.OSD_CLIENT });
+        testEnv.start();
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        if (osdServer != null)
+            osdServer.shutdown();
+
+        testEnv.shutdown();
+    }
+
+    @Test
+    public void testDetectCorruptObject() throws Exception {
+
+        final String fileId = "ABCDEF:1";
+
+        // write some objects with the scrubber being disabled
+        osdServer = new OSD(createConfig(false));
+        writeObjects(fileId);
+        osdServer.shutdown();
+        osdServer = null;
+
+        // corrupt one of the objects on disk
+        File objDir = new File(createConfig(false).getObjDir());
+        assertTrue(corruptObject(objDir));
+
+        // restart the OSD with the scrubber and wait for the pass to complete
+        osdServer = new OSD(createConfig(true));
+        ScrubberThread scrubber = osdServer.getDispatcher().getScrubberThread();
+        assertTrue(scrubber.isEnabled());
+
+        long timeout = System.currentTimeMillis() + 30000;
+        while (scrubber.getLastPassEndTime() == 0 && System.currentTimeMillis() < timeout)
+            Thread.sleep(100);
+
+        assertTrue(scrubber.getLastPassEndTime() != 0);
+        assertEquals(NUM_OBJECTS, scrubber.getObjectsScrubbed());
+        assertEquals(1, scrubber.getCorruptObjects());
+        assertEquals(0, scrubber.getRepairedObjects());
+
+        // the OSD has not seen the XLocSet of the file since the restart, so the object cannot be repaired
+        assertEquals(1, scrubber.getUnrepairedObjects().size());
+        assertTrue(scrubber.getUnrepairedObjects().get(0).startsWith(fileId + "-"));
+    }
+
+    private OSDConfig createConfig(boolean scrubberEnabled) throws Exception {
+        boolean checksumsOn = SetupUtils.CHECKSUMS_ON;
+        SetupUtils.CHECKSUMS_ON = true;
+        Properties props = SetupUtils.createOSD1Config().getProps();
+        SetupUtils.CHECKSUMS_ON = checksumsOn;
+
+        props.setProperty("scrubber.enabled", Boolean.toString(scrubberEnabled));
+        props.setProperty("scrubber.objects_per_second", "0");
+        OSDConfig config = new OSDConfig(props);
+        config.setDefaults();
+        return config;
+    }
+
+    private void writeObjects(String fileId) throws Exception {
+        OSDConfig config = createConfig(false);
+        ServiceUUID serverID = SetupUtils.getOSD1UUID();
+        OSDServiceClient osdClient = new OSDServiceClient(testEnv.getRpcClient(), null);
+
+        Capability cap = new Capability(fileId, SYSTEM_V_FCNTL.SYSTEM_V_FCNTL_H_O_RDWR.getNumber(), 60,
+                System.currentTimeMillis(), "", 0, false, SnapConfig.SNAP_CONFIG_SNAPS_DISABLED, 0,
+                config.getCapabilitySecret());
+        Replica r = Replica.newBuilder().setReplicationFlags(0)
+                .setStripingPolicy(SetupUtils.getStripingPolicy(1, OBJECT_SIZE / 1024))
+                .addOsdUuids(serverID.toString()).build();
+        XLocSet xloc = XLocSet.newBuilder().setReadOnlyFileSize(0).setReplicaUpdatePolicy("").addReplicas(r)
+                .setVersion(1).build();
+        FileCredentials fcred = FileCredentials.newBuilder().setXcap(cap.getXCap()).setXlocs(xloc).build();
+
+        for (int objNo = 0; objNo < NUM_OBJECTS; objNo++) {
+            ReusableBuffer buf = BufferPool.allocate(OBJECT_SIZE);
+            for (int i = 0; i < OBJECT_SIZE; i++)
+                buf.put((byte) ('A' + objNo));
+            buf.flip();
+
+            ObjectData data = ObjectData.newBuilder().setChecksum(0).setZeroPadding(0)
+                    .setInvalidChecksumOnOsd(false).build();
+            RPCResponse<OSDWriteResponse> resp = osdClient.write(serverID.getAddress(),
+                    RPCAuthentication.authNone, RPCAuthentication.userService, fcred, fileId, objNo, 0, 0, 0,
+                    data, buf);
+            resp.get();
+            resp.freeBuffers();
+        }
+    }
+
+    /**
+     * Overwrites the first byte of one object file below the given directory.
+     */
+    private static boolean corruptObject(File dir) throws Exception {
+        File[] files = dir.listFiles();
+        if (files == null)
+            return false;
+
+        for (File f : files) {
+            if (f.isDirectory()) {
+                if (corruptObject(f))
+                    return true;
+            } else if (f.length() == OBJECT_SIZE) {
+                RandomAccessFile raf = new RandomAccessFile(f, "rw");
+                try {
+                    raf.write('X');
+                } finally {
+                    raf.close();
+                }
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -12,11 +12,14 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.ObjectOutputStream;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Random;
@@ -27,6 +30,8 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.TestRule;
 import org.xtreemfs.osd.replication.ObjectSet;
+import org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectList;
+import org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectSetFormat;
 import org.xtreemfs.test.TestHelper;
 
 /**
@@ -84,6 +89,107 @@ public class ObjectSetTest {
         }
     }
 
+    @Test
+    public void testRunsSerialization() throws Exception {
+        ObjectSet sparse = new ObjectSet(1, 0);
+        for (long object = 0; object < 2000000000L; object += 1234567)
+            sparse.add(object);
+
+        ObjectSet dense = new ObjectSet(1, 0);
+        fillObjectSetRandom(dense, 200000, 50);
+
+        ObjectSet runs = new ObjectSet(2, 1);
+        for (long object = 1; object < 1000000; object += 2)
+            if (object % 100000 < 90000)
+                runs.add(object);
+
+        ObjectSet empty = new ObjectSet(3, 2);
+
+        for (ObjectSet set : new ObjectSet[] { sparse, dense, runs, empty }) {
+            byte[] serialized = set.serialize(ObjectSetFormat.OBJECT_SET_FORMAT_RUNS_V1);
+            ObjectSet deserialized = new ObjectSet(set.getStripeWidth(), set.getFirstObjectNo(), serialized,
+                    ObjectSetFormat.OBJECT_SET_FORMAT_RUNS_V1);
+            assertEquals(set, deserialized);
+            assertEquals(set.size(), deserialized.size());
+
+            // legacy format
+            deserialized = new ObjectSet(set.getStripeWidth(), set.getFirstObjectNo(), set.getSerializedBitSet());
+            assertEquals(set, deserialized);
+
+            // object lists are encoded in the format requested by the receiver
+            ObjectList list = set.toObjectList(ObjectSetFormat.OBJECT_SET_FORMAT_JAVA_BITSET);
+            assertEquals(ObjectSetFormat.OBJECT_SET_FORMAT_JAVA_BITSET, list.getFormat());
+            assertEquals(set, new ObjectSet(set.getStripeWidth(), set.getFirstObjectNo(), list));
+            list = set.toObjectList(ObjectSetFormat.OBJECT_SET_FORMAT_RUNS_V1);
+            assertEquals(ObjectSetFormat.OBJECT_SET_FORMAT_RUNS_V1, list.getFormat());
+            assertEquals(set, new ObjectSet(set.getStripeWidth(), set.getFirstObjectNo(), list));
+        }
+
+        // runs are encoded with a few bytes each
+        assertTrue(runs.serialize(ObjectSetFormat.OBJECT_SET_FORMAT_RUNS_V1).length < 100);
+
+        // malformed sets are rejected
+        byte[] serialized = dense.serialize(ObjectSetFormat.OBJECT_SET_FORMAT_RUNS_V1);
+        for (byte[] malformed : new byte[][] { Arrays.copyOf(serialized, serialized.length / 2),
+                Arrays.copyOf(serialized, serialized.length + 1), { 1, 0, 7 }, { 2, 0, 1, 1, 0, 0, 0, 1, 1, 0 },
+                { 1, 0, 1, 1, (byte) 0xff, (byte) 0xff, 3, 1 } }) {
+            try {
+                new ObjectSet(1, 0, malformed, ObjectSetFormat.OBJECT_SET_FORMAT_RUNS_V1);
+                fail("malformed object set has been accepted");
+            } catch (IOException e) {
+                // correct
+            }
+        }
+    }
+
+    @Test
+    public void testLargeSets() throws Exception {
+        // compare with a BitSet while chunks switch between arrays and bitmaps
+        Random random = new Random(42);
+        ObjectSet set = new ObjectSet(1, 0);
+        BitSet reference = new BitSet();
+        for (int i = 0; i < 200000; i++) {
+            int index = random.nextInt(300000);
+            if (random.nextInt(3) == 0) {
+                assertEquals(reference.get(index), set.remove((long) index));
+                reference.clear(index);
+            } else {
+                assertEquals(!reference.get(index), set.add((long) index));
+                reference.set(index);
+            }
+        }
+        assertEquals(reference.cardinality(), set.size());
+
+        int index = reference.nextSetBit(0);
+        for (long object : set) {
+            assertEquals(index, object);
+            index = reference.nextSetBit(index + 1);
+        }
+        assertEquals(-1, index);
+        assertEquals(reference.nextSetBit(0), set.getFirst().intValue());
+        for (int i = 0; i < 100; i++)
+            assertTrue(reference.get(set.getRandom().intValue()));
+
+        ObjectSet clone = set.clone();
+        assertEquals(set, clone);
+        clone.remove(set.getFirst());
+        assertFalse(set.equals(clone));
+
+        // complement
+        ObjectSet complement = new ObjectSet(set);
+        complement.complement(299999);
+        assertEquals(300000 - set.size(), complement.size());
+        assertTrue(complement.intersection(new ObjectSet(1, 0)));
+        assertTrue(complement.isEmpty());
+
+        complement = new ObjectSet(set);
+        complement.complement(299999);
+        complement.union(set);
+        assertEquals(300000, complement.size());
+        complement.intersection(set);
+        assertEquals(set, complement);
+    }
+
     @Test
     public void testStripeWidth() throws Exception {
         long[] stripeWidth1 = { 1, 2, 4, 5, 6, 7, 8, 10 };
@@ -234,6 +340,46 @@ public class ObjectSetTest {
         }
     }
 
+    @Test
+    public void testDifference() throws Exception {
+        long[] objectsInList1 = { 10, 20, 40, 50, 60, 70, 80, 100 };
+        long[] objectsInList2 = { 0, 30, 50, 70, 90, 100 };
+        long[] difference = { 10, 20, 40, 60, 80 };
+
+        // fill set2
+        for (ObjectSet set : fixedSets)
+            for (long object : objectsInList2)
+                set.add(object);
+
+        for (ObjectSet set2 : fixedSets) {
+            for (ObjectSet set : changeableSets) {
+                // renew set1
+                set.clear();
+                for (long object : objectsInList1)
+                    set.add(object);
+
+                assertTrue(set.difference(set2));
+                assertEquals(difference.length, set.size());
+                for (long object : difference)
+                    assertTrue(set.contains(object));
+                assertFalse(set.difference(set2));
+            }
+        }
+
+        // sets with chunks that are stored as bitmaps
+        ObjectSet set = new ObjectSet();
+        ObjectSet set2 = new ObjectSet();
+        for (long object = 0; object < 200000; object++) {
+            set.add(object);
+            if (object % 3 == 0 || object > 150000)
+                set2.add(object);
+        }
+        set.difference(set2);
+        assertEquals(100000, set.size());
+        for (long object = 0; object < 200000; object++)
+            assertEquals(object % 3 != 0 && object <= 150000, set.contains(object));
+    }
+
     /**
      * @param fillRate
      *            in percent
@@ -47,6 +47,7 @@ import org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XLocSet;
 import org.xtreemfs.pbrpc.generatedinterfaces.OSD.InternalReadLocalResponse;
 import org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectData;
 import org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectList;
+import org.xtreemfs.pbrpc.generatedinterfaces.OSD.ObjectSetFormat;
 import org.xtreemfs.pbrpc.generatedinterfaces.OSDServiceClient;
 import org.xtreemfs.test.SetupUtils;
 import org.xtreemfs.test.TestEnvironment;
@@ -304,7 +305,8 @@ public class ReplicationTest {
         // replica 2
         RPCResponse<InternalReadLocalResponse> intRLRsp = client.xtreemfs_internal_read_local(
                 xLoc.getOSDsForObject(objectNo + 1).get(1).getAddress(), RPCAuthentication.authNone,
-                RPCAuthentication.userService, fc, fileID, objectNo + 1, 0, 0, stripeSize, false, new ArrayList());
+                RPCAuthentication.userService, fc, fileID, objectNo + 1, 0, 0, stripeSize, false, new ArrayList(),
+                ObjectSet.LATEST_FORMAT);
         InternalReadLocalResponse intRL = intRLRsp.get();
         assertEquals(stripeSize, intRL.getData().getZeroPadding());
 
@@ -387,7 +389,7 @@ public class ReplicationTest {
         // read data
         RPCResponse<InternalReadLocalResponse> r2 = client.xtreemfs_internal_read_local(serverID.getAddress(),
                 RPCAuthentication.authNone, RPCAuthentication.userService, fc, fileID, objectNo, 0, 0, stripeSize,
-                false, new ArrayList());
+                false, new ArrayList(), ObjectSet.LATEST_FORMAT);
         InternalReadLocalResponse resp2 = r2.get();
 
         assertTrue(Arrays.equals(data.array(), r2.getData().array()));
@@ -398,7 +400,7 @@ public class ReplicationTest {
         // read only part of data
         r2 = client.xtreemfs_internal_read_local(serverID.getAddress(), RPCAuthentication.authNone,
                 RPCAuthentication.userService, fc, fileID, objectNo, 0, stripeSize / 4, stripeSize / 2, true,
-                new ArrayList());
+                new ArrayList(), ObjectSetFormat.OBJECT_SET_FORMAT_JAVA_BITSET);
         resp2 = r2.get();
 
         int j = stripeSize / 4;
@@ -412,6 +414,7 @@ public class ReplicationTest {
 
         // check object list
         ObjectList objectList = resp2.getObjectSet(0);
+        assertEquals(ObjectSetFormat.OBJECT_SET_FORMAT_JAVA_BITSET, objectList.getFormat());
         ObjectSet list = new ObjectSet(objectList.getStripeWidth(), objectList.getFirst(), objectList.getSet()
                 .toByteArray());
         assertNotNull(list);
@@ -437,12 +440,13 @@ public class ReplicationTest {
                 .build();
         RPCResponse<InternalReadLocalResponse> r = client.xtreemfs_internal_read_local(xLoc.getOSDsForObject(objectNo)
                 .get(0).getAddress(), RPCAuthentication.authNone, RPCAuthentication.userService, fc, fileID, objectNo,
-                0, 0, stripeSize, true, new ArrayList());
+                0, 0, stripeSize, true, new ArrayList(), ObjectSet.LATEST_FORMAT);
         InternalReadLocalResponse resp = r.get();
         assertNull(r.getData());
         assertEquals(1, resp.getObjectSetCount());
+        assertEquals(ObjectSet.LATEST_FORMAT, resp.getObjectSet(0).getFormat());
         ObjectSet list = new ObjectSet(resp.getObjectSet(0).getStripeWidth(), resp.getObjectSet(0).getFirst(), resp
-                .getObjectSet(0).getSet().toByteArray());
+                .getObjectSet(0));
         assertEquals(0, list.size());
         r.freeBuffers();
 
@@ -466,13 +470,13 @@ public class ReplicationTest {
         // read data
         r = client.xtreemfs_internal_read_local(xLoc.getOSDsForObject(objectNo).get(0).getAddress(),
                 RPCAuthentication.authNone, RPCAuthentication.userService, fc, fileID, objectNo, 0, 0, stripeSize,
-                false, new ArrayList());
+                false, new ArrayList(), ObjectSet.LATEST_FORMAT);
         resp = r.get();
         assertTrue(Arrays.equals(data.array(), r.getData().array()));
         r.freeBuffers();
         r = client.xtreemfs_internal_read_local(xLoc.getOSDsForObject(objectNo + 2).get(0).getAddress(),
                 RPCAuthentication.authNone, RPCAuthentication.userService, fc, fileID, objectNo + 2, 0, 0, stripeSize,
-                false, new ArrayList());
+                false, new ArrayList(), ObjectSet.LATEST_FORMAT);
         resp = r.get();
         assertTrue(Arrays.equals(data.array(), r.getData().array()));
         r.freeBuffers();
@@ -480,7 +484,7 @@ public class ReplicationTest {
         // read higher object than has been written (EOF)
         r = client.xtreemfs_internal_read_local(xLoc.getOSDsForObject(objectNo + 3).get(0).getAddress(),
                 RPCAuthentication.authNone, RPCAuthentication.userService, fc, fileID, objectNo + 3, 0, 0, stripeSize,
-                false, new ArrayList());
+                false, new ArrayList(), ObjectSet.LATEST_FORMAT);
         resp = r.get();
         assertNull(r.getData());
         r.freeBuffers();
@@ -488,7 +492,7 @@ public class ReplicationTest {
         // read object that has not been written (hole)
         r = client.xtreemfs_internal_read_local(xLoc.getOSDsForObject(objectNo + 1).get(0).getAddress(),
                 RPCAuthentication.authNone, RPCAuthentication.userService, fc, fileID, objectNo + 1, 0, 0, stripeSize,
-                false, new ArrayList());
+                false, new ArrayList(), ObjectSet.LATEST_FORMAT);
         resp = r.get();
         assertNull(r.getData());
         r.freeBuffers();
@@ -516,11 +520,11 @@ public class ReplicationTest {
 
         // read data
         RPCResponse<ObjectList> r = client.xtreemfs_internal_get_object_set(xLoc.getOSDsForObject(objectNo).get(0)
-                .getAddress(), RPCAuthentication.authNone, RPCAuthentication.userService, fc, fileID);
+                .getAddress(), RPCAuthentication.authNone, RPCAuthentication.userService, fc, fileID,
+                ObjectSet.LATEST_FORMAT);
         ObjectList objectList = r.get();
         r.freeBuffers();
-        ObjectSet list = new ObjectSet(objectList.getStripeWidth(), objectList.getFirst(), objectList.getSet()
-                .toByteArray());
+        ObjectSet list = new ObjectSet(objectList.getStripeWidth(), objectList.getFirst(), objectList);
         assertEquals(0, list.size());
 
         // write object to replica 1 : OSD 1
@@ -532,10 +536,11 @@ public class ReplicationTest {
 
         // read data
         r = client.xtreemfs_internal_get_object_set(xLoc.getOSDsForObject(objectNo).get(0).getAddress(),
-                RPCAuthentication.authNone, RPCAuthentication.userService, fc, fileID);
+                RPCAuthentication.authNone, RPCAuthentication.userService, fc, fileID,
+                ObjectSet.LATEST_FORMAT);
         objectList = r.get();
         r.freeBuffers();
-        list = new ObjectSet(objectList.getStripeWidth(), objectList.getFirst(), objectList.getSet().toByteArray());
+        list = new ObjectSet(objectList.getStripeWidth(), objectList.getFirst(), objectList);
         assertEquals(1, list.size());
         assertTrue(list.contains(objectNo));
 
@@ -565,29 +570,32 @@ public class ReplicationTest {
 
         // read object list from OSD 1 : OSD 1
         r = client.xtreemfs_internal_get_object_set(xLoc.getOSDsForObject(objectNo).get(0).getAddress(),
-                RPCAuthentication.authNone, RPCAuthentication.userService, fc, fileID);
+                RPCAuthentication.authNone, RPCAuthentication.userService, fc, fileID,
+                ObjectSet.LATEST_FORMAT);
         objectList = r.get();
         r.freeBuffers();
-        list = new ObjectSet(objectList.getStripeWidth(), objectList.getFirst(), objectList.getSet().toByteArray());
+        list = new ObjectSet(objectList.getStripeWidth(), objectList.getFirst(), objectList);
         assertEquals(2, list.size());
         assertTrue(list.contains(objectNo));
         assertTrue(list.contains(objectNo + 3));
 
         // read object list from OSD 1 : OSD 2
         r = client.xtreemfs_internal_get_object_set(xLoc.getOSDsForObject(objectNo + 1).get(0).getAddress(),
-                RPCAuthentication.authNone, RPCAuthentication.userService, fc, fileID);
+                RPCAuthentication.authNone, RPCAuthentication.userService, fc, fileID,
+                ObjectSet.LATEST_FORMAT);
         objectList = r.get();
         r.freeBuffers();
-        list = new ObjectSet(objectList.getStripeWidth(), objectList.getFirst(), objectList.getSet().toByteArray());
+        list = new ObjectSet(objectList.getStripeWidth(), objectList.getFirst(), objectList);
         assertEquals(1, list.size());
         assertTrue(list.contains(objectNo + 1));
 
         // read object list from OSD 1 : OSD 3
         r = client.xtreemfs_internal_get_object_set(xLoc.getOSDsForObject(objectNo + 2).get(0).getAddress(),
-                RPCAuthentication.authNone, RPCAuthentication.userService, fc, fileID);
+                RPCAuthentication.authNone, RPCAuthentication.userService, fc, fileID,
+                ObjectSet.LATEST_FORMAT);
         objectList = r.get();
         r.freeBuffers();
-        list = new ObjectSet(objectList.getStripeWidth(), objectList.getFirst(), objectList.getSet().toByteArray());
+        list = new ObjectSet(objectList.getStripeWidth(), objectList.getFirst(), objectList);
         assertEquals(1, list.size());
         assertTrue(list.contains(objectNo + 2));
     }
@@ -15,8 +15,10 @@ import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 
 import org.junit.After;
 import org.junit.Before;
@@ -32,11 +34,13 @@ import org.xtreemfs.common.xloc.ReplicationFlags;
 import org.xtreemfs.common.xloc.XLocations;
 import org.xtreemfs.foundation.logging.Logging;
 import org.xtreemfs.osd.replication.ObjectSet;
+import org.xtreemfs.osd.replication.selection.RarestFirstObjectSelection;
 import org.xtreemfs.osd.replication.transferStrategies.RandomStrategy;
 import org.xtreemfs.osd.replication.transferStrategies.SequentialPrefetchingStrategy;
 import org.xtreemfs.osd.replication.transferStrategies.SequentialStrategy;
 import org.xtreemfs.osd.replication.transferStrategies.TransferStrategy;
 import org.xtreemfs.osd.replication.transferStrategies.TransferStrategy.NextRequest;
+import org.xtreemfs.osd.replication.transferStrategies.TransferStrategy.ObjectSetInfo;
 import org.xtreemfs.osd.replication.transferStrategies.TransferStrategy.TransferStrategyException;
 import org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.Replica;
 import org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XLocSet;
@@ -360,6 +364,64 @@ public class TransferStrategiesTest {
     // /**
     // * Test method for {@link org.xtreemfs.osd.replication.transferStrategies.RarestFirstStrategy#selectNext()}.
     // */
+    @Test
+    public void testRarestFirstObjectSelection() throws Exception {
+        RarestFirstObjectSelection selection = new RarestFirstObjectSelection();
+
+        ObjectSet wanted = new ObjectSet();
+        for (long object = 0; object < 6; object++)
+            wanted.add(object);
+
+        // object 0 is on three OSDs, objects 1-4 on two, object 5 only on the second OSD of a striped replica
+        Map<ServiceUUID, ObjectSetInfo> objectsOnOSDs = new HashMap<ServiceUUID, ObjectSetInfo>();
+        ObjectSetInfo osd1 = new ObjectSetInfo();
+        osd1.set = new ObjectSet();
+        for (long object = 0; object < 5; object++)
+            osd1.set.add(object);
+        objectsOnOSDs.put(new ServiceUUID("UUID:localhost:33640"), osd1);
+        ObjectSetInfo osd2 = new ObjectSetInfo();
+        osd2.set = new ObjectSet(1, 0);
+        for (long object = 0; object < 5; object++)
+            osd2.set.add(object);
+        objectsOnOSDs.put(new ServiceUUID("UUID:localhost:33641"), osd2);
+        ObjectSetInfo osd3 = new ObjectSetInfo();
+        osd3.set = new ObjectSet(2, 1);
+        osd3.set.add(5L);
+        objectsOnOSDs.put(new ServiceUUID("UUID:localhost:33642"), osd3);
+        ObjectSetInfo osd4 = new ObjectSetInfo();
+        osd4.set = new ObjectSet(2, 0);
+        osd4.set.add(0L);
+        objectsOnOSDs.put(new ServiceUUID("UUID:localhost:33643"), osd4);
+
+        assertEquals(5, selection.selectNextObject(wanted, objectsOnOSDs));
+
+        // the rarest objects are updated when an object set changes
+        ObjectSet newSet = new ObjectSet(2, 1);
+        newSet.add(3L);
+        newSet.add(5L);
+        selection.objectSetChanged(osd3.set, newSet);
+        osd3.set = newSet;
+        newSet = new ObjectSet(1, 0);
+        newSet.add(5L);
+        for (long object = 1; object < 5; object++)
+            newSet.add(object);
+        selection.objectSetChanged(osd2.set, newSet);
+        osd2.set = newSet;
+        newSet = new ObjectSet(2, 0);
+        newSet.add(2L);
+        selection.objectSetChanged(osd4.set, newSet);
+        osd4.set = newSet;
+        assertEquals(0, selection.selectNextObject(wanted, objectsOnOSDs));
+
+        // ... and the queue is built anew after having been invalidated
+        selection.invalidateQueue();
+        assertEquals(0, selection.selectNextObject(wanted, objectsOnOSDs));
+        selection.removeObject(0);
+        wanted.remove(0L);
+        long object = selection.selectNextObject(wanted, objectsOnOSDs);
+        assertTrue(object == 1 || object == 4 || object == 5);
+    }
+
     // @Test
     // public void testSelectNextForRarestFirstTransfer() {
     // this.strategy = new RarestFirstStrategy(fileID, xLoc, new ServiceAvailability());
@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2015 by Zuse Institute Berlin
+ *
+ * Licensed under the BSD License, see LICENSE file for details.
+ *
+ */
+
+package org.xtreemfs.test.osd.replication;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestRule;
+import org.xtreemfs.osd.replication.TransferWindow;
+import org.xtreemfs.test.TestHelper;
+
+public class TransferWindowTest {
+    @Rule
+    public final TestRule       testLog = TestHelper.testLog;
+
+    private static final long   MS      = 1000 * 1000;
+
+    private static final String OSD1    = "osd1";
+
+    private static final String OSD2    = "osd2";
+
+    @Test
+    public void testSlowStart() {
+        TransferWindow window = new TransferWindow(16);
+        assertEquals(TransferWindow.INITIAL_SIZE, window.getSize());
+
+        // the window grows by one object per fetched object while it is fully used
+        for (int i = 0; i < 4; i++)
+            window.fetched(OSD1, 10 * MS, window.getSize());
+        assertEquals(TransferWindow.INITIAL_SIZE + 4, window.getSize());
+        assertTrue(window.isSlowStart());
+
+        // ... but not if fewer objects are in flight
+        window.fetched(OSD1, 10 * MS, 1);
+        assertEquals(TransferWindow.INITIAL_SIZE + 4, window.getSize());
+
+        // ... and not beyond the maximum
+        for (int i = 0; i < 100; i++)
+            window.fetched(OSD1, 10 * MS, window.getSize());
+        assertEquals(16, window.getSize());
+    }
+
+    @Test
+    public void testQueueing() {
+        TransferWindow window = new TransferWindow(64);
+        for (int i = 0; i < 8; i++)
+            window.fetched(OSD1, 10 * MS, window.getSize());
+        assertEquals(10, window.getSize());
+
+        // small latency increases are tolerated
+        window.fetched(OSD1, 19 * MS, window.getSize());
+        assertEquals(11, window.getSize());
+        assertTrue(window.isSlowStart());
+
+        // doubled latencies end the slow start and shrink the window by one object per window
+        for (int i = 0; i < 11; i++)
+            window.fetched(OSD1, 25 * MS, window.getSize());
+        assertFalse(window.isSlowStart());
+        assertEquals(9, window.getSize());
+
+        // afterwards, the window grows by one object per window
+        for (int i = 0; i < 20; i++)
+            window.fetched(OSD1, 10 * MS, window.getSize());
+        assertEquals(11, window.getSize());
+    }
+
+    @Test
+    public void testSmallLatencies() {
+        TransferWindow window = new TransferWindow(64);
+        window.fetched(OSD1, MS / 10, window.getSize());
+
+        // jitter below the minimum queueing delay does not limit the window
+        for (int i = 0; i < 10; i++)
+            window.fetched(OSD1, MS, window.getSize());
+        assertTrue(window.isSlowStart());
+        assertEquals(TransferWindow.INITIAL_SIZE + 11, window.getSize());
+    }
+
+    @Test
+    public void testMixedLatencies() {
+        TransferWindow window = new TransferWindow(64);
+
+        // fetching from a distant source does not indicate queueing at a near one
+        for (int i = 0; i < 10; i++) {
+            window.fetched(OSD1, MS, window.getSize());
+            window.fetched(OSD2, 50 * MS, window.getSize());
+        }
+        assertTrue(window.isSlowStart());
+        assertEquals(TransferWindow.INITIAL_SIZE + 20, window.getSize());
+
+        // ... but doubled latencies at the distant source do
+        window.fetched(OSD2, 120 * MS, window.getSize());
+        assertFalse(window.isSlowStart());
+        assertEquals(21, window.getSize());
+    }
+
+    @Test
+    public void testFailures() {
+        TransferWindow window = new TransferWindow(64);
+        for (int i = 0; i < 10; i++)
+            window.fetched(OSD1, 10 * MS, window.getSize());
+        assertEquals(12, window.getSize());
+
+        window.failed();
+        assertFalse(window.isSlowStart());
+        assertEquals(6, window.getSize());
+        window.failed();
+        window.failed();
+        window.failed();
+        assertEquals(1, window.getSize());
+        window.failed();
+        assertEquals(1, window.getSize());
+    }
+}
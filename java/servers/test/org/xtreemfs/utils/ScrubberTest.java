@@ -7,6 +7,7 @@
 package org.xtreemfs.utils;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 
 import java.io.File;
 import java.io.FileWriter;
@@ -42,6 +43,7 @@ import org.xtreemfs.pbrpc.generatedinterfaces.MRC.Stat;
 import org.xtreemfs.test.SetupUtils;
 import org.xtreemfs.test.TestEnvironment;
 import org.xtreemfs.test.TestHelper;
+import org.xtreemfs.utils.xtfs_scrub.ScrubCursor;
 import org.xtreemfs.utils.xtfs_scrub.xtfs_scrub;
 
 public class ScrubberTest {
@@ -241,6 +243,98 @@ public class ScrubberTest {
                 RPCAuthentication.authNone, userCredentials, VOLUME_NAME);
     }
 
+    @Test
+    public void testResumeFromCursor() throws Exception {
+        final String VOLUME_NAME = "testResumeFromCursor";
+        final String[] FILE_NAMES = { "a.txt", "dir/b.txt", "dir/c.txt", "z.txt" };
+
+        // create Volume
+        client.createVolume(mrc1Address.getHostName() + ":" + mrc1Address.getPort(),
+                RPCAuthentication.authNone, userCredentials, VOLUME_NAME);
+        AdminVolume volume = client.openVolume(VOLUME_NAME, null, new Options());
+        volume.start();
+
+        // create files with a wrong file size on the MRC
+        volume.createDirectory(userCredentials, "dir", accessMode);
+        for (String fileName : FILE_NAMES) {
+            AdminFileHandle file = volume.openFile(userCredentials, fileName,
+                    SYSTEM_V_FCNTL.SYSTEM_V_FCNTL_H_O_CREAT.getNumber()
+                            | SYSTEM_V_FCNTL.SYSTEM_V_FCNTL_H_O_RDWR.getNumber(), accessMode);
+            file.write(userCredentials, content, content.length, 0);
+            file.truncate(userCredentials, 10, true);
+            file.close();
+        }
+
+        // pretend that a previous scrub was interrupted after "/dir/b.txt"
+        File cursorFile = new File(SetupUtils.TEST_DIR, "scrub.cursor");
+        ScrubCursor cursor = new ScrubCursor(cursorFile, VOLUME_NAME);
+        cursor.store("/dir/b.txt", 2);
+
+        // scrub volume
+        cursor = new ScrubCursor(cursorFile, VOLUME_NAME);
+        assertEquals("/dir/b.txt", cursor.getPosition());
+        xtfs_scrub scrubber = new xtfs_scrub(client, volume, 3, true, true, true, 0, cursor);
+        scrubber.scrub();
+
+        // only files after the cursor should have been repaired
+        assertEquals(10, volume.getAttr(userCredentials, FILE_NAMES[0]).getSize());
+        assertEquals(10, volume.getAttr(userCredentials, FILE_NAMES[1]).getSize());
+        assertEquals(content.length, volume.getAttr(userCredentials, FILE_NAMES[2]).getSize());
+        assertEquals(content.length, volume.getAttr(userCredentials, FILE_NAMES[3]).getSize());
+
+        // the cursor is removed after a complete scrub
+        assertFalse(cursorFile.exists());
+
+        // delete volume
+        client.deleteVolume(mrc1Address.getHostName() + ":" + mrc1Address.getPort(),
+                RPCAuthentication.authNone, userCredentials, VOLUME_NAME);
+    }
+
+    @Test
+    public void testResumeFromCursorNonASCII() throws Exception {
+        final String VOLUME_NAME = "testResumeFromCursorNonASCII";
+        // the MRC lists "x\u00e9" before the directory "x", which it lists before "xa"
+        final String[] FILE_NAMES = { "x\u00e9", "x/f", "xa" };
+
+        // create Volume
+        client.createVolume(mrc1Address.getHostName() + ":" + mrc1Address.getPort(),
+                RPCAuthentication.authNone, userCredentials, VOLUME_NAME);
+        AdminVolume volume = client.openVolume(VOLUME_NAME, null, new Options());
+        volume.start();
+
+        // create files with a wrong file size on the MRC
+        volume.createDirectory(userCredentials, "x", accessMode);
+        for (String fileName : FILE_NAMES) {
+            AdminFileHandle file = volume.openFile(userCredentials, fileName,
+                    SYSTEM_V_FCNTL.SYSTEM_V_FCNTL_H_O_CREAT.getNumber()
+                            | SYSTEM_V_FCNTL.SYSTEM_V_FCNTL_H_O_RDWR.getNumber(), accessMode);
+            file.write(userCredentials, content, content.length, 0);
+            file.truncate(userCredentials, 10, true);
+            file.close();
+        }
+
+        // pretend that a previous scrub was interrupted after the first file
+        File cursorFile = new File(SetupUtils.TEST_DIR, "scrub.cursor");
+        ScrubCursor cursor = new ScrubCursor(cursorFile, VOLUME_NAME);
+        cursor.store("/x\u00e9", 1);
+
+        // scrub volume
+        cursor = new ScrubCursor(cursorFile, VOLUME_NAME);
+        assertEquals("/x\u00e9", cursor.getPosition());
+        xtfs_scrub scrubber = new xtfs_scrub(client, volume, 3, true, true, true, 0, cursor);
+        scrubber.scrub();
+
+        // all files after the cursor should have been repaired
+        assertEquals(10, volume.getAttr(userCredentials, FILE_NAMES[0]).getSize());
+        assertEquals(content.length, volume.getAttr(userCredentials, FILE_NAMES[1]).getSize());
+        assertEquals(content.length, volume.getAttr(userCredentials, FILE_NAMES[2]).getSize());
+        assertFalse(cursorFile.exists());
+
+        // delete volume
+        client.deleteVolume(mrc1Address.getHostName() + ":" + mrc1Address.getPort(),
+                RPCAuthentication.authNone, userCredentials, VOLUME_NAME);
+    }
+
     @Test
     public void testROnlyReplicatedFileWithLostReplica() throws Exception {
         final String VOLUME_NAME = "testROnlyReplicatedFileWithLostReplica";